@@ -0,0 +1,180 @@
+/*
+ * 10/17/2026
+ *
+ * EditTokenizationCheck.java - Checks that editing a document while its
+ * lines are being brought up to date leaves them correctly tokenized.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.Random;
+
+import javax.swing.SwingUtilities;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+
+/**
+ * Edits Java documents so that multi-line comments and strings open and
+ * close, with the lines after each edit brought up to date partly by a
+ * {@link TokenizationScheduler}'s background task and partly by asking for
+ * token lists on the EDT, and checks that once the scheduler is done the last
+ * token type of every line is that of tokenizing the lines one after the
+ * other. The first case is a fixed sequence of edits that once left lines in
+ * the middle of a comment tokenized as code; the rest are random.
+ * <p>
+ *
+ * Exits with a non-zero status if any check fails, so that
+ * <code>ant check</code> fails.
+ *
+ * @version 1.0
+ */
+public class EditTokenizationCheck {
+
+	private static final String[] FRAGMENTS = { "/*", "*/", "\"", "// x", "\n", "/* x */" };
+
+	private static final int LINES = 3000;
+
+	private static final int RANDOM_RUNS = 40;
+
+	private static final int RANDOM_STEPS = 40;
+
+	private static final long TIMEOUT_MILLIS = 60000;
+
+	private static String check(final RSyntaxDocument doc) {
+		final int lineCount = doc.getDefaultRootElement().getElementCount();
+		int previousTokenType = TokenTypes.NULL;
+		for (int line = 0; line < lineCount; line++) {
+			final int expected = doc.computeLastTokenTypeOnLine(line, previousTokenType);
+			final int actual = doc.lastTokensOnLines.get(line);
+			if (actual != expected)
+				return "line " + line + " ends in state " + actual + ", expected " + expected;
+			previousTokenType = expected;
+		}
+		return null;
+	}
+
+	private static RSyntaxDocument createDocument() throws Exception {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < EditTokenizationCheck.LINES; i++)
+			sb.append("int x").append(i).append(" = ").append(i).append(";\n");
+		final RSyntaxDocument doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_NONE);
+		doc.insertString(0, sb.toString(), null);
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				doc.setSyntaxStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
+			}
+		});
+		EditTokenizationCheck.waitForScheduler(doc);
+		return doc;
+	}
+
+	private static void insert(final RSyntaxDocument doc, final int line, final String text) {
+		final Element elem = doc.getDefaultRootElement().getElement(line);
+		try {
+			doc.insertString(elem.getStartOffset(), text, null);
+		} catch (final BadLocationException ble) {
+			throw new RuntimeException(ble);
+		}
+	}
+
+	public static void main(final String[] args) throws Exception {
+
+		int failures = 0;
+
+		String failure = EditTokenizationCheck.runFixed();
+		if (failure != null) {
+			System.out.println("FAIL fixed edits: " + failure);
+			failures++;
+		}
+
+		for (int seed = 0; seed < EditTokenizationCheck.RANDOM_RUNS; seed++) {
+			failure = EditTokenizationCheck.runRandom(seed);
+			if (failure != null) {
+				System.out.println("FAIL random edits, seed " + seed + ": " + failure);
+				failures++;
+			}
+		}
+
+		System.out.println(String.format("%d edit sequences checked, %d failed",
+				EditTokenizationCheck.RANDOM_RUNS + 1, failures));
+		if (failures > 0)
+			System.exit(1);
+
+	}
+
+	private static String runFixed() throws Exception {
+		final RSyntaxDocument doc = EditTokenizationCheck.createDocument();
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				EditTokenizationCheck.insert(doc, 100, "/*");
+				doc.getTokenListForLine(1000);
+				EditTokenizationCheck.insert(doc, 600, "*/");
+				doc.getTokenListForLine(900);
+				EditTokenizationCheck.insert(doc, 620, "/*");
+				doc.getTokenListForLine(2000);
+			}
+		});
+		return EditTokenizationCheck.settleAndCheck(doc);
+	}
+
+	private static String runRandom(final int seed) throws Exception {
+		final Random random = new Random(seed);
+		final RSyntaxDocument doc = EditTokenizationCheck.createDocument();
+		for (int step = 0; step < EditTokenizationCheck.RANDOM_STEPS; step++) {
+			SwingUtilities.invokeAndWait(new Runnable() {
+				@Override
+				public void run() {
+					final String fragment = EditTokenizationCheck.FRAGMENTS[random
+							.nextInt(EditTokenizationCheck.FRAGMENTS.length)];
+					final int line = random.nextInt(doc.getDefaultRootElement().getElementCount());
+					EditTokenizationCheck.insert(doc, line, fragment);
+					// Bring part of the lines after the edit up to date, as
+					// painting them would.
+					if (random.nextBoolean()) {
+						final int lineCount = doc.getDefaultRootElement().getElementCount();
+						doc.getTokenListForLine(Math.min(lineCount - 1, line + random.nextInt(1500)));
+					}
+				}
+			});
+			// Now and then let the background task start and apply a chunk.
+			if (random.nextInt(8) == 0)
+				Thread.sleep(random.nextInt(150));
+		}
+		return EditTokenizationCheck.settleAndCheck(doc);
+	}
+
+	private static String settleAndCheck(final RSyntaxDocument doc) throws Exception {
+		if (!EditTokenizationCheck.waitForScheduler(doc))
+			return "timed out waiting for the scheduler";
+		final String[] failure = new String[1];
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				failure[0] = EditTokenizationCheck.check(doc);
+			}
+		});
+		return failure[0];
+	}
+
+	private static boolean waitForScheduler(final RSyntaxDocument doc) throws Exception {
+		final long deadline = System.currentTimeMillis() + EditTokenizationCheck.TIMEOUT_MILLIS;
+		final int[] depth = new int[1];
+		do {
+			if (System.currentTimeMillis() > deadline)
+				return false;
+			Thread.sleep(20);
+			SwingUtilities.invokeAndWait(new Runnable() {
+				@Override
+				public void run() {
+					depth[0] = doc.getTokenizationScheduler().getQueueDepth();
+				}
+			});
+		} while (depth[0] > 0);
+		return true;
+	}
+
+}
@@ -0,0 +1,197 @@
+/*
+ * 10/17/2026
+ *
+ * GutterBenchmark.java - Measures painting the line number gutter of a large
+ * document with folds collapsed.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import javax.swing.JComponent;
+import javax.swing.JViewport;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+import javax.swing.text.BadLocationException;
+
+import org.fife.ui.rsyntaxtextarea.folding.Fold;
+import org.fife.ui.rsyntaxtextarea.folding.FoldManager;
+import org.fife.ui.rtextarea.Gutter;
+import org.fife.ui.rtextarea.GutterPaintEvent;
+import org.fife.ui.rtextarea.GutterPaintListener;
+import org.fife.ui.rtextarea.RTextScrollPane;
+
+/**
+ * Measures how long the gutter takes to paint while scrolling through a large
+ * Java file with most of its methods folded, using a
+ * {@link GutterPaintListener} to time just the gutter, and how much of it is
+ * repainted when the caret moves down a line, with and without line wrap.
+ * <p>
+ *
+ * Usage: <code>GutterBenchmark [methods]</code>. By default a class with
+ * 5,000 methods is generated. Run with <code>ant bench</code>.
+ *
+ * @version 1.0
+ */
+public class GutterBenchmark {
+
+	private static final int CARET_MOVES = 200;
+
+	private static final int VIEW_HEIGHT = 800;
+
+	private static final int VIEW_WIDTH = 1000;
+
+	private static String createText(final int methods) {
+		final StringBuilder sb = new StringBuilder(methods * 300);
+		sb.append("package bench;\n\npublic class Generated {\n\n");
+		for (int i = 0; i < methods; i++) {
+			sb.append("\t/**\n\t * Computes value ").append(i).append(".\n\t */\n");
+			sb.append("\tpublic int method").append(i).append("(int x) {\n");
+			sb.append("\t\tif (x > ").append(i).append(") {\n");
+			sb.append("\t\t\tx -= ").append(i).append(";\n");
+			sb.append("\t\t} else {\n");
+			sb.append("\t\t\tx += ").append(i).append(";\n");
+			sb.append("\t\t}\n");
+			sb.append("\t\treturn x * 31;\n");
+			sb.append("\t}\n\n");
+		}
+		sb.append("}\n");
+		return sb.toString();
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final String text = GutterBenchmark.createText(args.length > 0 ? Integer.parseInt(args[0]) : 5000);
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					GutterBenchmark.run(text);
+				} catch (final BadLocationException ble) {
+					throw new RuntimeException(ble);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Moves the caret down from the top of the document a line at a time, and
+	 * returns how much of the gutter asked to be repainted per move, in
+	 * pixels.
+	 */
+	private static double moveCaret(final RSyntaxTextArea textArea, final Gutter gutter)
+			throws BadLocationException {
+		final long[] dirty = new long[1];
+		final RepaintManager old = RepaintManager.currentManager(gutter);
+		RepaintManager.setCurrentManager(new RepaintManager() {
+			@Override
+			public void addDirtyRegion(final JComponent c, final int x, final int y, final int w, final int h) {
+				if (SwingUtilities.isDescendingFrom(c, gutter)) {
+					final Rectangle r = SwingUtilities.convertRectangle(c, new Rectangle(x, y, w, h), gutter)
+							.intersection(new Rectangle(0, 0, gutter.getWidth(), gutter.getHeight()));
+					if (!r.isEmpty())
+						dirty[0] += (long) r.width * r.height;
+				}
+				super.addDirtyRegion(c, x, y, w, h);
+			}
+		});
+		try {
+			textArea.setCaretPosition(0);
+			for (int i = 0; i < GutterBenchmark.CARET_MOVES; i++)
+				textArea.setCaretPosition(textArea.getLineEndOffset(i));
+		} finally {
+			RepaintManager.setCurrentManager(old);
+		}
+		return (double) dirty[0] / GutterBenchmark.CARET_MOVES;
+	}
+
+	/**
+	 * Lays out the scroll pane, which <code>validate()</code> doesn't do when
+	 * it isn't in a window, and paints what its viewports show.
+	 */
+	private static void paint(final RTextScrollPane scrollPane, final BufferedImage image) {
+		scrollPane.doLayout();
+		scrollPane.getViewport().doLayout();
+		scrollPane.getRowHeader().doLayout();
+		scrollPane.getGutter().doLayout();
+		final Graphics2D g = image.createGraphics();
+		try {
+			scrollPane.paint(g);
+		} finally {
+			g.dispose();
+		}
+	}
+
+	private static void run(final String text) throws BadLocationException {
+
+		final BufferedImage image = new BufferedImage(GutterBenchmark.VIEW_WIDTH, GutterBenchmark.VIEW_HEIGHT,
+				BufferedImage.TYPE_INT_RGB);
+		// Not in a window, so give it something to measure fonts with
+		final RSyntaxTextArea textArea = new RSyntaxTextArea() {
+			@Override
+			public Graphics getGraphics() {
+				return image.createGraphics();
+			}
+		};
+		textArea.setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		textArea.setCodeFoldingEnabled(true);
+		textArea.setText(text);
+		textArea.setCaretPosition(0);
+		final RTextScrollPane scrollPane = new RTextScrollPane(textArea);
+		scrollPane.setSize(GutterBenchmark.VIEW_WIDTH, GutterBenchmark.VIEW_HEIGHT);
+		final Gutter gutter = scrollPane.getGutter();
+
+		// Collapse three of every four folds in the class, i.e. methods and their
+		// Javadoc
+		final FoldManager fm = textArea.getFoldManager();
+		fm.reparse();
+		final Fold clazz = fm.getFold(0);
+		for (int i = 0; i < clazz.getChildCount(); i++)
+			if (i % 4 != 3)
+				clazz.getChild(i).setCollapsed(true);
+
+		final long[] paint = new long[2];
+		gutter.addGutterPaintListener(new GutterPaintListener() {
+			@Override
+			public void gutterPainted(final GutterPaintEvent e) {
+				paint[0] += e.getPaintNanos();
+				paint[1]++;
+			}
+		});
+
+		final long start = System.nanoTime();
+		GutterBenchmark.paint(scrollPane, image);
+		final JViewport viewport = scrollPane.getViewport();
+		final int height = textArea.getHeight();
+		for (int y = 0; y < height; y += GutterBenchmark.VIEW_HEIGHT / 2) {
+			viewport.setViewPosition(new Point(0, y));
+			GutterBenchmark.paint(scrollPane, image);
+		}
+		final double scroll = (System.nanoTime() - start) / 1e6;
+		final long paints = paint[1];
+		final double gutterPaint = paint[0] / 1e6 / paints;
+
+		final double dirty = GutterBenchmark.moveCaret(textArea, gutter);
+		textArea.setLineWrap(true);
+		viewport.setViewPosition(new Point(0, 0));
+		GutterBenchmark.paint(scrollPane, image);
+		final double wrappedDirty = GutterBenchmark.moveCaret(textArea, gutter);
+
+		System.out.println(String.format("%d lines, %d px high, gutter %d px wide", textArea.getLineCount(), height,
+				gutter.getWidth()));
+		System.out.println(String.format("%-28s %12s", "operation", "value"));
+		System.out.println(String.format("%-28s %12.1f", "scroll to end (ms)", scroll));
+		System.out.println(String.format("%-28s %12.3f", "gutter paint (ms, mean)", gutterPaint));
+		System.out.println(String.format("%-28s %12d", "gutter paints", paints));
+		System.out.println(String.format("%-28s %12.0f", "dirty px per caret move", dirty));
+		System.out.println(String.format("%-28s %12.0f", "  with line wrap", wrappedDirty));
+
+	}
+
+}
@@ -0,0 +1,131 @@
+/*
+ * 10/17/2026
+ *
+ * LineImageCacheBenchmark.java - Measures repainting with and without the line
+ * image cache.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import javax.swing.SwingUtilities;
+import javax.swing.text.BadLocationException;
+
+/**
+ * Measures how long an {@link RSyntaxTextArea}, set up as the editor's text
+ * panes are (anti-aliasing, tab lines, bracket matching), takes to repaint
+ * with and without its line image cache. "caret" repaints just the caret's
+ * line, as a caret blink does; "screen" repaints a whole screen of an
+ * unchanged document, as marking occurrences does; "scroll" paints a new
+ * screen every time, so nothing can come from the cache.
+ * <p>
+ *
+ * Usage: <code>LineImageCacheBenchmark [file] [repaints]</code>. The file
+ * defaults to <code>RSyntaxTextArea.java</code>. Run with
+ * <code>ant bench</code>.
+ *
+ * @version 1.0
+ */
+public class LineImageCacheBenchmark {
+
+	private static final int VIEW_HEIGHT = 1000;
+
+	private static final int VIEW_WIDTH = 1200;
+
+	private static RSyntaxTextArea createTextArea(final String text, final BufferedImage image,
+			final boolean cached) {
+		// Not in a window, so give it something to measure fonts with
+		final RSyntaxTextArea textArea = new RSyntaxTextArea() {
+			@Override
+			public Graphics getGraphics() {
+				return image.createGraphics();
+			}
+		};
+		textArea.setFont(new Font("Monospaced", Font.PLAIN, 13));
+		textArea.setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		textArea.setAntiAliasingEnabled(true);
+		textArea.setBracketMatchingEnabled(true);
+		textArea.setPaintMatchedBracketPair(true);
+		textArea.setPaintTabLines(true);
+		textArea.setLineImageCacheEnabled(cached);
+		textArea.setText(text);
+		textArea.setSize(textArea.getPreferredSize());
+		return textArea;
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final File file = new File(
+				args.length > 0 ? args[0] : "src/main/java/org/fife/ui/rsyntaxtextarea/RSyntaxTextArea.java");
+		final int repaints = args.length > 1 ? Integer.parseInt(args[1]) : 1500;
+		final String text = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+		System.out.println("Repainting " + file.getName() + " (" + repaints + " repaints, us per repaint)");
+		System.out.println(String.format("%-10s %10s %10s %10s %10s", "cache", "caret", "screen", "scroll",
+				"hit rate"));
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					// Twice, so the second round runs JIT-compiled.
+					for (int i = 0; i < 2; i++) {
+						LineImageCacheBenchmark.run(text, false, repaints);
+						LineImageCacheBenchmark.run(text, true, repaints);
+					}
+				} catch (final BadLocationException ble) {
+					throw new RuntimeException(ble);
+				}
+			}
+		});
+	}
+
+	private static long paint(final RSyntaxTextArea textArea, final BufferedImage image, final Rectangle clip,
+			final int repaints, final int scrollBy) {
+		final long start = System.nanoTime();
+		for (int i = 0; i < repaints; i++) {
+			final Graphics2D g = image.createGraphics();
+			try {
+				final int y = clip.y + i * scrollBy;
+				g.translate(0, -y);
+				g.setClip(clip.x, y, clip.width, clip.height);
+				textArea.paint(g);
+			} finally {
+				g.dispose();
+			}
+		}
+		return (System.nanoTime() - start) / repaints / 1000;
+	}
+
+	private static void run(final String text, final boolean cached, final int repaints)
+			throws BadLocationException {
+		final BufferedImage image = new BufferedImage(LineImageCacheBenchmark.VIEW_WIDTH,
+				LineImageCacheBenchmark.VIEW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		final RSyntaxTextArea textArea = LineImageCacheBenchmark.createTextArea(text, image, cached);
+		final int lineHeight = textArea.getLineHeight();
+		textArea.setCaretPosition(textArea.getLineStartOffset(20));
+		final Rectangle caret = textArea.modelToView(textArea.getCaretPosition());
+		final Rectangle screen = new Rectangle(0, 0, LineImageCacheBenchmark.VIEW_WIDTH,
+				LineImageCacheBenchmark.VIEW_HEIGHT);
+
+		final long caretUs = LineImageCacheBenchmark.paint(textArea, image,
+				new Rectangle(caret.x, caret.y, 2, lineHeight), repaints, 0);
+		final long screenUs = LineImageCacheBenchmark.paint(textArea, image, screen, repaints, 0);
+		final int scrollBy = Math.max(1, (textArea.getHeight() - LineImageCacheBenchmark.VIEW_HEIGHT) / repaints);
+		final long scrollUs = LineImageCacheBenchmark.paint(textArea, image, screen, repaints, scrollBy);
+
+		final LineImageCache cache = textArea.getLineImageCache();
+		final String hitRate = cache == null ? "-"
+				: String.format("%.1f%%", 100.0 * cache.getHits() / Math.max(1, cache.getHits() + cache.getMisses()));
+		System.out.println(String.format("%-10s %10d %10d %10d %10s", cached ? "on" : "off", caretUs, screenUs,
+				scrollUs, hitRate));
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * 10/17/2026
+ *
+ * LongLineBenchmark.java - Measures typing latency on a very long line.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import javax.swing.SwingUtilities;
+import javax.swing.text.BadLocationException;
+
+/**
+ * Measures how long a keystroke takes in the middle of a single line of
+ * minified JavaScript: inserting the character, updating the view, moving the
+ * caret and painting the visible part of the line. Each keystroke is compared
+ * against a budget of one frame at 60 Hz. The line is typed in with long line
+ * handling on, then with it off, where every keystroke tokenizes and measures
+ * the whole line; the latter only gets a few keystrokes, as each can take
+ * seconds.
+ * <p>
+ *
+ * Usage: <code>LongLineBenchmark [file | megabytes] [keystrokes]</code>. By
+ * default a 20 MB line is generated. If a file is given, its line breaks are
+ * removed. Run with <code>ant bench</code>.
+ *
+ * @version 1.0
+ */
+public class LongLineBenchmark {
+
+	/**
+	 * The latency budget of a keystroke, in milliseconds.
+	 */
+	private static final double BUDGET_MILLIS = 16;
+
+	private static final String SNIPPET = "function(e,t){\"use strict\";var n=t.length>>>0,r=[];"
+			+ "for(var i=0;i<n;i++)if(i in t){var o=t[i];/* x */e.call(this,o,i,t)&&r.push(o)}"
+			+ "return r.concat(['a','b',\"c\\\"d\"],{k:1.5e3,v:null,w:!0})},";
+
+	private static final int VIEW_HEIGHT = 800;
+
+	private static final int VIEW_WIDTH = 1200;
+
+	private static String createLine(final String arg) throws IOException {
+		final File file = new File(arg);
+		if (file.isFile())
+			return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).replaceAll("[\r\n]", "");
+		final int length = Integer.parseInt(arg) * 1024 * 1024;
+		final StringBuilder sb = new StringBuilder(length + LongLineBenchmark.SNIPPET.length());
+		sb.append("var f=[");
+		while (sb.length() < length)
+			sb.append(LongLineBenchmark.SNIPPET);
+		return sb.append("0];").toString();
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final String line = LongLineBenchmark.createLine(args.length > 0 ? args[0] : "20");
+		final int keystrokes = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+		System.out.println("Typing into a line of " + line.length() + " chars (budget "
+				+ LongLineBenchmark.BUDGET_MILLIS + " ms per keystroke)");
+		System.out.println(String.format("%-24s %10s %10s %10s %10s %10s", "mode", "open ms", "p50 ms", "p99 ms",
+				"max ms", "over"));
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					LongLineBenchmark.run("long line mode", line, RSyntaxDocument.DEFAULT_LONG_LINE_THRESHOLD,
+							keystrokes);
+					LongLineBenchmark.run("full line (threshold 0)", line, 0, Math.min(keystrokes, 3));
+				} catch (final BadLocationException ble) {
+					throw new RuntimeException(ble);
+				}
+			}
+		});
+	}
+
+	private static void run(final String mode, final String line, final int threshold, final int keystrokes)
+			throws BadLocationException {
+
+		final RSyntaxDocument doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_JAVASCRIPT);
+		doc.setLongLineThreshold(threshold);
+		final BufferedImage image = new BufferedImage(LongLineBenchmark.VIEW_WIDTH, LongLineBenchmark.VIEW_HEIGHT,
+				BufferedImage.TYPE_INT_RGB);
+		// Not in a window, so give it something to measure fonts with
+		final RSyntaxTextArea textArea = new RSyntaxTextArea(doc) {
+			@Override
+			public Graphics getGraphics() {
+				return image.createGraphics();
+			}
+		};
+		textArea.setCodeFoldingEnabled(true);
+
+		long start = System.nanoTime();
+		textArea.setText(line);
+		textArea.setSize(textArea.getPreferredSize());
+		textArea.setCaretPosition(line.length() / 2);
+		LongLineBenchmark.paint(textArea, image);
+		final double open = (System.nanoTime() - start) / 1e6;
+
+		final double[] millis = new double[keystrokes];
+		int over = 0;
+		for (int i = 0; i < keystrokes; i++) {
+			start = System.nanoTime();
+			textArea.replaceSelection(i % 8 == 7 ? " " : "x");
+			LongLineBenchmark.paint(textArea, image);
+			millis[i] = (System.nanoTime() - start) / 1e6;
+			if (millis[i] > LongLineBenchmark.BUDGET_MILLIS)
+				over++;
+		}
+		Arrays.sort(millis);
+		System.out.println(String.format("%-24s %10.1f %10.2f %10.2f %10.2f %6d/%-3d", mode, open,
+				millis[millis.length / 2], millis[Math.min(millis.length - 1, millis.length * 99 / 100)],
+				millis[millis.length - 1], over, keystrokes));
+
+	}
+
+	/**
+	 * Paints the part of the text area a viewport scrolled to the caret would
+	 * show.
+	 */
+	private static void paint(final RSyntaxTextArea textArea, final BufferedImage image)
+			throws BadLocationException {
+		final Rectangle caret = textArea.modelToView(textArea.getCaretPosition());
+		final int x = Math.max(0, caret.x - LongLineBenchmark.VIEW_WIDTH / 2);
+		final Graphics2D g = image.createGraphics();
+		try {
+			g.translate(-x, 0);
+			g.setClip(x, 0, LongLineBenchmark.VIEW_WIDTH, LongLineBenchmark.VIEW_HEIGHT);
+			textArea.paint(g);
+		} finally {
+			g.dispose();
+		}
+	}
+
+}
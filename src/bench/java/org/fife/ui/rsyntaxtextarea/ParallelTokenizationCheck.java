@@ -0,0 +1,140 @@
+/*
+ * 10/17/2026
+ *
+ * ParallelTokenizationCheck.java - Checks that tokenizing in parallel gives
+ * the same results as tokenizing sequentially.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Checks, for every style known to the default {@link TokenMakerFactory}, that
+ * the last token types a {@link TokenizationScheduler} computes for a large
+ * document in parallel are those of tokenizing its lines one after the other.
+ * The document has more than
+ * {@link TokenizationScheduler#PARALLEL_LINES} lines, so setting its style
+ * tokenizes it in parallel chunks, and has multi-line constructs that span
+ * chunk boundaries, some of them for thousands of lines.
+ * <p>
+ *
+ * This needs more than one processor for the scheduler to tokenize in
+ * parallel; <code>ant check</code> runs it with
+ * <code>-XX:ActiveProcessorCount=4</code>. Exits with a non-zero status if
+ * any check fails, so that <code>ant check</code> fails.
+ *
+ * @version 1.0
+ */
+public class ParallelTokenizationCheck {
+
+	/**
+	 * The lines of {@link TokenStreamCopyCheck#LINES} that open multi-line
+	 * constructs in common languages, after which {@link #SPAN_LINES} lines of
+	 * filler are inserted once.
+	 */
+	private static final int[] OPENERS = { 3, 7, 11, 16, 18, 32, 42 };
+
+	private static final int REPETITIONS = 1200;
+
+	private static final int SPAN_LINES = 5000;
+
+	private static final long TIMEOUT_MILLIS = 120000;
+
+	private static String check(final RSyntaxDocument doc, final String style) throws Exception {
+
+		final String[] failure = new String[1];
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				doc.setSyntaxStyle(style);
+				if (doc.getTokenizationScheduler().getQueueDepth() < TokenizationScheduler.PARALLEL_LINES)
+					failure[0] = "too few lines pending to tokenize in parallel";
+			}
+		});
+		if (failure[0] != null)
+			return failure[0];
+
+		final long deadline = System.currentTimeMillis() + ParallelTokenizationCheck.TIMEOUT_MILLIS;
+		final int[] depth = new int[1];
+		do {
+			if (System.currentTimeMillis() > deadline)
+				return "timed out with " + depth[0] + " lines pending";
+			Thread.sleep(20);
+			SwingUtilities.invokeAndWait(new Runnable() {
+				@Override
+				public void run() {
+					depth[0] = doc.getTokenizationScheduler().getQueueDepth();
+				}
+			});
+		} while (depth[0] > 0);
+
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				final int lineCount = doc.getDefaultRootElement().getElementCount();
+				int previousTokenType = TokenTypes.NULL;
+				for (int line = 0; line < lineCount; line++) {
+					final int expected = doc.computeLastTokenTypeOnLine(line, previousTokenType);
+					final int actual = doc.lastTokensOnLines.get(line);
+					if (actual != expected) {
+						failure[0] = "line " + line + " ends in state " + actual + ", expected " + expected;
+						return;
+					}
+					previousTokenType = expected;
+				}
+			}
+		});
+		return failure[0];
+
+	}
+
+	private static String createText() {
+		final StringBuilder sb = new StringBuilder();
+		final String[] lines = TokenStreamCopyCheck.LINES;
+		for (int r = 0; r < ParallelTokenizationCheck.REPETITIONS; r++)
+			for (int i = 0; i < lines.length; i++) {
+				sb.append(lines[i]).append('\n');
+				final int opener = r / 150;
+				if (r % 150 == 75 && opener < ParallelTokenizationCheck.OPENERS.length
+						&& ParallelTokenizationCheck.OPENERS[opener] == i)
+					for (int j = 0; j < ParallelTokenizationCheck.SPAN_LINES; j++)
+						sb.append("  filler text ").append(j).append('\n');
+			}
+		return sb.toString();
+	}
+
+	public static void main(final String[] args) throws Exception {
+
+		if (Runtime.getRuntime().availableProcessors() < 2) {
+			System.out.println("FAIL: tokenizing in parallel needs more than one processor; "
+					+ "run with -XX:ActiveProcessorCount=4");
+			System.exit(1);
+		}
+
+		final String text = ParallelTokenizationCheck.createText();
+		final Set<String> styles = new TreeSet<>(TokenMakerFactory.getDefaultInstance().keySet());
+		styles.remove(SyntaxConstants.SYNTAX_STYLE_NONE);
+		int failures = 0;
+		for (final String style : styles) {
+			final RSyntaxDocument doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_NONE);
+			doc.insertString(0, text, null);
+			final String failure = ParallelTokenizationCheck.check(doc, style);
+			if (failure != null) {
+				System.out.println("FAIL " + style + ": " + failure);
+				failures++;
+			}
+		}
+		System.out.println(String.format("%d styles checked with %d-line documents, %d failed", styles.size(),
+				text.split("\n").length, failures));
+		if (failures > 0)
+			System.exit(1);
+
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * 10/17/2026
+ *
+ * ScannerInitBenchmark.java - Measures the startup cost of the JFlex-generated
+ * TokenMakers.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures, for each JFlex-generated <code>TokenMaker</code>, how long its
+ * class takes to load and to initialize, and how much metaspace it uses. Each
+ * round loads every scanner in a new class loader, so nothing is shared with
+ * earlier rounds or with the classes already on the class path; the medians of
+ * the rounds are reported.
+ * <p>
+ *
+ * Usage: <code>ScannerInitBenchmark [classesDir] [rounds]</code>. The classes
+ * default to this project's <code>bin</code> folder, so builds can be compared
+ * by pointing this at another one. Run with <code>ant bench</code>.
+ *
+ * @version 1.0
+ */
+public class ScannerInitBenchmark {
+
+	private static final String MODES = "org.fife.ui.rsyntaxtextarea.modes.";
+
+	private static MemoryPoolMXBean metaspace() {
+		for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+			if ("Metaspace".equals(pool.getName()))
+				return pool;
+		return null;
+	}
+
+	private static long median(final long[] values) {
+		final long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final File dir = new File(args.length > 0 ? args[0] : "bin");
+		final int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 7;
+		final URL[] urls = { dir.toURI().toURL() };
+		final MemoryPoolMXBean metaspace = ScannerInitBenchmark.metaspace();
+
+		// The JFlex scanners are the token makers with a transition table.
+		final List<String> scanners = new ArrayList<>();
+		final File[] files = new File(dir, ScannerInitBenchmark.MODES.replace('.', '/')).listFiles();
+		if (files == null)
+			throw new IllegalArgumentException("No token makers in " + dir);
+		try (URLClassLoader loader = new URLClassLoader(urls, null)) {
+			for (final File file : files) {
+				final String name = file.getName();
+				if (!name.endsWith("TokenMaker.class"))
+					continue;
+				final String className = ScannerInitBenchmark.MODES + name.substring(0, name.length() - 6);
+				try {
+					Class.forName(className, false, loader).getDeclaredField("ZZ_TRANS");
+					scanners.add(className);
+				} catch (final NoSuchFieldException nsfe) {
+					// Not generated by JFlex
+				}
+			}
+		}
+		scanners.sort(null);
+
+		final int count = scanners.size();
+		final long[][] load = new long[count][rounds];
+		final long[][] init = new long[count][rounds];
+		final long[][] meta = new long[count][rounds];
+		for (int r = 0; r < rounds; r++) {
+			try (URLClassLoader loader = new URLClassLoader(urls, null)) {
+				// Load the shared superclasses first, so they're not charged to
+				// whichever scanner happens to be measured first.
+				Class.forName(TokenMakerBase.class.getName(), true, loader);
+				Class.forName(AbstractJFlexCTokenMaker.class.getName(), true, loader);
+				System.gc();
+				for (int i = 0; i < count; i++) {
+					final long meta0 = metaspace == null ? 0 : metaspace.getUsage().getUsed();
+					final long t0 = System.nanoTime();
+					final Class<?> c = Class.forName(scanners.get(i), false, loader);
+					final long t1 = System.nanoTime();
+					Class.forName(c.getName(), true, loader);
+					final long t2 = System.nanoTime();
+					load[i][r] = t1 - t0;
+					init[i][r] = t2 - t1;
+					meta[i][r] = metaspace == null ? 0 : metaspace.getUsage().getUsed() - meta0;
+				}
+			}
+		}
+
+		System.out.println(count + " scanners from " + dir + " (median of " + rounds + " rounds)");
+		System.out.println(String.format("%-28s %10s %10s %12s", "scanner", "load us", "init us", "metaspace KB"));
+		long loadTotal = 0, initTotal = 0, metaTotal = 0;
+		for (int i = 0; i < count; i++) {
+			final long l = ScannerInitBenchmark.median(load[i]);
+			final long n = ScannerInitBenchmark.median(init[i]);
+			final long m = ScannerInitBenchmark.median(meta[i]);
+			loadTotal += l;
+			initTotal += n;
+			metaTotal += m;
+			System.out.println(String.format("%-28s %10d %10d %12d",
+					scanners.get(i).substring(ScannerInitBenchmark.MODES.length()), l / 1000, n / 1000, m / 1024));
+		}
+		System.out.println(String.format("%-28s %10d %10d %12d", "total", loadTotal / 1000, initTotal / 1000,
+				metaTotal / 1024));
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * 10/17/2026
+ *
+ * TokenAllocationBenchmark.java - Measures heap allocation while tokenizing.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.text.Segment;
+
+import org.fife.ui.rsyntaxtextarea.modes.JavaTokenMaker;
+
+/**
+ * Measures how many bytes are allocated per line, and how many lines per second
+ * are tokenized, by a {@link JavaTokenMaker} run over a corpus of Java files.
+ * "warm" passes reuse one token maker; "cold" passes use a new token maker for
+ * each pass, as background tokenizing does. The last row tokenizes a single
+ * minified line of 100,000 tokens with a new token maker, and reports the
+ * bytes allocated for it in total.
+ * <p>
+ *
+ * Usage: <code>TokenAllocationBenchmark [sourceDir] [passes]</code>. The
+ * corpus defaults to this project's own sources. Run with
+ * <code>ant bench</code>.
+ *
+ * @version 1.0
+ */
+public class TokenAllocationBenchmark {
+
+	private interface Pass {
+		long run(TokenMaker tm, char[][] lines);
+	}
+
+	private static volatile long sink;
+
+	private static long allocatedBytes() {
+		return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+				.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static void collect(final File file, final List<char[]> lines) throws IOException {
+		final File[] children = file.listFiles();
+		if (children != null) {
+			for (final File child : children)
+				TokenAllocationBenchmark.collect(child, lines);
+			return;
+		}
+		if (!file.getName().endsWith(".java"))
+			return;
+		for (final String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8))
+			lines.add(line.toCharArray());
+	}
+
+	public static void main(final String[] args) throws IOException {
+		final File dir = new File(args.length > 0 ? args[0] : "src/main/java");
+		final int passes = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		final List<char[]> list = new ArrayList<>();
+		TokenAllocationBenchmark.collect(dir, list);
+		final char[][] lines = list.toArray(new char[list.size()][]);
+		System.out.println("JavaTokenMaker over " + lines.length + " lines from " + dir + " (" + passes + " passes)");
+		System.out.println(String.format("%-30s %14s %14s", "pass", "bytes/line", "lines/s"));
+
+		final Pass lastTokenType = new Pass() {
+			@Override
+			public long run(final TokenMaker tm, final char[][] lines) {
+				final Segment s = new Segment();
+				int type = TokenTypes.NULL;
+				for (final char[] line : lines) {
+					s.array = line;
+					s.offset = 0;
+					s.count = line.length;
+					type = tm.getLastTokenTypeOnLine(s, type);
+				}
+				return type;
+			}
+		};
+		final Pass tokenList = new Pass() {
+			@Override
+			public long run(final TokenMaker tm, final char[][] lines) {
+				final Segment s = new Segment();
+				int type = TokenTypes.NULL;
+				long sum = 0;
+				for (final char[] line : lines) {
+					s.array = line;
+					s.offset = 0;
+					s.count = line.length;
+					Token t = tm.getTokenList(s, type, 0);
+					for (; t.getNextToken() != null; t = t.getNextToken())
+						sum += t.length();
+					type = t.getType();
+				}
+				return sum;
+			}
+		};
+		final Pass tokenStream = new Pass() {
+			@Override
+			public long run(final TokenMaker tm, final char[][] lines) {
+				final Segment s = new Segment();
+				int type = TokenTypes.NULL;
+				long sum = 0;
+				for (final char[] line : lines) {
+					s.array = line;
+					s.offset = 0;
+					s.count = line.length;
+					final TokenStream stream = tm.getTokenStream(s, type, 0);
+					final int count = stream.getCount();
+					for (int i = 0; i < count - 1; i++)
+						sum += stream.getLength(i);
+					type = stream.getLastType();
+				}
+				return sum;
+			}
+		};
+		TokenAllocationBenchmark.run("getLastTokenTypeOnLine warm", lines, passes, lastTokenType, false);
+		TokenAllocationBenchmark.run("getLastTokenTypeOnLine cold", lines, passes, lastTokenType, true);
+		TokenAllocationBenchmark.run("getTokenList warm", lines, passes, tokenList, false);
+		TokenAllocationBenchmark.run("getTokenList cold", lines, passes, tokenList, true);
+		TokenAllocationBenchmark.run("getTokenStream warm", lines, passes, tokenStream, false);
+		TokenAllocationBenchmark.run("getTokenStream cold", lines, passes, tokenStream, true);
+
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 25000; i++)
+			sb.append("a=b+c;");
+		final char[][] longLine = { sb.toString().toCharArray() };
+		TokenAllocationBenchmark.run("long line, getTokenList", longLine, 1, tokenList, true);
+		TokenAllocationBenchmark.run("long line, getTokenStream", longLine, 1, tokenStream, true);
+	}
+
+	private static void run(final String name, final char[][] lines, final int passes, final Pass pass,
+			final boolean cold) {
+		TokenMaker tm = new JavaTokenMaker();
+		pass.run(tm, lines); // Warm up
+		long result = 0;
+		final long bytes = TokenAllocationBenchmark.allocatedBytes();
+		final long start = System.nanoTime();
+		for (int i = 0; i < passes; i++) {
+			if (cold)
+				tm = new JavaTokenMaker();
+			result += pass.run(tm, lines);
+		}
+		final long elapsed = System.nanoTime() - start;
+		final long allocated = TokenAllocationBenchmark.allocatedBytes() - bytes;
+		final long total = (long) lines.length * passes;
+		TokenAllocationBenchmark.sink = result;
+		System.out.println(String.format("%-30s %14.2f %14d", name, (double) allocated / total,
+				total * 1000000000L / Math.max(1, elapsed)));
+	}
+
+}
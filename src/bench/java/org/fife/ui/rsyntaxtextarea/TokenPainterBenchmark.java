@@ -0,0 +1,515 @@
+/*
+ * 10/17/2026
+ *
+ * TokenPainterBenchmark.java - Counts the text draw calls made painting a
+ * screen of text.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.AttributedCharacterIterator;
+import java.util.Map;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Counts the calls that draw text, and measures the time taken, painting an
+ * {@link RSyntaxTextArea} a screen at a time from top to bottom, for a few
+ * kinds of files. Text areas are set up as the editor's are.
+ * <p>
+ *
+ * Usage: <code>TokenPainterBenchmark [file style]...</code>, where style is a
+ * <code>SyntaxConstants</code> value such as <code>text/java</code>. Run with
+ * <code>ant bench</code>.
+ *
+ * @version 1.0
+ */
+public class TokenPainterBenchmark {
+
+	/**
+	 * Counts text draw calls and delegates everything to another graphics
+	 * context.
+	 */
+	private static final class CountingGraphics extends Graphics2D {
+
+		private final Graphics2D g;
+
+		private final long[] textCalls;
+
+		private CountingGraphics(final Graphics2D g, final long[] textCalls) {
+			this.g = g;
+			this.textCalls = textCalls;
+		}
+
+		@Override
+		public void addRenderingHints(final Map<?, ?> hints) {
+			this.g.addRenderingHints(hints);
+		}
+
+		@Override
+		public void clearRect(final int x, final int y, final int width, final int height) {
+			this.g.clearRect(x, y, width, height);
+		}
+
+		@Override
+		public void clip(final Shape s) {
+			this.g.clip(s);
+		}
+
+		@Override
+		public void clipRect(final int x, final int y, final int width, final int height) {
+			this.g.clipRect(x, y, width, height);
+		}
+
+		@Override
+		public void copyArea(final int x, final int y, final int width, final int height, final int dx,
+				final int dy) {
+			this.g.copyArea(x, y, width, height, dx, dy);
+		}
+
+		@Override
+		public Graphics create() {
+			return new CountingGraphics((Graphics2D) this.g.create(), this.textCalls);
+		}
+
+		@Override
+		public void dispose() {
+			this.g.dispose();
+		}
+
+		@Override
+		public void draw(final Shape s) {
+			this.g.draw(s);
+		}
+
+		@Override
+		public void drawArc(final int x, final int y, final int width, final int height, final int startAngle,
+				final int arcAngle) {
+			this.g.drawArc(x, y, width, height, startAngle, arcAngle);
+		}
+
+		@Override
+		public void drawChars(final char[] data, final int offset, final int length, final int x, final int y) {
+			this.textCalls[0]++;
+			this.g.drawChars(data, offset, length, x, y);
+		}
+
+		@Override
+		public void drawGlyphVector(final GlyphVector gv, final float x, final float y) {
+			this.textCalls[0]++;
+			this.g.drawGlyphVector(gv, x, y);
+		}
+
+		@Override
+		public void drawImage(final BufferedImage img, final BufferedImageOp op, final int x, final int y) {
+			this.g.drawImage(img, op, x, y);
+		}
+
+		@Override
+		public boolean drawImage(final Image img, final AffineTransform xform, final ImageObserver obs) {
+			return this.g.drawImage(img, xform, obs);
+		}
+
+		@Override
+		public boolean drawImage(final Image img, final int x, final int y, final Color bgcolor,
+				final ImageObserver observer) {
+			return this.g.drawImage(img, x, y, bgcolor, observer);
+		}
+
+		@Override
+		public boolean drawImage(final Image img, final int x, final int y, final ImageObserver observer) {
+			return this.g.drawImage(img, x, y, observer);
+		}
+
+		@Override
+		public boolean drawImage(final Image img, final int x, final int y, final int width, final int height,
+				final Color bgcolor, final ImageObserver observer) {
+			return this.g.drawImage(img, x, y, width, height, bgcolor, observer);
+		}
+
+		@Override
+		public boolean drawImage(final Image img, final int x, final int y, final int width, final int height,
+				final ImageObserver observer) {
+			return this.g.drawImage(img, x, y, width, height, observer);
+		}
+
+		@Override
+		public boolean drawImage(final Image img, final int dx1, final int dy1, final int dx2, final int dy2,
+				final int sx1, final int sy1, final int sx2, final int sy2, final Color bgcolor,
+				final ImageObserver observer) {
+			return this.g.drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, bgcolor, observer);
+		}
+
+		@Override
+		public boolean drawImage(final Image img, final int dx1, final int dy1, final int dx2, final int dy2,
+				final int sx1, final int sy1, final int sx2, final int sy2, final ImageObserver observer) {
+			return this.g.drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, observer);
+		}
+
+		@Override
+		public void drawLine(final int x1, final int y1, final int x2, final int y2) {
+			this.g.drawLine(x1, y1, x2, y2);
+		}
+
+		@Override
+		public void drawOval(final int x, final int y, final int width, final int height) {
+			this.g.drawOval(x, y, width, height);
+		}
+
+		@Override
+		public void drawPolygon(final int[] xPoints, final int[] yPoints, final int nPoints) {
+			this.g.drawPolygon(xPoints, yPoints, nPoints);
+		}
+
+		@Override
+		public void drawPolyline(final int[] xPoints, final int[] yPoints, final int nPoints) {
+			this.g.drawPolyline(xPoints, yPoints, nPoints);
+		}
+
+		@Override
+		public void drawRenderableImage(final RenderableImage img, final AffineTransform xform) {
+			this.g.drawRenderableImage(img, xform);
+		}
+
+		@Override
+		public void drawRenderedImage(final RenderedImage img, final AffineTransform xform) {
+			this.g.drawRenderedImage(img, xform);
+		}
+
+		@Override
+		public void drawRoundRect(final int x, final int y, final int width, final int height, final int arcWidth,
+				final int arcHeight) {
+			this.g.drawRoundRect(x, y, width, height, arcWidth, arcHeight);
+		}
+
+		@Override
+		public void drawString(final AttributedCharacterIterator iterator, final float x, final float y) {
+			this.textCalls[0]++;
+			this.g.drawString(iterator, x, y);
+		}
+
+		@Override
+		public void drawString(final AttributedCharacterIterator iterator, final int x, final int y) {
+			this.textCalls[0]++;
+			this.g.drawString(iterator, x, y);
+		}
+
+		@Override
+		public void drawString(final String str, final float x, final float y) {
+			this.textCalls[0]++;
+			this.g.drawString(str, x, y);
+		}
+
+		@Override
+		public void drawString(final String str, final int x, final int y) {
+			this.textCalls[0]++;
+			this.g.drawString(str, x, y);
+		}
+
+		@Override
+		public void fill(final Shape s) {
+			this.g.fill(s);
+		}
+
+		@Override
+		public void fillArc(final int x, final int y, final int width, final int height, final int startAngle,
+				final int arcAngle) {
+			this.g.fillArc(x, y, width, height, startAngle, arcAngle);
+		}
+
+		@Override
+		public void fillOval(final int x, final int y, final int width, final int height) {
+			this.g.fillOval(x, y, width, height);
+		}
+
+		@Override
+		public void fillPolygon(final int[] xPoints, final int[] yPoints, final int nPoints) {
+			this.g.fillPolygon(xPoints, yPoints, nPoints);
+		}
+
+		@Override
+		public void fillRect(final int x, final int y, final int width, final int height) {
+			this.g.fillRect(x, y, width, height);
+		}
+
+		@Override
+		public void fillRoundRect(final int x, final int y, final int width, final int height, final int arcWidth,
+				final int arcHeight) {
+			this.g.fillRoundRect(x, y, width, height, arcWidth, arcHeight);
+		}
+
+		@Override
+		public Color getBackground() {
+			return this.g.getBackground();
+		}
+
+		@Override
+		public Shape getClip() {
+			return this.g.getClip();
+		}
+
+		@Override
+		public Rectangle getClipBounds() {
+			return this.g.getClipBounds();
+		}
+
+		@Override
+		public Color getColor() {
+			return this.g.getColor();
+		}
+
+		@Override
+		public Composite getComposite() {
+			return this.g.getComposite();
+		}
+
+		@Override
+		public GraphicsConfiguration getDeviceConfiguration() {
+			return this.g.getDeviceConfiguration();
+		}
+
+		@Override
+		public Font getFont() {
+			return this.g.getFont();
+		}
+
+		@Override
+		public FontMetrics getFontMetrics(final Font f) {
+			return this.g.getFontMetrics(f);
+		}
+
+		@Override
+		public FontRenderContext getFontRenderContext() {
+			return this.g.getFontRenderContext();
+		}
+
+		@Override
+		public Paint getPaint() {
+			return this.g.getPaint();
+		}
+
+		@Override
+		public Object getRenderingHint(final RenderingHints.Key hintKey) {
+			return this.g.getRenderingHint(hintKey);
+		}
+
+		@Override
+		public RenderingHints getRenderingHints() {
+			return this.g.getRenderingHints();
+		}
+
+		@Override
+		public Stroke getStroke() {
+			return this.g.getStroke();
+		}
+
+		@Override
+		public AffineTransform getTransform() {
+			return this.g.getTransform();
+		}
+
+		@Override
+		public boolean hit(final Rectangle rect, final Shape s, final boolean onStroke) {
+			return this.g.hit(rect, s, onStroke);
+		}
+
+		@Override
+		public void rotate(final double theta) {
+			this.g.rotate(theta);
+		}
+
+		@Override
+		public void rotate(final double theta, final double x, final double y) {
+			this.g.rotate(theta, x, y);
+		}
+
+		@Override
+		public void scale(final double sx, final double sy) {
+			this.g.scale(sx, sy);
+		}
+
+		@Override
+		public void setBackground(final Color color) {
+			this.g.setBackground(color);
+		}
+
+		@Override
+		public void setClip(final int x, final int y, final int width, final int height) {
+			this.g.setClip(x, y, width, height);
+		}
+
+		@Override
+		public void setClip(final Shape clip) {
+			this.g.setClip(clip);
+		}
+
+		@Override
+		public void setColor(final Color c) {
+			this.g.setColor(c);
+		}
+
+		@Override
+		public void setComposite(final Composite comp) {
+			this.g.setComposite(comp);
+		}
+
+		@Override
+		public void setFont(final Font font) {
+			this.g.setFont(font);
+		}
+
+		@Override
+		public void setPaint(final Paint paint) {
+			this.g.setPaint(paint);
+		}
+
+		@Override
+		public void setPaintMode() {
+			this.g.setPaintMode();
+		}
+
+		@Override
+		public void setRenderingHint(final RenderingHints.Key hintKey, final Object hintValue) {
+			this.g.setRenderingHint(hintKey, hintValue);
+		}
+
+		@Override
+		public void setRenderingHints(final Map<?, ?> hints) {
+			this.g.setRenderingHints(hints);
+		}
+
+		@Override
+		public void setStroke(final Stroke s) {
+			this.g.setStroke(s);
+		}
+
+		@Override
+		public void setTransform(final AffineTransform tx) {
+			this.g.setTransform(tx);
+		}
+
+		@Override
+		public void setXORMode(final Color c1) {
+			this.g.setXORMode(c1);
+		}
+
+		@Override
+		public void shear(final double shx, final double shy) {
+			this.g.shear(shx, shy);
+		}
+
+		@Override
+		public void transform(final AffineTransform tx) {
+			this.g.transform(tx);
+		}
+
+		@Override
+		public void translate(final double tx, final double ty) {
+			this.g.translate(tx, ty);
+		}
+
+		@Override
+		public void translate(final int x, final int y) {
+			this.g.translate(x, y);
+		}
+
+	}
+
+	private static final int VIEW_HEIGHT = 1000;
+
+	private static final int VIEW_WIDTH = 1200;
+
+	public static void main(final String[] args) throws Exception {
+		final String[] files = args.length > 0 ? args
+				: new String[] { "src/main/java/org/fife/ui/rsyntaxtextarea/RSyntaxTextArea.java",
+						SyntaxConstants.SYNTAX_STYLE_JAVA, "build.xml", SyntaxConstants.SYNTAX_STYLE_XML,
+						"README.md", SyntaxConstants.SYNTAX_STYLE_NONE };
+		System.out.println("Painting screens of " + TokenPainterBenchmark.VIEW_WIDTH + "x"
+				+ TokenPainterBenchmark.VIEW_HEIGHT + " pixels");
+		System.out.println(String.format("%-24s %8s %14s %14s", "file", "screens", "draws/screen", "us/screen"));
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					for (int i = 0; i + 1 < files.length; i += 2) {
+						final File file = new File(files[i]);
+						final String text = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+						// Once to warm up, then measure
+						TokenPainterBenchmark.run(file.getName(), text, files[i + 1], false);
+						TokenPainterBenchmark.run(file.getName(), text, files[i + 1], true);
+					}
+				} catch (final Exception e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+	}
+
+	private static void run(final String name, final String text, final String style, final boolean print) {
+
+		final BufferedImage image = new BufferedImage(TokenPainterBenchmark.VIEW_WIDTH,
+				TokenPainterBenchmark.VIEW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		// Not in a window, so give it something to measure fonts with
+		final RSyntaxTextArea textArea = new RSyntaxTextArea() {
+			@Override
+			public Graphics getGraphics() {
+				return image.createGraphics();
+			}
+		};
+		textArea.setFont(new Font("Monospaced", Font.PLAIN, 13));
+		textArea.setSyntaxEditingStyle(style);
+		textArea.setAntiAliasingEnabled(true);
+		textArea.setPaintTabLines(true);
+		textArea.setText(text);
+		textArea.setCaretPosition(0);
+		textArea.setSize(textArea.getPreferredSize());
+
+		final long[] textCalls = new long[1];
+		int screens = 0;
+		final long start = System.nanoTime();
+		for (int pass = 0; pass < 10; pass++)
+			for (int y = 0; y < textArea.getHeight(); y += TokenPainterBenchmark.VIEW_HEIGHT) {
+				final Graphics2D g = new CountingGraphics(image.createGraphics(), textCalls);
+				try {
+					g.translate(0, -y);
+					g.setClip(0, y, TokenPainterBenchmark.VIEW_WIDTH, TokenPainterBenchmark.VIEW_HEIGHT);
+					textArea.paint(g);
+				} finally {
+					g.dispose();
+				}
+				screens++;
+			}
+		final long micros = (System.nanoTime() - start) / 1000 / screens;
+
+		if (print)
+			System.out.println(String.format("%-24s %8d %14d %14d", name, screens, textCalls[0] / screens, micros));
+
+	}
+
+}
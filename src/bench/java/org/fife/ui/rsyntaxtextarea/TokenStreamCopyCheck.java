@@ -0,0 +1,94 @@
+/*
+ * 10/17/2026
+ *
+ * TokenStreamCopyCheck.java - Checks that every TokenMaker's streams can be
+ * copied.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.swing.text.Segment;
+
+/**
+ * Tokenizes sample text with every <code>TokenMaker</code> known to the
+ * default {@link TokenMakerFactory}, giving each line a segment that ends
+ * exactly at the end of its array, and checks that the token streams can be
+ * copied (as <code>TokenListCache</code> does) and that the copies match the
+ * originals. Some token makers, such as those for HTML, PHP, JSP, Perl and
+ * Ruby, end lines inside multi-line constructs with an end-state token that
+ * points one char past the line.
+ * <p>
+ *
+ * Exits with a non-zero status if any check fails, so that
+ * <code>ant check</code> fails.
+ *
+ * @version 1.0
+ */
+public class TokenStreamCopyCheck {
+
+	/**
+	 * Lines that leave most languages in a multi-line state: tags, embedded
+	 * scripts and styles, block comments, strings, heredocs and POD.
+	 */
+	static final String[] LINES = { "<html><head>", "<style type=\"text/css\">", "body { color: red;",
+			"  /* a comment", "   continued */ }", "</style>", "<script type=\"text/javascript\">",
+			"var s = 'a string'; /* a", "comment */ var t = `template", "literal`;", "</script>", "<!-- a comment",
+			"continued -->", "<div class=\"x\"", "     id=\"y\">", "<?php", "$x = \"a string", "continued\";",
+			"/* a comment", "continued */", "echo <<<EOT", "heredoc text", "EOT;", "?>", "<%", "int i = 0; /* a",
+			"comment */", "%>", "<%-- a JSP", "comment --%>", "</div></body></html>", "=begin", "a block comment",
+			"=end", "print <<END;", "here document", "END", "=pod", "some pod", "=cut", "s = %q(a string",
+			"continued)", "/* a comment", "continued */", "\"\"\"a docstring", "continued\"\"\"", "'''another",
+			"continued'''", "x = \"unterminated", "{-", "-}", "(* a", "*)", "--[[ a", "]]", "" };
+
+	private static String check(final String style, final TokenMaker tm) {
+		int type = TokenTypes.NULL;
+		for (int line = 0; line < TokenStreamCopyCheck.LINES.length; line++) {
+			final char[] array = TokenStreamCopyCheck.LINES[line].toCharArray();
+			final Segment s = new Segment(array, 0, array.length);
+			final TokenStream stream = tm.getTokenStream(s, type, 0);
+			final TokenStream copy;
+			try {
+				copy = stream.copy();
+			} catch (final RuntimeException e) {
+				return "line " + line + ": " + e;
+			}
+			if (copy.getCount() != stream.getCount())
+				return "line " + line + ": copied " + copy.getCount() + " tokens of " + stream.getCount();
+			for (int i = 0; i < stream.getCount(); i++)
+				if (copy.getType(i) != stream.getType(i) || copy.getOffset(i) != stream.getOffset(i)
+						|| copy.getLength(i) != stream.getLength(i) || stream.isPaintable(i)
+								&& !TokenStreamCopyCheck.text(stream, i).equals(TokenStreamCopyCheck.text(copy, i)))
+					return "line " + line + ": token " + i + " differs in the copy";
+			type = stream.getLastType();
+		}
+		return null;
+	}
+
+	public static void main(final String[] args) {
+		final TokenMakerFactory factory = TokenMakerFactory.getDefaultInstance();
+		final Set<String> styles = new TreeSet<>(factory.keySet());
+		int failures = 0;
+		for (final String style : styles) {
+			final TokenMaker tm = factory.getTokenMaker(style);
+			final String failure = TokenStreamCopyCheck.check(style, tm);
+			factory.releaseTokenMaker(tm);
+			if (failure != null) {
+				System.out.println("FAIL " + style + ": " + failure);
+				failures++;
+			}
+		}
+		System.out.println(String.format("%d styles checked, %d failed", styles.size(), failures));
+		if (failures > 0)
+			System.exit(1);
+	}
+
+	private static String text(final TokenStream stream, final int index) {
+		return new String(stream.getTextArray(index), stream.getTextOffset(index), stream.getLength(index));
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * 10/17/2026
+ *
+ * WrappedLineBenchmark.java - Measures opening, resizing and scrolling a large
+ * document with line wrap on.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import javax.swing.JScrollPane;
+import javax.swing.SwingUtilities;
+import javax.swing.text.BadLocationException;
+
+/**
+ * Measures how long it takes to open a large markdown-like text file with line
+ * wrap on and paint its first screen, to resize the editor and repaint it,
+ * and to jump to the end of the document and paint the last screen. The
+ * editor is in a scroll pane, as it would be in an application, but isn't
+ * showing, so only the work done on demand is measured.
+ * <p>
+ *
+ * Usage: <code>WrappedLineBenchmark [lines]</code>. By default a document of
+ * 100,000 lines is generated. Run with <code>ant bench</code>.
+ *
+ * @version 1.0
+ */
+public class WrappedLineBenchmark {
+
+	private static final int RESIZES = 10;
+
+	private static final int VIEW_HEIGHT = 800;
+
+	private static final int VIEW_WIDTH = 1000;
+
+	private static final String[] WORDS = { "the", "quick", "brown", "fox", "jumps", "over", "lazy", "dog",
+			"lorem", "ipsum", "dolor", "sit", "amet", "`code`", "**bold**", "[link](http://example.com)" };
+
+	private static String createText(final int lines) {
+		final Random random = new Random(42);
+		final StringBuilder sb = new StringBuilder(lines * 200);
+		for (int i = 0; i < lines; i++) {
+			switch (random.nextInt(8)) {
+			case 0:
+				sb.append("## Heading ").append(i);
+				break;
+			case 1:
+				break;
+			default:
+				// Mostly short paragraphs, some of a dozen rows or more
+				final int words = 5 + random.nextInt(random.nextInt(8) == 0 ? 500 : 60);
+				for (int j = 0; j < words; j++)
+					sb.append(WrappedLineBenchmark.WORDS[random.nextInt(WrappedLineBenchmark.WORDS.length)])
+							.append(' ');
+				break;
+			}
+			sb.append('\n');
+		}
+		return sb.toString();
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final String text = WrappedLineBenchmark.createText(args.length > 0 ? Integer.parseInt(args[0]) : 100000);
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					WrappedLineBenchmark.run(text);
+				} catch (final BadLocationException ble) {
+					throw new RuntimeException(ble);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Lays out the scroll pane, which <code>validate()</code> doesn't do when
+	 * it isn't in a window, and paints what its viewport shows.
+	 */
+	private static void paint(final JScrollPane scrollPane, final BufferedImage image) {
+		scrollPane.doLayout();
+		scrollPane.getViewport().doLayout();
+		final Graphics2D g = image.createGraphics();
+		try {
+			scrollPane.paint(g);
+		} finally {
+			g.dispose();
+		}
+	}
+
+	private static void run(final String text) throws BadLocationException {
+
+		final BufferedImage image = new BufferedImage(WrappedLineBenchmark.VIEW_WIDTH,
+				WrappedLineBenchmark.VIEW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		// Not in a window, so give it something to measure fonts with
+		final RSyntaxTextArea textArea = new RSyntaxTextArea() {
+			@Override
+			public Graphics getGraphics() {
+				return image.createGraphics();
+			}
+		};
+		textArea.setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_NONE);
+		textArea.setLineWrap(true);
+		textArea.setWrapStyleWord(true);
+		final JScrollPane scrollPane = new JScrollPane(textArea);
+		scrollPane.setSize(WrappedLineBenchmark.VIEW_WIDTH, WrappedLineBenchmark.VIEW_HEIGHT);
+
+		long start = System.nanoTime();
+		textArea.setText(text);
+		textArea.setCaretPosition(0);
+		WrappedLineBenchmark.paint(scrollPane, image);
+		final double open = (System.nanoTime() - start) / 1e6;
+
+		start = System.nanoTime();
+		for (int i = 0; i < WrappedLineBenchmark.RESIZES; i++) {
+			scrollPane.setSize(WrappedLineBenchmark.VIEW_WIDTH - 20 * (i % 2 + 1), WrappedLineBenchmark.VIEW_HEIGHT);
+			WrappedLineBenchmark.paint(scrollPane, image);
+		}
+		final double resize = (System.nanoTime() - start) / 1e6 / WrappedLineBenchmark.RESIZES;
+
+		start = System.nanoTime();
+		textArea.setCaretPosition(text.length());
+		final Rectangle caret = textArea.modelToView(text.length());
+		textArea.scrollRectToVisible(caret);
+		WrappedLineBenchmark.paint(scrollPane, image);
+		final double end = (System.nanoTime() - start) / 1e6;
+
+		System.out.println(String.format("%d lines, %d chars, %d px high", textArea.getLineCount(), text.length(),
+				textArea.getHeight()));
+		System.out.println(String.format("%-24s %10s", "operation", "ms"));
+		System.out.println(String.format("%-24s %10.1f", "open", open));
+		System.out.println(String.format("%-24s %10.1f", "resize (mean)", resize));
+		System.out.println(String.format("%-24s %10.1f", "scroll to end", end));
+
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * 10/17/2026
+ *
+ * ScannerTablesWriter.java - Writes the tables resource of a JFlex-generated
+ * TokenMaker.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea.modes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes the <code>&lt;ClassName&gt;.tables</code> resource that
+ * {@link ScannerTables#load(Class)} reads, from the tables a scanner generated
+ * by JFlex unpacks itself. This is a development tool, not part of the
+ * library.
+ * <p>
+ *
+ * After regenerating a scanner with JFlex, compile it as generated and run
+ * <code>ScannerTablesWriter &lt;class&gt; &lt;file&gt;</code> with it and
+ * <code>bench-bin</code> on the classpath, then replace the packed strings and
+ * <code>zzUnpack*</code> methods with a call to
+ * {@link ScannerTables#load(Class)}.
+ *
+ * @version 1.0
+ */
+public class ScannerTablesWriter {
+
+	/**
+	 * Writes the tables resource of a scanner.
+	 *
+	 * @param args
+	 *            The scanner's fully qualified class name, and the file to write.
+	 * @throws Exception
+	 *             If the class can't be loaded or the file can't be written.
+	 */
+	public static void main(final String[] args) throws Exception {
+		if (args.length != 2) {
+			System.err.println("Usage: ScannerTablesWriter <scanner class> <output file>");
+			System.exit(1);
+		}
+		final Class<?> scanner = Class.forName(args[0]);
+		final char[] cmap = (char[]) ScannerTablesWriter.table(scanner, "ZZ_CMAP");
+		final int[] cmapInts = new int[cmap.length];
+		for (int i = 0; i < cmap.length; i++)
+			cmapInts[i] = cmap[i];
+		try (OutputStream out = new FileOutputStream(args[1])) {
+			ScannerTablesWriter.write(out, cmapInts, (int[]) ScannerTablesWriter.table(scanner, "ZZ_ACTION"),
+					(int[]) ScannerTablesWriter.table(scanner, "ZZ_ATTRIBUTE"),
+					(int[]) ScannerTablesWriter.table(scanner, "ZZ_ROWMAP"),
+					(int[]) ScannerTablesWriter.table(scanner, "ZZ_TRANS"));
+		}
+	}
+
+	private static Object table(final Class<?> scanner, final String name) throws ReflectiveOperationException {
+		final Field field = scanner.getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(null);
+	}
+
+	/**
+	 * Writes a tables resource: a header with the magic number and the size of
+	 * the decoded tables, then the tables run-length encoded and deflated.
+	 */
+	private static void write(final OutputStream out, final int[]... tables) throws IOException {
+		final ByteArrayOutputStream data = new ByteArrayOutputStream();
+		for (final int[] table : tables) {
+			ScannerTablesWriter.writeVarInt(data, table.length);
+			for (int i = 0; i < table.length;) {
+				int j = i + 1;
+				while (j < table.length && table[j] == table[i])
+					j++;
+				ScannerTablesWriter.writeVarInt(data, j - i);
+				ScannerTablesWriter.writeVarInt(data, table[i] << 1 ^ table[i] >> 31);
+				i = j;
+			}
+		}
+		final DataOutputStream dout = new DataOutputStream(out);
+		dout.writeInt(ScannerTables.MAGIC);
+		dout.writeInt(data.size());
+		final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		try (DeflaterOutputStream zout = new DeflaterOutputStream(dout, deflater)) {
+			data.writeTo(zout);
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static void writeVarInt(final ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7f) != 0) {
+			out.write(value & 0x7f | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * 10/17/2026
+ *
+ * ContentBenchmark.java - Compares edit latency of document contents.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.util.Random;
+
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.GapContent;
+
+/**
+ * Compares the latency of edits at random positions in a large document, for
+ * Swing's <code>GapContent</code>, the default content used by
+ * {@link RDocument} ({@link CompactContent}) and {@link PieceTableContent}.
+ * The contents that support snapshots are also measured with a snapshot taken
+ * before every edit, as a background task would, since the next edit then has
+ * to stop sharing the storage it modifies.
+ * <p>
+ *
+ * Usage: <code>ContentBenchmark [sizeInMB] [edits]</code>. Run with
+ * <code>ant bench</code>.
+ *
+ * @version 1.0
+ */
+public class ContentBenchmark {
+
+	private static final String LINE = "public static void main(String[] args) { // some text\n";
+
+	private static final long SEED = 0x5DEECE66DL;
+
+	private static long[] edit(final AbstractDocument.Content content, final int edits, final boolean snapshots)
+			throws BadLocationException {
+		final Random random = new Random(ContentBenchmark.SEED);
+		final long[] times = new long[edits];
+		for (int i = 0; i < edits; i++) {
+			final int offs = random.nextInt(content.length() - 1);
+			if (snapshots)
+				((RContent) content).snapshot();
+			final long start = System.nanoTime();
+			if ((i & 1) == 0)
+				content.insertString(offs, "x = y;");
+			else
+				content.remove(offs, Math.min(6, content.length() - 1 - offs));
+			times[i] = System.nanoTime() - start;
+		}
+		return times;
+	}
+
+	private static void fill(final AbstractDocument.Content content, final int size) throws BadLocationException {
+		final StringBuilder sb = new StringBuilder(1024 * 1024);
+		while (sb.length() < 1024 * 1024 - ContentBenchmark.LINE.length())
+			sb.append(ContentBenchmark.LINE);
+		final String chunk = sb.toString();
+		while (content.length() - 1 < size)
+			content.insertString(content.length() - 1, chunk);
+	}
+
+	public static void main(final String[] args) throws BadLocationException {
+		final int size = (args.length > 0 ? Integer.parseInt(args[0]) : 64) * 1024 * 1024;
+		final int edits = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+		System.out.println("Random-position edits in a " + size / (1024 * 1024) + " MB document (" + edits
+				+ " edits, times in microseconds)");
+		System.out.println(String.format("%-20s %10s %10s %10s %10s", "content", "mean", "p50", "p99", "max"));
+		for (int round = 0; round < 2; round++) {
+			final boolean warmUp = round == 0;
+			ContentBenchmark.run("GapContent", new GapContent(), size, edits, false, warmUp);
+			ContentBenchmark.run("CompactContent", new CompactContent(), size, edits, false, warmUp);
+			ContentBenchmark.run("PieceTableContent", new PieceTableContent(), size, edits, false, warmUp);
+			ContentBenchmark.run("Compact, snapshots", new CompactContent(), size, edits, true, warmUp);
+			ContentBenchmark.run("PieceTable, snapshots", new PieceTableContent(), size, edits, true, warmUp);
+		}
+	}
+
+	private static void run(final String name, final AbstractDocument.Content content, final int size,
+			final int edits, final boolean snapshots, final boolean warmUp) throws BadLocationException {
+		ContentBenchmark.fill(content, size);
+		final long[] times = ContentBenchmark.edit(content, edits, snapshots);
+		if (warmUp)
+			return;
+		java.util.Arrays.sort(times);
+		long total = 0;
+		for (final long t : times)
+			total += t;
+		System.out.println(String.format("%-20s %10.1f %10.1f %10.1f %10.1f", name, total / 1000.0 / times.length,
+				times[times.length / 2] / 1000.0, times[times.length * 99 / 100] / 1000.0,
+				times[times.length - 1] / 1000.0));
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * 10/17/2026
+ *
+ * MarkAllBenchmark.java - Measures "mark all" on a large document with many
+ * matches.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import javax.swing.SwingUtilities;
+
+import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
+
+/**
+ * Measures how long {@link SearchEngine#markAll(RTextArea, SearchContext)}
+ * takes on a large document in which the text searched for occurs many times,
+ * for literal and regular expression searches, with and without matching case.
+ * <p>
+ *
+ * Usage: <code>MarkAllBenchmark [sizeInMB]</code>. By default a 30 MB document
+ * with about 50,000 occurrences of each search is generated. Run with
+ * <code>ant bench</code>.
+ *
+ * @version 1.0
+ */
+public class MarkAllBenchmark {
+
+	private static final String FILLER = "\tint value = compute(index, offset) + total; // running sum\n";
+
+	/**
+	 * The searches run: a name, the text to search for, whether it's a regex,
+	 * whether to match case, and whether to match whole words.
+	 */
+	private static final Object[][] QUERIES = { { "literal", "needle", false, true, false },
+			{ "literal, any case", "NEEDLE", false, false, false }, { "whole word", "needle", false, true, true },
+			{ "regex", "need\\w+\\(", true, true, false }, { "regex, any case", "^\\s*NEEDLE", true, false, false } };
+
+	private static final int RUNS = 5;
+
+	private static String createText(final int size) {
+		final StringBuilder sb = new StringBuilder(size + 100);
+		int line = 0;
+		while (sb.length() < size) {
+			// About 50,000 of each kind of match in 30 MB
+			if (line % 24 == 0)
+				sb.append("\tneedle(").append(line).append(");\n");
+			else if (line % 24 == 12)
+				sb.append("\tNeedles[").append(line).append("] = needlework;\n");
+			else
+				sb.append(MarkAllBenchmark.FILLER);
+			line++;
+		}
+		return sb.toString();
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final int size = (args.length > 0 ? Integer.parseInt(args[0]) : 30) * 1024 * 1024;
+		final String text = MarkAllBenchmark.createText(size);
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				MarkAllBenchmark.run(text);
+			}
+		});
+	}
+
+	private static void run(final String text) {
+		final RTextArea textArea = new RSyntaxTextArea();
+		textArea.setText(text);
+		System.out.println(String.format("%d chars, %d lines", text.length(), textArea.getLineCount()));
+		System.out.println(String.format("%-20s %10s %10s %12s", "search", "ms", "marked", "ns/char"));
+		for (final Object[] query : MarkAllBenchmark.QUERIES) {
+			final SearchContext context = new SearchContext((String) query[1]);
+			context.setRegularExpression((Boolean) query[2]);
+			context.setMatchCase((Boolean) query[3]);
+			context.setWholeWord((Boolean) query[4]);
+			context.setMarkAll(true);
+			for (int i = 0; i < MarkAllBenchmark.RUNS; i++) {
+				final long start = System.nanoTime();
+				final SearchResult result = SearchEngine.markAll(textArea, context);
+				final long nanos = System.nanoTime() - start;
+				System.out.println(String.format("%-20s %10.1f %10d %12.2f", query[0], nanos / 1e6,
+						result.getMarkedCount(), (double) nanos / text.length()));
+			}
+		}
+		textArea.clearMarkAllHighlights();
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * 10/17/2026
+ *
+ * PatternCacheBenchmark.java - Measures repeated "find next" with and
+ * without compiled patterns cached.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import javax.swing.SwingUtilities;
+
+import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
+
+/**
+ * Measures pressing "Find Next" repeatedly with a complex regular expression,
+ * with the {@link PatternCache} cleared before every search (as if each
+ * compiled its pattern) and with it kept, and reports the cache's hit and miss
+ * counts.
+ * <p>
+ *
+ * Usage: <code>PatternCacheBenchmark [searches]</code>. Run with
+ * <code>ant bench</code>.
+ *
+ * @version 1.0
+ */
+public class PatternCacheBenchmark {
+
+	/**
+	 * An e-mail address pattern, which is expensive to compile but quick to
+	 * match in short lines.
+	 */
+	private static final String REGEX = "(?<![\\w.+-])[\\w.+-]+@(?:[\\p{Alnum}-]+\\.)+(?:com|org|net|edu|[a-z]{2})\\b";
+
+	private static final int RUNS = 3;
+
+	private static String createText(final int lines) {
+		final StringBuilder sb = new StringBuilder(lines * 40);
+		for (int i = 0; i < lines; i++)
+			sb.append("Contact user").append(i).append("@example.com for details.\n");
+		return sb.toString();
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final int searches = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				PatternCacheBenchmark.run(searches);
+			}
+		});
+	}
+
+	private static void run(final int searches) {
+		final RSyntaxTextArea textArea = new RSyntaxTextArea(PatternCacheBenchmark.createText(searches));
+		final SearchContext context = new SearchContext(PatternCacheBenchmark.REGEX, true);
+		context.setRegularExpression(true);
+		context.setMarkAll(false);
+		System.out.println(String.format("%-12s %10s %12s %10s %10s", "cache", "ms", "us/search", "hits", "misses"));
+		for (int i = 0; i < PatternCacheBenchmark.RUNS; i++) {
+			PatternCacheBenchmark.search(textArea, context, searches, true);
+			PatternCacheBenchmark.search(textArea, context, searches, false);
+		}
+	}
+
+	private static void search(final RTextArea textArea, final SearchContext context, final int searches,
+			final boolean clear) {
+		textArea.setCaretPosition(0);
+		PatternCache.clear();
+		PatternCache.resetStatistics();
+		final long start = System.nanoTime();
+		for (int i = 0; i < searches; i++) {
+			if (clear)
+				PatternCache.clear();
+			if (!SearchEngine.find(textArea, context).wasFound())
+				throw new IllegalStateException("Match " + i + " not found");
+		}
+		final long nanos = System.nanoTime() - start;
+		System.out.println(String.format("%-12s %10.1f %12.2f %10d %10d", clear ? "cleared" : "kept", nanos / 1e6,
+				nanos / 1e3 / searches, PatternCache.getHitCount(), PatternCache.getMissCount()));
+	}
+
+}
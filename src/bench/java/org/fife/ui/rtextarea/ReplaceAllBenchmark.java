@@ -0,0 +1,107 @@
+/*
+ * 10/17/2026
+ *
+ * ReplaceAllBenchmark.java - Measures "replace all" with many matches.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import javax.swing.SwingUtilities;
+
+import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
+import org.fife.ui.rsyntaxtextarea.SyntaxConstants;
+
+/**
+ * Measures how long {@link SearchEngine#replaceAll(RTextArea, SearchContext)}
+ * takes to make 100,000 replacements in a Java file, for a literal, a regular
+ * expression with a group reference and a zero-length regular expression, and
+ * checks that a single undo restores the original text. For comparison, it
+ * also times replacing matches one at a time with
+ * {@link SearchEngine#replace(RTextArea, SearchContext)}, as "replace all"
+ * used to, on a smaller number of matches.
+ * <p>
+ *
+ * Usage: <code>ReplaceAllBenchmark [replacements]</code>. Run with
+ * <code>ant bench</code>.
+ *
+ * @version 1.0
+ */
+public class ReplaceAllBenchmark {
+
+	/**
+	 * The replacements made: a name, the text to search for, whether it's a
+	 * regex, and the replacement.
+	 */
+	private static final Object[][] REPLACEMENTS = { { "literal", "oldName", false, "newName" },
+			{ "regex with group", "old(\\w+)\\(", true, "new$1(" }, { "zero-length regex", "^", true, "// " } };
+
+	private static final int ONE_AT_A_TIME = 2000;
+
+	private static final int RUNS = 3;
+
+	private static String createText(final int lines) {
+		final StringBuilder sb = new StringBuilder(lines * 40);
+		for (int i = 0; i < lines; i++)
+			sb.append("\tresult += oldName(").append(i).append(") * factor;\n");
+		return sb.toString();
+	}
+
+	private static SearchContext createContext(final Object[] replacement) {
+		final SearchContext context = new SearchContext((String) replacement[1], true);
+		context.setRegularExpression((Boolean) replacement[2]);
+		context.setReplaceWith((String) replacement[3]);
+		return context;
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final int count = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				ReplaceAllBenchmark.run(count);
+			}
+		});
+	}
+
+	private static void run(final int count) {
+
+		final String text = ReplaceAllBenchmark.createText(count);
+		final RSyntaxTextArea textArea = new RSyntaxTextArea();
+		textArea.setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
+
+		System.out.println(String.format("%d lines, %d chars", count, text.length()));
+		System.out.println(String.format("%-20s %10s %10s %12s %10s", "replace all", "ms", "replaced", "us/replace",
+				"undo ok"));
+		for (final Object[] replacement : ReplaceAllBenchmark.REPLACEMENTS) {
+			final SearchContext context = ReplaceAllBenchmark.createContext(replacement);
+			for (int i = 0; i < ReplaceAllBenchmark.RUNS; i++) {
+				textArea.setText(text);
+				textArea.discardAllEdits();
+				final long start = System.nanoTime();
+				final SearchResult result = SearchEngine.replaceAll(textArea, context);
+				final long nanos = System.nanoTime() - start;
+				textArea.undoLastAction();
+				final boolean undone = !textArea.canUndo() && text.equals(textArea.getText());
+				System.out.println(String.format("%-20s %10.1f %10d %12.3f %10s", replacement[0], nanos / 1e6,
+						result.getCount(), nanos / 1e3 / result.getCount(), undone));
+			}
+		}
+
+		// Replacing one match at a time, as "replace all" used to
+		final int n = Math.min(count, ReplaceAllBenchmark.ONE_AT_A_TIME);
+		textArea.setText(ReplaceAllBenchmark.createText(n));
+		final SearchContext context = ReplaceAllBenchmark.createContext(ReplaceAllBenchmark.REPLACEMENTS[0]);
+		textArea.setCaretPosition(0);
+		final long start = System.nanoTime();
+		int replaced = 0;
+		while (SearchEngine.replace(textArea, context).wasFound())
+			replaced++;
+		final long nanos = System.nanoTime() - start;
+		System.out.println(String.format("%-20s %10.1f %10d %12.3f", "one at a time", nanos / 1e6, replaced,
+				nanos / 1e3 / replaced));
+
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * 10/17/2026
+ *
+ * FindInFilesBenchmark.java - Measures searching a directory tree with
+ * FindInFilesEngine.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.search;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Random;
+
+/**
+ * Measures how fast {@link FindInFilesEngine} searches a directory tree, for a
+ * literal string and for a regular expression, in files per second and bytes
+ * per second. Results are counted rather than displayed, but still go through
+ * the EDT in batches as they would in a dialog.
+ * <p>
+ *
+ * Usage: <code>FindInFilesBenchmark [dir [files]]</code>. If no directory is
+ * given, a tree of 20,000 generated source files, a few of them large enough
+ * to be memory-mapped, is created in a temporary directory and deleted
+ * afterwards. Run with <code>ant bench</code>.
+ *
+ * @version 1.0
+ */
+public class FindInFilesBenchmark {
+
+	private static final String LITERAL = "getValue";
+
+	private static final String REGEX = "get[A-Z]\\w*\\(\\s*\\)";
+
+	private static final int RUNS = 3;
+
+	/**
+	 * Counts results, as a results table would show them.
+	 */
+	static class CountingResults implements ResultsComponent {
+
+		private int rows;
+
+		@Override
+		public void addMatchData(final MatchData matchData, final String dirName) {
+			this.rows++;
+		}
+
+		@Override
+		public void clear() {
+			this.rows = 0;
+		}
+
+		@Override
+		public MatchData getMatchDataForRow(final int row) {
+			return null;
+		}
+
+		@Override
+		public int getRowCount() {
+			return this.rows;
+		}
+
+		@Override
+		public int getSelectedRow() {
+			return -1;
+		}
+
+		@Override
+		public void prettyUp() {
+		}
+
+	}
+
+	static Path createTree(final int files) throws IOException {
+		final Path root = Files.createTempDirectory("findInFiles");
+		final Random random = new Random(42);
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < files; i++) {
+			final Path dir = root.resolve("pkg" + i % 50).resolve("sub" + i % 7);
+			Files.createDirectories(dir);
+			sb.setLength(0);
+			// Mostly small files, with the odd one big enough to be mapped
+			final int methods = i % 2000 == 0 ? 20000 : 5 + random.nextInt(60);
+			sb.append("package pkg").append(i % 50).append(";\n\npublic class Class").append(i).append(" {\n");
+			for (int j = 0; j < methods; j++) {
+				sb.append("\tprivate int field").append(j).append(";\n");
+				sb.append("\tpublic int ").append(random.nextInt(20) == 0 ? "getValue" : "compute").append(j)
+						.append("() {\n\t\treturn field").append(j).append(" * ").append(random.nextInt(100))
+						.append(";\n\t}\n");
+			}
+			sb.append("}\n");
+			Files.write(dir.resolve("Class" + i + ".java"), sb.toString().getBytes(StandardCharsets.US_ASCII));
+		}
+		return root;
+	}
+
+	static void delete(final Path root) throws IOException {
+		Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult postVisitDirectory(final Path dir, final IOException e) throws IOException {
+				Files.delete(dir);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+				Files.delete(file);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	public static void main(final String[] args) throws Exception {
+
+		final boolean generate = args.length == 0;
+		final Path root = generate ? FindInFilesBenchmark.createTree(20000)
+				: new File(args[0]).toPath();
+		try {
+			System.out.println(String.format("%-12s %8s %10s %10s %12s %10s", "query", "ms", "files", "files/s",
+					"MB/s", "rows"));
+			for (int i = 0; i < FindInFilesBenchmark.RUNS; i++) {
+				FindInFilesBenchmark.search(root, FindInFilesBenchmark.LITERAL, false);
+				FindInFilesBenchmark.search(root, FindInFilesBenchmark.REGEX, true);
+			}
+		} finally {
+			if (generate)
+				FindInFilesBenchmark.delete(root);
+		}
+
+	}
+
+	private static void search(final Path root, final String searchFor, final boolean regex)
+			throws InterruptedException {
+		final FindInFilesSearchContext context = new FindInFilesSearchContext();
+		context.setSearchFor(searchFor);
+		context.setMatchCase(true);
+		context.setRegularExpression(regex);
+		final CountingResults results = new CountingResults();
+		final FindInFilesEngine engine = new FindInFilesEngine(context, results);
+		engine.setSkipFolders(".git .svn CVS");
+		engine.start(root.toFile());
+		engine.waitUntilDone();
+		final double seconds = engine.getElapsedNanos() / 1e9;
+		System.out.println(String.format("%-12s %8.0f %10d %10.0f %12.1f %10d", regex ? "regex" : "literal",
+				seconds * 1000, engine.getFileCount(), engine.getFileCount() / seconds,
+				engine.getByteCount() / seconds / (1024 * 1024), results.getRowCount()));
+	}
+
+}
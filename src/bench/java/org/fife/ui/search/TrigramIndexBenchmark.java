@@ -0,0 +1,170 @@
+/*
+ * 10/17/2026
+ *
+ * TrigramIndexBenchmark.java - Measures building and querying a TrigramIndex,
+ * and how much it speeds up Find in Files.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.search;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Measures how long a {@link TrigramIndex} takes to build, how big it is
+ * compared to the files indexed, how many candidates it returns for a few
+ * queries and how long that takes, how long it takes to notice modified files,
+ * and how long Find in Files takes with and without it.
+ * <p>
+ *
+ * Usage: <code>TrigramIndexBenchmark [dir]</code>. If no directory is given,
+ * the tree generated by {@link FindInFilesBenchmark} is used. Run with
+ * <code>ant bench</code>.
+ *
+ * @version 1.0
+ */
+public class TrigramIndexBenchmark {
+
+	private static final int MODIFIED_FILES = 100;
+
+	/**
+	 * The queries run: a rare literal, a common one, an alternation and a
+	 * regex that can't be narrowed down.
+	 */
+	private static final String[][] QUERIES = { { "rare literal", "getValue1234()", "false" },
+			{ "common literal", "return field", "false" },
+			{ "alternation", "getValue1234\\(|getValue4321\\(", "true" },
+			{ "unfilterable", "[gs]et\\w*\\(", "true" } };
+
+	private static final int RUNS = 3;
+
+	private static FindInFilesSearchContext createContext(final String[] query) {
+		final FindInFilesSearchContext context = new FindInFilesSearchContext();
+		context.setSearchFor(query[1]);
+		context.setMatchCase(true);
+		context.setRegularExpression(Boolean.parseBoolean(query[2]));
+		return context;
+	}
+
+	public static void main(final String[] args) throws Exception {
+
+		final boolean generate = args.length == 0;
+		final Path root = generate ? FindInFilesBenchmark.createTree(20000) : new File(args[0]).toPath();
+		final File indexFile = File.createTempFile("trigrams", ".idx");
+		indexFile.delete();
+		try {
+
+			long start = System.nanoTime();
+			TrigramIndex index = TrigramIndexBenchmark.open(root, indexFile);
+			final double build = (System.nanoTime() - start) / 1e6;
+			final long corpus = TrigramIndexBenchmark.size(root);
+			System.out.println(String.format("%d files, %.1f MB; index %.1f MB (%.1f%%), built in %.0f ms",
+					index.getFileCount(), corpus / 1048576.0, index.getSize() / 1048576.0,
+					100.0 * index.getSize() / corpus, build));
+			index.close();
+
+			start = System.nanoTime();
+			index = TrigramIndexBenchmark.open(root, indexFile);
+			System.out.println(String.format("reopened in %.0f ms", (System.nanoTime() - start) / 1e6));
+
+			System.out.println();
+			System.out.println(String.format("%-16s %10s %12s %12s %12s %8s", "query", "candidates", "query (ms)",
+					"index (ms)", "no index (ms)", "matches"));
+			for (final String[] query : TrigramIndexBenchmark.QUERIES) {
+				for (int i = 0; i < TrigramIndexBenchmark.RUNS; i++)
+					TrigramIndexBenchmark.run(root, index, query);
+			}
+
+			// Touch some files, and time a search that has to read them
+			start = System.nanoTime();
+			int modified = 0;
+			for (final Path file : TrigramIndexBenchmark.sample(root)) {
+				Files.write(file, "\n// getValue1234()\n".getBytes(StandardCharsets.US_ASCII),
+						StandardOpenOption.APPEND);
+				modified++;
+			}
+			final String[] rare = TrigramIndexBenchmark.QUERIES[0];
+			final int rows = TrigramIndexBenchmark.search(root, index, rare)[1];
+			final double stale = (System.nanoTime() - start) / 1e6;
+			index.close();
+			start = System.nanoTime();
+			index = TrigramIndexBenchmark.open(root, indexFile);
+			final double refresh = (System.nanoTime() - start) / 1e6;
+			final int rowsAfter = TrigramIndexBenchmark.search(root, index, rare)[1];
+			index.close();
+			System.out.println();
+			System.out.println(String.format("%d files modified: search %.0f ms (%d matches), reopen %.0f ms (%d matches)",
+					modified, stale, rows, refresh, rowsAfter));
+
+		} finally {
+			indexFile.delete();
+			if (generate)
+				FindInFilesBenchmark.delete(root);
+		}
+
+	}
+
+	private static TrigramIndex open(final Path root, final File indexFile) throws InterruptedException {
+		final TrigramIndex index = new TrigramIndex(root.toFile(), indexFile);
+		index.setSkipFolders(".git .svn CVS");
+		index.start();
+		index.waitUntilStarted();
+		return index;
+	}
+
+	private static void run(final Path root, final TrigramIndex index, final String[] query)
+			throws InterruptedException {
+		final FindInFilesSearchContext context = TrigramIndexBenchmark.createContext(query);
+		final long start = System.nanoTime();
+		final TrigramIndex.Candidates candidates = index.getCandidates(context);
+		final double queryMillis = (System.nanoTime() - start) / 1e6;
+		final int[] indexed = TrigramIndexBenchmark.search(root, index, query);
+		final int[] unindexed = TrigramIndexBenchmark.search(root, null, query);
+		if (indexed[1] != unindexed[1])
+			throw new IllegalStateException("Index missed matches: " + indexed[1] + " != " + unindexed[1]);
+		System.out.println(String.format("%-16s %10s %12.2f %12d %12d %8d", query[0],
+				candidates == null ? "all" : Integer.toString(candidates.getCount()), queryMillis, indexed[0],
+				unindexed[0], indexed[1]));
+	}
+
+	/**
+	 * Returns {@link #MODIFIED_FILES} files spread evenly through a directory
+	 * tree.
+	 */
+	private static Path[] sample(final Path root) throws Exception {
+		final Path[] files = Files.walk(root).filter(Files::isRegularFile).sorted().toArray(Path[]::new);
+		final int count = Math.min(TrigramIndexBenchmark.MODIFIED_FILES, files.length);
+		final Path[] sample = new Path[count];
+		for (int i = 0; i < count; i++)
+			sample[i] = files[(int) ((long) i * files.length / count)];
+		return sample;
+	}
+
+	/**
+	 * Searches a directory, returning how long it took in milliseconds, and
+	 * the number of matches found.
+	 */
+	private static int[] search(final Path root, final TrigramIndex index, final String[] query)
+			throws InterruptedException {
+		final FindInFilesEngine engine = new FindInFilesEngine(TrigramIndexBenchmark.createContext(query),
+				new FindInFilesBenchmark.CountingResults());
+		engine.setSkipFolders(".git .svn CVS");
+		engine.setIndex(index);
+		engine.start(root.toFile());
+		engine.waitUntilDone();
+		return new int[] { (int) (engine.getElapsedNanos() / 1000000), (int) engine.getMatchCount() };
+	}
+
+	private static long size(final Path root) throws Exception {
+		long size = 0;
+		for (final Path file : Files.walk(root).filter(Files::isRegularFile).toArray(Path[]::new))
+			size += Files.size(file);
+		return size;
+	}
+
+}
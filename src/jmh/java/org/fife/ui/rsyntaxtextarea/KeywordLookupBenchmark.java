@@ -0,0 +1,134 @@
+/*
+ * 10/17/2026
+ *
+ * KeywordLookupBenchmark.java - JMH benchmark of TokenMap lookups.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link TokenMap} against the {@link ChainedTokenMap} it replaced,
+ * for every token maker that highlights words with a <code>TokenMap</code>.
+ * One operation looks up one word of the language's corpus (see
+ * {@link TokenMakerBenchmark}), as the token maker would for an identifier.
+ * <p>
+ *
+ * Run with <code>ant jmh -Djmh.args=KeywordLookupBenchmark</code>.
+ *
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordLookupBenchmark {
+
+	@Param({ "UnixShell", "WindowsBatch" })
+	public String language;
+
+	private ChainedTokenMap chained;
+
+	private int[] ends;
+
+	private char[] text;
+
+	private TokenMap tokenMap;
+
+	private int word;
+
+	private int[] starts;
+
+	@Benchmark
+	public int chained() {
+		final int w = this.next();
+		return this.chained.get(this.text, this.starts[w], this.ends[w]);
+	}
+
+	private int next() {
+		if (this.word == this.starts.length)
+			this.word = 0;
+		return this.word++;
+	}
+
+	@Benchmark
+	public int perfectHash() {
+		final int w = this.next();
+		return this.tokenMap.get(this.text, this.starts[w], this.ends[w]);
+	}
+
+	@Setup(Level.Trial)
+	@SuppressWarnings("unchecked")
+	public void setUp() throws Exception {
+		final AbstractTokenMaker tm = (AbstractTokenMaker) Class
+				.forName("org.fife.ui.rsyntaxtextarea.modes." + this.language + "TokenMaker").newInstance();
+		this.tokenMap = tm.getWordsToHighlight();
+
+		// TokenMap has no API to enumerate its words, and doesn't need one.
+		final Field field = TokenMap.class.getDeclaredField("words");
+		field.setAccessible(true);
+		this.chained = new ChainedTokenMap(this.tokenMap.isIgnoringCase());
+		for (final Map.Entry<String, Integer> e : ((Map<String, Integer>) field.get(this.tokenMap)).entrySet())
+			this.chained.put(e.getKey(), e.getValue());
+
+		final String name = "corpus/" + this.language + ".txt";
+		final InputStream in = KeywordLookupBenchmark.class.getResourceAsStream(name);
+		if (in == null)
+			throw new IOException("No corpus for " + this.language + ": " + name);
+		final StringBuilder sb = new StringBuilder();
+		try (BufferedReader r = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = r.readLine()) != null)
+				sb.append(line).append('\n');
+		}
+		this.text = sb.toString().toCharArray();
+
+		final List<int[]> words = new ArrayList<>();
+		for (int i = 0; i < this.text.length;) {
+			if (!RSyntaxUtilities.isLetter(this.text[i])) {
+				i++;
+				continue;
+			}
+			final int start = i;
+			while (i < this.text.length
+					&& (RSyntaxUtilities.isLetterOrDigit(this.text[i]) || this.text[i] == '_'))
+				i++;
+			words.add(new int[] { start, i - 1 });
+		}
+		this.starts = new int[words.size()];
+		this.ends = new int[words.size()];
+		for (int w = 0; w < words.size(); w++) {
+			this.starts[w] = words.get(w)[0];
+			this.ends[w] = words.get(w)[1];
+		}
+		this.word = 0;
+	}
+
+}
@@ -0,0 +1,165 @@
+/*
+ * 10/17/2026
+ *
+ * TokenMakerBenchmark.java - JMH benchmark of every bundled TokenMaker.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.text.Segment;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the tokenizing throughput of every <code>TokenMaker</code> in
+ * <code>org.fife.ui.rsyntaxtextarea.modes</code>, over a sample file of its
+ * language bundled in the <code>corpus</code> resource folder.
+ * <p>
+ *
+ * One benchmark operation tokenizes one line, so the primary score is lines per
+ * second. The <code>chars</code> and <code>tokens</code> counters give chars
+ * and tokens per second, and <code>gc.alloc.rate.norm</code> (with
+ * <code>-prof gc</code>) gives the bytes allocated per line. Lines are
+ * tokenized in order, each starting in the state the previous one ended in, as
+ * a document would. The "large" corpus repeats the sample up to
+ * {@value #LARGE_CORPUS_CHARS} characters, so that it doesn't fit in the CPU's
+ * caches.
+ * <p>
+ *
+ * Run with <code>ant jmh</code>, which writes the results as JSON.
+ *
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenMakerBenchmark {
+
+	/**
+	 * Counts the characters and tokens handled, reported per second.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counters {
+
+		public long chars;
+
+		public long tokens;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			this.chars = 0;
+			this.tokens = 0;
+		}
+
+	}
+
+	/**
+	 * The minimum size of the "large" corpus, in characters.
+	 */
+	public static final int LARGE_CORPUS_CHARS = 4 * 1024 * 1024;
+
+	@Param({ "small", "large" })
+	public String corpus;
+
+	@Param({ "ActionScript", "AssemblerX86", "BBCode", "BPP", "C", "Clojure", "CPlusPlus", "CSharp", "CSS", "D",
+			"Dart", "Delphi", "Docker", "Dtd", "Fortran", "Groovy", "Hosts", "Htaccess", "HTML", "Ini", "Java",
+			"JavaScript", "Jshintrc", "Json", "JSP", "Latex", "Less", "Lisp", "Lua", "Makefile", "Mxml", "NSIS",
+			"Perl", "PHP", "PlainText", "PropertiesFile", "Python", "Ruby", "SAS", "Scala", "SQL", "Tcl",
+			"TypeScript", "UnixShell", "VisualBasic", "WindowsBatch", "XML", "Yaml" })
+	public String language;
+
+	private int line;
+
+	private char[][] lines;
+
+	private int offset;
+
+	private final Segment segment = new Segment();
+
+	private TokenMaker tokenMaker;
+
+	private int type;
+
+	private static List<char[]> read(final String language) throws IOException {
+		final String name = "corpus/" + language + ".txt";
+		final InputStream in = TokenMakerBenchmark.class.getResourceAsStream(name);
+		if (in == null)
+			throw new IOException("No corpus for " + language + ": " + name);
+		final List<char[]> lines = new ArrayList<>();
+		try (BufferedReader r = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = r.readLine()) != null)
+				lines.add(line.toCharArray());
+		}
+		return lines;
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		this.tokenMaker = (TokenMaker) Class
+				.forName("org.fife.ui.rsyntaxtextarea.modes." + this.language + "TokenMaker").newInstance();
+		final List<char[]> sample = TokenMakerBenchmark.read(this.language);
+		final List<char[]> lines = new ArrayList<>(sample);
+		if ("large".equals(this.corpus)) {
+			long chars = 0;
+			for (final char[] line : sample)
+				chars += line.length + 1;
+			for (long total = chars; total < TokenMakerBenchmark.LARGE_CORPUS_CHARS; total += chars)
+				lines.addAll(sample);
+		}
+		this.lines = lines.toArray(new char[lines.size()][]);
+		this.line = 0;
+		this.offset = 0;
+		this.type = TokenTypes.NULL;
+	}
+
+	/**
+	 * Tokenizes the next line of the corpus.
+	 */
+	@Benchmark
+	public int tokenize(final Counters counters) {
+		if (this.line == this.lines.length) {
+			this.line = 0;
+			this.offset = 0;
+			this.type = TokenTypes.NULL;
+		}
+		final char[] text = this.lines[this.line++];
+		this.segment.array = text;
+		this.segment.offset = 0;
+		this.segment.count = text.length;
+		final TokenStream stream = this.tokenMaker.getTokenStream(this.segment, this.type, this.offset);
+		this.offset += text.length + 1;
+		this.type = stream.getLastType();
+		counters.chars += text.length;
+		counters.tokens += stream.getCount();
+		return this.type;
+	}
+
+}
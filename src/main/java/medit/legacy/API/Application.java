@@ -17,6 +17,7 @@ public class Application {
 
 	private File currentFile;
 	private MainFrame instance;
+	private Memory memory;
 	private JMenuBar menuBar;
 
 	/**
@@ -27,8 +28,9 @@ public class Application {
 
 	public Application(final MainFrame instance) {
 		this.instance = instance;
-		this.bbLabel = new BottombarLabel(instance.lblReady);
+		this.bbLabel = new BottombarLabel(instance.lblReady, instance.statusBar);
 		this.currentFile = new File(instance);
+		this.memory = new Memory(instance);
 		this.menuBar = instance.getJMenuBar();
 	}
 
@@ -68,6 +70,18 @@ public class Application {
 		return this.instance;
 	}
 
+	/**
+	 * Various functions to be used in scripts.
+	 *
+	 * This function is getter for Memory instance stored in this class.
+	 *
+	 * @return
+	 */
+
+	public Memory getMemory() {
+		return this.memory;
+	}
+
 	/**
 	 * Various functions to be used in scripts.
 	 *
@@ -2,6 +2,8 @@ package medit.legacy.API;
 
 import javax.swing.JLabel;
 
+import medit.legacy.ActionManagers.StatusBarActionManager;
+
 /**
  * This is BottombarLabel class, that is kind of API interface for MainFrame
  * bottombar label.
@@ -13,15 +15,32 @@ import javax.swing.JLabel;
 public class BottombarLabel {
 
 	JLabel bbLabel;
+	StatusBarActionManager statusBar;
 
 	public BottombarLabel(final JLabel instance) {
 		this.bbLabel = instance;
 	}
 
+	public BottombarLabel(final JLabel instance, final StatusBarActionManager statusBar) {
+		this.bbLabel = instance;
+		this.statusBar = statusBar;
+	}
+
 	public String GetText() {
 		return this.bbLabel.getText();
 	}
 
+	/**
+	 * Amount of bottombar refreshes done during last second. It's 0 when editor
+	 * is idle, or -1 if this label isn't backed by MainFrame status bar.
+	 *
+	 * @return
+	 */
+
+	public int GetUpdatesPerSecond() {
+		return this.statusBar == null ? -1 : this.statusBar.getUpdatesPerSecond();
+	}
+
 	public void Hide() {
 		this.bbLabel.setVisible(false);
 	}
@@ -0,0 +1,107 @@
+package medit.legacy.API;
+
+import java.util.List;
+
+import org.fife.ui.rsyntaxtextarea.TokenListCache;
+
+import medit.legacy.MainFrame;
+import medit.legacy.MemoryGovernor;
+
+/**
+ * Interface for heap usage and memory governor state for MEdit B++ scripts.
+ *
+ * @author Krzysztof Szewczyk
+ *
+ */
+
+public class Memory {
+
+	MainFrame instance;
+
+	public Memory(final MainFrame instance) {
+		this.instance = instance;
+	}
+
+	/**
+	 * Bytes saved by storing current document as Latin-1 instead of UTF-16.
+	 *
+	 * @return
+	 */
+
+	public long getBytesSaved() {
+		return MemoryGovernor.get().getBytesSaved(this.instance);
+	}
+
+	/**
+	 * Estimated heap used by current document, in bytes.
+	 *
+	 * @return
+	 */
+
+	public long getDocumentFootprint() {
+		return MemoryGovernor.get().getDocumentFootprint(this.instance);
+	}
+
+	public long getHeapMax() {
+		return MemoryGovernor.get().getHeapMax();
+	}
+
+	public long getHeapUsed() {
+		return MemoryGovernor.get().getHeapUsed();
+	}
+
+	public int getShedCount() {
+		return MemoryGovernor.get().getShedCount();
+	}
+
+	public List<MemoryGovernor.ShedEvent> getShedEvents() {
+		return MemoryGovernor.get().getShedEvents();
+	}
+
+	/**
+	 * Bytes saved by compact storage of documents in all MEdit windows.
+	 *
+	 * @return
+	 */
+
+	public long getTotalBytesSaved() {
+		return MemoryGovernor.get().getTotalBytesSaved();
+	}
+
+	/**
+	 * Estimated heap used by documents in all MEdit windows, in bytes.
+	 *
+	 * @return
+	 */
+
+	public long getTotalDocumentFootprint() {
+		return MemoryGovernor.get().getTotalDocumentFootprint();
+	}
+
+	/**
+	 * Token list requests of current document answered from cache.
+	 *
+	 * @return
+	 */
+
+	public long getTokenCacheHits() {
+		final TokenListCache cache = MemoryGovernor.get().getTokenListCache(this.instance);
+		return cache == null ? 0 : cache.getHits();
+	}
+
+	/**
+	 * Token list requests of current document that needed tokenizing.
+	 *
+	 * @return
+	 */
+
+	public long getTokenCacheMisses() {
+		final TokenListCache cache = MemoryGovernor.get().getTokenListCache(this.instance);
+		return cache == null ? 0 : cache.getMisses();
+	}
+
+	public boolean isShedding() {
+		return MemoryGovernor.get().isShedding();
+	}
+
+}
@@ -13,7 +13,12 @@ import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
+import javax.swing.AbstractButton;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JFileChooser;
@@ -22,10 +27,15 @@ import javax.swing.JMenuItem;
 import javax.swing.JSeparator;
 import javax.swing.JToolBar;
 import javax.swing.KeyStroke;
+import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import javax.swing.UnsupportedLookAndFeelException;
 import javax.swing.WindowConstants;
 
+import org.fife.ui.rsyntaxtextarea.MappedSyntaxDocument;
+import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
+import org.fife.ui.rtextarea.MappedFileContent;
+
 import medit.legacy.Crash;
 import medit.legacy.MainFrame;
 
@@ -42,6 +52,12 @@ import medit.legacy.MainFrame;
 
 public class FileActionManager {
 
+	/**
+	 * Files that are this big or bigger are opened in read-only viewer mode.
+	 */
+
+	private static final long LARGE_FILE_SIZE = 64L * 1024 * 1024;
+
 	/**
 	 * This variable is holding MainFrame instance that is used in this class.
 	 *
@@ -50,6 +66,25 @@ public class FileActionManager {
 
 	private final MainFrame instance;
 
+	/**
+	 * Text pane settings from before viewer mode turned them off, so they can be
+	 * brought back when a regular file is opened again.
+	 */
+
+	private boolean savedBracketMatching;
+	private boolean savedCodeFolding;
+	private boolean savedEditable;
+	private boolean savedLineWrap;
+	private boolean savedMarkOccurrences;
+
+	/**
+	 * Save and Save As menu items and buttons. They are disabled in viewer mode,
+	 * because the large file is mapped into memory and writing it back would
+	 * truncate the file under its own mapping.
+	 */
+
+	private final List<AbstractButton> saveButtons = new ArrayList<>();
+
 	/**
 	 * This constructor is creating new FileActionManager, and is assigning its
 	 * paramenter into MainFrame instance used by this ActionManager class.
@@ -198,6 +233,22 @@ public class FileActionManager {
 		toolBar.add(btnNewButton);
 	}
 
+	/**
+	 * This function is checking whether a large file is shown in read-only viewer
+	 * mode. Its text is mapped from the file, with carriage returns shown as
+	 * spaces, so it must never be saved: not over the mapped file, which writing
+	 * would truncate, and not elsewhere, where CRLF line ends would come out
+	 * wrong. Save actions run on their own thread, so they check this again
+	 * besides Save being disabled.
+	 *
+	 * @return
+	 */
+
+	private boolean isViewerMode() {
+		return this.instance.textPane != null
+				&& this.instance.textPane.getDocument() instanceof MappedSyntaxDocument;
+	}
+
 	/**
 	 * This function is creating Open menu item in parent JMenu.
 	 *
@@ -217,10 +268,7 @@ public class FileActionManager {
 						if (chooser.showOpenDialog(FileActionManager.this.instance) != JFileChooser.APPROVE_OPTION)
 							return;
 						try {
-							final FileReader reader = new FileReader(chooser.getSelectedFile());
-							final BufferedReader br = new BufferedReader(reader);
-							FileActionManager.this.instance.textPane.read(br, null);
-							br.close();
+							FileActionManager.this.OpenFile(chooser.getSelectedFile());
 							FileActionManager.this.instance.textPane.requestFocus();
 							FileActionManager.this.instance.currentFile = chooser.getSelectedFile();
 						} catch (final Exception e2) {
@@ -255,10 +303,7 @@ public class FileActionManager {
 							return;
 						try {
 							FileActionManager.this.instance.currentFile = chooser.getSelectedFile();
-							final FileReader reader = new FileReader(chooser.getSelectedFile());
-							final BufferedReader br = new BufferedReader(reader);
-							FileActionManager.this.instance.textPane.read(br, null);
-							br.close();
+							FileActionManager.this.OpenFile(chooser.getSelectedFile());
 							FileActionManager.this.instance.textPane.requestFocus();
 						} catch (final Exception e2) {
 							final Crash dialog = new Crash(e2);
@@ -275,6 +320,71 @@ public class FileActionManager {
 		toolBar.add(btnOpenButton);
 	}
 
+	/**
+	 * This function is loading file into text pane. Files bigger than
+	 * LARGE_FILE_SIZE are memory-mapped and shown read-only, so they don't have to
+	 * fit in heap - only pages being looked at are decoded. It's called from
+	 * background thread, so mapping and indexing file doesn't block EDT.
+	 *
+	 * @param file
+	 * @throws Exception
+	 */
+
+	private void OpenFile(final File file) throws Exception {
+		final RSyntaxTextArea textPane = this.instance.textPane;
+		if (file.length() < FileActionManager.LARGE_FILE_SIZE) {
+			final boolean wasMapped = textPane.getDocument() instanceof MappedSyntaxDocument;
+			final BufferedReader br = new BufferedReader(new FileReader(file));
+			try {
+				textPane.read(br, null);
+			} finally {
+				br.close();
+			}
+			if (wasMapped)
+				SwingUtilities.invokeAndWait(new Runnable() {
+					@Override
+					public void run() {
+						/* Bring back what viewer mode turned off. */
+						textPane.setEditable(FileActionManager.this.savedEditable);
+						textPane.setCodeFoldingEnabled(FileActionManager.this.savedCodeFolding);
+						textPane.setBracketMatchingEnabled(FileActionManager.this.savedBracketMatching);
+						textPane.setMarkOccurrences(FileActionManager.this.savedMarkOccurrences);
+						textPane.setLineWrap(FileActionManager.this.savedLineWrap);
+						FileActionManager.this.setSaveEnabled(true);
+					}
+				});
+			return;
+		}
+		/*
+		 * Only UTF-8 and single-byte charsets can be mapped, so fall back to UTF-8 if
+		 * the platform's default is e.g. UTF-16 or a multi-byte Asian encoding.
+		 */
+		Charset charset = Charset.defaultCharset();
+		if (!MappedFileContent.isSupported(charset))
+			charset = StandardCharsets.UTF_8;
+		final MappedSyntaxDocument doc = new MappedSyntaxDocument(file, charset, textPane.getSyntaxEditingStyle());
+		SwingUtilities.invokeAndWait(new Runnable() {
+			@Override
+			public void run() {
+				if (!(textPane.getDocument() instanceof MappedSyntaxDocument)) {
+					FileActionManager.this.savedLineWrap = textPane.getLineWrap();
+					FileActionManager.this.savedCodeFolding = textPane.isCodeFoldingEnabled();
+					FileActionManager.this.savedBracketMatching = textPane.isBracketMatchingEnabled();
+					FileActionManager.this.savedMarkOccurrences = textPane.getMarkOccurrences();
+					FileActionManager.this.savedEditable = textPane.isEditable();
+				}
+				textPane.setLineWrap(false);
+				textPane.setCodeFoldingEnabled(false);
+				textPane.setBracketMatchingEnabled(false);
+				textPane.setMarkOccurrences(false);
+				textPane.setEditable(false);
+				FileActionManager.this.setSaveEnabled(false);
+				textPane.setDocument(doc);
+				textPane.setCaretPosition(0);
+			}
+		});
+	}
+
 	/**
 	 * This function is creating OpenDir element in selected JMenu as parent.
 	 *
@@ -420,6 +530,8 @@ public class FileActionManager {
 				new Thread(new Runnable() {
 					@Override
 					public void run() {
+						if (FileActionManager.this.isViewerMode())
+							return;
 						if (FileActionManager.this.instance.currentFile == null) {
 							final JFileChooser SaveAs = new JFileChooser();
 							SaveAs.setApproveButtonText("Save");
@@ -474,6 +586,7 @@ public class FileActionManager {
 				}).start();
 			}
 		});
+		this.saveButtons.add(mntmSave);
 		parent.add(mntmSave);
 	}
 
@@ -491,6 +604,8 @@ public class FileActionManager {
 				new Thread(new Runnable() {
 					@Override
 					public void run() {
+						if (FileActionManager.this.isViewerMode())
+							return;
 						if (FileActionManager.this.instance.currentFile == null) {
 							final JFileChooser SaveAs = new JFileChooser();
 							SaveAs.setApproveButtonText("Save");
@@ -548,6 +663,7 @@ public class FileActionManager {
 		btnSaveButton.setToolTipText("Save file");
 		btnSaveButton.setFocusPainted(false);
 		btnSaveButton.setIcon(new ImageIcon(MainFrame.class.getResource("/medit/assets/actions/document-save.png")));
+		this.saveButtons.add(btnSaveButton);
 		toolBar.add(btnSaveButton);
 	}
 
@@ -567,6 +683,8 @@ public class FileActionManager {
 				new Thread(new Runnable() {
 					@Override
 					public void run() {
+						if (FileActionManager.this.isViewerMode())
+							return;
 						final JFileChooser SaveAs = new JFileChooser();
 						SaveAs.setApproveButtonText("Save");
 						final int actionDialog = SaveAs.showSaveDialog(FileActionManager.this.instance);
@@ -598,9 +716,22 @@ public class FileActionManager {
 				}).start();
 			}
 		});
+		this.saveButtons.add(mntmSaveAs);
 		parent.add(mntmSaveAs);
 	}
 
+	/**
+	 * This function is enabling or disabling all Save and Save As menu items and
+	 * buttons.
+	 *
+	 * @param enabled
+	 */
+
+	private void setSaveEnabled(final boolean enabled) {
+		for (final AbstractButton button : this.saveButtons)
+			button.setEnabled(enabled);
+	}
+
 	/**
 	 * This function is creating separator in selected JMenu, used as parent.
 	 *
@@ -0,0 +1,50 @@
+package medit.legacy.ActionManagers;
+
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+
+import medit.legacy.MainFrame;
+import medit.legacy.MemoryGovernor;
+
+/**
+ * This class is connecting MainFrame to MemoryGovernor, which is shedding
+ * caches and history when heap is running low. It replaced old timer, which
+ * was forcing GC every 60ms.
+ *
+ * @author Krzysztof Szewczyk
+ *
+ */
+
+public class MemoryActionManager {
+
+	/**
+	 * MainFrame instance used by this class.
+	 */
+
+	private final MainFrame instance;
+
+	/**
+	 * This is constructor that we pass MainFrame instance to.
+	 *
+	 * @param instance
+	 */
+
+	public MemoryActionManager(final MainFrame instance) {
+		this.instance = instance;
+	}
+
+	/**
+	 * Registering MainFrame in MemoryGovernor, until it's closed.
+	 */
+
+	public void SetUpMemoryGovernor() {
+		MemoryGovernor.get().register(this.instance);
+		this.instance.addWindowListener(new WindowAdapter() {
+			@Override
+			public void windowClosed(final WindowEvent e) {
+				MemoryGovernor.get().unregister(MemoryActionManager.this.instance);
+			}
+		});
+	}
+
+}
@@ -0,0 +1,393 @@
+package medit.legacy.ActionManagers;
+
+import java.awt.AWTEvent;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.FocusEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.io.File;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.event.CaretEvent;
+import javax.swing.event.CaretListener;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.Document;
+
+import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
+
+import medit.legacy.MainFrame;
+import medit.legacy.MemoryGovernor;
+
+/**
+ * This class keeps bottombar label of MainFrame up to date. It's not polling
+ * anything - label is refreshed only when document, caret, focus or one of
+ * locking keys changes. Many changes arriving in short time are coalesced into
+ * single refresh on EDT, done at most once per display frame.
+ *
+ * Free space and locking key state are cached, because querying them is
+ * expensive.
+ *
+ * @author Krzysztof Szewczyk
+ *
+ */
+
+public class StatusBarActionManager {
+
+	/**
+	 * Delay used to coalesce status updates, in milliseconds. It's roughly one
+	 * frame of 60Hz display.
+	 */
+
+	private static final int REFRESH_DELAY = 16;
+
+	/**
+	 * How long cached free space of current file's partition is considered valid,
+	 * in milliseconds.
+	 */
+
+	private static final long FREE_SPACE_TTL = 5000;
+
+	/**
+	 * Length of window used to count status updates per second.
+	 */
+
+	private static final long RATE_WINDOW = 1000;
+
+	/**
+	 * Text pane that listeners are currently attached to.
+	 */
+
+	private RSyntaxTextArea attached;
+
+	/**
+	 * Locking key state. It's refreshed only when locking key is pressed or when
+	 * MainFrame gains focus again.
+	 */
+
+	private boolean capsLock;
+
+	/**
+	 * Listener marking status as dirty, when caret moves.
+	 */
+
+	private final CaretListener caretListener = new CaretListener() {
+		@Override
+		public void caretUpdate(final CaretEvent e) {
+			StatusBarActionManager.this.requestUpdate();
+		}
+	};
+
+	/**
+	 * Listener marking status as dirty, when document changes.
+	 */
+
+	private final DocumentListener documentListener = new DocumentListener() {
+		@Override
+		public void changedUpdate(final DocumentEvent e) {
+			/* Attribute changes don't affect the status bar. */
+		}
+
+		@Override
+		public void insertUpdate(final DocumentEvent e) {
+			StatusBarActionManager.this.requestUpdate();
+		}
+
+		@Override
+		public void removeUpdate(final DocumentEvent e) {
+			StatusBarActionManager.this.requestUpdate();
+		}
+	};
+
+	/**
+	 * Listener moving document listener to new document, when text pane gets new
+	 * one (for example after JTextComponent.read()).
+	 */
+
+	private final PropertyChangeListener documentSwapListener = new PropertyChangeListener() {
+		@Override
+		public void propertyChange(final PropertyChangeEvent e) {
+			if (e.getOldValue() instanceof Document)
+				((Document) e.getOldValue()).removeDocumentListener(StatusBarActionManager.this.documentListener);
+			if (e.getNewValue() instanceof Document)
+				((Document) e.getNewValue()).addDocumentListener(StatusBarActionManager.this.documentListener);
+			StatusBarActionManager.this.requestUpdate();
+		}
+	};
+
+	/**
+	 * Cached free space of partition containing current file, in bytes.
+	 */
+
+	private long freeSpace = -1;
+
+	/**
+	 * File that freeSpace was computed for.
+	 */
+
+	private File freeSpaceFile;
+
+	/**
+	 * Time when freeSpace was computed.
+	 */
+
+	private long freeSpaceStamp;
+
+	/**
+	 * MainFrame instance used by this class to reference bottombar.
+	 */
+
+	private final MainFrame instance;
+
+	/**
+	 * Global listener watching for locking keys and focus changes.
+	 */
+
+	private final AWTEventListener keyAndFocusListener = new AWTEventListener() {
+		@Override
+		public void eventDispatched(final AWTEvent event) {
+			if (event instanceof KeyEvent) {
+				final int code = ((KeyEvent) event).getKeyCode();
+				if (event.getID() == KeyEvent.KEY_RELEASED && (code == KeyEvent.VK_NUM_LOCK
+						|| code == KeyEvent.VK_SCROLL_LOCK || code == KeyEvent.VK_CAPS_LOCK)) {
+					StatusBarActionManager.this.refreshLockingKeys();
+					StatusBarActionManager.this.requestUpdate();
+				}
+			} else if (event.getID() == FocusEvent.FOCUS_GAINED && event.getSource() instanceof java.awt.Component
+					&& SwingUtilities.getWindowAncestor(
+							(java.awt.Component) event.getSource()) == StatusBarActionManager.this.instance)
+				StatusBarActionManager.this.requestUpdate();
+		}
+	};
+
+	/**
+	 * Num lock state.
+	 */
+
+	private boolean numLock;
+
+	/**
+	 * Set when update was requested, but not yet performed.
+	 */
+
+	private final AtomicBoolean pending = new AtomicBoolean(false);
+
+	/**
+	 * One-shot timer performing coalesced refresh on EDT.
+	 */
+
+	private final Timer refreshTimer;
+
+	/**
+	 * Scroll lock state.
+	 */
+
+	private boolean scrollLock;
+
+	/**
+	 * Total amount of status updates performed.
+	 */
+
+	private long updates;
+
+	/**
+	 * Amount of status updates performed in current rate window.
+	 */
+
+	private int updatesInWindow;
+
+	/**
+	 * Amount of status updates performed in last complete rate window.
+	 */
+
+	private int updatesPerSecond;
+
+	/**
+	 * Time when current rate window has started.
+	 */
+
+	private long windowStart = System.currentTimeMillis();
+
+	/**
+	 * This is constructor that we pass MainFrame instance to.
+	 *
+	 * @param instance
+	 */
+
+	public StatusBarActionManager(final MainFrame instance) {
+		this.instance = instance;
+		this.refreshTimer = new Timer(StatusBarActionManager.REFRESH_DELAY, new ActionListener() {
+			@Override
+			public void actionPerformed(final ActionEvent e) {
+				StatusBarActionManager.this.pending.set(false);
+				StatusBarActionManager.this.updateLabel();
+			}
+		});
+		this.refreshTimer.setRepeats(false);
+		this.refreshTimer.setCoalesce(true);
+	}
+
+	/**
+	 * This function is getting total amount of status updates performed since
+	 * status bar was set up.
+	 *
+	 * @return
+	 */
+
+	public synchronized long getUpdateCount() {
+		return this.updates;
+	}
+
+	/**
+	 * This function is getting amount of status updates performed during last
+	 * second. It should drop to 0 when nothing is happening in editor.
+	 *
+	 * @return
+	 */
+
+	public synchronized int getUpdatesPerSecond() {
+		this.rollWindow(System.currentTimeMillis());
+		return this.updatesPerSecond;
+	}
+
+	private void refreshLockingKeys() {
+		final Toolkit toolkit = Toolkit.getDefaultToolkit();
+		/* Locking key state is queried from Toolkit, which isn't supported on every platform. */
+		try {
+			this.numLock = toolkit.getLockingKeyState(KeyEvent.VK_NUM_LOCK);
+			this.scrollLock = toolkit.getLockingKeyState(KeyEvent.VK_SCROLL_LOCK);
+			this.capsLock = toolkit.getLockingKeyState(KeyEvent.VK_CAPS_LOCK);
+		} catch (final UnsupportedOperationException e) {
+			/* Platform can't tell us. Keep last known state. */
+		}
+	}
+
+	/**
+	 * This function is marking status as dirty. It can be called from any thread
+	 * and any amount of times - label will be refreshed once, on EDT.
+	 */
+
+	public void requestUpdate() {
+		if (this.pending.compareAndSet(false, true))
+			this.refreshTimer.restart();
+	}
+
+	/**
+	 * Rolls rate window, if current one has finished.
+	 *
+	 * @param now
+	 */
+
+	private void rollWindow(final long now) {
+		final long elapsed = now - this.windowStart;
+		if (elapsed >= StatusBarActionManager.RATE_WINDOW) {
+			this.updatesPerSecond = elapsed >= 2 * StatusBarActionManager.RATE_WINDOW ? 0 : this.updatesInWindow;
+			this.updatesInWindow = 0;
+			this.windowStart = now;
+		}
+	}
+
+	/**
+	 * This function is setting up listeners updating bottombar label.
+	 */
+
+	public void SetUpStatusBar() {
+		this.refreshLockingKeys();
+		Toolkit.getDefaultToolkit().addAWTEventListener(this.keyAndFocusListener,
+				AWTEvent.KEY_EVENT_MASK | AWTEvent.FOCUS_EVENT_MASK);
+		this.instance.addWindowListener(new WindowAdapter() {
+			@Override
+			public void windowActivated(final WindowEvent e) {
+				StatusBarActionManager.this.refreshLockingKeys();
+				StatusBarActionManager.this.requestUpdate();
+			}
+
+			@Override
+			public void windowClosed(final WindowEvent e) {
+				StatusBarActionManager.this.tearDown();
+			}
+		});
+		this.requestUpdate();
+	}
+
+	/**
+	 * MainFrame.textPane is public and may be replaced at any time, so we are
+	 * moving our listeners to current one before every refresh.
+	 */
+
+	private void syncTextPane() {
+		this.attach(this.instance.textPane);
+	}
+
+	/**
+	 * Moving our listeners from previously attached text pane to passed one.
+	 *
+	 * @param current
+	 */
+
+	private void attach(final RSyntaxTextArea current) {
+		if (current == this.attached)
+			return;
+		if (this.attached != null) {
+			this.attached.removeCaretListener(this.caretListener);
+			this.attached.removePropertyChangeListener("document", this.documentSwapListener);
+			this.attached.getDocument().removeDocumentListener(this.documentListener);
+		}
+		this.attached = current;
+		if (current != null) {
+			current.addCaretListener(this.caretListener);
+			current.addPropertyChangeListener("document", this.documentSwapListener);
+			current.getDocument().addDocumentListener(this.documentListener);
+		}
+	}
+
+	/**
+	 * Removing all listeners, when MainFrame is gone.
+	 */
+
+	private void tearDown() {
+		Toolkit.getDefaultToolkit().removeAWTEventListener(this.keyAndFocusListener);
+		this.refreshTimer.stop();
+		this.attach(null);
+	}
+
+	/**
+	 * This function is refreshing bottombar label. It's always running on EDT.
+	 */
+
+	private void updateLabel() {
+		this.syncTextPane();
+		final RSyntaxTextArea textPane = this.attached;
+		final File file = this.instance.currentFile;
+		final long now = System.currentTimeMillis();
+		final MemoryGovernor governor = MemoryGovernor.get();
+		if (file == null)
+			this.freeSpace = -1;
+		else if (!file.equals(this.freeSpaceFile) || now - this.freeSpaceStamp >= StatusBarActionManager.FREE_SPACE_TTL) {
+			this.freeSpace = file.getFreeSpace();
+			this.freeSpaceStamp = now;
+		}
+		this.freeSpaceFile = file;
+		this.instance.lblReady.setText("Ready | Length: "
+				+ (textPane == null ? 0 : textPane.getDocument().getLength()) + " | Filename: \""
+				+ (file == null ? "Unnamed" : file.getAbsolutePath()) + "\" | Maximum size: "
+				+ (this.freeSpace < 0 ? "?" : this.freeSpace / 1024) + "KB | " + (this.numLock ? "NUM" : "NONUM")
+				+ " | " + (this.scrollLock ? "SCR" : "NOSCR") + " | " + (this.capsLock ? "CAPS" : "NOCAPS")
+				+ " | Heap: " + governor.getHeapUsed() / (1024 * 1024) + "MB"
+				+ (governor.isShedding() ? " (low memory)" : ""));
+		synchronized (this) {
+			this.rollWindow(now);
+			this.updates++;
+			this.updatesInWindow++;
+		}
+	}
+
+}
@@ -45,10 +45,11 @@ import medit.legacy.ActionManagers.CodeCompletionActionManager;
 import medit.legacy.ActionManagers.EditActionManager;
 import medit.legacy.ActionManagers.FileActionManager;
 import medit.legacy.ActionManagers.LanguageActionManager;
+import medit.legacy.ActionManagers.MemoryActionManager;
 import medit.legacy.ActionManagers.ScriptsActionManager;
+import medit.legacy.ActionManagers.StatusBarActionManager;
 import medit.legacy.ActionManagers.TextOPActionManager;
 import medit.legacy.ActionManagers.ThemesActionManager;
-import medit.legacy.ActionManagers.TimerTaskActionManager;
 import medit.legacy.ActionManagers.ToolActionManager;
 import medit.legacy.ActionManagers.WindowActionManager;
 import java.awt.FlowLayout;
@@ -95,6 +96,7 @@ public class MainFrame extends JFrame implements SearchListener {
 	public List<JInternalFrame> windows;
 	public ReplaceDialog replaceDialog;
 	public RTextScrollPane scrollPane = null;
+	public StatusBarActionManager statusBar;
 
 	public ReplaceToolBar replaceToolBar;
 	public final JDesktopPane desktopPane = new JDesktopPane();
@@ -185,12 +187,15 @@ public class MainFrame extends JFrame implements SearchListener {
 		final ThemesActionManager tam = new ThemesActionManager(this);
 		tam.RegisterThemes(this.mnThemes);
 
-		final TimerTaskActionManager ttam = new TimerTaskActionManager(this);
-		ttam.SetUpTimers();
+		final MemoryActionManager mam = new MemoryActionManager(this);
+		mam.SetUpMemoryGovernor();
 
 		final BottombarActionManager bbam = new BottombarActionManager(this);
 		bbam.SetUpBottombar();
 
+		this.statusBar = new StatusBarActionManager(this);
+		this.statusBar.SetUpStatusBar();
+
 		final ToolActionManager toolam = new ToolActionManager(this);
 		toolam.SetupTools(this.mnTools);
 
@@ -0,0 +1,483 @@
+package medit.legacy;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import javax.swing.SwingUtilities;
+import javax.swing.text.Document;
+
+import org.fife.ui.rsyntaxtextarea.RSyntaxDocument;
+import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
+import org.fife.ui.rsyntaxtextarea.TokenListCache;
+import org.fife.ui.rtextarea.ClipboardHistory;
+import org.fife.ui.rtextarea.RDocument;
+
+/**
+ * This class is watching heap usage and shedding expendable things (token
+ * caches, mark all highlights, undo history and clipboard history) when heap
+ * is running low. It's not polling and never forces GC - it's driven by JVM
+ * memory pool threshold notifications, which are sent after garbage collection
+ * leaves too much live data in the old generation.
+ *
+ * When old generation drops back below relief threshold, undo, clipboard and
+ * token cache limits are restored. Caches refill on their own.
+ *
+ * There is one governor per JVM, shared by all MainFrames.
+ *
+ * @author Krzysztof Szewczyk
+ *
+ */
+
+public final class MemoryGovernor {
+
+	/**
+	 * Single shed (or restore) event, kept so scripts and status bar can show
+	 * what happened.
+	 */
+
+	public static final class ShedEvent {
+
+		private final String action;
+		private final String pool;
+		private final long time;
+		private final long used;
+
+		ShedEvent(final String pool, final long used, final String action) {
+			this.time = System.currentTimeMillis();
+			this.pool = pool;
+			this.used = used;
+			this.action = action;
+		}
+
+		public String getAction() {
+			return this.action;
+		}
+
+		public String getPool() {
+			return this.pool;
+		}
+
+		public long getTime() {
+			return this.time;
+		}
+
+		public long getUsed() {
+			return this.used;
+		}
+
+		@Override
+		public String toString() {
+			return this.action + " (" + this.pool + ": " + this.used / (1024 * 1024) + "MB used)";
+		}
+
+	}
+
+	/**
+	 * Notification type sent by garbage collector MXBeans after every collection.
+	 */
+
+	private static final String GC_NOTIFICATION = "com.sun.management.gc.notification";
+
+	private static MemoryGovernor instance;
+
+	/**
+	 * Maximum amount of remembered shed events.
+	 */
+
+	private static final int MAX_EVENTS = 64;
+
+	/**
+	 * Fraction of pool maximum, that when still used after GC, starts shedding.
+	 */
+
+	private static final double PRESSURE_THRESHOLD = 0.80;
+
+	/**
+	 * Fraction of pool maximum, below which shed limits are restored.
+	 */
+
+	private static final double RELIEF_THRESHOLD = 0.60;
+
+	/**
+	 * Clipboard history size while shedding.
+	 */
+
+	private static final int SHED_CLIPBOARD_SIZE = 1;
+
+	/**
+	 * Token list cache budget of each document while shedding, in bytes.
+	 */
+
+	private static final int SHED_TOKEN_CACHE_BUDGET = 64 * 1024;
+
+	/**
+	 * Undo depth while shedding.
+	 */
+
+	private static final int SHED_UNDO_LIMIT = 10;
+
+	/**
+	 * Returns the singleton instance of this class, lazily creating it.
+	 *
+	 * @return
+	 */
+
+	public static synchronized MemoryGovernor get() {
+		if (MemoryGovernor.instance == null)
+			MemoryGovernor.instance = new MemoryGovernor();
+		return MemoryGovernor.instance;
+	}
+
+	/**
+	 * Clipboard history size from before shedding, 0 if not shedding.
+	 */
+
+	private int clipboardMaxSize;
+
+	/**
+	 * Recent shed events, oldest first.
+	 */
+
+	private final Deque<ShedEvent> events = new ArrayDeque<>();
+
+	/**
+	 * MainFrames whose text panes we can shed from. Weak, so closed frames don't
+	 * leak.
+	 */
+
+	private final Map<MainFrame, Boolean> frames = new WeakHashMap<>();
+
+	/**
+	 * Listener for garbage collections, checking whether pressure is gone.
+	 */
+
+	private final NotificationListener reliefListener = new NotificationListener() {
+		@Override
+		public void handleNotification(final Notification notification, final Object handback) {
+			if (!MemoryGovernor.GC_NOTIFICATION.equals(notification.getType()) || !MemoryGovernor.this.shedding)
+				return;
+			for (final MemoryPoolMXBean pool : MemoryGovernor.this.pools) {
+				final MemoryUsage usage = pool.getCollectionUsage();
+				if (usage == null || usage.getUsed() >= MemoryGovernor.threshold(usage.getMax(),
+						MemoryGovernor.RELIEF_THRESHOLD))
+					return;
+			}
+			SwingUtilities.invokeLater(new Runnable() {
+				@Override
+				public void run() {
+					MemoryGovernor.this.restore();
+				}
+			});
+		}
+	};
+
+	/**
+	 * Listener for memory pool threshold notifications.
+	 */
+
+	private final NotificationListener pressureListener = new NotificationListener() {
+		@Override
+		public void handleNotification(final Notification notification, final Object handback) {
+			final String type = notification.getType();
+			if (!MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(type))
+				return;
+			final MemoryNotificationInfo info = MemoryNotificationInfo
+					.from((CompositeData) notification.getUserData());
+			SwingUtilities.invokeLater(new Runnable() {
+				@Override
+				public void run() {
+					MemoryGovernor.this.shed(info.getPoolName(), info.getUsage().getUsed());
+				}
+			});
+		}
+	};
+
+	/**
+	 * Old generation pools that we're watching.
+	 */
+
+	private final List<MemoryPoolMXBean> pools = new ArrayList<>();
+
+	/**
+	 * Total amount of shed events since startup.
+	 */
+
+	private volatile int shedCount;
+
+	/**
+	 * Whether we're currently shedding.
+	 */
+
+	private volatile boolean shedding;
+
+	/**
+	 * Token list cache budgets from before shedding, per document.
+	 */
+
+	private final Map<RSyntaxDocument, Integer> tokenCacheBudgets = new WeakHashMap<>();
+
+	/**
+	 * Undo limits from before shedding, per text pane.
+	 */
+
+	private final Map<RSyntaxTextArea, Integer> undoLimits = new WeakHashMap<>();
+
+	private static long threshold(final long max, final double fraction) {
+		return (long) (max * fraction);
+	}
+
+	private MemoryGovernor() {
+		for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			final long max = pool.getUsage().getMax();
+			if (pool.getType() != MemoryType.HEAP || max <= 0 || !pool.isUsageThresholdSupported()
+					|| !pool.isCollectionUsageThresholdSupported())
+				continue;
+			pool.setCollectionUsageThreshold(MemoryGovernor.threshold(max, MemoryGovernor.PRESSURE_THRESHOLD));
+			this.pools.add(pool);
+		}
+		((NotificationEmitter) ManagementFactory.getMemoryMXBean()).addNotificationListener(this.pressureListener,
+				null, null);
+		for (final GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+			if (gc instanceof NotificationEmitter)
+				((NotificationEmitter) gc).addNotificationListener(this.reliefListener, null, null);
+	}
+
+	/**
+	 * Returns amount of bytes saved by storing document shown in passed MainFrame
+	 * as Latin-1 instead of UTF-16.
+	 *
+	 * @param frame
+	 * @return saved bytes, 0 if frame has no document or it isn't compact.
+	 */
+
+	public long getBytesSaved(final MainFrame frame) {
+		if (frame == null || frame.textPane == null)
+			return 0;
+		final Document doc = frame.textPane.getDocument();
+		return doc instanceof RDocument ? ((RDocument) doc).getBytesSaved() : 0;
+	}
+
+	/**
+	 * Returns estimated footprint of document shown in passed MainFrame.
+	 *
+	 * @param frame
+	 * @return footprint in bytes, 0 if frame has no document.
+	 */
+
+	public long getDocumentFootprint(final MainFrame frame) {
+		if (frame == null || frame.textPane == null)
+			return 0;
+		final Document doc = frame.textPane.getDocument();
+		return doc instanceof RDocument ? ((RDocument) doc).getEstimatedFootprint() : 0;
+	}
+
+	/**
+	 * Returns maximum heap size, or -1 if it's undefined.
+	 *
+	 * @return
+	 */
+
+	public long getHeapMax() {
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getMax();
+	}
+
+	/**
+	 * Returns currently used heap.
+	 *
+	 * @return
+	 */
+
+	public long getHeapUsed() {
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+	/**
+	 * Returns total amount of shed events since startup.
+	 *
+	 * @return
+	 */
+
+	public int getShedCount() {
+		return this.shedCount;
+	}
+
+	/**
+	 * Returns copy of recent shed and restore events, oldest first.
+	 *
+	 * @return
+	 */
+
+	public synchronized List<ShedEvent> getShedEvents() {
+		return new ArrayList<>(this.events);
+	}
+
+	/**
+	 * Returns token list cache of document shown in passed MainFrame.
+	 *
+	 * @param frame
+	 * @return cache, null if frame has no syntax highlighted document.
+	 */
+
+	public TokenListCache getTokenListCache(final MainFrame frame) {
+		if (frame == null || frame.textPane == null)
+			return null;
+		final Document doc = frame.textPane.getDocument();
+		return doc instanceof RSyntaxDocument ? ((RSyntaxDocument) doc).getTokenListCache() : null;
+	}
+
+	/**
+	 * Returns amount of bytes saved by compact storage of documents in all
+	 * registered MainFrames.
+	 *
+	 * @return
+	 */
+
+	public long getTotalBytesSaved() {
+		long total = 0;
+		for (final MainFrame frame : this.snapshotFrames())
+			total += this.getBytesSaved(frame);
+		return total;
+	}
+
+	/**
+	 * Returns estimated footprint of documents in all registered MainFrames.
+	 *
+	 * @return
+	 */
+
+	public long getTotalDocumentFootprint() {
+		long total = 0;
+		for (final MainFrame frame : this.snapshotFrames())
+			total += this.getDocumentFootprint(frame);
+		return total;
+	}
+
+	/**
+	 * Returns whether expendable things are currently shed.
+	 *
+	 * @return
+	 */
+
+	public boolean isShedding() {
+		return this.shedding;
+	}
+
+	/**
+	 * Remembering event and letting status bars know about it.
+	 */
+
+	private void record(final ShedEvent event) {
+		synchronized (this) {
+			this.events.addLast(event);
+			while (this.events.size() > MemoryGovernor.MAX_EVENTS)
+				this.events.removeFirst();
+		}
+		for (final MainFrame frame : this.snapshotFrames())
+			if (frame.statusBar != null)
+				frame.statusBar.requestUpdate();
+	}
+
+	/**
+	 * Adds MainFrame, whose text pane can be shed from.
+	 *
+	 * @param frame
+	 */
+
+	public synchronized void register(final MainFrame frame) {
+		this.frames.put(frame, Boolean.TRUE);
+	}
+
+	/**
+	 * Restoring undo and clipboard limits. It's always running on EDT.
+	 */
+
+	private void restore() {
+		if (!this.shedding)
+			return;
+		final Map<RSyntaxTextArea, Integer> limits;
+		final Map<RSyntaxDocument, Integer> budgets;
+		synchronized (this) {
+			limits = new WeakHashMap<>(this.undoLimits);
+			this.undoLimits.clear();
+			budgets = new WeakHashMap<>(this.tokenCacheBudgets);
+			this.tokenCacheBudgets.clear();
+		}
+		for (final Map.Entry<RSyntaxTextArea, Integer> e : limits.entrySet())
+			e.getKey().setUndoLimit(e.getValue());
+		for (final Map.Entry<RSyntaxDocument, Integer> e : budgets.entrySet())
+			e.getKey().getTokenListCache().setBudget(e.getValue());
+		if (this.clipboardMaxSize > 0)
+			ClipboardHistory.get().setMaxSize(this.clipboardMaxSize);
+		this.clipboardMaxSize = 0;
+		this.shedding = false;
+		this.record(new ShedEvent("all pools", this.getHeapUsed(), "restored undo, clipboard and token cache limits"));
+	}
+
+	/**
+	 * Shedding expendable things from all registered text panes. It's always
+	 * running on EDT.
+	 */
+
+	private void shed(final String pool, final long used) {
+		for (final MainFrame frame : this.snapshotFrames()) {
+			final RSyntaxTextArea textPane = frame.textPane;
+			if (textPane == null)
+				continue;
+			if (textPane.getDocument() instanceof RSyntaxDocument) {
+				final RSyntaxDocument doc = (RSyntaxDocument) textPane.getDocument();
+				doc.clearTokenCache();
+				final TokenListCache cache = doc.getTokenListCache();
+				synchronized (this) {
+					if (!this.tokenCacheBudgets.containsKey(doc))
+						this.tokenCacheBudgets.put(doc, cache.getBudget());
+				}
+				if (cache.getBudget() > MemoryGovernor.SHED_TOKEN_CACHE_BUDGET)
+					cache.setBudget(MemoryGovernor.SHED_TOKEN_CACHE_BUDGET);
+			}
+			textPane.clearMarkAllHighlights();
+			synchronized (this) {
+				if (!this.undoLimits.containsKey(textPane))
+					this.undoLimits.put(textPane, textPane.getUndoLimit());
+			}
+			if (textPane.getUndoLimit() > MemoryGovernor.SHED_UNDO_LIMIT)
+				textPane.setUndoLimit(MemoryGovernor.SHED_UNDO_LIMIT);
+		}
+		final ClipboardHistory clipboard = ClipboardHistory.get();
+		if (this.clipboardMaxSize == 0)
+			this.clipboardMaxSize = clipboard.getMaxSize();
+		clipboard.setMaxSize(MemoryGovernor.SHED_CLIPBOARD_SIZE);
+		this.shedding = true;
+		this.shedCount++;
+		this.record(new ShedEvent(pool, used,
+				"shed token caches, mark all highlights, undo history and clipboard history"));
+	}
+
+	private synchronized List<MainFrame> snapshotFrames() {
+		return new ArrayList<>(this.frames.keySet());
+	}
+
+	/**
+	 * Removes MainFrame from governor.
+	 *
+	 * @param frame
+	 */
+
+	public synchronized void unregister(final MainFrame frame) {
+		this.frames.remove(frame);
+	}
+
+}
@@ -6,12 +6,17 @@ import java.util.Locale;
 import javax.swing.UIManager;
 import javax.swing.WindowConstants;
 
+import org.fife.ui.rsyntaxtextarea.TokenMakerFactory;
+
 public class Start {
 
 	/**
 	 * Launch the application.
 	 */
 	public static void main(final String[] args) {
+		// Starts warming up the styles named by -DTokenMakerFactory.warmUp=...
+		// in the background while the UI comes up.
+		TokenMakerFactory.getDefaultInstance();
 		EventQueue.invokeLater(new Runnable() {
 			@Override
 			public void run() {
@@ -33,6 +33,7 @@ import javax.swing.text.JTextComponent;
 import org.fife.rsta.ui.EscapableDialog;
 import org.fife.rsta.ui.UIUtil;
 import org.fife.ui.rsyntaxtextarea.RSyntaxUtilities;
+import org.fife.ui.rtextarea.PatternCache;
 import org.fife.ui.rtextarea.SearchContext;
 
 /**
@@ -403,7 +404,10 @@ public class AbstractSearchDialog extends EscapableDialog implements ActionListe
 			return new FindReplaceButtonsEnableResult(false, null);
 		if (this.regexCheckBox.isSelected())
 			try {
-				Pattern.compile(text);
+				// Compiled as it will be searched with, so a search right
+				// after this finds it in the cache.
+				PatternCache.compile(text,
+						RSyntaxUtilities.getPatternFlags(this.caseCheckBox.isSelected(), Pattern.MULTILINE));
 			} catch (final PatternSyntaxException pse) {
 				return new FindReplaceButtonsEnableResult(false, pse.getMessage());
 			}
@@ -449,7 +453,7 @@ public class AbstractSearchDialog extends EscapableDialog implements ActionListe
 				flags = RSyntaxUtilities.getPatternFlags(matchCase, flags);
 				Pattern pattern = null;
 				try {
-					pattern = Pattern.compile(searchFor, flags);
+					pattern = PatternCache.compile(searchFor, flags);
 				} catch (final PatternSyntaxException pse) {
 					pse.printStackTrace(); // Never happens
 					return false;
@@ -48,6 +48,8 @@ import javax.swing.text.JTextComponent;
 
 import org.fife.rsta.ui.AssistanceIconPanel;
 import org.fife.rsta.ui.UIUtil;
+import org.fife.ui.rsyntaxtextarea.RSyntaxUtilities;
+import org.fife.ui.rtextarea.PatternCache;
 import org.fife.ui.rtextarea.SearchContext;
 
 /**
@@ -586,7 +588,10 @@ public class FindToolBar extends JPanel {
 			result = new FindReplaceButtonsEnableResult(false, null);
 		else if (this.regexCheckBox.isSelected())
 			try {
-				Pattern.compile(text);
+				// Compiled as it will be searched with, so a search right
+				// after this finds it in the cache.
+				PatternCache.compile(text,
+						RSyntaxUtilities.getPatternFlags(this.matchCaseCheckBox.isSelected(), Pattern.MULTILINE));
 			} catch (final PatternSyntaxException pse) {
 				result = new FindReplaceButtonsEnableResult(false, pse.getMessage());
 			}
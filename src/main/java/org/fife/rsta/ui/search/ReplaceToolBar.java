@@ -28,6 +28,7 @@ import javax.swing.text.JTextComponent;
 
 import org.fife.rsta.ui.UIUtil;
 import org.fife.ui.rsyntaxtextarea.RSyntaxUtilities;
+import org.fife.ui.rtextarea.PatternCache;
 
 /**
  * A toolbar for replace operations in a text editor application. This provides
@@ -259,7 +260,7 @@ public class ReplaceToolBar extends FindToolBar {
 				flags = RSyntaxUtilities.getPatternFlags(matchCase, flags);
 				Pattern pattern = null;
 				try {
-					pattern = Pattern.compile(searchFor, flags);
+					pattern = PatternCache.compile(searchFor, flags);
 				} catch (final PatternSyntaxException pse) {
 					pse.printStackTrace(); // Never happens
 					return false;
@@ -45,17 +45,12 @@ public abstract class AbstractTokenMaker extends TokenMakerBase {
 	public abstract TokenMap getWordsToHighlight();
 
 	/**
-	 * Removes the token last added from the linked list of tokens. The programmer
+	 * Removes the token last added from the list of tokens. The programmer
 	 * should never have to call this directly; it can be called by subclasses of
 	 * <code>TokenMaker</code> if necessary.
 	 */
 	public void removeLastToken() {
-		if (this.previousToken == null)
-			this.firstToken = this.currentToken = null;
-		else {
-			this.currentToken = this.previousToken;
-			this.currentToken.setNextToken(null);
-		}
+		this.tokenStream.removeLast();
 	}
 
 }
\ No newline at end of file
@@ -8,6 +8,7 @@
  */
 package org.fife.ui.rsyntaxtextarea;
 
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -15,12 +16,36 @@ import java.util.Set;
 /**
  * Base class for {@link TokenMakerFactory} implementations. A mapping from
  * language keys to the names of {@link TokenMaker} classes is stored.
+ * <p>
+ *
+ * Token makers given back with {@link #releaseTokenMaker(TokenMaker)} are kept
+ * in a small pool per class, and handed out again instead of creating new
+ * ones. {@link RSyntaxDocument} releases its token maker when its syntax style
+ * changes, and background tokenizing releases its own when done, so switching
+ * languages and re-tokenizing reuse instances rather than reflectively creating
+ * new ones and growing their buffers again. See
+ * {@link #warmUp(java.util.Collection)} to have the JIT compile a language's
+ * token maker before it is first needed.
  *
  * @author Robert Futrell
  * @version 1.0
  */
 public abstract class AbstractTokenMakerFactory extends TokenMakerFactory {
 
+	/**
+	 * Released token makers of one class, ready to be handed out again.
+	 */
+	private static final class Pool {
+
+		private final ArrayDeque<TokenMaker> idle = new ArrayDeque<>();
+
+		/**
+		 * The class of the token makers, once one has been created.
+		 */
+		private volatile Class<?> type;
+
+	}
+
 	/**
 	 * Wrapper that handles the creation of TokenMaker instances.
 	 */
@@ -29,17 +54,41 @@ public abstract class AbstractTokenMakerFactory extends TokenMakerFactory {
 		private final ClassLoader cl;
 		private final String className;
 
+		/**
+		 * Shared by all creators of the same class.
+		 */
+		private Pool pool;
+
 		public TokenMakerCreator(final String className, final ClassLoader cl) {
 			this.className = className;
 			this.cl = cl != null ? cl : this.getClass().getClassLoader();
 		}
 
 		public TokenMaker create() throws Exception {
-			return (TokenMaker) Class.forName(this.className, true, this.cl).newInstance();
+			final Class<?> type = Class.forName(this.className, true, this.cl);
+			final TokenMaker tm = (TokenMaker) type.newInstance();
+			this.pool.type = type;
+			return tm;
 		}
 
 	}
 
+	/**
+	 * The maximum number of idle token makers pooled per class. Background
+	 * tokenizing of a large document uses one per processor.
+	 */
+	private static final int POOL_CAPACITY = Runtime.getRuntime().availableProcessors() + 1;
+
+	/**
+	 * The pools of the classes created, by class name, to find the pool a
+	 * released token maker belongs in.
+	 */
+	private final Map<String, Pool> pools;
+
+	private long poolHits;
+
+	private long poolMisses;
+
 	/**
 	 * A mapping from keys to the names of {@link TokenMaker} implementation class
 	 * names. When {@link #getTokenMaker(String)} is called with a key defined in
@@ -52,11 +101,59 @@ public abstract class AbstractTokenMakerFactory extends TokenMakerFactory {
 	 */
 	protected AbstractTokenMakerFactory() {
 		this.tokenMakerMap = new HashMap<>();
+		this.pools = new HashMap<>();
 		this.initTokenMakerMap();
 	}
 
 	/**
-	 * Returns a {@link TokenMaker} for the specified key.
+	 * Returns a creator already mapped for a class, if any.
+	 */
+	private TokenMakerCreator findCreator(final String className, final ClassLoader cl) {
+		for (final Object value : this.tokenMakerMap.values()) {
+			final TokenMakerCreator tmc = (TokenMakerCreator) value;
+			if (tmc.className.equals(className) && tmc.cl == cl)
+				return tmc;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the number of token makers handed out from the pool of released
+	 * ones.
+	 *
+	 * @return The number of pool hits.
+	 * @see #getPoolMisses()
+	 */
+	public synchronized long getPoolHits() {
+		return this.poolHits;
+	}
+
+	/**
+	 * Returns the number of token makers that had to be created because none
+	 * of their class were pooled.
+	 *
+	 * @return The number of pool misses.
+	 * @see #getPoolHits()
+	 */
+	public synchronized long getPoolMisses() {
+		return this.poolMisses;
+	}
+
+	/**
+	 * Returns the number of idle token makers in the pool.
+	 *
+	 * @return The number of pooled token makers.
+	 */
+	public synchronized int getPoolSize() {
+		int size = 0;
+		for (final Pool pool : this.pools.values())
+			size += pool.idle.size();
+		return size;
+	}
+
+	/**
+	 * Returns a {@link TokenMaker} for the specified key, reusing a released
+	 * one if possible.
 	 *
 	 * @param key
 	 *            The key.
@@ -66,7 +163,15 @@ public abstract class AbstractTokenMakerFactory extends TokenMakerFactory {
 	@Override
 	protected TokenMaker getTokenMakerImpl(final String key) {
 		final TokenMakerCreator tmc = (TokenMakerCreator) this.tokenMakerMap.get(key);
-		if (tmc != null)
+		if (tmc != null) {
+			synchronized (this) {
+				final TokenMaker tm = tmc.pool.idle.pollFirst();
+				if (tm != null) {
+					this.poolHits++;
+					return tm;
+				}
+				this.poolMisses++;
+			}
 			try {
 				return tmc.create();
 			} catch (final RuntimeException re) { // FindBugs
@@ -74,6 +179,7 @@ public abstract class AbstractTokenMakerFactory extends TokenMakerFactory {
 			} catch (final Exception e) {
 				e.printStackTrace();
 			}
+		}
 		return null;
 	}
 
@@ -122,8 +228,42 @@ public abstract class AbstractTokenMakerFactory extends TokenMakerFactory {
 	 *            The class loader to use when loading the class.
 	 * @see #putMapping(String, String)
 	 */
-	public void putMapping(final String key, final String className, final ClassLoader cl) {
-		this.tokenMakerMap.put(key, new TokenMakerCreator(className, cl));
+	public synchronized void putMapping(final String key, final String className, final ClassLoader cl) {
+		final TokenMakerCreator tmc = new TokenMakerCreator(className, cl);
+		final TokenMakerCreator existing = this.findCreator(className, tmc.cl);
+		if (existing != null)
+			tmc.pool = existing.pool;
+		else {
+			tmc.pool = new Pool();
+			this.pools.put(className, tmc.pool);
+		}
+		this.tokenMakerMap.put(key, tmc);
+	}
+
+	/**
+	 * Adds a token maker to the pool of its class, if it was created by this
+	 * factory and the pool isn't full.
+	 *
+	 * @param tokenMaker
+	 *            The token maker. This may be <code>null</code>.
+	 */
+	@Override
+	public void releaseTokenMaker(final TokenMaker tokenMaker) {
+		if (tokenMaker == null)
+			return;
+		final Pool pool;
+		synchronized (this) {
+			pool = this.pools.get(tokenMaker.getClass().getName());
+			if (pool == null || pool.type != tokenMaker.getClass()
+					|| pool.idle.size() >= AbstractTokenMakerFactory.POOL_CAPACITY)
+				return;
+		}
+		if (tokenMaker instanceof TokenMakerBase)
+			((TokenMakerBase) tokenMaker).recycle();
+		synchronized (this) {
+			if (pool.idle.size() < AbstractTokenMakerFactory.POOL_CAPACITY && !pool.idle.contains(tokenMaker))
+				pool.idle.addFirst(tokenMaker);
+		}
 	}
 
 }
\ No newline at end of file
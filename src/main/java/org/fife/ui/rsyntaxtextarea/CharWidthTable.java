@@ -0,0 +1,200 @@
+/*
+ * 10/17/2026
+ *
+ * CharWidthTable.java - The widths of the characters of a font.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.awt.FontMetrics;
+
+/**
+ * The widths of the characters in the Basic Multilingual Plane of a font, as
+ * given by its {@link FontMetrics}. Widths are looked up 256 characters at a
+ * time, the first time one of them is measured, so measuring text is then an
+ * array lookup per character rather than a call into the font's glyph strike.
+ * <p>
+ *
+ * The width of a run of characters is only the sum of their widths if glyph
+ * advances are whole pixels, i.e. fractional metrics are off, and none of them
+ * need a <code>TextLayout</code> to be measured, i.e. they aren't combining
+ * marks, complex script characters, surrogates or directional controls, and
+ * the font has no layout attributes such as kerning. Other runs are measured
+ * by the font metrics, as <code>FontMetrics.charsWidth()</code> would.
+ *
+ * @version 1.0
+ * @see RSyntaxTextArea#getCharWidthTableForTokenType(int)
+ */
+final class CharWidthTable {
+
+	private final FontMetrics fm;
+
+	/**
+	 * Character widths, by the high byte of the character, then its low byte.
+	 * Characters that can't be summed are stored as the complement of their
+	 * width.
+	 */
+	private final int[][] pages;
+
+	/**
+	 * Whether the widths of runs of (simple) characters can be summed.
+	 */
+	private final boolean summable;
+
+	CharWidthTable(final FontMetrics fm) {
+		this.fm = fm;
+		this.pages = new int[256][];
+		this.summable = !fm.getFontRenderContext().usesFractionalMetrics() && !fm.getFont().hasLayoutAttributes();
+	}
+
+	/**
+	 * Returns the width of a character.
+	 *
+	 * @param c
+	 *            The character.
+	 * @return Its width, as <code>FontMetrics.charWidth()</code> returns it.
+	 */
+	int charWidth(final char c) {
+		int[] page = this.pages[c >>> 8];
+		if (page == null)
+			page = this.loadPage(c >>> 8);
+		final int width = page[c & 0xff];
+		return width >= 0 ? width : ~width;
+	}
+
+	/**
+	 * Returns the width of a run of characters.
+	 *
+	 * @param text
+	 *            The text.
+	 * @param offs
+	 *            The offset of the run in <code>text</code>.
+	 * @param len
+	 *            The length of the run.
+	 * @return Its width, as <code>FontMetrics.charsWidth()</code> returns it.
+	 */
+	int charsWidth(final char[] text, final int offs, final int len) {
+		final int width = this.simpleCharsWidth(text, offs, len);
+		return width >= 0 ? width : this.fm.charsWidth(text, offs, len);
+	}
+
+	/**
+	 * Returns the font metrics the widths are from.
+	 *
+	 * @return The font metrics.
+	 */
+	FontMetrics getFontMetrics() {
+		return this.fm;
+	}
+
+	/**
+	 * Returns whether a character is measured with a <code>TextLayout</code>
+	 * when it's part of a run. These are the characters
+	 * <code>FontMetrics</code> treats as complex.
+	 */
+	private static boolean isComplex(final char c) {
+		if (c < 0x0300)
+			return false;
+		if (c <= 0x036f)
+			return true; // Combining diacritical marks
+		if (c < 0x0590)
+			return false;
+		if (c <= 0x06ff)
+			return true; // Hebrew, Arabic
+		if (c < 0x0900)
+			return false;
+		if (c <= 0x0e7f)
+			return true; // Indic, Thai
+		if (c < 0x0f00)
+			return false;
+		if (c <= 0x0fff)
+			return true; // Tibetan
+		if (c < 0x1100)
+			return false;
+		if (c <= 0x11ff)
+			return true; // Hangul Jamo
+		if (c < 0x1780)
+			return false;
+		if (c <= 0x17ff)
+			return true; // Khmer
+		if (c < 0x200c)
+			return false;
+		if (c <= 0x200d)
+			return true; // Zero-width joiners
+		if (c >= 0x202a && c <= 0x202e || c >= 0x206a && c <= 0x206f)
+			return true; // Directional controls
+		return Character.isSurrogate(c);
+	}
+
+	/**
+	 * Returns whether the widths of runs of simple characters are the sums of
+	 * their widths.
+	 *
+	 * @return Whether widths can be summed.
+	 */
+	boolean isSummable() {
+		return this.summable;
+	}
+
+	private int[] loadPage(final int high) {
+		final int[] page = new int[256];
+		for (int i = 0; i < page.length; i++) {
+			final char c = (char) (high << 8 | i);
+			final int width = this.fm.charWidth(c);
+			page[i] = CharWidthTable.isComplex(c) ? ~width : width;
+		}
+		this.pages[high] = page;
+		return page;
+	}
+
+	/**
+	 * Returns the width of a character, if it's simple.
+	 *
+	 * @param c
+	 *            The character.
+	 * @return Its width, or <code>-1</code> if widths can't be summed or it
+	 *         isn't simple.
+	 */
+	int simpleCharWidth(final char c) {
+		if (!this.summable)
+			return -1;
+		int[] page = this.pages[c >>> 8];
+		if (page == null)
+			page = this.loadPage(c >>> 8);
+		final int width = page[c & 0xff];
+		return width >= 0 ? width : -1;
+	}
+
+	/**
+	 * Returns the width of a run of characters, if they're all simple.
+	 *
+	 * @param text
+	 *            The text.
+	 * @param offs
+	 *            The offset of the run in <code>text</code>.
+	 * @param len
+	 *            The length of the run.
+	 * @return Its width, or <code>-1</code> if widths can't be summed or it
+	 *         contains characters that aren't simple.
+	 */
+	int simpleCharsWidth(final char[] text, final int offs, final int len) {
+		if (!this.summable)
+			return -1;
+		int total = 0;
+		final int end = offs + len;
+		for (int i = offs; i < end; i++) {
+			final char c = text[i];
+			int[] page = this.pages[c >>> 8];
+			if (page == null)
+				page = this.loadPage(c >>> 8);
+			final int width = page[c & 0xff];
+			if (width < 0)
+				return -1;
+			total += width;
+		}
+		return total;
+	}
+
+}
@@ -9,6 +9,8 @@
  */
 package org.fife.ui.rsyntaxtextarea;
 
+import java.util.BitSet;
+
 import javax.swing.text.BadLocationException;
 import javax.swing.text.Caret;
 
@@ -42,20 +44,56 @@ class DefaultOccurrenceMarker implements OccurrenceMarker {
 		final char[] lexeme = t.getLexeme().toCharArray();
 		final int type = t.getType();
 		final int lineCount = doc.getDefaultRootElement().getElementCount();
+		for (int i = 0; i < lineCount; i++)
+			DefaultOccurrenceMarker.markOccurrencesOnLine(doc, i, lexeme, type, h, p);
 
-		for (int i = 0; i < lineCount; i++) {
-			Token temp = doc.getTokenListForLine(i);
-			while (temp != null && temp.isPaintable()) {
-				if (temp.is(type, lexeme))
-					try {
-						final int end = temp.getEndOffset();
-						h.addMarkedOccurrenceHighlight(temp.getOffset(), end, p);
-					} catch (final BadLocationException ble) {
-						ble.printStackTrace(); // Never happens
-					}
-				temp = temp.getNextToken();
-			}
-		}
+	}
+
+	/**
+	 * Highlights all instances of a token on some lines of the specified
+	 * document. This is used when the lines whose text contains the token's
+	 * lexeme have been found beforehand, so the other lines needn't be
+	 * tokenized.
+	 *
+	 * @param doc
+	 *            The document.
+	 * @param lexeme
+	 *            The lexeme of the token.
+	 * @param type
+	 *            The type of the token.
+	 * @param lines
+	 *            The lines to mark occurrences on.
+	 * @param h
+	 *            The highlighter to add the highlights to.
+	 * @param p
+	 *            The painter for the highlights.
+	 */
+	static void markOccurrencesOfToken(final RSyntaxDocument doc, final char[] lexeme, final int type,
+			final BitSet lines, final RSyntaxTextAreaHighlighter h, final SmartHighlightPainter p) {
+		final int lineCount = doc.getDefaultRootElement().getElementCount();
+		for (int i = lines.nextSetBit(0); i >= 0 && i < lineCount; i = lines.nextSetBit(i + 1))
+			DefaultOccurrenceMarker.markOccurrencesOnLine(doc, i, lexeme, type, h, p);
+	}
+
+	private static void markOccurrencesOnLine(final RSyntaxDocument doc, final int line, final char[] lexeme,
+			final int type, final RSyntaxTextAreaHighlighter h, final SmartHighlightPainter p) {
+
+		// Read the tokens' arrays directly, and don't cache lines we only
+		// visit once. Long lines are skipped, as only their start is
+		// highlighted.
+		if (doc.isLongLine(line))
+			return;
+		final TokenStream tokens = doc.getTokenStreamForLine(line, false);
+		if (tokens == null)
+			return;
+		final int count = tokens.getCount();
+		for (int j = 0; j < count && tokens.isPaintable(j); j++)
+			if (tokens.is(j, type, lexeme))
+				try {
+					h.addMarkedOccurrenceHighlight(tokens.getOffset(j), tokens.getEndOffset(j), p);
+				} catch (final BadLocationException ble) {
+					ble.printStackTrace(); // Never happens
+				}
 
 	}
 
@@ -9,6 +9,7 @@
 package org.fife.ui.rsyntaxtextarea;
 
 import java.awt.Color;
+import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
@@ -17,6 +18,17 @@ import javax.swing.text.TabExpander;
 
 /**
  * Standard implementation of a token painter.
+ * <p>
+ *
+ * Text is drawn a run at a time: a token's text isn't drawn right away, but
+ * held back until the next token shows whether it can be drawn in the same
+ * <code>drawChars()</code> call. Adjacent runs are merged if they're contiguous
+ * in the same text array, are painted with the same font and color on the same
+ * baseline without backgrounds, and their widths are exact sums of character
+ * widths, so the merged run is laid out exactly as the separate runs would
+ * have been. Runs of spaces take on the color of their neighbors, and runs of
+ * nothing but spaces aren't drawn at all. Widths are looked up in the host's
+ * {@link CharWidthTable}s.
  *
  * @author Robert Futrell
  * @version 1.0
@@ -35,10 +47,143 @@ class DefaultTokenPainter implements TokenPainter {
 	 */
 	private final Rectangle2D.Float bgRect;
 
+	/**
+	 * Whether the held back run is all spaces.
+	 */
+	private boolean runBlank;
+
+	/**
+	 * The color of the held back run.
+	 */
+	private Color runColor;
+
+	/**
+	 * The x-coordinate at the end of the held back run.
+	 */
+	private float runEndX;
+
+	/**
+	 * The font of the held back run.
+	 */
+	private Font runFont;
+
+	/**
+	 * The graphics context the held back run is to be drawn in.
+	 */
+	private Graphics2D runGraphics;
+
+	/**
+	 * The length of the held back run, or <code>0</code> if there is none.
+	 */
+	private int runLength;
+
+	/**
+	 * The start of the held back run in {@link #runText}.
+	 */
+	private int runStart;
+
+	/**
+	 * The text of the held back run.
+	 */
+	private char[] runText;
+
+	/**
+	 * The x-coordinate at which the held back run is to be drawn.
+	 */
+	private float runX;
+
+	/**
+	 * The baseline of the held back run.
+	 */
+	private float runY;
+
 	DefaultTokenPainter() {
 		this.bgRect = new Rectangle2D.Float();
 	}
 
+	/**
+	 * Draws a run of a token's text, or holds it back to be drawn with the
+	 * runs of the tokens that follow it.
+	 *
+	 * @param g
+	 *            The graphics context in which to draw.
+	 * @param text
+	 *            The text.
+	 * @param start
+	 *            The start of the run in <code>text</code>.
+	 * @param length
+	 *            The length of the run.
+	 * @param x
+	 *            The x-coordinate at which to draw.
+	 * @param endX
+	 *            The x-coordinate at the end of the run.
+	 * @param y
+	 *            The baseline.
+	 * @param font
+	 *            The font with which to draw.
+	 * @param color
+	 *            The color with which to draw.
+	 * @param blank
+	 *            Whether the run is all spaces.
+	 * @param mergeable
+	 *            Whether the run may be merged with the runs next to it, i.e.
+	 *            has no background and its width is the sum of its characters'.
+	 */
+	private void drawRun(final Graphics2D g, final char[] text, final int start, final int length, final float x,
+			final float endX, final float y, final Font font, final Color color, final boolean blank,
+			final boolean mergeable) {
+
+		if (mergeable && this.runLength > 0 && g == this.runGraphics && text == this.runText
+				&& start == this.runStart + this.runLength && x == this.runEndX && y == this.runY
+				&& font.equals(this.runFont) && (blank || this.runBlank || color.equals(this.runColor))) {
+			if (this.runBlank)
+				this.runColor = color;
+			this.runBlank &= blank;
+			this.runLength += length;
+			this.runEndX = endX;
+			return;
+		}
+
+		this.flush();
+		// Only runs starting on a whole pixel are laid out the same merged.
+		if (mergeable && x == (int) x) {
+			this.runGraphics = g;
+			this.runText = text;
+			this.runStart = start;
+			this.runLength = length;
+			this.runX = x;
+			this.runEndX = endX;
+			this.runY = y;
+			this.runFont = font;
+			this.runColor = color;
+			this.runBlank = blank;
+		} else if (!blank) {
+			g.setFont(font);
+			g.setColor(color);
+			g.drawChars(text, start, length, (int) x, (int) y);
+		}
+
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void flush() {
+		if (this.runLength > 0) {
+			if (!this.runBlank) {
+				this.runGraphics.setFont(this.runFont);
+				this.runGraphics.setColor(this.runColor);
+				this.runGraphics.drawChars(this.runText, this.runStart, this.runLength, (int) this.runX,
+						(int) this.runY);
+			}
+			this.runLength = 0;
+		}
+		// Don't hold on to the text or graphics context.
+		this.runGraphics = null;
+		this.runText = null;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -108,31 +253,47 @@ class DefaultTokenPainter implements TokenPainter {
 		float nextX = x;
 		int flushLen = 0;
 		int flushIndex = textOffs;
+		boolean blank = true;
 		final Color fg = useSTC ? host.getSelectedTextColor() : host.getForegroundForToken(token);
 		final Color bg = selected ? null : host.getBackgroundForToken(token);
-		g.setFont(host.getFontForTokenType(token.getType()));
+		final Font font = host.getFontForTokenType(token.getType());
 		final FontMetrics fm = host.getFontMetricsForTokenType(token.getType());
+		final CharWidthTable widths = host.getCharWidthTableForTokenType(token.getType());
+		// Backgrounds are painted over anything to their left, as before.
+		if (bg != null)
+			this.flush();
 
+		int w;
 		for (int i = textOffs; i < end; i++)
 			switch (text[i]) {
 			case '\t':
-				nextX = e.nextTabStop(x + fm.charsWidth(text, flushIndex, flushLen), 0);
+				w = widths.simpleCharsWidth(text, flushIndex, flushLen);
+				final boolean simple = w >= 0;
+				if (!simple)
+					w = fm.charsWidth(text, flushIndex, flushLen);
+				nextX = e.nextTabStop(x + w, 0);
 				if (bg != null)
 					this.paintBackground(x, y, nextX - x, fm.getHeight(), g, fm.getAscent(), host, bg);
 				if (flushLen > 0) {
-					g.setColor(fg);
-					g.drawChars(text, flushIndex, flushLen, (int) x, (int) y);
+					this.drawRun(g, text, flushIndex, flushLen, x, x + w, y, font, fg, blank, simple && bg == null);
 					flushLen = 0;
 				}
 				flushIndex = i + 1;
+				blank = true;
 				x = nextX;
 				break;
+			case ' ':
+				flushLen += 1;
+				break;
 			default:
 				flushLen += 1;
+				blank = false;
 				break;
 			}
 
-		nextX = x + fm.charsWidth(text, flushIndex, flushLen);
+		w = widths.simpleCharsWidth(text, flushIndex, flushLen);
+		final boolean simple = w >= 0;
+		nextX = x + (simple ? w : fm.charsWidth(text, flushIndex, flushLen));
 		final java.awt.Rectangle r = host.getMatchRectangle();
 
 		if (flushLen > 0 && nextX >= clipStart) {
@@ -141,11 +302,11 @@ class DefaultTokenPainter implements TokenPainter {
 				if (token.length() == 1 && r != null && r.x == x)
 					((RSyntaxTextAreaUI) host.getUI()).paintMatchedBracketImpl(g, host, r);
 			}
-			g.setColor(fg);
-			g.drawChars(text, flushIndex, flushLen, (int) x, (int) y);
+			this.drawRun(g, text, flushIndex, flushLen, x, nextX, y, font, fg, blank, simple && bg == null);
 		}
 
 		if (host.getUnderlineForToken(token)) {
+			this.flush();
 			g.setColor(fg);
 			final int y2 = (int) (y + 1);
 			g.drawLine(origX, y2, (int) nextX, y2);
@@ -222,6 +383,7 @@ class DefaultTokenPainter implements TokenPainter {
 
 		// Get the length of a tab.
 		final FontMetrics fm = host.getFontMetricsForTokenType(token.getType());
+		final CharWidthTable widths = host.getCharWidthTableForTokenType(token.getType());
 		final int tabSize = host.getTabSize();
 		if (DefaultTokenPainter.tabBuf == null || DefaultTokenPainter.tabBuf.length < tabSize) {
 			DefaultTokenPainter.tabBuf = new char[tabSize];
@@ -233,7 +395,7 @@ class DefaultTokenPainter implements TokenPainter {
 		// of a tab as it may be different per-token-type. We could keep a
 		// per-token-type cache, but we'd have to clear it whenever they
 		// modified token styles.
-		final int tabW = fm.charsWidth(DefaultTokenPainter.tabBuf, 0, tabSize);
+		final int tabW = widths.charsWidth(DefaultTokenPainter.tabBuf, 0, tabSize);
 
 		// Draw any tab lines. Here we're assuming that "x" is the left
 		// margin of the editor.
@@ -0,0 +1,156 @@
+/*
+ * 10/17/2026
+ *
+ * LineHeightIndex.java - Running totals of the heights of lines.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+/**
+ * The heights of a sequence of lines, kept in a Fenwick (binary indexed) tree
+ * so that the y-offset of a line, and the line at a y-offset, are found in
+ * <code>O(log n)</code> time rather than by summing the heights of every line
+ * above. Changing the height of a line is also <code>O(log n)</code>;
+ * inserting or removing lines means rebuilding the tree, which is
+ * <code>O(n)</code> but only involves adding numbers.
+ * <p>
+ *
+ * Heights are whatever unit the caller likes, e.g. rows of text; a line of
+ * height <code>0</code>, such as one hidden in a collapsed fold, takes up no
+ * space and is never returned by {@link #getIndexAt(int)}.
+ *
+ * @version 1.0
+ * @see WrappedSyntaxView
+ */
+final class LineHeightIndex {
+
+	/**
+	 * The number of lines.
+	 */
+	private int size;
+
+	/**
+	 * The Fenwick tree, 1-based: <code>tree[i]</code> holds the sum of the
+	 * heights of lines <code>i - (i &amp; -i)</code> through <code>i - 1</code>.
+	 */
+	private int[] tree;
+
+	/**
+	 * The height of each line.
+	 */
+	private int[] values;
+
+	LineHeightIndex() {
+		this.values = new int[0];
+		this.tree = new int[1];
+	}
+
+	/**
+	 * Returns the height of a line.
+	 *
+	 * @param index
+	 *            The line.
+	 * @return Its height.
+	 */
+	int get(final int index) {
+		return this.values[index];
+	}
+
+	/**
+	 * Returns the index of the line that contains an offset, i.e. the first line
+	 * whose bottom is below it.
+	 *
+	 * @param offset
+	 *            The offset from the top of the first line.
+	 * @return The line, clamped to the first and last lines, or <code>-1</code> if
+	 *         there are none.
+	 */
+	int getIndexAt(final int offset) {
+		int index = 0;
+		int remaining = offset;
+		for (int bit = Integer.highestOneBit(Math.max(1, this.size)); bit != 0; bit >>>= 1) {
+			final int next = index + bit;
+			if (next <= this.size && this.tree[next] <= remaining) {
+				index = next;
+				remaining -= this.tree[next];
+			}
+		}
+		return Math.min(index, this.size - 1);
+	}
+
+	/**
+	 * Returns the sum of the heights of the lines above a line, i.e. its offset
+	 * from the top of the first line.
+	 *
+	 * @param index
+	 *            The line, from <code>0</code> to {@link #getSize()} inclusive.
+	 * @return Its offset.
+	 */
+	int getPrefix(final int index) {
+		int sum = 0;
+		for (int i = index; i > 0; i -= i & -i)
+			sum += this.tree[i];
+		return sum;
+	}
+
+	/**
+	 * Returns the number of lines.
+	 *
+	 * @return The number of lines.
+	 */
+	int getSize() {
+		return this.size;
+	}
+
+	/**
+	 * Returns the sum of the heights of all lines.
+	 *
+	 * @return The total height.
+	 */
+	int getTotal() {
+		return this.getPrefix(this.size);
+	}
+
+	/**
+	 * Replaces all lines.
+	 *
+	 * @param heights
+	 *            The heights of the lines. This array is kept, not copied.
+	 * @param count
+	 *            The number of lines, which may be less than the length of
+	 *            <code>heights</code>.
+	 */
+	void rebuild(final int[] heights, final int count) {
+		this.values = heights;
+		this.size = count;
+		if (this.tree.length < count + 1 || this.tree.length > 2 * (count + 1))
+			this.tree = new int[count + 1];
+		for (int i = 1; i <= count; i++)
+			this.tree[i] = heights[i - 1];
+		for (int i = 1; i <= count; i++) {
+			final int parent = i + (i & -i);
+			if (parent <= count)
+				this.tree[parent] += this.tree[i];
+		}
+	}
+
+	/**
+	 * Sets the height of a line.
+	 *
+	 * @param index
+	 *            The line.
+	 * @param height
+	 *            Its new height.
+	 */
+	void set(final int index, final int height) {
+		final int delta = height - this.values[index];
+		if (delta != 0) {
+			this.values[index] = height;
+			for (int i = index + 1; i <= this.size; i += i & -i)
+				this.tree[i] += delta;
+		}
+	}
+
+}
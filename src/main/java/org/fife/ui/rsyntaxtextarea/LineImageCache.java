@@ -0,0 +1,281 @@
+/*
+ * 10/17/2026
+ *
+ * LineImageCache.java - A bounded LRU cache of rendered lines of text.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.swing.text.Segment;
+
+/**
+ * Remembers how recently painted lines of an {@link RSyntaxTextArea} looked,
+ * so repainting them, e.g. when brackets are matched or occurrences marked,
+ * is a matter of copying an image rather than tokenizing the line and drawing
+ * its text again.
+ * <p>
+ *
+ * Lines are looked up by their text, the state they start in, whether their
+ * tokens' backgrounds are painted and where they're painted, so an edit
+ * simply stops matching the images of the lines it changed, and lines that
+ * merely moved keep theirs. Anything else that changes how text looks, such
+ * as the font or syntax scheme, clears the cache. Images hold only the text
+ * and token backgrounds, over a transparent background, so highlights are
+ * still painted beneath them. Entries are evicted least-recently-used first
+ * once their size exceeds a byte budget.
+ * <p>
+ *
+ * Lines are drawn directly, and not cached, while text is sub-pixel (LCD)
+ * anti-aliased, as that only works on an opaque destination and would come
+ * out grayscale in the images.
+ *
+ * @version 1.0
+ * @see RSyntaxTextArea#setLineImageCacheEnabled(boolean)
+ */
+public final class LineImageCache {
+
+	/**
+	 * A rendered line.
+	 */
+	private static final class Entry {
+
+		private final int bytes;
+
+		private final BufferedImage image;
+
+		private final int initialTokenType;
+
+		private final boolean paintBG;
+
+		private final char[] text;
+
+		private final int x;
+
+		private final int yParity;
+
+		private Entry(final Segment text, final int initialTokenType, final boolean paintBG, final int x,
+				final int yParity, final BufferedImage image) {
+			this.text = new char[text.count];
+			System.arraycopy(text.array, text.offset, this.text, 0, text.count);
+			this.initialTokenType = initialTokenType;
+			this.paintBG = paintBG;
+			this.x = x;
+			this.yParity = yParity;
+			this.image = image;
+			this.bytes = LineImageCache.ENTRY_FOOTPRINT + 2 * this.text.length
+					+ 4 * image.getWidth() * image.getHeight();
+		}
+
+		private boolean matches(final Segment text, final int initialTokenType, final boolean paintBG, final int x,
+				final int yParity) {
+			if (this.text.length != text.count || this.initialTokenType != initialTokenType
+					|| this.paintBG != paintBG || this.x != x || this.yParity != yParity)
+				return false;
+			for (int i = 0; i < this.text.length; i++)
+				if (this.text[i] != text.array[text.offset + i])
+					return false;
+			return true;
+		}
+
+	}
+
+	/**
+	 * The default byte budget of a text area's cache.
+	 */
+	public static final int DEFAULT_BUDGET = 16 * 1024 * 1024;
+
+	/**
+	 * Approximate heap cost of a cache entry itself, in bytes.
+	 */
+	private static final int ENTRY_FOOTPRINT = 160;
+
+	private int budget;
+
+	private int bytes;
+
+	private final LinkedHashMap<Long, Entry> entries;
+
+	private long hits;
+
+	private long misses;
+
+	LineImageCache() {
+		this.budget = LineImageCache.DEFAULT_BUDGET;
+		this.entries = new LinkedHashMap<>(64, 0.75f, true);
+	}
+
+	/**
+	 * Returns whether lines painted with a graphics context can be cached.
+	 * Images can't be scaled, e.g. for printing, without losing quality, and
+	 * sub-pixel anti-aliased text can't be drawn onto a transparent image.
+	 *
+	 * @param g
+	 *            The graphics context lines are painted with.
+	 * @return Whether the lines can be cached.
+	 */
+	static boolean canCache(final Graphics2D g) {
+		if ((g.getTransform().getType() & ~AffineTransform.TYPE_TRANSLATION) != 0)
+			return false;
+		final Object aa = g.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING);
+		return aa != RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_HRGB && aa != RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_HBGR
+				&& aa != RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_VRGB
+				&& aa != RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_VBGR;
+	}
+
+	/**
+	 * Discards all rendered lines. This should be called after changing the
+	 * text area's syntax scheme in place, since that can't be detected.
+	 */
+	public void clear() {
+		this.entries.clear();
+		this.bytes = 0;
+	}
+
+	/**
+	 * Returns the rendered image of a line, if it's cached.
+	 *
+	 * @param text
+	 *            The text of the line.
+	 * @param initialTokenType
+	 *            The last token type of the line before it.
+	 * @param paintBG
+	 *            Whether token backgrounds are painted.
+	 * @param x
+	 *            The x-coordinate the line is painted at.
+	 * @param yParity
+	 *            The parity of the y-coordinate of the top of the line, which
+	 *            tab lines depend on.
+	 * @return The image, or <code>null</code> if the line isn't cached.
+	 */
+	BufferedImage get(final Segment text, final int initialTokenType, final boolean paintBG, final int x,
+			final int yParity) {
+		final Entry entry = this.entries.get(LineImageCache.key(text, initialTokenType, paintBG, x, yParity));
+		if (entry == null || !entry.matches(text, initialTokenType, paintBG, x, yParity)) {
+			this.misses++;
+			return null;
+		}
+		this.hits++;
+		return entry.image;
+	}
+
+	/**
+	 * Returns the maximum number of bytes of images to keep.
+	 *
+	 * @return The budget.
+	 * @see #setBudget(int)
+	 */
+	public int getBudget() {
+		return this.budget;
+	}
+
+	/**
+	 * Returns the approximate number of bytes currently cached.
+	 *
+	 * @return The size of the cache.
+	 */
+	public int getBytes() {
+		return this.bytes;
+	}
+
+	/**
+	 * Returns the number of lines currently cached.
+	 *
+	 * @return The number of lines.
+	 */
+	public int getEntryCount() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Returns how many lines were painted from the cache.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * Returns how many lines had to be rendered.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * Returns the key of a line, a hash of everything that determines how it's
+	 * painted.
+	 */
+	private static long key(final Segment text, final int initialTokenType, final boolean paintBG, final int x,
+			final int yParity) {
+		long h = 0xcbf29ce484222325L; // FNV-1a
+		final int end = text.offset + text.count;
+		for (int i = text.offset; i < end; i++)
+			h = (h ^ text.array[i]) * 0x100000001b3L;
+		h = (h ^ initialTokenType) * 0x100000001b3L;
+		h = (h ^ x) * 0x100000001b3L;
+		return h ^ (paintBG ? 2 : 0) ^ yParity;
+	}
+
+	/**
+	 * Caches the rendered image of a line.
+	 *
+	 * @param text
+	 *            The text of the line. This is copied.
+	 * @param initialTokenType
+	 *            The last token type of the line before it.
+	 * @param paintBG
+	 *            Whether token backgrounds were painted.
+	 * @param x
+	 *            The x-coordinate the line was painted at.
+	 * @param yParity
+	 *            The parity of the y-coordinate of the top of the line.
+	 * @param image
+	 *            The image.
+	 */
+	void put(final Segment text, final int initialTokenType, final boolean paintBG, final int x, final int yParity,
+			final BufferedImage image) {
+		if (this.budget == 0)
+			return;
+		final Entry entry = new Entry(text, initialTokenType, paintBG, x, yParity, image);
+		final Entry old = this.entries.put(LineImageCache.key(text, initialTokenType, paintBG, x, yParity), entry);
+		if (old != null)
+			this.bytes -= old.bytes;
+		this.bytes += entry.bytes;
+		this.trim();
+	}
+
+	/**
+	 * Sets the maximum number of bytes of images to keep. Lowering this evicts
+	 * lines right away.
+	 *
+	 * @param budget
+	 *            The budget. <code>0</code> disables caching.
+	 * @see #getBudget()
+	 */
+	public void setBudget(final int budget) {
+		this.budget = Math.max(0, budget);
+		this.trim();
+	}
+
+	private void trim() {
+		final Iterator<Map.Entry<Long, Entry>> i = this.entries.entrySet().iterator();
+		while (this.bytes > this.budget && i.hasNext()) {
+			this.bytes -= i.next().getValue().bytes;
+			i.remove();
+		}
+	}
+
+}
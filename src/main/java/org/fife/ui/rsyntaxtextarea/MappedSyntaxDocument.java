@@ -0,0 +1,265 @@
+/*
+ * 10/17/2026
+ *
+ * MappedSyntaxDocument.java - A read-only document for viewing very large
+ * files.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.AttributeSet;
+import javax.swing.text.DefaultEditorKit;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
+import javax.swing.text.SimpleAttributeSet;
+
+import org.fife.ui.rtextarea.MappedFileContent;
+
+/**
+ * A read-only document whose text is memory-mapped from a file rather than
+ * loaded into the heap, for viewing (and searching and highlighting) files of
+ * several hundred megabytes or more.
+ * <p>
+ *
+ * Lines are not stored as <code>Element</code>s; instead, the line elements
+ * are created on demand from a sparse line index kept by the
+ * {@link MappedFileContent}. To keep opening the file cheap, the document is not
+ * tokenized up front, so multi-line constructs (such as block comments) are
+ * only highlighted on their first line.
+ * <p>
+ *
+ * Creating an instance maps and indexes the file, which can take a while for
+ * large files, so it should be done off the EDT.
+ *
+ * @version 1.0
+ * @see TextEditorPane#loadMapped(FileLocation, String)
+ */
+public class MappedSyntaxDocument extends RSyntaxDocument {
+
+	/**
+	 * A single line. These are created as needed and not cached.
+	 */
+	private final class LineElement implements Element {
+
+		private final int end;
+		private final int start;
+
+		private LineElement(final int start, final int end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public AttributeSet getAttributes() {
+			return SimpleAttributeSet.EMPTY;
+		}
+
+		@Override
+		public Document getDocument() {
+			return MappedSyntaxDocument.this;
+		}
+
+		@Override
+		public Element getElement(final int index) {
+			return null;
+		}
+
+		@Override
+		public int getElementCount() {
+			return 0;
+		}
+
+		@Override
+		public int getElementIndex(final int offset) {
+			return -1;
+		}
+
+		@Override
+		public int getEndOffset() {
+			return this.end;
+		}
+
+		@Override
+		public String getName() {
+			return AbstractDocument.ContentElementName;
+		}
+
+		@Override
+		public Element getParentElement() {
+			return MappedSyntaxDocument.this.lineMap;
+		}
+
+		@Override
+		public int getStartOffset() {
+			return this.start;
+		}
+
+		@Override
+		public boolean isLeaf() {
+			return true;
+		}
+
+	}
+
+	/**
+	 * The root element, whose children are the lines of the file.
+	 */
+	private final class LineMap implements Element {
+
+		@Override
+		public AttributeSet getAttributes() {
+			return SimpleAttributeSet.EMPTY;
+		}
+
+		@Override
+		public Document getDocument() {
+			return MappedSyntaxDocument.this;
+		}
+
+		@Override
+		public Element getElement(final int index) {
+			if (index < 0 || index >= MappedSyntaxDocument.this.content.getLineCount())
+				return null;
+			final int start = MappedSyntaxDocument.this.content.getLineStartOffset(index);
+			return new LineElement(start, MappedSyntaxDocument.this.content.indexOfNewline(start) + 1);
+		}
+
+		@Override
+		public int getElementCount() {
+			return MappedSyntaxDocument.this.content.getLineCount();
+		}
+
+		@Override
+		public int getElementIndex(final int offset) {
+			return MappedSyntaxDocument.this.content.getLineOfOffset(Math.max(0, offset));
+		}
+
+		@Override
+		public int getEndOffset() {
+			return MappedSyntaxDocument.this.content.length();
+		}
+
+		@Override
+		public String getName() {
+			return AbstractDocument.ParagraphElementName;
+		}
+
+		@Override
+		public Element getParentElement() {
+			return null;
+		}
+
+		@Override
+		public int getStartOffset() {
+			return 0;
+		}
+
+		@Override
+		public boolean isLeaf() {
+			return false;
+		}
+
+	}
+
+	/**
+	 *
+	 */
+	private static final long serialVersionUID = 1L;
+
+	private final transient MappedFileContent content;
+
+	private final transient File file;
+
+	private final transient LineMap lineMap;
+
+	/**
+	 * Constructor. This maps and indexes the file.
+	 *
+	 * @param file
+	 *            The file to view.
+	 * @param charset
+	 *            The encoding of the file, if it has no BOM. If this is
+	 *            <code>null</code>, UTF-8 is assumed.
+	 * @param syntaxStyle
+	 *            The syntax highlighting scheme to use.
+	 * @throws IOException
+	 *             If an IO error occurs, or the file cannot be mapped.
+	 * @see MappedFileContent
+	 */
+	public MappedSyntaxDocument(final File file, final Charset charset, final String syntaxStyle) throws IOException {
+		this(file, new MappedFileContent(file, charset), syntaxStyle);
+	}
+
+	private MappedSyntaxDocument(final File file, final MappedFileContent content, final String syntaxStyle) {
+		super(null, syntaxStyle, content);
+		this.file = file;
+		this.content = content;
+		this.lineMap = new LineMap();
+		this.putProperty(DefaultEditorKit.EndOfLineStringProperty, content.getLineSeparator());
+	}
+
+	/**
+	 * Returns the root element. Until the constructor has completed, this is
+	 * the (empty) default root element.
+	 */
+	@Override
+	public Element getDefaultRootElement() {
+		return this.lineMap != null ? this.lineMap : super.getDefaultRootElement();
+	}
+
+	/**
+	 * Returns the encoding the file is being decoded with.
+	 *
+	 * @return The encoding.
+	 */
+	public Charset getEncoding() {
+		return this.content.getCharset();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * The mapped file itself is not counted, as it is not on the heap.
+	 */
+	@Override
+	public long getEstimatedFootprint() {
+		return this.content.getEstimatedFootprint();
+	}
+
+	/**
+	 * Returns the file being viewed.
+	 *
+	 * @return The file.
+	 */
+	public File getFile() {
+		return this.file;
+	}
+
+	/**
+	 * Returns the line with the most characters. Views use this instead of
+	 * measuring every line to find the widest one.
+	 *
+	 * @return The longest line.
+	 */
+	public int getLongestLine() {
+		return this.content.getLongestLine();
+	}
+
+	/**
+	 * Returns <code>false</code>, so the entire file is not tokenized when the
+	 * syntax style changes.
+	 */
+	@Override
+	protected boolean isLastTokenTypeTracked() {
+		return false;
+	}
+
+}
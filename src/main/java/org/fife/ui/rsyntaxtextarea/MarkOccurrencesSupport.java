@@ -12,17 +12,31 @@ package org.fife.ui.rsyntaxtextarea;
 import java.awt.Color;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.BitSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
+import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import javax.swing.event.CaretEvent;
 import javax.swing.event.CaretListener;
+import javax.swing.text.BadLocationException;
 import javax.swing.text.Caret;
+import javax.swing.text.Segment;
 
+import org.fife.ui.rtextarea.DocumentSnapshot;
 import org.fife.ui.rtextarea.SmartHighlightPainter;
 
 /**
  * Marks all occurrences of the token at the current caret position, if it is an
  * identifier.
+ * <p>
+ *
+ * For languages using the default {@link OccurrenceMarker}, the lines whose
+ * text contains the token are found in a snapshot of the document on a
+ * background thread, and only those lines are tokenized on the EDT to mark the
+ * occurrences, rather than every line of the document.
  *
  * @author Robert Futrell
  * @version 1.0
@@ -30,6 +44,77 @@ import org.fife.ui.rtextarea.SmartHighlightPainter;
  */
 class MarkOccurrencesSupport implements CaretListener, ActionListener {
 
+	/**
+	 * Finds the lines of a snapshot whose text contains a token's lexeme, then
+	 * marks the token's occurrences on those lines on the EDT.
+	 */
+	private final class Scan implements Runnable {
+
+		private volatile boolean cancelled;
+
+		private final char[] lexeme;
+
+		private final DocumentSnapshot snapshot;
+
+		private final int type;
+
+		private Scan(final DocumentSnapshot snapshot, final Token t) {
+			this.snapshot = snapshot;
+			this.lexeme = t.getLexeme().toCharArray();
+			this.type = t.getType();
+		}
+
+		private void cancel() {
+			this.cancelled = true;
+		}
+
+		private void finish(final BitSet lines) {
+			if (this.cancelled || this.snapshot.isStale())
+				return;
+			MarkOccurrencesSupport.this.scan = null;
+			final RSyntaxTextArea textArea = MarkOccurrencesSupport.this.textArea;
+			final RSyntaxDocument doc = (RSyntaxDocument) this.snapshot.getDocument();
+			doc.readLock();
+			try {
+				MarkOccurrencesSupport.this.clear();
+				final RSyntaxTextAreaHighlighter h = (RSyntaxTextAreaHighlighter) textArea.getHighlighter();
+				DefaultOccurrenceMarker.markOccurrencesOfToken(doc, this.lexeme, this.type, lines, h,
+						MarkOccurrencesSupport.this.p);
+			} finally {
+				doc.readUnlock();
+			}
+			textArea.fireMarkedOccurrencesChanged();
+		}
+
+		@Override
+		public void run() {
+			final BitSet lines = new BitSet();
+			final Segment s = new Segment();
+			final int lineCount = this.snapshot.getLineCount();
+			try {
+				for (int line = 0; line < lineCount; line++) {
+					if ((line & 1023) == 0 && (this.cancelled || this.snapshot.isStale()))
+						return;
+					final int start = this.snapshot.getLineStartOffset(line);
+					final int end = Math.min(this.snapshot.getLineEndOffset(line), this.snapshot.length());
+					this.snapshot.getText(start, end - start, s);
+					if (MarkOccurrencesSupport.contains(s, this.lexeme))
+						lines.set(line);
+				}
+			} catch (final BadLocationException ble) {
+				ble.printStackTrace(); // Never happens
+				return;
+			}
+			SwingUtilities.invokeLater(new Runnable() {
+				@Override
+				public void run() {
+					Scan.this.finish(lines);
+				}
+			});
+		}
+
+	}
+
 	/**
 	 * The default color used to mark occurrences.
 	 */
@@ -38,8 +123,26 @@ class MarkOccurrencesSupport implements CaretListener, ActionListener {
 	 * The default delay.
 	 */
 	static final int DEFAULT_DELAY_MS = 1000;
+
+	/**
+	 * Runs the scans of all text areas.
+	 */
+	private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactory() {
+		@Override
+		public Thread newThread(final Runnable r) {
+			final Thread t = new Thread(r, "RSyntaxTextArea Mark Occurrences");
+			t.setDaemon(true);
+			return t;
+		}
+	});
+
 	private final SmartHighlightPainter p;
 
+	/**
+	 * The scan in progress, if any.
+	 */
+	private Scan scan;
+
 	private RSyntaxTextArea textArea;
 
 	private final Timer timer;
@@ -96,44 +199,14 @@ class MarkOccurrencesSupport implements CaretListener, ActionListener {
 	 */
 	@Override
 	public void actionPerformed(final ActionEvent e) {
+		this.markOccurrences(true);
+	}
 
-		// Don't do anything if they are selecting text.
-		final Caret c = this.textArea.getCaret();
-		if (c.getDot() != c.getMark())
-			return;
-
-		final RSyntaxDocument doc = (RSyntaxDocument) this.textArea.getDocument();
-		final OccurrenceMarker occurrenceMarker = doc.getOccurrenceMarker();
-		boolean occurrencesChanged = false;
-
-		if (occurrenceMarker != null) {
-
-			doc.readLock();
-			try {
-
-				final Token t = occurrenceMarker.getTokenToMark(this.textArea);
-
-				if (t != null && occurrenceMarker.isValidType(this.textArea, t) && !RSyntaxUtilities.isNonWordChar(t)) {
-					this.clear();
-					final RSyntaxTextAreaHighlighter h = (RSyntaxTextAreaHighlighter) this.textArea.getHighlighter();
-					occurrenceMarker.markOccurrences(doc, t, h, this.p);
-					// textArea.repaint();
-					// TODO: Do a textArea.repaint() instead of repainting each
-					// marker as it's added if count is huge
-					occurrencesChanged = true;
-				}
-
-			} finally {
-				doc.readUnlock();
-				// time = System.currentTimeMillis() - time;
-				// System.out.println("MarkOccurrencesSupport took: " + time + " ms");
-			}
-
+	private void cancelScan() {
+		if (this.scan != null) {
+			this.scan.cancel();
+			this.scan = null;
 		}
-
-		if (occurrencesChanged)
-			this.textArea.fireMarkedOccurrencesChanged();
-
 	}
 
 	/**
@@ -151,18 +224,33 @@ class MarkOccurrencesSupport implements CaretListener, ActionListener {
 	 * Removes all highlights added to the text area by this listener.
 	 */
 	void clear() {
+		this.cancelScan();
 		if (this.textArea != null) {
 			final RSyntaxTextAreaHighlighter h = (RSyntaxTextAreaHighlighter) this.textArea.getHighlighter();
 			h.clearMarkOccurrencesHighlights();
 		}
 	}
 
+	/**
+	 * Returns whether a line contains a lexeme.
+	 */
+	private static boolean contains(final Segment s, final char[] lexeme) {
+		final int last = s.offset + s.count - lexeme.length;
+		outer: for (int i = s.offset; i <= last; i++) {
+			for (int j = 0; j < lexeme.length; j++)
+				if (s.array[i + j] != lexeme[j])
+					continue outer;
+			return true;
+		}
+		return false;
+	}
+
 	/**
 	 * Immediately marks all occurrences of the token at the current caret position.
 	 */
 	public void doMarkOccurrences() {
 		this.timer.stop();
-		this.actionPerformed(null);
+		this.markOccurrences(false);
 	}
 
 	/**
@@ -212,6 +300,63 @@ class MarkOccurrencesSupport implements CaretListener, ActionListener {
 			this.setColor(textArea.getMarkOccurrencesColor());
 	}
 
+	/**
+	 * Marks all occurrences of the token at the caret position, if any.
+	 *
+	 * @param inBackground
+	 *            Whether the lines to mark occurrences on can be found on a
+	 *            background thread, in which case they are marked later.
+	 */
+	private void markOccurrences(final boolean inBackground) {
+
+		this.cancelScan();
+
+		// Don't do anything if they are selecting text.
+		final Caret c = this.textArea.getCaret();
+		if (c.getDot() != c.getMark())
+			return;
+
+		final RSyntaxDocument doc = (RSyntaxDocument) this.textArea.getDocument();
+		final OccurrenceMarker occurrenceMarker = doc.getOccurrenceMarker();
+		boolean occurrencesChanged = false;
+
+		// Only the start of a long line is highlighted, so tokens on it
+		// can't be marked reliably.
+		if (occurrenceMarker != null && !doc.isLongLine(this.textArea.getCaretLineNumber())) {
+
+			doc.readLock();
+			try {
+
+				final Token t = occurrenceMarker.getTokenToMark(this.textArea);
+
+				if (t != null && occurrenceMarker.isValidType(this.textArea, t) && !RSyntaxUtilities.isNonWordChar(t)) {
+					if (inBackground && occurrenceMarker instanceof DefaultOccurrenceMarker) {
+						this.scan = new Scan(doc.createSnapshot(), t);
+						MarkOccurrencesSupport.EXECUTOR.execute(this.scan);
+						return;
+					}
+					this.clear();
+					final RSyntaxTextAreaHighlighter h = (RSyntaxTextAreaHighlighter) this.textArea.getHighlighter();
+					occurrenceMarker.markOccurrences(doc, t, h, this.p);
+					// textArea.repaint();
+					// TODO: Do a textArea.repaint() instead of repainting each
+					// marker as it's added if count is huge
+					occurrencesChanged = true;
+				}
+
+			} finally {
+				doc.readUnlock();
+				// time = System.currentTimeMillis() - time;
+				// System.out.println("MarkOccurrencesSupport took: " + time + " ms");
+			}
+
+		}
+
+		if (occurrencesChanged)
+			this.textArea.fireMarkedOccurrencesChanged();
+
+	}
+
 	/**
 	 * Sets the color to use when marking occurrences.
 	 *
@@ -22,6 +22,7 @@ import javax.swing.text.PlainDocument;
 import javax.swing.text.Segment;
 
 import org.fife.ui.rsyntaxtextarea.modes.AbstractMarkupTokenMaker;
+import org.fife.ui.rtextarea.RContent;
 import org.fife.ui.rtextarea.RDocument;
 import org.fife.util.DynamicIntArray;
 
@@ -52,19 +53,34 @@ import org.fife.util.DynamicIntArray;
 public class RSyntaxDocument extends RDocument implements Iterable<Token>, SyntaxConstants {
 
 	/**
-	 * If this is set to <code>true</code>, debug information about how much token
-	 * caching is helping is printed to stdout.
+	 * The default value of {@link #getLongLineThreshold()}.
 	 */
-	private static final boolean DEBUG_TOKEN_CACHING = false;
+	public static final int DEFAULT_LONG_LINE_THRESHOLD = 10000;
+
+	/**
+	 * The nominal size of the windows a long line is tokenized in, in
+	 * characters.
+	 */
+	static final int LONG_LINE_WINDOW = 2048;
+
+	/**
+	 * How far past its nominal start a window may begin, so that it starts
+	 * just after whitespace or punctuation rather than in the middle of a
+	 * word.
+	 */
+	private static final int LONG_LINE_SNAP = 128;
 
 	/**
 	 *
 	 */
 	private static final long serialVersionUID = 1L;
 
-	private transient Token cachedTokenList;
-
-	private transient int lastLine = -1;
+	/**
+	 * Whether the token maker was set directly, rather than created by the
+	 * factory. Such token makers can't be duplicated for tokenizing in the
+	 * background.
+	 */
+	private transient boolean customTokenMaker;
 
 	/**
 	 * Array of values representing the "last token type" on each line. This is used
@@ -74,11 +90,35 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 	 */
 	protected transient DynamicIntArray lastTokensOnLines;
 
+	/**
+	 * Lines longer than this many characters are tokenized in windows. Read
+	 * by the background tokenizer.
+	 */
+	private volatile int longLineThreshold;
+
 	private transient Segment s;
+
+	/**
+	 * Brings the last-token values of lines up to date in the background after
+	 * edits that affect many lines.
+	 */
+	private transient TokenizationScheduler scheduler;
+
+	/**
+	 * Token lists of recently requested lines.
+	 */
+	private transient TokenListCache tokenListCache;
+
 	/**
 	 * The current syntax style. Only cached to keep this class serializable.
 	 */
 	private String syntaxStyle;
+
+	/**
+	 * The tokens returned by {@link #getTokenStreamForRange(int, int, int)}.
+	 */
+	private transient TokenStream windowTokens;
+
 	/**
 	 * Splits text into tokens for the current programming language.
 	 */
@@ -88,10 +128,6 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 	 */
 	private transient TokenMakerFactory tokenMakerFactory;
 
-	private transient int tokenRetrievalCount = 0;
-
-	private transient int useCacheCount = 0;
-
 	/**
 	 * Constructs a plain text document. A default root element is created, and the
 	 * tab size set to 5.
@@ -114,14 +150,76 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 	 *            The syntax highlighting scheme to use.
 	 */
 	public RSyntaxDocument(final TokenMakerFactory tmf, final String syntaxStyle) {
+		this(tmf, syntaxStyle, null);
+	}
+
+	/**
+	 * Constructs a plain text document backed by specific content. A default root
+	 * element is created, and the tab size set to 5.
+	 *
+	 * @param tmf
+	 *            The <code>TokenMakerFactory</code> for this document. If this is
+	 *            <code>null</code>, a default factory is used.
+	 * @param syntaxStyle
+	 *            The syntax highlighting scheme to use.
+	 * @param content
+	 *            The (empty) content to store the text in, such as a
+	 *            {@link org.fife.ui.rtextarea.PieceTableContent}. If this is
+	 *            <code>null</code>, the default gap buffer is used.
+	 */
+	public RSyntaxDocument(final TokenMakerFactory tmf, final String syntaxStyle, final RContent content) {
+		super(content);
 		this.putProperty(PlainDocument.tabSizeAttribute, Integer.valueOf(5));
 		this.lastTokensOnLines = new DynamicIntArray(400);
 		this.lastTokensOnLines.add(TokenTypes.NULL); // Initial (empty) line.
+		this.longLineThreshold = RSyntaxDocument.DEFAULT_LONG_LINE_THRESHOLD;
 		this.s = new Segment();
+		this.scheduler = new TokenizationScheduler(this);
+		this.tokenListCache = new TokenListCache();
 		this.setTokenMakerFactory(tmf);
 		this.setSyntaxStyle(syntaxStyle);
 	}
 
+	/**
+	 * Returns the last token type on a line, tokenizing it with the current
+	 * token maker.
+	 *
+	 * @param line
+	 *            The line.
+	 * @param previousTokenType
+	 *            The last token type on the line before it.
+	 * @return The last token type on the line.
+	 */
+	int computeLastTokenTypeOnLine(final int line, final int previousTokenType) {
+		final Element elem = this.getDefaultRootElement().getElement(line);
+		if (elem == null)
+			throw new InternalError("Invalid line number: " + line);
+		final int startOffset = elem.getStartOffset();
+		final int length = elem.getEndOffset() - 1 - startOffset;
+		if (!this.exceedsLongLineThreshold(length)) {
+			this.setSharedSegment(line);
+			return this.tokenMaker.getLastTokenTypeOnLine(this.s, previousTokenType);
+		}
+		final int tailStart = RSyntaxDocument.getLongLineTailStart(length);
+		try {
+			this.getText(startOffset + tailStart, length - tailStart, this.s);
+		} catch (final BadLocationException ble) {
+			throw new InternalError("Text range not in document: " + startOffset + "-" + (startOffset + length));
+		}
+		return RSyntaxDocument.getLastTokenTypeOnLongLine(this.tokenMaker, this.s, tailStart);
+	}
+
+	/**
+	 * Creates a token maker for the current language that can be used off the
+	 * EDT.
+	 *
+	 * @return The token maker, or <code>null</code> if the current token maker
+	 *         was not created by this document's factory.
+	 */
+	TokenMaker createBackgroundTokenMaker() {
+		return this.customTokenMaker ? null : this.tokenMakerFactory.getTokenMaker(this.syntaxStyle);
+	}
+
 	/**
 	 * Alerts all listeners to this document of an insertion. This is overridden so
 	 * we can update our syntax highlighting stuff.
@@ -136,7 +234,7 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 	@Override
 	protected void fireInsertUpdate(final DocumentEvent e) {
 
-		this.cachedTokenList = null;
+		this.scheduler.edited();
 
 		/*
 		 * Now that the text is actually inserted into the content and element
@@ -163,25 +261,36 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 			// System.err.println("... adding lines: " + line + " - " + (endBefore-1));
 			// System.err.println("... ... added: " + added.length + ", removed:" +
 			// numRemoved);
-			for (int i = line; i < endBefore; i++) {
+			this.scheduler.linesInserted(line, added.length - numRemoved);
+			this.tokenListCache.linesInserted(line, added.length - numRemoved);
+			final int syncEnd = Math.min(endBefore, line + TokenizationScheduler.SYNCHRONOUS_LINES);
+			for (int i = line; i < syncEnd; i++) {
 
-				this.setSharedSegment(i); // Loads line i's text into s.
-
-				final int tokenType = this.tokenMaker.getLastTokenTypeOnLine(this.s, previousTokenType);
+				final int tokenType = this.computeLastTokenTypeOnLine(i, previousTokenType);
 				this.lastTokensOnLines.add(i, tokenType);
 				// System.err.println("--------- lastTokensOnLines.size() == " +
 				// lastTokensOnLines.getSize());
 
 				previousTokenType = tokenType;
 
-			} // End of for (int i=line; i<endBefore; i++).
+			} // End of for (int i=line; i<syncEnd; i++).
 
-			// Update last tokens for lines below until they stop changing.
-			this.updateLastTokensBelow(endBefore, numLines, previousTokenType);
+			// For large pastes, leave the remaining lines (and those below
+			// them) to be tokenized in the background.
+			if (syncEnd < endBefore) {
+				this.lastTokensOnLines.insertRange(syncEnd, endBefore - syncEnd, TokenTypes.NULL);
+				this.markDirty(syncEnd, endBefore);
+				this.fireChangedUpdate(new DefaultDocumentEvent(line, syncEnd - 1, DocumentEvent.EventType.CHANGE));
+			} else
+				// Update last tokens for lines below until they stop changing.
+				this.updateLastTokensBelow(endBefore, numLines, previousTokenType);
 
 		} // End of if (added!=null && added.length>0).
-		else // Update last tokens for lines below until they stop changing.
+		else {
+			this.tokenListCache.linesInserted(line, 0);
+			// Update last tokens for lines below until they stop changing.
 			this.updateLastTokensBelow(line, numLines, previousTokenType);
+		}
 
 		// Let all listeners know about the insertion.
 		super.fireInsertUpdate(e);
@@ -207,7 +316,7 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 	@Override
 	protected void fireRemoveUpdate(final DocumentEvent chng) {
 
-		this.cachedTokenList = null;
+		this.scheduler.edited();
 		final Element lineMap = this.getDefaultRootElement();
 		final int numLines = lineMap.getElementCount();
 
@@ -232,6 +341,8 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 			// removed.length);
 
 			this.lastTokensOnLines.removeRange(line, endBefore); // Removing values for lines [line-(endBefore-1)].
+			this.scheduler.linesRemoved(line, endBefore - line);
+			this.tokenListCache.linesRemoved(line, endBefore - line);
 			// System.err.println("--------- lastTokensOnLines.size() == " +
 			// lastTokensOnLines.getSize());
 
@@ -244,6 +355,7 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 		else {
 
 			final int line = lineMap.getElementIndex(chng.getOffset());
+			this.tokenListCache.linesRemoved(line, 0);
 			if (line >= this.lastTokensOnLines.getSize())
 				return; // If we're editing the last line in a document...
 
@@ -262,6 +374,113 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 
 	}
 
+	/**
+	 * Discards any cached token lists. They are recreated on demand, so this is
+	 * always safe to call; it's meant to release memory when the heap is
+	 * running low.
+	 */
+	public void clearTokenCache() {
+		this.tokenListCache.clear();
+	}
+
+	/**
+	 * Acquires the write lock so the background tokenizer's results can be
+	 * applied.
+	 *
+	 * @see #endBackgroundUpdate()
+	 */
+	void beginBackgroundUpdate() {
+		this.writeLock();
+	}
+
+	/**
+	 * Releases the lock acquired by {@link #beginBackgroundUpdate()}.
+	 */
+	void endBackgroundUpdate() {
+		this.writeUnlock();
+	}
+
+	/**
+	 * Marks a range of lines as pending, to be updated in the background. Cached
+	 * token lists from the range on are discarded, as they may have been
+	 * tokenized from an out-of-date starting state.
+	 *
+	 * @param from
+	 *            The first line that may be out of date.
+	 * @param to
+	 *            The last line that may be inconsistent with the line before it.
+	 */
+	private void markDirty(final int from, final int to) {
+		this.tokenListCache.removeFrom(from);
+		this.scheduler.markDirty(from, to);
+	}
+
+	/**
+	 * Tokenizes a line with the current token maker.
+	 *
+	 * @param line
+	 *            The line.
+	 * @param initialTokenType
+	 *            The last token type on the line before it.
+	 * @return The token maker's token stream, or <code>null</code> if the line
+	 *         couldn't be read.
+	 */
+	private TokenStream tokenizeLine(final int line, final int initialTokenType) {
+		final Element elem = this.getDefaultRootElement().getElement(line);
+		final int startOffset = elem.getStartOffset();
+		final int endOffset = elem.getEndOffset() - 1; // Why always "-1"?
+		try {
+			this.getText(startOffset, endOffset - startOffset, this.s);
+		} catch (final BadLocationException ble) {
+			ble.printStackTrace();
+			return null;
+		}
+		if (!this.exceedsLongLineThreshold(this.s.count))
+			return this.tokenMaker.getTokenStream(this.s, initialTokenType, startOffset);
+
+		// Only the first window of a long line is highlighted; the rest is
+		// returned as plain text, one token per window.
+		final int length = this.s.count;
+		final int headEnd = RSyntaxDocument.getWindowStart(this.s, 0, 1);
+		final TokenStream stream = this.tokenMaker.getTokenStream(new Segment(this.s.array, this.s.offset, headEnd),
+				initialTokenType, startOffset);
+		while (!stream.isEmpty() && stream.getLastType() <= TokenTypes.NULL)
+			stream.removeLast();
+		for (int start = headEnd; start < length; start += RSyntaxDocument.LONG_LINE_WINDOW) {
+			final int end = Math.min(length, start + RSyntaxDocument.LONG_LINE_WINDOW);
+			stream.add(this.s.array, this.s.offset + start, this.s.offset + end - 1, TokenTypes.IDENTIFIER,
+					startOffset + start, false, 0);
+		}
+		stream.addNull(0);
+		return stream;
+	}
+
+	/**
+	 * Discards the cached token lists of lines whose starting state changed.
+	 *
+	 * @param firstLine
+	 *            The first line to discard.
+	 * @param lastLine
+	 *            The last line to discard, inclusive.
+	 */
+	void tokenListsChanged(final int firstLine, final int lastLine) {
+		this.tokenListCache.removeRange(firstLine, lastLine);
+	}
+
+	/**
+	 * Notifies listeners that lines' syntax highlighting has changed, after
+	 * their last-token values were updated in the background.
+	 *
+	 * @param firstLine
+	 *            The first line to repaint.
+	 * @param lastLine
+	 *            The last line to repaint.
+	 */
+	void fireLinesChanged(final int firstLine, final int lastLine) {
+		this.tokenListsChanged(firstLine, lastLine + 1);
+		this.fireChangedUpdate(new DefaultDocumentEvent(firstLine, lastLine, DocumentEvent.EventType.CHANGE));
+	}
+
 	/**
 	 * Returns the closest {@link TokenTypes "standard" token type} for a given
 	 * "internal" token type (e.g. one whose value is <code>&lt; 0</code>).
@@ -303,6 +522,17 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 		return this.tokenMaker.getCurlyBracesDenoteCodeBlocks(languageIndex);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This also includes the "last token on line" state kept for syntax
+	 * highlighting.
+	 */
+	@Override
+	public long getEstimatedFootprint() {
+		return super.getEstimatedFootprint() + 4L * this.lastTokensOnLines.getSize();
+	}
+
 	/**
 	 * Returns whether the current language is a markup language, such as HTML, XML
 	 * or PHP.
@@ -313,6 +543,25 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 		return this.tokenMaker.isMarkupLanguage();
 	}
 
+	/**
+	 * Returns the last token type of a long line. Only the line's last window
+	 * is tokenized, as if the line started there.
+	 *
+	 * @param tokenMaker
+	 *            The token maker to use.
+	 * @param tail
+	 *            The text of the line from <code>tailStart</code> on.
+	 * @param tailStart
+	 *            The value of {@link #getLongLineTailStart(int)} for the line.
+	 * @return The last token type on the line.
+	 */
+	static int getLastTokenTypeOnLongLine(final TokenMaker tokenMaker, final Segment tail, final int tailStart) {
+		final int window = tailStart / RSyntaxDocument.LONG_LINE_WINDOW;
+		final int start = RSyntaxDocument.getWindowStart(tail, tailStart, window) - tailStart;
+		final Segment text = new Segment(tail.array, tail.offset + start, tail.count - start);
+		return tokenMaker.getLastTokenTypeOnLine(text, TokenTypes.NULL);
+	}
+
 	/**
 	 * Returns the token type of the last token on the given line.
 	 *
@@ -322,9 +571,42 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 	 *         is invalid, an exception is thrown.
 	 */
 	public int getLastTokenTypeOnLine(final int line) {
+		if (!this.isLastTokenTypeTracked())
+			return TokenTypes.NULL;
+		if (this.scheduler.isPending(line))
+			this.scheduler.catchUp(line);
 		return this.lastTokensOnLines.get(line);
 	}
 
+	/**
+	 * Returns the length above which lines are tokenized in windows. Only the
+	 * windows around the columns being painted are highlighted. Everywhere
+	 * else, such as in the token list of the whole line, only the first window
+	 * is highlighted and the rest of the line is plain text, so folding,
+	 * bracket matching and occurrence marking don't see past it. This keeps
+	 * editing files such as minified JavaScript or JSON responsive.
+	 *
+	 * @return The threshold, in characters. A value of <code>0</code> or less
+	 *         means lines are always tokenized in full.
+	 * @see #setLongLineThreshold(int)
+	 * @see #isLongLine(int)
+	 */
+	public int getLongLineThreshold() {
+		return this.longLineThreshold;
+	}
+
+	/**
+	 * Returns where the text needed by
+	 * {@link #getLastTokenTypeOnLongLine(TokenMaker, Segment, int)} starts.
+	 *
+	 * @param length
+	 *            The length of the line.
+	 * @return The offset into the line.
+	 */
+	static int getLongLineTailStart(final int length) {
+		return (length - 1) / RSyntaxDocument.LONG_LINE_WINDOW * RSyntaxDocument.LONG_LINE_WINDOW;
+	}
+
 	/**
 	 * Returns the text to place at the beginning and end of a line to "comment" it
 	 * in this programming language.
@@ -373,6 +655,36 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 		return this.tokenMaker.getShouldIndentNextLineAfter(t);
 	}
 
+	/**
+	 * Returns the scheduler that updates this document's syntax highlighting
+	 * information in the background, e.g. to monitor how much work is pending.
+	 *
+	 * @return The scheduler.
+	 */
+	public TokenizationScheduler getTokenizationScheduler() {
+		return this.scheduler;
+	}
+
+	/**
+	 * Returns the cache of recently requested lines' token lists, e.g. to
+	 * monitor its hit rate or change its budget.
+	 *
+	 * @return The cache.
+	 */
+	public TokenListCache getTokenListCache() {
+		return this.tokenListCache;
+	}
+
+	/**
+	 * Returns the token maker factory used by this document.
+	 *
+	 * @return The <code>TokenMakerFactory</code>.
+	 * @see #setTokenMakerFactory(TokenMakerFactory)
+	 */
+	TokenMakerFactory getTokenMakerFactory() {
+		return this.tokenMakerFactory;
+	}
+
 	/**
 	 * Returns the syntax style being used.
 	 *
@@ -392,38 +704,213 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 	 * @param line
 	 *            The line number of <code>text</code> in the document, &gt;= 0.
 	 * @return A token list representing the specified line.
+	 * @see #getTokenStreamForLine(int)
 	 */
 	public final Token getTokenListForLine(final int line) {
 
-		this.tokenRetrievalCount++;
-		if (line == this.lastLine && this.cachedTokenList != null) {
-			if (RSyntaxDocument.DEBUG_TOKEN_CACHING) {
-				this.useCacheCount++;
-				System.err.println(
-						"--- Using cached line; ratio now: " + this.useCacheCount + "/" + this.tokenRetrievalCount);
-			}
-			return this.cachedTokenList;
+		// Done first, as bringing pending lines up to date uses our segment.
+		final int initialTokenType = line == 0 ? TokenTypes.NULL : this.getLastTokenTypeOnLine(line - 1);
+		final int startOffset = this.getDefaultRootElement().getElement(line).getStartOffset();
+
+		// Lines whose starting state is still pending aren't cached, nor are
+		// long lines, which would crowd everything else out.
+		final boolean cacheable = (line == 0 || !this.scheduler.isPending(line - 1)) && !this.isLongLine(line);
+		if (cacheable) {
+			final Token cached = this.tokenListCache.getList(line, startOffset);
+			if (cached != null)
+				return cached;
 		}
-		this.lastLine = line;
 
-		final Element map = this.getDefaultRootElement();
-		final Element elem = map.getElement(line);
-		final int startOffset = elem.getStartOffset();
-		// int endOffset = (line==map.getElementCount()-1 ? elem.getEndOffset() - 1:
-		// elem.getEndOffset() - 1);
-		final int endOffset = elem.getEndOffset() - 1; // Why always "-1"?
+		final TokenStream stream = this.tokenizeLine(line, initialTokenType);
+		if (stream == null)
+			return null;
+		return cacheable ? this.tokenListCache.putList(line, startOffset, stream) : stream.toTokenList();
+
+	}
+
+	/**
+	 * Returns the tokens of a line as parallel arrays. This is cheaper than
+	 * {@link #getTokenListForLine(int)} for callers that just walk the tokens,
+	 * such as painting.
+	 *
+	 * @param line
+	 *            The line number, &gt;= 0.
+	 * @return The tokens of the line. These are only valid until the document is
+	 *         modified, or its tokens are asked for again.
+	 */
+	public final TokenStream getTokenStreamForLine(final int line) {
+		return this.getTokenStreamForLine(line, true);
+	}
+
+	/**
+	 * Returns the tokens of a line as parallel arrays.
+	 *
+	 * @param line
+	 *            The line number, &gt;= 0.
+	 * @param cacheResult
+	 *            Whether to cache the tokens if they aren't already cached.
+	 *            Callers visiting every line of the document once, such as mark
+	 *            occurrences, pass <code>false</code> so they don't evict lines
+	 *            that are actually being reused.
+	 * @return The tokens of the line.
+	 */
+	TokenStream getTokenStreamForLine(final int line, final boolean cacheResult) {
+
+		final int initialTokenType = line == 0 ? TokenTypes.NULL : this.getLastTokenTypeOnLine(line - 1);
+		final int startOffset = this.getDefaultRootElement().getElement(line).getStartOffset();
+
+		final boolean cacheable = (line == 0 || !this.scheduler.isPending(line - 1)) && !this.isLongLine(line);
+		if (cacheable) {
+			final TokenStream cached = this.tokenListCache.getStream(line, startOffset);
+			if (cached != null)
+				return cached;
+		}
+
+		final TokenStream stream = this.tokenizeLine(line, initialTokenType);
+		if (stream == null || !cacheable || !cacheResult)
+			return stream;
+		return this.tokenListCache.putStream(line, startOffset, stream);
+
+	}
+
+	/**
+	 * Returns the tokens of the part of a line between two offsets. For lines
+	 * that aren't long, these are simply the tokens of the entire line. Long
+	 * lines are tokenized only in the windows covering the range, each window
+	 * after the first one starting as if it were the start of a line; these
+	 * tokens aren't cached.
+	 *
+	 * @param line
+	 *            The line number, &gt;= 0.
+	 * @param startOffs
+	 *            The start of the range in the document.
+	 * @param endOffs
+	 *            The end of the range in the document.
+	 * @return The tokens, the first of which starts at or before
+	 *         <code>startOffs</code>. These are only valid until the document
+	 *         is modified, or its tokens are asked for again.
+	 * @see #getLongLineThreshold()
+	 */
+	public TokenStream getTokenStreamForRange(final int line, final int startOffs, final int endOffs) {
+
+		if (!this.isLongLine(line))
+			return this.getTokenStreamForLine(line);
+
+		final int initialTokenType = line == 0 ? TokenTypes.NULL : this.getLastTokenTypeOnLine(line - 1);
+		final Element elem = this.getDefaultRootElement().getElement(line);
+		final int lineStart = elem.getStartOffset();
+		final int length = elem.getEndOffset() - 1 - lineStart;
+		final int from = Math.max(0, Math.min(length, startOffs - lineStart));
+		final int to = Math.max(from, Math.min(length, endOffs - lineStart));
+
+		// Windows can start a little past their nominal start, so the window
+		// before the one "from" is nominally in may be needed too.
+		final int first = Math.max(0, from / RSyntaxDocument.LONG_LINE_WINDOW - 1);
+		final int last = to / RSyntaxDocument.LONG_LINE_WINDOW;
+		final int textStart = first * RSyntaxDocument.LONG_LINE_WINDOW;
+		final int textEnd = Math.min(length,
+				(last + 1) * RSyntaxDocument.LONG_LINE_WINDOW + RSyntaxDocument.LONG_LINE_SNAP);
 		try {
-			this.getText(startOffset, endOffset - startOffset, this.s);
+			this.getText(lineStart + textStart, textEnd - textStart, this.s);
 		} catch (final BadLocationException ble) {
 			ble.printStackTrace();
 			return null;
 		}
-		final int initialTokenType = line == 0 ? TokenTypes.NULL : this.getLastTokenTypeOnLine(line - 1);
 
-		// return tokenMaker.getTokenList(s, initialTokenType, startOffset);
-		this.cachedTokenList = this.tokenMaker.getTokenList(this.s, initialTokenType, startOffset);
-		return this.cachedTokenList;
+		if (this.windowTokens == null)
+			this.windowTokens = new TokenStream();
+		final TokenStream tokens = this.windowTokens;
+		tokens.reset();
+		int start = RSyntaxDocument.getWindowStart(this.s, textStart, first);
+		for (int window = first; window <= last && start <= to; window++) {
+			final int end = RSyntaxDocument.getWindowStart(this.s, textStart, window + 1);
+			if (end > from || end == length) {
+				final Segment text = new Segment(this.s.array, this.s.offset + start - textStart, end - start);
+				final TokenStream stream = this.tokenMaker.getTokenStream(text,
+						window == 0 ? initialTokenType : TokenTypes.NULL, lineStart + start);
+				for (int i = 0; i < stream.getCount(); i++)
+					if (stream.isPaintable(i)) {
+						final int offs = stream.getTextOffset(i);
+						tokens.add(stream.getTextArray(i), offs, offs + stream.getLength(i) - 1, stream.getType(i),
+								stream.getOffset(i), stream.isHyperlink(i), stream.getLanguageIndex(i));
+					}
+			}
+			start = end;
+		}
+		tokens.addNull(0);
+		return tokens;
+
+	}
+
+	/**
+	 * Returns the start of a window of a long line, in the line.
+	 *
+	 * @param text
+	 *            Text of the line, including the
+	 *            {@link #LONG_LINE_SNAP} characters from the window's nominal
+	 *            start, or up to the end of the line.
+	 * @param textStart
+	 *            The offset of <code>text</code> in the line.
+	 * @param window
+	 *            The window.
+	 * @return The start of the window, or the end of <code>text</code> if the
+	 *         window starts past it.
+	 */
+	private static int getWindowStart(final Segment text, final int textStart, final int window) {
+		if (window == 0)
+			return 0;
+		final int nominal = window * RSyntaxDocument.LONG_LINE_WINDOW;
+		final int textEnd = textStart + text.count;
+		if (nominal >= textEnd)
+			return textEnd;
+		final int end = Math.min(textEnd, nominal + RSyntaxDocument.LONG_LINE_SNAP);
+		for (int i = nominal; i < end; i++) {
+			final char ch = text.array[text.offset + i - textStart];
+			if (Character.isWhitespace(ch) || ";,{}()[]".indexOf(ch) > -1)
+				return i + 1;
+		}
+		return nominal;
+	}
+
+	/**
+	 * Returns whether a line is longer than the long line threshold.
+	 *
+	 * @param line
+	 *            The line number, &gt;= 0.
+	 * @return Whether the line is tokenized in windows.
+	 * @see #getLongLineThreshold()
+	 */
+	public boolean isLongLine(final int line) {
+		final Element elem = this.getDefaultRootElement().getElement(line);
+		return this.exceedsLongLineThreshold(elem.getEndOffset() - 1 - elem.getStartOffset());
+	}
 
+	/**
+	 * Returns whether a line of a given length is a long line.
+	 *
+	 * @param length
+	 *            The length of the line.
+	 * @return Whether the line is tokenized in windows.
+	 */
+	boolean exceedsLongLineThreshold(final int length) {
+		final int threshold = this.longLineThreshold;
+		return threshold > 0 && length > threshold;
+	}
+
+	/**
+	 * Returns whether the last token type of every line is tracked. If it isn't,
+	 * every line is highlighted as if the line before it ended normally, so
+	 * constructs such as multi-line comments are not highlighted past their
+	 * first line. Subclasses can return <code>false</code> when tokenizing the
+	 * entire document up front would be too expensive, such as for very large
+	 * read-only documents. This method is called from the constructor.
+	 *
+	 * @return Whether the last token type of every line is tracked. The default
+	 *         implementation returns <code>true</code>.
+	 * @see #getLastTokenTypeOnLine(int)
+	 */
+	protected boolean isLastTokenTypeTracked() {
+		return true;
 	}
 
 	boolean insertBreakSpecialHandling(final ActionEvent e) {
@@ -485,12 +972,35 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 
 		// Handle other transient stuff
 		this.s = new Segment();
+		this.scheduler = new TokenizationScheduler(this);
+		this.tokenListCache = new TokenListCache();
 		final int lineCount = this.getDefaultRootElement().getElementCount();
 		this.lastTokensOnLines = new DynamicIntArray(lineCount);
 		this.setSyntaxStyle(this.syntaxStyle); // Actually install (transient) TokenMaker
 
 	}
 
+	/**
+	 * Gives a token maker created by {@link #createBackgroundTokenMaker()}
+	 * back to the factory, once a background task is done with it. This may be
+	 * called off the EDT.
+	 *
+	 * @param tokenMaker
+	 *            The token maker.
+	 */
+	void releaseBackgroundTokenMaker(final TokenMaker tokenMaker) {
+		this.tokenMakerFactory.releaseTokenMaker(tokenMaker);
+	}
+
+	/**
+	 * Gives the current token maker back to the factory before it is replaced,
+	 * unless it was supplied by the application.
+	 */
+	private void releaseTokenMaker() {
+		if (this.tokenMaker != null && !this.customTokenMaker)
+			this.tokenMakerFactory.releaseTokenMaker(this.tokenMaker);
+	}
+
 	/**
 	 * Makes our private <code>Segment s</code> point to the text in our document
 	 * referenced by the specified element. Note that <code>line</code> MUST be a
@@ -519,6 +1029,21 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 
 	}
 
+	/**
+	 * Sets the length above which lines are tokenized in windows.
+	 *
+	 * @param threshold
+	 *            The threshold, in characters. A value of <code>0</code> or less
+	 *            means lines are always tokenized in full.
+	 * @see #getLongLineThreshold()
+	 */
+	public void setLongLineThreshold(final int threshold) {
+		if (threshold != this.longLineThreshold) {
+			this.longLineThreshold = threshold;
+			this.updateSyntaxHighlightingInformation();
+		}
+	}
+
 	/**
 	 * Sets the syntax style being used for syntax highlighting in this document.
 	 * What styles are supported by a document is determined by its
@@ -534,9 +1059,11 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 	 * @see #getSyntaxStyle()
 	 */
 	public void setSyntaxStyle(final String styleKey) {
+		this.releaseTokenMaker();
 		this.tokenMaker = this.tokenMakerFactory.getTokenMaker(styleKey);
-		this.updateSyntaxHighlightingInformation();
+		this.customTokenMaker = false;
 		this.syntaxStyle = styleKey;
+		this.updateSyntaxHighlightingInformation();
 	}
 
 	/**
@@ -549,9 +1076,11 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 	 * @see #setSyntaxStyle(String)
 	 */
 	public void setSyntaxStyle(final TokenMaker tokenMaker) {
+		this.releaseTokenMaker();
 		this.tokenMaker = tokenMaker;
-		this.updateSyntaxHighlightingInformation();
+		this.customTokenMaker = true;
 		this.syntaxStyle = "text/unknown"; // TODO: Make me public?
+		this.updateSyntaxHighlightingInformation();
 	}
 
 	/**
@@ -569,7 +1098,9 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 	 * Loops through the last-tokens-on-lines array from a specified point onward,
 	 * updating last-token values until they stop changing. This should be called
 	 * when lines are updated/inserted/removed, as doing so may cause lines below to
-	 * change color.
+	 * change color. At most {@link TokenizationScheduler#SYNCHRONOUS_LINES} lines
+	 * are updated here; if values are still changing after that, the rest are
+	 * updated in the background.
 	 *
 	 * @param line
 	 *            The first line to check for a change in last-token value.
@@ -587,14 +1118,12 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 		// line's info, even though there aren't any lines after it that depend
 		// on it changing for them to be changed, as its state may be used
 		// elsewhere in the library.
-		final int end = numLines;
+		final int end = Math.min(numLines, line + TokenizationScheduler.SYNCHRONOUS_LINES);
 		// System.err.println("--- end==" + end + " (numLines==" + numLines + ")");
 		while (line < end) {
 
-			this.setSharedSegment(line); // Sets s's text to that of line 'line' in the document.
-
 			final int oldTokenType = this.lastTokensOnLines.get(line);
-			final int newTokenType = this.tokenMaker.getLastTokenTypeOnLine(this.s, previousTokenType);
+			final int newTokenType = this.computeLastTokenTypeOnLine(line, previousTokenType);
 			// System.err.println("---------------- line " + line + "; oldTokenType==" +
 			// oldTokenType + ", newTokenType==" + newTokenType + ", s=='" + s + "'");
 
@@ -604,6 +1133,7 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 			// end didn't.
 			if (oldTokenType == newTokenType) {
 				// System.err.println("... ... ... repainting lines " + firstLine + "-" + line);
+				this.tokenListCache.removeRange(firstLine, line);
 				this.fireChangedUpdate(new DefaultDocumentEvent(firstLine, line, DocumentEvent.EventType.CHANGE));
 				return line;
 			}
@@ -616,7 +1146,10 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 			previousTokenType = newTokenType;
 			line++;
 
-		} // End of while (line<numLines).
+		} // End of while (line<end).
+
+		if (line < numLines)
+			this.markDirty(line, line);
 
 		// If any lines had their token types changed, fire a changed update
 		// for them. The view will repaint the area covered by the lines.
@@ -624,6 +1157,7 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 		// repainted as the "offset and length" of the change, since this is
 		// what the view needs. We really should send the actual offset and
 		// length.
+		this.tokenListCache.removeRange(firstLine, line);
 		if (line > firstLine)
 			// System.err.println("... ... ... repainting lines " + firstLine + "-" + line);
 			this.fireChangedUpdate(new DefaultDocumentEvent(firstLine, line, DocumentEvent.EventType.CHANGE));
@@ -638,7 +1172,9 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 	 * document's structure has changed.
 	 * <p>
 	 *
-	 * This is called internally whenever the syntax style changes.
+	 * This is called internally whenever the syntax style changes. Only the first
+	 * {@link TokenizationScheduler#SYNCHRONOUS_LINES} lines are tokenized here;
+	 * the rest are tokenized in the background.
 	 */
 	private void updateSyntaxHighlightingInformation() {
 
@@ -647,16 +1183,22 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>, Synta
 		// is the same.
 		final Element map = this.getDefaultRootElement();
 		final int numLines = map.getElementCount();
+		final int syncEnd = Math.min(numLines, TokenizationScheduler.SYNCHRONOUS_LINES);
 		int lastTokenType = TokenTypes.NULL;
-		for (int i = 0; i < numLines; i++) {
-			this.setSharedSegment(i);
-			lastTokenType = this.tokenMaker.getLastTokenTypeOnLine(this.s, lastTokenType);
+		for (int i = 0; i < syncEnd && this.isLastTokenTypeTracked(); i++) {
+			lastTokenType = this.computeLastTokenTypeOnLine(i, lastTokenType);
 			this.lastTokensOnLines.set(i, lastTokenType);
 		}
+		this.scheduler.reset();
+		if (syncEnd < numLines && this.isLastTokenTypeTracked()) {
+			// Values from the previous language are meaningless now.
+			for (int i = syncEnd; i < numLines; i++)
+				this.lastTokensOnLines.set(i, TokenTypes.NULL);
+			this.markDirty(syncEnd, numLines - 1);
+		}
 
 		// Clear our token cache to force re-painting
-		this.lastLine = -1;
-		this.cachedTokenList = null;
+		this.tokenListCache.clear();
 
 		// Let everybody know that syntax styles have (probably) changed.
 		this.fireChangedUpdate(new DefaultDocumentEvent(0, numLines - 1, DocumentEvent.EventType.CHANGE));
@@ -27,10 +27,13 @@ import java.awt.event.ActionListener;
 import java.awt.event.InputEvent;
 import java.awt.event.MouseEvent;
 import java.awt.font.FontRenderContext;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 import java.io.File;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -52,6 +55,7 @@ import javax.swing.text.BadLocationException;
 import javax.swing.text.Document;
 import javax.swing.text.Element;
 import javax.swing.text.Highlighter;
+import javax.swing.text.View;
 
 import org.fife.ui.rsyntaxtextarea.focusabletip.FocusableTip;
 import org.fife.ui.rsyntaxtextarea.folding.DefaultFoldManager;
@@ -416,9 +420,11 @@ public class RSyntaxTextArea extends RTextArea implements SyntaxConstants {
 	public static final String EOL_VISIBLE_PROPERTY = "RSTA.eolMarkersVisible";
 	private static RecordableTextAction expandAllFoldsAction;
 	public static final String FOCUSABLE_TIPS_PROPERTY = "RSTA.focusableTips";
+	public static final String FOLD_TOGGLED_PROPERTY = "RSTA.foldToggled";
 	public static final String FRACTIONAL_FONTMETRICS_PROPERTY = "RSTA.fractionalFontMetrics";
 	public static final String HIGHLIGHT_SECONDARY_LANGUAGES_PROPERTY = "RSTA.highlightSecondaryLanguages";
 	public static final String HYPERLINKS_ENABLED_PROPERTY = "RSTA.hyperlinksEnabled";
+	public static final String LINE_IMAGE_CACHE_PROPERTY = "RSTA.lineImageCache";
 	public static final String MARK_OCCURRENCES_PROPERTY = "RSTA.markOccurrences";
 
 	public static final String MARKED_OCCURRENCES_CHANGED_PROPERTY = "RSTA.markedOccurrencesChanged";
@@ -635,6 +641,11 @@ public class RSyntaxTextArea extends RTextArea implements SyntaxConstants {
 
 	private BracketMatchingTimer bracketRepaintTimer;
 
+	/**
+	 * Character widths of the font of each token type, indexed by type.
+	 */
+	private transient CharWidthTable[] charWidthTables;
+
 	private String cachedTip;
 
 	/** Used to work around an issue with Apple JVMs. */
@@ -701,6 +712,18 @@ public class RSyntaxTextArea extends RTextArea implements SyntaxConstants {
 
 	private int lineHeight; // Height of a line of text; same for default, bold & italic.
 
+	/**
+	 * Rendered lines, or <code>null</code> if lines are always painted from
+	 * their tokens.
+	 */
+	private transient LineImageCache lineImageCache;
+
+	/**
+	 * Clears {@link #lineImageCache} when a property that may change how text
+	 * looks changes.
+	 */
+	private transient PropertyChangeListener lineImageCacheClearer;
+
 	private LinkGenerator linkGenerator;
 
 	private LinkGeneratorResult linkGeneratorResult;
@@ -1268,8 +1291,8 @@ public class RSyntaxTextArea extends RTextArea implements SyntaxConstants {
 
 	/**
 	 * Called whenever a fold is collapsed or expanded. This causes the text editor
-	 * to revalidate. This method is here because of poor design and should be
-	 * removed.
+	 * to revalidate, and fires a {@link #FOLD_TOGGLED_PROPERTY} property change.
+	 * This method is here because of poor design and should be removed.
 	 *
 	 * @param fold
 	 *            The fold that was collapsed or expanded.
@@ -1291,8 +1314,12 @@ public class RSyntaxTextArea extends RTextArea implements SyntaxConstants {
 			});
 		else
 			this.possiblyUpdateCurrentLineHighlightLocation();
+		final View view = this.getUI().getRootView(this).getView(0);
+		if (view instanceof WrappedSyntaxView)
+			((WrappedSyntaxView) view).foldsChanged();
 		this.revalidate();
 		this.repaint();
+		this.firePropertyChange(RSyntaxTextArea.FOLD_TOGGLED_PROPERTY, null, null);
 	}
 
 	/**
@@ -1377,6 +1404,41 @@ public class RSyntaxTextArea extends RTextArea implements SyntaxConstants {
 		return c;
 	}
 
+	/**
+	 * Returns the character widths of the font for tokens of the specified
+	 * type. Token types with the same font metrics share a table.
+	 *
+	 * @param type
+	 *            The type of token.
+	 * @return The character widths, or <code>null</code> if there are no font
+	 *         metrics for that token type.
+	 * @see #getFontMetricsForTokenType(int)
+	 */
+	CharWidthTable getCharWidthTableForTokenType(final int type) {
+		final FontMetrics fm = this.getFontMetricsForTokenType(type);
+		if (fm == null)
+			return null;
+		if (this.charWidthTables == null || type >= this.charWidthTables.length)
+			this.charWidthTables = this.charWidthTables == null
+					? new CharWidthTable[Math.max(type + 1, TokenTypes.DEFAULT_NUM_TOKEN_TYPES)]
+					: Arrays.copyOf(this.charWidthTables, type + 1);
+		CharWidthTable table = this.charWidthTables[type];
+		// Font metrics are replaced, not modified, when fonts or rendering
+		// hints change.
+		if (table == null || table.getFontMetrics() != fm) {
+			table = null;
+			for (final CharWidthTable t : this.charWidthTables)
+				if (t != null && t.getFontMetrics() == fm) {
+					table = t;
+					break;
+				}
+			if (table == null)
+				table = new CharWidthTable(fm);
+			this.charWidthTables[type] = table;
+		}
+		return table;
+	}
+
 	/**
 	 * Returns whether curly braces should be automatically closed when a newline is
 	 * entered after an opening curly brace. Note that this property is only honored
@@ -1599,6 +1661,17 @@ public class RSyntaxTextArea extends RTextArea implements SyntaxConstants {
 		return this.lineHeight;
 	}
 
+	/**
+	 * Returns the cache of rendered lines, e.g. to monitor its hit rate or
+	 * change its budget.
+	 *
+	 * @return The cache, or <code>null</code> if it's disabled.
+	 * @see #setLineImageCacheEnabled(boolean)
+	 */
+	public LineImageCache getLineImageCache() {
+		return this.lineImageCache;
+	}
+
 	public LinkGenerator getLinkGenerator() {
 		return this.linkGenerator;
 	}
@@ -1702,6 +1775,16 @@ public class RSyntaxTextArea extends RTextArea implements SyntaxConstants {
 		return this.match;
 	}
 
+	/**
+	 * Returns the offset of the hyperlink the mouse is over, which is painted
+	 * differently.
+	 *
+	 * @return The offset of the hyperlink, or <code>-1</code> if none.
+	 */
+	int getHoveredOverLinkOffset() {
+		return this.hoveredOverLinkOffset;
+	}
+
 	/**
 	 * Overridden to return the max ascent for any font used in the editor.
 	 *
@@ -2228,6 +2311,16 @@ public class RSyntaxTextArea extends RTextArea implements SyntaxConstants {
 		return this.foldManager.isCodeFoldingEnabled();
 	}
 
+	/**
+	 * Returns whether rendered lines are cached as images.
+	 *
+	 * @return Whether rendered lines are cached.
+	 * @see #setLineImageCacheEnabled(boolean)
+	 */
+	public boolean isLineImageCacheEnabled() {
+		return this.lineImageCache != null;
+	}
+
 	/**
 	 * Returns whether whitespace (spaces and tabs) is visible.
 	 *
@@ -2305,6 +2398,11 @@ public class RSyntaxTextArea extends RTextArea implements SyntaxConstants {
 			// longest line information.
 			final SyntaxView sv = (SyntaxView) this.getUI().getRootView(this).getView(0);
 			sv.calculateLongestLine();
+		} else {
+			// Wrapped lines were measured with the old metrics.
+			final View view = this.getUI().getRootView(this).getView(0);
+			if (view instanceof WrappedSyntaxView)
+				((WrappedSyntaxView) view).fontMetricsChanged();
 		}
 	}
 
@@ -2790,6 +2888,49 @@ public class RSyntaxTextArea extends RTextArea implements SyntaxConstants {
 		}
 	}
 
+	/**
+	 * Sets whether rendered lines are cached as images, so repainting them
+	 * doesn't mean tokenizing and drawing their text again. This makes
+	 * repainting lines that haven't changed, e.g. when brackets are matched or
+	 * occurrences marked, cheaper, at the cost of memory and of painting lines
+	 * seen for the first time, e.g. while scrolling, taking longer. Lines with
+	 * a selection, long lines, and text areas painted with a scaling transform,
+	 * such as when printing, or with sub-pixel anti-aliased text, are always
+	 * drawn directly. This
+	 * method fires a property change event of type
+	 * {@link #LINE_IMAGE_CACHE_PROPERTY}.
+	 *
+	 * @param enabled
+	 *            Whether to cache rendered lines. This is off by default.
+	 * @see #isLineImageCacheEnabled()
+	 * @see #getLineImageCache()
+	 */
+	public void setLineImageCacheEnabled(final boolean enabled) {
+		if (enabled == this.isLineImageCacheEnabled())
+			return;
+		if (enabled) {
+			this.lineImageCache = new LineImageCache();
+			this.lineImageCacheClearer = new PropertyChangeListener() {
+				@Override
+				public void propertyChange(final PropertyChangeEvent e) {
+					final String name = e.getPropertyName();
+					// Highlights aren't part of the images.
+					if (!RSyntaxTextArea.MARKED_OCCURRENCES_CHANGED_PROPERTY.equals(name)
+							&& !RSyntaxTextArea.PARSER_NOTICES_PROPERTY.equals(name)
+							&& !RTextArea.MARK_ALL_OCCURRENCES_CHANGED_PROPERTY.equals(name))
+						RSyntaxTextArea.this.lineImageCache.clear();
+				}
+			};
+			this.addPropertyChangeListener(this.lineImageCacheClearer);
+		} else {
+			this.removePropertyChangeListener(this.lineImageCacheClearer);
+			this.lineImageCacheClearer = null;
+			this.lineImageCache = null;
+		}
+		this.repaint();
+		this.firePropertyChange(RSyntaxTextArea.LINE_IMAGE_CACHE_PROPERTY, !enabled, enabled);
+	}
+
 	public void setLinkGenerator(final LinkGenerator generator) {
 		this.linkGenerator = generator;
 	}
@@ -452,6 +452,9 @@ public final class RSyntaxUtilities implements SwingConstants {
 			boolean goForward;
 			final Element map = doc.getDefaultRootElement();
 			int curLine = map.getElementIndex(caretPosition);
+			// Only the start of a long line is highlighted.
+			if (doc.isLongLine(curLine))
+				return input;
 			Element line = map.getElement(curLine);
 			int start = line.getStartOffset();
 			int end = line.getEndOffset();
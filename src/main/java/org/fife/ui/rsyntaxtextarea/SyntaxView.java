@@ -17,12 +17,14 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.Shape;
+import java.awt.image.BufferedImage;
 
 import javax.swing.event.DocumentEvent;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.Element;
 import javax.swing.text.PlainDocument;
 import javax.swing.text.Position;
+import javax.swing.text.Segment;
 import javax.swing.text.TabExpander;
 import javax.swing.text.View;
 import javax.swing.text.ViewFactory;
@@ -50,6 +52,11 @@ import org.fife.ui.rsyntaxtextarea.folding.FoldManager;
  */
 public class SyntaxView extends View implements TabExpander, TokenOrientedView, RSTAView {
 
+	/**
+	 * Lines wider than this, in pixels, aren't cached as images.
+	 */
+	private static final int MAX_LINE_IMAGE_WIDTH = 4096;
+
 	private int ascent;
 
 	private int clipEnd;
@@ -82,6 +89,12 @@ public class SyntaxView extends View implements TabExpander, TokenOrientedView,
 	 * Font metrics for the current font.
 	 */
 	private FontMetrics metrics;
+
+	/**
+	 * The text of the line being looked up in the line image cache.
+	 */
+	private final Segment lineText;
+
 	private int tabBase;
 	private int tabSize;
 
@@ -92,6 +105,18 @@ public class SyntaxView extends View implements TabExpander, TokenOrientedView,
 	 */
 	private final TokenImpl tempToken;
 
+	/**
+	 * Positioned over the token being painted when painting from a
+	 * {@link TokenStream}.
+	 */
+	private final TokenImpl streamToken;
+
+	/**
+	 * Positioned over the token after {@link #streamToken}, so painters can tell
+	 * whether it's the last one on the line.
+	 */
+	private final TokenImpl streamNextToken;
+
 	/**
 	 * Constructs a new <code>SyntaxView</code> wrapped around an element.
 	 *
@@ -100,7 +125,10 @@ public class SyntaxView extends View implements TabExpander, TokenOrientedView,
 	 */
 	public SyntaxView(final Element elem) {
 		super(elem);
+		this.lineText = new Segment();
 		this.tempToken = new TokenImpl();
+		this.streamToken = new TokenImpl();
+		this.streamNextToken = new TokenImpl();
 	}
 
 	/**
@@ -116,6 +144,13 @@ public class SyntaxView extends View implements TabExpander, TokenOrientedView,
 		this.metrics = c.getFontMetrics(this.font);
 		this.tabSize = this.getTabSize() * this.metrics.charWidth(' ');
 		final Element lines = this.getElement();
+		if (this.getDocument() instanceof MappedSyntaxDocument) {
+			// Too many lines to measure; go with the one with the most chars.
+			final int longest = ((MappedSyntaxDocument) this.getDocument()).getLongestLine();
+			this.longLine = lines.getElement(longest);
+			this.longLineWidth = this.getLineWidth(longest);
+			return;
+		}
 		final int n = lines.getElementCount();
 		for (int i = 0; i < n; i++) {
 			final Element line = lines.getElement(i);
@@ -171,14 +206,16 @@ public class SyntaxView extends View implements TabExpander, TokenOrientedView,
 	}
 
 	/**
-	 * Draws the passed-in text using syntax highlighting for the current language.
-	 * It is assumed that the entire line is either not in a selected region, or
-	 * painting with a selection-foreground color is turned off.
+	 * Draws the passed-in tokens using syntax highlighting for the current
+	 * language. It is assumed that the entire line is either not in a selected
+	 * region, or painting with a selection-foreground color is turned off. The
+	 * tokens are read straight from the stream's arrays; no token list is
+	 * created.
 	 *
 	 * @param painter
 	 *            The painter to render the tokens.
-	 * @param token
-	 *            The list of tokens to draw.
+	 * @param stream
+	 *            The tokens to draw.
 	 * @param g
 	 *            The graphics context in which to draw.
 	 * @param x
@@ -187,16 +224,20 @@ public class SyntaxView extends View implements TabExpander, TokenOrientedView,
 	 *            The y-coordinate at which to draw.
 	 * @return The x-coordinate representing the end of the painted text.
 	 */
-	private float drawLine(final TokenPainter painter, Token token, final Graphics2D g, final float x, final float y,
-			final int line) {
+	private float drawLine(final TokenPainter painter, final TokenStream stream, final Graphics2D g, final float x,
+			final float y, final int line) {
 
 		float nextX = x; // The x-value at the end of our text.
 		final boolean paintBG = this.host.getPaintTokenBackgrounds(line, y);
 
-		while (token != null && token.isPaintable() && nextX < this.clipEnd) {
-			nextX = painter.paint(token, g, nextX, y, this.host, this, this.clipStart, paintBG);
-			token = token.getNextToken();
+		final int count = stream.getCount();
+		for (int i = 0; i < count && stream.isPaintable(i) && nextX < this.clipEnd; i++) {
+			stream.getToken(i, this.streamToken);
+			if (i + 1 < count)
+				this.streamToken.setNextToken(stream.getToken(i + 1, this.streamNextToken));
+			nextX = painter.paint(this.streamToken, g, nextX, y, this.host, this, this.clipStart, paintBG);
 		}
+		painter.flush();
 
 		// NOTE: We should re-use code from Token (paintBackground()) here,
 		// but don't because I'm just too lazy.
@@ -211,6 +252,89 @@ public class SyntaxView extends View implements TabExpander, TokenOrientedView,
 
 	}
 
+	/**
+	 * Draws a line from the text area's line image cache, rendering it into the
+	 * cache first if it isn't there.
+	 *
+	 * @param painter
+	 *            The painter to render the tokens.
+	 * @param cache
+	 *            The cache.
+	 * @param g
+	 *            The graphics context in which to draw.
+	 * @param x
+	 *            The x-coordinate at which to draw.
+	 * @param y
+	 *            The y-coordinate at which to draw.
+	 * @param line
+	 *            The line to draw.
+	 * @param startOffset
+	 *            The start offset of the line.
+	 * @param endOffset
+	 *            The end offset of the line, excluding its newline.
+	 * @return Whether the line was drawn. Lines that currently look different
+	 *         than usual, those with a matched bracket or the hyperlink being
+	 *         hovered over, aren't, and should be drawn directly.
+	 */
+	private boolean drawCachedLine(final TokenPainter painter, final LineImageCache cache, final Graphics2D g,
+			final int x, final int y, final int line, final int startOffset, final int endOffset) {
+
+		final int top = y - this.ascent;
+		final Rectangle match = this.host.getMatchRectangle();
+		if (match != null && match.y < top + this.lineHeight && match.y + match.height > top)
+			return false;
+		final int link = this.host.getHoveredOverLinkOffset();
+		if (link >= startOffset && link <= endOffset)
+			return false;
+
+		final RSyntaxDocument doc = (RSyntaxDocument) this.getDocument();
+		final int initialTokenType = line == 0 ? TokenTypes.NULL : doc.getLastTokenTypeOnLine(line - 1);
+		final boolean paintBG = this.host.getPaintTokenBackgrounds(line, y);
+		try {
+			doc.getText(startOffset, endOffset - startOffset, this.lineText);
+		} catch (final BadLocationException ble) {
+			ble.printStackTrace();
+			return false;
+		}
+		BufferedImage image = cache.get(this.lineText, initialTokenType, paintBG, x, top & 1);
+
+		if (image == null) {
+			final TokenStream stream = doc.getTokenStreamForLine(line);
+			float width = 0;
+			final int count = stream.getCount();
+			for (int i = 0; i < count && stream.isPaintable(i); i++)
+				width += stream.getToken(i, this.streamToken).getWidth(this.host, this, x + width);
+			if (this.host.getEOLMarkersVisible())
+				width += this.metrics.charWidth('\u00B6');
+			// Leave room for italic glyphs that overhang their advance.
+			final int imageWidth = (int) Math.ceil(width) + this.metrics.charWidth('m');
+			if (imageWidth > SyntaxView.MAX_LINE_IMAGE_WIDTH) {
+				this.drawLine(painter, stream, g, x, y, line);
+				return true;
+			}
+			image = new BufferedImage(imageWidth, this.lineHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+			final Graphics2D ig = image.createGraphics();
+			final int clipStart = this.clipStart;
+			final int clipEnd = this.clipEnd;
+			try {
+				ig.setRenderingHints(g.getRenderingHints());
+				ig.translate(-x, -top);
+				this.clipStart = x;
+				this.clipEnd = x + imageWidth;
+				this.drawLine(painter, stream, ig, x, y, line);
+			} finally {
+				this.clipStart = clipStart;
+				this.clipEnd = clipEnd;
+				ig.dispose();
+			}
+			cache.put(this.lineText, initialTokenType, paintBG, x, top & 1, image);
+		}
+
+		g.drawImage(image, x, top, null);
+		return true;
+
+	}
+
 	/**
 	 * Draws the passed-in text using syntax highlighting for the current language.
 	 * Tokens are checked for being in a selected region, and are rendered
@@ -290,6 +414,7 @@ public class SyntaxView extends View implements TabExpander, TokenOrientedView,
 			token = token.getNextToken();
 
 		}
+		painter.flush();
 
 		// NOTE: We should re-use code from Token (paintBackground()) here,
 		// but don't because I'm just too lazy.
@@ -314,10 +439,31 @@ public class SyntaxView extends View implements TabExpander, TokenOrientedView,
 	 * @return The width of the line.
 	 */
 	private float getLineWidth(final int lineNumber) {
-		final Token tokenList = ((RSyntaxDocument) this.getDocument()).getTokenListForLine(lineNumber);
+		final RSyntaxDocument doc = (RSyntaxDocument) this.getDocument();
+		if (doc.isLongLine(lineNumber)) {
+			// Measuring a long line would mean tokenizing all of it
+			final Element line = doc.getDefaultRootElement().getElement(lineNumber);
+			return (line.getEndOffset() - 1 - line.getStartOffset()) * (float) this.getLongLineCharWidth();
+		}
+		final Token tokenList = doc.getTokenListForLine(lineNumber);
 		return RSyntaxUtilities.getTokenListWidth(tokenList, (RSyntaxTextArea) this.getContainer(), this);
 	}
 
+	/**
+	 * Returns the width of a character on long lines, which are laid out as if
+	 * the font were monospaced, as they're never measured in full.
+	 *
+	 * @return The width of a character.
+	 * @see RSyntaxDocument#isLongLine(int)
+	 */
+	private int getLongLineCharWidth() {
+		if (this.metrics == null) {
+			final Component c = this.getContainer();
+			this.metrics = c.getFontMetrics(c.getFont());
+		}
+		return Math.max(1, this.metrics.charWidth('m'));
+	}
+
 	/**
 	 * Provides a way to determine the next visually represented model location that
 	 * one might place a caret. Some views may not be visible, they might not be in
@@ -622,10 +768,17 @@ public class SyntaxView extends View implements TabExpander, TokenOrientedView,
 		final Element map = this.getElement();
 		final RSyntaxDocument doc = (RSyntaxDocument) this.getDocument();
 		final int lineIndex = map.getElementIndex(pos);
-		final Token tokenList = doc.getTokenListForLine(lineIndex);
 		Rectangle lineArea = this.lineToRect(a, lineIndex);
 		this.tabBase = lineArea.x; // Used by listOffsetToView().
 
+		if (doc.isLongLine(lineIndex)) {
+			final int charWidth = this.getLongLineCharWidth();
+			lineArea.x += (pos - map.getElement(lineIndex).getStartOffset()) * charWidth;
+			lineArea.width = charWidth;
+			return lineArea;
+		}
+		final Token tokenList = doc.getTokenListForLine(lineIndex);
+
 		// int x = (int)RSyntaxUtilities.getTokenListWidthUpTo(tokenList,
 		// (RSyntaxTextArea)getContainer(),
 		// this, 0, pos);
@@ -703,10 +856,10 @@ public class SyntaxView extends View implements TabExpander, TokenOrientedView,
 		final RSyntaxTextAreaHighlighter h = (RSyntaxTextAreaHighlighter) this.host.getHighlighter();
 
 		final Graphics2D g2d = (Graphics2D) g;
-		Token token;
 		// System.err.println("Painting lines: " + linesAbove + " to " + (endLine-1));
 
 		final TokenPainter painter = this.host.getTokenPainter();
+		final LineImageCache imageCache = LineImageCache.canCache(g2d) ? this.host.getLineImageCache() : null;
 		int line = linesAbove;
 		// int count = 0;
 		while (y < clip.y + clip.height + this.ascent && line < lineCount) {
@@ -719,13 +872,27 @@ public class SyntaxView extends View implements TabExpander, TokenOrientedView,
 			final int endOffset = lineElement.getEndOffset() - 1; // Why always "-1"?
 			h.paintLayeredHighlights(g2d, startOffset, endOffset, a, this.host, this);
 
-			// Paint a line of text.
-			token = document.getTokenListForLine(line);
-			if (selStart == selEnd || startOffset >= selEnd || endOffset < selStart)
-				this.drawLine(painter, token, g2d, x, y, line);
-			else
+			// Paint a line of text. Only the visible part of long lines is
+			// tokenized.
+			if (document.isLongLine(line)) {
+				final int charWidth = this.getLongLineCharWidth();
+				final int visibleStart = startOffset + Math.max(0, (this.clipStart - x) / charWidth);
+				final int visibleEnd = startOffset + Math.max(0, (this.clipEnd - x) / charWidth + 1);
+				final TokenStream stream = document.getTokenStreamForRange(line, visibleStart, visibleEnd);
+				final float streamX = x + Math.max(0, stream.getOffset(0) - startOffset) * (float) charWidth;
+				if (selStart == selEnd || startOffset >= selEnd || endOffset < selStart)
+					this.drawLine(painter, stream, g2d, streamX, y, line);
+				else
+					this.drawLineWithSelection(painter, stream.toTokenList(), g2d, streamX, y, selStart, selEnd);
+			} else if (selStart == selEnd || startOffset >= selEnd || endOffset < selStart) {
+				if (imageCache == null
+						|| !this.drawCachedLine(painter, imageCache, g2d, x, y, line, startOffset, endOffset))
+					this.drawLine(painter, document.getTokenStreamForLine(line), g2d, x, y, line);
+			} else {
 				// System.out.println("Drawing line with selection: " + line);
+				final Token token = document.getTokenListForLine(line);
 				this.drawLineWithSelection(painter, token, g2d, x, y, selStart, selEnd);
+			}
 
 			if (fold != null && fold.isCollapsed()) {
 
@@ -933,6 +1100,11 @@ public class SyntaxView extends View implements TabExpander, TokenOrientedView,
 			else {
 				// Determine the offset into the text
 				final int p0 = line.getStartOffset();
+				if (doc.isLongLine(lineIndex)) {
+					final int charWidth = this.getLongLineCharWidth();
+					final int column = (x - alloc.x + charWidth / 2) / charWidth;
+					return p0 + Math.min(column, line.getEndOffset() - 1 - p0);
+				}
 				final Token tokenList = doc.getTokenListForLine(lineIndex);
 				this.tabBase = alloc.x;
 				final int offs = tokenList.getListOffset((RSyntaxTextArea) this.getContainer(), this, this.tabBase, x);
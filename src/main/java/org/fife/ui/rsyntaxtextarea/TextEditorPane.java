@@ -23,11 +23,16 @@ import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
 import javax.swing.text.DefaultEditorKit;
 import javax.swing.text.Document;
+import javax.swing.text.Segment;
 
 import org.fife.io.UnicodeReader;
 import org.fife.io.UnicodeWriter;
+import org.fife.ui.rtextarea.CompactContent;
+import org.fife.ui.rtextarea.PieceTableContent;
+import org.fife.ui.rtextarea.RContent;
 import org.fife.ui.rtextarea.RTextArea;
 
 /**
@@ -61,6 +66,34 @@ import org.fife.ui.rtextarea.RTextArea;
  */
 public class TextEditorPane extends RSyntaxTextArea implements DocumentListener {
 
+	/**
+	 * Content type storing text in a single gap buffer, using one byte per
+	 * character while the text is Latin-1. This is the default, and is best
+	 * suited to small and medium-sized files.
+	 *
+	 * @see #setContentType(int)
+	 * @see CompactContent
+	 */
+	public static final int CONTENT_GAP_BUFFER = 0;
+
+	/**
+	 * Content type storing text in a piece table. Edits anywhere in the document
+	 * are <code>O(log n)</code>, which makes this better suited to very large
+	 * files.
+	 *
+	 * @see #setContentType(int)
+	 * @see PieceTableContent
+	 */
+	public static final int CONTENT_PIECE_TABLE = 1;
+
+	/**
+	 * Property change event fired when the kind of content backing the document
+	 * changes.
+	 *
+	 * @see #setContentType(int)
+	 */
+	public static final String CONTENT_TYPE_PROPERTY = "TextEditorPane.contentType";
+
 	/**
 	 * The default name given to files if none is specified in a constructor.
 	 */
@@ -150,6 +183,11 @@ public class TextEditorPane extends RSyntaxTextArea implements DocumentListener
 	 */
 	private String charSet;
 
+	/**
+	 * The kind of content backing the document.
+	 */
+	private int contentType;
+
 	/**
 	 * Whether the file is dirty.
 	 */
@@ -265,6 +303,17 @@ public class TextEditorPane extends RSyntaxTextArea implements DocumentListener
 	public void changedUpdate(final DocumentEvent e) {
 	}
 
+	/**
+	 * Returns the kind of content backing this editor's document.
+	 *
+	 * @return The content type, such as {@link #CONTENT_GAP_BUFFER} or
+	 *         {@link #CONTENT_PIECE_TABLE}.
+	 * @see #setContentType(int)
+	 */
+	public int getContentType() {
+		return this.contentType;
+	}
+
 	/**
 	 * Returns the encoding to use when reading or writing this file.
 	 *
@@ -497,6 +546,58 @@ public class TextEditorPane extends RSyntaxTextArea implements DocumentListener
 
 	}
 
+	/**
+	 * Opens a local file for viewing only, without loading it into memory. The
+	 * file is memory-mapped and decoded lazily, so very large files (such as
+	 * logs of several gigabytes) can be viewed, searched and highlighted with
+	 * roughly constant heap usage. This method fires a property change event of
+	 * type {@link #FULL_PATH_PROPERTY}.
+	 * <p>
+	 *
+	 * The editor is made read-only, and features that need to look at the entire
+	 * document (line wrap, code folding, bracket matching and mark occurrences)
+	 * are disabled. Mapping and indexing the file can take a while for large
+	 * files, so consider creating the {@link MappedSyntaxDocument} on a
+	 * background thread and passing it to {@link #setDocument(Document)}
+	 * instead.
+	 *
+	 * @param loc
+	 *            The location of the file to view. This must be an existing
+	 *            local file.
+	 * @param defaultEnc
+	 *            The encoding of the file, if it is not Unicode. This must be
+	 *            UTF-8 or a single-byte encoding. If this is <code>null</code>,
+	 *            UTF-8 is used.
+	 * @throws IOException
+	 *             If an IO error occurs, or if the file is not local or cannot
+	 *             be mapped.
+	 * @see #load(FileLocation, String)
+	 * @see MappedSyntaxDocument
+	 */
+	public void loadMapped(final FileLocation loc, final String defaultEnc) throws IOException {
+
+		if (!loc.isLocalAndExists())
+			throw new IOException("Only existing local files can be memory-mapped: " + loc.getFileFullPath());
+		final MappedSyntaxDocument doc = new MappedSyntaxDocument(new File(loc.getFileFullPath()),
+				defaultEnc != null ? Charset.forName(defaultEnc) : null, this.getSyntaxEditingStyle());
+
+		this.setLineWrap(false);
+		this.setCodeFoldingEnabled(false);
+		this.setBracketMatchingEnabled(false);
+		this.setMarkOccurrences(false);
+		this.setEditable(false);
+		this.setReadOnly(true);
+		this.setDocument(doc);
+
+		this.charSet = doc.getEncoding().name();
+		final String old = this.getFileFullPath();
+		this.loc = loc;
+		this.setDirty(false);
+		this.setCaretPosition(0);
+		this.firePropertyChange(TextEditorPane.FULL_PATH_PROPERTY, old, this.getFileFullPath());
+
+	}
+
 	/**
 	 * Reloads this file from disk. The file must exist for this operation to not
 	 * throw an exception.
@@ -602,6 +703,67 @@ public class TextEditorPane extends RSyntaxTextArea implements DocumentListener
 		}
 	}
 
+	/**
+	 * Sets the kind of content backing this editor's document. The current text,
+	 * syntax style and line separator are moved to a new document backed by the
+	 * requested content; undo history is discarded. This fires a property change
+	 * event of type {@link #CONTENT_TYPE_PROPERTY}.
+	 * <p>
+	 *
+	 * This is best called before loading a file, to avoid the copy.
+	 *
+	 * @param type
+	 *            The content type, either {@link #CONTENT_GAP_BUFFER} or
+	 *            {@link #CONTENT_PIECE_TABLE}.
+	 * @throws IllegalArgumentException
+	 *             If <code>type</code> is invalid.
+	 * @see #getContentType()
+	 */
+	public void setContentType(final int type) {
+		final RContent content;
+		switch (type) {
+		case CONTENT_GAP_BUFFER:
+			content = null;
+			break;
+		case CONTENT_PIECE_TABLE:
+			content = new PieceTableContent();
+			break;
+		default:
+			throw new IllegalArgumentException("Invalid content type: " + type);
+		}
+		if (type == this.contentType)
+			return;
+
+		final RSyntaxDocument old = (RSyntaxDocument) this.getDocument();
+		final RSyntaxDocument doc = new RSyntaxDocument(old.getTokenMakerFactory(), old.getSyntaxStyle(), content);
+		doc.putProperty(DefaultEditorKit.EndOfLineStringProperty,
+				old.getProperty(DefaultEditorKit.EndOfLineStringProperty));
+		try {
+			// Copy in pieces so we never need the entire text as one String.
+			final Segment seg = new Segment();
+			seg.setPartialReturn(true);
+			int offs = 0;
+			final int len = old.getLength();
+			while (offs < len) {
+				old.getText(offs, len - offs, seg);
+				doc.insertString(offs, seg.toString(), null);
+				offs += seg.count;
+			}
+		} catch (final BadLocationException ble) { // Never happens
+			ble.printStackTrace();
+		}
+
+		final int caret = this.getCaretPosition();
+		final boolean wasDirty = this.dirty;
+		this.setDocument(doc);
+		this.setCaretPosition(Math.min(caret, doc.getLength()));
+		this.discardAllEdits();
+		this.setDirty(wasDirty);
+		final int oldType = this.contentType;
+		this.contentType = type;
+		this.firePropertyChange(TextEditorPane.CONTENT_TYPE_PROPERTY, oldType, type);
+	}
+
 	/**
 	 * Sets whether or not this text in this editor has unsaved changes. This fires
 	 * a property change event of type {@link #DIRTY_PROPERTY}.
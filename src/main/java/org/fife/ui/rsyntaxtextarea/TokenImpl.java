@@ -426,14 +426,14 @@ public class TokenImpl implements Token {
 		float stableX = x0; // Cached ending x-coord. of last tab or token.
 		TokenImpl token = this;
 		int last = this.getOffset();
-		FontMetrics fm = null;
 
 		while (token != null && token.isPaintable()) {
 
-			fm = textArea.getFontMetricsForTokenType(token.getType());
+			final CharWidthTable widths = textArea.getCharWidthTableForTokenType(token.getType());
 			final char[] text = token.text;
 			int start = token.textOffset;
 			final int end = start + token.textCount;
+			int runWidth = 0; // Width since stableX, or -1 if it can't be summed.
 
 			for (int i = start; i < end; i++) {
 				currX = nextX;
@@ -441,8 +441,17 @@ public class TokenImpl implements Token {
 					nextX = e.nextTabStop(nextX, 0);
 					stableX = nextX; // Cache ending x-coord. of tab.
 					start = i + 1; // Do charsWidth() from next char.
-				} else
-					nextX = stableX + fm.charsWidth(text, start, i - start + 1);
+					runWidth = 0;
+				} else {
+					final int w = runWidth >= 0 ? widths.simpleCharWidth(text[i]) : -1;
+					if (w >= 0) {
+						runWidth += w;
+						nextX = stableX + runWidth;
+					} else {
+						runWidth = -1;
+						nextX = stableX + widths.charsWidth(text, start, i - start + 1);
+					}
+				}
 				if (x >= currX && x < nextX) {
 					if (x - currX < nextX - x)
 						return last + i - token.textOffset;
@@ -475,7 +484,7 @@ public class TokenImpl implements Token {
 	public int getOffsetBeforeX(final RSyntaxTextArea textArea, final TabExpander e, final float startX,
 			final float endBeforeX) {
 
-		final FontMetrics fm = textArea.getFontMetricsForTokenType(this.getType());
+		final CharWidthTable widths = textArea.getCharWidthTableForTokenType(this.getType());
 		int i = this.textOffset;
 		final int stop = i + this.textCount;
 		float x = startX;
@@ -484,7 +493,7 @@ public class TokenImpl implements Token {
 			if (this.text[i] == '\t')
 				x = e.nextTabStop(x, 0);
 			else
-				x += fm.charWidth(this.text[i]);
+				x += widths.charWidth(this.text[i]);
 			if (x > endBeforeX) {
 				// If not even the first character fits into the space, go
 				// ahead and say the first char does fit so we don't go into
@@ -523,8 +532,8 @@ public class TokenImpl implements Token {
 	@Override
 	public float getWidthUpTo(final int numChars, final RSyntaxTextArea textArea, final TabExpander e, final float x0) {
 		float width = x0;
-		final FontMetrics fm = textArea.getFontMetricsForTokenType(this.getType());
-		if (fm != null) {
+		final CharWidthTable widths = textArea.getCharWidthTableForTokenType(this.getType());
+		if (widths != null) {
 			int w;
 			int currentStart = this.textOffset;
 			final int endBefore = this.textOffset + numChars;
@@ -536,7 +545,7 @@ public class TokenImpl implements Token {
 					// for here, so we check before calling.
 					w = i - currentStart;
 					if (w > 0)
-						width += fm.charsWidth(this.text, currentStart, w);
+						width += widths.charsWidth(this.text, currentStart, w);
 					currentStart = i + 1;
 					width = e.nextTabStop(width, 0);
 				}
@@ -544,7 +553,7 @@ public class TokenImpl implements Token {
 			// point to get the widths for, so we don't check for w>0 (mini-
 			// optimization).
 			w = endBefore - currentStart;
-			width += fm.charsWidth(this.text, currentStart, w);
+			width += widths.charsWidth(this.text, currentStart, w);
 		}
 		return width - x0;
 	}
@@ -648,6 +657,7 @@ public class TokenImpl implements Token {
 		while (token != null && token.isPaintable()) {
 
 			fm = textArea.getFontMetricsForTokenType(token.getType());
+			final CharWidthTable widths = textArea.getCharWidthTableForTokenType(token.getType());
 			if (fm == null)
 				return rect; // Don't return null as things'll error.
 			final char[] text = token.text;
@@ -664,15 +674,17 @@ public class TokenImpl implements Token {
 
 				// Must use this (actually fm.charWidth()), and not
 				// fm.charsWidth() for returned value to match up with where
-				// text is actually painted on OS X!
-				final int w = Utilities.getTabbedTextWidth(s, fm, stableX, e, token.getOffset());
+				// text is actually painted on OS X! Without fractional
+				// metrics, the two are the same.
+				final int w = widths.isSummable() ? (int) token.getWidthUpTo(s.count, textArea, e, stableX)
+						: Utilities.getTabbedTextWidth(s, fm, stableX, e, token.getOffset());
 				rect.x = stableX + w;
 				end = token.documentToToken(pos);
 
 				if (text[end] == '\t')
-					rect.width = fm.charWidth(' ');
+					rect.width = widths.charWidth(' ');
 				else
-					rect.width = fm.charWidth(text[end]);
+					rect.width = widths.charWidth(text[end]);
 
 				return rect;
 
@@ -684,7 +696,8 @@ public class TokenImpl implements Token {
 				s.array = token.text;
 				s.offset = token.textOffset;
 				s.count = token.textCount;
-				stableX += Utilities.getTabbedTextWidth(s, fm, stableX, e, token.getOffset());
+				stableX += widths.isSummable() ? (int) token.getWidth(textArea, e, stableX)
+						: Utilities.getTabbedTextWidth(s, fm, stableX, e, token.getOffset());
 			}
 
 			token = (TokenImpl) token.getNextToken();
@@ -0,0 +1,376 @@
+/*
+ * 10/17/2026
+ *
+ * TokenListCache.java - A bounded LRU cache of the token lists of an
+ * RSyntaxDocument's lines.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the tokens of recently requested lines of an {@link RSyntaxDocument},
+ * so that painting, bracket matching, mark occurrences and friends don't
+ * re-tokenize the same lines many times over.
+ * <p>
+ *
+ * A <code>TokenMaker</code> reuses its tokens on every call, and tokens may
+ * point directly into the document's buffer, so each line is cached as a
+ * compact copy of its {@link TokenStream}, with its own text. A linked list of
+ * tokens over the copy is only created if a caller asks for one. Entries are
+ * evicted least-recently-used first once their estimated size exceeds a byte
+ * budget, which can be lowered when the heap is running low.
+ * <p>
+ *
+ * The document keeps entries valid precisely: an edit drops only the lines it
+ * touched and those whose starting state changed, and lines below an edit are
+ * renumbered rather than discarded. Their token offsets are adjusted lazily,
+ * the next time they're returned.
+ *
+ * @version 1.0
+ * @see RSyntaxDocument#getTokenListCache()
+ */
+public final class TokenListCache {
+
+	/**
+	 * The cached tokens of a line.
+	 */
+	private static final class Entry {
+
+		private int bytes;
+
+		/**
+		 * A linked list over {@link #stream}, or <code>null</code> if none has
+		 * been asked for.
+		 */
+		private Token list;
+
+		/**
+		 * The document offset of the line when it was tokenized, or last
+		 * returned.
+		 */
+		private int startOffset;
+
+		private final TokenStream stream;
+
+		private Entry(final TokenStream stream, final int startOffset) {
+			this.stream = stream;
+			this.startOffset = startOffset;
+			this.bytes = TokenListCache.ENTRY_FOOTPRINT + stream.getEstimatedFootprint();
+		}
+
+	}
+
+	/**
+	 * The default byte budget of a document's cache.
+	 */
+	public static final int DEFAULT_BUDGET = 2 * 1024 * 1024;
+
+	/**
+	 * Approximate heap cost of a cache entry itself, in bytes.
+	 */
+	private static final int ENTRY_FOOTPRINT = 64;
+
+	private int budget;
+
+	private int bytes;
+
+	private LinkedHashMap<Integer, Entry> entries;
+
+	private long hits;
+
+	private long misses;
+
+	TokenListCache() {
+		this.budget = TokenListCache.DEFAULT_BUDGET;
+		this.entries = new LinkedHashMap<>(64, 0.75f, true);
+	}
+
+	/**
+	 * Discards all cached token lists.
+	 */
+	void clear() {
+		this.entries.clear();
+		this.bytes = 0;
+	}
+
+	/**
+	 * Returns a cached entry, bringing its offsets up to date.
+	 */
+	private Entry get(final int line, final int startOffset) {
+		final Entry entry = this.entries.get(line);
+		if (entry == null) {
+			this.misses++;
+			return null;
+		}
+		this.hits++;
+		final int delta = startOffset - entry.startOffset;
+		if (delta != 0) {
+			entry.stream.shiftOffsets(delta);
+			if (entry.list != null)
+				entry.list = entry.stream.toTokenList();
+			entry.startOffset = startOffset;
+		}
+		return entry;
+	}
+
+	/**
+	 * Returns a cached line as a linked list of tokens.
+	 *
+	 * @param line
+	 *            The line.
+	 * @param startOffset
+	 *            The line's current offset in the document.
+	 * @return The token list, or <code>null</code> if it isn't cached.
+	 */
+	Token getList(final int line, final int startOffset) {
+		final Entry entry = this.get(line, startOffset);
+		return entry == null ? null : this.list(entry);
+	}
+
+	/**
+	 * Returns a cached line's tokens.
+	 *
+	 * @param line
+	 *            The line.
+	 * @param startOffset
+	 *            The line's current offset in the document.
+	 * @return The tokens, or <code>null</code> if they aren't cached.
+	 */
+	TokenStream getStream(final int line, final int startOffset) {
+		final Entry entry = this.get(line, startOffset);
+		return entry == null ? null : entry.stream;
+	}
+
+	/**
+	 * Returns the maximum estimated size of the cached token lists.
+	 *
+	 * @return The budget, in bytes.
+	 * @see #setBudget(int)
+	 */
+	public int getBudget() {
+		return this.budget;
+	}
+
+	/**
+	 * Returns the estimated size of the cached token lists.
+	 *
+	 * @return The size, in bytes.
+	 */
+	public int getBytes() {
+		return this.bytes;
+	}
+
+	/**
+	 * Returns the number of lines whose token lists are cached.
+	 *
+	 * @return The number of cached lines.
+	 */
+	public int getEntryCount() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Returns the number of token list requests answered from the cache.
+	 *
+	 * @return The number of hits.
+	 * @see #getMisses()
+	 */
+	public long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * Returns the number of token list requests that needed tokenizing.
+	 *
+	 * @return The number of misses.
+	 * @see #getHits()
+	 */
+	public long getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * Updates the cache after text is inserted. The line the text was inserted
+	 * into is discarded, and the lines below it are renumbered.
+	 *
+	 * @param line
+	 *            The line text was inserted into.
+	 * @param count
+	 *            The number of lines added after it.
+	 */
+	void linesInserted(final int line, final int count) {
+		this.remove(line);
+		if (count != 0)
+			this.renumber(line, count);
+	}
+
+	/**
+	 * Updates the cache after text is removed. The line the removal started on,
+	 * and those removed entirely, are discarded, and the lines below them are
+	 * renumbered.
+	 *
+	 * @param line
+	 *            The line the removal started on.
+	 * @param count
+	 *            The number of lines removed after it.
+	 */
+	void linesRemoved(final int line, final int count) {
+		this.removeRange(line, line + count);
+		if (count != 0)
+			this.renumber(line + count, -count);
+	}
+
+	/**
+	 * Returns an entry's linked list of tokens, creating it if necessary.
+	 */
+	private Token list(final Entry entry) {
+		if (entry.list == null) {
+			entry.list = entry.stream.toTokenList();
+			final int bytes = TokenListCache.ENTRY_FOOTPRINT + entry.stream.getEstimatedFootprint();
+			this.bytes += bytes - entry.bytes;
+			entry.bytes = bytes;
+			this.trim();
+		}
+		return entry.list;
+	}
+
+	/**
+	 * Caches a copy of a line's tokens, evicting the least recently used lines
+	 * if the budget is exceeded.
+	 *
+	 * @param line
+	 *            The line.
+	 * @param startOffset
+	 *            The line's offset in the document.
+	 * @param stream
+	 *            The tokens. This is not modified.
+	 * @return The cached entry, or <code>null</code> if caching is disabled.
+	 */
+	private Entry put(final int line, final int startOffset, final TokenStream stream) {
+		if (this.budget == 0)
+			return null;
+		final Entry entry = new Entry(stream.copy(), startOffset);
+		this.remove(line);
+		this.entries.put(line, entry);
+		this.bytes += entry.bytes;
+		this.trim();
+		return entry;
+	}
+
+	/**
+	 * Caches a copy of a line's tokens, and returns them as a linked list.
+	 *
+	 * @param line
+	 *            The line.
+	 * @param startOffset
+	 *            The line's offset in the document.
+	 * @param stream
+	 *            The tokens. This is not modified.
+	 * @return The cached token list, or a list over <code>stream</code> itself
+	 *         if caching is disabled.
+	 */
+	Token putList(final int line, final int startOffset, final TokenStream stream) {
+		final Entry entry = this.put(line, startOffset, stream);
+		return entry == null ? stream.toTokenList() : this.list(entry);
+	}
+
+	/**
+	 * Caches a copy of a line's tokens.
+	 *
+	 * @param line
+	 *            The line.
+	 * @param startOffset
+	 *            The line's offset in the document.
+	 * @param stream
+	 *            The tokens. This is not modified.
+	 * @return The cached copy, or <code>stream</code> itself if caching is
+	 *         disabled.
+	 */
+	TokenStream putStream(final int line, final int startOffset, final TokenStream stream) {
+		final Entry entry = this.put(line, startOffset, stream);
+		return entry == null ? stream : entry.stream;
+	}
+
+	private void remove(final int line) {
+		final Entry entry = this.entries.remove(line);
+		if (entry != null)
+			this.bytes -= entry.bytes;
+	}
+
+	/**
+	 * Discards the token lists of lines from a line on.
+	 *
+	 * @param line
+	 *            The first line to discard.
+	 */
+	void removeFrom(final int line) {
+		this.removeRange(line, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Discards the token lists of a range of lines.
+	 *
+	 * @param first
+	 *            The first line to discard.
+	 * @param last
+	 *            The last line to discard, inclusive.
+	 */
+	void removeRange(final int first, final int last) {
+		if (last - first < 8) {
+			for (int line = first; line <= last && line >= first; line++)
+				this.remove(line);
+			return;
+		}
+		for (final Iterator<Map.Entry<Integer, Entry>> i = this.entries.entrySet().iterator(); i.hasNext();) {
+			final Map.Entry<Integer, Entry> e = i.next();
+			final int line = e.getKey();
+			if (line >= first && line <= last) {
+				this.bytes -= e.getValue().bytes;
+				i.remove();
+			}
+		}
+	}
+
+	/**
+	 * Shifts the line numbers of lines below a line, keeping their LRU order.
+	 */
+	private void renumber(final int after, final int delta) {
+		final LinkedHashMap<Integer, Entry> renumbered = new LinkedHashMap<>(
+				Math.max(64, this.entries.size() * 4 / 3 + 1), 0.75f, true);
+		for (final Map.Entry<Integer, Entry> e : this.entries.entrySet()) {
+			final int line = e.getKey();
+			renumbered.put(line > after ? line + delta : line, e.getValue());
+		}
+		this.entries = renumbered;
+	}
+
+	/**
+	 * Sets the maximum estimated size of the cached token lists. Lists are
+	 * evicted immediately if the new budget is exceeded.
+	 *
+	 * @param budget
+	 *            The budget, in bytes. <code>0</code> disables caching.
+	 * @see #getBudget()
+	 */
+	public void setBudget(final int budget) {
+		this.budget = Math.max(0, budget);
+		this.trim();
+	}
+
+	/**
+	 * Evicts least recently used lists until the budget is met.
+	 */
+	private void trim() {
+		for (final Iterator<Entry> i = this.entries.values().iterator(); i.hasNext() && this.bytes > this.budget;) {
+			this.bytes -= i.next().bytes;
+			i.remove();
+		}
+	}
+
+}
@@ -161,6 +161,22 @@ public interface TokenMaker {
 	 */
 	public Token getTokenList(Segment text, int initialTokenType, int startOffset);
 
+	/**
+	 * Returns the tokens generated from <code>text</code> as parallel arrays,
+	 * without creating a linked list of <code>Token</code>s. The stream is
+	 * reused, and is only valid until this token maker is used again.
+	 *
+	 * @param text
+	 *            The text from which to get tokens.
+	 * @param initialTokenType
+	 *            The token type we should start with.
+	 * @param startOffset
+	 *            The offset into the document at which <code>text</code> starts.
+	 * @return The tokens.
+	 * @see #getTokenList(Segment, int, int)
+	 */
+	public TokenStream getTokenStream(Segment text, int initialTokenType, int startOffset);
+
 	/**
 	 * Returns whether a character could be part of an "identifier" token in a
 	 * specific language. This is used to identify such things as the bounds of the
@@ -20,14 +20,9 @@ import javax.swing.text.Segment;
 public abstract class TokenMakerBase implements TokenMaker {
 
 	/**
-	 * Used in the creation of the linked list.
+	 * Reused to return the last non-comment, non-whitespace token.
 	 */
-	protected TokenImpl currentToken;
-
-	/**
-	 * The first token in the returned linked list.
-	 */
-	protected TokenImpl firstToken;
+	private final TokenImpl lastNonCommentNonWhitespaceToken;
 
 	/**
 	 * "0" implies this is the "main" language being highlighted. Positive values
@@ -44,21 +39,21 @@ public abstract class TokenMakerBase implements TokenMaker {
 	private OccurrenceMarker occurrenceMarker;
 
 	/**
-	 * Used in the creation of the linked list.
+	 * Whether only the token stream is wanted, not a linked list of tokens.
 	 */
-	protected TokenImpl previousToken;
+	private boolean streamOnly;
 
 	/**
-	 * The factory that gives us our tokens to use.
+	 * The tokens of the line being tokenized.
 	 */
-	private final TokenFactory tokenFactory;
+	protected final TokenStream tokenStream;
 
 	/**
 	 * Constructor.
 	 */
 	public TokenMakerBase() {
-		this.firstToken = this.currentToken = this.previousToken = null;
-		this.tokenFactory = new DefaultTokenFactory();
+		this.tokenStream = new TokenStream();
+		this.lastNonCommentNonWhitespaceToken = new TokenImpl();
 	}
 
 	/**
@@ -66,16 +61,7 @@ public abstract class TokenMakerBase implements TokenMaker {
 	 */
 	@Override
 	public void addNullToken() {
-		if (this.firstToken == null) {
-			this.firstToken = this.tokenFactory.createToken();
-			this.currentToken = this.firstToken;
-		} else {
-			final TokenImpl next = this.tokenFactory.createToken();
-			this.currentToken.setNextToken(next);
-			this.previousToken = this.currentToken;
-			this.currentToken = next;
-		}
-		this.currentToken.setLanguageIndex(this.languageIndex);
+		this.tokenStream.addNull(this.languageIndex);
 	}
 
 	/**
@@ -88,7 +74,7 @@ public abstract class TokenMakerBase implements TokenMaker {
 	}
 
 	/**
-	 * Adds the token specified to the current linked list of tokens.
+	 * Adds the token specified to the current list of tokens.
 	 *
 	 * @param array
 	 *            The character array.
@@ -105,20 +91,7 @@ public abstract class TokenMakerBase implements TokenMaker {
 	 */
 	public void addToken(final char[] array, final int start, final int end, final int tokenType, final int startOffset,
 			final boolean hyperlink) {
-
-		if (this.firstToken == null) {
-			this.firstToken = this.tokenFactory.createToken(array, start, end, startOffset, tokenType);
-			this.currentToken = this.firstToken; // previous token is still null.
-		} else {
-			final TokenImpl next = this.tokenFactory.createToken(array, start, end, startOffset, tokenType);
-			this.currentToken.setNextToken(next);
-			this.previousToken = this.currentToken;
-			this.currentToken = next;
-		}
-
-		this.currentToken.setLanguageIndex(this.languageIndex);
-		this.currentToken.setHyperlink(hyperlink);
-
+		this.tokenStream.add(array, start, end, tokenType, startOffset, hyperlink, this.languageIndex);
 	}
 
 	/**
@@ -198,6 +171,18 @@ public abstract class TokenMakerBase implements TokenMaker {
 		return null;
 	}
 
+	/**
+	 * Returns the tokens added so far as a linked list. Token makers return this
+	 * from {@link #getTokenList(Segment, int, int)}.
+	 *
+	 * @return The first token, or <code>null</code> if no tokens have been added,
+	 *         or if only the token stream was asked for (in which case the return
+	 *         value of <code>getTokenList()</code> is ignored).
+	 */
+	protected Token getFirstToken() {
+		return this.streamOnly ? null : this.tokenStream.toTokenList();
+	}
+
 	/**
 	 * Returns the current language index.
 	 *
@@ -213,15 +198,21 @@ public abstract class TokenMakerBase implements TokenMaker {
 	 */
 	@Override
 	public int getLastTokenTypeOnLine(final Segment text, final int initialTokenType) {
-
 		// Last parameter doesn't matter if we're not painting.
-		Token t = this.getTokenList(text, initialTokenType, 0);
-
-		while (t.getNextToken() != null)
-			t = t.getNextToken();
-
-		return t.getType();
+		return this.getTokenStream(text, initialTokenType, 0).getLastType();
+	}
 
+	/**
+	 * Returns the last paintable token added so far that isn't a comment or
+	 * whitespace.
+	 *
+	 * @return The token, or <code>null</code> if there isn't one. The token is
+	 *         reused by later calls.
+	 * @see Token#getLastNonCommentNonWhitespaceToken()
+	 */
+	protected Token getLastNonCommentNonWhitespaceToken() {
+		final int index = this.tokenStream.getLastNonCommentNonWhitespaceIndex();
+		return index == -1 ? null : this.tokenStream.getToken(index, this.lastNonCommentNonWhitespaceToken);
 	}
 
 	/**
@@ -258,6 +249,20 @@ public abstract class TokenMakerBase implements TokenMaker {
 		return this.occurrenceMarker;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public TokenStream getTokenStream(final Segment text, final int initialTokenType, final int startOffset) {
+		this.streamOnly = true;
+		try {
+			this.getTokenList(text, initialTokenType, startOffset);
+		} finally {
+			this.streamOnly = false;
+		}
+		return this.tokenStream;
+	}
+
 	/**
 	 * The default implementation returns <code>false</code> always. Languages that
 	 * wish to better support auto-indentation can override this method.
@@ -294,14 +299,24 @@ public abstract class TokenMakerBase implements TokenMaker {
 	}
 
 	/**
-	 * Deletes the linked list of tokens so we can begin anew. This should never
+	 * Prepares this token maker to be kept idle in a pool, by letting go of any
+	 * text it still refers to from the last line it tokenized.
+	 *
+	 * @see TokenMakerFactory#releaseTokenMaker(TokenMaker)
+	 */
+	void recycle() {
+		this.getLastTokenTypeOnLine(new Segment(new char[0], 0, 0), TokenTypes.NULL);
+		this.tokenStream.clear();
+	}
+
+	/**
+	 * Deletes the list of tokens so we can begin anew. This should never
 	 * have to be called by the programmer, as it is automatically called whenever
 	 * the user calls {@link #getLastTokenTypeOnLine(Segment, int)} or
 	 * {@link #getTokenList(Segment, int, int)}.
 	 */
 	protected void resetTokenList() {
-		this.firstToken = this.currentToken = this.previousToken = null;
-		this.tokenFactory.resetAllTokens();
+		this.tokenStream.reset();
 	}
 
 	/**
@@ -8,8 +8,13 @@
  */
 package org.fife.ui.rsyntaxtextarea;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
+import javax.swing.text.Segment;
+
 import org.fife.ui.rsyntaxtextarea.modes.PlainTextTokenMaker;
 
 /**
@@ -32,6 +37,39 @@ public abstract class TokenMakerFactory {
 	 */
 	public static final String PROPERTY_DEFAULT_TOKEN_MAKER_FACTORY = "TokenMakerFactory";
 
+	/**
+	 * If this system property is set, the default <code>TokenMakerFactory</code>
+	 * {@link #warmUp(Collection) warms up} the token makers of the syntax styles
+	 * it lists, separated by commas, when it is created. A value of
+	 * "<code>*</code>" warms up every style the factory supports.
+	 */
+	public static final String PROPERTY_WARM_UP_STYLES = "TokenMakerFactory.warmUp";
+
+	/**
+	 * Text tokenized to warm up token makers. It isn't any language in
+	 * particular, but has most of the constructs the token makers look for.
+	 */
+	private static final String[] WARM_UP_LINES = { "package org.example; // A comment",
+			"#include <stdio.h>", "/* A comment", " * that spans lines */",
+			"public static int main(final String[] args) throws Exception {",
+			"\tif (x != null && y <= 42 || z >= 0x1F) { return a[i] * 3.14e-2f; }",
+			"\tString s = \"a \\\"quoted\\\" string\" + 'c' + `template ${x}`;",
+			"\tfor (var i = 0; i < n; i++) print(\"%d\\n\", i); # hash comment",
+			"<html lang=\"en\"><body class='x'>&amp; text<!-- markup comment --></body></html>",
+			"<?xml version=\"1.0\"?> <![CDATA[ data ]]> <script>var a = 1;</script>",
+			"SELECT name, COUNT(*) FROM users WHERE id = 7 GROUP BY name; -- SQL",
+			"key = value ; [section] @media screen { .a:hover { color: #fff; } }",
+			"def foo(self, *args, **kwargs): \"\"\"docstring\"\"\" lambda x: x ** 2",
+			"echo $HOME ${PATH} `ls -l` | grep -i \"foo\" > /dev/null 2>&1 && exit 1",
+			"mov eax, [ebx+4] ; label: (defun f (x) (+ x 1)) end", "}" };
+
+	/**
+	 * The number of times each warm-up line is tokenized by
+	 * {@link #warmUp(Collection)}, enough for the JIT to compile the scanning
+	 * loops.
+	 */
+	private static final int WARM_UP_PASSES = 1500;
+
 	/**
 	 * Returns the default <code>TokenMakerFactory</code> instance. This is the
 	 * factory used by all {@link RSyntaxDocument}s by default.
@@ -57,6 +95,20 @@ public abstract class TokenMakerFactory {
 				e.printStackTrace();
 				throw new InternalError("Cannot find TokenMakerFactory: " + clazz);
 			}
+			String styles = null;
+			try {
+				styles = System.getProperty(TokenMakerFactory.PROPERTY_WARM_UP_STYLES);
+			} catch (final java.security.AccessControlException ace) {
+				styles = null;
+			}
+			if (styles != null) {
+				final List<String> keys = new ArrayList<>();
+				for (final String key : styles.split(","))
+					if (!key.trim().isEmpty())
+						keys.add(key.trim());
+				TokenMakerFactory.DEFAULT_INSTANCE.warmUp(
+						keys.contains("*") ? TokenMakerFactory.DEFAULT_INSTANCE.keySet() : keys);
+			}
 		}
 		return TokenMakerFactory.DEFAULT_INSTANCE;
 	}
@@ -111,4 +163,69 @@ public abstract class TokenMakerFactory {
 	 */
 	public abstract Set<String> keySet();
 
+	/**
+	 * Gives back a token maker that is no longer used, e.g. because a document's
+	 * syntax style changed, so that it can be returned by a later call to
+	 * {@link #getTokenMaker(String)}. The caller must not use the token maker,
+	 * or anything it returned, afterwards. The default implementation does
+	 * nothing.
+	 *
+	 * @param tokenMaker
+	 *            The token maker. This may be <code>null</code>.
+	 * @see AbstractTokenMakerFactory
+	 */
+	public void releaseTokenMaker(final TokenMaker tokenMaker) {
+	}
+
+	/**
+	 * Creates token makers for syntax styles on a background thread, and runs
+	 * each over some sample text until the JIT has compiled it, so that the
+	 * first document to use one of these styles is highlighted at full speed.
+	 * The token makers are then {@link #releaseTokenMaker(TokenMaker)
+	 * released}, so that a factory that pools them hands them out again.
+	 *
+	 * @param keys
+	 *            The syntax styles to warm up. Keys this factory doesn't know
+	 *            are ignored.
+	 * @return The thread doing the warm-up, which is a low priority daemon.
+	 * @see #PROPERTY_WARM_UP_STYLES
+	 */
+	public Thread warmUp(final Collection<String> keys) {
+		final List<String> styles = new ArrayList<>(keys);
+		final Thread t = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				final char[][] lines = new char[TokenMakerFactory.WARM_UP_LINES.length][];
+				for (int i = 0; i < lines.length; i++)
+					lines[i] = TokenMakerFactory.WARM_UP_LINES[i].toCharArray();
+				final Segment s = new Segment();
+				for (final String key : styles) {
+					final TokenMaker tm = TokenMakerFactory.this.getTokenMakerImpl(key);
+					if (tm == null)
+						continue;
+					try {
+						for (int pass = 0; pass < TokenMakerFactory.WARM_UP_PASSES; pass++) {
+							int type = TokenTypes.NULL;
+							int offset = 0;
+							for (final char[] line : lines) {
+								s.array = line;
+								s.offset = 0;
+								s.count = line.length;
+								type = tm.getTokenStream(s, type, offset).getLastType();
+								offset += line.length + 1;
+							}
+						}
+						TokenMakerFactory.this.releaseTokenMaker(tm);
+					} catch (final RuntimeException re) {
+						re.printStackTrace();
+					}
+				}
+			}
+		}, "TokenMaker Warm-up");
+		t.setDaemon(true);
+		t.setPriority(Thread.MIN_PRIORITY);
+		t.start();
+		return t;
+	}
+
 }
\ No newline at end of file
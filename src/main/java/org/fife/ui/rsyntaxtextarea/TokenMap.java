@@ -9,6 +9,10 @@
  */
 package org.fife.ui.rsyntaxtextarea;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import javax.swing.text.Segment;
 
 /**
@@ -24,45 +28,81 @@ import javax.swing.text.Segment;
  * be syntax-highlighted for that particular language. When the token maker
  * parses a line and identifies an individual token, it is looked up in the
  * <code>TokenMap</code> to see if it should be syntax-highlighted.
+ * <p>
+ *
+ * The words are compiled into a perfect hash the first time one is
+ * looked up (and again if words are added afterwards). A lookup hashes the
+ * text in one pass, probes exactly one slot, and compares the text against at
+ * most one word, whose characters are packed together with all the others in
+ * a single array. Most text that isn't a word is rejected by its length and
+ * its first and last characters, without being hashed.
  *
  * @author Robert Futrell
- * @version 0.6
+ * @version 0.7
  */
 public class TokenMap {
 
+	private static final int DEFAULT_TOKEN_MAP_SIZE = 52;
+
 	/**
-	 * The "token" used by a token map. Note that this isn't the same thing as the
-	 * {@link Token} class, but it's basically a 1-1 correspondence for reserved
-	 * words, etc.
+	 * How many displacements are tried for a bucket before the table is made
+	 * larger.
 	 */
-	private static final class TokenMapToken {
-
-		private final int length;
-		private TokenMapToken nextToken;
-		private final int offset;
-		private final char[] text;
-		private final int tokenType;
-
-		private TokenMapToken(final char[] text, final int tokenType) {
-			this.text = text;
-			this.offset = 0;
-			this.length = text.length;
-			this.tokenType = tokenType;
-		}
+	private static final int MAX_DISPLACEMENT = 1 << 16;
 
-		@Override
-		public String toString() {
-			return "[TokenMapToken: " + new String(this.text, this.offset, this.length) + "]";
-		}
+	/**
+	 * Whether {@link #keys} has been compiled from the words added so far.
+	 */
+	private boolean compiled;
 
-	}
+	/**
+	 * Per bucket, the displacement to hash its words with if not negative, or
+	 * <code>-(slot + 1)</code> if the bucket holds a single word.
+	 */
+	private int[] displacements;
+
+	/**
+	 * Per word length, a 64-bit signature of the first and last characters of
+	 * the words of that length. Most text that isn't a word is rejected by it
+	 * without being hashed.
+	 */
+	private long[] filters;
 
-	private static final int DEFAULT_TOKEN_MAP_SIZE = 52;
 	private final boolean ignoreCase;
 
-	private final int size;
+	/**
+	 * The characters of all words, in slot order.
+	 */
+	private char[] keys;
+
+	/**
+	 * Per slot, the length of its word.
+	 */
+	private int[] lengths;
+
+	private int maxLength;
+
+	private int minLength;
+
+	/**
+	 * Per slot, the offset of its word in {@link #keys}.
+	 */
+	private int[] offsets;
 
-	private final TokenMapToken[] tokenMap;
+	/**
+	 * The initial value of the hash of a word.
+	 */
+	private int seed = 0x811c9dc5;
+
+	/**
+	 * Per slot, the token type of its word.
+	 */
+	private int[] types;
+
+	/**
+	 * The words added, and their token types, in the order added.
+	 */
+	private final LinkedHashMap<String, Integer> words;
 
 	/**
 	 * Constructs a new token map that is case-sensitive.
@@ -86,7 +126,7 @@ public class TokenMap {
 	 * Constructs a new token map that is case-sensitive.
 	 *
 	 * @param size
-	 *            The size of the token map.
+	 *            The expected number of words in the token map.
 	 */
 	public TokenMap(final int size) {
 		this(size, false);
@@ -96,29 +136,88 @@ public class TokenMap {
 	 * Constructs a new token map.
 	 *
 	 * @param size
-	 *            The size of the token map.
+	 *            The expected number of words in the token map.
 	 * @param ignoreCase
 	 *            Whether or not this token map should ignore case when comparing
 	 *            tokens.
 	 */
 	public TokenMap(final int size, final boolean ignoreCase) {
-		this.size = size;
-		this.tokenMap = new TokenMapToken[size];
+		this.words = new LinkedHashMap<>(Math.max(16, size * 4 / 3 + 1));
 		this.ignoreCase = ignoreCase;
 	}
 
 	/**
-	 * Adds a token to a specified bucket in the token map.
-	 *
-	 * @param bucket
-	 *            The bucket in which to add the token.
-	 * @param token
-	 *            The token to add.
+	 * Compiles the words added so far into a perfect hash. Words are grouped
+	 * into buckets by their hash; the largest buckets are placed first, each
+	 * with the smallest displacement that sends all of its words to distinct
+	 * free slots. Buckets of one word are then put in the remaining slots
+	 * directly.
 	 */
-	private void addTokenToBucket(final int bucket, final TokenMapToken token) {
-		final TokenMapToken old = this.tokenMap[bucket];
-		token.nextToken = old;
-		this.tokenMap[bucket] = token;
+	private void compile() {
+		final int n = this.words.size();
+		final char[][] texts = new char[n][];
+		final int[] wordTypes = new int[n];
+		final int[] hashes = new int[n];
+		int min = Integer.MAX_VALUE;
+		int max = 0;
+		int chars = 0;
+		int w = 0;
+		for (final Map.Entry<String, Integer> e : this.words.entrySet()) {
+			texts[w] = e.getKey().toCharArray();
+			wordTypes[w] = e.getValue();
+			hashes[w] = this.hash(texts[w], 0, texts[w].length);
+			max = Math.max(max, texts[w].length);
+			min = Math.min(min, texts[w].length);
+			chars += texts[w].length;
+			w++;
+		}
+
+		int size = Integer.highestOneBit(Math.max(1, n - 1)) << 1;
+		int[] slotWords = new int[size];
+		this.displacements = new int[size];
+		while (!TokenMap.place(hashes, size, slotWords, this.displacements)) {
+			// Words whose hashes are equal can't be told apart at any size.
+			this.seed = this.seed * 31 + 1;
+			for (w = 0; w < n; w++)
+				hashes[w] = this.hash(texts[w], 0, texts[w].length);
+			if (size < 4 * n)
+				size <<= 1;
+			slotWords = new int[size];
+			this.displacements = new int[size];
+		}
+
+		this.keys = new char[chars];
+		this.offsets = new int[size];
+		this.lengths = new int[size];
+		this.types = new int[size];
+		int offset = 0;
+		for (int slot = 0; slot < size; slot++) {
+			final int word = slotWords[slot] - 1;
+			if (word == -1) {
+				this.types[slot] = -1;
+				continue;
+			}
+			final char[] text = texts[word];
+			System.arraycopy(text, 0, this.keys, offset, text.length);
+			this.offsets[slot] = offset;
+			this.lengths[slot] = text.length;
+			this.types[slot] = wordTypes[word];
+			offset += text.length;
+		}
+		this.filters = new long[max + 1];
+		for (final char[] text : texts)
+			this.filters[text.length] |= TokenMap.filterBit(text[0], text[text.length - 1]);
+		this.minLength = n == 0 ? 1 : min;
+		this.maxLength = max;
+		this.compiled = true;
+	}
+
+	/**
+	 * Returns the bit of {@link #filters} for a word's first and last
+	 * characters.
+	 */
+	private static long filterBit(final char first, final char last) {
+		return 1L << (first * 7 + last);
 	}
 
 	/**
@@ -135,60 +234,36 @@ public class TokenMap {
 	 *         this token was not specified in this map.
 	 */
 	public int get(final char[] array1, final int start, final int end) {
+		if (!this.compiled)
+			this.compile();
 
-		final int length1 = end - start + 1;
-
-		final int hash = this.getHashCode(array1, start, length1);
-		TokenMapToken token = this.tokenMap[hash];
+		final int length = end - start + 1;
+		if (length < this.minLength || length > this.maxLength)
+			return -1;
+		final long bit = this.ignoreCase
+				? TokenMap.filterBit(RSyntaxUtilities.toLowerCase(array1[start]), RSyntaxUtilities.toLowerCase(array1[end]))
+				: TokenMap.filterBit(array1[start], array1[end]);
+		if ((this.filters[length] & bit) == 0)
+			return -1;
 
-		char[] array2;
-		int offset2;
-		int offset1;
-		int length;
-
-		/*
-		 * We check whether or not to ignore case before doing any looping to minimize
-		 * the number of extraneous comparisons we do. This makes for slightly redundant
-		 * code, but it'll be a little more efficient.
-		 */
-
-		// If matches are case-sensitive (C, C++, Java, etc.)...
-		if (!this.ignoreCase)
-			mainLoop: while (token != null) {
-				if (token.length == length1) {
-					array2 = token.text;
-					offset2 = token.offset;
-					offset1 = start;
-					length = length1;
-					while (length-- > 0)
-						if (array1[offset1++] != array2[offset2++]) {
-							token = token.nextToken;
-							continue mainLoop;
-						}
-					return token.tokenType;
-				}
-				token = token.nextToken;
-			}
-		else
-			mainLoop2: while (token != null) {
-				if (token.length == length1) {
-					array2 = token.text;
-					offset2 = token.offset;
-					offset1 = start;
-					length = length1;
-					while (length-- > 0)
-						if (RSyntaxUtilities.toLowerCase(array1[offset1++]) != array2[offset2++]) {
-							token = token.nextToken;
-							continue mainLoop2;
-						}
-					return token.tokenType;
-				}
-				token = token.nextToken;
-			}
-
-		// Didn't match any of the tokens in the bucket.
-		return -1;
+		final int hash = this.hash(array1, start, length);
+		final int size = this.types.length;
+		final int d = this.displacements[TokenMap.slot(hash, 0, size)];
+		final int slot = d < 0 ? -d - 1 : TokenMap.slot(hash, d, size);
+		if (this.lengths[slot] != length)
+			return -1;
 
+		final char[] array2 = this.keys;
+		int offset2 = this.offsets[slot];
+		if (!this.ignoreCase) {
+			for (int offset1 = start; offset1 <= end; offset1++)
+				if (array1[offset1] != array2[offset2++])
+					return -1;
+		} else
+			for (int offset1 = start; offset1 <= end; offset1++)
+				if (RSyntaxUtilities.toLowerCase(array1[offset1]) != array2[offset2++])
+					return -1;
+		return this.types[slot];
 	}
 
 	/**
@@ -209,19 +284,18 @@ public class TokenMap {
 	}
 
 	/**
-	 * Returns the hash code for a given string.
-	 *
-	 * @param text
-	 *            The text to hash.
-	 * @param offset
-	 *            The offset into the text at which to start hashing.
-	 * @param length
-	 *            The last character in the text to hash.
-	 * @return The hash code.
+	 * Returns the hash of some text, lower-cased if this map ignores case.
 	 */
-	private int getHashCode(final char[] text, final int offset, final int length) {
-		return (RSyntaxUtilities.toLowerCase(text[offset]) + RSyntaxUtilities.toLowerCase(text[offset + length - 1]))
-				% this.size;
+	private int hash(final char[] text, final int offset, final int length) {
+		int h = this.seed;
+		final int end = offset + length;
+		if (!this.ignoreCase)
+			for (int i = offset; i < end; i++)
+				h = (h ^ text[i]) * 0x01000193;
+		else
+			for (int i = offset; i < end; i++)
+				h = (h ^ RSyntaxUtilities.toLowerCase(text[i])) * 0x01000193;
+		return h;
 	}
 
 	/**
@@ -236,24 +310,73 @@ public class TokenMap {
 	}
 
 	/**
-	 * Adds a string to this token map. The char array passed-in will be used as the
-	 * actual data for the token, so it may well be modified (such as lower-casing
-	 * it if <code>ignoreCase</code> is <code>true</code>). This shouldn't be an
-	 * issue though as this method is only called from the public <code>put</code>
-	 * method, which allocates a new char array.
+	 * Assigns each word a slot, returning <code>false</code> if some bucket
+	 * can't be placed in a table of this size.
 	 *
-	 * @param string
-	 *            The string to add.
-	 * @param tokenType
-	 *            The type of token the string is.
+	 * @param slotWords
+	 *            Receives, per slot, the index of its word plus one.
+	 * @param bucketDisplacements
+	 *            Receives the displacement of each bucket.
 	 */
-	private void put(final char[] string, final int tokenType) {
-		final int hashCode = this.getHashCode(string, 0, string.length);
-		this.addTokenToBucket(hashCode, new TokenMapToken(string, tokenType));
+	private static boolean place(final int[] hashes, final int size, final int[] slotWords,
+			final int[] bucketDisplacements) {
+		final int n = hashes.length;
+
+		// Group the words by bucket.
+		final int[] bucketStarts = new int[size + 1];
+		for (final int hash : hashes)
+			bucketStarts[TokenMap.slot(hash, 0, size) + 1]++;
+		for (int b = 0; b < size; b++)
+			bucketStarts[b + 1] += bucketStarts[b];
+		final int[] members = new int[n];
+		final int[] next = Arrays.copyOf(bucketStarts, size);
+		for (int w = 0; w < n; w++)
+			members[next[TokenMap.slot(hashes[w], 0, size)]++] = w;
+		final Integer[] buckets = new Integer[size];
+		for (int b = 0; b < size; b++)
+			buckets[b] = b;
+		Arrays.sort(buckets, (a, b) -> bucketStarts[b + 1] - bucketStarts[b] - bucketStarts[a + 1] + bucketStarts[a]);
+
+		final int[] candidate = new int[n];
+		int b = 0;
+		for (; b < size && bucketStarts[buckets[b] + 1] - bucketStarts[buckets[b]] > 1; b++) {
+			final int bucket = buckets[b];
+			final int first = bucketStarts[bucket];
+			final int count = bucketStarts[bucket + 1] - first;
+			int d = 1;
+			search: for (; d < TokenMap.MAX_DISPLACEMENT; d++) {
+				for (int i = 0; i < count; i++) {
+					final int slot = TokenMap.slot(hashes[members[first + i]], d, size);
+					if (slotWords[slot] != 0)
+						continue search;
+					for (int j = 0; j < i; j++)
+						if (candidate[j] == slot)
+							continue search;
+					candidate[i] = slot;
+				}
+				break;
+			}
+			if (d == TokenMap.MAX_DISPLACEMENT)
+				return false;
+			for (int i = 0; i < count; i++)
+				slotWords[candidate[i]] = members[first + i] + 1;
+			bucketDisplacements[bucket] = d;
+		}
+
+		int free = 0;
+		for (; b < size && bucketStarts[buckets[b] + 1] - bucketStarts[buckets[b]] == 1; b++) {
+			final int bucket = buckets[b];
+			while (slotWords[free] != 0)
+				free++;
+			slotWords[free] = members[bucketStarts[bucket]] + 1;
+			bucketDisplacements[bucket] = -free - 1;
+		}
+		return true;
 	}
 
 	/**
-	 * Adds a string to this token map.
+	 * Adds a string to this token map. If it was already added, its token type
+	 * is replaced.
 	 *
 	 * @param string
 	 *            The string to add.
@@ -261,10 +384,22 @@ public class TokenMap {
 	 *            The type of token the string is.
 	 */
 	public void put(final String string, final int tokenType) {
-		if (this.isIgnoringCase())
-			this.put(string.toLowerCase().toCharArray(), tokenType);
-		else
-			this.put(string.toCharArray(), tokenType);
+		final String word = this.isIgnoringCase() ? string.toLowerCase() : string;
+		if (word.isEmpty())
+			return;
+		this.words.remove(word);
+		this.words.put(word, tokenType);
+		this.compiled = false;
+	}
+
+	/**
+	 * Returns the slot a hash maps to for a displacement, in a table whose size
+	 * is a power of two.
+	 */
+	private static int slot(final int hash, final int displacement, final int size) {
+		int h = hash + displacement * 0x9e3779b9;
+		h = (h ^ h >>> 16) * 0x85ebca6b;
+		return (h ^ h >>> 13) & size - 1;
 	}
 
-}
\ No newline at end of file
+}
@@ -15,13 +15,23 @@ import javax.swing.text.TabExpander;
 /**
  * Renders tokens in an instance of {@link RSyntaxTextArea}. One instance may
  * render tokens "regularly," another may render visible whitespace, for
- * example.
+ * example. Painters may defer drawing a token's text so that adjacent tokens
+ * can be drawn in a single call, so callers must {@link #flush()} them at the
+ * end of each line.
  *
  * @author Robert Futrell
  * @version 1.0
  */
 interface TokenPainter {
 
+	/**
+	 * Draws any text this painter has held back to draw together with the text
+	 * of the tokens that follow it. This must be called after painting the last
+	 * token of a line (or of a wrapped line), before anything else is painted
+	 * over it.
+	 */
+	void flush();
+
 	/**
 	 * Paints this token.
 	 *
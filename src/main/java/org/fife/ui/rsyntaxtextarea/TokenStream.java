@@ -0,0 +1,473 @@
+/*
+ * 10/17/2026
+ *
+ * TokenStream.java - The tokens of a line, stored as parallel arrays.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.Arrays;
+
+/**
+ * The tokens of a line, stored as parallel primitive arrays rather than as a
+ * linked list of {@link Token} objects. A <code>TokenMaker</code> writes into
+ * one of these, reusing its arrays for every line, so tokenizing allocates
+ * nothing once the arrays are large enough, and consumers such as painting
+ * can walk a line's tokens without chasing pointers.
+ * <p>
+ *
+ * Callers that need a <code>Token</code> can either reposition a single
+ * <code>TokenImpl</code> over a token with {@link #getToken(int, TokenImpl)},
+ * or get a linked list of reusable views over all of the tokens with
+ * {@link #toTokenList()}.
+ * <p>
+ *
+ * As with the token lists returned by a <code>TokenMaker</code>, a stream
+ * returned by one is only valid until it tokenizes another line.
+ *
+ * @version 1.0
+ * @see TokenMaker#getTokenStream(javax.swing.text.Segment, int, int)
+ * @see RSyntaxDocument#getTokenStreamForLine(int)
+ */
+public final class TokenStream {
+
+	private static final int INITIAL_CAPACITY = 32;
+
+	/**
+	 * The largest capacity kept when a stream is reset. Streams that grew past
+	 * this for a very long line shrink back, so they don't hold on to the
+	 * memory.
+	 */
+	private static final int RETAINED_CAPACITY = 4096;
+
+	/**
+	 * Approximate heap cost of a single token in a stream, not counting its
+	 * text, in bytes.
+	 */
+	private static final int TOKEN_FOOTPRINT = 29;
+
+	/**
+	 * Approximate heap cost of a single token view, in bytes.
+	 */
+	private static final int VIEW_FOOTPRINT = 56;
+
+	private int count;
+
+	private boolean[] hyperlinks;
+
+	private int[] languageIndexes;
+
+	private int[] lengths;
+
+	private int[] offsets;
+
+	private int[] textOffsets;
+
+	private char[][] texts;
+
+	private int[] types;
+
+	/**
+	 * Reusable tokens returned by {@link #toTokenList()}. Created lazily, as most
+	 * streams are never viewed as a list.
+	 */
+	private TokenImpl[] views;
+
+	TokenStream() {
+		this(TokenStream.INITIAL_CAPACITY);
+	}
+
+	private TokenStream(final int capacity) {
+		this.allocate(capacity);
+	}
+
+	/**
+	 * Adds a token.
+	 *
+	 * @param array
+	 *            The text the token is in.
+	 * @param start
+	 *            The offset of the token's first character in
+	 *            <code>array</code>.
+	 * @param end
+	 *            The offset of the token's last character in <code>array</code>.
+	 * @param type
+	 *            The token's type.
+	 * @param startOffset
+	 *            The offset in the document at which the token occurs.
+	 * @param hyperlink
+	 *            Whether the token is a hyperlink.
+	 * @param languageIndex
+	 *            The token's language index.
+	 */
+	void add(final char[] array, final int start, final int end, final int type, final int startOffset,
+			final boolean hyperlink, final int languageIndex) {
+		if (this.count == this.types.length)
+			this.grow();
+		final int i = this.count++;
+		this.texts[i] = array;
+		this.textOffsets[i] = start;
+		this.lengths[i] = end - start + 1;
+		this.types[i] = type;
+		this.offsets[i] = startOffset;
+		this.hyperlinks[i] = hyperlink;
+		this.languageIndexes[i] = languageIndex;
+	}
+
+	/**
+	 * Adds a "null" token, denoting the end of a line that isn't part of a
+	 * multi-line token.
+	 *
+	 * @param languageIndex
+	 *            The token's language index.
+	 */
+	void addNull(final int languageIndex) {
+		this.add(null, 0, -1, TokenTypes.NULL, -1, false, languageIndex);
+	}
+
+	private void allocate(final int capacity) {
+		this.types = new int[capacity];
+		this.offsets = new int[capacity];
+		this.textOffsets = new int[capacity];
+		this.lengths = new int[capacity];
+		this.languageIndexes = new int[capacity];
+		this.hyperlinks = new boolean[capacity];
+		this.texts = new char[capacity][];
+		this.views = null;
+	}
+
+	/**
+	 * Removes all tokens and lets go of the text they pointed into, so that an
+	 * idle stream doesn't keep a document's contents reachable.
+	 */
+	void clear() {
+		this.allocate(TokenStream.INITIAL_CAPACITY);
+		this.count = 0;
+	}
+
+	/**
+	 * Returns a compact copy of this stream, with its own copy of the tokens'
+	 * text, that stays valid after this stream is reused.
+	 *
+	 * @return The copy.
+	 */
+	TokenStream copy() {
+		int chars = 0;
+		for (int i = 0; i < this.count; i++)
+			if (this.hasText(i))
+				chars += this.lengths[i];
+		final TokenStream copy = new TokenStream(Math.max(1, this.count));
+		final char[] text = new char[chars];
+		int pos = 0;
+		for (int i = 0; i < this.count; i++) {
+			final int len = this.lengths[i];
+			if (this.hasText(i)) {
+				System.arraycopy(this.texts[i], this.textOffsets[i], text, pos, len);
+				copy.add(text, pos, pos + len - 1, this.types[i], this.offsets[i], this.hyperlinks[i],
+						this.languageIndexes[i]);
+				pos += len;
+			} else
+				copy.add(null, 0, len - 1, this.types[i], this.offsets[i], this.hyperlinks[i],
+						this.languageIndexes[i]);
+		}
+		return copy;
+	}
+
+	/**
+	 * Returns the number of tokens.
+	 *
+	 * @return The number of tokens.
+	 */
+	public int getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Returns the document offset just past the end of a token.
+	 *
+	 * @param index
+	 *            The token's index.
+	 * @return The end offset.
+	 */
+	public int getEndOffset(final int index) {
+		return this.offsets[index] + this.lengths[index];
+	}
+
+	/**
+	 * Returns the approximate heap used by this stream, in bytes.
+	 *
+	 * @return The footprint.
+	 */
+	int getEstimatedFootprint() {
+		final int capacity = this.types.length;
+		int bytes = capacity * TokenStream.TOKEN_FOOTPRINT;
+		if (this.views != null)
+			bytes += this.views.length * TokenStream.VIEW_FOOTPRINT;
+		for (int i = 0; i < this.count; i++)
+			if (this.texts[i] != null) {
+				bytes += 2 * this.texts[i].length; // A copy shares one array
+				break;
+			}
+		return bytes;
+	}
+
+	/**
+	 * Returns a token's language index.
+	 *
+	 * @param index
+	 *            The token's index.
+	 * @return The language index.
+	 */
+	public int getLanguageIndex(final int index) {
+		return this.languageIndexes[index];
+	}
+
+	/**
+	 * Returns the index of the last paintable token that isn't a comment or
+	 * whitespace.
+	 *
+	 * @return The index, or <code>-1</code> if there isn't one.
+	 * @see Token#getLastNonCommentNonWhitespaceToken()
+	 */
+	public int getLastNonCommentNonWhitespaceIndex() {
+		int last = -1;
+		for (int i = 0; i < this.count && this.types[i] > TokenTypes.NULL; i++)
+			switch (this.types[i]) {
+			case TokenTypes.COMMENT_DOCUMENTATION:
+			case TokenTypes.COMMENT_EOL:
+			case TokenTypes.COMMENT_MULTILINE:
+			case TokenTypes.COMMENT_KEYWORD:
+			case TokenTypes.COMMENT_MARKUP:
+			case TokenTypes.WHITESPACE:
+				break;
+			default:
+				last = i;
+				break;
+			}
+		return last;
+	}
+
+	/**
+	 * Returns the type of the last token, which is the state the next line
+	 * starts in.
+	 *
+	 * @return The type, or {@link TokenTypes#NULL} if there are no tokens.
+	 */
+	public int getLastType() {
+		return this.count == 0 ? TokenTypes.NULL : this.types[this.count - 1];
+	}
+
+	/**
+	 * Returns the number of characters in a token.
+	 *
+	 * @param index
+	 *            The token's index.
+	 * @return The length.
+	 */
+	public int getLength(final int index) {
+		return this.lengths[index];
+	}
+
+	/**
+	 * Returns the document offset of a token.
+	 *
+	 * @param index
+	 *            The token's index.
+	 * @return The offset, or <code>-1</code> for a "null" token.
+	 */
+	public int getOffset(final int index) {
+		return this.offsets[index];
+	}
+
+	/**
+	 * Returns the array containing a token's text.
+	 *
+	 * @param index
+	 *            The token's index.
+	 * @return The array, or <code>null</code> for a token without text.
+	 * @see #getTextOffset(int)
+	 */
+	public char[] getTextArray(final int index) {
+		return this.texts[index];
+	}
+
+	/**
+	 * Returns the offset of a token's text in its array.
+	 *
+	 * @param index
+	 *            The token's index.
+	 * @return The offset.
+	 * @see #getTextArray(int)
+	 */
+	public int getTextOffset(final int index) {
+		return this.textOffsets[index];
+	}
+
+	/**
+	 * Positions a token over a token in this stream. Its next token is set to
+	 * <code>null</code>.
+	 *
+	 * @param index
+	 *            The token's index.
+	 * @param token
+	 *            The token to position, which is typically reused.
+	 * @return <code>token</code>.
+	 */
+	public TokenImpl getToken(final int index, final TokenImpl token) {
+		token.set(this.texts[index], this.textOffsets[index], this.textOffsets[index] + this.lengths[index] - 1,
+				this.offsets[index], this.types[index]);
+		token.setLanguageIndex(this.languageIndexes[index]);
+		token.setHyperlink(this.hyperlinks[index]);
+		return token;
+	}
+
+	/**
+	 * Returns a token's type.
+	 *
+	 * @param index
+	 *            The token's index.
+	 * @return The type.
+	 */
+	public int getType(final int index) {
+		return this.types[index];
+	}
+
+	private void grow() {
+		final int capacity = this.types.length * 2;
+		this.types = Arrays.copyOf(this.types, capacity);
+		this.offsets = Arrays.copyOf(this.offsets, capacity);
+		this.textOffsets = Arrays.copyOf(this.textOffsets, capacity);
+		this.lengths = Arrays.copyOf(this.lengths, capacity);
+		this.languageIndexes = Arrays.copyOf(this.languageIndexes, capacity);
+		this.hyperlinks = Arrays.copyOf(this.hyperlinks, capacity);
+		this.texts = Arrays.copyOf(this.texts, capacity);
+	}
+
+	/**
+	 * Returns whether a token has text that can be copied. <code>NULL</code>
+	 * tokens and the end-state tokens some token makers end a line with have
+	 * none; the latter point one char past the end of the line, which may be
+	 * past the end of the array.
+	 */
+	private boolean hasText(final int index) {
+		return this.texts[index] != null && this.types[index] > TokenTypes.NULL;
+	}
+
+	/**
+	 * Returns whether a token has the given type and text.
+	 *
+	 * @param index
+	 *            The token's index.
+	 * @param type
+	 *            The type.
+	 * @param lexeme
+	 *            The text.
+	 * @return Whether the token matches.
+	 * @see Token#is(int, char[])
+	 */
+	public boolean is(final int index, final int type, final char[] lexeme) {
+		if (this.types[index] != type || this.lengths[index] != lexeme.length)
+			return false;
+		final char[] text = this.texts[index];
+		final int start = this.textOffsets[index];
+		for (int i = 0; i < lexeme.length; i++)
+			if (text[start + i] != lexeme[i])
+				return false;
+		return true;
+	}
+
+	/**
+	 * Returns whether there are no tokens.
+	 *
+	 * @return Whether this stream is empty.
+	 */
+	public boolean isEmpty() {
+		return this.count == 0;
+	}
+
+	/**
+	 * Returns whether a token is a hyperlink.
+	 *
+	 * @param index
+	 *            The token's index.
+	 * @return Whether the token is a hyperlink.
+	 */
+	public boolean isHyperlink(final int index) {
+		return this.hyperlinks[index];
+	}
+
+	/**
+	 * Returns whether a token is paintable, i.e. isn't a token marking the end
+	 * of the line.
+	 *
+	 * @param index
+	 *            The token's index.
+	 * @return Whether the token is paintable.
+	 * @see Token#isPaintable()
+	 */
+	public boolean isPaintable(final int index) {
+		return this.types[index] > TokenTypes.NULL;
+	}
+
+	/**
+	 * Removes the last token, if any.
+	 */
+	void removeLast() {
+		if (this.count > 0)
+			this.texts[--this.count] = null;
+	}
+
+	/**
+	 * Removes all tokens, so the stream can be reused for another line.
+	 */
+	void reset() {
+		if (this.types.length > TokenStream.RETAINED_CAPACITY)
+			this.allocate(TokenStream.INITIAL_CAPACITY);
+		this.count = 0;
+	}
+
+	/**
+	 * Moves every token by an amount, after text was inserted or removed above
+	 * them.
+	 *
+	 * @param delta
+	 *            The amount to move the tokens by.
+	 */
+	void shiftOffsets(final int delta) {
+		for (int i = 0; i < this.count; i++)
+			if (this.offsets[i] > -1)
+				this.offsets[i] += delta;
+	}
+
+	/**
+	 * Returns the tokens as a linked list, for callers that need one. The tokens
+	 * in the list are reused, and are only valid until this method is called
+	 * again or this stream is modified.
+	 *
+	 * @return The first token, or <code>null</code> if there are no tokens.
+	 */
+	public Token toTokenList() {
+		if (this.count == 0)
+			return null;
+		if (this.views == null || this.views.length < this.count) {
+			final TokenImpl[] views = new TokenImpl[this.types.length];
+			int i = 0;
+			if (this.views != null)
+				for (; i < this.views.length; i++)
+					views[i] = this.views[i];
+			for (; i < views.length; i++)
+				views[i] = new TokenImpl();
+			this.views = views;
+		}
+		TokenImpl prev = this.getToken(0, this.views[0]);
+		for (int i = 1; i < this.count; i++) {
+			final TokenImpl next = this.getToken(i, this.views[i]);
+			prev.setNextToken(next);
+			prev = next;
+		}
+		return this.views[0];
+	}
+
+}
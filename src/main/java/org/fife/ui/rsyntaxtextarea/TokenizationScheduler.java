@@ -0,0 +1,632 @@
+/*
+ * 10/17/2026
+ *
+ * TokenizationScheduler.java - Updates an RSyntaxDocument's "last token on
+ * line" information in the background.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Segment;
+
+import org.fife.ui.rtextarea.DocumentSnapshot;
+
+/**
+ * Keeps the "last token type on each line" information of an
+ * {@link RSyntaxDocument} up to date without tokenizing the whole document on
+ * the EDT.
+ * <p>
+ *
+ * When an edit changes how a line ends (for example, by opening a multi-line
+ * comment), every line below it may need re-tokenizing. The document does
+ * this synchronously for a limited number of lines, then marks the rest as
+ * pending here. Shortly afterwards, a background task tokenizes the pending
+ * lines from a {@link DocumentSnapshot}, and the results are applied on the EDT
+ * in chunks, each of which repaints the lines it changed. The task is
+ * cancelled as soon as the document is modified again, or the line-end states
+ * stop changing.
+ * <p>
+ *
+ * When many lines are known to need tokenizing, such as after a large file is
+ * opened or the language is changed, the task splits them into chunks that are
+ * tokenized in parallel, each by its own <code>TokenMaker</code>. Every chunk
+ * but the first assumes the line before it ends in the default
+ * ({@link TokenTypes#NULL}) state. The chunks are then checked in order, and
+ * any chunk whose assumption was wrong is re-tokenized from the correct state
+ * until its results agree with the first pass, so the outcome is exactly that
+ * of tokenizing the lines one after the other.
+ * <p>
+ *
+ * Lines that are painted (or otherwise asked for) while still pending are
+ * brought up to date on the EDT first, provided they are not too far below the
+ * first pending line, so the visible part of the document is highlighted
+ * correctly right away.
+ *
+ * @version 1.0
+ * @see RSyntaxDocument#getTokenizationScheduler()
+ */
+public final class TokenizationScheduler {
+
+	/**
+	 * Tokenizes pending lines from a snapshot, handing results to the EDT a
+	 * chunk at a time.
+	 */
+	private final class Job implements Runnable {
+
+		private volatile boolean cancelled;
+
+		/**
+		 * Limits how many chunks the job can get ahead of the EDT, so not much
+		 * work is wasted if the line-end states stop changing.
+		 */
+		private final Semaphore permits;
+
+		/**
+		 * The line to tokenize up to in parallel (exclusive).
+		 */
+		private final int parallelEnd;
+
+		private final int previousTokenType;
+
+		private final DocumentSnapshot snapshot;
+
+		private final int startLine;
+
+		private final TokenMaker tokenMaker;
+
+		/**
+		 * One token maker per parallel worker, the first being
+		 * {@link #tokenMaker}, or <code>null</code> to tokenize sequentially.
+		 */
+		private final TokenMaker[] tokenMakers;
+
+		private Job(final DocumentSnapshot snapshot, final TokenMaker[] tokenMakers, final int startLine,
+				final int previousTokenType, final int parallelEnd) {
+			this.snapshot = snapshot;
+			this.tokenMaker = tokenMakers[0];
+			this.tokenMakers = tokenMakers.length > 1 ? tokenMakers : null;
+			this.startLine = startLine;
+			this.previousTokenType = previousTokenType;
+			this.parallelEnd = parallelEnd;
+			this.permits = new Semaphore(2);
+		}
+
+		private void cancel() {
+			this.cancelled = true;
+			this.permits.release();
+		}
+
+		@Override
+		public void run() {
+			final int lineCount = this.snapshot.getLineCount();
+			final Segment s = new Segment();
+			int line = this.startLine;
+			int previousTokenType = this.previousTokenType;
+			try {
+				if (this.tokenMakers != null) {
+					this.permits.acquire();
+					final long start = System.nanoTime();
+					final int[] types = this.tokenizeParallel(line, this.parallelEnd, previousTokenType);
+					if (this.cancelled)
+						return;
+					this.publish(line, types, System.nanoTime() - start);
+					line += types.length;
+					previousTokenType = types[types.length - 1];
+				}
+				while (line < lineCount && !this.cancelled) {
+					this.permits.acquire();
+					if (this.cancelled)
+						break;
+					final long start = System.nanoTime();
+					final int[] types = new int[Math.min(TokenizationScheduler.CHUNK_LINES, lineCount - line)];
+					for (int i = 0; i < types.length && !this.cancelled; i++) {
+						previousTokenType = this.tokenize(this.tokenMaker, line + i, previousTokenType, s);
+						types[i] = previousTokenType;
+					}
+					this.publish(line, types, System.nanoTime() - start);
+					line += types.length;
+				}
+			} catch (final InterruptedException ie) {
+				// Fall through
+			} catch (final BadLocationException ble) { // Never happens
+				ble.printStackTrace();
+			} finally {
+				if (this.tokenMakers != null)
+					for (final TokenMaker tm : this.tokenMakers)
+						TokenizationScheduler.this.doc.releaseBackgroundTokenMaker(tm);
+				else
+					TokenizationScheduler.this.doc.releaseBackgroundTokenMaker(this.tokenMaker);
+			}
+		}
+
+		/**
+		 * Hands the last token types of a range of lines to the EDT.
+		 */
+		private void publish(final int chunkStart, final int[] types, final long elapsed) {
+			TokenizationScheduler.this.linesTokenized += types.length;
+			TokenizationScheduler.this.linesPerSecond = (int) (types.length * 1000000000L / Math.max(1, elapsed));
+			SwingUtilities.invokeLater(new Runnable() {
+				@Override
+				public void run() {
+					TokenizationScheduler.this.apply(Job.this, chunkStart, types);
+				}
+			});
+		}
+
+		/**
+		 * Returns the last token type on a line of the snapshot.
+		 */
+		private int tokenize(final TokenMaker tokenMaker, final int line, final int previousTokenType,
+				final Segment s) throws BadLocationException {
+			final int lineStart = this.snapshot.getLineStartOffset(line);
+			final int lineEnd = this.snapshot.getLineEndOffset(line) - 1;
+			if (TokenizationScheduler.this.doc.exceedsLongLineThreshold(lineEnd - lineStart)) {
+				final int tailStart = RSyntaxDocument.getLongLineTailStart(lineEnd - lineStart);
+				this.snapshot.getText(lineStart + tailStart, lineEnd - lineStart - tailStart, s);
+				return RSyntaxDocument.getLastTokenTypeOnLongLine(tokenMaker, s, tailStart);
+			}
+			this.snapshot.getText(lineStart, lineEnd - lineStart, s);
+			return tokenMaker.getLastTokenTypeOnLine(s, previousTokenType);
+		}
+
+		/**
+		 * Tokenizes a range of lines in parallel.
+		 *
+		 * @param from
+		 *            The first line.
+		 * @param to
+		 *            The line to stop at (exclusive).
+		 * @param initialTokenType
+		 *            The last token type of the line before <code>from</code>.
+		 * @return The last token types of the lines. These are incomplete if
+		 *         the job was cancelled.
+		 */
+		private int[] tokenizeParallel(final int from, final int to, final int initialTokenType)
+				throws BadLocationException {
+			final int[] types = new int[to - from];
+			final int workers = this.tokenMakers.length;
+			final int chunkLines = Math.max(TokenizationScheduler.CHUNK_LINES,
+					(types.length + workers * 4 - 1) / (workers * 4));
+			final int chunks = (types.length + chunkLines - 1) / chunkLines;
+			final AtomicInteger next = new AtomicInteger();
+
+			// Tokenize every chunk, each assuming it starts in the default state.
+			final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[workers];
+			for (int w = 0; w < workers; w++) {
+				final TokenMaker tokenMaker = this.tokenMakers[w];
+				tasks[w] = TokenizationScheduler.POOL.submit(new Runnable() {
+					@Override
+					public void run() {
+						final Segment s = new Segment();
+						try {
+							for (int chunk; (chunk = next.getAndIncrement()) < chunks && !Job.this.cancelled;) {
+								final int end = Math.min(types.length, (chunk + 1) * chunkLines);
+								int previousTokenType = chunk == 0 ? initialTokenType : TokenTypes.NULL;
+								for (int i = chunk * chunkLines; i < end && !Job.this.cancelled; i++) {
+									previousTokenType = Job.this.tokenize(tokenMaker, from + i, previousTokenType, s);
+									types[i] = previousTokenType;
+								}
+							}
+						} catch (final BadLocationException ble) { // Never happens
+							throw new InternalError(ble.toString());
+						}
+					}
+				});
+			}
+			for (final ForkJoinTask<?> task : tasks)
+				task.join();
+
+			// Re-tokenize the chunks that didn't actually start in the default
+			// state, until they agree with the first pass.
+			final Segment s = new Segment();
+			for (int chunk = 1; chunk < chunks && !this.cancelled; chunk++) {
+				int i = chunk * chunkLines;
+				final int end = Math.min(types.length, i + chunkLines);
+				int previousTokenType = types[i - 1];
+				if (previousTokenType == TokenTypes.NULL)
+					continue;
+				for (; i < end && !this.cancelled; i++) {
+					final int type = this.tokenize(this.tokenMaker, from + i, previousTokenType, s);
+					if (type == types[i])
+						break;
+					types[i] = type;
+					previousTokenType = type;
+				}
+			}
+			return types;
+		}
+
+	}
+
+	/**
+	 * The number of lines tokenized between handing results to the EDT.
+	 */
+	private static final int CHUNK_LINES = 2048;
+
+	/**
+	 * Milliseconds to wait after the last edit before starting a background
+	 * task, so that a task (and a snapshot) isn't created for every keystroke.
+	 */
+	private static final int DELAY = 100;
+
+	/**
+	 * Runs the background tasks of all documents.
+	 */
+	private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactory() {
+		@Override
+		public Thread newThread(final Runnable r) {
+			final Thread t = new Thread(r, "RSyntaxDocument Tokenizer");
+			t.setDaemon(true);
+			t.setPriority(Thread.MIN_PRIORITY);
+			return t;
+		}
+	});
+
+	/**
+	 * The minimum number of lines that must need tokenizing for a background
+	 * task to tokenize them in parallel.
+	 */
+	static final int PARALLEL_LINES = 65536;
+
+	/**
+	 * The number of threads tokenizing in parallel.
+	 */
+	private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Runs parallel tokenizing for the background tasks.
+	 */
+	private static final ForkJoinPool POOL = new ForkJoinPool(TokenizationScheduler.PARALLELISM,
+			new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+				private final AtomicInteger count = new AtomicInteger();
+
+				@Override
+				public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+					final ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+					t.setName("RSyntaxDocument Tokenizer " + this.count.incrementAndGet());
+					t.setDaemon(true);
+					t.setPriority(Thread.MIN_PRIORITY);
+					return t;
+				}
+			}, null, false);
+
+	/**
+	 * The furthest a requested line can be from the first pending line for it
+	 * to be brought up to date on the EDT.
+	 */
+	private static final int PRIORITY_LINES = 20000;
+
+	/**
+	 * The number of lines an edit re-tokenizes synchronously before leaving the
+	 * rest to the background task.
+	 */
+	static final int SYNCHRONOUS_LINES = 256;
+
+	private Job current;
+
+	private final RSyntaxDocument doc;
+
+	/**
+	 * The first line whose last token type may be out of date, or
+	 * <code>-1</code> if none are.
+	 */
+	private int dirtyFrom;
+
+	/**
+	 * The last line known to possibly be inconsistent with the line before it.
+	 * The line-end states can only be considered stable past this line.
+	 */
+	private int dirtyTo;
+
+	private volatile long linesTokenized;
+
+	private volatile int linesPerSecond;
+
+	private final Timer timer;
+
+	TokenizationScheduler(final RSyntaxDocument doc) {
+		this.doc = doc;
+		this.dirtyFrom = -1;
+		this.timer = new Timer(TokenizationScheduler.DELAY, new ActionListener() {
+			@Override
+			public void actionPerformed(final ActionEvent e) {
+				TokenizationScheduler.this.startJob();
+			}
+		});
+		this.timer.setRepeats(false);
+	}
+
+	/**
+	 * Moves the first pending line past lines that have been brought up to date
+	 * but weren't found to be stable. The line it moves to is the one whose
+	 * previous line's state changed, so it becomes the last line known to be
+	 * inconsistent if <code>dirtyTo</code> was before it; otherwise a later
+	 * edit above it could stop being tokenized before reaching it.
+	 *
+	 * @param line
+	 *            The new first pending line.
+	 */
+	private void advance(final int line) {
+		this.dirtyFrom = line;
+		this.dirtyTo = Math.max(this.dirtyTo, line);
+	}
+
+	/**
+	 * Applies a chunk of results from a background task. This is called on the
+	 * EDT.
+	 */
+	private void apply(final Job job, final int chunkStart, final int[] types) {
+		job.permits.release();
+		if (job != this.current || job.cancelled)
+			return;
+		this.doc.beginBackgroundUpdate();
+		try {
+			if (job.snapshot.isStale() || this.dirtyFrom < 0)
+				return;
+			// Lines before dirtyFrom may have been brought up to date already.
+			final int first = Math.max(chunkStart, this.dirtyFrom);
+			final int end = chunkStart + types.length;
+			int line = first;
+			boolean stable = false;
+			for (; line < end; line++) {
+				final int type = types[line - chunkStart];
+				final int old = this.doc.lastTokensOnLines.getUnsafe(line);
+				this.doc.lastTokensOnLines.setUnsafe(line, type);
+				if (old == type && line >= this.dirtyTo) {
+					stable = true;
+					break;
+				}
+			}
+			if (stable || line >= this.doc.lastTokensOnLines.getSize())
+				this.finish();
+			else
+				this.advance(line);
+			if (line > first || stable)
+				this.doc.fireLinesChanged(first, Math.min(line, end - 1));
+		} finally {
+			this.doc.endBackgroundUpdate();
+		}
+	}
+
+	/**
+	 * Cancels the background task, if any.
+	 */
+	private void cancelJob() {
+		if (this.current != null) {
+			this.current.cancel();
+			this.current = null;
+		}
+	}
+
+	/**
+	 * Brings the last token types up to date through a line, if it isn't too far
+	 * below the first pending line. This is only done on the EDT.
+	 *
+	 * @param line
+	 *            The line.
+	 */
+	void catchUp(final int line) {
+		if (line - this.dirtyFrom >= TokenizationScheduler.PRIORITY_LINES || !SwingUtilities.isEventDispatchThread())
+			return;
+		final int first = this.dirtyFrom;
+		int l = first;
+		int previousTokenType = l > 0 ? this.doc.lastTokensOnLines.get(l - 1) : TokenTypes.NULL;
+		for (; l <= line; l++) {
+			final int type = this.doc.computeLastTokenTypeOnLine(l, previousTokenType);
+			final int old = this.doc.lastTokensOnLines.getUnsafe(l);
+			this.doc.lastTokensOnLines.setUnsafe(l, type);
+			if (old == type && l >= this.dirtyTo) {
+				this.finish();
+				break;
+			}
+			previousTokenType = type;
+		}
+		if (this.dirtyFrom > -1)
+			this.advance(l);
+		this.doc.tokenListsChanged(first, l + 1);
+	}
+
+	/**
+	 * Called when the document is modified. Any background task is cancelled,
+	 * as its snapshot is now out of date, and restarted shortly if there are
+	 * still pending lines.
+	 */
+	void edited() {
+		this.cancelJob();
+		if (this.dirtyFrom > -1)
+			this.timer.restart();
+	}
+
+	/**
+	 * Marks all lines as up to date, and stops any background task.
+	 */
+	private void finish() {
+		this.dirtyFrom = -1;
+		this.cancelJob();
+		this.timer.stop();
+	}
+
+	/**
+	 * Returns the number of lines tokenized by background tasks since this
+	 * document was created.
+	 *
+	 * @return The number of lines tokenized.
+	 */
+	public long getLinesTokenized() {
+		return this.linesTokenized;
+	}
+
+	/**
+	 * Returns the rate at which the most recent background task tokenized
+	 * lines.
+	 *
+	 * @return The number of lines tokenized per second, or <code>0</code> if no
+	 *         background task has run.
+	 */
+	public int getLinesPerSecond() {
+		return this.linesPerSecond;
+	}
+
+	/**
+	 * Returns the number of lines whose last token type may be out of date,
+	 * i.e. that are queued for tokenizing in the background.
+	 *
+	 * @return The number of pending lines.
+	 */
+	public int getQueueDepth() {
+		final int from = this.dirtyFrom;
+		return from < 0 ? 0 : Math.max(0, this.doc.lastTokensOnLines.getSize() - from);
+	}
+
+	/**
+	 * Returns whether the last token type of a line may be out of date.
+	 *
+	 * @param line
+	 *            The line.
+	 * @return Whether the line is pending.
+	 */
+	boolean isPending(final int line) {
+		return this.dirtyFrom > -1 && line >= this.dirtyFrom;
+	}
+
+	/**
+	 * Updates pending lines after lines are inserted.
+	 *
+	 * @param line
+	 *            The line text was inserted into.
+	 * @param count
+	 *            The number of lines added after it.
+	 */
+	void linesInserted(final int line, final int count) {
+		if (this.dirtyFrom < 0)
+			return;
+		if (this.dirtyFrom > line)
+			this.dirtyFrom += count;
+		if (this.dirtyTo > line)
+			this.dirtyTo += count;
+	}
+
+	/**
+	 * Updates pending lines after lines are removed.
+	 *
+	 * @param line
+	 *            The line that the removed lines were joined with.
+	 * @param count
+	 *            The number of lines removed after it.
+	 */
+	void linesRemoved(final int line, final int count) {
+		if (this.dirtyFrom < 0)
+			return;
+		if (this.dirtyFrom > line)
+			this.dirtyFrom = Math.max(line, this.dirtyFrom - count);
+		if (this.dirtyTo > line)
+			this.dirtyTo = Math.max(line, this.dirtyTo - count);
+	}
+
+	/**
+	 * Marks a range of lines as pending, and schedules a background task to
+	 * update them.
+	 *
+	 * @param from
+	 *            The first line that may be out of date.
+	 * @param to
+	 *            The last line that may be inconsistent with the line before it.
+	 *            Tokenizing can only stop early past this line.
+	 */
+	void markDirty(final int from, final int to) {
+		if (this.dirtyFrom < 0) {
+			this.dirtyFrom = from;
+			this.dirtyTo = to;
+		} else {
+			this.dirtyFrom = Math.min(this.dirtyFrom, from);
+			this.dirtyTo = Math.max(this.dirtyTo, to);
+		}
+		this.cancelJob();
+		this.timer.restart();
+	}
+
+	/**
+	 * Discards all pending lines, e.g. because every line has just been
+	 * re-tokenized.
+	 */
+	void reset() {
+		this.finish();
+	}
+
+	/**
+	 * Starts a background task for the pending lines. This is called on the
+	 * EDT.
+	 */
+	private void startJob() {
+		if (this.current != null)
+			return;
+		this.doc.readLock();
+		try {
+			final int lineCount = this.doc.lastTokensOnLines.getSize();
+			if (this.dirtyFrom < 0 || this.dirtyFrom >= lineCount) {
+				this.finish();
+				return;
+			}
+			final TokenMaker tokenMaker = this.doc.createBackgroundTokenMaker();
+			if (tokenMaker == null) { // Can't tokenize off the EDT
+				this.catchUpAll();
+				return;
+			}
+			// Lines up to dirtyTo must all be tokenized, so can be done in
+			// parallel; past it, the task may stop as soon as states agree.
+			final int parallelEnd = Math.min(lineCount, this.dirtyTo + 1);
+			final TokenMaker[] tokenMakers = new TokenMaker[parallelEnd - this.dirtyFrom >= TokenizationScheduler.PARALLEL_LINES
+					? TokenizationScheduler.PARALLELISM
+					: 1];
+			tokenMakers[0] = tokenMaker;
+			for (int i = 1; i < tokenMakers.length; i++)
+				tokenMakers[i] = this.doc.createBackgroundTokenMaker();
+			final int previousTokenType = this.dirtyFrom > 0 ? this.doc.lastTokensOnLines.get(this.dirtyFrom - 1)
+					: TokenTypes.NULL;
+			this.current = new Job(this.doc.createSnapshot(), tokenMakers, this.dirtyFrom, previousTokenType,
+					parallelEnd);
+			TokenizationScheduler.EXECUTOR.execute(this.current);
+		} finally {
+			this.doc.readUnlock();
+		}
+	}
+
+	/**
+	 * Brings all pending lines up to date on the EDT. This is only done when
+	 * the document's <code>TokenMaker</code> can't be duplicated for a
+	 * background task.
+	 */
+	private void catchUpAll() {
+		final int first = this.dirtyFrom;
+		int l = first;
+		int previousTokenType = l > 0 ? this.doc.lastTokensOnLines.get(l - 1) : TokenTypes.NULL;
+		final int lineCount = this.doc.lastTokensOnLines.getSize();
+		for (; l < lineCount; l++) {
+			final int type = this.doc.computeLastTokenTypeOnLine(l, previousTokenType);
+			final int old = this.doc.lastTokensOnLines.getUnsafe(l);
+			this.doc.lastTokensOnLines.setUnsafe(l, type);
+			if (old == type && l >= this.dirtyTo)
+				break;
+			previousTokenType = type;
+		}
+		this.finish();
+		this.doc.fireLinesChanged(first, Math.min(l, lineCount - 1));
+	}
+
+}
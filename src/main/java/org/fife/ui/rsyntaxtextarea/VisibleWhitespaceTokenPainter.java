@@ -65,6 +65,7 @@ class VisibleWhitespaceTokenPainter extends DefaultTokenPainter {
 		final Color bg = selected ? null : host.getBackgroundForToken(token);
 		g.setFont(host.getFontForTokenType(token.getType()));
 		final FontMetrics fm = host.getFontMetricsForTokenType(token.getType());
+		final CharWidthTable widths = host.getCharWidthTableForTokenType(token.getType());
 
 		final int ascent = fm.getAscent();
 		final int height = fm.getHeight();
@@ -75,7 +76,7 @@ class VisibleWhitespaceTokenPainter extends DefaultTokenPainter {
 			case '\t':
 
 				// Fill in background.
-				nextX = x + fm.charsWidth(text, flushIndex, flushLen);
+				nextX = x + widths.charsWidth(text, flushIndex, flushLen);
 				final float nextNextX = e.nextTabStop(nextX, 0);
 				if (bg != null)
 					this.paintBackground(x, y, nextNextX - x, height, g, ascent, host, bg);
@@ -111,8 +112,8 @@ class VisibleWhitespaceTokenPainter extends DefaultTokenPainter {
 
 				// "flushLen+1" ensures text is aligned correctly (or,
 				// aligned the same as in getWidth()).
-				nextX = x + fm.charsWidth(text, flushIndex, flushLen + 1);
-				final int width = fm.charWidth(' ');
+				nextX = x + widths.charsWidth(text, flushIndex, flushLen + 1);
+				final int width = widths.charWidth(' ');
 
 				// Paint background.
 				if (bg != null)
@@ -143,7 +144,7 @@ class VisibleWhitespaceTokenPainter extends DefaultTokenPainter {
 
 			}
 
-		nextX = x + fm.charsWidth(text, flushIndex, flushLen);
+		nextX = x + widths.charsWidth(text, flushIndex, flushLen);
 
 		if (flushLen > 0 && nextX >= clipStart) {
 			if (bg != null)
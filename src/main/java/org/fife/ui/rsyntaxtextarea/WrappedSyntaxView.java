@@ -16,9 +16,17 @@ import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Insets;
+import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.Shape;
-
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+
+import javax.swing.JViewport;
+import javax.swing.SizeRequirements;
+import javax.swing.Timer;
 import javax.swing.event.DocumentEvent;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.BoxView;
@@ -40,6 +48,16 @@ import org.fife.ui.rtextarea.Gutter;
 
 /**
  * The view used by {@link RSyntaxTextArea} when word wrap is enabled.
+ * <p>
+ *
+ * The number of rows each line wraps into is kept in a {@link LineHeightIndex},
+ * so finding the y-offset of a line, or the line at a y-offset, doesn't mean
+ * summing the heights of all the lines above it. When the width of the view
+ * changes, or lines are added, their row counts are first estimated, by
+ * scaling their row counts at the previous width or from their lengths; lines
+ * are measured properly when they're painted or asked for their allocation,
+ * and the rest in small batches while the editor is idle, with the viewport
+ * kept on the line it was showing.
  *
  * @author Robert Futrell
  * @version 0.2
@@ -53,10 +71,31 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 	 */
 	class WrappedLine extends View {
 
+		/**
+		 * The width <code>nlines</code> was calculated at, or <code>-1</code> if
+		 * it's an estimate.
+		 */
+		private int measuredWidth;
+
 		private int nlines;
 
+		/**
+		 * The row count calculated at the previous width, kept since the width
+		 * often flips back, e.g. between the preferred size, which leaves room
+		 * for the caret, and the painted size.
+		 */
+		private int otherLines;
+
+		/**
+		 * The width <code>otherLines</code> was calculated at, or <code>-1</code>
+		 * if there is none.
+		 */
+		private int otherWidth;
+
 		WrappedLine(final Element elem) {
 			super(elem);
+			this.measuredWidth = -1;
+			this.otherWidth = -1;
 		}
 
 		/**
@@ -127,8 +166,7 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 					return 100f;
 				return width;
 			case View.Y_AXIS:
-				if (this.nlines == 0 || WrappedSyntaxView.this.widthChanging)
-					this.nlines = this.calculateLineCount();
+				// This may still be an estimate; see WrappedSyntaxView.measure().
 				final int h = this.nlines * ((RSyntaxTextArea) this.getContainer()).getLineHeight();
 				return h;
 			default:
@@ -138,8 +176,11 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 
 		private void handleDocumentEvent(final DocumentEvent e, final Shape a, final ViewFactory f) {
 			final int n = this.calculateLineCount();
+			this.measuredWidth = WrappedSyntaxView.this.getWidth();
+			this.otherWidth = -1;
 			if (this.nlines != n) {
-				this.nlines = n;
+				final int line = WrappedSyntaxView.this.getElement().getElementIndex(this.getStartOffset());
+				WrappedSyntaxView.this.setRows(line, this, n);
 				WrappedSyntaxView.this.preferenceChanged(this, false, true);
 				// have to repaint any views after the receiver.
 				final RSyntaxTextArea textArea = (RSyntaxTextArea) this.getContainer();
@@ -350,11 +391,30 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 
 	}
 
+	/**
+	 * How often lines not yet measured are measured while the editor is idle,
+	 * in milliseconds.
+	 */
+	private static final int MEASURE_DELAY = 20;
+
+	/**
+	 * How long each batch of idle measuring may take, in nanoseconds.
+	 */
+	private static final long MEASURE_SLICE_NANOS = 8000000L;
+
 	/**
 	 * The width of this view cannot be below this amount, as if the width is ever 0
 	 * (really a bug), we'll go into an infinite loop.
 	 */
 	private static final int MIN_WIDTH = 20;
+
+	/**
+	 * The fold manager {@link #foldListener} is registered with.
+	 */
+	private FoldManager foldManager;
+
+	private final PropertyChangeListener foldListener;
+
 	/**
 	 * Cached for each paint() call so each drawView() call has access to it.
 	 */
@@ -362,8 +422,35 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 
 	private final TokenImpl lineCountTempToken;
 
+	/**
+	 * The next line the idle measuring looks at.
+	 */
+	private int measureCursor;
+
+	/**
+	 * Whether there may be lines before {@link #measureCursor} that need
+	 * measuring, so idle measuring should make another pass.
+	 */
+	private boolean measureRescan;
+
+	private Timer measureTimer;
+
 	private FontMetrics metrics;
 
+	/**
+	 * The row count of each line, or <code>0</code> for lines hidden in
+	 * collapsed folds. This is only up to date if {@link #rowIndexValid} is
+	 * <code>true</code>.
+	 */
+	private final LineHeightIndex rowIndex;
+
+	private boolean rowIndexValid;
+
+	/**
+	 * The array {@link #rowIndex} is built on, reused when it's rebuilt.
+	 */
+	private int[] rows;
+
 	/**
 	 * This is reused to keep from allocating/deallocating.
 	 */
@@ -382,8 +469,6 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 
 	private final TokenImpl tempToken;
 
-	private boolean widthChanging;
-
 	/**
 	 * Creates a new WrappedSyntaxView. Lines will be wrapped on character
 	 * boundaries.
@@ -398,6 +483,13 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 		this.drawSeg = new Segment();
 		this.tempRect = new Rectangle();
 		this.lineCountTempToken = new TokenImpl();
+		this.rowIndex = new LineHeightIndex();
+		this.foldListener = new PropertyChangeListener() {
+			@Override
+			public void propertyChange(final PropertyChangeEvent e) {
+				WrappedSyntaxView.this.foldsChanged();
+			}
+		};
 	}
 
 	// private int getBreakLocation(Token t, FontMetrics fm, int x0, int x,
@@ -458,6 +550,21 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 		return p + 1;
 	}
 
+	/**
+	 * Overridden to take the height of the view from the row index rather than
+	 * asking every line for its height.
+	 */
+	@Override
+	protected SizeRequirements calculateMajorAxisRequirements(final int axis, SizeRequirements r) {
+		if (r == null)
+			r = new SizeRequirements();
+		this.syncRowIndex();
+		final int span = this.rowIndex.getTotal() * ((RSyntaxTextArea) this.getContainer()).getLineHeight();
+		r.minimum = r.preferred = r.maximum = span;
+		r.alignment = 0.5f;
+		return r;
+	}
+
 	/**
 	 * Gives notification from the document that attributes were changed in a
 	 * location that this view is responsible for.
@@ -551,6 +658,8 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 			final int p = this.calculateBreakPosition(p0, token, x);
 			x = r.x;
 
+			// Text of the previous wrapped line goes under this one's highlights.
+			painter.flush();
 			h.paintLayeredHighlights(g, p0, p, r, this.host, this);
 
 			while (token != null && token.isPaintable() && token.getEndOffset() - 1 < p) {// <=p) {
@@ -575,6 +684,7 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 			y += fontHeight;
 
 		} // End of while (token!=null && token.isPaintable()).
+		painter.flush();
 
 		// NOTE: We should re-use code from Token (paintBackground()) here,
 		// but don't because I'm just too lazy.
@@ -643,6 +753,8 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 			final int p = this.calculateBreakPosition(p0, token, x);
 			x = r.x;
 
+			// Text of the previous wrapped line goes under this one's highlights.
+			painter.flush();
 			h.paintLayeredHighlights(g, p0, p, r, this.host, this);
 
 			while (token != null && token.isPaintable() && token.getEndOffset() - 1 < p) {// <=p) {
@@ -761,6 +873,7 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 			y += fontHeight;
 
 		} // End of while (token!=null && token.isPaintable()).
+		painter.flush();
 
 		// NOTE: We should re-use code from Token (paintBackground()) here,
 		// but don't because I'm just too lazy.
@@ -772,6 +885,79 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 
 	}
 
+	/**
+	 * Estimates the row counts of all lines, when the width or font metrics they were
+	 * measured with changes. Lines are measured again as they're needed, unless
+	 * they were already measured at the new width.
+	 *
+	 * @param width
+	 *            The new width of the view.
+	 * @param metricsChanged
+	 *            Whether the font metrics changed, so no measurements can be
+	 *            kept.
+	 */
+	private void estimateRows(final int width, final boolean metricsChanged) {
+		final int n = this.getViewCount();
+		for (int i = 0; i < n; i++) {
+			final WrappedLine v = (WrappedLine) this.getView(i);
+			if (metricsChanged)
+				v.otherWidth = -1;
+			if (v.otherWidth == width) {
+				final int lines = v.nlines;
+				final int lineWidth = v.measuredWidth;
+				v.nlines = v.otherLines;
+				v.measuredWidth = v.otherWidth;
+				v.otherLines = lines;
+				v.otherWidth = lineWidth;
+			} else {
+				if (v.measuredWidth != -1 && !metricsChanged) {
+					v.otherLines = v.nlines;
+					v.otherWidth = v.measuredWidth;
+				}
+				v.nlines = this.estimateRows(v, width);
+				v.measuredWidth = -1;
+			}
+		}
+		this.rowIndexValid = false;
+		this.startMeasuring();
+	}
+
+	/**
+	 * Returns roughly how many rows a line wraps into: its row count at the
+	 * width it was last measured at, scaled to the new width, or if it hasn't
+	 * been measured, its length divided by the width.
+	 */
+	private int estimateRows(final WrappedLine v, final int width) {
+		final int w = WrappedSyntaxView.getWrapWidth(width);
+		if (v.otherWidth != -1)
+			return Math.max(1, Math.round((float) v.otherLines * WrappedSyntaxView.getWrapWidth(v.otherWidth) / w));
+		if (this.metrics == null)
+			return 1;
+		final long lineWidth = (long) (v.getEndOffset() - v.getStartOffset() - 1) * this.metrics.charWidth('m');
+		return (int) Math.max(1, (lineWidth + w - 1) / w);
+	}
+
+	/**
+	 * Called when the text area's font metrics change, e.g. because its font or
+	 * rendering hints did, since lines measured with the old ones need measuring
+	 * again.
+	 */
+	void fontMetricsChanged() {
+		if (this.getContainer() != null)
+			this.updateMetrics();
+		this.estimateRows(this.getWidth(), true);
+		this.preferenceChanged(null, true, true);
+	}
+
+	/**
+	 * Called when folds are collapsed or expanded, or fold information is
+	 * updated, so the lines they hide take up no space.
+	 */
+	void foldsChanged() {
+		this.rowIndexValid = false;
+		this.preferenceChanged(null, false, true);
+	}
+
 	/**
 	 * Fetches the allocation for the given child view.
 	 * <p>
@@ -814,17 +1000,11 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 
 		final Rectangle alloc = this.getInsideAllocation(a);
 		this.host = (RSyntaxTextArea) this.getContainer();
-		final FoldManager fm = this.host.getFoldManager();
-		int y = alloc.y;
-
-		// TODO: Make cached getOffset() calls for Y_AXIS valid even for
-		// folding, to speed this up!
-		for (int i = 0; i < line; i++) {
-			y += this.getSpan(View.Y_AXIS, i);
-			final Fold fold = fm.getFoldForLine(i);
-			if (fold != null && fold.isCollapsed())
-				i += fold.getCollapsedLineCount();
-		}
+		this.syncRowIndex();
+		final WrappedLine v = (WrappedLine) this.getView(line);
+		if (v.measuredWidth != this.getWidth())
+			this.measureScreenEndingAt(line);
+		final int y = alloc.y + this.rowIndex.getPrefix(line) * this.host.getLineHeight();
 
 		this.childAllocation2(line, y, alloc);
 		return alloc;
@@ -875,6 +1055,19 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 		return span;
 	}
 
+	/**
+	 * Overridden to take y-offsets from the row index, which skips lines hidden
+	 * in collapsed folds.
+	 */
+	@Override
+	protected int getOffset(final int axis, final int childIndex) {
+		if (axis == View.Y_AXIS) {
+			this.syncRowIndex();
+			return this.rowIndex.getPrefix(childIndex) * ((RSyntaxTextArea) this.getContainer()).getLineHeight();
+		}
+		return super.getOffset(axis, childIndex);
+	}
+
 	/**
 	 * Determines the preferred span for this view along an axis. This is
 	 * implemented to provide the superclass behavior after first making sure that
@@ -895,22 +1088,24 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 		if (axis == View.X_AXIS) { // Add EOL marker
 			span = super.getPreferredSpan(axis);
 			span += this.metrics.charWidth('\u00b6'); // metrics set in updateMetrics
-		} else {
+		} else
+			// Lines in collapsed folds have no rows in the row index
 			span = super.getPreferredSpan(axis);
-			this.host = (RSyntaxTextArea) this.getContainer();
-			if (this.host.isCodeFoldingEnabled()) {
-				// TODO: Cache y-offsets again to speed this up
-				// System.out.println("y-axis baby");
-				final int lineCount = this.host.getLineCount();
-				final FoldManager fm = this.host.getFoldManager();
-				for (int i = 0; i < lineCount; i++)
-					if (fm.isLineHidden(i))
-						span -= this.getSpan(View.Y_AXIS, i);
-			}
-		}
 		return span;
 	}
 
+	/**
+	 * Overridden to take heights from the line views, which aren't laid out
+	 * along the y-axis by <code>BoxView</code>.
+	 */
+	@Override
+	protected int getSpan(final int axis, final int childIndex) {
+		if (axis == View.Y_AXIS)
+			return ((WrappedLine) this.getView(childIndex)).nlines
+					* ((RSyntaxTextArea) this.getContainer()).getLineHeight();
+		return super.getSpan(axis, childIndex);
+	}
+
 	/**
 	 * Returns the tab size set for the document, defaulting to 5.
 	 *
@@ -928,29 +1123,50 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 	@Override
 	protected View getViewAtPoint(final int x, final int y, final Rectangle alloc) {
 
-		final int lineCount = this.getViewCount();
-		int curY = alloc.y + this.getOffset(View.Y_AXIS, 0); // Always at least 1 line
 		this.host = (RSyntaxTextArea) this.getContainer();
-		final FoldManager fm = this.host.getFoldManager();
-
-		for (int line = 1; line < lineCount; line++) {
-			final int span = this.getSpan(View.Y_AXIS, line - 1);
-			if (y < curY + span) {
-				this.childAllocation2(line - 1, curY, alloc);
-				return this.getView(line - 1);
-			}
-			curY += span;
-			final Fold fold = fm.getFoldForLine(line - 1);
-			if (fold != null && fold.isCollapsed())
-				line += fold.getCollapsedLineCount();
+		this.syncRowIndex();
+		final int lineHeight = this.host.getLineHeight();
+		final int row = (y - alloc.y) / lineHeight;
+
+		// If the line was only estimated, measuring it may move the point into
+		// another line.
+		int line = this.rowIndex.getIndexAt(row);
+		boolean changed = false;
+		while (this.measure(line)) {
+			changed = true;
+			line = this.rowIndex.getIndexAt(row);
 		}
+		if (changed)
+			this.rowsChanged();
 
-		// Not found - return last line's view.
-		this.childAllocation2(lineCount - 1, curY, alloc);
-		return this.getView(lineCount - 1);
+		final int curY = alloc.y + this.rowIndex.getPrefix(line) * lineHeight;
+		this.childAllocation2(line, curY, alloc);
+		return this.getView(line);
 
 	}
 
+	/**
+	 * Returns the width lines are wrapped at when the view has a given width.
+	 */
+	private static int getWrapWidth(final int width) {
+		// calculateBreakPosition() wraps at 100 pixels until the width is known
+		return Math.max(width == Integer.MAX_VALUE ? 100 : width, WrappedSyntaxView.MIN_WIDTH);
+	}
+
+	/**
+	 * Gives the lines hidden by a fold, or by any collapsed folds in it, zero
+	 * rows.
+	 */
+	private void hideCollapsedLines(final Fold fold, final int lineCount) {
+		if (fold.isCollapsed()) {
+			final int end = Math.min(fold.getEndLine(), lineCount - 1);
+			for (int line = fold.getStartLine() + 1; line <= end; line++)
+				this.rows[line] = 0;
+		} else
+			for (int i = 0; i < fold.getChildCount(); i++)
+				this.hideCollapsedLines(fold.getChild(i), lineCount);
+	}
+
 	/**
 	 * Gives notification that something was inserted into the document in a
 	 * location that this view is responsible for. This is implemented to simply
@@ -974,6 +1190,29 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 			v.insertUpdate(changes, alloc, f);
 	}
 
+	/**
+	 * Overridden to do nothing, as offsets and spans along the y-axis come from
+	 * the row index.
+	 *
+	 * @see #getOffset(int, int)
+	 * @see #getSpan(int, int)
+	 */
+	@Override
+	protected void layoutMajorAxis(final int targetSpan, final int axis, final int[] offsets, final int[] spans) {
+	}
+
+	/**
+	 * Starts listening for fold updates, if the text area has created its fold
+	 * manager yet.
+	 */
+	private void listenForFolds() {
+		if (this.foldManager == null) {
+			this.foldManager = ((RSyntaxTextArea) this.getContainer()).getFoldManager();
+			if (this.foldManager != null)
+				this.foldManager.addPropertyChangeListener(this.foldListener);
+		}
+	}
+
 	/**
 	 * Loads all of the children to initialize the view. This is called by the
 	 * <code>setParent</code> method. Subclasses can re-implement this to initialize
@@ -995,6 +1234,98 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 		}
 	}
 
+	/**
+	 * Makes sure a line's row count is measured at the current width rather than
+	 * estimated.
+	 *
+	 * @param line
+	 *            The line.
+	 * @return Whether its row count changed. If so, {@link #rowsChanged()}
+	 *         should be called.
+	 */
+	private boolean measure(final int line) {
+		final WrappedLine v = (WrappedLine) this.getView(line);
+		final int width = this.getWidth();
+		if (v.measuredWidth == width)
+			return false;
+		v.measuredWidth = width;
+		final int n = v.calculateLineCount();
+		if (n == v.nlines)
+			return false;
+		this.setRows(line, v, n);
+		return true;
+	}
+
+	/**
+	 * Measures a batch of lines that haven't been yet. This is called
+	 * periodically while there are any, and keeps the line at the top of the
+	 * viewport in place as the lines above it change height.
+	 */
+	private void measureIdleLines() {
+
+		final RSyntaxTextArea host = (RSyntaxTextArea) this.getContainer();
+		if (host == null || !host.isShowing()) {
+			// Picked up again by paint()
+			this.measureTimer.stop();
+			return;
+		}
+
+		this.syncRowIndex();
+		final int lineHeight = host.getLineHeight();
+		final JViewport viewport = host.getParent() instanceof JViewport ? (JViewport) host.getParent() : null;
+		final int topLine = viewport == null ? -1
+				: this.rowIndex.getIndexAt((viewport.getViewPosition().y - host.getInsets().top) / lineHeight);
+		final int topRow = topLine == -1 ? 0 : this.rowIndex.getPrefix(topLine);
+
+		final long deadline = System.nanoTime() + WrappedSyntaxView.MEASURE_SLICE_NANOS;
+		final int n = this.getViewCount();
+		boolean changed = false;
+		while (System.nanoTime() < deadline) {
+			if (this.measureCursor >= n) {
+				if (!this.measureRescan) {
+					this.measureTimer.stop();
+					break;
+				}
+				this.measureCursor = 0;
+				this.measureRescan = false;
+			}
+			changed |= this.measure(this.measureCursor++);
+		}
+
+		if (changed) {
+			if (topLine != -1) {
+				final int shift = (this.rowIndex.getPrefix(topLine) - topRow) * lineHeight;
+				if (shift != 0) {
+					final Point p = viewport.getViewPosition();
+					p.y += shift;
+					viewport.setViewPosition(p);
+				}
+			}
+			this.rowsChanged();
+		}
+
+	}
+
+	/**
+	 * Measures a line that hasn't been yet, and the viewport's height worth of
+	 * lines above it, so the line is where it'll be painted if it's scrolled to,
+	 * e.g. by moving the caret to the end of the document.
+	 */
+	private void measureScreenEndingAt(final int line) {
+		final int lineHeight = this.host.getLineHeight();
+		final int screenRows = this.host.getParent() instanceof JViewport
+				? ((JViewport) this.host.getParent()).getExtentSize().height / lineHeight
+				: 0;
+		boolean changed = false;
+		int rows = 0;
+		for (int i = line; i >= 0 && (i == line || rows < screenRows); i--) {
+			changed |= this.measure(i);
+			rows += this.rowIndex.get(i);
+		}
+		if (changed)
+			this.rowsChanged();
+	}
+
 	/**
 	 * Provides a mapping, for a given region, from the document model coordinate
 	 * space to the view coordinate space. The specified region is created as a
@@ -1162,10 +1493,18 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 
 		final int n = this.getViewCount(); // Number of lines.
 		final int x = alloc.x + this.getLeftInset();
-		this.tempRect.y = alloc.y + this.getTopInset();
+		final int top = alloc.y + this.getTopInset();
 		final Rectangle clip = g.getClipBounds();
-		for (int i = 0; i < n; i++) {
 
+		// Start at the first line in the clip; lines above it aren't measured.
+		this.syncRowIndex();
+		final int first = Math.max(0, this.rowIndex.getIndexAt((clip.y - top) / fontHeight));
+		this.tempRect.y = top + this.rowIndex.getPrefix(first) * fontHeight;
+		boolean measured = false;
+
+		for (int i = first; i < n && this.tempRect.y < clip.y + clip.height; i++) {
+
+			measured |= this.measure(i);
 			this.tempRect.x = x + this.getOffset(View.X_AXIS, i);
 			// tempRect.y = y + getOffset(Y_AXIS, i);
 			this.tempRect.width = this.getSpan(View.X_AXIS, i);
@@ -1200,6 +1539,11 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 
 		}
 
+		if (measured)
+			this.rowsChanged();
+		if (this.measureRescan && (this.measureTimer == null || !this.measureTimer.isRunning()))
+			this.startMeasuring();
+
 	}
 
 	/**
@@ -1228,6 +1572,75 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 
 	}
 
+	/**
+	 * Overridden to estimate the row counts of new lines, and to rebuild the row
+	 * index.
+	 */
+	@Override
+	public void replace(final int offset, final int length, final View[] views) {
+		this.rowIndexValid = false;
+		super.replace(offset, length, views);
+		if (views != null && views.length > 0) {
+			if (this.getContainer() != null)
+				this.updateMetrics();
+			final int width = this.getWidth();
+			for (final View v : views)
+				((WrappedLine) v).nlines = this.estimateRows((WrappedLine) v, width);
+			this.startMeasuring();
+		}
+	}
+
+	/**
+	 * Lays out and repaints the text area and its gutter after lines' row counts
+	 * change.
+	 */
+	private void rowsChanged() {
+		this.preferenceChanged(null, false, true);
+		final RSyntaxTextArea textArea = (RSyntaxTextArea) this.getContainer();
+		textArea.repaint();
+		final Gutter gutter = RSyntaxUtilities.getGutter(textArea);
+		if (gutter != null) {
+			gutter.revalidate();
+			gutter.repaint();
+		}
+	}
+
+	/**
+	 * Overridden to listen for fold changes while this view is showing the text
+	 * area, and to stop idle measuring when it no longer is.
+	 */
+	@Override
+	public void setParent(final View parent) {
+		if (parent == null) {
+			if (this.foldManager != null) {
+				this.foldManager.removePropertyChangeListener(this.foldListener);
+				this.foldManager = null;
+			}
+			if (this.measureTimer != null)
+				this.measureTimer.stop();
+		}
+		super.setParent(parent);
+		if (parent != null)
+			this.listenForFolds();
+	}
+
+	/**
+	 * Sets the row count of a line.
+	 *
+	 * @param line
+	 *            The index of the line.
+	 * @param v
+	 *            Its view.
+	 * @param n
+	 *            The number of rows.
+	 */
+	private void setRows(final int line, final WrappedLine v, final int n) {
+		v.nlines = n;
+		// Lines hidden in collapsed folds keep 0 rows in the index
+		if (this.rowIndexValid && this.rowIndex.get(line) != 0)
+			this.rowIndex.set(line, n);
+	}
+
 	/**
 	 * Makes a <code>Segment</code> point to the text in our document between the
 	 * given positions. Note that the positions MUST be valid positions in the
@@ -1269,10 +1682,57 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 			// invalidate the view itself since the childrens
 			// desired widths will be based upon this views width.
 			this.preferenceChanged(null, true, true);
-			this.widthChanging = true;
+			this.estimateRows((int) width, false);
 		}
 		super.setSize(width, height);
-		this.widthChanging = false;
+	}
+
+	/**
+	 * Starts measuring lines whose row counts are estimates while the editor is
+	 * idle.
+	 */
+	private void startMeasuring() {
+		this.measureRescan = true;
+		if (this.getContainer() == null)
+			return;
+		if (this.measureTimer == null) {
+			this.measureTimer = new Timer(WrappedSyntaxView.MEASURE_DELAY, new ActionListener() {
+				@Override
+				public void actionPerformed(final ActionEvent e) {
+					WrappedSyntaxView.this.measureIdleLines();
+				}
+			});
+			this.measureTimer.setCoalesce(true);
+		}
+		if (!this.measureTimer.isRunning())
+			this.measureTimer.start();
+	}
+
+	/**
+	 * Rebuilds the row index if lines were added or removed, or folds changed,
+	 * since it was last built.
+	 */
+	private void syncRowIndex() {
+
+		if (this.rowIndexValid)
+			return;
+
+		final int n = this.getViewCount();
+		if (this.rows == null || this.rows.length < n || this.rows.length > 2 * n + 64)
+			this.rows = new int[n + n / 8 + 16];
+		for (int i = 0; i < n; i++)
+			this.rows[i] = ((WrappedLine) this.getView(i)).nlines;
+
+		if (this.getContainer() != null)
+			this.listenForFolds();
+		final FoldManager fm = this.foldManager;
+		if (fm != null && fm.isCodeFoldingEnabled())
+			for (int i = 0; i < fm.getFoldCount(); i++)
+				this.hideCollapsedLines(fm.getFold(i), n);
+
+		this.rowIndex.rebuild(this.rows, n);
+		this.rowIndexValid = true;
+
 	}
 
 	/**
@@ -1355,8 +1815,13 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 	 */
 	@Override
 	public int yForLine(final Rectangle alloc, final int line) throws BadLocationException {
-		return this.yForLineContaining(alloc, this.getElement().getElement(line).getStartOffset());
-		// return alloc.y + getOffset(Y_AXIS, line);
+		if (this.isAllocationValid()) {
+			this.syncRowIndex();
+			if (this.rowIndex.get(line) == 0)
+				return -1; // Hidden in a collapsed fold
+			return this.getChildAllocationImpl(line, alloc).getBounds().y;
+		}
+		return -1;
 	}
 
 	/**
@@ -1365,16 +1830,10 @@ public class WrappedSyntaxView extends BoxView implements TabExpander, RSTAView
 	@Override
 	public int yForLineContaining(final Rectangle alloc, final int offs) throws BadLocationException {
 		if (this.isAllocationValid()) {
-			// TODO: make cached Y_AXIS offsets valid even with folding enabled
-			// to speed this back up!
 			final Rectangle r = (Rectangle) this.modelToView(offs, alloc, Bias.Forward);
 			if (r != null) {
-				if (this.host.isCodeFoldingEnabled()) {
-					final int line = this.host.getLineOfOffset(offs);
-					final FoldManager fm = this.host.getFoldManager();
-					if (fm.isLineHidden(line))
-						return -1;
-				}
+				if (this.rowIndex.get(this.getElement().getElementIndex(offs)) == 0)
+					return -1; // Hidden in a collapsed fold
 				return r.y;
 			}
 		}
@@ -16,6 +16,7 @@ import java.util.Stack;
 
 import javax.swing.text.BadLocationException;
 
+import org.fife.ui.rsyntaxtextarea.RSyntaxDocument;
 import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
 import org.fife.ui.rsyntaxtextarea.Token;
 import org.fife.ui.rsyntaxtextarea.TokenTypes;
@@ -184,6 +185,7 @@ public class HtmlFoldParser implements FoldParser {
 
 		Fold currentFold = null;
 		final int lineCount = textArea.getLineCount();
+		final RSyntaxDocument doc = (RSyntaxDocument) textArea.getDocument();
 		boolean inMLC = false;
 		boolean inJSMLC = false;
 		final TagCloseInfo tci = new TagCloseInfo();
@@ -192,6 +194,11 @@ public class HtmlFoldParser implements FoldParser {
 
 			for (int line = 0; line < lineCount; line++) {
 
+				// Only the start of a long line is highlighted, so any blocks
+				// in it can't be told apart from the rest of its text.
+				if (doc.isLongLine(line))
+					continue;
+
 				Token t = textArea.getTokenListForLine(line);
 				while (t != null && t.isPaintable()) {
 
@@ -71,45 +71,24 @@ public class ActionScriptTokenMaker extends AbstractJFlexCTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = ActionScriptTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\3\0\1\1\1\2\2\3\1\2\1\4\1\5\3\2"
-			+ "\1\6\2\1\1\7\2\10\3\2\1\10\7\2\1\11" + "\1\2\5\10\22\2\1\12\1\13\5\12\1\14\3\12"
-			+ "\1\1\1\15\1\3\1\16\1\15\1\16\1\15\1\17" + "\1\15\1\2\1\20\1\4\5\2\1\21\3\2\2\6"
-			+ "\1\22\1\1\1\23\1\24\21\2\1\21\12\2\1\0" + "\1\10\4\2\2\21\11\2\1\21\2\2\1\21\17\2"
-			+ "\1\25\10\0\1\1\1\16\1\0\2\17\1\2\3\4" + "\6\2\1\21\4\2\1\6\1\26\1\6\1\1\1\0"
-			+ "\1\27\5\2\1\21\23\2\1\21\11\2\1\27\20\2" + "\1\21\4\2\1\27\12\2\10\0\1\1\1\2\1\30"
-			+ "\2\4\10\2\1\6\1\1\1\31\5\2\1\0\1\32" + "\13\2\1\33\3\2\1\33\40\2\2\0\1\34\2\0"
-			+ "\1\35\1\1\1\2\1\4\7\2\1\6\1\1\4\2" + "\1\21\1\0\17\2\1\33\23\2\4\0\1\1\1\2"
-			+ "\1\4\6\2\1\6\1\1\4\2\1\0\35\2\1\1" + "\2\2\1\0\24\2\1\33\1\2\1\21\25\2\1\33" + "\40\2";
+	private static final ScannerTables TABLES = ScannerTables.load(ActionScriptTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = ActionScriptTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\3\0\6\1\1\11\4\1\1\11\17\1\2\11\3\1"
-			+ "\1\11\24\1\1\11\5\1\1\11\15\1\1\11\14\1" + "\1\11\1\1\1\11\35\1\1\0\43\1\1\11\10\0"
-			+ "\2\1\1\0\22\1\1\11\2\1\1\0\105\1\10\0" + "\2\1\1\11\14\1\1\11\5\1\1\0\61\1\2\0"
-			+ "\1\1\2\0\22\1\1\0\43\1\4\0\17\1\1\0" + "\40\1\1\0\26\1\1\11\66\1";
+	private static final int[] ZZ_ACTION = ActionScriptTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = ActionScriptTokenMaker.zzUnpackCMap(ActionScriptTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = ActionScriptTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\20\1\10\1\0\1\20\1\16\22\0\1\71\1\47\1\15"
-			+ "\1\17\1\1\1\47\1\51\1\7\2\54\1\22\1\42\1\41\1\30" + "\1\31\1\21\1\4\3\6\4\6\2\3\1\52\1\41\1\43\1\44"
-			+ "\1\46\1\50\1\53\1\77\1\5\1\75\1\25\1\27\1\73\1\1"
-			+ "\1\113\1\112\1\1\1\100\1\24\1\101\1\102\1\103\1\107\1\114"
-			+ "\1\111\1\105\1\76\1\110\1\106\1\1\1\23\2\1\1\54\1\11"
-			+ "\1\54\1\45\1\2\1\0\1\35\1\14\1\63\1\61\1\34\1\26" + "\1\72\1\55\1\57\1\104\1\62\1\36\1\66\1\13\1\64\1\56"
-			+ "\1\67\1\33\1\37\1\32\1\12\1\74\1\60\1\70\1\65\1\1" + "\1\40\1\45\1\40\1\50\uff81\0";
+	private static final char[] ZZ_CMAP = ActionScriptTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -122,752 +101,16 @@ public class ActionScriptTokenMaker extends AbstractJFlexCTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = ActionScriptTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\115\0\232\0\347\0\u0134\0\u0181\0\u01ce\0\u021b"
-			+ "\0\u0268\0\u02b5\0\u0302\0\u034f\0\u039c\0\u03e9\0\u02b5\0\u0436"
-			+ "\0\u0483\0\u04d0\0\u051d\0\u056a\0\u05b7\0\u0604\0\u0651\0\u069e"
-			+ "\0\u06eb\0\u0738\0\u0785\0\u07d2\0\u081f\0\u086c\0\u02b5\0\u02b5"
-			+ "\0\u08b9\0\u0906\0\u0953\0\u02b5\0\u09a0\0\u09ed\0\u0a3a\0\u0a87"
-			+ "\0\u0ad4\0\u0b21\0\u0b6e\0\u0bbb\0\u0c08\0\u0c55\0\u0ca2\0\u0cef"
-			+ "\0\u0d3c\0\u0d89\0\u0dd6\0\u0e23\0\u0e70\0\u0ebd\0\u0f0a\0\u0f57"
-			+ "\0\u02b5\0\u0fa4\0\u0ff1\0\u103e\0\u108b\0\u10d8\0\u02b5\0\u1125"
-			+ "\0\u1172\0\u11bf\0\u120c\0\u1259\0\u1259\0\u1259\0\u12a6\0\u12f3"
-			+ "\0\u1340\0\u138d\0\u13da\0\u1427\0\u02b5\0\u1474\0\u14c1\0\u150e"
-			+ "\0\u155b\0\u15a8\0\u15f5\0\u1642\0\u168f\0\u16dc\0\u1729\0\u1776"
-			+ "\0\u17c3\0\u02b5\0\u1810\0\u02b5\0\u185d\0\u18aa\0\u18f7\0\u1944"
-			+ "\0\u1991\0\u19de\0\u1a2b\0\u1a78\0\u1ac5\0\u1b12\0\u1b5f\0\u1bac"
-			+ "\0\u1bf9\0\u1c46\0\u1c93\0\u1ce0\0\u1d2d\0\u1d7a\0\u0134\0\u1dc7"
-			+ "\0\u1e14\0\u1e61\0\u1eae\0\u1efb\0\u1f48\0\u1f95\0\u1fe2\0\u202f"
-			+ "\0\u207c\0\u051d\0\u20c9\0\u2116\0\u2163\0\u21b0\0\u21fd\0\u224a"
-			+ "\0\u2297\0\u22e4\0\u2331\0\u237e\0\u23cb\0\u2418\0\u2465\0\u24b2"
-			+ "\0\u24ff\0\u254c\0\u2599\0\u25e6\0\u2633\0\u2680\0\u26cd\0\u271a"
-			+ "\0\u2767\0\u27b4\0\u2801\0\u284e\0\u289b\0\u28e8\0\u2935\0\u2982"
-			+ "\0\u29cf\0\u2a1c\0\u2a69\0\u2ab6\0\u2b03\0\u02b5\0\u2b50\0\u2b9d"
-			+ "\0\u2bea\0\u2c37\0\u2c84\0\u2cd1\0\u2d1e\0\u2d6b\0\u2db8\0\u2e05"
-			+ "\0\u2e52\0\u1259\0\u2e9f\0\u2eec\0\u2f39\0\u2f86\0\u2fd3\0\u3020"
-			+ "\0\u306d\0\u30ba\0\u3107\0\u3154\0\u31a1\0\u31ee\0\u323b\0\u3288"
-			+ "\0\u32d5\0\u3322\0\u336f\0\u02b5\0\u33bc\0\u3409\0\u3456\0\u34a3"
-			+ "\0\u34f0\0\u353d\0\u358a\0\u35d7\0\u3624\0\u3671\0\u36be\0\u370b"
-			+ "\0\u3758\0\u37a5\0\u37f2\0\u383f\0\u388c\0\u38d9\0\u3926\0\u3973"
-			+ "\0\u39c0\0\u3a0d\0\u3a5a\0\u3aa7\0\u3af4\0\u3b41\0\u3b8e\0\u3bdb"
-			+ "\0\u3c28\0\u3c75\0\u3cc2\0\u3d0f\0\u3d5c\0\u3da9\0\u3df6\0\u3e43"
-			+ "\0\u3e90\0\u3edd\0\u3f2a\0\u3f77\0\u3fc4\0\u4011\0\u405e\0\u40ab"
-			+ "\0\u40f8\0\u4145\0\u4192\0\u41df\0\u422c\0\u4279\0\u42c6\0\u4313"
-			+ "\0\u4360\0\u43ad\0\u43fa\0\u4447\0\u4494\0\u44e1\0\u452e\0\u457b"
-			+ "\0\u45c8\0\u0134\0\u4615\0\u4662\0\u46af\0\u46fc\0\u4749\0\u4796"
-			+ "\0\u47e3\0\u4830\0\u487d\0\u48ca\0\u4917\0\u4964\0\u49b1\0\u49fe"
-			+ "\0\u4a4b\0\u4a98\0\u4ae5\0\u4b32\0\u4b7f\0\u4bcc\0\u02b5\0\u4c19"
-			+ "\0\u4c66\0\u4cb3\0\u4d00\0\u4d4d\0\u4d9a\0\u4de7\0\u4e34\0\u4e81"
-			+ "\0\u4ece\0\u4f1b\0\u4f68\0\u02b5\0\u4fb5\0\u5002\0\u504f\0\u509c"
-			+ "\0\u50e9\0\u5136\0\u0134\0\u5183\0\u51d0\0\u521d\0\u526a\0\u52b7"
-			+ "\0\u5304\0\u5351\0\u539e\0\u53eb\0\u5438\0\u5485\0\u0134\0\u54d2"
-			+ "\0\u551f\0\u556c\0\u55b9\0\u5606\0\u5653\0\u56a0\0\u56ed\0\u573a"
-			+ "\0\u5787\0\u57d4\0\u5821\0\u586e\0\u58bb\0\u5908\0\u5955\0\u59a2"
-			+ "\0\u59ef\0\u5a3c\0\u5a89\0\u5ad6\0\u5b23\0\u5b70\0\u5bbd\0\u5c0a"
-			+ "\0\u5c57\0\u5ca4\0\u5cf1\0\u5d3e\0\u5d8b\0\u5dd8\0\u5e25\0\u5e72"
-			+ "\0\u5ebf\0\u5f0c\0\u5f59\0\u5fa6\0\u5ff3\0\u6040\0\u608d\0\u60da"
-			+ "\0\u6127\0\u6174\0\u61c1\0\u620e\0\u625b\0\u62a8\0\u62f5\0\u6342"
-			+ "\0\u638f\0\u63dc\0\u6429\0\u6476\0\u64c3\0\u6510\0\u655d\0\u65aa"
-			+ "\0\u65f7\0\u6644\0\u6691\0\u66de\0\u672b\0\u6778\0\u67c5\0\u6812"
-			+ "\0\u685f\0\u68ac\0\u68f9\0\u6946\0\u6993\0\u69e0\0\u6a2d\0\u6a7a"
-			+ "\0\u6ac7\0\u6b14\0\u6b61\0\u6bae\0\u6bfb\0\u6c48\0\u6c95\0\u6ce2"
-			+ "\0\u6d2f\0\u6d7c\0\u6dc9\0\u6e16\0\u6e63\0\u6eb0\0\u6efd\0\u6f4a"
-			+ "\0\u6f97\0\u6fe4\0\u7031\0\u707e\0\u70cb\0\u7118\0\u7165\0\u6040"
-			+ "\0\u71b2\0\u6127\0\u71ff\0\u724c\0\u7299\0\u72e6\0\u7333\0\u7380"
-			+ "\0\u73cd\0\u741a\0\u7467\0\u74b4\0\u7501\0\u754e\0\u759b\0\u75e8"
-			+ "\0\u7635\0\u7682\0\u76cf\0\u771c\0\u7769\0\u77b6\0\u7803\0\u7850"
-			+ "\0\u789d\0\u78ea\0\u7937\0\u7984\0\u79d1\0\u7a1e\0\u7a6b\0\u7ab8"
-			+ "\0\u7b05\0\u7b52\0\u7b9f\0\u7bec\0\u7c39\0\u7c86\0\u7cd3\0\u7d20"
-			+ "\0\u7d6d\0\u7dba\0\u7e07\0\u7e54\0\u7ea1\0\u7eee\0\u7f3b\0\u7f88"
-			+ "\0\u7fd5\0\u8022\0\u806f\0\u80bc\0\u8109\0\u8156\0\u81a3\0\u81f0"
-			+ "\0\u823d\0\u828a\0\u82d7\0\u8324\0\u8371\0\u83be\0\u840b\0\u8458"
-			+ "\0\u84a5\0\u84f2\0\u853f\0\u858c\0\u85d9\0\u8626\0\u8673\0\347"
-			+ "\0\u86c0\0\u02b5\0\u870d\0\u875a\0\u87a7\0\u87f4\0\u8841\0\u888e"
-			+ "\0\u88db\0\u8928\0\u8975\0\u89c2\0\u8a0f\0\u8a5c\0\u8aa9\0\u8af6"
-			+ "\0\u8b43\0\u8b90\0\u8bdd\0\u8c2a\0\u8c77\0\u8cc4\0\u8d11\0\u8d5e"
-			+ "\0\u8dab\0\u8df8\0\u8e45\0\u8e92\0\u8edf\0\u8f2c\0\u8f79\0\u8fc6"
-			+ "\0\u9013\0\u9060\0\u90ad\0\u90fa\0\u9147\0\u9194\0\u91e1\0\u922e"
-			+ "\0\u927b\0\u92c8\0\u9315\0\u9362\0\u93af\0\u93fc\0\u9449\0\u9496"
-			+ "\0\u94e3\0\u9530\0\u957d\0\u95ca\0\u9617\0\u9664\0\u96b1\0\u96fe";
+	private static final int[] ZZ_ROWMAP = ActionScriptTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = ActionScriptTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\4\2\5\1\6\1\7\1\10\1\6\1\11\1\12"
-			+ "\1\4\1\13\1\14\1\15\1\16\1\17\1\20\1\21" + "\1\22\1\23\1\24\1\5\1\25\1\26\1\5\1\27"
-			+ "\1\30\1\31\1\32\1\33\1\34\1\35\1\36\1\37" + "\1\40\1\41\1\42\2\23\1\43\1\23\1\44\1\45"
-			+ "\1\44\1\4\1\37\1\5\1\46\1\47\1\50\1\51" + "\1\5\1\52\1\53\1\5\1\54\2\5\1\21\1\55"
-			+ "\1\56\1\57\1\60\1\5\1\61\1\62\1\63\1\64" + "\1\65\1\5\1\66\1\67\6\5\10\70\1\71\11\70"
-			+ "\1\72\3\70\1\73\26\70\1\74\2\70\1\75\34\70" + "\10\76\1\77\15\76\1\100\26\76\1\101\2\76\1\102"
-			+ "\34\76\7\4\2\0\4\4\2\0\1\4\3\0\5\4" + "\2\0\6\4\13\0\1\4\1\0\14\4\1\0\24\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\6\5\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\3\104\2\6\1\104\1\6\2\0\4\104\2\0\1\104" + "\3\0\1\104\1\105\2\106\1\107\1\0\1\110\2\104"
-			+ "\1\107\1\104\1\105\1\104\13\0\1\104\1\0\4\104" + "\1\106\7\104\1\0\1\104\1\106\24\104\1\111\1\112"
-			+ "\1\104\1\112\2\0\4\104\2\0\1\104\3\0\1\113" + "\1\105\2\106\1\107\1\0\1\110\2\104\1\107\1\104"
-			+ "\1\105\1\104\13\0\1\104\1\0\4\104\1\106\6\104" + "\1\113\1\0\1\104\1\106\21\104\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5" + "\13\0\1\4\1\0\7\5\1\114\4\5\1\0\23\5"
-			+ "\7\11\1\115\1\11\1\116\103\11\115\0\1\4\6\5" + "\2\0\1\103\1\5\1\117\1\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\5\5\1\120\13\0\1\4\1\0\1\5" + "\1\121\1\122\11\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\1\123\2\5\2\0\1\4\3\0\5\5\2\0" + "\2\5\1\124\1\125\2\5\13\0\1\4\1\0\7\5"
-			+ "\1\126\4\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\1\5\1\127"
-			+ "\4\5\13\0\1\4\1\0\14\5\1\0\23\5\10\16" + "\1\130\1\131\3\16\1\132\77\16\7\4\2\0\4\4"
-			+ "\2\0\1\4\3\0\5\4\2\0\6\4\13\0\1\4" + "\1\0\2\4\1\133\11\4\1\0\23\4\20\0\1\21"
-			+ "\50\0\1\21\44\0\1\134\1\135\21\0\1\44\114\0" + "\1\44\50\0\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0" + "\14\5\1\0\7\5\1\136\13\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\3\5" + "\1\137\2\5\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\1\140\2\5\2\0\1\4" + "\3\0\5\5\2\0\3\5\1\141\1\5\1\142\13\0"
-			+ "\1\4\1\0\2\5\1\143\4\5\1\144\4\5\1\0" + "\23\5\30\0\1\44\13\0\1\44\53\0\2\110\1\0"
-			+ "\1\110\106\0\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\1\5\1\145\1\146\1\147"
-			+ "\2\5\13\0\1\4\1\0\1\150\6\5\1\151\1\152" + "\3\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\2\5\1\153\1\154" + "\2\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\4\5\1\155\1\156\13\0\1\4\1\0\12\5"
-			+ "\1\157\1\160\1\0\2\5\1\161\20\5\1\4\6\5" + "\2\0\1\103\1\5\1\162\1\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\4\5\1\162" + "\7\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\1\157\1\5\1\157" + "\1\163\2\5\13\0\1\4\1\0\7\5\1\164\4\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\1\165\2\5" + "\2\0\1\4\3\0\5\5\2\0\1\166\1\5\1\167"
-			+ "\3\5\13\0\1\4\1\0\3\5\1\170\2\5\1\171" + "\5\5\1\0\23\5\42\0\1\44\1\0\1\44\113\0"
-			+ "\1\172\1\44\114\0\1\44\1\0\1\173\112\0\1\44" + "\4\0\1\44\43\0\1\4\6\5\2\0\1\103\1\174"
-			+ "\2\5\2\0\1\4\3\0\5\5\2\0\1\5\1\175" + "\1\5\1\176\1\177\1\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\1\5\1\200" + "\1\5\2\0\1\4\3\0\3\5\1\201\1\5\2\0"
-			+ "\5\5\1\202\13\0\1\4\1\0\11\5\1\203\2\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0" + "\1\204\1\5\1\205\11\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\2\5\1\206\3\5\13\0\1\4\1\0\7\5\1\157"
-			+ "\1\207\3\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\3\5\1\210"
-			+ "\1\211\1\5\13\0\1\4\1\0\7\5\1\212\4\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\1\5\1\213"
-			+ "\1\5\2\0\1\4\3\0\5\5\2\0\1\5\1\157" + "\4\5\13\0\1\4\1\0\14\5\1\0\2\5\1\214"
-			+ "\20\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\3\5\1\215\2\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\1\157\1\5"
-			+ "\1\216\3\5\13\0\1\4\1\0\7\5\1\217\4\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\1\220\2\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\3\5\1\221" + "\2\5\13\0\1\4\1\0\7\5\1\222\4\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\7\5"
-			+ "\1\223\4\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\1\5\1\224"
-			+ "\4\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\2\5\1\225\3\5\13\0\1\4\1\0\14\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\3\5\1\226\2\5\13\0" + "\1\4\1\0\7\5\1\227\4\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\1\230\2\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\14\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\2\5\1\231\2\0" + "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0"
-			+ "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\1\232\1\5\1\233"
-			+ "\3\5\13\0\1\4\1\0\7\5\1\234\4\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\2\5\1\235\3\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\10\70\1\0\11\70\1\0"
-			+ "\3\70\1\0\26\70\1\0\2\70\1\0\34\70\21\0" + "\1\236\125\0\1\237\24\0\1\240\67\0\1\241\142\0"
-			+ "\1\242\34\0\10\76\1\0\15\76\1\0\26\76\1\0" + "\2\76\1\0\34\76\32\0\1\243\24\0\1\244\67\0"
-			+ "\1\245\142\0\1\246\34\0\7\4\2\0\1\4\1\247" + "\2\4\2\0\1\4\3\0\5\4\2\0\6\4\13\0"
-			+ "\1\4\1\0\14\4\1\0\23\4\7\104\2\0\4\104" + "\2\0\1\104\3\0\5\104\2\0\6\104\13\0\1\104"
-			+ "\1\0\14\104\1\0\26\104\2\250\1\104\1\250\2\0" + "\4\104\2\0\1\104\3\0\5\104\1\251\1\0\6\104"
-			+ "\2\0\1\251\10\0\1\104\1\0\14\104\1\0\26\104" + "\2\110\1\104\1\110\2\0\4\104\2\0\1\104\3\0"
-			+ "\2\104\2\106\1\107\2\0\2\104\1\107\3\104\13\0" + "\1\104\1\0\4\104\1\106\7\104\1\0\1\104\1\106"
-			+ "\24\104\2\111\1\104\1\111\2\0\4\104\2\0\1\104" + "\3\0\2\104\2\106\1\107\1\0\1\110\2\104\1\107"
-			+ "\3\104\13\0\1\104\1\0\4\104\1\106\7\104\1\0" + "\1\104\1\106\24\104\1\111\1\112\1\104\1\112\2\0"
-			+ "\4\104\2\0\1\104\3\0\1\104\1\252\2\106\1\107" + "\1\0\1\110\2\104\1\107\1\104\1\252\1\104\13\0"
-			+ "\1\104\1\0\4\104\1\106\7\104\1\0\1\104\1\106" + "\24\104\4\253\2\0\3\104\1\253\2\0\1\104\3\0"
-			+ "\2\104\3\253\2\0\2\104\2\253\2\104\13\0\1\104" + "\1\0\4\104\1\253\1\104\1\253\5\104\1\0\1\104"
-			+ "\1\253\1\104\1\253\1\104\1\253\15\104\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\6\5\13\0\1\4\1\0\7\5\1\254\4\5\1\0" + "\23\5\4\255\1\11\1\255\2\11\1\256\1\11\1\257"
-			+ "\3\11\10\255\1\11\3\255\2\11\61\255\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\2\5\1\260\1\5\1\261\1\5\13\0\1\4\1\0" + "\4\5\1\262\7\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\2\5" + "\1\157\3\5\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\4\5\1\263"
-			+ "\7\5\1\0\23\5\1\4\6\5\2\0\1\103\1\5" + "\1\264\1\5\2\0\1\4\3\0\5\5\2\0\6\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\4\5\1\265\1\5\13\0\1\4\1\0\14\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\3\5" + "\1\266\7\5\1\267\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\1\270" + "\5\5\13\0\1\4\1\0\11\5\1\271\2\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\1\157\5\5\13\0\1\4\1\0"
-			+ "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\2\5\1\272\3\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\11\130\1\273" + "\3\130\1\274\103\130\1\16\1\130\2\16\1\0\1\16"
-			+ "\1\275\3\16\10\130\1\16\3\130\2\16\61\130\7\4" + "\2\0\2\4\1\276\1\4\2\0\1\4\3\0\5\4"
-			+ "\2\0\6\4\13\0\1\4\1\0\14\4\1\0\23\4" + "\22\0\1\277\72\0\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\1\5\1\300\3\5\2\0\6\5" + "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\1\301\5\5\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\1\5\1\302\1\5\2\0" + "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0"
-			+ "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\4\5\1\303\1\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\6\5\13\0\1\4\1\0\6\5\1\304\5\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\1\5\1\305\1\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\1\5\1\306" + "\4\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\1\307\2\5\2\0\1\4\3\0" + "\5\5\2\0\3\5\1\310\2\5\13\0\1\4\1\0"
-			+ "\10\5\1\157\3\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\4\5"
-			+ "\1\311\1\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\1\5\1\312\4\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\1\5\1\313\4\5" + "\13\0\1\4\1\0\2\5\1\314\11\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\14\5\1\0"
-			+ "\1\315\22\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0"
-			+ "\1\5\1\316\12\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\1\317"
-			+ "\5\5\13\0\1\4\1\0\11\5\1\320\2\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\1\5\1\321\1\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\5\5\1\120" + "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\6\5\1\322\5\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\1\323\5\5\13\0\1\4\1\0"
-			+ "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\3\5\1\324\2\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\6\5\13\0\1\4\1\0\4\5\1\157\7\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\2\5\1\325\2\0"
-			+ "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\3\5\1\326\2\5" + "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\1\5\1\327\12\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\3\5\1\330\2\5\13\0\1\4"
-			+ "\1\0\7\5\1\331\4\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\1\332\5\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\2\5\1\333" + "\11\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\1\5\1\334\4\5" + "\13\0\1\4\1\0\14\5\1\0\23\5\44\0\1\44"
-			+ "\1\0\1\23\46\0\1\4\6\5\2\0\1\103\2\5" + "\1\335\2\0\1\4\3\0\5\5\2\0\6\5\13\0"
-			+ "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\2\5"
-			+ "\1\336\3\5\13\0\1\4\1\0\2\5\1\337\4\5" + "\1\340\4\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\1\5\1\341" + "\4\5\13\0\1\4\1\0\6\5\1\342\5\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\3\5\1\343\2\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\1\344\5\5"
-			+ "\13\0\1\4\1\0\6\5\1\345\5\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\14\5\1\0" + "\1\5\1\346\21\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\14\5\1\0\1\5\1\347\6\5\1\350\12\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\1\5\1\351"
-			+ "\12\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4"
-			+ "\1\0\2\5\1\352\11\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\1\353\5\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\3\5\1\354\1\5\2\0\4\5\1\355\1\5\13\0" + "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\1\5\1\356\1\5\2\0\1\4\3\0\5\5" + "\2\0\6\5\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\1\357\3\5\1\324\1\120\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\3\5\1\360"
-			+ "\2\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\1\5\1\361\1\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\14\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0" + "\14\5\1\0\3\5\1\362\17\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\2\5" + "\1\363\3\5\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\13\5\1\364"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\1\365\5\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\1\366\5\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\1\5\1\367\1\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\14\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\1\5\1\157\4\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0" + "\1\4\1\0\2\5\1\162\11\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\4\5\1\370\1\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\1\5\1\371\4\5\13\0"
-			+ "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5"
-			+ "\13\0\1\4\1\0\10\5\1\372\3\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\1\373\5\5\13\0\1\4\1\0\14\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\1\374\2\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\14\5\1\0\2\5\1\375\20\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\4\5\1\376\1\5\13\0\1\4\1\0\11\5\1\377"
-			+ "\2\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\12\5\1\u0100\10\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\1\5\1\u0101\4\5\13\0\1\4\1\0\14\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\4\5\1\u0102\1\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\1\u0103\2\5\2\0\1\4\3\0\5\5\2\0\6\5" + "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\6\5\1\u0104\5\5\1\0"
-			+ "\23\5\56\0\1\u0105\74\0\1\u0106\110\0\1\u0107\142\0"
-			+ "\1\u0108\112\0\1\u0109\74\0\1\u010a\110\0\1\u010b\142\0"
-			+ "\1\u010c\34\0\3\4\4\u010d\2\0\3\4\1\u010d\2\0" + "\1\4\3\0\2\4\3\u010d\2\0\2\4\2\u010d\2\4"
-			+ "\13\0\1\4\1\0\4\4\1\u010d\1\4\1\u010d\5\4" + "\1\0\1\4\1\u010d\1\4\1\u010d\1\4\1\u010d\15\4"
-			+ "\3\104\2\250\1\104\1\250\2\0\4\104\2\0\1\104" + "\3\0\2\104\2\106\1\104\2\0\6\104\13\0\1\104"
-			+ "\1\0\4\104\1\106\7\104\1\0\1\104\1\106\21\104" + "\3\0\2\250\1\0\1\250\106\0\3\104\4\253\2\0"
-			+ "\3\104\1\253\2\0\1\104\3\0\1\104\1\252\3\253" + "\2\0\2\104\2\253\1\252\1\104\13\0\1\104\1\0"
-			+ "\4\104\1\253\1\104\1\253\5\104\1\0\1\104\1\253" + "\1\104\1\253\1\104\1\253\15\104\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\4\5" + "\1\u010e\1\5\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\7\255\1\u010f\1\255\1\u0110\103\255\7\256\1\u010f\105\256"
-			+ "\3\255\4\u0111\1\u010f\1\255\1\u0110\2\255\1\u0111\10\255"
-			+ "\3\u0111\4\255\2\u0111\23\255\1\u0111\1\255\1\u0111\7\255"
-			+ "\1\u0111\1\255\1\u0111\1\255\1\u0111\15\255\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\5\5\1\156\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\7\5\1\u0112" + "\4\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\2\5\1\u0113\3\5" + "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\3\5\1\u0114\2\5\13\0\1\4\1\0\14\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\1\372\5\5\13\0\1\4\1\0"
-			+ "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\4\5\1\157\1\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\4\5\1\u0115\1\5\13\0\1\4\1\0\14\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\1\u0116\5\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\2\5\1\u0117\11\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\2\5\1\u0118\3\5\13\0\1\4\1\0\14\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\3\5\1\u0119\2\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\10\130\1\0\107\130\4\u011a" + "\2\130\1\273\2\130\1\u011a\1\274\7\130\3\u011a\4\130"
-			+ "\2\u011a\23\130\1\u011a\1\130\1\u011a\7\130\1\u011a\1\130"
-			+ "\1\u011a\1\130\1\u011a\15\130\7\4\2\0\4\4\2\0" + "\1\4\3\0\5\4\2\0\6\4\13\0\1\4\1\0"
-			+ "\6\4\1\u011b\5\4\1\0\23\4\21\0\1\u011c\73\0" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\14\5\1\0" + "\10\5\1\u011d\2\5\1\u011e\7\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\2\5" + "\1\372\3\5\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\6\5\1\u011f"
-			+ "\5\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\5\5\1\307\13\0"
-			+ "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5"
-			+ "\13\0\1\4\1\0\7\5\1\u0120\4\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\3\5\1\u0121\2\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\14\5\1\u0122\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\2\5\1\u0123" + "\3\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\6\5\13\0\1\4\1\0\6\5\1\u0124\5\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\4\5\1\u0125\1\5\13\0"
-			+ "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\1\u0126\22\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\6\5\13\0\1\4\1\0\7\5\1\u0127\4\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\5\5\1\157\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0" + "\1\4\1\0\14\5\1\0\1\u0128\22\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\2\5\1\u0129\3\5\13\0\1\4\1\0\14\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\1\u012a\2\5\2\0" + "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0"
-			+ "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4"
-			+ "\1\0\7\5\1\u012b\4\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\6\5\13\0\1\4\1\0\4\5\1\u012c\7\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\3\5\1\u012d\2\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\2\5\1\u012e" + "\3\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\4\5\1\u012f\1\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\2\5\1\265\3\5\13\0"
-			+ "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5"
-			+ "\13\0\1\4\1\0\4\5\1\u0130\7\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\2\5\1\221\3\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\1\u0131\1\u0132\4\5" + "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\1\5\1\u0133\12\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\15\5\1\u0134\5\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\1\357\5\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\6\5\13\0\1\4\1\0\7\5\1\u0135\4\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\4\5\1\u0131\1\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0" + "\1\4\1\0\14\5\1\0\2\5\1\u0116\20\5\1\4"
-			+ "\6\5\2\0\1\103\1\5\1\u0136\1\5\2\0\1\4" + "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\2\5\1\u0137\20\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\1\u0138\5\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\5\5\1\u0139\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\5\5\1\u013a" + "\6\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\10\5\1\u012f\3\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\2\5\1\u013b\3\5\13\0\1\4\1\0\14\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\4\5\1\u013c\1\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\1\5\1\u013d"
-			+ "\4\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\6\5\13\0\1\4\1\0\2\5\1\u013e\11\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\3\5\1\u013f\2\5\13\0" + "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\4\5" + "\1\u0140\1\5\13\0\1\4\1\0\7\5\1\u0141\4\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\4\5\1\120\1\5\13\0"
-			+ "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5"
-			+ "\13\0\1\4\1\0\1\157\13\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\3\5\1\u0142\2\5\13\0\1\4\1\0\14\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\2\5\1\u0143\3\5\13\0" + "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\3\5" + "\1\u0144\2\5\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\6\5\1\353"
-			+ "\5\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\5\5\1\314\13\0"
-			+ "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\1\u0145"
-			+ "\4\5\1\126\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\4\5\1\u0146\1\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\1\5\1\u0147\4\5" + "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\5\5\1\u0148\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\14\5\1\0"
-			+ "\4\5\1\u0149\7\5\1\u014a\1\u0134\1\u014b\4\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\6\5\13\0\1\4\1\0\7\5\1\u014c\4\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0" + "\6\5\1\u014d\5\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5" + "\13\0\1\4\1\0\7\5\1\u014e\4\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\3\5\1\225\2\5\13\0\1\4\1\0"
-			+ "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4"
-			+ "\1\0\1\372\13\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\5\5"
-			+ "\1\301\13\0\1\4\1\0\14\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\6\5\13\0\1\4\1\0\2\5\1\u014f\11\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\4\5\1\372\1\5\13\0" + "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\2\5\1\u0150\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\2\5\1\u0151\3\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0"
-			+ "\2\5\1\u0152\11\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\2\5"
-			+ "\1\367\3\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\1\5\1\u0153\1\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\1\370\5\5\13\0" + "\1\4\1\0\14\5\1\0\23\5\52\0\1\u0154\76\0"
-			+ "\1\u0105\136\0\1\u0155\67\0\1\u0156\135\0\1\u0157\76\0"
-			+ "\1\u0109\136\0\1\u0158\67\0\1\u0159\63\0\3\4\4\u015a" + "\2\0\3\4\1\u015a\2\0\1\4\3\0\2\4\3\u015a"
-			+ "\2\0\2\4\2\u015a\2\4\13\0\1\4\1\0\4\4" + "\1\u015a\1\4\1\u015a\5\4\1\0\1\4\1\u015a\1\4"
-			+ "\1\u015a\1\4\1\u015a\16\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\2\5\1\u015b\3\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\10\255\1\256" + "\107\255\4\u015c\1\u010f\1\255\1\u0110\2\255\1\u015c\10\255"
-			+ "\3\u015c\4\255\2\u015c\23\255\1\u015c\1\255\1\u015c\7\255"
-			+ "\1\u015c\1\255\1\u015c\1\255\1\u015c\15\255\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\3\5\1\u015d\2\5\13\0\1\4\1\0\14\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\3\5\1\u015e\1\5\2\0\6\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\1\u015f\5\5" + "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\2\5\1\u0160\11\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\1\5\1\u0161\11\5\1\u0162\7\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\6\5\13\0\1\4\1\0\14\5\1\0\2\5\1\120" + "\20\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\5\5\1\u0163\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\5\5\1\157\6\5\1\0\23\5\3\130\4\u0164"
-			+ "\2\130\1\273\2\130\1\u0164\1\274\7\130\3\u0164\4\130"
-			+ "\2\u0164\23\130\1\u0164\1\130\1\u0164\7\130\1\u0164\1\130"
-			+ "\1\u0164\1\130\1\u0164\15\130\7\4\2\0\4\4\2\0" + "\1\4\3\0\5\4\2\0\4\4\1\u0165\1\4\13\0"
-			+ "\1\4\1\0\14\4\1\0\24\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0"
-			+ "\1\4\1\0\7\5\1\u0166\4\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\6\5\13\0\1\4\1\0\7\5\1\u0167\4\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\1\u0168\5\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0" + "\1\4\1\0\11\5\1\u0169\2\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\4\5\1\u016a\1\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\23\5\34\0\1\u016b\60\0\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\2\5"
-			+ "\1\u012f\3\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\14\5\1\0" + "\4\5\1\u016c\16\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\2\5\1\u016d\3\5" + "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\3\5\1\157\10\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\4\5\1\u016e\1\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0"
-			+ "\1\4\1\0\7\5\1\u016f\4\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\1\5\1\u0170\4\5\13\0\1\4\1\0\14\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0" + "\14\5\1\0\2\5\1\u0171\20\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5" + "\13\0\1\4\1\0\7\5\1\u0172\4\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\1\5\1\u0124"
-			+ "\12\5\1\0\23\5\1\4\6\5\2\0\1\103\1\5" + "\1\u0173\1\5\2\0\1\4\3\0\5\5\2\0\6\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\6\5\13\0\1\4\1\0\14\5\1\0\7\5\1\u0174" + "\4\5\1\u0175\6\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\2\5\1\u0176\11\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\1\u0177\5\5\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\2\5\1\u0178\2\5\2\0\6\5\13\0\1\4\1\0"
-			+ "\14\5\1\0\5\5\1\u0179\15\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\1\5"
-			+ "\1\u017a\4\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\4\5\1\324\1\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\1\u017b\5\5\13\0" + "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\3\5" + "\1\u0143\2\5\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\2\5\1\u017c\3\5\13\0\1\4\1\0"
-			+ "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\2\5\1\u017d\3\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\3\5\1\u017e\2\5\13\0\1\4\1\0\14\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\1\5\1\u017f\4\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\1\u0180\2\5\2\0\1\4\3\0\5\5\2\0\6\5" + "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\3\5\1\u0181\2\5\13\0\1\4\1\0\14\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\1\5\1\u0182\1\5" + "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0"
-			+ "\1\4\1\0\14\5\1\0\10\5\1\u012f\12\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\2\5\1\u0183\3\5\13\0\1\4\1\0\14\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\1\5\1\126\4\5\13\0" + "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\1\u0184\2\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\1\120\5\5\13\0\1\4\1\0\14\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\11\5"
-			+ "\1\u0131\2\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0"
-			+ "\1\4\1\0\2\5\1\u0185\11\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\6\5\13\0\1\4\1\0\2\5\1\u0186\11\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\1\5\1\u0187\4\5\13\0" + "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5" + "\13\0\1\4\1\0\6\5\1\171\5\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\2\5\1\u0188"
-			+ "\11\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\2\5\1\u0189\3\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\6\5\13\0\1\4\1\0\14\5\1\0\17\5\1\u018a" + "\3\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\14\5" + "\1\0\5\5\1\u018b\15\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\1\u018c\5\5" + "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\1\5\1\372\4\5\13\0\1\4\1\0\14\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\2\5\1\u018d\3\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\2\5\1\u014e"
-			+ "\3\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\6\5\13\0\1\4\1\0\6\5\1\264\5\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\1\5\1\u018e"
-			+ "\1\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0" + "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5" + "\13\0\1\4\1\0\4\5\1\372\7\5\1\0\23\5"
-			+ "\21\0\1\u018f\132\0\1\u0105\12\0\1\u0154\43\0\1\u0156"
-			+ "\1\u0190\4\u0156\1\u0190\2\0\3\u0156\2\0\1\u0190\1\0"
-			+ "\1\u0156\1\u0190\5\u0156\2\u0190\6\u0156\1\0\2\u0190\1\0"
-			+ "\1\u0190\2\0\6\u0190\14\u0156\1\0\23\u0156\21\0\1\u0191"
-			+ "\132\0\1\u0109\12\0\1\u0157\43\0\1\u0159\1\u0192\4\u0159"
-			+ "\1\u0192\2\0\3\u0159\2\0\1\u0192\1\0\1\u0159\1\u0192"
-			+ "\5\u0159\2\u0192\6\u0159\1\0\2\u0192\1\0\1\u0192\2\0"
-			+ "\6\u0192\14\u0159\1\0\23\u0159\3\4\4\u0193\2\0\3\4" + "\1\u0193\2\0\1\4\3\0\2\4\3\u0193\2\0\2\4"
-			+ "\2\u0193\2\4\13\0\1\4\1\0\4\4\1\u0193\1\4" + "\1\u0193\5\4\1\0\1\4\1\u0193\1\4\1\u0193\1\4"
-			+ "\1\u0193\16\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\3\5\1\u0194\2\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\3\255\4\u0195\1\u010f\1\255"
-			+ "\1\u0110\2\255\1\u0195\10\255\3\u0195\4\255\2\u0195\23\255"
-			+ "\1\u0195\1\255\1\u0195\7\255\1\u0195\1\255\1\u0195\1\255" + "\1\u0195\15\255\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0" + "\4\5\1\u0196\7\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5" + "\13\0\1\4\1\0\2\5\1\u0197\11\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\2\5\1\u0198\3\5\13\0\1\4\1\0"
-			+ "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\1\5" + "\1\u0124\1\5\2\0\1\4\3\0\5\5\2\0\6\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\1\5\1\u0199\4\5\13\0\1\4\1\0\14\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\6\5" + "\1\u019a\5\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0" + "\1\4\1\0\1\5\1\u019b\12\5\1\0\23\5\3\130"
-			+ "\4\u019c\2\130\1\273\2\130\1\u019c\1\274\7\130\3\u019c"
-			+ "\4\130\2\u019c\23\130\1\u019c\1\130\1\u019c\7\130\1\u019c"
-			+ "\1\130\1\u019c\1\130\1\u019c\15\130\7\4\2\0\1\4" + "\1\u019d\2\4\2\0\1\4\3\0\5\4\2\0\6\4"
-			+ "\13\0\1\4\1\0\14\4\1\0\24\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5"
-			+ "\13\0\1\4\1\0\4\5\1\301\7\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\6\5\1\u019e" + "\5\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\2\5\1\u019f\11\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\11\5\1\u01a0\2\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\4\5\1\u01a1\1\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\35\0\1\u01a2\57\0\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\3\5\1\u01a3\2\5\13\0\1\4\1\0\14\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\1\u01a4\5\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\2\5\1\u01a5" + "\3\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\3\5" + "\1\157\1\5\2\0\6\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\1\5\1\157" + "\1\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0"
-			+ "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\2\5"
-			+ "\1\u01a6\3\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\11\5\1\u012f" + "\2\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\4\5\1\314\7\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\7\5\1\u01a7\4\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\3\5\1\u01a8\2\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0"
-			+ "\1\4\1\0\6\5\1\157\5\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\2\5"
-			+ "\1\u0178\2\5\2\0\6\5\13\0\1\4\1\0\14\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\1\5\1\u01a9\4\5\13\0" + "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\4\5" + "\1\u01aa\1\5\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\7\5\1\u01ab"
-			+ "\4\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\5\5\1\u01ac\2\5\1\u01ad\12\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\6\5\1\u01ae" + "\5\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\14\5\1\0\1\5\1\u01af\16\5\1\u01b0\2\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\14\5\1\0"
-			+ "\1\120\22\5\1\4\6\5\2\0\1\103\1\5\1\u01b1" + "\1\5\2\0\1\4\3\0\3\5\1\u019b\1\5\2\0"
-			+ "\6\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\6\5\13\0\1\4\1\0\4\5\1\120\7\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0" + "\11\5\1\u01b2\2\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5" + "\13\0\1\4\1\0\2\5\1\u01b3\11\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\11\5\1\u01b4"
-			+ "\2\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\4\5\1\126\1\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\1\5\1\u01b5\1\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\14\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\1\5" + "\1\u01b6\12\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0" + "\1\4\1\0\2\5\1\u0180\11\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\6\5\13\0\1\4\1\0\11\5\1\u01b7\2\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\1\5\1\u01b8\4\5\13\0"
-			+ "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\1\5\1\u012f\3\5"
-			+ "\2\0\6\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\1\5\1\u01b9\1\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\2\5\1\u01ba\11\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\14\5\1\0\3\5\1\u01bb"
-			+ "\17\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\1\372\22\5\21\0\1\u0156\114\0\1\u0159\73\0" + "\3\4\4\5\2\0\3\4\1\5\2\0\1\4\3\0"
-			+ "\2\4\3\5\2\0\2\4\2\5\2\4\13\0\1\4" + "\1\0\4\4\1\5\1\4\1\5\5\4\1\0\1\4"
-			+ "\1\5\1\4\1\5\1\4\1\5\16\4\6\5\2\0" + "\1\103\1\5\1\372\1\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\6\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\3\255\4\11\1\u010f\1\255\1\u0110\2\255\1\11\10\255"
-			+ "\3\11\4\255\2\11\23\255\1\11\1\255\1\11\7\255" + "\1\11\1\255\1\11\1\255\1\11\15\255\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\14\5\1\0\7\5\1\u0174"
-			+ "\13\5\1\4\6\5\2\0\1\103\1\5\1\u01bc\1\5" + "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0"
-			+ "\1\4\1\0\14\5\1\0\5\5\1\u01bd\15\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\3\5\1\u01be\2\5\13\0\1\4\1\0\14\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\2\5\1\u0160\3\5\13\0" + "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\3\5" + "\1\u01bf\2\5\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\3\130\4\16\2\130\1\273\2\130\1\16\1\274\7\130" + "\3\16\4\130\2\16\23\130\1\16\1\130\1\16\7\130"
-			+ "\1\16\1\130\1\16\1\130\1\16\15\130\7\4\2\0" + "\4\4\2\0\1\4\3\0\5\4\2\0\6\4\13\0"
-			+ "\1\4\1\0\4\4\1\u01c0\7\4\1\0\24\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\6\5\13\0\1\4\1\0\5\5\1\u01c1\6\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\7\5" + "\1\u0170\4\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\3\5\1\u01c2" + "\2\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\6\5\13\0\1\4\1\0\10\5\1\157\3\5"
-			+ "\1\0\23\5\63\0\1\u01c3\31\0\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\1\5"
-			+ "\1\u01c4\4\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\14\5\1\0" + "\15\5\1\u01c5\5\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\14\5\1\0\21\5\1\u01c6\1\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\14\5\1\0\7\5\1\u01c7"
-			+ "\13\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\2\5\1\u01c8\20\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\1\5\1\u01c9"
-			+ "\4\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\3\5\1\u01ca\2\5\13\0\1\4\1\0\14\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\4\5\1\u01cb\1\5\13\0" + "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5" + "\13\0\1\4\1\0\1\5\1\u01cc\12\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\5\5\1\u01cd\13\0\1\4\1\0\14\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\1\u0172\2\5" + "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\1\u01bc\5\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\4\5\1\u01ce\1\5\13\0\1\4\1\0\14\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\1\5\1\u01cf\1\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\3\5\1\265" + "\2\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\2\5\1\u01d0\3\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\1\u0124\5\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\2\5\1\u01d1"
-			+ "\3\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\1\120\2\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\14\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\4\5\1\u01d2\2\0\6\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\2\5\1\u01d3\3\5" + "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\5\5\1\u01d4\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\4\5\1\u01d5"
-			+ "\7\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4"
-			+ "\1\0\7\5\1\u0194\4\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\4\5\1\u01d6\1\5\13\0\1\4\1\0\14\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\2\5\1\162\3\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\3\5\1\u01d7\1\5\2\0" + "\6\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\6\5\13\0\1\4\1\0\11\5\1\u0124\2\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0"
-			+ "\6\5\1\120\5\5\1\0\23\5\7\4\2\0\4\4" + "\2\0\1\4\3\0\5\4\2\0\2\4\1\u01d8\3\4"
-			+ "\13\0\1\4\1\0\14\4\1\0\24\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\2\5"
-			+ "\1\264\3\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\1\5\1\u01d9\1\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\55\0\1\u01da\37\0\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\14\5\1\0\1\u01db\22\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\3\5\1\u01dc\2\5\13\0\1\4\1\0"
-			+ "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4"
-			+ "\1\0\2\5\1\u01dd\11\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\6\5\13\0\1\4\1\0\7\5\1\u01de\4\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\2\5" + "\1\u01df\11\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0" + "\1\4\1\0\2\5\1\u01e0\11\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\6\5\13\0\1\4\1\0\14\5\1\0\1\u012f"
-			+ "\22\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\13\5\1\u01e1\7\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\2\5\1\u01e2"
-			+ "\3\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4" + "\4\5\1\u01e3\1\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\14\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0" + "\7\5\1\u01e4\4\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\1\u012f" + "\5\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\1\5" + "\1\u01e5\3\5\2\0\6\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\1\5\1\u01e6" + "\1\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0"
-			+ "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\2\5\1\u01e7\20\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\1\5\1\u012f\4\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\2\5\1\u01e8\11\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\14\5\1\0\13\5\1\u01e9"
-			+ "\1\5\1\u01ea\5\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4"
-			+ "\1\0\2\5\1\u01eb\11\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\1\u01ec\5\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\4\5\1\u012f" + "\7\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\2\5\1\126\3\5" + "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\1\u01ed\5\5\13\0\1\4\1\0\14\5\1\0\23\5"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\6\5\13\0\1\4\1\0\14\5\1\0"
-			+ "\1\u01ee\22\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0"
-			+ "\14\5\1\0\2\5\1\u01ef\20\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\2\5"
-			+ "\1\u01f0\3\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\3\5\1\u01f1\2\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\7\5\1\u01f2\4\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\1\5\1\u01f3\4\5\13\0\1\4\1\0\14\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\2\5"
-			+ "\1\u01f4\11\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\3\5\1\u01cf"
-			+ "\2\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\6\5\13\0\1\4\1\0\7\5\1\u01f5\4\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\1\314\5\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\2\5\1\u01f6" + "\3\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\6\5\13\0\1\4\1\0\7\5\1\u01f7\4\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\1\u01f8\5\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\4\5\1\177"
-			+ "\1\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4" + "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\6\5\13\0\1\4\1\0\1\5\1\372\12\5" + "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\2\5\1\u01f9\3\5\13\0" + "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\6\5" + "\13\0\1\4\1\0\1\u012f\13\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\6\5\13\0\1\4\1\0\1\u01fa\13\5\1\0"
-			+ "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4" + "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\2\5"
-			+ "\1\u01fb\11\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0"
-			+ "\1\4\1\0\14\5\1\0\10\5\1\u01ad\12\5\1\4" + "\6\5\2\0\1\103\2\5\1\u01fc\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\14\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\1\u01fd\2\5\2\0"
-			+ "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\1\343\5\5\13\0" + "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\1\u01fe" + "\5\5\13\0\1\4\1\0\14\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\3\5\1\u01ff\2\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\1\5\1\126" + "\1\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0"
-			+ "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\1\5\1\u012f\1\5\2\0\1\4\3\0\5\5"
-			+ "\2\0\6\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\7\5\1\u0200" + "\4\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\1\5\1\u0201\4\5" + "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5"
-			+ "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0" + "\6\5\13\0\1\4\1\0\14\5\1\0\22\5\1\u0202"
-			+ "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0" + "\5\5\2\0\2\5\1\u0203\3\5\13\0\1\4\1\0"
-			+ "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5" + "\2\0\1\4\3\0\5\5\2\0\4\5\1\u0204\1\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\1\5\1\u0205\1\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\14\5\1\0" + "\23\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\6\5\13\0\1\4\1\0\11\5" + "\1\u0206\2\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0" + "\1\4\1\0\4\5\1\u01bc\7\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\6\5\13\0\1\4\1\0\1\5\1\u012f\12\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\4\5\1\u0207\2\0\6\5\13\0\1\4"
-			+ "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103" + "\1\u0208\2\5\2\0\1\4\3\0\5\5\2\0\6\5"
-			+ "\13\0\1\4\1\0\14\5\1\0\23\5\1\4\6\5" + "\2\0\1\103\3\5\2\0\1\4\3\0\5\5\2\0"
-			+ "\6\5\13\0\1\4\1\0\14\5\1\0\3\5\1\u0209" + "\17\5\1\4\6\5\2\0\1\103\3\5\2\0\1\4"
-			+ "\3\0\5\5\2\0\2\5\1\u020a\3\5\13\0\1\4" + "\1\0\14\5\1\0\23\5\1\4\6\5\2\0\1\103"
-			+ "\3\5\2\0\1\4\3\0\5\5\2\0\6\5\13\0" + "\1\4\1\0\4\5\1\u020b\7\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\3\5\1\u020c\2\5\13\0\1\4\1\0\14\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\6\5\13\0\1\4\1\0"
-			+ "\14\5\1\0\2\5\1\u020d\20\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\3\5"
-			+ "\1\u020e\2\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\4\5\1\u020f\1\5\13\0\1\4\1\0" + "\14\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\5\5\1\u01f0\13\0" + "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0"
-			+ "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\5\5" + "\1\u012f\13\0\1\4\1\0\14\5\1\0\23\5\1\4"
-			+ "\6\5\2\0\1\103\3\5\2\0\1\4\3\0\5\5" + "\2\0\6\5\13\0\1\4\1\0\1\5\1\u01f0\12\5"
-			+ "\1\0\23\5\1\4\6\5\2\0\1\103\3\5\2\0" + "\1\4\3\0\5\5\2\0\2\5\1\u01b0\3\5\13\0"
-			+ "\1\4\1\0\14\5\1\0\23\5\1\4\6\5\2\0" + "\1\103\3\5\2\0\1\4\3\0\5\5\2\0\4\5"
-			+ "\1\u0210\1\5\13\0\1\4\1\0\14\5\1\0\23\5" + "\1\4\6\5\2\0\1\103\3\5\2\0\1\4\3\0"
-			+ "\5\5\2\0\6\5\13\0\1\4\1\0\2\5\1\u0200" + "\11\5\1\0\23\5\1\4\6\5\2\0\1\103\3\5"
-			+ "\2\0\1\4\3\0\5\5\2\0\6\5\13\0\1\4" + "\1\0\2\5\1\u01f3\11\5\1\0\23\5";
+	private static final int[] ZZ_TRANS = ActionScriptTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[528];
-		int offset = 0;
-		offset = ActionScriptTokenMaker.zzUnpackAction(ActionScriptTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[528];
-		int offset = 0;
-		offset = ActionScriptTokenMaker.zzUnpackAttribute(ActionScriptTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 190) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[528];
-		int offset = 0;
-		offset = ActionScriptTokenMaker.zzUnpackRowMap(ActionScriptTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[38731];
-		int offset = 0;
-		offset = ActionScriptTokenMaker.zzUnpackTrans(ActionScriptTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/** zzAtEOF == true <=> the scanner is at the EOF */
 	private boolean zzAtEOF;
 
@@ -1161,7 +404,7 @@ public class ActionScriptTokenMaker extends AbstractJFlexCTokenMaker {
 			switch (zzAction < 0 ? zzAction : ActionScriptTokenMaker.ZZ_ACTION[zzAction]) {
 			case 5: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 30:
 				break;
@@ -1225,7 +468,7 @@ public class ActionScriptTokenMaker extends AbstractJFlexCTokenMaker {
 			case 12: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 42:
 				break;
@@ -1243,14 +486,14 @@ public class ActionScriptTokenMaker extends AbstractJFlexCTokenMaker {
 			case 4: {
 				this.addToken(TokenTypes.ERROR_CHAR);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 45:
 				break;
 			case 6: {
 				this.addToken(TokenTypes.ERROR_STRING_DOUBLE);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 46:
 				break;
@@ -1316,7 +559,7 @@ public class ActionScriptTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 11: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 58:
 				break;
@@ -1327,19 +570,19 @@ public class ActionScriptTokenMaker extends AbstractJFlexCTokenMaker {
 					case EOL_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 529:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 530:
 						break;
 					case MLC: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 531:
 						break;
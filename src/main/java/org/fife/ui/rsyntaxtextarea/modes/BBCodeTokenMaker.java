@@ -80,31 +80,24 @@ public class BBCodeTokenMaker extends AbstractMarkupTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = BBCodeTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\2\0\1\1\1\2\1\3\1\4\1\5\1\6\1\7"
-			+ "\4\10\6\5\1\11\1\12\1\4\23\5";
+	private static final ScannerTables TABLES = ScannerTables.load(BBCodeTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = BBCodeTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\2\0\2\1\1\11\2\1\2\11\13\1\2\11\23\1";
+	private static final int[] ZZ_ACTION = BBCodeTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = BBCodeTokenMaker.zzUnpackCMap(BBCodeTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = BBCodeTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\1\1\2\1\0\1\1\23\0\1\1\16\0\1\27\15\0"
-			+ "\1\30\35\0\1\3\1\0\1\4\4\0\1\5\1\13\1\26\1\12" + "\1\0\1\23\1\0\1\6\2\0\1\15\1\22\1\17\1\14\1\0"
-			+ "\1\21\1\16\1\10\1\20\1\7\1\25\2\0\1\24\1\11\uff85\0";
+	private static final char[] ZZ_CMAP = BBCodeTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -117,33 +110,13 @@ public class BBCodeTokenMaker extends AbstractMarkupTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = BBCodeTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\31\0\62\0\113\0\144\0\175\0\226\0\144"
-			+ "\0\144\0\226\0\257\0\310\0\341\0\372\0\u0113\0\u012c"
-			+ "\0\u0145\0\u015e\0\u0177\0\u0190\0\144\0\144\0\u01a9\0\u01c2"
-			+ "\0\u01db\0\u01f4\0\u020d\0\u0226\0\u023f\0\u0258\0\u0271\0\u028a"
-			+ "\0\u02a3\0\u02bc\0\u02d5\0\u02ee\0\u0307\0\u0320\0\u0339\0\u0352" + "\0\u036b";
+	private static final int[] ZZ_ROWMAP = BBCodeTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = BBCodeTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\3\1\4\1\5\1\6\25\3\1\7\1\4\1\0"
-			+ "\1\10\1\11\1\12\1\13\1\14\1\15\2\7\1\16" + "\1\17\1\20\3\7\1\21\1\7\1\22\1\23\2\7"
-			+ "\1\24\1\25\1\3\3\0\25\3\1\0\1\4\107\0" + "\1\26\1\0\1\7\4\0\22\7\2\0\1\7\4\0"
-			+ "\15\7\1\27\4\7\2\0\1\7\4\0\10\7\1\12" + "\1\17\10\7\2\0\1\7\4\0\1\7\1\30\20\7"
-			+ "\2\0\1\7\4\0\5\7\1\31\1\7\1\32\12\7" + "\2\0\1\7\4\0\10\7\1\12\11\7\2\0\1\7"
-			+ "\4\0\1\7\1\12\20\7\2\0\1\7\4\0\2\7" + "\1\33\17\7\2\0\1\7\4\0\20\7\1\34\1\7"
-			+ "\2\0\1\7\4\0\7\7\1\35\12\7\6\0\1\11" + "\24\0\1\7\4\0\16\7\1\12\3\7\2\0\1\7"
-			+ "\4\0\4\7\1\36\15\7\2\0\1\7\4\0\12\7" + "\1\37\7\7\2\0\1\7\4\0\10\7\1\40\11\7"
-			+ "\2\0\1\7\4\0\7\7\1\41\12\7\2\0\1\7" + "\4\0\1\7\1\42\20\7\2\0\1\7\4\0\2\7"
-			+ "\1\43\17\7\2\0\1\7\4\0\5\7\1\12\14\7" + "\2\0\1\7\4\0\13\7\1\44\6\7\2\0\1\7"
-			+ "\4\0\7\7\1\45\12\7\2\0\1\7\4\0\13\7" + "\1\36\6\7\2\0\1\7\4\0\21\7\1\46\2\0"
-			+ "\1\7\4\0\13\7\1\47\6\7\2\0\1\7\4\0" + "\5\7\1\45\14\7\2\0\1\7\4\0\11\7\1\12"
-			+ "\10\7\2\0\1\7\4\0\5\7\1\50\14\7\2\0" + "\1\7\4\0\2\7\1\51\17\7\2\0\1\7\4\0"
-			+ "\7\7\1\12\12\7\2\0\1\7\4\0\1\36\21\7" + "\2\0";
+	private static final int[] ZZ_TRANS = BBCodeTokenMaker.TABLES.trans;
+
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
 
@@ -158,109 +131,6 @@ public class BBCodeTokenMaker extends AbstractMarkupTokenMaker {
 		BBCodeTokenMaker.completeCloseTags = complete;
 	}
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[41];
-		int offset = 0;
-		offset = BBCodeTokenMaker.zzUnpackAction(BBCodeTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[41];
-		int offset = 0;
-		offset = BBCodeTokenMaker.zzUnpackAttribute(BBCodeTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 80) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[41];
-		int offset = 0;
-		offset = BBCodeTokenMaker.zzUnpackRowMap(BBCodeTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[900];
-		int offset = 0;
-		offset = BBCodeTokenMaker.zzUnpackTrans(BBCodeTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/** zzAtEOF == true <=> the scanner is at the EOF */
 	private boolean zzAtEOF;
 
@@ -594,7 +464,7 @@ public class BBCodeTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 3: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 19:
 				break;
@@ -610,13 +480,13 @@ public class BBCodeTokenMaker extends AbstractMarkupTokenMaker {
 					switch (this.zzLexicalState) {
 					case INTAG: {
 						this.addToken(this.zzMarkedPos, this.zzMarkedPos, BBCodeTokenMaker.INTERNAL_INTAG);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 42:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 43:
 						break;
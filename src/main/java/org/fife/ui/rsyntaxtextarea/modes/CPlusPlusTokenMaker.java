@@ -71,30 +71,21 @@ public class CPlusPlusTokenMaker extends AbstractJFlexCTokenMaker {
 	/** This character denotes the end of file */
 	public static final int YYEOF = -1;
 	public static final int YYINITIAL = 0;
+
+	/**
+	 * The scanner's tables, shared by all instances.
+	 */
+	private static final ScannerTables TABLES = ScannerTables.load(CPlusPlusTokenMaker.class);
+
 	/**
 	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ACTION = CPlusPlusTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\3\0\1\1\2\2\1\3\1\4\17\2\2\4\1\5"
-			+ "\1\4\1\6\3\4\1\2\1\7\1\10\2\2\1\3" + "\1\11\1\4\2\1\1\2\1\4\3\2\2\4\2\12"
-			+ "\1\13\5\12\1\14\1\15\2\12\1\2\2\16\2\3" + "\1\17\2\2\1\20\22\2\1\20\56\2\1\0\1\21"
-			+ "\1\22\2\23\1\24\1\6\2\10\1\25\10\2\1\16" + "\6\1\1\0\14\2\2\0\1\26\4\0\1\27\2\0"
-			+ "\5\2\1\3\1\0\1\3\1\16\1\17\3\2\1\30" + "\6\2\1\30\23\2\1\31\16\2\1\30\1\2\1\30"
-			+ "\40\2\1\30\15\2\1\6\1\32\1\6\3\23\1\6" + "\2\10\1\33\7\2\1\34\4\1\1\35\4\1\6\0"
-			+ "\14\2\10\0\5\2\1\17\1\0\37\2\1\31\45\2" + "\1\30\2\2\1\30\7\2\1\6\1\10\7\2\2\34"
-			+ "\7\1\4\0\1\35\4\0\11\2\2\0\1\36\2\0" + "\1\37\44\2\1\20\14\2\1\34\1\35\3\1\7\0"
-			+ "\10\2\4\0\11\2\1\40\11\2\2\1\1\35\3\0" + "\12\2\2\0\1\35\4\2";
+	private static final int[] ZZ_ACTION = CPlusPlusTokenMaker.TABLES.action;
 
 	/**
 	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final int[] ZZ_ATTRIBUTE = CPlusPlusTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\3\0\26\1\1\11\6\1\1\11\6\1\1\11\1\1"
-			+ "\2\11\7\1\1\11\6\1\1\11\114\1\1\0\2\11" + "\2\1\1\11\3\1\1\11\17\1\1\0\14\1\2\0"
-			+ "\1\11\4\0\1\11\2\0\6\1\1\0\142\1\1\11" + "\7\1\1\11\21\1\6\0\14\1\10\0\6\1\1\0"
-			+ "\142\1\4\0\1\1\4\0\11\1\2\0\1\1\2\0" + "\67\1\7\0\10\1\4\0\25\1\1\11\3\0\12\1" + "\2\0\5\1";
+	private static final int[] ZZ_ATTRIBUTE = CPlusPlusTokenMaker.TABLES.attribute;
 
 	/** initial size of the lookahead buffer */
 	private static final int ZZ_BUFFERSIZE = 16384;
@@ -102,18 +93,7 @@ public class CPlusPlusTokenMaker extends AbstractJFlexCTokenMaker {
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final char[] ZZ_CMAP = CPlusPlusTokenMaker.zzUnpackCMap(CPlusPlusTokenMaker.ZZ_CMAP_PACKED);
-
-	/**
-	 * Translates characters to character classes
-	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\50\1\43\1\0\1\50\1\56\22\0\1\50\1\36\1\44"
-			+ "\1\57\1\60\1\65\1\113\1\33\1\31\1\31\1\51\1\7\1\64" + "\1\37\1\54\1\32\1\47\1\77\1\76\1\41\4\5\2\3\1\70"
-			+ "\1\63\1\34\1\30\1\35\1\27\1\61\1\103\1\4\1\111\1\102"
-			+ "\1\6\1\55\2\1\1\105\2\1\1\53\1\106\1\107\4\1\1\110" + "\1\104\1\52\2\1\1\42\2\1\1\62\1\40\1\62\1\115\1\2"
-			+ "\1\0\1\24\1\46\1\21\1\10\1\11\1\12\1\25\1\66\1\13"
-			+ "\1\100\1\72\1\15\1\26\1\14\1\20\1\23\1\101\1\17\1\16"
-			+ "\1\67\1\22\1\45\1\71\1\74\1\73\1\75\1\112\1\114\1\112" + "\1\64\uff81\0";
+	private static final char[] ZZ_CMAP = CPlusPlusTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -126,942 +106,16 @@ public class CPlusPlusTokenMaker extends AbstractJFlexCTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = CPlusPlusTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\116\0\234\0\352\0\u0138\0\u0186\0\u01d4\0\u0222"
-			+ "\0\u0270\0\u02be\0\u030c\0\u035a\0\u03a8\0\u03f6\0\u0444\0\u0492"
-			+ "\0\u04e0\0\u052e\0\u057c\0\u05ca\0\u0618\0\u0666\0\u06b4\0\u0702"
-			+ "\0\u0750\0\u079e\0\u07ec\0\u083a\0\u0888\0\u08d6\0\u0924\0\352"
-			+ "\0\u079e\0\u0972\0\u09c0\0\u0a0e\0\u0a5c\0\u0aaa\0\u0af8\0\u079e"
-			+ "\0\u0b46\0\u079e\0\u079e\0\u0b94\0\u0be2\0\u0c30\0\u0c7e\0\u0ccc"
-			+ "\0\u0d1a\0\u0d68\0\u079e\0\u0db6\0\u0e04\0\u0e52\0\u0ea0\0\u0eee"
-			+ "\0\u0f3c\0\u079e\0\u0f8a\0\u0fd8\0\u1026\0\u1074\0\u10c2\0\u1110"
-			+ "\0\u115e\0\u11ac\0\u11fa\0\u1248\0\u1296\0\u12e4\0\u1332\0\u1380"
-			+ "\0\u13ce\0\u141c\0\u146a\0\u14b8\0\u1506\0\u1554\0\u15a2\0\u15f0"
-			+ "\0\u163e\0\u168c\0\u16da\0\u1728\0\u1776\0\u17c4\0\u1812\0\u0138"
-			+ "\0\u1860\0\u18ae\0\u18fc\0\u194a\0\u1998\0\u19e6\0\u1a34\0\u1a82"
-			+ "\0\u1ad0\0\u1b1e\0\u1b6c\0\u1bba\0\u1c08\0\u1c56\0\u1ca4\0\u1cf2"
-			+ "\0\u1d40\0\u1d8e\0\u1ddc\0\u1e2a\0\u1e78\0\u1ec6\0\u1f14\0\u1f62"
-			+ "\0\u1fb0\0\u1ffe\0\u204c\0\u209a\0\u20e8\0\u2136\0\u2184\0\u21d2"
-			+ "\0\u2220\0\u226e\0\u22bc\0\u230a\0\u2358\0\u23a6\0\u23f4\0\u2442"
-			+ "\0\u2490\0\u24de\0\u252c\0\u257a\0\u25c8\0\u2616\0\u2664\0\u079e"
-			+ "\0\u079e\0\u26b2\0\u2700\0\u079e\0\u274e\0\u279c\0\u27ea\0\u079e"
-			+ "\0\u2838\0\u2886\0\u28d4\0\u2922\0\u2970\0\u29be\0\u2a0c\0\u2a5a"
-			+ "\0\u2aa8\0\u2af6\0\u2b44\0\u2b92\0\u2be0\0\u2c2e\0\u2c7c\0\u2cca"
-			+ "\0\u2d18\0\u2d66\0\u2db4\0\u2e02\0\u2e50\0\u2e9e\0\u2eec\0\u2f3a"
-			+ "\0\u2f88\0\u2fd6\0\u3024\0\u3072\0\u30c0\0\u310e\0\u079e\0\u315c"
-			+ "\0\u31aa\0\u31f8\0\u3246\0\u079e\0\u3294\0\u32e2\0\u3330\0\u337e"
-			+ "\0\u33cc\0\u341a\0\u3468\0\u34b6\0\u3504\0\u1074\0\u3552\0\u1074"
-			+ "\0\u35a0\0\u35ee\0\u363c\0\u368a\0\u36d8\0\u3726\0\u3774\0\u37c2"
-			+ "\0\u3810\0\u385e\0\u38ac\0\u38fa\0\u3948\0\u3996\0\u39e4\0\u3a32"
-			+ "\0\u3a80\0\u3ace\0\u3b1c\0\u3b6a\0\u3bb8\0\u3c06\0\u3c54\0\u3ca2"
-			+ "\0\u3cf0\0\u3d3e\0\u3d8c\0\u3dda\0\u3e28\0\u3e76\0\u0138\0\u3ec4"
-			+ "\0\u3f12\0\u3f60\0\u3fae\0\u3ffc\0\u404a\0\u4098\0\u40e6\0\u4134"
-			+ "\0\u4182\0\u41d0\0\u421e\0\u426c\0\u42ba\0\u4308\0\u4356\0\u43a4"
-			+ "\0\u43f2\0\u4440\0\u448e\0\u44dc\0\u452a\0\u4578\0\u45c6\0\u4614"
-			+ "\0\u4662\0\u46b0\0\u46fe\0\u474c\0\u479a\0\u47e8\0\u4836\0\u4884"
-			+ "\0\u48d2\0\u4920\0\u496e\0\u49bc\0\u4a0a\0\u4a58\0\u4aa6\0\u4af4"
-			+ "\0\u4b42\0\u4b90\0\u4bde\0\u4c2c\0\u4c7a\0\u4cc8\0\u4d16\0\u4d64"
-			+ "\0\u0138\0\u4db2\0\u4e00\0\u4e4e\0\u4e9c\0\u4eea\0\u4f38\0\u4f86"
-			+ "\0\u4fd4\0\u5022\0\u5070\0\u50be\0\u510c\0\u515a\0\u51a8\0\u079e"
-			+ "\0\u51f6\0\u5244\0\u5292\0\u52e0\0\u532e\0\u537c\0\u53ca\0\u079e"
-			+ "\0\u5418\0\u5466\0\u54b4\0\u5502\0\u5550\0\u559e\0\u55ec\0\u563a"
-			+ "\0\u5688\0\u56d6\0\u5724\0\u5772\0\u57c0\0\u580e\0\u585c\0\u58aa"
-			+ "\0\u58f8\0\u5946\0\u5994\0\u59e2\0\u5a30\0\u5a7e\0\u5acc\0\u5b1a"
-			+ "\0\u5b68\0\u5bb6\0\u5c04\0\u5c52\0\u5ca0\0\u5cee\0\u5d3c\0\u5d8a"
-			+ "\0\u5dd8\0\u5e26\0\u5e74\0\u5ec2\0\u5f10\0\u5f5e\0\u5fac\0\u5ffa"
-			+ "\0\u6048\0\u6096\0\u60e4\0\u6132\0\u6180\0\u61ce\0\u621c\0\u626a"
-			+ "\0\u62b8\0\u6306\0\u6354\0\u63a2\0\u63f0\0\u643e\0\u648c\0\u64da"
-			+ "\0\u6528\0\u6576\0\u65c4\0\u6612\0\u6660\0\u66ae\0\u66fc\0\u674a"
-			+ "\0\u6798\0\u67e6\0\u6834\0\u6882\0\u68d0\0\u691e\0\u696c\0\u69ba"
-			+ "\0\u6a08\0\u6a56\0\u6aa4\0\u6af2\0\u6b40\0\u6b8e\0\u6bdc\0\u6c2a"
-			+ "\0\u6c78\0\u6cc6\0\u6d14\0\u6d62\0\u6db0\0\u6dfe\0\u6e4c\0\u6e9a"
-			+ "\0\u6ee8\0\u6f36\0\u6f84\0\u6fd2\0\u7020\0\u706e\0\u70bc\0\u710a"
-			+ "\0\u7158\0\u71a6\0\u71f4\0\u7242\0\u7290\0\u72de\0\u732c\0\u737a"
-			+ "\0\u73c8\0\u7416\0\u7464\0\u74b2\0\u7500\0\u754e\0\u759c\0\u75ea"
-			+ "\0\u7638\0\u7686\0\u76d4\0\u7722\0\u7770\0\u77be\0\u780c\0\u785a"
-			+ "\0\u78a8\0\u78f6\0\u7944\0\u7992\0\u79e0\0\u7a2e\0\u7a7c\0\u7aca"
-			+ "\0\u7b18\0\u7b66\0\u7bb4\0\u7c02\0\u7c50\0\u7c9e\0\u7cec\0\u7d3a"
-			+ "\0\u7d88\0\u7dd6\0\u7e24\0\u7e72\0\u7ec0\0\u7f0e\0\u7f5c\0\u7faa"
-			+ "\0\u7ff8\0\u8046\0\u8094\0\u80e2\0\u8130\0\u817e\0\u81cc\0\u821a"
-			+ "\0\u8268\0\u82b6\0\u8304\0\u8352\0\u83a0\0\u83ee\0\u843c\0\u848a"
-			+ "\0\u84d8\0\u8526\0\u8574\0\u85c2\0\u8610\0\u865e\0\u86ac\0\u86fa"
-			+ "\0\u8748\0\u8796\0\u87e4\0\u8832\0\u8880\0\u88ce\0\u891c\0\u896a"
-			+ "\0\u89b8\0\u43a4\0\u8a06\0\u8a54\0\u8aa2\0\u8af0\0\u8b3e\0\u8b8c"
-			+ "\0\u8bda\0\u8c28\0\u8c76\0\u8cc4\0\u8d12\0\u8d60\0\u8dae\0\u8dfc"
-			+ "\0\u8e4a\0\u8e98\0\u8ee6\0\u8f34\0\u8f82\0\u8fd0\0\u901e\0\u906c"
-			+ "\0\u90ba\0\u9108\0\u9156\0\u91a4\0\u91f2\0\u9240\0\u928e\0\u92dc"
-			+ "\0\u932a\0\u9378\0\u93c6\0\u9414\0\u9462\0\u94b0\0\u94fe\0\u954c"
-			+ "\0\u959a\0\u95e8\0\u9636\0\u9684\0\u96d2\0\u1074\0\352\0\u9720"
-			+ "\0\u976e\0\u97bc\0\u980a\0\u9858\0\u98a6\0\u98f4\0\u9942\0\u9990"
-			+ "\0\u99de\0\u9a2c\0\u9a7a\0\u9ac8\0\u9b16\0\u9b64\0\u9bb2\0\u368a"
-			+ "\0\u9c00\0\u9c4e\0\u8748\0\u9c9c\0\u8832\0\u9cea\0\u9d38\0\u9d86"
-			+ "\0\u9dd4\0\u9e22\0\u9e70\0\u9ebe\0\u9f0c\0\u9f5a\0\u0138\0\u9fa8"
-			+ "\0\u9ff6\0\ua044\0\ua092\0\ua0e0\0\ua12e\0\ua17c\0\ua1ca\0\ua218"
-			+ "\0\ua266\0\ua2b4\0\u079e\0\ua302\0\ua350\0\ua39e\0\ua3ec\0\ua43a"
-			+ "\0\ua488\0\u932a\0\ua4d6\0\ua524\0\ua572\0\ua5c0\0\ua60e\0\ua65c"
-			+ "\0\ua6aa\0\ua6f8\0\u0138\0\ua746\0\ua794\0\ua7e2\0\ua830";
+	private static final int[] ZZ_ROWMAP = CPlusPlusTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = CPlusPlusTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\4\1\5\1\6\1\7\1\5\1\7\1\5\1\10"
-			+ "\1\11\1\12\1\13\1\14\1\15\1\16\1\17\1\20" + "\1\21\1\22\1\23\1\24\1\25\1\26\1\27\1\30"
-			+ "\1\31\1\32\1\33\1\34\1\35\1\36\1\31\1\37" + "\1\40\1\7\1\5\1\41\1\42\1\43\1\44\1\45"
-			+ "\1\46\1\31\2\5\1\47\1\5\1\50\1\51\2\4" + "\1\32\1\52\1\53\1\31\1\5\1\54\1\53\1\55"
-			+ "\4\5\2\7\1\5\1\56\10\5\1\32\1\57\1\60" + "\1\31\12\61\1\62\30\61\1\63\5\61\1\64\14\61"
-			+ "\1\65\2\61\1\66\24\61\12\67\1\70\25\67\1\71" + "\2\67\1\72\22\67\1\73\2\67\1\74\24\67\7\4"
-			+ "\1\0\17\4\11\0\3\4\2\0\3\4\2\0\2\4" + "\1\0\1\4\1\0\3\4\4\0\2\4\1\0\21\4"
-			+ "\4\0\1\4\6\5\1\0\17\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\1\5\1\75\4\5\1\0\17\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\3\76"
-			+ "\1\7\1\76\1\7\1\77\1\0\1\76\1\77\3\76" + "\1\100\4\76\1\101\4\76\11\0\1\76\1\7\1\76"
-			+ "\2\0\2\76\1\7\2\0\1\101\1\100\1\102\1\76" + "\1\0\3\76\4\0\2\76\1\0\5\76\2\7\12\76"
-			+ "\13\0\1\53\20\0\1\53\65\0\1\4\6\5\1\0" + "\1\5\1\103\1\5\1\104\4\5\1\105\6\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\2\5"
-			+ "\1\106\16\5\4\0\1\4\6\5\1\0\4\5\1\107" + "\1\110\1\5\1\111\7\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\3\5\1\112\15\5\4\0"
-			+ "\1\4\6\5\1\0\1\5\1\113\1\114\2\5\1\115" + "\1\116\1\117\1\120\1\121\1\5\1\122\1\123\1\124"
-			+ "\1\125\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\5"
-			+ "\1\126\1\0\1\127\20\5\4\0\1\4\6\5\1\0" + "\2\5\1\130\1\5\1\131\1\5\1\132\10\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\1\5\1\133\12\5\1\134" + "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\1\135\7\5"
-			+ "\1\136\3\5\1\137\2\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\1\5\1\140\1\5\1\141\2\5\1\142\1\143"
-			+ "\1\5\1\144\1\5\1\145\3\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\1\146\1\147\1\0\1\150\1\5" + "\1\151\5\5\1\152\10\5\4\0\1\4\6\5\1\0"
-			+ "\1\5\1\153\12\5\1\154\2\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\2\5\1\155\10\5\1\156\3\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\1\5\1\157\3\5\1\160" + "\2\5\1\161\3\5\1\162\2\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\1\163\1\164\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\4\5\1\165\1\5\1\166\10\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\1\5\1\167\5\5"
-			+ "\1\170\1\171\1\5\1\172\4\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\6\5\1\173\2\5\1\174\1\175\4\5"
-			+ "\11\0\1\4\2\5\2\0\1\5\1\176\1\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\1\5\1\177\1\0\21\5\4\0\1\4\6\5\1\0" + "\1\5\1\200\6\5\1\175\5\5\1\201\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\1\5\1\202\6\5\1\203\1\5" + "\1\204\1\5\1\205\2\5\11\0\1\4\2\5\2\0"
-			+ "\1\5\1\206\1\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\1\5\1\201"
-			+ "\17\5\33\0\1\207\116\0\1\53\233\0\1\53\1\0" + "\1\210\16\0\1\211\44\0\27\212\1\213\3\212\1\214"
-			+ "\4\212\1\215\2\212\1\0\52\212\30\0\1\53\3\0" + "\1\31\111\0\1\53\4\0\1\31\110\0\1\53\6\0"
-			+ "\1\53\56\0\40\42\1\216\2\42\1\217\1\220\51\42" + "\1\4\6\5\1\0\2\5\1\221\1\222\2\5\1\221"
-			+ "\1\5\1\223\2\5\1\145\1\224\2\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\1\225\20\5" + "\4\0\1\4\6\5\1\0\6\5\1\226\1\227\7\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\1\5\1\230"
-			+ "\1\0\21\5\4\0\3\76\1\7\1\76\1\7\1\77" + "\1\0\1\76\1\77\3\76\1\100\4\76\1\101\4\76"
-			+ "\11\0\1\76\1\7\1\231\2\0\2\76\1\7\2\0" + "\1\101\1\100\1\102\1\76\1\0\3\76\4\0\2\76"
-			+ "\1\0\3\76\1\231\1\76\2\7\12\76\54\0\1\46" + "\50\0\1\102\1\0\1\102\33\0\1\102\5\0\1\102"
-			+ "\26\0\2\102\16\0\7\4\1\0\1\232\1\233\1\4" + "\1\234\1\4\1\235\4\4\1\236\1\237\3\4\11\0"
-			+ "\3\4\2\0\3\4\1\240\1\0\2\4\1\0\1\4" + "\1\0\3\4\4\0\2\4\1\0\21\4\4\0\1\4"
-			+ "\6\5\1\0\1\5\1\241\1\5\1\242\3\5\1\243" + "\1\244\3\5\1\245\1\5\1\246\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\1\247\1\5\1\0\2\5\1\250"
-			+ "\16\5\4\0\1\4\6\5\1\0\6\5\1\142\2\5" + "\1\251\1\5\1\145\2\5\1\252\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\1\253\1\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\6\5\1\254\10\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\34\0" + "\1\53\62\0\1\53\32\0\1\53\63\0\1\53\1\0"
-			+ "\12\61\1\0\30\61\1\0\5\61\1\0\14\61\1\0" + "\2\61\1\0\24\61\13\0\1\255\53\0\1\256\60\0"
-			+ "\1\257\152\0\1\260\117\0\1\261\24\0\12\67\1\0" + "\25\67\1\0\2\67\1\0\22\67\1\0\2\67\1\0"
-			+ "\24\67\13\0\1\262\53\0\1\263\26\0\43\264\1\0" + "\52\264\67\0\1\265\117\0\1\266\24\0\1\4\6\5"
-			+ "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\1\5\1\267\1\0\1\270\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\11\5\1\271\1\5\1\272\3\5" + "\1\273\1\5\4\0\7\76\1\0\17\76\11\0\3\76"
-			+ "\2\0\3\76\2\0\2\76\1\0\1\76\1\0\3\76" + "\4\0\2\76\1\0\21\76\4\0\3\76\1\274\1\76"
-			+ "\1\274\1\76\1\275\17\76\10\0\1\275\1\76\1\274" + "\1\76\2\0\2\76\1\274\2\0\2\76\1\0\1\76"
-			+ "\1\0\3\76\4\0\2\76\1\0\5\76\2\274\12\76" + "\4\0\7\76\1\0\12\76\1\276\4\76\11\0\3\76"
-			+ "\2\0\3\76\2\0\1\276\1\76\1\0\1\76\1\0" + "\3\76\4\0\2\76\1\0\21\76\4\0\7\76\1\0"
-			+ "\5\76\1\276\11\76\11\0\3\76\2\0\3\76\2\0" + "\1\76\1\276\1\0\1\76\1\0\3\76\4\0\2\76"
-			+ "\1\0\21\76\4\0\3\76\1\102\1\76\1\102\1\277" + "\1\0\1\76\1\277\1\300\2\76\1\300\11\76\11\0"
-			+ "\1\76\1\102\1\76\2\0\2\76\1\102\2\0\1\76" + "\1\300\1\0\1\300\1\0\3\76\4\0\2\76\1\0"
-			+ "\5\76\2\102\12\76\4\0\1\4\6\5\1\0\2\5" + "\1\301\2\5\1\302\11\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\2\5\1\303\14\5\11\0\1\4\2\5\2\0" + "\1\304\2\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\12\5\1\305\4\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\4\5\1\306\12\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\12\5\1\307\4\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\6\5\1\310\10\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\7\5\1\311\7\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\3\5\1\312\7\5\1\313\3\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\1\5\1\314\1\0" + "\21\5\4\0\1\4\6\5\1\0\7\5\1\315\1\316"
-			+ "\6\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\5\5\1\317" + "\11\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\10\5\1\320"
-			+ "\6\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\1\5\1\321" + "\7\5\1\144\5\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\1\5\1\322\1\5\1\323\13\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\7\5\1\130\3\5\1\324\3\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\5\5\1\325\11\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\7\5\1\326\2\5\1\327"
-			+ "\4\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\5\5\1\330" + "\11\5\11\0\1\4\2\5\2\0\1\5\1\331\1\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\1\5\1\332\15\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\10\5\1\333\6\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\1\5\1\334\15\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\6\5\1\142\1\335\3\5\1\145\3\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\5\5\1\336\11\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\1\5\1\337\1\0\21\5" + "\4\0\1\4\6\5\1\0\1\340\4\5\1\341\1\342"
-			+ "\2\5\1\343\1\344\1\345\1\346\1\347\1\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\3\5" + "\1\350\15\5\4\0\1\4\6\5\1\0\17\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\1\130"
-			+ "\20\5\4\0\1\4\6\5\1\0\16\5\1\351\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\1\5\1\352\1\5\1\353"
-			+ "\13\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\4\5\1\354" + "\4\5\1\355\3\5\1\356\1\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\1\5" + "\1\331\1\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\1\5\1\357\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\4\5\1\360\10\5\1\361\1\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\4\5\1\362" + "\14\5\4\0\1\4\6\5\1\0\11\5\1\144\5\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\14\5\1\363\2\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\14\5\1\364\2\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\7\5\1\326\7\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\10\5\1\365\6\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\7\5\1\366\4\5" + "\1\367\2\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\3\5"
-			+ "\1\370\2\5\1\142\4\5\1\145\3\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\6\5\1\371\10\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\7\5\1\312\7\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\3\5\1\372\1\373\7\5\1\205"
-			+ "\1\374\1\375\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\1\5\1\376\1\0\1\377\20\5\4\0\1\4\6\5" + "\1\0\3\5\1\u0100\1\333\12\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\2\5\1\u0101\14\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\1\5\1\u0102\15\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\3\5\1\u0103\13\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\1\5\1\u0104\6\5\1\u0105\3\5\1\u0106"
-			+ "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\4\5\1\u0107" + "\1\5\1\360\10\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\5\5\1\u0108\1\310\10\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\1\5\1\u0109\1\0\21\5\4\0\1\4" + "\6\5\1\0\14\5\1\u010a\2\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\3\5\1\242\13\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\3\5\1\u010b\2\5\1\u010c\6\5\1\u010d"
-			+ "\1\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\3\5\1\u010e" + "\13\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\7\5\1\315"
-			+ "\7\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\3\5\1\u010f" + "\4\5\1\u0110\6\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\1\u0111\20\5\4\0\1\4\6\5\1\0\17\5" + "\11\0\1\4\2\5\2\0\1\5\1\u0112\1\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\1\5\1\u0113\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\3\5\1\u0114\2\5\1\u0115\2\5\1\201\5\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\10\5\1\331\6\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\17\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\1\5\1\u0116\1\0\21\5\4\0" + "\1\4\6\5\1\0\6\5\1\u0111\1\5\1\152\6\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\1\5\1\u0117\6\5" + "\1\u0118\3\5\1\u0119\2\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\1\5\1\u011a\1\0\21\5\4\0\1\4\6\5\1\0" + "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\5" + "\1\164\1\0\21\5\4\0\1\4\6\5\1\0\16\5"
-			+ "\1\u011b\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\1\316\16\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\1\5\1\u011c\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\5\5\1\u0108\11\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\5\5\1\324\1\u011d\1\u011e"
-			+ "\7\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\5"
-			+ "\1\230\1\0\21\5\34\0\10\53\56\0\33\u011f\1\u0120"
-			+ "\7\u011f\1\0\101\u011f\1\u0121\3\u011f\1\u0120\7\u011f\1\0"
-			+ "\57\u011f\1\u0122\3\u011f\2\212\1\u011f\1\212\2\u011f\1\212"
-			+ "\4\u011f\1\212\2\u011f\1\212\3\u011f\1\u0123\4\u011f\1\212"
-			+ "\1\u0124\1\u0125\1\0\3\212\1\u0124\17\u011f\1\212\4\u011f"
-			+ "\1\u0125\1\u011f\2\u0124\16\u011f\5\217\1\42\3\217\2\42" + "\1\217\1\42\2\217\1\42\4\217\1\42\2\217\1\42"
-			+ "\3\217\1\42\4\217\2\42\1\u0126\1\0\4\42\17\217" + "\1\42\4\217\1\u0126\1\217\2\42\56\217\1\u0127\3\217"
-			+ "\1\u0128\51\217\1\4\6\5\1\0\13\5\1\145\3\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\1\225\20\5\4\0\1\4\6\5\1\0\7\5\1\u0129"
-			+ "\7\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\3\5\1\u012a" + "\1\5\1\u012b\11\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\1\5\1\u012c"
-			+ "\4\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\13\5\1\145\3\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\1\5\1\u012d\15\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\1\5\1\u012e\15\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\10\5\1\u012f\6\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\3\76\4\u0130\1\0" + "\3\u0130\6\76\1\u0130\2\76\1\u0130\2\76\11\0\1\76"
-			+ "\1\u0130\1\76\2\0\1\76\2\u0130\2\0\2\76\1\0" + "\1\u0130\1\0\3\76\4\0\2\76\1\0\5\76\2\u0130"
-			+ "\2\76\2\u0130\5\76\1\u0130\4\0\7\4\1\0\1\4" + "\1\u0131\15\4\11\0\3\4\2\0\3\4\2\0\2\4"
-			+ "\1\0\1\4\1\0\3\4\4\0\2\4\1\0\21\4" + "\4\0\7\4\1\0\4\4\1\u0132\1\u0133\1\4\1\u0134"
-			+ "\7\4\11\0\3\4\2\0\3\4\2\0\2\4\1\0" + "\1\4\1\0\3\4\4\0\2\4\1\0\21\4\4\0"
-			+ "\7\4\1\0\2\4\1\u0135\1\4\1\u0136\12\4\11\0" + "\3\4\2\0\3\4\2\0\2\4\1\0\1\4\1\0"
-			+ "\3\4\4\0\2\4\1\0\21\4\4\0\7\4\1\0" + "\3\4\1\u0137\13\4\11\0\3\4\2\0\3\4\2\0"
-			+ "\2\4\1\0\1\4\1\0\3\4\4\0\2\4\1\0" + "\21\4\4\0\7\4\1\0\4\4\1\u0138\12\4\11\0"
-			+ "\3\4\2\0\3\4\2\0\2\4\1\0\1\4\1\0" + "\3\4\4\0\2\4\1\0\21\4\4\0\7\4\1\0"
-			+ "\7\4\1\u0139\7\4\11\0\3\4\2\0\3\4\2\0" + "\2\4\1\0\1\4\1\0\3\4\4\0\2\4\1\0"
-			+ "\21\4\14\0\1\u013a\1\u013b\1\0\1\u013c\1\0\1\u013d" + "\4\0\1\u013e\1\u013f\24\0\1\240\45\0\1\4\6\5"
-			+ "\1\0\16\5\1\u0140\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\16\5\1\u0141\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\12\5"
-			+ "\1\u0142\4\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\2\5\1\130\16\5\4\0\1\4\6\5" + "\1\0\5\5\1\341\4\5\1\344\4\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\4\5\1\360\12\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\13\5\1\u0143\3\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\3\5\1\u0144\3\5\1\u0145\7\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\13\5\1\u0146\3\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\6\5\1\u0147\1\u0148" + "\7\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\u0149" + "\1\u014a\1\0\21\5\4\0\1\4\6\5\1\0\1\5"
-			+ "\1\202\15\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\3\5" + "\1\u014b\13\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\10\5"
-			+ "\1\152\6\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\21\0\1\u014c\123\0\1\u014d\161\0"
-			+ "\1\u014e\117\0\1\u014f\41\0\1\u0150\123\0\1\u0151\161\0" + "\1\u0152\117\0\1\u0153\24\0\1\4\6\5\1\0\17\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\14\5\1\u0154\4\5\4\0\1\4\6\5\1\0\17\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\14\5\1\u0155\4\5\4\0\1\4\6\5\1\0\17\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\12\5\1\u0156\6\5\4\0\1\4\6\5\1\0\17\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\14\5\1\u0157\4\5\4\0\1\4\6\5\1\0\17\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\13\5\1\u0158\5\5\4\0\3\76\1\274\1\76\1\274" + "\1\76\1\0\5\76\1\100\4\76\1\101\4\76\11\0"
-			+ "\1\76\1\274\1\76\2\0\2\76\1\274\2\0\1\101" + "\1\100\1\0\1\76\1\0\3\76\4\0\2\76\1\0"
-			+ "\5\76\2\274\12\76\7\0\1\274\1\0\1\274\33\0" + "\1\274\5\0\1\274\26\0\2\274\16\0\3\76\1\u0159"
-			+ "\1\76\1\u0159\1\76\1\u015a\17\76\10\0\1\u015a\1\76" + "\1\u0159\1\76\2\0\2\76\1\u0159\2\0\2\76\1\0"
-			+ "\1\76\1\0\3\76\4\0\2\76\1\0\5\76\2\u0159" + "\12\76\4\0\1\4\6\5\1\0\14\5\1\u015b\2\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\1\5\1\u015c\15\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\2\5\1\201\14\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\1\5\1\u015d\4\5\1\0\17\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4"
-			+ "\2\5\2\0\1\5\1\u015e\1\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\14\5\1\u015f\2\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\16\5\1\130\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\1\5\1\130\15\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\4\5\1\u0160\12\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\17\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\1\5\1\u0111\1\0\21\5\4\0" + "\1\4\6\5\1\0\5\5\1\u0161\11\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\1\5\1\u0162\15\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\7\5\1\u0163\7\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\2\5\1\u0111\14\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\12\5\1\u0164\4\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\10\5\1\u0165\3\5\1\u015d\2\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\1\5\1\u0166\15\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\1\5\1\u0167"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\1\5\1\u0111" + "\6\5\1\u0168\3\5\1\333\2\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\3\5\1\u0169\15\5"
-			+ "\4\0\1\4\6\5\1\0\1\5\1\u016a\15\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\1\5\1\u0114\15\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\10\5\1\u0100\6\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\3\5\1\u016b\13\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\17\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\1\5\1\u016c\1\0\21\5\4\0" + "\1\4\6\5\1\0\6\5\1\u0142\10\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\6\5\1\u0111\10\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\1\5\1\u016d\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\1\u0111\16\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\5\5\1\u0103\11\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\3\5\1\u016e\13\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\3\5\1\u016f\13\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\3\5\1\u0170\13\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\10\5\1\u0171\6\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\13\5\1\u0172\3\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\4\5\1\u0173\12\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\13\5\1\u0174\3\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\7\5\1\u0175\2\5\1\u0176\4\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\5\5\1\u0177\11\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\7\5\1\u0178\7\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\1\340\16\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\1\5\1\u0179\15\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\3\5\1\u0169\15\5\4\0\1\4" + "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\1\304"
-			+ "\2\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\15\5\1\u017a\1\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\14\5\1\u017b\2\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\6\5\1\u017c\12\5\4\0\1\4\6\5" + "\1\0\5\5\1\u017d\11\5\11\0\1\4\2\5\2\0"
-			+ "\1\u017e\1\u017f\1\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\7\5\1\u0180"
-			+ "\11\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\1\u0111\1\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\4\5\1\u0181\12\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\1\5\1\u0182\15\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\4\5\1\333\12\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\4\5\1\316\12\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\7\5\1\u015d\7\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\1\5\1\167\1\201\1\5" + "\1\u0183\1\324\1\u0184\1\u0185\1\5\1\u0186\1\u0187\1\u0188"
-			+ "\3\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\5"
-			+ "\1\u0189\1\0\3\5\1\u018a\15\5\4\0\1\4\6\5" + "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\1\5\1\u018b\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\5"
-			+ "\1\u0109\1\0\21\5\4\0\1\4\6\5\1\0\17\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\1\5\1\u018c" + "\1\0\21\5\4\0\1\4\6\5\1\0\4\5\1\u018d"
-			+ "\12\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\14\5\1\242" + "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\3\5\1\u018e"
-			+ "\13\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\10\5\1\u018f" + "\6\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\12\5\1\u0190"
-			+ "\4\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\3\5\1\363" + "\13\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\6\5\1\u0141"
-			+ "\10\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\6\5\1\u0191" + "\10\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\7\5\1\u0192"
-			+ "\7\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\5\5\1\u0111" + "\11\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\14\5\1\u0193"
-			+ "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\11\5\1\u0166" + "\5\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\6\5\1\u0144"
-			+ "\10\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\6\5\1\u0194" + "\10\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\5" + "\1\u0195\1\0\21\5\4\0\1\4\6\5\1\0\5\5"
-			+ "\1\u0196\11\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\11\5" + "\1\u0197\5\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\7\5"
-			+ "\1\337\7\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\10\5" + "\1\u0198\6\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\3\5"
-			+ "\1\u0199\13\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\1\5" + "\1\u019a\15\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\4\5"
-			+ "\1\u019b\12\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\4\5" + "\1\u019c\12\5\11\0\1\4\2\5\2\0\1\u019d\2\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\5"
-			+ "\1\u019e\1\0\21\5\4\0\1\4\6\5\1\0\5\5" + "\1\u019f\11\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\6\5"
-			+ "\1\u0111\2\5\1\u01a0\5\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\1\u01a1\20\5\4\0\1\4" + "\6\5\1\0\4\5\1\u0111\12\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\1\5\1\152\15\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\10\5\1\130\6\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\3\5\1\u01a2\15\5\4\0\1\4" + "\6\5\1\0\2\5\2\u0111\1\5\1\u0111\11\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\4\5\1\u01a3\12\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\1\5\1\u01a4\4\5\1\u0111"
-			+ "\2\5\1\u01a0\5\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\1\u01a1\20\5\4\0\1\4\6\5" + "\1\0\6\5\1\u01a5\2\5\1\u01a6\4\5\1\375\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\14\5\1\u01a7\2\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\3\5\1\u01a8\3\5\1\u01a9"
-			+ "\7\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\5"
-			+ "\1\u01aa\1\0\21\5\4\0\1\4\6\5\1\0\5\5" + "\1\324\11\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\1\5\1\230\1\0\21\5\4\0\33\u011f\1\214\7\u011f"
-			+ "\1\0\102\u011f\3\212\1\u0123\4\212\3\u011f\1\0\57\u011f"
-			+ "\1\212\25\u011f\1\u0120\5\u011f\1\212\1\u011f\1\0\3\u011f"
-			+ "\1\212\26\u011f\2\212\16\u011f\33\0\1\u0120\62\0\5\u011f"
-			+ "\1\u0122\25\u011f\1\u0120\5\u011f\1\u0122\1\u011f\1\0\3\u011f"
-			+ "\1\u0122\26\u011f\2\u0122\21\u011f\4\u01ab\1\u011f\3\u01ab\6\u011f"
-			+ "\1\u01ab\2\u011f\1\u01ab\6\u011f\1\214\5\u011f\1\u01ab\1\u011f"
-			+ "\1\0\2\u011f\2\u01ab\5\u011f\1\u01ab\20\u011f\2\u01ab\2\u011f"
-			+ "\2\u01ab\5\u011f\1\u01ab\4\u011f\3\217\4\u01ac\1\217\3\u01ac"
-			+ "\6\217\1\u01ac\2\217\1\u01ac\13\217\1\u0127\1\u01ac\2\217"
-			+ "\1\u0128\1\217\2\u01ac\5\217\1\u01ac\20\217\2\u01ac\2\217"
-			+ "\2\u01ac\5\217\1\u01ac\47\217\1\0\52\217\1\4\6\5" + "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\1\5\1\u01ad\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\1\337\16\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\14\5" + "\1\u01ae\2\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\1\5"
-			+ "\1\363\4\5\1\u01af\5\5\1\u01b0\2\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\14\5\1\u01b1\2\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\14\5\1\u01b2\2\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\1\u01b3\20\5\4\0\3\76"
-			+ "\4\u0130\1\0\3\u0130\2\76\1\u01b4\3\76\1\u0130\1\u01b5" + "\1\76\1\u0130\2\76\11\0\1\76\1\u0130\1\76\2\0"
-			+ "\1\76\2\u0130\2\0\1\u01b5\1\u01b4\1\0\1\u0130\1\0" + "\3\76\4\0\2\76\1\0\5\76\2\u0130\2\76\2\u0130"
-			+ "\5\76\1\u0130\4\0\7\4\1\0\2\4\1\235\14\4" + "\11\0\3\4\2\0\3\4\2\0\2\4\1\0\1\4"
-			+ "\1\0\3\4\4\0\2\4\1\0\21\4\4\0\7\4" + "\1\0\1\u01b6\16\4\11\0\3\4\2\0\3\4\2\0"
-			+ "\2\4\1\0\1\4\1\0\3\4\4\0\2\4\1\0" + "\21\4\4\0\7\4\1\0\3\4\1\u01b7\2\4\1\u01b8"
-			+ "\10\4\11\0\3\4\2\0\3\4\2\0\2\4\1\0" + "\1\4\1\0\3\4\4\0\2\4\1\0\21\4\4\0"
-			+ "\7\4\1\0\7\4\1\u01b9\7\4\11\0\3\4\2\0" + "\3\4\2\0\2\4\1\0\1\4\1\0\3\4\4\0"
-			+ "\2\4\1\0\21\4\4\0\7\4\1\0\1\u01ba\3\4" + "\1\u0138\12\4\11\0\3\4\2\0\3\4\2\0\2\4"
-			+ "\1\0\1\4\1\0\3\4\4\0\2\4\1\0\21\4" + "\4\0\7\4\1\0\11\4\1\u01bb\5\4\11\0\3\4"
-			+ "\2\0\3\4\2\0\2\4\1\0\1\4\1\0\3\4" + "\4\0\2\4\1\0\21\4\4\0\7\4\1\0\4\4"
-			+ "\1\u01b8\12\4\11\0\3\4\2\0\3\4\2\0\2\4" + "\1\0\1\4\1\0\3\4\4\0\2\4\1\0\21\4"
-			+ "\4\0\7\4\1\0\1\u01ba\16\4\11\0\3\4\2\0" + "\3\4\2\0\2\4\1\0\1\4\1\0\3\4\4\0"
-			+ "\2\4\1\0\21\4\4\0\7\4\1\0\14\4\1\u01bc" + "\2\4\11\0\3\4\2\0\3\4\2\0\2\4\1\0"
-			+ "\1\4\1\0\3\4\4\0\2\4\1\0\21\4\15\0" + "\1\u01bd\120\0\1\u01be\1\u01bf\1\0\1\u01c0\110\0\1\u01c1"
-			+ "\1\0\1\u01c2\114\0\1\u01c3\116\0\1\u01c4\120\0\1\u01c5" + "\76\0\1\4\6\5\1\0\13\5\1\u01c6\3\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\1\5\1\u0111\15\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\1\5\1\337\15\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\2\5\1\u01c7\1\5\1\u01c8" + "\12\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\6\5\1\130"
-			+ "\10\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\10\5\1\133" + "\6\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\1\5\1\u01c9"
-			+ "\15\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\2\5\1\201" + "\1\5\1\u0183\1\324\1\u0184\1\u01ca\1\5\1\u0186\1\5"
-			+ "\1\u0188\3\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\1\5\1\u01cb\1\0\3\5\1\u018a\15\5\4\0\1\4" + "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\1\5\1\u01cc\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\14\5\1\u01cd\2\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\10\5\1\u01ce\6\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\5\5\1\310\11\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\15\0\1\u014d\174\0" + "\1\u01cf\50\0\1\u01d0\146\0\1\u01d1\52\0\1\u0151\174\0"
-			+ "\1\u01d2\50\0\1\u01d3\146\0\1\u01d4\41\0\1\4\6\5" + "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\16\5\1\u01d5\2\5\4\0\1\4\6\5"
-			+ "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\1\5\1\u01d5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\13\5\1\u01d5\5\5\4\0\1\4\6\5\1\0"
-			+ "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\15\5\1\u01d5\3\5\4\0\1\4\6\5\1\0" + "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\11\5\1\u01d6\7\5\4\0\3\76\1\u0159\1\76"
-			+ "\1\u0159\1\76\1\0\2\76\1\300\2\76\1\300\11\76" + "\11\0\1\76\1\u0159\1\76\2\0\2\76\1\u0159\2\0"
-			+ "\1\76\1\300\1\0\1\300\1\0\3\76\4\0\2\76" + "\1\0\5\76\2\u0159\12\76\7\0\1\u0159\1\0\1\u0159"
-			+ "\33\0\1\u0159\5\0\1\u0159\26\0\2\u0159\16\0\1\4" + "\6\5\1\0\12\5\1\u01d7\4\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\1\5\1\310\1\0\21\5\4\0\1\4\6\5" + "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\1\5\1\337\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\5\5\1\u0142\11\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\16\5\1\u01d8\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\10\5"
-			+ "\1\u0111\6\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\3\5" + "\1\u01d9\13\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\7\5"
-			+ "\1\u0198\7\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\10\5" + "\1\u0165\6\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\6\5"
-			+ "\1\u01da\10\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\7\5" + "\1\u0111\7\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\17\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\1\5\1\u0111\17\5\4\0\1\4\6\5\1\0\13\5" + "\1\174\3\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\13\5"
-			+ "\1\324\3\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\13\5" + "\1\u0111\3\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\4\5"
-			+ "\1\u01db\12\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\4\5" + "\1\u019c\12\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\6\5"
-			+ "\1\u0111\2\5\1\u0111\5\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\1\u01dc\20\5\4\0\1\4" + "\6\5\1\0\6\5\1\u0111\2\5\1\u0111\1\5\1\174"
-			+ "\3\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\1\u01dc\20\5\4\0\1\4\6\5\1\0\17\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\1\5\1\u0141" + "\1\0\21\5\4\0\1\4\6\5\1\0\4\5\1\310"
-			+ "\12\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\15\5\1\u01a2" + "\1\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\17\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\1\u01dd"
-			+ "\20\5\4\0\1\4\6\5\1\0\14\5\1\u01de\2\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\1\5\1\u01df\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\13\5\1\u01dd\3\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\3\5\1\u01e0\13\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\4\5\1\u01e1\12\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\4\5\1\u01e2\6\5\1\u01e3"
-			+ "\3\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\14\5\1\u01e4" + "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\6\5\1\u01e5"
-			+ "\10\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\17\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\7\5" + "\1\u0180\11\5\4\0\1\4\6\5\1\0\5\5\1\u01e6"
-			+ "\11\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\17\5\11\0" + "\1\4\2\5\2\0\2\5\1\u0111\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\10\5\1\u01e7\6\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4" + "\2\5\2\0\1\5\1\u017f\1\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\12\5\1\316\4\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\16\5\1\u0169\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\1\5\1\u012a\12\5\1\u0103"
-			+ "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\1\5\1\u015d\4\5\1\0" + "\10\5\1\u01e8\6\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\11\5\1\u01e9\5\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\13\5\1\u0114\3\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\1\5\1\u0165\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\11\5\1\u01ea\5\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\6\5\1\u01eb\1\5\1\334\2\5\1\u01ec\1\312"
-			+ "\1\5\1\u0169\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\1\u0165\1\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\11\5\1\u01ed\5\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\17\5\11\0\1\4\2\5\2\0\1\5\1\u01ee\1\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\10\5\1\u01ef\6\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\2\5\1\u01f0\14\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\3\5\1\u01f1\13\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\1\5\1\u01f2\15\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\5" + "\1\u01f3\1\0\21\5\4\0\1\4\6\5\1\0\6\5"
-			+ "\1\u01f4\10\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\17\5" + "\11\0\1\4\2\5\2\0\1\u0141\2\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\7\5\1\u01f5"
-			+ "\7\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\1\5\1\u01f6" + "\15\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\14\5\1\u01f7"
-			+ "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\7\5\1\u01f8" + "\7\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\17\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\1\5\1\u01f9\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\3\5\1\u01fa\13\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\10\5\1\u01b3\6\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\1\130\1\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\4\5\1\130\12\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\15\5\1\u01fb\1\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\17\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\1\5\1\u01fc\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\15\5\1\130\1\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\1\5\1\316\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\14\5\1\u015c\2\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\1\5\1\u01fd\15\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\3\5\1\u01fe\13\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\1\u01ff\1\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\11\5\1\u01a0\5\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\3\5\1\312\13\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\5\5\1\u0111\13\5\4\0\1\4\6\5" + "\1\0\4\5\1\u0200\12\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\1\5\1\312\15\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\13\5\1\u01ec\2\5\1\u0169\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\1\u0165\1\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0" + "\1\5\1\u014b\1\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\4\5\1\u01a2\12\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\1\5\1\u01aa\1\0\21\5\4\0\1\4" + "\6\5\1\0\10\5\1\u0201\6\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\3\u011f"
-			+ "\4\212\1\u011f\3\212\6\u011f\1\212\2\u011f\1\212\6\u011f"
-			+ "\1\214\5\u011f\1\212\1\u011f\1\0\2\u011f\2\212\5\u011f"
-			+ "\1\212\20\u011f\2\212\2\u011f\2\212\5\u011f\1\212\4\u011f"
-			+ "\3\217\4\42\1\217\3\42\6\217\1\42\2\217\1\42" + "\13\217\1\u0127\1\42\2\217\1\u0128\1\217\2\42\5\217"
-			+ "\1\42\20\217\2\42\2\217\2\42\5\217\1\42\4\217" + "\1\4\6\5\1\0\12\5\1\u0202\4\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\1\5\1\253\1\0\21\5\4\0\1\4" + "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\1\5\1\u0203\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\7\5\1\u0204\7\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\7\5\1\u0205\7\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\1\5\1\130\17\5\4\0\1\4\6\5" + "\1\0\11\5\1\u0111\5\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\7\76\1\0"
-			+ "\12\76\1\u0206\4\76\11\0\3\76\2\0\3\76\2\0" + "\1\u0206\1\76\1\0\1\76\1\0\3\76\4\0\2\76"
-			+ "\1\0\21\76\4\0\7\76\1\0\5\76\1\u0206\11\76" + "\11\0\3\76\2\0\3\76\2\0\1\76\1\u0206\1\0"
-			+ "\1\76\1\0\3\76\4\0\2\76\1\0\21\76\4\0" + "\7\4\1\0\3\4\1\u01b7\13\4\11\0\3\4\2\0"
-			+ "\3\4\2\0\2\4\1\0\1\4\1\0\3\4\4\0" + "\2\4\1\0\21\4\4\0\7\4\1\0\2\4\1\u0207"
-			+ "\14\4\11\0\3\4\2\0\3\4\2\0\2\4\1\0" + "\1\4\1\0\3\4\4\0\2\4\1\0\21\4\4\0"
-			+ "\7\4\1\0\1\4\1\u0207\15\4\11\0\3\4\2\0" + "\3\4\2\0\2\4\1\0\1\4\1\0\3\4\4\0"
-			+ "\2\4\1\0\21\4\4\0\7\4\1\0\10\4\1\u0208" + "\6\4\11\0\3\4\2\0\3\4\2\0\2\4\1\0"
-			+ "\1\4\1\0\3\4\4\0\2\4\1\0\21\4\4\0" + "\7\4\1\0\1\4\1\u01b7\15\4\11\0\3\4\2\0"
-			+ "\3\4\2\0\2\4\1\0\1\4\1\0\3\4\4\0" + "\2\4\1\0\21\4\4\0\7\4\1\0\5\4\1\u0209"
-			+ "\11\4\11\0\3\4\2\0\3\4\2\0\2\4\1\0" + "\1\4\1\0\3\4\4\0\2\4\1\0\21\4\4\0"
-			+ "\7\4\1\0\15\4\1\u020a\1\4\11\0\3\4\2\0" + "\3\4\2\0\2\4\1\0\1\4\1\0\3\4\4\0"
-			+ "\2\4\1\0\21\4\16\0\1\u013d\113\0\1\u020b\120\0" + "\1\u020c\2\0\1\u020d\116\0\1\u020e\106\0\1\u020f\3\0"
-			+ "\1\u01c4\122\0\1\u0210\110\0\1\u020d\111\0\1\u020f\131\0" + "\1\u0211\71\0\1\4\6\5\1\0\5\5\1\u019d\11\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\3\5\1\u0212\13\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\14\5\1\u01f2\2\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\1\u0213\2\5\1\u01db" + "\1\u0214\12\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\11\5"
-			+ "\1\u01ea\5\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\1\5\1\u0215\1\0\21\5\4\0\1\4\6\5\1\0" + "\10\5\1\u0216\6\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\10\5\1\u0217\6\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\7\5\1\u0218\7\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\16\5\1\u0219\11\0\1\4\2\5\2\0\1\5\1\u0111" + "\1\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\36\0\1\u021a\101\0" + "\1\u014d\51\0\1\u01cf\26\0\1\u01d1\1\u021b\4\u01d1\1\u021b"
-			+ "\17\u01d1\3\u021b\1\u01d1\1\u021b\2\0\2\u021b\1\0\2\u01d1"
-			+ "\2\0\3\u01d1\1\0\1\u021b\2\u01d1\1\u021b\1\u01d1\1\0"
-			+ "\1\u021b\1\u01d1\5\u021b\2\u01d1\1\u021b\21\u01d1\1\0\1\u021b"
-			+ "\34\0\1\u021c\101\0\1\u0151\51\0\1\u01d2\26\0\1\u01d4"
-			+ "\1\u021d\4\u01d4\1\u021d\17\u01d4\3\u021d\1\u01d4\1\u021d\2\0"
-			+ "\2\u021d\1\0\2\u01d4\2\0\3\u01d4\1\0\1\u021d\2\u01d4"
-			+ "\1\u021d\1\u01d4\1\0\1\u021d\1\u01d4\5\u021d\2\u01d4\1\u021d"
-			+ "\21\u01d4\1\0\1\u021d\2\0\1\4\5\5\1\u021e\1\0" + "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\17\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\20\5"
-			+ "\1\u021e\4\0\1\4\6\5\1\0\5\5\1\u01ed\11\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\3\5\1\u021f\13\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\11\5\1\u0220\5\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\1\130\16\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\6\5\1\u0111\2\5\1\u0111" + "\5\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\1\5\1\u0165"
-			+ "\15\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\11\5\1\u0141" + "\5\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\7\5\1\u0103"
-			+ "\7\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\4\5\1\312" + "\12\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\11\5\1\312"
-			+ "\5\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\12\5\1\u01f2" + "\4\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\17\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\1\u0221\1\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\13\5\1\u01da\3\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\13\5\1\u0222\3\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\1\5\1\u0223\15\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\1\5\1\164" + "\1\0\21\5\4\0\1\4\6\5\1\0\11\5\1\u0224"
-			+ "\5\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\2\5\1\130" + "\14\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\13\5\1\u01ec"
-			+ "\1\312\1\5\1\u0169\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\u0165" + "\1\5\1\0\21\5\4\0\1\4\6\5\1\0\13\5"
-			+ "\1\u0114\3\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\17\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\2\5\1\u0111\16\5\4\0\1\4\6\5\1\0\17\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\1\5\1\130"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\7\5\1\u0166" + "\7\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\1\u0111\4\5"
-			+ "\1\u0111\4\5\1\u0103\4\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\1\5\1\u0111\17\5\4\0" + "\1\4\6\5\1\0\7\5\1\u01f2\7\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\11\5\1\u01f9\5\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\16\5\1\u0111\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\1\5\1\u0225\15\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\1\5\1\u0226\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\4\5\1\u0227\12\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\1\5\1\u0228\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\5"
-			+ "\1\u0229\1\0\21\5\4\0\1\4\6\5\1\0\1\5" + "\1\u022a\15\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\1\5\1\u022b\4\5"
-			+ "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\4\5" + "\1\u022c\12\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\4\5"
-			+ "\1\u022d\12\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\11\5" + "\1\u0111\5\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\1\u01b3\20\5\4\0\1\4\6\5\1\0"
-			+ "\11\5\1\u022e\5\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\11\5\1\130\5\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\14\5\1\u0165\2\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\17\5\11\0\1\4\2\5\2\0\1\u0111\2\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\17\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\1\u022f\20\5\4\0\1\4\6\5\1\0\14\5\1\u0230" + "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\14\5\1\152"
-			+ "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\15\5\1\u0111" + "\1\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\11\5\1\u01da"
-			+ "\5\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\7\4\1\0\7\4\1\u0207\7\4" + "\11\0\3\4\2\0\3\4\2\0\2\4\1\0\1\4"
-			+ "\1\0\3\4\4\0\2\4\1\0\21\4\4\0\7\4" + "\1\0\12\4\1\u0231\4\4\11\0\3\4\2\0\3\4"
-			+ "\2\0\2\4\1\0\1\4\1\0\3\4\4\0\2\4" + "\1\0\21\4\4\0\7\4\1\0\16\4\1\u0232\11\0"
-			+ "\3\4\2\0\3\4\2\0\2\4\1\0\1\4\1\0" + "\3\4\4\0\2\4\1\0\21\4\17\0\1\u020c\114\0"
-			+ "\1\u0233\114\0\1\u0233\124\0\1\u0234\106\0\1\u020c\121\0" + "\1\u0235\125\0\1\u0236\70\0\1\4\6\5\1\0\5\5"
-			+ "\1\u0141\11\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\1\5" + "\1\u01e8\15\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\14\5"
-			+ "\1\u0237\2\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\10\5" + "\1\u0238\6\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\1\u0111"
-			+ "\4\5\1\u0111\4\5\1\u0103\3\5\1\137\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\1\5\1\u0111" + "\17\5\4\0\1\4\6\5\1\0\16\5\1\u0219\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\17\5\11\0\1\4\2\5" + "\2\0\1\5\1\u0111\1\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\36\0\1\u01d1\115\0\1\u01d4\63\0\1\4\1\5\1\u0239"
-			+ "\4\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\11\5\1\u023a\5\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\3\5\1\u01ed\13\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\14\5\1\u0111\2\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\14\5\1\u023b\2\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\11\5\1\u023c\5\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\14\5\1\u0212\2\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\7\5\1\u023d\7\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\1\5\1\u023e\15\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\10\5\1\316\6\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\10\5\1\u023e\6\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\7\5\1\u0165\7\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\11\5\1\u023f\5\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\12\5\1\310\4\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\1\5\1\u012a\15\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\5" + "\1\u0240\1\0\21\5\4\0\1\4\6\5\1\0\11\5"
-			+ "\1\331\5\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\5\5" + "\1\130\11\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\7\4\1\0\1\u01b8\16\4"
-			+ "\11\0\3\4\2\0\3\4\2\0\2\4\1\0\1\4" + "\1\0\3\4\4\0\2\4\1\0\21\4\4\0\7\4"
-			+ "\1\0\14\4\1\u0207\2\4\11\0\3\4\2\0\3\4" + "\2\0\2\4\1\0\1\4\1\0\3\4\4\0\2\4"
-			+ "\1\0\21\4\23\0\1\u0233\120\0\1\u0241\121\0\1\u0242" + "\67\0\1\4\6\5\1\0\16\5\1\310\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\16\5\1\137\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\1\5\1\u0243\4\5\1\0\17\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\11\5\1\310\5\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\10\5\1\u01a4\6\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\13\5\1\u0244\3\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\7\5\1\130\7\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\14\5\1\u0245\2\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\1\5\1\u01db\15\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\14\0\1\u020d"
-			+ "\131\0\1\u0233\71\0\1\4\6\5\1\0\7\5\1\u0246" + "\7\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\6\5\1\u01ed"
-			+ "\10\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\1\5\1\u0247" + "\15\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\17\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\1\5\1\u023a\1\0" + "\21\5\4\0";
+	private static final int[] ZZ_TRANS = CPlusPlusTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[583];
-		int offset = 0;
-		offset = CPlusPlusTokenMaker.zzUnpackAction(CPlusPlusTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[583];
-		int offset = 0;
-		offset = CPlusPlusTokenMaker.zzUnpackAttribute(CPlusPlusTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 184) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[583];
-		int offset = 0;
-		offset = CPlusPlusTokenMaker.zzUnpackRowMap(CPlusPlusTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[43134];
-		int offset = 0;
-		offset = CPlusPlusTokenMaker.zzUnpackTrans(CPlusPlusTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/** zzAtEOF == true <=> the scanner is at the EOF */
 	private boolean zzAtEOF;
 
@@ -1362,7 +416,7 @@ public class CPlusPlusTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 7: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 34:
 				break;
@@ -1425,14 +479,14 @@ public class CPlusPlusTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 12: { /* Line ending in '\' => continue to next line. */
 				this.addToken(this.start, this.zzStartRead, TokenTypes.COMMENT_EOL);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 46:
 				break;
 			case 13: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 47:
 				break;
@@ -1450,14 +504,14 @@ public class CPlusPlusTokenMaker extends AbstractJFlexCTokenMaker {
 			case 6: {
 				this.addToken(TokenTypes.ERROR_CHAR);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 50:
 				break;
 			case 8: {
 				this.addToken(TokenTypes.ERROR_STRING_DOUBLE);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 51:
 				break;
@@ -1527,7 +581,7 @@ public class CPlusPlusTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 11: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 64:
 				break;
@@ -1538,19 +592,19 @@ public class CPlusPlusTokenMaker extends AbstractJFlexCTokenMaker {
 					case EOL_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 584:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 585:
 						break;
 					case MLC: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 586:
 						break;
@@ -73,44 +73,24 @@ public class CTokenMaker extends AbstractJFlexCTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = CTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\3\0\1\1\2\2\1\3\1\4\16\2\2\4\1\5"
-			+ "\1\4\1\6\3\4\1\2\1\7\1\10\2\2\1\3" + "\1\11\1\4\2\1\1\2\1\4\3\2\2\4\2\12"
-			+ "\1\13\5\12\1\14\2\12\1\2\2\15\2\3\1\16" + "\2\2\1\17\21\2\1\17\50\2\1\0\1\20\1\21"
-			+ "\2\22\1\23\1\6\2\10\1\24\7\2\1\15\6\1" + "\1\0\11\2\2\0\1\25\6\0\5\2\1\3\1\0"
-			+ "\1\3\1\15\1\16\2\2\1\26\5\2\1\26\17\2" + "\1\27\15\2\1\26\1\2\1\26\45\2\1\6\1\30"
-			+ "\1\6\3\22\1\6\2\10\1\31\6\2\1\32\4\1" + "\1\33\4\1\6\0\10\2\10\0\5\2\1\16\1\0"
-			+ "\27\2\1\27\37\2\1\26\2\2\1\26\6\2\1\6" + "\1\10\6\2\2\32\7\1\4\0\1\33\4\0\10\2"
-			+ "\2\0\1\34\2\0\1\35\50\2\1\32\1\33\3\1" + "\7\0\7\2\4\0\5\2\1\36\5\2\2\1\1\33" + "\3\0\4\2\2\0\1\33";
+	private static final ScannerTables TABLES = ScannerTables.load(CTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = CTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\3\0\25\1\1\11\6\1\1\11\6\1\1\11\1\1"
-			+ "\2\11\7\1\1\11\5\1\1\11\105\1\1\0\2\11" + "\2\1\1\11\3\1\1\11\16\1\1\0\11\1\2\0"
-			+ "\1\11\6\0\6\1\1\0\122\1\1\11\7\1\1\11" + "\20\1\6\0\10\1\10\0\6\1\1\0\122\1\4\0"
-			+ "\1\1\4\0\10\1\2\0\1\1\2\0\56\1\7\0" + "\7\1\4\0\15\1\1\11\3\0\4\1\2\0\1\1";
+	private static final int[] ZZ_ACTION = CTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = CTokenMaker.zzUnpackCMap(CTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = CTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\50\1\43\1\0\1\50\1\56\22\0\1\50\1\36\1\44"
-			+ "\1\57\1\60\1\65\1\113\1\33\1\31\1\31\1\51\1\7\1\64" + "\1\37\1\54\1\32\1\47\1\77\1\76\1\41\4\5\2\3\1\70"
-			+ "\1\63\1\34\1\30\1\35\1\27\1\61\1\103\1\4\1\111\1\102"
-			+ "\1\6\1\55\2\1\1\105\2\1\1\53\1\106\1\107\4\1\1\110" + "\1\104\1\52\2\1\1\42\2\1\1\62\1\40\1\62\1\115\1\2"
-			+ "\1\0\1\24\1\46\1\21\1\10\1\11\1\12\1\25\1\66\1\13"
-			+ "\1\100\1\72\1\15\1\26\1\14\1\20\1\23\1\101\1\17\1\16"
-			+ "\1\67\1\22\1\45\1\71\1\73\1\75\1\74\1\112\1\114\1\112" + "\1\64\uff81\0";
+	private static final char[] ZZ_CMAP = CTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -123,815 +103,16 @@ public class CTokenMaker extends AbstractJFlexCTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = CTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\116\0\234\0\352\0\u0138\0\u0186\0\u01d4\0\u0222"
-			+ "\0\u0270\0\u02be\0\u030c\0\u035a\0\u03a8\0\u03f6\0\u0444\0\u0492"
-			+ "\0\u04e0\0\u052e\0\u057c\0\u05ca\0\u0618\0\u0666\0\u06b4\0\u0702"
-			+ "\0\u0750\0\u079e\0\u07ec\0\u083a\0\u0888\0\u08d6\0\352\0\u0750"
-			+ "\0\u0924\0\u0972\0\u09c0\0\u0a0e\0\u0a5c\0\u0aaa\0\u0750\0\u0af8"
-			+ "\0\u0750\0\u0750\0\u0b46\0\u0b94\0\u0be2\0\u0c30\0\u0c7e\0\u0ccc"
-			+ "\0\u0d1a\0\u0750\0\u0d68\0\u0db6\0\u0e04\0\u0e52\0\u0ea0\0\u0750"
-			+ "\0\u0eee\0\u0f3c\0\u0f8a\0\u0fd8\0\u1026\0\u1074\0\u10c2\0\u1110"
-			+ "\0\u115e\0\u11ac\0\u11fa\0\u1248\0\u1296\0\u12e4\0\u1332\0\u1380"
-			+ "\0\u13ce\0\u141c\0\u146a\0\u14b8\0\u1506\0\u1554\0\u15a2\0\u15f0"
-			+ "\0\u163e\0\u168c\0\u16da\0\u1728\0\u0138\0\u1776\0\u17c4\0\u1812"
-			+ "\0\u1860\0\u18ae\0\u18fc\0\u194a\0\u1998\0\u19e6\0\u1a34\0\u1a82"
-			+ "\0\u1ad0\0\u1b1e\0\u1b6c\0\u1bba\0\u1c08\0\u1c56\0\u1ca4\0\u1cf2"
-			+ "\0\u1d40\0\u1d8e\0\u1ddc\0\u1e2a\0\u1e78\0\u1ec6\0\u1f14\0\u1f62"
-			+ "\0\u1fb0\0\u1ffe\0\u204c\0\u209a\0\u20e8\0\u2136\0\u2184\0\u21d2"
-			+ "\0\u2220\0\u226e\0\u22bc\0\u230a\0\u2358\0\u23a6\0\u0750\0\u0750"
-			+ "\0\u23f4\0\u2442\0\u0750\0\u2490\0\u24de\0\u252c\0\u0750\0\u257a"
-			+ "\0\u25c8\0\u2616\0\u2664\0\u26b2\0\u2700\0\u274e\0\u279c\0\u27ea"
-			+ "\0\u2838\0\u2886\0\u28d4\0\u2922\0\u2970\0\u29be\0\u2a0c\0\u2a5a"
-			+ "\0\u2aa8\0\u2af6\0\u2b44\0\u2b92\0\u2be0\0\u2c2e\0\u2c7c\0\u2cca"
-			+ "\0\u2d18\0\u0750\0\u2d66\0\u2db4\0\u2e02\0\u2e50\0\u2e9e\0\u2eec"
-			+ "\0\u2f3a\0\u2f88\0\u2fd6\0\u3024\0\u3072\0\u30c0\0\u310e\0\u0fd8"
-			+ "\0\u315c\0\u0fd8\0\u31aa\0\u31f8\0\u3246\0\u3294\0\u32e2\0\u3330"
-			+ "\0\u337e\0\u33cc\0\u0138\0\u341a\0\u3468\0\u34b6\0\u3504\0\u3552"
-			+ "\0\u35a0\0\u35ee\0\u363c\0\u368a\0\u36d8\0\u3726\0\u3774\0\u37c2"
-			+ "\0\u3810\0\u385e\0\u0138\0\u38ac\0\u38fa\0\u3948\0\u3996\0\u39e4"
-			+ "\0\u3a32\0\u3a80\0\u3ace\0\u3b1c\0\u3b6a\0\u3bb8\0\u3c06\0\u3c54"
-			+ "\0\u3ca2\0\u3cf0\0\u3d3e\0\u3d8c\0\u3dda\0\u3e28\0\u3e76\0\u3ec4"
-			+ "\0\u3f12\0\u3f60\0\u3fae\0\u3ffc\0\u404a\0\u4098\0\u40e6\0\u4134"
-			+ "\0\u4182\0\u41d0\0\u421e\0\u426c\0\u42ba\0\u4308\0\u4356\0\u43a4"
-			+ "\0\u43f2\0\u4440\0\u448e\0\u44dc\0\u452a\0\u4578\0\u45c6\0\u4614"
-			+ "\0\u4662\0\u46b0\0\u46fe\0\u474c\0\u479a\0\u47e8\0\u4836\0\u4884"
-			+ "\0\u48d2\0\u0750\0\u4920\0\u496e\0\u49bc\0\u4a0a\0\u4a58\0\u4aa6"
-			+ "\0\u4af4\0\u0750\0\u4b42\0\u4b90\0\u4bde\0\u4c2c\0\u4c7a\0\u4cc8"
-			+ "\0\u4d16\0\u4d64\0\u4db2\0\u4e00\0\u4e4e\0\u4e9c\0\u4eea\0\u4f38"
-			+ "\0\u4f86\0\u4fd4\0\u5022\0\u5070\0\u50be\0\u510c\0\u515a\0\u51a8"
-			+ "\0\u51f6\0\u5244\0\u5292\0\u52e0\0\u532e\0\u537c\0\u53ca\0\u5418"
-			+ "\0\u5466\0\u54b4\0\u5502\0\u5550\0\u559e\0\u55ec\0\u563a\0\u5688"
-			+ "\0\u56d6\0\u5724\0\u5772\0\u57c0\0\u580e\0\u585c\0\u58aa\0\u58f8"
-			+ "\0\u5946\0\u5994\0\u59e2\0\u5a30\0\u5a7e\0\u5acc\0\u5b1a\0\u5b68"
-			+ "\0\u5bb6\0\u5c04\0\u5c52\0\u5ca0\0\u5cee\0\u5d3c\0\u5d8a\0\u5dd8"
-			+ "\0\u5e26\0\u5e74\0\u5ec2\0\u5f10\0\u5f5e\0\u5fac\0\u5ffa\0\u6048"
-			+ "\0\u6096\0\u60e4\0\u6132\0\u6180\0\u61ce\0\u621c\0\u626a\0\u62b8"
-			+ "\0\u6306\0\u6354\0\u63a2\0\u63f0\0\u643e\0\u648c\0\u64da\0\u6528"
-			+ "\0\u6576\0\u65c4\0\u6612\0\u6660\0\u66ae\0\u66fc\0\u674a\0\u6798"
-			+ "\0\u67e6\0\u6834\0\u6882\0\u68d0\0\u691e\0\u696c\0\u69ba\0\u6a08"
-			+ "\0\u6a56\0\u6aa4\0\u6af2\0\u6b40\0\u6b8e\0\u6bdc\0\u6c2a\0\u6c78"
-			+ "\0\u6cc6\0\u6d14\0\u6d62\0\u6db0\0\u6dfe\0\u6e4c\0\u6e9a\0\u6ee8"
-			+ "\0\u6f36\0\u6f84\0\u6fd2\0\u7020\0\u706e\0\u70bc\0\u710a\0\u7158"
-			+ "\0\u71a6\0\u71f4\0\u7242\0\u7290\0\u72de\0\u732c\0\u737a\0\u73c8"
-			+ "\0\u7416\0\u7464\0\u74b2\0\u7500\0\u754e\0\u759c\0\u75ea\0\u7638"
-			+ "\0\u7686\0\u76d4\0\u7722\0\u7770\0\u77be\0\u780c\0\u785a\0\u78a8"
-			+ "\0\u78f6\0\u7944\0\u7992\0\u79e0\0\u3d3e\0\u7a2e\0\u7a7c\0\u7aca"
-			+ "\0\u7b18\0\u7b66\0\u7bb4\0\u7c02\0\u7c50\0\u7c9e\0\u7cec\0\u7d3a"
-			+ "\0\u7d88\0\u7dd6\0\u7e24\0\u7e72\0\u7ec0\0\u7f0e\0\u7f5c\0\u7faa"
-			+ "\0\u7ff8\0\u8046\0\u8094\0\u80e2\0\u8130\0\u817e\0\u81cc\0\u821a"
-			+ "\0\u8268\0\u82b6\0\u8304\0\u8352\0\u83a0\0\u83ee\0\u843c\0\u848a"
-			+ "\0\u0fd8\0\352\0\u84d8\0\u8526\0\u8574\0\u85c2\0\u8610\0\u865e"
-			+ "\0\u86ac\0\u86fa\0\u8748\0\u8796\0\u87e4\0\u8832\0\u8880\0\u88ce"
-			+ "\0\u891c\0\u3246\0\u896a\0\u89b8\0\u77be\0\u8a06\0\u78a8\0\u8a54"
-			+ "\0\u8aa2\0\u8af0\0\u8b3e\0\u8b8c\0\u0138\0\u8bda\0\u8c28\0\u8c76"
-			+ "\0\u8cc4\0\u8d12\0\u8d60\0\u8dae\0\u0750\0\u8dfc\0\u8e4a\0\u8e98"
-			+ "\0\u8ee6\0\u8f34\0\u8f82\0\u8fd0\0\u901e\0\u906c\0\u0138";
+	private static final int[] ZZ_ROWMAP = CTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = CTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\4\1\5\1\6\1\7\1\5\1\7\1\5\1\10"
-			+ "\1\11\1\12\1\13\1\14\1\5\1\15\1\16\1\17" + "\1\20\1\21\1\22\1\23\1\24\1\25\1\26\1\27"
-			+ "\1\30\1\31\1\32\1\33\1\34\1\35\1\30\1\36" + "\1\37\1\7\1\5\1\40\1\41\1\42\1\43\1\44"
-			+ "\1\45\1\30\2\5\1\46\1\5\1\47\1\50\2\4" + "\1\31\1\51\1\52\1\30\1\5\1\53\1\52\1\54"
-			+ "\4\5\2\7\1\5\1\55\10\5\1\31\1\56\1\57" + "\1\30\12\60\1\61\30\60\1\62\5\60\1\63\14\60"
-			+ "\1\64\2\60\1\65\24\60\12\66\1\67\30\66\1\70" + "\22\66\1\71\2\66\1\72\24\66\7\4\1\0\17\4"
-			+ "\11\0\3\4\2\0\3\4\2\0\2\4\1\0\1\4" + "\1\0\3\4\4\0\2\4\1\0\21\4\4\0\1\4"
-			+ "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\1\5\1\73" + "\4\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\3\74\1\7\1\74"
-			+ "\1\7\1\75\1\0\1\74\1\75\3\74\1\76\4\74" + "\1\77\4\74\11\0\1\74\1\7\1\74\2\0\2\74"
-			+ "\1\7\2\0\1\77\1\76\1\100\1\74\1\0\3\74" + "\4\0\2\74\1\0\5\74\2\7\12\74\13\0\1\52"
-			+ "\20\0\1\52\65\0\1\4\6\5\1\0\1\5\1\101" + "\1\5\1\102\4\5\1\103\6\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\4\5\1\104\1\105\1\5\1\106\7\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\2\5\1\107\16\5\4\0\1\4\6\5\1\0\1\5"
-			+ "\1\110\1\111\2\5\1\112\1\113\1\114\1\115\1\116" + "\1\5\1\117\1\120\1\121\1\122\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\1\5\1\123\1\0\1\124\20\5"
-			+ "\4\0\1\4\6\5\1\0\2\5\1\125\1\5\1\126" + "\1\5\1\127\10\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\1\130\7\5\1\131\3\5\1\120\2\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\1\5\1\132\1\5\1\133\2\5"
-			+ "\1\134\1\135\1\5\1\136\1\5\1\137\3\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\1\140\1\141\1\0" + "\1\142\3\5\1\143\3\5\1\144\10\5\4\0\1\4"
-			+ "\6\5\1\0\1\5\1\145\12\5\1\146\2\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\2\5\1\147\14\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\1\5\1\150\3\5\1\151" + "\2\5\1\152\3\5\1\153\2\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\1\154\1\155\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\4\5\1\156\12\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\1\5\1\157\5\5\1\160\1\161"
-			+ "\1\5\1\162\4\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\6\5\1\163\2\5\1\164\1\165\4\5\11\0\1\4"
-			+ "\2\5\2\0\1\5\1\166\1\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\1\5\1\167"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\1\5\1\170" + "\6\5\1\165\5\5\1\171\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\1\5\1\172\6\5\1\173\3\5\1\174\2\5" + "\11\0\1\4\2\5\2\0\1\5\1\175\1\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\1\5\1\171\17\5\33\0\1\176\116\0"
-			+ "\1\52\233\0\1\52\1\0\1\177\16\0\1\200\44\0" + "\27\201\1\202\3\201\1\203\4\201\1\204\2\201\1\0"
-			+ "\52\201\30\0\1\52\3\0\1\30\111\0\1\52\4\0" + "\1\30\110\0\1\52\6\0\1\52\56\0\40\41\1\205"
-			+ "\2\41\1\206\1\207\51\41\1\4\6\5\1\0\2\5" + "\1\210\3\5\1\210\1\5\1\211\2\5\1\137\1\212"
-			+ "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\1\213\20\5\4\0\1\4\6\5\1\0\6\5" + "\1\214\1\215\7\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\1\5\1\216\1\0\21\5\4\0\3\74\1\7"
-			+ "\1\74\1\7\1\75\1\0\1\74\1\75\3\74\1\76" + "\4\74\1\77\4\74\11\0\1\74\1\7\1\217\2\0"
-			+ "\2\74\1\7\2\0\1\77\1\76\1\100\1\74\1\0" + "\3\74\4\0\2\74\1\0\2\74\1\217\2\74\2\7"
-			+ "\12\74\54\0\1\45\50\0\1\100\1\0\1\100\33\0" + "\1\100\5\0\1\100\26\0\2\100\16\0\7\4\1\0"
-			+ "\1\220\1\221\1\4\1\222\1\4\1\223\4\4\1\224" + "\1\225\3\4\11\0\3\4\2\0\3\4\1\226\1\0"
-			+ "\2\4\1\0\1\4\1\0\3\4\4\0\2\4\1\0" + "\21\4\4\0\1\4\6\5\1\0\3\5\1\227\4\5"
-			+ "\1\230\3\5\1\231\1\5\1\232\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\4\5\1\233\14\5" + "\4\0\1\4\6\5\1\0\6\5\1\134\2\5\1\234"
-			+ "\1\5\1\137\2\5\1\235\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\1\236\1\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\6\5\1\237\10\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\34\0\1\52"
-			+ "\62\0\1\52\32\0\1\52\63\0\1\52\1\0\12\60" + "\1\0\30\60\1\0\5\60\1\0\14\60\1\0\2\60"
-			+ "\1\0\24\60\13\0\1\240\53\0\1\241\60\0\1\242" + "\152\0\1\243\117\0\1\244\24\0\12\66\1\0\30\66"
-			+ "\1\0\22\66\1\0\2\66\1\0\24\66\13\0\1\245" + "\53\0\1\246\115\0\1\247\117\0\1\250\24\0\1\4"
-			+ "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\1\5\1\251\1\0\1\252\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\11\5\1\253\1\5\1\254" + "\3\5\1\255\1\5\4\0\7\74\1\0\17\74\11\0"
-			+ "\3\74\2\0\3\74\2\0\2\74\1\0\1\74\1\0" + "\3\74\4\0\2\74\1\0\21\74\4\0\3\74\1\256"
-			+ "\1\74\1\256\1\74\1\257\17\74\10\0\1\257\1\74" + "\1\256\1\74\2\0\2\74\1\256\2\0\2\74\1\0"
-			+ "\1\74\1\0\3\74\4\0\2\74\1\0\5\74\2\256" + "\12\74\4\0\7\74\1\0\12\74\1\260\4\74\11\0"
-			+ "\3\74\2\0\3\74\2\0\1\260\1\74\1\0\1\74" + "\1\0\3\74\4\0\2\74\1\0\21\74\4\0\7\74"
-			+ "\1\0\5\74\1\260\11\74\11\0\3\74\2\0\3\74" + "\2\0\1\74\1\260\1\0\1\74\1\0\3\74\4\0"
-			+ "\2\74\1\0\21\74\4\0\3\74\1\100\1\74\1\100" + "\1\261\1\0\1\74\1\261\1\262\2\74\1\262\11\74"
-			+ "\11\0\1\74\1\100\1\74\2\0\2\74\1\100\2\0" + "\1\74\1\262\1\0\1\262\1\0\3\74\4\0\2\74"
-			+ "\1\0\5\74\2\100\12\74\4\0\1\4\6\5\1\0" + "\2\5\1\263\14\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\2\5\1\264\14\5\11\0\1\4\2\5\2\0\1\265" + "\2\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\12\5\1\266\4\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\12\5\1\267\4\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\6\5\1\270\10\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\7\5\1\271\7\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\3\5\1\272\7\5\1\273\3\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\1\5\1\274\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\7\5\1\275\1\276\6\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\5\5\1\277\11\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\10\5\1\300\6\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\1\5\1\301\7\5"
-			+ "\1\136\5\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\1\5" + "\1\302\15\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\7\5"
-			+ "\1\125\3\5\1\303\3\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\5\5\1\304\11\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\7\5\1\160\2\5\1\305\4\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0"
-			+ "\1\5\1\306\1\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\1\5\1\307\15\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\10\5\1\310\6\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\1\5\1\311\15\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\6\5\1\134\1\312\3\5\1\137"
-			+ "\3\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\17\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\1\5\1\313\1\0" + "\21\5\4\0\1\4\6\5\1\0\1\314\4\5\1\315"
-			+ "\1\316\2\5\1\317\1\320\1\321\1\322\1\323\1\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\2\5\1\324\16\5\4\0\1\4\6\5\1\0\1\5"
-			+ "\1\325\1\5\1\326\13\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\4\5\1\327\4\5\1\330\3\5\1\331\1\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\1\5\1\332\1\0\21\5" + "\4\0\1\4\6\5\1\0\4\5\1\333\10\5\1\334"
-			+ "\1\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\3\5\1\335\15\5\4\0\1\4\6\5\1\0" + "\11\5\1\136\5\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\14\5\1\336\2\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\14\5\1\337\2\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\7\5\1\160\7\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\10\5\1\340\6\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\7\5\1\341\4\5\1\342\2\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\3\5\1\343\2\5\1\134\4\5\1\137"
-			+ "\3\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\6\5\1\344" + "\10\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\7\5\1\272"
-			+ "\7\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\4\5\1\345" + "\7\5\1\174\1\346\1\347\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\1\5\1\350\1\0\1\351\20\5\4\0"
-			+ "\1\4\6\5\1\0\3\5\1\352\1\310\12\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\2\5\1\353\14\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\3\5\1\354\13\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\1\5\1\355\6\5\1\356"
-			+ "\6\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\4\5\1\357" + "\1\5\1\333\10\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\5\5\1\360\1\270\10\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\14\5\1\361\2\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\3\5\1\227\13\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\3\5\1\362\2\5\1\363\6\5\1\364\1\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\7\5\1\275\7\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\3\5\1\365\13\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\1\273\20\5" + "\4\0\1\4\6\5\1\0\17\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\1\5\1\366\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\3\5\1\367\2\5\1\370\2\5" + "\1\171\5\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\10\5"
-			+ "\1\306\6\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\17\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\1\5\1\371" + "\1\0\21\5\4\0\1\4\6\5\1\0\6\5\1\273"
-			+ "\1\5\1\144\6\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\1\5\1\372\6\5\1\373\3\5\1\374\2\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\17\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\1\5\1\375\1\0\21\5\4\0" + "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\1\5\1\155\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\16\5\1\376\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\1\276\16\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\5\5\1\360\11\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\5\5\1\303\1\377\1\u0100\7\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\1\5\1\216\1\0\21\5\34\0"
-			+ "\10\52\56\0\33\u0101\1\u0102\7\u0101\1\0\101\u0101\1\u0103"
-			+ "\3\u0101\1\u0102\7\u0101\1\0\57\u0101\1\u0104\3\u0101\2\201"
-			+ "\1\u0101\1\201\2\u0101\1\201\4\u0101\1\201\2\u0101\1\201"
-			+ "\3\u0101\1\u0105\4\u0101\1\201\1\u0106\1\u0107\1\0\3\201"
-			+ "\1\u0106\17\u0101\1\201\3\u0101\1\u0107\2\u0101\2\u0106\16\u0101"
-			+ "\5\206\1\41\3\206\2\41\1\206\1\41\2\206\1\41" + "\4\206\1\41\2\206\1\41\3\206\1\41\4\206\2\41"
-			+ "\1\u0108\1\0\4\41\17\206\1\41\3\206\1\u0108\2\206" + "\2\41\56\206\1\u0109\3\206\1\u010a\51\206\1\4\6\5"
-			+ "\1\0\13\5\1\137\3\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\1\213\20\5\4\0\1\4" + "\6\5\1\0\3\5\1\u010b\1\5\1\u010c\11\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\1\5\1\u010d\4\5\1\0\17\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\13\5\1\137\3\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\1\5\1\u010e\15\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\1\5\1\u010f\15\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\10\5\1\u0110\6\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\3\74\4\u0111\1\0\3\u0111\6\74\1\u0111\2\74"
-			+ "\1\u0111\2\74\11\0\1\74\1\u0111\1\74\2\0\1\74" + "\2\u0111\2\0\2\74\1\0\1\u0111\1\0\3\74\4\0"
-			+ "\2\74\1\0\5\74\2\u0111\2\74\2\u0111\5\74\1\u0111" + "\4\0\7\4\1\0\1\4\1\u0112\15\4\11\0\3\4"
-			+ "\2\0\3\4\2\0\2\4\1\0\1\4\1\0\3\4" + "\4\0\2\4\1\0\21\4\4\0\7\4\1\0\4\4"
-			+ "\1\u0113\1\u0114\1\4\1\u0115\7\4\11\0\3\4\2\0" + "\3\4\2\0\2\4\1\0\1\4\1\0\3\4\4\0"
-			+ "\2\4\1\0\21\4\4\0\7\4\1\0\2\4\1\u0116" + "\1\4\1\u0117\12\4\11\0\3\4\2\0\3\4\2\0"
-			+ "\2\4\1\0\1\4\1\0\3\4\4\0\2\4\1\0" + "\21\4\4\0\7\4\1\0\3\4\1\u0118\13\4\11\0"
-			+ "\3\4\2\0\3\4\2\0\2\4\1\0\1\4\1\0" + "\3\4\4\0\2\4\1\0\21\4\4\0\7\4\1\0"
-			+ "\4\4\1\u0119\12\4\11\0\3\4\2\0\3\4\2\0" + "\2\4\1\0\1\4\1\0\3\4\4\0\2\4\1\0"
-			+ "\21\4\4\0\7\4\1\0\7\4\1\u011a\7\4\11\0" + "\3\4\2\0\3\4\2\0\2\4\1\0\1\4\1\0"
-			+ "\3\4\4\0\2\4\1\0\21\4\14\0\1\u011b\1\u011c" + "\1\0\1\u011d\1\0\1\u011e\4\0\1\u011f\1\u0120\24\0"
-			+ "\1\226\45\0\1\4\6\5\1\0\16\5\1\u0121\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\5\5\1\315\4\5\1\320"
-			+ "\4\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\4\5\1\333" + "\12\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\13\5\1\u0122"
-			+ "\3\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\13\5\1\u0123" + "\3\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\6\5\1\u0124"
-			+ "\1\u0125\7\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\1\u0126\1\u0127\1\0\21\5\4\0\1\4\6\5\1\0" + "\1\5\1\172\15\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\3\5\1\u0128\13\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\10\5\1\144\6\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\21\0\1\u0129\123\0\1\u012a"
-			+ "\161\0\1\u012b\117\0\1\u012c\41\0\1\u012d\123\0\1\u012e"
-			+ "\161\0\1\u012f\117\0\1\u0130\24\0\1\4\6\5\1\0" + "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\14\5\1\u0131\4\5\4\0\1\4\6\5\1\0"
-			+ "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\14\5\1\u0132\4\5\4\0\1\4\6\5\1\0" + "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\12\5\1\u0133\6\5\4\0\1\4\6\5\1\0"
-			+ "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\14\5\1\u0134\4\5\4\0\1\4\6\5\1\0" + "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\13\5\1\u0135\5\5\4\0\3\74\1\256\1\74"
-			+ "\1\256\1\74\1\0\5\74\1\76\4\74\1\77\4\74" + "\11\0\1\74\1\256\1\74\2\0\2\74\1\256\2\0"
-			+ "\1\77\1\76\1\0\1\74\1\0\3\74\4\0\2\74" + "\1\0\5\74\2\256\12\74\7\0\1\256\1\0\1\256"
-			+ "\33\0\1\256\5\0\1\256\26\0\2\256\16\0\3\74" + "\1\u0136\1\74\1\u0136\1\74\1\u0137\17\74\10\0\1\u0137"
-			+ "\1\74\1\u0136\1\74\2\0\2\74\1\u0136\2\0\2\74" + "\1\0\1\74\1\0\3\74\4\0\2\74\1\0\5\74"
-			+ "\2\u0136\12\74\4\0\1\4\6\5\1\0\14\5\1\u0138" + "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\2\5\1\171"
-			+ "\14\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\1\5\1\126\4\5\1\0" + "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\17\5\11\0"
-			+ "\1\4\2\5\2\0\1\5\1\u0139\1\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\16\5\1\125" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\1\5\1\125\15\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\4\5\1\u013a\12\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\1\5\1\273\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\1\5\1\u013b\15\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\7\5\1\u013c\7\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\2\5\1\273\14\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\12\5\1\u013d\4\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\10\5\1\u013e\3\5\1\126" + "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\1\5\1\u013f"
-			+ "\15\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\5"
-			+ "\1\u0140\1\0\21\5\4\0\1\4\6\5\1\0\1\5" + "\1\273\6\5\1\u0141\3\5\1\310\2\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\2\5\1\u0142"
-			+ "\16\5\4\0\1\4\6\5\1\0\1\5\1\367\15\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\10\5\1\352\6\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\1\5\1\u0143\1\0\21\5" + "\4\0\1\4\6\5\1\0\6\5\1\273\10\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\17\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\1\5\1\u0144\1\0\21\5\4\0" + "\1\4\6\5\1\0\1\273\16\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\5\5\1\354\11\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\3\5\1\u0145\13\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\3\5\1\u0146\13\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\10\5\1\u0147\6\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\13\5\1\u0148\3\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\4\5\1\u0149\12\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\13\5\1\u014a\3\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\7\5\1\u014b\2\5\1\u014c\4\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\5\5\1\u014d\11\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\7\5\1\u014e\7\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\1\314\16\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\2\5\1\u0142\16\5\4\0"
-			+ "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0" + "\1\265\2\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\15\5\1\u014f\1\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\14\5\1\u0150\2\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\6\5\1\u0151\12\5\4\0\1\4"
-			+ "\6\5\1\0\5\5\1\u0152\11\5\11\0\1\4\2\5" + "\2\0\1\u0153\1\u0154\1\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\7\5" + "\1\u0155\11\5\4\0\1\4\6\5\1\0\17\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\1\273\1\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\4\5\1\u0156\12\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\1\5\1\u0157\15\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\4\5\1\310\12\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\4\5\1\276\12\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\7\5\1\126\7\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\1\5\1\157\1\171"
-			+ "\1\5\1\u0158\1\303\1\u0159\1\u015a\1\5\1\u015b\1\u015c" + "\1\u015d\3\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\1\5\1\u015e\1\0\2\5\1\u015f\16\5\4\0\1\4"
-			+ "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\1\5\1\u0160\1\0\21\5\4\0\1\4\6\5" + "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\1\5\1\u0161\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\1\5"
-			+ "\1\u0162\1\0\21\5\4\0\1\4\6\5\1\0\14\5" + "\1\227\2\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\3\5"
-			+ "\1\u0163\13\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\10\5" + "\1\u0164\6\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\12\5"
-			+ "\1\u0165\4\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\3\5" + "\1\336\13\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\6\5"
-			+ "\1\u0121\10\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\6\5" + "\1\u0166\10\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\5\5"
-			+ "\1\273\11\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\14\5" + "\1\u0167\2\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\11\5"
-			+ "\1\u013f\5\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\6\5" + "\1\u0168\10\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\1\5\1\u0169\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\5\5\1\u016a\11\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\7\5\1\313\7\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\10\5\1\u016b\6\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\3\5\1\u016c\13\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\1\5\1\u016d\15\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\4\5\1\u016e\12\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\6\5\1\273\2\5\1\u016f\5\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\1\u0170\20\5\4\0" + "\1\4\6\5\1\0\4\5\1\273\12\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\1\5\1\144\15\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\10\5\1\125\6\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\2\5\1\u0171\16\5\4\0" + "\1\4\6\5\1\0\2\5\2\273\1\5\1\273\11\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\4\5\1\u0172\12\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\1\5\1\u0173\4\5"
-			+ "\1\273\2\5\1\u016f\5\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\1\u0170\20\5\4\0\1\4" + "\6\5\1\0\6\5\1\u0174\2\5\1\u0175\4\5\1\347"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\3\5\1\u0176\3\5" + "\1\u0177\7\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\1\5\1\u0178\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\5\5\1\303\11\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\1\5\1\216\1\0\21\5\4\0\33\u0101\1\203" + "\7\u0101\1\0\102\u0101\3\201\1\u0105\4\201\3\u0101\1\0"
-			+ "\57\u0101\1\201\25\u0101\1\u0102\5\u0101\1\201\1\u0101\1\0"
-			+ "\3\u0101\1\201\26\u0101\2\201\16\u0101\33\0\1\u0102\62\0"
-			+ "\5\u0101\1\u0104\25\u0101\1\u0102\5\u0101\1\u0104\1\u0101\1\0"
-			+ "\3\u0101\1\u0104\26\u0101\2\u0104\21\u0101\4\u0179\1\u0101\3\u0179"
-			+ "\6\u0101\1\u0179\2\u0101\1\u0179\6\u0101\1\203\5\u0101\1\u0179"
-			+ "\1\u0101\1\0\2\u0101\2\u0179\5\u0101\1\u0179\20\u0101\2\u0179"
-			+ "\2\u0101\2\u0179\5\u0101\1\u0179\4\u0101\3\206\4\u017a\1\206"
-			+ "\3\u017a\6\206\1\u017a\2\206\1\u017a\13\206\1\u0109\1\u017a"
-			+ "\2\206\1\u010a\1\206\2\u017a\5\206\1\u017a\20\206\2\u017a"
-			+ "\2\206\2\u017a\5\206\1\u017a\47\206\1\0\52\206\1\4" + "\6\5\1\0\1\313\16\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\14\5\1\u017b\2\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\1\5\1\336\4\5\1\u017c\5\5\1\u017d\2\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\14\5\1\u017e\2\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\14\5\1\u017f\2\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\1\u0180\20\5" + "\4\0\3\74\4\u0111\1\0\3\u0111\2\74\1\u0181\3\74"
-			+ "\1\u0111\1\u0182\1\74\1\u0111\2\74\11\0\1\74\1\u0111" + "\1\74\2\0\1\74\2\u0111\2\0\1\u0182\1\u0181\1\0"
-			+ "\1\u0111\1\0\3\74\4\0\2\74\1\0\5\74\2\u0111" + "\2\74\2\u0111\5\74\1\u0111\4\0\7\4\1\0\2\4"
-			+ "\1\223\14\4\11\0\3\4\2\0\3\4\2\0\2\4" + "\1\0\1\4\1\0\3\4\4\0\2\4\1\0\21\4"
-			+ "\4\0\7\4\1\0\1\u0183\16\4\11\0\3\4\2\0" + "\3\4\2\0\2\4\1\0\1\4\1\0\3\4\4\0"
-			+ "\2\4\1\0\21\4\4\0\7\4\1\0\3\4\1\u0184" + "\2\4\1\u0185\10\4\11\0\3\4\2\0\3\4\2\0"
-			+ "\2\4\1\0\1\4\1\0\3\4\4\0\2\4\1\0" + "\21\4\4\0\7\4\1\0\7\4\1\u0186\7\4\11\0"
-			+ "\3\4\2\0\3\4\2\0\2\4\1\0\1\4\1\0" + "\3\4\4\0\2\4\1\0\21\4\4\0\7\4\1\0"
-			+ "\1\u0187\3\4\1\u0119\12\4\11\0\3\4\2\0\3\4" + "\2\0\2\4\1\0\1\4\1\0\3\4\4\0\2\4"
-			+ "\1\0\21\4\4\0\7\4\1\0\11\4\1\u0188\5\4" + "\11\0\3\4\2\0\3\4\2\0\2\4\1\0\1\4"
-			+ "\1\0\3\4\4\0\2\4\1\0\21\4\4\0\7\4" + "\1\0\4\4\1\u0185\12\4\11\0\3\4\2\0\3\4"
-			+ "\2\0\2\4\1\0\1\4\1\0\3\4\4\0\2\4" + "\1\0\21\4\4\0\7\4\1\0\1\u0187\16\4\11\0"
-			+ "\3\4\2\0\3\4\2\0\2\4\1\0\1\4\1\0" + "\3\4\4\0\2\4\1\0\21\4\4\0\7\4\1\0"
-			+ "\14\4\1\u0189\2\4\11\0\3\4\2\0\3\4\2\0" + "\2\4\1\0\1\4\1\0\3\4\4\0\2\4\1\0"
-			+ "\21\4\15\0\1\u018a\120\0\1\u018b\1\u018c\1\0\1\u018d"
-			+ "\110\0\1\u018e\1\0\1\u018f\114\0\1\u0190\116\0\1\u0191" + "\120\0\1\u0192\76\0\1\4\6\5\1\0\1\5\1\273"
-			+ "\15\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\2\5\1\u0193" + "\1\5\1\u0194\12\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\1\5\1\u0195\15\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\2\5\1\171\1\5\1\u0158\1\303\1\u0159\1\u0196\1\5"
-			+ "\1\u015b\1\5\1\u015d\3\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\1\5\1\u0197\1\0\2\5\1\u015f\16\5" + "\4\0\1\4\6\5\1\0\17\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\1\5\1\u0198\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\14\5\1\u0199\2\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\10\5\1\u019a\6\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\5\5\1\270\11\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\15\0" + "\1\u012a\174\0\1\u019b\50\0\1\u019c\146\0\1\u019d\52\0"
-			+ "\1\u012e\174\0\1\u019e\50\0\1\u019f\146\0\1\u01a0\41\0" + "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\16\5\1\u01a1\2\5\4\0"
-			+ "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\1\5\1\u01a1\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\13\5\1\u01a1\5\5\4\0\1\4"
-			+ "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\15\5\1\u01a1\3\5\4\0\1\4" + "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\11\5\1\u01a2\7\5\4\0\3\74"
-			+ "\1\u0136\1\74\1\u0136\1\74\1\0\2\74\1\262\2\74" + "\1\262\11\74\11\0\1\74\1\u0136\1\74\2\0\2\74"
-			+ "\1\u0136\2\0\1\74\1\262\1\0\1\262\1\0\3\74" + "\4\0\2\74\1\0\5\74\2\u0136\12\74\7\0\1\u0136"
-			+ "\1\0\1\u0136\33\0\1\u0136\5\0\1\u0136\26\0\2\u0136" + "\16\0\1\4\6\5\1\0\12\5\1\u01a3\4\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\5\5\1\u01a4\11\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\10\5\1\273\6\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\7\5\1\u016b\7\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\10\5\1\u013e\6\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\6\5\1\u01a5\10\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\7\5\1\273\7\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\17\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\1\5\1\273\17\5" + "\4\0\1\4\6\5\1\0\13\5\1\164\3\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\13\5\1\303\3\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\13\5\1\273\3\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\6\5\1\273\2\5\1\273" + "\5\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\1\u01a6\20\5\4\0\1\4\6\5\1\0\6\5"
-			+ "\1\273\2\5\1\273\1\5\1\164\3\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\1\u01a6\20\5" + "\4\0\1\4\6\5\1\0\17\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\1\5\1\u0121\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\15\5\1\u0171\1\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\1\u01a7\20\5\4\0\1\4"
-			+ "\6\5\1\0\14\5\1\u01a8\2\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\1\5\1\u01a9\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\13\5\1\u01a7\3\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\3\5\1\u01aa\13\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\4\5\1\u01ab\12\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\4\5\1\u01ac\6\5\1\u01ad\3\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\14\5\1\u01ae\2\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\7\5\1\u0155\11\5\4\0"
-			+ "\1\4\6\5\1\0\5\5\1\u01af\11\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0"
-			+ "\2\5\1\273\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\10\5\1\u01b0\6\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\1\5"
-			+ "\1\u0154\1\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\12\5\1\276\4\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\16\5\1\u0142\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\1\5\1\u010b\12\5\1\354\2\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\1\5\1\126\4\5\1\0\10\5\1\u01b1\6\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\11\5\1\u01b2\5\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\13\5\1\367\3\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\1\5\1\u013e"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\11\5\1\u01b3" + "\5\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\6\5\1\u01b4"
-			+ "\1\5\1\311\2\5\1\u01b5\1\272\1\5\1\u0142\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\1\u013e\1\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\11\5\1\u0168\5\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4" + "\2\5\2\0\1\5\1\u01b6\1\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\10\5\1\u01b7\6\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\2\5\1\u01b8\14\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\3\5\1\u01b9\13\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\11\5\1\u01ba\5\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\1\5\1\u01bb\15\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\6\5\1\u01bc\10\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4"
-			+ "\2\5\2\0\1\u0121\2\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\7\5\1\u01bd\7\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\1\5\1\u01be\15\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\7\5\1\u01bf\7\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\17\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\1\5\1\125\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\3\5\1\u01c0\13\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\10\5\1\u0180\6\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\4\5\1\125\12\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\15\5\1\u01c1\1\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\1\5\1\u01c2\1\0\21\5\4\0\1\4" + "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\1\5\1\276\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\1\u01c3\1\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\11\5\1\u016f\5\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\3\5\1\272\13\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\5\5\1\273\13\5\4\0\1\4\6\5\1\0"
-			+ "\4\5\1\u01c4\12\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\1\5\1\272\15\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\13\5\1\u01b5\2\5\1\u0142\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\1\u013e\1\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\4\5\1\u0171\12\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\1\5\1\u0178\1\0\21\5\4\0\1\4\6\5" + "\1\0\10\5\1\u01c5\6\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\3\u0101\4\201"
-			+ "\1\u0101\3\201\6\u0101\1\201\2\u0101\1\201\6\u0101\1\203"
-			+ "\5\u0101\1\201\1\u0101\1\0\2\u0101\2\201\5\u0101\1\201"
-			+ "\20\u0101\2\201\2\u0101\2\201\5\u0101\1\201\4\u0101\3\206"
-			+ "\4\41\1\206\3\41\6\206\1\41\2\206\1\41\13\206" + "\1\u0109\1\41\2\206\1\u010a\1\206\2\41\5\206\1\41"
-			+ "\20\206\2\41\2\206\2\41\5\206\1\41\4\206\1\4" + "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\1\5\1\236\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\1\5\1\u01c6\1\0\21\5\4\0\1\4\6\5\1\0" + "\7\5\1\u01c7\7\5\11\0\1\4\2\5\2\0\3\5"
-			+ "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4" + "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0"
-			+ "\7\5\1\u01c8\7\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\1\5\1\125\17\5\4\0\1\4\6\5\1\0"
-			+ "\11\5\1\273\5\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\21\5\4\0\7\74\1\0\12\74" + "\1\u01c9\4\74\11\0\3\74\2\0\3\74\2\0\1\u01c9"
-			+ "\1\74\1\0\1\74\1\0\3\74\4\0\2\74\1\0" + "\21\74\4\0\7\74\1\0\5\74\1\u01c9\11\74\11\0"
-			+ "\3\74\2\0\3\74\2\0\1\74\1\u01c9\1\0\1\74" + "\1\0\3\74\4\0\2\74\1\0\21\74\4\0\7\4"
-			+ "\1\0\3\4\1\u0184\13\4\11\0\3\4\2\0\3\4" + "\2\0\2\4\1\0\1\4\1\0\3\4\4\0\2\4"
-			+ "\1\0\21\4\4\0\7\4\1\0\2\4\1\u01ca\14\4" + "\11\0\3\4\2\0\3\4\2\0\2\4\1\0\1\4"
-			+ "\1\0\3\4\4\0\2\4\1\0\21\4\4\0\7\4" + "\1\0\1\4\1\u01ca\15\4\11\0\3\4\2\0\3\4"
-			+ "\2\0\2\4\1\0\1\4\1\0\3\4\4\0\2\4" + "\1\0\21\4\4\0\7\4\1\0\10\4\1\u01cb\6\4"
-			+ "\11\0\3\4\2\0\3\4\2\0\2\4\1\0\1\4" + "\1\0\3\4\4\0\2\4\1\0\21\4\4\0\7\4"
-			+ "\1\0\1\4\1\u0184\15\4\11\0\3\4\2\0\3\4" + "\2\0\2\4\1\0\1\4\1\0\3\4\4\0\2\4"
-			+ "\1\0\21\4\4\0\7\4\1\0\5\4\1\u01cc\11\4" + "\11\0\3\4\2\0\3\4\2\0\2\4\1\0\1\4"
-			+ "\1\0\3\4\4\0\2\4\1\0\21\4\4\0\7\4" + "\1\0\15\4\1\u01cd\1\4\11\0\3\4\2\0\3\4"
-			+ "\2\0\2\4\1\0\1\4\1\0\3\4\4\0\2\4" + "\1\0\21\4\16\0\1\u011e\113\0\1\u01ce\120\0\1\u01cf"
-			+ "\2\0\1\u01d0\116\0\1\u01d1\106\0\1\u01d2\3\0\1\u0191"
-			+ "\122\0\1\u01d3\110\0\1\u01d0\111\0\1\u01d2\131\0\1\u01d4" + "\71\0\1\4\6\5\1\0\3\5\1\u01d5\13\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\14\5\1\u01bb\2\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\1\u01d6\16\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\11\5\1\u01b3\5\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\1\5\1\u01d7\1\0\21\5" + "\4\0\1\4\6\5\1\0\10\5\1\u01d8\6\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\10\5\1\u01d9\6\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\7\5\1\u01da\7\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\16\5\1\u01db\11\0\1\4" + "\2\5\2\0\1\5\1\273\1\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\36\0\1\u01dc\101\0\1\u012a\51\0\1\u019b\26\0"
-			+ "\1\u019d\1\u01dd\4\u019d\1\u01dd\17\u019d\3\u01dd\1\u019d\1\u01dd"
-			+ "\2\0\2\u01dd\1\0\2\u019d\2\0\3\u019d\1\0\1\u01dd"
-			+ "\2\u019d\1\u01dd\1\u019d\1\0\1\u01dd\1\u019d\5\u01dd\2\u019d"
-			+ "\1\u01dd\21\u019d\1\0\1\u01dd\34\0\1\u01de\101\0\1\u012e"
-			+ "\51\0\1\u019e\26\0\1\u01a0\1\u01df\4\u01a0\1\u01df\17\u01a0"
-			+ "\3\u01df\1\u01a0\1\u01df\2\0\2\u01df\1\0\2\u01a0\2\0"
-			+ "\3\u01a0\1\0\1\u01df\2\u01a0\1\u01df\1\u01a0\1\0\1\u01df"
-			+ "\1\u01a0\5\u01df\2\u01a0\1\u01df\21\u01a0\1\0\1\u01df\2\0" + "\1\4\5\5\1\u01e0\1\0\17\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\3\5" + "\2\0\2\5\1\0\1\5\1\0\1\4\1\5\1\4"
-			+ "\4\0\2\5\1\0\20\5\1\u01e0\4\0\1\4\6\5" + "\1\0\5\5\1\u0168\11\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\1\5\1\313\15\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\6\5\1\273\2\5\1\273\5\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\1\5\1\u013e\15\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\11\5\1\u0121\5\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\7\5\1\354\7\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\4\5\1\272\12\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\11\5\1\272\5\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\12\5\1\u01bb\4\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\17\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\1\u01e1\1\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\13\5\1\u01a5\3\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\1\5\1\u01e2\15\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\1\5\1\155\1\0\21\5\4\0" + "\1\4\6\5\1\0\11\5\1\u01e3\5\5\11\0\1\4"
-			+ "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0" + "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0"
-			+ "\1\4\6\5\1\0\2\5\1\125\14\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\21\5\4\0" + "\1\4\6\5\1\0\13\5\1\u01b5\1\272\1\5\1\u0142"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\1\u013e\1\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\13\5\1\367\3\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\17\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\4\5\1\273\14\5" + "\4\0\1\4\6\5\1\0\7\5\1\u013f\7\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\1\273\4\5\1\273\4\5" + "\1\354\4\5\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\1\5\1\273\17\5\4\0\1\4\6\5"
-			+ "\1\0\7\5\1\u01bb\7\5\11\0\1\4\2\5\2\0" + "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5"
-			+ "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5" + "\1\0\11\5\1\125\5\5\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\21\5\4\0\1\4\6\5"
-			+ "\1\0\17\5\11\0\1\4\2\5\2\0\3\5\2\0" + "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0"
-			+ "\1\125\1\5\1\0\21\5\4\0\1\4\6\5\1\0" + "\16\5\1\273\11\0\1\4\2\5\2\0\3\5\2\0"
-			+ "\2\5\1\0\1\5\1\0\1\4\1\5\1\4\4\0" + "\2\5\1\0\21\5\4\0\1\4\6\5\1\0\17\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\1\5\1\u01e4"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\4\5\1\u01e5" + "\12\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\17\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\1\5\1\u01e6\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\1\5\1\u01e7\15\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\4\5\1\u01e8\12\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\4\5\1\u01e9\12\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\11\5\1\273\5\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\1\u0180\20\5\4\0\1\4\6\5\1\0\14\5\1\u013e" + "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\17\5\11\0"
-			+ "\1\4\2\5\2\0\1\273\2\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\17\5\11\0\1\4" + "\2\5\2\0\3\5\2\0\2\5\1\0\1\5\1\0"
-			+ "\1\4\1\5\1\4\4\0\2\5\1\0\1\u01ea\20\5" + "\4\0\1\4\6\5\1\0\14\5\1\144\2\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\1\4\6\5\1\0\15\5\1\273\1\5\11\0" + "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5"
-			+ "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5" + "\4\0\1\4\6\5\1\0\11\5\1\u01a5\5\5\11\0"
-			+ "\1\4\2\5\2\0\3\5\2\0\2\5\1\0\1\5" + "\1\0\1\4\1\5\1\4\4\0\2\5\1\0\21\5"
-			+ "\4\0\7\4\1\0\7\4\1\u01ca\7\4\11\0\3\4" + "\2\0\3\4\2\0\2\4\1\0\1\4\1\0\3\4"
-			+ "\4\0\2\4\1\0\21\4\4\0\7\4\1\0\12\4" + "\1\u01eb\4\4\11\0\3\4\2\0\3\4\2\0\2\4"
-			+ "\1\0\1\4\1\0\3\4\4\0\2\4\1\0\21\4" + "\4\0\7\4\1\0\16\4\1\u01ec\11\0\3\4\2\0"
-			+ "\3\4\2\0\2\4\1\0\1\4\1\0\3\4\4\0" + "\2\4\1\0\21\4\17\0\1\u01cf\114\0\1\u01ed\114\0"
-			+ "\1\u01ed\124\0\1\u01ee\106\0\1\u01cf\121\0\1\u01ef\125\0" + "\1\u01f0\70\0\1\4\6\5\1\0\5\5\1\u0121\11\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\1\5\1\u01b1\15\5" + "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0"
-			+ "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0" + "\21\5\4\0\1\4\6\5\1\0\10\5\1\u01f1\6\5"
-			+ "\11\0\1\4\2\5\2\0\3\5\2\0\2\5\1\0" + "\1\5\1\0\1\4\1\5\1\4\4\0\2\5\1\0"
-			+ "\21\5\4\0\1\4\6\5\1\0\1\273\4\5\1\273" + "\4\5\1\354\3\5\1\120\11\0\1\4\2\5\2\0"
-			+ "\3\5\2\0\2\5\1\0\1\5\1\0\1\4\1\5" + "\1\4\4\0\2\5\1\0\1\5\1\273\17\5\4\0"
-			+ "\1\4\6\5\1\0\16\5\1\u01db\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\17\5\11\0\1\4\2\5\2\0\1\5"
-			+ "\1\273\1\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\36\0\1\u019d"
-			+ "\115\0\1\u01a0\63\0\1\4\1\5\1\u01f2\4\5\1\0" + "\17\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\14\5\1\273"
-			+ "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\11\5\1\u01f3" + "\5\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\14\5\1\u01d5"
-			+ "\2\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\1\5\1\u01f4" + "\15\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\10\5\1\276"
-			+ "\6\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\7\5\1\u013e" + "\7\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\12\5\1\270"
-			+ "\4\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\1\4\6\5\1\0\1\5\1\u010b" + "\15\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5"
-			+ "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5" + "\1\0\21\5\4\0\1\4\6\5\1\0\11\5\1\306"
-			+ "\5\5\11\0\1\4\2\5\2\0\3\5\2\0\2\5" + "\1\0\1\5\1\0\1\4\1\5\1\4\4\0\2\5"
-			+ "\1\0\21\5\4\0\7\4\1\0\1\u0185\16\4\11\0" + "\3\4\2\0\3\4\2\0\2\4\1\0\1\4\1\0"
-			+ "\3\4\4\0\2\4\1\0\21\4\4\0\7\4\1\0" + "\14\4\1\u01ca\2\4\11\0\3\4\2\0\3\4\2\0"
-			+ "\2\4\1\0\1\4\1\0\3\4\4\0\2\4\1\0" + "\21\4\23\0\1\u01ed\120\0\1\u01f5\121\0\1\u01f6\67\0"
-			+ "\1\4\6\5\1\0\16\5\1\120\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\1\5\1\u01f7\4\5\1\0\17\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4"
-			+ "\6\5\1\0\10\5\1\u0173\6\5\11\0\1\4\2\5" + "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4"
-			+ "\1\5\1\4\4\0\2\5\1\0\21\5\4\0\1\4" + "\6\5\1\0\7\5\1\125\7\5\11\0\1\4\2\5"
-			+ "\2\0\3\5\2\0\2\5\1\0\1\5\1\0\1\4" + "\1\5\1\4\4\0\2\5\1\0\21\5\14\0\1\u01d0" + "\131\0\1\u01ed\71\0";
+	private static final int[] ZZ_TRANS = CTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[503];
-		int offset = 0;
-		offset = CTokenMaker.zzUnpackAction(CTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[503];
-		int offset = 0;
-		offset = CTokenMaker.zzUnpackAttribute(CTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 184) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[503];
-		int offset = 0;
-		offset = CTokenMaker.zzUnpackRowMap(CTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[37050];
-		int offset = 0;
-		offset = CTokenMaker.zzUnpackTrans(CTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/** zzAtEOF == true <=> the scanner is at the EOF */
 	private boolean zzAtEOF;
 
@@ -1228,7 +409,7 @@ public class CTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 7: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 32:
 				break;
@@ -1292,7 +473,7 @@ public class CTokenMaker extends AbstractJFlexCTokenMaker {
 			case 12: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 44:
 				break;
@@ -1310,14 +491,14 @@ public class CTokenMaker extends AbstractJFlexCTokenMaker {
 			case 6: {
 				this.addToken(TokenTypes.ERROR_CHAR);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 47:
 				break;
 			case 8: {
 				this.addToken(TokenTypes.ERROR_STRING_DOUBLE);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 48:
 				break;
@@ -1383,7 +564,7 @@ public class CTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 11: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 60:
 				break;
@@ -1394,19 +575,19 @@ public class CTokenMaker extends AbstractJFlexCTokenMaker {
 					case EOL_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 504:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 505:
 						break;
 					case MLC: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 506:
 						break;
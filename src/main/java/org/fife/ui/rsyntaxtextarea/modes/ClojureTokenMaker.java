@@ -77,43 +77,24 @@ public class ClojureTokenMaker extends AbstractJFlexTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = ClojureTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\1\1\2\0\1\2\1\3\1\4\1\1\2\5\1\1"
-			+ "\1\2\2\1\1\6\1\7\14\1\1\10\1\4\1\11" + "\1\4\1\10\1\4\1\2\4\4\11\1\1\12\1\13"
-			+ "\1\14\1\15\2\12\1\16\2\12\1\17\2\20\1\21" + "\1\20\2\22\1\20\1\5\1\20\1\1\1\23\3\0"
-			+ "\6\1\1\24\3\1\1\25\52\1\1\24\4\1\4\0" + "\1\4\3\1\1\26\4\1\1\26\11\1\1\24\13\1"
-			+ "\1\13\1\12\4\0\1\21\1\22\1\1\1\21\2\1" + "\3\0\4\1\1\25\5\1\1\25\4\1\1\24\2\1"
-			+ "\2\25\40\1\1\24\1\27\1\25\13\1\1\25\3\1" + "\2\0\2\27\26\1\1\24\10\1\1\25\4\1\4\0"
-			+ "\3\1\2\0\4\1\1\25\4\1\2\25\2\1\1\25" + "\1\24\1\25\3\1\1\30\1\1\1\25\3\1\1\25"
-			+ "\3\1\1\24\1\1\1\25\5\1\1\25\3\1\2\0" + "\26\1\1\25\2\1\1\0\1\31\1\0\1\1\2\0"
-			+ "\7\1\1\25\52\1\2\0\1\1\1\0\176\1\1\25" + "\112\1";
+	private static final ScannerTables TABLES = ScannerTables.load(ClojureTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = ClojureTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\1\1\2\0\2\11\10\1\2\11\14\1\1\11\4\1"
-			+ "\1\11\20\1\1\11\3\1\1\11\15\1\1\11\3\0" + "\72\1\4\0\37\1\2\11\4\0\6\1\3\0\106\1"
-			+ "\2\0\1\11\45\1\4\0\3\1\2\0\51\1\2\0" + "\31\1\1\0\1\1\1\0\1\1\2\0\62\1\2\0" + "\1\1\1\0\311\1";
+	private static final int[] ZZ_ACTION = ClojureTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = ClojureTokenMaker.zzUnpackCMap(ClojureTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = ClojureTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\57\1\16\1\0\1\37\1\35\22\0\1\60\1\71\1\17"
-			+ "\1\53\1\72\1\67\1\67\1\12\1\45\1\50\1\66\1\63\1\73" + "\1\44\1\20\1\70\1\4\1\15\1\15\1\15\4\7\2\5\1\2"
-			+ "\1\1\1\64\1\65\1\62\1\36\1\52\3\6\1\42\1\43\1\42" + "\5\3\1\41\13\3\1\40\2\3\1\34\1\11\1\34\1\54\1\61"
-			+ "\1\47\1\23\1\27\1\24\1\76\1\25\1\14\1\104\1\74\1\33"
-			+ "\1\105\1\106\1\32\1\77\1\30\1\75\1\22\1\101\1\13\1\21"
-			+ "\1\26\1\10\1\103\1\31\1\100\1\102\1\107\1\55\1\46\1\56" + "\1\51\uff81\0";
+	private static final char[] ZZ_CMAP = ClojureTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -126,923 +107,16 @@ public class ClojureTokenMaker extends AbstractJFlexTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = ClojureTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\110\0\220\0\330\0\330\0\u0120\0\u0168\0\u01b0"
-			+ "\0\u01f8\0\u0240\0\u0288\0\u02d0\0\u0318\0\330\0\330\0\u0360"
-			+ "\0\u03a8\0\u03f0\0\u0438\0\u0480\0\u04c8\0\u0510\0\u0558\0\u05a0"
-			+ "\0\u05e8\0\u0630\0\u0678\0\330\0\u0168\0\u06c0\0\u0708\0\u0750"
-			+ "\0\330\0\u0798\0\u07e0\0\u0828\0\u0870\0\u08b8\0\u0900\0\u0948"
-			+ "\0\u0990\0\u09d8\0\u0a20\0\u0a68\0\u0ab0\0\u0af8\0\u0b40\0\u0b88"
-			+ "\0\u0bd0\0\330\0\u0c18\0\u0c60\0\u0ca8\0\330\0\u0cf0\0\u0d38"
-			+ "\0\u0d80\0\u0dc8\0\u0e10\0\u0e58\0\u0ea0\0\u0e10\0\u0ee8\0\u0f30"
-			+ "\0\u0e10\0\u0f78\0\u0fc0\0\330\0\u1008\0\u1050\0\u1098\0\u10e0"
-			+ "\0\u1128\0\u1170\0\u11b8\0\u1200\0\u1248\0\u1290\0\u12d8\0\u1320"
-			+ "\0\u1368\0\u0168\0\u13b0\0\u13f8\0\u1440\0\u1488\0\u14d0\0\u1518"
-			+ "\0\u1560\0\u15a8\0\u15f0\0\u1638\0\u1680\0\u16c8\0\u1710\0\u1758"
-			+ "\0\u17a0\0\u17e8\0\u1830\0\u1878\0\u18c0\0\u1908\0\u1950\0\u1998"
-			+ "\0\u19e0\0\u1a28\0\u1a70\0\u1ab8\0\u1b00\0\u1b48\0\u1b90\0\u1bd8"
-			+ "\0\u1c20\0\u1c68\0\u1cb0\0\u1cf8\0\u1d40\0\u1d88\0\u1dd0\0\u1e18"
-			+ "\0\u1e60\0\u1ea8\0\u1ef0\0\u1f38\0\u1f80\0\u1fc8\0\u2010\0\u2058"
-			+ "\0\u20a0\0\u20e8\0\u2130\0\u2178\0\u21c0\0\u2208\0\u2250\0\u2298"
-			+ "\0\u22e0\0\u0168\0\u2328\0\u2370\0\u23b8\0\u2400\0\u2448\0\u2490"
-			+ "\0\u24d8\0\u2520\0\u2568\0\u25b0\0\u25f8\0\u2640\0\u2688\0\u26d0"
-			+ "\0\u2718\0\u2760\0\u27a8\0\u27f0\0\u2838\0\u2880\0\u28c8\0\u2910"
-			+ "\0\u2958\0\u29a0\0\u29e8\0\u2a30\0\330\0\330\0\u2a78\0\u2ac0"
-			+ "\0\u2b08\0\u2b50\0\u0e10\0\u2b98\0\u2be0\0\u2c28\0\u2c70\0\u2cb8"
-			+ "\0\u2d00\0\u2d48\0\u2d90\0\u2dd8\0\u2e20\0\u2e68\0\u2eb0\0\u2ef8"
-			+ "\0\u2f40\0\u2f88\0\u2fd0\0\u3018\0\u3060\0\u30a8\0\u30f0\0\u3138"
-			+ "\0\u3180\0\u31c8\0\u0168\0\u3210\0\u3258\0\u32a0\0\u32e8\0\u3330"
-			+ "\0\u3378\0\u33c0\0\u3408\0\u3450\0\u3498\0\u34e0\0\u3528\0\u3570"
-			+ "\0\u35b8\0\u3600\0\u2ef8\0\u3648\0\u3690\0\u36d8\0\u3720\0\u3768"
-			+ "\0\u37b0\0\u37f8\0\u3840\0\u3888\0\u38d0\0\u3918\0\u3960\0\u39a8"
-			+ "\0\u39f0\0\u3a38\0\u3a80\0\u3ac8\0\u3b10\0\u3b58\0\u3ba0\0\u3be8"
-			+ "\0\u3498\0\u3c30\0\u3c78\0\u3cc0\0\u3d08\0\u3d50\0\u3d98\0\u3de0"
-			+ "\0\u3e28\0\u3e70\0\u3eb8\0\u3f00\0\u3f48\0\u3f90\0\u3fd8\0\u4020"
-			+ "\0\u4068\0\u40b0\0\u40f8\0\330\0\u21c0\0\u4140\0\u4188\0\u41d0"
-			+ "\0\u4218\0\u4260\0\u42a8\0\u42f0\0\u4338\0\u4380\0\u43c8\0\u4410"
-			+ "\0\u4458\0\u44a0\0\u44e8\0\u4530\0\u4578\0\u45c0\0\u4608\0\u4650"
-			+ "\0\u4698\0\u46e0\0\u4728\0\u4770\0\u47b8\0\u4800\0\u4848\0\u4890"
-			+ "\0\u48d8\0\u4920\0\u4968\0\u49b0\0\u49f8\0\u4a40\0\u4a88\0\u4ad0"
-			+ "\0\u4b18\0\u4b60\0\u4ba8\0\u4bf0\0\u4c38\0\u4c80\0\u4cc8\0\u4d10"
-			+ "\0\u4d58\0\u4da0\0\u4de8\0\u4e30\0\u4e78\0\u4ec0\0\u4f08\0\u4f50"
-			+ "\0\u4f98\0\u4fe0\0\u5028\0\u5070\0\u5028\0\u50b8\0\u5100\0\u5148"
-			+ "\0\u3e70\0\u5190\0\u51d8\0\u5220\0\u5268\0\u0168\0\u52b0\0\u52f8"
-			+ "\0\u5340\0\u5388\0\u53d0\0\u5418\0\u5460\0\u54a8\0\u54f0\0\u5538"
-			+ "\0\u5580\0\u55c8\0\u5610\0\u5658\0\u56a0\0\u56e8\0\u5730\0\u5778"
-			+ "\0\u57c0\0\u5808\0\u5850\0\u5898\0\u58e0\0\u5928\0\u5970\0\u59b8"
-			+ "\0\u5a00\0\u5a48\0\u5a90\0\u5ad8\0\u5b20\0\u5b68\0\u5bb0\0\u5bf8"
-			+ "\0\u5c40\0\u5c88\0\u5cd0\0\u5d18\0\u5d60\0\u5da8\0\u5df0\0\u5e38"
-			+ "\0\u5e80\0\u5ec8\0\u5f10\0\u3690\0\u5f58\0\u5fa0\0\u5fe8\0\u6030"
-			+ "\0\u6078\0\u60c0\0\u6108\0\u6150\0\u6198\0\u61e0\0\u6228\0\u6270"
-			+ "\0\u62b8\0\u6300\0\u6348\0\u6390\0\u63d8\0\u6420\0\u6468\0\u64b0"
-			+ "\0\u64f8\0\u6540\0\u6588\0\u65d0\0\u6618\0\u6660\0\u66a8\0\u66f0"
-			+ "\0\u6738\0\u6780\0\u67c8\0\u6810\0\u6858\0\u68a0\0\u68e8\0\u6930"
-			+ "\0\u6978\0\u69c0\0\u6a08\0\u6a50\0\u6a98\0\u6ae0\0\u6b28\0\u6b70"
-			+ "\0\u6bb8\0\u6c00\0\u6c48\0\u6c90\0\u6cd8\0\u6d20\0\u6d68\0\u6db0"
-			+ "\0\u6df8\0\u6e40\0\u6e88\0\u6ed0\0\u6f18\0\u6f60\0\u6fa8\0\u6030"
-			+ "\0\u6ff0\0\u7038\0\u7080\0\u70c8\0\u7110\0\u7158\0\u71a0\0\u71e8"
-			+ "\0\u7230\0\u7278\0\u72c0\0\u7308\0\u7350\0\u7398\0\u73e0\0\u7428"
-			+ "\0\u7470\0\u74b8\0\u7500\0\u7548\0\u7590\0\u75d8\0\u7620\0\u7668"
-			+ "\0\u76b0\0\u76f8\0\u7740\0\u7788\0\u77d0\0\u7818\0\u7860\0\u78a8"
-			+ "\0\u78f0\0\u7938\0\u7980\0\u79c8\0\u7a10\0\u7a58\0\u7aa0\0\u7ae8"
-			+ "\0\u7b30\0\u7b78\0\u7bc0\0\u7c08\0\u49f8\0\u7c50\0\u7c98\0\u7ce0"
-			+ "\0\u7d28\0\u7d70\0\u7db8\0\u7e00\0\u7e48\0\u7e90\0\u7ed8\0\u7f20"
-			+ "\0\u7f68\0\u7fb0\0\u7ff8\0\u5418\0\u8040\0\u8088\0\u80d0\0\u8118"
-			+ "\0\u8160\0\u81a8\0\u81f0\0\u8238\0\u8280\0\u82c8\0\u8310\0\u8358"
-			+ "\0\u83a0\0\u83e8\0\u8430\0\u8478\0\u84c0\0\u8508\0\u8550\0\u8598"
-			+ "\0\u85e0\0\u8628\0\u8670\0\u86b8\0\u8700\0\u8748\0\u8790\0\u87d8"
-			+ "\0\u8820\0\u8868\0\u88b0\0\u88f8\0\u8940\0\u8988\0\u89d0\0\u8a18"
-			+ "\0\u8a60\0\u8aa8\0\u8af0\0\u8b38\0\u8b80\0\u8bc8\0\u8c10\0\u8c58"
-			+ "\0\u8ca0\0\u8ce8\0\u8d30\0\u8d78\0\u8dc0\0\u8e08\0\u8e50\0\u8e98"
-			+ "\0\u8ee0\0\u8f28\0\u8f70\0\u8fb8\0\u9000\0\u9048\0\u9090\0\u90d8"
-			+ "\0\u9120\0\u9168\0\u91b0\0\u91f8\0\u9240\0\u9288\0\u92d0\0\u9318"
-			+ "\0\u9360\0\u93a8\0\u93f0\0\u9438\0\u9480\0\u94c8\0\u9510\0\u9558"
-			+ "\0\u95a0\0\u95e8\0\u9630\0\u9678\0\u96c0\0\u9708\0\u9750\0\u9798"
-			+ "\0\u97e0\0\u9828\0\u9870\0\u98b8\0\u9900\0\u9948\0\u9990\0\u99d8"
-			+ "\0\u9a20\0\u9a68\0\u9ab0\0\u9af8\0\u9b40\0\u9b88\0\u9bd0\0\u9c18"
-			+ "\0\u9c60\0\u9ca8\0\u9cf0\0\u9d38\0\u9d80\0\u9dc8\0\u9e10\0\u9e58"
-			+ "\0\u9ea0\0\u9ee8\0\u9f30\0\u9f78\0\u9fc0\0\ua008\0\ua050\0\ua098"
-			+ "\0\ua0e0\0\ua128\0\ua170\0\ua1b8\0\ua200\0\ua248\0\ua290\0\ua2d8"
-			+ "\0\ua320\0\ua368\0\ua3b0\0\ua3f8\0\ua440\0\ua488\0\ua4d0\0\ua518"
-			+ "\0\ua560\0\ua5a8\0\ua5f0\0\ua638\0\ua680\0\ua6c8\0\ua710\0\ua758" + "\0\ua7a0\0\ua7e8\0\u55c8";
+	private static final int[] ZZ_ROWMAP = ClojureTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = ClojureTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\4\1\5\1\6\1\7\1\10\1\11\1\7\1\11"
-			+ "\1\12\1\13\1\4\1\14\1\15\1\11\1\16\1\17" + "\1\20\1\21\1\22\1\23\1\24\1\25\1\26\1\27"
-			+ "\1\30\1\31\1\32\1\33\1\34\1\4\1\35\1\36" + "\4\7\1\37\1\40\2\4\1\34\1\41\1\4\1\42"
-			+ "\1\41\2\34\2\36\1\7\1\43\1\35\1\44\1\45" + "\1\46\1\41\1\35\1\44\2\4\1\47\1\50\1\51"
-			+ "\1\52\1\7\1\53\1\7\1\54\1\55\1\7\1\56" + "\1\57\11\60\1\61\4\60\1\62\1\63\70\60\14\64"
-			+ "\1\65\1\64\1\66\12\64\1\67\42\64\1\70\13\64" + "\113\0\1\71\2\0\1\71\1\0\1\71\2\0\2\71"
-			+ "\4\0\13\71\2\0\1\71\1\0\5\71\16\0\1\71" + "\2\0\1\71\1\0\2\71\2\0\14\71\3\0\6\7"
-			+ "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\1\72\2\0\1\73\1\74\1\75\1\73\1\74\1\73" + "\1\72\1\0\1\73\1\76\1\74\2\0\1\77\4\73"
-			+ "\1\100\4\73\1\101\1\73\2\0\1\7\1\0\1\102" + "\1\101\1\76\1\100\1\7\2\0\1\72\2\0\2\72"
-			+ "\5\0\1\73\3\7\1\0\1\7\1\0\2\7\1\72" + "\1\0\2\73\1\76\1\73\1\102\7\73\1\72\2\0"
-			+ "\1\73\2\11\1\73\1\11\1\73\1\72\1\0\1\73" + "\1\76\1\11\2\0\1\77\4\73\1\100\4\73\1\101"
-			+ "\1\73\2\0\1\7\1\0\1\73\1\101\1\76\1\100" + "\1\7\2\0\1\72\2\0\2\72\5\0\1\73\3\7"
-			+ "\1\0\1\7\1\0\2\7\1\72\1\0\2\73\1\76" + "\11\73\3\0\6\7\2\0\3\7\2\0\10\7\1\103"
-			+ "\3\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\20\0\1\104\1\105"
-			+ "\4\0\1\106\1\0\1\107\62\0\6\7\2\0\1\110" + "\1\111\1\7\2\0\1\7\1\112\1\7\1\113\1\7"
-			+ "\1\114\6\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\1\110\1\111\1\7\2\0\3\7\1\115\4\7" + "\1\116\1\7\1\117\1\120\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\1\7" + "\1\121\12\7\3\0\1\7\2\77\1\7\1\77\1\7"
-			+ "\2\0\2\7\1\77\2\0\1\122\13\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\2\7" + "\1\123\2\7\1\124\1\125\5\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\1\126\1\127\4\7\1\130\5\7\3\0\6\7\2\0"
-			+ "\1\131\2\7\2\0\5\7\1\132\6\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\1\7\1\133\1\7\1\134\10\7\3\0\6\7" + "\2\0\1\135\2\7\2\0\1\7\1\136\1\137\5\7"
-			+ "\1\140\1\7\1\141\1\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\10\7"
-			+ "\1\142\3\7\3\0\6\7\2\0\3\7\2\0\3\7" + "\1\143\6\7\1\144\1\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\1\145" + "\1\146\4\7\1\147\5\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\10\7\1\150\3\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\5\7"
-			+ "\1\151\1\7\1\152\4\7\3\0\6\7\2\0\1\153" + "\2\7\2\0\3\7\1\154\7\7\1\155\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\1\156\13\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\13\7\1\157\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\1\7\1\160\4\7"
-			+ "\1\161\5\7\3\0\6\7\2\0\3\7\2\0\3\7" + "\1\162\1\7\1\163\1\164\4\7\1\165\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\1\7\1\166\12\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\13\7\1\167\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\1\170\13\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\3\7\1\171\1\7" + "\1\172\5\7\1\173\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\1\7\1\174" + "\12\7\3\0\6\7\2\0\1\7\1\175\1\7\2\0"
-			+ "\6\7\1\176\1\7\1\177\3\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\2\7\1\200\1\201\10\7\37\0\1\36\17\0\2\36" + "\32\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\1\7\1\122\2\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\12\0\1\202\36\0\1\203"
-			+ "\50\0\1\204\41\0\1\205\36\0\6\7\2\0\3\7" + "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\1\7"
-			+ "\1\206\2\7\1\41\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\41\1\7\1\0\2\7" + "\2\0\14\7\65\0\1\41\25\0\5\7\1\207\2\0"
-			+ "\1\210\1\211\1\212\2\0\1\7\1\213\1\214\1\215" + "\1\216\1\217\2\7\1\220\1\221\1\7\1\222\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\1\7\1\223\1\7\1\224\10\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\3\7\1\225\10\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\1\122\2\7" + "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\1\226\2\7\2\0\5\7\1\227\5\7\1\230"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\1\7\1\231\12\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\3\7\1\232\1\7\1\233\5\7" + "\1\234\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\1\7\1\235\12\7\3\0" + "\5\7\1\236\2\0\3\7\2\0\14\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\3\7"
-			+ "\1\237\1\7\1\240\6\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\5\7\1\241\6\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\5\7\1\242\6\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\5\7\1\243\5\7"
-			+ "\1\244\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\11\60\1\0\4\60"
-			+ "\2\0\70\60\16\245\1\0\71\245\17\0\1\246\70\0" + "\14\64\1\0\1\64\1\0\12\64\1\0\42\64\1\0"
-			+ "\13\64\26\0\1\247\4\0\1\250\105\0\1\251\104\0" + "\1\252\64\0\6\71\2\0\3\71\3\0\13\71\2\0"
-			+ "\1\71\1\0\5\71\16\0\1\71\2\0\1\71\1\0" + "\2\71\2\0\14\71\1\72\2\0\7\72\1\0\3\72"
-			+ "\3\0\13\72\4\0\4\72\3\0\1\72\2\0\2\72" + "\5\0\1\72\10\0\1\72\1\0\15\72\2\0\6\73"
-			+ "\1\72\1\0\3\73\2\0\1\7\13\73\2\0\1\7" + "\1\0\4\73\1\7\2\0\1\72\2\0\2\72\5\0"
-			+ "\1\73\3\7\1\0\1\7\1\0\2\7\1\72\1\0" + "\14\73\1\72\2\0\1\73\1\74\1\75\1\73\1\74"
-			+ "\1\73\1\72\1\0\1\73\1\76\1\74\2\0\1\77" + "\4\73\1\100\4\73\1\253\1\73\2\0\1\7\1\0"
-			+ "\1\73\1\253\1\76\1\100\1\7\2\0\1\72\2\0" + "\2\72\5\0\1\73\3\7\1\0\1\7\1\0\2\7"
-			+ "\1\72\1\0\2\73\1\76\11\73\1\72\2\0\1\73" + "\2\75\1\73\1\75\1\73\1\72\1\0\1\73\1\76"
-			+ "\1\75\2\0\1\77\4\73\1\100\6\73\2\0\1\7" + "\1\0\2\73\1\76\1\100\1\7\2\0\1\72\2\0"
-			+ "\2\72\5\0\1\73\3\7\1\0\1\7\1\0\2\7" + "\1\72\1\0\2\73\1\76\11\73\1\72\2\0\1\73"
-			+ "\2\77\1\73\1\77\1\73\1\72\1\0\1\73\1\76" + "\1\77\2\0\1\7\4\73\1\100\6\73\2\0\1\7"
-			+ "\1\0\2\73\1\76\1\100\1\7\2\0\1\72\2\0" + "\2\72\5\0\1\73\3\7\1\0\1\7\1\0\2\7"
-			+ "\1\72\1\0\2\73\1\76\11\73\1\72\2\0\1\73" + "\2\254\1\73\1\254\1\73\1\72\1\0\2\73\1\254"
-			+ "\2\0\1\7\13\73\2\0\1\7\1\0\4\73\1\255" + "\2\0\1\72\2\0\2\72\5\0\1\73\1\7\1\255"
-			+ "\1\7\1\0\1\7\1\0\2\7\1\72\1\0\14\73" + "\1\72\2\0\1\73\4\256\1\73\1\72\1\0\1\73"
-			+ "\2\256\2\0\1\7\2\73\3\256\1\73\1\256\4\73" + "\2\0\1\7\1\0\2\73\2\256\1\7\2\0\1\72"
-			+ "\2\0\2\72\5\0\1\73\3\7\1\0\1\7\1\0" + "\2\7\1\72\1\0\2\73\1\256\11\73\3\0\6\7"
-			+ "\2\0\1\257\2\7\2\0\13\7\1\260\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\22\0\1\261\110\0\1\262\111\0\1\263" + "\65\0\6\7\2\0\3\7\2\0\5\7\1\264\6\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\13\7\1\265\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\5\7\1\266\6\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\10\7\1\267\3\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\1\7\1\270\1\7\2\0\1\7\1\271"
-			+ "\1\272\1\273\1\274\7\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\2\7"
-			+ "\1\275\1\276\3\7\1\277\4\7\3\0\6\7\2\0" + "\3\7\2\0\12\7\1\300\1\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\1\7\1\112"
-			+ "\12\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\1\7\1\301"
-			+ "\12\7\3\0\6\7\2\0\1\264\2\7\2\0\10\7" + "\1\302\1\7\1\141\1\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\1\303\2\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\12\7\1\304\1\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\4\7\1\305\1\7\1\306" + "\5\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\5\7\1\122\6\7\3\0" + "\6\7\2\0\1\307\2\7\2\0\14\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\14\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\1\7\1\310\12\7\3\0\6\7"
-			+ "\2\0\1\311\2\7\2\0\14\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\10\7\1\312" + "\3\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\3\7\1\122\10\7\3\0" + "\6\7\2\0\3\7\2\0\10\7\1\122\2\7\1\313"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\5\7\1\314\6\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\1\7\1\315\1\122" + "\11\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\3\7\1\316\10\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\1\317\2\7\2\0\14\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\1\7\1\320\3\7\1\321\6\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\2\7" + "\1\322\11\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\2\7" + "\1\122\3\7\1\122\5\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\6\7\1\323\5\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\5\7\1\324\6\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\1\7\1\325\12\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\3\7\1\326\1\7"
-			+ "\1\327\6\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\3\7\1\50\10\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\5\7\1\313\2\0\3\7\2\0" + "\10\7\1\330\3\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\3\7\1\331" + "\10\7\3\0\6\7\2\0\3\7\2\0\4\7\1\332"
-			+ "\7\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\1\7\1\333\12\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\12\7\1\334" + "\1\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\3\7\1\335\1\7\1\336\6\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\5\7\1\337\2\0\3\7"
-			+ "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\6\7\1\340\5\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\12\7\1\341\1\7\3\0\6\7\2\0\3\7" + "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\3\7\1\342\10\7" + "\3\0\6\7\2\0\1\343\2\7\2\0\13\7\1\344"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\10\7\1\345\3\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\1\7\1\346\12\7\3\0\6\7\2\0\3\7" + "\2\0\6\7\1\342\5\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\3\7\1\347\10\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\11\7\1\350\2\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\10\7"
-			+ "\1\315\3\7\3\0\6\7\2\0\3\7\2\0\14\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\1\122\13\7\3\0\6\7\2\0" + "\3\7\2\0\12\7\1\351\1\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\6\7\1\352"
-			+ "\5\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\6\7\1\353\5\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\5\7\1\354" + "\6\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\13\7\1\355" + "\3\0\6\7\2\0\3\7\2\0\6\7\1\303\5\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\1\7\1\356\12\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\3\7\1\357\1\360" + "\3\7\1\361\3\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\1\7\1\362" + "\12\7\3\0\6\7\2\0\3\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\4\7\1\363\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\5\7\1\364\6\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\1\7\1\365\2\7" + "\1\122\1\7\1\366\5\7\2\0\1\7\1\0\4\7"
-			+ "\1\367\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\5\7\1\370"
-			+ "\6\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\2\7\1\371\11\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\46\0\1\372\113\0\1\373\36\0\1\34\14\0" + "\2\34\1\204\24\0\1\34\11\0\2\34\27\0\1\205"
-			+ "\1\374\14\205\2\374\1\205\1\0\34\205\2\374\1\375" + "\27\205\3\0\6\7\2\0\3\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\1\7\1\35\2\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\1\7\1\376\6\7\1\377\3\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\5\7\1\u0100\6\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\10\7\1\u0101\1\7\1\u0102"
-			+ "\1\u0103\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\1\7\1\u0104"
-			+ "\12\7\3\0\6\7\2\0\1\u0105\2\7\2\0\14\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\1\7\1\u0106\10\7\1\u0107\1\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\10\7\1\u0108\3\7\3\0\5\7\1\u0109\2\0"
-			+ "\3\7\2\0\12\7\1\u010a\1\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\1\7\1\u010b\12\7\3\0\6\7\2\0\1\u010c\2\7" + "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\1\7\1\u010d\12\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\3\7"
-			+ "\1\u010e\10\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\10\7\1\u010d\3\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\5\7\1\u010f\2\0\3\7\2\0" + "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\3\7\1\u0110\10\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\1\7\1\u0111"
-			+ "\12\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\1\7\1\u0112"
-			+ "\12\7\3\0\6\7\2\0\1\u0113\1\u0114\1\7\2\0" + "\4\7\1\122\5\7\1\317\1\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\1\7\1\u0115"
-			+ "\12\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\5\7\1\u0116"
-			+ "\2\0\3\7\2\0\1\7\1\112\4\7\1\u0117\5\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\2\7\1\307\11\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\4\7" + "\1\122\5\7\1\u0118\1\7\3\0\6\7\2\0\1\267"
-			+ "\2\7\2\0\6\7\1\u0119\5\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\3\7\1\u011a\10\7\3\0\6\7\2\0\3\7\2\0" + "\10\7\1\122\3\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\10\7\1\u011b\3\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\1\7\1\u011c\12\7\3\0"
-			+ "\6\7\2\0\1\303\2\7\2\0\12\7\1\u011d\1\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\4\7\1\u011e\7\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\6\7\1\122\1\7"
-			+ "\1\u011f\3\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\6\7"
-			+ "\1\u011d\5\7\3\0\6\7\2\0\1\u0120\2\7\2\0" + "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\2\7\1\u0121\11\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\22\0\1\u0122\117\0\1\u0123\106\0\1\u0124\104\0"
-			+ "\1\u0125\61\0\1\72\2\0\1\73\2\254\1\73\1\254" + "\1\73\1\72\1\0\1\73\1\76\1\254\2\0\1\7"
-			+ "\13\73\2\0\1\7\1\0\2\73\1\76\1\73\1\7" + "\2\0\1\72\2\0\2\72\5\0\1\73\3\7\1\0"
-			+ "\1\7\1\0\2\7\1\72\1\0\2\73\1\76\11\73" + "\3\0\1\7\2\254\1\7\1\254\1\7\2\0\2\7"
-			+ "\1\254\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\1\72"
-			+ "\2\0\1\73\4\256\1\73\1\72\1\0\1\73\2\256" + "\2\0\1\7\2\73\3\256\1\73\1\256\2\73\1\253"
-			+ "\1\73\2\0\1\7\1\0\1\73\1\253\2\256\1\7" + "\2\0\1\72\2\0\2\72\5\0\1\73\3\7\1\0"
-			+ "\1\7\1\0\2\7\1\72\1\0\2\73\1\256\11\73" + "\3\0\6\7\2\0\3\7\2\0\5\7\1\u0126\6\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\10\7\1\u0127\3\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\3\7"
-			+ "\1\u0128\10\7\23\0\1\u0129\113\0\1\104\111\0\1\u012a" + "\61\0\6\7\2\0\3\7\2\0\1\7\1\271\12\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\1\264"
-			+ "\2\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\5\7\1\122\6\7\3\0\6\7\2\0\3\7\2\0" + "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\10\7\1\342\3\7\3\0" + "\6\7\2\0\3\7\2\0\5\7\1\50\6\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\6\7\1\122\5\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\5\7\1\301\4\7\1\u012b" + "\1\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\2\7\1\122" + "\11\7\3\0\5\7\1\121\2\0\3\7\2\0\14\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\5\7\1\u012c\2\0"
-			+ "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\1\7\1\u012d\12\7\3\0\6\7\2\0\3\7\2\0" + "\5\7\1\u012e\6\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\1\7\1\337\12\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\3\7\1\271\10\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\2\7\1\u012f\11\7\3\0\6\7\2\0\3\7\2\0" + "\13\7\1\u0130\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\1\7" + "\1\u0131\12\7\3\0\6\7\2\0\3\7\2\0\14\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\1\7\1\303\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\4\7\1\301\7\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\1\271\2\7\2\0\14\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\6\7\1\u0132\5\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\4\7\1\122\7\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\10\7\1\271\3\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\12\7\1\122\1\7\3\0\6\7\2\0\3\7" + "\2\0\14\7\2\0\1\122\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\2\7\1\122\11\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\3\7"
-			+ "\1\u0133\10\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\1\7"
-			+ "\1\312\12\7\3\0\6\7\2\0\3\7\2\0\6\7" + "\1\u0134\5\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\12\7\1\u0135\1\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\6\7"
-			+ "\1\122\1\7\1\u0136\3\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\5\7\1\303\6\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\1\7\1\344\12\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\3\7\1\u0137\10\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\1\7\1\u0138\2\7\1\301\7\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\2\7\1\u0139\6\7\1\122\2\7\3\0\6\7" + "\2\0\3\7\2\0\2\7\1\u013a\11\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\3\7\1\u013b\10\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\12\7\1\342\1\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\5\7\1\u013c\2\0\3\7\2\0\14\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\14\7\2\0\1\122\1\0\4\7\1\u013d\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\12\7\1\122\1\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\1\u0133\2\7\2\0"
-			+ "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\5\7\1\u013e\6\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\14\7\2\0" + "\1\7\1\0\4\7\1\u013f\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\5\7\1\u0140\6\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\5\7\1\122\6\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\1\7\1\u0141\12\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\1\7\1\303\12\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\2\7\1\u0142\11\7" + "\3\0\6\7\2\0\3\7\2\0\12\7\1\u0143\1\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\5\7\1\u0144\6\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\12\7\1\u0145\1\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\14\7\2\0\1\7\1\0\4\7\1\u0146\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\1\u0147\13\7\3\0\6\7\2\0\3\7\2\0\10\7"
-			+ "\1\u0148\3\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\6\7"
-			+ "\1\u0149\5\7\3\0\6\7\2\0\3\7\2\0\6\7" + "\1\u014a\5\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\2\7" + "\1\u014b\11\7\3\0\6\7\2\0\3\7\2\0\14\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\12\7\1\u0142\1\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\10\7"
-			+ "\1\122\3\7\3\0\6\7\2\0\3\7\2\0\2\7" + "\1\303\11\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\10\7\1\u014c\1\7\1\u014d\1\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\1\u014e"
-			+ "\2\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\6\7\1\u014f\5\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\1\7\1\u0150\12\7\3\0" + "\6\7\2\0\3\7\2\0\10\7\1\u0151\3\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\10\7\1\u0152\3\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\12\7\1\u0153\1\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\1\7\1\310\12\7\47\0\1\u0154\106\0" + "\1\u0155\44\0\6\7\2\0\3\7\2\0\5\7\1\u0156"
-			+ "\6\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\4\7\1\u0157\7\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\3\7\1\u0158" + "\10\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\14\7\2\0\1\7\1\0\4\7\1\u0159"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\5\7\1\u015a\2\0\3\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\12\7\1\u015b\1\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\5\7\1\u015c\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\13\7" + "\1\u015d\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\1\7\1\u015e\12\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\12\7\1\u015f"
-			+ "\1\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\5\7\1\u0160\6\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\1\u0161\2\7\2\0\14\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\1\7\1\u0162\12\7" + "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\3\7\1\u0163\10\7\3\0\6\7\2\0\1\u010d"
-			+ "\2\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\212\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\1\u0164\2\7\2\0\14\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\6\7\1\u010d\5\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\6\7\1\u0165\5\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\1\u0166\13\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\2\7\1\u0140\11\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\5\7\1\u0167\6\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\10\7\1\303\3\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\3\7\1\u0168\10\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\1\7\1\320\12\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\7\7\1\332" + "\4\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\13\7\1\u0169\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\1\7" + "\1\122\12\7\3\0\6\7\2\0\3\7\2\0\5\7"
-			+ "\1\u016a\6\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\3\7\1\122\10\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\6\7\2\0\1\7\1\234\1\7" + "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\13\7\1\u016b\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\6\7\1\u016c"
-			+ "\5\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\1\7\1\122\12\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\6\7\1\u016d" + "\5\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\1\7\1\u016e\12\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\1\7\1\315\12\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\3\7\1\134"
-			+ "\10\7\2\0\1\u016f\132\0\1\u0122\102\0\1\u0170\111\0" + "\1\u0171\70\0\6\7\2\0\1\7\1\323\1\7\2\0"
-			+ "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\6\7\1\u0172\5\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\2\7\1\126" + "\11\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\24\0\1\u0173\115\0" + "\1\u0174\60\0\6\7\2\0\3\7\2\0\13\7\1\u0175"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\4\7\1\342\7\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\7\7\1\u0176\4\7\3\0\6\7\2\0\1\u0177" + "\2\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0"
-			+ "\4\7\1\u0178\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\6\7"
-			+ "\1\u0179\5\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\10\7\1\273\3\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\5\7" + "\1\u017a\6\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\6\7" + "\1\122\5\7\3\0\6\7\2\0\3\7\2\0\14\7"
-			+ "\2\0\1\7\1\0\4\7\1\u017b\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\6\7\1\u017c\5\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\1\u017d\2\7\2\0\14\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\6\7\1\u017e\5\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\12\7\1\u0153\1\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\5\7\1\161\2\0"
-			+ "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\1\342\2\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\6\7\2\0\1\u017f\2\7\2\0" + "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\1\7\1\u0180\1\7\2\0\14\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\4\7\1\u0181\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\11\7\1\303\2\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\13\7\1\u0182\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\5\7\1\u0183\6\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\1\7\1\u0184\12\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\13\7\1\u0185\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\3\7\1\u0186\1\7\1\u0187\6\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\14\7\2\0\1\7\1\0\4\7\1\u0188\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0"
-			+ "\4\7\1\u0189\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\14\7"
-			+ "\2\0\1\7\1\0\4\7\1\u018a\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\122\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0" + "\4\7\1\u018b\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\14\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\1\7\1\172\12\7\3\0\6\7" + "\2\0\3\7\2\0\5\7\1\172\6\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\3\7"
-			+ "\1\161\10\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\3\7\1\u018c\10\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\14\7" + "\2\0\1\7\1\0\4\7\1\u018d\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\3\7\1\u018e\10\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\6\7\1\u018f"
-			+ "\5\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\5\7\1\u0190\6\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\50\0\1\34\110\0\1\u0154\41\0\6\7\2\0" + "\3\7\2\0\14\7\2\0\1\7\1\0\4\7\1\u0191"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\1\u0192\13\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\2\7\1\u0193\11\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\12\7\1\u0194\1\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\1\7\1\u0195\12\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\5\7\1\u010d\6\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\1\u0196\2\7"
-			+ "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\10\7\1\u0197\3\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\5\7" + "\1\u0198\6\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\1\7" + "\1\u0199\12\7\3\0\6\7\2\0\3\7\2\0\10\7"
-			+ "\1\u010f\3\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\1\u019a\2\7\2\0\14\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\14\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\11\7\1\u019b\2\7\3\0\6\7\2\0" + "\3\7\2\0\2\7\1\u019c\11\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\3\7\1\u019d\10\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\10\7\1\u019e\3\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\1\u019f\13\7\3\0\6\7\2\0\3\7\2\0\14\7" + "\2\0\1\7\1\0\4\7\1\u0121\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\1\7\1\122\1\7\2\0\14\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\5\7\1\u01a0\2\0\3\7\2\0\3\7"
-			+ "\1\u01a1\1\7\1\u01a2\6\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\3\7\1\u01a3\10\7\3\0\6\7\2\0\3\7" + "\2\0\14\7\2\0\1\7\1\0\4\7\1\u01a4\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\6\7\1\u01a5\5\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\1\7\1\50\12\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\6\7\1\u01a6\5\7\70\0\1\u01a7\20\0\2\u01a8\6\u0170"
-			+ "\1\0\1\u01a8\3\u0170\2\0\1\u01a8\13\u0170\1\u01a8\1\0"
-			+ "\1\u01a8\1\0\4\u0170\2\u01a8\2\0\4\u01a8\5\0\1\u01a8"
-			+ "\1\0\1\u01a8\1\0\3\u01a8\1\u0170\1\u01a8\1\u0170\1\u01a8"
-			+ "\14\u0170\2\0\1\u016f\16\0\1\u0122\71\0\6\7\2\0" + "\3\7\2\0\5\7\1\u01a9\6\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\25\0\1\104\115\0\1\u01aa\57\0\6\7\2\0"
-			+ "\3\7\2\0\4\7\1\u014e\7\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\5\7\1\u01ab" + "\6\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\1\7\1\342\12\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\7\7\1\145\4\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\14\7\2\0\1\7\1\0\4\7\1\u01ac" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\2\7\1\u01ad\11\7\3\0\6\7\2\0\1\7" + "\1\u01ae\1\7\2\0\1\7\1\u01af\5\7\1\u01b0\2\7"
-			+ "\1\u01b1\1\313\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\2\7\1\u01b2\11\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\4\7\1\u01b3\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\14\7\2\0\1\7\1\0\4\7\1\u01b4\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\3\7\1\u01b5\10\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\5\7"
-			+ "\1\u01b6\6\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\13\7\1\u01b7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\11\7\1\u01b8" + "\2\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\10\7\1\361\3\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\3\7\1\234"
-			+ "\10\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\2\7\1\u01b9\11\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\10\7\1\342" + "\3\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\10\7\1\u0133\3\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\7\7\1\u01ba\4\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\3\7\1\u01bb"
-			+ "\10\7\3\0\6\7\2\0\1\7\1\u01bc\1\7\2\0" + "\10\7\1\u014c\1\7\1\u014d\1\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\4\7\1\u01bd"
-			+ "\7\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\1\7\1\u01be\1\7\2\0\14\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\10\7\1\u01bf" + "\3\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\3\7\1\u01c0\10\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\3\7\1\u01c1\10\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\13\7\1\u01c2\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\3\7\1\u01c3\10\7\3\0\6\7\2\0\3\7" + "\2\0\4\7\1\u01c4\7\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\5\7\1\u01c5\6\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\14\7\2\0\1\7\1\0\4\7\1\u01c6\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\1\7\1\u01c7\12\7\3\0\6\7\2\0\3\7\2\0" + "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\1\u01c8\13\7\3\0\6\7" + "\2\0\3\7\2\0\4\7\1\u01c9\7\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\6\7"
-			+ "\1\u01ca\5\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\1\u010f\2\7\2\0\14\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\11\7\1\u01cb" + "\2\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\5\7\1\u01cc\6\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\5\7\1\u01cd\2\0\3\7\2\0\14\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\13\7\1\u01ce\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\3\7\1\u01cf\10\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\14\7\2\0\1\7\1\0\4\7\1\u01d0\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\4\7"
-			+ "\1\u01d1\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\12\7\1\u01d2"
-			+ "\1\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\4\7\1\u01d3\7\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\6\7\1\u01d4" + "\5\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\5\7\1\u01d5\6\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\2\7\1\u01d6"
-			+ "\1\u01c0\10\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\1\7"
-			+ "\1\u01d7\12\7\3\0\6\7\2\0\3\7\2\0\14\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\3\7\1\122\10\7\70\0\1\u0170" + "\22\0\6\7\2\0\1\234\2\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\30\0\1\u0173\62\0\6\7\2\0"
-			+ "\3\7\2\0\14\7\2\0\1\7\1\0\4\7\1\u01d8" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\3\7\1\271\5\7" + "\1\u01d9\2\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\4\7"
-			+ "\1\u01da\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\12\7\1\117"
-			+ "\1\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\1\126\13\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\1\7\1\160\4\7\1\161\5\7\3\0\6\7" + "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\1\7" + "\1\u0182\12\7\3\0\6\7\2\0\3\7\2\0\14\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\1\7\1\u01db\12\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\5\7\1\u01dc\6\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\1\7\1\u0167\12\7\3\0\6\7\2\0\3\7" + "\2\0\3\7\1\u01dd\10\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\10\7\1\u01de\3\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\1\7"
-			+ "\1\315\1\7\2\0\14\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\10\7\1\u01df\3\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\1\u01be\13\7\3\0" + "\6\7\2\0\3\7\2\0\3\7\1\u012c\10\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\5\7\1\336\6\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\5\7\1\u01e0\6\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\13\7\1\u01e1\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\1\7" + "\1\u01e2\12\7\3\0\6\7\2\0\3\7\2\0\13\7"
-			+ "\1\332\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\4\7\1\u01e3\7\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\1\135\2\7\2\0\14\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\5\7\1\u01e4\6\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\6\7\1\u0133\5\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\5\7\1\313\6\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\1\7\1\u01e5\12\7\3\0\6\7\2\0\3\7" + "\2\0\4\7\1\u01e6\7\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\5\7\1\u01e7\6\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\3\7\1\u01e8\10\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\4\7\1\u01e9\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\5\7\1\u01ea\6\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0"
-			+ "\4\7\1\u01eb\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\14\7"
-			+ "\2\0\1\7\1\0\4\7\1\u01ec\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\10\7\1\u01ed\3\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\1\u01ee\2\7\2\0\14\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\12\7\1\u01ef\1\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\10\7\1\u01f0\3\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\1\7\1\u01f1\12\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\4\7\1\u01f2\7\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\6\7\1\u01f3\5\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\1\u01f4\2\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\1\u01f5\13\7\3\0\6\7"
-			+ "\2\0\1\u01f6\2\7\2\0\14\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\1\u01f7\2\7\2\0\14\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\3\7\1\u01f8\10\7" + "\3\0\6\7\2\0\3\7\2\0\13\7\1\u01f9\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\3\7\1\u01fa\10\7\3\0"
-			+ "\5\7\1\u0116\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\6\7\2\0\1\u01fb\2\7\2\0" + "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\10\7\1\u01fc" + "\3\7\3\0\6\7\2\0\3\7\2\0\6\7\1\u01fd"
-			+ "\5\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\3\7\1\u01fe\10\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\6\7\1\u0119" + "\5\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\1\u01ff\2\7\2\0\14\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\10\7\1\u01d5\3\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\5\7\1\u0200\6\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\10\7\1\u0201\3\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\12\7\1\u0202\1\7" + "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\7\7\1\u0203\4\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\2\7\1\u0204\11\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\1\7\1\u0205\12\7\3\0\6\7\2\0\3\7" + "\2\0\14\7\2\0\1\7\1\0\4\7\1\u0206\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\1\u0207\2\7\2\0\12\7\1\u0208\1\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\2\7\1\u0209\1\u020a\10\7\3\0"
-			+ "\5\7\1\u020b\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\6\7" + "\1\u020c\5\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\5\7\1\u020d\6\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\5\7"
-			+ "\1\u020e\6\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\2\7"
-			+ "\1\u020f\11\7\3\0\6\7\2\0\3\7\2\0\10\7" + "\1\u0210\3\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\1\7" + "\1\u0211\12\7\3\0\6\7\2\0\3\7\2\0\13\7"
-			+ "\1\122\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\1\7\1\303"
-			+ "\12\7\3\0\6\7\2\0\3\7\2\0\14\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\1\7\1\273\12\7\3\0\6\7\2\0" + "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\1\7\1\u0212" + "\12\7\3\0\6\7\2\0\3\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\4\7\1\u0213\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\5\7\1\u01a2\6\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\6\7\1\164\5\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\3\7\1\u0214\10\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\1\u0215\2\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\5\7\1\u0216\6\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\12\7\1\u0133\1\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\12\7\1\u0217\1\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\1\7\1\172\12\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\14\7\2\0\1\303\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\6\7\1\u0218\5\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\5\7\1\u0219" + "\6\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\3\7\1\u021a\10\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\5\7\1\u010c"
-			+ "\6\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\10\7\1\u021b\3\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\2\7\1\u021c" + "\11\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\5\7\1\u021d\6\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\5\7\1\u021e"
-			+ "\6\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\5\7\1\u021f"
-			+ "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\5\7\1\u0220\6\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\10\7\1\u0221\3\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7"
-			+ "\1\0\4\7\1\u0222\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\14\7\2\0\1\7\1\0\4\7\1\u0223\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\4\7" + "\1\u0224\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\14\7\2\0" + "\1\7\1\0\4\7\1\u0225\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\14\7\2\0\1\7\1\0\4\7\1\u0226\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\10\7\1\u0227\3\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\4\7\1\u0133\7\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\5\7\1\u0228\6\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\2\7\1\u0229\11\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\1\7\1\u022a\12\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\10\7\1\u022b\3\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\12\7\1\u022c\1\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\5\7\1\u022d\6\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\2\7\1\u022e\11\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\12\7\1\u010d\1\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0" + "\4\7\1\u022f\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\3\7" + "\1\u0230\10\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\3\7\1\u0231\10\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\10\7"
-			+ "\1\u0232\3\7\2\0\1\7\1\0\5\7\14\0\4\7" + "\1\0\1\7\1\0\2\7\2\0\7\7\1\u0233\4\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\2\7\1\u010d\11\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\6\7\1\u0234\5\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\1\u0235\2\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\10\7\1\u0236\3\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\7\7\1\u0237\4\7\3\0\6\7\2\0\1\7\1\u0238" + "\1\7\2\0\2\7\1\u021c\11\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\12\7\1\u0239"
-			+ "\1\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\1\u023a\2\7\2\0\14\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\6\7\1\u023b\5\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\10\7\1\u023c\3\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\4\7" + "\1\u023d\7\7\3\0\6\7\2\0\3\7\2\0\14\7"
-			+ "\2\0\1\7\1\0\4\7\1\u023e\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\1\u01d5\2\7\2\0\14\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\6\7\1\u023f\5\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\14\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\6\7\1\303\5\7" + "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\4\7\1\u0240\7\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\14\7\2\0\1\7\1\0\4\7\1\u0241\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\10\7\1\u0242\3\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\6\7\1\u0243\5\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\2\7\1\u0244\11\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\10\7\1\u0230\3\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\5\7\1\u021a\6\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\3\7\1\u010d\10\7\2\0\1\7\1\0\5\7\14\0"
-			+ "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0" + "\6\7\2\0\3\7\2\0\5\7\1\u0245\6\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\3\7\1\u0246\10\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\5\7\1\u0247\6\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\13\7\1\u0248\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\13\7\1\u0249\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\5\7\1\u024a"
-			+ "\6\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\5\7\1\u024b\6\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\6\7\1\u024c" + "\5\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\13\7\1\172\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\7\7\1\u0133\4\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\14\7\2\0\1\7\1\0\4\7\1\u024d\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\6\7\1\u024e\5\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0" + "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\3\7\1\u021c\10\7\3\0" + "\6\7\2\0\3\7\2\0\5\7\1\u024f\6\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\14\7\3\0\6\7\2\0\3\7\2\0"
-			+ "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\1\u010d\13\7\3\0\6\7"
-			+ "\2\0\3\7\2\0\3\7\1\u0250\10\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\1\7" + "\1\u0251\12\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\14\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\3\7" + "\1\u0252\10\7\3\0\6\7\2\0\1\u0253\2\7\2\0"
-			+ "\14\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\12\7\1\u0254\1\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\10\7\1\u0255" + "\3\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\1\7\1\u0256\1\7\2\0\14\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\4\7\1\u010f\7\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\5\7\1\121\6\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\5\7\1\u01dc" + "\6\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\14\7\2\0\1\7\1\0\4\7\1\u0257"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\11\7\1\u0258\2\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\7\7\1\u0259\4\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\1\7\1\u025a\12\7\3\0\6\7\2\0\3\7" + "\2\0\5\7\1\u025b\6\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\1\7\1\u025c\12\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\5\7\1\220\6\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\5\7\1\u025d\6\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\12\7\1\u025e\1\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\4\7\1\u025f\7\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\12\7\1\u0260\1\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\12\7\1\u0261\1\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7"
-			+ "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7" + "\2\0\12\7\1\u0262\1\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\1\7\1\u0263\12\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\13\7\1\u0264\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\14\7\3\0"
-			+ "\6\7\2\0\3\7\2\0\14\7\2\0\1\7\1\0" + "\4\7\1\u0265\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\5\7" + "\1\u0266\6\7\2\0\1\7\1\0\5\7\14\0\4\7"
-			+ "\1\0\1\7\1\0\2\7\2\0\14\7\3\0\6\7" + "\2\0\3\7\2\0\12\7\1\u0267\1\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\14\7\3\0\6\7\2\0\3\7\2\0\13\7"
-			+ "\1\u0268\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\14\7\2\0\1\7\1\0\5\7\14\0" + "\4\7\1\0\1\7\1\0\2\7\2\0\6\7\1\u010d"
-			+ "\5\7\3\0\6\7\2\0\3\7\2\0\14\7\2\0" + "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0"
-			+ "\2\7\2\0\7\7\1\u0269\4\7\3\0\6\7\2\0" + "\3\7\2\0\2\7\1\u026a\11\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\14\7\2\0"
-			+ "\1\7\1\0\5\7\14\0\4\7\1\0\1\7\1\0" + "\2\7\2\0\1\7\1\222\12\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\3\7\1\u026b\10\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\4\7\1\u026c" + "\7\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\3\7\2\0\3\7\1\u026d\10\7\2\0\1\7\1\0"
-			+ "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0" + "\14\7\3\0\6\7\2\0\3\7\2\0\10\7\1\u015b"
-			+ "\3\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0" + "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0"
-			+ "\3\7\2\0\5\7\1\u026e\6\7\2\0\1\7\1\0" + "\5\7\14\0\4\7\1\0\1\7\1\0\2\7\2\0"
-			+ "\14\7\3\0\6\7\2\0\3\7\2\0\3\7\1\u026f" + "\10\7\2\0\1\7\1\0\5\7\14\0\4\7\1\0"
-			+ "\1\7\1\0\2\7\2\0\14\7\3\0\6\7\2\0" + "\1\u0270\2\7\2\0\14\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\6\7\1\u025c\5\7"
-			+ "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\1\7\1\u0271\12\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7" + "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7"
-			+ "\2\0\2\7\1\u025d\11\7\3\0\6\7\2\0\3\7" + "\2\0\4\7\1\u0272\7\7\2\0\1\7\1\0\5\7"
-			+ "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7" + "\3\0\6\7\2\0\3\7\2\0\14\7\2\0\1\7"
-			+ "\1\0\5\7\14\0\4\7\1\0\1\7\1\0\2\7" + "\2\0\10\7\1\220\3\7\3\0\6\7\2\0\3\7"
-			+ "\2\0\1\7\1\u0159\12\7\2\0\1\7\1\0\5\7" + "\14\0\4\7\1\0\1\7\1\0\2\7\2\0\14\7"
-			+ "\3\0\6\7\2\0\3\7\2\0\5\7\1\u0273\6\7" + "\2\0\1\7\1\0\5\7\14\0\4\7\1\0\1\7" + "\1\0\2\7\2\0\14\7";
+	private static final int[] ZZ_TRANS = ClojureTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[627];
-		int offset = 0;
-		offset = ClojureTokenMaker.zzUnpackAction(ClojureTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[627];
-		int offset = 0;
-		offset = ClojureTokenMaker.zzUnpackAttribute(ClojureTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 164) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[627];
-		int offset = 0;
-		offset = ClojureTokenMaker.zzUnpackRowMap(ClojureTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[43056];
-		int offset = 0;
-		offset = ClojureTokenMaker.zzUnpackTrans(ClojureTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/** zzAtEOF == true <=> the scanner is at the EOF */
 	private boolean zzAtEOF;
 
@@ -1345,7 +419,7 @@ public class ClojureTokenMaker extends AbstractJFlexTokenMaker {
 				break;
 			case 6: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 27:
 				break;
@@ -1392,7 +466,7 @@ public class ClojureTokenMaker extends AbstractJFlexTokenMaker {
 			case 14: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 36:
 				break;
@@ -1422,7 +496,7 @@ public class ClojureTokenMaker extends AbstractJFlexTokenMaker {
 				break;
 			case 12: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 42:
 				break;
@@ -1478,19 +552,19 @@ public class ClojureTokenMaker extends AbstractJFlexTokenMaker {
 					case EOL_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 628:
 						break;
 					case STRING: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 629:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 630:
 						break;
@@ -84,48 +84,24 @@ public class DTokenMaker extends AbstractJFlexCTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = DTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\10\0\1\1\2\2\2\3\1\4\1\5\3\2\1\6"
-			+ "\1\1\1\7\4\2\1\10\3\11\2\2\1\11\6\2" + "\1\12\1\2\4\11\1\13\6\2\1\14\1\15\4\14"
-			+ "\1\16\5\14\1\17\3\14\1\20\3\14\1\21\1\22" + "\1\23\1\24\1\25\1\1\1\2\2\26\1\27\1\3"
-			+ "\1\26\1\27\2\26\1\30\2\26\1\4\1\31\1\0" + "\1\4\16\2\2\6\1\22\13\2\1\6\1\32\1\2"
-			+ "\1\33\1\34\1\35\4\2\1\36\24\2\1\0\1\11" + "\1\13\4\2\3\36\10\2\3\0\1\37\4\0\1\40"
-			+ "\1\0\1\41\1\42\4\0\1\1\10\2\1\3\1\27" + "\1\0\4\30\1\3\1\4\1\43\1\31\2\4\1\31"
-			+ "\1\4\11\2\1\36\1\6\1\44\1\6\1\22\12\2" + "\2\6\2\2\1\45\1\46\37\2\1\1\6\2\1\47"
-			+ "\12\2\14\0\1\1\11\2\1\30\2\26\1\43\1\4" + "\2\2\1\47\4\2\1\44\1\6\2\2\2\6\1\2"
-			+ "\1\50\6\2\1\51\13\2\1\1\13\2\1\0\1\52" + "\2\0\1\53\2\0\1\54\1\0\1\1\10\2\1\4"
-			+ "\1\2\1\36\1\2\1\6\1\2\1\6\10\2\1\1" + "\12\2\6\0\1\1\6\2\1\4\2\2\1\6\1\2"
-			+ "\1\6\1\55\2\2\1\1\12\2\1\36\1\6\1\2" + "\1\1\21\2";
+	private static final ScannerTables TABLES = ScannerTables.load(DTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = DTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\10\0\6\1\1\11\4\1\1\11\5\1\1\11\14\1"
-			+ "\2\11\2\1\1\11\11\1\1\11\4\1\1\11\5\1" + "\1\11\3\1\1\11\3\1\1\11\1\1\1\11\1\1"
-			+ "\1\11\17\1\1\0\36\1\1\11\3\1\1\11\31\1" + "\1\0\21\1\3\0\1\11\4\0\1\11\1\0\2\11"
-			+ "\4\0\13\1\1\0\7\1\1\11\21\1\1\11\16\1" + "\1\11\62\1\14\0\15\1\1\11\10\1\1\11\6\1"
-			+ "\1\11\36\1\1\0\1\1\2\0\1\1\2\0\1\1" + "\1\0\43\1\6\0\60\1";
+	private static final int[] ZZ_ACTION = DTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = DTokenMaker.zzUnpackCMap(DTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = DTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\22\1\11\1\0\1\22\1\20\22\0\1\22\1\60\1\16"
-			+ "\1\21\1\1\1\60\1\62\1\10\2\65\1\31\1\32\1\53\1\43" + "\1\44\1\30\1\4\1\5\2\17\4\7\2\3\1\63\1\53\1\54"
-			+ "\1\55\1\57\1\61\1\64\1\6\1\34\1\105\1\40\1\42\1\100"
-			+ "\2\1\1\101\2\1\1\33\1\102\1\104\1\103\1\107\1\1\1\110"
-			+ "\1\1\1\106\1\37\2\1\1\36\1\111\1\1\1\65\1\12\1\65" + "\1\56\1\2\1\27\1\47\1\35\1\24\1\41\1\46\1\15\1\71"
-			+ "\1\66\1\70\1\1\1\75\1\50\1\72\1\14\1\73\1\67\1\1" + "\1\26\1\51\1\45\1\13\1\76\1\23\1\25\1\74\1\77\1\52"
-			+ "\1\56\1\52\1\61\uff81\0";
+	private static final char[] ZZ_CMAP = DTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -138,664 +114,16 @@ public class DTokenMaker extends AbstractJFlexCTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = DTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\112\0\224\0\336\0\u0128\0\u0172\0\u01bc\0\u0206"
-			+ "\0\u0250\0\u029a\0\u02e4\0\u032e\0\u0378\0\u03c2\0\u040c\0\u0456"
-			+ "\0\u04a0\0\u04ea\0\u0534\0\u040c\0\u057e\0\u05c8\0\u0612\0\u065c"
-			+ "\0\u06a6\0\u040c\0\u06f0\0\u073a\0\u0784\0\u07ce\0\u0818\0\u0862"
-			+ "\0\u08ac\0\u08f6\0\u0940\0\u098a\0\u09d4\0\u0a1e\0\u040c\0\u040c"
-			+ "\0\u0a68\0\u0ab2\0\u040c\0\u0afc\0\u0b46\0\u0b90\0\u0bda\0\u0c24"
-			+ "\0\u0c6e\0\u0cb8\0\u0d02\0\u0d4c\0\u040c\0\u0d96\0\u0de0\0\u0e2a"
-			+ "\0\u0e74\0\u040c\0\u0ebe\0\u0f08\0\u0f52\0\u0f9c\0\u0fe6\0\u040c"
-			+ "\0\u1030\0\u107a\0\u10c4\0\u040c\0\u110e\0\u1158\0\u11a2\0\u040c"
-			+ "\0\u11ec\0\u040c\0\u1236\0\u040c\0\u1280\0\u12ca\0\u1314\0\u135e"
-			+ "\0\u1314\0\u1314\0\u13a8\0\u13f2\0\u143c\0\u1486\0\u14d0\0\u151a"
-			+ "\0\u1564\0\u15ae\0\u15f8\0\u1642\0\u168c\0\u16d6\0\u1720\0\u176a"
-			+ "\0\u17b4\0\u17fe\0\u1848\0\u1892\0\u18dc\0\u1926\0\u1970\0\u19ba"
-			+ "\0\u1a04\0\u1a4e\0\u1a98\0\u1ae2\0\u1b2c\0\u1b76\0\u1bc0\0\u1c0a"
-			+ "\0\u1c54\0\u1c9e\0\u1ce8\0\u1d32\0\u1d7c\0\u1dc6\0\u1e10\0\u1e5a"
-			+ "\0\u1ea4\0\u1eee\0\u040c\0\u1f38\0\u1f82\0\u1fcc\0\u040c\0\u2016"
-			+ "\0\u2060\0\u20aa\0\u20f4\0\u213e\0\u2188\0\u21d2\0\u221c\0\u2266"
-			+ "\0\u22b0\0\u22fa\0\u2344\0\u238e\0\u23d8\0\u2422\0\u246c\0\u24b6"
-			+ "\0\u2500\0\u254a\0\u2594\0\u25de\0\u2628\0\u2672\0\u26bc\0\u2706"
-			+ "\0\u073a\0\u2750\0\u279a\0\u27e4\0\u282e\0\u2878\0\u28c2\0\u290c"
-			+ "\0\u1ce8\0\u029a\0\u2956\0\u29a0\0\u29ea\0\u2a34\0\u2a7e\0\u2ac8"
-			+ "\0\u2b12\0\u2b5c\0\u2ba6\0\u2bf0\0\u2c3a\0\u040c\0\u2c84\0\u2cce"
-			+ "\0\u2d18\0\u2d62\0\u040c\0\u2dac\0\u040c\0\u040c\0\u2df6\0\u2e40"
-			+ "\0\u2e8a\0\u2ed4\0\u2f1e\0\u2f68\0\u2fb2\0\u2ffc\0\u3046\0\u3090"
-			+ "\0\u30da\0\u3124\0\u316e\0\u31b8\0\u3202\0\u324c\0\u3296\0\u32e0"
-			+ "\0\u332a\0\u3374\0\u33be\0\u3408\0\u3452\0\u040c\0\u349c\0\u34e6"
-			+ "\0\u3530\0\u357a\0\u35c4\0\u360e\0\u3658\0\u36a2\0\u36ec\0\u3736"
-			+ "\0\u3780\0\u37ca\0\u3814\0\u385e\0\u38a8\0\u38f2\0\u393c\0\u040c"
-			+ "\0\u3986\0\u39d0\0\u3a1a\0\u3a64\0\u213e\0\u3aae\0\u3af8\0\u3b42"
-			+ "\0\u3b8c\0\u3bd6\0\u3c20\0\u3c6a\0\u3cb4\0\u3cfe\0\u040c\0\u3d48"
-			+ "\0\u3d92\0\u3ddc\0\u3e26\0\u3e70\0\u3eba\0\u3f04\0\u3f4e\0\u3f98"
-			+ "\0\u3fe2\0\u402c\0\u4076\0\u40c0\0\u410a\0\u4154\0\u419e\0\u41e8"
-			+ "\0\u4232\0\u427c\0\u42c6\0\u4310\0\u435a\0\u43a4\0\u43ee\0\u4438"
-			+ "\0\u4482\0\u44cc\0\u4516\0\u4560\0\u45aa\0\u45f4\0\u463e\0\u4688"
-			+ "\0\u46d2\0\u471c\0\u4766\0\u47b0\0\u47fa\0\u4844\0\u488e\0\u48d8"
-			+ "\0\u4922\0\u496c\0\u49b6\0\u4a00\0\u4a4a\0\u4a94\0\u4ade\0\u4b28"
-			+ "\0\u4b72\0\u4bbc\0\u4c06\0\u4c50\0\u4c9a\0\u4ce4\0\u4d2e\0\u4d78"
-			+ "\0\u4dc2\0\u4e0c\0\u4e56\0\u4ea0\0\u4eea\0\u4f34\0\u4f7e\0\u4fc8"
-			+ "\0\u5012\0\u505c\0\u50a6\0\u50f0\0\u513a\0\u5184\0\u51ce\0\u1314"
-			+ "\0\u5218\0\u33be\0\u040c\0\u5262\0\u52ac\0\u52f6\0\u029a\0\u5340"
-			+ "\0\u538a\0\u53d4\0\u541e\0\u040c\0\u5468\0\u54b2\0\u54fc\0\u5546"
-			+ "\0\u5590\0\u55da\0\u040c\0\u5624\0\u566e\0\u56b8\0\u5702\0\u574c"
-			+ "\0\u5796\0\u029a\0\u57e0\0\u582a\0\u5874\0\u58be\0\u5908\0\u5952"
-			+ "\0\u599c\0\u59e6\0\u5a30\0\u5a7a\0\u5ac4\0\u5b0e\0\u5b58\0\u5ba2"
-			+ "\0\u5bec\0\u5c36\0\u5c80\0\u5cca\0\u5d14\0\u5d5e\0\u5da8\0\u5df2"
-			+ "\0\u5e3c\0\u5e86\0\u5ed0\0\u5f1a\0\u5f64\0\u5fae\0\u5ff8\0\u6042"
-			+ "\0\u608c\0\u60d6\0\u6120\0\u616a\0\u61b4\0\u61fe\0\u6248\0\u6292"
-			+ "\0\u62dc\0\u6326\0\u6370\0\u63ba\0\u6404\0\u644e\0\u6498\0\u64e2"
-			+ "\0\u652c\0\u6576\0\u65c0\0\u660a\0\u6654\0\u669e\0\u66e8\0\u6732"
-			+ "\0\u677c\0\u67c6\0\u6810\0\u685a\0\u68a4\0\u68ee\0\u6938\0\u6982"
-			+ "\0\u69cc\0\u6a16\0\u6a60\0\u6aaa\0\u6af4\0\u6b3e\0\u5ed0\0\u6b88"
-			+ "\0\u5fae\0\u6bd2\0\u608c\0\u6c1c\0\u6c66\0\u6cb0\0\u6cfa\0\u6d44"
-			+ "\0\u6d8e\0\u6dd8\0\u6e22\0\u6e6c\0\u6eb6\0\u6f00\0\u6f4a\0\u6f94"
-			+ "\0\u029a\0\u6fde\0\u7028\0\u7072\0\u70bc\0\u7106\0\u7150\0\u719a"
-			+ "\0\u71e4\0\u722e\0\u7278\0\u72c2\0\u730c\0\u7356\0\u73a0\0\u73ea"
-			+ "\0\u7434\0\u747e\0\u74c8\0\u7512\0\u755c\0\u75a6\0\u75f0\0\u763a"
-			+ "\0\u7684\0\u76ce\0\u7718\0\u7762\0\u77ac\0\u77f6\0\u7840\0\u788a" + "\0\u78d4\0\u791e\0\u7968";
+	private static final int[] ZZ_ROWMAP = DTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = DTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\11\1\12\1\13\1\14\1\15\1\14\1\12\1\14"
-			+ "\1\16\1\17\1\11\1\20\1\21\1\22\1\23\1\14" + "\1\24\1\11\1\25\1\26\1\27\1\30\1\31\1\32"
-			+ "\1\33\1\34\1\35\2\12\1\36\3\12\1\37\1\12" + "\1\40\1\41\1\42\1\43\1\44\1\45\1\46\1\47"
-			+ "\1\50\1\51\2\34\1\52\1\34\1\53\1\54\1\53" + "\1\55\1\47\1\12\1\56\1\57\1\60\1\61\1\62"
-			+ "\2\12\1\63\13\12\11\64\1\65\3\64\1\66\5\64" + "\1\67\5\64\1\70\34\64\1\71\34\64\1\72\3\64"
-			+ "\1\73\5\64\1\74\5\64\1\75\34\64\1\76\23\64" + "\11\77\1\100\3\77\1\66\5\77\1\67\4\77\1\101"
-			+ "\1\77\1\102\33\77\1\71\23\77\11\103\1\104\3\103" + "\1\105\5\103\1\106\42\103\1\107\34\103\1\110\3\103"
-			+ "\1\73\5\103\1\74\42\103\1\76\23\103\16\111\1\112" + "\73\111\27\113\1\114\62\113\10\11\2\0\4\11\1\0"
-			+ "\1\11\1\0\1\11\1\0\4\11\4\0\10\11\2\0" + "\5\11\12\0\1\11\1\0\25\11\7\12\2\0\1\115"
-			+ "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0" + "\10\12\2\0\5\12\12\0\1\11\1\0\24\12\1\11"
-			+ "\1\12\1\116\5\12\2\0\1\115\3\12\1\0\1\12" + "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\5\12"
-			+ "\12\0\1\11\1\0\24\12\2\117\1\120\3\14\1\117" + "\1\14\2\0\3\117\1\121\1\0\1\14\1\0\1\117"
-			+ "\1\0\4\117\4\0\1\122\4\117\2\121\1\123\1\0" + "\1\124\1\117\1\123\1\117\1\122\1\117\12\0\1\117"
-			+ "\1\0\12\117\1\121\13\117\1\125\1\126\2\127\1\117" + "\1\127\2\0\3\117\1\121\1\0\1\127\1\0\1\117"
-			+ "\1\0\2\117\1\130\1\117\4\0\1\122\2\131\1\130" + "\1\117\2\121\1\123\1\0\1\124\1\117\1\123\1\117"
-			+ "\1\122\1\117\12\0\1\117\1\0\12\117\1\121\11\117" + "\10\132\1\133\1\134\1\135\77\132\112\0\1\11\7\12"
-			+ "\2\0\1\115\1\12\1\136\1\12\1\0\1\12\1\0" + "\1\11\1\0\1\12\1\137\2\12\4\0\2\12\1\140"
-			+ "\5\12\2\0\3\12\1\141\1\142\12\0\1\11\1\0" + "\2\12\1\143\21\12\1\11\7\12\2\0\1\115\1\144"
-			+ "\2\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0" + "\10\12\2\0\1\12\1\145\3\12\12\0\1\11\1\0"
-			+ "\5\12\1\146\16\12\1\11\7\12\2\0\1\115\1\147" + "\2\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0"
-			+ "\10\12\2\0\2\12\1\150\1\151\1\12\12\0\1\11" + "\1\0\2\12\1\152\2\12\1\153\16\12\11\23\1\154"
-			+ "\1\155\3\23\1\156\73\23\22\0\1\25\67\0\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\1\12\1\157\2\12\4\0\10\12\2\0\4\12" + "\1\160\12\0\1\11\1\0\1\161\1\12\1\162\21\12"
-			+ "\1\11\7\12\2\0\1\115\2\12\1\163\1\0\1\12" + "\1\0\1\11\1\0\3\12\1\164\4\0\6\12\1\165"
-			+ "\1\12\2\0\1\12\1\143\1\166\1\167\1\12\12\0" + "\1\11\1\0\1\170\4\12\1\171\16\12\1\11\7\12"
-			+ "\2\0\1\115\3\12\1\172\1\12\1\0\1\11\1\0" + "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0"
-			+ "\24\12\1\11\7\12\2\0\1\115\3\12\1\173\1\12" + "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\1\12"
-			+ "\1\174\3\12\12\0\1\11\1\0\24\12\30\0\1\175" + "\1\176\1\177\22\0\1\53\111\0\1\53\66\0\1\53"
-			+ "\22\0\1\53\34\0\1\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\3\12\1\200\4\0"
-			+ "\10\12\2\0\5\12\12\0\1\11\1\0\5\12\1\201" + "\1\202\15\12\1\11\7\12\2\0\1\115\3\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\1\12\1\157\2\12\4\0" + "\10\12\2\0\1\12\1\203\2\12\1\160\12\0\1\11"
-			+ "\1\0\5\12\1\204\16\12\43\0\1\53\11\0\1\53" + "\37\0\3\124\1\0\1\124\7\0\1\124\72\0\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\3\12\1\205\4\0\10\12\2\0\1\12\1\206"
-			+ "\3\12\12\0\1\11\1\0\1\207\5\12\1\210\15\12" + "\1\11\7\12\2\0\1\115\1\12\1\211\1\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\2\12\1\212\1\12\4\0" + "\10\12\2\0\3\12\1\213\1\12\12\0\1\11\1\0"
-			+ "\24\12\1\11\7\12\2\0\1\115\1\214\2\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\2\12\1\215"
-			+ "\5\12\2\0\3\12\1\216\1\217\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\2\12" + "\1\220\2\12\12\0\1\11\1\0\5\12\1\221\16\12"
-			+ "\1\11\7\12\2\0\1\115\1\222\2\12\1\0\1\12" + "\1\0\1\11\1\0\1\223\1\224\2\12\4\0\10\12"
-			+ "\2\0\1\225\4\12\12\0\1\11\1\0\1\226\1\12" + "\1\227\3\12\1\230\15\12\54\0\1\231\1\53\111\0"
-			+ "\1\53\1\0\1\232\107\0\1\53\4\0\1\53\27\0" + "\1\11\2\233\3\11\1\233\1\11\2\0\1\11\3\233"
-			+ "\1\0\1\11\1\0\1\11\1\0\4\233\4\0\10\233" + "\2\0\5\233\12\0\1\11\1\0\24\233\1\11\7\12"
-			+ "\2\0\1\115\1\234\2\12\1\0\1\12\1\0\1\11" + "\1\0\3\12\1\235\4\0\10\12\2\0\1\236\1\12"
-			+ "\1\237\2\12\12\0\1\11\1\0\24\12\1\11\7\12" + "\2\0\1\115\1\12\1\240\1\241\1\0\1\12\1\0"
-			+ "\1\11\1\0\3\12\1\164\4\0\6\12\1\165\1\12" + "\2\0\4\12\1\242\12\0\1\11\1\0\4\12\1\243"
-			+ "\17\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12" + "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\5\12"
-			+ "\12\0\1\11\1\0\5\12\1\214\16\12\1\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\2\12\1\244\2\12\12\0" + "\1\11\1\0\2\12\1\245\2\12\1\246\16\12\1\11"
-			+ "\7\12\2\0\1\115\1\247\2\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\10\12\1\250\13\12\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12"
-			+ "\4\0\10\12\2\0\1\12\1\251\3\12\12\0\1\11" + "\1\0\5\12\1\252\16\12\11\64\1\0\3\64\1\0"
-			+ "\5\64\1\0\5\64\1\0\34\64\1\0\23\64\45\0" + "\1\253\22\0\1\254\44\0\1\255\116\0\1\256\126\0"
-			+ "\1\257\111\0\1\260\22\0\1\261\44\0\1\262\116\0" + "\1\263\126\0\1\264\44\0\11\77\1\0\3\77\1\0"
-			+ "\5\77\1\0\4\77\1\0\1\77\1\0\33\77\1\0" + "\23\77\32\0\1\265\107\0\1\266\61\0\11\103\1\0"
-			+ "\3\103\1\0\5\103\1\0\42\103\1\0\23\103\45\0" + "\1\267\22\0\1\270\44\0\1\271\133\0\1\272\44\0"
-			+ "\16\111\1\0\73\111\27\113\1\0\62\113\10\11\2\0" + "\1\11\1\273\2\11\1\0\1\11\1\0\1\11\1\0"
-			+ "\4\11\4\0\10\11\2\0\5\11\12\0\1\11\1\0" + "\25\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0"
-			+ "\1\11\1\0\4\12\4\0\1\274\7\12\2\0\1\275" + "\4\12\12\0\1\11\1\0\1\12\1\276\1\12\1\277"
-			+ "\4\12\1\300\1\12\1\301\1\12\1\302\4\12\1\303" + "\2\12\10\117\2\0\4\117\1\0\1\117\1\0\1\117"
-			+ "\1\0\4\117\4\0\10\117\2\0\5\117\12\0\1\117" + "\1\0\26\117\1\120\3\304\1\117\1\304\2\0\4\117"
-			+ "\1\0\1\304\1\0\1\117\1\0\4\117\4\0\10\117" + "\2\0\5\117\12\0\1\117\1\0\27\117\3\305\1\117"
-			+ "\1\305\2\0\4\117\1\0\1\305\1\0\1\117\1\0" + "\4\117\3\0\1\306\10\117\1\306\1\0\5\117\12\0"
-			+ "\1\117\1\0\27\117\3\124\1\117\1\124\2\0\3\117" + "\1\121\1\0\1\124\1\0\1\117\1\0\4\117\4\0"
-			+ "\5\117\2\121\1\123\2\0\1\117\1\123\3\117\12\0" + "\1\117\1\0\12\117\1\121\13\117\1\125\1\117\2\307"
-			+ "\1\117\1\307\2\0\4\117\1\0\1\307\1\0\1\117" + "\1\0\4\117\4\0\10\117\2\0\5\117\12\0\1\117"
-			+ "\1\0\27\117\3\126\1\117\1\126\2\0\3\117\1\121" + "\1\0\1\126\1\0\1\117\1\0\4\117\4\0\5\117"
-			+ "\2\121\1\123\1\0\1\124\1\117\1\123\3\117\12\0" + "\1\117\1\0\12\117\1\121\13\117\1\125\1\126\2\127"
-			+ "\1\117\1\127\2\0\1\117\1\310\1\117\1\121\1\0" + "\1\127\1\0\1\117\1\0\4\117\4\0\1\311\3\117"
-			+ "\1\310\2\121\1\123\1\0\1\124\1\117\1\123\1\117" + "\1\311\1\117\12\0\1\117\1\0\12\117\1\121\14\117"
-			+ "\5\312\2\0\3\117\1\312\1\0\1\312\1\0\1\117" + "\1\0\1\117\1\312\2\117\4\0\1\117\2\312\2\117"
-			+ "\3\312\2\0\1\117\2\312\2\117\12\0\1\117\1\0" + "\12\117\1\312\4\117\1\312\10\117\2\313\2\117\2\0"
-			+ "\4\117\1\0\1\117\1\0\1\117\1\0\4\117\4\0" + "\10\117\2\0\5\117\12\0\1\117\1\0\24\117\10\314"
-			+ "\1\315\1\0\100\314\23\0\2\316\14\0\1\316\60\0" + "\1\315\101\0\4\314\2\317\1\314\1\320\1\321\1\0"
-			+ "\1\132\1\322\3\132\1\317\6\314\1\132\6\314\1\132" + "\7\314\1\132\44\314\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\5\12\12\0\1\11\1\0\2\12\1\323\21\12"
-			+ "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\1\12\1\143"
-			+ "\3\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12"
-			+ "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\6\12" + "\1\202\15\12\1\11\7\12\2\0\1\115\3\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0" + "\5\12\12\0\1\11\1\0\5\12\1\221\16\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\4\12\4\0\10\12\2\0\5\12\12\0\1\11"
-			+ "\1\0\1\324\23\12\1\11\7\12\2\0\1\115\1\12" + "\1\325\1\12\1\0\1\12\1\0\1\11\1\0\4\12"
-			+ "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\24\12" + "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0"
-			+ "\1\11\1\0\4\12\4\0\10\12\2\0\3\12\1\326" + "\1\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\1\242" + "\3\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0"
-			+ "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12" + "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\1\327"
-			+ "\4\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0" + "\1\115\1\12\1\330\1\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\4\12\4\0\10\12\2\0\5\12\12\0\1\11" + "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0" + "\3\12\1\331\1\12\12\0\1\11\1\0\24\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\4\12\4\0\10\12\2\0\5\12\12\0\1\11"
-			+ "\1\0\5\12\1\332\16\12\1\11\7\12\2\0\1\115" + "\1\12\1\333\1\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\3\12\1\334\4\0\10\12\2\0" + "\5\12\12\0\1\11\1\0\24\12\12\154\1\335\3\154"
-			+ "\1\336\77\154\2\23\1\154\2\23\1\0\1\23\1\337" + "\4\23\6\154\1\23\6\154\1\23\7\154\1\23\44\154"
-			+ "\23\0\2\340\14\0\1\340\50\0\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12"
-			+ "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\1\170" + "\23\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\1\341" + "\4\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12" + "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\2\12"
-			+ "\1\342\21\12\1\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0"
-			+ "\1\343\4\12\12\0\1\11\1\0\24\12\1\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\3\12\1\151\1\12\12\0" + "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\1\12\1\344\3\12\12\0\1\11\1\0\24\12"
-			+ "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\5\12\1\345\16\12\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12"
-			+ "\4\0\10\12\2\0\1\346\3\12\1\347\12\0\1\11" + "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0" + "\2\12\1\350\2\12\12\0\1\11\1\0\24\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\4\12\4\0\10\12\2\0\2\12\1\351\2\12"
-			+ "\12\0\1\11\1\0\24\12\1\11\7\12\2\0\1\115" + "\1\12\1\352\1\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\24\12\11\172\1\353\1\354\3\172\1\156\73\172\1\11"
-			+ "\7\12\2\0\1\115\2\12\1\242\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\1\355\1\12"
-			+ "\1\356\2\12\12\0\1\11\1\0\24\12\30\0\1\357" + "\112\0\1\360\60\0\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\1\12\1\361\3\12\12\0\1\11\1\0\24\12"
-			+ "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\6\12\1\362\1\12\2\0"
-			+ "\5\12\12\0\1\11\1\0\5\12\1\356\16\12\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\4\12\4\0\10\12\2\0\1\363\4\12\12\0" + "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\2\12"
-			+ "\1\364\1\0\1\12\1\0\1\11\1\0\4\12\4\0" + "\2\12\1\365\5\12\2\0\3\12\1\366\1\12\12\0"
-			+ "\1\11\1\0\1\12\1\367\22\12\1\11\7\12\2\0" + "\1\115\1\370\2\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\1\371\2\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0" + "\5\12\12\0\1\11\1\0\6\12\1\242\15\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\4\12\4\0\10\12\2\0\5\12\12\0\1\11"
-			+ "\1\0\4\12\1\372\17\12\1\11\7\12\2\0\1\115" + "\3\12\1\0\1\12\1\0\1\11\1\0\3\12\1\373"
-			+ "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\2\12" + "\1\374\21\12\1\11\7\12\2\0\1\115\3\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0" + "\5\12\12\0\1\11\1\0\1\12\1\375\22\12\1\11"
-			+ "\7\12\2\0\1\115\1\376\2\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12"
-			+ "\2\0\1\377\4\12\12\0\1\11\1\0\1\12\1\u0100" + "\22\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\4\12" + "\1\u0101\12\0\1\11\1\0\24\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12" + "\4\0\10\12\2\0\1\u0102\4\12\12\0\1\11\1\0"
-			+ "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12" + "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\4\12"
-			+ "\1\u0103\12\0\1\11\1\0\24\12\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12"
-			+ "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\2\12" + "\1\u0104\21\12\1\11\7\12\2\0\1\115\3\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0" + "\4\12\1\u0105\12\0\1\11\1\0\4\12\1\242\17\12"
-			+ "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\11\12\1\362\12\12\1\11\7\12\2\0" + "\1\115\1\12\1\u0106\1\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\4\12\4\0\10\12\2\0\5\12\12\0\1\11" + "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0" + "\5\12\12\0\1\11\1\0\1\12\1\u0107\22\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\4\12\4\0\10\12\2\0\5\12\12\0\1\11"
-			+ "\1\0\2\12\1\u0108\21\12\1\11\7\12\2\0\1\115" + "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0"
-			+ "\10\12\2\0\5\12\12\0\1\11\1\0\5\12\1\u0109" + "\16\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\3\12\1\u010a\4\0\10\12\2\0" + "\2\12\1\u010b\2\12\12\0\1\11\1\0\24\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\4\12\4\0\10\12\2\0\2\12\1\u010c\2\12"
-			+ "\12\0\1\11\1\0\5\12\1\u010d\16\12\1\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\11\12\1\u010e\12\12\1\11\7\12\2\0\1\115\1\12"
-			+ "\1\u010f\1\12\1\0\1\12\1\0\1\11\1\0\4\12" + "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\24\12"
-			+ "\55\0\1\53\1\0\1\34\32\0\1\11\7\233\2\0" + "\1\u0110\3\233\1\0\1\233\1\0\1\11\1\0\4\233"
-			+ "\4\0\10\233\2\0\5\233\12\0\1\11\1\0\24\233" + "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0"
-			+ "\1\11\1\0\3\12\1\u0101\4\0\2\12\1\u0111\5\12" + "\2\0\5\12\12\0\1\11\1\0\24\12\1\11\7\12"
-			+ "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0" + "\4\12\4\0\10\12\2\0\2\12\1\u0112\2\12\12\0"
-			+ "\1\11\1\0\2\12\1\u0113\2\12\1\u0114\16\12\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\3\12\1\u0115\4\0\10\12\2\0\5\12\12\0" + "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\1\12\1\u0116\2\12" + "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\24\12"
-			+ "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\1\u0117\4\12"
-			+ "\12\0\1\11\1\0\5\12\1\u0118\2\12\1\u0119\13\12" + "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0"
-			+ "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0" + "\1\11\1\0\1\12\1\u0100\2\12\1\u011a\17\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\1\12\1\u011b\2\12\4\0\10\12\2\0\5\12"
-			+ "\12\0\1\11\1\0\24\12\1\11\7\12\2\0\1\115" + "\3\12\1\0\1\12\1\0\1\11\1\0\2\12\1\u011c"
-			+ "\1\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\6\12\1\u011d\1\12" + "\2\0\5\12\12\0\1\11\1\0\24\12\1\11\7\12"
-			+ "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0" + "\4\12\4\0\10\12\2\0\1\242\4\12\12\0\1\11"
-			+ "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0"
-			+ "\1\12\1\u011e\3\12\12\0\1\11\1\0\24\12\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\3\12\1\u011f\4\0\10\12\2\0\5\12\12\0" + "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\3\12\1\u0120\1\12\12\0\1\11\1\0\2\12"
-			+ "\1\u0121\21\12\67\0\1\u0122\72\0\1\u0123\64\0\1\u0124"
-			+ "\133\0\1\u0125\133\0\1\u0126\72\0\1\u0127\64\0\1\u0128"
-			+ "\133\0\1\u0129\133\0\1\u012a\72\0\1\u012b\64\0\1\u012c"
-			+ "\133\0\1\u012d\44\0\3\11\5\u012e\2\0\3\11\1\u012e" + "\1\0\1\u012e\1\0\1\11\1\0\1\11\1\u012e\2\11"
-			+ "\4\0\1\11\2\u012e\2\11\3\u012e\2\0\1\11\2\u012e" + "\2\11\12\0\1\11\1\0\12\11\1\u012e\4\11\1\u012e"
-			+ "\5\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\13\12\1\u012f\10\12\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\3\12"
-			+ "\1\u0130\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\2\12" + "\1\u0131\2\12\12\0\1\11\1\0\24\12\1\11\7\12"
-			+ "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0" + "\4\12\4\0\10\12\2\0\4\12\1\u0132\12\0\1\11"
-			+ "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0"
-			+ "\1\12\1\u0133\3\12\12\0\1\11\1\0\24\12\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\4\12\4\0\4\12\1\u0134\3\12\2\0\5\12" + "\12\0\1\11\1\0\13\12\1\u0135\10\12\1\11\7\12"
-			+ "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0" + "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0"
-			+ "\15\12\1\u0136\6\12\1\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12"
-			+ "\2\0\5\12\12\0\1\11\1\0\22\12\1\u0137\1\12" + "\2\117\1\120\3\304\1\117\1\304\2\0\4\117\1\0"
-			+ "\1\304\1\0\1\117\1\0\4\117\4\0\1\122\7\117" + "\2\0\3\117\1\122\1\117\12\0\1\117\1\0\27\117"
-			+ "\3\305\1\117\1\305\2\0\3\117\1\121\1\0\1\305" + "\1\0\1\117\1\0\4\117\4\0\5\117\2\121\1\117"
-			+ "\2\0\5\117\12\0\1\117\1\0\12\117\1\121\11\117" + "\3\0\3\305\1\0\1\305\7\0\1\305\72\0\2\117"
-			+ "\1\125\1\117\2\307\1\117\1\307\2\0\1\117\1\310" + "\2\117\1\0\1\307\1\0\1\117\1\0\4\117\4\0"
-			+ "\1\311\3\117\1\310\3\117\2\0\3\117\1\311\1\117" + "\12\0\1\117\1\0\34\117\2\0\4\117\1\0\1\117"
-			+ "\1\0\1\117\1\0\4\117\4\0\1\u0138\7\117\2\0" + "\3\117\1\u0138\1\117\12\0\1\117\1\0\34\117\2\0"
-			+ "\1\117\1\u0138\2\117\1\0\1\117\1\0\1\117\1\0" + "\4\117\4\0\4\117\1\u0138\3\117\2\0\5\117\12\0"
-			+ "\1\117\1\0\26\117\1\u0139\5\312\2\0\1\117\1\310" + "\1\117\1\312\1\0\1\312\1\0\1\117\1\0\1\117"
-			+ "\1\312\2\117\4\0\1\311\2\312\1\117\1\310\3\312" + "\2\0\1\117\2\312\1\311\1\117\12\0\1\117\1\0"
-			+ "\12\117\1\312\4\117\1\312\6\117\1\u013a\1\117\2\313" + "\2\117\2\0\4\117\1\0\1\117\1\0\1\117\1\0"
-			+ "\4\117\4\0\10\117\2\0\5\117\12\0\1\117\1\0" + "\24\117\10\314\1\133\1\0\100\314\23\0\2\u013b\14\0"
-			+ "\1\u013b\50\0\4\314\2\320\1\314\1\320\1\315\1\0" + "\5\314\1\320\76\314\2\132\1\314\1\132\1\315\1\0"
-			+ "\5\314\1\132\72\314\10\0\1\315\12\0\2\316\14\0" + "\1\316\50\0\3\314\5\u013c\1\133\1\0\3\314\1\u013c"
-			+ "\1\314\1\u013c\4\314\1\u013c\7\314\2\u013c\2\314\3\u013c"
-			+ "\3\314\2\u013c\30\314\1\u013c\4\314\1\u013c\4\314\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\4\12\4\0\10\12\2\0\1\u013d\4\12\12\0" + "\1\11\1\0\5\12\1\u013e\16\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12" + "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\5\12"
-			+ "\1\u010d\16\12\1\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0"
-			+ "\1\u013f\4\12\12\0\1\11\1\0\24\12\1\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\3\12\1\242\1\12\12\0" + "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\5\12\12\0\1\11\1\0\1\u0140\23\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\1\12\1\u0141\2\12\4\0\10\12\2\0\5\12"
-			+ "\12\0\1\11\1\0\24\12\1\11\7\12\2\0\1\115" + "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0"
-			+ "\10\12\2\0\4\12\1\371\12\0\1\11\1\0\24\12" + "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0"
-			+ "\1\11\1\0\4\12\4\0\10\12\2\0\2\12\1\325" + "\2\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12" + "\4\0\10\12\2\0\2\12\1\u0142\2\12\12\0\1\11"
-			+ "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0"
-			+ "\1\12\1\u0143\3\12\12\0\1\11\1\0\24\12\11\154" + "\1\0\100\154\23\0\2\u0144\14\0\1\u0144\50\0\3\154"
-			+ "\5\u0145\2\154\1\335\2\154\1\u0145\1\336\1\u0145\4\154"
-			+ "\1\u0145\7\154\2\u0145\2\154\3\u0145\3\154\2\u0145\30\154"
-			+ "\1\u0145\4\154\1\u0145\4\154\1\11\7\12\2\0\1\115" + "\3\12\1\0\1\12\1\0\1\11\1\0\3\12\1\u0146"
-			+ "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\24\12" + "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0"
-			+ "\1\11\1\0\4\12\4\0\10\12\2\0\3\12\1\u0101" + "\1\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12" + "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\1\242"
-			+ "\23\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12" + "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\2\12"
-			+ "\1\356\2\12\12\0\1\11\1\0\24\12\1\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\1\12\1\343\2\12\4\0\10\12\2\0\5\12\12\0" + "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\2\242\3\12\12\0\1\11\1\0\24\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\4\12\4\0\10\12\2\0\4\12\1\374\12\0"
-			+ "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\3\12\1\u013f\4\0"
-			+ "\10\12\2\0\5\12\12\0\1\11\1\0\24\12\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\4\12\4\0\10\12\2\0\1\u0147\3\12\1\247" + "\12\0\1\11\1\0\24\12\12\353\1\u0148\3\353\1\0"
-			+ "\77\353\2\172\1\353\2\172\1\0\1\172\1\u0149\4\172" + "\6\353\1\172\6\353\1\172\7\353\1\172\44\353\1\11"
-			+ "\7\12\2\0\1\115\1\u014a\2\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12"
-			+ "\2\0\3\12\1\u013f\1\12\12\0\1\11\1\0\24\12" + "\30\0\1\u014b\61\0\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\2\12\1\u014c\2\12\12\0\1\11\1\0\24\12"
-			+ "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\6\12\1\242\15\12\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12"
-			+ "\4\0\10\12\2\0\1\12\1\u013f\3\12\12\0\1\11" + "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0" + "\2\12\1\u014d\2\12\12\0\1\11\1\0\24\12\1\11"
-			+ "\7\12\2\0\1\115\1\u014e\2\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12"
-			+ "\2\0\1\12\1\u014f\3\12\12\0\1\11\1\0\24\12" + "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0"
-			+ "\1\11\1\0\3\12\1\u0150\4\0\10\12\2\0\5\12" + "\12\0\1\11\1\0\24\12\1\11\7\12\2\0\1\115"
-			+ "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0" + "\2\12\1\u0151\5\12\2\0\5\12\12\0\1\11\1\0"
-			+ "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12" + "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\1\12"
-			+ "\1\u0152\3\12\12\0\1\11\1\0\24\12\1\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\1\12\1\u0153\22\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\5\12\12\0\1\11\1\0\5\12\1\145\16\12"
-			+ "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\4\12\1\242"
-			+ "\12\0\1\11\1\0\24\12\1\11\7\12\2\0\1\115" + "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0"
-			+ "\10\12\2\0\1\12\1\u0154\3\12\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\5\12" + "\12\0\1\11\1\0\4\12\1\242\17\12\1\11\7\12"
-			+ "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0" + "\4\12\4\0\10\12\2\0\1\12\1\u0155\3\12\12\0"
-			+ "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12"
-			+ "\2\0\5\12\12\0\1\11\1\0\5\12\1\u0156\16\12" + "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0"
-			+ "\1\11\1\0\4\12\4\0\10\12\2\0\1\12\1\242" + "\3\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12" + "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\5\12"
-			+ "\1\242\16\12\1\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0"
-			+ "\1\u0157\4\12\12\0\1\11\1\0\24\12\1\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\2\12\1\374\2\12\12\0" + "\1\11\1\0\3\12\1\u013e\20\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12" + "\4\0\10\12\2\0\1\12\1\u0156\3\12\12\0\1\11"
-			+ "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0"
-			+ "\5\12\12\0\1\11\1\0\3\12\1\u013f\20\12\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\4\12\4\0\10\12\2\0\1\12\1\u0158\3\12" + "\12\0\1\11\1\0\24\12\1\11\7\12\2\0\1\115"
-			+ "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0" + "\10\12\2\0\1\346\4\12\12\0\1\11\1\0\24\12"
-			+ "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\1\12\1\u0101\22\12\1\11\7\12\2\0" + "\1\115\1\u0159\2\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\2\12\1\221\21\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\1\u015a\4\12\12\0\1\11\1\0\24\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\3\12\1\u015b\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\3\12\1\325\4\0"
-			+ "\10\12\2\0\5\12\12\0\1\11\1\0\24\12\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\4\12\4\0\10\12\2\0\1\12\1\u015c\3\12" + "\12\0\1\11\1\0\24\12\1\11\7\12\2\0\1\115"
-			+ "\3\12\1\0\1\12\1\0\1\11\1\0\1\12\1\u015d" + "\2\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0"
-			+ "\24\12\10\11\2\0\1\11\1\u015e\2\11\1\0\1\11" + "\1\0\1\11\1\0\4\11\4\0\10\11\2\0\5\11"
-			+ "\12\0\1\11\1\0\25\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12"
-			+ "\2\0\3\12\1\u015a\1\12\12\0\1\11\1\0\24\12" + "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0"
-			+ "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0" + "\1\11\1\0\3\12\1\u015f\20\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12" + "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\10\12"
-			+ "\1\u0160\13\12\1\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0"
-			+ "\1\u0161\4\12\12\0\1\11\1\0\24\12\1\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\6\12\1\u0162\1\12\2\0\5\12\12\0" + "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\5\12\12\0\1\11\1\0\7\12\1\u0163\14\12"
-			+ "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\1\12\1\u0164"
-			+ "\3\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0" + "\1\115\1\247\2\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\2\12" + "\1\u0165\2\12\12\0\1\11\1\0\24\12\1\11\7\12"
-			+ "\2\0\1\115\1\u0166\2\12\1\0\1\12\1\0\1\11" + "\1\0\4\12\4\0\10\12\2\0\5\12\12\0\1\11"
-			+ "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\3\12\1\u0102\4\0\10\12"
-			+ "\2\0\5\12\12\0\1\11\1\0\24\12\1\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\2\12\1\u013e\21\12\1\11\7\12\2\0\1\115\1\342"
-			+ "\2\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0" + "\10\12\2\0\5\12\12\0\1\11\1\0\24\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\3\12\1\u0167\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12"
-			+ "\2\0\4\12\1\u0168\12\0\1\11\1\0\24\12\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\4\12\4\0\10\12\2\0\2\12\1\u0169\2\12" + "\12\0\1\11\1\0\24\12\1\11\7\12\2\0\1\115"
-			+ "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0" + "\6\12\1\242\1\12\2\0\5\12\12\0\1\11\1\0"
-			+ "\24\12\63\0\1\u016a\74\0\1\u0122\107\0\1\u016b\134\0"
-			+ "\1\u016c\105\0\1\u016d\74\0\1\u0126\107\0\1\u016e\134\0"
-			+ "\1\u016f\105\0\1\u0170\74\0\1\u012a\107\0\1\u0171\134\0"
-			+ "\1\u0172\22\0\3\11\5\u0173\2\0\3\11\1\u0173\1\0" + "\1\u0173\1\0\1\11\1\0\1\11\1\u0173\2\11\4\0"
-			+ "\1\11\2\u0173\2\11\3\u0173\2\0\1\11\2\u0173\2\11" + "\12\0\1\11\1\0\12\11\1\u0173\4\11\1\u0173\5\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\4\12\4\0\10\12\2\0\5\12\12\0\1\11"
-			+ "\1\0\16\12\1\u0174\5\12\1\11\7\12\2\0\1\115" + "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0"
-			+ "\10\12\2\0\2\12\1\u0175\2\12\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\3\12\1\u0176\4\0\10\12\2\0" + "\5\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12" + "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\1\u0177"
-			+ "\23\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12" + "\1\0\1\11\1\0\1\12\1\u0178\2\12\4\0\10\12"
-			+ "\2\0\5\12\12\0\1\11\1\0\24\12\1\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\16\12\1\u0179\5\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\1\u0174" + "\7\12\2\0\5\12\12\0\1\11\1\0\24\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\4\12\4\0\5\12\1\u017a\2\12\2\0\5\12"
-			+ "\12\0\1\11\1\0\24\12\1\11\7\12\2\0\1\115" + "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0"
-			+ "\7\12\1\u017b\2\0\5\12\12\0\1\11\1\0\24\12" + "\2\117\1\u0139\5\312\2\0\3\117\1\312\1\0\1\312"
-			+ "\1\0\1\117\1\0\1\117\1\312\2\117\4\0\1\117" + "\2\312\2\117\3\312\2\0\1\117\2\312\2\117\12\0"
-			+ "\1\117\1\0\12\117\1\312\4\117\1\312\4\117\3\314" + "\5\u017c\1\133\1\0\3\314\1\u017c\1\314\1\u017c\4\314"
-			+ "\1\u017c\7\314\2\u017c\2\314\3\u017c\3\314\2\u017c\30\314"
-			+ "\1\u017c\4\314\1\u017c\4\314\1\11\7\12\2\0\1\115" + "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0"
-			+ "\10\12\2\0\1\u017d\4\12\12\0\1\11\1\0\24\12" + "\1\11\7\12\2\0\1\115\1\12\1\242\1\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0" + "\5\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\3\12" + "\1\373\4\0\10\12\2\0\5\12\12\0\1\11\1\0"
-			+ "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12" + "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\1\u0168"
-			+ "\4\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12"
-			+ "\4\0\10\12\2\0\3\12\1\u017e\1\12\12\0\1\11" + "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0" + "\2\12\1\u017f\2\12\12\0\1\11\1\0\24\12\3\154"
-			+ "\5\u0180\2\154\1\335\2\154\1\u0180\1\336\1\u0180\4\154"
-			+ "\1\u0180\7\154\2\u0180\2\154\3\u0180\3\154\2\u0180\30\154"
-			+ "\1\u0180\4\154\1\u0180\4\154\1\11\7\12\2\0\1\115" + "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0"
-			+ "\10\12\2\0\5\12\12\0\1\11\1\0\2\12\1\221" + "\21\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\5\12" + "\12\0\1\11\1\0\2\12\1\u0181\21\12\11\353\1\0"
-			+ "\103\353\5\u0182\2\353\1\u0148\2\353\1\u0182\1\0\1\u0182"
-			+ "\4\353\1\u0182\7\353\2\u0182\2\353\3\u0182\3\353\2\u0182"
-			+ "\30\353\1\u0182\4\353\1\u0182\4\353\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\3\12"
-			+ "\1\u0183\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\5\12" + "\12\0\1\11\1\0\7\12\1\242\14\12\1\11\7\12"
-			+ "\2\0\1\115\1\u0184\2\12\1\0\1\12\1\0\1\11" + "\1\0\4\12\4\0\10\12\2\0\5\12\12\0\1\11"
-			+ "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0"
-			+ "\5\12\12\0\1\11\1\0\3\12\1\242\20\12\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\4\12\4\0\10\12\2\0\1\u0101\4\12\12\0" + "\1\11\1\0\3\12\1\u0160\20\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12" + "\4\0\10\12\2\0\1\12\1\u0185\3\12\12\0\1\11"
-			+ "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0"
-			+ "\3\12\1\363\1\12\12\0\1\11\1\0\24\12\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\4\12\4\0\10\12\2\0\3\12\1\u0160\1\12" + "\12\0\1\11\1\0\24\12\1\11\7\12\2\0\1\115"
-			+ "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0" + "\6\12\1\u0186\1\12\2\0\5\12\12\0\1\11\1\0"
-			+ "\2\12\1\u0121\2\12\1\u0187\16\12\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\3\12"
-			+ "\1\u013e\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\3\12\1\247\4\0\10\12\2\0" + "\5\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\3\12" + "\1\u0188\4\0\10\12\2\0\5\12\12\0\1\11\1\0"
-			+ "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12" + "\1\0\1\11\1\0\3\12\1\242\4\0\10\12\2\0"
-			+ "\5\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\1\12"
-			+ "\1\247\2\12\4\0\10\12\2\0\5\12\12\0\1\11" + "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0" + "\5\12\12\0\1\11\1\0\2\12\1\u0189\21\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\4\12\4\0\10\12\2\0\1\12\1\u0121\3\12"
-			+ "\12\0\1\11\1\0\24\12\1\11\1\12\1\325\5\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\5\12" + "\12\0\1\11\1\0\1\u018a\23\12\3\11\5\u018b\2\0"
-			+ "\3\11\1\u018b\1\0\1\u018b\1\0\1\11\1\0\1\11" + "\1\u018b\2\11\4\0\1\11\2\u018b\2\11\3\u018b\2\0"
-			+ "\1\11\2\u018b\2\11\12\0\1\11\1\0\12\11\1\u018b" + "\4\11\1\u018b\5\11\7\12\2\0\1\115\3\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0" + "\5\12\12\0\1\11\1\0\4\12\1\u018c\17\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\4\12\4\0\10\12\2\0\2\12\1\u018d\2\12"
-			+ "\12\0\1\11\1\0\24\12\1\11\7\12\2\0\1\115" + "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0"
-			+ "\10\12\2\0\1\12\1\u018e\3\12\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\5\12" + "\12\0\1\11\1\0\2\12\1\u018f\21\12\1\11\7\12"
-			+ "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0" + "\4\12\4\0\10\12\2\0\2\12\1\u0190\2\12\12\0"
-			+ "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\3\12\1\u0191\4\0"
-			+ "\10\12\2\0\5\12\12\0\1\11\1\0\24\12\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\3\12\1\u0192\4\0\10\12\2\0\5\12\12\0" + "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\1\u0193\4\12\12\0\1\11\1\0\24\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\3\12\1\u0194\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12"
-			+ "\2\0\5\12\12\0\1\11\1\0\2\12\1\u0195\21\12" + "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0"
-			+ "\1\11\1\0\4\12\4\0\10\12\2\0\1\161\4\12" + "\12\0\1\11\1\0\24\12\30\0\1\u0196\62\0\1\u016b"
-			+ "\1\u0197\5\u016b\1\u0197\2\0\3\u016b\1\0\1\u016b\1\0"
-			+ "\1\u0197\1\0\4\u016b\1\0\1\u016b\2\u0197\10\u016b\2\u0197"
-			+ "\5\u016b\1\0\1\u0197\1\0\1\u0197\2\0\6\u0197\24\u016b"
-			+ "\51\0\1\u0122\11\0\1\u016a\56\0\1\u0198\62\0\1\u016e"
-			+ "\1\u0199\5\u016e\1\u0199\2\0\3\u016e\1\0\1\u016e\1\0"
-			+ "\1\u0199\1\0\4\u016e\1\0\1\u016e\2\u0199\10\u016e\2\u0199"
-			+ "\5\u016e\1\0\1\u0199\1\0\1\u0199\2\0\6\u0199\24\u016e"
-			+ "\51\0\1\u0126\11\0\1\u016d\56\0\1\u019a\62\0\1\u0171"
-			+ "\1\u019b\5\u0171\1\u019b\2\0\3\u0171\1\0\1\u0171\1\0"
-			+ "\1\u019b\1\0\4\u0171\1\0\1\u0171\2\u019b\10\u0171\2\u019b"
-			+ "\5\u0171\1\0\1\u019b\1\0\1\u019b\2\0\6\u019b\24\u0171"
-			+ "\51\0\1\u012a\11\0\1\u0170\26\0\3\11\5\u019c\2\0" + "\3\11\1\u019c\1\0\1\u019c\1\0\1\11\1\0\1\11"
-			+ "\1\u019c\2\11\4\0\1\11\2\u019c\2\11\3\u019c\2\0" + "\1\11\2\u019c\2\11\12\0\1\11\1\0\12\11\1\u019c"
-			+ "\4\11\1\u019c\5\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\7\12\1\u019d"
-			+ "\2\0\5\12\12\0\1\11\1\0\24\12\1\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\2\12\1\u019e\21\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\2\12\1\u019f\2\12\12\0\1\11\1\0\24\12"
-			+ "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\2\12\1\u010c"
-			+ "\2\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12"
-			+ "\4\0\10\12\2\0\1\u01a0\4\12\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\5\12" + "\12\0\1\11\1\0\17\12\1\u01a1\4\12\1\11\7\12"
-			+ "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0" + "\4\12\4\0\4\12\1\u0135\3\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12"
-			+ "\2\0\5\12\12\0\1\11\1\0\20\12\1\u01a2\3\12" + "\3\314\5\u01a3\1\133\1\0\3\314\1\u01a3\1\314\1\u01a3"
-			+ "\4\314\1\u01a3\7\314\2\u01a3\2\314\3\u01a3\3\314\2\u01a3"
-			+ "\30\314\1\u01a3\4\314\1\u01a3\4\314\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12"
-			+ "\4\0\10\12\2\0\1\12\1\u01a4\3\12\12\0\1\11" + "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0"
-			+ "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0" + "\3\12\1\362\1\12\12\0\1\11\1\0\24\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\1\12\1\u01a5\2\12\4\0\10\12\2\0\5\12"
-			+ "\12\0\1\11\1\0\24\12\3\154\5\u01a6\2\154\1\335"
-			+ "\2\154\1\u01a6\1\336\1\u01a6\4\154\1\u01a6\7\154\2\u01a6"
-			+ "\2\154\3\u01a6\3\154\2\u01a6\30\154\1\u01a6\4\154\1\u01a6"
-			+ "\4\154\1\11\7\12\2\0\1\115\1\12\1\u01a7\1\12" + "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12"
-			+ "\2\0\5\12\12\0\1\11\1\0\24\12\3\353\5\u01a8" + "\2\353\1\u0148\2\353\1\u01a8\1\0\1\u01a8\4\353\1\u01a8"
-			+ "\7\353\2\u01a8\2\353\3\u01a8\3\353\2\u01a8\30\353\1\u01a8"
-			+ "\4\353\1\u01a8\4\353\1\11\7\12\2\0\1\115\1\12" + "\1\u01a9\1\12\1\0\1\12\1\0\1\11\1\0\4\12"
-			+ "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\24\12" + "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0"
-			+ "\1\11\1\0\4\12\4\0\10\12\2\0\3\12\1\247" + "\1\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\1\12" + "\1\u01aa\2\12\4\0\10\12\2\0\5\12\12\0\1\11"
-			+ "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0"
-			+ "\1\12\1\u0187\3\12\12\0\1\11\1\0\24\12\1\11" + "\7\12\2\0\1\115\2\12\1\242\1\0\1\12\1\0"
-			+ "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0" + "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\2\12\1\u0159\2\12\12\0\1\11\1\0\24\12"
-			+ "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\1\12\1\242\2\12\4\0\10\12\2\0"
-			+ "\5\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\3\12"
-			+ "\1\u01ab\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\24\12\3\11\5\u01ac\2\0\3\11\1\u01ac\1\0\1\u01ac"
-			+ "\1\0\1\11\1\0\1\11\1\u01ac\2\11\4\0\1\11" + "\2\u01ac\2\11\3\u01ac\2\0\1\11\2\u01ac\2\11\12\0"
-			+ "\1\11\1\0\12\11\1\u01ac\4\11\1\u01ac\5\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\2\12\1\242\2\12\12\0" + "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\1\u0101\4\12\12\0\1\11\1\0\24\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\1\12\1\u01ad\2\12\4\0\10\12\2\0\5\12"
-			+ "\12\0\1\11\1\0\24\12\1\11\7\12\2\0\1\115" + "\2\12\1\u01ae\1\0\1\12\1\0\1\11\1\0\4\12"
-			+ "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\24\12" + "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0"
-			+ "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0" + "\1\11\1\0\3\12\1\u0101\20\12\1\11\7\12\2\0"
-			+ "\1\115\2\12\1\u01af\1\0\1\12\1\0\1\11\1\0" + "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0"
-			+ "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12" + "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\5\12"
-			+ "\12\0\1\11\1\0\2\12\1\u01b0\21\12\1\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\2\12\1\u01b1\2\12\12\0" + "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\5\12\12\0\1\11\1\0\2\12\1\u01b2\21\12"
-			+ "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\5\12\1\u013e\16\12\30\0\1\u016b\111\0" + "\1\u016e\111\0\1\u0171\61\0\3\11\5\12\2\0\3\11"
-			+ "\1\12\1\0\1\12\1\0\1\11\1\0\1\11\1\12" + "\2\11\4\0\1\11\2\12\2\11\3\12\2\0\1\11"
-			+ "\2\12\2\11\12\0\1\11\1\0\12\11\1\12\4\11" + "\1\12\5\11\1\12\1\u01b3\5\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\5\12\12\0\1\11\1\0\24\12\1\11\7\12"
-			+ "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0" + "\4\12\4\0\10\12\2\0\1\374\4\12\12\0\1\11"
-			+ "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0"
-			+ "\5\12\12\0\1\11\1\0\4\12\1\u01b4\17\12\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\4\12\4\0\10\12\2\0\5\12\12\0\1\11" + "\1\0\5\12\1\u0158\16\12\1\11\7\12\2\0\1\115"
-			+ "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0" + "\10\12\2\0\5\12\12\0\1\11\1\0\20\12\1\u01b5"
-			+ "\3\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12" + "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\5\12"
-			+ "\12\0\1\11\1\0\20\12\1\u01b6\3\12\3\314\5\132" + "\1\133\1\0\3\314\1\132\1\314\1\132\4\314\1\132"
-			+ "\7\314\2\132\2\314\3\132\3\314\2\132\30\314\1\132" + "\4\314\1\132\4\314\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\4\12\1\247\12\0\1\11\1\0\24\12\1\11"
-			+ "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11" + "\1\0\4\12\4\0\10\12\2\0\5\12\12\0\1\11"
-			+ "\1\0\1\u01b7\23\12\3\154\5\23\2\154\1\335\2\154" + "\1\23\1\336\1\23\4\154\1\23\7\154\2\23\2\154"
-			+ "\3\23\3\154\2\23\30\154\1\23\4\154\1\23\4\154" + "\1\11\7\12\2\0\1\115\1\u0101\2\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\5\12" + "\12\0\1\11\1\0\24\12\3\353\5\u01b8\2\353\1\u0148"
-			+ "\2\353\1\u01b8\1\0\1\u01b8\4\353\1\u01b8\7\353\2\u01b8"
-			+ "\2\353\3\u01b8\3\353\2\u01b8\30\353\1\u01b8\4\353\1\u01b8" + "\4\353\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\2\12" + "\1\u01ad\2\12\12\0\1\11\1\0\24\12\1\11\7\12"
-			+ "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0" + "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0"
-			+ "\5\12\1\u01b9\16\12\3\11\5\u01ba\2\0\3\11\1\u01ba" + "\1\0\1\u01ba\1\0\1\11\1\0\1\11\1\u01ba\2\11"
-			+ "\4\0\1\11\2\u01ba\2\11\3\u01ba\2\0\1\11\2\u01ba" + "\2\11\12\0\1\11\1\0\12\11\1\u01ba\4\11\1\u01ba"
-			+ "\5\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\1\u015b\4\12"
-			+ "\12\0\1\11\1\0\24\12\1\11\7\12\2\0\1\115" + "\2\12\1\u015c\1\0\1\12\1\0\1\11\1\0\4\12"
-			+ "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\24\12" + "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0"
-			+ "\1\11\1\0\4\12\4\0\10\12\2\0\2\12\1\u01bb" + "\2\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0"
-			+ "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12" + "\4\0\10\12\2\0\2\12\1\u01bc\2\12\12\0\1\11"
-			+ "\1\0\24\12\1\11\7\12\2\0\1\115\3\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\2\12\1\342"
-			+ "\5\12\2\0\5\12\12\0\1\11\1\0\24\12\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\4\12\4\0\6\12\1\u0101\1\12\2\0\5\12" + "\12\0\1\11\1\0\24\12\1\11\1\12\1\242\5\12"
-			+ "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0" + "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0"
-			+ "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12" + "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\1\12"
-			+ "\1\u01bd\3\12\12\0\1\11\1\0\24\12\1\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\13\12\1\u01be\10\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\5\12\12\0\1\11\1\0\23\12\1\u01bf\1\11"
-			+ "\1\12\1\u01c0\5\12\2\0\1\115\3\12\1\0\1\12" + "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\5\12"
-			+ "\12\0\1\11\1\0\24\12\3\353\5\172\2\353\1\u0148" + "\2\353\1\172\1\0\1\172\4\353\1\172\7\353\2\172"
-			+ "\2\353\3\172\3\353\2\172\30\353\1\172\4\353\1\172" + "\4\353\1\11\7\12\2\0\1\115\1\12\1\u01c1\1\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\5\12\12\0\1\11\1\0\24\12\3\11\5\233"
-			+ "\2\0\3\11\1\233\1\0\1\233\1\0\1\11\1\0" + "\1\11\1\233\2\11\4\0\1\11\2\233\2\11\3\233"
-			+ "\2\0\1\11\2\233\2\11\12\0\1\11\1\0\12\11" + "\1\233\4\11\1\233\5\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\1\12\1\u0101\2\12" + "\4\0\10\12\2\0\5\12\12\0\1\11\1\0\24\12"
-			+ "\1\11\7\12\2\0\1\115\1\12\1\247\1\12\1\0" + "\1\12\1\0\1\11\1\0\4\12\4\0\10\12\2\0"
-			+ "\5\12\12\0\1\11\1\0\24\12\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\4\12"
-			+ "\4\0\10\12\2\0\1\u01c2\4\12\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\5\12" + "\12\0\1\11\1\0\15\12\1\u01c3\6\12\1\11\1\12"
-			+ "\1\u01c4\5\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\24\12\1\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\3\12\1\u01c5\4\0"
-			+ "\10\12\2\0\5\12\12\0\1\11\1\0\24\12\1\11" + "\7\12\2\0\1\115\3\12\1\0\1\12\1\0\1\11"
-			+ "\1\0\4\12\4\0\10\12\2\0\5\12\12\0\1\11" + "\1\0\2\12\1\u01c6\21\12\1\11\7\12\2\0\1\115"
-			+ "\3\12\1\0\1\12\1\0\1\11\1\0\4\12\4\0" + "\10\12\2\0\1\12\1\u01c7\3\12\12\0\1\11\1\0"
-			+ "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12" + "\1\0\1\11\1\0\4\12\4\0\10\12\2\0\5\12"
-			+ "\12\0\1\11\1\0\16\12\1\u019d\5\12\1\11\7\12" + "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0"
-			+ "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\12\12\1\u01c8\11\12\1\11\7\12\2\0\1\115\3\12"
-			+ "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12" + "\2\0\1\12\1\u01c9\3\12\12\0\1\11\1\0\24\12"
-			+ "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0" + "\1\11\1\0\4\12\4\0\10\12\2\0\5\12\12\0"
-			+ "\1\11\1\0\11\12\1\u015b\12\12\1\11\7\12\2\0" + "\1\115\3\12\1\0\1\12\1\0\1\11\1\0\3\12"
-			+ "\1\374\4\0\10\12\2\0\5\12\12\0\1\11\1\0" + "\24\12\1\11\7\12\2\0\1\115\3\12\1\0\1\12"
-			+ "\1\0\1\11\1\0\4\12\4\0\4\12\1\u0134\3\12" + "\2\0\5\12\12\0\1\11\1\0\24\12\1\11\7\12"
-			+ "\2\0\1\115\3\12\1\0\1\12\1\0\1\11\1\0" + "\4\12\4\0\10\12\2\0\5\12\12\0\1\11\1\0"
-			+ "\10\12\1\u01ca\13\12\1\11\7\12\2\0\1\115\3\12" + "\1\0\1\12\1\0\1\11\1\0\4\12\4\0\10\12"
-			+ "\2\0\1\12\1\u01cb\3\12\12\0\1\11\1\0\24\12" + "\1\11\7\12\2\0\1\115\3\12\1\0\1\12\1\0"
-			+ "\1\11\1\0\3\12\1\213\4\0\10\12\2\0\5\12" + "\12\0\1\11\1\0\24\12";
+	private static final int[] ZZ_TRANS = DTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[459];
-		int offset = 0;
-		offset = DTokenMaker.zzUnpackAction(DTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[459];
-		int offset = 0;
-		offset = DTokenMaker.zzUnpackAttribute(DTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 188) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[459];
-		int offset = 0;
-		offset = DTokenMaker.zzUnpackRowMap(DTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[31154];
-		int offset = 0;
-		offset = DTokenMaker.zzUnpackTrans(DTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/**
 	 * When in a (possibly) nested MLC, this is the current nested depth.
 	 */
@@ -1142,7 +470,7 @@ public class DTokenMaker extends AbstractJFlexCTokenMaker {
 			case 14: {
 				this.yybegin(DTokenMaker.YYINITIAL);
 				this.addToken(this.start, this.zzEndRead, TokenTypes.COMMENT_DOCUMENTATION);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 46:
 				break;
@@ -1169,7 +497,7 @@ public class DTokenMaker extends AbstractJFlexCTokenMaker {
 			case 4: {
 				this.addToken(TokenTypes.ERROR_CHAR);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 51:
 				break;
@@ -1186,7 +514,7 @@ public class DTokenMaker extends AbstractJFlexCTokenMaker {
 			case 6: {
 				this.addToken(TokenTypes.ERROR_STRING_DOUBLE);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 54:
 				break;
@@ -1238,7 +566,7 @@ public class DTokenMaker extends AbstractJFlexCTokenMaker {
 			case 17: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_DOCUMENTATION);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 63:
 				break;
@@ -1299,7 +627,7 @@ public class DTokenMaker extends AbstractJFlexCTokenMaker {
 			case 15: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
 				this.addNestedMlcEndToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 73:
 				break;
@@ -1331,7 +659,7 @@ public class DTokenMaker extends AbstractJFlexCTokenMaker {
 			case 16: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 78:
 				break;
@@ -1342,13 +670,13 @@ public class DTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 5: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 80:
 				break;
 			case 13: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 81:
 				break;
@@ -1407,56 +735,56 @@ public class DTokenMaker extends AbstractJFlexCTokenMaker {
 					this.zzAtEOF = true;
 					switch (this.zzLexicalState) {
 					case WYSIWYG_STRING_1: {
-						if (this.firstToken == null)
+						if (this.tokenStream.isEmpty())
 							this.addToken(TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 460:
 						break;
 					case EOL_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 461:
 						break;
 					case NESTABLE_MLC: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
 						this.addNestedMlcEndToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 462:
 						break;
 					case DOCCOMMENT: {
 						this.yybegin(DTokenMaker.YYINITIAL);
 						this.addToken(this.start, this.zzEndRead, TokenTypes.COMMENT_DOCUMENTATION);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 463:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 464:
 						break;
 					case MLC: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 465:
 						break;
 					case WYSIWYG_STRING_2: {
-						if (this.firstToken == null)
+						if (this.tokenStream.isEmpty())
 							this.addToken(TokenTypes.LITERAL_BACKQUOTE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 466:
 						break;
 					case EOL_DOCCOMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_DOCUMENTATION);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 467:
 						break;
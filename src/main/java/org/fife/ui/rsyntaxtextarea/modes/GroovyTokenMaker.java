@@ -75,77 +75,24 @@ public class GroovyTokenMaker extends AbstractJFlexCTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = GroovyTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\4\0\2\1\1\0\1\2\1\3\2\4\1\3\1\5"
-			+ "\1\3\1\6\2\3\1\2\1\7\1\10\2\11\5\3" + "\1\11\7\3\1\11\1\12\1\3\6\11\13\3\1\13"
-			+ "\16\3\2\1\1\14\5\1\1\15\10\1\1\16\3\1" + "\1\17\2\1\1\20\2\1\1\21\1\22\1\23\1\24"
-			+ "\1\25\1\2\2\26\1\27\1\4\1\26\1\27\2\26" + "\1\30\2\26\5\3\1\5\1\31\1\5\1\0\1\3"
-			+ "\1\0\7\3\2\0\1\32\1\33\1\11\37\3\1\34" + "\12\3\2\0\1\11\3\3\1\34\7\3\3\34\1\35"
-			+ "\22\3\1\13\57\3\2\0\1\36\4\0\1\37\2\0" + "\1\40\22\0\1\17\1\0\1\41\2\0\1\21\1\23"
-			+ "\1\2\1\4\1\27\1\0\2\30\1\4\1\30\10\3" + "\1\31\1\42\1\5\1\43\1\5\1\0\1\35\1\3"
-			+ "\1\44\5\3\1\45\1\46\65\3\1\34\13\3\1\47" + "\30\3\1\2\54\3\1\35\24\3\37\0\1\50\2\0"
-			+ "\1\51\1\2\2\26\12\3\1\43\1\5\1\0\4\3" + "\1\35\1\52\1\35\3\3\1\35\5\3\1\35\2\3"
-			+ "\1\47\4\3\2\35\6\3\1\53\5\3\1\35\54\3" + "\1\2\56\3\1\0\31\3\2\0\1\54\2\0\1\55"
-			+ "\15\0\1\56\12\0\1\57\1\0\1\41\1\2\2\3" + "\1\35\11\3\1\5\1\0\1\34\42\3\1\34\20\3"
-			+ "\1\35\24\3\1\2\11\3\1\35\31\3\1\35\11\3" + "\1\0\31\3\36\0\1\2\15\3\1\5\1\0\4\3"
-			+ "\1\35\5\3\1\35\27\3\1\60\31\3\1\35\1\2" + "\11\3\1\35\30\3\1\35\13\3\1\0\2\3\1\35"
-			+ "\10\3\1\35\12\3\23\0\14\3\1\0\2\3\1\0" + "\3\3\1\0\45\3\1\35\2\3\1\2\43\3\1\0"
-			+ "\14\3\1\0\23\3\1\35\6\3\5\0\1\56\4\0" + "\1\35\14\3\4\0\3\3\2\0\102\3\2\0\11\3"
-			+ "\1\0\20\3\1\35\12\3\12\0\4\3\1\35\6\3" + "\4\0\3\3\1\0\3\3\1\35\10\3\1\35\11\3"
-			+ "\1\35\47\3\2\0\10\3\1\35\27\3\5\0\4\3" + "\1\0\2\3\1\35\2\3\4\0\1\3\1\0\3\3"
-			+ "\1\0\57\3\2\0\32\3\5\0\3\3\2\0\3\3" + "\4\0\3\3\1\0\1\35\14\3\1\35\10\3\1\35"
-			+ "\5\3\1\35\12\3\2\0\15\3\1\35\5\3\2\0" + "\2\3\2\0\3\3\4\0\3\3\1\0\10\3\1\35"
-			+ "\3\3\1\0\1\3\1\35\2\3\1\35\2\3\1\0" + "\1\35\15\3\1\0\14\3\1\35\3\3\1\35\5\3"
-			+ "\2\0\2\3\3\0\2\3\1\0\2\3\1\35\10\3" + "\1\0\2\3\2\0\12\3\1\0\23\3\2\0\1\3"
-			+ "\2\0\2\3\1\0\5\3\1\35\1\3\1\0\2\3" + "\2\0\12\3\1\0\14\3\1\35\2\3\2\0\1\3"
-			+ "\2\0\2\3\1\0\4\3\1\0\1\3\1\0\1\3" + "\5\0\11\3\1\0\11\3\1\0\2\3\1\0\1\3"
-			+ "\2\0\1\3\1\0\2\3\1\0\1\3\5\0\10\3" + "\1\0\6\3\1\0\1\3\3\0\1\3\1\0\1\3"
-			+ "\1\0\1\3\5\0\5\3\1\0\3\3\1\35\1\3" + "\1\0\1\35\4\0\1\3\1\0\1\3\1\0\1\3"
-			+ "\4\0\3\3\1\0\3\3\1\0\1\35\4\0\1\3" + "\1\0\1\3\4\0\2\3\1\0\2\3\6\0\1\3"
-			+ "\1\0\1\3\4\0\1\3\7\0\1\3\1\0\1\3" + "\30\0\1\35\37\0";
+	private static final ScannerTables TABLES = ScannerTables.load(GroovyTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = GroovyTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\4\0\2\1\1\0\12\1\2\11\21\1\2\11\4\1"
-			+ "\1\11\35\1\1\11\5\1\1\11\10\1\1\11\6\1" + "\1\11\3\1\1\11\1\1\2\11\24\1\1\0\1\1"
-			+ "\1\0\7\1\2\0\1\11\54\1\2\0\122\1\2\0" + "\1\11\4\0\1\11\2\0\1\11\22\0\1\11\1\0"
-			+ "\1\1\2\0\2\11\3\1\1\0\14\1\2\11\3\1" + "\1\0\2\1\1\11\5\1\1\11\235\1\37\0\1\11"
-			+ "\2\0\1\11\15\1\1\11\1\1\1\0\5\1\1\11" + "\174\1\1\0\31\1\2\0\1\1\2\0\1\1\15\0"
-			+ "\1\11\12\0\1\1\1\0\1\11\16\1\1\0\167\1" + "\1\0\31\1\36\0\17\1\1\0\154\1\1\0\26\1"
-			+ "\23\0\14\1\1\0\2\1\1\0\3\1\1\0\114\1" + "\1\0\14\1\1\0\32\1\5\0\1\1\4\0\15\1"
-			+ "\4\0\3\1\2\0\102\1\2\0\11\1\1\0\33\1" + "\12\0\13\1\4\0\3\1\1\0\76\1\2\0\10\1"
-			+ "\1\11\27\1\5\0\4\1\1\0\5\1\4\0\1\1" + "\1\0\3\1\1\0\57\1\2\0\32\1\5\0\3\1"
-			+ "\2\0\3\1\4\0\3\1\1\0\47\1\2\0\23\1" + "\2\0\2\1\2\0\3\1\4\0\3\1\1\0\14\1"
-			+ "\1\0\7\1\1\0\16\1\1\0\26\1\2\0\2\1" + "\3\0\2\1\1\0\13\1\1\0\2\1\2\0\12\1"
-			+ "\1\0\23\1\2\0\1\1\2\0\2\1\1\0\7\1" + "\1\0\2\1\2\0\12\1\1\0\17\1\2\0\1\1"
-			+ "\2\0\2\1\1\0\4\1\1\0\1\1\1\0\1\1" + "\5\0\11\1\1\0\11\1\1\0\2\1\1\0\1\1"
-			+ "\2\0\1\1\1\0\2\1\1\0\1\1\5\0\10\1" + "\1\0\6\1\1\0\1\1\3\0\1\1\1\0\1\1"
-			+ "\1\0\1\1\5\0\5\1\1\0\5\1\1\0\1\1" + "\4\0\1\1\1\0\1\1\1\0\1\1\4\0\3\1"
-			+ "\1\0\3\1\1\0\1\1\4\0\1\1\1\0\1\1" + "\4\0\2\1\1\0\2\1\6\0\1\1\1\0\1\1"
-			+ "\4\0\1\1\7\0\1\1\1\0\1\1\30\0\1\1" + "\37\0";
+	private static final int[] ZZ_ACTION = GroovyTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = GroovyTokenMaker.zzUnpackCMap(GroovyTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = GroovyTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\22\1\21\1\0\1\22\1\16\22\0\1\22\1\53\1\13"
-			+ "\1\17\1\20\1\53\1\55\1\10\2\44\1\24\1\46\1\45\1\33" + "\1\34\1\23\1\4\1\5\2\7\1\123\1\7\1\122\1\7\2\3"
-			+ "\1\56\1\45\1\47\1\50\1\52\1\54\1\100\1\102\1\26\1\6"
-			+ "\1\67\1\32\1\31\1\117\1\110\1\105\1\125\1\1\1\25\1\112"
-			+ "\1\113\1\114\1\116\1\121\1\74\1\103\1\106\1\107\1\111\1\120"
-			+ "\1\30\1\1\1\124\1\44\1\12\1\44\1\51\1\2\1\0\1\40" + "\1\27\1\63\1\61\1\37\1\15\1\72\1\57\1\65\1\115\1\75"
-			+ "\1\41\1\66\1\14\1\60\1\62\1\104\1\36\1\42\1\35\1\11"
-			+ "\1\71\1\70\1\64\1\73\1\101\1\76\1\51\1\77\1\43\uff81\0";
+	private static final char[] ZZ_CMAP = GroovyTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -158,2488 +105,12 @@ public class GroovyTokenMaker extends AbstractJFlexCTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = GroovyTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\126\0\254\0\u0102\0\u0158\0\u01ae\0\u0204\0\u025a"
-			+ "\0\u02b0\0\u0306\0\u035c\0\u03b2\0\u0408\0\u045e\0\u04b4\0\u050a"
-			+ "\0\u0560\0\u05b6\0\u05b6\0\u060c\0\u0662\0\u06b8\0\u070e\0\u0764"
-			+ "\0\u07ba\0\u0810\0\u0866\0\u08bc\0\u0912\0\u0968\0\u09be\0\u0a14"
-			+ "\0\u0a6a\0\u0ac0\0\u0b16\0\u0b6c\0\u05b6\0\u05b6\0\u0bc2\0\u0c18"
-			+ "\0\u0c6e\0\u0cc4\0\u05b6\0\u0d1a\0\u0d70\0\u0dc6\0\u0e1c\0\u0e72"
-			+ "\0\u0ec8\0\u0f1e\0\u0f74\0\u0fca\0\u1020\0\u1076\0\u10cc\0\u1122"
-			+ "\0\u1178\0\u11ce\0\u1224\0\u127a\0\u12d0\0\u1326\0\u137c\0\u13d2"
-			+ "\0\u1428\0\u147e\0\u14d4\0\u152a\0\u1580\0\u15d6\0\u162c\0\u1682"
-			+ "\0\u05b6\0\u16d8\0\u172e\0\u1784\0\u17da\0\u1830\0\u05b6\0\u1886"
-			+ "\0\u18dc\0\u1932\0\u1988\0\u19de\0\u1a34\0\u1a8a\0\u1ae0\0\u05b6"
-			+ "\0\u1b36\0\u1b8c\0\u1be2\0\u1c38\0\u1c8e\0\u1ce4\0\u05b6\0\u1d3a"
-			+ "\0\u1d90\0\u1de6\0\u05b6\0\u1e3c\0\u05b6\0\u05b6\0\u1e92\0\u1ee8"
-			+ "\0\u1f3e\0\u1ee8\0\u1ee8\0\u1f94\0\u1fea\0\u2040\0\u2096\0\u20ec"
-			+ "\0\u2142\0\u2198\0\u21ee\0\u2244\0\u229a\0\u22f0\0\u2346\0\u239c"
-			+ "\0\u23f2\0\u2448\0\u249e\0\u24f4\0\u254a\0\u25a0\0\u25f6\0\u264c"
-			+ "\0\u26a2\0\u26f8\0\u274e\0\u27a4\0\u27fa\0\u2850\0\u05b6\0\u28a6"
-			+ "\0\u27fa\0\u28fc\0\u2952\0\u29a8\0\u29fe\0\u2a54\0\u2aaa\0\u2b00"
-			+ "\0\u2b56\0\u2bac\0\u2c02\0\u2c58\0\u2cae\0\u2d04\0\u2d5a\0\u2db0"
-			+ "\0\u2e06\0\u2e5c\0\u2eb2\0\u2f08\0\u2f5e\0\u2fb4\0\u300a\0\u3060"
-			+ "\0\u30b6\0\u310c\0\u3162\0\u31b8\0\u320e\0\u3264\0\u32ba\0\u3310"
-			+ "\0\u3366\0\u33bc\0\u3412\0\u3468\0\u34be\0\u3514\0\u356a\0\u35c0"
-			+ "\0\u3616\0\u366c\0\u36c2\0\u3718\0\u06b8\0\u376e\0\u37c4\0\u381a"
-			+ "\0\u3870\0\u38c6\0\u391c\0\u3972\0\u39c8\0\u3a1e\0\u3a74\0\u3aca"
-			+ "\0\u3b20\0\u3b76\0\u02b0\0\u3bcc\0\u3c22\0\u3c78\0\u3cce\0\u3d24"
-			+ "\0\u3d7a\0\u3dd0\0\u3e26\0\u3e7c\0\u3ed2\0\u3f28\0\u3f7e\0\u3fd4"
-			+ "\0\u402a\0\u4080\0\u40d6\0\u412c\0\u4182\0\u41d8\0\u422e\0\u4284"
-			+ "\0\u42da\0\u4330\0\u4386\0\u43dc\0\u4432\0\u4488\0\u44de\0\u4534"
-			+ "\0\u458a\0\u45e0\0\u4636\0\u468c\0\u46e2\0\u4738\0\u478e\0\u47e4"
-			+ "\0\u483a\0\u4890\0\u48e6\0\u493c\0\u4992\0\u49e8\0\u4a3e\0\u4a94"
-			+ "\0\u4aea\0\u4b40\0\u4b96\0\u4bec\0\u4c42\0\u4c98\0\u4cee\0\u4d44"
-			+ "\0\u4d9a\0\u4df0\0\u4e46\0\u4e9c\0\u4ef2\0\u4f48\0\u4f9e\0\u4ff4"
-			+ "\0\u504a\0\u50a0\0\u50f6\0\u514c\0\u51a2\0\u51f8\0\u524e\0\u52a4"
-			+ "\0\u52fa\0\u05b6\0\u5350\0\u53a6\0\u53fc\0\u5452\0\u05b6\0\u54a8"
-			+ "\0\u54fe\0\u05b6\0\u5554\0\u55aa\0\u5600\0\u5656\0\u56ac\0\u5702"
-			+ "\0\u5758\0\u57ae\0\u5804\0\u585a\0\u58b0\0\u5906\0\u595c\0\u59b2"
-			+ "\0\u5a08\0\u5a5e\0\u5ab4\0\u5b0a\0\u05b6\0\u5b60\0\u5bb6\0\u5c0c"
-			+ "\0\u5c62\0\u05b6\0\u05b6\0\u5cb8\0\u5d0e\0\u5d64\0\u5dba\0\u5e10"
-			+ "\0\u1ee8\0\u5e66\0\u5ebc\0\u5f12\0\u5f68\0\u5fbe\0\u6014\0\u606a"
-			+ "\0\u60c0\0\u6116\0\u616c\0\u05b6\0\u05b6\0\u61c2\0\u249e\0\u6218"
-			+ "\0\u626e\0\u02b0\0\u62c4\0\u05b6\0\u631a\0\u6370\0\u63c6\0\u641c"
-			+ "\0\u6472\0\u05b6\0\u64c8\0\u651e\0\u6574\0\u65ca\0\u6620\0\u6676"
-			+ "\0\u66cc\0\u6722\0\u6778\0\u67ce\0\u6824\0\u687a\0\u68d0\0\u6926"
-			+ "\0\u697c\0\u69d2\0\u6a28\0\u6a7e\0\u6ad4\0\u6b2a\0\u6b80\0\u6bd6"
-			+ "\0\u6c2c\0\u6c82\0\u6cd8\0\u6d2e\0\u6d84\0\u6dda\0\u6e30\0\u6e86"
-			+ "\0\u6edc\0\u6f32\0\u6f88\0\u6fde\0\u7034\0\u708a\0\u70e0\0\u7136"
-			+ "\0\u718c\0\u71e2\0\u7238\0\u728e\0\u72e4\0\u733a\0\u7390\0\u73e6"
-			+ "\0\u743c\0\u7492\0\u74e8\0\u753e\0\u7594\0\u75ea\0\u7640\0\u7696"
-			+ "\0\u76ec\0\u7742\0\u7798\0\u77ee\0\u7844\0\u789a\0\u78f0\0\u7946"
-			+ "\0\u799c\0\u79f2\0\u7a48\0\u7a9e\0\u7af4\0\u7b4a\0\u7ba0\0\u7bf6"
-			+ "\0\u7c4c\0\u7ca2\0\u7cf8\0\u7d4e\0\u7da4\0\u7dfa\0\u7e50\0\u7ea6"
-			+ "\0\u7efc\0\u7f52\0\u7fa8\0\u7ffe\0\u8054\0\u80aa\0\u8100\0\u8156"
-			+ "\0\u81ac\0\u8202\0\u8258\0\u82ae\0\u8304\0\u835a\0\u83b0\0\u8406"
-			+ "\0\u845c\0\u84b2\0\u8508\0\u855e\0\u85b4\0\u860a\0\u8660\0\u86b6"
-			+ "\0\u870c\0\u8762\0\u87b8\0\u880e\0\u8864\0\u88ba\0\u8910\0\u8966"
-			+ "\0\u89bc\0\u8a12\0\u8a68\0\u8abe\0\u8b14\0\u8b6a\0\u8bc0\0\u8c16"
-			+ "\0\u8c6c\0\u8cc2\0\u8d18\0\u8d6e\0\u8dc4\0\u8e1a\0\u8e70\0\u8ec6"
-			+ "\0\u8f1c\0\u8f72\0\u8fc8\0\u901e\0\u9074\0\u90ca\0\u9120\0\u9176"
-			+ "\0\u91cc\0\u9222\0\u9278\0\u92ce\0\u9324\0\u937a\0\u93d0\0\u9426"
-			+ "\0\u947c\0\u94d2\0\u9528\0\u957e\0\u95d4\0\u962a\0\u9680\0\u96d6"
-			+ "\0\u972c\0\u9782\0\u97d8\0\u982e\0\u9884\0\u98da\0\u9930\0\u9986"
-			+ "\0\u99dc\0\u9a32\0\u9a88\0\u9ade\0\u9b34\0\u9b8a\0\u9be0\0\u9c36"
-			+ "\0\u9c8c\0\u9ce2\0\u9d38\0\u9d8e\0\u9de4\0\u9e3a\0\u9e90\0\u9ee6"
-			+ "\0\u9f3c\0\u9f92\0\u9fe8\0\ua03e\0\ua094\0\ua0ea\0\ua140\0\ua196"
-			+ "\0\ua1ec\0\ua242\0\ua298\0\ua2ee\0\ua344\0\ua39a\0\u05b6\0\ua3f0"
-			+ "\0\ua446\0\u05b6\0\ua49c\0\u5e66\0\ua4f2\0\ua548\0\ua59e\0\ua5f4"
-			+ "\0\ua64a\0\ua6a0\0\ua6f6\0\ua74c\0\ua7a2\0\ua7f8\0\ua84e\0\u05b6"
-			+ "\0\ua8a4\0\ua8fa\0\ua950\0\ua9a6\0\ua9fc\0\uaa52\0\uaaa8\0\u05b6"
-			+ "\0\uaafe\0\uab54\0\uabaa\0\uac00\0\uac56\0\uacac\0\uad02\0\uad58"
-			+ "\0\uadae\0\uae04\0\uae5a\0\uaeb0\0\uaf06\0\u02b0\0\uaf5c\0\uafb2"
-			+ "\0\ub008\0\ub05e\0\ub0b4\0\ub10a\0\ub160\0\ub1b6\0\ub20c\0\ub262"
-			+ "\0\ub2b8\0\ub30e\0\u02b0\0\ub364\0\ub3ba\0\ub410\0\ub466\0\ub4bc"
-			+ "\0\ub512\0\ub568\0\ub5be\0\ub614\0\ub66a\0\ub6c0\0\ub716\0\ub76c"
-			+ "\0\ub7c2\0\ub818\0\ub86e\0\ub8c4\0\ub91a\0\ub970\0\ub9c6\0\uba1c"
-			+ "\0\uba72\0\ubac8\0\ubb1e\0\ubb74\0\ubbca\0\ubc20\0\ubc76\0\ubccc"
-			+ "\0\ubd22\0\ubd78\0\ubdce\0\ube24\0\ube7a\0\ubed0\0\ubf26\0\ubf7c"
-			+ "\0\ubfd2\0\uc028\0\uc07e\0\uc0d4\0\uc12a\0\uc180\0\uc1d6\0\uc22c"
-			+ "\0\uc282\0\uc2d8\0\uc32e\0\uc384\0\uc3da\0\uc430\0\uc486\0\uc4dc"
-			+ "\0\uc532\0\uc588\0\uc5de\0\uc634\0\uc68a\0\uc6e0\0\uc736\0\uc78c"
-			+ "\0\uc7e2\0\uc838\0\uc88e\0\uc8e4\0\uc93a\0\uc990\0\uc9e6\0\uca3c"
-			+ "\0\uca92\0\ucae8\0\ucb3e\0\ucb94\0\ucbea\0\ucc40\0\ucc96\0\uccec"
-			+ "\0\ucd42\0\ucd98\0\ucdee\0\uce44\0\uce9a\0\ucef0\0\ucf46\0\ucf9c"
-			+ "\0\ucff2\0\ud048\0\ud09e\0\ud0f4\0\ud14a\0\ud1a0\0\ud1f6\0\ud24c"
-			+ "\0\ud2a2\0\ud2f8\0\ud34e\0\ud3a4\0\ud3fa\0\ud450\0\ud4a6\0\ud4fc"
-			+ "\0\ud552\0\ud5a8\0\ud5fe\0\ud654\0\ud6aa\0\ud700\0\ud756\0\ud7ac"
-			+ "\0\ud802\0\ud858\0\ud8ae\0\ud904\0\ud95a\0\ud9b0\0\uda06\0\uda5c"
-			+ "\0\udab2\0\udb08\0\udb5e\0\udbb4\0\udc0a\0\udc60\0\udcb6\0\udd0c"
-			+ "\0\udd62\0\uddb8\0\ude0e\0\ude64\0\udeba\0\udf10\0\udf66\0\udfbc"
-			+ "\0\ue012\0\ue068\0\ue0be\0\ue114\0\ue16a\0\ue1c0\0\ue216\0\ue26c"
-			+ "\0\ue2c2\0\u05b6\0\ue318\0\ue36e\0\ue3c4\0\ue41a\0\ue470\0\ue4c6"
-			+ "\0\ue51c\0\ue572\0\ue5c8\0\ue61e\0\ue674\0\ue6ca\0\u05b6\0\ue720"
-			+ "\0\ue776\0\ue7cc\0\ue822\0\ue878\0\ue8ce\0\ue924\0\ue97a\0\ue9d0"
-			+ "\0\uea26\0\uea7c\0\uead2\0\ueb28\0\ueb7e\0\uebd4\0\uec2a\0\uec80"
-			+ "\0\uecd6\0\ued2c\0\ued82\0\uedd8\0\uee2e\0\uee84\0\ueeda\0\uef30"
-			+ "\0\uef86\0\uefdc\0\uf032\0\uf088\0\uf0de\0\uf134\0\uf18a\0\uf1e0"
-			+ "\0\uf236\0\uf28c\0\uf2e2\0\uf338\0\uf38e\0\uf3e4\0\uf43a\0\uf490"
-			+ "\0\uf4e6\0\uf53c\0\uf592\0\uf5e8\0\uf63e\0\uf694\0\uf6ea\0\uf740"
-			+ "\0\uf796\0\u6e30\0\uf7ec\0\uf842\0\uf898\0\uf8ee\0\uf944\0\uf99a"
-			+ "\0\uf9f0\0\ufa46\0\ufa9c\0\ufaf2\0\ufb48\0\ufb9e\0\ufbf4\0\ufc4a"
-			+ "\0\ufca0\0\ufcf6\0\ufd4c\0\ufda2\0\ufdf8\0\ufe4e\0\ufea4\0\ufefa"
-			+ "\0\uff50\0\uffa6\0\ufffc\1\122\1\250\1\376\1\u0154\1\u01aa"
-			+ "\1\u0200\1\u0256\1\u02ac\1\u0302\1\u0358\1\u03ae\1\u0404\1\u045a"
-			+ "\1\u04b0\1\u0506\1\u055c\1\u05b2\1\u0608\1\u065e\1\u06b4\1\u070a"
-			+ "\1\u0760\1\u07b6\1\u080c\1\u0862\1\u08b8\1\u090e\1\u0964\1\u09ba"
-			+ "\1\u0a10\1\u0a66\1\u0abc\1\u0b12\1\u0b68\1\u0bbe\1\u0c14\1\u0c6a"
-			+ "\1\u0cc0\1\u0d16\1\u0d6c\1\u0dc2\1\u0e18\1\u0e6e\1\u0ec4\1\u0f1a"
-			+ "\1\u0f70\1\u0fc6\1\u101c\1\u1072\1\u10c8\1\u111e\1\u1174\1\u11ca"
-			+ "\1\u1220\1\u1276\1\u12cc\1\u1322\1\u1378\1\u13ce\1\u1424\1\u147a"
-			+ "\1\u14d0\1\u1526\1\u157c\1\u15d2\1\u1628\1\u167e\1\u16d4\1\u172a"
-			+ "\1\u1780\1\u17d6\1\u182c\1\u1882\1\u18d8\1\u192e\1\u1984\1\u19da"
-			+ "\1\u1a30\1\u1a86\1\u1adc\1\u1b32\1\u1b88\1\u1bde\1\u1c34\1\u1c8a"
-			+ "\0\udd62\1\u1ce0\0\ude64\1\u1d36\1\u1d8c\1\u1de2\1\u1e38\1\u1e8e"
-			+ "\1\u1ee4\1\u1f3a\1\u1f90\1\u1fe6\1\u203c\1\u2092\1\u20e8\1\u213e"
-			+ "\1\u2194\1\u21ea\1\u2240\1\u2296\1\u22ec\1\u2342\1\u2398\1\u23ee"
-			+ "\1\u2444\1\u249a\1\u24f0\0\ue674\1\u2546\1\u259c\1\u25f2\1\u2648"
-			+ "\1\u269e\1\u26f4\1\u274a\1\u27a0\1\u27f6\1\u284c\1\u28a2\1\u28f8"
-			+ "\1\u294e\1\u29a4\1\u29fa\1\u2a50\1\u2aa6\1\u2afc\1\u2b52\1\u2ba8"
-			+ "\1\u2bfe\1\u2c54\1\u2caa\1\u2d00\1\u2d56\1\u2dac\0\u3bcc\1\u2e02"
-			+ "\1\u2e58\1\u2eae\1\u2f04\1\u2f5a\1\u2fb0\1\u3006\1\u305c\1\u30b2"
-			+ "\1\u3108\1\u315e\1\u31b4\1\u320a\1\u3260\1\u32b6\1\u330c\1\u3362"
-			+ "\1\u33b8\1\u340e\1\u3464\1\u34ba\1\u3510\1\u3566\1\u35bc\0\u02b0"
-			+ "\1\u3612\1\u3668\1\u36be\1\u3714\1\u376a\1\u37c0\1\u3816\1\u386c"
-			+ "\1\u38c2\1\u3918\1\u396e\1\u39c4\1\u3a1a\1\u3a70\1\u3ac6\1\u3b1c"
-			+ "\1\u3b72\1\u3bc8\1\u3c1e\1\u3c74\1\u3cca\1\u3d20\1\u3d76\1\u3dcc"
-			+ "\1\u3e22\1\u3e78\1\u3ece\1\u3f24\1\u3f7a\1\u3fd0\1\u4026\1\u407c"
-			+ "\1\u40d2\1\u4128\1\u417e\1\u41d4\1\u422a\1\u4280\1\u42d6\1\u432c"
-			+ "\1\u4382\1\u43d8\1\u442e\1\u4484\1\u44da\1\u4530\1\u4586\1\u45dc"
-			+ "\1\u4632\1\u4688\1\u46de\1\u4734\1\u478a\1\u47e0\1\u4836\1\u488c"
-			+ "\1\u48e2\1\u4938\1\u498e\1\u49e4\1\u4a3a\1\u4a90\1\u4ae6\1\u4b3c"
-			+ "\1\u4b92\1\u4be8\1\u4c3e\1\u4c94\1\u4cea\1\u4d40\1\u4d96\1\u4dec"
-			+ "\1\u4e42\1\u4e98\1\u4eee\1\u4f44\1\u4f9a\1\u4ff0\1\u5046\1\u509c"
-			+ "\1\u50f2\1\u5148\1\u519e\1\u51f4\1\u524a\1\u52a0\1\u52f6\1\u534c"
-			+ "\1\u53a2\1\u53f8\1\u544e\1\u54a4\1\u54fa\1\u5550\1\u55a6\1\u55fc"
-			+ "\1\u5652\1\u56a8\1\u56fe\1\u5754\1\u57aa\1\u5800\1\u5856\1\u58ac"
-			+ "\1\u5902\1\u5958\1\u59ae\1\u5a04\1\u5a5a\1\u5ab0\1\u5b06\1\u5b5c"
-			+ "\1\u5bb2\1\u5c08\1\u5c5e\1\u5cb4\1\u5d0a\1\u5d60\1\u5db6\1\u5e0c"
-			+ "\1\u5e62\1\u5eb8\1\u5f0e\1\u5f64\1\u5fba\1\u6010\1\u6066\1\u60bc"
-			+ "\1\u6112\1\u6168\1\u61be\1\u6214\1\u626a\1\u62c0\1\u6316\1\u636c"
-			+ "\1\u63c2\1\u6418\1\u646e\1\u64c4\1\u651a\1\u6570\1\u65c6\1\u661c"
-			+ "\1\u6672\1\u66c8\1\u671e\1\u6774\1\u67ca\1\u6820\1\u6876\1\u68cc"
-			+ "\1\u6922\1\u6978\1\u69ce\1\u6a24\1\u6a7a\1\u6ad0\1\u6b26\1\u6b7c"
-			+ "\1\u6bd2\1\u6c28\1\u6c7e\1\u6cd4\1\u6d2a\1\u6d80\1\u6dd6\1\u6e2c"
-			+ "\1\u6e82\1\u6ed8\1\u6f2e\1\u6f84\1\u6fda\1\u7030\1\u7086\1\u70dc"
-			+ "\1\u7132\1\u7188\1\u71de\1\u7234\1\u728a\1\u72e0\1\u7336\1\u738c"
-			+ "\1\u73e2\1\u7438\1\u748e\1\u74e4\1\u753a\1\u7590\1\u75e6\1\u763c"
-			+ "\1\u7692\1\u76e8\1\u773e\1\u7794\1\u77ea\1\u7840\1\u7896\1\u78ec"
-			+ "\1\u7942\1\u7998\1\u79ee\1\u7a44\1\u7a9a\1\u7af0\1\u7b46\1\u7b9c"
-			+ "\1\u7bf2\1\u7c48\1\u7c9e\1\u7cf4\1\u7d4a\1\u7da0\1\u7df6\1\u7e4c"
-			+ "\1\u7ea2\1\u7ef8\1\u7f4e\1\u7fa4\1\u7ffa\1\u4f9a\1\u8050\1\u80a6"
-			+ "\1\u80fc\1\u8152\1\u81a8\1\u81fe\1\u8254\1\u82aa\1\u8300\1\u8356"
-			+ "\1\u83ac\1\u8402\1\u8458\1\u84ae\1\u8504\1\u855a\1\u85b0\1\u8606"
-			+ "\1\u865c\1\u86b2\1\u8708\1\u875e\1\u87b4\1\u880a\1\u8860\1\u88b6"
-			+ "\1\u890c\1\u8962\1\u89b8\1\u8a0e\1\u8a64\1\u8aba\1\u8b10\1\u8b66"
-			+ "\1\u8bbc\1\u8c12\1\u8c68\1\u8cbe\1\u8d14\1\u8d6a\1\u8dc0\1\u8e16"
-			+ "\1\u8e6c\1\u8ec2\1\u8f18\1\u8f6e\1\u8fc4\1\u901a\1\u9070\1\u90c6"
-			+ "\1\u911c\1\u9172\1\u91c8\1\u921e\1\u9274\1\u92ca\1\u9320\1\u9376"
-			+ "\1\u93cc\1\u9422\1\u9478\1\u94ce\1\u9524\1\u957a\1\u95d0\1\u9626"
-			+ "\1\u967c\1\u96d2\1\u9728\1\u977e\1\u97d4\1\u982a\1\u9880\1\u98d6"
-			+ "\1\u992c\1\u9982\1\u99d8\1\u9a2e\1\u9a84\1\u9ada\1\u9b30\1\u9b86"
-			+ "\1\u9bdc\1\u9c32\1\u9c88\1\u9cde\1\u9d34\1\u9d8a\1\u9de0\1\u9e36"
-			+ "\1\u9e8c\1\u9ee2\1\u9f38\1\u9f8e\1\u9fe4\1\ua03a\1\ua090\1\ua0e6"
-			+ "\1\ua13c\1\ua192\1\ua1e8\1\ua23e\1\ua294\1\ua2ea\1\ua340\1\ua396"
-			+ "\1\ua3ec\1\ua442\1\ua498\1\ua4ee\1\ua544\1\ua59a\1\ua5f0\1\ua646"
-			+ "\1\ua69c\1\ua6f2\1\ua748\1\ua79e\1\ua7f4\1\ua84a\1\ua8a0\1\ua8f6"
-			+ "\1\ua94c\1\ua9a2\1\ua9f8\1\uaa4e\1\uaaa4\1\uaafa\1\uab50\1\uaba6"
-			+ "\1\uabfc\1\uac52\1\uaca8\1\uacfe\1\uad54\1\uadaa\1\uae00\1\uae56"
-			+ "\1\uaeac\1\uaf02\1\uaf58\1\uafae\1\ub004\1\ub05a\1\ub0b0\1\ub106"
-			+ "\1\ub15c\1\ub1b2\1\ub208\1\ub25e\1\ub2b4\1\ub30a\1\ub360\1\ub3b6"
-			+ "\1\ub40c\1\ub462\1\ub4b8\1\ub50e\1\ub564\1\ub5ba\1\ub610\1\ub666"
-			+ "\1\ub6bc\1\ub712\1\ub768\1\ub7be\1\ub814\1\ub86a\1\ub8c0\1\ub916"
-			+ "\1\ub96c\1\ub9c2\1\uba18\1\uba6e\1\ubac4\1\ubb1a\1\ubb70\1\ubbc6"
-			+ "\1\ubc1c\1\ubc72\1\ubcc8\1\ubd1e\1\ubd74\1\ubdca\1\ube20\1\ube76"
-			+ "\1\ubecc\1\ubf22\1\ubf78\1\ubfce\1\uc024\1\uc07a\1\uc0d0\1\uc126"
-			+ "\1\uc17c\1\uc1d2\1\uc228\1\uc27e\1\uc2d4\1\uc32a\1\uc380\1\uc3d6"
-			+ "\1\uc42c\1\uc482\1\uc4d8\1\uc52e\1\uc584\1\uc5da\1\uc630\1\uc686"
-			+ "\1\uc6dc\1\uc732\1\uc788\1\uc7de\1\uc834\1\uc88a\1\uc8e0\1\uc3d6"
-			+ "\1\uc936\1\uc98c\1\uc9e2\1\uca38\1\uca8e\1\ucae4\1\ucb3a\1\ucb90"
-			+ "\1\ucbe6\1\ucc3c\1\ucc92\1\ucce8\1\ucd3e\1\ucd94\1\ucdea\1\uce40"
-			+ "\1\uce96\1\uceec\1\ucf42\1\ucf98\1\ucfee\1\ud044\1\ud09a\1\ud0f0"
-			+ "\1\ud146\1\ud19c\1\ud1f2\1\ud248\1\ud29e\1\ud2f4\1\ud34a\1\ud3a0"
-			+ "\1\ud3f6\1\ud44c\1\ud4a2\1\ud4f8\1\ud54e\1\ud5a4\1\ud5fa\1\ud650"
-			+ "\1\ud6a6\1\ud6fc\1\ud752\1\ud7a8\1\ud7fe\1\ud854\1\ud8aa\1\ud900"
-			+ "\1\ud956\0\u05b6\1\ud9ac\1\uda02\1\uda58\1\udaae\1\udb04\1\udb5a"
-			+ "\1\udbb0\1\udc06\1\udc5c\1\udcb2\1\udd08\1\udd5e\1\uddb4\1\ude0a"
-			+ "\1\ude60\1\udeb6\1\udf0c\1\udf62\1\udfb8\1\ue00e\1\ue064\1\ue0ba"
-			+ "\1\ue110\1\ue166\1\ue1bc\1\ue212\1\ue268\1\ue2be\1\ue314\1\ue36a"
-			+ "\1\ue3c0\1\ue416\1\ue46c\1\ue4c2\1\ue518\1\u9cde\1\ue56e\1\ue5c4"
-			+ "\1\ue61a\1\ue670\1\ue6c6\1\ue71c\1\ue772\1\ue7c8\1\ue81e\1\ue874"
-			+ "\1\ue8ca\1\ue920\1\ue976\1\ue9cc\1\uea22\1\uea78\1\ueace\1\ueb24"
-			+ "\1\ueb7a\1\uebd0\1\uec26\1\uec7c\1\uecd2\1\ued28\1\ued7e\1\uedd4"
-			+ "\1\uee2a\1\uee80\1\ueed6\1\uef2c\1\uef82\1\uefd8\1\uf02e\1\uf084"
-			+ "\1\uf0da\1\uf130\1\uf186\1\uf1dc\1\uf232\1\uf288\1\uf2de\1\uf334"
-			+ "\1\uf38a\1\uf3e0\1\uf436\1\uf48c\1\uf4e2\1\uf538\1\uf58e\1\uf5e4"
-			+ "\1\uf63a\1\uf690\1\uf6e6\1\uf73c\1\uf792\1\uf7e8\1\uf83e\1\uf894"
-			+ "\1\uf8ea\1\uf940\1\uf996\1\uf9ec\1\ufa42\1\ufa98\1\ufaee\1\ufb44"
-			+ "\1\ufb9a\1\ufbf0\1\ufc46\1\ufc9c\1\ufcf2\1\ufd48\1\ufd9e\1\ufdf4"
-			+ "\1\ufe4a\1\ufea0\1\ufef6\1\uff4c\1\uffa2\1\ufff8\2\116\2\244"
-			+ "\2\372\2\u0150\2\u01a6\2\u01fc\2\u0252\2\u02a8\2\u02fe\2\u0354"
-			+ "\2\u03aa\2\u0400\2\u0456\2\u04ac\2\u0502\2\u0558\2\u05ae\2\u0604"
-			+ "\2\u065a\2\u06b0\2\u0706\2\u075c\2\u07b2\2\u0808\2\u085e\2\u08b4"
-			+ "\2\u090a\2\u0960\2\u09b6\2\u0a0c\2\u0a62\2\u0ab8\2\u0b0e\2\u0b64"
-			+ "\2\u0bba\2\u0c10\2\u0c66\2\u0cbc\2\u0d12\2\u0d68\2\u0dbe\2\u0e14"
-			+ "\2\u0e6a\2\u0ec0\2\u0f16\2\u0f6c\2\u0fc2\2\u1018\2\u106e\2\u10c4"
-			+ "\2\u111a\2\u1170\2\u11c6\2\u121c\2\u1272\2\u12c8\2\u131e\2\u1374"
-			+ "\2\u13ca\2\u1420\2\u1476\2\u14cc\2\u1522\2\u1578\2\u15ce\2\u1624"
-			+ "\2\u167a\2\u16d0\2\u1726\2\u177c\2\u17d2\2\u1828\2\u187e\2\u18d4"
-			+ "\2\u192a\2\u1980\2\u19d6\2\u1a2c\2\u1a82\2\u1ad8\2\u1b2e\2\u1b84"
-			+ "\2\u1bda\2\u1c30\2\u1c86\2\u1cdc\2\u1d32\2\u1d88\2\u1dde\2\u1e34"
-			+ "\2\u1e8a\2\u1ee0\2\u1f36\2\u1f8c\2\u1fe2\2\u2038\2\u208e\2\u20e4"
-			+ "\2\u213a\2\u2190\2\u21e6\2\u223c\2\u2292\2\u22e8\2\u233e\2\u2394"
-			+ "\2\u23ea\2\u2440\2\u2496\2\u24ec\2\u2542\2\u2598\2\u25ee\2\u2644"
-			+ "\2\u269a\2\u26f0\2\u2746\2\u279c\2\u27f2\1\ua396\2\u2848\2\u289e"
-			+ "\2\u28f4\2\u294a\2\u29a0\2\u29f6\2\u2a4c\2\u2aa2\2\u2af8\2\u2b4e"
-			+ "\2\u2ba4\2\u2bfa\2\u2c50\2\u2ca6\2\u2cfc\2\u2d52\2\u2da8\2\u2dfe"
-			+ "\2\u2e54\2\u2eaa\2\u2f00\2\u2f56\2\u2fac\2\u3002\2\u3058\2\u30ae"
-			+ "\2\u3104\2\u315a\2\u31b0\2\u3206\2\u325c\2\u32b2\2\u3308\2\u335e"
-			+ "\2\u33b4\2\u340a\2\u3460\2\u34b6\2\u350c\2\u3562\2\u35b8\2\u360e"
-			+ "\2\u3664\2\u36ba\2\u3710\2\u3766\2\u37bc\2\u3812\2\u3868\2\u38be"
-			+ "\2\u3914\2\u396a\2\u39c0\2\u3a16\2\u3a6c\2\u3ac2\2\u3b18\2\u3b6e"
-			+ "\2\u3bc4\2\u3c1a\2\u3c70\2\u3cc6\2\u3d1c\2\u3d72\2\u3dc8\2\u3e1e"
-			+ "\2\u3e74\2\u3eca\2\u3f20\2\u3f76\2\u3fcc\2\u4022\2\u4078\2\u40ce"
-			+ "\2\u4124\2\u417a\2\u41d0\2\u4226\2\u427c\2\u42d2\2\u4328\2\u437e"
-			+ "\2\u43d4\2\u442a\2\u4480\2\u44d6\2\u452c\2\u4582\2\u45d8\2\u462e"
-			+ "\2\u4684\2\u46da\2\u4730\2\u4786\2\u47dc\2\u4832\2\u4888\2\u48de"
-			+ "\2\u4934\2\u498a\2\u49e0\2\u4a36\2\u4a8c\2\u4ae2\2\u4b38\2\u4b8e"
-			+ "\2\u4be4\2\u4c3a\2\u4c90\2\u4ce6\2\u4d3c\2\u4d92\2\u4de8\2\u4e3e"
-			+ "\2\u4e94\2\u4eea\2\u4f40\2\u4f96\2\u4fec\2\u5042\2\u5098\2\u50ee"
-			+ "\2\u5144\2\u519a\2\u51f0\2\u5246\2\u529c\2\u52f2\2\u5348\2\u539e"
-			+ "\2\u53f4\2\u544a\2\u54a0\2\u54f6\2\u554c\2\u55a2\2\u55f8\2\u564e"
-			+ "\2\u56a4\2\u56fa\2\u5750\2\u57a6\2\u57fc\2\u5852\2\u58a8\2\u58fe"
-			+ "\2\u5954\2\u59aa\2\u5a00\2\u5a56\2\u5aac\2\u5b02\2\u5b58\2\u5bae"
-			+ "\2\u5c04\2\u5c5a\2\u5cb0\2\u5d06\2\u5d5c\2\u5db2\2\u5e08\2\u5e5e"
-			+ "\2\u5eb4\2\u5f0a\2\u5f60\2\u5fb6\2\u600c\2\u6062\2\u60b8\2\u610e"
-			+ "\2\u6164\2\u61ba\2\u6210\2\u6266\2\u62bc\2\u6312\2\u6368\2\u63be"
-			+ "\2\u6414\2\u646a\2\u64c0\2\u6516\2\u656c\2\u65c2\2\u6618\2\u666e"
-			+ "\2\u66c4\2\u671a\2\u6770\2\u67c6\2\u681c\2\u6872\2\u68c8\2\u691e"
-			+ "\2\u6974\2\u69ca\2\u6a20\2\u6a76\2\u6acc\2\u6b22\2\u6b78\2\u6bce"
-			+ "\2\u6c24\2\u6c7a\2\u6cd0\2\u6d26\2\u6d7c\2\u6dd2\2\u6e28\2\u6e7e"
-			+ "\2\u6ed4\2\u6f2a\2\u6f80\2\u6fd6\2\u702c\2\u7082\2\u70d8\2\u712e"
-			+ "\2\u7184\2\u71da\2\u7230\2\u7286\2\u72dc\2\u7332\2\u7388\2\u73de"
-			+ "\2\u7434\2\u748a\2\u74e0\2\u7536\2\u758c\2\u75e2\2\u7638\2\u768e"
-			+ "\2\u76e4\2\u773a\2\u7790\2\u77e6\2\u783c\2\u7892\2\u78e8\2\u793e"
-			+ "\2\u7994\2\u79ea\2\u7a40\2\u7a96\2\u7aec\2\u7b42\2\u7b98\2\u7bee"
-			+ "\2\u7c44\2\u7c9a\2\u7cf0\2\u7d46\2\u7d9c\2\u7df2\2\u7e48\2\u7e9e"
-			+ "\2\u7ef4\2\u7f4a\2\u7fa0\2\u7ff6\2\u804c\2\u80a2\2\u80f8\2\u814e"
-			+ "\2\u81a4\2\u81fa\2\u8250\2\u82a6\2\u82fc\2\u8352\2\u83a8\2\u83fe"
-			+ "\2\u8454\2\u84aa\2\u8500\2\u8556\2\u85ac\2\u8602\2\u8658\2\u86ae"
-			+ "\2\u8704\2\u875a\2\u87b0\2\u8806\2\u885c\2\u88b2\2\u8908\2\u895e"
-			+ "\2\u89b4\2\u8a0a\2\u8a60\2\u8ab6\2\u8b0c\2\u8b62\2\u8bb8\2\u8c0e"
-			+ "\2\u8c64\2\u8cba\2\u8d10\2\u8d66\2\u8dbc\2\u8e12\2\u8e68\2\u8ebe"
-			+ "\2\u8f14\2\u8f6a\2\u8fc0\2\u9016\2\u906c\2\u90c2\2\u9118\2\u916e"
-			+ "\2\u91c4\2\u921a\2\u9270\2\u92c6\2\u931c\2\u9372\2\u93c8\2\u941e"
-			+ "\2\u9474\2\u94ca\2\u9520\2\u9576\2\u95cc\2\u9622\2\u9678\2\u96ce"
-			+ "\2\u9724\2\u977a\2\u97d0\2\u9826\2\u987c\2\u98d2\2\u9928\2\u997e"
-			+ "\2\u99d4\2\u9a2a\2\u9a80\2\u9ad6\2\u9b2c\2\u9b82\2\u9bd8\2\u9c2e"
-			+ "\2\u9c84\2\u9cda\2\u9d30\2\u9d86\2\u9ddc\2\u9e32\2\u9e88\2\u9ede"
-			+ "\2\u9f34\2\u9f8a\2\u9fe0\2\ua036\2\ua08c\2\ua0e2\2\ua138\2\ua18e" + "\2\ua1e4\2\ua23a";
+	private static final int[] ZZ_ROWMAP = GroovyTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = GroovyTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\10\2\11\1\12\1\13\1\12\1\14\1\12\1\15"
-			+ "\1\16\1\10\1\17\1\20\1\21\1\22\1\10\1\11" + "\1\23\1\24\1\25\1\26\1\27\1\30\1\31\1\11"
-			+ "\1\32\1\33\1\34\1\35\1\36\1\37\1\40\1\41" + "\1\42\1\43\1\44\1\45\1\46\1\47\1\50\1\51"
-			+ "\1\26\1\52\1\26\1\53\1\54\1\53\1\55\1\11" + "\1\56\1\57\1\60\1\11\1\61\1\62\1\63\1\64"
-			+ "\1\65\1\66\1\11\1\67\1\11\2\45\1\70\1\11" + "\1\71\1\72\1\11\1\73\1\74\1\75\1\76\1\77"
-			+ "\1\100\1\101\1\102\1\11\1\103\1\104\1\105\1\106" + "\2\12\2\11\15\107\1\110\3\107\1\111\2\107\1\112"
-			+ "\32\107\1\113\10\107\1\114\35\107\15\115\1\116\3\115"
-			+ "\1\117\2\115\1\120\22\115\1\121\7\115\1\122\10\115"
-			+ "\1\123\5\115\1\124\1\115\1\125\25\115\15\126\1\127"
-			+ "\3\126\1\130\35\126\1\131\10\126\1\132\35\126\12\133"
-			+ "\1\134\1\135\4\133\1\136\1\137\104\133\10\140\1\141"
-			+ "\1\140\1\142\6\140\1\143\104\140\12\133\1\144\1\145" + "\4\133\1\136\1\146\104\133\10\10\1\0\2\10\1\0"
-			+ "\2\10\1\0\2\10\4\0\6\10\2\0\6\10\14\0" + "\17\10\2\0\27\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\2\150\1\151\3\12"
-			+ "\1\150\1\12\1\0\2\150\1\0\1\150\1\152\1\0" + "\2\150\4\0\1\153\3\150\1\152\1\154\1\0\1\155"
-			+ "\2\150\1\154\1\150\1\153\1\150\14\0\2\150\1\152" + "\5\150\1\152\6\150\2\0\22\150\2\12\4\150\1\156"
-			+ "\1\157\2\160\1\150\1\160\1\0\2\150\1\0\1\150" + "\1\152\1\0\2\150\4\0\1\153\2\161\1\162\1\152"
-			+ "\1\154\1\0\1\155\2\150\1\154\1\150\1\153\1\150" + "\14\0\2\150\1\152\2\150\1\162\2\150\1\152\6\150"
-			+ "\2\0\22\150\2\160\2\150\1\10\7\11\1\0\1\163" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\3\11\1\164\1\165\1\11\14\0\1\166\1\167" + "\15\11\2\0\1\10\25\11\10\170\1\171\1\170\1\172"
-			+ "\6\170\1\173\104\170\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\5\11\1\174\14\0\17\11\2\0\1\10\25\11\13\0" + "\1\175\112\0\1\10\7\11\1\0\1\176\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\177\1\200\2\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\3\11\1\201\1\202"
-			+ "\1\11\14\0\1\11\1\203\4\11\1\204\10\11\2\0" + "\1\10\25\11\150\0\1\24\103\0\12\205\1\206\10\205"
-			+ "\1\207\1\210\23\205\1\211\55\205\50\0\1\53\55\0" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\11" + "\1\212\4\11\1\213\10\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\214\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\3\11\1\215\2\11\14\0"
-			+ "\1\11\1\216\4\11\1\217\5\11\1\220\2\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11" + "\1\221\4\11\14\0\1\11\1\222\12\11\1\223\2\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\4\11\1\224\1\11\14\0\1\11\1\225\4\11\1\226" + "\10\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\1\227\1\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\11\1\230\4\11\14\0\5\11\1\231"
-			+ "\1\11\1\232\2\11\1\233\4\11\2\0\1\10\13\11" + "\1\234\11\11\33\0\1\53\14\0\1\53\60\0\3\155"
-			+ "\1\0\1\155\112\0\2\155\2\0\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\11\1\235\1\236\3\11\14\0\1\237" + "\1\240\15\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\241\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\1\242\1\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\3\11\1\243\1\244\1\11\14\0\5\11\1\245\4\11" + "\1\246\4\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\1\247\1\11\1\0\1\10\1\11" + "\4\0\2\11\1\250\3\11\2\0\5\11\1\251\14\0"
-			+ "\2\11\1\252\14\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\1\11\1\253\15\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\254\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\255\1\11\1\256\1\11\1\257\1\11\14\0\1\260"
-			+ "\2\11\1\261\5\11\1\262\2\11\1\263\2\11\2\0" + "\1\10\25\11\23\0\1\264\150\0\1\53\1\0\1\53"
-			+ "\124\0\1\265\1\53\120\0\1\53\4\0\1\53\125\0" + "\1\53\1\0\1\266\123\0\1\53\4\0\1\53\50\0"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\3\11\1\267\2\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\270\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\2\11\1\271\3\11\14\0\1\11\1\272" + "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\273"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\11\1\274\1\11\1\275\2\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\3\11\1\276\1\277\1\11\14\0\1\300\1\301\15\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\1\302\1\303\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\304\4\11\1\305\14\0\2\11\1\306\4\11"
-			+ "\1\307\7\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\2\11\1\310\3\11\14\0\6\11\1\311" + "\10\11\2\0\1\10\25\11\1\10\7\11\1\0\1\312"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\2\11\1\313\1\314\2\11\14\0\1\11\1\315"
-			+ "\4\11\1\316\10\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\1\317\5\11\1\320" + "\10\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\1\11\1\321\15\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\322"
-			+ "\1\323\3\11\14\0\1\11\1\324\15\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\325\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\326" + "\1\327\2\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\2\330\3\10\1\330\1\10\1\0\1\330\1\10\1\0" + "\2\330\1\0\1\10\1\330\4\0\6\330\2\0\6\330"
-			+ "\14\0\17\330\2\0\1\10\21\330\2\10\2\330\1\10" + "\7\11\1\0\1\331\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\2\11\1\332\3\11\2\0\1\11\1\333" + "\3\11\1\334\14\0\3\11\1\335\13\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\336\1\11"
-			+ "\1\337\3\11\14\0\1\340\1\341\1\11\1\342\1\343" + "\1\11\1\344\5\11\1\345\2\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\1\346\1\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\347\3\11"
-			+ "\1\350\1\11\14\0\2\11\1\351\14\11\2\0\1\10" + "\13\11\1\352\11\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\11\1\353\4\11\14\0\1\354\1\355\4\11\1\356"
-			+ "\5\11\1\357\2\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\1\360\1\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\5\11\1\361\1\362\16\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\3\11\1\363\2\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11"
-			+ "\1\364\3\11\14\0\1\11\1\365\4\11\1\366\10\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\3\11\1\367\2\11\14\0\6\11\1\370\10\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\371\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11"
-			+ "\1\372\1\373\2\11\14\0\1\11\1\374\15\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\375\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\2\11\1\376\3\11" + "\2\0\6\11\14\0\3\11\1\377\13\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\u0100\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u0101"
-			+ "\1\11\1\u0102\2\11\14\0\6\11\1\u0103\10\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11" + "\1\u0104\4\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\11\1\u0105\1\u0106\3\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\u0107\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11" + "\15\107\1\0\3\107\1\0\2\107\1\0\32\107\1\0"
-			+ "\10\107\1\0\35\107\35\0\1\u0108\27\0\1\u0109\63\0"
-			+ "\1\u010a\137\0\1\u010b\160\0\1\u010c\35\0\15\115\1\0" + "\3\115\1\0\2\115\1\0\22\115\1\0\7\115\1\0"
-			+ "\10\115\1\0\5\115\1\0\1\115\1\0\25\115\35\0" + "\1\u010d\27\0\1\u010e\63\0\1\u010f\103\0\1\u0110\4\0"
-			+ "\1\u0110\2\0\1\u0110\2\0\2\u0110\5\0\1\u0111\1\0" + "\6\u0110\2\0\6\u0110\7\0\1\u0112\4\0\17\u0110\3\0"
-			+ "\21\u0110\2\0\2\u0110\35\0\1\u0113\160\0\1\u0114\135\0"
-			+ "\1\u0115\62\0\1\u0116\1\u0117\1\u0118\1\u0119\1\0\1\u011a"
-			+ "\15\0\1\u011b\1\u011c\1\u011d\1\u011e\1\0\1\u011f\3\0" + "\1\u0120\34\0\15\126\1\0\3\126\1\0\35\126\1\0"
-			+ "\10\126\1\0\35\126\35\0\1\u0121\27\0\1\u0122\75\0" + "\1\u0123\160\0\1\u0124\35\0\12\133\2\0\4\133\2\0"
-			+ "\104\133\21\u0125\1\0\104\u0125\13\0\1\u0126\113\0\2\u0127"
-			+ "\3\0\1\u0127\2\0\1\u0127\2\0\2\u0127\2\0\1\u0127" + "\4\0\6\u0127\2\0\6\u0127\14\0\17\u0127\1\u0128\2\0"
-			+ "\21\u0127\2\0\2\u0127\10\140\1\0\1\140\1\0\6\140"
-			+ "\1\0\104\140\10\0\1\u0129\115\0\21\u012a\1\0\104\u012a"
-			+ "\21\u012b\1\0\104\u012b\10\10\1\0\1\u012c\1\10\1\0" + "\2\10\1\0\2\10\4\0\6\10\2\0\6\10\14\0"
-			+ "\17\10\2\0\26\10\10\150\1\0\2\150\1\0\2\150" + "\1\0\2\150\4\0\6\150\2\0\6\150\14\0\17\150"
-			+ "\2\0\30\150\1\151\3\u012d\1\150\1\u012d\1\0\2\150" + "\1\0\2\150\1\0\2\150\4\0\6\150\2\0\6\150"
-			+ "\14\0\17\150\2\0\22\150\2\u012d\5\150\3\u012e\1\150" + "\1\u012e\1\0\2\150\1\0\2\150\1\0\2\150\4\0"
-			+ "\6\150\1\u012f\1\0\6\150\3\0\1\u012f\10\0\17\150" + "\2\0\22\150\2\u012e\5\150\3\155\1\150\1\155\1\0"
-			+ "\2\150\1\0\1\150\1\152\1\0\2\150\4\0\4\150" + "\1\152\1\154\2\0\2\150\1\154\3\150\14\0\2\150"
-			+ "\1\152\5\150\1\152\6\150\2\0\22\150\2\155\4\150" + "\1\156\1\150\2\u0130\1\150\1\u0130\1\0\2\150\1\0"
-			+ "\2\150\1\0\2\150\4\0\6\150\2\0\6\150\14\0" + "\17\150\2\0\22\150\2\u0130\5\150\3\157\1\150\1\157"
-			+ "\1\0\2\150\1\0\1\150\1\152\1\0\2\150\4\0" + "\4\150\1\152\1\154\1\0\1\155\2\150\1\154\3\150"
-			+ "\14\0\2\150\1\152\5\150\1\152\6\150\2\0\22\150" + "\2\157\4\150\1\156\1\157\2\160\1\150\1\160\1\0"
-			+ "\2\150\1\0\1\150\1\152\1\0\2\150\4\0\1\u0131" + "\3\150\1\152\1\154\1\0\1\155\2\150\1\154\1\150"
-			+ "\1\u0131\1\150\14\0\2\150\1\152\5\150\1\152\6\150" + "\2\0\22\150\2\160\6\150\2\u0132\2\150\1\0\2\150"
-			+ "\1\0\2\150\1\0\2\150\4\0\6\150\2\0\6\150" + "\14\0\17\150\2\0\31\150\5\u0133\1\0\2\150\1\0"
-			+ "\1\150\1\u0133\1\0\2\150\4\0\1\150\2\u0133\1\150" + "\2\u0133\2\0\2\150\2\u0133\2\150\14\0\2\150\1\u0133"
-			+ "\1\150\1\u0133\3\150\1\u0133\6\150\2\0\2\150\1\u0133" + "\17\150\2\u0133\2\150\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\11\1\u0134\4\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\4\11\1\u0135\1\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\3\11\1\u0136\2\11\14\0\1\11\1\u0137" + "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\3\11\1\u0138\2\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u0139" + "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\4\11"
-			+ "\1\u013a\1\11\14\0\7\11\1\u013b\7\11\2\0\1\10" + "\25\11\10\170\1\u013c\1\170\1\172\6\170\1\173\104\170"
-			+ "\10\0\1\u013d\115\0\4\u013e\2\170\1\u013e\1\170\1\u013f"
-			+ "\1\u0140\4\170\3\u013e\1\0\5\u013e\1\170\5\u013e\2\170"
-			+ "\63\u013e\2\170\2\u013e\10\173\1\u013c\1\173\1\u0141\113\173" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\2\11\1\u0142\3\11" + "\14\0\6\11\1\u0143\10\11\2\0\1\10\25\11\13\0"
-			+ "\1\u0144\112\0\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\4\11"
-			+ "\1\u0145\1\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\11\11\1\303" + "\5\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\u0146\5\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\4\11\1\u0147\1\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\1\11\1\u0148\15\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11" + "\1\303\4\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\1\u0149\1\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\12\205\1\206\10\205\1\u014a\123\205" + "\1\0\104\205\24\0\1\u014b\101\0\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\1\u014c\1\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\4\11\1\u014d\12\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\1\u014e\1\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\5\11\1\u014f\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\1\11\1\u0150"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\5\11\1\u0151\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\11"
-			+ "\1\u0152\15\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\u0153\5\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\u0154\5\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u0155\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\1\11\1\u0156\15\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\u0157\5\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\u0158\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\1\11\1\u0159\15\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\11\1\u015a\4\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\4\11\1\u015b\1\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\u015c\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\11\1\u015d\4\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\u015e"
-			+ "\5\11\14\0\4\11\1\u015f\12\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\3\11" + "\1\u0160\13\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u0161\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\4\11\1\u0162\1\11"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\u0163\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\3\11\1\u0164\2\11\14\0" + "\14\11\1\303\2\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\5\11\1\u0165\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11"
-			+ "\1\u0166\4\11\14\0\6\11\1\u0167\10\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\2\11\1\u0168\22\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\u0169\4\11\1\u016a\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\u016b\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\4\11\1\u016c\12\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\5\11\1\u016d\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\u016e\5\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\2\11\1\u016f\3\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\14\11" + "\1\u0142\2\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\5\11\1\u0170\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\1\11\1\u0171\4\11\2\0"
-			+ "\5\11\1\u0172\14\0\17\11\2\0\1\10\5\11\1\u0173" + "\17\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\2\11\1\u0174\14\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\1\u0175\1\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\3\11\1\u0176\13\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\11\1\u0177\1\11\1\u0178" + "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\u0179\5\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11"
-			+ "\1\322\3\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u017a" + "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\11\1\u017b\2\11\1\u017c\1\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\6\11\1\u017d\10\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\1\u017e\1\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\25\11\12\205\1\206\10\205\2\0"
-			+ "\101\205\50\0\1\53\1\0\1\26\53\0\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\5\11\1\u017f\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\7\11\1\u0180\7\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\1\11\1\u0181\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\u0182\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\2\11\1\u0183\3\11\2\0\1\u0184\5\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\1\11\1\u0185\4\11\1\u0186\10\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\4\11\1\u0187\12\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\u0188\4\11\1\u016d" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\3\11\1\u0189\2\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11"
-			+ "\1\u018a\2\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\1\u018b\1\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\4\11\1\u018c\1\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\u018d\4\11\1\u018e\14\0\12\11\1\u018f"
-			+ "\4\11\2\0\1\10\14\11\1\u0190\10\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\2\11\1\u0191\3\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\5\11\1\u0192\1\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\2\11\1\u0193\3\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\3\11\1\u0194\13\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\u0195" + "\5\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\5\11\1\u0196\11\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\3\11\1\u0197\13\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\3\11\1\u0198\21\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\u0199\5\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\u019a\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\4\11\1\u019b\12\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\6\11\1\u019c\10\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\u019d\5\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\4\11"
-			+ "\1\u019e\1\11\14\0\6\11\1\u019f\10\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u0180" + "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\u01a0\5\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\u01a1"
-			+ "\5\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\1\u01a2\1\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11" + "\1\u01a3\1\11\1\u01a4\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\1\u01a5\1\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\330\1\0\1\330" + "\1\u01a6\1\0\2\330\1\0\1\10\1\330\4\0\6\330"
-			+ "\2\0\6\330\14\0\17\330\2\0\1\10\25\330\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\u01a7\5\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\5\11\1\u01a8\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\11\1\u01a9\4\11\14\0"
-			+ "\6\11\1\u01aa\10\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\5\11\1\u01ab\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\3\11\1\u01ac\13\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\11\1\u01ad\1\11\1\u01ae"
-			+ "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\u0142\1\u01af\4\11\14\0\4\11" + "\1\u01b0\12\11\2\0\1\10\3\11\1\u01b1\21\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u01b2"
-			+ "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\11\1\u01b3\4\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\4\11\1\u01b4" + "\1\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\3\11\1\u01b5\2\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\7\11\1\u01b6\7\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\1\u01b7\1\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\5\11\1\u01b8" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\u01b9\4\11\1\u01ba\14\0\1\u01bb\1\11"
-			+ "\1\u01bc\1\u01bd\1\u01be\5\11\1\u01bf\4\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u01c0" + "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\4\11\1\u01c1\1\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\2\11\1\u01c2\3\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\5\11\1\u01c3\2\0\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\2\11\1\u01c4\3\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u01c5"
-			+ "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\1\11\1\u01c6\15\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\7\11\1\u01c7\7\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\3\11"
-			+ "\1\u01c8\13\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\5\11\1\u01c9\14\0\4\11\1\u01ca\11\11" + "\1\u01cb\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\4\11" + "\1\u01cc\1\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\4\11\1\u01cd\20\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\5\11\1\u01ce\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11" + "\1\u01cf\4\11\14\0\4\11\1\u01d0\12\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\6\11\1\u01d1\10\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\11\1\u01d2\4\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\u019d\5\11\14\0\3\11\1\u01d3\13\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\5\11\1\u01d4"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\4\11\1\u01d5\1\11\14\0\7\11\1\u01d6" + "\7\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\13\11\1\u01d7\3\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\12\11\1\u01d8\4\11\2\0\1\10\25\11\1\10\5\11" + "\1\u01d9\1\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\u01da\5\11\14\0" + "\17\11\2\0\1\10\2\11\1\u01db\22\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\u01dc\5\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\5\11"
-			+ "\1\u01dd\14\0\17\11\2\0\1\10\14\11\1\u01de\10\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\u01df\5\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\5\11\1\u01e0\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\11"
-			+ "\1\u01e1\4\11\1\u01e2\10\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\4\11\1\u01e3" + "\12\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\3\11\1\u01e4\13\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u01e5"
-			+ "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\6\11\1\u01e6\10\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\3\11\1\u01e7\2\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\2\11\1\u0198\3\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\62\0\1\u01e8\104\0"
-			+ "\1\u01e9\121\0\1\u01ea\160\0\1\u01eb\117\0\1\u01ec\104\0"
-			+ "\1\u01ed\64\0\52\u0110\1\u0112\53\u0110\1\0\1\u0110\4\0"
-			+ "\1\u0110\2\0\1\u0110\2\0\2\u0110\7\0\6\u0110\2\0" + "\6\u0110\7\0\1\u0112\4\0\17\u0110\3\0\21\u0110\2\0"
-			+ "\2\u0110\35\0\1\u01ee\160\0\1\u01ef\76\0\1\u01f0\17\0"
-			+ "\1\u01f1\1\0\1\u01f2\1\0\1\u01f3\3\0\1\u01f4\45\0"
-			+ "\1\u01f5\45\0\1\u01f6\1\u01f7\104\0\1\u01f8\152\0\1\u01f9"
-			+ "\52\0\1\u01fa\153\0\1\u01fb\25\0\1\u01fc\67\0\1\u01fd"
-			+ "\135\0\1\u01fe\126\0\1\u01ff\125\0\1\u0200\101\0\1\u0201"
-			+ "\150\0\1\u0202\150\0\1\u0203\104\0\1\u0204\121\0\1\u0205"
-			+ "\160\0\1\u0206\50\0\1\u0207\113\0\7\u0127\1\0\1\u0127"
-			+ "\1\u0208\1\0\2\u0127\2\0\1\u0127\4\0\6\u0127\2\0"
-			+ "\6\u0127\14\0\17\u0127\3\0\25\u0127\77\u0209\1\0\26\u0209"
-			+ "\10\0\1\u020a\115\0\3\10\5\u020b\1\0\2\10\1\0" + "\1\10\1\u020b\1\0\2\10\4\0\1\10\2\u020b\1\10"
-			+ "\2\u020b\2\0\2\10\2\u020b\2\10\14\0\2\10\1\u020b" + "\1\10\1\u020b\3\10\1\u020b\6\10\2\0\2\10\1\u020b"
-			+ "\17\10\2\u020b\2\10\2\150\1\151\3\u012d\1\150\1\u012d" + "\1\0\2\150\1\0\2\150\1\0\2\150\4\0\1\153"
-			+ "\5\150\2\0\4\150\1\153\1\150\14\0\17\150\2\0" + "\22\150\2\u012d\5\150\3\u012e\1\150\1\u012e\1\0\2\150"
-			+ "\1\0\1\150\1\152\1\0\2\150\4\0\4\150\1\152" + "\1\150\2\0\6\150\14\0\2\150\1\152\5\150\1\152"
-			+ "\6\150\2\0\22\150\2\u012e\2\150\3\0\3\u012e\1\0" + "\1\u012e\112\0\2\u012e\2\0\2\150\1\156\1\150\2\u0130"
-			+ "\1\150\1\u0130\1\0\2\150\1\0\2\150\1\0\2\150" + "\4\0\1\u0131\5\150\2\0\4\150\1\u0131\1\150\14\0"
-			+ "\17\150\2\0\22\150\2\u0130\4\150\1\u020c\1\150\2\u0132" + "\2\150\1\0\2\150\1\0\2\150\1\0\2\150\4\0"
-			+ "\6\150\2\0\6\150\14\0\17\150\2\0\30\150\1\u020d" + "\5\u0133\1\0\2\150\1\0\1\150\1\u0133\1\0\2\150"
-			+ "\4\0\1\u0131\2\u0133\1\150\2\u0133\2\0\2\150\2\u0133"
-			+ "\1\u0131\1\150\14\0\2\150\1\u0133\1\150\1\u0133\3\150"
-			+ "\1\u0133\6\150\2\0\2\150\1\u0133\17\150\2\u0133\2\150" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\11\1\u020e\4\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u020f\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\5\11"
-			+ "\1\u0210\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\1\u0211\1\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\5\11\1\u0212\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\11\1\u0213\4\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\5\11\1\u0214\14\0"
-			+ "\4\11\1\u0215\12\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\4\11\1\u0216\1\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\3\11\1\u0217\13\11\2\0\1\10\25\11"
-			+ "\10\u013e\1\u0218\10\u013e\1\0\107\u013e\5\u0219\1\u0218\4\u013e"
-			+ "\1\u0219\3\u013e\1\0\4\u013e\2\u0219\1\u013e\2\u0219\4\u013e"
-			+ "\2\u0219\20\u013e\1\u0219\1\u013e\1\u0219\3\u013e\1\u0219\12\u013e"
-			+ "\1\u0219\17\u013e\2\u0219\2\u013e\4\0\2\173\1\0\2\173" + "\1\u021a\4\173\11\0\1\173\5\0\2\173\63\0\2\173"
-			+ "\2\0\1\10\7\11\1\0\1\11\1\147\1\0\1\u021b" + "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\4\11\1\303\1\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\6\11\1\u021c\10\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\5\11\1\u0163\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\3\11\1\u021d\2\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\3\11\1\u021e\2\11" + "\14\0\2\11\1\u021f\14\11\2\0\1\10\25\11\23\0"
-			+ "\1\u0220\102\0\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\13\11\1\u0221\3\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\3\11\1\u0222\2\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\2\11\1\u0223\3\11\14\0\16\11\1\u0224\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\u0225"
-			+ "\5\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\1\11\1\u0226\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\u0227\3\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\u0228\3\11\1\u0229\1\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\2\11" + "\1\u022a\22\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\u022b\3\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\3\11\1\u022c\2\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\4\11\1\u022d\1\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u022e" + "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\5\11\1\u022f\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11"
-			+ "\1\u0230\2\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\7\11\1\u0231" + "\7\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\u0232\1\11\1\u0233\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\7\11\1\u0234\7\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u0235" + "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\2\11\1\u0236\3\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u0237"
-			+ "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\u0238\5\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\1\u0239\1\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\5\11\1\u023a\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11"
-			+ "\1\u023b\3\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\1\u023c\1\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\303\5\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u023d"
-			+ "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\5\11\1\303\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\u023e\5\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\u023f"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\3\11\1\u0240"
-			+ "\13\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\7\11\1\303\7\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\1\u0241\16\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\303\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11"
-			+ "\1\u0242\3\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\11\1\247\4\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\u0243\5\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\11"
-			+ "\1\u0244\15\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\2\11\1\u0245\3\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\14\11\1\u0246\2\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\2\11\1\u0247\22\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\13\11\1\u022e\3\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\203" + "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\6\11\1\u0248\10\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\1\u0249\5\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\11\11\1\u024a\13\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\11\1\u021d\4\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\6\11\1\u024b\10\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\6\11\1\u0230\10\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\u0188\5\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\4\11\1\u024c"
-			+ "\12\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\15\11\1\u024d" + "\7\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\3\11\1\u0142\13\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\3\11\1\u024e\2\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\2\11\1\u024f"
-			+ "\3\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\4\11\1\u0249\1\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\1\11"
-			+ "\1\u0230\23\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\u0250"
-			+ "\5\11\14\0\3\11\1\u0251\13\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\1\u0252\1\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\12\11\1\u0253\4\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\16\11\1\u0254\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\4\11\1\u0255\12\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\5\11\1\u0167\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\11\1\u022e\4\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\u0256\4\11\1\u0165"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\4\11\1\u0190\1\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\u0257\3\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\u0258\5\11\14\0\3\11"
-			+ "\1\u0190\13\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\1\11\1\u0259\15\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\u025a\3\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\11\1\u025b\4\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\3\11\1\u025c\2\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u025d"
-			+ "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\4\11\1\u025e\1\11\14\0\1\11\1\u0245"
-			+ "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\3\11\1\u025f\2\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\6\11\1\u0260\10\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\4\11\1\u0261\1\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\u0262\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\2\11\1\u0142\1\u0263\2\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\2\11" + "\1\u0264\3\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\u0265\5\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\4\11\1\u016d\1\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\1\u0142\16\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\3\11\1\u0266\2\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\2\11\1\303\14\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\1\11\1\u0230\7\11\1\u0267\3\11\1\u0268"
-			+ "\7\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\1\11\1\303\15\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\1\u0269\1\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\u026a\5\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\2\11\1\u026b\14\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\11"
-			+ "\1\u026c\15\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\2\11\1\u026d\14\11\2\0" + "\1\10\25\11\10\10\1\0\1\u026e\1\10\1\0\2\10"
-			+ "\1\0\2\10\4\0\6\10\2\0\6\10\14\0\17\10" + "\2\0\27\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\1\11\1\u026f\15\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\u0270\5\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11"
-			+ "\1\u0271\2\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\u0272\5\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\2\11\1\u0273\3\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\2\11\1\u0274\3\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\2\11\1\u0275\3\11\14\0\6\11\1\u0276" + "\10\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\4\11\1\u0277\12\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\6\11\1\u0278\3\11\1\u0279\4\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\u027a\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\u027b\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\11\1\u0230\4\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\1\u027c\5\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\6\11\1\u027d" + "\10\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\1\u027e\1\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\3\11"
-			+ "\1\u027f\13\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\4\11\1\u0280\12\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\u0281" + "\5\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\2\11\1\u0282\3\11\14\0\17\11"
-			+ "\2\0\1\10\2\11\1\u0283\22\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\u0284\5\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u0285" + "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\2\11\1\u0286\3\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\u0287\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\1\11\1\u0288\15\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\3\11\1\u0289\2\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\11\1\u028a\4\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\1\11\1\u028b\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\2\11\1\u028c\3\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\1\u028d\1\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\11\1\230\4\11\14\0"
-			+ "\5\11\1\u028e\11\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\2\11\1\u028f\3\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\2\11\1\u0290\3\11\14\0\1\11\1\u0291\15\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\11\11\1\u0292\13\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\2\11\1\u0293\3\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\2\11\1\u0294\3\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\u0295\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\3\11\1\u0296"
-			+ "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\1\u0297\16\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\1\u0298\1\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\10\11\1\u0299\6\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\10\11\1\u0142\6\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\u029a" + "\16\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\6\11\1\u029b\10\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\u015d\5\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\2\11\1\u0142\14\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\u029c" + "\5\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\1\0\1\u029d\6\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\5\11"
-			+ "\1\u029e\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\4\11\1\u029f\1\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\2\11\1\u02a0" + "\3\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\3\11\1\u02a1\2\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\6\11\1\u02a2\10\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\4\11" + "\1\u02a3\1\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\1\11\1\u02a4\1\u02a5\22\11\1\10\7\11\1\0" + "\1\u02a6\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\3\11" + "\1\u02a7\13\11\2\0\1\10\13\11\1\u02a8\11\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\2\11\1\u02a9\3\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\2\11\1\u02aa\3\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\6\11\1\u02ab\10\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\1\u02ac\16\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\3\11\1\u02ad\1\u02ae\12\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\1\u02af\1\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\1\11\1\u02b0\5\11\1\u02b1\7\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\16\11"
-			+ "\1\u02b2\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\2\11\1\u02b3\3\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\13\11\1\u02b4\3\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\u02b5\5\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\16\11\1\u02b6\2\0\1\10\25\11\56\0\1\u02b7"
-			+ "\106\0\1\u01e8\150\0\1\u02b8\77\0\1\u02b9\147\0\1\u02ba"
-			+ "\106\0\1\u01ec\150\0\1\u02bb\77\0\1\u02bc\156\0\1\u02bd"
-			+ "\120\0\1\u02be\125\0\1\u02bf\61\0\1\u02c0\151\0\1\u02c1"
-			+ "\122\0\1\u02c2\126\0\1\u02c3\150\0\1\u02c4\101\0\1\u02c5"
-			+ "\130\0\1\u02c6\22\0\1\u02c7\77\0\1\u02c8\126\0\1\u02c9"
-			+ "\1\u02ca\102\0\1\u02cb\153\0\1\u02cc\145\0\1\u02cd\101\0"
-			+ "\1\u02ce\124\0\1\u02cf\125\0\1\u02d0\23\0\1\u02d1\102\0"
-			+ "\1\u02d2\145\0\1\u02d3\106\0\1\u0203\150\0\1\u02d4\77\0"
-			+ "\1\u02d5\102\0\1\u02d6\114\0\77\u0209\1\u02d7\26\u0209\3\10"
-			+ "\5\u02d8\1\0\2\10\1\0\1\10\1\u02d8\1\0\2\10" + "\4\0\1\10\2\u02d8\1\10\2\u02d8\2\0\2\10\2\u02d8"
-			+ "\2\10\14\0\2\10\1\u02d8\1\10\1\u02d8\3\10\1\u02d8" + "\6\10\2\0\2\10\1\u02d8\17\10\2\u02d8\2\10\2\150"
-			+ "\1\u020d\5\u0133\1\0\2\150\1\0\1\150\1\u0133\1\0" + "\2\150\4\0\1\150\2\u0133\1\150\2\u0133\2\0\2\150"
-			+ "\2\u0133\2\150\14\0\2\150\1\u0133\1\150\1\u0133\3\150"
-			+ "\1\u0133\6\150\2\0\2\150\1\u0133\17\150\2\u0133\2\150" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\2\11\1\u02d9\3\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\1\u02da\1\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\5\11\1\u02db"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\2\11\1\u02dc\3\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\u0269\3\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\5\11\1\u02dd\1\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\3\11\1\u02de"
-			+ "\2\11\14\0\17\11\2\0\1\10\1\11\1\u02df\1\u02e0" + "\22\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\1\11\1\u02e1\15\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\u02e2\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u02e3"
-			+ "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\3\11\1\u01c0\2\11\14\0\6\11" + "\1\u02e4\10\11\2\0\1\10\25\11\3\u013e\5\u02e5\1\u0218"
-			+ "\4\u013e\1\u02e5\3\u013e\1\0\4\u013e\2\u02e5\1\u013e\2\u02e5"
-			+ "\4\u013e\2\u02e5\20\u013e\1\u02e5\1\u013e\1\u02e5\3\u013e\1\u02e5"
-			+ "\12\u013e\1\u02e5\17\u013e\2\u02e5\2\u013e\3\0\5\u02e6\5\0"
-			+ "\1\u02e6\10\0\2\u02e6\1\0\2\u02e6\4\0\2\u02e6\20\0"
-			+ "\1\u02e6\1\0\1\u02e6\3\0\1\u02e6\12\0\1\u02e6\17\0" + "\2\u02e6\2\0\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\13\11\1\303\3\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\12\11\1\u016d"
-			+ "\4\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\u022e\5\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\4\11\1\u02e7\1\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\1\u02e8\5\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\1\11\1\u02e9\2\11\1\u02ea\20\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\2\11" + "\1\u0283\22\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\4\11" + "\1\u02eb\1\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\12\11\1\u02ec\12\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\2\11\1\u02ed\1\u02ee\2\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\15\11\1\u02ef\1\11\2\0\1\10\4\11\1\u02f0"
-			+ "\20\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u02f1"
-			+ "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10" + "\21\11\1\u02f2\3\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\5\11\1\u02f3\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\2\11\1\u02f4\3\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\2\11\1\u0230\3\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\1\11\1\u02f5\23\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\16\11\1\303\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11"
-			+ "\1\u02f6\3\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\1\u0269\16\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\u0142\5\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\3\11\1\u02f7\2\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\2\11\1\u02f8\3\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u02f9"
-			+ "\1\11\1\0\1\10\1\11\4\0\4\11\1\u02fa\1\11" + "\2\0\6\11\14\0\10\11\1\u02fb\4\11\1\u02fc\1\11"
-			+ "\2\0\1\10\4\11\1\u02fd\5\11\1\u02fe\1\u02ff\1\11" + "\1\u0300\1\11\1\u0301\5\11\1\10\5\11\1\u0302\1\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\2\11\1\u0303\3\11\14\0\17\11"
-			+ "\2\0\1\10\2\11\1\u022a\6\11\1\u0304\13\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\11\1\u0142\4\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\11\1\u0305\4\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\3\11\1\u0306\13\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\14\11\1\u0307\2\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\u0308\5\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\5\11\1\u028e"
-			+ "\11\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\5\11\1\u0309\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\11\11" + "\1\u030a\5\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\11\1\u030b\4\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11"
-			+ "\1\u030c\4\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u030d" + "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\17\11\2\0\1\10\17\11\1\u030e"
-			+ "\5\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u030f" + "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\11\1\u0310\4\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\1\11\1\u0311\15\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\11\1\u0165\4\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\3\11\1\u0262\13\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\1\u0312\16\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\4\11\1\u0313\12\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\6\11\1\u0314\10\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\2\11\1\310\3\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\1\u0315\1\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\u0316"
-			+ "\16\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\11\1\u0317\4\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\u0318\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\4\11\1\u0157\1\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u0319"
-			+ "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\2\11\1\u031a\3\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\u031b\5\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\3\11\1\u031c\2\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\3\11\1\u031d\2\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\1\303\16\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\6\11\1\u031e\10\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11"
-			+ "\1\u031f\4\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\3\11\1\u0320\2\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\16\11\1\u0321\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\4\11"
-			+ "\1\u0230\12\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\3\11\1\u01d0\2\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\5\11" + "\1\u0262\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\u0322\5\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11"
-			+ "\1\u0323\3\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\5\11\1\u0324\1\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\1\303\1\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\6\11"
-			+ "\1\u0325\10\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\2\11\1\u0142\3\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\4\11\1\u0326\6\11\1\u0327"
-			+ "\11\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\4\11\1\u0328"
-			+ "\1\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\6\11\1\u0329\10\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\317\5\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\2\11\1\u032a\3\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\11\1\u032b\4\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\3\11\1\u032c" + "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\6\11\1\u032d\10\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\2\11\1\u0235\1\u032c\2\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\u032e\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\1\11\1\u032f\15\11\2\0\1\10"
-			+ "\25\11\3\10\5\u0330\1\0\2\10\1\0\1\10\1\u0330" + "\1\0\2\10\4\0\1\10\2\u0330\1\10\2\u0330\2\0"
-			+ "\2\10\2\u0330\2\10\14\0\2\10\1\u0330\1\10\1\u0330" + "\3\10\1\u0330\6\10\2\0\2\10\1\u0330\17\10\2\u0330"
-			+ "\3\10\5\11\1\u0331\1\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\11\1\u0332\4\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\14\11\1\u0333\2\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\1\u0334\16\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\1\11\1\u0335\4\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\1\u0336\1\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\3\11\1\u0337\2\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u0338" + "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\4\11\1\u0339\12\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\16\11\1\u033a" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\3\11\1\u033b\2\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\6\11"
-			+ "\1\u033c\10\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\11\1\u033d\4\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\u033e\3\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\2\11\1\u033f\3\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\u0340\5\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\1\u0341\1\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\4\11\1\u0342\1\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\4\11\1\u0343\1\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\2\11\1\u0344\3\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\11\1\u0345\4\11\14\0\13\11\1\u0341\3\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\u0346\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\3\11\1\u0347\2\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11" + "\1\u0348\4\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\5\11\1\u0349"
-			+ "\11\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\u034a\5\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\7\11" + "\1\u034b\7\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\4\11\1\u034c\1\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11"
-			+ "\1\u034d\2\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u034e" + "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\13\11\1\u034f\3\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\u0350\5\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\4\11\1\u0351\12\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\2\11\1\u022a\6\11\1\u0304"
-			+ "\13\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\3\11\1\u0352"
-			+ "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\11\11\1\u0269\5\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\3\11\1\u0353\2\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\11\1\u0354\4\11"
-			+ "\14\0\17\11\2\0\1\10\23\11\1\u0355\1\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\12\11\1\u0356\12\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\3\11\1\u0357\13\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\u0358\5\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\2\11\1\u0359\3\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\1\11\1\u035a\15\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\3\11\1\u035b\2\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\u0269\5\11\14\0\17\11\2\0\1\10\2\11" + "\1\u022a\6\11\1\u0304\13\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\1\11\1\u035c\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\u035d\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\32\0\1\u035e\73\0\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\6\11\1\u035f\10\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\15\11\1\u0360\7\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\2\11\1\u0361\3\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\u0362\5\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\13\11\1\u0363\3\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\3\11\1\u0364\2\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\4\11\1\u0365\12\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\2\11\1\u0366\3\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\4\11\1\u0367\12\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\u0368\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\1\11\1\u0369\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u036a" + "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\4\11\1\u036b\12\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\1\11\1\u036c\15\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\2\11\1\u036d\3\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u036e\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11"
-			+ "\1\u036f\3\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\u0370\5\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\11\1\u0371\4\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\6\11"
-			+ "\1\u0372\10\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\3\11\1\u0373\2\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\2\11\1\u0374\14\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u0375"
-			+ "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\2\11\1\u0376\3\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\7\11\1\u0377\15\11\23\0\1\u0378"
-			+ "\144\0\1\u01e8\13\0\1\u02b7\50\0\1\u02b9\1\u0379\5\u02b9"
-			+ "\1\u0379\1\u02b9\2\0\2\u02b9\1\0\1\u0379\1\u02b9\2\0"
-			+ "\1\u02b9\1\u0379\6\u02b9\2\u0379\6\u02b9\4\u0379\1\0\1\u0379"
-			+ "\2\0\4\u0379\17\u02b9\2\0\1\u0379\25\u02b9\23\0\1\u037a"
-			+ "\144\0\1\u01ec\13\0\1\u02ba\50\0\1\u02bc\1\u037b\5\u02bc"
-			+ "\1\u037b\1\u02bc\2\0\2\u02bc\1\0\1\u037b\1\u02bc\2\0"
-			+ "\1\u02bc\1\u037b\6\u02bc\2\u037b\6\u02bc\4\u037b\1\0\1\u037b"
-			+ "\2\0\4\u037b\17\u02bc\2\0\1\u037b\25\u02bc\14\0\1\u037c"
-			+ "\20\0\1\u037d\153\0\1\u037e\123\0\1\u037f\123\0\1\u0380"
-			+ "\107\0\1\u0381\144\0\1\u0382\104\0\1\u0383\20\0\1\u0384"
-			+ "\125\0\1\u02ca\56\0\1\u0385\202\0\1\u0386\76\0\1\u0387"
-			+ "\1\0\1\u0388\143\0\1\u0389\133\0\1\u038a\123\0\1\u038b"
-			+ "\122\0\1\u038c\103\0\1\u038d\127\0\1\u038e\124\0\1\u038f"
-			+ "\125\0\1\u0390\125\0\1\u0391\130\0\1\u0392\106\0\1\u0393"
-			+ "\144\0\1\u0203\13\0\1\u02d3\50\0\1\u02d5\1\u0394\5\u02d5"
-			+ "\1\u0394\1\u02d5\2\0\2\u02d5\1\0\1\u0394\1\u02d5\2\0"
-			+ "\1\u02d5\1\u0394\6\u02d5\2\u0394\6\u02d5\4\u0394\1\0\1\u0394"
-			+ "\2\0\4\u0394\17\u02d5\2\0\1\u0394\25\u02d5\3\0\5\u0395"
-			+ "\5\0\1\u0395\10\0\2\u0395\1\0\2\u0395\4\0\2\u0395" + "\20\0\1\u0395\1\0\1\u0395\3\0\1\u0395\12\0\1\u0395"
-			+ "\17\0\2\u0395\2\0\3\10\5\u0396\1\0\2\10\1\0" + "\1\10\1\u0396\1\0\2\10\4\0\1\10\2\u0396\1\10"
-			+ "\2\u0396\2\0\2\10\2\u0396\2\10\14\0\2\10\1\u0396" + "\1\10\1\u0396\3\10\1\u0396\6\10\2\0\2\10\1\u0396"
-			+ "\17\10\2\u0396\3\10\7\11\1\0\1\11\1\147\1\0" + "\1\u0397\1\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\2\11\1\u0398\14\11" + "\2\0\1\10\25\11\1\10\5\11\1\u0399\1\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\1\u039a\3\11\1\u039b\1\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\10\11\1\u039c\1\11\1\u02fe\12\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\3\11\1\u032c\2\11\14\0" + "\17\11\2\0\1\10\12\11\1\u039d\12\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\1\11\1\u039e\15\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\4\11\1\u039f\12\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\11\1\u03a0\4\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u03a1\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\4\11"
-			+ "\1\u0262\1\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\11\1\u03a2\4\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\4\11\1\u03a3\12\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\4\11\1\u0341"
-			+ "\1\11\14\0\17\11\2\0\1\10\25\11\3\u013e\5\u03a4"
-			+ "\1\u0218\4\u013e\1\u03a4\3\u013e\1\0\4\u013e\2\u03a4\1\u013e"
-			+ "\2\u03a4\4\u013e\2\u03a4\20\u013e\1\u03a4\1\u013e\1\u03a4\3\u013e"
-			+ "\1\u03a4\12\u013e\1\u03a4\17\u013e\2\u03a4\2\u013e\3\0\5\u03a5"
-			+ "\5\0\1\u03a5\10\0\2\u03a5\1\0\2\u03a5\4\0\2\u03a5" + "\20\0\1\u03a5\1\0\1\u03a5\3\0\1\u03a5\12\0\1\u03a5"
-			+ "\17\0\2\u03a5\2\0\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\4\11\1\u03a6\1\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\3\11\1\u03a7\2\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\4\11\1\u03a8\1\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\1\u03a9\1\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\2\11\1\u03aa\3\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\u03ab\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\2\11\1\u03ac\14\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\13\11\1\u03ad\3\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\2\11\1\u03ae\3\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\u03af\5\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u01e4"
-			+ "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10" + "\22\11\1\u03b0\2\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\u03b1\5\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\3\11\1\u03b2\2\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\11\1\u03b3\4\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\3\11\1\u03b4" + "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\u03b5\5\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11"
-			+ "\1\u0374\4\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\3\11\1\u03b6\2\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\6\11\1\u03b7\10\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u03b8"
-			+ "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\2\11\1\u03b9\3\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\1\u03ba\1\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u03bb"
-			+ "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\u03bc" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\2\11\1\u03bd\3\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\11\1\u03be\4\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\1\11\1\u03bf\15\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\11\1\u03c0\4\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\3\11\1\u0180\2\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\1\u03c1\1\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\u03c2\5\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\2\11\1\u03c3\22\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\1\u03c4\5\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\13\11\1\u03c5\11\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\6\11\1\u03c6\10\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\6\11" + "\1\u03c7\10\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\1\u03c8\1\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u03c9" + "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\6\11\1\u03ca\10\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\2\11\1\u0167\14\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\3\11\1\u03cb\2\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\4\11\1\u0229\1\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\u03cc\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\u03cd\5\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\4\11"
-			+ "\1\303\12\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\u03ce\5\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u03cf" + "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\1\11\1\u03d0\15\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\4\11\1\u0165\1\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\4\11" + "\1\u03d1\12\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\11\1\u03d2\4\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\1\11\1\u0142\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\4\11\1\u03b2\1\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\u016d\5\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\13\11\1\u016d\3\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u03d3" + "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\1\11\1\u03d4\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u03d5"
-			+ "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u03d6\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\6\11\1\u03d7\10\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\7\11\1\u03d8" + "\7\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\4\11\1\u03d9\1\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\4\11\1\u03da\12\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\1\u03db\1\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\u03dc\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u0221\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\1\11\1\u03dd\15\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\u03de\5\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\1\11\1\u03df\15\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\2\11\1\u02e1\3\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\7\11\1\u03e0\7\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11" + "\1\u03e1\4\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\7\11\1\u03e2"
-			+ "\7\11\2\0\1\10\25\11\3\10\5\u03e3\1\0\2\10" + "\1\0\1\10\1\u03e3\1\0\2\10\4\0\1\10\2\u03e3"
-			+ "\1\10\2\u03e3\2\0\2\10\2\u03e3\2\10\14\0\2\10" + "\1\u03e3\1\10\1\u03e3\3\10\1\u03e3\6\10\2\0\2\10"
-			+ "\1\u03e3\17\10\2\u03e3\3\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\4\11\1\u03e4\1\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\3\11\1\u03e5\2\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\1\u03e6\5\11\2\0\5\11\1\u0142\14\0\10\11\1\u03e7"
-			+ "\6\11\2\0\1\10\2\11\1\u03e8\1\11\1\u03e9\20\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\7\11" + "\1\u03ea\7\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\u03eb\5\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\2\11\1\u0269\14\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\7\11\1\u03ec\7\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\13\11\1\u03ed\3\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\u03ee\5\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\5\11\1\u03ef" + "\5\11\1\u03f0\11\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\4\11\1\u03f1\1\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\4\11"
-			+ "\1\u03f2\12\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\6\11\1\u03f3\10\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\1\u03f4\1\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\2\11\1\u028f\14\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\2\11\1\u03f5\3\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\2\11\1\u0235\3\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u03f6\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11"
-			+ "\1\u03f7\2\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\7\11\1\u0142" + "\7\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\1\u03f8\1\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\11\1\u03f9\4\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\7\11\1\u03fa\7\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\1\u03fb\1\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\6\11\1\u03fc\10\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\13\11\1\u03fd\11\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\2\11" + "\1\u03fe\6\11\1\u03ff\13\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\3\11\1\u0400\13\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\6\11\1\u0401\10\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\2\11\1\u02e1\3\11\2\0\1\u015d\5\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\11\1\u0402\4\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\3\11\1\u0403"
-			+ "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\6\11\1\u0404\10\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\2\11\1\u0405\3\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\2\11"
-			+ "\1\u0406\14\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\1\u0407\1\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\5\11\1\u0408\17\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\1\11\1\u0409\15\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\1\11\1\u040a\15\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\3\11" + "\1\u040b\13\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\6\11\1\u040c\10\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\4\11\1\u040d\12\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\11\11\1\u040e" + "\5\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\u040f\5\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\14\11"
-			+ "\1\u0410\2\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\3\11\1\u0411\2\11\14\0\17\11\2\0" + "\1\10\25\11\14\0\1\u0412\111\0\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\1\u0413\1\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\1\11\1\u0414\15\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\11\1\u0415\4\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\6\11\1\u0416\10\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\3\11\1\u0417\2\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\5\11\1\u0418\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\u0419\5\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\11\1\u041a\4\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\1\u041b\16\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\u041c\5\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\11\11\1\u041d\13\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\12\11\1\u026b"
-			+ "\4\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\u041e\5\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\1\u041f\1\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\3\11\1\u0420\2\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u0421"
-			+ "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\5\11\1\u0422\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\2\11\1\u0423\14\11\1\u0301"
-			+ "\5\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\6\11\1\u0424\10\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\u0425\5\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\13\11\1\u0262\3\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\15\11\1\u02fc"
-			+ "\1\11\2\0\1\10\4\11\1\u02fd\6\11\1\u02ff\3\11" + "\1\u0301\5\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11" + "\1\u0426\4\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\11\1\u0142\4\11\14\0"
-			+ "\17\11\2\0\1\10\1\11\1\u0427\23\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\3\11\1\u0428\2\11\14\0\17\11" + "\2\0\1\10\25\11\23\0\1\u02b9\125\0\1\u02bc\177\0"
-			+ "\1\u0429\67\0\1\u042a\162\0\1\u042b\70\0\1\u0429\125\0"
-			+ "\1\u042c\77\0\1\u037f\152\0\1\u042d\127\0\1\u042e\155\0"
-			+ "\1\u042f\73\0\1\u0430\151\0\1\u0431\125\0\1\u0432\54\0"
-			+ "\1\u0433\174\0\1\u0434\105\0\1\u0435\124\0\1\u02ca\127\0"
-			+ "\1\u0436\123\0\1\u0437\154\0\1\u02ca\131\0\1\u0438\71\0"
-			+ "\1\u0439\153\0\1\u02ca\126\0\1\u043a\63\0\1\u02d5\105\0"
-			+ "\5\u043b\5\0\1\u043b\10\0\2\u043b\1\0\2\u043b\4\0" + "\2\u043b\20\0\1\u043b\1\0\1\u043b\3\0\1\u043b\12\0"
-			+ "\1\u043b\17\0\2\u043b\2\0\3\10\5\11\1\0\2\10" + "\1\0\1\10\1\11\1\0\2\10\4\0\1\10\2\11"
-			+ "\1\10\2\11\2\0\2\10\2\11\2\10\14\0\2\10" + "\1\11\1\10\1\11\3\10\1\11\6\10\2\0\2\10"
-			+ "\1\11\17\10\2\11\3\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\4\11\1\247\12\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\3\11\1\u043c\2\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\3\11\1\u043d\2\11\14\0\6\11\1\u043e"
-			+ "\10\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\1\11\1\u03b9\15\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\1\11\1\u043f\15\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\3\11\1\u0440\2\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\1\11\1\u0441\15\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\1\u0442\1\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\u0443\5\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\11\1\u0444\4\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\3\11" + "\1\u0445\21\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11" + "\1\u0446\4\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\u0447\5\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\3\u013e\5\170\1\u0218\4\u013e\1\170"
-			+ "\3\u013e\1\0\4\u013e\2\170\1\u013e\2\170\4\u013e\2\170"
-			+ "\20\u013e\1\170\1\u013e\1\170\3\u013e\1\170\12\u013e\1\170"
-			+ "\17\u013e\2\170\2\u013e\3\0\5\u0448\5\0\1\u0448\10\0"
-			+ "\2\u0448\1\0\2\u0448\4\0\2\u0448\20\0\1\u0448\1\0" + "\1\u0448\3\0\1\u0448\12\0\1\u0448\17\0\2\u0448\2\0"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\14\11"
-			+ "\1\303\2\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\5\11\1\u0449\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\4\11\1\u0142" + "\1\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\2\11\1\u044a\14\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\1\0"
-			+ "\1\u044b\6\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\7\11\1\u044c" + "\7\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\1\u03e6" + "\5\11\2\0\6\11\14\0\17\11\2\0\1\10\7\11"
-			+ "\1\u044d\15\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11"
-			+ "\1\u0410\3\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\5\11\1\u044e\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\1\0" + "\1\u044f\6\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\11\1\u0450\4\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\1\u0142\1\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\11\1\u0451\4\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\1\u022e\1\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\4\11\1\u0452\1\11\2\0"
-			+ "\1\u0453\5\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\7\11\1\u0454" + "\7\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\4\11\1\u0455\1\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\5\11\1\u0456"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\3\11\1\u0457\2\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\3\11\1\u0458\13\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\u0459\5\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\1\u03ba\5\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\11\1\u045a\4\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\6\11\1\u0455\10\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u045b" + "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\3\11\1\u045c\2\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11" + "\1\u045d\2\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\6\11\1\u045e"
-			+ "\10\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\u045f\5\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\6\11" + "\1\u0460\10\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\2\11\1\u0461\3\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11"
-			+ "\1\u0462\3\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\1\u0463\1\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\2\11\1\u0464\14\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\u0465\5\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\4\11\1\u0165\12\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\u0466\5\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\1\11\1\u0467\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\11" + "\1\u0142\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\1\11\1\u0468\15\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\3\11\1\u0469\13\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\u046a\5\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\1\u03a6\5\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\u016d\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11" + "\1\u046b\2\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\4\11\1\u046c"
-			+ "\12\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\11\11\1\u046d" + "\13\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\247\5\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u046e\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11"
-			+ "\1\u046f\2\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\3\11\1\u0470\2\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\3\11\1\u0471\13\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\u03db\5\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\1\u0472\1\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\3\11\1\u0473" + "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\3\11\1\u0474\13\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\2\11\1\u0475\3\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\4\11" + "\1\u0476\12\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\1\11"
-			+ "\1\u0477\23\11\3\10\5\u0478\1\0\2\10\1\0\1\10" + "\1\u0478\1\0\2\10\4\0\1\10\2\u0478\1\10\2\u0478"
-			+ "\2\0\2\10\2\u0478\2\10\14\0\2\10\1\u0478\1\10" + "\1\u0478\3\10\1\u0478\6\10\2\0\2\10\1\u0478\17\10"
-			+ "\2\u0478\3\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\1\11\1\u0479\15\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\4\11\1\u047a\12\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\6\11\1\u047b\10\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\2\11\1\313\3\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\u047c\5\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u047d"
-			+ "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u047e\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\6\11\1\u047f\10\11\2\0\1\10\25\11\1\10" + "\5\11\1\u0480\1\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\5\11\1\u0481\17\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\1\11\1\u0482\4\11\2\0\6\11\14\0\15\11"
-			+ "\1\u02fc\1\11\2\0\1\10\4\11\1\u03e9\1\u0481\11\11" + "\1\u0301\4\11\1\u0483\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\11\11\1\u0484\13\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\11\1\u0485\4\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\12\11\1\u0486\4\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\6\11\1\u0487\10\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\2\11\1\u0488\3\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\u0489\5\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\4\11" + "\1\u048a\12\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\11\1\u048b\4\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\5\11\1\u048c\17\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\6\11\1\u048d" + "\10\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\3\11\1\u048e\2\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\u048f\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\7\11\1\u0490\7\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\u0491\5\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\u0492\5\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\u0493\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\u0494\5\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\6\11" + "\1\u0495\10\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\3\11\1\u0496\2\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\2\11\1\u0497\14\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\7\11\1\u0498" + "\7\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\4\11\1\u0499\1\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\u049a\5\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\3\11\1\u045c\13\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\1\u049b\5\11\1\0" + "\1\u049c\6\11\14\0\10\11\1\u049d\6\11\2\0\1\10"
-			+ "\16\11\1\u049e\6\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\14\11\1\u049f\2\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\3\11\1\u04a0\2\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\1\u0262\1\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\u04a1\5\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\1\11\1\u04a2\15\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\5\11" + "\1\u04a3\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\16\11\1\u04a4\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\1\u04a5\1\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\3\11\1\u04a6\2\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\5\11\1\u04a7" + "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\4\11\1\u04a8\1\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\35\0\1\u04a9\70\0\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\13\11\1\u04aa" + "\3\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\6\11\1\u04ab\10\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\4\11\1\u04ac\1\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\12\11\1\u04ad\4\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\2\11\1\u04ae" + "\3\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\5\11\1\u04af\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\6\11\1\u04b0\10\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\6\11\1\u04b1\10\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\4\11\1\u04b2\1\u04b3\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\11\11\1\u04b4\13\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\2\11" + "\1\u04b5\22\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\u04b6\3\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\5\11\1\u0142\14\0\17\11"
-			+ "\2\0\1\10\2\11\1\u04b7\1\11\1\u04b8\6\11\1\u04b9" + "\11\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\3\11\1\u04ba" + "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\4\11\1\u04bb\12\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\1\u04bc\5\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\5\11\1\u04bd\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\u04be\5\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\u04bf\5\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\6\11\1\u04c0\10\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\6\11" + "\1\u04c1\10\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\2\11\1\u04c2\3\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\5\11"
-			+ "\1\u04c3\14\0\17\11\2\0\1\10\25\11\77\u0429\1\u02ca"
-			+ "\26\u0429\36\0\1\u04c4\147\0\1\u04c5\103\0\1\u04c6\154\0"
-			+ "\1\u04c7\121\0\1\u04c8\106\0\1\u02ca\77\0\1\u02ca\152\0"
-			+ "\1\u038b\121\0\1\u0392\151\0\1\u038b\102\0\1\u02ca\130\0"
-			+ "\1\u04c9\123\0\1\u04ca\151\0\1\u04cb\122\0\1\u04cc\61\0"
-			+ "\1\u04c7\171\0\1\u0430\50\0\5\u04cd\5\0\1\u04cd\10\0"
-			+ "\2\u04cd\1\0\2\u04cd\4\0\2\u04cd\20\0\1\u04cd\1\0" + "\1\u04cd\3\0\1\u04cd\12\0\1\u04cd\17\0\2\u04cd\2\0"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\11\1\u04ce\4\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\5\11\1\u04cf\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u04d0" + "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\11\1\u04d1\4\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\4\11\1\u0198\1\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\u04d2\5\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\12\11\1\u04d3\4\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u04d4"
-			+ "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\3\11\1\u04d5\2\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\u04d6\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\2\11\1\u04d7\3\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\6\11\1\u04d8\10\11\2\0\1\10\25\11" + "\3\0\5\173\5\0\1\173\10\0\2\173\1\0\2\173"
-			+ "\4\0\2\173\20\0\1\173\1\0\1\173\3\0\1\173" + "\12\0\1\173\17\0\2\173\2\0\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\u04d9\5\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u04da"
-			+ "\3\11\14\0\17\11\2\0\1\10\25\11\6\0\1\u04db" + "\16\0\1\u04dc\1\u04dd\2\0\1\u04de\74\0\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\2\11\1\u04df\3\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\3\11\1\u04e0\2\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\11" + "\1\u04e1\15\11\2\0\1\10\25\11\32\0\1\u04e2\34\0"
-			+ "\1\u04e3\36\0\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11"
-			+ "\1\u04e4\2\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\3\11\1\u04e5\2\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\4\11\1\u04e6\1\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u04e7"
-			+ "\1\u04e8\2\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\2\11\1\u04e9\3\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\u0341\5\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\4\11"
-			+ "\1\u04ea\12\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\2\11\1\u0341\14\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\u04eb\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\4\11\1\u04ec\1\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\7\11\1\u04ed\7\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\5\11\1\u04ee\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\u04ef\5\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\4\11\1\u04f0\1\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\1\11\1\u04f1\15\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\3\11\1\u04f2" + "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\5\11\1\u04f3\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\14\11\1\u0190\10\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\1\u0165\1\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\13\11\1\u0142\3\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\5\11\1\u04f4\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\1\u04f5\16\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\2\11" + "\1\u04f6\14\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\3\11\1\303\13\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\1\u04f7\1\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\2\11\1\u04f8\3\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\2\11\1\u019f\3\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\4\11"
-			+ "\1\u016d\12\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\2\11\1\u04f9\3\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\u04fa\3\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\1\u04fb\1\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\5\11\1\u04fc\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\u04fd\5\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\u04fe\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\3\11\1\u016f\2\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\5\11\1\u0324\1\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\15\11" + "\1\u04ff\7\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\u0500\3\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\5\11\1\u023a\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\15\11\1\u0300\7\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\2\11\1\u0501\3\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\4\11\1\u0502\12\11\2\0\1\10\25\11\3\10"
-			+ "\5\330\1\0\2\10\1\0\1\10\1\330\1\0\2\10" + "\4\0\1\10\2\330\1\10\2\330\2\0\2\10\2\330"
-			+ "\2\10\14\0\2\10\1\330\1\10\1\330\3\10\1\330" + "\6\10\2\0\2\10\1\330\17\10\2\330\3\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\5\11\1\u0212\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\u0503"
-			+ "\5\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\5\11\1\u0230\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\1\11\1\u0504\15\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\2\11\1\u01bc"
-			+ "\14\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\u0505\5\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\11" + "\1\u0506\15\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\1\11\1\u0507\15\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\1\11\1\u0508\15\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\u0509\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\1\11\1\u050a\15\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\3\11\1\320\2\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\3\11\1\u050b\2\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u050c" + "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\1\u050d\24\11\1\10\5\11\1\u050e\1\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\1\u039a"
-			+ "\5\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\14\11" + "\1\u050f\2\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u0510\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11"
-			+ "\1\u0511\2\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\6\11\1\u0512" + "\10\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\4\11\1\u0513\1\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\4\11\1\u0410"
-			+ "\1\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\3\11\1\u0514\13\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\3\11\1\u0515\2\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\6\11"
-			+ "\1\u0516\10\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\3\11\1\u0517\2\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\u0518" + "\5\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\11\1\u0519\4\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\5\11\1\u051a\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\u051b\5\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\5\11\1\u051c\1\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\13\11"
-			+ "\1\u051d\1\11\1\u051e\7\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\2\11\1\u051f\3\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\4\11\1\u0520\1\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\1\11\1\u0521\1\u0522"
-			+ "\2\11\1\u0523\3\11\1\u0524\13\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\14\11\1\u02b6\2\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\1\11\1\u0525\15\11\2\0\1\10\25\11\103\0"
-			+ "\1\u0526\3\0\1\u0527\16\0\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\2\11\1\u0484\3\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u0528" + "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\1\u0529\5\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\5\11"
-			+ "\1\u052a\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10" + "\15\11\1\u052b\7\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\11\1\u052c\4\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\1\11\1\u052d" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\2\11\1\u052e\3\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\4\11\1\u052f\1\u04a7\2\0" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\11\1\230\4\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\11\11\1\u0530\13\11" + "\36\0\1\u0531\67\0\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\4\11\1\u0532" + "\1\11\2\0\6\11\14\0\15\11\1\u0533\1\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\1\u0534\1\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\1\11\1\u0535\15\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\2\11\1\u0536\3\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\4\11\1\u01c4\1\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\10\11\1\u0537\6\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\12\11\1\u0538\4\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\3\11\1\u0539\2\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\6\11\1\u053a\10\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\4\11\1\u053b" + "\1\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\2\11\1\u053c\3\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\1\u053d\5\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\7\11\1\u053e" + "\7\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\u053f\5\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\1\u0540\1\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\u0541" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\4\11\1\u0542\1\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\16\11\1\u0543\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\6\11"
-			+ "\1\u0544\5\11\1\u0545\2\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\1\11\1\u0546\4\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\11\1\u0547\4\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\14\11\1\u0548\2\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\12\11\1\u0549\4\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\3\11\1\u054a\2\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\11"
-			+ "\1\u054b\15\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\1\u054c\16\11\2\0\1\10" + "\25\11\40\0\1\u054d\145\0\1\u054e\132\0\1\u054f\100\0"
-			+ "\1\u0550\127\0\1\u0551\114\0\1\u0552\35\0\1\u0553\73\0"
-			+ "\1\u038b\130\0\1\u0554\123\0\1\u0555\72\0\5\u0127\5\0"
-			+ "\1\u0127\10\0\2\u0127\1\0\2\u0127\4\0\2\u0127\20\0"
-			+ "\1\u0127\1\0\1\u0127\3\0\1\u0127\12\0\1\u0127\17\0" + "\2\u0127\2\0\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\1\0\1\u0556" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\u0162\5\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\4\11\1\u0557\12\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\7\11\1\u0558" + "\7\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\17\11\2\0\1\10\2\11\1\u0559"
-			+ "\22\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u055a"
-			+ "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\11\1\u055b\4\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\14\11\1\u055c\2\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\2\11\1\u055d\3\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\1\u055e\1\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\1\11\1\u055f\15\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\4\11\1\u0560\20\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\5\11\1\u0561\11\11\2\0\1\10\25\11" + "\40\0\1\u0562\125\0\1\u0563\76\0\1\u0564\201\0\1\u0565"
-			+ "\40\0\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u0566"
-			+ "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\5\11\1\u0567\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\u0568\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\14\0\1\u0569\150\0"
-			+ "\1\u0569\66\0\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\3\11\1\u056a\13\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\14\11\1\u056b" + "\2\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\3\11\1\u056c\2\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u056d"
-			+ "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\2\11\1\u056e\3\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\4\11\1\u02fa" + "\1\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\11\1\u056f\4\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\u0570\5\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\1\11\1\u0571\15\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\6\11\1\u0572\10\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\1\u0573\5\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\6\11\1\u0574" + "\10\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\6\11\1\u0575\10\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u0576" + "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\4\11\1\u0577\12\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\u0578" + "\5\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\5\11\1\u0579\17\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\4\11\1\u057a\20\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\11" + "\1\u057b\15\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\6\11\1\u057c\10\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11"
-			+ "\1\u03d7\4\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u057d" + "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\u057e\5\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\u0167\5\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\5\11\1\u0142\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\2\11\1\u057f\3\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\u0580\5\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u0581"
-			+ "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\11\1\u0582\4\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\1\11\1\u0583" + "\4\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\4\11"
-			+ "\1\u0584\12\11\2\0\1\10\25\11\1\10\5\11\1\u0585" + "\1\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\1\u03e6\5\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\2\11\1\u0586\6\11\1\u0587\6\11\1\106"
-			+ "\4\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u0538"
-			+ "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\6\11\1\u0588\10\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\1\u0410\1\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\11\1\u0589\4\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\16\11\1\u058a\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\1\11\1\u058b"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\6\11\1\u058c\10\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\6\11\1\u027e\10\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\4\11\1\u058d\12\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\11\1\u058e\4\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\3\11\1\u058f\2\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\1\11\1\u0590\15\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\5\11\1\u023a\2\0\6\11\14\0\17\11" + "\2\0\1\10\11\11\1\u0591\13\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\4\11"
-			+ "\1\u02fd\20\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\u0592"
-			+ "\5\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\7\11\1\u0593\7\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\2\11\1\u0594\3\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\u0595\5\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\11\1\u0596\4\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\3\11\1\u0597" + "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\2\11\1\u0598\3\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\13\11\1\u0599\11\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\2\11\1\u059a\3\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\7\11\1\u059b\7\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\6\11\1\u059c\10\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\4\11\1\u059d\1\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\2\11" + "\1\u059e\3\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u059f"
-			+ "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\2\11\1\u05a0\14\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\1\11\1\u05a1\15\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\11\1\u05a2\4\11"
-			+ "\14\0\4\11\1\u05a3\12\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\u05a4\5\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\1\u05a5\16\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u05a6"
-			+ "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\4\11\1\u05a7\12\11\2\0\1\10" + "\25\11\35\0\1\u05a8\104\0\1\u05a9\111\0\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\1\11\1\u05aa\15\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\6\11\1\u05ab\10\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\16\11" + "\1\u0142\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\11\1\u05ac\4\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\u05ad\5\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\6\11\1\u05ae\10\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\2\11\1\u05af\14\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u05b0"
-			+ "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\3\11\1\u05b1\2\11\14\0\17\11\2\0\1\10" + "\25\11\73\0\1\u05b2\32\0\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\1\11\1\u05b3\15\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u05b4"
-			+ "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\u05b5\5\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11" + "\1\u05b6\4\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\1\11\1\u05b7\23\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\2\11\1\u05b8\3\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u0162" + "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\4\11\1\u05b9\1\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\2\11\1\u05ba\3\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\2\11\1\u05bb\3\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\u05bc\5\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u05bd"
-			+ "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\1\11\1\u05be\15\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\11\1\u05bf\4\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\3\11"
-			+ "\1\u05c0\13\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\u05c1\5\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\1\u05c2\5\11\2\0\6\11" + "\14\0\10\11\1\u05c3\6\11\2\0\1\10\4\11\1\u05c4"
-			+ "\20\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\15\11\1\u02fc\1\11\2\0\1\10\4\11\1\u02fd\20\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\2\11\1\u04fc\3\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\15\11\1\u02ef\1\11\2\0"
-			+ "\1\10\15\11\1\u0300\7\11\1\10\7\11\1\0\1\u05c5" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\2\11\1\u05c6\3\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\17\11\2\0\1\10\20\11\1\106"
-			+ "\4\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u05c7"
-			+ "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\1\u05c8\1\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11" + "\1\u05c9\4\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\11\11\1\u0304\13\11\41\0\1\u0429\121\0\1\u0429"
-			+ "\125\0\1\u05ca\131\0\1\u02ca\124\0\1\u05cb\152\0\1\u05cc"
-			+ "\100\0\1\u05cd\122\0\1\u05ce\163\0\1\u02ca\60\0\1\u04dd" + "\77\0\1\10\7\11\1\0\1\u05cf\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\3\11\1\u05d0\2\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\u05d1\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\11\1\u05d2\4\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\1\0\1\u05d3\6\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\15\11\1\u02fc\1\11\2\0"
-			+ "\1\10\17\11\1\u0301\5\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\1\u05d4\1\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\u05d5\5\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\1\u05d6\1\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\1\u05d7\1\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\10\11\1\u05d8" + "\2\11\1\u03ce\11\11\35\0\1\u05d9\104\0\1\u05da\176\0"
-			+ "\1\u05db\101\0\1\u05dc\64\0\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\11\1\u0543\4\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\1\u028f\16\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\11\1\u05dd\4\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\63\0\1\u05de\42\0\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\11\11" + "\1\u05df\13\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\4\11\1\u02fd\6\11\1\u02ff"
-			+ "\11\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\13\11\1\u05e0\3\11\2\0\1\10\25\11\1\10\5\11" + "\1\u05e1\1\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\1\0\1\u05e2\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\4\11\1\u05e3\1\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\6\11\1\u05e4\10\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10" + "\2\11\1\u0423\22\11\1\10\7\11\1\0\1\u05e5\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\5\11\1\u05e6\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11"
-			+ "\1\u05e7\2\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u03b2" + "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\17\11\2\0\1\10\1\u0269\24\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\4\11\1\u05e8\20\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\16\11\1\u0162\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u05e9" + "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\1\11\1\u0142\15\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\1\u05ea\1\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\11\11\1\u05eb" + "\5\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\17\11\2\0\1\10\1\u046a\24\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\1\11\1\303" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\1\u05ec\16\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\4\11\1\u05ed\1\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\1\11\1\u05ee\15\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\u05ef"
-			+ "\5\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\u05f0\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u05f1" + "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\1\11\1\u05f2\15\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\2\11\1\u05f3\3\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\2\11\1\u05f4\1\u05f5" + "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\4\11\1\u0162\12\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\1\11\1\u05f6\4\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\2\11\1\u05f7\3\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\1\11\1\u05f8\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\4\11\1\u0457"
-			+ "\1\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\2\11\1\u05f9\3\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\1\11\1\u05fa\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\2\11\1\u05fb\3\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\1\u05fc\1\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\3\11\1\u05fd\2\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\1\11\1\u05fe\15\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11"
-			+ "\1\u05ff\3\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\2\11\1\u0162" + "\14\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\2\11\1\u0600\3\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\14\11\1\u0601\2\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\u0602\5\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\4\11" + "\1\u0603\1\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\1\11\1\u0604\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\3\11\1\u0605\2\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\3\11\1\u0606\2\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\2\11\1\u0607\3\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11"
-			+ "\1\u0608\2\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\14\11\1\u0609\10\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\1\11\1\u060a\15\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\1\u060b\5\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\11\1\u060c\4\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\13\11\1\u060d\3\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\4\11\1\u060e"
-			+ "\12\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\3\11\1\u060f\2\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u0610" + "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\1\u0611\1\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11"
-			+ "\1\u03a8\2\11\14\0\17\11\2\0\1\10\25\11\40\0" + "\1\u0612\150\0\1\u0613\42\0\1\10\7\11\1\0\1\u0180"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\5\11\1\u0614\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\2\11\1\u0615\3\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\2\11\1\u0616\3\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u0617\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\4\11\1\u0618\20\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\11\1\u0619\4\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\4\11\1\u061a\12\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u061b"
-			+ "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\5\11\1\u061c\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\u061d\3\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\7\11\1\u061e"
-			+ "\7\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\11\1\u061f\4\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\11"
-			+ "\1\u0620\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\6\11\1\u0621\10\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\4\11"
-			+ "\1\u0622\1\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\7\11\1\u0623" + "\7\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\1\u0624\16\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\2\11\1\u0625\3\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\11\1\u035c\4\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\u0626\3\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\u0627\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\3\11\1\u0628\13\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u03c7" + "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\3\11\1\u0629\2\11\14\0\1\11\1\u062a\15\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\1\u0230\1\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\6\11\1\u062b" + "\10\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\3\11\1\u0344\2\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\4\11\1\u062c\20\11\1\10\5\11" + "\1\u062d\1\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\1\u0513\5\11\14\0\17\11\2\0\1\10\25\11\67\0"
-			+ "\1\u062e\53\0\1\u062f\147\0\1\u0630\123\0\1\u0631\127\0" + "\1\u0632\66\0\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\4\11" + "\1\u0633\1\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\u0410\5\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\3\11\1\u0634\13\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\5\11\1\u0635\14\0" + "\17\11\2\0\1\10\25\11\103\0\1\u0636\3\0\1\u0637"
-			+ "\16\0\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\4\11\1\u0262\12\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10" + "\11\11\1\u0638\13\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\2\11\1\u0639\14\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\3\11\1\u063a\2\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\37\0\1\u063b\160\0" + "\1\u063c\74\0\1\u063d\121\0\1\u063e\70\0\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\4\11\1\u063f\12\11"
-			+ "\2\0\1\10\25\11\60\0\1\u063d\45\0\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\2\11\1\u05f4\3\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\5\11\1\u0640\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\4\11\1\u0641\1\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\26\0\1\u0642\77\0\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\2\11\1\u0643\3\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\3\11\1\u01d0\13\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u0594" + "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\5\11\1\u04ef\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u0644"
-			+ "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\1\u0645\1\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u0646" + "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\2\11\1\u0647\14\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\1\u0648\1\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\1\11\1\u01d1\15\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\1\11\1\u0649\15\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\3\11" + "\1\u064a\13\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\6\11\1\u0544\10\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\1\u064b\1\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\5\11\1\u064c\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\4\11" + "\1\u064d\1\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\u0142\5\11\14\0\17\11"
-			+ "\2\0\1\10\3\11\1\u064e\21\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\u064f\5\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11";
-
-	private static final String ZZ_TRANS_PACKED_1 = "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\3\11\1\u0650\13\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\u0651\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u0652"
-			+ "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u0653\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\5\11\1\u0654\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\4\11\1\u0655\1\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\4\11\1\u0656\1\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\1\11\1\u0657" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\1\u0658\1\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\11\1\u0659\4\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\23\11"
-			+ "\1\u0355\1\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\2\11\1\u065a\14\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\2\11\1\u065b\22\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\6\11\1\u065c\10\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u065d"
-			+ "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\1\11\1\u065e\4\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\7\11\1\u065f\7\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\u0660\5\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\4\11\1\u0661\1\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\5\11\1\u0662" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u0663\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\3\11\1\u0664\13\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u0665" + "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\7\11\1\u0666\7\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\u05bb\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\2\11\1\u0667\3\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\u0538\5\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u0668\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\6\11\1\u0669\10\11\2\0\1\10\25\11\35\0" + "\1\u066a\130\0\1\u066b\65\0\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\u066c\5\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\5\11\1\u0623\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\2\11\1\u066d\14\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\2\11\1\u066e\14\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\13\11\1\u0162\11\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\7\11\1\u066f\7\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\u0670" + "\16\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\7\11\1\u0671\7\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\1\11\1\u0672\15\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\11\1\u0162\4\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\3\11\1\u04cf\2\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\11\1\u0673\4\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\4\11\1\u0674\1\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\1\u0675\24\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\2\11\1\352\14\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\2\11\1\u0676\3\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\11" + "\1\u0622\15\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\3\11\1\u0677\2\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11"
-			+ "\1\u0678\2\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\u0679\5\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\u067a\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\u067b\5\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\u032c\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\4\11\1\u067c\1\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\u067d" + "\5\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\3\11\1\u067e\2\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\60\0\1\u067f\104\0\1\u0680\127\0" + "\1\u0632\124\0\1\u02ca\146\0\1\u02ca\44\0\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\3\11\1\u0681\2\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\3\11\1\u04c2\13\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\6\11" + "\1\u0682\10\11\2\0\1\10\25\11\11\0\1\u0683\130\0"
-			+ "\1\u0684\111\0\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\1\11\1\u0685\15\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\2\11\1\u0686\3\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\4\11\1\u0687\1\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\72\0\1\u0688\44\0\1\u0689\175\0\1\u068a\103\0" + "\1\u068b\66\0\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\u068c\3\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\5\11\1\u068d\1\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\1\11\1\u068e\15\11\2\0\1\10" + "\25\11\65\0\1\u068f\40\0\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\4\11" + "\1\u0690\1\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\u0294\5\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\4\11" + "\1\u0691\20\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\u0692\3\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\2\11\1\u0693\3\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\7\11\1\u0694" + "\15\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u0695" + "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\2\11\1\u0696\3\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\2\11\1\u0697\14\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\5\11\1\u0698\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\4\11\1\u0699\1\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\u069a\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\1\u069b\16\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\1\0\1\u069c\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\3\11\1\u05c9\13\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\6\11\1\u069d\10\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\11\1\u069e\4\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\4\11\1\u069f\1\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\11"
-			+ "\1\u06a0\15\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\2\11\1\u06a1\3\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\6\11\1\u06a2\10\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\3\11\1\u06a3\2\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\1\0\1\u06a4\5\11\1\u06a5\14\0\15\11\1\u06a6\1\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\5\11\1\u023a" + "\2\0\6\11\14\0\17\11\2\0\1\10\4\11\1\u0618"
-			+ "\20\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\u06a7\5\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\1\11\1\u06a8\15\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\5\11\1\u06a9\17\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\1\11\1\u06aa"
-			+ "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\15\11\1\u02fc\1\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\4\11\1\u06ab\12\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\2\11\1\u06ac\3\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\5\11\1\u0162\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\4\11\1\u04cf" + "\12\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\2\11\1\u06ad\3\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\4\11\1\u06ae\12\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\3\11\1\u06af\2\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\5\11\1\u06b0\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\3\11\1\u06b1\2\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\u06b2\5\11\14\0\17\11\2\0\1\10\25\11" + "\37\0\1\u05b2\77\0\1\u06b3\114\0\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\2\11\1\u06b4\3\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\5\11\1\u06b5\1\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\5\11"
-			+ "\1\u06b6\2\0\6\11\14\0\17\11\2\0\1\10\13\11" + "\1\u06b7\11\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\1\u06b8\5\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\3\11\1\u06b9\2\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\6\11\1\u06ba\10\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\3\11\1\u06bb\2\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\u06bc\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\3\11\1\u06bd\2\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\1\11\1\u06be\15\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11" + "\1\u06bf\2\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\1\u04cf\1\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\7\11\1\u06c0\7\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\7\11" + "\1\u06c1\7\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\2\11"
-			+ "\1\u06c2\5\11\1\u06c3\14\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\u06c4\5\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\3\11\1\u0162\2\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\2\11\1\u06c5\14\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11"
-			+ "\1\u06c6\3\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\4\11\1\u06c7\1\11\14\0" + "\17\11\2\0\1\10\25\11\63\0\1\u0429\77\0\1\u0555"
-			+ "\70\0\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u06c8"
-			+ "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\1\11\1\u06c9\15\11" + "\2\0\1\10\25\11\27\0\1\u06ca\163\0\1\u06cb\40\0"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\2\11"
-			+ "\1\u06cc\14\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\5\11\1\u06cd\11\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\u0544\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\60\0\1\u04a9\105\0"
-			+ "\1\u06ce\124\0\1\u06cf\124\0\1\u06d0\67\0\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\1\11\1\u06d1\4\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\1\11\1\u06d2\15\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\5\11\1\u0513\14\0"
-			+ "\17\11\2\0\1\10\25\11\72\0\1\u06d3\33\0\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\4\11\1\u06d4\1\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\1\u06d5\1\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\1\11\1\u06d6\4\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\5\11\1\u0142\11\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\1\11\1\u06d7\15\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\7\11\1\u06d8"
-			+ "\7\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\1\11\1\u06d9\4\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\4\11\1\u06da" + "\1\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\4\11\1\u06db\1\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\2\11\1\u06dc\3\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\2\11\1\u06dd\3\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\1\11\1\u06de\15\11\2\0"
-			+ "\1\10\25\11\103\0\1\u06df\22\0\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\1\u0341" + "\24\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u06e0" + "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\11\11\1\u0410\5\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\15\11\1\u0300\7\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\13\11" + "\1\u06e1\3\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\13\11\1\u0341\3\11\2\0"
-			+ "\1\10\25\11\114\0\1\u06e2\11\0\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\1\0\1\u06e3\6\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\3\11\1\u06e4" + "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\3\11\1\u06e5\2\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\1\352\1\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\1\u06e6\16\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\u06e7\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\1\u0162\16\11\2\0"
-			+ "\1\10\25\11\1\10\5\11\1\u06e8\1\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\11\1\u06e9\4\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\3\11\1\u06ea\2\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\u06eb\5\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\5\11\1\352\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\2\11\1\u06ec\14\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\1\11\1\u06ed\15\11"
-			+ "\2\0\1\10\25\11\72\0\1\u06ee\33\0\1\10\7\11" + "\1\0\1\11\1\147\1\0\1\u06ef\1\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\4\11" + "\1\u06f0\1\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\1\u06f1\1\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\3\11\1\u06f2\13\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\6\11" + "\1\u06f3\10\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\u06f4\5\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u03ad" + "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\u06f5\5\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u06f6" + "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\14\11\1\u06f7\2\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\u06f8\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\2\11\1\u06ea\3\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\17\11\1\u0301\5\11"
-			+ "\1\10\5\11\1\u06f9\1\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\4\11\1\u06fa\1\u023a"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\u06fb\5\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\3\11\1\u06fc\2\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\2\11\1\u06fd\22\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\2\11\1\u06fe\3\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11" + "\1\u06ff\4\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\2\11\1\u0700\3\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\6\11\1\u0701\10\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u0162"
-			+ "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\42\0\1\u0702\146\0"
-			+ "\1\u0703\42\0\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\6\11\1\u0704\10\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\13\11\1\u03ce\11\11\72\0\1\u0705\71\0\1\u05b2"
-			+ "\154\0\1\u0706\40\0\1\10\7\11\1\0\1\u0707\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\1\u0708\1\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\25\11\67\0\1\u0709\36\0\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\3\11\1\u070a\2\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\6\11\1\u070b\10\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0" + "\1\10\15\11\1\u070c\7\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\1\11\1\u052a\15\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\3\11\1\u070d"
-			+ "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\u070e\5\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11" + "\1\u070f\3\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\6\11\1\u02e1"
-			+ "\10\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\4\11\1\u045c\12\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u0710"
-			+ "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\2\11\1\u0410\14\11\2\0"
-			+ "\1\10\25\11\65\0\1\u0711\40\0\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\7\11\1\u0712\7\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\u0713\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\15\0\1\u0714\212\0"
-			+ "\1\u0715\23\0\1\10\7\11\1\0\1\11\1\147\1\0" + "\1\u0716\1\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\u0717\5\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11" + "\1\u0718\4\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\1\u0719\1\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\4\11\1\u071a\1\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\u071b\5\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\4\11\1\u0538\1\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\5\11\1\u071c\1\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\4\11\1\u071d"
-			+ "\1\u023a\2\0\6\11\14\0\17\11\2\0\1\10\15\11" + "\1\u071e\1\11\1\u071f\5\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\17\11\2\0\1\10\2\11\1\u0522"
-			+ "\22\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u06ec"
-			+ "\4\11\14\0\17\11\2\0\1\10\25\11\57\0\1\u0720" + "\46\0\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u0721" + "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\3\11\1\u0722\2\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\4\11\1\u0723\12\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\2\11\1\u0724\3\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\1\u0725\1\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\5\11\1\u02dd\1\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\4\11\1\u071d"
-			+ "\1\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\1\11\1\u0726\15\11\1\u071f\5\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\4\11\1\u0538"
-			+ "\12\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\17\11\2\0\1\10\2\11\1\u0727" + "\22\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u06de"
-			+ "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\4\11\1\u03d9\1\11\14\0\1\11\1\u0728"
-			+ "\15\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\6\11\1\u0729\10\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\11\1\u072a" + "\4\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\4\11\1\u072b\1\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\1\u072c\5\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\1\11\1\u072d\4\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\3\11\1\u072e\2\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\1\u072f" + "\1\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\1\u035c\5\11\14\0\17\11\2\0\1\10" + "\25\11\37\0\1\u0730\146\0\1\u0731\45\0\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\1\11\1\u0732\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\37\0\1\u0733\102\0\1\u0734\111\0\1\10" + "\7\11\1\0\1\11\1\147\1\0\1\u0735\1\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\12\11\1\u0736\4\11\2\0\1\10\25\11"
-			+ "\37\0\1\u0737\66\0\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\13\11\1\u04fc\3\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\u0738\5\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\11\1\u0739\4\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\u073a\5\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\14\11\1\u073b\2\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\1\0\1\u073c" + "\6\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\u073d\5\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\66\0\1\u073e\37\0\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\2\11\1\u05c4\3\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11" + "\1\u073f\4\11\14\0\17\11\2\0\1\10\25\11\25\0"
-			+ "\1\u0740\41\0\1\u0741\15\0\1\u0742\10\0\1\u0743\36\0" + "\1\u0744\76\0\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\2\11\1\u0745\14\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\6\11\1\u0746"
-			+ "\10\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\2\11\1\u0747\3\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\2\11\1\u0662\14\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\3\11\1\u0748\2\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\6\11\1\u0749\10\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\11" + "\1\u074a\15\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\4\11\1\u074b\1\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\1\11"
-			+ "\1\u074c\4\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\6\11\1\u074d" + "\10\11\2\0\1\10\25\11\35\0\1\u074e\70\0\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\1\11\1\u0662\4\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\5\11\1\u074f\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\11" + "\1\u0750\15\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\11\1\u0751\4\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\16\11\1\u0410\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\1\11\1\u05a2\4\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\6\11\1\u0752\10\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\1\u0753\1\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\2\11\1\u0754\3\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u0755" + "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\6\11\1\u0756\10\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\1\11\1\u0757\4\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\1\0\1\u0758\6\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\1\u0759\5\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\2\11"
-			+ "\1\u075a\14\11\2\0\1\10\25\11\35\0\1\u05b2\151\0" + "\1\u075b\44\0\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11" + "\14\0\6\11\1\u075c\10\11\2\0\1\10\25\11\74\0"
-			+ "\1\u075d\123\0\1\u075e\33\0\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\2\11\1\u02e1\14\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u075f" + "\3\11\14\0\17\11\2\0\1\10\25\11\63\0\1\u0760"
-			+ "\42\0\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\6\11\1\u0761\10\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\1\11\1\u0762\15\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\4\11\1\u071d" + "\1\11\2\0\6\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\10\11\1\u05d8\14\11\6\0\1\u0763\117\0" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\6\11" + "\1\u0764\10\11\2\0\1\10\25\11\62\0\1\u0765\43\0"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\3\11\1\u0335\2\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\60\0\1\u0766\125\0" + "\1\u0767\61\0\1\u0730\147\0\1\u0768\131\0\1\u0769\63\0"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\1\11"
-			+ "\1\u0344\15\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\5\11\1\u076a\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\3\11\1\u076b" + "\2\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\5\11\1\u076c\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11"
-			+ "\1\u076d\3\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\1\u0442\1\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\2\11" + "\1\u076e\14\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\3\11\1\u076f\2\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\2\11"
-			+ "\1\u0770\3\11\14\0\17\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10"
-			+ "\1\11\4\0\6\11\2\0\6\11\14\0\2\11\1\u0771" + "\14\11\2\0\1\10\25\11\32\0\1\u0772\73\0\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\5\11\1\u0773\14\0\17\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\2\11\1\u0774\14\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\3\11\1\u0775\2\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\17\11\2\0\1\10\1\u0538"
-			+ "\24\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\5\11\1\u0776"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\4\11\1\u01d1\1\11\14\0\17\11\2\0" + "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\3\11" + "\1\u0777\2\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\2\11\1\u03c0"
-			+ "\14\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\2\11\1\u0778\3\11\14\0\17\11\2\0\1\10" + "\25\11\74\0\1\u0779\31\0\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\1\11\1\u077a\15\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\3\11\1\u0235"
-			+ "\2\11\14\0\17\11\2\0\1\10\25\11\37\0\1\u077b" + "\66\0\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\4\11\1\u0751\12\11\2\0\1\10\25\11\40\0\1\u077c"
-			+ "\177\0\1\u077d\13\0\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\1\11\1\u077e\4\11\14\0\17\11\2\0\1\10\25\11" + "\65\0\1\u077f\40\0\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\3\11\1\u0780\2\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\5\11"
-			+ "\1\247\11\11\2\0\1\10\25\11\60\0\1\u0781\45\0" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\3\11\1\u0782\2\11" + "\14\0\17\11\2\0\1\10\25\11\41\0\1\u0783\100\0"
-			+ "\1\u0784\122\0\1\u0785\201\0\1\u0786\75\0\1\u0787\70\0" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\u0788\5\11\14\0" + "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\2\11\1\u0789\14\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\5\11\1\u078a"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\5\11\1\u04a6\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u078b" + "\3\11\14\0\17\11\2\0\1\10\25\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\13\11\1\u0662\3\11"
-			+ "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\4\11\1\u078c\12\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\1\u06ab\5\11\14\0" + "\17\11\2\0\1\10\25\11\64\0\1\u078d\41\0\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\6\11\14\0\17\11\2\0"
-			+ "\1\10\10\11\1\u078e\14\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\2\0\6\11\14\0\6\11\1\u078f\10\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\1\u0635\5\11" + "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\u0790\5\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\7\11\1\u0791\7\11\2\0\1\10\25\11\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\3\11\1\u0792\2\11\14\0\17\11" + "\2\0\1\10\25\11\37\0\1\u0793\66\0\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\11\1\u0794\4\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\26\0\1\u0795\54\0\1\u0796\36\0" + "\1\u0797\171\0\1\u0798\45\0\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\5\11\1\u0799\14\0\17\11\2\0\1\10\25\11"
-			+ "\66\0\1\u079a\37\0\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\4\11\1\u079b\1\11\14\0\17\11\2\0\1\10\25\11" + "\14\0\1\u079c\111\0\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\4\11\1\u079d\1\11\14\0\17\11\2\0\1\10\25\11"
-			+ "\37\0\1\u079e\160\0\1\u05b2\62\0\1\u079f\164\0\1\u07a0" + "\75\0\1\u07a1\67\0\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\6\11\1\u07a2\10\11\2\0\1\10\25\11"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\1\u049b\5\11\2\0\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\5\11\1\u07a3\1\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10" + "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11"
-			+ "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0" + "\17\11\2\0\1\10\15\11\1\u07a4\7\11\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\6\11\14\0\6\11\1\u05d2\10\11"
-			+ "\2\0\1\10\25\11\63\0\1\u07a5\42\0\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\2\11\1\u07a6\3\11\14\0\17\11" + "\2\0\1\10\25\11\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\1\u07a7\1\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\17\11\2\0\1\10\25\11\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\2\11\1\0\1\10" + "\1\11\4\0\6\11\2\0\3\11\1\u07a8\2\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\1\10\7\11\1\0\1\11" + "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11"
-			+ "\1\0\1\u07a9\6\11\14\0\17\11\2\0\1\10\25\11" + "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\7\11" + "\1\u07aa\7\11\2\0\1\10\25\11\61\0\1\u07ab\44\0"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\1\0\1\u07ac\6\11\14\0"
-			+ "\17\11\2\0\1\10\25\11\41\0\1\u07ad\147\0\1\u07ae" + "\134\0\1\u066a\114\0\1\u066a\44\0\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\6\11\14\0\6\11\1\u07af\10\11\2\0"
-			+ "\1\10\25\11\40\0\1\u07b0\65\0\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\6\11\1\u07b1\10\11\2\0" + "\1\10\25\11\35\0\1\u07b2\70\0\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\1\u03e6\5\11\2\0\6\11\14\0\17\11\2\0\1\10"
-			+ "\25\11\32\0\1\u035e\52\0\1\u07b3\61\0\1\u066a\151\0" + "\1\u07b4\100\0\1\u07b5\65\0\1\10\7\11\1\0\1\11"
-			+ "\1\147\1\0\2\11\1\0\1\10\1\11\4\0\6\11" + "\2\0\6\11\14\0\4\11\1\u04fc\12\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\6\11\14\0"
-			+ "\1\u07b6\16\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\1\11\1\u07b7\15\11\2\0" + "\1\10\25\11\37\0\1\u07b8\66\0\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\1\11\1\u07b9\4\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\1\10\7\11\1\0\1\11\1\147\1\0" + "\2\11\1\0\1\10\1\11\4\0\6\11\2\0\6\11"
-			+ "\14\0\13\11\1\u0162\3\11\2\0\1\10\25\11\1\10" + "\7\11\1\0\1\11\1\147\1\0\1\u07ba\1\11\1\0"
-			+ "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11" + "\2\0\1\10\25\11\117\0\1\u07bb\6\0\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\1\0\1\u07bc\6\11\14\0\17\11\2\0"
-			+ "\1\10\25\11\65\0\1\u07bd\154\0\1\u07be\71\0\1\u07bf" + "\103\0\1\u07c0\67\0\1\10\7\11\1\0\1\11\1\147"
-			+ "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\1\11\1\u07c1\15\11\2\0\1\10\25\11"
-			+ "\41\0\1\u07c2\64\0\1\10\7\11\1\0\1\11\1\147" + "\1\0\2\11\1\0\1\10\1\11\4\0\6\11\2\0"
-			+ "\6\11\14\0\17\11\2\0\1\10\1\u07c3\24\11\36\0" + "\1\u07c4\155\0\1\u07c5\74\0\1\u07c6\153\0\1\u07c7\42\0"
-			+ "\1\10\7\11\1\0\1\11\1\147\1\0\2\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\3\11\1\u07c8\2\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\1\10\7\11\1\0" + "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0"
-			+ "\6\11\2\0\6\11\14\0\6\11\1\u0676\10\11\2\0" + "\1\10\25\11\62\0\1\u07c9\43\0\1\10\7\11\1\0"
-			+ "\1\11\1\147\1\0\2\11\1\0\1\10\1\11\4\0" + "\6\11\2\0\5\11\1\u03eb\14\0\17\11\2\0\1\10"
-			+ "\25\11\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\1\u04fc\5\11"
-			+ "\14\0\17\11\2\0\1\10\25\11\37\0\1\u07ca\204\0"
-			+ "\1\u07cb\45\0\1\u07cc\104\0\1\u07cd\173\0\1\u07ce\127\0" + "\1\u07cf\40\0\1\10\7\11\1\0\1\11\1\147\1\0"
-			+ "\1\u07d0\1\11\1\0\1\10\1\11\4\0\6\11\2\0" + "\6\11\14\0\17\11\2\0\1\10\25\11\25\0\1\u07d1"
-			+ "\100\0\1\10\7\11\1\0\1\11\1\147\1\0\2\11" + "\1\0\1\10\1\11\4\0\6\11\2\0\2\11\1\u07d2"
-			+ "\3\11\14\0\17\11\2\0\1\10\25\11\60\0\1\u07d3" + "\133\0\1\u07d4\124\0\1\u07d5\75\0\1\u07d6\70\0\1\10"
-			+ "\7\11\1\0\1\11\1\147\1\0\1\u02ee\1\11\1\0" + "\1\10\1\11\4\0\6\11\2\0\6\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\35\0\1\u07d7\125\0\1\u07d8\101\0"
-			+ "\1\u07ca\153\0\1\u07d9\113\0\1\u0740\41\0\1\u0741\15\0"
-			+ "\1\u0742\115\0\1\u05b2\112\0\1\u0730\43\0\1\10\7\11" + "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11"
-			+ "\4\0\6\11\2\0\6\11\14\0\17\11\2\0\1\10" + "\11\11\1\u03ff\13\11\40\0\1\u07da\65\0\1\10\7\11"
-			+ "\1\0\1\11\1\147\1\0\2\11\1\0\1\10\1\11" + "\4\0\6\11\2\0\1\11\1\u0410\4\11\14\0\17\11"
-			+ "\2\0\1\10\25\11\41\0\1\u05b2\75\0\1\u07db\205\0" + "\1\u066a\61\0\1\u07dc\41\0\1\u07dd\13\0\1\u07de\1\0"
-			+ "\1\u07df\105\0\1\u07e0\71\0\1\u07e1\157\0\1\u07e2\135\0"
-			+ "\1\u07e3\67\0\1\u07e4\150\0\1\u07e5\125\0\1\u07e6\127\0"
-			+ "\1\u07e7\57\0\1\u07e8\171\0\1\u07e9\132\0\1\u07ea\75\0"
-			+ "\1\u07eb\150\0\1\u07ec\105\0\1\u07ed\101\0\1\u07ee\122\0"
-			+ "\1\u07ef\155\0\1\u07f0\121\0\1\u07f1\104\0\1\u07f2\150\0"
-			+ "\1\u07f3\122\0\1\u07f4\102\0\1\u07f5\143\0\1\u07f6\170\0"
-			+ "\1\u07f1\62\0\1\u07f7\163\0\1\u07f8\143\0\1\u07de\132\0"
-			+ "\1\u07f9\56\0\1\u07fa\172\0\1\u07fb\54\0\1\u07fc\131\0"
-			+ "\1\u07fd\125\0\1\u07fe\121\0\1\u07ff\130\0\1\u0800\146\0"
-			+ "\1\u05b2\137\0\1\u0801\63\0\1\u0802\133\0\1\u029d\125\0"
-			+ "\1\u07f1\125\0\1\u0803\102\0\1\u0804\173\0\1\u066a\123\0"
-			+ "\1\u0805\103\0\1\u0806\150\0\1\u0807\102\0\1\u0808\127\0"
-			+ "\1\u0809\126\0\1\u068a\152\0\1\u05b2\74\0\1\u080a\150\0" + "\1\u06cf\45\0";
+	private static final int[] ZZ_TRANS = GroovyTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
@@ -2662,110 +133,6 @@ public class GroovyTokenMaker extends AbstractJFlexCTokenMaker {
 				t.getType() == TokenTypes.OPERATOR && ((ch = t.charAt(t.length() - 1)) == '=' || ch == '~');
 	}
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[2058];
-		int offset = 0;
-		offset = GroovyTokenMaker.zzUnpackAction(GroovyTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[2058];
-		int offset = 0;
-		offset = GroovyTokenMaker.zzUnpackAttribute(GroovyTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 200) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[2058];
-		int offset = 0;
-		offset = GroovyTokenMaker.zzUnpackRowMap(GroovyTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[172688];
-		int offset = 0;
-		offset = GroovyTokenMaker.zzUnpackTrans(GroovyTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		offset = GroovyTokenMaker.zzUnpackTrans(GroovyTokenMaker.ZZ_TRANS_PACKED_1, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/** zzAtEOF == true <=> the scanner is at the EOF */
 	private boolean zzAtEOF;
 
@@ -3069,7 +436,7 @@ public class GroovyTokenMaker extends AbstractJFlexCTokenMaker {
 			case 21: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 49:
 				break;
@@ -3097,7 +464,7 @@ public class GroovyTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 13: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_DOCUMENTATION);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 54:
 				break;
@@ -3114,7 +481,7 @@ public class GroovyTokenMaker extends AbstractJFlexCTokenMaker {
 			case 5: {
 				this.addToken(TokenTypes.ERROR_CHAR);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 57:
 				break;
@@ -3141,13 +508,13 @@ public class GroovyTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 37: {
 				boolean highlightedAsRegex = false;
-				if (this.zzBuffer[this.zzStartRead] == '~' || this.firstToken == null) {
+				if (this.zzBuffer[this.zzStartRead] == '~' || this.tokenStream.isEmpty()) {
 					this.addToken(TokenTypes.REGEX);
 					highlightedAsRegex = true;
 				} else {
 					// If this is *likely* to be a regex, based on
 					// the previous token, highlight it as such.
-					final Token t = this.firstToken.getLastNonCommentNonWhitespaceToken();
+					final Token t = this.getLastNonCommentNonWhitespaceToken();
 					if (GroovyTokenMaker.regexCanFollow(t)) {
 						this.addToken(TokenTypes.REGEX);
 						highlightedAsRegex = true;
@@ -3295,7 +662,7 @@ public class GroovyTokenMaker extends AbstractJFlexCTokenMaker {
 			case 14: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 85:
 				break;
@@ -3306,13 +673,13 @@ public class GroovyTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 7: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 87:
 				break;
 			case 12: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 88:
 				break;
@@ -3323,7 +690,7 @@ public class GroovyTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 18: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_CHAR);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 90:
 				break;
@@ -3357,7 +724,7 @@ public class GroovyTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 16: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 96:
 				break;
@@ -3368,44 +735,44 @@ public class GroovyTokenMaker extends AbstractJFlexCTokenMaker {
 					case EOL_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2059:
 						break;
 					case MULTILINE_STRING_DOUBLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2060:
 						break;
 					case DOCCOMMENT: {
 						this.yybegin(GroovyTokenMaker.YYINITIAL);
 						this.addToken(this.start, this.zzEndRead, TokenTypes.COMMENT_DOCUMENTATION);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2061:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2062:
 						break;
 					case MLC: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2063:
 						break;
 					case STRING_DOUBLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2064:
 						break;
 					case MULTILINE_STRING_SINGLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_CHAR);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2065:
 						break;
@@ -270,99 +270,26 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = JSPTokenMaker.zzUnpackAction();
-
-	/* user code: */
-
-	private static final String ZZ_ACTION_PACKED_0 = "\6\0\2\1\1\0\2\1\1\0\2\1\14\0\1\2"
-			+ "\5\0\2\2\1\3\1\4\1\5\1\6\1\1\1\7" + "\5\1\1\10\2\1\1\11\1\12\2\13\1\5\1\14"
-			+ "\1\15\1\16\1\17\1\20\1\21\1\22\1\23\2\21" + "\2\23\3\21\2\23\2\21\1\23\6\21\1\23\1\1"
-			+ "\1\24\1\25\1\1\1\13\1\26\1\27\1\17\1\30" + "\1\31\1\32\1\33\1\34\1\1\1\35\1\1\1\36"
-			+ "\1\37\2\14\1\2\1\14\1\40\1\41\1\14\2\2" + "\1\14\2\42\1\14\5\2\1\36\1\2\1\14\5\2"
-			+ "\1\43\1\14\1\44\10\2\1\1\1\45\1\46\1\47" + "\1\1\1\50\1\51\1\52\1\1\1\53\6\1\1\54"
-			+ "\4\1\1\55\2\1\1\56\7\1\1\36\1\57\1\14" + "\1\60\1\61\1\14\11\2\1\14\2\42\14\2\1\62"
-			+ "\21\2\1\1\1\63\1\1\2\2\1\64\1\65\1\66" + "\1\67\4\2\1\70\1\71\1\70\1\72\1\73\1\70"
-			+ "\1\74\1\70\1\75\1\70\1\76\1\77\1\100\2\77" + "\1\66\1\77\1\101\1\102\1\103\1\104\1\103\1\105"
-			+ "\2\2\1\103\1\42\1\2\1\103\1\106\1\107\1\110" + "\1\111\1\112\1\113\1\114\1\115\2\1\1\116\1\117"
-			+ "\1\120\1\121\1\1\1\122\1\1\1\123\1\4\2\124" + "\1\125\1\126\1\127\1\6\5\0\1\130\1\125\32\21"
-			+ "\2\23\2\21\1\23\44\21\1\131\1\132\2\0\1\125" + "\1\0\1\14\1\133\1\0\1\134\1\36\1\2\1\14"
-			+ "\1\135\1\42\2\135\2\136\1\135\1\137\2\135\43\2" + "\3\66\12\2\1\140\1\141\1\142\3\0\1\143\12\0"
-			+ "\1\144\2\0\1\145\16\0\1\60\1\146\1\60\1\61" + "\1\0\1\65\1\61\1\147\1\150\1\36\46\2\1\151"
-			+ "\1\135\1\42\2\135\1\136\1\135\1\137\3\135\45\2" + "\1\62\5\2\1\66\1\2\1\66\40\2\1\152\1\153"
-			+ "\3\2\1\0\1\154\1\155\15\0\1\156\1\0\1\42" + "\5\0\1\42\1\112\1\157\1\160\1\161\1\162\2\124"
-			+ "\1\125\1\0\1\163\1\0\1\164\4\0\1\125\14\21" + "\1\23\63\21\1\131\1\0\1\165\1\0\1\36\1\2"
-			+ "\1\136\1\0\1\42\3\137\30\2\1\166\16\2\1\74" + "\16\2\44\0\1\64\1\60\1\0\2\60\1\61\1\0"
-			+ "\1\65\3\61\1\167\1\36\3\2\1\170\65\2\1\136" + "\1\42\2\137\1\42\1\137\50\2\1\36\6\2\1\74"
-			+ "\33\2\1\170\21\2\25\0\2\124\1\171\1\172\2\0" + "\1\173\31\21\1\23\2\21\1\23\6\21\1\0\1\174"
-			+ "\1\36\1\2\1\135\1\2\1\175\11\2\1\74\1\176" + "\3\2\1\170\23\2\1\0\1\1\3\0\1\177\3\0"
-			+ "\1\200\1\201\11\0\1\202\11\0\1\203\5\0\3\60" + "\1\61\1\36\70\2\1\170\3\2\1\170\1\2\1\170"
-			+ "\5\2\2\135\7\2\1\175\11\2\1\170\3\2\1\74" + "\3\2\1\170\6\2\1\36\36\2\1\0\16\2\1\66"
-			+ "\23\0\2\124\2\0\12\21\1\23\11\21\1\0\1\36" + "\4\2\1\66\1\2\1\66\20\2\37\0\3\60\1\61"
-			+ "\1\36\3\2\1\170\14\2\1\170\47\2\1\170\24\2" + "\2\66\26\2\1\36\32\2\1\0\15\2\16\0\1\124"
-			+ "\1\204\12\21\1\0\1\36\1\2\1\205\16\2\24\0" + "\2\60\1\61\1\36\1\2\1\170\31\2\1\170\27\2"
-			+ "\1\170\2\2\1\170\24\2\1\205\2\2\1\170\21\2" + "\1\36\13\2\1\170\2\2\1\170\6\2\1\0\13\2"
-			+ "\12\0\1\206\3\21\1\0\10\2\4\0\1\202\6\0" + "\1\60\33\2\1\170\21\2\1\170\7\2\1\0\3\2"
-			+ "\1\0\22\2\1\0\15\2\1\36\27\2\1\0\13\2" + "\6\0\1\21\1\0\3\2\13\0\1\60\16\2\1\170"
-			+ "\50\2\2\0\2\2\4\0\16\2\2\0\25\2\1\170" + "\11\2\1\0\12\2\1\207\4\0\1\21\1\210\1\2"
-			+ "\1\211\1\212\5\0\14\2\1\0\10\2\1\170\34\2" + "\2\0\1\2\4\0\5\2\1\170\7\2\1\0\2\2"
-			+ "\1\170\11\2\1\170\20\2\1\170\11\2\10\0\16\2" + "\1\170\2\2\1\0\31\2\6\0\10\2\1\0\2\2"
-			+ "\1\0\35\2\3\0\1\62\2\0\10\2\1\170\4\2" + "\2\0\10\2\1\170\14\2\6\0\7\2\1\170\1\2"
-			+ "\1\0\1\170\4\2\1\170\17\2\1\170\2\2\1\170" + "\3\2\1\0\1\170\3\2\2\0\1\2\1\170\17\2"
-			+ "\5\0\6\2\1\0\1\2\1\0\3\2\1\170\3\2" + "\1\170\17\2\2\0\3\2\2\0\16\2\4\0\2\2"
-			+ "\1\170\3\2\2\0\25\2\2\0\2\2\2\0\1\170" + "\11\2\1\170\2\2\3\0\4\2\2\0\22\2\5\0"
-			+ "\1\2\3\0\10\2\1\0\1\2\3\0\4\2\2\0" + "\15\2\4\0\1\2\2\0\10\2\1\0\1\2\3\0"
-			+ "\3\2\2\0\7\2\6\0\5\2\1\0\1\170\3\0" + "\2\2\2\0\2\2\1\170\3\2\6\0\3\2\5\0"
-			+ "\2\2\2\0\2\2\1\0\1\170\2\2\5\0\2\2" + "\3\0\1\2\2\0\2\2\2\0\1\2\5\0\1\2"
-			+ "\3\0\1\2\2\0\1\2\11\0\1\2\2\0\1\2" + "\16\0\1\170\43\0";
+	private static final ScannerTables TABLES = ScannerTables.load(JSPTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = JSPTokenMaker.zzUnpackAttribute();
+	private static final int[] ZZ_ACTION = JSPTokenMaker.TABLES.action;
 
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\6\0\2\1\1\0\2\1\1\0\2\1\14\0\1\1"
-			+ "\5\0\2\1\1\11\4\1\1\11\5\1\1\11\2\1" + "\2\11\2\1\4\11\1\1\1\11\1\1\1\11\26\1"
-			+ "\1\11\2\1\2\11\1\1\5\11\1\1\1\11\2\1" + "\1\11\2\1\1\11\1\1\2\11\14\1\1\11\7\1"
-			+ "\1\11\1\1\1\11\11\1\2\11\2\1\2\11\2\1" + "\1\11\6\1\1\11\4\1\1\11\2\1\1\11\10\1"
-			+ "\1\11\57\1\1\11\5\1\2\11\4\1\2\11\1\1" + "\2\11\5\1\3\11\4\1\4\11\1\1\1\11\6\1"
-			+ "\4\11\1\1\3\11\2\1\1\11\2\1\1\11\1\1" + "\1\11\1\1\1\11\5\1\2\11\5\0\1\11\105\1"
-			+ "\1\11\2\0\1\1\1\0\1\1\1\11\1\0\76\1" + "\1\11\2\1\3\0\1\11\12\0\1\11\2\0\1\11"
-			+ "\16\0\1\1\1\11\2\1\1\0\1\11\52\1\1\11" + "\130\1\2\11\3\1\1\0\1\11\1\1\15\0\1\1"
-			+ "\1\0\1\11\5\0\1\1\4\11\3\1\1\11\1\0" + "\1\11\1\0\1\11\4\0\101\1\1\11\1\0\1\1"
-			+ "\1\0\3\1\1\0\72\1\44\0\1\11\1\1\1\0" + "\3\1\1\0\242\1\25\0\2\1\2\11\2\0\44\1"
-			+ "\1\0\1\11\47\1\1\0\1\11\3\0\1\1\3\0" + "\1\1\1\11\11\0\1\11\11\0\1\1\5\0\212\1"
-			+ "\1\0\17\1\23\0\2\1\2\0\24\1\1\0\30\1" + "\37\0\205\1\1\0\15\1\16\0\14\1\1\0\21\1"
-			+ "\24\0\172\1\1\0\13\1\12\0\4\1\1\0\10\1" + "\4\0\1\1\6\0\66\1\1\0\3\1\1\0\22\1"
-			+ "\1\0\45\1\1\0\13\1\6\0\1\1\1\0\3\1" + "\13\0\70\1\2\0\2\1\4\0\16\1\2\0\37\1"
-			+ "\1\0\12\1\1\11\4\0\1\1\1\11\1\1\2\11" + "\5\0\14\1\1\0\45\1\2\0\1\1\4\0\15\1"
-			+ "\1\0\35\1\1\11\11\1\10\0\21\1\1\0\31\1" + "\6\0\10\1\1\0\2\1\1\0\35\1\3\0\1\11"
-			+ "\2\0\15\1\2\0\25\1\6\0\11\1\1\0\34\1" + "\1\0\4\1\2\0\21\1\5\0\6\1\1\0\1\1"
-			+ "\1\0\27\1\2\0\3\1\2\0\16\1\4\0\6\1" + "\2\0\25\1\2\0\2\1\2\0\15\1\3\0\4\1"
-			+ "\2\0\22\1\5\0\1\1\3\0\10\1\1\0\1\1" + "\3\0\4\1\2\0\15\1\4\0\1\1\2\0\10\1"
-			+ "\1\0\1\1\3\0\3\1\2\0\7\1\6\0\5\1" + "\1\0\1\1\3\0\2\1\2\0\6\1\6\0\3\1"
-			+ "\5\0\2\1\2\0\2\1\1\0\3\1\5\0\2\1" + "\3\0\1\1\2\0\2\1\2\0\1\1\5\0\1\1"
-			+ "\3\0\1\1\2\0\1\1\11\0\1\1\2\0\1\1" + "\16\0\1\1\43\0";
+	/* user code: */
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = JSPTokenMaker.zzUnpackCMap(JSPTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = JSPTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\4\1\2\1\0\1\1\1\46\22\0\1\4\1\26\1\10"
-			+ "\1\47\1\50\1\25\1\5\1\11\1\116\1\114\1\51\1\56\1\65"
-			+ "\1\36\1\57\1\12\1\31\1\32\2\45\1\137\1\130\1\136\1\34"
-			+ "\2\30\1\70\1\6\1\3\1\7\1\21\1\67\1\74\1\33\1\52"
-			+ "\1\14\1\107\1\24\1\55\1\123\1\127\1\16\1\131\1\124\1\23"
-			+ "\1\121\1\120\1\117\1\17\1\125\1\15\1\13\1\20\1\122\1\126"
-			+ "\1\135\1\54\1\22\1\27\1\113\1\37\1\113\1\66\1\35\1\73"
-			+ "\1\61\1\53\1\77\1\101\1\60\1\44\1\103\1\100\1\102\1\134"
-			+ "\1\112\1\62\1\106\1\43\1\75\1\104\1\133\1\41\1\63\1\42"
-			+ "\1\40\1\111\1\110\1\105\1\76\1\132\1\115\1\72\1\64\1\71" + "\uff81\0";
+	private static final char[] ZZ_CMAP = JSPTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -375,3454 +302,12 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = JSPTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\140\0\300\0\u0120\0\u0180\0\u01e0\0\u0240\0\u02a0"
-			+ "\0\u0300\0\u0360\0\u03c0\0\u0420\0\u0480\0\u04e0\0\u0540\0\u05a0"
-			+ "\0\u0600\0\u0660\0\u06c0\0\u0720\0\u0780\0\u07e0\0\u0840\0\u08a0"
-			+ "\0\u0900\0\u0960\0\u09c0\0\u0a20\0\u0a80\0\u0ae0\0\u0b40\0\u0ba0"
-			+ "\0\u0c00\0\u0c60\0\u0cc0\0\u0d20\0\u0d80\0\u0de0\0\u0e40\0\u0cc0"
-			+ "\0\u0ea0\0\u0f00\0\u0f60\0\u0fc0\0\u1020\0\u0cc0\0\u1080\0\u10e0"
-			+ "\0\u0cc0\0\u0cc0\0\u1140\0\u11a0\0\u0cc0\0\u0cc0\0\u0cc0\0\u0cc0"
-			+ "\0\u1200\0\u0cc0\0\u1260\0\u0cc0\0\u12c0\0\u1320\0\u1380\0\u13e0"
-			+ "\0\u1440\0\u14a0\0\u1500\0\u1560\0\u15c0\0\u1620\0\u1680\0\u16e0"
-			+ "\0\u1740\0\u17a0\0\u1800\0\u1860\0\u18c0\0\u1920\0\u1980\0\u1260"
-			+ "\0\u19e0\0\u1a40\0\u0cc0\0\u1aa0\0\u1b00\0\u0cc0\0\u0cc0\0\u1b60"
-			+ "\0\u0cc0\0\u0cc0\0\u0cc0\0\u0cc0\0\u0cc0\0\u1bc0\0\u0cc0\0\u1c20"
-			+ "\0\u1c80\0\u0cc0\0\u1ce0\0\u1d40\0\u0cc0\0\u1da0\0\u0cc0\0\u0cc0"
-			+ "\0\u1e00\0\u1e60\0\u1ec0\0\u1f20\0\u1f80\0\u1fe0\0\u2040\0\u20a0"
-			+ "\0\u2100\0\u2160\0\u21c0\0\u2220\0\u0cc0\0\u2280\0\u22e0\0\u2340"
-			+ "\0\u23a0\0\u2400\0\u2460\0\u24c0\0\u0cc0\0\u2520\0\u0cc0\0\u2580"
-			+ "\0\u25e0\0\u2640\0\u26a0\0\u2700\0\u2760\0\u27c0\0\u2820\0\u2880"
-			+ "\0\u0cc0\0\u0cc0\0\u28e0\0\u2940\0\u0cc0\0\u0cc0\0\u28e0\0\u29a0"
-			+ "\0\u0cc0\0\u2a00\0\u2a60\0\u2ac0\0\u2b20\0\u2b80\0\u2be0\0\u0cc0"
-			+ "\0\u2c40\0\u2ca0\0\u2d00\0\u2d60\0\u0cc0\0\u2dc0\0\u2e20\0\u0cc0"
-			+ "\0\u2e80\0\u2ee0\0\u2f40\0\u2fa0\0\u3000\0\u3060\0\u30c0\0\u3120"
-			+ "\0\u0cc0\0\u3180\0\u31e0\0\u3240\0\u32a0\0\u3300\0\u3360\0\u33c0"
-			+ "\0\u3420\0\u3480\0\u34e0\0\u3540\0\u35a0\0\u3600\0\u3660\0\u36c0"
-			+ "\0\u3720\0\u3780\0\u37e0\0\u3840\0\u38a0\0\u3900\0\u3960\0\u39c0"
-			+ "\0\u3a20\0\u3a80\0\u3ae0\0\u3b40\0\u3ba0\0\u3c00\0\u3c60\0\u3cc0"
-			+ "\0\u3d20\0\u3d80\0\u3de0\0\u3e40\0\u3ea0\0\u3f00\0\u3f60\0\u3fc0"
-			+ "\0\u4020\0\u4080\0\u40e0\0\u4140\0\u41a0\0\u4200\0\u4260\0\u42c0"
-			+ "\0\u0cc0\0\u4320\0\u4380\0\u43e0\0\u4440\0\u44a0\0\u0cc0\0\u0cc0"
-			+ "\0\u4500\0\u4560\0\u45c0\0\u4620\0\u0cc0\0\u0cc0\0\u4680\0\u0cc0"
-			+ "\0\u0cc0\0\u46e0\0\u4740\0\u47a0\0\u4800\0\u4860\0\u0cc0\0\u0cc0"
-			+ "\0\u0cc0\0\u4680\0\u46e0\0\u48c0\0\u4920\0\u0cc0\0\u0cc0\0\u0cc0"
-			+ "\0\u0cc0\0\u4680\0\u0cc0\0\u4980\0\u49e0\0\u4a40\0\u4aa0\0\u4b00"
-			+ "\0\u4b60\0\u0cc0\0\u0cc0\0\u0cc0\0\u0cc0\0\u4bc0\0\u0cc0\0\u0cc0"
-			+ "\0\u0cc0\0\u4c20\0\u4c80\0\u0cc0\0\u28e0\0\u4ce0\0\u0cc0\0\u4d40"
-			+ "\0\u0cc0\0\u4da0\0\u0cc0\0\u4e00\0\u4e60\0\u4ec0\0\u4f20\0\u4f80"
-			+ "\0\u0cc0\0\u0cc0\0\u4fe0\0\u5040\0\u50a0\0\u5100\0\u5160\0\u0cc0"
-			+ "\0\u51c0\0\u5220\0\u5280\0\u52e0\0\u5340\0\u53a0\0\u5400\0\u5460"
-			+ "\0\u54c0\0\u5520\0\u5580\0\u55e0\0\u5640\0\u56a0\0\u5700\0\u5760"
-			+ "\0\u57c0\0\u5820\0\u5880\0\u58e0\0\u5940\0\u59a0\0\u5a00\0\u5a60"
-			+ "\0\u5ac0\0\u5b20\0\u5b80\0\u5be0\0\u5c40\0\u5ca0\0\u5d00\0\u5d60"
-			+ "\0\u5dc0\0\u5e20\0\u5e80\0\u5ee0\0\u5f40\0\u5fa0\0\u6000\0\u6060"
-			+ "\0\u60c0\0\u6120\0\u6180\0\u61e0\0\u6240\0\u62a0\0\u6300\0\u6360"
-			+ "\0\u63c0\0\u6420\0\u6480\0\u64e0\0\u6540\0\u65a0\0\u6600\0\u6660"
-			+ "\0\u66c0\0\u6720\0\u6780\0\u67e0\0\u6840\0\u68a0\0\u6900\0\u6960"
-			+ "\0\u69c0\0\u6a20\0\u6a80\0\u6ae0\0\u6b40\0\u0cc0\0\u1da0\0\u6ba0"
-			+ "\0\u6c00\0\u6c60\0\u6c60\0\u0cc0\0\u6cc0\0\u6d20\0\u6d80\0\u6de0"
-			+ "\0\u6e40\0\u6ea0\0\u6ea0\0\u6f00\0\u6f60\0\u6ea0\0\u6fc0\0\u7020"
-			+ "\0\u7080\0\u70e0\0\u7140\0\u71a0\0\u7200\0\u7260\0\u72c0\0\u7320"
-			+ "\0\u7380\0\u73e0\0\u7440\0\u74a0\0\u7500\0\u7560\0\u75c0\0\u7620"
-			+ "\0\u7680\0\u76e0\0\u7740\0\u77a0\0\u7800\0\u7860\0\u78c0\0\u7920"
-			+ "\0\u7980\0\u79e0\0\u7a40\0\u7aa0\0\u7b00\0\u7b60\0\u7bc0\0\u7c20"
-			+ "\0\u7c80\0\u7ce0\0\u7d40\0\u7da0\0\u7e00\0\u7e60\0\u7ec0\0\u7f20"
-			+ "\0\u1e60\0\u7f80\0\u7fe0\0\u8040\0\u80a0\0\u8100\0\u8160\0\u81c0"
-			+ "\0\u8220\0\u8280\0\u82e0\0\u0cc0\0\u8340\0\u83a0\0\u8400\0\u8460"
-			+ "\0\u84c0\0\u0cc0\0\u8520\0\u8580\0\u85e0\0\u8640\0\u86a0\0\u8700"
-			+ "\0\u8760\0\u87c0\0\u8820\0\u8880\0\u0cc0\0\u88e0\0\u8940\0\u0cc0"
-			+ "\0\u89a0\0\u8a00\0\u8a60\0\u8ac0\0\u8b20\0\u8b80\0\u8be0\0\u8c40"
-			+ "\0\u8ca0\0\u8d00\0\u8d60\0\u8dc0\0\u8e20\0\u8e80\0\u8ee0\0\u0cc0"
-			+ "\0\u8f40\0\u8fa0\0\u9000\0\u0cc0\0\u9060\0\u90c0\0\u9120\0\u9180"
-			+ "\0\u91e0\0\u9240\0\u92a0\0\u9300\0\u9360\0\u93c0\0\u9420\0\u9480"
-			+ "\0\u94e0\0\u9540\0\u95a0\0\u9600\0\u9660\0\u96c0\0\u9720\0\u9780"
-			+ "\0\u97e0\0\u9840\0\u98a0\0\u9900\0\u9960\0\u99c0\0\u9a20\0\u9a80"
-			+ "\0\u9ae0\0\u9b40\0\u9ba0\0\u9c00\0\u9c60\0\u9cc0\0\u9d20\0\u9d80"
-			+ "\0\u9de0\0\u9e40\0\u9ea0\0\u9f00\0\u9f60\0\u9fc0\0\u0cc0\0\ua020"
-			+ "\0\ua020\0\ua080\0\ua0e0\0\ua020\0\ua140\0\ua1a0\0\ua200\0\ua260"
-			+ "\0\ua2c0\0\ua320\0\ua380\0\ua3e0\0\ua440\0\ua4a0\0\ua500\0\ua560"
-			+ "\0\ua5c0\0\ua620\0\ua680\0\ua6e0\0\ua740\0\ua7a0\0\ua800\0\ua860"
-			+ "\0\ua8c0\0\ua920\0\ua980\0\ua9e0\0\uaa40\0\uaaa0\0\uab00\0\uab60"
-			+ "\0\uabc0\0\uac20\0\uac80\0\uace0\0\uad40\0\uada0\0\uae00\0\uae60"
-			+ "\0\uaec0\0\uaf20\0\uaf80\0\uafe0\0\ub040\0\ub0a0\0\ub100\0\ub160"
-			+ "\0\ub1c0\0\ub220\0\ub280\0\ub2e0\0\ub340\0\ub3a0\0\u3540\0\ub400"
-			+ "\0\ub460\0\ub4c0\0\ub520\0\ub580\0\ub5e0\0\ub640\0\ub6a0\0\ub700"
-			+ "\0\ub760\0\ub7c0\0\ub820\0\ub880\0\ub8e0\0\ub940\0\ub9a0\0\uba00"
-			+ "\0\uba60\0\ubac0\0\ubb20\0\ubb80\0\ubbe0\0\ubc40\0\ubca0\0\ubd00"
-			+ "\0\ubd60\0\ubdc0\0\ube20\0\ube80\0\ubee0\0\ubf40\0\ubfa0\0\u0cc0"
-			+ "\0\u0cc0\0\uc000\0\uc060\0\uc0c0\0\uc120\0\u0cc0\0\uc180\0\uc1e0"
-			+ "\0\uc240\0\uc2a0\0\uc300\0\uc360\0\uc3c0\0\uc420\0\uc480\0\uc4e0"
-			+ "\0\uc540\0\uc5a0\0\uc600\0\uc660\0\uc6c0\0\uc720\0\u0cc0\0\uc780"
-			+ "\0\uc7e0\0\uc840\0\uc8a0\0\uc900\0\u4b60\0\u0cc0\0\u0cc0\0\u0cc0"
-			+ "\0\u0cc0\0\u4e00\0\uc960\0\uc9c0\0\u0cc0\0\uca20\0\u0cc0\0\uca80"
-			+ "\0\u0cc0\0\ucae0\0\ucb40\0\ucba0\0\ucc00\0\u1140\0\ucc60\0\uccc0"
-			+ "\0\ucd20\0\ucd80\0\ucde0\0\uce40\0\ucea0\0\ucf00\0\ucf60\0\ucfc0"
-			+ "\0\ud020\0\ud080\0\ud0e0\0\ud140\0\ud1a0\0\ud200\0\ud260\0\ud2c0"
-			+ "\0\ud320\0\ud380\0\ud3e0\0\ud440\0\ud4a0\0\ud500\0\ud560\0\ud5c0"
-			+ "\0\ud620\0\ud680\0\ud6e0\0\ud740\0\ud7a0\0\ud800\0\ud860\0\ud8c0"
-			+ "\0\ud920\0\ud980\0\ud9e0\0\uda40\0\udaa0\0\udb00\0\udb60\0\udbc0"
-			+ "\0\udc20\0\udc80\0\udce0\0\u5c40\0\udd40\0\udda0\0\ude00\0\ude60"
-			+ "\0\udec0\0\udf20\0\udf80\0\u1620\0\udfe0\0\ue040\0\ue0a0\0\ue100"
-			+ "\0\ue160\0\ue1c0\0\ue220\0\ue280\0\ue2e0\0\ue340\0\u0cc0\0\ue3a0"
-			+ "\0\ue400\0\ue460\0\ue4c0\0\ue520\0\ue580\0\ue5e0\0\ue640\0\u6ea0"
-			+ "\0\ue6a0\0\ue700\0\ue760\0\ue7c0\0\ue820\0\ue880\0\ue8e0\0\ue940"
-			+ "\0\ue9a0\0\uea00\0\uea60\0\ueac0\0\ueb20\0\ueb80\0\uebe0\0\uec40"
-			+ "\0\ueca0\0\ued00\0\ued60\0\uedc0\0\uee20\0\uee80\0\ueee0\0\uef40"
-			+ "\0\uefa0\0\uf000\0\u1e60\0\uf060\0\uf0c0\0\uf120\0\uf180\0\uf1e0"
-			+ "\0\uf240\0\uf2a0\0\uf300\0\uf360\0\uf3c0\0\uf420\0\uf480\0\uf4e0"
-			+ "\0\uf540\0\uf5a0\0\uf600\0\uf660\0\uf6c0\0\uf720\0\uf780\0\uf7e0"
-			+ "\0\uf840\0\uf8a0\0\uf900\0\uf960\0\uf9c0\0\ufa20\0\ufa80\0\ufae0"
-			+ "\0\ufb40\0\ufba0\0\ufc00\0\ufc60\0\ufcc0\0\ufd20\0\ufd80\0\ufde0"
-			+ "\0\ufe40\0\ufea0\0\uff00\0\uff60\0\uffc0\1\40\1\200\1\340"
-			+ "\1\u0140\1\u01a0\1\u0200\1\u0260\1\u02c0\1\u0320\1\u0380\1\u03e0"
-			+ "\1\u0440\1\u04a0\1\u0500\1\u0560\1\u05c0\1\u0620\1\u0680\1\u06e0"
-			+ "\1\u0740\1\u07a0\1\u0800\1\u0860\0\u0cc0\1\u08c0\1\u0920\1\u0980"
-			+ "\1\u09e0\1\u0a40\1\u0aa0\1\u0b00\1\u0b60\1\u0bc0\1\u0c20\0\ue460"
-			+ "\1\u0c80\1\u0ce0\1\u0d40\1\u0da0\0\u3540\1\u0e00\1\u0e60\1\u0ec0"
-			+ "\1\u0f20\1\u0f80\1\u0fe0\1\u1040\1\u10a0\1\u1100\1\u1160\1\u11c0"
-			+ "\1\u1220\1\u1280\1\u12e0\1\u1340\1\u13a0\1\u1400\1\u1460\1\u14c0"
-			+ "\1\u1520\1\u1580\1\u15e0\1\u1640\1\u16a0\1\u1700\1\u1760\1\u17c0"
-			+ "\1\u1820\1\u1880\1\u18e0\1\u1940\1\u19a0\1\u1a00\1\u1a60\1\u1ac0"
-			+ "\1\u1b20\1\u1b80\1\u1be0\1\u1c40\1\u1ca0\1\u1d00\1\u1d60\1\u1dc0"
-			+ "\1\u1e20\1\u1e80\1\u1ee0\1\u1f40\1\u1fa0\1\u2000\1\u2060\1\u20c0"
-			+ "\1\u2120\1\u2180\1\u21e0\1\u2240\0\ua020\1\u22a0\1\u2300\1\u2360"
-			+ "\1\u23c0\1\u2420\1\u2480\1\u24e0\1\u2540\1\u25a0\1\u2600\1\u2660"
-			+ "\1\u26c0\1\u2720\1\u2780\1\u27e0\1\u2840\1\u28a0\1\u2900\1\u2960"
-			+ "\1\u29c0\1\u2a20\1\u2a80\1\u2ae0\1\u2b40\1\u2ba0\1\u2c00\1\u2c60"
-			+ "\1\u2cc0\1\u2d20\1\u2d80\1\u2de0\1\u2e40\1\u2ea0\1\u2f00\1\u2f60"
-			+ "\1\u2fc0\1\u3020\1\u3080\1\u30e0\1\u3140\1\u31a0\1\u3200\1\u3260"
-			+ "\1\u32c0\1\u3320\1\u3380\1\u33e0\1\u3440\1\u34a0\1\u3500\1\u3560"
-			+ "\1\u35c0\1\u3620\1\u3680\1\u36e0\1\u3740\1\u37a0\1\u3800\1\u3860"
-			+ "\1\u38c0\1\u3920\1\u3980\1\u39e0\1\u3a40\1\u3aa0\1\u3b00\1\u3b60"
-			+ "\1\u3bc0\1\u3c20\1\u3c80\1\u3ce0\1\u3d40\1\u3da0\1\u3e00\1\u3e60"
-			+ "\1\u3ec0\1\u3f20\1\u3f80\1\u3fe0\1\u4040\1\u40a0\1\u4100\1\u4160"
-			+ "\1\u41c0\1\u4220\1\u4280\1\u42e0\1\u4340\1\u43a0\1\u4400\1\u4460"
-			+ "\1\u44c0\1\u4520\1\u4580\1\u45e0\1\u4640\1\u46a0\1\u4700\1\u4760"
-			+ "\1\u47c0\1\u4820\1\u4880\1\u48e0\1\u4940\1\u49a0\1\u4a00\1\u4a60"
-			+ "\1\u4ac0\1\u4b20\1\u4b80\1\u4be0\1\u4c40\1\u4ca0\1\u4d00\1\u4d60"
-			+ "\1\u4dc0\1\u4e20\1\u4e80\1\u4ee0\0\u0cc0\0\u0cc0\1\u4f40\1\u4fa0"
-			+ "\1\u5000\1\u5060\1\u50c0\1\u5120\1\u5180\1\u51e0\1\u5240\1\u52a0"
-			+ "\1\u5300\1\u5360\1\u53c0\1\u5420\1\u5480\1\u54e0\1\u5540\1\u55a0"
-			+ "\1\u5600\1\u5660\1\u56c0\1\u5720\0\u5d60\1\u5780\1\u57e0\1\u5840"
-			+ "\1\u58a0\1\u5900\1\u5960\1\u59c0\1\u5a20\0\ud620\1\u5a80\1\u5ae0"
-			+ "\1\u5b40\1\u5ba0\1\u5c00\1\u5c60\1\u5cc0\0\u0cc0\1\u5d20\1\u5d80"
-			+ "\1\u5de0\1\u5e40\0\u1e60\1\u5ea0\1\u5f00\1\u5f60\1\u5fc0\1\u6020"
-			+ "\1\u6080\1\u60e0\1\u6140\1\u61a0\0\u1e60\0\u1e60\1\u6200\1\u6260"
-			+ "\1\u62c0\0\u1e60\1\u6320\1\u6380\1\u63e0\1\u6440\1\u64a0\1\u6500"
-			+ "\1\u6560\1\u65c0\1\u6620\1\u6680\1\u66e0\1\u6740\1\u67a0\1\u6800"
-			+ "\1\u6860\1\u68c0\1\u6920\1\u6980\1\u69e0\0\u83a0\0\u0cc0\1\u6a40"
-			+ "\1\u6aa0\1\u6b00\1\u6b60\1\u6bc0\1\u6c20\1\u6c80\1\u6ce0\0\u0cc0"
-			+ "\1\u6d40\1\u6da0\1\u6e00\1\u6e60\1\u6ec0\1\u6f20\1\u6f80\1\u6fe0"
-			+ "\1\u7040\0\u0cc0\1\u70a0\1\u7100\1\u7160\1\u71c0\1\u7220\1\u7280"
-			+ "\1\u72e0\1\u7340\1\u73a0\1\u7400\1\u7460\1\u74c0\1\u7520\1\u7580"
-			+ "\1\u75e0\1\u7640\1\u76a0\1\u7700\1\u7760\1\u77c0\1\u7820\1\u7880"
-			+ "\1\u78e0\1\u7940\1\u79a0\1\u7a00\1\u7a60\1\u7ac0\1\u7b20\1\u7b80"
-			+ "\1\u7be0\1\u7c40\1\u7ca0\1\u7d00\1\u7d60\1\u7dc0\1\u7e20\1\u7e80"
-			+ "\1\u7ee0\1\u7f40\1\u7fa0\1\u8000\1\u8060\1\u80c0\1\u8120\1\u8180"
-			+ "\1\u81e0\1\u8240\1\u82a0\1\u8300\1\u8360\1\u83c0\1\u8420\1\u8480"
-			+ "\1\u84e0\1\u8540\1\u85a0\1\u8600\1\u8660\1\u86c0\1\u8720\1\u8780"
-			+ "\1\u87e0\1\u8840\1\u88a0\1\u8900\1\u8960\1\u89c0\1\u8a20\1\u8a80"
-			+ "\1\u8ae0\1\u8b40\1\u8ba0\1\u8c00\1\u8c60\1\u8cc0\1\u8d20\1\u8d80"
-			+ "\1\u8de0\1\u8e40\1\u8ea0\1\u8f00\1\u8f60\1\u8fc0\1\u9020\1\u9080"
-			+ "\1\u90e0\1\u9140\1\u2300\1\u91a0\1\u9200\1\u9260\1\u92c0\1\u9320"
-			+ "\1\u9380\1\u93e0\1\u9440\0\u3540\1\u94a0\1\u9500\1\u9560\1\u95c0"
-			+ "\1\u9620\1\u9680\1\u96e0\1\u9740\1\u97a0\1\u9800\1\u9860\1\u98c0"
-			+ "\1\u9920\0\u3540\1\u9980\1\u99e0\1\u9a40\1\u9aa0\1\u9b00\1\u9b60"
-			+ "\1\u9bc0\1\u9c20\1\u9c80\1\u9ce0\1\u9d40\1\u9da0\1\u9e00\1\u9e60"
-			+ "\1\u9ec0\1\u9f20\1\u9f80\1\u9fe0\1\ua040\1\ua0a0\1\ua100\1\ua160"
-			+ "\1\ua1c0\1\ua220\1\ua280\1\ua2e0\1\ua340\1\ua3a0\1\ua400\1\ua460"
-			+ "\1\ua4c0\1\ua520\1\ua580\1\ua5e0\1\ua640\1\ua6a0\1\ua700\1\ua760"
-			+ "\1\ua7c0\1\ua820\1\ua880\1\ua8e0\1\ua940\1\ua9a0\1\uaa00\1\uaa60"
-			+ "\1\uaac0\1\uab20\1\uab80\1\uabe0\1\uac40\1\uaca0\1\uad00\1\uad60"
-			+ "\1\uadc0\1\uae20\0\u4380\1\uae80\1\uaee0\1\uaf40\1\uafa0\1\ub000"
-			+ "\1\ub060\1\ub0c0\1\ub120\1\ub180\1\ub1e0\1\ub240\1\ub2a0\1\ub300"
-			+ "\1\ub360\1\ub3c0\1\ub420\1\ub480\1\ub4e0\1\ub540\1\ub5a0\1\ub600"
-			+ "\1\ub660\1\u5000\1\ub6c0\1\ub720\1\ub780\1\ub7e0\1\ub840\1\ub8a0"
-			+ "\1\ub900\1\ub960\1\ub9c0\1\uba20\1\uba80\1\uba80\1\ubae0\1\ubb40"
-			+ "\1\ubba0\1\ubc00\1\ubc60\1\ubcc0\1\ubd20\1\ubd80\1\ubde0\1\ube40"
-			+ "\1\ubea0\1\ubf00\1\ubf60\1\ubfc0\0\ue9a0\1\uc020\1\uc080\1\uc0e0"
-			+ "\1\uc140\1\uc1a0\1\uc200\1\uc260\1\uc2c0\1\uc320\1\uc380\1\uc3e0"
-			+ "\1\uc440\1\uc4a0\1\uc500\1\uc560\1\uc5c0\1\uc620\1\uc680\1\uc6e0"
-			+ "\1\uc740\1\u6b60\1\uc7a0\1\uc800\1\u6ce0\1\uc860\1\uc8c0\1\uc920"
-			+ "\1\uc980\1\uc9e0\1\uca40\1\ucaa0\1\ucb00\1\ucb60\1\ucbc0\1\ucc20"
-			+ "\1\ucc80\1\ucce0\1\ucd40\1\ucda0\1\uce00\1\uce60\1\ucec0\1\u7400"
-			+ "\1\ucf20\1\ucf80\1\ucfe0\1\ud040\1\ud0a0\1\ud100\1\ud160\1\ud1c0"
-			+ "\1\ud220\1\ud280\1\ud2e0\1\ud340\1\ud3a0\1\ud400\1\ud460\1\ud4c0"
-			+ "\1\ud520\1\ud580\1\ud5e0\1\ud640\1\ud6a0\1\ud700\1\ud760\1\ud7c0"
-			+ "\1\ud820\1\ud880\1\ud8e0\1\ud940\1\ud9a0\1\uda00\1\uda60\1\udac0"
-			+ "\1\udb20\1\udb80\1\udbe0\1\udc40\1\udca0\1\udd00\1\udd60\1\uddc0"
-			+ "\1\ude20\1\ude80\1\udee0\1\udf40\1\udfa0\1\ue000\1\ue060\1\ue0c0"
-			+ "\1\ue120\1\ue180\1\ue1e0\1\ue240\1\ue2a0\1\ue300\1\ue360\1\ue3c0"
-			+ "\1\ue420\1\ue480\1\ue4e0\1\ue540\1\ue5a0\1\ue600\1\ue660\1\ue6c0"
-			+ "\1\ue720\1\ue780\1\ue7e0\1\ue840\1\ue8a0\1\ue900\1\ue960\1\ue9c0"
-			+ "\1\uea20\1\uea80\1\ueae0\1\ueb40\1\ueba0\1\uec00\1\uec60\1\uecc0"
-			+ "\1\ued20\1\ued80\1\uede0\1\uee40\1\ueea0\1\uef00\1\uef60\1\uefc0"
-			+ "\1\u2780\1\uf020\1\uf080\1\uf0e0\1\uf140\1\uf1a0\1\uf200\1\uf260"
-			+ "\1\uf2c0\1\uf320\1\uf380\1\uf3e0\1\uf440\1\uf4a0\1\uf500\1\uf560"
-			+ "\1\uf5c0\1\uf620\1\uf680\1\uf6e0\1\uf740\1\uf7a0\1\uf800\1\uf860"
-			+ "\1\uf8c0\1\uf920\1\uf980\1\uf9e0\1\ufa40\1\ufaa0\1\ufb00\1\ufb60"
-			+ "\1\ufbc0\1\ufc20\1\ufc80\1\ufce0\1\ufd40\1\ufda0\1\ufe00\1\ufe60"
-			+ "\1\ufec0\1\uff20\1\uff80\1\uffe0\2\100\2\240\2\u0100\2\u0160"
-			+ "\2\u01c0\2\u0220\2\u0280\2\u02e0\2\u0340\2\u03a0\2\u0400\2\u0460"
-			+ "\2\u04c0\2\u0520\2\u0580\2\u05e0\2\u0640\2\u06a0\2\u0700\2\u0760"
-			+ "\2\u07c0\2\u0820\2\u0880\2\u08e0\2\u0940\2\u09a0\2\u0a00\2\u0a60"
-			+ "\2\u0ac0\2\u0b20\2\u0b80\2\u0be0\2\u0c40\2\u0ca0\2\u0d00\2\u0d60"
-			+ "\0\u4ec0\2\u0dc0\2\u0e20\2\u0e80\2\u0ee0\2\u0f40\2\u0fa0\2\u1000"
-			+ "\2\u1060\2\u10c0\2\u1120\2\u1180\2\u11e0\2\u1240\0\u1e60\2\u12a0"
-			+ "\2\u1300\2\u1360\2\u13c0\2\u1420\2\u1480\2\u14e0\2\u1540\2\u15a0"
-			+ "\2\u1600\2\u1660\2\u16c0\2\u1720\2\u1780\2\u17e0\2\u1840\2\u18a0"
-			+ "\2\u1900\2\u1960\2\u19c0\2\u1a20\2\u1a80\2\u1ae0\2\u1b40\2\u1ba0"
-			+ "\2\u1c00\2\u1c60\2\u1cc0\2\u1d20\2\u1d80\2\u1de0\2\u1e40\2\u1ea0"
-			+ "\2\u1f00\2\u1f60\2\u1fc0\2\u2020\2\u2080\2\u20e0\2\u2140\2\u21a0"
-			+ "\2\u2200\2\u2260\2\u22c0\2\u2320\2\u2380\2\u23e0\2\u2440\2\u24a0"
-			+ "\2\u2500\2\u2560\2\u25c0\2\u2620\2\u2680\2\u26e0\2\u2740\2\u27a0"
-			+ "\2\u2800\2\u2860\2\u28c0\2\u2920\2\u2980\2\u29e0\2\u2a40\2\u2aa0"
-			+ "\2\u2b00\2\u2b60\2\u2bc0\2\u2c20\2\u2c80\2\u2ce0\2\u2d40\2\u2da0"
-			+ "\2\u2e00\2\u2e60\2\u2ec0\2\u2f20\2\u2f80\2\u2fe0\2\u3040\2\u30a0"
-			+ "\2\u3100\2\u3160\2\u31c0\2\u3220\2\u3280\2\u32e0\2\u3340\2\u33a0"
-			+ "\2\u3400\2\u3460\2\u34c0\2\u3520\2\u3580\2\u35e0\2\u3640\2\u36a0"
-			+ "\2\u3700\2\u3760\2\u37c0\2\u3820\2\u3880\2\u38e0\2\u3940\2\u39a0"
-			+ "\2\u3a00\2\u3a60\2\u3ac0\2\u3b20\2\u3b80\2\u3be0\2\u3c40\2\u3ca0"
-			+ "\0\u3540\2\u3d00\2\u3d60\2\u3dc0\2\u3e20\2\u3e80\2\u3ee0\2\u3f40"
-			+ "\2\u3fa0\2\u4000\2\u4060\2\u40c0\2\u4120\2\u4180\2\u41e0\2\u4240"
-			+ "\2\u42a0\2\u4300\2\u4360\2\u43c0\2\u4420\2\u4480\2\u44e0\2\u4540"
-			+ "\2\u45a0\2\u4600\2\u4660\2\u46c0\2\u4720\2\u4780\2\u47e0\2\u4840"
-			+ "\2\u48a0\2\u4900\2\u4960\2\u49c0\2\u4a20\2\u4a80\2\u4ae0\2\u4b40"
-			+ "\2\u4ba0\2\u4c00\2\u4c60\2\u4cc0\2\u4d20\2\u4d80\2\u4de0\2\u4e40"
-			+ "\2\u4ea0\2\u4f00\2\u4f60\2\u4fc0\2\u5020\2\u5080\2\u50e0\2\u5140"
-			+ "\2\u51a0\2\u5200\2\u5260\2\u52c0\2\u5320\2\u5380\2\u53e0\2\u5440"
-			+ "\2\u54a0\0\u4ec0\2\u5500\2\u5560\2\u55c0\2\u5620\2\u5680\2\u56e0"
-			+ "\2\u5740\2\u57a0\2\u5800\2\u5860\2\u58c0\2\u5920\2\u5980\2\u59e0"
-			+ "\2\u5a40\2\u5aa0\2\u5b00\2\u5b60\2\u5bc0\2\u5c20\2\u5c80\2\u5ce0"
-			+ "\2\u5d40\2\u5da0\2\u5e00\2\u5e60\2\u5ec0\2\u5f20\2\u5f80\2\u5fe0"
-			+ "\2\u6040\2\u60a0\2\u6100\2\u6160\2\u61c0\2\u6220\2\u6280\2\u62e0"
-			+ "\2\u6340\2\u63a0\2\u6400\2\u6460\2\u64c0\2\u6520\2\u6580\2\u65e0"
-			+ "\2\u6640\2\u66a0\2\u6700\2\u6760\2\u67c0\2\u6820\2\u6880\2\u68e0"
-			+ "\2\u6940\2\u69a0\2\u6a00\2\u6a60\2\u6ac0\2\u6b20\2\u6b80\2\u6be0"
-			+ "\2\u6c40\2\u6ca0\2\u6d00\2\u6d60\2\u6dc0\2\u6e20\2\u6e80\2\u6ee0"
-			+ "\2\u6f40\2\u6fa0\2\u7000\2\u7060\2\u70c0\2\u7120\2\u7180\2\u71e0"
-			+ "\2\u7240\2\u72a0\2\u7300\2\u7360\2\u73c0\2\u7420\2\u7480\2\u74e0"
-			+ "\2\u7540\2\u75a0\2\u7600\2\u7660\2\u76c0\2\u7720\2\u7780\2\u77e0"
-			+ "\2\u7840\2\u78a0\2\u7900\2\u7960\2\u79c0\2\u7a20\2\u7a80\2\u7ae0"
-			+ "\2\u7b40\2\u7ba0\2\u7c00\2\u7c60\2\u7cc0\2\u7d20\2\u7d80\2\u7de0"
-			+ "\2\u7e40\2\u7ea0\2\u7f00\2\u7f60\2\u7fc0\2\u8020\2\u8080\2\u80e0"
-			+ "\2\u8140\2\u81a0\2\u8200\2\u8260\2\u82c0\2\u8320\2\u8380\2\u83e0"
-			+ "\2\u8440\2\u84a0\2\u8500\2\u8560\2\u85c0\2\u8620\2\u8680\2\u86e0"
-			+ "\2\u8740\2\u87a0\2\u8800\2\u8860\2\u88c0\2\u8920\2\u4a20\2\u8980"
-			+ "\2\u89e0\2\u8a40\2\u8aa0\2\u8b00\2\u8b60\2\u8bc0\2\u8c20\2\u8c80"
-			+ "\2\u8ce0\2\u8d40\2\u8da0\2\u8e00\2\u8e60\2\u8ec0\2\u8f20\2\u8f80"
-			+ "\2\u8fe0\2\u9040\2\u90a0\2\u9100\2\u9160\2\u91c0\2\u9220\2\u9280"
-			+ "\2\u92e0\2\u9340\2\u93a0\2\u9400\2\u9460\2\u94c0\2\u9520\2\u9580"
-			+ "\2\u95e0\2\u9640\2\u96a0\2\u9700\2\u9760\2\u97c0\2\u9820\2\u9880"
-			+ "\2\u98e0\2\u9940\2\u99a0\2\u9a00\2\u9a60\2\u9ac0\2\u9b20\2\u9b80"
-			+ "\2\u9be0\2\u9c40\2\u9ca0\2\u9d00\2\u9d60\2\u9dc0\2\u9e20\2\u9e80"
-			+ "\2\u9ee0\2\u9f40\2\u9fa0\2\ua000\2\ua060\2\ua0c0\2\ua120\2\ua180"
-			+ "\2\ua1e0\2\ua240\2\ua2a0\2\ua300\2\ua360\2\ua3c0\2\ua420\2\ua480"
-			+ "\2\ua4e0\2\ua540\2\ua5a0\2\ua600\2\ua660\2\ua6c0\2\ua720\2\ua780"
-			+ "\2\ua7e0\2\ua840\2\ua8a0\2\ua900\2\ua960\2\ua9c0\2\uaa20\2\uaa80"
-			+ "\2\uaae0\2\uab40\2\uaba0\2\uac00\2\uac60\2\uacc0\2\uad20\2\uad80"
-			+ "\2\uade0\2\uae40\2\uaea0\2\uaf00\2\uaf60\2\uafc0\2\ub020\2\ub080"
-			+ "\2\ub0e0\2\ub140\2\ub1a0\2\ub200\2\ub260\2\ub2c0\2\ub320\2\ub380"
-			+ "\2\ub3e0\2\ub440\2\ub4a0\2\ub500\2\ub560\2\ub5c0\2\ub620\2\ub680"
-			+ "\2\ub6e0\2\ub740\2\ub7a0\2\ub800\2\ub860\2\ub8c0\2\ub920\2\ub980"
-			+ "\2\ub9e0\2\uba40\2\ubaa0\2\ubb00\2\ubb60\2\ubbc0\2\ubc20\2\ubc80"
-			+ "\2\ubce0\2\ubd40\2\ubda0\2\ube00\2\ube60\2\ubec0\2\ubf20\2\ubf80"
-			+ "\2\ubfe0\2\uc040\2\uc0a0\2\uc100\2\uc160\2\uc1c0\2\uc220\2\uc280"
-			+ "\0\u0cc0\2\uc2e0\2\uc340\2\uc3a0\2\uc400\2\uc460\0\u0cc0\2\uc4c0"
-			+ "\0\u0cc0\0\u0cc0\2\uc520\2\uc580\2\uc5e0\2\uc640\2\uc6a0\2\uc700"
-			+ "\2\uc760\2\uc7c0\2\uc820\2\uc880\2\uc8e0\2\uc940\2\uc9a0\2\uca00"
-			+ "\2\uca60\2\ucac0\2\ucb20\2\ucb80\2\ucbe0\2\ucc40\2\ucca0\2\ucd00"
-			+ "\2\ucd60\2\ucdc0\2\uce20\2\uce80\2\ucee0\2\ucf40\2\ucfa0\2\ud000"
-			+ "\2\ud060\2\ud0c0\2\ud120\2\ud180\2\ud1e0\2\ud240\2\ud2a0\2\ud300"
-			+ "\2\ud360\2\ud3c0\2\ud420\2\ud480\2\ud4e0\2\ud540\2\ud5a0\2\ud600"
-			+ "\2\ud660\2\ud6c0\2\ud720\2\ud780\2\ud7e0\2\ud840\2\ud8a0\2\ud900"
-			+ "\2\ud960\2\ud9c0\2\uda20\2\uda80\2\udae0\2\udb40\2\udba0\2\udc00"
-			+ "\2\udc60\2\udcc0\2\udd20\2\udd80\2\udde0\2\ude40\2\udea0\2\udf00"
-			+ "\2\udf60\2\udfc0\2\ue020\2\ue080\2\ue0e0\2\ue140\2\ue1a0\2\ue200"
-			+ "\2\ue260\2\ue2c0\2\ue320\2\ue380\2\ue3e0\2\ue440\2\ue4a0\2\ue500"
-			+ "\2\ue560\2\ue5c0\2\ue380\2\ue620\2\ue680\2\ue6e0\2\ue740\2\ue7a0"
-			+ "\2\ue800\2\ue860\2\ue8c0\2\ue920\2\ue980\2\ue9e0\2\uea40\2\ueaa0"
-			+ "\2\ueb00\2\ueb60\2\uebc0\0\u0cc0\2\uec20\2\uec80\2\uece0\2\ued40"
-			+ "\2\ueda0\2\uee00\2\uee60\2\ueec0\2\uef20\2\uef80\2\uefe0\2\uf040"
-			+ "\2\uf0a0\2\uf100\2\uf160\2\uf1c0\2\uf220\2\uf280\2\uf2e0\2\uf340"
-			+ "\2\uf3a0\2\uf400\2\uf460\2\uf4c0\2\uf520\2\uf580\2\uf5e0\2\uf640"
-			+ "\2\uf6a0\2\uf700\2\uf760\2\ud780\2\uf7c0\2\uf820\2\uf880\2\uf8e0"
-			+ "\2\uf940\2\uf9a0\2\ufa00\2\ufa60\2\ufac0\2\ufb20\2\ufb80\2\ufbe0"
-			+ "\2\ufc40\2\ufca0\2\ufd00\2\ufd60\2\ufdc0\2\ufe20\2\ufe80\2\ufee0"
-			+ "\2\uff40\2\uffa0\3\0\3\140\3\300\3\u0120\3\u0180\3\u01e0"
-			+ "\3\u0240\3\u02a0\3\u0300\3\u0360\3\u03c0\3\u0420\3\u0480\3\u04e0"
-			+ "\3\u0540\3\u05a0\3\u0600\3\u0660\3\u06c0\3\u0720\3\u0780\3\u07e0"
-			+ "\3\u0840\3\u08a0\3\u0900\3\u0960\3\u09c0\3\u0a20\3\u0a80\3\u0ae0"
-			+ "\3\u0b40\3\u0ba0\3\u0c00\3\u0c60\3\u0cc0\3\u0d20\3\u0d80\3\u0de0"
-			+ "\3\u0e40\3\u0ea0\3\u0f00\3\u0f60\3\u0fc0\3\u1020\3\u1080\3\u10e0"
-			+ "\3\u1140\3\u11a0\3\u1200\3\u1260\3\u12c0\3\u1320\3\u1380\3\u13e0"
-			+ "\3\u1440\3\u14a0\0\u0cc0\3\u1500\3\u1560\3\u15c0\3\u1620\3\u1680"
-			+ "\3\u16e0\3\u1740\3\u17a0\3\u1800\3\u1860\3\u18c0\3\u1920\3\u1980"
-			+ "\3\u19e0\3\u1a40\3\u1aa0\3\u1b00\3\u1b60\3\u1bc0\3\u1c20\3\u1c80"
-			+ "\3\u1ce0\3\u1d40\3\u1da0\3\u1e00\3\u1e60\3\u1ec0\3\u1f20\3\u1f80"
-			+ "\3\u1fe0\3\u2040\3\u20a0\3\u2100\3\u2160\3\u21c0\3\u2220\3\u2280"
-			+ "\3\u22e0\3\u2340\3\u23a0\3\u2400\3\u2460\3\u24c0\3\u2520\3\u2580"
-			+ "\3\u25e0\3\u2640\3\u26a0\3\u2700\3\u2760\3\u27c0\3\u2820\3\u2880"
-			+ "\3\u28e0\3\u2940\3\u29a0\3\u2a00\3\u2a60\3\u2ac0\3\u2b20\3\u2b80"
-			+ "\3\u2be0\3\u2c40\3\u2ca0\3\u2d00\3\u2d60\3\u2dc0\3\u2e20\3\u2e80"
-			+ "\3\u2ee0\3\u2f40\3\u2fa0\3\u3000\3\u3060\3\u30c0\2\u9940\3\u3120"
-			+ "\3\u3180\3\u31e0\3\u3240\3\u32a0\3\u3300\3\u3360\3\u33c0\3\u3420"
-			+ "\3\u3480\3\u34e0\3\u3540\3\u35a0\3\u3600\3\u3660\3\u36c0\3\u3720"
-			+ "\3\u3780\3\u37e0\3\u3840\3\u38a0\3\u3900\3\u3960\3\u39c0\3\u3a20"
-			+ "\3\u3a80\3\u3ae0\3\u3b40\3\u3ba0\3\u3c00\3\u3c60\3\u3cc0\3\u3d20"
-			+ "\3\u3d80\3\u3de0\3\u3e40\3\u3ea0\3\u3f00\3\u3f60\3\u3fc0\3\u4020"
-			+ "\3\u4080\3\u40e0\3\u4140\3\u41a0\3\u4200\3\u4260\3\u42c0\3\u4320"
-			+ "\3\u4380\3\u43e0\3\u4440\3\u44a0\3\u4500\3\u4560\3\u45c0\3\u4620"
-			+ "\3\u4680\3\u46e0\3\u4740\3\u47a0\3\u4800\3\u4860\3\u48c0\3\u4920"
-			+ "\3\u4980\3\u49e0\3\u4a40\3\u4aa0\3\u4b00\3\u4b60\3\u4bc0\3\u4c20"
-			+ "\3\u4c80\3\u4ce0\3\u4d40\3\u4da0\3\u4e00\3\u4e60\3\u4ec0\3\u4f20"
-			+ "\3\u4f80\3\u4fe0\3\u5040\3\u50a0\3\u5100\3\u5160\3\u51c0\3\u5220"
-			+ "\3\u5280\3\u52e0\3\u5340\3\u53a0\3\u5400\3\u5460\3\u54c0\3\u5520"
-			+ "\3\u5580\3\u55e0\3\u5640\3\u56a0\3\u5700\3\u5760\3\u57c0\3\u5820"
-			+ "\3\u5880\3\u58e0\3\u5940\3\u59a0\3\u5a00\3\u5a60\3\u5ac0\3\u5b20"
-			+ "\3\u5b80\3\u5be0\3\u5c40\3\u5ca0\3\u5d00\3\u5d60\3\u5dc0\3\u5e20"
-			+ "\3\u5e80\3\u5ee0\3\u5f40\3\u5fa0\3\u6000\3\u6060\3\u60c0\3\u6120"
-			+ "\3\u6180\3\u61e0\3\u6240\3\u62a0\3\u6300\3\u6360\3\u63c0\3\u6420"
-			+ "\3\u6480\3\u64e0\3\u6540\3\u65a0\3\u6600\3\u6660\3\u66c0\3\u6720"
-			+ "\3\u6780\3\u67e0\3\u6840\3\u68a0\3\u6900\3\u6960\3\u69c0\3\u6a20"
-			+ "\3\u6a80\3\u6ae0\3\u6b40\3\u6ba0\3\u6c00\3\u6c60\3\u6cc0\3\u6d20"
-			+ "\3\u6d80\3\u6de0\3\u6e40\3\u6ea0\3\u6f00\3\u6f60\3\u6fc0\3\u7020"
-			+ "\3\u7080\3\u70e0\3\u7140\3\u71a0\3\u7200\3\u7260\3\u72c0\3\u7320"
-			+ "\3\u7380\3\u73e0\3\u7440\3\u74a0\3\u7500\3\u7560\3\u75c0\3\u7620"
-			+ "\3\u7680\3\u76e0\3\u7740\3\u77a0\3\u7800\3\u7860\3\u78c0\3\u7920"
-			+ "\3\u7980\3\u79e0\3\u7a40\3\u7aa0\3\u7b00\3\u7b60\3\u7bc0\3\u7c20"
-			+ "\3\u7c80\3\u7ce0\3\u7d40\3\u7da0\3\u7e00\3\u7e60\3\u7ec0\3\u7f20"
-			+ "\3\u7f80\3\u7fe0\3\u8040\3\u80a0\3\u8100\3\u8160\3\u81c0\3\u8220"
-			+ "\3\u8280\3\u82e0\3\u8340\3\u83a0\3\u8400\3\u8460\3\u84c0\3\u8520"
-			+ "\3\u8580\3\u85e0\3\u8640\3\u86a0\3\u8700\3\u8760\3\u87c0\3\u8820"
-			+ "\3\u8880\3\u88e0\3\u8940\3\u89a0\3\u8a00\3\u8a60\3\u8ac0\3\u8b20"
-			+ "\3\u8b80\3\u8be0\3\u8c40\3\u8ca0\3\u8d00\3\u8d60\3\u8dc0\3\u8e20"
-			+ "\3\u8e80\3\u8ee0\3\u8f40\3\u8fa0\3\u9000\3\u9060\3\u90c0\3\u9120"
-			+ "\3\u9180\3\u91e0\3\u9240\3\u92a0\3\u9300\3\u9360\3\u93c0\3\u9420"
-			+ "\3\u9480\3\u94e0\3\u9540\3\u95a0\3\u9600\3\u9660\3\u96c0\3\u9720"
-			+ "\3\u9780\3\u97e0\3\u9840\3\u98a0\3\u9900\3\u9960\3\u99c0\3\u9a20"
-			+ "\3\u9a80\3\u9ae0\3\u9b40\3\u9ba0\3\u9c00\3\u9c60\3\u9cc0\3\u9d20"
-			+ "\3\u9d80\3\u9de0\3\u9e40\3\u9ea0\3\u9f00\3\u9f60\3\u9fc0\3\ua020"
-			+ "\3\ua080\3\ua0e0\3\ua140\3\ua1a0\3\ua200\3\ua260\3\ua2c0\3\ua320"
-			+ "\3\ua380\3\ua3e0\3\ua440\3\ua4a0\3\ua500\3\ua560\3\ua5c0\3\ua620"
-			+ "\3\ua680\3\ua6e0\3\ua740\3\ua7a0\3\ua800\3\ua860\3\ua8c0\3\ua920"
-			+ "\3\ua980\3\ua9e0\3\uaa40\3\uaaa0\3\uab00\3\uab60\3\uabc0\3\uac20"
-			+ "\3\uac80\3\uace0\3\uad40\3\uada0\3\uae00\3\uae60\3\uaec0\3\uaf20"
-			+ "\3\uaf80\3\uafe0\3\ub040\3\ub0a0\3\ub100\3\ub160\3\ub1c0\3\ub220"
-			+ "\3\ub280\3\ub2e0\3\ub340\3\ub3a0\3\ub400\3\ub460\3\ub4c0\3\ub520"
-			+ "\3\ub580\3\ub5e0\3\ub640\3\ub6a0\3\ub700\3\ub760\3\ub7c0\3\ub820"
-			+ "\3\ub880\3\ub8e0\3\ub940\3\ub9a0\3\uba00\3\uba60\3\ubac0\3\ubb20"
-			+ "\3\ubb80\3\ubbe0\3\ubc40\3\ubca0\3\ubd00\3\ubd60\3\ubdc0\3\ube20"
-			+ "\3\ube80\3\ubee0\3\ubf40\3\ubfa0\3\uc000\3\uc060\3\uc0c0";
+	private static final int[] ZZ_ROWMAP = JSPTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = JSPTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\41\1\42\1\43\1\44\1\45\1\46\132\41\2\47"
-			+ "\1\50\33\47\1\51\5\47\1\52\33\47\1\53\7\47" + "\1\54\27\47\2\55\1\56\64\55\1\57\50\55\2\60"
-			+ "\1\61\16\60\1\62\116\60\2\63\1\0\1\64\1\65" + "\2\63\1\66\1\67\1\70\1\71\6\63\1\72\116\63"
-			+ "\2\73\1\0\1\73\1\74\2\73\4\74\1\75\1\76" + "\1\77\1\100\1\101\1\102\1\74\1\73\1\103\1\104"
-			+ "\6\73\1\105\4\73\1\106\1\77\1\102\1\107\1\110" + "\5\73\2\111\1\73\1\110\2\73\1\104\1\105\1\103"
-			+ "\1\75\11\73\1\112\1\73\1\76\1\113\1\114\1\100" + "\1\73\1\101\1\73\1\115\1\114\1\73\1\116\1\117"
-			+ "\4\73\1\112\1\107\1\115\1\106\1\73\1\117\1\120" + "\1\116\1\113\3\73\1\120\4\73\3\121\1\122\4\121"
-			+ "\1\123\127\121\3\124\1\122\5\124\1\123\126\124\1\63" + "\1\125\1\0\1\64\1\45\2\63\1\66\1\126\1\127"
-			+ "\1\130\6\63\1\131\116\63\3\121\1\122\4\121\1\132" + "\127\121\3\124\1\122\5\124\1\132\126\124\2\63\1\0"
-			+ "\1\63\1\65\2\63\1\66\1\133\1\134\1\130\6\63" + "\1\135\116\63\10\136\1\137\127\136\11\140\1\137\126\140"
-			+ "\1\141\1\45\1\142\1\143\1\45\1\144\1\145\1\146" + "\1\147\1\150\1\151\3\152\1\153\2\152\1\154\3\152"
-			+ "\2\146\1\152\1\155\1\156\1\155\1\152\1\155\1\152" + "\1\157\1\141\1\160\1\161\1\162\1\163\1\164\1\155"
-			+ "\1\165\1\141\1\152\1\146\1\152\1\166\2\152\1\167" + "\1\170\1\171\1\172\1\173\1\174\1\175\1\145\1\146"
-			+ "\3\66\1\176\1\177\1\141\2\152\1\200\1\152\1\201" + "\1\202\1\203\1\204\3\152\1\205\1\206\1\152\4\175"
-			+ "\1\152\1\207\7\152\1\155\5\152\2\155\2\210\1\211" + "\5\210\1\212\26\210\1\213\100\210\2\214\1\215\6\214"
-			+ "\1\216\25\214\1\217\100\214\2\220\1\221\1\222\40\220"
-			+ "\1\223\4\220\1\224\26\220\1\225\7\220\1\226\27\220"
-			+ "\2\227\1\230\1\231\40\227\1\232\33\227\1\233\7\227" + "\1\234\27\227\2\47\1\235\33\47\1\236\5\47\1\52"
-			+ "\33\47\1\53\7\47\1\54\27\47\2\237\1\240\1\241" + "\40\237\1\242\4\237\1\243\22\237\1\244\3\237\1\245"
-			+ "\7\237\1\246\4\237\1\247\22\237\1\250\1\45\1\251" + "\1\252\1\45\1\144\1\145\1\146\1\253\1\254\1\255"
-			+ "\1\256\1\257\1\260\1\261\1\262\1\263\1\154\1\264" + "\1\265\1\266\1\267\1\146\1\264\1\270\1\271\1\270"
-			+ "\1\272\1\270\1\264\1\157\1\250\1\264\1\273\1\274" + "\1\275\1\276\1\270\1\165\1\250\1\264\1\146\1\277"
-			+ "\1\300\1\264\1\301\1\167\1\170\1\302\1\303\1\304" + "\1\305\1\175\1\145\1\146\3\66\1\176\1\250\1\306"
-			+ "\2\264\1\307\1\264\1\310\1\311\1\312\1\313\2\264" + "\1\314\1\315\1\316\1\264\4\175\1\317\1\320\1\321"
-			+ "\1\322\1\323\1\264\1\324\1\325\1\326\1\270\4\264" + "\1\327\2\270\2\330\1\331\41\330\1\223\4\330\1\332"
-			+ "\26\330\1\225\7\330\1\226\27\330\1\333\1\334\1\0" + "\1\333\1\45\2\333\1\66\1\335\1\336\1\337\6\333"
-			+ "\1\340\3\333\1\341\14\333\1\342\37\333\1\343\1\333" + "\1\344\33\333\1\345\1\65\1\346\1\347\1\65\1\345"
-			+ "\1\175\1\66\1\350\1\351\1\352\6\353\1\66\3\353" + "\2\345\1\353\3\345\1\353\1\345\2\353\1\345\5\353"
-			+ "\2\345\1\354\1\66\5\353\1\66\5\353\1\345\1\145" + "\1\66\1\345\1\355\2\66\1\345\1\356\16\353\2\175"
-			+ "\1\357\1\175\11\353\1\345\5\353\2\345\1\360\1\65" + "\1\361\1\362\1\65\5\360\1\363\6\364\1\360\3\364"
-			+ "\2\360\1\364\3\360\1\364\1\360\2\364\1\360\5\364" + "\4\360\1\365\4\364\2\360\4\364\1\366\3\360\1\367"
-			+ "\4\360\16\364\4\360\11\364\1\360\5\364\2\360\1\370" + "\1\65\1\371\1\372\1\65\1\370\1\373\1\370\1\350"
-			+ "\1\351\1\374\6\375\1\370\3\375\1\370\1\376\1\375" + "\3\377\1\375\1\377\1\375\1\u0100\6\375\1\377\1\370"
-			+ "\1\u0101\2\370\4\375\1\370\1\145\4\375\1\366\1\145"
-			+ "\7\370\16\375\1\370\1\u0102\1\370\1\u0103\11\375\1\377"
-			+ "\5\375\2\377\2\210\1\u0104\5\210\1\u0105\26\210\1\u0106"
-			+ "\100\210\2\214\1\u0107\6\214\1\u0108\25\214\1\u0106\100\214"
-			+ "\2\330\1\u0109\41\330\1\223\4\330\1\u010a\26\330\1\225"
-			+ "\7\330\1\226\27\330\2\u010b\1\u010c\34\u010b\1\u010d\10\u010b"
-			+ "\1\u010e\22\u010b\1\u010f\44\u010b\2\u0110\1\u0111\45\u0110\1\u0112"
-			+ "\13\u0110\1\u0113\53\u0110\2\41\4\0\133\41\1\42\2\0"
-			+ "\1\45\1\0\132\41\152\0\1\u0114\1\u0115\5\u0116\1\0"
-			+ "\3\u0116\1\u0117\1\u0118\6\u0116\3\0\6\u0116\4\0\4\u0116"
-			+ "\2\0\3\u0116\1\u0115\3\0\1\u0119\5\0\16\u0116\4\0" + "\21\u0116\1\0\1\45\2\0\1\45\133\0\4\46\1\0"
-			+ "\1\46\1\u011a\131\46\2\47\1\0\33\47\1\0\5\47" + "\1\0\33\47\1\0\7\47\1\0\27\47\36\0\1\u011b"
-			+ "\143\0\1\u011c\37\0\1\u011d\77\0\1\u011e\205\0\1\u011f" + "\27\0\2\55\1\0\64\55\1\0\50\55\21\0\1\u0120"
-			+ "\116\0\2\60\1\0\16\60\1\0\116\60\2\63\1\0" + "\1\63\1\0\2\63\4\0\6\63\1\0\120\63\1\0"
-			+ "\1\63\1\0\2\63\4\0\6\63\1\0\3\63\1\u0121" + "\112\63\21\0\1\72\116\0\2\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\6\73\1\0\120\73\1\0\1\73\1\0" + "\2\73\4\0\1\73\1\u0122\2\73\1\u0123\1\u0124\1\0"
-			+ "\2\73\1\u0125\6\73\1\u0126\4\73\1\u0127\1\73\1\u0124"
-			+ "\15\73\1\u0125\1\u0126\13\73\1\u0128\1\73\1\u0122\4\73"
-			+ "\1\u0123\1\73\1\u0129\10\73\1\u0128\1\73\1\u0129\1\u0127" + "\17\73\1\0\1\73\1\0\2\73\4\0\3\73\1\u012a"
-			+ "\2\73\1\0\2\73\1\u012b\6\73\1\u012c\24\73\1\u012b"
-			+ "\1\u012c\13\73\1\u012d\4\73\1\u012a\14\73\1\u012d\22\73" + "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\16\73"
-			+ "\1\u012e\61\73\1\u012e\17\73\1\0\1\73\1\0\2\73" + "\4\0\1\u012f\5\73\1\0\1\73\1\u0130\17\73\1\u0131"
-			+ "\1\u0132\10\73\1\u0132\4\73\1\u0130\1\u012f\22\73\1\u0133"
-			+ "\11\73\1\u0131\1\u0133\20\73\1\0\1\73\1\0\2\73" + "\4\0\2\73\1\u0134\3\73\1\0\1\73\1\u0135\7\73"
-			+ "\1\u0136\5\73\1\u0134\17\73\1\u0136\1\u0135\57\73\1\0" + "\1\73\1\0\2\73\4\0\2\73\1\120\1\u0137\1\73"
-			+ "\1\120\1\0\2\73\1\u0138\6\73\1\u0139\5\73\2\120" + "\1\73\1\u013a\5\73\2\u013b\1\73\1\u013a\2\73\1\u0138"
-			+ "\1\u0139\16\73\1\u013c\1\120\1\u0137\4\73\1\120\17\73" + "\1\u013c\12\73\1\0\1\73\1\0\2\73\4\0\3\73"
-			+ "\1\u013d\2\73\1\0\2\73\1\u013e\6\73\1\u013f\24\73" + "\1\u013e\1\u013f\20\73\1\u013d\37\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\6\73\1\0\64\73\1\u0140\2\73\1\u0141" + "\7\73\1\u0140\4\73\1\u0141\13\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\1\u0142\1\u0143\1\u0144\1\73\1\u0145\1\73"
-			+ "\1\0\16\73\1\u0146\1\u0144\10\73\2\u0147\7\73\1\u0142"
-			+ "\13\73\1\u0143\1\73\1\u0148\2\73\1\u0145\2\73\1\u0148" + "\12\73\1\u0146\17\73\1\0\1\73\1\0\2\73\4\0"
-			+ "\6\73\1\0\1\73\1\120\36\73\1\120\57\73\1\0" + "\1\73\1\0\2\73\4\0\6\73\1\0\2\73\1\u0149"
-			+ "\6\73\1\u014a\24\73\1\u0149\1\u014a\13\73\1\u014b\21\73" + "\1\u014b\22\73\1\0\1\73\1\0\2\73\4\0\2\73"
-			+ "\1\u014c\1\u014d\2\73\1\0\17\73\1\u014c\33\73\1\u014e" + "\4\73\1\u014d\14\73\1\u014e\22\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\2\73\1\120\1\u0133\2\73\1\0\1\73" + "\1\u014f\7\73\1\u0150\4\73\1\u0151\1\120\17\73\1\u0150"
-			+ "\1\u014f\12\73\1\u0152\3\73\1\u0153\1\u0133\1\u0154\3\73"
-			+ "\1\u0153\7\73\1\u0152\2\73\1\u0151\1\u0154\16\73\1\0" + "\1\73\1\0\2\73\4\0\4\73\1\u0155\1\73\1\0"
-			+ "\1\73\1\120\14\73\1\u0156\11\73\2\u0157\6\73\1\120" + "\21\73\1\u0155\15\73\1\u0156\17\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\2\73\1\120\2\73\1\u0158\1\0\2\73" + "\1\u0159\5\73\1\120\6\73\1\120\1\u0158\2\73\1\120"
-			+ "\12\73\1\u0159\47\73\1\120\5\73\2\120\2\73\1\0" + "\1\73\1\0\2\73\4\0\3\73\1\u015a\1\73\1\120"
-			+ "\1\0\1\73\1\120\1\u015b\6\73\1\u015c\6\73\1\120"
-			+ "\1\73\1\u015d\10\73\1\u015d\2\73\1\u015b\1\u015c\1\120"
-			+ "\16\73\1\120\1\u015a\4\73\1\120\32\73\1\0\1\73" + "\1\0\2\73\4\0\6\73\1\0\2\73\1\u015e\6\73"
-			+ "\1\u015f\4\73\1\u0160\17\73\1\u015e\1\u015f\40\73\1\u0160" + "\17\73\1\0\1\73\1\0\2\73\4\0\3\73\1\u0161"
-			+ "\2\73\1\0\11\73\1\u0162\25\73\1\u0162\20\73\1\u0161" + "\37\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"
-			+ "\2\73\1\u0163\25\73\2\u0164\4\73\1\u0163\57\73\3\121" + "\1\0\4\121\1\0\127\121\25\0\1\u0165\112\0\3\124"
-			+ "\1\0\5\124\1\0\126\124\1\63\1\125\1\0\1\63" + "\1\45\2\63\4\0\6\63\1\0\116\63\21\0\1\u0166"
-			+ "\116\0\10\136\1\0\127\136\11\140\1\0\126\140\1\141" + "\12\0\6\141\1\0\3\141\2\0\7\141\1\0\7\141"
-			+ "\1\0\2\141\1\0\4\141\2\0\4\141\10\0\17\141" + "\4\0\21\141\3\0\1\u0167\3\0\1\66\2\0\1\u0168"
-			+ "\12\0\1\u0169\117\0\1\66\1\0\1\66\137\0\1\66"
-			+ "\130\0\7\u016a\1\u016b\2\u016a\1\u016c\24\u016a\1\u016d\11\u016a"
-			+ "\1\u016e\66\u016a\1\141\12\0\6\152\1\0\3\152\2\0" + "\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0"
-			+ "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\3\152\1\u0170\2\152\1\0\1\141\1\152\1\0" + "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\21\152"
-			+ "\7\0\1\66\11\0\1\u0171\116\0\1\u0172\12\0\6\u0172"
-			+ "\1\0\1\u0172\1\u0173\1\u0174\2\0\1\u0172\3\155\1\u0172"
-			+ "\1\155\1\u0175\1\0\5\u0172\1\u0176\1\155\1\0\2\u0172"
-			+ "\1\0\3\u0172\1\u0176\1\0\1\u0177\1\u0174\1\u0172\1\u0173"
-			+ "\1\u0172\10\0\5\u0172\1\u0176\5\u0172\1\u0176\3\u0172\4\0"
-			+ "\11\u0172\1\155\5\u0172\2\155\1\u0172\12\0\6\u0172\1\0"
-			+ "\1\u0172\1\u0173\1\u0174\2\0\1\u0172\1\u0178\2\u0179\1\u0172"
-			+ "\1\u0179\1\u017a\1\0\5\u0172\1\u0176\1\u0179\1\0\2\u0172"
-			+ "\1\0\2\u0172\1\u017b\1\u0176\1\0\1\u0177\1\u0174\1\u0172"
-			+ "\1\u0173\1\u0172\10\0\5\u0172\1\u0176\3\u0172\1\u017b\1\u0172"
-			+ "\1\u0176\3\u0172\4\0\11\u0172\1\u0179\5\u0172\2\u0179\7\0" + "\1\66\26\0\1\66\101\0\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\3\152\1\u017c\2\152" + "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"
-			+ "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\1\u017d\3\152\10\0\1\141" + "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"
-			+ "\2\0\7\152\1\0\1\u016f\1\152\1\u017e\4\152\1\0" + "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"
-			+ "\1\152\1\u017f\1\152\1\u0180\12\152\4\0\21\152\1\141" + "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f"
-			+ "\1\u0181\5\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\1\u0182\1\u0183\2\152\10\0\1\141\16\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\1\u0184\5\152\1\0\1\141\1\152\1\0\4\152"
-			+ "\2\0\1\152\1\u0185\1\u0186\1\152\10\0\1\141\1\u0187"
-			+ "\4\152\1\u0188\10\152\4\0\21\152\1\141\12\0\6\152" + "\1\0\3\152\2\0\7\152\1\0\1\u016f\1\152\1\u0189"
-			+ "\4\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152" + "\10\0\1\141\1\u018a\1\u018b\14\152\4\0\21\152\7\0"
-			+ "\1\66\46\0\1\66\111\0\3\u0177\1\0\1\u0177\10\0" + "\1\u0177\62\0\1\u0177\5\0\2\u0177\1\141\12\0\6\152"
-			+ "\1\0\3\152\2\0\7\152\1\0\1\u016f\3\152\1\u018c" + "\2\152\1\0\1\141\1\152\1\0\4\152\2\0\1\152"
-			+ "\1\u018d\1\u018e\1\u018f\10\0\1\141\10\152\1\u0190\3\152"
-			+ "\1\u0191\1\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141"
-			+ "\1\152\1\0\1\152\1\u0192\2\152\2\0\4\152\10\0" + "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141" + "\1\152\1\0\4\152\2\0\1\u0193\3\152\10\0\1\141"
-			+ "\1\u0194\15\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\1\u0195\1\152\1\u0196"
-			+ "\3\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152" + "\10\0\1\141\1\152\1\u0197\1\152\1\u0198\7\152\1\u0199"
-			+ "\2\152\4\0\21\152\7\0\1\66\62\0\1\66\45\0" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\1\152\1\u019a\1\u019b\1\152\10\0\1\141\1\u019c\2\152"
-			+ "\1\u019d\12\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\1\u019e\3\152\10\0\1\141" + "\1\u019f\15\152\4\0\21\152\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\3\152\1\u01a0\1\u01a1" + "\1\152\1\0\1\141\1\152\1\0\4\152\2\0\3\152"
-			+ "\1\u01a2\10\0\1\141\11\152\1\u01a3\4\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\4\152\10\0\1\141\1\u01a4\15\152\4\0\21\152\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\1\u01a5\1\u01a6\4\152\1\0\1\141\1\152\1\0\4\152"
-			+ "\2\0\1\152\1\u01a7\2\152\10\0\1\141\16\152\4\0" + "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"
-			+ "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152" + "\2\0\4\152\10\0\1\141\3\152\1\u01a8\1\152\1\u01a9"
-			+ "\10\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152" + "\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152"
-			+ "\1\0\4\152\2\0\1\152\1\u0187\2\152\10\0\1\141" + "\1\u01aa\15\152\4\0\21\152\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141" + "\1\152\1\0\4\152\2\0\1\152\1\u01ab\2\152\10\0"
-			+ "\1\141\16\152\4\0\21\152\2\210\1\0\5\210\1\0"
-			+ "\26\210\1\0\100\210\2\u01ac\1\0\35\u01ac\1\u01ad\44\u01ac"
-			+ "\1\u01ae\32\u01ac\2\214\1\0\6\214\1\0\25\214\1\0" + "\100\214\2\220\2\0\40\220\1\0\4\220\1\0\26\220"
-			+ "\1\0\7\220\1\0\27\220\12\0\1\u01af\167\0\1\u01b0"
-			+ "\37\0\1\u01b1\47\0\1\u01b2\167\0\1\u01b3\205\0\1\u01b4" + "\27\0\2\227\2\0\40\227\1\0\33\227\1\0\7\227"
-			+ "\1\0\27\227\12\0\1\u01b5\167\0\1\u01b6\37\0\1\u01b7"
-			+ "\77\0\1\u01b8\205\0\1\u01b9\65\0\1\u01ba\101\0\2\237" + "\2\0\40\237\1\0\4\237\1\0\22\237\1\0\3\237"
-			+ "\1\0\7\237\1\0\4\237\1\0\22\237\12\0\1\u01bb" + "\6\u01bc\1\u01bd\3\u01bc\2\0\1\u01bc\3\0\1\u01bc\4\0"
-			+ "\5\u01bc\5\0\4\u01bc\2\0\4\u01bc\11\0\16\u01bc\4\0"
-			+ "\11\u01bc\1\0\5\u01bc\44\0\1\u01be\37\0\1\u01bf\47\0"
-			+ "\1\u01c0\166\0\1\u01c1\1\u01c2\15\0\1\u01c3\1\u01c4\1\0"
-			+ "\1\u01c5\11\0\1\u01c6\1\0\1\u01c7\1\0\1\u01c8\1\u01c9"
-			+ "\1\0\1\u01ca\4\0\1\u01cb\70\0\1\u01cc\205\0\1\u01cd" + "\123\0\1\u01ce\43\0\1\250\12\0\6\250\1\0\3\250"
-			+ "\2\0\7\250\1\0\7\250\1\0\2\250\1\0\4\250" + "\2\0\4\250\7\0\20\250\4\0\21\250\3\0\1\u0167"
-			+ "\3\0\1\66\130\0\2\253\1\u01cf\5\253\1\u01d0\26\253"
-			+ "\1\u01d1\100\253\2\u01d2\1\u01d3\6\u01d2\1\u01d4\25\u01d2\1\u01d5"
-			+ "\100\u01d2\7\0\1\66\2\0\1\u01d6\36\0\1\u01d7\66\0" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\2\264\1\u01d9\3\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\u01da\3\264\7\0\2\250\1\u01db\1\u01dc"
-			+ "\1\u01dd\1\u01de\1\264\1\u01df\1\264\1\u01e0\6\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\u01e1\5\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\264\1\u01e2\1\u01e3\1\264\7\0\2\250"
-			+ "\1\u01e4\2\264\1\u01e5\12\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u01e6"
-			+ "\5\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u01e7" + "\1\u01e8\2\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\2\264\1\u01e9\1\u01ea\2\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\2\264\1\u01eb\1\264\7\0\2\250\4\264" + "\1\u01ec\11\264\4\0\1\u01ed\20\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u01ee\1\u01ef" + "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\1\264"
-			+ "\1\u01f0\2\264\7\0\2\250\5\264\1\u01f1\10\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\264\1\u01f2\4\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\1\u01f3\1\u01f4"
-			+ "\1\264\1\u01f5\1\264\1\u01f6\10\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\1\u01f7\4\264\1\u01f8\10\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264"
-			+ "\1\u01f9\1\264\1\u01fa\2\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\10\264\1\u01fb\1\u01fc"
-			+ "\2\264\1\u01fd\1\264\4\0\1\u01fe\20\264\7\0\1\66"
-			+ "\11\0\1\u01ff\116\0\1\u0200\12\0\6\u0200\1\0\1\u0200"
-			+ "\1\u0201\1\u0202\2\0\1\u0200\3\270\1\u0200\1\270\1\u0203"
-			+ "\1\0\5\u0200\1\u0204\1\270\1\0\2\u0200\1\0\3\u0200"
-			+ "\1\u0204\1\0\1\u0177\1\u0202\1\u0200\1\u0201\1\u0200\7\0"
-			+ "\1\250\5\u0200\1\u0204\5\u0200\1\u0204\3\u0200\4\0\11\u0200"
-			+ "\1\270\5\u0200\2\270\1\u0200\12\0\6\u0200\1\0\1\u0200"
-			+ "\1\u0201\1\u0202\2\0\1\u0200\1\u0205\2\u0206\1\u0200\1\u0206"
-			+ "\1\u0207\1\0\5\u0200\1\u0204\1\u0206\1\0\2\u0200\1\0"
-			+ "\2\u0208\1\u0209\1\u0204\1\0\1\u0177\1\u0202\1\u0200\1\u0201"
-			+ "\1\u0200\7\0\1\250\5\u0200\1\u0204\3\u0200\1\u0209\1\u0200"
-			+ "\1\u0204\3\u0200\4\0\11\u0200\1\u0206\5\u0200\2\u0206\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\1\u020a\1\u020b\4\264\1\0\1\250\1\264\1\0\1\264"
-			+ "\1\u020c\2\264\2\0\3\264\1\u020d\7\0\2\250\7\264" + "\1\u020e\6\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\u020f\3\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\264\1\u0210\4\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\3\264\1\u0211\12\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u0212\5\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\u0213\1\u0214"
-			+ "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u0215" + "\1\u0216\1\264\7\0\2\250\1\u0217\4\264\1\u0218\10\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\u0219\5\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\264\1\u021a\2\264\7\0\2\250" + "\1\u021b\1\u021c\3\264\1\u021d\10\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\1\264\1\u021e\4\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\1\u021f\1\u0220\14\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\2\264\1\u0221\1\264\7\0\2\250\1\u0222\4\264"
-			+ "\1\u0223\10\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u0224\2\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\2\264\1\u0225" + "\1\264\7\0\2\250\10\264\1\u0226\5\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\1\264\1\u0227"
-			+ "\2\264\2\0\3\264\1\u0228\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\1\u0229\15\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\1\u022a\1\264\1\u022b\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\1\264\1\u022c" + "\1\264\1\u022d\7\264\1\u022e\2\264\4\0\21\264\1\250"
-			+ "\12\0\6\u022f\1\0\3\u022f\2\0\1\u022f\3\250\1\u022f" + "\1\250\1\u022f\1\0\1\250\5\u022f\1\250\1\0\1\250"
-			+ "\1\u022f\1\0\4\u022f\2\0\4\u022f\7\0\2\250\16\u022f" + "\4\0\11\u022f\1\250\5\u022f\3\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\264\1\u0230\1\u0231\1\264"
-			+ "\7\0\2\250\1\u0232\2\264\1\u0233\12\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\u0234\3\264\7\0\2\250\1\u0235\15\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\3\264\1\u0236\1\u0237\1\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\11\264\1\u0238" + "\4\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\1\u0239\15\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\u023a\1\u023b\4\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u023c\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\1\u023d\5\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\u023e\1\u023f\2\264"
-			+ "\7\0\2\250\1\u0240\4\264\1\u0241\10\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\3\264\1\u0242\12\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\1\u0243\15\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\1\u0244\5\264\1\0\1\250\1\264\1\0\1\264\1\u0245" + "\2\264\2\0\4\264\7\0\2\250\7\264\1\u0246\6\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\u0247\5\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u0248\1\u0249\2\264\7\0\2\250" + "\1\u024a\15\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\264\1\u024b\2\264\7\0"
-			+ "\2\250\5\264\1\u024c\10\264\4\0\21\264\1\250\12\0" + "\5\264\1\u024d\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\3\264\1\u024e\2\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\3\264\1\u024f"
-			+ "\15\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\1\264\1\u0250\4\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\u0251\5\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\1\u0252\3\264\7\0\2\250\1\u0253\4\264\1\u0254\10\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\264\1\u0255\2\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\264\1\u0256\4\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\u0257\3\264\7\0\2\250" + "\16\264\4\0\21\264\2\330\1\0\41\330\1\0\4\330"
-			+ "\1\0\26\330\1\0\7\330\1\0\27\330\12\0\1\u0258" + "\125\0\2\333\1\0\1\333\1\0\2\333\4\0\6\333"
-			+ "\1\0\117\333\1\334\1\0\1\333\1\45\2\333\4\0" + "\6\333\1\0\116\333\10\335\1\u01d0\127\335\11\336\1\u0259"
-			+ "\126\336\2\333\1\0\1\333\1\0\2\333\4\0\6\333" + "\1\72\120\333\1\0\1\333\1\0\2\333\4\0\6\333"
-			+ "\1\0\37\333\1\u025a\60\333\1\0\1\333\1\0\2\333" + "\4\0\6\333\1\0\21\333\1\u025b\76\333\1\0\1\333"
-			+ "\1\0\2\333\4\0\6\333\1\0\37\333\1\u025c\56\333" + "\12\0\1\u025d\176\0\1\u025e\101\0\6\353\1\0\3\353"
-			+ "\2\0\10\353\1\0\6\353\4\0\4\353\1\0\5\353" + "\11\0\16\353\4\0\21\353\13\0\6\u025f\1\0\3\u025f"
-			+ "\2\0\1\u025f\3\0\1\u025f\1\0\2\u025f\1\0\5\u025f" + "\4\0\5\u025f\1\0\5\u025f\11\0\16\u025f\4\0\11\u025f"
-			+ "\1\0\5\u025f\43\0\1\u0260\1\u0261\1\u0262\1\u0263\13\0"
-			+ "\1\u0264\1\u0265\1\u0266\5\0\1\u0267\4\0\1\u0268\1\0"
-			+ "\1\u0269\1\u026a\1\u026b\7\0\1\u026c\41\0\6\u026d\1\0"
-			+ "\3\u026d\2\0\1\u026d\3\0\1\u026d\1\0\2\u026d\1\0" + "\5\u026d\4\0\5\u026d\1\0\5\u026d\11\0\16\u026d\4\0"
-			+ "\11\u026d\1\0\5\u026d\15\0\6\364\1\0\3\364\2\0" + "\10\364\1\0\6\364\4\0\4\364\2\0\4\364\11\0"
-			+ "\16\364\4\0\21\364\13\0\6\364\1\0\3\364\2\0" + "\1\364\3\0\1\364\1\0\2\364\1\0\5\364\5\0"
-			+ "\4\364\2\0\4\364\11\0\16\364\4\0\11\364\1\0" + "\5\364\14\0\7\375\1\0\3\375\2\0\1\375\3\0"
-			+ "\1\375\1\0\10\375\4\0\1\u025e\4\375\2\0\4\375" + "\11\0\16\375\3\0\1\u0103\11\375\1\0\5\375\14\0"
-			+ "\7\375\1\0\3\375\2\0\1\375\3\0\1\375\1\0" + "\10\375\5\0\4\375\2\0\4\375\11\0\16\375\3\0"
-			+ "\1\u0103\11\375\1\0\5\375\104\0\1\u026e\62\0\1\u026f" + "\2\0\3\377\1\0\1\377\10\0\1\377\11\0\1\377"
-			+ "\1\u0270\2\0\1\u026f\13\0\1\u0271\2\0\1\u0272\1\0" + "\1\u0273\1\0\1\u0274\21\0\1\377\5\0\2\377\12\0"
-			+ "\7\375\1\0\3\375\2\0\1\375\3\377\1\375\1\377" + "\10\375\1\377\4\0\4\375\2\0\4\375\11\0\16\375"
-			+ "\3\0\1\u0103\11\375\1\377\5\375\2\377\14\0\1\u0275" + "\7\0\1\u0275\3\0\5\u0275\7\0\2\u0275\4\0\2\u0275"
-			+ "\1\0\1\u0275\2\0\2\u0275\15\0\1\u0275\1\0\1\u0275" + "\5\0\1\u0275\20\0\1\u0275\5\0\2\u0275\2\u0276\1\0"
-			+ "\135\u0276\12\0\1\u0277\125\0\2\u010b\1\0\34\u010b\1\0"
-			+ "\10\u010b\1\0\22\u010b\1\0\44\u010b\115\0\1\u0278\22\0"
-			+ "\2\u0110\1\0\45\u0110\1\0\13\u0110\1\0\53\u0110\115\0"
-			+ "\1\u0279\35\0\6\u027a\1\0\3\u027a\2\0\6\u027a\3\0" + "\6\u027a\4\0\4\u027a\2\0\4\u027a\11\0\16\u027a\4\0"
-			+ "\21\u027a\13\0\1\u0116\1\u027b\3\u0116\1\u027c\1\0\3\u0116"
-			+ "\2\0\6\u0116\3\0\2\u0116\1\u027c\3\u0116\4\0\4\u0116"
-			+ "\2\0\4\u0116\11\0\2\u0116\1\u027b\13\u0116\4\0\21\u0116"
-			+ "\13\0\6\u0116\1\0\3\u0116\2\0\6\u0116\3\0\6\u0116"
-			+ "\4\0\4\u0116\2\0\4\u0116\11\0\16\u0116\4\0\21\u0116"
-			+ "\7\0\1\u027d\16\0\1\u027d\7\0\1\u027e\35\0\1\u027f"
-			+ "\101\0\1\u0280\122\0\1\u0281\222\0\1\u0282\115\0\1\u0283"
-			+ "\117\0\1\u0284\205\0\1\u0285\27\0\2\63\1\0\1\63" + "\1\0\2\63\1\u027d\3\0\6\63\1\0\4\63\1\u0286"
-			+ "\111\63\2\73\1\0\1\73\1\0\2\73\4\0\2\73" + "\1\u0287\3\73\1\0\17\73\1\u0287\100\73\1\0\1\73"
-			+ "\1\0\2\73\4\0\6\73\1\0\11\73\1\u0288\25\73" + "\1\u0288\60\73\1\0\1\73\1\0\2\73\4\0\2\73"
-			+ "\1\u0289\3\73\1\0\1\u012e\16\73\1\u0289\34\73\1\u012e" + "\43\73\1\0\1\73\1\0\2\73\4\0\1\73\1\u028a"
-			+ "\1\u028b\3\73\1\0\1\73\1\u028c\15\73\1\u028b\20\73" + "\1\u028c\14\73\1\u028a\42\73\1\0\1\73\1\0\2\73"
-			+ "\4\0\6\73\1\0\64\73\1\u028d\12\73\1\u028d\20\73" + "\1\0\1\73\1\0\2\73\4\0\4\73\1\120\1\73"
-			+ "\1\0\30\73\2\120\30\73\1\120\35\73\1\0\1\73" + "\1\0\2\73\4\0\6\73\1\0\16\73\1\u028e\61\73"
-			+ "\1\u028e\17\73\1\0\1\73\1\0\2\73\4\0\6\73" + "\1\0\11\73\1\u028f\25\73\1\u028f\60\73\1\0\1\73"
-			+ "\1\0\2\73\4\0\5\73\1\u0290\1\0\20\73\1\u0290" + "\77\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"
-			+ "\21\73\1\u0291\54\73\1\u0291\21\73\1\0\1\73\1\0" + "\2\73\4\0\4\73\1\u028a\1\73\1\0\21\73\1\u0292"
-			+ "\40\73\1\u028a\13\73\1\u0292\21\73\1\0\1\73\1\0" + "\2\73\4\0\6\73\1\0\1\73\1\u0293\36\73\1\u0293"
-			+ "\16\73\1\u0290\4\73\1\u0294\1\u0290\11\73\1\u0294\20\73" + "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\1\73"
-			+ "\1\u0290\36\73\1\u0290\57\73\1\0\1\73\1\0\2\73" + "\4\0\3\73\1\u0295\2\73\1\0\60\73\1\u0295\37\73"
-			+ "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\11\73" + "\1\u0296\25\73\1\u0296\60\73\1\0\1\73\1\0\2\73"
-			+ "\4\0\1\120\3\73\1\u0297\1\73\1\0\41\73\1\120" + "\20\73\1\u0297\35\73\1\0\1\73\1\0\2\73\4\0"
-			+ "\2\73\1\u0298\3\73\1\0\17\73\1\u0298\100\73\1\0" + "\1\73\1\0\2\73\4\0\6\73\1\0\61\73\1\120"
-			+ "\17\73\1\120\16\73\1\0\1\73\1\0\2\73\4\0" + "\6\73\1\0\2\73\1\120\33\73\1\120\14\73\1\u0299"
-			+ "\21\73\1\u0299\22\73\1\0\1\73\1\0\2\73\4\0" + "\6\73\1\0\11\73\1\u029a\25\73\1\u029a\60\73\1\0"
-			+ "\1\73\1\0\2\73\4\0\2\73\1\u029b\3\73\1\0" + "\17\73\1\u029b\100\73\1\0\1\73\1\0\2\73\4\0"
-			+ "\5\73\1\u012e\1\0\20\73\1\u012e\43\73\1\u0290\12\73" + "\1\u0290\20\73\1\0\1\73\1\0\2\73\4\0\6\73"
-			+ "\1\0\32\73\1\u029c\30\73\1\u029c\34\73\1\0\1\73" + "\1\0\2\73\4\0\6\73\1\0\30\73\2\u012e\66\73"
-			+ "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\53\73" + "\1\u029d\21\73\1\u029d\22\73\1\0\1\73\1\0\2\73"
-			+ "\4\0\6\73\1\0\53\73\1\u0152\21\73\1\u0152\22\73" + "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\2\73"
-			+ "\1\u029e\33\73\1\u029e\61\73\1\0\1\73\1\0\2\73" + "\4\0\6\73\1\0\21\73\1\u029f\54\73\1\u029f\21\73"
-			+ "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\61\73" + "\1\u02a0\17\73\1\u02a0\16\73\1\0\1\73\1\0\2\73"
-			+ "\4\0\6\73\1\0\1\u02a1\27\73\2\u02a2\22\73\1\u02a1" + "\43\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"
-			+ "\30\73\2\u02a3\66\73\1\0\1\73\1\0\2\73\4\0" + "\6\73\1\0\2\73\1\u02a4\33\73\1\u02a4\61\73\1\0"
-			+ "\1\73\1\0\2\73\4\0\3\73\1\u02a5\2\73\1\0" + "\60\73\1\u02a5\37\73\1\0\1\73\1\0\2\73\4\0"
-			+ "\2\73\1\u02a6\3\73\1\0\17\73\1\u02a6\100\73\1\0" + "\1\73\1\0\2\73\4\0\5\73\1\u02a7\1\0\2\73"
-			+ "\1\u02a8\15\73\1\u02a7\15\73\1\u02a8\61\73\1\0\1\73" + "\1\0\2\73\4\0\4\73\1\u02a9\1\73\1\0\62\73"
-			+ "\1\u02a9\35\73\1\0\1\73\1\0\2\73\4\0\6\73" + "\1\0\57\73\1\u02aa\5\73\1\u02aa\32\73\1\0\1\73"
-			+ "\1\0\2\73\4\0\6\73\1\0\30\73\2\u0162\66\73" + "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\57\73"
-			+ "\1\u02ab\5\73\1\u02ab\32\73\1\0\1\73\1\0\2\73" + "\4\0\1\u02ac\5\73\1\0\41\73\1\u02ac\56\73\1\0"
-			+ "\1\73\1\0\2\73\4\0\6\73\1\0\67\73\1\120" + "\14\73\1\120\13\73\1\0\1\73\1\0\2\73\4\0"
-			+ "\1\u02ad\5\73\1\0\1\73\1\u0130\1\u02ae\17\73\1\u02af"
-			+ "\5\73\2\u0162\1\73\1\u02af\2\73\1\u02ae\1\73\1\u0130" + "\1\u02ad\56\73\1\0\1\73\1\0\2\73\4\0\6\73"
-			+ "\1\0\11\73\1\u02b0\25\73\1\u02b0\60\73\1\0\1\73" + "\1\0\2\73\4\0\6\73\1\0\2\73\1\u02b1\33\73"
-			+ "\1\u02b1\22\73\1\u02b2\17\73\1\u02b2\16\73\1\0\1\73" + "\1\0\2\73\4\0\2\73\1\u02b3\3\73\1\0\17\73"
-			+ "\1\u02b3\1\73\1\u02ac\31\73\1\u0291\21\73\1\u0291\1\u02ac" + "\21\73\1\0\1\73\1\0\2\73\4\0\3\73\1\u02b4"
-			+ "\2\73\1\0\53\73\1\u02b5\4\73\1\u02b4\14\73\1\u02b5" + "\22\73\1\0\1\73\1\0\2\73\4\0\1\u02b6\5\73"
-			+ "\1\0\41\73\1\u02b6\56\73\1\0\1\73\1\0\2\73" + "\4\0\5\73\1\u02b7\1\0\20\73\1\u02b7\77\73\1\0"
-			+ "\1\73\1\0\2\73\4\0\6\73\1\0\57\73\1\u02b8" + "\5\73\1\u02b8\32\73\1\0\1\73\1\0\2\73\4\0"
-			+ "\6\73\1\0\53\73\1\120\21\73\1\120\22\73\1\0" + "\1\73\1\0\2\73\4\0\1\u02b9\5\73\1\0\41\73"
-			+ "\1\u02b9\56\73\1\0\1\73\1\0\2\73\4\0\5\73" + "\1\u02ba\1\0\20\73\1\u02ba\77\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\5\73\1\u02bb\1\0\20\73\1\u02bb\77\73" + "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\107\73"
-			+ "\1\u028c\2\73\1\u028c\5\73\1\0\1\73\1\0\2\73" + "\4\0\6\73\1\0\64\73\1\u02bc\12\73\1\u02bc\20\73"
-			+ "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\11\73" + "\1\u02bd\25\73\1\u02bd\60\73\1\0\1\73\1\0\2\73"
-			+ "\4\0\2\73\1\120\3\73\1\0\11\73\1\u02be\5\73" + "\1\120\17\73\1\u02be\27\73\1\120\14\73\1\120\13\73"
-			+ "\1\0\1\73\1\0\2\73\4\0\5\73\1\u02bf\1\0" + "\1\73\1\120\16\73\1\u02bf\17\73\1\120\57\73\1\0"
-			+ "\1\73\1\0\2\73\4\0\5\73\1\u02c0\1\0\20\73" + "\1\u02c0\77\73\1\0\1\73\1\0\2\73\4\0\6\73"
-			+ "\1\0\21\73\1\120\54\73\1\120\21\73\1\0\1\73" + "\1\0\2\73\4\0\5\73\1\u02c1\1\0\20\73\1\u02c1"
-			+ "\1\u02c2\54\73\1\u02c2\21\73\1\0\1\73\1\0\2\73" + "\4\0\2\73\1\u02c3\1\73\1\120\1\73\1\0\17\73"
-			+ "\1\u02c3\42\73\1\120\35\73\1\0\1\73\1\0\2\73" + "\4\0\6\73\1\0\1\73\1\u02c4\36\73\1\u02c4\57\73"
-			+ "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\57\73" + "\1\u02c5\5\73\1\u02c5\32\73\1\0\1\73\1\0\2\73"
-			+ "\4\0\2\73\1\120\3\73\1\0\17\73\1\120\100\73" + "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\1\u02c6"
-			+ "\53\73\1\u02c6\43\73\1\0\1\73\1\0\2\73\4\0" + "\6\73\1\0\57\73\1\120\5\73\1\120\30\73\7\0"
-			+ "\1\u02c7\16\0\1\u02c7\124\0\1\u02c8\47\0\1\u02c8\63\0"
-			+ "\1\u027d\16\0\1\u027d\111\0\12\u016a\1\u02c9\24\u016a\1\u016d"
-			+ "\102\u016a\1\0\135\u016a\51\0\1\u02ca\66\0\1\141\12\0" + "\6\141\1\0\3\141\2\0\7\141\1\0\1\141\1\u02cb"
-			+ "\5\141\1\0\2\141\1\0\4\141\2\0\4\141\10\0" + "\17\141\4\0\22\141\12\0\6\152\1\0\3\152\2\0"
-			+ "\7\152\1\0\1\u016f\4\152\1\u02cc\1\152\1\0\1\141" + "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"
-			+ "\4\0\21\152\7\0\1\66\11\0\1\146\116\0\1\u0172" + "\12\0\6\u0172\1\0\3\u0172\2\0\7\u0172\1\0\7\u0172"
-			+ "\1\0\2\u0172\1\0\4\u0172\2\0\4\u0172\10\0\17\u0172"
-			+ "\4\0\22\u0172\12\0\6\u0172\1\0\3\u0172\2\0\1\u0172"
-			+ "\3\u02cd\1\u0172\1\u02cd\1\u0172\1\u02ce\6\u0172\1\u02cd\1\0"
-			+ "\2\u0172\1\0\4\u0172\1\u02ce\1\0\4\u0172\10\0\17\u0172"
-			+ "\4\0\11\u0172\1\u02cd\5\u0172\2\u02cd\1\u0172\12\0\6\u0172"
-			+ "\1\0\3\u0172\2\0\1\u0172\3\u02cf\1\u0172\1\u02cf\1\u0175"
-			+ "\1\0\6\u0172\1\u02cf\1\0\2\u0172\1\0\4\u0172\2\0"
-			+ "\4\u0172\10\0\17\u0172\4\0\11\u0172\1\u02cf\5\u0172\2\u02cf"
-			+ "\1\u0172\12\0\6\u0172\1\0\2\u0172\1\u0174\2\0\1\u0172"
-			+ "\3\u0177\1\u0172\1\u0177\1\u0172\1\0\5\u0172\1\u0176\1\u0177"
-			+ "\1\0\2\u0172\1\0\3\u0172\1\u0176\2\0\1\u0174\3\u0172"
-			+ "\10\0\5\u0172\1\u0176\5\u0172\1\u0176\3\u0172\4\0\11\u0172"
-			+ "\1\u0177\5\u0172\2\u0177\1\u0172\12\0\6\u0172\1\0\2\u0172"
-			+ "\1\u0174\2\0\1\u0172\3\u0178\1\u0172\1\u0178\1\u0172\1\0"
-			+ "\5\u0172\1\u0176\1\u0178\1\0\2\u0172\1\0\3\u0172\1\u0176"
-			+ "\1\0\1\u0177\1\u0174\3\u0172\10\0\5\u0172\1\u0176\5\u0172"
-			+ "\1\u0176\3\u0172\4\0\11\u0172\1\u0178\5\u0172\2\u0178\1\u0172"
-			+ "\12\0\6\u0172\1\0\1\u0172\1\u02d0\1\u0174\2\0\1\u0172"
-			+ "\1\u0178\2\u0179\1\u0172\1\u0179\1\u017a\1\0\5\u0172\1\u0176"
-			+ "\1\u0179\1\0\2\u0172\1\0\3\u0172\1\u0176\1\0\1\u0177"
-			+ "\1\u0174\1\u0172\1\u02d0\1\u0172\10\0\5\u0172\1\u0176\5\u0172"
-			+ "\1\u0176\3\u0172\4\0\11\u0172\1\u0179\5\u0172\2\u0179\1\u0172"
-			+ "\12\0\6\u0172\1\0\3\u0172\2\0\2\u0172\2\u02d1\1\u0172"
-			+ "\1\u02d1\1\u017a\1\0\6\u0172\1\u02d1\1\0\2\u0172\1\0"
-			+ "\4\u0172\2\0\4\u0172\10\0\17\u0172\4\0\11\u0172\1\u02d1"
-			+ "\5\u0172\2\u02d1\1\u0172\12\0\1\u0172\1\u02d2\4\u0172\1\0"
-			+ "\2\u0172\1\u02d2\2\0\1\u0172\5\u02d2\1\u0172\1\0\5\u0172"
-			+ "\2\u02d2\1\0\2\u0172\1\0\2\u02d2\1\u0172\1\u02d2\2\0"
-			+ "\2\u02d2\2\u0172\10\0\3\u0172\1\u02d2\1\u0172\1\u02d2\5\u0172"
-			+ "\1\u02d2\3\u0172\4\0\11\u0172\1\u02d2\5\u0172\2\u02d2\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\1\u02d3"
-			+ "\3\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0" + "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\2\152"
-			+ "\1\u02d4\3\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\4\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"
-			+ "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\1\u02d5" + "\5\152\1\0\1\141\1\152\1\0\4\152\2\0\1\152"
-			+ "\1\u02d6\2\152\10\0\1\141\1\152\1\u01a1\14\152\4\0" + "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"
-			+ "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152" + "\2\0\4\152\10\0\1\141\7\152\1\u02d7\6\152\4\0"
-			+ "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152" + "\1\0\1\u016f\1\152\1\u02d8\4\152\1\0\1\141\1\152"
-			+ "\1\0\4\152\2\0\4\152\10\0\1\141\5\152\1\u02d9" + "\10\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"
-			+ "\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152" + "\1\0\4\152\2\0\2\152\1\u02da\1\152\10\0\1\141"
-			+ "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152" + "\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152"
-			+ "\1\0\4\152\2\0\4\152\10\0\1\141\13\152\1\u01a1" + "\2\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"
-			+ "\2\0\7\152\1\0\1\u016f\2\152\1\u02db\3\152\1\0" + "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"
-			+ "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152" + "\2\0\7\152\1\0\1\u016f\3\152\1\u02dc\2\152\1\0"
-			+ "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141" + "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"
-			+ "\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152" + "\1\0\4\152\2\0\2\152\1\u02dd\1\152\10\0\1\141"
-			+ "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152" + "\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152"
-			+ "\1\0\4\152\2\0\4\152\10\0\1\141\1\u02de\15\152" + "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"
-			+ "\7\152\1\0\1\u016f\1\152\1\u01a1\4\152\1\0\1\141" + "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"
-			+ "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0" + "\7\152\1\0\1\u016f\3\152\1\u02df\2\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152" + "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"
-			+ "\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0" + "\4\152\2\0\1\u02e0\3\152\10\0\1\141\16\152\4\0"
-			+ "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152" + "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152"
-			+ "\2\0\4\152\10\0\1\141\1\u02e1\15\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\2\152\1\u02e2\3\152\1\0\1\141\1\152\1\0" + "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\1\u02e3\5\152\1\0\1\141\1\152\1\0\4\152"
-			+ "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\141" + "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f"
-			+ "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152" + "\10\0\1\141\2\152\1\u02e4\13\152\4\0\21\152\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\3\152"
-			+ "\1\u02e5\10\0\1\141\16\152\4\0\21\152\1\141\12\0" + "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152"
-			+ "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0" + "\1\141\2\152\1\u02e6\13\152\4\0\21\152\1\141\12\0"
-			+ "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\2\152" + "\1\u02e7\3\152\1\0\1\141\1\152\1\0\4\152\2\0"
-			+ "\4\152\10\0\1\141\7\152\1\u02e8\6\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\1\152\1\u02e9\2\152\10\0\1\141\16\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0"
-			+ "\3\152\1\u02ea\10\0\1\141\16\152\4\0\21\152\1\141" + "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f"
-			+ "\2\152\1\u02eb\3\152\1\0\1\141\1\152\1\0\4\152" + "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\3\152\1\u02ec\2\152\1\0\1\141\1\152\1\0\4\152"
-			+ "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\141" + "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f"
-			+ "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152" + "\10\0\1\141\7\152\1\u02ed\6\152\4\0\21\152\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\1\152"
-			+ "\1\u02ee\2\152\10\0\1\141\16\152\4\0\21\152\1\141" + "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f"
-			+ "\3\152\1\u02ef\2\152\1\0\1\141\1\152\1\0\4\152" + "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"
-			+ "\10\0\1\141\1\u02f0\15\152\4\0\21\152\1\141\12\0" + "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152"
-			+ "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0" + "\1\141\5\152\1\u02f1\10\152\4\0\21\152\1\141\12\0"
-			+ "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\2\152" + "\1\u02f2\3\152\1\0\1\141\1\152\1\0\4\152\2\0"
-			+ "\3\152\1\u02e5\10\0\1\141\16\152\4\0\21\152\1\141" + "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f"
-			+ "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\1\152" + "\1\u02f3\2\152\10\0\1\141\16\152\4\0\21\152\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\3\152\1\u02f4\2\152\1\0\1\141\1\152\1\0\4\152"
-			+ "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\141" + "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f"
-			+ "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\1\152" + "\1\u02f5\2\152\10\0\1\141\16\152\4\0\21\152\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\4\152\1\u02f6\1\152\1\0\1\141\1\152\1\0\1\152"
-			+ "\1\u02f7\2\152\2\0\2\152\1\u02f8\1\152\10\0\1\141" + "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"
-			+ "\2\0\7\152\1\0\1\u016f\1\u02f9\5\152\1\0\1\141" + "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"
-			+ "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0" + "\7\152\1\0\1\u016f\2\152\1\u02fa\3\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\3\152\1\u02fb\10\0\1\141" + "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"
-			+ "\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152" + "\1\0\3\152\1\u02fc\2\0\4\152\10\0\1\141\16\152"
-			+ "\4\0\1\152\1\u02fd\17\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\7\152" + "\1\u02fe\6\152\4\0\21\152\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\2\152\1\u02ff\3\152" + "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"
-			+ "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141"
-			+ "\1\152\1\0\1\152\1\u0300\2\152\2\0\4\152\10\0" + "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141" + "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\1\u0301"
-			+ "\4\152\1\u0302\10\152\4\0\21\152\1\141\12\0\6\152" + "\1\0\3\152\2\0\7\152\1\0\1\u016f\1\152\1\u0303"
-			+ "\4\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152" + "\10\0\1\141\2\152\1\u0304\13\152\4\0\21\152\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"
-			+ "\10\0\1\141\5\152\1\u0305\10\152\4\0\21\152\1\141" + "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f"
-			+ "\2\152\1\u0306\3\152\1\0\1\141\1\152\1\0\4\152" + "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\2\152"
-			+ "\1\u0307\1\152\10\0\1\141\5\152\1\u0308\10\152\4\0" + "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"
-			+ "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152" + "\2\0\4\152\10\0\1\141\16\152\4\0\1\152\1\u01a1"
-			+ "\17\152\14\0\1\u0309\7\0\1\u0309\3\0\5\u0309\7\0" + "\2\u0309\4\0\2\u0309\1\0\1\u0309\2\0\2\u0309\15\0"
-			+ "\1\u0309\1\0\1\u0309\5\0\1\u0309\20\0\1\u0309\5\0" + "\2\u0309\14\0\1\u030a\7\0\1\u030a\3\0\5\u030a\7\0"
-			+ "\2\u030a\4\0\2\u030a\1\0\1\u030a\2\0\2\u030a\15\0" + "\1\u030a\1\0\1\u030a\5\0\1\u030a\20\0\1\u030a\5\0"
-			+ "\2\u030a\13\0\1\u030b\47\0\1\u030b\160\0\1\u030c\115\0"
-			+ "\1\u030d\117\0\1\u030e\205\0\1\u030f\42\0\1\u0310\47\0"
-			+ "\1\u0310\160\0\1\u0311\115\0\1\u0312\117\0\1\u0313\205\0"
-			+ "\1\u0314\54\0\1\u0315\125\0\6\u01bc\1\u01bd\3\u01bc\2\0"
-			+ "\1\u01bc\3\0\1\u01bc\4\0\5\u01bc\5\0\4\u01bc\2\0" + "\4\u01bc\11\0\16\u01bc\4\0\11\u01bc\1\0\5\u01bc\2\0"
-			+ "\21\u01bc\1\u01bd\116\u01bc\104\0\1\u0316\115\0\1\u0317\135\0"
-			+ "\1\u0318\117\0\1\u0319\34\0\1\u031a\2\0\1\u031b\144\0"
-			+ "\1\u031c\72\0\1\u031d\157\0\1\u031e\21\0\1\u031f\110\0"
-			+ "\1\u0320\145\0\1\u0321\136\0\1\u0322\122\0\1\u0323\155\0"
-			+ "\1\u0324\136\0\1\u0325\121\0\1\u0326\205\0\1\u0327\111\0"
-			+ "\1\u0328\14\0\1\u0329\1\0\1\u032a\1\u032b\6\0\1\u032c"
-			+ "\26\0\10\u01cf\1\u032d\26\u01cf\1\u032e\102\u01cf\1\u032f\5\u01cf"
-			+ "\1\u0330\1\253\17\u01cf\2\253\1\u01cf\1\253\2\u01cf\1\253"
-			+ "\1\u0331\5\253\5\u01cf\1\253\54\u01cf\1\253\5\u01cf\2\253"
-			+ "\2\u0332\1\u0333\6\u0332\1\u0259\126\u0332\11\u0333\1\u0259\126\u0333"
-			+ "\2\u0332\1\u0333\5\u0332\1\u01d2\1\u0334\17\u0332\2\u0335\1\u0332"
-			+ "\1\u0336\2\u0332\1\u01d2\1\u0337\4\u01d2\1\u0335\5\u0332\1\u01d2"
-			+ "\54\u0332\1\u0336\5\u0332\2\u0336\2\u01d6\1\0\135\u01d6\51\0"
-			+ "\1\u0338\66\0\1\250\12\0\6\250\1\0\3\250\2\0" + "\7\250\1\0\1\250\1\u0339\5\250\1\0\2\250\1\0"
-			+ "\4\250\2\0\4\250\7\0\20\250\4\0\22\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264"
-			+ "\1\u033a\4\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\264\1\u033b\2\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\1\264\1\u033c\1\u033d\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\2\264\1\u033e" + "\13\264\4\0\14\264\1\u033f\4\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u0340" + "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u0341"
-			+ "\2\264\1\0\1\250\1\264\1\0\4\264\2\0\3\264" + "\1\u0342\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u0343"
-			+ "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\1\u0344\15\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\11\264\1\u0345\4\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\2\264\1\u0346\1\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u0347" + "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\2\264\1\u0348\1\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\264\1\u0349\2\264"
-			+ "\7\0\2\250\1\u034a\15\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264"
-			+ "\1\u034b\2\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\2\264\1\u034c\1\264\7\0\2\250\11\264\1\u034d\4\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\1\264\1\u034e\2\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\3\264\1\u034f\2\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\1\264\1\u0350\1\264\1\u0351\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\3\264\1\u0352\2\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u0353\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\2\264\1\u0354\3\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\3\264\1\u0355\7\0\2\250"
-			+ "\2\264\1\u0356\1\u0357\1\u0358\2\264\1\u0359\4\264\1\u035a"
-			+ "\1\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\2\264\1\u035b\1\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\u035c\3\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\2\264\1\u035d" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\3\264\1\u035e\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\1\u035f\4\264\1\u0360\10\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\2\264\1\u0361\13\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\7\264\1\u0362\6\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\u0363\3\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\1\u0364\15\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\7\264\1\u0365\6\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\1\264\1\u0366\4\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\11\264\1\u0367\4\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\3\264\1\u0368\2\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\2\264\1\u0369\13\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\3\264\1\u036a\2\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\3\264\1\u036b\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\264\1\u036c\4\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\1\u036d\5\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\2\264\1\u036e\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\2\264\1\u036f" + "\13\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\7\264\1\u0370"
-			+ "\6\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u0371\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\3\264\1\u0372\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\u0200\12\0\6\u0200\1\0\3\u0200\2\0\7\u0200"
-			+ "\1\0\7\u0200\1\0\2\u0200\1\0\4\u0200\2\0\4\u0200" + "\7\0\1\250\17\u0200\4\0\22\u0200\12\0\6\u0200\1\0"
-			+ "\3\u0200\2\0\1\u0200\3\u0373\1\u0200\1\u0373\1\u0200\1\u02ce"
-			+ "\6\u0200\1\u0373\1\0\2\u0200\1\0\4\u0200\1\u02ce\1\0"
-			+ "\4\u0200\7\0\1\250\17\u0200\4\0\11\u0200\1\u0373\5\u0200"
-			+ "\2\u0373\1\u0200\12\0\6\u0200\1\0\3\u0200\2\0\1\u0200"
-			+ "\3\u0374\1\u0200\1\u0374\1\u0203\1\0\6\u0200\1\u0374\1\0"
-			+ "\2\u0200\1\0\4\u0200\2\0\4\u0200\7\0\1\250\17\u0200"
-			+ "\4\0\11\u0200\1\u0374\5\u0200\2\u0374\1\u0200\12\0\6\u0200"
-			+ "\1\0\2\u0200\1\u0202\2\0\1\u0200\3\u0205\1\u0200\1\u0205"
-			+ "\1\u0200\1\0\5\u0200\1\u0204\1\u0205\1\0\2\u0200\1\0"
-			+ "\3\u0200\1\u0204\1\0\1\u0177\1\u0202\3\u0200\7\0\1\250"
-			+ "\5\u0200\1\u0204\5\u0200\1\u0204\3\u0200\4\0\11\u0200\1\u0205"
-			+ "\5\u0200\2\u0205\1\u0200\12\0\6\u0200\1\0\1\u0200\1\u0375"
-			+ "\1\u0202\2\0\1\u0200\1\u0205\2\u0206\1\u0200\1\u0206\1\u0207"
-			+ "\1\0\5\u0200\1\u0204\1\u0206\1\0\2\u0200\1\0\3\u0200"
-			+ "\1\u0204\1\0\1\u0177\1\u0202\1\u0200\1\u0375\1\u0200\7\0"
-			+ "\1\250\5\u0200\1\u0204\5\u0200\1\u0204\3\u0200\4\0\11\u0200"
-			+ "\1\u0206\5\u0200\2\u0206\1\u0200\12\0\6\u0200\1\0\3\u0200"
-			+ "\2\0\2\u0200\2\u0376\1\u0200\1\u0376\1\u0207\1\0\6\u0200"
-			+ "\1\u0376\1\0\2\u0200\1\0\4\u0200\2\0\4\u0200\7\0"
-			+ "\1\250\17\u0200\4\0\11\u0200\1\u0376\5\u0200\2\u0376\1\u0200"
-			+ "\12\0\6\u0200\1\0\3\u0200\2\0\2\u0200\2\u0377\3\u0200"
-			+ "\1\0\7\u0200\1\0\2\u0200\1\0\4\u0200\2\0\4\u0200"
-			+ "\7\0\1\250\17\u0200\4\0\22\u0200\12\0\1\u0200\1\u0378"
-			+ "\4\u0200\1\0\2\u0200\1\u0378\2\0\1\u0200\5\u0378\1\u0200"
-			+ "\1\0\5\u0200\2\u0378\1\0\2\u0200\1\0\2\u0378\1\u0200"
-			+ "\1\u0378\2\0\2\u0378\2\u0200\7\0\1\250\3\u0200\1\u0378"
-			+ "\1\u0200\1\u0378\5\u0200\1\u0378\3\u0200\4\0\11\u0200\1\u0378"
-			+ "\5\u0200\2\u0378\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\2\264\1\u0379\3\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\1\264\1\u037a\4\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\5\264"
-			+ "\1\u037b\10\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\3\264\1\u037c\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\3\264\1\u037d\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\7\264\1\u037e\6\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\2\264\1\u037f\3\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\u0380\5\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\264\1\u0381\2\264\7\0\2\250" + "\1\264\1\u0237\14\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u0382" + "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\5\264\1\u0383\10\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\2\264" + "\1\u0384\1\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\13\264\1\u0237\2\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\2\264\1\u0385\3\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\2\264"
-			+ "\1\u0386\1\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\1\u0387\15\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264" + "\1\u0237\4\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264"
-			+ "\1\u0388\2\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\4\264" + "\1\u0389\1\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\3\264\1\u038a" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\1\u038b\15\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u038c\3\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u038d\3\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\u038e\3\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\1\u038f\15\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\2\264\1\u0390\3\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\1\u0391\5\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\1\u0392\15\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\264\1\u0393\4\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\2\264\1\u0394\1\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\u0395\5\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\3\264\1\u0396\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\2\264\1\u0397\3\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\3\264\1\u0398\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\3\264"
-			+ "\1\u0399\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264"
-			+ "\1\u039a\2\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\7\264\1\u039b\6\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264"
-			+ "\1\u039c\4\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\264\1\u039d\2\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\3\264\1\u039e\2\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\1\u039f\15\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\5\264\1\u03a0\10\264\4\0\21\264\1\250" + "\12\0\6\u022f\1\0\3\u022f\2\0\7\u022f\1\0\1\u03a1"
-			+ "\6\u022f\1\0\1\250\1\u022f\1\0\4\u022f\2\0\4\u022f" + "\7\0\2\250\16\u022f\4\0\21\u022f\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u03a2" + "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\3\264"
-			+ "\1\u0396\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u03a3" + "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264" + "\1\u03a4\2\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u03a5" + "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\4\264" + "\1\u03a6\1\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u03a7"
-			+ "\5\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u03a8" + "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\3\264"
-			+ "\1\u03a9\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\7\264\1\u03aa\6\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264" + "\1\u03ab\3\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\1\264\1\u03ac\2\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\1\u03ad\4\264\1\u03ae\10\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\2\264\1\u03af\13\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\7\264\1\u03b0\6\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\14\264\1\u03b1\4\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\2\264\1\u03b2\3\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\1\u03b3\5\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\2\264\1\u03b4\13\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\5\264\1\u03b5\10\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\2\264\1\u03b6"
-			+ "\1\264\7\0\2\250\5\264\1\u03b7\10\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\2\264\1\u03b8\3\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\3\264\1\u03b9\7\0\2\250\16\264\4\0\15\264\1\u03ba" + "\3\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u03bb\3\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\2\264\1\u03bc\1\264\7\0\2\250\11\264\1\u03bd" + "\4\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\6\264\1\u03be"
-			+ "\7\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\14\264\1\u03bf" + "\1\264\4\0\21\264\1\250\12\0\1\u03c0\1\u03c1\4\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u03c2" + "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u03c3"
-			+ "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\7\264\1\u03c4\6\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\3\264"
-			+ "\1\u03c5\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\3\264\1\u03c6\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\3\264\1\u03c7\7\0"
-			+ "\2\250\2\264\1\u03c8\12\264\1\u03c9\4\0\21\264\1\250" + "\12\0\3\264\1\u03ca\2\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u03cb"
-			+ "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\u03b1\3\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u03cc" + "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\2\264\1\u03cd\13\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\5\264\1\u03ce\10\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\1\264\1\u03cf\4\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\3\264" + "\1\u03d0\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\5\264\1\u03d1\10\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u03d2" + "\2\264\7\0\2\250\16\264\4\0\21\264\2\333\1\0"
-			+ "\1\333\1\0\2\333\4\0\6\333\1\0\61\333\1\u03d3" + "\36\333\1\0\1\333\1\0\2\333\4\0\6\333\1\0"
-			+ "\55\333\1\u03d4\42\333\1\0\1\333\1\0\2\333\4\0" + "\6\333\1\0\61\333\1\u03d5\34\333\13\0\1\u03d6\47\0"
-			+ "\1\u03d6\67\0\6\u025f\1\0\3\u025f\2\0\10\u025f\1\0"
-			+ "\6\u025f\4\0\4\u025f\1\0\5\u025f\11\0\16\u025f\4\0"
-			+ "\21\u025f\75\0\1\u03d7\123\0\1\u03d8\120\0\1\u03d9\32\0"
-			+ "\1\u03da\137\0\1\u03db\4\0\1\u03dc\100\0\1\u03dd\42\0"
-			+ "\1\u03de\130\0\1\u03df\121\0\1\u03e0\20\0\1\u03e1\101\0"
-			+ "\1\u03e2\6\0\1\u03e3\5\0\1\u03e4\121\0\1\u03e5\174\0"
-			+ "\1\u03e6\134\0\1\u03e7\144\0\1\u03e8\137\0\1\u03e9\50\0"
-			+ "\6\u026d\1\0\3\u026d\2\0\10\u026d\1\0\6\u026d\4\0"
-			+ "\4\u026d\1\0\5\u026d\11\0\16\u026d\4\0\21\u026d\106\0"
-			+ "\1\u03ea\136\0\2\u026f\137\0\1\u026f\74\0\1\u026f\136\0"
-			+ "\1\u026f\34\0\1\u026f\5\0\1\u026f\115\0\1\u026f\22\0"
-			+ "\1\u026f\44\0\2\u0116\1\u03eb\3\u0116\1\0\3\u0116\2\0"
-			+ "\6\u0116\3\0\1\u0116\1\u03eb\4\u0116\4\0\4\u0116\2\0"
-			+ "\4\u0116\11\0\16\u0116\4\0\21\u0116\13\0\6\u0116\1\0"
-			+ "\1\u03ec\2\u0116\2\0\6\u0116\3\0\6\u0116\4\0\4\u0116"
-			+ "\2\0\4\u0116\11\0\1\u0116\1\u03ec\14\u0116\4\0\21\u0116"
-			+ "\36\0\1\u03ed\137\0\1\u03ee\171\0\1\u03ef\127\0\1\u0282"
-			+ "\163\0\1\u03f0\112\0\1\u03f1\60\0\2\73\1\0\1\73" + "\1\0\2\73\4\0\3\73\1\u03f2\2\73\1\0\60\73"
-			+ "\1\u03f2\37\73\1\0\1\73\1\0\2\73\4\0\1\73" + "\1\u02a1\4\73\1\0\21\73\1\120\33\73\1\u02a1\20\73"
-			+ "\1\120\21\73\1\0\1\73\1\0\2\73\4\0\3\73" + "\1\u03f3\2\73\1\0\53\73\1\u03f4\4\73\1\u03f3\14\73"
-			+ "\1\u03f4\22\73\1\0\1\73\1\0\2\73\4\0\5\73" + "\1\u03f5\1\0\20\73\1\u03f5\77\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\6\73\1\0\67\73\1\u02a1\14\73\1\u02a1" + "\13\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"
-			+ "\2\73\1\u03f6\33\73\1\u03f6\61\73\1\0\1\73\1\0" + "\2\73\4\0\4\73\1\120\1\73\1\0\62\73\1\120"
-			+ "\35\73\1\0\1\73\1\0\2\73\4\0\2\73\1\u03f7" + "\3\73\1\0\17\73\1\u03f7\100\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\6\73\1\0\1\73\1\u02bc\36\73\1\u02bc" + "\57\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"
-			+ "\2\73\1\120\33\73\1\120\61\73\1\0\1\73\1\0" + "\2\73\4\0\5\73\1\u02a1\1\0\20\73\1\u02a1\77\73"
-			+ "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\67\73" + "\1\u03f8\14\73\1\u03f8\13\73\1\0\1\73\1\0\2\73"
-			+ "\4\0\6\73\1\0\61\73\1\u03f9\17\73\1\u03f9\16\73" + "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\64\73"
-			+ "\1\u03fa\12\73\1\u03fa\20\73\1\0\1\73\1\0\2\73" + "\4\0\6\73\1\0\21\73\1\u03fb\54\73\1\u03fb\21\73"
-			+ "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\1\u02a1" + "\53\73\1\u02a1\43\73\1\0\1\73\1\0\2\73\4\0"
-			+ "\6\73\1\0\16\73\1\u02ac\61\73\1\u02ac\17\73\1\0" + "\1\73\1\0\2\73\4\0\6\73\1\0\11\73\1\u03fc"
-			+ "\25\73\1\u03fc\60\73\1\0\1\73\1\0\2\73\4\0" + "\6\73\1\0\61\73\1\u02ab\17\73\1\u02ab\16\73\1\0"
-			+ "\1\73\1\0\2\73\4\0\3\73\1\u03fd\2\73\1\0" + "\60\73\1\u03fd\37\73\1\0\1\73\1\0\2\73\4\0"
-			+ "\6\73\1\0\11\73\1\u02b3\25\73\1\u02b3\60\73\1\0" + "\1\73\1\0\2\73\4\0\5\73\1\u03fe\1\0\20\73"
-			+ "\1\u03fe\77\73\1\0\1\73\1\0\2\73\4\0\6\73" + "\1\0\53\73\1\u02ac\21\73\1\u02ac\22\73\1\0\1\73"
-			+ "\1\0\2\73\4\0\6\73\1\0\11\73\1\u0164\25\73" + "\1\u0164\60\73\1\0\1\73\1\0\2\73\4\0\6\73"
-			+ "\1\0\70\73\1\120\11\73\1\120\15\73\1\0\1\73" + "\1\0\2\73\4\0\6\73\1\0\2\73\1\u03ff\33\73"
-			+ "\1\u03ff\61\73\1\0\1\73\1\0\2\73\4\0\6\73" + "\1\0\2\73\1\u0162\33\73\1\u0162\61\73\1\0\1\73"
-			+ "\1\0\2\73\4\0\6\73\1\0\2\73\1\u02bc\33\73" + "\1\u02bc\61\73\1\0\1\73\1\0\2\73\4\0\6\73"
-			+ "\1\0\2\73\1\u0164\33\73\1\u0164\61\73\1\0\1\73" + "\1\0\2\73\4\0\6\73\1\0\21\73\1\u0400\54\73"
-			+ "\1\u0400\21\73\1\0\1\73\1\0\2\73\4\0\6\73" + "\1\0\57\73\1\u0290\5\73\1\u0290\32\73\1\0\1\73"
-			+ "\1\0\2\73\4\0\6\73\1\0\53\73\1\u0401\21\73" + "\1\u0401\22\73\1\0\1\73\1\0\2\73\4\0\3\73"
-			+ "\1\u0402\2\73\1\0\60\73\1\u0402\37\73\1\0\1\73" + "\1\0\2\73\4\0\6\73\1\0\11\73\1\120\25\73"
-			+ "\1\120\60\73\1\0\1\73\1\0\2\73\4\0\6\73" + "\1\0\1\73\1\u0403\36\73\1\u0403\57\73\1\0\1\73"
-			+ "\1\0\2\73\4\0\3\73\1\u0153\2\73\1\0\60\73" + "\1\u0153\37\73\1\0\1\73\1\0\2\73\4\0\2\73"
-			+ "\1\u0404\3\73\1\0\17\73\1\u0404\100\73\1\0\1\73" + "\1\0\2\73\4\0\5\73\1\120\1\0\20\73\1\120"
-			+ "\77\73\1\0\1\73\1\0\2\73\4\0\1\73\1\u0122" + "\4\73\1\0\55\73\1\u0122\42\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\6\73\1\0\64\73\1\u0405\12\73\1\u0405" + "\20\73\1\0\1\73\1\0\2\73\4\0\2\73\1\u0406"
-			+ "\3\73\1\0\17\73\1\u0406\100\73\1\0\1\73\1\0" + "\2\73\4\0\6\73\1\0\64\73\1\u0407\12\73\1\u0407"
-			+ "\20\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0" + "\1\73\1\u0408\36\73\1\u0408\57\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\6\73\1\0\16\73\1\u0409\61\73\1\u0409" + "\17\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"
-			+ "\64\73\1\120\12\73\1\120\20\73\1\0\1\73\1\0" + "\2\73\4\0\1\73\1\u040a\4\73\1\0\55\73\1\u040a"
-			+ "\42\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0" + "\2\73\1\u040b\33\73\1\u040b\61\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\5\73\1\u040c\1\0\20\73\1\u040c\77\73" + "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\1\120"
-			+ "\53\73\1\120\43\73\1\0\1\73\1\0\2\73\4\0" + "\6\73\1\0\53\73\1\u040d\21\73\1\u040d\22\73\1\0"
-			+ "\1\73\1\0\2\73\4\0\3\73\1\u040c\2\73\1\0" + "\60\73\1\u040c\1\u03f9\17\73\1\u03f9\16\73\1\0\1\73"
-			+ "\1\0\2\73\4\0\4\73\1\u0297\1\73\1\0\62\73" + "\1\u0297\35\73\1\0\1\73\1\0\2\73\4\0\6\73"
-			+ "\1\0\57\73\1\u040e\5\73\1\u040e\32\73\1\0\1\73" + "\1\0\2\73\4\0\6\73\1\0\1\73\1\u040f\36\73"
-			+ "\1\u040f\57\73\1\0\1\73\1\0\2\73\4\0\6\73" + "\1\0\11\73\1\u0410\25\73\1\u0410\60\73\1\0\1\73"
-			+ "\1\0\2\73\4\0\6\73\1\0\11\73\1\u0411\25\73" + "\1\u0411\60\73\1\0\1\73\1\0\2\73\4\0\6\73"
-			+ "\1\0\2\73\1\u0162\6\73\1\120\24\73\1\u0162\1\120" + "\60\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"
-			+ "\16\73\1\120\61\73\1\120\17\73\1\0\1\73\1\0" + "\2\73\4\0\6\73\1\0\70\73\1\120\11\73\1\120"
-			+ "\1\u0412\5\73\1\u0412\6\73\1\0\1\73\1\0\2\73" + "\4\0\5\73\1\u0413\1\0\20\73\1\u0413\77\73\1\0"
-			+ "\1\73\1\0\2\73\4\0\6\73\1\0\2\73\1\u0153" + "\33\73\1\u0153\61\73\1\0\1\73\1\0\2\73\4\0"
-			+ "\6\73\1\0\61\73\1\u0414\17\73\1\u0414\14\73\14\0"
-			+ "\1\u0415\62\0\1\u0415\142\0\2\u02c9\2\0\1\u02c9\43\0"
-			+ "\1\u0416\125\0\1\141\12\0\1\141\1\u0417\4\141\1\0" + "\2\141\1\u0417\2\0\1\141\5\u0417\1\141\1\0\5\141"
-			+ "\2\u0417\1\0\2\141\1\0\2\u0417\1\141\1\u0417\2\0"
-			+ "\2\u0417\2\141\10\0\3\141\1\u0417\1\141\1\u0417\5\141"
-			+ "\1\u0417\3\141\4\0\11\141\1\u0417\5\141\2\u0417\1\141" + "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f"
-			+ "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152" + "\10\0\1\141\5\152\1\u0418\10\152\4\0\21\152\1\u0172"
-			+ "\12\0\6\u0172\1\0\3\u0172\2\0\1\u0172\3\u02cd\1\u0172"
-			+ "\1\u02cd\1\u0172\1\0\5\u0172\1\u0176\1\u02cd\1\0\2\u0172"
-			+ "\1\0\3\u0172\1\u0176\2\0\4\u0172\10\0\5\u0172\1\u0176"
-			+ "\5\u0172\1\u0176\3\u0172\4\0\11\u0172\1\u02cd\5\u0172\2\u02cd"
-			+ "\30\0\3\u02cd\1\0\1\u02cd\10\0\1\u02cd\62\0\1\u02cd"
-			+ "\5\0\2\u02cd\1\u0172\12\0\6\u0172\1\0\1\u0172\1\u0173"
-			+ "\1\u0172\2\0\1\u0172\3\u02cf\1\u0172\1\u02cf\1\u0175\1\0"
-			+ "\6\u0172\1\u02cf\1\0\2\u0172\1\0\4\u0172\2\0\2\u0172"
-			+ "\1\u0173\1\u0172\10\0\17\u0172\4\0\11\u0172\1\u02cf\5\u0172"
-			+ "\2\u02cf\1\u0172\12\0\6\u0172\1\0\1\u0172\1\u02d0\1\u0172"
-			+ "\2\0\2\u0172\2\u02d1\1\u0172\1\u02d1\1\u017a\1\0\6\u0172"
-			+ "\1\u02d1\1\0\2\u0172\1\0\4\u0172\2\0\2\u0172\1\u02d0"
-			+ "\1\u0172\10\0\17\u0172\4\0\11\u0172\1\u02d1\5\u0172\2\u02d1"
-			+ "\1\u0172\12\0\1\u0172\1\u02d2\4\u0172\1\0\1\u0172\1\u02d0"
-			+ "\1\u02d2\2\0\1\u0172\5\u02d2\1\u0419\1\0\5\u0172\2\u02d2"
-			+ "\1\0\2\u0172\1\0\2\u02d2\1\u0172\1\u02d2\2\0\2\u02d2"
-			+ "\1\u02d0\1\u0172\10\0\3\u0172\1\u02d2\1\u0172\1\u02d2\5\u0172"
-			+ "\1\u02d2\3\u0172\4\0\11\u0172\1\u02d2\5\u0172\2\u02d2\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\3\152"
-			+ "\1\u018f\10\0\1\141\16\152\4\0\21\152\1\141\12\0" + "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\1\u041a"
-			+ "\5\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152" + "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"
-			+ "\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0" + "\1\141\1\152\1\0\4\152\2\0\1\u041b\3\152\10\0"
-			+ "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\3\152\1\u041c\2\152"
-			+ "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0" + "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141" + "\1\152\1\0\4\152\2\0\1\u041d\3\152\10\0\1\141"
-			+ "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152" + "\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152"
-			+ "\1\0\4\152\2\0\4\152\10\0\1\141\1\u041e\15\152" + "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"
-			+ "\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0" + "\4\152\2\0\3\152\1\u01a1\10\0\1\141\16\152\4\0"
-			+ "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152" + "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152"
-			+ "\2\0\2\152\1\u01a1\1\152\10\0\1\141\16\152\4\0" + "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"
-			+ "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152" + "\2\0\4\152\10\0\1\141\5\152\1\u041f\10\152\4\0"
-			+ "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152" + "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152"
-			+ "\2\0\4\152\10\0\1\141\2\152\1\u0420\13\152\4\0" + "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"
-			+ "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152" + "\2\0\3\152\1\u02d5\10\0\1\141\16\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0"
-			+ "\1\152\1\u0421\2\152\10\0\1\141\16\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\1\152\1\u0422\2\152\10\0\1\141\16\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0"
-			+ "\1\152\1\u0423\2\152\10\0\1\141\16\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\2\152\1\u0424\1\152\10\0\1\141\16\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0"
-			+ "\1\u0425\3\152\10\0\1\141\16\152\4\0\21\152\1\141" + "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f"
-			+ "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152" + "\10\0\1\141\11\152\1\u01a1\4\152\4\0\21\152\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"
-			+ "\10\0\1\141\3\152\1\u0426\12\152\4\0\21\152\1\141" + "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f"
-			+ "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\1\u01a1" + "\3\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"
-			+ "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152" + "\1\0\1\141\1\152\1\0\4\152\2\0\1\152\1\u0427"
-			+ "\2\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0" + "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152"
-			+ "\1\0\1\141\1\152\1\0\4\152\2\0\1\u0428\3\152" + "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"
-			+ "\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0" + "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"
-			+ "\1\u0429\15\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\2\152\1\u042a\1\152\10\0" + "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\2\152\1\u042b\3\152" + "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"
-			+ "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\6\152" + "\1\u0425\7\152\4\0\21\152\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141" + "\1\152\1\0\4\152\2\0\1\u0187\3\152\10\0\1\141"
-			+ "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152" + "\2\0\7\152\1\0\1\u016f\2\152\1\u042c\3\152\1\0"
-			+ "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141" + "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"
-			+ "\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152" + "\1\0\4\152\2\0\4\152\10\0\1\141\2\152\1\u042d"
-			+ "\13\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152" + "\2\0\7\152\1\0\1\u016f\1\152\1\u0421\4\152\1\0"
-			+ "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141" + "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"
-			+ "\2\0\7\152\1\0\1\u016f\2\152\1\u02f2\3\152\1\0" + "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"
-			+ "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152" + "\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152"
-			+ "\1\0\4\152\2\0\4\152\10\0\1\141\2\152\1\u0306" + "\13\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"
-			+ "\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152" + "\1\0\4\152\2\0\3\152\1\u02d9\10\0\1\141\16\152"
-			+ "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0" + "\7\152\1\0\1\u016f\2\152\1\u042e\3\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\3\152\1\u042f\10\0\1\141" + "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"
-			+ "\2\0\7\152\1\0\1\u016f\1\152\1\u0425\4\152\1\0" + "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"
-			+ "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152" + "\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152"
-			+ "\1\0\4\152\2\0\1\152\1\u0430\2\152\10\0\1\141" + "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"
-			+ "\2\0\7\152\1\0\1\u016f\1\u0431\5\152\1\0\1\141" + "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"
-			+ "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0" + "\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0"
-			+ "\4\152\2\0\1\u0432\3\152\10\0\1\141\16\152\4\0" + "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"
-			+ "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\1\152" + "\1\u0433\2\152\2\0\4\152\10\0\1\141\16\152\4\0"
-			+ "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152" + "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152"
-			+ "\2\0\1\u0434\3\152\10\0\1\141\16\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\2\152\1\u0435\3\152\1\0\1\141\1\152\1\0" + "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0"
-			+ "\4\152\10\0\1\141\5\152\1\u0436\10\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\1\152\1\u0437\2\152\10\0\1\141\16\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0"
-			+ "\2\152\1\u0438\1\152\10\0\1\141\1\u0429\15\152\4\0" + "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"
-			+ "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152" + "\2\0\4\152\10\0\1\141\1\u01a1\15\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0"
-			+ "\2\152\1\u042c\1\152\10\0\1\141\16\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\2\152\1\u0439\3\152\1\0\1\141\1\152\1\0" + "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0"
-			+ "\4\152\10\0\1\141\14\152\1\u043a\1\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\3\152\1\u043b\10\0\1\141\16\152\4\0\21\152\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"
-			+ "\10\0\1\141\15\152\1\u043c\4\0\21\152\1\141\12\0" + "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152"
-			+ "\1\0\1\141\1\152\1\0\4\152\2\0\2\152\1\u02e5" + "\1\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"
-			+ "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152" + "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"
-			+ "\1\141\3\152\1\u01a1\12\152\4\0\21\152\1\141\12\0" + "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152"
-			+ "\1\0\1\141\1\152\1\0\4\152\2\0\1\152\1\u043d" + "\2\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"
-			+ "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152" + "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"
-			+ "\1\141\4\152\1\u01a1\11\152\4\0\21\152\14\0\1\u043e" + "\7\0\1\u043e\3\0\5\u043e\7\0\2\u043e\4\0\2\u043e"
-			+ "\1\0\1\u043e\2\0\2\u043e\15\0\1\u043e\1\0\1\u043e" + "\5\0\1\u043e\20\0\1\u043e\5\0\2\u043e\14\0\1\u043f"
-			+ "\7\0\1\u043f\3\0\5\u043f\7\0\2\u043f\4\0\2\u043f" + "\1\0\1\u043f\2\0\2\u043f\15\0\1\u043f\1\0\1\u043f"
-			+ "\5\0\1\u043f\20\0\1\u043f\5\0\2\u043f\14\0\1\u0440"
-			+ "\62\0\1\u0440\130\0\1\u0441\127\0\1\u030c\163\0\1\u0442"
-			+ "\112\0\1\u0443\74\0\1\u0444\62\0\1\u0444\130\0\1\u0445"
-			+ "\127\0\1\u0311\163\0\1\u0446\112\0\1\u0447\101\0\1\u0448"
-			+ "\206\0\1\u0449\127\0\1\u0316\121\0\1\u044a\137\0\1\u044b"
-			+ "\176\0\1\u044c\77\0\1\u044d\157\0\1\u044e\15\0\1\u044f"
-			+ "\102\0\1\u0450\136\0\1\u0451\16\0\1\u0452\122\0\1\u0453"
-			+ "\157\0\1\u0454\116\0\1\u0455\201\0\1\u0456\75\0\1\u0457"
-			+ "\36\0\1\u0458\77\0\1\u0459\137\0\1\u045a\202\0\1\u045b"
-			+ "\112\0\1\u045c\162\0\1\u045d\132\0\1\u045e\137\0\1\u045f"
-			+ "\105\0\1\u0460\155\0\1\u0461\56\0\2\u01cf\1\u032f\5\u01cf"
-			+ "\1\u0462\127\u01cf\10\u032f\1\u032d\127\u032f\2\u0330\1\u0462\5\u0330"
-			+ "\1\u01d0\26\u0330\1\u0463\100\u0330\10\u01cf\1\u032d\3\u01cf\1\u0464"
-			+ "\7\u01cf\1\u0464\3\u01cf\5\u0464\2\u01cf\1\u032e\4\u01cf\2\u0464"
-			+ "\4\u01cf\2\u0464\1\u01cf\1\u0464\2\u01cf\2\u0464\15\u01cf\1\u0464"
-			+ "\1\u01cf\1\u0464\5\u01cf\1\u0464\20\u01cf\1\u0464\5\u01cf\2\u0464"
-			+ "\2\u0332\1\u0333\6\u0332\1\u01d4\126\u0332\11\u0333\1\u01d4\126\u0333"
-			+ "\11\0\1\u0259\126\0\2\u0332\1\u0333\6\u0332\1\u0259\17\u0332"
-			+ "\2\u0336\1\u0332\1\u0336\10\u0332\1\u0336\62\u0332\1\u0336\5\u0332"
-			+ "\2\u0336\2\u0332\1\u0333\6\u0332\1\u0259\17\u0332\2\u01d2\1\u0332"
-			+ "\1\u01d2\10\u0332\1\u01d2\62\u0332\1\u01d2\5\u0332\2\u01d2\2\u0332"
-			+ "\1\u0333\6\u0332\1\u01d4\2\u0332\1\u0465\7\u0332\1\u0465\3\u0332"
-			+ "\5\u0465\7\u0332\2\u0465\4\u0332\2\u0465\1\u0332\1\u0465\2\u0332"
-			+ "\2\u0465\15\u0332\1\u0465\1\u0332\1\u0465\5\u0332\1\u0465\20\u0332"
-			+ "\1\u0465\5\u0332\2\u0465\1\250\12\0\1\250\1\u0466\4\250"
-			+ "\1\0\2\250\1\u0466\2\0\1\250\5\u0466\1\250\1\0" + "\5\250\2\u0466\1\0\2\250\1\0\2\u0466\1\250\1\u0466"
-			+ "\2\0\2\u0466\2\250\7\0\4\250\1\u0466\1\250\1\u0466"
-			+ "\5\250\1\u0466\3\250\4\0\11\250\1\u0466\5\250\2\u0466" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\u0467\3\264\7\0\2\250\5\264\1\u0468\10\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\2\264\1\u0469\13\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\5\264\1\u046a\6\264\1\u046b"
-			+ "\1\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\u046c\5\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\1\u046d\5\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\2\264\1\u046e\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\2\264\1\u046f\13\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\2\264\1\u0470\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\3\264\1\u0471\2\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\1\264\1\u0472\4\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\7\264\1\u0473\6\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\5\264\1\u0474\10\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\264\1\u0475\4\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\u0476\3\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\3\264\1\u0477\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\3\264\1\u0478\2\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\3\264\1\u0479\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\3\264\1\u047a\7\0\2\250\2\264\1\u047b\13\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\2\264\1\u047c\1\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\7\264\1\u047d\6\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\1\264\1\u047e\4\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u047f\1\u0480\2\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\4\264\1\u0481\11\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\1\u0482\15\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\4\264\1\u0483\11\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\264\1\u0484\4\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\1\u0485\5\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\1\u0486\3\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u0487\3\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\1\u0488\15\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\u0489\3\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u048a"
-			+ "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u048b"
-			+ "\5\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\264\1\u048c\2\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\4\264\1\u048d"
-			+ "\1\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u048e" + "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264" + "\1\u048f\2\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264"
-			+ "\1\u01f9\4\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\10\264\1\u0490\5\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\3\264\1\u0491\12\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\2\264\1\u0492\4\264\1\u0493\6\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\3\264\1\u0494\2\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u0495" + "\10\264\1\u0496\4\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\15\264\1\u0497\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\u0498\3\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\u0499\3\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\2\264" + "\1\u049a\16\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\u049b\3\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\u049c\3\264\7\0\2\250\1\u049d\15\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\u049e\3\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\6\264\1\u049f\7\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\264\1\u04a0\2\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\1\u04a1\3\264\7\0\2\250\15\264\1\u04a2\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\2\264\1\u04a3\3\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\1\u04a4\15\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\11\264\1\u04a5\4\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u04a6"
-			+ "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\u04a7\3\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u04a8" + "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u04a9"
-			+ "\2\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\2\264\1\u04aa\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\u0200\12\0\6\u0200\1\0"
-			+ "\3\u0200\2\0\1\u0200\3\u0373\1\u0200\1\u0373\1\u0200\1\0"
-			+ "\5\u0200\1\u0204\1\u0373\1\0\2\u0200\1\0\3\u0200\1\u0204"
-			+ "\2\0\4\u0200\7\0\1\250\5\u0200\1\u0204\5\u0200\1\u0204"
-			+ "\3\u0200\4\0\11\u0200\1\u0373\5\u0200\2\u0373\1\u0200\12\0"
-			+ "\6\u0200\1\0\1\u0200\1\u0201\1\u0200\2\0\1\u0200\3\u0374"
-			+ "\1\u0200\1\u0374\1\u0203\1\0\6\u0200\1\u0374\1\0\2\u0200"
-			+ "\1\0\4\u0200\2\0\2\u0200\1\u0201\1\u0200\7\0\1\250"
-			+ "\17\u0200\4\0\11\u0200\1\u0374\5\u0200\2\u0374\1\u0200\12\0"
-			+ "\6\u0200\1\0\1\u0200\1\u0375\1\u0200\2\0\2\u0200\2\u0376"
-			+ "\1\u0200\1\u0376\1\u0207\1\0\6\u0200\1\u0376\1\0\2\u0200"
-			+ "\1\0\4\u0200\2\0\2\u0200\1\u0375\1\u0200\7\0\1\250"
-			+ "\17\u0200\4\0\11\u0200\1\u0376\5\u0200\2\u0376\1\u0200\12\0"
-			+ "\6\u0200\1\0\3\u0200\2\0\2\u0200\2\u0377\2\u0200\1\u04ab"
-			+ "\1\0\7\u0200\1\0\2\u0200\1\0\4\u0200\2\0\4\u0200"
-			+ "\7\0\1\250\17\u0200\4\0\22\u0200\12\0\1\u0200\1\u0378"
-			+ "\4\u0200\1\0\1\u0200\1\u0375\1\u0378\2\0\1\u0200\5\u0378"
-			+ "\1\u04ac\1\0\5\u0200\2\u0378\1\0\2\u0200\1\0\2\u0378"
-			+ "\1\u0200\1\u0378\2\0\2\u0378\1\u0375\1\u0200\7\0\1\250"
-			+ "\3\u0200\1\u0378\1\u0200\1\u0378\5\u0200\1\u0378\3\u0200\4\0"
-			+ "\11\u0200\1\u0378\5\u0200\2\u0378\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u04ad" + "\15\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\264\1\u04ae\2\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\2\264\1\u04af\3\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\2\264\1\u04b0\3\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u04b1\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\u04b2\3\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\1\u04b3\5\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\u04b4\3\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\3\264\1\u04b5\2\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\1\u04b6\15\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\3\264\1\u0237"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\2\264\1\u0237\1\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\5\264\1\u04b7\10\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\3\264\1\u0380\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\264\1\u04b8\2\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u04b9\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\4\264\1\u04ba\1\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\u04bb\3\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\2\264\1\u04bc\3\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\2\264\1\u04bd\1\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\u04be\3\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\1\u04bf\5\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\264\1\u04c0\2\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\2\264\1\u04c1\1\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u04c2\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\3\264\1\u04c3\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\264\1\u0472\2\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\11\264\1\u04c4\4\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\2\264\1\u04c5\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u04c6\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\11\264\1\u0237\4\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\1\u0237\3\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\u04c7\3\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\2\264\1\u04c8\3\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\u04c9\3\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\6\264\1\u04c2\7\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u0217" + "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\5\264\1\u04ca\10\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264"
-			+ "\1\u04cb\3\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\2\264\1\u04cc\13\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264"
-			+ "\1\u04b8\4\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264" + "\1\u03a2\3\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\250\1\0\3\250\2\0\7\250\1\0\1\250\1\u04cd"
-			+ "\5\250\1\0\2\250\1\0\4\250\2\0\4\250\7\0" + "\20\250\4\0\22\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\2\264\1\u04ce\13\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\3\264\1\u0383\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u04cf\3\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\3\264\1\u04d0\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\264\1\u04c2\4\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\264\1\u04d1\2\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\1\264\1\u04d2\2\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\u04d3\3\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\2\264\1\u04d4\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\2\264\1\u04d5\1\264\7\0\2\250\1\u04c9\15\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\1\u0237\15\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\2\264\1\u04cb\1\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\2\264\1\u04d6\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\14\264\1\u04d7\1\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\15\264\1\u04d8\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\2\264\1\u04d9\1\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\1\u04da\5\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u033d" + "\1\u04db\2\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\1\264\1\u04dc\2\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\2\264\1\u04dd\3\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\2\264"
-			+ "\1\u0396\1\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\264" + "\1\u04de\2\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\4\264\1\u0237\11\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\7\264\1\u04df\6\264\4\0\1\u04e0\20\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\1\u04e1\3\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u04e2" + "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\5\264\1\u04e3\10\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\2\264\1\u04e4" + "\1\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\1\264\1\u04e5\2\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u04e6" + "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\5\264\1\u04e7\10\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u04e8"
-			+ "\5\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\2\264\1\u04e9\1\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\1\u04ea" + "\5\264\1\0\3\264\2\0\4\264\1\u04eb\2\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\3\264\1\u033d\12\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\1\0\1\u04ec\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\3\264\1\u04ed\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\12\264" + "\1\u04ee\3\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\1\u04ef\5\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\264\1\u04f0\2\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\3\264\1\u04f1\12\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u04f2" + "\2\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\12\264\1\u033d\3\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\6\264\1\u04f3\7\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\5\264\1\u04f4\10\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u036c" + "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\4\264\1\u033d\11\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u04f5" + "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\3\264\1\u04f6\12\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u04f7" + "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\15\264\1\u04f8\4\0\21\264\2\333\1\0\1\333\1\0"
-			+ "\2\333\4\0\6\333\1\0\40\333\1\u04f9\57\333\1\0" + "\1\333\1\0\2\333\4\0\6\333\1\0\40\333\1\u04fa"
-			+ "\57\333\1\0\1\333\1\0\2\333\4\0\6\333\1\0" + "\36\333\1\u04fb\57\333\20\0\1\u04fc\21\0\1\u04fc\172\0"
-			+ "\1\u03da\103\0\1\u04fd\176\0\1\u04fe\101\0\1\337\174\0"
-			+ "\1\u04ff\101\0\1\u0500\157\0\1\u0501\162\0\1\u0502\75\0"
-			+ "\1\u0503\140\0\1\u0504\17\0\1\u0505\117\0\1\u0506\176\0"
-			+ "\1\u0507\115\0\1\u0508\123\0\1\u0509\155\0\1\u050a\135\0"
-			+ "\1\u050b\170\0\1\u050c\111\0\1\u03dd\137\0\1\u050d\160\0"
-			+ "\1\u050e\46\0\3\u0116\1\u050f\2\u0116\1\0\3\u0116\2\0"
-			+ "\6\u0116\3\0\6\u0116\4\0\4\u0116\2\0\4\u0116\11\0"
-			+ "\5\u0116\1\u050f\10\u0116\4\0\21\u0116\13\0\6\u0116\1\0"
-			+ "\1\u0116\1\u0510\1\u0116\2\0\6\u0116\3\0\6\u0116\4\0"
-			+ "\4\u0116\2\0\2\u0116\1\u0510\1\u0116\11\0\16\u0116\4\0"
-			+ "\21\u0116\12\0\1\u0511\210\0\1\u0282\4\0\1\u03ef\54\0"
-			+ "\3\u0512\1\0\1\u0512\7\u03f1\1\0\3\u03f1\2\u0512\6\u03f1"
-			+ "\2\u0512\1\0\6\u03f1\1\0\1\u0512\1\u03f1\1\u0512\4\u03f1"
-			+ "\2\u0512\4\u03f1\1\0\1\u0512\1\0\3\u0512\2\0\1\u0512"
-			+ "\16\u03f1\2\u0512\1\0\1\u0512\21\u03f1\2\73\1\0\1\73" + "\1\0\2\73\4\0\4\73\1\u02ac\1\73\1\0\62\73"
-			+ "\1\u02ac\35\73\1\0\1\73\1\0\2\73\4\0\6\73" + "\1\0\70\73\1\u0290\11\73\1\u0290\15\73\1\0\1\73"
-			+ "\1\0\2\73\4\0\6\73\1\0\21\73\1\u0133\54\73" + "\1\u0133\21\73\1\0\1\73\1\0\2\73\4\0\3\73"
-			+ "\1\u040c\2\73\1\0\60\73\1\u040c\37\73\1\0\1\73" + "\1\0\2\73\4\0\1\73\1\u02ac\4\73\1\0\55\73"
-			+ "\1\u02ac\42\73\1\0\1\73\1\0\2\73\4\0\1\73" + "\1\u0290\4\73\1\0\55\73\1\u0290\42\73\1\0\1\73"
-			+ "\1\0\2\73\4\0\6\73\1\0\11\73\1\u0513\25\73" + "\1\u0513\60\73\1\0\1\73\1\0\2\73\4\0\2\73"
-			+ "\1\u0514\3\73\1\0\17\73\1\u0514\100\73\1\0\1\73" + "\1\0\2\73\4\0\6\73\1\0\2\73\1\u0515\6\73"
-			+ "\1\u03ff\24\73\1\u0515\1\u03ff\60\73\1\0\1\73\1\0" + "\2\73\4\0\6\73\1\0\57\73\1\u0516\5\73\1\u0516"
-			+ "\32\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0" + "\64\73\1\u0290\12\73\1\u0290\20\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\6\73\1\0\21\73\1\u0517\54\73\1\u0517" + "\21\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"
-			+ "\11\73\1\u0518\25\73\1\u0518\60\73\1\0\1\73\1\0" + "\2\73\4\0\6\73\1\0\21\73\1\u0164\54\73\1\u0164"
-			+ "\21\73\1\0\1\73\1\0\2\73\4\0\5\73\1\u0519" + "\1\0\20\73\1\u0519\77\73\1\0\1\73\1\0\2\73"
-			+ "\4\0\6\73\1\0\21\73\1\u051a\54\73\1\u051a\21\73" + "\1\0\1\73\1\0\2\73\4\0\1\73\1\u012e\4\73"
-			+ "\1\0\55\73\1\u012e\42\73\1\0\1\73\1\0\2\73" + "\4\0\6\73\1\0\2\73\1\u02ac\33\73\1\u02ac\61\73"
-			+ "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\2\73" + "\1\u051b\33\73\1\u051b\61\73\1\0\1\73\1\0\2\73"
-			+ "\4\0\6\73\1\0\11\73\1\u051c\25\73\1\u051c\60\73" + "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\2\73"
-			+ "\1\u051d\33\73\1\u051d\61\73\1\0\1\73\1\0\2\73" + "\4\0\6\73\1\0\57\73\1\u051e\5\73\1\u051e\32\73"
-			+ "\1\0\1\73\1\0\2\73\4\0\2\73\1\u0290\3\73" + "\1\0\17\73\1\u0290\100\73\1\0\1\73\1\0\2\73"
-			+ "\4\0\6\73\1\0\70\73\1\u051f\11\73\1\u051f\15\73" + "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\22\73"
-			+ "\1\u0520\10\73\1\u0520\64\73\1\0\1\73\1\0\2\73" + "\4\0\6\73\1\0\53\73\1\u015d\21\73\1\u015d\22\73"
-			+ "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\16\73" + "\1\u03ff\61\73\1\u03ff\17\73\1\0\1\73\1\0\2\73"
-			+ "\4\0\6\73\1\0\53\73\1\u0133\21\73\1\u0133\22\73" + "\1\0\1\73\1\0\2\73\4\0\3\73\1\u0521\2\73"
-			+ "\1\0\60\73\1\u0521\37\73\1\0\1\73\1\0\2\73" + "\4\0\5\73\1\u0522\1\0\1\73\1\u0523\16\73\1\u0522"
-			+ "\17\73\1\u0523\20\73\1\u0524\17\73\1\u0524\16\73\1\0" + "\1\73\1\0\2\73\4\0\6\73\1\0\16\73\1\u0525"
-			+ "\61\73\1\u0525\17\73\1\0\1\73\1\0\2\73\4\0" + "\3\73\1\u0526\2\73\1\0\60\73\1\u0526\37\73\1\0"
-			+ "\1\73\1\0\2\73\4\0\6\73\1\0\2\73\1\u015d" + "\33\73\1\u015d\57\73\15\0\1\u0527\23\0\1\u0527\76\0"
-			+ "\1\141\12\0\1\141\1\u0528\4\141\1\0\2\141\1\u0528" + "\2\0\1\141\5\u0528\1\141\1\0\5\141\2\u0528\1\0"
-			+ "\2\141\1\0\2\u0528\1\141\1\u0528\2\0\2\u0528\2\141"
-			+ "\10\0\3\141\1\u0528\1\141\1\u0528\5\141\1\u0528\3\141"
-			+ "\4\0\11\141\1\u0528\5\141\2\u0528\1\141\12\0\6\152" + "\1\0\3\152\2\0\7\152\1\0\1\u016f\3\152\1\u0529"
-			+ "\2\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152" + "\10\0\1\141\16\152\4\0\21\152\1\u0172\12\0\1\u0172"
-			+ "\1\u02d2\4\u0172\1\0\2\u0172\1\u02d2\2\0\1\u0172\5\u02d2"
-			+ "\1\u0419\1\0\5\u0172\2\u02d2\1\0\2\u0172\1\0\2\u02d2"
-			+ "\1\u0172\1\u02d2\2\0\2\u02d2\2\u0172\10\0\3\u0172\1\u02d2"
-			+ "\1\u0172\1\u02d2\5\u0172\1\u02d2\3\u0172\4\0\11\u0172\1\u02d2"
-			+ "\5\u0172\2\u02d2\1\141\12\0\6\152\1\0\3\152\2\0" + "\7\152\1\0\1\u016f\1\152\1\u052a\4\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152" + "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"
-			+ "\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0" + "\4\152\2\0\3\152\1\u052b\10\0\1\141\16\152\4\0"
-			+ "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152" + "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152"
-			+ "\2\0\4\152\10\0\1\141\1\u052c\15\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\4\152\10\0\1\141\13\152\1\u052d\2\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0"
-			+ "\4\152\10\0\1\141\14\152\1\u02e5\1\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\2\152\1\u052e\3\152\1\0\1\141\1\152\1\0" + "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\2\152\1\u0425\3\152\1\0\1\141\1\152\1\0"
-			+ "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\2\152\1\u052f\1\152\10\0\1\141\16\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0"
-			+ "\4\152\10\0\1\141\15\152\1\u01a1\4\0\21\152\1\141" + "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f"
-			+ "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\1\u0530" + "\3\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"
-			+ "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152" + "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"
-			+ "\1\141\7\152\1\u0531\6\152\4\0\21\152\1\141\12\0" + "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\3\152"
-			+ "\1\u0532\2\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\4\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"
-			+ "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\1\152" + "\1\u042f\4\152\1\0\1\141\1\152\1\0\4\152\2\0"
-			+ "\4\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0" + "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\1\152"
-			+ "\1\u0533\4\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\4\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"
-			+ "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152" + "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"
-			+ "\1\141\5\152\1\u0534\10\152\4\0\21\152\1\141\12\0" + "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152"
-			+ "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0" + "\1\141\3\152\1\u0535\12\152\4\0\21\152\1\141\12\0"
-			+ "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152" + "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"
-			+ "\1\141\5\152\1\u0536\10\152\4\0\21\152\1\141\12\0" + "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\2\152"
-			+ "\1\u01a1\3\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\4\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"
-			+ "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\1\u0537" + "\5\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"
-			+ "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152" + "\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0"
-			+ "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141" + "\6\152\1\u0538\7\152\4\0\21\152\1\141\12\0\6\152"
-			+ "\1\0\3\152\2\0\7\152\1\0\1\u016f\2\152\1\u02e5" + "\3\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"
-			+ "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152" + "\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0"
-			+ "\1\141\1\152\1\0\4\152\2\0\2\152\1\u02e2\1\152" + "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"
-			+ "\1\0\3\152\2\0\7\152\1\0\1\u016f\1\152\1\u0539" + "\4\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"
-			+ "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152" + "\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0"
-			+ "\1\141\1\152\1\0\4\152\2\0\1\152\1\u053a\2\152" + "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"
-			+ "\1\0\3\152\2\0\7\152\1\0\1\u016f\3\152\1\u053b" + "\2\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"
-			+ "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152" + "\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0"
-			+ "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141" + "\16\152\4\0\1\152\1\u042a\17\152\1\141\12\0\6\152"
-			+ "\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0" + "\1\141\1\152\1\0\4\152\2\0\1\u053c\3\152\10\0"
-			+ "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\1\u053d\3\152\10\0\1\141" + "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"
-			+ "\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152" + "\1\0\4\152\2\0\1\152\1\u0432\2\152\10\0\1\141"
-			+ "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152" + "\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152"
-			+ "\1\0\4\152\2\0\1\u053e\3\152\10\0\1\141\16\152" + "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"
-			+ "\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0" + "\4\152\2\0\1\152\1\u053f\2\152\10\0\1\141\16\152"
-			+ "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0" + "\7\152\1\0\1\u016f\2\152\1\u01a8\3\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152" + "\4\0\21\152\15\0\1\u0540\23\0\1\u0540\110\0\1\u0541"
-			+ "\210\0\1\u030c\4\0\1\u0441\54\0\3\u0542\1\0\1\u0542"
-			+ "\7\u0443\1\0\3\u0443\2\u0542\6\u0443\2\u0542\1\0\6\u0443"
-			+ "\1\0\1\u0542\1\u0443\1\u0542\4\u0443\2\u0542\4\u0443\1\0"
-			+ "\1\u0542\1\0\3\u0542\2\0\1\u0542\16\u0443\2\u0542\1\0"
-			+ "\1\u0542\21\u0443\15\0\1\u0543\23\0\1\u0543\110\0\1\u0544"
-			+ "\210\0\1\u0311\4\0\1\u0445\54\0\3\u0545\1\0\1\u0545"
-			+ "\7\u0447\1\0\3\u0447\2\u0545\6\u0447\2\u0545\1\0\6\u0447"
-			+ "\1\0\1\u0545\1\u0447\1\u0545\4\u0447\2\u0545\4\u0447\1\0"
-			+ "\1\u0545\1\0\3\u0545\2\0\1\u0545\16\u0447\2\u0545\1\0"
-			+ "\1\u0545\21\u0447\12\0\1\u0546\165\0\1\u0547\174\0\1\u0548"
-			+ "\137\0\1\u0452\122\0\1\u0549\14\0\1\u054a\150\0\1\u054b"
-			+ "\111\0\1\u054c\1\0\1\u054d\155\0\1\u054e\141\0\1\u054f"
-			+ "\134\0\1\u0550\135\0\1\u0551\122\0\1\u0552\120\0\1\u0553"
-			+ "\156\0\1\u0554\137\0\1\u0555\140\0\1\u0556\141\0\1\u0557"
-			+ "\137\0\1\u0316\4\0\1\u0449\54\0\3\u0558\1\0\1\u0558"
-			+ "\7\u045c\1\0\3\u045c\2\u0558\6\u045c\2\u0558\1\0\6\u045c"
-			+ "\1\0\1\u0558\1\u045c\1\u0558\4\u045c\2\u0558\4\u045c\1\0"
-			+ "\1\u0558\1\0\3\u0558\2\0\1\u0558\16\u045c\2\u0558\1\0"
-			+ "\1\u0558\21\u045c\42\0\1\u0559\1\u055a\175\0\1\u055b\135\0"
-			+ "\1\u055c\140\0\1\u055d\121\0\1\u055e\55\0\10\u0462\1\0"
-			+ "\26\u0462\1\u055f\102\u0462\1\0\5\u0462\2\u0330\17\u0462\2\u0330"
-			+ "\1\u0462\1\u0330\2\u0462\1\u0330\1\u0560\5\u0330\5\u0462\1\u0330"
-			+ "\54\u0462\1\u0330\5\u0462\2\u0330\10\u01cf\1\u032d\3\u01cf\1\u0561"
-			+ "\7\u01cf\1\u0561\3\u01cf\5\u0561\2\u01cf\1\u032e\4\u01cf\2\u0561"
-			+ "\4\u01cf\2\u0561\1\u01cf\1\u0561\2\u01cf\2\u0561\15\u01cf\1\u0561"
-			+ "\1\u01cf\1\u0561\5\u01cf\1\u0561\20\u01cf\1\u0561\5\u01cf\2\u0561"
-			+ "\2\u0332\1\u0333\6\u0332\1\u01d4\2\u0332\1\u0562\7\u0332\1\u0562"
-			+ "\3\u0332\5\u0562\7\u0332\2\u0562\4\u0332\2\u0562\1\u0332\1\u0562"
-			+ "\2\u0332\2\u0562\15\u0332\1\u0562\1\u0332\1\u0562\5\u0332\1\u0562"
-			+ "\20\u0332\1\u0562\5\u0332\2\u0562\1\250\12\0\1\250\1\u0563"
-			+ "\4\250\1\0\2\250\1\u0563\2\0\1\250\5\u0563\1\250" + "\1\0\5\250\2\u0563\1\0\2\250\1\0\2\u0563\1\250"
-			+ "\1\u0563\2\0\2\u0563\2\250\7\0\4\250\1\u0563\1\250"
-			+ "\1\u0563\5\250\1\u0563\3\250\4\0\11\250\1\u0563\5\250" + "\2\u0563\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\264\1\u0564\2\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\3\264\1\u0565\2\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\2\264\1\u0566" + "\13\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\15\264\1\u0567"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\1\264\1\u0568\2\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\5\264\1\u0569\10\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\264\1\u056a\4\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\u056b\3\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\u056c\3\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\3\264\1\u056d" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u056e"
-			+ "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264"
-			+ "\1\u056f\2\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264" + "\1\u033d\3\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\2\264\1\u0570" + "\1\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264" + "\1\u0571\3\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\u0572\3\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u0573" + "\2\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\3\264\1\u0574\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\u0575\3\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u0480\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\1\u0576\15\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\1\u0577\5\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\u0578\3\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\264"
-			+ "\1\u0353\2\264\7\0\2\250\5\264\1\u0579\10\264\4\0" + "\21\264\1\250\12\0\1\u057a\1\u057b\4\264\1\0\3\264"
-			+ "\2\0\4\264\1\u057c\2\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\264\1\u057d\2\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\5\264\1\u057e\10\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\264\1\u057f\2\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\u04a4\1\u057f\2\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u0580\5\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u0581" + "\15\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\264\1\u0582\2\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\u0583\5\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\1\264\1\u0584\4\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\6\264"
-			+ "\1\u056f\7\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u0585\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\11\264"
-			+ "\1\u0586\4\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u0587\4\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\10\264"
-			+ "\1\u0588\5\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u0589\3\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\2\264\1\u058a\1\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u058b" + "\15\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\6\264\1\u058c"
-			+ "\7\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\2\264\1\u058d\3\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\2\264\1\u058e"
-			+ "\13\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\1\264\1\u058f\2\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\u0590\3\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\1\u0591\3\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u0592\3\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\1\264\1\u0593\4\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\5\264\1\u0594\10\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\264\1\u0595\2\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\4\264\1\u0596\11\264\4\0"
-			+ "\21\264\1\250\12\0\1\u04bf\5\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\2\264" + "\1\u0597\16\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\264\1\u0598\2\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\1\264" + "\1\u0599\17\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\264\1\u059a\2\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\13\264\1\u0480\2\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\1\u059b\6\264\1\0\1\u01d8\1\264\1\u059c\4\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\1\u0485\5\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\2\264\1\u059d\1\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\1\264" + "\1\u059e\17\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\u059f\1\u05a0\2\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\2\264\1\u05a1\1\u05a2\2\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\1\264\1\u033d\4\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\1\u04bf\1\u05a3\4\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\u05a4\3\264\7\0" + "\2\250\16\264\4\0\2\264\1\u0597\16\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264" + "\1\u05a5\4\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\7\264\1\u05a6\6\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\1\264\1\u05a7\14\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264"
-			+ "\1\u05a8\3\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\10\264\1\u0490\5\264\4\0\21\264\1\u0200\12\0"
-			+ "\1\u0200\1\u0378\4\u0200\1\0\2\u0200\1\u0378\2\0\1\u0200"
-			+ "\5\u0378\1\u04ac\1\0\5\u0200\2\u0378\1\0\2\u0200\1\0"
-			+ "\2\u0378\1\u0200\1\u0378\2\0\2\u0378\2\u0200\7\0\1\250"
-			+ "\3\u0200\1\u0378\1\u0200\1\u0378\5\u0200\1\u0378\3\u0200\4\0"
-			+ "\11\u0200\1\u0378\5\u0200\2\u0378\1\250\12\0\1\264\1\u05a9"
-			+ "\4\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\264" + "\1\u05aa\14\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\3\264"
-			+ "\1\u05ab\12\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u05ac\4\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u05ad\4\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u05ae\2\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u05af\4\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\3\264\1\u05b0\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\13\264\1\u05b1"
-			+ "\2\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\14\264\1\u0396" + "\1\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\2\264\1\u04c2\3\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\2\264\1\u05b2\1\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\u05b3\3\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\17\264" + "\1\u05b4\1\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\3\264\1\u05b5\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\u05b6\3\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\4\264\1\u05b7"
-			+ "\2\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\1\u0472\3\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\15\264\1\u0237\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\u05b8\3\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\3\264\1\u0480\12\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\264\1\u05b9\2\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\u05ba\3\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\2\264\1\u05bb"
-			+ "\1\u05bc\1\u05bd\1\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\3\264\1\u05be\2\264\1\0\1\250\1\264\1\0"
-			+ "\3\264\1\u05bf\2\0\4\264\7\0\2\250\12\264\1\u05c0"
-			+ "\3\264\4\0\1\u05c1\1\u05c2\14\264\1\u05c3\2\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\3\264\1\u05c4\2\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\1\264\1\u05c5\4\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\1\264\1\u04d0\4\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\2\264\1\u05c6\13\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\5\264\1\u05c7\10\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\3\264\1\u05c8\12\264\4\0\21\264\1\250" + "\12\0\1\250\1\u05c9\4\250\1\0\2\250\1\u05c9\2\0"
-			+ "\1\250\5\u05c9\1\250\1\0\5\250\2\u05c9\1\0\2\250" + "\1\0\2\u05c9\1\250\1\u05c9\2\0\2\u05c9\2\250\7\0"
-			+ "\4\250\1\u05c9\1\250\1\u05c9\5\250\1\u05c9\3\250\4\0"
-			+ "\11\250\1\u05c9\5\250\2\u05c9\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\3\264" + "\1\u0237\12\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\5\264"
-			+ "\1\u05ca\10\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u0237\3\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\1\u05cb\5\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\2\264\1\u0390\1\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\1\264\1\u05cc\4\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\264\1\u05cd\2\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\u05ce\3\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\1\u05cf\3\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\264\1\u05d0\2\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\264\1\u05d1\2\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\5\264\1\u05d2\10\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\u033d\3\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\3\264\1\u05d3\2\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\1\u05d4"
-			+ "\20\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\2\264\1\u05d5\1\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\5\264\1\u05d6\10\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\2\264\1\u0242\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\u05d7\5\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\4\264\1\u05d8\1\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\1\264\1\u05d9\4\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\2\264\1\u05da\13\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\1\u05db\15\264\4\0\21\264\1\250"
-			+ "\12\0\4\264\1\u05dc\1\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u05dd" + "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264" + "\1\u05de\3\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\6\264\1\u05df\7\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\2\264\1\u05e0\13\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u05e1" + "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\u05e2\3\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\2\264\1\u05e3\13\264\4\0\21\264\24\0\1\u05e4\113\0"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\5\264\1\u05e5\10\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\264\1\u05e6\2\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\7\264\1\u05e7\6\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\2\264\1\u05e8\3\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\1\u05e9\3\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\1\u05ea\15\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\1\u05eb\15\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\4\264\1\u05ec"
-			+ "\1\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u05ed\5\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\1\u04bf\5\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u0480"
-			+ "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\2\264\1\u0597\16\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u05ee"
-			+ "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\10\264\1\u05ef\10\264\2\333\1\0"
-			+ "\1\333\1\0\2\333\4\0\6\333\1\0\60\333\1\u05f0" + "\37\333\1\0\1\333\1\0\2\333\4\0\6\333\1\0"
-			+ "\16\333\1\u05f1\77\333\22\0\1\u05f2\53\0\1\u05f2\144\0"
-			+ "\1\u05f3\72\0\1\u05f4\141\0\1\u05f5\162\0\1\u0505\127\0"
-			+ "\1\u05f6\126\0\1\u05f7\177\0\1\u05f8\140\0\1\337\76\0"
-			+ "\1\u05f9\207\0\1\337\66\0\1\u05fa\142\0\1\u05fb\135\0"
-			+ "\1\u050c\173\0\1\u05f9\140\0\1\u05fc\120\0\1\u05fd\161\0"
-			+ "\1\u05fe\132\0\1\u05ff\55\0\4\u0116\1\u0600\1\u0116\1\0"
-			+ "\3\u0116\2\0\6\u0116\3\0\6\u0116\4\0\4\u0116\2\0"
-			+ "\4\u0116\11\0\7\u0116\1\u0600\6\u0116\4\0\21\u0116\13\0"
-			+ "\6\u0116\1\0\2\u0116\1\u0601\2\0\6\u0116\3\0\6\u0116"
-			+ "\4\0\4\u0116\2\0\1\u0601\3\u0116\11\0\16\u0116\4\0" + "\21\u0116\12\0\1\u03f1\125\0\2\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\1\120\5\73\1\0\41\73\1\120\56\73" + "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\53\73"
-			+ "\1\u0602\21\73\1\u0602\22\73\1\0\1\73\1\0\2\73" + "\4\0\6\73\1\0\21\73\1\u02ac\54\73\1\u02ac\21\73"
-			+ "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\2\73" + "\1\u0603\33\73\1\u0603\61\73\1\0\1\73\1\0\2\73"
-			+ "\4\0\5\73\1\u0604\1\0\20\73\1\u0604\77\73\1\0" + "\1\73\1\0\2\73\4\0\2\73\1\u0605\3\73\1\0"
-			+ "\17\73\1\u0605\100\73\1\0\1\73\1\0\2\73\4\0" + "\1\u0606\5\73\1\0\41\73\1\u0606\56\73\1\0\1\73"
-			+ "\1\0\2\73\4\0\6\73\1\0\1\u02b3\53\73\1\u02b3" + "\43\73\1\0\1\73\1\0\2\73\4\0\1\u0513\5\73"
-			+ "\1\0\41\73\1\u0513\56\73\1\0\1\73\1\0\2\73" + "\4\0\6\73\1\0\64\73\1\u0607\12\73\1\u0607\20\73"
-			+ "\1\0\1\73\1\0\2\73\4\0\1\u0403\5\73\1\0" + "\41\73\1\u0403\56\73\1\0\1\73\1\0\2\73\4\0"
-			+ "\6\73\1\0\103\73\1\u0608\5\73\1\u0608\6\73\1\0" + "\1\73\1\0\2\73\4\0\6\73\1\0\53\73\1\u0515"
-			+ "\21\73\1\u0515\22\73\1\0\1\73\1\0\2\73\4\0" + "\6\73\1\0\1\73\1\u0513\36\73\1\u0513\57\73\1\0"
-			+ "\1\73\1\0\2\73\4\0\6\73\1\0\2\73\1\u0609" + "\33\73\1\u0609\61\73\1\0\1\73\1\0\2\73\4\0"
-			+ "\3\73\1\u0149\2\73\1\0\60\73\1\u0149\37\73\1\0" + "\1\73\1\0\2\73\4\0\2\73\1\u060a\3\73\1\0"
-			+ "\17\73\1\u060a\100\73\1\0\1\73\1\0\2\73\4\0" + "\6\73\1\0\2\73\1\u0290\33\73\1\u0290\61\73\1\0"
-			+ "\1\73\1\0\2\73\4\0\1\73\1\u060b\4\73\1\0" + "\55\73\1\u060b\40\73\16\0\1\u060c\63\0\1\u060c\35\0"
-			+ "\1\141\12\0\1\141\1\u060d\4\141\1\0\2\141\1\u060d" + "\2\0\1\141\5\u060d\1\141\1\0\5\141\2\u060d\1\0"
-			+ "\2\141\1\0\2\u060d\1\141\1\u060d\2\0\2\u060d\2\141"
-			+ "\10\0\3\141\1\u060d\1\141\1\u060d\5\141\1\u060d\3\141"
-			+ "\4\0\11\141\1\u060d\5\141\2\u060d\1\141\12\0\6\152" + "\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0"
-			+ "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141" + "\5\152\1\u060e\10\152\4\0\21\152\1\141\12\0\6\152"
-			+ "\1\0\3\152\2\0\7\152\1\0\1\u016f\3\152\1\u060f" + "\2\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"
-			+ "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152" + "\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0"
-			+ "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141" + "\5\152\1\u0610\10\152\4\0\21\152\1\141\12\0\6\152"
-			+ "\1\0\3\152\2\0\7\152\1\0\1\u016f\4\152\1\u01a1" + "\1\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"
-			+ "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152" + "\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0"
-			+ "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141" + "\5\152\1\u0611\10\152\4\0\21\152\1\141\12\0\6\152"
-			+ "\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0" + "\1\141\1\152\1\0\4\152\2\0\2\152\1\u0612\1\152"
-			+ "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152" + "\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0"
-			+ "\1\141\1\152\1\0\4\152\2\0\1\152\1\u0613\2\152" + "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"
-			+ "\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0" + "\1\141\1\152\1\0\4\152\2\0\1\u042a\3\152\10\0"
-			+ "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\4\152" + "\1\u02d9\11\152\4\0\21\152\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141" + "\1\152\1\0\4\152\2\0\1\152\1\u0614\2\152\10\0"
-			+ "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\2\152" + "\1\u01a1\13\152\4\0\21\152\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\1\152\1\u0615\4\152" + "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"
-			+ "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\3\152\1\u0616\2\152"
-			+ "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0" + "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141" + "\1\152\1\0\4\152\2\0\2\152\1\u042f\1\152\10\0"
-			+ "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\6\152" + "\1\u02ed\7\152\4\0\21\152\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\4\152\1\u0617\1\152" + "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"
-			+ "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\3\152\1\u0618\2\152"
-			+ "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0" + "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141" + "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\5\152"
-			+ "\1\u0619\10\152\4\0\21\152\1\141\12\0\6\152\1\0" + "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141"
-			+ "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\11\152" + "\1\u061a\4\152\4\0\21\152\1\141\12\0\6\152\1\0"
-			+ "\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141" + "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\2\152"
-			+ "\1\u061b\13\152\4\0\21\152\1\141\12\0\3\152\1\u061c" + "\2\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152"
-			+ "\1\0\1\141\1\152\1\0\3\152\1\u061d\2\0\4\152" + "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"
-			+ "\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152\1\0" + "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"
-			+ "\6\152\1\u02e5\7\152\4\0\21\152\16\0\1\u061e\63\0"
-			+ "\1\u061e\47\0\1\u0443\143\0\1\u061f\63\0\1\u061f\47\0"
-			+ "\1\u0447\137\0\1\u045c\166\0\1\u0620\137\0\1\u0621\157\0"
-			+ "\1\u0622\166\0\1\u0623\133\0\1\u0624\137\0\1\u0625\73\0"
-			+ "\1\u0626\174\0\1\u0627\123\0\1\u0628\136\0\1\u0452\141\0"
-			+ "\1\u0629\160\0\1\u062a\114\0\1\u062b\120\0\1\u062c\203\0"
-			+ "\1\u0452\140\0\1\u0452\133\0\1\u062d\115\0\1\u062e\171\0"
-			+ "\1\u062f\105\0\1\u062f\74\0\1\u0630\202\0\1\u0631\117\0"
-			+ "\1\u055b\77\0\2\u0462\1\0\145\u0462\1\0\3\u0462\1\u0632"
-			+ "\7\u0462\1\u0632\3\u0462\5\u0632\2\u0462\1\u055f\4\u0462\2\u0632"
-			+ "\4\u0462\2\u0632\1\u0462\1\u0632\2\u0462\2\u0632\15\u0462\1\u0632"
-			+ "\1\u0462\1\u0632\5\u0462\1\u0632\20\u0462\1\u0632\5\u0462\2\u0632"
-			+ "\10\u01cf\1\u032d\3\u01cf\1\u0633\7\u01cf\1\u0633\3\u01cf\5\u0633"
-			+ "\2\u01cf\1\u032e\4\u01cf\2\u0633\4\u01cf\2\u0633\1\u01cf\1\u0633"
-			+ "\2\u01cf\2\u0633\15\u01cf\1\u0633\1\u01cf\1\u0633\5\u01cf\1\u0633"
-			+ "\20\u01cf\1\u0633\5\u01cf\2\u0633\2\u0332\1\u0333\6\u0332\1\u01d4"
-			+ "\2\u0332\1\u0634\7\u0332\1\u0634\3\u0332\5\u0634\7\u0332\2\u0634"
-			+ "\4\u0332\2\u0634\1\u0332\1\u0634\2\u0332\2\u0634\15\u0332\1\u0634"
-			+ "\1\u0332\1\u0634\5\u0332\1\u0634\20\u0332\1\u0634\5\u0332\2\u0634"
-			+ "\1\250\12\0\1\250\1\u0635\4\250\1\0\2\250\1\u0635" + "\2\0\1\250\5\u0635\1\250\1\0\5\250\2\u0635\1\0"
-			+ "\2\250\1\0\2\u0635\1\250\1\u0635\2\0\2\u0635\2\250"
-			+ "\7\0\4\250\1\u0635\1\250\1\u0635\5\250\1\u0635\3\250"
-			+ "\4\0\11\250\1\u0635\5\250\2\u0635\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\11\264\1\u0636\4\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\6\264\1\u0637\7\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u0638"
-			+ "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\5\264"
-			+ "\1\u0639\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\1\u063a\20\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\2\264\1\u063b\1\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\2\264\1\u063c\13\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\5\264\1\u063d\10\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u063e" + "\2\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\4\264\1\u0499\11\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\264\1\u063f\2\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\11\264\1\u033d\4\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\u04a4\3\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\u0640\3\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\u0641\3\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\3\264\1\u0642\2\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\4\264\1\u0643\11\264"
-			+ "\4\0\21\264\1\250\12\0\1\264\1\u0644\4\264\1\0" + "\1\264\1\u0645\1\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\3\264\1\u0646\2\0\4\264" + "\7\0\2\250\16\264\4\0\1\264\1\u05c2\5\264\1\u0647"
-			+ "\11\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\264\1\u057f\2\264\7\0\2\250\16\264\4\0" + "\1\264\1\u0648\17\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\2\264\1\u04da\1\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\264\1\u0649\4\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\2\264\1\u064a"
-			+ "\13\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\2\264\1\u056f\1\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\u064b\3\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\1\u064c\15\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\264\1\u064d\4\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\2\264\1\u064e\13\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\11\264\1\u064f\4\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\1\264"
-			+ "\1\u0576\2\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\264\1\u0650\4\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\11\264\1\u0651\4\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u036c\3\264\1\0\1\250\1\264" + "\1\0\1\264\1\u0576\2\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\11\264\1\u0652" + "\4\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\1\264\1\u0653\1\264\1\u0654" + "\2\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u0655"
-			+ "\2\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\7\264\1\u0656\6\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\5\264\1\u0657\10\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\1\u0658\20\264\1\250\12\0\1\u0659\5\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\2\264\1\u065a\16\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\5\264\1\u065b\10\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u065c"
-			+ "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\264\1\u065d\2\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\5\264\1\u065e\10\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\u065f\3\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u0660\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\3\264\1\u0661\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\264\1\u0662\4\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\1\u0663\5\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\16\264\1\u05c3\2\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\5\264" + "\1\u0664\10\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u0665\3\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\6\264" + "\1\u04da\7\264\4\0\21\264\1\250\12\0\2\264\1\u05bb"
-			+ "\1\u05bc\2\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264";
-
-	private static final String ZZ_TRANS_PACKED_1 = "\7\0\2\250\16\264\4\0\1\u05c1\15\264\1\u05c3\2\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\1\264\1\u0666\2\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\3\264\1\u0667\2\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\1\u0668\15\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\4\264\1\u0669\11\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\1\u066a\15\264\4\0\21\264\1\250\12\0" + "\5\264\1\u066b\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\u066c\3\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\1\u066d\5\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\4\264\1\u066e"
-			+ "\11\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\6\264\1\u066f" + "\7\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\u0670\3\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\2\264\1\u0671\3\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\1\u0672\15\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\1\264\1\u0673\4\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\3\264\1\u0674\2\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\2\264\1\u0675\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\1\u0676\5\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\1\264\1\u0677\1\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\1\u0678" + "\20\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\2\264\1\u0679\1\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\1\u067a\2\264\1\u067b\2\264\1\0" + "\1\264\1\u067c\1\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\3\264\1\u033d" + "\7\0\2\250\12\264\1\u067d\3\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\11\264\1\u067e\4\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\264" + "\1\u067f\2\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\2\264\1\u0680\3\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\4\264\1\u0480\11\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\3\264\1\u0681\2\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\5\264\1\u0682\10\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\2\264"
-			+ "\1\u0683\1\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\1\264\1\u0362\4\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\20\264\1\u0684\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264"
-			+ "\1\u0685\3\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u0686"
-			+ "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264"
-			+ "\1\u0687\4\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u0688"
-			+ "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264"
-			+ "\1\u0689\3\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264" + "\1\u0596\4\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\u068a\3\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u068b" + "\2\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\u068c\3\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\264\1\u068d\2\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\5\264" + "\1\u068e\10\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\u068f\3\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\u0690\5\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\1\u0691\15\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\1\264\1\u0692\4\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\4\264\1\u0383\11\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\264\1\u0693\2\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u0694\3\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\2\264\1\u0237\13\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\264\1\u0695\4\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\1\250\1\u0696\4\250\1\0\2\250" + "\1\u0696\2\0\1\250\5\u0696\1\250\1\0\5\250\2\u0696"
-			+ "\1\0\2\250\1\0\2\u0696\1\250\1\u0696\2\0\2\u0696"
-			+ "\2\250\7\0\4\250\1\u0696\1\250\1\u0696\5\250\1\u0696"
-			+ "\3\250\4\0\11\250\1\u0696\5\250\2\u0696\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264"
-			+ "\1\u0697\2\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\2\264\1\u04d0"
-			+ "\1\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\4\264"
-			+ "\1\u0698\1\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264" + "\1\u0699\2\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\11\264\1\u069a\4\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\2\264\1\u069b\13\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264"
-			+ "\1\u0396\3\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\6\264\1\u0396\7\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\2\264\1\u069c\13\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264" + "\1\u069d\2\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u069e"
-			+ "\5\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\u049f\3\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u069f" + "\15\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\2\264\1\u06a0\3\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\2\264\1\u06a1\16\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\14\264\1\u0481"
-			+ "\1\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\2\264\1\u06a2\3\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\3\264\1\u06a3\2\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\1\u06a4\15\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\1\264\1\u06a5\4\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\5\264\1\u06a6\10\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\264\1\u06a7\2\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\3\264\1\u06a8\12\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\3\264\1\u06a9\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\1\264\1\u06aa\4\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u06ab\3\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\43\0\1\u06ac\74\0\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u06ad\2\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u06ae\3\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\7\264" + "\1\u06af\6\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\5\264"
-			+ "\1\u06b0\10\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\2\264" + "\1\u06b1\13\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\13\264"
-			+ "\1\u06b2\2\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u06b3\4\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\264"
-			+ "\1\u06b4\14\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u06b5\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\4\264\1\u06b6\2\264\1\0\1\u01d8\1\264" + "\1\u033d\4\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u06b7" + "\2\264\7\0\2\250\16\264\4\0\21\264\2\333\1\0"
-			+ "\1\333\1\0\2\333\4\0\6\333\1\0\31\333\1\u04fb" + "\66\333\1\0\1\333\1\0\2\333\4\0\6\333\1\0"
-			+ "\57\333\1\u03d5\36\333\23\0\1\u06b8\36\0\1\u06b8\135\0"
-			+ "\1\u03da\141\0\1\u06b9\12\0\1\u06ba\1\0\1\u06bb\123\0"
-			+ "\1\337\136\0\1\u06bc\153\0\1\337\152\0\1\u06bd\64\0"
-			+ "\1\u06be\164\0\1\u06bf\151\0\1\u06c0\154\0\1\u06bc\66\0"
-			+ "\1\337\140\0\1\u06bc\136\0\1\u06c1\111\0\5\u0116\1\u06c2"
-			+ "\1\0\3\u0116\2\0\6\u0116\3\0\2\u0116\1\u06c2\3\u0116"
-			+ "\4\0\4\u0116\2\0\4\u0116\11\0\16\u0116\4\0\21\u0116" + "\2\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"
-			+ "\16\73\1\u028d\61\73\1\u028d\17\73\1\0\1\73\1\0" + "\2\73\4\0\6\73\1\0\32\73\1\120\30\73\1\120"
-			+ "\34\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0" + "\2\73\1\u06c3\33\73\1\u06c3\61\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\6\73\1\0\2\73\1\u02a8\33\73\1\u02a8" + "\61\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"
-			+ "\53\73\1\u0128\21\73\1\u0128\22\73\1\0\1\73\1\0" + "\2\73\4\0\6\73\1\0\2\73\1\u0513\33\73\1\u0513"
-			+ "\61\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0" + "\16\73\1\u06c4\61\73\1\u06c4\17\73\1\0\1\73\1\0"
-			+ "\2\73\4\0\6\73\1\0\64\73\1\u06c5\12\73\1\u06c5" + "\20\73\1\0\1\73\1\0\2\73\4\0\3\73\1\u0164"
-			+ "\2\73\1\0\60\73\1\u0164\37\73\1\0\1\73\1\0" + "\2\73\4\0\6\73\1\0\53\73\1\u02bc\21\73\1\u02bc"
-			+ "\20\73\17\0\1\u06c6\64\0\1\u06c6\33\0\1\141\12\0" + "\1\141\1\152\4\141\1\0\2\141\1\152\2\0\1\141"
-			+ "\5\152\1\141\1\0\5\141\2\152\1\0\2\141\1\0" + "\2\152\1\141\1\152\2\0\2\152\2\141\10\0\3\141"
-			+ "\1\152\1\141\1\152\5\141\1\152\3\141\4\0\11\141" + "\1\152\5\141\2\152\1\141\12\0\6\152\1\0\3\152"
-			+ "\2\0\7\152\1\0\1\u016f\2\152\1\u0612\3\152\1\0" + "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"
-			+ "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152" + "\2\0\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152"
-			+ "\1\0\4\152\2\0\1\u06c7\3\152\10\0\1\141\16\152" + "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"
-			+ "\7\152\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0" + "\4\152\2\0\4\152\10\0\1\141\1\u06c8\15\152\4\0"
-			+ "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152" + "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152"
-			+ "\2\0\4\152\10\0\1\141\1\152\1\u01a1\14\152\4\0" + "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"
-			+ "\1\0\1\u016f\3\152\1\u0425\2\152\1\0\1\141\1\152" + "\1\0\4\152\2\0\4\152\10\0\1\141\16\152\4\0"
-			+ "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152" + "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152"
-			+ "\2\0\4\152\10\0\1\141\2\152\1\u042f\13\152\4\0" + "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"
-			+ "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152" + "\2\0\4\152\10\0\1\141\1\u06c9\15\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\1\u02e5\5\152\1\0\1\141\1\152\1\0\4\152"
-			+ "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\141" + "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f"
-			+ "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\1\152" + "\1\u06ca\2\152\10\0\1\141\16\152\4\0\21\152\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"
-			+ "\10\0\1\141\2\152\1\u02d7\13\152\4\0\21\152\1\141" + "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f"
-			+ "\2\152\1\u0531\3\152\1\0\1\141\1\152\1\0\4\152" + "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\141"
-			+ "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f" + "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\1\u06cb"
-			+ "\3\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0" + "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\2\152"
-			+ "\1\u06cc\3\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\4\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"
-			+ "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\3\152" + "\1\u06cd\2\152\1\0\1\141\1\152\1\0\4\152\2\0"
-			+ "\4\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0" + "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152"
-			+ "\1\0\1\141\1\152\1\0\4\152\2\0\2\152\1\u06ce" + "\1\152\10\0\1\141\16\152\4\0\21\152\17\0\1\u06cf"
-			+ "\64\0\1\u06cf\52\0\1\u06d0\64\0\1\u06d0\76\0\1\u0452"
-			+ "\176\0\1\u06d1\136\0\1\u06d2\121\0\1\u0452\136\0\1\u0550"
-			+ "\117\0\1\u0557\176\0\1\u0550\77\0\1\u0452\160\0\1\u06d3"
-			+ "\135\0\1\u06d4\154\0\1\u06d5\141\0\1\u06d6\103\0\1\u06d1"
-			+ "\171\0\1\u0620\103\0\1\u06d7\76\0\64\u062f\1\u0452\53\u062f"
-			+ "\75\0\1\u06d8\103\0\1\u06d9\76\0\10\u0462\1\0\3\u0462"
-			+ "\1\u06da\7\u0462\1\u06da\3\u0462\5\u06da\2\u0462\1\u055f\4\u0462"
-			+ "\2\u06da\4\u0462\2\u06da\1\u0462\1\u06da\2\u0462\2\u06da\15\u0462"
-			+ "\1\u06da\1\u0462\1\u06da\5\u0462\1\u06da\20\u0462\1\u06da\5\u0462"
-			+ "\2\u06da\10\u01cf\1\u032d\3\u01cf\1\253\7\u01cf\1\253\3\u01cf"
-			+ "\5\253\2\u01cf\1\u032e\4\u01cf\2\253\4\u01cf\2\253\1\u01cf"
-			+ "\1\253\2\u01cf\2\253\15\u01cf\1\253\1\u01cf\1\253\5\u01cf"
-			+ "\1\253\20\u01cf\1\253\5\u01cf\2\253\2\u0332\1\u0333\6\u0332"
-			+ "\1\u01d4\2\u0332\1\u01d2\7\u0332\1\u01d2\3\u0332\5\u01d2\7\u0332"
-			+ "\2\u01d2\4\u0332\2\u01d2\1\u0332\1\u01d2\2\u0332\2\u01d2\15\u0332"
-			+ "\1\u01d2\1\u0332\1\u01d2\5\u0332\1\u01d2\20\u0332\1\u01d2\5\u0332"
-			+ "\2\u01d2\1\250\12\0\1\250\1\264\4\250\1\0\2\250" + "\1\264\2\0\1\250\5\264\1\250\1\0\5\250\2\264"
-			+ "\1\0\2\250\1\0\2\264\1\250\1\264\2\0\2\264" + "\2\250\7\0\4\250\1\264\1\250\1\264\5\250\1\264"
-			+ "\3\250\4\0\11\250\1\264\5\250\2\264\1\250\12\0" + "\1\264\1\u06db\3\264\1\u06dc\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\2\264\1\u05bb\1\u067b\1\264\1\u06dc\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\1\u06dd\3\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\12\264\1\u06de\3\264\1\u05c3\2\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\2\264\1\u06df\16\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264"
-			+ "\1\u06e0\4\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\14\264\1\u06e1\1\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\5\264\1\u06e2\10\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\u06e3\3\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u06e4"
-			+ "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\2\264\1\u06e5\13\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\5\264\1\u06e6\10\264\4\0\21\264\1\250\12\0\5\264"
-			+ "\1\u06e7\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u06e8\4\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\2\264"
-			+ "\1\u06e9\13\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u06ea\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\264\1\u06eb\2\264\7\0"
-			+ "\2\250\5\264\1\u06ec\10\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\1\u068a\15\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\1\u06ed\15\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u06ee\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u06ef"
-			+ "\15\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\264\1\u06f0\4\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\2\264\1\u06f1\3\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\14\264\1\u06f2\4\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\3\264\1\u06f3\2\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\264\1\u06f4\4\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\2\264\1\u06f5\3\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u06f6\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\2\264\1\u06f7\13\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\4\264\1\u06f8\2\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\11\264\1\u06f9\4\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\u06fa\5\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\264\1\u06fb\2\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\2\264\1\u06fc\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\264\1\u06fd\2\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\2\264\1\u06fe\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\u06ff\5\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\2\264\1\u0700\3\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\5\264\1\u0701\10\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\4\264\1\u0702\11\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\11\264\1\u0703\4\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\2\264\1\u0704\1\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\2\264\1\u0705\3\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\7\264\1\u0706\6\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\2\264\1\u0707\13\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\3\264\1\u0708\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\2\264\1\u0709\3\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\2\264\1\u070a\3\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\2\264\1\u070b\3\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\5\264\1\u070c\10\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\7\264\1\u033d\6\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\1\264\1\u070d\14\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\2\264\1\u070e\3\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\1\264\1\u070f\1\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\1\0\1\u0710\4\264\7\0\2\250\12\264\1\u0711\3\264" + "\4\0\4\264\1\u0712\14\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u04da\2\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u0713\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\1\0\1\u0714\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\11\264\1\u0715" + "\4\264\4\0\21\264\1\250\12\0\6\264\1\0\1\264"
-			+ "\1\u067c\1\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\10\264\1\u0716\10\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\u06b4\3\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\3\264\1\u0717\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u0718\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\3\264\1\u0719\2\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\1\264\1\u0706\2\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\264\1\u071a\2\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\5\264\1\u071b\10\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\2\264\1\u071c\3\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\5\264\1\u071d\10\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\1\264\1\u071e\2\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\1\u071f\15\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u0720\3\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\3\264\1\u0721\2\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\5\264\1\u0722\10\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\u023e\3\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\u0723\3\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\2\264\1\u0724\13\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\5\264\1\u0725\10\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u0726"
-			+ "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\1\264\1\u0237\14\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\1\0\1\u0727\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u0728"
-			+ "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u033d" + "\2\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u0729"
-			+ "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u04c2" + "\2\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u072a"
-			+ "\3\264\1\0\1\250\1\264\1\0\3\264\1\u072b\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u072c"
-			+ "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\7\264\1\u072d\6\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264" + "\1\u072e\4\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\11\264\1\u072f\4\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\2\264\1\u0730"
-			+ "\1\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\3\264\1\u0731" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u068b" + "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u0732"
-			+ "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\5\264\1\u0730\10\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\2\264\1\u04d0\13\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\4\264\1\u0733" + "\1\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\1\u0734\15\264\4\0\21\264\1\250\12\0\1\250\1\u0735"
-			+ "\4\250\1\0\2\250\1\u0735\2\0\1\250\5\u0735\1\250" + "\1\0\5\250\2\u0735\1\0\2\250\1\0\2\u0735\1\250"
-			+ "\1\u0735\2\0\2\u0735\2\250\7\0\4\250\1\u0735\1\250"
-			+ "\1\u0735\5\250\1\u0735\3\250\4\0\11\250\1\u0735\5\250" + "\2\u0735\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\u0396\5\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\1\264\1\u0736\2\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\2\264\1\u0737\13\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\1\u0738\3\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\2\264\1\u0739\3\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\264"
-			+ "\1\u073a\2\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\7\264\1\u073b\6\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\2\264\1\u069d\3\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\3\264\1\u073c\2\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\1\u073d\5\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\u073e\3\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\1\u073f"
-			+ "\2\264\1\u0740\2\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\3\264\1\u033d\7\0\2\250\16\264\4\0\1\u0741\20\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\264\1\u0742\2\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\5\264\1\u0743\10\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\3\264\1\u0744" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\14\264\1\u0745\1\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\1\264\1\u0746\2\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\2\264\1\u0747\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\3\264\1\u0748"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\2\264\1\u0749" + "\16\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\3\264\1\u074a\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\5\264\1\u074b\10\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\5\264\1\u074c\10\264\4\0\21\264"
-			+ "\42\0\1\u074d\75\0\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\6\264\1\u074e" + "\7\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\264\1\u074f\2\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\1\u0750\15\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\3\264\1\u0751\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\15\264\1\u0752\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\3\264\1\u0753\2\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\5\264\1\u0754\10\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\2\264\1\u0755\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\2\264"
-			+ "\1\u0756\1\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\1\264\1\u0757\2\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\3\264"
-			+ "\1\u0758\7\0\2\250\16\264\4\0\21\264\24\0\1\u0759"
-			+ "\33\0\1\u0759\140\0\1\u0500\122\0\1\u075a\173\0\1\u075b"
-			+ "\117\0\1\u075c\137\0\1\337\154\0\1\u06ba\1\0\1\u06bb"
-			+ "\102\0\1\u075d\136\0\1\u06bd\140\0\1\u075e\75\0\2\73" + "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\32\73"
-			+ "\1\u02ac\30\73\1\u02ac\34\73\1\0\1\73\1\0\2\73" + "\4\0\6\73\1\0\53\73\1\u012a\21\73\1\u012a\22\73"
-			+ "\1\0\1\73\1\0\2\73\4\0\4\73\1\u075f\1\73" + "\1\0\62\73\1\u075f\33\73\20\0\1\u0760\21\0\1\u0760"
-			+ "\75\0\1\141\12\0\6\152\1\0\3\152\2\0\7\152" + "\1\0\1\u016f\3\152\1\u042f\2\152\1\0\1\141\1\152"
-			+ "\1\0\4\152\2\0\4\152\10\0\1\141\16\152\4\0" + "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"
-			+ "\1\0\1\u016f\3\152\1\u01a1\2\152\1\0\1\141\1\152" + "\1\0\4\152\2\0\4\152\10\0\1\141\16\152\4\0"
-			+ "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152" + "\1\0\1\u016f\3\152\1\u0761\2\152\1\0\1\141\1\152"
-			+ "\1\0\4\152\2\0\4\152\10\0\1\141\16\152\4\0" + "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"
-			+ "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152" + "\2\0\4\152\10\0\1\141\2\152\1\u02e5\13\152\4\0"
-			+ "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152" + "\1\0\1\u016f\3\152\1\u0762\2\152\1\0\1\141\1\152"
-			+ "\1\0\4\152\2\0\4\152\10\0\1\141\16\152\4\0" + "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"
-			+ "\1\0\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152" + "\2\0\1\u0308\3\152\10\0\1\141\16\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\2\152\1\u042a\3\152\1\0\1\141\1\152\1\0"
-			+ "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\4\152\10\0\1\141\1\u0763\15\152\4\0\21\152\20\0"
-			+ "\1\u0764\21\0\1\u0764\115\0\1\u0765\21\0\1\u0765\156\0"
-			+ "\1\u0766\141\0\1\u0767\131\0\1\u0768\31\0\1\u0769\72\0"
-			+ "\1\u0550\136\0\1\u076a\157\0\1\u076b\137\0\1\u076c\153\0"
-			+ "\1\u076d\144\0\1\u076e\35\0\10\u0462\1\0\3\u0462\1\u076f"
-			+ "\7\u0462\1\u076f\3\u0462\5\u076f\2\u0462\1\u055f\4\u0462\2\u076f"
-			+ "\4\u0462\2\u076f\1\u0462\1\u076f\2\u0462\2\u076f\15\u0462\1\u076f"
-			+ "\1\u0462\1\u076f\5\u0462\1\u076f\20\u0462\1\u076f\5\u0462\2\u076f"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\1\u0770\15\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\1\u0771\15\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u0772" + "\5\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\1\u0773\15\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\264\1\u0774\2\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u0775\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\u0776\3\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\13\264\1\u0777\5\264\1\250\12\0\1\264\1\u0778\4\264"
-			+ "\1\0\1\264\1\u0645\1\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\1\264\1\u0779\14\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\u077a\3\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\2\264\1\u077b\1\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\5\264"
-			+ "\1\u077c\10\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u077d\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\264"
-			+ "\1\u033d\14\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u077e\4\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\3\264\1\u077f\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\264\1\u0780\4\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\1\264\1\u0781\4\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\2\264\1\u03b1\1\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\2\264\1\u0782\3\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u0783\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\5\264\1\u0784\10\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\u0785\5\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\14\264\1\u0786\1\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\264\1\u0787\2\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\u0788\3\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\4\264\1\u05bd\1\264\1\0\2\264\1\u04aa" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\u0789\3\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\2\264\1\u078a\13\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\264\1\u078b\2\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\7\264\1\u078c\6\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\2\264\1\u06b4\1\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\5\264\1\u078d\10\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\2\264\1\u078e\3\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\1\264\1\u078f\2\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\2\264\1\u0790\3\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\1\264\1\u0791\4\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\3\264\1\u0792\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\1\264\1\u0793\2\264\1\u0794\1\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\1\u0795\20\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\u0796\3\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\1\u0797\4\264\1\u0798\1\0\3\264" + "\2\0\4\264\1\u0799\2\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\3\264\1\u079a\2\0\4\264\7\0" + "\2\250\16\264\4\0\2\264\1\u079b\16\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\1\264\1\u04f8\14\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264"
-			+ "\1\u079c\3\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\15\264\1\u079d\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\1\u079e\3\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\264"
-			+ "\1\u079f\3\264\1\u07a0\10\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264"
-			+ "\1\u07a1\4\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\1\264\1\u07a2\14\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\14\264\1\u07a3\1\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\1\264\1\u07a4\1\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\4\264\1\u07a5\1\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\1\u07a6\15\264\4\0\21\264\13\0\1\u07a7\106\0" + "\1\u07a8\15\0\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\u06df\3\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\1\264\1\u07a9\4\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\3\264\1\u07aa\7\0\2\250\16\264\4\0\21\264"
-			+ "\14\0\1\u07ab\6\0\1\u07ac\26\0\1\u07ad\2\0\1\u07ae" + "\62\0\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\1\264" + "\1\u07af\2\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\264\1\u07b0\2\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\1\u07b1\15\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\1\264\1\u07b2\4\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\3\264\1\u07b3\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\2\264"
-			+ "\1\u07b4\1\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\1\u07b5\15\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u07b6"
-			+ "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\3\264\1\u07b7" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\15\264\1\u07b8\3\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\3\264\1\u0479\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u07b9"
-			+ "\15\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\4\264\1\u0358" + "\11\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\3\264\1\u0472\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\2\264\1\u07ba\3\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\2\264\1\u07bb\3\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\1\u07bc\15\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\3\264\1\u04d0\2\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\24\0\1\u07bd\62\0\1\u07be\30\0\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u07bf" + "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u07c0"
-			+ "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\u07c1\1\u07c2" + "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\2\264\1\u07c3"
-			+ "\1\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\4\264\1\u056f\11\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u07c4" + "\5\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\11\264\1\u07c5\4\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\u07c6\3\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u056f\3\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\2\264"
-			+ "\1\u07c7\13\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\3\264\1\u07c8\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\7\264\1\u0237"
-			+ "\6\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\3\264\1\u07c9\2\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\1\250\1\u022f\4\250"
-			+ "\1\0\2\250\1\u022f\2\0\1\250\5\u022f\1\250\1\0" + "\5\250\2\u022f\1\0\2\250\1\0\2\u022f\1\250\1\u022f"
-			+ "\2\0\2\u022f\2\250\7\0\4\250\1\u022f\1\250\1\u022f"
-			+ "\5\250\1\u022f\3\250\4\0\11\250\1\u022f\5\250\2\u022f" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\2\264\1\u0396\13\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\1\u07ca\3\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\3\264\1\u07cb\2\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u03b7"
-			+ "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264"
-			+ "\1\u07cc\3\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u07cd" + "\5\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\264\1\u07ce\2\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u07cf" + "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\11\264\1\u07d0\4\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u07d1" + "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u07d2"
-			+ "\2\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u07d3\5\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\2\264\1\u07d4\1\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u07d5\2\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u07d6" + "\15\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\u07d7\3\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\2\264\1\u0363\1\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\2\264\1\u07d8\1\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\5\264\1\u07d9\10\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\u07da\3\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\12\264\1\u07db\3\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\264\1\u07dc\2\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\14\264\1\u07dd\1\264\4\0" + "\21\264\41\0\1\u07de\76\0\1\250\12\0\2\264\1\u07df"
-			+ "\3\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\3\264\1\u07e0\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u07e1"
-			+ "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\4\264\1\u07e2" + "\1\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\u07e3\3\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\2\264\1\u0755\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\3\264\1\u07e4\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u07e5\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u01f9\4\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\2\264\1\u07e6\16\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u07e7"
-			+ "\15\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\3\264\1\u07e8" + "\12\264\4\0\21\264\21\0\1\u07e9\154\0\1\u07ea\203\0"
-			+ "\1\u07eb\136\0\1\337\74\0\1\u07ec\162\0\1\u07ed\56\0" + "\2\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"
-			+ "\1\73\1\u07ee\36\73\1\u07ee\55\73\21\0\1\u07ef\116\0" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\4\152\10\0\1\141\5\152\1\u07f0\10\152\4\0\21\152"
-			+ "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0" + "\1\u016f\2\152\1\u02d9\3\152\1\0\1\141\1\152\1\0"
-			+ "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\21\152" + "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"
-			+ "\1\u016f\6\152\1\0\1\141\1\152\1\0\4\152\2\0" + "\1\152\1\u06cd\2\152\10\0\1\141\16\152\4\0\21\152"
-			+ "\21\0\1\u07f1\137\0\1\u07f2\200\0\1\u0452\136\0\1\u07f3"
-			+ "\160\0\1\u07f4\116\0\1\u07f5\154\0\1\u0452\103\0\1\u07f6"
-			+ "\157\0\1\u062f\117\0\1\u062f\137\0\1\u07f7\75\0\10\u0462"
-			+ "\1\0\3\u0462\1\u0330\7\u0462\1\u0330\3\u0462\5\u0330\2\u0462"
-			+ "\1\u055f\4\u0462\2\u0330\4\u0462\2\u0330\1\u0462\1\u0330\2\u0462"
-			+ "\2\u0330\15\u0462\1\u0330\1\u0462\1\u0330\5\u0462\1\u0330\20\u0462"
-			+ "\1\u0330\5\u0462\2\u0330\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\264\1\u07f8\4\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\15\264\1\u07f9"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\4\264\1\u07fa\1\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\5\264" + "\1\u07fb\10\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\5\264"
-			+ "\1\u0471\10\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u03c3\3\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\2\264"
-			+ "\1\u07fc\13\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u07fd\4\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\264\1\u07fe\2\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u07ff" + "\15\264\4\0\21\264\1\250\12\0\6\264\1\0\2\264"
-			+ "\1\u04aa\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\2\264\1\u0800\16\264\1\250\12\0\3\264\1\u05bc" + "\2\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\u0801\3\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\11\264\1\u0802" + "\4\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\2\264\1\u0803\3\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\1\0\1\u0804\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\2\264\1\u0372\3\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\2\264\1\u0805\13\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\11\264\1\u0806\4\264"
-			+ "\4\0\21\264\1\250\12\0\1\u0807\5\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\3\264\1\u0808\2\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\1\u0809\15\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\u080a\3\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u080b"
-			+ "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\1\264\1\u080c\14\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264" + "\1\u080d\4\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\1\u080e\3\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\2\264\1\u080f\13\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u0810"
-			+ "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u0811" + "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\264\1\u0812\2\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\5\264\1\u0813\10\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\1\264\1\u0814\2\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\1\u0815\20\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\u0816\3\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\11\264\1\u0817"
-			+ "\4\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\2\264\1\u0818\1\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\1\264\1\u0819\4\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\1\264\1\u081a\2\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\4\264\1\u081b"
-			+ "\11\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\2\264\1\u081c\3\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\3\264\1\u081d"
-			+ "\12\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\264\1\u081e\4\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\2\264\1\u081f\13\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\1\u0820\15\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u0821" + "\15\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\5\264\1\u0822"
-			+ "\10\264\4\0\21\264\1\250\12\0\2\264\1\u05bb\1\u05bc" + "\2\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\1\u0823\5\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\2\264\1\u05a1\1\264" + "\1\u05bd\1\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\u0824\3\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\u0825\3\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\6\264\1\324\12\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u0826\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\5\264\1\u0827\10\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\264\1\u0828\4\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\2\264\1\u0829\13\264"
-			+ "\4\0\21\264\42\0\1\u082a\140\0\1\u082b\74\0\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\1\u082c\15\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\15\264\1\u033d\4\0\21\264\61\0\1\u082d\137\0"
-			+ "\1\u082e\116\0\1\u082f\201\0\1\u0830\35\0\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\u0831\3\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\3\264\1\u0832\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\1\u0833\5\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\264\1\u03cd\2\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\2\264\1\u0834\3\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\5\264\1\u0835"
-			+ "\10\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\3\264\1\u0836\2\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\2\264\1\u0837"
-			+ "\13\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\2\264\1\u0838\3\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\u0839\3\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\264\1\u07dd\4\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\5\264\1\u083a\10\264"
-			+ "\4\0\21\264\1\250\12\0\1\u083b\1\u083c\4\264\1\0" + "\1\264\1\u067c\1\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\2\264\1\u083d\3\264\1\324\12\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\3\264\1\u06b4\2\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\43\0\1\u083e\154\0\1\u083e\57\0\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\7\264\1\u083f\6\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\1\264\1\u0840\14\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u0841" + "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\1\264\1\u0842\2\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\264\1\u0843\2\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u0844"
-			+ "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\5\264\1\u0845\10\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\3\264\1\u05bf\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u0846\4\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u0847" + "\15\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\5\264\1\u0848"
-			+ "\10\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\1\u0849\15\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\2\264\1\u0383\3\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\1\u084a\3\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u084b\3\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\1\264\1\u06e9\4\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\264\1\u084c\4\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\1\u084d\15\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\1\264\1\u084e\4\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\7\264\1\u084f\6\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\2\264\1\u0850\3\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\3\264\1\u0851\2\264\1\0\1\264\1\u0852" + "\1\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\12\264" + "\1\u0853\3\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u0854\3\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u0855\4\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\4\264\1\u0856\2\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\u0857\3\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\u0858\3\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\2\264\1\u0859\3\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\u085a\3\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\2\264\1\u085b\1\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\u0372\3\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\76\0\1\u085c\41\0\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u085d\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\1\u085e\15\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\2\264\1\u085f\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\5\264\1\u0860\10\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\4\264\1\u0861\11\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\1\u0862\15\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\3\264\1\u0863\2\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\264\1\u0864\2\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\1\264\1\u0865\4\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\2\264\1\u0597\16\264"
-			+ "\42\0\1\u0866\157\0\1\u075c\137\0\1\u0867\120\0\1\u0868" + "\74\0\2\73\1\0\1\73\1\0\2\73\4\0\6\73"
-			+ "\1\0\11\73\1\u012a\25\73\1\u012a\56\73\1\141\12\0" + "\6\152\1\0\3\152\2\0\7\152\1\0\1\u016f\6\152"
-			+ "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0" + "\1\141\16\152\4\0\13\152\1\u06cc\5\152\44\0\1\u0869"
-			+ "\153\0\1\u086a\121\0\1\u086b\155\0\1\u086c\166\0\1\u086d" + "\30\0\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\264\1\u086e\4\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\u086f\3\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\4\264\1\u0870\1\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\2\264\1\u072c\1\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\u0871\3\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\4\264\1\u0872\1\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\1\264\1\u0873\2\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\3\264\1\u0874\2\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\264" + "\1\u0875\2\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\4\264\1\u0372\11\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u0876" + "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\1\u0877\15\264\4\0\21\264\52\0\1\u07ad\65\0" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\1\u0878\5\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\264"
-			+ "\1\u0879\2\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\1\u087a\5\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264" + "\1\u087b\3\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264"
-			+ "\1\u087c\2\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264" + "\1\u087d\2\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264"
-			+ "\1\u087e\4\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\2\264\1\u05bb\3\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\16\264\1\u05c3\2\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\1\0" + "\1\u087f\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\1\u0880\5\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\u0881\3\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\1\264\1\u0882\14\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\u0883\3\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u0884\3\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\1\264\1\u0885\2\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\2\264\1\u0886\1\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\4\264\1\u0887\1\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\264\1\u0888\2\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u0889\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\264\1\u088a\2\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u088b" + "\15\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\15\264\1\u088c\3\264\1\250\12\0\6\264\1\0\1\264" + "\1\u088d\1\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\264\1\u088e\2\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\264\1\u088f\4\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\6\264\1\u0890"
-			+ "\7\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\2\264\1\u0891" + "\13\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\1\264\1\u0892\4\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\3\264\1\u0893\2\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\1\u0686\15\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\5\264\1\u0894\10\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\3\264\1\u033d\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\264\1\u056e\2\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\3\264\1\u0895\2\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\3\264\1\u0896\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\u0897\3\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\264"
-			+ "\1\u0898\2\264\7\0\2\250\16\264\4\0\21\264\61\0" + "\1\u0899\155\0\1\u089a\40\0\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\1\u0666\5\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\42\0\1\u089b\140\0\1\u089c\176\0" + "\1\u089d\117\0\1\u089e\55\0\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u079d\4\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\3\264" + "\1\u0499\12\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u089f\4\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u08a0\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\13\264\1\u0480\5\264\1\250\12\0\3\264\1\u08a1" + "\2\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\15\264"
-			+ "\1\u0372\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u08a2\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\2\264\1\u0472\13\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\2\264\1\u0372\13\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\u08a3\3\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\1\u08a4\15\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\u08a5\1\u08a6\2\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\77\0\1\u08a7\40\0\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\2\264\1\u08a8\16\264\1\250\12\0\3\264\1\u05bc\2\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\1\u05c1\20\264\1\250\12\0\1\264\1\u08a9" + "\4\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\1\0\1\u08aa\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\2\264\1\u08ab\1\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\6\264\1\u08ac\7\264\4\0\21\264\1\250\12\0\1\u0663"
-			+ "\5\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\3\264\1\u08ad\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\5\264\1\u08ae"
-			+ "\10\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\u08af\5\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\13\264"
-			+ "\1\u0739\5\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\4\264\1\u0237\1\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\3\264\1\u08b0\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\u08b1\3\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\1\264\1\u05ec\4\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\1\u08b2\3\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\1\u08b3\5\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\7\264\1\u08b4\6\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264"
-			+ "\1\u0472\2\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\1\u08b5\15\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\264\1\u08b6\2\264" + "\7\0\2\250\1\u08b7\15\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\u08b8\3\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\11\264\1\u08b9\4\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u08ba" + "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\11\264\1\u08bb\4\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\2\264\1\u08bc\1\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\3\264\1\u08bd\12\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\4\264\1\u08be" + "\1\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\5\264\1\u08bf\10\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\3\264\1\u08c0\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u08c1\4\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\u08c2\3\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u08c3\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\3\264\1\u08c4\2\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\264\1\u08c5\4\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\1\264\1\u08c6\4\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\2\264\1\u08c7\13\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\2\264\1\u077b\3\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\76\0\1\u08c8\121\0\1\u08c9\21\0\1\u08ca"
-			+ "\77\0\1\u08cb\155\0\1\u08cc\141\0\1\u086c\136\0\1\u0452"
-			+ "\157\0\1\u0452\133\0\1\u08cd\42\0\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u08ce\5\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u08cf\2\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\u08d0\3\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\2\264"
-			+ "\1\u08d1\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\2\264\1\u08d2\1\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\2\264\1\u08d3\1\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\4\264\1\u08d4\1\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\3\264\1\u08d5\2\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\1\u059b\6\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\264\1\u08d6\4\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\2\264\1\u08d7\1\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u06b4\3\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\7\264\1\u08d8\6\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\2\264\1\u08d9"
-			+ "\16\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\2\264\1\u04da\13\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\3\264\1\u08da\7\0\2\250\16\264\4\0\21\264"
-			+ "\13\0\1\u08db\106\0\1\u08dc\15\0\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u08dd"
-			+ "\2\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\3\264\1\u08de\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\1\u08df\5\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\4\264\1\u08e0"
-			+ "\11\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\5\264\1\u08e1" + "\10\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\2\264\1\u08e2\1\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u08e3\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\1\u08e4\3\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\11\264\1\u08e5\4\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u08e6\3\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\3\264\1\u08e7\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\7\264\1\u08e8\6\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\1\u08e9\3\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\1\u08ea\15\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264" + "\1\u07dd\3\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\u08eb\3\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u0857\5\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\u08ec\3\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\11\264\1\u08ed"
-			+ "\4\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\5\264\1\u08ee" + "\10\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\2\264\1\u08ef\1\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\2\264\1\u08f0\3\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\2\264\1\u08f1\3\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\3\264\1\u08bb\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\2\264\1\u033d\1\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\42\0\1\u08f2\156\0\1\u08f3\136\0\1\u08f4"
-			+ "\162\0\1\u08f5\116\0\1\u08f6\117\0\1\u08f7\75\0\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\2\264\1\u08f8\13\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\3\264\1\u08f9\2\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\3\264\1\u08fa\2\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\3\264\1\u08fb\2\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\2\264\1\u033d\3\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\14\264\1\u08fc"
-			+ "\4\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\2\264\1\u08fd\1\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u08fe\3\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\7\264\1\u08ff\6\264\4\0" + "\21\264\75\0\1\u08f6\42\0\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\u08a5\3\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\2\264\1\u0900\1\264\7\0\2\250" + "\16\264\4\0\21\264\52\0\1\u0901\65\0\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\u0902\3\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\3\264\1\u0903\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\3\264\1\u079c\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\7\264\1\u03cd" + "\6\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\3\264\1\u0801\2\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\1\u0904\15\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\264\1\u0905\2\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\1\264\1\u0906\2\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\2\264\1\u0907\3\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\1\u0908\5\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\3\264\1\u0909\2\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\2\264\1\u090a\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\1\u057f\5\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\1\264\1\u0372\4\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\264\1\u077f\2\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\1\264\1\u090b\4\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\u090c\3\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\4\264\1\u01ed\11\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\1\u08bc\15\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\3\264\1\u090d\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\13\264\1\u090e\5\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\1\u090f\15\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\11\264" + "\1\u0910\4\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\4\264"
-			+ "\1\u0911\11\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\4\264" + "\1\u0912\11\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\1\u0372\20\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\11\264\1\u0913" + "\4\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\264\1\u0914\2\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\3\264\1\u0915" + "\12\264\4\0\21\264\104\0\1\u06bd\75\0\1\u0509\140\0"
-			+ "\1\u06bd\136\0\1\u076a\174\0\1\u062f\40\0\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\7\264\1\u0865\6\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\5\264\1\u0916\10\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264"
-			+ "\1\u0917\4\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\2\264\1\u0918"
-			+ "\1\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\1\u0919\15\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\u091a\3\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\5\264" + "\1\u091b\10\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\264\1\u091c\2\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\2\264\1\u091d" + "\3\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\1\0\1\u091e\3\264" + "\1\u091f\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u0920"
-			+ "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\7\264\1\u0757\6\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\1\u0921\15\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\5\264\1\u0922\10\264\4\0\21\264\40\0\1\u0923\142\0"
-			+ "\1\u0924\74\0\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\4\264\1\u0925\11\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\3\264\1\u0926\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\2\264\1\u0927\3\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\3\264\1\u08c4\2\264\1\0\2\264"
-			+ "\1\u04aa\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\1\u0928\15\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\u0929\3\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\5\264\1\u092a\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\1\u092b\15\264\4\0\21\264\1\250\12\0"
-			+ "\2\264\1\u05bb\3\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\2\264\1\u092c\13\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\3\264\1\u0372"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\u092d\3\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\2\264"
-			+ "\1\u077f\13\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\2\264" + "\1\u092e\13\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\264\1\u092f\2\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\3\264\1\u0930\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\264\1\u0931\2\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\2\264\1\u0932\3\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\4\264\1\u0933"
-			+ "\11\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u0934\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\u0935\3\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\60\0\1\u085c\117\0\1\u0936\202\0\1\u0937\74\0"
-			+ "\1\u0938\200\0\1\u0939\116\0\1\u093a\57\0\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\u093b\3\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u049b" + "\3\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\3\264" + "\1\u093c\2\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\1\u093d\3\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\1\u093e\5\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\2\264\1\u093f\1\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\3\264\1\u0940" + "\12\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\1\0\1\u0941\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\1\u0942\15\264\4\0" + "\21\264\102\0\1\u0943\35\0\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\3\264\1\u0944\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\1\264\1\u0945\4\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\1\264\1\u0946\4\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\11\264\1\u0947" + "\4\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\11\264\1\u0948"
-			+ "\4\264\4\0\21\264\1\250\12\0\1\u0949\5\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\7\264\1\u094a\11\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u094b\3\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\6\264" + "\1\u033d\7\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\264\1\u0372\2\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u094c\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u077f\2\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u094d" + "\15\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\264\1\u094e\2\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\u094f\5\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\264\1\u0950\2\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\1\264\1\u0951\4\264\1\0" + "\2\264\1\u0952\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\1\u0953\20\264\1\250\12\0\6\264\1\0"
-			+ "\1\264\1\u0954\1\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\264\1\u0955\2\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\2\264\1\u0956\1\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\5\264" + "\1\u0957\10\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\13\264\1\u056f\5\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\1\u0958\3\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\13\264\1\u06b4"
-			+ "\2\264\4\0\21\264\1\250\12\0\4\264\1\u05bd\1\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\6\264\1\u0959"
-			+ "\7\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\6\264\1\u056f" + "\7\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\264\1\u095a\2\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\117\0\1\u095b\20\0\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\1\0\1\u095c\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u095d" + "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\4\264\1\u095e\11\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\1\u095f\15\264\4\0\21\264\53\0\1\u0960\166\0\1\u0961" + "\35\0\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\2\264\1\u0962\1\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\3\264"
-			+ "\1\u0963\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\264\1\u0964\2\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\3\264\1\u01ed\2\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\1\264\1\u0965\4\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\3\264\1\u0966\12\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\1\u0967\5\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\3\264\1\u0372\12\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\1\264\1\u0968\4\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\264"
-			+ "\1\u0969\2\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\4\264\1\u096a\11\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\3\264"
-			+ "\1\u01ed\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264"
-			+ "\1\u096b\3\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\1\u096c\15\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\u096d\3\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u096e\4\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u096f\2\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\103\0\1\u0970\131\0\1\u074d"
-			+ "\123\0\1\u0971\136\0\1\u0972\120\0\1\u0973\76\0\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\1\u0974\3\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264" + "\1\u0975\2\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264"
-			+ "\1\u0976\4\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\u0977\3\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\u0978\3\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u0979"
-			+ "\15\264\4\0\21\264\13\0\1\u097a\124\0\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\3\264\1\u077b" + "\7\0\2\250\16\264\4\0\21\264\103\0\1\u097b\34\0"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\2\264\1\u097c\1\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\1\u097d\15\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\11\264\1\u097e\4\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\16\264\1\u05c3\2\264\1\250"
-			+ "\12\0\1\264\1\u097f\4\264\1\0\2\264\1\u04aa\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\3\264\1\u0980\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u0981\3\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\264\1\u0982\2\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\1\u0983\5\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\1\264\1\u0984\14\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\1\u0985\5\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\1\264\1\u0969\2\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\1\264\1\u0986\4\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\2\264\1\u0987\3\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\2\264" + "\1\u0988\1\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\3\264\1\u0989\2\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\7\264\1\u098a\6\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\5\264\1\u098b\10\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\2\264\1\u098c\3\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u098d"
-			+ "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264"
-			+ "\1\u066f\2\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\11\264\1\u098e\4\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\u098f"
-			+ "\5\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264\1\u0990" + "\2\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\44\0\1\u0991\126\0" + "\1\u0992\104\0\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\5\264\1\u0993\10\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\5\264\1\u0994\10\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\3\264\1\u0372\2\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\63\0\1\u0995\153\0\1\u0996\40\0\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u0997" + "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0"
-			+ "\2\250\5\264\1\u0576\10\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264"
-			+ "\1\u0998\3\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\2\264\1\u0999"
-			+ "\1\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264"
-			+ "\1\u099a\4\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264" + "\1\u099b\2\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\2\264"
-			+ "\1\u099c\3\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\2\264\1\u07dd"
-			+ "\1\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\1\u0797\5\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\1\264"
-			+ "\1\u099d\2\264\1\u099e\1\264\1\0\2\264\1\u04aa\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\3\264\1\u099f\2\0\4\264\7\0\2\250\16\264\4\0" + "\16\264\1\u09a0\2\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\1\264\1\u096a\4\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\264\1\u09a1\4\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\1\264\1\u09a2\2\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u09a3\3\264\7\0\2\250\16\264" + "\4\0\21\264\100\0\1\u09a4\142\0\1\u09a5\75\0\1\u085c"
-			+ "\200\0\1\u09a6\35\0\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\u09a7\5\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\5\264\1\u09a8\10\264"
-			+ "\4\0\21\264\1\250\12\0\4\264\1\u09a9\1\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\3\264\1\u09aa\2\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\2\264\1\u0706\13\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\4\264\1\u06b4\11\264"
-			+ "\4\0\21\264\102\0\1\u09ab\144\0\1\u09ac\30\0\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\264" + "\1\u09ad\2\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\3\264\1\u09ae\2\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\264" + "\1\u09af\2\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\2\264"
-			+ "\1\u09b0\1\264\7\0\2\250\1\u09b1\15\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\5\264\1\u09b2\10\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\1\264\1\u09b3\4\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\2\264\1\u09b4\1\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\2\264\1\u09b5\3\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\1\u09b6\5\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\3\264\1\u0979\2\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\2\264\1\u07dd\13\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\4\264\1\u09b7\2\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\16\264\1\u09a0" + "\2\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\264\1\u09b8\2\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\2\264\1\u09b9\13\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\u09ba\3\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\3\264\1\u09bb\2\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\1\264\1\u057b\4\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\3\264\1\u099f\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\3\264\1\u09bc\2\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\u0851\3\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\1\264\1\u09bd\4\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\4\264\1\u09be\11\264\4\0\21\264"
-			+ "\16\0\1\u09bf\1\u09c0\3\0\1\u09c1\63\0\1\u09c2\103\0" + "\1\u09c3\64\0\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\2\264\1\u05ec\3\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\4\264\1\u09c4\1\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\60\0\1\u09c5\154\0\1\u09c6\42\0\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\1\0\1\u09c7"
-			+ "\4\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\5\264\1\u09c8\10\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u09c9"
-			+ "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\u09ca\3\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\4\264\1\u08e7\11\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\5\264\1\u09cb\10\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\1\u09cc\15\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u09cd\4\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\2\264\1\u09ce\1\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\5\264" + "\1\u09cf\10\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\1\0\1\u09d0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\2\264\1\u09d1\3\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\1\264\1\u08e7\4\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\42\0\1\u09d2\155\0\1\u09d3\122\0" + "\1\u09d4\74\0\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\3\264\1\u09d5\2\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\2\264\1\u09d6\3\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\1\264\1\u09d7\4\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\2\264\1\u09d8\3\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\106\0\1\u09d9\111\0\1\u09da\57\0\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\6\264\1\u0824\7\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\14\264\1\u09db\1\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\2\264\1\u09dc\3\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\264" + "\1\u09dd\2\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\3\264\1\u09de\2\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\1\u09df" + "\3\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\u09e0\3\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\5\264\1\u09e1\10\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u09e2" + "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\5\264\1\u09e3\10\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u081e" + "\4\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\3\264\1\u09e4\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u09e5"
-			+ "\15\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\1\264\1\u09e6\4\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\15\264\1\u06b4"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\4\264\1\u09e7\11\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\264\1\u05ad\2\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\1\u056e\15\264\4\0" + "\21\264\43\0\1\u09c5\135\0\1\u09e8\173\0\1\u09e9\137\0"
-			+ "\1\u09ea\125\0\1\u09eb\54\0\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\5\264" + "\1\u09ec\10\264\4\0\21\264\42\0\1\u085c\176\0\1\u09ed"
-			+ "\52\0\1\u09ee\123\0\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\3\264\1\u09ef\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\3\264\1\u09f0\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\264\1\u09f1\2\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\1\u09f2\3\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\3\264\1\u06f3\2\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\4\264\1\u09f3\11\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\u09f4\3\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\1\264\1\u09f5\2\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\4\264\1\u09f6\11\264\4\0"
-			+ "\21\264\15\0\1\u09f7\122\0\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\1\u09f8" + "\15\264\4\0\21\264\24\0\1\u09f9\130\0\1\u09fa\225\0"
-			+ "\1\u09fb\34\0\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0";
-
-	private static final String ZZ_TRANS_PACKED_2 = "\4\264\7\0\2\250\4\264\1\u0576\11\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\5\264\1\u09fc\10\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\1\u09fd\15\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\5\264\1\u09fe\10\264\4\0\21\264\104\0" + "\1\u09ff\132\0\1\u0a00\40\0\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\u0a01\3\264\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\3\264\1\u099f\2\0\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\3\264\1\u0824\7\0\2\250\16\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\3\264\1\u0a02\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\2\264\1\u03ce\1\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\1\264\1\u0a03\2\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\4\264\1\u0673\11\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\1\u0a04\3\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\16\264\4\0\13\264\1\u07dd\5\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\3\264"
-			+ "\1\u0a05\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\4\264\1\u0a06\11\264\4\0\21\264\1\250\12\0"
-			+ "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264" + "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u0a07"
-			+ "\2\264\7\0\2\250\16\264\4\0\21\264\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\1\264\1\u04a4" + "\2\264\7\0\2\250\16\264\4\0\21\264\102\0\1\u0a08"
-			+ "\100\0\1\u0a09\134\0\1\u0a0a\141\0\1\u0a0b\75\0\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\2\264\1\u09e6\13\264\4\0\21\264\60\0"
-			+ "\1\u0a0c\154\0\1\u0a0d\42\0\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\2\264\1\u0a0e\3\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\3\264\1\u0a0f\7\0\2\250"
-			+ "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\4\264\1\u0a10" + "\11\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\3\264\1\u074f\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\1\u0a11\3\264\7\0\2\250\16\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\2\264\1\u0a12\13\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\6\264\1\u08e7\7\264\4\0" + "\21\264\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\2\264\1\u092c\3\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\60\0\1\u0a13\57\0\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\1\264\1\u0a14\4\264"
-			+ "\1\0\1\250\1\264\1\0\4\264\2\0\4\264\7\0" + "\2\250\16\264\4\0\21\264\105\0\1\u0a15\113\0\1\u0a16"
-			+ "\177\0\1\u0a17\16\0\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\264\1\u0a18\2\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\10\264\1\u06e9"
-			+ "\5\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\264\1\u0a19\2\264\7\0\2\250" + "\16\264\4\0\21\264\62\0\1\u0a1a\157\0\1\u0a1b\35\0"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\1\264\1\u0a1c\4\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\2\264\1\u0a1d\3\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\11\264\1\u0a1e\4\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\1\264\1\u0a1f\2\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\16\264\4\0\7\264\1\u0a20\11\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\5\264\1\u0a21\10\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\2\264\1\u08da\3\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\106\0\1\u0a22\134\0\1\u085c\107\0\1\u0a23\125\0\1\u0a24"
-			+ "\111\0\1\u0a25\36\0\1\u0a26\130\0\1\u0a27\74\0\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\5\264\1\u0a28\10\264\4\0\21\264\1\250"
-			+ "\12\0\1\264\1\u0a29\4\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\1\264\1\u070f\1\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250"
-			+ "\12\0\4\264\1\u0a2a\1\264\1\0\3\264\2\0\7\264" + "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264"
-			+ "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\5\264\1\u087e\10\264\4\0\21\264\101\0"
-			+ "\1\u0a2b\36\0\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\1\0\1\u0a2c\4\264\7\0\2\250\16\264\4\0" + "\21\264\77\0\1\u0a2d\103\0\1\u0a2e\171\0\1\u0a2f\42\0"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\2\264\1\u0a30\1\264\7\0\2\250\16\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\2\264\1\u0a31\1\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\60\0\1\u0a32\165\0\1\u0a33\31\0\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\3\264\1\u0a34\7\0" + "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\1\264\1\u0a35\2\264\7\0"
-			+ "\2\250\16\264\4\0\21\264\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\1\0\1\u0a36\4\264\7\0\2\250" + "\16\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264"
-			+ "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264" + "\1\0\4\264\2\0\4\264\7\0\2\250\11\264\1\u0a37"
-			+ "\4\264\4\0\21\264\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\1\u0a38\3\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\3\264\1\u0a39\2\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\102\0\1\u0a3a\117\0\1\u08f2\136\0\1\u0a3b"
-			+ "\155\0\1\u0a3c\122\0\1\u0a3d\117\0\1\u0a3e\75\0\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\2\264\1\u0824\13\264\4\0\21\264\1\250"
-			+ "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8" + "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264"
-			+ "\7\0\2\250\3\264\1\u0a3f\12\264\4\0\21\264\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\6\264\1\0\1\250\1\264\1\0\4\264\2\0\4\264" + "\7\0\2\250\1\u0a40\15\264\4\0\21\264\102\0\1\u0a41"
-			+ "\154\0\1\u0a42\100\0\1\u0a43\162\0\1\u08f2\135\0\1\u08f2" + "\36\0\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\5\264\1\u0a44\10\264\4\0"
-			+ "\21\264\1\250\12\0\6\264\1\0\1\264\1\u067c\1\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\2\0\4\264\7\0\2\250\16\264\4\0" + "\21\264\16\0\1\u0a45\5\0\1\u05e4\174\0\1\u0a46\56\0"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264\2\0"
-			+ "\4\264\7\0\2\250\5\264\1\u0a47\10\264\4\0\21\264" + "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0"
-			+ "\1\u01d8\3\264\1\u0a48\2\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264"
-			+ "\123\0\1\u0a49\14\0\1\250\12\0\6\264\1\0\3\264" + "\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264"
-			+ "\1\0\4\264\1\0\1\u0a4a\4\264\7\0\2\250\16\264" + "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\1\264\1\u0a4b\4\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\21\264\1\250\12\0\6\264\1\0\3\264\2\0" + "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\6\264\1\u0372\7\264" + "\4\0\21\264\42\0\1\u0a4c\174\0\1\u0a4d\101\0\1\u0a4e"
-			+ "\173\0\1\u0a4f\103\0\1\u0a50\76\0\1\250\12\0\6\264" + "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0"
-			+ "\1\250\1\264\1\0\4\264\2\0\1\264\1\u0a51\2\264" + "\7\0\2\250\16\264\4\0\21\264\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\4\264\7\0\2\250"
-			+ "\5\264\1\u090c\10\264\4\0\21\264\41\0\1\u0a52\142\0" + "\1\u0a53\177\0\1\u0a54\33\0\1\250\12\0\6\264\1\0"
-			+ "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250" + "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264"
-			+ "\4\0\13\264\1\u0a55\5\264\106\0\1\u0a56\113\0\1\u0a57" + "\55\0\1\250\12\0\6\264\1\0\3\264\2\0\7\264"
-			+ "\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\1\u0a58\15\264\4\0\21\264"
-			+ "\1\250\12\0\6\264\1\0\3\264\2\0\7\264\1\0" + "\1\u01d8\2\264\1\u0824\3\264\1\0\1\250\1\264\1\0"
-			+ "\4\264\2\0\4\264\7\0\2\250\16\264\4\0\21\264" + "\60\0\1\u0a59\76\0\1\u0a5a\120\0\1\250\12\0\6\264"
-			+ "\1\0\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0" + "\1\250\1\264\1\0\4\264\2\0\3\264\1\u0680\7\0"
-			+ "\2\250\16\264\4\0\21\264\102\0\1\u0a5b\77\0\1\u0a5c"
-			+ "\177\0\1\u0a5d\134\0\1\u0a5e\135\0\1\u0a5f\42\0\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\3\264\1\u05a0\2\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\60\0"
-			+ "\1\u0a60\75\0\1\u09bf\4\0\1\u09c1\63\0\1\u09c2\72\0" + "\1\u0a61\75\0\1\250\12\0\6\264\1\0\3\264\2\0"
-			+ "\7\264\1\0\1\u01d8\6\264\1\0\1\250\1\264\1\0" + "\4\264\2\0\1\u0a62\3\264\7\0\2\250\16\264\4\0"
-			+ "\21\264\106\0\1\u0a63\54\0\1\u0a64\114\0\1\250\12\0" + "\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8\3\264"
-			+ "\1\u0a65\2\264\1\0\1\250\1\264\1\0\4\264\2\0" + "\4\264\7\0\2\250\16\264\4\0\21\264\42\0\1\u0a66"
-			+ "\135\0\1\u0a59\210\0\1\u08f2\41\0\1\u0a67\2\0\1\u0a68"
-			+ "\4\0\1\u0a69\63\0\1\u0a6a\134\0\1\u09c5\145\0\1\u085c"
-			+ "\107\0\1\u085c\154\0\1\u0a6b\142\0\1\u0a6c\35\0\1\250" + "\12\0\6\264\1\0\3\264\2\0\7\264\1\0\1\u01d8"
-			+ "\1\264\1\u06b4\4\264\1\0\1\250\1\264\1\0\4\264" + "\2\0\4\264\7\0\2\250\16\264\4\0\21\264\40\0"
-			+ "\1\u0a6d\160\0\1\u0a6e\56\0\1\250\12\0\6\264\1\0" + "\3\264\2\0\7\264\1\0\1\u01d8\6\264\1\0\1\250"
-			+ "\1\264\1\0\4\264\2\0\4\264\7\0\2\250\16\264" + "\4\0\2\264\1\u065a\16\264\55\0\1\u0a6f\166\0\1\u0a70"
-			+ "\76\0\1\u0a71\171\0\1\u0a72\137\0\1\u0a73\104\0\1\u0a74"
-			+ "\172\0\1\u0a75\104\0\1\u0a76\173\0\1\u0a77\143\0\1\u0a78"
-			+ "\117\0\1\u0a79\117\0\1\u0a7a\140\0\1\u0a7b\134\0\1\u0a7c"
-			+ "\156\0\1\u0a7d\123\0\1\u0a7e\155\0\1\u0a7f\153\0\1\u0a80"
-			+ "\122\0\1\u0a81\161\0\1\u0a82\50\0\1\u0a67\227\0\1\u0a7a"
-			+ "\107\0\1\u0a83\104\0\1\u0a84\246\0\1\u0a85\63\0\1\u0a86"
-			+ "\124\0\1\u0a87\161\0\1\u0a88\117\0\1\u0a89\157\0\1\u0a8a"
-			+ "\153\0\1\u0a8b\122\0\1\u0a8c\140\0\1\u0a8d\117\0\1\u0a8e"
-			+ "\176\0\1\u085c\116\0\1\u0a8f\137\0\1\u0a7a\163\0\1\u08f2"
-			+ "\76\0\1\u0a90\154\0\1\u04ec\134\0\1\u0a91\123\0\1\u0a92"
-			+ "\177\0\1\u0a93\133\0\1\u0a94\123\0\1\u0a95\140\0\1\u0939"
-			+ "\116\0\1\u0a96\140\0\1\u0a97\203\0\1\u085c\126\0\1\u0972" + "\42\0";
+	private static final int[] ZZ_TRANS = JSPTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
@@ -3839,111 +324,6 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 		JSPTokenMaker.completeCloseTags = complete;
 	}
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[2711];
-		int offset = 0;
-		offset = JSPTokenMaker.zzUnpackAction(JSPTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[2711];
-		int offset = 0;
-		offset = JSPTokenMaker.zzUnpackAttribute(JSPTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 202) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[2711];
-		int offset = 0;
-		offset = JSPTokenMaker.zzUnpackRowMap(JSPTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[246048];
-		int offset = 0;
-		offset = JSPTokenMaker.zzUnpackTrans(JSPTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		offset = JSPTokenMaker.zzUnpackTrans(JSPTokenMaker.ZZ_TRANS_PACKED_1, offset, result);
-		offset = JSPTokenMaker.zzUnpackTrans(JSPTokenMaker.ZZ_TRANS_PACKED_2, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/**
 	 * The state previous CSS-related state we were in before going into a CSS
 	 * string, multi-line comment, etc.
@@ -4457,7 +837,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 			case 75: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_CHAR);
 				this.addEndToken(JSPTokenMaker.INTERNAL_CSS_CHAR - this.cssPrevState);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 141:
 				break;
@@ -4517,7 +897,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 					this.addToken(this.start, this.zzStartRead, TokenTypes.ERROR_CHAR);
 					this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS_CHAR_INVALID);
 				}
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 150:
 				break;
@@ -4542,7 +922,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 			case 43: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
 				this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS_MLC);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 154:
 				break;
@@ -4571,14 +951,14 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 8: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_PROCESSING_INSTRUCTION);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 158:
 				break;
 			case 37: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
 				this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 159:
 				break;
@@ -4621,7 +1001,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 					this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
 					this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
 				}
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 163:
 				break;
@@ -4730,7 +1110,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 7: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_COMMENT);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 182:
 				break;
@@ -4761,7 +1141,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 			case 48: {
 				this.addToken(TokenTypes.ERROR_STRING_DOUBLE);
 				this.addEndToken(JSPTokenMaker.INTERNAL_IN_JAVA_EXPRESSION - this.jspInState);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 187:
 				break;
@@ -4792,7 +1172,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 9: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_DTD);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 192:
 				break;
@@ -4849,21 +1229,21 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 31: {
 				this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 201:
 				break;
 			case 40: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_CHAR);
 				this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 202:
 				break;
 			case 45: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_COMMENT);
 				this.addEndToken(JSPTokenMaker.INTERNAL_IN_HIDDEN_COMMENT);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 203:
 				break;
@@ -4881,7 +1261,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 			case 49: {
 				this.addToken(TokenTypes.ERROR_CHAR);
 				this.addEndToken(JSPTokenMaker.INTERNAL_IN_JAVA_EXPRESSION - this.jspInState);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 206:
 				break;
@@ -4942,7 +1322,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 			case 103: {
 				this.addToken(TokenTypes.COMMENT_EOL);
 				this.addEndToken(JSPTokenMaker.INTERNAL_IN_JAVA_EXPRESSION - this.jspInState);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 216:
 				break;
@@ -4980,7 +1360,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 			case 46: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_DOCUMENTATION);
 				this.addEndToken(JSPTokenMaker.INTERNAL_IN_JAVA_DOCCOMMENT - this.jspInState);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 221:
 				break;
@@ -4998,13 +1378,13 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 					this.addToken(this.start, this.zzStartRead, TokenTypes.ERROR_STRING_DOUBLE);
 					this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
 				}
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 223:
 				break;
 			case 64: {
 				this.addEndToken(JSPTokenMaker.INTERNAL_CSS_PROPERTY);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 224:
 				break;
@@ -5069,7 +1449,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 			case 51: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
 				this.addEndToken(JSPTokenMaker.INTERNAL_IN_JAVA_MLC - this.jspInState);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 234:
 				break;
@@ -5085,7 +1465,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 68: {
 				this.addEndToken(JSPTokenMaker.INTERNAL_CSS_VALUE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 237:
 				break;
@@ -5115,13 +1495,13 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 3: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 242:
 				break;
 			case 57: {
 				this.addEndToken(JSPTokenMaker.INTERNAL_CSS);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 243:
 				break;
@@ -5176,7 +1556,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 47: {
 				this.addEndToken(JSPTokenMaker.INTERNAL_IN_JAVA_EXPRESSION - this.jspInState);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 252:
 				break;
@@ -5196,7 +1576,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 			case 72: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 				this.addEndToken(JSPTokenMaker.INTERNAL_CSS_STRING - this.cssPrevState);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 255:
 				break;
@@ -5237,7 +1617,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 					this.addToken(this.start, this.zzStartRead, TokenTypes.ERROR_STRING_DOUBLE);
 					this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS_STRING_INVALID);
 				}
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 261:
 				break;
@@ -5254,13 +1634,13 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 117: {
 				boolean highlightedAsRegex = false;
-				if (this.firstToken == null) {
+				if (this.tokenStream.isEmpty()) {
 					this.addToken(TokenTypes.REGEX);
 					highlightedAsRegex = true;
 				} else {
 					// If this is *likely* to be a regex, based on
 					// the previous token, highlight it as such.
-					final Token t = this.firstToken.getLastNonCommentNonWhitespaceToken();
+					final Token t = this.getLastNonCommentNonWhitespaceToken();
 					if (RSyntaxUtilities.regexCanFollowInJavaScript(t)) {
 						this.addToken(TokenTypes.REGEX);
 						highlightedAsRegex = true;
@@ -5284,7 +1664,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 			case 77: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
 				this.addEndToken(JSPTokenMaker.INTERNAL_CSS_MLC - this.cssPrevState);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 266:
 				break;
@@ -5329,7 +1709,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 			case 44: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 				this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 273:
 				break;
@@ -5337,7 +1717,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 						// next line.
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.VARIABLE);
 				this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 274:
 				break;
@@ -5357,48 +1737,48 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 					case INATTR_SINGLE_SCRIPT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(JSPTokenMaker.INTERNAL_ATTR_SINGLE_QUOTE_SCRIPT);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2712:
 						break;
 					case JS_CHAR: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_CHAR);
 						this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2713:
 						break;
 					case JAVA_EXPRESSION: {
 						this.addEndToken(JSPTokenMaker.INTERNAL_IN_JAVA_EXPRESSION - this.jspInState);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2714:
 						break;
 					case CSS_STRING: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 						this.addEndToken(JSPTokenMaker.INTERNAL_CSS_STRING - this.cssPrevState);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2715:
 						break;
 					case HIDDEN_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_COMMENT);
 						this.addEndToken(JSPTokenMaker.INTERNAL_IN_HIDDEN_COMMENT);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2716:
 						break;
 					case JS_MLC: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
 						this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS_MLC);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2717:
 						break;
 					case CSS_CHAR_LITERAL: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_CHAR);
 						this.addEndToken(JSPTokenMaker.INTERNAL_CSS_CHAR - this.cssPrevState);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2718:
 						break;
@@ -5406,13 +1786,13 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 						this.yybegin(JSPTokenMaker.JAVA_EXPRESSION);
 						this.addToken(this.start, this.zzEndRead, TokenTypes.COMMENT_DOCUMENTATION);
 						this.addEndToken(JSPTokenMaker.INTERNAL_IN_JAVA_DOCCOMMENT - this.jspInState);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2719:
 						break;
 					case INTAG_SCRIPT: {
 						this.addToken(this.zzMarkedPos, this.zzMarkedPos, JSPTokenMaker.INTERNAL_INTAG_SCRIPT);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2720:
 						break;
@@ -5421,109 +1801,109 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 						// next line.
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.VARIABLE);
 						this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2721:
 						break;
 					case CSS_PROPERTY: {
 						this.addEndToken(JSPTokenMaker.INTERNAL_CSS_PROPERTY);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2722:
 						break;
 					case CSS_C_STYLE_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
 						this.addEndToken(JSPTokenMaker.INTERNAL_CSS_MLC - this.cssPrevState);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2723:
 						break;
 					case CSS: {
 						this.addEndToken(JSPTokenMaker.INTERNAL_CSS);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2724:
 						break;
 					case CSS_VALUE: {
 						this.addEndToken(JSPTokenMaker.INTERNAL_CSS_VALUE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2725:
 						break;
 					case JSP_DIRECTIVE: {
 						this.addToken(this.zzMarkedPos, this.zzMarkedPos, JSPTokenMaker.INTERNAL_IN_JSP_DIRECTIVE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2726:
 						break;
 					case COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_COMMENT);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2727:
 						break;
 					case INATTR_DOUBLE_SCRIPT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(JSPTokenMaker.INTERNAL_ATTR_DOUBLE_QUOTE_SCRIPT);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2728:
 						break;
 					case PI: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_PROCESSING_INSTRUCTION);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2729:
 						break;
 					case JAVASCRIPT: {
 						this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2730:
 						break;
 					case INTAG: {
 						this.addToken(this.zzMarkedPos, this.zzMarkedPos, JSPTokenMaker.INTERNAL_INTAG);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2731:
 						break;
 					case INTAG_CHECK_TAG_NAME: {
 						this.addToken(this.zzMarkedPos, this.zzMarkedPos, JSPTokenMaker.INTERNAL_INTAG);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2732:
 						break;
 					case INATTR_SINGLE_STYLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(JSPTokenMaker.INTERNAL_ATTR_SINGLE_QUOTE_STYLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2733:
 						break;
 					case DTD: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_DTD);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2734:
 						break;
 					case JS_EOL_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 						this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2735:
 						break;
 					case INATTR_DOUBLE_STYLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(JSPTokenMaker.INTERNAL_ATTR_DOUBLE_QUOTE_STYLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2736:
 						break;
 					case INATTR_SINGLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(JSPTokenMaker.INTERNAL_ATTR_SINGLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2737:
 						break;
@@ -5535,40 +1915,40 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 							this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
 							this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
 						}
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2738:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2739:
 						break;
 					case INATTR_DOUBLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(JSPTokenMaker.INTERNAL_ATTR_DOUBLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2740:
 						break;
 					case JS_STRING: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
 						this.addEndToken(JSPTokenMaker.INTERNAL_IN_JS);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2741:
 						break;
 					case JAVA_MLC: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
 						this.addEndToken(JSPTokenMaker.INTERNAL_IN_JAVA_MLC - this.jspInState);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2742:
 						break;
 					case INTAG_STYLE: {
 						this.addToken(this.zzMarkedPos, this.zzMarkedPos, JSPTokenMaker.INTERNAL_INTAG_STYLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 2743:
 						break;
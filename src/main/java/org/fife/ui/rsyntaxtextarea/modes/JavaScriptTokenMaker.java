@@ -163,52 +163,24 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = JavaScriptTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\13\0\2\1\3\0\1\2\1\3\1\4\1\5\2\6"
-			+ "\1\5\1\2\3\7\1\5\1\10\1\5\6\7\2\2" + "\20\5\1\11\1\12\2\5\1\13\1\1\1\14\1\15"
-			+ "\1\16\1\1\1\17\1\20\1\21\1\1\1\22\5\1" + "\1\23\10\1\1\24\3\1\2\5\1\25\1\26\1\27"
-			+ "\1\30\1\1\1\31\5\1\1\32\2\1\1\33\1\1" + "\1\34\1\35\1\36\2\37\1\40\1\41\1\42\1\43"
-			+ "\1\1\1\44\4\1\1\45\1\46\1\47\1\50\1\1" + "\1\51\1\1\1\52\1\2\1\53\1\6\1\54\1\53"
-			+ "\1\54\1\53\1\55\1\53\1\5\2\0\1\56\1\57" + "\2\7\2\0\1\60\1\7\1\61\33\5\2\62\7\5"
-			+ "\1\62\13\5\1\63\1\64\1\65\1\66\4\0\1\67" + "\2\0\1\70\32\0\1\71\1\26\1\72\1\73\1\27"
-			+ "\5\0\1\74\2\0\1\75\1\76\1\2\1\54\1\0" + "\2\55\1\5\1\77\1\100\32\5\1\101\5\5\1\102"
-			+ "\25\5\64\0\1\103\2\0\1\104\5\0\1\105\1\2" + "\1\106\3\5\1\102\3\5\1\107\6\5\1\110\1\5"
-			+ "\1\111\24\5\1\0\1\1\1\0\1\112\15\0\1\113" + "\45\0\1\114\4\0\1\115\1\0\1\116\2\0\1\117"
-			+ "\1\0\1\120\1\2\5\5\1\62\17\5\1\62\1\5" + "\15\0\1\113\20\0\1\113\20\0\1\2\4\5\1\121"
-			+ "\13\5\33\0\10\5\1\113\4\0\1\113\12\0\3\5" + "\6\0\1\5\2\0\1\122\1\0";
+	private static final ScannerTables TABLES = ScannerTables.load(JavaScriptTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = JavaScriptTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\13\0\2\1\3\0\2\1\1\11\4\1\1\11\4\1"
-			+ "\2\11\4\1\1\11\23\1\2\11\2\1\1\11\1\1" + "\1\11\1\1\1\11\1\1\1\11\1\1\1\11\1\1"
-			+ "\1\11\5\1\1\11\10\1\1\11\5\1\1\11\2\1" + "\1\11\1\1\1\11\5\1\1\11\2\1\1\11\1\1"
-			+ "\3\11\3\1\3\11\1\1\1\11\4\1\1\11\2\1" + "\1\11\1\1\1\11\1\1\1\11\12\1\2\0\1\11"
-			+ "\3\1\2\0\1\11\62\1\1\11\2\1\1\11\4\0" + "\1\11\2\0\1\11\32\0\3\1\2\11\5\0\1\11"
-			+ "\2\0\2\11\2\1\1\0\73\1\64\0\1\1\2\0" + "\1\11\5\0\1\11\1\1\1\11\45\1\1\0\1\11"
-			+ "\1\0\1\1\15\0\1\11\45\0\1\1\4\0\1\1" + "\1\0\1\11\2\0\1\1\1\0\1\11\30\1\15\0"
-			+ "\1\1\20\0\1\1\20\0\21\1\33\0\11\1\4\0" + "\1\1\12\0\3\1\6\0\1\1\2\0\1\11\1\0";
+	private static final int[] ZZ_ACTION = JavaScriptTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = JavaScriptTokenMaker.zzUnpackCMap(JavaScriptTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = JavaScriptTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\75\1\2\1\0\1\1\1\11\22\0\1\75\1\36\1\77"
-			+ "\1\12\1\15\1\35\1\40\1\107\2\106\1\17\1\30\1\27\1\24" + "\1\25\1\16\1\5\7\7\2\4\1\41\1\76\1\31\1\32\1\34"
-			+ "\1\37\1\45\1\103\1\6\1\101\1\102\1\23\1\22\2\3\1\112"
-			+ "\2\3\1\21\1\3\1\111\5\3\1\104\3\3\1\20\2\3\1\100"
-			+ "\1\13\1\105\1\33\1\14\1\113\1\46\1\47\1\53\1\65\1\54"
-			+ "\1\70\1\57\1\61\1\56\1\3\1\64\1\55\1\44\1\60\1\62" + "\1\66\1\73\1\52\1\50\1\51\1\10\1\71\1\63\1\72\1\67"
-			+ "\1\110\1\74\1\43\1\26\1\42\uff81\0";
+	private static final char[] ZZ_CMAP = JavaScriptTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -221,515 +193,14 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = JavaScriptTokenMaker.zzUnpackRowMap();
+	private static final int[] ZZ_ROWMAP = JavaScriptTokenMaker.TABLES.rowMap;
 
 	/* user code: */
 
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\114\0\230\0\344\0\u0130\0\u017c\0\u01c8\0\u0214"
-			+ "\0\u0260\0\u02ac\0\u02f8\0\u0344\0\u0390\0\u03dc\0\u0428\0\u0474"
-			+ "\0\u04c0\0\u050c\0\u0558\0\u05a4\0\u05f0\0\u063c\0\u0688\0\u0558"
-			+ "\0\u06d4\0\u0720\0\u076c\0\u07b8\0\u0558\0\u0558\0\u0804\0\u0850"
-			+ "\0\u089c\0\u08e8\0\u0558\0\u0934\0\u0980\0\u09cc\0\u0a18\0\u0a64"
-			+ "\0\u0ab0\0\u0afc\0\u0b48\0\u0b94\0\u0be0\0\u0c2c\0\u0c78\0\u0cc4"
-			+ "\0\u0d10\0\u0d5c\0\u0da8\0\u0df4\0\u0e40\0\u0e8c\0\u0558\0\u0558"
-			+ "\0\u0ed8\0\u0f24\0\u0558\0\u0f70\0\u0558\0\u0fbc\0\u0558\0\u1008"
-			+ "\0\u0558\0\u0fbc\0\u0558\0\u1054\0\u0558\0\u10a0\0\u10ec\0\u1138"
-			+ "\0\u1184\0\u11d0\0\u0558\0\u121c\0\u1268\0\u12b4\0\u1300\0\u134c"
-			+ "\0\u1398\0\u13e4\0\u1430\0\u0558\0\u147c\0\u14c8\0\u1514\0\u1560"
-			+ "\0\u15ac\0\u0558\0\u15f8\0\u1644\0\u0558\0\u1690\0\u0558\0\u16dc"
-			+ "\0\u1728\0\u1774\0\u17c0\0\u180c\0\u0558\0\u1858\0\u18a4\0\u0558"
-			+ "\0\u18f0\0\u0558\0\u0558\0\u0558\0\u193c\0\u1988\0\u19d4\0\u0558"
-			+ "\0\u0558\0\u0558\0\u1a20\0\u0558\0\u1a6c\0\u1ab8\0\u1b04\0\u1b50"
-			+ "\0\u0558\0\u0fbc\0\u1b9c\0\u0558\0\u1be8\0\u0558\0\u1c34\0\u0558"
-			+ "\0\u1c80\0\u1ccc\0\u1ccc\0\u1ccc\0\u1d18\0\u1d64\0\u1db0\0\u1dfc"
-			+ "\0\u1e48\0\u1e94\0\u1ee0\0\u1f2c\0\u0558\0\u1f78\0\u1ee0\0\u1fc4"
-			+ "\0\u0720\0\u1fc4\0\u0558\0\u2010\0\u205c\0\u20a8\0\u20f4\0\u2140"
-			+ "\0\u218c\0\u21d8\0\u2224\0\u2270\0\u22bc\0\u2308\0\u2354\0\u23a0"
-			+ "\0\u23ec\0\u2438\0\u2484\0\u24d0\0\u251c\0\u2568\0\u25b4\0\u2600"
-			+ "\0\u264c\0\u2698\0\u26e4\0\u2730\0\u277c\0\u27c8\0\u2814\0\u2860"
-			+ "\0\u28ac\0\u05a4\0\u28f8\0\u2944\0\u2990\0\u29dc\0\u2a28\0\u2a74"
-			+ "\0\u2ac0\0\u2b0c\0\u2b58\0\u2ba4\0\u2bf0\0\u2c3c\0\u2c88\0\u2cd4"
-			+ "\0\u2d20\0\u2d6c\0\u2db8\0\u2e04\0\u2e50\0\u0558\0\u2e9c\0\u2ee8"
-			+ "\0\u0558\0\u2f34\0\u2f80\0\u2fcc\0\u3018\0\u0558\0\u3064\0\u30b0"
-			+ "\0\u0558\0\u30fc\0\u3148\0\u3194\0\u31e0\0\u322c\0\u3278\0\u32c4"
-			+ "\0\u3310\0\u335c\0\u33a8\0\u33f4\0\u3440\0\u348c\0\u34d8\0\u3524"
-			+ "\0\u3570\0\u35bc\0\u3608\0\u3654\0\u36a0\0\u36ec\0\u3738\0\u3784"
-			+ "\0\u37d0\0\u381c\0\u3868\0\u38b4\0\u3900\0\u394c\0\u0558\0\u0558"
-			+ "\0\u3998\0\u39e4\0\u3a30\0\u3a7c\0\u3ac8\0\u0558\0\u3b14\0\u3b60"
-			+ "\0\u0558\0\u0558\0\u3bac\0\u3bf8\0\u3c44\0\u1ccc\0\u3c90\0\u3cdc"
-			+ "\0\u3d28\0\u3d74\0\u3dc0\0\u3e0c\0\u3e58\0\u3ea4\0\u3ef0\0\u3f3c"
-			+ "\0\u3f88\0\u3fd4\0\u4020\0\u406c\0\u40b8\0\u4104\0\u4150\0\u419c"
-			+ "\0\u41e8\0\u4234\0\u4280\0\u42cc\0\u4318\0\u4364\0\u43b0\0\u43fc"
-			+ "\0\u4448\0\u4494\0\u44e0\0\u452c\0\u05a4\0\u4578\0\u45c4\0\u4610"
-			+ "\0\u465c\0\u46a8\0\u46f4\0\u4740\0\u478c\0\u47d8\0\u4824\0\u4870"
-			+ "\0\u48bc\0\u4908\0\u4954\0\u49a0\0\u49ec\0\u4a38\0\u4a84\0\u4ad0"
-			+ "\0\u4b1c\0\u4b68\0\u4bb4\0\u4c00\0\u4c4c\0\u4c98\0\u4ce4\0\u4d30"
-			+ "\0\u4d7c\0\u4dc8\0\u4e14\0\u4e60\0\u4eac\0\u4ef8\0\u4f44\0\u4f90"
-			+ "\0\u4fdc\0\u5028\0\u5074\0\u50c0\0\u510c\0\u5158\0\u51a4\0\u51f0"
-			+ "\0\u523c\0\u5288\0\u52d4\0\u5320\0\u536c\0\u53b8\0\u5404\0\u5450"
-			+ "\0\u549c\0\u54e8\0\u5534\0\u5580\0\u55cc\0\u5618\0\u5664\0\u56b0"
-			+ "\0\u56fc\0\u5748\0\u5794\0\u57e0\0\u582c\0\u5878\0\u58c4\0\u5910"
-			+ "\0\u595c\0\u59a8\0\u59f4\0\u5a40\0\u5a8c\0\u5ad8\0\u5b24\0\u5b70"
-			+ "\0\u5bbc\0\u5c08\0\u5c54\0\u5ca0\0\u5cec\0\u5d38\0\u5d84\0\u0558"
-			+ "\0\u5dd0\0\u5e1c\0\u5e68\0\u5eb4\0\u5f00\0\u0558\0\u5f4c\0\u0558"
-			+ "\0\u5f98\0\u5fe4\0\u6030\0\u05a4\0\u607c\0\u60c8\0\u6114\0\u05a4"
-			+ "\0\u6160\0\u61ac\0\u61f8\0\u6244\0\u6290\0\u62dc\0\u05a4\0\u6328"
-			+ "\0\u05a4\0\u6374\0\u63c0\0\u640c\0\u6458\0\u64a4\0\u64f0\0\u653c"
-			+ "\0\u6588\0\u65d4\0\u6620\0\u666c\0\u66b8\0\u6704\0\u6750\0\u679c"
-			+ "\0\u67e8\0\u6834\0\u6880\0\u68cc\0\u6918\0\u2ee8\0\u0558\0\u6964"
-			+ "\0\u69b0\0\u69fc\0\u6a48\0\u6a94\0\u6ae0\0\u6b2c\0\u6b78\0\u6bc4"
-			+ "\0\u6c10\0\u6c5c\0\u6ca8\0\u6cf4\0\u6d40\0\u6d8c\0\u0558\0\u6dd8"
-			+ "\0\u6e24\0\u6e70\0\u6ebc\0\u6f08\0\u6f54\0\u6fa0\0\u6fec\0\u7038"
-			+ "\0\u7084\0\u70d0\0\u711c\0\u7168\0\u71b4\0\u7200\0\u724c\0\u7298"
-			+ "\0\u72e4\0\u7330\0\u737c\0\u73c8\0\u7414\0\u7460\0\u74ac\0\u74f8"
-			+ "\0\u7544\0\u7590\0\u75dc\0\u7628\0\u7674\0\u76c0\0\u770c\0\u7758"
-			+ "\0\u77a4\0\u77f0\0\u783c\0\u7888\0\u78d4\0\u7920\0\u796c\0\u79b8"
-			+ "\0\u7a04\0\u7a50\0\u7a9c\0\u0558\0\u7ae8\0\u7b34\0\u7b80\0\u7bcc"
-			+ "\0\u0558\0\u7c18\0\u7c64\0\u7cb0\0\u7cfc\0\u7d48\0\u7d94\0\u4150"
-			+ "\0\u7de0\0\u7e2c\0\u7e78\0\u7ec4\0\u7f10\0\u7f5c\0\u7fa8\0\u7ff4"
-			+ "\0\u8040\0\u808c\0\u80d8\0\u8124\0\u8170\0\u81bc\0\u8208\0\u8254"
-			+ "\0\u82a0\0\u69b0\0\u82ec\0\u8338\0\u8384\0\u83d0\0\u841c\0\u8468"
-			+ "\0\u84b4\0\u8500\0\u854c\0\u8598\0\u85e4\0\u8630\0\u867c\0\u86c8"
-			+ "\0\u8714\0\u8760\0\u87ac\0\u87f8\0\u8844\0\u8890\0\u88dc\0\u8928"
-			+ "\0\u8974\0\u89c0\0\u8a0c\0\u8a58\0\u8aa4\0\u8af0\0\u8b3c\0\u8b88"
-			+ "\0\u8bd4\0\u8c20\0\u8c6c\0\u8cb8\0\u8d04\0\u8d50\0\u8d9c\0\u78d4"
-			+ "\0\u8de8\0\u8e34\0\u8e80\0\u7a50\0\u8ecc\0\u8f18\0\u7b80\0\u8f64"
-			+ "\0\u8fb0\0\u8ffc\0\u9048\0\u9094\0\u90e0\0\u05a4\0\u912c\0\u9178"
-			+ "\0\u91c4\0\u9210\0\u925c\0\u92a8\0\u92f4\0\u9340\0\u938c\0\u93d8"
-			+ "\0\u9424\0\u9470\0\u94bc\0\u9508\0\u9554\0\u95a0\0\u95ec\0\u9638"
-			+ "\0\u9684\0\u96d0\0\u971c\0\u9768\0\u97b4\0\u9800\0\u984c\0\u9898"
-			+ "\0\u98e4\0\u9930\0\u997c\0\u99c8\0\u9a14\0\u9a60\0\u9aac\0\u9af8"
-			+ "\0\u9b44\0\u9b90\0\u9bdc\0\u9c28\0\u9c74\0\u9cc0\0\u9d0c\0\u9d58"
-			+ "\0\u9da4\0\u9df0\0\u9e3c\0\u9e88\0\u9ed4\0\u9f20\0\u9f6c\0\u9fb8"
-			+ "\0\ua004\0\u6e70\0\ua050\0\ua09c\0\ua0e8\0\ua134\0\ua180\0\ua1cc"
-			+ "\0\ua218\0\ua264\0\ua2b0\0\ua2fc\0\ua348\0\ua394\0\ua3e0\0\ua42c"
-			+ "\0\ua478\0\ua4c4\0\ua510\0\ua55c\0\ua5a8\0\ua5f4\0\ua640\0\ua68c" + "\0\u0558\0\ua6d8";
-
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = JavaScriptTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\21\1\22\1\23\1\24\1\25\1\26\1\24\1\25"
-			+ "\1\27\1\30\2\21\2\24\1\31\1\32\4\24\1\33" + "\1\34\1\35\1\36\1\37\1\40\1\41\1\32\1\42"
-			+ "\2\32\1\43\1\44\2\43\1\45\1\24\1\46\1\47" + "\1\50\1\51\1\52\1\53\1\54\1\55\1\56\1\57"
-			+ "\1\60\1\61\2\24\1\62\1\24\1\63\1\64\1\24" + "\1\65\1\66\2\24\1\35\1\22\1\36\1\67\1\35"
-			+ "\4\24\2\35\1\70\1\24\1\71\1\72\1\73\2\74" + "\1\75\10\74\1\76\63\74\1\77\14\74\2\100\1\101"
-			+ "\10\100\1\102\73\100\1\103\4\100\2\104\1\105\14\104"
-			+ "\1\106\41\104\1\107\1\104\1\110\4\104\1\111\23\104"
-			+ "\2\112\1\113\14\112\1\114\11\112\1\115\13\112\1\116"
-			+ "\13\112\1\117\1\112\1\120\4\112\1\121\3\112\1\122" + "\17\112\2\123\1\124\56\123\1\125\1\123\1\126\4\123"
-			+ "\1\127\23\123\1\130\1\131\1\132\26\130\1\133\6\130"
-			+ "\1\134\34\130\1\22\1\135\15\130\2\136\1\137\21\136"
-			+ "\1\140\34\136\1\141\1\136\1\142\4\136\1\143\23\136"
-			+ "\2\144\1\145\34\144\1\146\54\144\2\147\1\150\26\147"
-			+ "\1\151\2\147\1\152\43\147\1\153\4\147\1\154\6\147" + "\1\155\1\156\1\0\13\155\1\157\13\155\1\43\1\155"
-			+ "\1\160\40\155\1\22\1\155\1\161\7\155\1\162\4\155"
-			+ "\77\163\1\164\14\163\107\165\1\164\4\165\105\166\1\167"
-			+ "\6\166\2\170\1\171\10\170\1\172\1\170\1\173\75\170"
-			+ "\1\174\2\175\1\176\12\175\1\177\10\175\1\200\65\175" + "\1\21\2\0\6\21\1\0\4\21\2\0\4\21\20\0"
-			+ "\30\21\5\0\4\21\3\0\3\21\2\0\1\22\73\0" + "\1\22\132\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\26\24\5\0" + "\4\24\3\0\3\24\1\0\1\202\2\0\1\202\2\25"
-			+ "\1\202\1\25\1\202\1\0\4\202\2\0\1\202\1\203" + "\1\204\1\205\1\0\1\206\16\0\10\202\1\205\1\203"
-			+ "\7\202\1\204\2\202\1\204\3\202\5\0\1\202\1\204" + "\2\202\3\0\3\202\1\0\1\202\2\0\1\202\1\207"
-			+ "\1\210\1\202\1\210\1\202\1\0\4\202\2\0\1\211" + "\1\203\1\204\1\205\1\0\1\206\16\0\10\202\1\205"
-			+ "\1\203\7\202\1\204\2\202\1\204\1\202\1\211\1\202" + "\5\0\1\202\1\204\2\202\3\0\3\202\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24" + "\20\0\1\24\1\21\12\24\1\212\13\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\13\213\1\214\2\213\1\215\1\216" + "\12\213\1\217\61\213\32\0\1\43\105\0\1\43\5\0"
-			+ "\1\43\65\0\2\206\1\0\1\206\134\0\1\43\1\0" + "\1\220\112\0\1\221\1\43\62\0\1\222\27\0\1\223"
-			+ "\1\43\42\0\1\222\50\0\1\43\1\0\1\224\111\0" + "\1\43\5\0\1\43\105\0\1\43\10\0\1\43\50\0"
-			+ "\1\21\2\0\1\225\2\21\1\225\1\21\1\225\1\0" + "\4\21\2\0\4\225\20\0\1\225\1\21\26\225\5\0"
-			+ "\4\225\3\0\3\225\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\1\24\1\226\24\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\4\24\1\227\7\24\1\230" + "\4\24\1\231\4\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\5\24\1\232\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\24\1\21\3\24\1\233\7\24"
-			+ "\1\234\1\24\1\235\3\24\1\236\4\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\4\24" + "\1\237\6\24\1\240\5\24\1\241\4\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\6\24"
-			+ "\1\242\17\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\1\243\6\24\1\244\3\24\1\245" + "\1\246\11\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24" + "\20\0\1\24\1\21\1\247\1\24\1\250\4\24\1\251"
-			+ "\2\24\1\252\10\24\1\253\1\254\1\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\6\24" + "\1\255\5\24\1\256\11\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\257\1\21\2\24\1\260\7\24"
-			+ "\1\261\7\24\1\262\3\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\14\24\1\263\11\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\5\24"
-			+ "\1\264\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\1\265\5\24\1\266\17\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\10\24"
-			+ "\1\267\2\24\1\270\12\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\6\24\1\271\5\24" + "\1\272\11\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\5\24\1\273\1\0\1\21\1\201\2\24\2\0" + "\4\24\20\0\1\24\1\21\1\274\3\24\1\275\21\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\5\24" + "\1\276\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\1\277\6\24\1\300\1\301\3\24\1\302" + "\11\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\1\302\13\24\1\303\11\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\1\304"
-			+ "\25\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\12\24\1\305\13\24\5\0\4\24\3\0" + "\3\24\1\0\2\74\1\0\10\74\1\0\63\74\1\0"
-			+ "\14\74\2\306\1\0\5\306\1\307\61\306\1\310\21\306" + "\2\100\1\0\10\100\1\0\73\100\1\0\4\100\2\104"
-			+ "\1\0\14\104\1\0\41\104\1\0\1\104\1\0\4\104" + "\1\0\23\104\16\0\1\311\146\0\1\312\125\0\1\313"
-			+ "\101\0\1\314\4\0\1\315\35\0\2\112\1\0\14\112" + "\1\0\11\112\1\0\13\112\1\0\13\112\1\0\1\112"
-			+ "\1\0\4\112\1\0\3\112\1\0\17\112\16\0\1\316" + "\100\0\1\317\2\0\1\317\1\0\1\317\5\0\1\320"
-			+ "\1\0\4\317\10\0\1\321\7\0\1\317\1\0\26\317" + "\5\0\4\317\3\0\3\317\45\0\1\322\1\0\1\323"
-			+ "\1\324\1\325\1\326\1\327\1\330\1\331\1\332\1\333" + "\1\334\1\335\3\0\1\336\1\337\1\340\1\0\1\341"
-			+ "\1\342\73\0\1\343\125\0\1\344\101\0\1\345\4\0" + "\1\346\102\0\1\347\46\0\2\123\1\0\56\123\1\0"
-			+ "\1\123\1\0\4\123\1\0\23\123\51\0\1\350\125\0" + "\1\351\101\0\1\352\4\0\1\353\35\0\2\130\1\0"
-			+ "\26\130\1\0\6\130\1\0\34\130\2\0\16\130\1\131" + "\1\0\26\130\1\0\6\130\1\0\34\130\1\22\1\0"
-			+ "\15\130\3\0\1\354\2\0\1\354\1\0\1\354\3\0" + "\1\354\1\0\1\355\1\0\4\354\12\0\1\356\1\357"
-			+ "\1\0\1\354\2\0\1\354\1\0\26\354\5\0\4\354" + "\3\0\3\354\1\0\75\134\1\0\1\360\15\134\2\136"
-			+ "\1\0\21\136\1\0\34\136\1\0\1\136\1\0\4\136" + "\1\0\23\136\24\0\1\361\140\0\1\362\125\0\1\363"
-			+ "\101\0\1\364\4\0\1\365\35\0\2\144\1\0\34\144" + "\1\0\54\144\34\0\1\366\57\0\2\147\1\0\26\147"
-			+ "\1\0\2\147\1\0\43\147\1\0\4\147\1\0\6\147" + "\36\0\1\367\55\0\2\155\1\0\13\155\1\0\13\155"
-			+ "\1\0\1\155\1\0\40\155\1\0\1\155\1\0\7\155" + "\1\0\5\155\1\156\1\0\13\155\1\0\13\155\1\0"
-			+ "\1\155\1\0\40\155\1\22\1\155\1\0\7\155\1\0" + "\4\155\34\0\1\160\57\0\77\163\1\0\14\163\107\165"
-			+ "\1\0\4\165\105\166\1\0\6\166\105\0\1\370\6\0" + "\2\170\1\0\10\170\1\0\1\170\1\0\75\170\75\0"
-			+ "\1\371\17\0\2\175\1\0\12\175\1\0\10\175\1\0" + "\65\175\74\0\1\372\17\0\1\21\2\0\5\21\1\373"
-			+ "\1\0\4\21\2\0\4\21\20\0\30\21\5\0\4\21" + "\3\0\3\21\1\0\1\202\2\0\6\202\1\0\4\202"
-			+ "\2\0\4\202\20\0\30\202\5\0\4\202\3\0\3\202" + "\1\0\1\202\2\0\1\202\2\374\1\202\1\374\1\202"
-			+ "\1\0\4\202\2\0\4\202\1\375\3\0\1\375\13\0" + "\30\202\5\0\4\202\3\0\3\202\1\0\1\202\2\0"
-			+ "\1\202\2\206\1\202\1\206\1\202\1\0\4\202\2\0" + "\2\202\1\204\1\205\20\0\10\202\1\205\10\202\1\204"
-			+ "\2\202\1\204\3\202\5\0\1\202\1\204\2\202\3\0" + "\3\202\1\0\1\202\2\0\1\202\2\207\1\202\1\207"
-			+ "\1\202\1\0\4\202\2\0\2\202\1\204\1\205\1\0" + "\1\206\16\0\10\202\1\205\10\202\1\204\2\202\1\204"
-			+ "\3\202\5\0\1\202\1\204\2\202\3\0\3\202\1\0" + "\1\202\2\0\1\202\1\207\1\210\1\202\1\210\1\202"
-			+ "\1\0\4\202\2\0\1\202\1\376\1\204\1\205\1\0" + "\1\206\16\0\10\202\1\205\1\376\7\202\1\204\2\202"
-			+ "\1\204\3\202\5\0\1\202\1\204\2\202\3\0\3\202" + "\1\0\1\202\2\0\1\202\4\377\1\202\1\0\4\202"
-			+ "\2\0\2\202\2\377\20\0\2\202\2\377\3\202\2\377" + "\10\202\1\377\2\202\1\377\3\202\5\0\3\377\1\202"
-			+ "\3\0\3\202\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\6\24"
-			+ "\1\u0100\17\24\5\0\4\24\3\0\3\24\1\0\13\213" + "\1\214\2\213\1\u0101\77\213\1\0\111\213\17\0\1\u0102"
-			+ "\75\0\1\222\27\0\1\223\43\0\1\222\50\0\1\43" + "\1\0\1\32\57\0\1\21\2\0\6\225\1\0\4\21"
-			+ "\2\0\4\225\20\0\1\225\1\21\26\225\5\0\4\225" + "\3\0\3\225\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\2\24" + "\1\u0103\23\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24" + "\20\0\1\24\1\21\6\24\1\u0104\17\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\14\24"
-			+ "\1\u0105\11\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\3\24\1\u0106\22\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\20\24" + "\1\u0107\5\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24" + "\20\0\1\24\1\21\1\u0108\25\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\14\24\1\u0109"
-			+ "\11\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\10\24\1\u010a\15\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\12\24\1\u010b" + "\13\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\5\24\1\u010c\1\0\1\21\1\201\2\24\2\0\4\24" + "\20\0\1\24\1\21\1\u010d\20\24\1\262\4\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\4\24\1\u010e\3\24\1\u010f\15\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\20\24\1\u0110" + "\5\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\3\24\1\u0111\22\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\2\24\1\u0112"
-			+ "\1\u0113\22\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\1\u0114\25\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\1\u0115\25\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24" + "\1\21\12\24\1\u0116\13\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\24\1\21\5\24\1\u0117\20\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\5\24\1\u0118\20\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\2\24\1\u0112\23\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\5\24"
-			+ "\1\u0119\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\26\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0" + "\4\24\20\0\1\24\1\21\1\u011a\25\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\3\24"
-			+ "\1\u011b\14\24\1\u011c\5\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\3\24\1\u011d\22\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24" + "\1\21\12\24\1\u011e\13\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\24\1\21\20\24\1\u011f\5\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\201\2\24\2\0\2\24\1\u0120\1\24"
-			+ "\20\0\1\24\1\21\26\24\5\0\4\24\3\0\1\24" + "\1\u0121\1\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\2\24" + "\1\u0122\1\u0123\22\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0" + "\4\24\20\0\1\24\1\21\3\24\1\u0124\22\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\7\24\1\u0125\16\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\3\24\1\u0126\22\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21" + "\15\24\1\262\10\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0" + "\4\24\20\0\1\24\1\21\3\24\1\u0127\22\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\10\24\1\u0128\15\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\1\24\1\u0129\5\24\1\u012a" + "\12\24\1\u012b\3\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\5\24\1\u012c\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\24\1\21\26\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\1\24"
-			+ "\1\u012d\24\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\4\24\1\u012e\1\u012f\20\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21" + "\10\24\1\u0130\3\24\1\u0131\11\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\12\24\1\u0132"
-			+ "\13\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\7\24\1\u0133\16\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\14\24\1\u0134" + "\11\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\12\24\1\u0135\13\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\4\24\1\262"
-			+ "\21\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\7\24\1\u0136\1\u0137\15\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\26\24" + "\5\0\4\24\3\0\1\24\1\262\1\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24" + "\20\0\1\24\1\21\22\24\1\u0138\3\24\5\0\4\24"
-			+ "\3\0\3\24\5\0\4\u0139\12\0\2\u0139\22\0\2\u0139" + "\3\0\2\u0139\10\0\1\u0139\2\0\1\u0139\10\0\3\u0139"
-			+ "\14\0\4\u013a\12\0\2\u013a\22\0\2\u013a\3\0\2\u013a"
-			+ "\10\0\1\u013a\2\0\1\u013a\10\0\3\u013a\61\0\1\u013b"
-			+ "\125\0\1\u013c\116\0\1\u013d\102\0\1\u013e\36\0\34\317" + "\1\321\57\317\3\0\1\317\2\0\1\317\1\0\1\317"
-			+ "\7\0\4\317\10\0\1\321\7\0\1\317\1\0\26\317" + "\5\0\4\317\3\0\3\317\55\0\1\u013f\1\0\1\u0140"
-			+ "\3\0\1\u0141\41\0\1\u0142\36\0\1\u0143\3\0\1\u0144"
-			+ "\1\0\1\u0145\120\0\1\u0146\41\0\1\u0147\40\0\1\u0148"
-			+ "\2\0\1\u0149\1\0\1\u014a\116\0\1\u014b\1\u014c\4\0"
-			+ "\1\u014d\100\0\1\u014e\105\0\1\u014f\6\0\1\u0150\4\0"
-			+ "\1\u0151\111\0\1\u0152\10\0\1\u0153\1\u0154\75\0\1\u0155"
-			+ "\1\0\1\u0156\114\0\1\u0157\1\u0158\110\0\1\u0159\104\0"
-			+ "\1\u015a\123\0\1\u015b\111\0\1\u015c\47\0\1\u015d\35\0"
-			+ "\1\u015e\3\0\1\u015f\117\0\1\u0160\103\0\1\u0161\5\0"
-			+ "\1\u0162\110\0\1\u0163\125\0\1\u0164\116\0\1\u0165\102\0"
-			+ "\1\u0166\107\0\1\u0167\3\0\1\u0168\107\0\1\u0169\125\0"
-			+ "\1\u016a\116\0\1\u016b\102\0\1\u016c\41\0\6\354\3\0" + "\1\354\3\0\6\354\13\0\1\354\2\0\1\354\1\0"
-			+ "\26\354\5\0\4\354\3\0\3\354\4\0\1\u016d\2\0" + "\1\u016d\1\0\1\u016d\3\0\1\u016d\3\0\4\u016d\15\0"
-			+ "\1\u016d\2\0\1\u016d\1\0\26\u016d\5\0\4\u016d\3\0"
-			+ "\3\u016d\25\0\1\u016e\53\0\1\u016f\47\0\1\u0170\130\0"
-			+ "\1\u0171\125\0\1\u0172\116\0\1\u0173\102\0\1\u0174\62\0"
-			+ "\1\u0175\123\0\1\u0176\57\0\1\21\2\0\1\21\4\u0177" + "\1\21\1\0\4\21\2\0\2\21\2\u0177\20\0\2\21"
-			+ "\2\u0177\3\21\2\u0177\10\21\1\u0177\2\21\1\u0177\3\21" + "\5\0\3\u0177\1\21\3\0\3\21\1\0\1\202\2\0"
-			+ "\1\202\2\374\1\202\1\374\1\202\1\0\4\202\2\0" + "\2\202\1\204\1\202\20\0\21\202\1\204\2\202\1\204"
-			+ "\3\202\5\0\1\202\1\204\2\202\3\0\3\202\5\0" + "\2\374\1\0\1\374\104\0\1\202\2\0\1\202\4\377"
-			+ "\1\202\1\0\4\202\2\0\1\202\1\376\2\377\20\0" + "\2\202\2\377\3\202\2\377\1\376\7\202\1\377\2\202"
-			+ "\1\377\3\202\5\0\3\377\1\202\3\0\3\202\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\2\24\1\250\23\24\5\0" + "\4\24\3\0\3\24\45\0\1\u0101\11\0\2\u0101\52\0"
-			+ "\1\u0178\75\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\3\24\1\u0179"
-			+ "\22\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\1\u017a\25\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\7\24\1\u017b\16\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24" + "\1\21\6\24\1\u017c\17\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\24\1\21\6\24\1\302\17\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\3\24\1\u017d\22\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\4\24\1\u017e\21\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24" + "\1\21\3\24\1\u0113\22\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\24\1\21\5\24\1\u017f\20\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\6\24\1\u0180\17\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\12\24\1\u0181\13\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24" + "\1\21\14\24\1\u0182\11\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\24\1\21\2\24\1\262\23\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\6\24\1\u0183\17\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\5\24\1\u0184\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\26\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21" + "\6\24\1\262\17\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0" + "\4\24\20\0\1\24\1\21\5\24\1\u0127\20\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\2\24\1\u010f\23\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\4\24\1\u017c\21\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21" + "\2\24\1\u0185\1\u0186\22\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\24\1\21\13\24\1\u0187\12\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\1\u0188\25\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0"
-			+ "\4\24\20\0\1\262\1\21\26\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\7\24\1\u0189" + "\16\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\6\24\1\u018a\17\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\14\24\1\u018b"
-			+ "\11\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\11\24\1\u017c\14\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\7\24\1\u018c" + "\4\24\1\u018b\11\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0" + "\4\24\20\0\1\24\1\21\10\24\1\u018d\15\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\1\u018e\25\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\3\24\1\u018f\22\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\6\24" + "\1\u0190\17\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24" + "\20\0\1\24\1\21\14\24\1\262\11\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\7\24"
-			+ "\1\262\16\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\10\24\1\u0191\15\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\13\24" + "\1\262\12\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24" + "\20\0\1\24\1\21\7\24\1\u0112\16\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\5\24\1\u0192\1\0" + "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\26\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\6\24\1\u0193\17\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\1\u0194\25\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24" + "\1\21\1\24\1\u0195\24\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\24\1\21\7\24\1\u017d\16\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\2\24\1\u0196\23\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\16\24\1\u0197\7\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24" + "\1\21\23\24\1\u0198\2\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\24\1\21\3\24\1\u0199\22\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\5\24\1\u019a\20\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\2\24\1\u010c\23\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24" + "\1\21\1\u017e\25\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0" + "\4\24\20\0\1\24\1\21\1\u019b\25\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\1\u019c"
-			+ "\25\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\17\24\1\262\6\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\10\24\1\u019d" + "\15\24\5\0\4\24\3\0\3\24\5\0\4\u019e\12\0"
-			+ "\2\u019e\22\0\2\u019e\3\0\2\u019e\10\0\1\u019e\2\0"
-			+ "\1\u019e\10\0\3\u019e\14\0\4\u019f\12\0\2\u019f\22\0"
-			+ "\2\u019f\3\0\2\u019f\10\0\1\u019f\2\0\1\u019f\10\0"
-			+ "\3\u019f\76\0\1\u01a0\52\0\1\u01a1\127\0\1\u01a2\126\0"
-			+ "\1\u013d\103\0\1\u01a3\4\0\1\u01a4\134\0\1\u01a5\106\0"
-			+ "\1\u01a6\77\0\1\u01a7\5\0\1\u01a8\104\0\1\u01a9\116\0"
-			+ "\1\u01aa\116\0\1\u01ab\107\0\1\u01ac\105\0\1\u01ad\115\0"
-			+ "\1\u01ae\121\0\1\u01af\117\0\1\u01b0\105\0\1\u01b1\3\0"
-			+ "\1\u01b2\122\0\1\u01b3\114\0\1\u01b4\73\0\1\u01b5\2\0"
-			+ "\1\u01b6\21\0\1\u01b7\75\0\1\u01b8\104\0\1\u01b9\125\0"
-			+ "\1\u01ba\5\0\1\u01bb\35\0\1\u01bc\157\0\1\u01bd\105\0"
-			+ "\1\u01be\2\0\1\u01bf\14\0\1\u01c0\105\0\1\u01c1\106\0"
-			+ "\1\u01c2\4\0\1\u01c3\113\0\1\u01c4\103\0\1\u01c5\7\0"
-			+ "\1\u01c6\115\0\1\u01c7\75\0\1\u01c8\127\0\1\u01c9\103\0"
-			+ "\1\u01ca\15\0\1\u01cb\1\0\1\u01cc\72\0\1\u01cd\116\0"
-			+ "\1\u01ce\117\0\1\u01cf\3\0\1\u01d0\103\0\1\u01d1\2\0"
-			+ "\1\u0149\110\0\1\u01d2\113\0\1\u01d3\127\0\1\u01d4\52\0"
-			+ "\1\u01d5\127\0\1\u01d6\126\0\1\u0165\47\0\1\u01d7\161\0"
-			+ "\1\u01d8\123\0\1\u01d9\52\0\1\u01da\127\0\1\u01db\126\0"
-			+ "\1\u016b\42\0\6\u016d\3\0\1\u016d\3\0\6\u016d\13\0" + "\1\u016d\2\0\1\u016d\1\0\26\u016d\5\0\4\u016d\3\0"
-			+ "\3\u016d\25\0\1\u01dc\170\0\1\u01dd\100\0\1\u01de\52\0"
-			+ "\1\u01df\127\0\1\u01e0\126\0\1\u0173\63\0\1\u01e1\67\0" + "\1\21\2\0\1\21\4\u01e2\1\21\1\0\4\21\2\0"
-			+ "\2\21\2\u01e2\20\0\2\21\2\u01e2\3\21\2\u01e2\10\21" + "\1\u01e2\2\21\1\u01e2\3\21\5\0\3\u01e2\1\21\3\0"
-			+ "\3\21\1\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\4\24\1\u01e3"
-			+ "\21\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\16\24\1\262\7\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\6\24\1\u01e4" + "\17\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\10\24\1\u01e5\15\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\3\24\1\u017c"
-			+ "\22\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\13\24\1\u01e6\12\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\2\24\1\u01e7" + "\23\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\15\24\1\u01e8\10\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\14\24\1\u01e9"
-			+ "\11\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\4\24\1\u01ea\21\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\3\24\1\262" + "\22\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\10\24\1\u01eb\15\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\20\24\1\u01ec"
-			+ "\5\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\12\24\1\u01ed\13\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\4\24\1\u0185" + "\21\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\6\24\1\u01ee\17\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\12\24\1\u01ef"
-			+ "\13\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\26\24\5\0\4\24\3\0\1\24\1\u0189" + "\1\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\1\u01f0\25\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24" + "\1\21\4\24\1\u01f1\21\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\24\1\21\23\24\1\u0112\2\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\11\24\1\u01f2\14\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\3\24\1\u0112\22\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\5\24"
-			+ "\1\u01f3\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\26\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0" + "\4\24\20\0\1\24\1\21\7\24\1\u0106\16\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\6\24\1\u01f4\17\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\1\u01f5\25\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\1\u0193" + "\25\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\6\24\1\u01f6\17\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\3\24\1\u01f7"
-			+ "\22\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\7\24\1\u01f8\16\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\3\24\1\270" + "\22\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\12\24\1\u01f9\13\24\5\0\4\24\3\0"
-			+ "\3\24\42\0\1\u01a2\6\0\1\u013d\46\0\6\u01a1\1\0"
-			+ "\1\u01fa\1\0\1\u01fa\2\u01a1\1\u01fa\4\u01a1\2\u01fa\1\0"
-			+ "\2\u01fa\1\0\1\u01fa\2\0\6\u01fa\1\0\1\u01a1\1\u01fa"
-			+ "\26\u01a1\2\0\1\u01fa\1\0\1\u01fa\4\u01a1\3\u01fa\3\u01a1"
-			+ "\17\0\1\u01fb\144\0\1\u01fc\125\0\1\u01fd\106\0\1\u01b2"
-			+ "\1\0\1\u01fe\45\0\1\u01ff\164\0\1\u0200\76\0\1\u0201"
-			+ "\120\0\1\u0202\116\0\1\u0203\105\0\1\u01b2\117\0\1\u01b1"
-			+ "\105\0\1\u0204\120\0\1\u0205\115\0\1\u0149\122\0\1\u0206"
-			+ "\101\0\1\u01af\125\0\1\u01af\105\0\1\u0207\124\0\1\u0208"
-			+ "\36\0\1\u0209\113\0\1\u020a\160\0\1\u020b\106\0\1\u020c"
-			+ "\113\0\1\u020d\132\0\1\u020e\70\0\1\u01af\127\0\1\u020f"
-			+ "\77\0\1\u0210\123\0\1\u0211\121\0\1\u0212\116\0\1\u01b2"
-			+ "\102\0\1\u0213\123\0\1\u01af\111\0\1\u0214\102\0\1\u0215"
-			+ "\116\0\1\u0216\106\0\1\u0217\120\0\1\u0218\124\0\1\u01af"
-			+ "\101\0\1\u01af\112\0\1\u0219\107\0\1\u021a\122\0\1\u0205"
-			+ "\104\0\1\u01bc\136\0\1\u021b\73\0\1\u021c\14\0\1\u021d"
-			+ "\101\0\1\u01b2\115\0\1\u021e\105\0\1\u021f\104\0\1\u01d6"
-			+ "\6\0\1\u0165\46\0\6\u01d5\1\0\1\u0220\1\0\1\u0220"
-			+ "\2\u01d5\1\u0220\4\u01d5\2\u0220\1\0\2\u0220\1\0\1\u0220"
-			+ "\2\0\6\u0220\1\0\1\u01d5\1\u0220\26\u01d5\2\0\1\u0220"
-			+ "\1\0\1\u0220\4\u01d5\3\u0220\3\u01d5\17\0\1\u0221\146\0"
-			+ "\1\u0222\122\0\1\u0223\74\0\1\u01db\6\0\1\u016b\46\0"
-			+ "\6\u01da\1\0\1\u0224\1\0\1\u0224\2\u01da\1\u0224\4\u01da"
-			+ "\2\u0224\1\0\2\u0224\1\0\1\u0224\2\0\6\u0224\1\0"
-			+ "\1\u01da\1\u0224\26\u01da\2\0\1\u0224\1\0\1\u0224\4\u01da"
-			+ "\3\u0224\3\u01da\17\0\1\u0225\177\0\1\u0226\52\0\1\u01e0"
-			+ "\6\0\1\u0173\46\0\6\u01df\1\0\1\u0227\1\0\1\u0227"
-			+ "\2\u01df\1\u0227\4\u01df\2\u0227\1\0\2\u0227\1\0\1\u0227"
-			+ "\2\0\6\u0227\1\0\1\u01df\1\u0227\26\u01df\2\0\1\u0227"
-			+ "\1\0\1\u0227\4\u01df\3\u0227\3\u01df\17\0\1\u0228\75\0" + "\1\21\2\0\1\21\4\u0229\1\21\1\0\4\21\2\0"
-			+ "\2\21\2\u0229\20\0\2\21\2\u0229\3\21\2\u0229\10\21" + "\1\u0229\2\21\1\u0229\3\21\5\0\3\u0229\1\21\3\0"
-			+ "\3\21\1\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\1\u022a\25\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\1\u022b\25\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\5\24\1\262\20\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21" + "\4\24\1\u022c\21\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0" + "\4\24\20\0\1\24\1\21\10\24\1\u022d\15\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\22\24\1\262\3\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\12\24\1\u022e\13\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21" + "\12\24\1\u022f\13\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0" + "\4\24\20\0\1\24\1\21\6\24\1\u0189\17\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\201\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\17\24\1\u010f\6\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0"
-			+ "\4\24\20\0\1\u0230\1\21\26\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\10\24\1\u0231" + "\15\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\12\24\1\u0232\13\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\22\24\1\u0233"
-			+ "\3\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\11\24\1\u0107\14\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\7\24\1\u0185" + "\16\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\201\2\24\2\0\2\24\1\u0234" + "\1\24\20\0\1\24\1\21\26\24\5\0\4\24\3\0"
-			+ "\2\24\1\u0235\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\11\24"
-			+ "\1\u0112\14\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\5\24\1\u0236\20\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\10\24" + "\1\u0237\15\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24" + "\20\0\1\24\1\21\7\24\1\u0238\16\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\10\24"
-			+ "\1\u0239\15\24\5\0\4\24\3\0\3\24\17\0\1\u01a1"
-			+ "\151\0\1\u023a\121\0\1\u01c9\111\0\1\u01af\110\0\1\u0149"
-			+ "\120\0\1\u0216\105\0\1\u023b\111\0\1\u023c\111\0\1\u01b2"
-			+ "\111\0\1\u023d\123\0\1\u01ca\120\0\1\u01b2\115\0\1\u023e"
-			+ "\110\0\1\u023f\103\0\1\u0240\117\0\1\u0241\104\0\1\u0242"
-			+ "\114\0\1\u0243\114\0\1\u0244\114\0\1\u0245\112\0\1\u01af"
-			+ "\130\0\1\u01ff\77\0\1\u0246\113\0\1\u0247\121\0\1\u0248"
-			+ "\105\0\1\u0149\107\0\1\u014a\117\0\1\u01af\107\0\1\u0249"
-			+ "\115\0\1\u024a\117\0\1\u024b\47\0\1\u024c\151\0\1\u024d"
-			+ "\121\0\1\u024e\113\0\1\u024f\105\0\1\u0250\123\0\1\u0251"
-			+ "\53\0\1\u01d5\157\0\1\u0252\115\0\1\u0253\45\0\1\u01da"
-			+ "\200\0\1\u0254\26\0\1\u01df\75\0\1\21\2\0\1\21" + "\4\24\1\21\1\0\4\21\2\0\2\21\2\24\20\0"
-			+ "\2\21\2\24\3\21\2\24\10\21\1\24\2\21\1\24" + "\3\21\5\0\3\24\1\21\3\0\3\21\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24" + "\20\0\1\24\1\21\5\24\1\u0185\20\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\12\24"
-			+ "\1\u017c\13\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\14\24\1\u0255\11\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\6\24" + "\1\u0256\17\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\5\24\1\u0112\1\0\1\21\1\201\2\24\2\0" + "\4\24\20\0\1\24\1\21\26\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201" + "\2\24\2\0\4\24\20\0\1\24\1\21\6\24\1\u0257"
-			+ "\17\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\3\24\1\u01ec\22\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\201"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\5\24\1\u0110" + "\20\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\201\2\24\2\0\4\24\20\0" + "\1\24\1\21\1\u0258\25\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\24\1\21\7\24\1\u0259\16\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\12\24\1\u025a\13\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\3\24\1\u025b\22\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24" + "\1\21\14\24\1\u025c\11\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\24\1\21\21\24\1\262\4\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\3\24\1\u0238\22\24\5\0\4\24\3\0\3\24" + "\53\0\1\u025d\121\0\1\u0247\101\0\1\u025e\117\0\1\u025f"
-			+ "\115\0\1\u0260\117\0\1\u0261\113\0\1\u0262\105\0\1\u01d1"
-			+ "\107\0\1\u0263\132\0\1\u0264\74\0\1\u01bd\3\0\1\u0265"
-			+ "\117\0\1\u0266\115\0\1\u0217\104\0\1\u01b2\112\0\1\u0149"
-			+ "\120\0\1\u01af\124\0\1\u0267\100\0\1\u0268\115\0\1\u020f"
-			+ "\107\0\1\u0149\115\0\1\u0269\112\0\1\u026a\112\0\1\u021f"
-			+ "\124\0\1\u01fe\103\0\1\u026b\41\0\26\u0253\1\u01af\65\u0253"
-			+ "\104\0\1\u026c\7\0\1\21\2\0\6\24\1\0\1\21" + "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\12\24"
-			+ "\1\u026d\13\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\12\24\1\u0185\13\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\12\24" + "\1\u026e\13\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24" + "\20\0\1\24\1\21\5\24\1\u0112\20\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\14\24"
-			+ "\1\u026f\11\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\3\24\1\u0189\22\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\201\2\24\2\0\4\24\20\0\1\24\1\21\6\24" + "\1\u0137\17\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\201\2\24\2\0\4\24" + "\20\0\1\24\1\21\12\24\1\262\13\24\5\0\4\24"
-			+ "\3\0\3\24\63\0\1\u0260\104\0\1\u020f\127\0\1\u01af"
-			+ "\114\0\1\u01af\100\0\1\u025f\111\0\1\u01c3\114\0\1\u0270"
-			+ "\47\0\1\u0271\162\0\1\u0272\102\0\1\u01b0\113\0\1\u0269"
-			+ "\116\0\1\u0273\113\0\1\u025f\120\0\1\u0274\140\0\1\u0275" + "\10\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\10\24\1\u0276\15\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\201\2\24\2\0\4\24\20\0\1\24" + "\1\21\3\24\1\u010f\22\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\201\2\24" + "\2\0\4\24\20\0\1\24\1\21\1\u025a\25\24\5\0"
-			+ "\4\24\3\0\3\24\51\0\1\u01ca\116\0\1\u0277\121\0"
-			+ "\1\u020f\106\0\1\u01c9\105\0\1\u0278\145\0\1\u0279\13\0" + "\1\21\2\0\6\24\1\0\1\21\1\201\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\26\24\5\0\4\24\3\0" + "\1\u025b\2\24\52\0\1\u027a\117\0\1\u0253\106\0\1\u01af"
-			+ "\11\0\1\u0216\31\0";
+	private static final int[] ZZ_TRANS = JavaScriptTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
@@ -799,109 +270,6 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 		JavaScriptTokenMaker.jsVersion = javaScriptVersion;
 	}
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[634];
-		int offset = 0;
-		offset = JavaScriptTokenMaker.zzUnpackAction(JavaScriptTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[634];
-		int offset = 0;
-		offset = JavaScriptTokenMaker.zzUnpackAttribute(JavaScriptTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 172) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[634];
-		int offset = 0;
-		offset = JavaScriptTokenMaker.zzUnpackRowMap(JavaScriptTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[42788];
-		int offset = 0;
-		offset = JavaScriptTokenMaker.zzUnpackTrans(JavaScriptTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/**
 	 * Whether we're in an internal DTD. Only valid if in an e4x DTD.
 	 */
@@ -1342,7 +710,7 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_DTD);
 				this.addEndToken(this.e4x_inInternalDtd ? JavaScriptTokenMaker.INTERNAL_E4X_DTD_INTERNAL
 						: JavaScriptTokenMaker.INTERNAL_E4X_DTD);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 87:
 				break;
@@ -1361,7 +729,7 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 					this.addToken(this.start, this.zzStartRead, TokenTypes.ERROR_CHAR);
 					this.addEndToken(JavaScriptTokenMaker.INTERNAL_IN_JS_CHAR_INVALID);
 				}
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 89:
 				break;
@@ -1373,7 +741,7 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 			case 18: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
 				this.addEndToken(JavaScriptTokenMaker.INTERNAL_IN_JS_MLC);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 91:
 				break;
@@ -1427,7 +795,7 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 					this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
 					this.addEndToken(JavaScriptTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
 				}
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 96:
 				break;
@@ -1449,7 +817,7 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 			case 12: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 100:
 				break;
@@ -1514,7 +882,7 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 			case 20: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 110:
 				break;
@@ -1574,14 +942,14 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 			case 19: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_DOCUMENTATION);
 				this.addEndToken(JavaScriptTokenMaker.INTERNAL_IN_JS_COMMENT_DOCUMENTATION);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 119:
 				break;
 			case 26: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_PROCESSING_INSTRUCTION);
 				this.addEndToken(JavaScriptTokenMaker.INTERNAL_E4X_MARKUP_PROCESSING_INSTRUCTION);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 120:
 				break;
@@ -1640,14 +1008,14 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 					this.addToken(this.start, this.zzStartRead, TokenTypes.ERROR_STRING_DOUBLE);
 					this.addEndToken(JavaScriptTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
 				}
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 128:
 				break;
 			case 25: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_COMMENT);
 				this.addEndToken(JavaScriptTokenMaker.INTERNAL_IN_E4X_COMMENT - this.e4x_prevState);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 129:
 				break;
@@ -1745,7 +1113,7 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 4: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 144:
 				break;
@@ -1804,7 +1172,7 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 21: {
 				this.addEndToken(JavaScriptTokenMaker.INTERNAL_E4X);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 154:
 				break;
@@ -1816,7 +1184,7 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 					this.addToken(this.start, this.zzStartRead, TokenTypes.ERROR_STRING_DOUBLE);
 					this.addEndToken(JavaScriptTokenMaker.INTERNAL_IN_JS_STRING_INVALID);
 				}
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 155:
 				break;
@@ -1835,13 +1203,13 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 63: {
 				boolean highlightedAsRegex = false;
-				if (this.firstToken == null) {
+				if (this.tokenStream.isEmpty()) {
 					this.addToken(TokenTypes.REGEX);
 					highlightedAsRegex = true;
 				} else {
 					// If this is *likely* to be a regex, based on
 					// the previous token, highlight it as such.
-					final Token t = this.firstToken.getLastNonCommentNonWhitespaceToken();
+					final Token t = this.getLastNonCommentNonWhitespaceToken();
 					if (RSyntaxUtilities.regexCanFollowInJavaScript(t)) {
 						this.addToken(TokenTypes.REGEX);
 						highlightedAsRegex = true;
@@ -1878,7 +1246,7 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 			case 15: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_CHAR);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 162:
 				break;
@@ -1886,7 +1254,7 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 						// next line.
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.VARIABLE);
 				this.addEndToken(JavaScriptTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 163:
 				break;
@@ -1901,54 +1269,54 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 					case JS_STRING: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 635:
 						break;
 					case E4X: {
 						this.addEndToken(JavaScriptTokenMaker.INTERNAL_E4X);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 636:
 						break;
 					case E4X_INTAG: {
 						this.addToken(this.start, this.zzStartRead - 1, JavaScriptTokenMaker.INTERNAL_E4X_INTAG);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 637:
 						break;
 					case E4X_PI: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_PROCESSING_INSTRUCTION);
 						this.addEndToken(JavaScriptTokenMaker.INTERNAL_E4X_MARKUP_PROCESSING_INSTRUCTION);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 638:
 						break;
 					case JS_MLC: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
 						this.addEndToken(JavaScriptTokenMaker.INTERNAL_IN_JS_MLC);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 639:
 						break;
 					case JS_CHAR: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_CHAR);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 640:
 						break;
 					case JS_EOL_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 641:
 						break;
 					case E4X_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_COMMENT);
 						this.addEndToken(JavaScriptTokenMaker.INTERNAL_IN_E4X_COMMENT - this.e4x_prevState);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 642:
 						break;
@@ -1956,7 +1324,7 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 						this.yybegin(JavaScriptTokenMaker.YYINITIAL);
 						this.addToken(this.start, this.zzEndRead, TokenTypes.COMMENT_DOCUMENTATION);
 						this.addEndToken(JavaScriptTokenMaker.INTERNAL_IN_JS_COMMENT_DOCUMENTATION);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 643:
 						break;
@@ -1964,7 +1332,7 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_DTD);
 						this.addEndToken(this.e4x_inInternalDtd ? JavaScriptTokenMaker.INTERNAL_E4X_DTD_INTERNAL
 								: JavaScriptTokenMaker.INTERNAL_E4X_DTD);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 644:
 						break;
@@ -1976,21 +1344,21 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 							this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
 							this.addEndToken(JavaScriptTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
 						}
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 645:
 						break;
 					case E4X_INATTR_SINGLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(JavaScriptTokenMaker.INTERNAL_E4X_ATTR_SINGLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 646:
 						break;
 					case E4X_INATTR_DOUBLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(JavaScriptTokenMaker.INTERNAL_E4X_ATTR_DOUBLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 647:
 						break;
@@ -1999,20 +1367,20 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 						// next line.
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.VARIABLE);
 						this.addEndToken(JavaScriptTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 648:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 649:
 						break;
 					case E4X_CDATA: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_CDATA);
 						this.addEndToken(JavaScriptTokenMaker.INTERNAL_E4X_MARKUP_CDATA);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 650:
 						break;
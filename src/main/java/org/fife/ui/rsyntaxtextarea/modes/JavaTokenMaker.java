@@ -73,72 +73,24 @@ public class JavaTokenMaker extends AbstractJFlexCTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = JavaTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\4\0\1\1\1\2\2\3\1\2\1\4\1\5\2\2"
-			+ "\1\6\1\1\1\7\2\10\5\2\1\10\7\2\1\11" + "\1\2\5\10\11\2\1\12\16\2\1\13\1\14\5\13"
-			+ "\1\15\10\13\1\16\3\13\1\1\2\17\1\20\1\3" + "\1\17\1\20\2\17\1\21\2\17\5\2\1\4\1\22"
-			+ "\1\0\1\4\7\2\2\6\1\23\1\24\1\25\41\2" + "\1\0\1\10\1\2\1\26\10\2\1\26\14\2\1\12"
-			+ "\57\2\2\0\1\27\4\0\1\30\2\0\1\31\22\0" + "\1\1\1\3\1\20\1\0\2\21\1\3\1\21\10\2"
-			+ "\1\4\1\32\2\4\1\22\1\4\5\2\1\6\1\33" + "\1\6\1\34\62\2\1\35\17\2\1\1\10\2\1\36"
-			+ "\45\2\1\36\24\2\37\0\1\1\2\17\12\2\1\4" + "\3\2\1\6\1\37\1\36\3\2\1\36\5\2\1\36"
-			+ "\2\2\1\35\4\2\2\36\6\2\1\40\37\2\1\1" + "\56\2\1\0\31\2\2\0\1\41\2\0\1\42\10\0"
-			+ "\1\43\17\0\1\44\1\1\2\2\1\36\11\2\1\4" + "\1\26\1\6\37\2\1\26\27\2\1\1\11\2\1\36"
-			+ "\31\2\1\36\11\2\1\0\31\2\35\0\1\1\15\2" + "\1\4\1\2\1\6\1\36\5\2\1\36\27\2\1\45"
-			+ "\16\2\1\36\1\1\11\2\1\36\30\2\1\36\13\2" + "\1\0\2\2\1\36\10\2\1\36\12\2\22\0\15\2"
-			+ "\1\0\4\2\1\0\34\2\1\36\2\2\1\1\43\2" + "\1\0\14\2\1\0\23\2\1\36\6\2\2\0\1\43"
-			+ "\6\0\1\36\12\2\4\0\4\2\2\0\75\2\2\0" + "\11\2\1\0\20\2\1\36\12\2\12\0\4\2\1\36"
-			+ "\4\2\4\0\3\2\1\0\3\2\1\36\10\2\1\36" + "\6\2\1\36\45\2\2\0\10\2\1\36\30\2\5\0"
-			+ "\4\2\1\0\2\2\1\36\4\0\1\2\1\0\3\2" + "\1\0\53\2\2\0\33\2\5\0\3\2\2\0\1\2"
-			+ "\4\0\3\2\1\0\1\36\11\2\1\36\10\2\1\36" + "\5\2\1\36\12\2\2\0\15\2\1\36\6\2\2\0"
-			+ "\2\2\2\0\1\2\4\0\3\2\1\0\5\2\1\36" + "\3\2\1\0\1\2\1\36\2\2\1\36\2\2\1\0"
-			+ "\1\36\15\2\1\0\14\2\1\36\3\2\1\36\5\2" + "\2\0\1\2\3\0\2\2\1\0\2\2\1\36\6\2"
-			+ "\1\0\2\2\2\0\12\2\1\0\23\2\2\0\1\2" + "\2\0\2\2\1\0\4\2\1\36\1\2\1\0\2\2"
-			+ "\2\0\12\2\1\0\15\2\1\36\2\2\2\0\1\2" + "\2\0\2\2\1\0\3\2\1\0\1\2\1\0\1\2"
-			+ "\5\0\11\2\1\0\12\2\1\0\2\2\1\0\1\2" + "\2\0\1\2\1\0\2\2\1\0\1\2\5\0\10\2"
-			+ "\1\0\6\2\1\0\1\2\3\0\1\2\1\0\1\2" + "\1\0\1\2\5\0\5\2\1\0\3\2\1\36\1\2"
-			+ "\1\0\1\36\4\0\1\2\1\0\1\2\1\0\1\2" + "\4\0\3\2\1\0\3\2\1\0\1\36\4\0\1\2"
-			+ "\1\0\1\2\4\0\2\2\1\0\2\2\6\0\1\2" + "\1\0\1\2\4\0\1\2\7\0\1\2\1\0\1\2" + "\30\0\1\36\37\0";
+	private static final ScannerTables TABLES = ScannerTables.load(JavaTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = JavaTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\4\0\6\1\1\11\3\1\1\11\20\1\2\11\3\1"
-			+ "\1\11\32\1\1\11\5\1\1\11\10\1\1\11\25\1" + "\1\11\1\0\12\1\2\11\42\1\1\0\110\1\2\0"
-			+ "\1\11\4\0\1\11\2\0\1\11\22\0\3\1\1\0" + "\15\1\1\11\12\1\1\11\210\1\37\0\22\1\1\11"
-			+ "\151\1\1\0\31\1\2\0\1\1\2\0\1\1\10\0" + "\1\11\17\0\166\1\1\0\31\1\35\0\156\1\1\0"
-			+ "\26\1\22\0\15\1\1\0\4\1\1\0\103\1\1\0" + "\14\1\1\0\32\1\2\0\1\1\6\0\13\1\4\0"
-			+ "\4\1\2\0\75\1\2\0\11\1\1\0\33\1\12\0" + "\11\1\4\0\3\1\1\0\71\1\2\0\10\1\1\11"
-			+ "\30\1\5\0\4\1\1\0\3\1\4\0\1\1\1\0" + "\3\1\1\0\53\1\2\0\33\1\5\0\3\1\2\0"
-			+ "\1\1\4\0\3\1\1\0\44\1\2\0\24\1\2\0" + "\2\1\2\0\1\1\4\0\3\1\1\0\11\1\1\0"
-			+ "\7\1\1\0\16\1\1\0\26\1\2\0\1\1\3\0" + "\2\1\1\0\11\1\1\0\2\1\2\0\12\1\1\0"
-			+ "\23\1\2\0\1\1\2\0\2\1\1\0\6\1\1\0" + "\2\1\2\0\12\1\1\0\20\1\2\0\1\1\2\0"
-			+ "\2\1\1\0\3\1\1\0\1\1\1\0\1\1\5\0" + "\11\1\1\0\12\1\1\0\2\1\1\0\1\1\2\0"
-			+ "\1\1\1\0\2\1\1\0\1\1\5\0\10\1\1\0" + "\6\1\1\0\1\1\3\0\1\1\1\0\1\1\1\0"
-			+ "\1\1\5\0\5\1\1\0\5\1\1\0\1\1\4\0" + "\1\1\1\0\1\1\1\0\1\1\4\0\3\1\1\0"
-			+ "\3\1\1\0\1\1\4\0\1\1\1\0\1\1\4\0" + "\2\1\1\0\2\1\6\0\1\1\1\0\1\1\4\0"
-			+ "\1\1\7\0\1\1\1\0\1\1\30\0\1\1\37\0";
+	private static final int[] ZZ_ACTION = JavaTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = JavaTokenMaker.zzUnpackCMap(JavaTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = JavaTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\23\1\11\1\0\1\23\1\20\22\0\1\23\1\53\1\16"
-			+ "\1\21\1\22\1\53\1\55\1\10\2\77\1\25\1\46\1\45\1\34" + "\1\35\1\24\1\4\1\5\2\17\1\122\1\7\1\121\1\7\2\3"
-			+ "\1\56\1\45\1\47\1\50\1\52\1\54\1\76\1\101\1\27\1\6"
-			+ "\1\67\1\33\1\32\1\116\1\107\1\104\1\124\1\1\1\26\1\111"
-			+ "\1\112\1\113\1\115\1\120\1\74\1\102\1\105\1\106\1\110\1\117"
-			+ "\1\31\1\1\1\123\1\77\1\12\1\77\1\51\1\2\1\0\1\41" + "\1\30\1\63\1\61\1\40\1\15\1\72\1\57\1\65\1\114\1\75"
-			+ "\1\42\1\66\1\14\1\60\1\62\1\103\1\37\1\43\1\36\1\13"
-			+ "\1\71\1\70\1\64\1\73\1\100\1\125\1\51\1\44\1\54\uff81\0";
+	private static final char[] ZZ_CMAP = JavaTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -151,2470 +103,16 @@ public class JavaTokenMaker extends AbstractJFlexCTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = JavaTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\126\0\254\0\u0102\0\u0158\0\u01ae\0\u0204\0\u025a"
-			+ "\0\u02b0\0\u0306\0\u035c\0\u03b2\0\u0408\0\u045e\0\u035c\0\u04b4"
-			+ "\0\u050a\0\u0560\0\u05b6\0\u060c\0\u0662\0\u06b8\0\u070e\0\u0764"
-			+ "\0\u07ba\0\u0810\0\u0866\0\u08bc\0\u0912\0\u0968\0\u09be\0\u035c"
-			+ "\0\u035c\0\u0a14\0\u0a6a\0\u0ac0\0\u035c\0\u0b16\0\u0b6c\0\u0bc2"
-			+ "\0\u0c18\0\u0c6e\0\u0cc4\0\u0d1a\0\u0d70\0\u0dc6\0\u0e1c\0\u0e72"
-			+ "\0\u0ec8\0\u0f1e\0\u0f74\0\u0fca\0\u1020\0\u1076\0\u10cc\0\u1122"
-			+ "\0\u1178\0\u11ce\0\u1224\0\u127a\0\u12d0\0\u1326\0\u137c\0\u035c"
-			+ "\0\u13d2\0\u1428\0\u147e\0\u14d4\0\u152a\0\u035c\0\u1580\0\u15d6"
-			+ "\0\u162c\0\u1682\0\u16d8\0\u172e\0\u1784\0\u17da\0\u035c\0\u1830"
-			+ "\0\u1886\0\u18dc\0\u1932\0\u1988\0\u19de\0\u1988\0\u1988\0\u1a34"
-			+ "\0\u1a8a\0\u1ae0\0\u1b36\0\u1b8c\0\u1be2\0\u1c38\0\u1c8e\0\u1ce4"
-			+ "\0\u1d3a\0\u1d90\0\u1de6\0\u1e3c\0\u035c\0\u1e92\0\u1ee8\0\u1f3e"
-			+ "\0\u1f94\0\u1fea\0\u2040\0\u2096\0\u20ec\0\u2142\0\u2198\0\u21ee"
-			+ "\0\u035c\0\u035c\0\u2244\0\u229a\0\u22f0\0\u2346\0\u239c\0\u23f2"
-			+ "\0\u2448\0\u249e\0\u24f4\0\u254a\0\u25a0\0\u25f6\0\u264c\0\u26a2"
-			+ "\0\u26f8\0\u274e\0\u27a4\0\u27fa\0\u2850\0\u28a6\0\u28fc\0\u2952"
-			+ "\0\u29a8\0\u29fe\0\u2a54\0\u2aaa\0\u2b00\0\u2b56\0\u2bac\0\u2c02"
-			+ "\0\u2c58\0\u2cae\0\u2d04\0\u2d5a\0\u0560\0\u2db0\0\u2e06\0\u2e5c"
-			+ "\0\u2eb2\0\u2f08\0\u2f5e\0\u2fb4\0\u300a\0\u3060\0\u30b6\0\u310c"
-			+ "\0\u01ae\0\u3162\0\u31b8\0\u320e\0\u3264\0\u32ba\0\u3310\0\u3366"
-			+ "\0\u33bc\0\u3412\0\u3468\0\u34be\0\u3514\0\u356a\0\u35c0\0\u3616"
-			+ "\0\u366c\0\u36c2\0\u3718\0\u376e\0\u37c4\0\u381a\0\u3870\0\u38c6"
-			+ "\0\u391c\0\u3972\0\u39c8\0\u3a1e\0\u3a74\0\u3aca\0\u3b20\0\u3b76"
-			+ "\0\u3bcc\0\u3c22\0\u3c78\0\u3cce\0\u3d24\0\u3d7a\0\u3dd0\0\u3e26"
-			+ "\0\u3e7c\0\u3ed2\0\u3f28\0\u3f7e\0\u3fd4\0\u402a\0\u4080\0\u40d6"
-			+ "\0\u412c\0\u4182\0\u41d8\0\u422e\0\u4284\0\u42da\0\u4330\0\u4386"
-			+ "\0\u43dc\0\u4432\0\u4488\0\u44de\0\u4534\0\u458a\0\u45e0\0\u035c"
-			+ "\0\u4636\0\u468c\0\u46e2\0\u4738\0\u035c\0\u478e\0\u47e4\0\u035c"
-			+ "\0\u483a\0\u4890\0\u48e6\0\u493c\0\u4992\0\u49e8\0\u4a3e\0\u4a94"
-			+ "\0\u4aea\0\u4b40\0\u4b96\0\u4bec\0\u4c42\0\u4c98\0\u4cee\0\u4d44"
-			+ "\0\u4d9a\0\u4df0\0\u4e46\0\u4e9c\0\u4ef2\0\u4f48\0\u4f9e\0\u1988"
-			+ "\0\u4ff4\0\u504a\0\u50a0\0\u50f6\0\u514c\0\u51a2\0\u51f8\0\u524e"
-			+ "\0\u52a4\0\u52fa\0\u5350\0\u035c\0\u53a6\0\u53fc\0\u1e92\0\u5452"
-			+ "\0\u54a8\0\u54fe\0\u5554\0\u55aa\0\u5600\0\u5656\0\u035c\0\u56ac"
-			+ "\0\u5702\0\u5758\0\u57ae\0\u5804\0\u585a\0\u58b0\0\u5906\0\u595c"
-			+ "\0\u59b2\0\u5a08\0\u5a5e\0\u5ab4\0\u5b0a\0\u5b60\0\u5bb6\0\u5c0c"
-			+ "\0\u5c62\0\u5cb8\0\u5d0e\0\u5d64\0\u5dba\0\u5e10\0\u5e66\0\u5ebc"
-			+ "\0\u5f12\0\u5f68\0\u5fbe\0\u6014\0\u606a\0\u60c0\0\u6116\0\u616c"
-			+ "\0\u61c2\0\u6218\0\u626e\0\u62c4\0\u631a\0\u6370\0\u63c6\0\u641c"
-			+ "\0\u6472\0\u64c8\0\u651e\0\u6574\0\u65ca\0\u6620\0\u6676\0\u66cc"
-			+ "\0\u6722\0\u6778\0\u67ce\0\u6824\0\u687a\0\u68d0\0\u6926\0\u697c"
-			+ "\0\u69d2\0\u6a28\0\u6a7e\0\u6ad4\0\u6b2a\0\u6b80\0\u6bd6\0\u6c2c"
-			+ "\0\u6c82\0\u6cd8\0\u6d2e\0\u6d84\0\u6dda\0\u6e30\0\u6e86\0\u6edc"
-			+ "\0\u6f32\0\u6f88\0\u6fde\0\u7034\0\u01ae\0\u708a\0\u70e0\0\u7136"
-			+ "\0\u718c\0\u71e2\0\u7238\0\u728e\0\u72e4\0\u733a\0\u7390\0\u73e6"
-			+ "\0\u743c\0\u7492\0\u74e8\0\u753e\0\u7594\0\u75ea\0\u7640\0\u7696"
-			+ "\0\u76ec\0\u7742\0\u7798\0\u77ee\0\u7844\0\u789a\0\u78f0\0\u7946"
-			+ "\0\u799c\0\u79f2\0\u7a48\0\u7a9e\0\u7af4\0\u7b4a\0\u7ba0\0\u7bf6"
-			+ "\0\u7c4c\0\u7ca2\0\u7cf8\0\u7d4e\0\u7da4\0\u7dfa\0\u7e50\0\u7ea6"
-			+ "\0\u7efc\0\u7f52\0\u7fa8\0\u7ffe\0\u8054\0\u80aa\0\u8100\0\u8156"
-			+ "\0\u81ac\0\u8202\0\u8258\0\u82ae\0\u8304\0\u835a\0\u83b0\0\u8406"
-			+ "\0\u845c\0\u84b2\0\u8508\0\u855e\0\u85b4\0\u860a\0\u8660\0\u86b6"
-			+ "\0\u870c\0\u8762\0\u87b8\0\u880e\0\u8864\0\u88ba\0\u8910\0\u8966"
-			+ "\0\u89bc\0\u8a12\0\u8a68\0\u8abe\0\u8b14\0\u8b6a\0\u8bc0\0\u8c16"
-			+ "\0\u8c6c\0\u8cc2\0\u8d18\0\u8d6e\0\u8dc4\0\u8e1a\0\u8e70\0\u4ff4"
-			+ "\0\u8ec6\0\u8f1c\0\u8f72\0\u8fc8\0\u901e\0\u9074\0\u90ca\0\u9120"
-			+ "\0\u9176\0\u91cc\0\u9222\0\u9278\0\u92ce\0\u9324\0\u937a\0\u93d0"
-			+ "\0\u035c\0\u9426\0\u947c\0\u94d2\0\u9528\0\u957e\0\u95d4\0\u962a"
-			+ "\0\u9680\0\u96d6\0\u972c\0\u9782\0\u97d8\0\u982e\0\u01ae\0\u9884"
-			+ "\0\u98da\0\u9930\0\u9986\0\u99dc\0\u9a32\0\u9a88\0\u9ade\0\u9b34"
-			+ "\0\u9b8a\0\u9be0\0\u9c36\0\u01ae\0\u9c8c\0\u9ce2\0\u9d38\0\u9d8e"
-			+ "\0\u9de4\0\u9e3a\0\u9e90\0\u9ee6\0\u9f3c\0\u9f92\0\u9fe8\0\ua03e"
-			+ "\0\ua094\0\ua0ea\0\ua140\0\ua196\0\ua1ec\0\ua242\0\ua298\0\ua2ee"
-			+ "\0\ua344\0\ua39a\0\ua3f0\0\ua446\0\ua49c\0\ua4f2\0\ua548\0\ua59e"
-			+ "\0\ua5f4\0\ua64a\0\ua6a0\0\ua6f6\0\ua74c\0\ua7a2\0\ua7f8\0\ua84e"
-			+ "\0\ua8a4\0\ua8fa\0\ua950\0\ua9a6\0\ua9fc\0\uaa52\0\uaaa8\0\uaafe"
-			+ "\0\uab54\0\uabaa\0\uac00\0\uac56\0\uacac\0\uad02\0\uad58\0\uadae"
-			+ "\0\uae04\0\uae5a\0\uaeb0\0\uaf06\0\uaf5c\0\uafb2\0\ub008\0\ub05e"
-			+ "\0\ub0b4\0\ub10a\0\ub160\0\ub1b6\0\ub20c\0\ub262\0\ub2b8\0\ub30e"
-			+ "\0\ub364\0\ub3ba\0\ub410\0\ub466\0\ub4bc\0\ub512\0\ub568\0\ub5be"
-			+ "\0\ub614\0\ub66a\0\ub6c0\0\ub716\0\ub76c\0\ub7c2\0\ub818\0\ub86e"
-			+ "\0\ub8c4\0\ub91a\0\ub970\0\ub9c6\0\uba1c\0\uba72\0\ubac8\0\ubb1e"
-			+ "\0\ubb74\0\ubbca\0\ubc20\0\ubc76\0\ubccc\0\ubd22\0\ubd78\0\ubdce"
-			+ "\0\ube24\0\ube7a\0\ubed0\0\ubf26\0\ubf7c\0\ubfd2\0\uc028\0\uc07e"
-			+ "\0\uc0d4\0\uc12a\0\uc180\0\uc1d6\0\uc22c\0\uc282\0\uc2d8\0\uc32e"
-			+ "\0\uc384\0\uc3da\0\u035c\0\uc430\0\uc486\0\uc4dc\0\uc532\0\uc588"
-			+ "\0\uc5de\0\uc634\0\uc68a\0\uc6e0\0\uc736\0\uc78c\0\uc7e2\0\uc838"
-			+ "\0\uc88e\0\uc8e4\0\uc93a\0\uc990\0\uc9e6\0\uca3c\0\uca92\0\ucae8"
-			+ "\0\ucb3e\0\ucb94\0\ucbea\0\ucc40\0\ucc96\0\uccec\0\ucd42\0\ucd98"
-			+ "\0\ucdee\0\uce44\0\uce9a\0\ucef0\0\ucf46\0\ucf9c\0\ucff2\0\ud048"
-			+ "\0\ud09e\0\ud0f4\0\ud14a\0\ud1a0\0\ud1f6\0\ud24c\0\ud2a2\0\ud2f8"
-			+ "\0\ud34e\0\ud3a4\0\ud3fa\0\ud450\0\ud4a6\0\ud4fc\0\ud552\0\ud5a8"
-			+ "\0\ud5fe\0\ud654\0\ud6aa\0\ud700\0\ud756\0\ud7ac\0\ud802\0\ud858"
-			+ "\0\ud8ae\0\ud904\0\u6014\0\ud95a\0\ud9b0\0\uda06\0\uda5c\0\udab2"
-			+ "\0\udb08\0\udb5e\0\udbb4\0\udc0a\0\udc60\0\udcb6\0\udd0c\0\udd62"
-			+ "\0\uddb8\0\ude0e\0\ude64\0\udeba\0\udf10\0\udf66\0\udfbc\0\ue012"
-			+ "\0\ue068\0\ue0be\0\ue114\0\ue16a\0\ue1c0\0\ue216\0\ue26c\0\ue2c2"
-			+ "\0\ue318\0\ue36e\0\ue3c4\0\ue41a\0\ue470\0\ue4c6\0\ue51c\0\ue572"
-			+ "\0\ue5c8\0\ue61e\0\ue674\0\ue6ca\0\ue720\0\ue776\0\ue7cc\0\ue822"
-			+ "\0\ue878\0\ue8ce\0\ue924\0\ue97a\0\ue9d0\0\uea26\0\uea7c\0\uead2"
-			+ "\0\ueb28\0\ueb7e\0\uebd4\0\uec2a\0\uec80\0\uecd6\0\ued2c\0\ued82"
-			+ "\0\uedd8\0\uee2e\0\uee84\0\ueeda\0\uef30\0\uef86\0\uefdc\0\uf032"
-			+ "\0\uf088\0\uf0de\0\uf134\0\uf18a\0\uf1e0\0\uf236\0\uf28c\0\uf2e2"
-			+ "\0\uf338\0\uf38e\0\uf3e4\0\uf43a\0\uf490\0\uf4e6\0\uf53c\0\uf592"
-			+ "\0\uf5e8\0\uf63e\0\uf694\0\uf6ea\0\uf740\0\uf796\0\uf7ec\0\uf842"
-			+ "\0\uf898\0\uf8ee\0\uf944\0\uc028\0\uf99a\0\uc12a\0\uf9f0\0\ufa46"
-			+ "\0\ufa9c\0\ufaf2\0\ufb48\0\ufb9e\0\ufbf4\0\ufc4a\0\ufca0\0\ufcf6"
-			+ "\0\ufd4c\0\ufda2\0\ufdf8\0\ufe4e\0\ufea4\0\ufefa\0\uff50\0\uffa6"
-			+ "\0\ufffc\1\122\1\250\1\376\1\u0154\1\u01aa\0\uc93a\1\u0200"
-			+ "\1\u0256\1\u02ac\1\u0302\1\u0358\1\u03ae\1\u0404\1\u045a\1\u04b0"
-			+ "\1\u0506\1\u055c\1\u05b2\1\u0608\1\u065e\1\u06b4\1\u070a\1\u0760"
-			+ "\1\u07b6\1\u080c\1\u0862\1\u08b8\1\u090e\1\u0964\1\u09ba\1\u0a10"
-			+ "\1\u0a66\1\u0abc\1\u0b12\1\u0b68\1\u0bbe\1\u0c14\1\u0c6a\1\u0cc0"
-			+ "\1\u0d16\1\u0d6c\1\u0dc2\1\u0e18\1\u0e6e\1\u0ec4\1\u0f1a\1\u0f70"
-			+ "\1\u0fc6\1\u101c\1\u1072\1\u10c8\1\u111e\1\u1174\0\u01ae\1\u11ca"
-			+ "\1\u1220\1\u1276\1\u12cc\1\u1322\1\u1378\1\u13ce\1\u1424\1\u147a"
-			+ "\1\u14d0\1\u1526\1\u157c\1\u15d2\1\u1628\1\u167e\1\u16d4\1\u172a"
-			+ "\1\u1780\1\u17d6\1\u182c\1\u1882\1\u18d8\1\u192e\1\u1984\1\u19da"
-			+ "\1\u1a30\1\u1a86\1\u1adc\1\u1b32\1\u1b88\1\u1bde\1\u1c34\1\u1c8a"
-			+ "\1\u1ce0\1\u1d36\1\u1d8c\1\u1de2\1\u1e38\1\u1e8e\1\u1ee4\1\u1f3a"
-			+ "\1\u1f90\1\u1fe6\1\u203c\1\u2092\1\u20e8\1\u213e\1\u2194\1\u21ea"
-			+ "\1\u2240\1\u2296\1\u22ec\1\u2342\1\u2398\1\u23ee\1\u2444\1\u249a"
-			+ "\1\u24f0\1\u2546\1\u259c\1\u25f2\1\u2648\1\u269e\1\u26f4\1\u274a"
-			+ "\1\u27a0\1\u27f6\1\u284c\1\u28a2\1\u28f8\1\u294e\1\u29a4\1\u29fa"
-			+ "\1\u2a50\1\u2aa6\1\u2afc\1\u2b52\1\u2ba8\1\u2bfe\1\u2c54\1\u2caa"
-			+ "\1\u2d00\1\u2d56\1\u2dac\1\u2e02\1\u2e58\1\u2eae\1\u2f04\1\u2f5a"
-			+ "\1\u2fb0\1\u3006\1\u305c\1\u30b2\1\u3108\1\u315e\1\u31b4\1\u320a"
-			+ "\1\u3260\1\u32b6\1\u330c\1\u3362\1\u33b8\1\u340e\1\u3464\1\u34ba"
-			+ "\1\u3510\1\u3566\1\u35bc\1\u3612\1\u3668\1\u36be\1\u3714\1\u376a"
-			+ "\1\u37c0\1\u3816\1\u386c\1\u38c2\1\u3918\1\u396e\1\u39c4\1\u3a1a"
-			+ "\1\u3a70\1\u3ac6\1\u3b1c\1\u3b72\1\u3bc8\1\u3c1e\1\u3c74\1\u3cca"
-			+ "\1\u3d20\1\u3d76\1\u3dcc\1\u3e22\1\u3e78\1\u3ece\1\u3f24\1\u3f7a"
-			+ "\1\u3fd0\1\u4026\1\u407c\1\u40d2\1\u4128\1\u417e\1\u41d4\1\u422a"
-			+ "\1\u4280\1\u42d6\1\u432c\1\u4382\1\u43d8\1\u442e\1\u4484\1\u44da"
-			+ "\1\u4530\1\u4586\1\u45dc\1\u4632\1\u4688\1\u46de\1\u4734\1\u478a"
-			+ "\1\u47e0\1\u4836\1\u488c\1\u48e2\1\u4938\1\u498e\1\u49e4\1\u4a3a"
-			+ "\1\u4a90\1\u4ae6\1\u4b3c\1\u4b92\1\u4be8\1\u4c3e\1\u4c94\1\u4cea"
-			+ "\1\u4d40\1\u4d96\1\u4dec\1\u4e42\1\u4e98\1\u4eee\1\u4f44\1\u4f9a"
-			+ "\1\u4ff0\1\u5046\1\u509c\1\u50f2\1\u5148\1\u519e\1\u51f4\1\u524a"
-			+ "\1\u52a0\1\u52f6\1\u534c\1\u53a2\1\u53f8\1\u544e\1\u27a0\1\u54a4"
-			+ "\1\u54fa\1\u5550\1\u55a6\1\u55fc\1\u5652\1\u56a8\1\u56fe\1\u5754"
-			+ "\1\u57aa\1\u5800\1\u5856\1\u58ac\1\u5902\1\u5958\1\u59ae\1\u5a04"
-			+ "\1\u5a5a\1\u5ab0\1\u5b06\1\u5b5c\1\u5bb2\1\u5c08\1\u5c5e\1\u5cb4"
-			+ "\1\u5d0a\1\u5d60\1\u5db6\1\u5e0c\1\u5e62\1\u5eb8\1\u5f0e\1\u5f64"
-			+ "\1\u5fba\1\u6010\1\u6066\1\u60bc\1\u6112\1\u6168\1\u61be\1\u6214"
-			+ "\1\u626a\1\u62c0\1\u6316\1\u636c\1\u63c2\1\u6418\1\u646e\1\u64c4"
-			+ "\1\u651a\1\u6570\1\u65c6\1\u661c\1\u6672\1\u66c8\1\u671e\1\u6774"
-			+ "\1\u67ca\1\u6820\1\u6876\1\u68cc\1\u6922\1\u6978\1\u69ce\1\u6a24"
-			+ "\1\u6a7a\1\u6ad0\1\u6b26\1\u6b7c\1\u6bd2\1\u6c28\1\u6c7e\1\u6cd4"
-			+ "\1\u6d2a\1\u6d80\1\u6dd6\1\u6e2c\1\u6e82\1\u6ed8\1\u6f2e\1\u6f84"
-			+ "\1\u6fda\1\u7030\1\u7086\1\u70dc\1\u7132\1\u7188\1\u71de\1\u7234"
-			+ "\1\u728a\1\u72e0\1\u7336\1\u738c\1\u73e2\1\u7438\1\u748e\1\u74e4"
-			+ "\1\u753a\1\u7590\1\u75e6\1\u763c\1\u7692\1\u76e8\1\u773e\1\u7794"
-			+ "\1\u77ea\1\u7840\1\u7896\1\u78ec\1\u7942\1\u7998\1\u79ee\1\u7a44"
-			+ "\1\u7a9a\1\u7af0\1\u7b46\1\u7b9c\1\u7bf2\1\u7c48\1\u7c9e\1\u7cf4"
-			+ "\1\u7d4a\1\u7da0\1\u7df6\1\u7e4c\1\u7ea2\1\u7ef8\1\u7f4e\1\u7fa4"
-			+ "\1\u7ffa\1\u8050\1\u80a6\1\u80fc\1\u8152\1\u81a8\1\u81fe\1\u8254"
-			+ "\1\u82aa\1\u8300\1\u8356\1\u83ac\1\u8402\1\u8458\1\u84ae\1\u8504"
-			+ "\1\u855a\1\u85b0\1\u8606\1\u865c\1\u86b2\1\u8708\1\u875e\1\u87b4"
-			+ "\1\u880a\1\u8860\1\u88b6\1\u890c\1\u8962\1\u89b8\1\u8a0e\1\u8a64"
-			+ "\1\u8aba\1\u8b10\1\u8b66\1\u8bbc\1\u8c12\1\u8c68\1\u8cbe\1\u8d14"
-			+ "\1\u8d6a\1\u8dc0\1\u8e16\1\u8e6c\1\u8ec2\1\u8f18\1\u8f6e\1\u8fc4"
-			+ "\1\u901a\1\u9070\1\u90c6\1\u911c\1\u9172\1\u91c8\1\u921e\1\u9274"
-			+ "\1\u92ca\1\u9320\1\u9376\1\u93cc\1\u9422\1\u9478\1\u94ce\1\u9524"
-			+ "\1\u957a\1\u95d0\1\u9626\1\u967c\1\u96d2\1\u9728\1\u977e\1\u97d4"
-			+ "\1\u982a\1\u9880\1\u98d6\1\u992c\1\u9524\1\u9982\1\u99d8\1\u9a2e"
-			+ "\1\u9a84\1\u9ada\1\u9b30\1\u9b86\1\u9bdc\1\u9c32\1\u9c88\1\u9cde"
-			+ "\1\u9d34\1\u9d8a\1\u9de0\1\u9e36\1\u9e8c\1\u9ee2\1\u9f38\1\u9f8e"
-			+ "\1\u9fe4\1\ua03a\1\ua090\1\ua0e6\1\ua13c\1\ua192\1\ua1e8\1\ua23e"
-			+ "\1\ua294\1\ua2ea\1\ua340\1\ua396\1\ua3ec\1\ua442\1\ua498\1\ua4ee"
-			+ "\1\ua544\1\ua59a\1\ua5f0\1\ua646\1\ua69c\1\ua6f2\1\ua748\1\ua79e"
-			+ "\1\ua7f4\1\ua84a\1\ua8a0\1\ua8f6\0\u035c\1\ua94c\1\ua9a2\1\ua9f8"
-			+ "\1\uaa4e\1\uaaa4\1\uaafa\1\uab50\1\uaba6\1\uabfc\1\uac52\1\uaca8"
-			+ "\1\uacfe\1\uad54\1\uadaa\1\uae00\1\uae56\1\uaeac\1\uaf02\1\uaf58"
-			+ "\1\uafae\1\ub004\1\ub05a\1\ub0b0\1\ub106\1\ub15c\1\ub1b2\1\ub208"
-			+ "\1\ub25e\1\ub2b4\1\ub30a\1\ub360\1\ub3b6\1\ub40c\1\ub462\1\ub4b8"
-			+ "\1\ub50e\1\uaf58\1\ub564\1\ub5ba\1\ub610\1\ub666\1\ub6bc\1\ub712"
-			+ "\1\ub768\1\ub7be\1\ub814\1\ub86a\1\ub8c0\1\ub916\1\ub96c\1\ub9c2"
-			+ "\1\uba18\1\uba6e\1\ubac4\1\ubb1a\1\ubb70\1\ubbc6\1\ubc1c\1\ubc72"
-			+ "\1\ubcc8\1\ubd1e\1\ubd74\1\ubdca\1\ube20\1\ube76\1\ubecc\1\ubf22"
-			+ "\1\ubf78\1\ubfce\1\uc024\1\uc07a\1\uc0d0\1\uc126\1\uc17c\1\uc1d2"
-			+ "\1\uc228\1\uc27e\1\uc2d4\1\uc32a\1\uc380\1\uc3d6\1\uc42c\1\uc482"
-			+ "\1\uc4d8\1\uc52e\1\uc584\1\uc5da\1\uc630\1\uc686\1\uc6dc\1\uc732"
-			+ "\1\uc788\1\uc7de\1\uc834\1\uc88a\1\uc8e0\1\uc936\1\uc98c\1\uc9e2"
-			+ "\1\uca38\1\uca8e\1\ucae4\1\ucb3a\1\ucb90\1\ucbe6\1\ucc3c\1\ucc92"
-			+ "\1\ucce8\1\ucd3e\1\ucd94\1\ucdea\1\uce40\1\uce96\1\uceec\1\ucf42"
-			+ "\1\ucf98\1\ucfee\1\ud044\1\ud09a\1\ud0f0\1\ud146\1\ud19c\1\ud1f2"
-			+ "\1\ud248\1\ud29e\1\ud2f4\1\ud34a\1\ud3a0\1\ud3f6\1\ud44c\1\ud4a2"
-			+ "\1\ud4f8\1\ud54e\1\ud5a4\1\ud5fa\1\ud650\1\ud6a6\1\ud6fc\1\ud752"
-			+ "\1\ud7a8\1\ud7fe\1\ud854\1\ud8aa\1\ud900\1\ud956\1\ud9ac\1\uda02"
-			+ "\1\uda58\1\udaae\1\udb04\1\udb5a\1\udbb0\1\udc06\1\udc5c\1\udcb2"
-			+ "\1\udd08\1\udd5e\1\uddb4\1\ude0a\1\ude60\1\udeb6\1\udf0c\1\udf62"
-			+ "\1\udfb8\1\ue00e\1\ue064\1\ue0ba\1\ue110\1\ue166\1\ue1bc\1\ue212"
-			+ "\1\ue268\1\ue2be\1\ue314\1\ue36a\1\ue3c0\1\ue416\1\ue46c\1\ue4c2"
-			+ "\1\ue518\1\ue56e\1\ue5c4\1\ue61a\1\ue670\1\ue6c6\1\ue71c\1\ue772"
-			+ "\1\ue7c8\1\ue81e\1\ue874\1\ue8ca\1\ue920\1\ue976\1\ue9cc\1\uea22"
-			+ "\1\uea78\1\ueace\1\ueb24\1\ueb7a\1\uebd0\1\uec26\1\uec7c\1\uecd2"
-			+ "\1\ued28\1\ued7e\1\uedd4\1\uee2a\1\uee80\1\ueed6\1\uef2c\1\uef82"
-			+ "\1\uefd8\1\uf02e\1\uf084\1\uf0da\1\uf130\1\uf186\1\uf1dc\1\uf232"
-			+ "\1\uf288\1\uf2de\1\uf334\1\u7590\1\uf38a\1\uf3e0\1\uf436\1\uf48c"
-			+ "\1\uf4e2\1\uf538\1\uf58e\1\uf5e4\1\uf63a\1\uf690\1\uf6e6\1\uf73c"
-			+ "\1\uf792\1\uf7e8\1\uf83e\1\uf894\1\uf8ea\1\uf940\1\uf996\1\uf9ec"
-			+ "\1\ufa42\1\ufa98\1\ufaee\1\ufb44\1\ufb9a\1\ufbf0\1\ufc46\1\ufc9c"
-			+ "\1\ufcf2\1\ufd48\1\ufd9e\1\ufdf4\1\ufe4a\1\ufea0\1\ufef6\1\uff4c"
-			+ "\1\uffa2\1\ufff8\2\116\2\244\2\372\2\u0150\2\u01a6\2\u01fc"
-			+ "\2\u0252\2\u02a8\2\u02fe\2\u0354\2\u03aa\2\u0400\2\u0456\2\u04ac"
-			+ "\2\u0502\2\u0558\2\u05ae\2\u0604\2\u065a\2\u06b0\2\u0706\2\u075c"
-			+ "\2\u07b2\2\u0808\2\u085e\2\u08b4\2\u090a\2\u0960\2\u09b6\2\u0a0c"
-			+ "\2\u0a62\2\u0ab8\2\u0b0e\2\u0b64\2\u0bba\2\u0c10\2\u0c66\2\u0cbc"
-			+ "\2\u0d12\2\u0d68\2\u0dbe\2\u0e14\2\u0e6a\2\u0ec0\2\u0f16\2\u0f6c"
-			+ "\2\u0fc2\2\u1018\2\u106e\2\u10c4\2\u111a\2\u1170\2\u11c6\2\u121c"
-			+ "\2\u1272\2\u12c8\2\u131e\2\u1374\2\u13ca\2\u1420\2\u1476\2\u14cc"
-			+ "\2\u1522\2\u1578\2\u15ce\2\u1624\2\u167a\2\u16d0\2\u1726\2\u177c"
-			+ "\2\u17d2\2\u1828\2\u187e\2\u18d4\2\u192a\2\u1980\2\u19d6\2\u1a2c"
-			+ "\2\u1a82\2\u1ad8\2\u1b2e\2\u1b84\2\u1bda\2\u1c30\2\u1c86\2\u1cdc"
-			+ "\2\u1d32\2\u1d88\2\u1dde\2\u1e34\2\u1e8a\2\u1ee0\2\u1f36\2\u1f8c"
-			+ "\2\u1fe2\2\u2038\2\u208e\2\u20e4\2\u213a\2\u2190\2\u21e6\2\u223c"
-			+ "\2\u2292\2\u22e8\2\u233e\2\u2394\2\u23ea\2\u2440\2\u2496\2\u24ec"
-			+ "\2\u2542\2\u2598\2\u25ee\2\u2644\2\u269a\2\u26f0\2\u2746\2\u279c"
-			+ "\2\u27f2\2\u2848\2\u289e\2\u28f4\2\u294a\2\u29a0\2\u29f6\2\u2a4c"
-			+ "\2\u2aa2\2\u2af8\2\u2b4e\2\u2ba4\2\u2bfa\2\u2c50\2\u2ca6\2\u2cfc"
-			+ "\2\u2d52\2\u2da8\2\u2dfe\2\u2e54\2\u2eaa\2\u2f00\2\u2f56\2\u2fac"
-			+ "\2\u3002\2\u3058\2\u30ae\2\u3104\2\u315a\2\u31b0\2\u3206\2\u325c"
-			+ "\2\u32b2\2\u3308\2\u335e\2\u33b4\2\u340a\2\u3460\2\u34b6\2\u350c"
-			+ "\2\u3562\2\u35b8\2\u360e\2\u3664\2\u36ba\2\u3710\2\u3766\2\u37bc"
-			+ "\2\u3812\2\u3868\2\u38be\2\u3914\2\u396a\2\u39c0\2\u3a16\2\u3a6c"
-			+ "\2\u3ac2\2\u3b18\2\u3b6e\2\u3bc4\2\u3c1a\2\u3c70\2\u3cc6\2\u3d1c"
-			+ "\2\u3d72\2\u3dc8\2\u3e1e\2\u3e74\2\u3eca\2\u3f20\2\u3f76\2\u3fcc"
-			+ "\2\u4022\2\u4078\2\u40ce\2\u4124\2\u417a\2\u41d0\2\u4226\2\u427c"
-			+ "\2\u42d2\2\u4328\2\u437e\2\u43d4\2\u442a\2\u4480\2\u44d6\2\u452c"
-			+ "\2\u4582\2\u45d8\2\u462e\2\u4684\2\u46da\2\u4730\2\u4786\2\u47dc"
-			+ "\2\u4832\2\u4888\2\u48de\2\u4934\2\u498a\2\u49e0\2\u4a36\2\u4a8c"
-			+ "\2\u4ae2\2\u4b38\2\u4b8e\2\u4be4\2\u4c3a\2\u4c90\2\u4ce6\2\u4d3c"
-			+ "\2\u4d92\2\u4de8\2\u4e3e\2\u4e94\2\u4eea\2\u4f40\2\u4f96\2\u4fec"
-			+ "\2\u5042\2\u5098\2\u50ee\2\u5144\2\u519a\2\u51f0\2\u5246\2\u529c"
-			+ "\2\u52f2\2\u5348\2\u539e\2\u53f4\2\u544a\2\u54a0\2\u54f6\2\u554c"
-			+ "\2\u55a2\2\u55f8\2\u564e\2\u56a4\2\u56fa\2\u5750\2\u57a6\2\u57fc"
-			+ "\2\u5852\2\u58a8\2\u58fe\2\u5954\2\u59aa\2\u5a00\2\u5a56\2\u5aac"
-			+ "\2\u5b02\2\u5b58\2\u5bae\2\u5c04\2\u5c5a\2\u5cb0\2\u5d06\2\u5d5c"
-			+ "\2\u5db2\2\u5e08\2\u5e5e\2\u5eb4\2\u5f0a\2\u5f60\2\u5fb6\2\u600c"
-			+ "\2\u6062\2\u60b8\2\u610e\2\u6164\2\u61ba\2\u6210\2\u6266\2\u62bc"
-			+ "\2\u6312\2\u6368\2\u63be\2\u6414\2\u646a\2\u64c0\2\u6516\2\u656c"
-			+ "\2\u65c2\2\u6618\2\u666e\2\u66c4\2\u671a\2\u6770\2\u67c6\2\u681c"
-			+ "\2\u6872\2\u68c8\2\u691e\2\u6974\2\u69ca\2\u6a20\2\u6a76\2\u6acc"
-			+ "\2\u6b22\2\u6b78\2\u6bce\2\u6c24\2\u6c7a";
+	private static final int[] ZZ_ROWMAP = JavaTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = JavaTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\5\2\6\1\7\1\10\1\7\1\11\1\7\1\12"
-			+ "\1\13\1\5\1\6\1\14\1\15\1\16\1\7\1\17" + "\1\5\1\6\1\20\1\21\1\22\1\23\1\24\1\25"
-			+ "\1\6\1\26\1\27\1\30\1\31\1\32\1\33\1\34" + "\1\35\1\36\1\37\1\40\1\41\1\42\1\43\2\22"
-			+ "\1\44\1\22\1\45\1\46\1\45\2\6\1\47\1\50" + "\1\51\1\6\1\52\1\6\1\53\1\54\1\55\1\56"
-			+ "\1\6\1\57\1\6\1\60\1\40\1\6\1\61\1\62" + "\1\6\1\63\1\64\1\65\1\66\1\67\1\70\1\71"
-			+ "\1\72\1\6\1\73\1\74\1\75\1\76\2\7\2\6" + "\1\40\11\77\1\100\3\77\1\101\7\77\1\102\31\77"
-			+ "\1\103\10\77\1\104\35\77\11\105\1\106\3\105\1\107" + "\7\105\1\110\21\105\1\111\7\105\1\112\10\105\1\113"
-			+ "\5\105\1\114\26\105\1\115\11\116\1\117\3\116\1\120" + "\41\116\1\121\10\116\1\122\35\116\10\5\2\0\4\5"
-			+ "\1\0\1\5\1\0\2\5\3\0\6\5\2\0\6\5" + "\13\0\20\5\1\0\25\5\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\2\124\1\125\3\7\1\124\1\7\2\0\3\124" + "\1\126\1\0\1\7\1\0\2\124\3\0\1\127\3\124"
-			+ "\1\126\1\130\1\0\1\131\2\124\1\130\1\124\1\127" + "\1\124\13\0\2\124\1\126\5\124\1\126\7\124\1\0"
-			+ "\21\124\2\7\2\124\1\0\2\124\1\132\1\133\2\134" + "\1\124\1\134\2\0\3\124\1\126\1\0\1\134\1\0"
-			+ "\2\124\3\0\1\127\2\135\1\136\1\126\1\130\1\0" + "\1\131\2\124\1\130\1\124\1\127\1\124\13\0\2\124"
-			+ "\1\126\2\124\1\136\2\124\1\126\7\124\1\0\21\124" + "\2\134\2\124\1\0\1\5\7\6\2\0\1\123\1\137"
-			+ "\2\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\3\6\1\140\1\141\1\6\13\0\1\142\1\143"
-			+ "\15\6\1\5\1\0\25\6\1\0\10\144\1\145\1\146" + "\1\147\113\144\126\0\1\5\7\6\2\0\1\123\1\150"
-			+ "\2\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\2\6\1\151\1\152\2\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\153\1\154\1\6\13\0\1\6\1\155\4\6" + "\1\156\10\6\1\5\1\0\25\6\1\0\11\16\1\157"
-			+ "\1\160\3\16\1\161\107\16\23\0\1\20\126\0\1\162" + "\1\163\22\0\1\45\125\0\1\45\55\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\1\6\1\164\4\6"
-			+ "\1\165\10\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\1\166\2\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\3\6\1\167\2\6\13\0" + "\1\6\1\170\4\6\1\171\5\6\1\172\2\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\6\1\173\4\6\13\0\1\6\1\174\12\6\1\175" + "\2\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\4\6\1\176\1\6\13\0\1\6\1\177"
-			+ "\4\6\1\200\10\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\1\6\1\201\1\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\1\6\1\202" + "\4\6\13\0\5\6\1\203\1\6\1\204\2\6\1\205"
-			+ "\4\6\1\5\1\0\13\6\1\206\11\6\35\0\1\45" + "\13\0\1\45\60\0\3\131\1\0\1\131\7\0\1\131"
-			+ "\101\0\2\131\3\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\6\1\207\4\6\13\0\1\210\16\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6" + "\1\211\3\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\1\6\1\212\1\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\4\6"
-			+ "\1\213\1\6\13\0\5\6\1\214\11\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\2\6\1\215\3\6" + "\2\0\5\6\1\216\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\1\6\1\217\15\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\1\220\2\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\221\5\6\13\0" + "\1\222\10\6\1\223\2\6\1\224\2\6\1\5\1\0"
-			+ "\25\6\47\0\1\45\1\0\1\45\124\0\1\225\1\45" + "\125\0\1\45\1\0\1\226\123\0\1\45\4\0\1\45"
-			+ "\50\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\2\6\1\227"
-			+ "\3\6\13\0\1\6\1\230\15\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\1\231\2\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\6" + "\1\232\1\6\1\233\2\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\3\6"
-			+ "\1\234\1\235\1\6\13\0\1\236\1\237\15\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\6"
-			+ "\1\240\1\241\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\7\6\1\242\7\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\243" + "\2\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\2\6\1\244\1\245\2\6\13\0\1\6\1\246" + "\4\6\1\247\10\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\1\250\16\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\1\6\1\251\15\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\1\6\1\252\15\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\1\253\2\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\2\6\1\254"
-			+ "\1\255\2\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\2\256\3\5\1\256\1\5\2\0\1\5\3\256"
-			+ "\1\0\1\5\1\0\1\5\1\256\3\0\6\256\2\0" + "\6\256\13\0\17\256\1\5\1\0\21\256\2\5\2\256"
-			+ "\1\0\1\5\7\6\2\0\1\123\1\257\2\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\2\6\1\260\3\6"
-			+ "\2\0\1\6\1\261\3\6\1\262\13\0\3\6\1\263" + "\13\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\1\264\1\6\1\265\3\6\13\0\1\266"
-			+ "\1\267\1\6\1\270\1\271\1\6\1\272\5\6\1\273" + "\2\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\1\6\1\274\1\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\275\3\6\1\276\1\6"
-			+ "\13\0\2\6\1\277\14\6\1\5\1\0\13\6\1\300" + "\11\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\6" + "\1\301\4\6\13\0\1\302\1\303\4\6\1\304\5\6"
-			+ "\1\305\2\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\1\6\1\306\1\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6" + "\1\5\1\0\5\6\1\307\1\310\16\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\3\6\1\311\2\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\2\6\1\312\3\6\13\0\1\6\1\313" + "\4\6\1\314\10\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\3\6\1\315\2\6\13\0"
-			+ "\6\6\1\316\10\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\1\317\2\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\2\6\1\320\1\321" + "\2\6\13\0\1\6\1\322\15\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\1\323\2\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\2\6\1\324\3\6"
-			+ "\2\0\6\6\13\0\3\6\1\325\13\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\1\326\2\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\6\1\327\1\6\1\330\2\6\13\0\6\6\1\331"
-			+ "\10\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\6\1\332\4\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\6\1\333\1\334\3\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\1\335\2\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\11\77" + "\1\0\3\77\1\0\7\77\1\0\31\77\1\0\10\77"
-			+ "\1\0\35\77\36\0\1\336\26\0\1\337\64\0\1\340" + "\137\0\1\341\157\0\1\342\35\0\11\105\1\0\3\105"
-			+ "\1\0\7\105\1\0\21\105\1\0\7\105\1\0\10\105" + "\1\0\5\105\1\0\26\105\37\0\1\343\26\0\1\344"
-			+ "\64\0\1\345\102\0\1\346\4\0\1\346\4\0\3\346" + "\6\0\1\347\1\0\6\346\2\0\6\346\6\0\1\350"
-			+ "\4\0\17\346\2\0\21\346\2\0\2\346\37\0\1\351" + "\157\0\1\352\73\0\1\353\1\354\1\355\1\356\1\0"
-			+ "\1\357\14\0\1\360\1\361\1\362\1\363\1\0\1\364" + "\3\0\1\365\132\0\1\366\27\0\11\116\1\0\3\116"
-			+ "\1\0\41\116\1\0\10\116\1\0\35\116\36\0\1\367" + "\26\0\1\370\76\0\1\371\157\0\1\372\35\0\10\5"
-			+ "\2\0\1\5\1\373\2\5\1\0\1\5\1\0\2\5" + "\3\0\6\5\2\0\6\5\13\0\20\5\1\0\25\5"
-			+ "\1\0\10\124\2\0\4\124\1\0\1\124\1\0\2\124" + "\3\0\6\124\2\0\6\124\13\0\20\124\1\0\25\124"
-			+ "\1\0\2\124\1\125\3\374\1\124\1\374\2\0\4\124" + "\1\0\1\374\1\0\2\124\3\0\6\124\2\0\6\124"
-			+ "\13\0\20\124\1\0\21\124\2\374\2\124\1\0\3\124" + "\3\375\1\124\1\375\2\0\4\124\1\0\1\375\1\0"
-			+ "\2\124\3\0\6\124\1\376\1\0\6\124\2\0\1\376" + "\10\0\20\124\1\0\21\124\2\375\2\124\1\0\3\124"
-			+ "\3\131\1\124\1\131\2\0\3\124\1\126\1\0\1\131" + "\1\0\2\124\3\0\4\124\1\126\1\130\2\0\2\124"
-			+ "\1\130\3\124\13\0\2\124\1\126\5\124\1\126\7\124" + "\1\0\21\124\2\131\2\124\1\0\2\124\1\132\1\124"
-			+ "\2\377\1\124\1\377\2\0\4\124\1\0\1\377\1\0" + "\2\124\3\0\6\124\2\0\6\124\13\0\20\124\1\0"
-			+ "\21\124\2\377\2\124\1\0\3\124\3\133\1\124\1\133" + "\2\0\3\124\1\126\1\0\1\133\1\0\2\124\3\0"
-			+ "\4\124\1\126\1\130\1\0\1\131\2\124\1\130\3\124" + "\13\0\2\124\1\126\5\124\1\126\7\124\1\0\21\124"
-			+ "\2\133\2\124\1\0\2\124\1\132\1\133\2\134\1\124" + "\1\134\2\0\3\124\1\126\1\0\1\134\1\0\2\124"
-			+ "\3\0\1\u0100\3\124\1\126\1\130\1\0\1\131\2\124" + "\1\130\1\124\1\u0100\1\124\13\0\2\124\1\126\5\124"
-			+ "\1\126\7\124\1\0\21\124\2\134\2\124\1\0\4\124" + "\2\u0101\2\124\2\0\4\124\1\0\1\124\1\0\2\124"
-			+ "\3\0\6\124\2\0\6\124\13\0\20\124\1\0\25\124" + "\1\0\3\124\5\u0102\2\0\3\124\1\u0102\1\0\1\u0102"
-			+ "\1\0\2\124\3\0\1\124\2\u0102\1\124\2\u0102\2\0" + "\2\124\2\u0102\2\124\13\0\2\124\1\u0102\1\124\1\u0102"
-			+ "\3\124\1\u0102\7\124\1\0\1\124\1\u0102\17\124\2\u0102" + "\2\124\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\6" + "\1\u0103\4\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\4\6\1\u0104\1\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\3\6\1\u0105\2\6\13\0\1\6" + "\1\u0106\15\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\3\6\1\u0107\2\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\1\6\1\u0108\1\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\4\6\1\u0109\1\6\13\0\7\6" + "\1\u010a\7\6\1\5\1\0\25\6\1\0\10\u010b\1\u010c"
-			+ "\1\0\114\u010b\10\0\1\u010c\115\0\4\u010b\2\u010d\1\u010b"
-			+ "\1\u010e\1\u010f\1\0\1\144\1\u0110\3\144\1\u010d\10\u010b"
-			+ "\1\144\5\u010b\2\144\61\u010b\2\u010e\3\u010b\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\4\6\1\u0111\1\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\11\6\1\241\5\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u0112"
-			+ "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\4\6\1\u0113\1\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\1\6\1\u0114\15\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\6\1\241\4\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\1\6\1\u0115\1\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\12\157"
-			+ "\1\u0116\3\157\1\u0117\113\157\2\16\1\157\2\16\1\0" + "\1\16\1\u0118\4\16\10\157\1\16\5\157\2\16\61\157"
-			+ "\2\16\3\157\25\0\1\u0119\100\0\1\5\7\6\2\0" + "\1\123\1\6\1\u011a\1\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\4\6\1\u011b" + "\12\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\1\6\1\u011c\1\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\5\6\1\u011d\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\2\6\1\u011e\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\5\6\1\u011f" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\1\6\1\u0120\15\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\1\u0121\5\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\1\u0122\5\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\2\6\1\u0123\3\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\1\6\1\u0124\15\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u0125" + "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\1\u0126\2\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\1\6"
-			+ "\1\u0127\15\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\6\1\u0128\4\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\4\6\1\u0129\1\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\1\u012a\2\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\6\1\u012b\4\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\1\u012c\5\6\13\0\4\6\1\u012d\12\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\3\6\1\u012e\13\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6" + "\1\u012f\3\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\4\6\1\u0130\1\6\2\0\6\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\1\u0131\2\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\3\6\1\u0132\2\6\13\0" + "\14\6\1\241\2\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\6\1\u0133\4\6\13\0"
-			+ "\6\6\1\u0134\10\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\u0135\5\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\1\u0136\2\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\5\6\1\u0137"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\u0138\5\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\5\6\1\u0139\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\5\6\1\u013a\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\1\6\1\u013b\1\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\3\6\1\u013c\13\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\6\1\u013d"
-			+ "\1\6\1\u013e\2\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\1\6\1\u013f\15\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\6\6\1\u0140"
-			+ "\10\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\1\6\1\u0141\1\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\25\6\51\0\1\45\1\0\1\22\53\0\1\5"
-			+ "\7\6\2\0\1\123\2\6\1\u0142\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\1\u0143\2\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\2\6\1\u0144\3\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\1\6\1\u0145"
-			+ "\4\6\1\u0146\10\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\4\6\1\u0147" + "\12\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\1\u0148\4\6\1\u0137\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u0149\2\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u014a" + "\2\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\1\6\1\u014b\1\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\u014c\4\6\1\u014d\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\3\6\1\u014e\13\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\3\6\1\u014f\13\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\3\6\1\u0150\21\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\1\u0151\5\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\1\u0152\2\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\4\6\1\u0153" + "\12\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\6\6\1\u0154\10\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\4\6\1\u0155\1\6\13\0\6\6\1\u0156\10\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\u0157\5\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\1\6\1\u0158\1\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\3\6\1\u0159\1\6\1\u015a\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\1\6\1\u015b\1\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\256\2\0\1\u015c\3\256" + "\1\0\1\256\1\0\1\5\1\256\3\0\6\256\2\0"
-			+ "\6\256\13\0\17\256\1\5\1\0\25\256\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\u015d\5\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\5\6\1\u015e\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\6\1\u015f"
-			+ "\4\6\13\0\6\6\1\u0160\10\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\5\6\1\u0161" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\3\6\1\u0162\13\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\1\6\1\u0163\1\6\1\u0164\2\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\1\u0165\1\u0166\4\6\13\0\4\6\1\u0167\12\6"
-			+ "\1\5\1\0\3\6\1\u0168\21\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\1\6\1\u0169\15\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\1\6\1\u016a\4\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\4\6"
-			+ "\1\u016b\1\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\3\6\1\u016c\2\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\7\6\1\u016d\7\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\1\6\1\u016e\1\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\5\6\1\u016f\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\u0170\4\6\1\u0171\13\0\1\u0172\1\6\1\u0173\1\u0174"
-			+ "\1\u0175\5\6\1\u0176\4\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\2\6\1\u0177\3\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\4\6\1\u0178\1\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\2\6\1\u0179\3\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\5\6\1\u017a\2\0" + "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\2\6\1\u017b\3\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\6\1\u017c\4\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\1\6\1\u017d\15\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\7\6\1\u017e\7\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\3\6\1\u017f" + "\13\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\5\6\1\u0180\13\0\4\6\1\u0181\11\6"
-			+ "\1\u0182\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\4\6\1\u0183\1\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\4\6\1\u0184\20\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\5\6\1\u0185"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\6\1\u0186\4\6\13\0\4\6" + "\1\u0187\12\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\6\6\1\u0188\10\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\1\6\1\u0189\4\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u018a" + "\5\6\13\0\3\6\1\u018b\13\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\5\6\1\u018c"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\4\6\1\u018d\1\6\13\0\7\6" + "\1\u018e\7\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\13\6\1\u018f\3\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\12\6\1\u0190\4\6\1\5\1\0" + "\25\6\1\0\1\5\5\6\1\u0191\1\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\1\u0192\5\6\13\0\17\6\1\5\1\0\2\6"
-			+ "\1\u0193\22\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\u0194\5\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\5\6\1\u0195\13\0" + "\17\6\1\5\1\0\14\6\1\u0196\10\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\u0197\5\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\5\6\1\u0198\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\1\6\1\u0199\4\6\1\u019a\10\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\4\6\1\u019b\12\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\3\6\1\u019c" + "\13\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u019d\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\6\6\1\u019e\10\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u019f" + "\2\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\2\6\1\u0150\3\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\63\0\1\u01a0\105\0\1\u01a1"
-			+ "\121\0\1\u01a2\157\0\1\u01a3\117\0\1\u01a4\105\0\1\u01a5"
-			+ "\63\0\52\346\1\350\53\346\1\0\1\346\4\0\1\346" + "\4\0\3\346\10\0\6\346\2\0\6\346\6\0\1\350"
-			+ "\4\0\17\346\2\0\21\346\2\0\2\346\37\0\1\u01a6" + "\157\0\1\u01a7\50\0\1\u01a8\43\0\1\u01a9\1\u01aa\105\0"
-			+ "\1\u01ab\151\0\1\u01ac\54\0\1\u01ad\152\0\1\u01ae\24\0"
-			+ "\1\u01af\70\0\1\u01b0\135\0\1\u01b1\126\0\1\u01b2\125\0"
-			+ "\1\u01b3\100\0\1\u01b4\151\0\1\u01b5\127\0\1\u01b6\16\0"
-			+ "\1\u01b7\1\0\1\u01b8\1\0\1\u01b9\3\0\1\u01ba\116\0"
-			+ "\1\u01bb\105\0\1\u01bc\121\0\1\u01bd\157\0\1\u01be\35\0" + "\3\5\5\u01bf\2\0\3\5\1\u01bf\1\0\1\u01bf\1\0"
-			+ "\2\5\3\0\1\5\2\u01bf\1\5\2\u01bf\2\0\2\5" + "\2\u01bf\2\5\13\0\2\5\1\u01bf\1\5\1\u01bf\3\5"
-			+ "\1\u01bf\7\5\1\0\1\5\1\u01bf\17\5\2\u01bf\2\5" + "\1\0\2\124\1\125\3\374\1\124\1\374\2\0\4\124"
-			+ "\1\0\1\374\1\0\2\124\3\0\1\127\5\124\2\0" + "\4\124\1\127\1\124\13\0\20\124\1\0\21\124\2\374"
-			+ "\2\124\1\0\3\124\3\375\1\124\1\375\2\0\3\124" + "\1\126\1\0\1\375\1\0\2\124\3\0\4\124\1\126"
-			+ "\1\124\2\0\6\124\13\0\2\124\1\126\5\124\1\126" + "\7\124\1\0\21\124\2\375\2\124\4\0\3\375\1\0"
-			+ "\1\375\7\0\1\375\101\0\2\375\3\0\2\124\1\132" + "\1\124\2\377\1\124\1\377\2\0\4\124\1\0\1\377"
-			+ "\1\0\2\124\3\0\1\u0100\5\124\2\0\4\124\1\u0100" + "\1\124\13\0\20\124\1\0\21\124\2\377\2\124\1\0"
-			+ "\2\124\1\u01c0\1\124\2\u0101\2\124\2\0\4\124\1\0" + "\1\124\1\0\2\124\3\0\6\124\2\0\6\124\13\0"
-			+ "\20\124\1\0\25\124\1\0\2\124\1\u01c1\5\u0102\2\0" + "\3\124\1\u0102\1\0\1\u0102\1\0\2\124\3\0\1\u0100"
-			+ "\2\u0102\1\124\2\u0102\2\0\2\124\2\u0102\1\u0100\1\124"
-			+ "\13\0\2\124\1\u0102\1\124\1\u0102\3\124\1\u0102\7\124"
-			+ "\1\0\1\124\1\u0102\17\124\2\u0102\2\124\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\6\1\u01c2\4\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u01c3\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\5\6\1\u01c4\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\1\6\1\u01c5\1\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\5\6" + "\1\u01c6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\6\1\u01c7\4\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\5\6\1\u01c8\13\0\4\6\1\u01c9\12\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\4\6\1\u01ca\1\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\3\6\1\u01cb\13\6\1\5\1\0\25\6\1\0"
-			+ "\10\u010b\1\145\1\0\120\u010b\2\u010e\1\u010b\1\u010e\1\u010c"
-			+ "\1\0\5\u010b\1\u010e\101\u010b\2\u010e\7\u010b\2\144\1\u010b"
-			+ "\1\144\1\u010c\1\0\5\u010b\1\144\101\u010b\2\144\6\u010b"
-			+ "\5\u01cc\1\145\1\0\3\u010b\1\u01cc\1\u010b\1\u01cc\7\u010b"
-			+ "\2\u01cc\1\u010b\2\u01cc\4\u010b\2\u01cc\17\u010b\1\u01cc\1\u010b"
-			+ "\1\u01cc\3\u010b\1\u01cc\11\u010b\1\u01cc\17\u010b\2\u01cc\3\u010b"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\4\6\1\241\1\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\6\6\1\u01cd\10\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\5\6\1\u0131\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u01ce"
-			+ "\2\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\3\6\1\u01cf\2\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\11\157\1\0\117\157"
-			+ "\5\u01d0\2\157\1\u0116\2\157\1\u01d0\1\u0117\1\u01d0\7\157"
-			+ "\2\u01d0\1\157\2\u01d0\4\157\2\u01d0\17\157\1\u01d0\1\157"
-			+ "\1\u01d0\3\157\1\u01d0\11\157\1\u01d0\17\157\2\u01d0\3\157" + "\24\0\1\u01d1\101\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\13\6\1\u01d2\3\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u01d3"
-			+ "\2\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\2\6\1\u01d4\3\6\13\0" + "\16\6\1\u01d5\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\1\u01d6\5\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\2\6" + "\1\u01d7\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\2\6\1\u01d8\3\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\1\u01d9\3\6\1\u01da\1\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\2\6" + "\1\u01db\22\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\2\6\1\u01dc\3\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u01dd"
-			+ "\2\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\4\6\1\u01de\1\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u01df\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\5\6\1\u01e0\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\3\6\1\u01e1\2\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\7\6\1\u01e2\7\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\1\u01e3\1\6\1\u01e4\3\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\7\6\1\u01e5\7\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\1\6\1\u01e6\15\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\2\6\1\u01e7\3\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u01e8\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\u01e9\5\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\1\6\1\u01ea\1\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\5\6\1\u01eb\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\2\6\1\u01ec\3\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\1\6\1\u01ed\1\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\1\6\1\u01ee"
-			+ "\15\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\5\6\1\241\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\1\u01ef\2\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\7\6\1\241"
-			+ "\7\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\2\6\1\241\3\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\2\6\1\u01f0\3\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\u01f1\5\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\2\6\1\u01f2\3\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\13\6\1\u01df\3\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6"
-			+ "\1\155\3\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\6\6" + "\1\u01f3\10\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\1\u01f4\5\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\6\1\u01ce\4\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\1\u0148\5\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\4\6\1\u01f5\12\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\3\6\1\u01f6\2\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\2\6\1\u01f7\3\6" + "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\4\6\1\u01f4\1\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\u01f8\5\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\12\6\1\u01f9\4\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\16\6\1\u01fa\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\4\6\1\u01fb\12\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\5\6\1\u0134\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\6\1\u01df"
-			+ "\4\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\u01fc\4\6\1\u01fd\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u01fe\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\u01ff\5\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\4\6\1\u0200\1\6" + "\13\0\1\6\1\u01f2\15\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\4\6\1\u0201\1\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\1\u0202\2\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\2\6\1\u0165\1\u0203\2\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\2\6\1\u0204\3\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\u0205\5\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\4\6\1\u0137\1\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u0206\2\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\2\6\1\241\14\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\1\6\1\241"
-			+ "\15\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\1\6\1\u0207\1\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\u0208\5\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\2\6\1\u0209\14\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\1\6\1\u020a\15\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\2\6" + "\1\u020b\14\6\1\5\1\0\25\6\1\0\10\5\2\0"
-			+ "\1\5\1\u020c\2\5\1\0\1\5\1\0\2\5\3\0" + "\6\5\2\0\6\5\13\0\20\5\1\0\25\5\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\1\6"
-			+ "\1\u020d\15\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\u020e\5\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\3\6\1\u020f\2\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\u0210\5\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\2\6\1\u0211\3\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\2\6\1\u0212\3\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6"
-			+ "\1\u0213\3\6\13\0\6\6\1\u0214\10\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\4\6\1\u0215\12\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\6\6"
-			+ "\1\u0216\3\6\1\u0217\4\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\1\u0218\2\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\1\u0219\2\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\6"
-			+ "\1\u01e1\4\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\u021a\5\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\6\6\1\u021b\10\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\6" + "\1\u021c\1\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\3\6\1\u021d\13\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\4\6\1\u021e"
-			+ "\12\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\u021f\5\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6" + "\1\u0220\3\6\13\0\17\6\1\5\1\0\2\6\1\u0221"
-			+ "\22\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u0222"
-			+ "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\2\6\1\u0223\3\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u0224\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\u0225" + "\2\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\1\6" + "\1\u0226\15\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\3\6\1\u0227\2\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\1\6\1\u0228\4\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\2\6\1\u0229"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\2\6\1\u022a\3\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\1\6\1\u022b\1\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\6\1\202\4\6\13\0" + "\5\6\1\u022c\11\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\2\6\1\u022d\3\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\2\6\1\u022e\3\6\13\0\1\6\1\u022f" + "\15\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\11\6"
-			+ "\1\u0230\13\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\2\6\1\u0231\3\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\2\6\1\u0232" + "\3\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\1\u0233\2\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\3\6\1\u0234\2\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\1\u0235\16\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\6"
-			+ "\1\u0236\1\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\10\6\1\u0237\6\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\10\6\1\u0165" + "\6\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\1\u0238\16\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\6\6\1\u0239\10\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\u012b\5\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\2\6\1\u0165\14\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\u023a\5\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\1\u0165" + "\16\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\1\0\1\u023b\6\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\5\6"
-			+ "\1\u023c\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\4\6\1\u023d\1\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\2\6\1\u023e\3\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u023f\2\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\6\6\1\u0240\10\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\4\6\1\u0241\1\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\1\6" + "\1\u0242\1\u0243\22\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\1\u0244\2\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\3\6\1\u0245\13\6\1\5\1\0\13\6\1\u0246\11\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\2\6\1\u0247" + "\3\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\2\6\1\u0248\3\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\6\6\1\u0249\10\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\1\u024a\16\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\3\6"
-			+ "\1\u024b\1\u024c\12\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\1\6\1\u024d\1\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\1\6\1\u024e\5\6\1\u024f\7\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\16\6\1\u0250\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\2\6\1\u0251\3\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\13\6\1\u0252\3\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u0253"
-			+ "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\16\6\1\u0254" + "\1\5\1\0\25\6\57\0\1\u0255\107\0\1\u01a0\147\0"
-			+ "\1\u0256\100\0\1\u0257\146\0\1\u0258\107\0\1\u01a4\147\0"
-			+ "\1\u0259\100\0\1\u025a\126\0\1\u025b\126\0\1\u025c\147\0"
-			+ "\1\u025d\102\0\1\u025e\130\0\1\u025f\21\0\1\u0260\100\0"
-			+ "\1\u0261\126\0\1\u0262\1\u0263\101\0\1\u0264\154\0\1\u0265"
-			+ "\144\0\1\u0266\102\0\1\u0267\124\0\1\u0268\125\0\1\u0269"
-			+ "\22\0\1\u026a\103\0\1\u026b\153\0\1\u026c\120\0\1\u026d"
-			+ "\125\0\1\u026e\61\0\1\u026f\152\0\1\u0270\142\0\1\u0271"
-			+ "\107\0\1\u01bb\147\0\1\u0272\100\0\1\u0273\70\0\3\5" + "\5\u0274\2\0\3\5\1\u0274\1\0\1\u0274\1\0\2\5"
-			+ "\3\0\1\5\2\u0274\1\5\2\u0274\2\0\2\5\2\u0274" + "\2\5\13\0\2\5\1\u0274\1\5\1\u0274\3\5\1\u0274"
-			+ "\7\5\1\0\1\5\1\u0274\17\5\2\u0274\2\5\1\0" + "\2\124\1\u01c1\5\u0102\2\0\3\124\1\u0102\1\0\1\u0102"
-			+ "\1\0\2\124\3\0\1\124\2\u0102\1\124\2\u0102\2\0" + "\2\124\2\u0102\2\124\13\0\2\124\1\u0102\1\124\1\u0102"
-			+ "\3\124\1\u0102\7\124\1\0\1\124\1\u0102\17\124\2\u0102" + "\2\124\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6" + "\1\u0275\3\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\1\6\1\u0276\1\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\5\6\1\u0277\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\2\6\1\u0278\3\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\2\6\1\u0207"
-			+ "\3\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\5\6\1\u0279\1\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u027a" + "\2\6\13\0\17\6\1\5\1\0\1\6\1\u027b\1\u027c"
-			+ "\22\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\1\6\1\u027d\15\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\1\u027e\2\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u027f\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u0177\2\6\13\0\6\6\1\u0280\10\6\1\5" + "\1\0\25\6\1\0\3\u010b\5\u0281\1\145\1\0\3\u010b"
-			+ "\1\u0281\1\u010b\1\u0281\7\u010b\2\u0281\1\u010b\2\u0281\4\u010b"
-			+ "\2\u0281\17\u010b\1\u0281\1\u010b\1\u0281\3\u010b\1\u0281\11\u010b"
-			+ "\1\u0281\17\u010b\2\u0281\3\u010b\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\12\6\1\u0137\4\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u01df" + "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\4\6\1\u0282\1\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\3\157\5\u0283\2\157"
-			+ "\1\u0116\2\157\1\u0283\1\u0117\1\u0283\7\157\2\u0283\1\157"
-			+ "\2\u0283\4\157\2\u0283\17\157\1\u0283\1\157\1\u0283\3\157"
-			+ "\1\u0283\11\157\1\u0283\17\157\2\u0283\3\157\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0" + "\2\6\1\u0221\22\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\4\6\1\u0284\1\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\17\6\1\5\1\0\12\6\1\u0285\12\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\2\6\1\u0286\1\u0287" + "\2\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\15\6\1\u0288"
-			+ "\1\6\1\5\1\0\4\6\1\u0289\20\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\2\6\1\u028a\3\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\21\6"
-			+ "\1\u028b\3\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\5\6\1\u028c\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\2\6\1\u028d\3\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\2\6\1\u01e1\3\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\1\6\1\u028e" + "\23\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\16\6\1\241\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\2\6\1\u028f\3\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\1\u0207\16\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u0165" + "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\3\6\1\u0290\2\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\2\6\1\u0291\3\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\6"
-			+ "\1\u0292\1\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\4\6\1\u0293\1\6\2\0\6\6\13\0\10\6\1\u0294"
-			+ "\4\6\1\u0295\1\6\1\5\1\0\4\6\1\u0296\5\6" + "\1\u0297\1\u0298\1\6\1\u0299\1\6\1\u029a\5\6\1\0"
-			+ "\1\5\5\6\1\u029b\1\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6"
-			+ "\1\u029c\3\6\13\0\17\6\1\5\1\0\2\6\1\u01db" + "\6\6\1\u029d\13\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\1\6\1\u0165\4\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\6"
-			+ "\1\u029e\4\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\3\6" + "\1\u029f\13\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\14\6\1\u02a0\2\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\1\u02a1\5\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\5\6\1\u022c\11\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\5\6\1\u02a2\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\11\6\1\u02a3\5\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\6" + "\1\u02a4\4\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\1\6\1\u02a5\1\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\6\1\u02a6\4\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\1\6\1\u01fd\4\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\4\6\1\u02a7\12\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\6\6" + "\1\u02a8\10\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\1\u02a9\16\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\u02aa" + "\2\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\4\6\1\u0125\1\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\2\6\1\u02ab\3\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\3\6\1\u02ac\2\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\3\6" + "\1\u02ad\2\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\1\241"
-			+ "\16\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\6\6\1\u02ae\10\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\241\5\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\6\1\u02af\4\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\3\6\1\u02b0\2\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\2\6\1\u02b1\3\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\6\6\1\u02b2\10\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\2\6\1\u0165\3\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\4\6\1\u02b3\6\6\1\u02b4\11\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\4\6\1\u02b5\1\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\6\6\1\u02b6\10\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\250"
-			+ "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\3\6\1\u02b7\2\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\6\6\1\u02b8\10\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\2\6\1\u01e6\1\u02b7\2\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\1\u02b9\2\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\1\6\1\u02ba"
-			+ "\15\6\1\5\1\0\25\6\1\0\3\5\5\u02bb\2\0" + "\3\5\1\u02bb\1\0\1\u02bb\1\0\2\5\3\0\1\5"
-			+ "\2\u02bb\1\5\2\u02bb\2\0\2\5\2\u02bb\2\5\13\0" + "\2\5\1\u02bb\1\5\1\u02bb\3\5\1\u02bb\7\5\1\0"
-			+ "\1\5\1\u02bb\17\5\2\u02bb\2\5\1\0\1\5\5\6" + "\1\u02bc\1\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\1\6\1\u02bd\4\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\14\6\1\u02be\2\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\1\u02bf" + "\16\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\1\6\1\u02c0\4\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\6" + "\1\u02c1\1\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u02c2" + "\2\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\1\6\1\u02c3\1\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\4\6\1\u02c4\12\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\16\6\1\u02c5" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\3\6\1\u02c6\2\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\6\6\1\u02c7\10\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\6\1\u02c8\4\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\2\6\1\u02c9\3\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\2\6\1\u02ca\3\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u02cb" + "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\1\6\1\u02cc\1\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\4\6\1\u02cd\1\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\4\6\1\u02ce" + "\1\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\2\6\1\u02cf"
-			+ "\3\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\6\1\u02d0\4\6\13\0" + "\13\6\1\u02cc\3\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\1\u02d1\2\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\3\6\1\u02d2\2\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\6" + "\1\u02d3\4\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\5\6"
-			+ "\1\u02d4\11\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\u02d5\5\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\7\6\1\u02d6\7\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\4\6\1\u02d7"
-			+ "\1\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\3\6\1\u02d8\2\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\1\6\1\u02d9\15\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\13\6\1\u02da\3\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\1\u02db\5\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\4\6\1\u02dc\12\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\2\6\1\u01db" + "\6\6\1\u029d\13\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\3\6\1\u02dd\2\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\11\6\1\u0207\5\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\3\6\1\u02de\2\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\1\6\1\u02df\4\6\13\0\17\6"
-			+ "\1\5\1\0\23\6\1\u02e0\1\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0" + "\12\6\1\u02e1\12\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\3\6\1\u02e2\13\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u02e3"
-			+ "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\2\6\1\u02e4\3\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\1\6\1\u02e5\15\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u02e6\2\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\1\u0207\5\6" + "\13\0\17\6\1\5\1\0\2\6\1\u01db\6\6\1\u029d"
-			+ "\13\6\1\0\1\5\7\6\2\0\1\123\2\6\1\u02e7" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\1\u02e8\2\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6" + "\1\5\1\0\25\6\34\0\1\u02e9\72\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\6\6\1\u02ea\10\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\15\6\1\u02eb" + "\7\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6" + "\1\u02ec\3\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\u02ed\5\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\13\6\1\u02ee\3\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\3\6\1\u02ef\2\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\4\6\1\u02f0\12\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\2\6\1\u02f1\3\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\4\6\1\u02f2\12\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\u02f3" + "\2\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\2\6\1\u02f4\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\1\6\1\u02f5\4\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\4\6\1\u02f6\12\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\1\6\1\u02f7\15\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\2\6\1\u02f8\3\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\2\6\1\u02f9\3\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\2\6\1\u02fa\3\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\u02fb\5\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\6\1\u02fc\4\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\6\6\1\u02fd\10\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\3\6"
-			+ "\1\u02fe\2\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\2\6" + "\1\u02ff\14\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\1\6\1\u0300\15\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\2\6\1\u0301\3\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\17\6\1\5\1\0\7\6\1\u0302\15\6\25\0"
-			+ "\1\u0303\144\0\1\u01a0\12\0\1\u0255\50\0\1\u0257\1\u0304"
-			+ "\5\u0257\1\u0304\2\0\3\u0257\1\0\1\u0257\1\0\1\u0304"
-			+ "\1\u0257\1\0\1\u0257\1\u0304\6\u0257\2\u0304\6\u0257\1\0"
-			+ "\2\u0304\1\0\1\u0304\2\0\4\u0304\17\u0257\2\u0304\25\u0257"
-			+ "\25\0\1\u0305\144\0\1\u01a4\12\0\1\u0258\50\0\1\u025a"
-			+ "\1\u0306\5\u025a\1\u0306\2\0\3\u025a\1\0\1\u025a\1\0"
-			+ "\1\u0306\1\u025a\1\0\1\u025a\1\u0306\6\u025a\2\u0306\6\u025a"
-			+ "\1\0\2\u0306\1\0\1\u0306\2\0\4\u0306\17\u025a\2\u0306"
-			+ "\25\u025a\61\0\1\u0307\105\0\1\u0308\17\0\1\u0309\125\0"
-			+ "\1\u0263\60\0\1\u030a\200\0\1\u030b\77\0\1\u030c\1\0"
-			+ "\1\u030d\142\0\1\u030e\133\0\1\u030f\123\0\1\u0310\122\0"
-			+ "\1\u0311\104\0\1\u0312\127\0\1\u0313\124\0\1\u0314\125\0"
-			+ "\1\u0315\125\0\1\u0316\130\0\1\u0317\76\0\1\u0318\21\0"
-			+ "\1\u0319\152\0\1\u031a\123\0\1\u031b\123\0\1\u031c\110\0"
-			+ "\1\u031d\107\0\1\u031e\144\0\1\u01bb\12\0\1\u0271\50\0"
-			+ "\1\u0273\1\u031f\5\u0273\1\u031f\2\0\3\u0273\1\0\1\u0273"
-			+ "\1\0\1\u031f\1\u0273\1\0\1\u0273\1\u031f\6\u0273\2\u031f"
-			+ "\6\u0273\1\0\2\u031f\1\0\1\u031f\2\0\4\u031f\17\u0273"
-			+ "\2\u031f\25\u0273\1\0\3\5\5\u0320\2\0\3\5\1\u0320" + "\1\0\1\u0320\1\0\2\5\3\0\1\5\2\u0320\1\5"
-			+ "\2\u0320\2\0\2\5\2\u0320\2\5\13\0\2\5\1\u0320" + "\1\5\1\u0320\3\5\1\u0320\7\5\1\0\1\5\1\u0320"
-			+ "\17\5\2\u0320\2\5\1\0\1\5\7\6\2\0\1\123" + "\1\6\1\u0321\1\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\2\6\1\u0322\14\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\5\6\1\u0323\1\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\1\u0324\3\6\1\u0325"
-			+ "\1\6\2\0\6\6\13\0\17\6\1\5\1\0\10\6" + "\1\u0326\1\6\1\u0297\12\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\3\6\1\u02b7\2\6\13\0\17\6\1\5"
-			+ "\1\0\12\6\1\u0327\12\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\1\6\1\u0328\15\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\4\6\1\u0329\12\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\6\1\u032a"
-			+ "\4\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\2\6\1\u032b\3\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\4\6\1\u0202\1\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\6\1\u032c\4\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\4\6\1\u032d\12\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\4\6\1\u02cc\1\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\3\u010b\5\u032e\1\145"
-			+ "\1\0\3\u010b\1\u032e\1\u010b\1\u032e\7\u010b\2\u032e\1\u010b"
-			+ "\2\u032e\4\u010b\2\u032e\17\u010b\1\u032e\1\u010b\1\u032e\3\u010b"
-			+ "\1\u032e\11\u010b\1\u032e\17\u010b\2\u032e\3\u010b\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\4\6\1\u032f\1\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\3\157\5\u0330\2\157\1\u0116"
-			+ "\2\157\1\u0330\1\u0117\1\u0330\7\157\2\u0330\1\157\2\u0330"
-			+ "\4\157\2\u0330\17\157\1\u0330\1\157\1\u0330\3\157\1\u0330"
-			+ "\11\157\1\u0330\17\157\2\u0330\3\157\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\2\6\1\u0331\3\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\u0332"
-			+ "\2\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\2\6"
-			+ "\1\u0333\14\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\13\6\1\u0334\3\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\2\6\1\u0335\3\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u0336"
-			+ "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\6\1\u019c\4\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\22\6"
-			+ "\1\u0337\2\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\u0338\5\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\3\6\1\u0339\2\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\1\6\1\u033a\4\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\3\6\1\u033b\2\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u033c" + "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\6\1\u02ff\4\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\3\6\1\u033d\2\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\6\6\1\u033e\10\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\2\6\1\u033f"
-			+ "\3\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\2\6\1\u0340\3\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\1\6\1\u0341\1\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\1\6\1\u0342\15\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\1\u0343\2\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\2\6\1\u0344\3\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\1\6\1\u0345\4\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\1\6\1\u0346\15\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\6\1\u0347\4\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\3\6\1\u0348\2\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\1\6\1\u0349\1\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u034a"
-			+ "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\2\6\1\u034b\22\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\1\u034c\5\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\13\6\1\u034d\11\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\6\6\1\u034e\10\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\1\6\1\u034f"
-			+ "\1\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\2\6"
-			+ "\1\u0134\14\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\3\6\1\u0350\2\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\1\u0351\5\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\4\6\1\241\12\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\6\1\u0352\4\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\4\6\1\u01fd\1\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\4\6\1\u0353\12\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\1\u0137\5\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\13\6\1\u0137\3\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\1\6\1\u0354\1\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\2\6\1\u0355"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\1\6\1\u0356\1\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\7\6\1\u0357\7\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\4\6\1\u0358\12\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\1\6\1\u0359\1\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\1\u035a\2\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\2\6\1\u01d2\3\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\1\6\1\u035b\15\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\2\6\1\u027d\3\6\2\0\6\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\7\6\1\u035c\7\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\1\6\1\u035d\4\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\7\6\1\u035e\7\6\1\5\1\0\25\6\1\0"
-			+ "\3\5\5\u035f\2\0\3\5\1\u035f\1\0\1\u035f\1\0" + "\2\5\3\0\1\5\2\u035f\1\5\2\u035f\2\0\2\5"
-			+ "\2\u035f\2\5\13\0\2\5\1\u035f\1\5\1\u035f\3\5" + "\1\u035f\7\5\1\0\1\5\1\u035f\17\5\2\u035f\2\5"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\4\6\1\u0360"
-			+ "\1\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\3\6\1\u0361\2\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\1\u0362\5\6\2\0\5\6\1\u0165\13\0\10\6\1\u0363"
-			+ "\6\6\1\5\1\0\2\6\1\u0364\1\6\1\u0365\20\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\7\6\1\u0366\7\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\u0367\5\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\2\6\1\u0207\14\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\7\6\1\u0368\7\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\13\6"
-			+ "\1\u0369\3\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\u036a\5\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\5\6\1\u036b\5\6"
-			+ "\1\u036c\11\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\4\6\1\u036d\1\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\4\6\1\u036e\12\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\6\6\1\u036f"
-			+ "\10\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\1\6\1\u0370\1\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\2\6\1\u022d\14\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\2\6\1\u0371"
-			+ "\3\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\2\6\1\u01e6\3\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u0372\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u0373\2\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\7\6\1\u0165\7\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\1\6\1\u0374\1\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\6\1\u0375"
-			+ "\4\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\7\6\1\u0376" + "\7\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\1\6\1\u0377\1\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\6\6\1\u0378\10\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\13\6\1\u0379\11\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\2\6\1\u037a\6\6\1\u037b\13\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\3\6\1\u037c" + "\13\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\6\6\1\u037d\10\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\2\6\1\u027d"
-			+ "\3\6\2\0\1\u012b\5\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\6" + "\1\u037e\4\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\3\6\1\u037f\2\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\6\6\1\u0380\10\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\2\6\1\u0381\3\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\2\6\1\u0382\14\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\1\6\1\u0383\1\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\5\6\1\u0384\17\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\1\6\1\u0385\15\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\1\6\1\u0386\15\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\3\6"
-			+ "\1\u0387\13\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\6\6\1\u0388\10\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\4\6\1\u0389\12\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\11\6\1\u038a\5\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\u038b\5\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\14\6\1\u038c\2\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u038d\2\6\13\0\17\6\1\5\1\0\25\6" + "\15\0\1\u038e\111\0\1\5\7\6\2\0\1\123\1\6"
-			+ "\1\u038f\1\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\1\6\1\u0390\15\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\6\1\u0391\4\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\6\6\1\u0392\10\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u0393\2\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\5\6\1\u0394" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\1\u0395\5\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\6\1\u0396\4\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\1\u0397\16\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\1\u0398\5\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\11\6\1\u0399\13\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\12\6\1\u0209\4\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\u039a\5\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\1\6\1\u039b\1\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\3\6" + "\1\u039c\2\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\6\1\u039d\4\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\5\6\1\u039e\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\2\6\1\u039f\14\6"
-			+ "\1\u029a\5\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\6\6\1\u03a0\10\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\1\u03a1\5\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\13\6\1\u0202\3\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\15\6\1\u0295\1\6\1\5\1\0" + "\4\6\1\u0296\6\6\1\u0298\3\6\1\u029a\5\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\6\1\u03a2\4\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\6\1\u0165\4\6\13\0\17\6" + "\1\5\1\0\1\6\1\u03a3\23\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\3\6\1\u03a4\2\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\25\0\1\u0257\125\0\1\u025a\140\0"
-			+ "\1\u03a5\127\0\1\u03a6\154\0\1\u03a7\74\0\1\u03a8\150\0"
-			+ "\1\u03a9\125\0\1\u03aa\56\0\1\u03ab\172\0\1\u03ac\106\0"
-			+ "\1\u03ad\124\0\1\u0263\127\0\1\u03ae\123\0\1\u03af\153\0"
-			+ "\1\u0263\131\0\1\u03b0\72\0\1\u03b1\152\0\1\u0263\126\0"
-			+ "\1\u03b2\135\0\1\u03b3\70\0\1\u03b4\161\0\1\u03b5\71\0"
-			+ "\1\u03b3\125\0\1\u03b6\100\0\1\u031b\136\0\1\u0273\101\0" + "\3\5\5\6\2\0\3\5\1\6\1\0\1\6\1\0"
-			+ "\2\5\3\0\1\5\2\6\1\5\2\6\2\0\2\5" + "\2\6\2\5\13\0\2\5\1\6\1\5\1\6\3\5"
-			+ "\1\6\7\5\1\0\1\5\1\6\17\5\2\6\2\5" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\4\6\1\u03b7\12\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\3\6\1\u03b8\2\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\3\6\1\u03b9\2\6\13\0\6\6\1\u03ba" + "\10\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\1\6\1\u0340\15\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\1\6\1\u03bb\15\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u03bc" + "\2\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\1\6\1\u03bd"
-			+ "\15\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\1\6\1\u03be\1\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\u03bf\5\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\6\1\u03c0\4\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0" + "\3\6\1\u03c1\21\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\1\6\1\u03c2\4\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u03c3"
-			+ "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\3\u010b" + "\5\144\1\145\1\0\3\u010b\1\144\1\u010b\1\144\7\u010b"
-			+ "\2\144\1\u010b\2\144\4\u010b\2\144\17\u010b\1\144\1\u010b"
-			+ "\1\144\3\u010b\1\144\11\u010b\1\144\17\u010b\2\144\3\u010b" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\14\6" + "\1\241\2\6\1\5\1\0\25\6\1\0\3\157\5\16"
-			+ "\2\157\1\u0116\2\157\1\16\1\u0117\1\16\7\157\2\16" + "\1\157\2\16\4\157\2\16\17\157\1\16\1\157\1\16"
-			+ "\3\157\1\16\11\157\1\16\17\157\2\16\3\157\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\1\0\1\u03c4\6\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\7\6\1\u03c5\7\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\1\u0362\5\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\7\6\1\u03c6\15\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\2\6\1\u038c" + "\3\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\5\6\1\u03c7\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\2\6\1\u03c8\3\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\1\0\1\u03c9" + "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\6\1\u03ca\4\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\1\6\1\u0165\1\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\6\1\u03cb\4\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\1\6\1\u01df\1\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\4\6\1\u03cc\1\6\2\0\1\u03cd\5\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\7\6\1\u03ce\7\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\4\6\1\u03cf\1\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\5\6" + "\1\u03d0\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\3\6\1\u03d1\2\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\3\6\1\u03d2\13\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\u03d3\5\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\u0341\5\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\6\1\u03d4\4\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\6\6\1\u03cf\10\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\1\6\1\u03d5\1\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\3\6\1\u03d6\2\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\3\6\1\u0165\13\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u03d7\2\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\6\6\1\u03d8\10\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\u03d9\5\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\6\6\1\u03da\10\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\2\6\1\u03db\3\6" + "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\2\6\1\u03dc\3\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\4\6\1\u01fd\12\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\2\6\1\u03dd\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\1\6\1\u03de\15\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\u03df\5\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\1\u0137\2\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u03e0"
-			+ "\2\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\4\6\1\u03e1" + "\12\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u03e2\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u03e3\2\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\3\6\1\u03e4\13\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\u0359\5\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\1\6\1\u03e5\1\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6" + "\1\u03e6\3\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\4\6"
-			+ "\1\u03e7\12\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0" + "\1\6\1\u03e8\23\6\1\0\3\5\5\u03e9\2\0\3\5"
-			+ "\1\u03e9\1\0\1\u03e9\1\0\2\5\3\0\1\5\2\u03e9" + "\1\5\2\u03e9\2\0\2\5\2\u03e9\2\5\13\0\2\5"
-			+ "\1\u03e9\1\5\1\u03e9\3\5\1\u03e9\7\5\1\0\1\5" + "\1\u03e9\17\5\2\u03e9\2\5\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\1\6\1\u03ea\15\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\4\6\1\u03eb\12\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\6\6\1\u03ec\10\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\2\6\1\244\3\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\u03ed\5\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\1\6\1\u03ee"
-			+ "\1\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\2\6\1\u03ef\3\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\6\6\1\u03f0\10\6" + "\1\5\1\0\25\6\1\0\1\5\5\6\1\u03f1\1\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\5\6\1\u03f2\17\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\1\6"
-			+ "\1\u03f3\4\6\2\0\6\6\13\0\15\6\1\u0295\1\6" + "\1\5\1\0\4\6\1\u0365\1\u03f2\11\6\1\u029a\4\6"
-			+ "\1\u03f4\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\17\6\1\5\1\0\11\6\1\u03f5\13\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\6\1\u03f6\4\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\12\6\1\u03f7\4\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\6\6\1\u03f8\10\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6" + "\1\u03f9\3\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\u03fa\5\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\4\6\1\u03fb\12\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\6\1\u03fc\4\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\5\6\1\u03fd\17\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\6\6\1\u03fe" + "\10\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\3\6\1\u03ff\2\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\u0400" + "\2\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\7\6" + "\1\u0401\7\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\1\u0402\5\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\u0403\5\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\1\u0404\2\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\1\u0405\5\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\6\6\1\u0406\10\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\3\6\1\u0407\2\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\2\6\1\u0408\14\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\7\6\1\u0409\7\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\4\6" + "\1\u040a\1\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\u040b\5\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\3\6\1\u03d6\13\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\1\u040c\5\6" + "\1\0\1\u040d\6\6\13\0\10\6\1\u040e\6\6\1\5"
-			+ "\1\0\16\6\1\u040f\6\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\14\6\1\u0410\2\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\3\6\1\u0411\2\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\1\6\1\u0202\1\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\u0412\5\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\1\6\1\u0413\15\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\5\6"
-			+ "\1\u0414\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\16\6\1\u0415" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\1\6\1\u0416\1\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\3\6"
-			+ "\1\u0417\2\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\5\6\1\u0418\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\4\6\1\u0419\1\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\37\0\1\u041a\67\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\13\6\1\u041b\3\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\6\6\1\u041c\10\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\4\6\1\u041d\1\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\12\6\1\u041e" + "\4\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\2\6\1\u041f\3\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\5\6\1\u0420\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\6\6" + "\1\u0421\10\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\6\6\1\u0422\10\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\4\6"
-			+ "\1\u0423\1\u0424\2\0\6\6\13\0\17\6\1\5\1\0" + "\11\6\1\u0425\13\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\17\6\1\5\1\0\2\6\1\u0426"
-			+ "\22\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6"
-			+ "\1\u0427\3\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\5\6\1\u0165\13\0" + "\17\6\1\5\1\0\2\6\1\u0428\1\6\1\u0429\6\6"
-			+ "\1\u042a\11\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u042b\2\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\4\6\1\u042c\12\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\u042d\5\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\5\6\1\u042e\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\1\u042f\5\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\1\u0430\5\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\6\6\1\u0431\10\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\6\6\1\u0432\10\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\2\6\1\u0433\3\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\5\6\1\u0434\13\0\17\6\1\5\1\0" + "\25\6\66\0\1\u0435\121\0\1\u0436\107\0\1\u0263\76\0"
-			+ "\1\u0263\153\0\1\u0310\121\0\1\u0317\150\0\1\u0310\103\0"
-			+ "\1\u0263\130\0\1\u0437\123\0\1\u0438\150\0\1\u0439\122\0"
-			+ "\1\u043a\61\0\1\u0435\171\0\1\u03a8\45\0\44\u03b3\1\u0263"
-			+ "\61\u03b3\37\0\1\u043b\146\0\1\u043c\104\0\1\u043d\66\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\14\6" + "\1\u0165\2\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\1\6\1\u043e\4\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\5\6\1\u043f\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\1\6\1\u0440" + "\4\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\6\1\u0441\4\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\4\6\1\u0150\1\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\u0442\5\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\12\6"
-			+ "\1\u0443\4\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\2\6\1\u0444\3\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\3\6\1\u0445\2\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\1\u0446\2\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\2\6\1\u0447\3\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\6\6\1\u0448\10\6\1\5"
-			+ "\1\0\25\6\7\0\1\u0449\17\0\1\u044a\1\u044b\2\0" + "\1\u044c\73\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\2\6\1\u044d\3\6" + "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\3\6\1\u044e\2\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\1\6\1\u044f\15\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\1\6\1\u0450\4\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\34\0\1\u0451\33\0\1\u0452\36\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\3\6\1\u0453\2\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\3\6\1\u0454\2\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\4\6"
-			+ "\1\u0455\1\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\2\6\1\u0456\1\u0457" + "\2\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\2\6\1\u0458\3\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\u02cc\5\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\4\6\1\u0459\12\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\2\6"
-			+ "\1\u02cc\14\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\1\u045a\2\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\4\6\1\u045b" + "\1\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\7\6\1\u045c\7\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\5\6\1\u045d\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\1\u045e\5\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\4\6\1\u045f"
-			+ "\1\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\1\6\1\u0460" + "\15\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\3\6\1\u0461\2\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\5\6\1\u0462\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6" + "\1\5\1\0\14\6\1\u0463\10\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\1\6\1\u01fd\1\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\3\6\1\241\13\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\1\6\1\u0464"
-			+ "\1\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\2\6\1\u0156\3\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\4\6\1\u0137\12\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\2\6\1\u0465\3\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\1\6\1\u0466" + "\1\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\u0467\5\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\1\u0468\2\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\3\6"
-			+ "\1\u0469\2\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\5\6\1\u01eb\2\0\6\6\13\0" + "\17\6\1\5\1\0\15\6\1\u0299\7\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\2\6\1\u046a\3\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\4\6\1\u046b\12\6\1\5" + "\1\0\25\6\1\0\3\5\5\256\2\0\3\5\1\256"
-			+ "\1\0\1\256\1\0\2\5\3\0\1\5\2\256\1\5" + "\2\256\2\0\2\5\2\256\2\5\13\0\2\5\1\256"
-			+ "\1\5\1\256\3\5\1\256\7\5\1\0\1\5\1\256" + "\17\5\2\256\2\5\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\5\6\1\u01c6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\u046c\5\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\5\6\1\u01e1\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\1\6\1\u046d\15\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\2\6\1\u0173\14\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\u046e\5\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\1\6\1\u046f\15\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\1\6\1\u0470\15\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\1\6" + "\1\u0471\15\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\1\u0472\2\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\1\6\1\u0473\15\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u0474" + "\2\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\3\6\1\u0475\2\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\2\6\1\u0476\3\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\1\u0477\24\6\1\0"
-			+ "\1\5\5\6\1\u0478\1\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\1\u0324\5\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\14\6\1\u0479" + "\2\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u047a\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u047b\2\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\6\6\1\u047c\10\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\4\6\1\u047d\1\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\4\6\1\u038c\1\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\3\6\1\u047e\13\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u047f"
-			+ "\2\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\6\6\1\u0480" + "\10\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\3\6\1\u0481\2\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\u0482\5\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\6\1\u0483\4\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\5\6\1\u0484\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\u0485\5\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\5\6\1\u0486\1\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\17\6\1\5\1\0\13\6\1\u0487\1\6\1\u0488"
-			+ "\7\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6"
-			+ "\1\u0489\3\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\4\6\1\u048a\1\6\2\0\6\6" + "\13\0\17\6\1\5\1\0\1\6\1\u048b\1\u048c\2\6"
-			+ "\1\u048d\3\6\1\u048e\13\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\14\6\1\u0254\2\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\1\6\1\u048f\15\6\1\5\1\0\25\6"
-			+ "\103\0\1\u0490\3\0\1\u0491\17\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\2\6\1\u03f5\3\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\6\1\u0492\4\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\1\u0493\5\6\2\0\6\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\5\6\1\u0494\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\15\6\1\u0495\7\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\6\1\u0496"
-			+ "\4\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\2\6\1\u0497\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\2\6\1\u0498\3\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\4\6\1\u0499\1\u0418"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\6\1\202\4\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\11\6\1\u049a\13\6\40\0\1\u049b\66\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\4\6\1\u049c\1\6\2\0\6\6\13\0\15\6" + "\1\u049d\1\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\1\6\1\u049e\1\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\1\6\1\u049f\15\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6" + "\1\u04a0\3\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\4\6\1\u017b\1\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\10\6\1\u04a1\6\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\12\6\1\u04a2\4\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\3\6"
-			+ "\1\u04a3\2\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\6\6" + "\1\u04a4\10\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\4\6\1\u04a5\1\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\2\6\1\u04a6\3\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u04a7" + "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\7\6\1\u04a8"
-			+ "\7\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\u04a9\5\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\1\6\1\u04aa"
-			+ "\1\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\1\u04ab\2\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\4\6\1\u04ac\1\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\16\6\1\u04ad\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\6\6"
-			+ "\1\u04ae\5\6\1\u04af\2\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\1\6\1\u04b0\4\6\2\0\6\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\1\6\1\u04b1\4\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\14\6\1\u04b2\2\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\12\6\1\u04b3\4\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\3\6\1\u04b4\2\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\1\6\1\u04b5\15\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\1\u04b6\16\6\1\5\1\0\25\6"
-			+ "\42\0\1\u04b7\127\0\1\u04b8\114\0\1\u04b9\34\0\1\u04ba"
-			+ "\74\0\1\u0310\130\0\1\u04bb\123\0\1\u04bc\127\0\1\u04bd"
-			+ "\144\0\1\u04be\132\0\1\u04bf\40\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\1\0\1\u04c0\6\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u0130" + "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\4\6\1\u04c1"
-			+ "\12\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\7\6\1\u04c2\7\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\2\6\1\u04c3\22\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\2\6\1\u04c4"
-			+ "\3\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\6\1\u04c5\4\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\14\6\1\u04c6\2\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\2\6\1\u04c7\3\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\1\6\1\u04c8\1\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\1\6\1\u04c9"
-			+ "\15\6\1\5\1\0\25\6\42\0\1\u04ca\125\0\1\u04cb" + "\77\0\1\u04cc\177\0\1\u04cd\40\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u04ce\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\5\6\1\u04cf\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\1\u04d0\2\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\3\6\1\u0187\2\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\15\0\1\u04d1\151\0\1\u04d1\65\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\3\6\1\u04d2" + "\13\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\14\6\1\u04d3\2\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u04d4\2\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\1\6\1\u04d5" + "\4\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\2\6\1\u04d6\3\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\4\6\1\u0293\1\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\6\1\u04d7\4\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\u04d8\5\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\1\6\1\u04d9\15\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\6\6\1\u04da\10\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u04db"
-			+ "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\6\6\1\u04dc" + "\10\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\6\6\1\u04dd\10\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\6" + "\1\u04de\1\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\4\6\1\u04df\12\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\u04e0\5\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\2\6\1\u04e1\3\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\6\6\1\u04e2\10\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\1\6"
-			+ "\1\u04e3\15\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\u0134\5\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\2\6\1\u04e4\3\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\u04e5\5\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\6\1\u03b7\4\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\1\6" + "\1\u04e6\4\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\4\6\1\u04e7\12\6\1\5\1\0\25\6\1\0" + "\1\5\5\6\1\u04e8\1\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\1\u0362\5\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\2\6\1\u04e9\6\6"
-			+ "\1\u04ea\6\6\1\76\4\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\6\1\u04a2\4\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\6\6\1\u04eb\10\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\1\6\1\u038c\1\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\6\1\u04ec\4\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\16\6\1\u04ed\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\2\6\1\u04ee" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\6\6\1\u04ef\10\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\6\6\1\u021c\10\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\u018a\5\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\4\6\1\u04f0\12\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\6" + "\1\u04f1\4\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\3\6\1\u04f2\2\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\1\6\1\u04f3\15\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\5\6" + "\1\u01eb\2\0\6\6\13\0\17\6\1\5\1\0\11\6"
-			+ "\1\u04f4\13\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\4\6\1\u0296\20\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\1\u04f5\5\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\7\6\1\u04f6\7\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\2\6\1\u04f7\3\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u04f8" + "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\6\1\u04f9\4\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\3\6\1\u04fa\2\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\2\6\1\u04fb" + "\3\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\13\6\1\u04fc\11\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\2\6\1\u04fd\3\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\7\6\1\u04fe\7\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\6\6\1\u04ff\10\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\4\6\1\u0500" + "\1\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\2\6\1\u0501\3\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\6\1\u0502\4\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\2\6\1\u0503\14\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\1\6\1\u0504\15\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\6\1\u0505\4\6\13\0" + "\4\6\1\u0506\12\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\u0507\5\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\1\u0508\16\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\1\6\1\u0509\15\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\4\6\1\u050a"
-			+ "\12\6\1\5\1\0\25\6\37\0\1\u050b\103\0\1\u050c" + "\111\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\1\6\1\u050d\15\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\6\6\1\u050e"
-			+ "\10\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\16\6\1\u0165\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\6" + "\1\u050f\4\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\u0510\5\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\6\6\1\u0511\10\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\2\6\1\u0512\14\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\1\6\1\u0513\15\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\3\6\1\u0514\2\6\13\0" + "\17\6\1\5\1\0\25\6\74\0\1\u0515\32\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\1\6\1\u0516"
-			+ "\15\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\2\6\1\u0517\3\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\u0518\5\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\6\1\u0519\4\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0" + "\1\6\1\u051a\23\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\2\6\1\u051b\3\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6"
-			+ "\1\u0130\3\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\4\6\1\u051c\1\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\2\6\1\u051d\3\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\2\6\1\u051e\3\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u051f" + "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\6\1\u0520\4\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\1\6\1\u0521\15\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\6\1\u0522\4\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\3\6\1\u0523\13\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\u0524\5\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\1\u0525" + "\5\6\2\0\6\6\13\0\10\6\1\u0526\6\6\1\5"
-			+ "\1\0\4\6\1\u0527\20\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\15\6\1\u0295\1\6\1\5" + "\1\0\4\6\1\u0296\20\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u0528\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\15\6\1\u0288\1\6\1\5\1\0\15\6" + "\1\u0299\7\6\1\0\1\5\7\6\2\0\1\123\1\u0529"
-			+ "\2\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\2\6\1\u052a\3\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0" + "\20\6\1\76\4\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\2\6\1\u052b\3\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\1\6\1\u052c" + "\1\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\6\1\u052d\4\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\11\6\1\u029d\13\6\43\0\1\u0263\124\0\1\u052e\151\0"
-			+ "\1\u052f\101\0\1\u0530\122\0\1\u0531\162\0\1\u0263\74\0"
-			+ "\1\u03b3\121\0\1\u03b3\125\0\1\u0532\116\0\1\u044b\76\0" + "\1\5\7\6\2\0\1\123\1\u0533\2\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\3\6\1\u0534\2\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\u0535" + "\2\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\6\1\u0536\4\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\1\0\1\u0537\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\15\6\1\u0295\1\6\1\5\1\0\17\6" + "\1\u029a\5\6\1\0\1\5\7\6\2\0\1\123\1\6"
-			+ "\1\u0538\1\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\u0539\5\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\1\6\1\u053a\1\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6" + "\1\5\1\0\25\6\37\0\1\u053b\103\0\1\u053c\176\0"
-			+ "\1\u053d\102\0\1\u053e\63\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\1\6\1\u04ad\4\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\1\u022d\16\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\6\1\u053f\4\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\64\0\1\u0540\42\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\11\6\1\u0541\13\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\4\6"
-			+ "\1\u0296\6\6\1\u0298\11\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\13\6\1\u0542\3\6\1\5" + "\1\0\25\6\1\0\1\5\5\6\1\u0543\1\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\1\0\1\u0544\6\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\4\6"
-			+ "\1\u0545\1\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\6\6" + "\1\u0546\10\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\2\6\1\u039f\22\6\1\0\1\5\7\6\2\0\1\123" + "\1\u0547\2\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\5\6\1\u0548" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\3\6\1\u0549\2\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\1\6\1\u0339\15\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\17\6\1\5\1\0\1\u0207\24\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\4\6\1\u054a\20\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\16\6\1\u0130\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6" + "\1\u054b\3\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\4\6"
-			+ "\1\u01e1\12\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0" + "\1\u03df\24\6\1\0\1\5\7\6\2\0\1\123\2\6"
-			+ "\1\241\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\4\6\1\u054c\1\6\2\0\6\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\1\u054d\2\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\2\6\1\u054e\3\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\1\6\1\u054f\15\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\2\6\1\u0550\3\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u0551\1\u0552\2\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\4\6\1\u0130\12\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\6" + "\1\u0553\4\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\2\6\1\u0554\3\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\2\6\1\u0555\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\4\6\1\u03d1\1\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\2\6\1\u0556"
-			+ "\3\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\2\6\1\u0557\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\2\6" + "\1\u0558\3\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\1\6\1\u0559" + "\1\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\3\6\1\u055a\2\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\1\6\1\u055b\15\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\2\6\1\u055c\3\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\2\6\1\u0130\14\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\2\6\1\u055d\3\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\14\6\1\u055e\2\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\1\u055f\5\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\4\6\1\u0560"
-			+ "\1\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\2\6\1\u0561\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\3\6\1\u0562\2\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\3\6"
-			+ "\1\u0563\2\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\2\6\1\u0564\3\6\2\0\6\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\3\6\1\u0565\2\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\14\6\1\u0566" + "\10\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\1\6\1\u0567\15\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\1\u0568\5\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\6\1\u0569\4\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\13\6\1\u056a\3\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\4\6\1\u056b\12\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\3\6\1\u056c\2\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\1\6\1\u056d\4\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\6" + "\1\u056e\1\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u056f" + "\2\6\13\0\17\6\1\5\1\0\25\6\42\0\1\u0570"
-			+ "\147\0\1\u0571\42\0\1\5\7\6\2\0\1\123\1\u0348" + "\2\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\5\6\1\u0572\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u0573\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\2\6\1\u0574\3\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\2\6\1\u0575" + "\3\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\4\6\1\u0576\20\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\6\1\u0577\4\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\4\6\1\u0578\12\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\6\1\u0579"
-			+ "\4\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\5\6\1\u057a\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\2\6\1\u057b\3\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\7\6\1\u057c\7\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\6\1\u057d\4\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\2\6\1\u057e\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\6\6\1\u057f\10\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\4\6\1\u0580" + "\1\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\7\6\1\u0581"
-			+ "\7\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\1\u0582\16\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6" + "\1\u0583\3\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\6\1\u02e7\4\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\2\6\1\u0584\3\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\1\u0585\2\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\3\6\1\u0586\13\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\1\6\1\u0587" + "\15\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\3\6\1\u0588\2\6\13\0\1\6\1\u0589"
-			+ "\15\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\1\6\1\u01e1\1\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\5\6\1\u0165\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\6\6"
-			+ "\1\u058a\10\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\3\6\1\u02cf\2\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\17\6\1\5\1\0\4\6\1\u058b"
-			+ "\20\6\1\0\1\5\5\6\1\u058c\1\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\u047d\5\6\13\0" + "\17\6\1\5\1\0\25\6\16\0\1\u058d\150\0\1\u058e"
-			+ "\123\0\1\u058f\127\0\1\u0590\154\0\1\u0591\36\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\4\6\1\u0592\1\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\1\u038c\5\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\3\6\1\u0593\13\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\5\6\1\u0594\13\0" + "\17\6\1\5\1\0\25\6\103\0\1\u0595\3\0\1\u0596"
-			+ "\17\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\4\6\1\u0202\12\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\11\6\1\u0597\13\6\41\0\1\u0598\157\0\1\u0599"
-			+ "\75\0\1\u059a\121\0\1\u059b\67\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\4\6\1\u059c\12\6\1\5" + "\1\0\25\6\61\0\1\u059a\45\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u0551\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\5\6\1\u059d\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\4\6\1\u059e\1\6" + "\13\0\17\6\1\5\1\0\25\6\30\0\1\u059f\76\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\2\6\1\u05a0\3\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\3\6\1\u0187\13\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\1\6\1\u04f7\1\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\5\6"
-			+ "\1\u045e\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\1\6\1\u05a1\1\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\1\6\1\u05a2\1\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\6" + "\1\u05a3\1\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\1\6\1\u05a4\15\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\1\6\1\u05a5\1\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\5\6\1\u05a6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\4\6" + "\1\u05a7\1\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\u0165\5\6\13\0"
-			+ "\17\6\1\5\1\0\3\6\1\u05a8\21\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\u05a9\5\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\3\6\1\u05aa\13\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\1\u05ab\2\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\1\6\1\u05ac\1\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u05ad\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\5\6\1\u05ae"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\4\6\1\u05af\1\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\4\6\1\u05b0\1\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\2\6\1\u05b1\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\1\6\1\u05b2\1\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\6\1\u05b3\4\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\23\6" + "\1\u02e0\1\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\2\6\1\u05b4\14\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\2\6\1\u05b5\22\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\6\6\1\u05b6" + "\10\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u05b7\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\1\6\1\u05b8"
-			+ "\4\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\7\6\1\u05b9\7\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\u05ba\5\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\4\6\1\u05bb\1\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\5\6" + "\1\u05bc\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\2\6\1\u05bd\3\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\3\6\1\u05be\13\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\1\6\1\u05bf\15\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\7\6\1\u05c0\7\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\1\u051e\2\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\2\6\1\u05c1\3\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u04a2"
-			+ "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\2\6\1\u05c2\3\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\6\6\1\u05c3\10\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\4\6\1\u0165\1\6\13\0\17\6\1\5\1\0\25\6" + "\37\0\1\u05c4\130\0\1\u05c5\64\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\1\u05c6\5\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\5\6"
-			+ "\1\u0581\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\2\6\1\u05c7" + "\14\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\2\6\1\u05c8\14\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\13\6\1\u0130\11\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\7\6\1\u05c9\7\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\1\u05ca\16\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\7\6\1\u05cb\7\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\1\6\1\u05cc\15\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\6\1\u0130\4\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\3\6\1\u043f\2\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\1\6\1\u05cd\4\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\4\6\1\u05ce\1\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6" + "\1\5\1\0\1\u05cf\24\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\2\6\1\300\14\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\2\6\1\u05d0\3\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\1\6\1\u0580\15\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\3\6\1\u05d1\2\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\3\6\1\u05d2\2\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\u05d3\5\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\1\u05d4\2\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\1\6\1\u05d5\1\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\u05d6\5\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\1\u02b7\2\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\4\6\1\u05d7\1\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\u05d8\5\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\3\6\1\u05d9\2\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\41\0\1\u05da\127\0" + "\1\u0590\124\0\1\u0263\145\0\1\u0263\124\0\1\u05db\45\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\3\6\1\u05dc\2\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\3\6\1\u0433\13\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\6\6\1\u05dd\10\6\1\5\1\0"
-			+ "\25\6\14\0\1\u05de\126\0\1\u05df\111\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\1\6\1\u05e0\15\6" + "\1\5\1\0\25\6\73\0\1\u05e1\46\0\1\u05e2\173\0"
-			+ "\1\u05e3\104\0\1\u05e4\65\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\2\6\1\u05e5\3\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\5\6\1\u05e6\1\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\1\6"
-			+ "\1\u05e7\15\6\1\5\1\0\25\6\66\0\1\u05e8\40\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\4\6\1\u05e9\1\6\2\0\6\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\1\u0232\5\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\4\6\1\u05ea\20\6" + "\1\0\1\5\7\6\2\0";
-
-	private static final String ZZ_TRANS_PACKED_1 = "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\2\6\1\u05eb\3\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\6\1\u05ec\4\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\2\6\1\u05ed\14\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\5\6\1\u05ee\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\4\6\1\u05ef\1\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\1\u05f0\2\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\1\u05f1\16\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\1\0\1\u05f2\6\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\3\6\1\u052d\13\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\6\6\1\u05f3" + "\10\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\1\6\1\u05f4\4\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\4\6\1\u05f5\1\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\1\6\1\u05f6\15\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\2\6\1\u05f7\3\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\6\6\1\u05f8\10\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\3\6\1\u05f9\2\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\1\0\1\u05fa\5\6"
-			+ "\1\u05fb\13\0\15\6\1\u05fc\1\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\5\6\1\u01eb\2\0\6\6" + "\13\0\17\6\1\5\1\0\4\6\1\u0576\20\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\u05fd\5\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\1\6\1\u05fe\15\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\5\6\1\u05ff\17\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\1\6\1\u0600\15\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\15\6\1\u0295" + "\1\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\4\6\1\u0601\12\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\2\6\1\u0602\3\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\5\6\1\u0130" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\4\6\1\u043f\12\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\2\6\1\u0603\3\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\4\6\1\u0604\12\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\3\6\1\u0605\2\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\5\6\1\u0606\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\3\6\1\u0607\2\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\u0608\5\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\41\0\1\u0515\100\0" + "\1\u0609\112\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6" + "\1\u060a\3\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\5\6\1\u060b\1\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\5\6\1\u060c\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\13\6\1\u060d\11\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\1\u060e\5\6\2\0\6\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\3\6\1\u060f\2\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\6\6\1\u0610\10\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\3\6" + "\1\u0611\2\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\1\u0612\2\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\3\6\1\u0613\2\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\1\6\1\u0614\15\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u0615"
-			+ "\2\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\1\6\1\u043f\1\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\7\6\1\u0616\7\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\7\6\1\u0617\7\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\2\6\1\u0618\5\6\1\u0619\14\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\u061a\5\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\13\6\1\u0165\3\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\3\6\1\u0130\2\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\2\6\1\u061b\14\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\2\6\1\u061c\3\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\4\6\1\u061d\1\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\37\0\1\u04bc\152\0\1\u03b3\42\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\6\1\u061e\4\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\1\6\1\u061f\15\6"
-			+ "\1\5\1\0\25\6\31\0\1\u0620\162\0\1\u0621\40\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\2\6" + "\1\u0622\14\6\1\5\1\0\25\6\61\0\1\u041a\106\0"
-			+ "\1\u0623\124\0\1\u0624\124\0\1\u0625\66\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\1\6\1\u0626\4\6\2\0\6\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\1\6\1\u0627\15\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\5\6"
-			+ "\1\u047d\13\0\17\6\1\5\1\0\25\6\73\0\1\u0628" + "\33\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\4\6\1\u0629" + "\1\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\1\6\1\u062a\1\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\6\1\u062b\4\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\7\6\1\u062c\7\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\4\6\1\u062d"
-			+ "\1\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\4\6\1\u062e\1\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u062f\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\2\6\1\u0630\3\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\1\6\1\u0631\15\6\1\5\1\0\25\6\103\0\1\u0632"
-			+ "\23\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\1\u02cc\24\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\2\6\1\u0633\3\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\11\6\1\u038c\5\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\17\6\1\5\1\0\15\6\1\u0299\7\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\13\6" + "\1\u0634\3\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\13\6\1\u02cc\3\6"
-			+ "\1\5\1\0\25\6\114\0\1\u0635\12\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\1\0\1\u0636\6\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\3\6\1\u0637\2\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u0638"
-			+ "\2\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\1\6\1\300\1\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\1\u0639\16\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\1\u063a\2\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\1\u0130\16\6" + "\1\5\1\0\25\6\1\0\1\5\5\6\1\u063b\1\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\6"
-			+ "\1\u063c\4\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\3\6\1\u063d\2\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\1\u063e\5\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\5\6\1\300\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\2\6" + "\1\u063f\14\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\1\6\1\u0640\15\6"
-			+ "\1\5\1\0\25\6\73\0\1\u0641\33\0\1\5\7\6" + "\2\0\1\123\1\6\1\u0642\1\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\4\6\1\u0643\1\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\1\6\1\u0644" + "\1\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\3\6" + "\1\u0645\13\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\6\6\1\u0646\10\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\1\u0647\5\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\1\6\1\u0334\1\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\u0648\5\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\1\6\1\u0649\4\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\14\6\1\u064a\2\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\1\u064b\2\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\2\6\1\u063d\3\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\17\6\1\u029a\5\6"
-			+ "\1\0\1\5\5\6\1\u064c\1\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\4\6\1\u064d"
-			+ "\1\u01eb\2\0\6\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\1\u064e\5\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\3\6\1\u064f\2\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\2\6\1\u0650" + "\22\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\2\6" + "\1\u0651\3\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\6\1\u0652\4\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\2\6\1\u0653\3\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\6\6\1\u0654\10\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\1\6\1\u0130" + "\1\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\44\0" + "\1\u0655\145\0\1\u0656\42\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\6\6\1\u0657\10\6\1\5\1\0"
-			+ "\25\6\73\0\1\u0658\72\0\1\u0515\153\0\1\u0659\40\0" + "\1\5\7\6\2\0\1\123\1\u065a\2\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\1\6\1\u065b\1\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\70\0\1\u065c\36\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\3\6\1\u065d\2\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\6\6\1\u065e\10\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\15\6\1\u065f\7\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\3\6\1\u0660\2\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\2\6\1\u0661\3\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\6\6\1\u027d\10\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\4\6\1\u03d6\12\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\1\6\1\u0662\1\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\2\6\1\u038c\14\6\1\5" + "\1\0\25\6\66\0\1\u0663\40\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\7\6\1\u0664\7\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\u0665" + "\2\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\16\0" + "\1\u0666\211\0\1\u0667\24\0\1\5\7\6\2\0\1\123"
-			+ "\1\6\1\u0668\1\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u0669"
-			+ "\5\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\6\1\u066a\4\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\1\6\1\u066b\1\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\4\6\1\u066c\1\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\1\u066d\5\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\4\6\1\u04a2\1\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\5\6\1\u066e\1\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\4\6\1\u066f\1\u01eb\2\0\6\6\13\0\17\6" + "\1\5\1\0\15\6\1\u0670\1\6\1\u0671\5\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6"
-			+ "\1\5\1\0\2\6\1\u048c\22\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\6\1\u063f\4\6\13\0\17\6" + "\1\5\1\0\25\6\60\0\1\u0672\46\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\2\6\1\u0673\3\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\3\6\1\u0674\2\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\4\6\1\u0675\12\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\2\6\1\u0676\3\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\1\6\1\u0677\1\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\5\6\1\u0279\1\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\4\6\1\u066f\1\6\2\0\6\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\1\6\1\u0678" + "\15\6\1\u0671\5\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\4\6\1\u04a2\12\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\17\6\1\5\1\0\2\6\1\u0679\22\6\1\0" + "\1\5\7\6\2\0\1\123\1\6\1\u0631\1\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\4\6\1\u067a\1\6\13\0\1\6"
-			+ "\1\u067b\15\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\6\6\1\u067c\10\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\1\6\1\u067d\4\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\4\6"
-			+ "\1\u067e\1\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\u067f\5\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\1\6\1\u0680\4\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u0681\2\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\1\6\1\u0682\1\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\1\u02e7\5\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\41\0\1\u0683\145\0\1\u0684\45\0" + "\1\5\7\6\2\0\1\123\2\6\1\u0685\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\41\0\1\u0686\101\0\1\u0687"
-			+ "\111\0\1\5\7\6\2\0\1\123\1\6\1\u0688\1\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\12\6\1\u0689" + "\4\6\1\5\1\0\25\6\41\0\1\u068a\65\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\13\6\1\u0528"
-			+ "\3\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\u068b\5\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\6" + "\1\u068c\4\6\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\u068d\5\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\1\0\1\u068e\6\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\1\u068f" + "\5\6\13\0\17\6\1\5\1\0\25\6\67\0\1\u0690"
-			+ "\37\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\2\6\1\u0527"
-			+ "\3\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\6\1\u0691\4\6\13\0" + "\17\6\1\5\1\0\25\6\27\0\1\u0692\40\0\1\u0693"
-			+ "\14\0\1\u0694\10\0\1\u0695\40\0\1\u0696\75\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\2\6\1\u0697" + "\14\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\6\6\1\u0698\10\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\2\6\1\u0699\3\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\2\6\1\u05bc\14\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\3\6\1\u069a\2\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\6\6\1\u069b\10\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\1\6\1\u069c\15\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\4\6\1\u069d"
-			+ "\1\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\1\6\1\u069e\4\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\6\6\1\u069f\10\6\1\5"
-			+ "\1\0\25\6\37\0\1\u06a0\67\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\6\1\u05bc\4\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\5\6\1\u06a1\13\0\17\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\1\6"
-			+ "\1\u06a2\15\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\6\1\u06a3\4\6\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\6\6\13\0\16\6\1\u038c\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\1\6\1\u0505"
-			+ "\4\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\6\6\1\u06a4" + "\10\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\3\6\1\u06a5\2\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\1\6" + "\1\u06a6\1\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\2\6\1\u06a7" + "\3\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\2\6\1\u06a8\3\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\6\6\1\u06a9\10\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\6\1\u06aa\4\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\1\0\1\u06ab\6\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\1\u06ac\5\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\2\6\1\u06ad\14\6\1\5\1\0\25\6"
-			+ "\37\0\1\u0515\150\0\1\u06ae\44\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\6\6\1\u06af\10\6\1\5" + "\1\0\25\6\75\0\1\u06b0\123\0\1\u06b1\33\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\2\6\1\u027d"
-			+ "\14\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\2\6\1\u06b2\3\6\13\0\17\6\1\5" + "\1\0\25\6\64\0\1\u06b3\42\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\6\6\1\u06b4\10\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\1\6\1\u06b5\15\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\4\6\1\u066f\1\6\2\0" + "\6\6\13\0\17\6\1\5\1\0\25\6\7\0\1\u06b6"
-			+ "\117\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\6\6\1\u06b7\10\6\1\5\1\0\25\6\63\0\1\u06b8" + "\43\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u02c0" + "\2\6\13\0\17\6\1\5\1\0\25\6\61\0\1\u06b9"
-			+ "\125\0\1\u06ba\61\0\1\u0683\150\0\1\u06bb\131\0\1\u06bc" + "\62\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\1\6\1\u02cf\15\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\5\6\1\u06bd\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\3\6\1\u06be\2\6\13\0\17\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\5\6" + "\1\u06bf\13\0\17\6\1\5\1\0\25\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\2\6\1\u06c0\3\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0" + "\1\123\1\6\1\u03be\1\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\2\6\1\u06c1" + "\14\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\3\6\1\u06c2\2\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\2\6\1\u06c3\3\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\2\6\1\u06c4\14\6\1\5\1\0\25\6\34\0\1\u06c5"
-			+ "\72\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\5\6\1\u06c6"
-			+ "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\2\6\1\u06c7\14\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\3\6\1\u06c8\2\6\13\0\17\6\1\5\1\0"
-			+ "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\17\6\1\5\1\0\1\u04a2\24\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\5\6\1\u0528\13\0\17\6" + "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123"
-			+ "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6" + "\2\0\5\6\1\u06c9\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\4\6\1\u0188"
-			+ "\1\6\13\0\17\6\1\5\1\0\25\6\1\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\3\6\1\u06ca\2\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\2\6\1\u0347\14\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\2\6\1\u06cb\3\6\13\0\17\6\1\5\1\0\25\6" + "\75\0\1\u06cc\31\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\1\6\1\u06cd\15\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u01e6"
-			+ "\2\6\13\0\17\6\1\5\1\0\25\6\41\0\1\u06ce" + "\65\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\4\6\1\u06a3\12\6\1\5\1\0\25\6\42\0\1\u06cf"
-			+ "\175\0\1\u06d0\14\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\6\1\u06d1\4\6\13\0\17\6\1\5\1\0\25\6" + "\66\0\1\u06d2\40\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\3\6\1\u06d3\2\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\5\6\1\u03b7\11\6\1\5\1\0\25\6\61\0\1\u06d4" + "\45\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\3\6\1\u06d5" + "\2\6\13\0\17\6\1\5\1\0\25\6\43\0\1\u06d6"
-			+ "\77\0\1\u06d7\124\0\1\u06d8\177\0\1\u06d9\76\0\1\u06da" + "\67\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\1\u06db\5\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\2\6\1\u06dc\14\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\5\6\1\u06dd\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\5\6\1\u0417" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\2\6\1\u06de\3\6\13\0\17\6"
-			+ "\1\5\1\0\25\6\1\0\1\5\7\6\2\0\1\123" + "\3\6\1\0\1\6\1\0\1\5\1\6\3\0\6\6"
-			+ "\2\0\6\6\13\0\13\6\1\u05bc\3\6\1\5\1\0" + "\25\6\1\0\1\5\7\6\2\0\1\123\3\6\1\0"
-			+ "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6" + "\13\0\4\6\1\u06df\12\6\1\5\1\0\25\6\1\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\1\u0601\5\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\65\0\1\u06e0\41\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5" + "\1\0\10\6\1\u06e1\14\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\6\6\1\u06e2\10\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\1\u0594\5\6\13\0\17\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\1\u06e3\5\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\7\6\1\u06e4\7\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u06e5\2\6\13\0\17\6\1\5\1\0\25\6" + "\41\0\1\u06e6\65\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\1\6\1\u06e7\4\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\30\0\1\u06e8\52\0\1\u06e9\37\0\1\u06ea\171\0\1\u06eb" + "\45\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\5\6\1\u06ec" + "\13\0\17\6\1\5\1\0\25\6\67\0\1\u06ed\37\0"
-			+ "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0" + "\1\5\1\6\3\0\6\6\2\0\4\6\1\u06ee\1\6"
-			+ "\13\0\17\6\1\5\1\0\25\6\15\0\1\u06ef\111\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\4\6\1\u06f0\1\6" + "\13\0\17\6\1\5\1\0\25\6\41\0\1\u06f1\157\0"
-			+ "\1\u0515\63\0\1\u06f2\163\0\1\u06f3\76\0\1\u06f4\66\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\6\6" + "\1\u06f5\10\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\1\u040c\5\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\5\6\1\u06f6\1\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\15\6\1\u06f7\7\6\1\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\6\6\1\u0536"
-			+ "\10\6\1\5\1\0\25\6\64\0\1\u06f8\42\0\1\5" + "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5"
-			+ "\1\6\3\0\6\6\2\0\2\6\1\u06f9\3\6\13\0" + "\17\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\1\6\1\u06fa\1\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\3\6\1\u06fb\2\6\13\0\17\6\1\5\1\0\25\6" + "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\1\0\1\u06fc\6\6" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\7\6\1\u06fd\7\6"
-			+ "\1\5\1\0\25\6\62\0\1\u06fe\44\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\1\0\1\u06ff\6\6\13\0\17\6\1\5" + "\1\0\25\6\43\0\1\u0700\146\0\1\u0701\134\0\1\u05c4"
-			+ "\114\0\1\u05c4\44\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\6\6\1\u0702\10\6\1\5\1\0\25\6" + "\42\0\1\u0703\64\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\6\6\1\u0704\10\6\1\5\1\0\25\6"
-			+ "\37\0\1\u0705\67\0\1\5\7\6\2\0\1\123\3\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\1\u0362\5\6"
-			+ "\2\0\6\6\13\0\17\6\1\5\1\0\25\6\34\0" + "\1\u02e9\50\0\1\u0706\63\0\1\u05c4\150\0\1\u0707\101\0"
-			+ "\1\u0708\64\0\1\5\7\6\2\0\1\123\3\6\1\0" + "\1\6\1\0\1\5\1\6\3\0\6\6\2\0\6\6"
-			+ "\13\0\4\6\1\u0528\12\6\1\5\1\0\25\6\1\0" + "\1\5\7\6\2\0\1\123\3\6\1\0\1\6\1\0"
-			+ "\1\5\1\6\3\0\6\6\2\0\6\6\13\0\1\u0709" + "\16\6\1\5\1\0\25\6\1\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\1\6\1\u070a\15\6\1\5"
-			+ "\1\0\25\6\41\0\1\u070b\65\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\6\1\u070c\4\6\13\0\17\6\1\5" + "\1\0\25\6\1\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\6\6\13\0\13\6\1\u0130\3\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\1\6\1\u070d\1\6" + "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0"
-			+ "\6\6\13\0\17\6\1\5\1\0\25\6\117\0\1\u070e" + "\7\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\1\0\1\u070f\6\6" + "\13\0\17\6\1\5\1\0\25\6\66\0\1\u0710\153\0"
-			+ "\1\u0711\72\0\1\u0712\104\0\1\u0713\66\0\1\5\7\6" + "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6"
-			+ "\3\0\6\6\2\0\6\6\13\0\1\6\1\u0714\15\6" + "\1\5\1\0\25\6\43\0\1\u0715\63\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\6\6\13\0\17\6\1\5\1\0"
-			+ "\1\u0716\24\6\40\0\1\u0717\154\0\1\u0718\75\0\1\u0719" + "\152\0\1\u071a\42\0\1\5\7\6\2\0\1\123\3\6"
-			+ "\1\0\1\6\1\0\1\5\1\6\3\0\6\6\2\0" + "\3\6\1\u071b\2\6\13\0\17\6\1\5\1\0\25\6"
-			+ "\1\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6" + "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0"
-			+ "\6\6\1\u05d0\10\6\1\5\1\0\25\6\63\0\1\u071c" + "\43\0\1\5\7\6\2\0\1\123\3\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\5\6\1\u0367" + "\13\0\17\6\1\5\1\0\25\6\1\0\1\5\7\6"
-			+ "\2\0\1\123\3\6\1\0\1\6\1\0\1\5\1\6" + "\3\0\6\6\2\0\1\u0528\5\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\41\0\1\u071d\202\0\1\u071e\47\0\1\u071f"
-			+ "\103\0\1\u0720\173\0\1\u0721\127\0\1\u0722\40\0\1\5" + "\7\6\2\0\1\123\1\6\1\u0723\1\6\1\0\1\6"
-			+ "\1\0\1\5\1\6\3\0\6\6\2\0\6\6\13\0" + "\17\6\1\5\1\0\25\6\27\0\1\u0724\77\0\1\5"
-			+ "\7\6\2\0\1\123\3\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\2\6\1\u0725\3\6\13\0"
-			+ "\17\6\1\5\1\0\25\6\61\0\1\u0726\133\0\1\u0727" + "\124\0\1\u0728\76\0\1\u0729\67\0\1\5\7\6\2\0"
-			+ "\1\123\1\6\1\u0287\1\6\1\0\1\6\1\0\1\5" + "\1\6\3\0\6\6\2\0\6\6\13\0\17\6\1\5"
-			+ "\1\0\25\6\37\0\1\u072a\125\0\1\u072b\102\0\1\u071d"
-			+ "\152\0\1\u072c\113\0\1\u0692\40\0\1\u0693\14\0\1\u0694" + "\116\0\1\u0515\112\0\1\u0683\43\0\1\5\7\6\2\0"
-			+ "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0" + "\6\6\2\0\6\6\13\0\17\6\1\5\1\0\11\6"
-			+ "\1\u037b\13\6\42\0\1\u072d\64\0\1\5\7\6\2\0" + "\1\123\3\6\1\0\1\6\1\0\1\5\1\6\3\0"
-			+ "\6\6\2\0\1\6\1\u038c\4\6\13\0\17\6\1\5" + "\1\0\25\6\43\0\1\u0515\76\0\1\u072e\203\0\1\u05c4"
-			+ "\62\0\1\u072f\40\0\1\u0730\12\0\1\u0731\1\0\1\u0732"
-			+ "\106\0\1\u0733\72\0\1\u0734\156\0\1\u0735\135\0\1\u0736"
-			+ "\70\0\1\u0737\147\0\1\u0738\125\0\1\u0739\127\0\1\u073a"
-			+ "\57\0\1\u073b\171\0\1\u073c\132\0\1\u073d\76\0\1\u073e"
-			+ "\147\0\1\u073f\106\0\1\u0740\100\0\1\u0741\124\0\1\u0742"
-			+ "\154\0\1\u0743\121\0\1\u0744\103\0\1\u0745\151\0\1\u0746"
-			+ "\122\0\1\u0747\103\0\1\u0748\142\0\1\u0749\167\0\1\u0744"
-			+ "\63\0\1\u074a\162\0\1\u074b\142\0\1\u0731\132\0\1\u074c"
-			+ "\60\0\1\u074d\170\0\1\u074e\56\0\1\u074f\131\0\1\u0750"
-			+ "\125\0\1\u0751\121\0\1\u0752\130\0\1\u0753\145\0\1\u0515"
-			+ "\137\0\1\u0754\64\0\1\u0755\133\0\1\u023b\125\0\1\u0744"
-			+ "\125\0\1\u0756\101\0\1\u0757\173\0\1\u05c4\123\0\1\u0758"
-			+ "\104\0\1\u0759\147\0\1\u075a\103\0\1\u075b\127\0\1\u075c"
-			+ "\126\0\1\u05e3\151\0\1\u0515\75\0\1\u075d\147\0\1\u0624" + "\45\0";
+	private static final int[] ZZ_TRANS = JavaTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[1885];
-		int offset = 0;
-		offset = JavaTokenMaker.zzUnpackAction(JavaTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[1885];
-		int offset = 0;
-		offset = JavaTokenMaker.zzUnpackAttribute(JavaTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 200) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[1885];
-		int offset = 0;
-		offset = JavaTokenMaker.zzUnpackRowMap(JavaTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[158928];
-		int offset = 0;
-		offset = JavaTokenMaker.zzUnpackTrans(JavaTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		offset = JavaTokenMaker.zzUnpackTrans(JavaTokenMaker.ZZ_TRANS_PACKED_1, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/** zzAtEOF == true <=> the scanner is at the EOF */
 	private boolean zzAtEOF;
 
@@ -2922,7 +420,7 @@ public class JavaTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 13: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_DOCUMENTATION);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 40:
 				break;
@@ -2939,7 +437,7 @@ public class JavaTokenMaker extends AbstractJFlexCTokenMaker {
 			case 4: {
 				this.addToken(TokenTypes.ERROR_CHAR);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 43:
 				break;
@@ -2961,7 +459,7 @@ public class JavaTokenMaker extends AbstractJFlexCTokenMaker {
 			case 6: {
 				this.addToken(TokenTypes.ERROR_STRING_DOUBLE);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 47:
 				break;
@@ -3064,7 +562,7 @@ public class JavaTokenMaker extends AbstractJFlexCTokenMaker {
 			case 14: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 64:
 				break;
@@ -3075,13 +573,13 @@ public class JavaTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 5: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 66:
 				break;
 			case 12: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 67:
 				break;
@@ -3130,26 +628,26 @@ public class JavaTokenMaker extends AbstractJFlexCTokenMaker {
 					case EOL_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 1886:
 						break;
 					case DOCCOMMENT: {
 						this.yybegin(JavaTokenMaker.YYINITIAL);
 						this.addToken(this.start, this.zzEndRead, TokenTypes.COMMENT_DOCUMENTATION);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 1887:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 1888:
 						break;
 					case MLC: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 1889:
 						break;
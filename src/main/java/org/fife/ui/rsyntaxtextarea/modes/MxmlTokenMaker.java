@@ -136,52 +136,25 @@ public class MxmlTokenMaker extends AbstractMarkupTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = MxmlTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\5\0\2\1\1\0\2\1\4\0\2\2\1\3\1\4"
-			+ "\1\5\1\6\1\1\1\7\5\1\1\10\2\1\1\11" + "\1\12\2\13\1\14\1\15\1\16\1\17\1\20\1\1"
-			+ "\1\21\1\1\1\22\1\23\1\24\1\25\2\1\1\26" + "\1\2\2\27\1\2\1\30\2\14\1\2\1\14\1\31"
-			+ "\3\2\1\31\1\14\1\2\1\32\1\33\3\2\2\26" + "\1\14\3\2\2\14\25\2\1\1\1\34\5\1\1\35"
-			+ "\3\1\1\36\1\37\1\4\1\40\1\6\5\0\1\41" + "\1\0\1\26\1\42\2\43\1\27\2\42\1\44\1\42"
-			+ "\3\0\3\2\1\0\1\14\1\2\1\32\1\45\2\33" + "\1\46\5\2\1\47\3\2\1\26\1\50\1\51\21\2"
-			+ "\1\47\20\2\2\47\12\2\1\47\2\2\1\47\11\2" + "\1\52\12\0\1\53\2\0\1\54\2\0\1\55\1\26"
-			+ "\1\43\1\0\2\44\3\0\3\2\1\56\1\2\2\32" + "\1\33\1\57\1\33\6\2\1\47\4\2\1\26\1\0"
-			+ "\1\60\5\2\1\47\23\2\1\47\10\2\1\60\24\2" + "\1\47\1\2\1\60\7\2\11\0\1\61\2\0\1\62"
-			+ "\1\26\3\0\2\2\1\32\1\63\1\32\1\33\10\2" + "\1\26\1\64\6\2\1\0\1\65\13\2\1\66\3\2"
-			+ "\1\66\36\2\2\0\1\67\2\0\1\70\3\0\1\26" + "\2\0\1\2\1\32\1\33\7\2\1\26\5\2\1\47"
-			+ "\1\0\26\2\1\66\13\2\5\0\1\26\2\0\1\2" + "\1\32\1\33\6\2\1\26\5\2\1\0\30\2\3\0"
-			+ "\4\2\1\26\2\2\1\0\23\2\3\0\1\2\1\66" + "\1\2\1\47\21\2\1\71\1\0\1\72\4\2\1\66" + "\40\2";
+	private static final ScannerTables TABLES = ScannerTables.load(MxmlTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = MxmlTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\5\0\2\1\1\0\2\1\4\0\2\1\1\11\4\1"
-			+ "\1\11\5\1\1\11\2\1\2\11\2\1\4\11\2\1" + "\1\11\1\1\4\11\7\1\1\11\2\1\1\11\1\1"
-			+ "\1\11\13\1\1\11\35\1\1\11\5\1\1\11\6\1" + "\2\11\5\0\1\11\1\0\11\1\3\0\3\1\1\0"
-			+ "\3\1\1\11\2\1\1\11\12\1\1\11\74\1\1\11" + "\12\0\1\1\2\0\1\11\2\0\1\11\2\1\1\0"
-			+ "\2\1\3\0\3\1\1\11\4\1\1\11\15\1\1\0" + "\102\1\11\0\1\11\2\0\2\1\3\0\3\1\1\11"
-			+ "\13\1\1\11\6\1\1\0\57\1\2\0\1\1\2\0" + "\1\1\3\0\1\1\2\0\21\1\1\0\42\1\5\0"
-			+ "\1\1\2\0\17\1\1\0\30\1\3\0\7\1\1\0" + "\23\1\3\0\3\1\1\11\21\1\1\11\1\0\1\11" + "\45\1";
+	private static final int[] ZZ_ACTION = MxmlTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = MxmlTokenMaker.zzUnpackCMap(MxmlTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = MxmlTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\12\1\10\1\0\1\7\1\36\22\0\1\105\1\16\1\32"
-			+ "\1\37\1\40\1\63\1\13\1\31\2\73\1\42\1\51\1\61\1\50" + "\1\6\1\41\1\3\3\27\4\27\2\2\1\5\1\14\1\11\1\15"
-			+ "\1\25\1\64\1\72\1\22\1\26\1\20\1\21\1\47\1\45\1\1"
-			+ "\1\122\1\121\1\1\1\110\1\44\1\111\1\112\1\113\1\116\1\123"
-			+ "\1\120\1\66\1\23\1\117\1\115\1\1\1\43\2\1\1\17\1\30" + "\1\24\1\62\1\4\1\0\1\55\1\35\1\67\1\76\1\54\1\46"
-			+ "\1\106\1\74\1\70\1\114\1\77\1\56\1\102\1\34\1\100\1\71"
-			+ "\1\103\1\53\1\57\1\52\1\33\1\107\1\75\1\104\1\101\1\1" + "\1\60\1\62\1\60\1\65\uff81\0";
+	private static final char[] ZZ_CMAP = MxmlTokenMaker.TABLES.cmap;
+
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
 			"Error: pushback value was too large" };
@@ -192,855 +165,12 @@ public class MxmlTokenMaker extends AbstractMarkupTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = MxmlTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\124\0\250\0\374\0\u0150\0\u01a4\0\u01f8\0\u024c"
-			+ "\0\u02a0\0\u02f4\0\u0348\0\u039c\0\u03f0\0\u0444\0\u0498\0\u04ec"
-			+ "\0\u0540\0\u0594\0\u05e8\0\u063c\0\u0690\0\u0540\0\u06e4\0\u0738"
-			+ "\0\u078c\0\u07e0\0\u0834\0\u0540\0\u0888\0\u08dc\0\u0540\0\u0540"
-			+ "\0\u0930\0\u0984\0\u0540\0\u0540\0\u0540\0\u0540\0\u09d8\0\u0a2c"
-			+ "\0\u0540\0\u0a80\0\u0540\0\u0540\0\u0540\0\u0540\0\u0ad4\0\u0b28"
-			+ "\0\u0b7c\0\u0bd0\0\u0c24\0\u0c78\0\u0ccc\0\u0540\0\u0d20\0\u0d74"
-			+ "\0\u0540\0\u0dc8\0\u0540\0\u0e1c\0\u0e70\0\u0ec4\0\u0f18\0\u0f6c"
-			+ "\0\u0fc0\0\u1014\0\u1068\0\u10bc\0\u1110\0\u1164\0\u0540\0\u11b8"
-			+ "\0\u120c\0\u1260\0\u12b4\0\u1308\0\u135c\0\u13b0\0\u1404\0\u1458"
-			+ "\0\u14ac\0\u1500\0\u1554\0\u15a8\0\u15fc\0\u1650\0\u16a4\0\u16f8"
-			+ "\0\u174c\0\u17a0\0\u17f4\0\u1848\0\u189c\0\u18f0\0\u1944\0\u1998"
-			+ "\0\u19ec\0\u1a40\0\u1a94\0\u1ae8\0\u0540\0\u1b3c\0\u1b90\0\u1be4"
-			+ "\0\u1c38\0\u1c8c\0\u0540\0\u1ce0\0\u1d34\0\u1d88\0\u1ddc\0\u1e30"
-			+ "\0\u1e84\0\u0540\0\u0540\0\u1ed8\0\u1f2c\0\u1f80\0\u1fd4\0\u2028"
-			+ "\0\u0540\0\u207c\0\u20d0\0\u2124\0\u2178\0\u2124\0\u2124\0\u21cc"
-			+ "\0\u2220\0\u2274\0\u22c8\0\u0dc8\0\u231c\0\u2370\0\u23c4\0\u2418"
-			+ "\0\u246c\0\u24c0\0\u2514\0\u2568\0\u25bc\0\u0540\0\u2610\0\u2664"
-			+ "\0\u0540\0\u26b8\0\u270c\0\u2760\0\u27b4\0\u2808\0\u285c\0\u28b0"
-			+ "\0\u2904\0\u2958\0\u29ac\0\u0540\0\u2a00\0\u2a54\0\u2aa8\0\u2afc"
-			+ "\0\u2b50\0\u2ba4\0\u2bf8\0\u2c4c\0\u2ca0\0\u2cf4\0\u2d48\0\u2d9c"
-			+ "\0\u2df0\0\u2e44\0\u2e98\0\u2eec\0\u2f40\0\u2f94\0\u0bd0\0\u2fe8"
-			+ "\0\u303c\0\u3090\0\u30e4\0\u3138\0\u318c\0\u31e0\0\u3234\0\u3288"
-			+ "\0\u32dc\0\u3330\0\u3384\0\u33d8\0\u342c\0\u3480\0\u34d4\0\u3528"
-			+ "\0\u357c\0\u35d0\0\u3624\0\u3678\0\u36cc\0\u3720\0\u3774\0\u37c8"
-			+ "\0\u381c\0\u3870\0\u38c4\0\u3918\0\u396c\0\u39c0\0\u3a14\0\u3a68"
-			+ "\0\u3abc\0\u3b10\0\u3b64\0\u3bb8\0\u3c0c\0\u3c60\0\u3cb4\0\u3d08"
-			+ "\0\u0540\0\u3d5c\0\u3db0\0\u3e04\0\u3e58\0\u3eac\0\u3f00\0\u3f54"
-			+ "\0\u3fa8\0\u3ffc\0\u4050\0\u40a4\0\u40f8\0\u414c\0\u0540\0\u41a0"
-			+ "\0\u41f4\0\u0540\0\u4248\0\u429c\0\u42f0\0\u2124\0\u4344\0\u4398"
-			+ "\0\u43ec\0\u4440\0\u4494\0\u44e8\0\u453c\0\u0540\0\u4590\0\u45e4"
-			+ "\0\u4638\0\u468c\0\u0540\0\u46e0\0\u4734\0\u4788\0\u47dc\0\u4830"
-			+ "\0\u4884\0\u48d8\0\u492c\0\u4980\0\u49d4\0\u4a28\0\u4a7c\0\u4ad0"
-			+ "\0\u4b24\0\u4b78\0\u4bcc\0\u4c20\0\u4c74\0\u4cc8\0\u4d1c\0\u4d70"
-			+ "\0\u4dc4\0\u4e18\0\u4e6c\0\u4ec0\0\u4f14\0\u4f68\0\u4fbc\0\u5010"
-			+ "\0\u5064\0\u50b8\0\u510c\0\u5160\0\u51b4\0\u5208\0\u525c\0\u52b0"
-			+ "\0\u5304\0\u5358\0\u53ac\0\u5400\0\u5454\0\u54a8\0\u54fc\0\u5550"
-			+ "\0\u55a4\0\u55f8\0\u564c\0\u56a0\0\u56f4\0\u5748\0\u579c\0\u57f0"
-			+ "\0\u5844\0\u5898\0\u58ec\0\u5940\0\u5994\0\u59e8\0\u5a3c\0\u5a90"
-			+ "\0\u5ae4\0\u5b38\0\u5b8c\0\u5be0\0\u5c34\0\u5c88\0\u5cdc\0\u5d30"
-			+ "\0\u5d84\0\u5dd8\0\u5e2c\0\u0bd0\0\u5e80\0\u5ed4\0\u5f28\0\u5f7c"
-			+ "\0\u5fd0\0\u6024\0\u6078\0\u60cc\0\u6120\0\u6174\0\u61c8\0\u621c"
-			+ "\0\u6270\0\u62c4\0\u6318\0\u636c\0\u0540\0\u63c0\0\u6414\0\u6468"
-			+ "\0\u64bc\0\u6510\0\u6564\0\u65b8\0\u660c\0\u6660\0\u66b4\0\u0540"
-			+ "\0\u6708\0\u675c\0\u67b0\0\u6804\0\u6858\0\u68ac\0\u6900\0\u6954"
-			+ "\0\u69a8\0\u69fc\0\u6a50\0\u0540\0\u6aa4\0\u6af8\0\u6b4c\0\u6ba0"
-			+ "\0\u6bf4\0\u6c48\0\u6c9c\0\u0bd0\0\u6cf0\0\u6d44\0\u6d98\0\u6dec"
-			+ "\0\u6e40\0\u6e94\0\u6ee8\0\u6f3c\0\u6f90\0\u6fe4\0\u7038\0\u0bd0"
-			+ "\0\u708c\0\u70e0\0\u7134\0\u7188\0\u71dc\0\u7230\0\u7284\0\u72d8"
-			+ "\0\u732c\0\u7380\0\u73d4\0\u7428\0\u747c\0\u74d0\0\u7524\0\u7578"
-			+ "\0\u75cc\0\u7620\0\u7674\0\u76c8\0\u771c\0\u7770\0\u77c4\0\u7818"
-			+ "\0\u786c\0\u78c0\0\u7914\0\u7968\0\u79bc\0\u7a10\0\u7a64\0\u7ab8"
-			+ "\0\u7b0c\0\u7b60\0\u7bb4\0\u7c08\0\u7c5c\0\u7cb0\0\u7d04\0\u7d58"
-			+ "\0\u7dac\0\u7e00\0\u6468\0\u7e54\0\u7ea8\0\u7efc\0\u7f50\0\u7fa4"
-			+ "\0\u7ff8\0\u804c\0\u80a0\0\u80f4\0\u8148\0\u819c\0\u81f0\0\u8244"
-			+ "\0\u8298\0\u82ec\0\u8340\0\u8394\0\u83e8\0\u843c\0\u8490\0\u84e4"
-			+ "\0\u8538\0\u858c\0\u85e0\0\u8634\0\u8688\0\u86dc\0\u8730\0\u8784"
-			+ "\0\u87d8\0\u882c\0\u8880\0\u88d4\0\u8928\0\u897c\0\u89d0\0\u8a24"
-			+ "\0\u8a78\0\u8acc\0\u8b20\0\u8b74\0\u8bc8\0\u8c1c\0\u8c70\0\u8cc4"
-			+ "\0\u8d18\0\u8d6c\0\u8dc0\0\u8e14\0\u8e68\0\u8ebc\0\u8f10\0\u8f64"
-			+ "\0\u8fb8\0\u900c\0\u9060\0\u7c5c\0\u90b4\0\u7d58\0\u9108\0\u915c"
-			+ "\0\u91b0\0\u9204\0\u9258\0\u92ac\0\u9300\0\u9354\0\u93a8\0\u93fc"
-			+ "\0\u9450\0\u94a4\0\u94f8\0\u954c\0\u95a0\0\u95f4\0\u9648\0\u969c"
-			+ "\0\u96f0\0\u9744\0\u9798\0\u97ec\0\u9840\0\u9894\0\u98e8\0\u993c"
-			+ "\0\u9990\0\u99e4\0\u9a38\0\u9a8c\0\u9ae0\0\u9b34\0\u9b88\0\u9bdc"
-			+ "\0\u9c30\0\u9c84\0\u9cd8\0\u9d2c\0\u9d80\0\u9dd4\0\u9e28\0\u9e7c"
-			+ "\0\u9ed0\0\u9f24\0\u9f78\0\u9fcc\0\ua020\0\ua074\0\ua0c8\0\ua11c"
-			+ "\0\ua170\0\ua1c4\0\ua218\0\ua26c\0\ua2c0\0\ua314\0\ua368\0\ua3bc"
-			+ "\0\ua410\0\ua464\0\ua4b8\0\ua50c\0\ua560\0\ua5b4\0\ua608\0\ua65c"
-			+ "\0\ua6b0\0\ua704\0\ua758\0\ua7ac\0\ua800\0\ua854\0\ua8a8\0\ua8fc"
-			+ "\0\ua950\0\ua9a4\0\ua9f8\0\uaa4c\0\u0b7c\0\uaaa0\0\u0540\0\uaaf4"
-			+ "\0\uab48\0\uab9c\0\uabf0\0\uac44\0\uac98\0\uacec\0\uad40\0\uad94"
-			+ "\0\uade8\0\uae3c\0\uae90\0\uaee4\0\uaf38\0\uaf8c\0\uafe0\0\ub034"
-			+ "\0\u0540\0\ub088\0\u0540\0\ub0dc\0\ub130\0\ub184\0\ub1d8\0\ub22c"
-			+ "\0\ub280\0\ub2d4\0\ub328\0\ub37c\0\ub3d0\0\ub424\0\ub478\0\ub4cc"
-			+ "\0\ub520\0\ub574\0\ub5c8\0\ub61c\0\ub670\0\ub6c4\0\ub718\0\ub76c"
-			+ "\0\ub7c0\0\ub814\0\ub868\0\ub8bc\0\ub910\0\ub964\0\ub9b8\0\uba0c"
-			+ "\0\uba60\0\ubab4\0\ubb08\0\ubb5c\0\ubbb0\0\ubc04\0\ubc58\0\ubcac";
+	private static final int[] ZZ_ROWMAP = MxmlTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = MxmlTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\7\17\1\20\1\21\1\22\1\23\1\24\71\17\1\23"
-			+ "\16\17\10\25\1\26\35\25\1\27\1\25\1\30\23\25" + "\1\31\1\32\26\25\10\33\1\34\53\33\1\35\37\33"
-			+ "\10\36\1\37\14\36\1\40\76\36\7\41\1\42\1\0" + "\1\41\1\23\2\41\1\43\7\41\1\44\3\41\1\45"
-			+ "\1\46\6\41\1\47\43\41\1\23\16\41\32\50\1\51" + "\71\50\31\52\1\51\72\52\7\41\1\42\1\0\1\41"
-			+ "\1\23\2\41\1\43\7\41\1\53\3\41\1\54\1\55" + "\6\41\1\47\43\41\1\23\16\41\32\50\1\56\71\50"
-			+ "\31\52\1\56\72\52\24\57\1\60\77\57\1\61\1\62" + "\1\63\1\64\1\62\1\43\1\65\1\23\1\66\1\67"
-			+ "\1\23\1\70\1\71\2\72\1\73\1\74\1\75\1\76" + "\1\62\1\77\1\100\1\101\1\63\1\61\1\102\1\103"
-			+ "\1\104\1\105\1\106\1\107\1\110\1\62\1\111\1\72" + "\1\112\1\62\1\113\1\114\1\62\1\115\1\116\1\117"
-			+ "\1\120\1\121\1\122\1\123\1\124\1\73\1\71\2\72" + "\2\43\1\125\1\126\1\127\1\130\1\61\1\73\1\62"
-			+ "\1\131\1\132\1\62\1\133\1\62\1\134\2\62\1\23" + "\1\135\1\136\1\137\1\140\1\141\1\142\1\62\1\143"
-			+ "\6\62\10\144\1\145\31\144\1\146\3\144\1\147\25\144"
-			+ "\1\150\1\151\26\144\10\152\1\153\35\152\1\154\25\152" + "\1\155\1\156\26\152\10\17\4\0\71\17\1\0\25\17"
-			+ "\1\20\2\0\1\23\1\0\71\17\1\23\16\17\125\0" + "\1\157\3\0\1\157\10\0\1\160\1\0\4\157\2\0"
-			+ "\1\157\4\0\3\157\3\0\1\161\1\0\5\157\2\0" + "\6\157\4\0\1\162\1\0\4\157\2\0\11\157\1\0"
-			+ "\16\157\7\0\1\23\2\0\1\23\72\0\1\23\16\0" + "\12\24\1\0\1\24\1\163\70\24\1\0\16\24\10\25"
-			+ "\1\0\35\25\1\0\1\25\1\0\23\25\2\0\26\25" + "\52\0\1\164\15\0\1\165\103\0\1\166\125\0\1\167"
-			+ "\146\0\1\170\26\0\10\33\1\0\53\33\1\0\37\33" + "\25\0\1\171\76\0\10\36\1\0\14\36\1\0\76\36"
-			+ "\10\41\1\0\1\41\1\0\2\41\1\0\7\41\1\0" + "\3\41\2\0\6\41\1\0\43\41\1\0\25\41\1\42"
-			+ "\1\0\1\41\1\23\2\41\1\0\7\41\1\0\3\41" + "\2\0\6\41\1\0\43\41\1\23\16\41\25\0\1\44"
-			+ "\76\0\32\50\1\0\71\50\31\52\1\0\72\52\24\57" + "\1\0\77\57\24\0\1\172\77\0\5\61\13\0\4\61"
-			+ "\2\0\3\61\2\0\3\61\1\0\2\61\2\0\5\61" + "\2\0\6\61\6\0\5\61\1\0\11\61\1\0\17\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0"
-			+ "\4\62\1\61\1\0\11\62\1\0\16\62\2\174\2\63" + "\1\174\1\0\1\175\11\0\1\174\1\176\2\174\2\0"
-			+ "\1\174\1\63\1\174\2\0\3\174\1\0\2\174\2\0" + "\1\174\1\177\2\176\1\200\2\0\2\174\1\200\1\174"
-			+ "\1\177\1\174\6\0\5\174\1\0\2\174\1\176\6\174" + "\1\0\20\174\1\201\1\202\1\174\1\0\1\175\11\0"
-			+ "\1\174\1\176\2\174\2\0\1\174\1\202\1\174\2\0" + "\3\174\1\0\2\174\2\0\1\203\1\177\2\176\1\200"
-			+ "\2\0\2\174\1\200\1\174\1\177\1\174\6\0\5\174" + "\1\0\2\174\1\176\5\174\1\203\1\0\16\174\2\0"
-			+ "\2\175\23\0\1\175\105\0\1\204\3\0\1\43\1\205" + "\22\0\1\206\75\0\1\43\1\0\1\43\123\0\1\43"
-			+ "\106\0\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\6\62\6\0\4\62\1\61\1\0\4\62\1\207\4\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\3\62\1\210\2\62\6\0\4\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\1\62\1\211\4\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\24\0\1\212\114\0\1\43"
-			+ "\7\0\1\213\76\0\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\6\62\6\0\4\62\1\61\1\0\4\62" + "\1\214\4\62\1\0\16\62\30\102\1\215\1\216\72\102"
-			+ "\10\103\1\217\17\103\1\220\1\103\1\221\71\103\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\1\62"
-			+ "\1\222\1\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\5\62\1\223\6\0\2\62\1\224\1\225\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\1\226\2\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\2\62\1\227\1\230\2\62\6\0" + "\4\62\1\61\1\0\4\62\1\231\4\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\1\62"
-			+ "\1\232\4\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\5\61\13\0\4\61\2\0\3\61\2\0\3\61"
-			+ "\1\0\2\61\2\0\5\61\2\0\6\61\6\0\2\61" + "\1\233\2\61\1\0\11\61\1\0\16\61\15\0\1\43"
-			+ "\23\0\1\234\1\235\61\0\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\3\62\1\236\12\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\1\237\2\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\1\240\2\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\3\62\1\241\1\62" + "\1\242\6\0\2\62\1\243\1\62\1\61\1\0\4\62"
-			+ "\1\244\4\62\1\0\16\62\15\0\1\43\32\0\1\43" + "\70\0\1\43\33\0\1\43\52\0\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\1\62\1\245\1\246\1\247"
-			+ "\2\62\6\0\4\62\1\61\1\0\1\250\3\62\1\251" + "\1\252\3\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\2\62\1\253\1\254\2\62\6\0"
-			+ "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\4\62\1\255\1\256" + "\6\0\4\62\1\61\1\0\7\62\1\257\1\260\1\0"
-			+ "\1\62\1\261\14\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\1\62\1\262\1\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61" + "\1\0\2\62\1\262\6\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\1\257\1\62\1\257"
-			+ "\1\263\2\62\6\0\4\62\1\61\1\0\4\62\1\264" + "\4\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\1\265\2\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\1\266\1\62\1\267\3\62\6\0"
-			+ "\1\62\1\270\2\62\1\61\1\0\1\62\1\271\7\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\1\272\1\62\1\273\3\62\6\0\4\62\1\61"
-			+ "\1\0\4\62\1\274\4\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\3\62\1\275\1\276" + "\1\62\6\0\4\62\1\61\1\0\4\62\1\277\4\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\1\62\1\300\1\62\1\0\1\61\1\62"
-			+ "\2\0\3\62\1\301\1\62\2\0\5\62\1\302\6\0" + "\4\62\1\61\1\0\6\62\1\303\2\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\1\304\2\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\1\62\1\305\1\62\1\306\1\307\1\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\2\62\1\310"
-			+ "\1\62\1\61\1\0\1\311\10\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\2\62\1\312" + "\3\62\6\0\4\62\1\61\1\0\4\62\1\257\1\313"
-			+ "\3\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\1\62\1\314\1\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\1\62\1\257\4\62\6\0" + "\4\62\1\61\1\0\11\62\1\0\1\62\1\315\14\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\3\62"
-			+ "\1\316\2\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\1\257\1\62\1\317\3\62\6\0\4\62\1\61\1\0"
-			+ "\4\62\1\320\4\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\3\62\1\321\2\62\6\0" + "\4\62\1\61\1\0\4\62\1\322\4\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\2\62"
-			+ "\1\323\3\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\3\62\1\324\2\62\6\0\4\62\1\61\1\0\4\62"
-			+ "\1\325\4\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\1\326\2\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\2\62\1\327\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\2\62\1\330\3\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\10\144\1\0\31\144"
-			+ "\1\0\3\144\1\0\25\144\2\0\26\144\41\0\1\331" + "\134\0\1\332\15\0\1\333\105\0\1\334\146\0\1\335"
-			+ "\26\0\10\152\1\0\35\152\1\0\25\152\2\0\26\152" + "\52\0\1\336\15\0\1\337\105\0\1\340\146\0\1\341"
-			+ "\27\0\3\157\1\0\2\157\11\0\4\157\2\0\2\157" + "\3\0\3\157\5\0\6\157\1\0\6\157\6\0\4\157"
-			+ "\2\0\11\157\1\0\16\157\17\0\1\342\30\0\1\343" + "\54\0\1\344\3\0\1\344\12\0\4\344\2\0\1\344"
-			+ "\4\0\3\344\5\0\5\344\2\0\6\344\6\0\4\344" + "\2\0\11\344\1\0\16\344\71\0\1\345\110\0\1\346"
-			+ "\72\0\1\347\150\0\1\350\146\0\1\351\53\0\1\352" + "\76\0\5\61\13\0\4\61\2\0\3\61\2\0\1\353"
-			+ "\2\61\1\0\2\61\2\0\5\61\2\0\6\61\6\0" + "\5\61\1\0\11\61\1\0\16\61\5\174\13\0\4\174"
-			+ "\2\0\3\174\2\0\3\174\1\0\2\174\2\0\5\174" + "\2\0\6\174\6\0\5\174\1\0\11\174\1\0\20\174"
-			+ "\2\175\1\174\13\0\1\174\1\176\2\174\2\0\1\174" + "\1\175\1\174\2\0\3\174\1\0\2\174\2\0\2\174"
-			+ "\2\176\1\200\2\0\2\174\1\200\3\174\6\0\5\174" + "\1\0\2\174\1\176\6\174\1\0\20\174\2\354\1\174"
-			+ "\13\0\4\174\2\0\1\174\1\354\1\174\2\0\3\174" + "\1\0\2\174\2\0\5\174\2\355\6\174\6\0\5\174"
-			+ "\1\0\11\174\1\0\20\174\2\201\1\174\1\0\1\175" + "\11\0\1\174\1\176\2\174\2\0\1\174\1\201\1\174"
-			+ "\2\0\3\174\1\0\2\174\2\0\2\174\2\176\1\200" + "\2\0\2\174\1\200\3\174\6\0\5\174\1\0\2\174"
-			+ "\1\176\6\174\1\0\20\174\1\201\1\202\1\174\1\0" + "\1\175\11\0\1\174\1\176\2\174\2\0\1\174\1\202"
-			+ "\1\174\2\0\3\174\1\0\2\174\2\0\1\174\1\356" + "\2\176\1\200\2\0\2\174\1\200\1\174\1\356\1\174"
-			+ "\6\0\5\174\1\0\2\174\1\176\6\174\1\0\20\174" + "\2\357\1\174\13\0\3\357\1\174\2\0\2\357\1\174"
-			+ "\2\0\2\174\1\357\1\0\2\174\2\0\2\174\3\357" + "\2\0\2\174\2\357\2\174\6\0\1\174\1\357\3\174"
-			+ "\1\0\2\174\1\357\6\174\1\0\16\174\17\0\1\360" + "\105\0\1\361\3\0\1\361\12\0\4\361\2\0\1\361"
-			+ "\4\0\3\361\5\0\5\361\2\0\6\361\6\0\1\362" + "\3\361\2\0\11\361\1\0\16\361\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\4\62\1\363\1\62\6\0"
-			+ "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\1\364\5\62\6\0" + "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\1\62\1\365\4\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\25\0" + "\1\366\113\0\1\43\7\0\1\72\76\0\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62"
-			+ "\1\61\1\0\4\62\1\367\4\62\1\0\16\62\3\370" + "\1\102\4\370\1\0\16\370\4\102\1\371\2\102\10\370"
-			+ "\1\102\3\370\2\102\50\370\30\217\1\372\1\217\1\373" + "\74\217\1\103\4\217\1\0\16\217\4\103\1\374\2\103"
-			+ "\10\217\1\103\3\217\2\103\50\217\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\2\62\1\375\1\62\1\376" + "\1\62\6\0\4\62\1\61\1\0\2\62\1\377\6\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\2\62\1\257\3\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\1\62\1\u0100\1\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0" + "\2\62\1\u0101\6\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\4\62\1\u0102\1\62\6\0"
-			+ "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62" + "\1\61\1\0\1\62\1\u0103\6\62\1\u0104\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\1\u0105"
-			+ "\5\62\6\0\4\62\1\61\1\0\6\62\1\u0106\2\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\1\257\5\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\2\62\1\u0107\3\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\5\61\13\0\4\61\2\0\3\61"
-			+ "\2\0\1\61\1\u0108\1\61\1\0\2\61\2\0\5\61" + "\2\0\6\61\6\0\5\61\1\0\11\61\1\0\16\61"
-			+ "\42\0\1\u0109\61\0\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\1\62\1\u010a\3\62\2\0\6\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\1\62\1\u010b\1\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\1\62\1\u010c\1\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0" + "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\4\62\1\u010d\1\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0" + "\1\62\1\u010e\2\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\1\62\1\u010f\1\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\1\62\1\u0110\4\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\1\u0111\2\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\3\62\1\u0112\2\62\6\0\4\62\1\61" + "\1\0\5\62\1\257\3\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\4\62\1\u0113\1\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\1\62\1\u0114" + "\4\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\1\62"
-			+ "\1\u0115\4\62\6\0\2\62\1\u0116\1\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\6\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\1\u0117\15\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\6\62\6\0\3\62\1\u0118\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\1\u0119\5\62\6\0\4\62\1\61\1\0"
-			+ "\6\62\1\u011a\2\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\1\62\1\u011b\1\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0" + "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\5\62\1\223\6\0"
-			+ "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\1\62" + "\1\u011c\2\62\1\61\1\0\11\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\1\u011d\5\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\3\62\1\u011e" + "\2\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62"
-			+ "\6\0\4\62\1\61\1\0\2\62\1\257\6\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\2\62\1\u011f\1\0\1\61\1\62\2\0\5\62" + "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\3\62\1\u0120\2\62\6\0\4\62\1\61\1\0\11\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\6\62\6\0\3\62\1\u0121\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\3\62\1\u0122\2\62\6\0\4\62\1\61\1\0" + "\4\62\1\u0123\4\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\1\u0124\5\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\1\62\1\u0125\4\62\6\0" + "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\2\62"
-			+ "\1\u0126\1\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\1\62\1\u0127" + "\4\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\4\62"
-			+ "\1\u0128\1\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\1\u0129\2\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\1\u012a\3\62\1\u011e\1\223\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\3\62\1\u012b\2\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\1\62\1\u012c\1\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\1\u012d\5\62\6\0\1\62"
-			+ "\1\u012e\2\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\2\62\1\u012f\2\62\2\0" + "\6\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\2\62\1\u0130\2\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\4\62\1\u0131\11\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\6\62\6\0\3\62\1\u0132\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\2\62\1\u0133\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\2\62\1\u0134\3\62\6\0\2\62\1\u0135"
-			+ "\1\62\1\61\1\0\4\62\1\u0136\4\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\1\62" + "\1\u0137\4\62\6\0\1\62\1\u0138\2\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\3\62\1\u0139\2\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\1\u013a\5\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\2\62\1\u013b\1\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\3\62\1\u013c\1\62\2\0\4\62\1\u013d"
-			+ "\1\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\1\62\1\u013e\1\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\1\u013f\3\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\2\62\1\u0140\3\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\10\62\1\u0141" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\1\u0142\5\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\1\u0143\5\62\6\0\4\62\1\61\1\0\11\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\1\62\1\257\4\62\6\0\4\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\6\62\6\0\2\62\1\262\1\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0"
-			+ "\5\62\1\u0144\3\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\1\u0145\5\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\1\u0146\2\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\1\62\1\u0147\14\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\4\62\1\u0148" + "\1\62\6\0\4\62\1\61\1\0\6\62\1\u0149\2\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\6\62\1\u014a\7\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\6\62\6\0\1\62\1\u014b\2\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\71\0\1\u014c\110\0\1\u014d"
-			+ "\117\0\1\u014e\146\0\1\u014f\117\0\1\u0150\110\0\1\u0151"
-			+ "\117\0\1\u0152\146\0\1\u0153\46\0\1\u0154\153\0\1\u0155" + "\54\0\3\344\1\0\2\344\11\0\4\344\2\0\2\344"
-			+ "\3\0\3\344\5\0\6\344\1\0\6\344\6\0\4\344" + "\2\0\11\344\1\0\16\344\5\0\1\u0156\172\0\1\345"
-			+ "\140\0\1\u0157\40\0\1\u0158\115\0\2\61\2\u0159\1\61" + "\13\0\3\u0159\1\61\2\0\2\u0159\1\61\2\0\2\61"
-			+ "\1\u0159\1\0\2\61\2\0\2\61\3\u0159\2\0\2\61" + "\2\u0159\2\61\6\0\1\61\1\u0159\3\61\1\0\2\61"
-			+ "\1\u0159\6\61\1\0\16\61\2\174\2\354\1\174\13\0" + "\1\174\1\176\2\174\2\0\1\174\1\354\1\174\2\0"
-			+ "\3\174\1\0\2\174\2\0\2\174\2\176\1\174\2\0" + "\6\174\6\0\5\174\1\0\2\174\1\176\6\174\1\0"
-			+ "\16\174\2\0\2\354\23\0\1\354\74\0\2\174\2\357" + "\1\174\13\0\3\357\1\174\2\0\2\357\1\174\2\0"
-			+ "\2\174\1\357\1\0\2\174\2\0\1\174\1\356\3\357" + "\2\0\2\174\2\357\1\356\1\174\6\0\1\174\1\357"
-			+ "\3\174\1\0\2\174\1\357\6\174\1\0\16\174\20\0" + "\1\u015a\104\0\3\361\1\0\1\u015b\1\361\11\0\4\361"
-			+ "\2\0\2\361\3\0\3\361\5\0\6\361\1\0\6\361" + "\6\0\4\361\2\0\11\361\1\0\16\361\1\0\3\361"
-			+ "\1\0\1\u015b\1\361\11\0\4\361\2\0\2\361\3\0" + "\3\361\5\0\6\361\1\0\6\361\6\0\1\361\1\u015c"
-			+ "\2\361\2\0\11\361\1\0\16\361\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61" + "\1\0\4\62\1\u015d\4\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\2\62\1\u0144\3\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\3\62\1\323" + "\2\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\4\62"
-			+ "\1\u015e\1\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\30\370\1\u015f\1\u0160\74\370\2\u0161\14\370\3\u0161"
-			+ "\3\370\2\u0161\1\u015f\1\u0160\3\370\1\u0161\7\370\3\u0161"
-			+ "\4\370\2\u0161\11\370\1\u0161\6\370\1\u0161\25\370\10\217"
-			+ "\1\0\115\217\2\u0162\14\217\3\u0162\3\217\2\u0162\1\372"
-			+ "\1\217\1\373\2\217\1\u0162\7\217\3\u0162\4\217\2\u0162"
-			+ "\11\217\1\u0162\6\217\1\u0162\25\217\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\5\62\1\256\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\4\62\1\u0163\4\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\2\62\1\u0164\3\62" + "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\1\u0144\5\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\3\62\1\u0165" + "\2\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\4\62"
-			+ "\1\257\1\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\4\62\1\u0166\1\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\1\u0167\5\62\6\0\4\62\1\61\1\0\11\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\6\62\6\0\2\62\1\u0168\1\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\2\62\1\u0169\3\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\3\62\1\u016a\2\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\5\61\13\0\4\61" + "\2\0\3\61\2\0\3\61\1\0\2\61\2\0\5\61"
-			+ "\2\0\6\61\6\0\1\61\1\u016b\3\61\1\0\11\61" + "\1\0\16\61\41\0\1\u016c\62\0\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\1\u016d\3\62"
-			+ "\1\61\1\0\11\62\1\0\4\62\1\u016e\11\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0" + "\1\62\1\u016f\2\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62"
-			+ "\6\0\1\62\1\u0170\2\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\5\62\1\u0111\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\6\62\6\0\4\62\1\61\1\0\4\62\1\u0171\4\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\3\62\1\u0172\2\62\6\0\4\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\6\62\6\0\4\62\1\61\1\0\11\62" + "\1\u0173\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\2\62\1\u0174\3\62\6\0\4\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\6\62\6\0\1\62\1\u0175\2\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\4\62\1\u0176\1\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\1\u0177\15\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\4\62\1\u0178\4\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\5\62\1\257\6\0" + "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\1\u0179\15\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\2\62\1\u017a\3\62" + "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\1\u017b" + "\2\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0" + "\4\62\1\61\1\0\4\62\1\u017c\4\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62"
-			+ "\6\0\4\62\1\61\1\0\2\62\1\u017d\6\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\3\62\1\u017e\2\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\2\62\1\u017f\3\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\4\62\1\u0180\1\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\2\62\1\u0102\3\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\2\62\1\u0181\6\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\2\62\1\321\3\62" + "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\1\u0182\1\u0183"
-			+ "\4\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62" + "\6\0\3\62\1\u0184\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\10\62\1\u0185" + "\5\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\6\62\6\0\4\62\1\61\1\0\4\62\1\u0186\4\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\1\u012a\5\62\6\0\4\62\1\61\1\0\11\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\6\62\6\0\2\62\1\u0187\1\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\2\62\1\u010b\3\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\1\62\1\u0188\1\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\6\62\6\0\1\62\1\u013a" + "\2\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\5\62\1\u0116\6\0"
-			+ "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\1\u0189\4\62\1\231" + "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\2\62\1\u018a"
-			+ "\3\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\4\62" + "\1\u018b\1\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\1\62\1\u018c\4\62\6\0\4\62\1\61\1\0\11\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\6\62\6\0\2\62\1\u018d\1\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\3\62\1\u018e\2\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\4\62\1\u018f\1\62\6\0\4\62"
-			+ "\1\61\1\0\4\62\1\u0190\4\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\4\62\1\u0182" + "\1\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\1\62\1\u0167" + "\14\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\1\62\1\u0191\1\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\6\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\1\62\1\u0192\14\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\1\u0193\5\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\5\62\1\u0194\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0" + "\3\62\1\u0195\5\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\5\62\1\u0180\3\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62" + "\1\61\1\0\1\257\10\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\4\62\1\223\1\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\3\62\1\u0196" + "\2\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\2\62"
-			+ "\1\u0197\3\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\3\62\1\u0198\2\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\4\62\1\u0199\1\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\1\62\1\u019a\4\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\5\62\1\u019b\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\3\62"
-			+ "\1\u019c\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\7\62\1\u019d\1\u0185\1\u019e\4\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62" + "\6\0\4\62\1\61\1\0\4\62\1\u019f\4\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\6\62\6\0\4\62\1\61\1\0\1\u0144\10\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\5\62\1\364\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\6\62\6\0\2\62\1\u01a0\1\62\1\61\1\0\11\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\4\62\1\u0144\1\62\6\0\4\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\2\62\1\u01a1\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\2\62\1\u01a2\3\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\1\363\5\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\5\0\1\u01a3\172\0\1\u014c"
-			+ "\140\0\1\u01a4\40\0\1\u01a5\122\0\1\u01a6\172\0\1\u0150"
-			+ "\140\0\1\u01a7\40\0\1\u01a8\136\0\1\u01a9\143\0\1\u01aa"
-			+ "\67\0\1\u0156\51\0\1\345\45\0\3\u0158\3\u01ab\4\0"
-			+ "\5\u01ab\4\u0158\1\u01ab\1\0\2\u0158\1\0\1\u01ab\1\0"
-			+ "\3\u0158\1\0\1\u01ab\2\u0158\1\u01ab\5\u0158\2\u01ab\6\u0158"
-			+ "\1\0\1\u01ab\1\0\3\u01ab\4\u0158\2\u01ab\11\u0158\1\0"
-			+ "\16\u0158\2\61\2\u01ac\1\61\13\0\3\u01ac\1\61\2\0" + "\2\u01ac\1\61\2\0\2\61\1\u01ac\1\0\2\61\2\0"
-			+ "\2\61\3\u01ac\2\0\2\61\2\u01ac\2\61\6\0\1\61" + "\1\u01ac\3\61\1\0\2\61\1\u01ac\6\61\1\0\16\61"
-			+ "\21\0\1\u01ad\103\0\3\361\1\0\1\u015b\1\361\11\0" + "\4\361\2\0\2\361\3\0\3\361\5\0\6\361\1\0"
-			+ "\6\361\6\0\1\362\3\361\2\0\11\361\1\0\16\361" + "\1\0\3\361\1\0\1\u015b\1\361\11\0\4\361\2\0"
-			+ "\2\361\3\0\3\361\5\0\6\361\1\0\1\361\1\u01ae" + "\4\361\6\0\4\361\2\0\11\361\1\0\16\361\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\1\62\1\u0144"
-			+ "\4\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\2\62" + "\1\u01af\3\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\10\370\1\0\115\370\2\u01b0\14\370\3\u01b0\3\370"
-			+ "\2\u01b0\1\u015f\1\u0160\3\370\1\u01b0\7\370\3\u01b0\4\370"
-			+ "\2\u01b0\11\370\1\u01b0\6\370\1\u01b0\25\370\2\217\2\u01b1"
-			+ "\14\217\3\u01b1\3\217\2\u01b1\1\372\1\217\1\373\2\217"
-			+ "\1\u01b1\7\217\3\u01b1\4\217\2\u01b1\11\217\1\u01b1\6\217"
-			+ "\1\u01b1\25\217\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\3\62\1\u01b2\2\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\3\62\1\u01b3\1\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\1\u01b4\5\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\6\62\6\0\2\62\1\u01b5\1\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\2\62\1\u01b6\2\62\2\0\6\62\6\0" + "\1\u01b7\3\62\1\61\1\0\11\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0"
-			+ "\4\62\1\61\1\0\11\62\1\0\1\62\1\223\14\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\5\62" + "\1\u01b8\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62"
-			+ "\6\0\4\62\1\61\1\0\3\62\1\257\5\62\1\0" + "\16\62\5\61\13\0\4\61\2\0\3\61\2\0\3\61"
-			+ "\1\0\2\61\2\0\5\61\2\0\4\61\1\u01b9\1\61" + "\6\0\5\61\1\0\11\61\1\0\17\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\4\62\1\u01ba\4\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62" + "\1\61\1\0\4\62\1\u01bb\4\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\1\u01bc\5\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\1\u01bd\5\62" + "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0"
-			+ "\4\62\1\61\1\0\6\62\1\u01be\2\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\4\62" + "\1\u01bf\1\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\54\0\1\u01c0\47\0\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\2\62\1\u0180\3\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\3\62\1\u01c1\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\2\62\1\u01c2\3\62\6\0" + "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62"
-			+ "\1\61\1\0\1\62\1\257\7\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\4\62\1\u01c3" + "\1\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62"
-			+ "\6\0\4\62\1\61\1\0\4\62\1\u01c4\4\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\1\62\1\u01c5\4\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\1\62\1\u01c6\14\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\6\62\6\0\4\62\1\61\1\0\4\62"
-			+ "\1\u01c7\4\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\3\62\1\u0175\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\1\62\1\u01c8\1\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\3\62\1\u01c9\3\62\1\u01ca\6\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62"
-			+ "\6\0\2\62\1\u01cb\1\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\1\u01cc\5\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\1\62\1\u01cd\1\u01ce\1\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\1\62\1\u01cf\4\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\4\62\1\u011e\1\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\1\62\1\u01d0\1\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0"
-			+ "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62" + "\1\61\1\0\2\62\1\u0144\6\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0"
-			+ "\2\62\1\u01d1\1\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\1\62" + "\1\u01d2\4\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\1\u01d3\2\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\3\62\1\u01d4\2\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\1\62\1\u01d5\1\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\6\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\4\62\1\u0180\11\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\2\62\1\u01d6\3\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\1\62\1\231\4\62\6\0"
-			+ "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\1\u01d7\5\62\6\0" + "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\3\62\1\u0197\2\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\2\62\1\u01d8" + "\3\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\2\62"
-			+ "\1\u01d9\3\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\3\62\1\u01da\2\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\1\u01db\2\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\6\62\6\0\4\62\1\61\1\0\11\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\1\223\5\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\6\62\1\u0182" + "\2\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\6\62\6\0\2\62\1\u01dc\1\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\1\62\1\u01dd\4\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\1\62\1\270"
-			+ "\2\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\2\62" + "\1\u01de\1\62\1\61\1\0\11\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\2\62\1\u01df"
-			+ "\3\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62" + "\6\0\4\62\1\61\1\0\11\62\1\0\12\62\1\u01e0"
-			+ "\3\62\1\61\4\62\13\0\2\62\1\u01e1\1\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\6\62\6\0\4\62\1\61\1\0\11\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\2\62\1\u01e2\3\62\6\0\4\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\2\62\1\u015d\3\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\6\62\6\0\1\62\1\u0100\2\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\41\0\1\u01e3\67\0" + "\1\u01a3\51\0\1\u014c\45\0\3\u01a5\3\u01e4\4\0\5\u01e4"
-			+ "\4\u01a5\1\u01e4\1\0\2\u01a5\1\0\1\u01e4\1\0\3\u01a5"
-			+ "\1\0\1\u01e4\2\u01a5\1\u01e4\5\u01a5\2\u01e4\6\u01a5\1\0"
-			+ "\1\u01e4\1\0\3\u01e4\4\u01a5\2\u01e4\11\u01a5\1\0\16\u01a5"
-			+ "\41\0\1\u01e5\67\0\1\u01a6\51\0\1\u0150\45\0\3\u01a8"
-			+ "\3\u01e6\4\0\5\u01e6\4\u01a8\1\u01e6\1\0\2\u01a8\1\0"
-			+ "\1\u01e6\1\0\3\u01a8\1\0\1\u01e6\2\u01a8\1\u01e6\5\u01a8"
-			+ "\2\u01e6\6\u01a8\1\0\1\u01e6\1\0\3\u01e6\4\u01a8\2\u01e6"
-			+ "\11\u01a8\1\0\16\u01a8\22\0\1\u01e7\142\0\1\u0158\62\0"
-			+ "\2\61\2\u01e8\1\61\13\0\3\u01e8\1\61\2\0\2\u01e8" + "\1\61\2\0\2\61\1\u01e8\1\0\2\61\2\0\2\61"
-			+ "\3\u01e8\2\0\2\61\2\u01e8\2\61\6\0\1\61\1\u01e8" + "\3\61\1\0\2\61\1\u01e8\6\61\1\0\16\61\22\0"
-			+ "\1\u01e9\102\0\3\361\1\0\1\u015b\1\361\11\0\4\361" + "\2\0\2\361\3\0\3\361\5\0\6\361\1\0\6\361"
-			+ "\6\0\2\361\1\u01ea\1\361\2\0\11\361\1\0\16\361" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\3\62" + "\1\u01eb\2\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\2\370\2\u01ec\14\370\3\u01ec\3\370\2\u01ec\1\u015f"
-			+ "\1\u0160\3\370\1\u01ec\7\370\3\u01ec\4\370\2\u01ec\11\370"
-			+ "\1\u01ec\6\370\1\u01ec\25\370\2\217\2\u01ed\14\217\3\u01ed"
-			+ "\3\217\2\u01ed\1\372\1\217\1\373\2\217\1\u01ed\7\217"
-			+ "\3\u01ed\4\217\2\u01ed\11\217\1\u01ed\6\217\1\u01ed\25\217" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62" + "\6\0\4\62\1\61\1\0\2\62\1\u01ee\6\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\6\62\6\0\2\62\1\u01ef\1\62\1\61\1\0\11\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\2\62\1\u01f0\3\62\6\0\4\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\1\62\1\u0175\1\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\1\62\1\u01f1\4\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\6\62\6\0\1\62\1\u01f2" + "\2\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\3\62"
-			+ "\1\u01f3\1\61\1\0\11\62\1\0\16\62\5\61\13\0" + "\4\61\2\0\3\61\2\0\1\u01f4\2\61\1\0\2\61"
-			+ "\2\0\5\61\2\0\6\61\6\0\5\61\1\0\11\61" + "\1\0\17\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\6\62\6\0\1\62\1\u01f5\2\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\2\62\1\364" + "\6\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\6\62\6\0\2\62\1\u01f6\1\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\2\62\1\u01f7\1\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\6\62\1\u01f8\2\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\4\62\1\u01f9\1\62" + "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\55\0"
-			+ "\1\u01fa\46\0\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\3\62\1\u01fb\2\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\1\u01fc\5\62\6\0\4\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\2\62\1\u01fd\3\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\3\62\1\257\1\62\2\0\6\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\1\62\1\257\1\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0" + "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\2\62\1\u01fe\3\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0" + "\4\62\1\61\1\0\6\62\1\u0180\2\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62"
-			+ "\6\0\4\62\1\61\1\0\2\62\1\u0116\6\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\6\62\6\0\4\62\1\61\1\0\4\62\1\u01ff\4\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\3\62\1\u0200\2\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\6\62\6\0\1\62\1\257\2\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\1\62" + "\1\u01cd\2\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\1\62\1\u0201\4\62\6\0"
-			+ "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\4\62\1\u0202\1\62" + "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0"
-			+ "\4\62\1\61\1\0\4\62\1\u0203\4\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62" + "\6\0\4\62\1\61\1\0\11\62\1\0\1\u0144\15\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\1\62\1\u0204\1\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\1\62\1\u0205\1\62\1\0\1\61\1\62\2\0" + "\3\62\1\u01f3\1\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0" + "\2\62\1\223\6\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\6\62\1\u0206\2\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\2\62" + "\1\u0207\1\62\1\61\1\0\11\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0"
-			+ "\4\62\1\61\1\0\6\62\1\u0208\2\62\1\0\16\62" + "\1\61\4\62\13\0\2\62\1\u0209\1\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\4\62\1\u020a\11\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\6\62\6\0\1\62\1\u020b\2\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\2\62\1\u020c\2\62\2\0\6\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\13\62\1\u020d\2\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0" + "\4\62\1\61\1\0\11\62\1\0\1\223\15\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\4\62\1\231"
-			+ "\1\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62" + "\6\0\3\62\1\u020e\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62"
-			+ "\6\0\2\62\1\u01d3\1\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\6\62\6\0\4\62\1\61\1\0\6\62\1\u020f\2\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\1\62\1\u0210\4\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\1\62\1\u0180\3\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\1\62\1\u0211\1\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\1\u0212\3\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\41\0\1\u01a5\123\0" + "\1\u01a8\105\0\1\u0213\100\0\2\61\2\62\1\61\13\0"
-			+ "\3\62\1\61\2\0\2\62\1\61\2\0\2\61\1\62" + "\1\0\2\61\2\0\2\61\3\62\2\0\2\61\2\62"
-			+ "\2\61\6\0\1\61\1\62\3\61\1\0\2\61\1\62" + "\6\61\1\0\16\61\23\0\1\u0214\101\0\3\361\1\0"
-			+ "\1\u015b\1\361\11\0\4\361\2\0\2\361\3\0\3\361" + "\5\0\6\361\1\0\6\361\6\0\3\361\1\u0215\2\0"
-			+ "\11\361\1\0\16\361\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\1\62\1\u0144\1\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\2\370\2\102\14\370\3\102"
-			+ "\3\370\2\102\1\u015f\1\u0160\3\370\1\102\7\370\3\102"
-			+ "\4\370\2\102\11\370\1\102\6\370\1\102\25\370\2\217" + "\2\103\14\217\3\103\3\217\2\103\1\372\1\217\1\373"
-			+ "\2\217\1\103\7\217\3\103\4\217\2\103\11\217\1\103" + "\6\217\1\103\25\217\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\6\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\3\62\1\u01c9\12\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\1\62\1\u0216\1\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\2\62\1\u0217\1\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0"
-			+ "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\3\62\1\u0218\2\62" + "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\2\62\1\u01b5"
-			+ "\3\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\3\62" + "\1\u0219\2\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\5\61\13\0\4\61\2\0\3\61\2\0\3\61" + "\1\0\2\61\2\0\5\61\2\0\6\61\6\0\5\61"
-			+ "\1\0\2\61\1\u021a\6\61\1\0\17\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61" + "\1\0\3\62\1\u021b\5\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62"
-			+ "\1\61\1\0\4\62\1\u01eb\4\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0" + "\4\62\1\61\1\0\4\62\1\u01c5\4\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\3\62"
-			+ "\1\u021c\2\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\6\62\6\0\4\62\1\61\1\0\5\62\1\257\3\62"
-			+ "\1\0\16\62\67\0\1\u021d\34\0\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\1\62\1\u021e\4\62\6\0" + "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\10\62\1\u021f\5\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0" + "\4\62\1\61\1\0\11\62\1\0\14\62\1\u0220\1\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\3\62\1\u0221" + "\12\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\6\62\6\0\4\62\1\61\1\0\11\62\1\0\1\62"
-			+ "\1\u0222\14\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\1\62\1\u0223\4\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\3\62\1\u0224\2\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\4\62\1\u0225\1\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\3\62\1\u0226"
-			+ "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\1\223\2\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\3\62\1\u0102\2\62\6\0"
-			+ "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\2\62\1\u0227\3\62" + "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\1\u0175\5\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\2\62\1\u0228" + "\3\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\5\62"
-			+ "\1\u0229\6\0\4\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\1\u01c7\2\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\6\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\1\u0216"
-			+ "\5\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\4\62" + "\1\u022a\1\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\1\62\1\u022b\1\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\6\62\6\0\4\62\1\61\1\0\11\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\4\62" + "\1\u022c\2\0\6\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\2\62\1\u022d\3\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\5\62\1\u022e\6\0\4\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\6\62\6\0\4\62\1\61\1\0\2\62" + "\1\u022f\6\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\4\62\1\u0230\1\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\22\0\1\u0231\123\0" + "\1\u0232\102\0\3\361\1\0\1\u015b\1\361\11\0\4\361"
-			+ "\2\0\2\361\3\0\3\361\5\0\6\361\1\0\1\u0233" + "\5\361\6\0\4\361\2\0\11\361\1\0\16\361\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\2\62\1\262"
-			+ "\3\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\3\62\1\u0234\1\62" + "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\6\62\6\0\4\62\1\61\1\0\6\62\1\u0175\2\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\6\62\6\0\1\62\1\223\2\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\5\61\13\0\4\61\2\0\3\61" + "\2\0\3\61\1\0\2\61\2\0\5\61\2\0\2\61"
-			+ "\1\u0235\3\61\6\0\5\61\1\0\11\61\1\0\17\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\2\62\1\u0100" + "\3\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\1\62\1\u0236\1\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\74\0\1\u0237\27\0\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0"
-			+ "\11\62\1\0\1\u0238\15\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\3\62\1\u0239\2\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\2\62\1\u023a"
-			+ "\1\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62" + "\1\61\1\0\4\62\1\u023b\4\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0"
-			+ "\2\62\1\u023c\1\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62" + "\6\0\2\62\1\u023d\1\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\6\62\6\0\4\62\1\61\1\0\11\62\1\0\1\u0180" + "\15\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\6\62\6\0\1\u023e\3\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\2\62\1\u023f\3\62\6\0\4\62\1\61\1\0\11\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\1\62" + "\1\u0240\3\62\2\0\6\62\6\0\4\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\1\62\1\u0241\1\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\1\u0242\1\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0" + "\4\62\1\u0243\4\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\1\u0180\5\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\1\62\1\u0244\14\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\1\62\1\u0180\4\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0" + "\2\62\1\u0245\1\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62"
-			+ "\6\0\1\u0246\3\62\1\61\1\0\11\62\1\0\10\62" + "\1\u0247\5\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\6\62\6\0\2\62\1\u0248\1\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\17\0\1\u0249\123\0\1\366\105\0" + "\3\361\1\0\1\u015b\1\361\1\u024a\2\0\1\u024a\5\0"
-			+ "\4\361\1\0\1\u024b\2\361\3\0\3\361\5\0\6\361" + "\1\0\6\361\6\0\4\361\2\0\11\361\1\u024a\16\361"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\1\u024c"
-			+ "\5\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62" + "\6\0\4\62\1\61\1\0\2\62\1\u0180\6\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\2\62\1\231\3\62\6\0\4\62\1\61\1\0\11\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\1\u024d\5\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\1\u024e\15\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\1\62\1\u024f\14\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\2\62\1\u0250\3\62\6\0\4\62\1\61" + "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\3\62\1\u0251\2\62\6\0\4\62"
-			+ "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0" + "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61"
-			+ "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61" + "\1\0\4\62\1\u0252\4\62\1\0\16\62\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\1\62\1\u0253\4\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0" + "\4\62\1\61\1\0\4\62\1\u0254\4\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\1\u0116"
-			+ "\5\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62" + "\6\0\2\62\1\u0255\1\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\3\62\1\u022b\2\62\6\0\4\62\1\61\1\0\11\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\2\62\1\u0256\3\62\6\0\4\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\5\62\2\0\6\62\6\0\4\62\1\61\1\0\4\62" + "\1\u0257\4\62\1\0\16\62\1\61\4\62\13\0\4\62"
-			+ "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\1\u0258\5\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\4\62\1\307\1\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\3\62\1\u0144"
-			+ "\1\61\1\0\11\62\1\0\16\62\7\0\1\u024a\2\0" + "\1\u024a\12\0\1\u024b\57\0\1\u024a\16\0\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\2\62\1\u0259\3\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0" + "\4\62\1\61\1\0\1\u0180\10\62\1\0\16\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0"
-			+ "\4\62\1\61\1\0\1\u025a\10\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\6\62\6\0" + "\2\62\1\u025b\1\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\6\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\4\62\1\u020a" + "\11\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\2\62\1\u025c\1\0\1\61\1\62\2\0\5\62" + "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\1\u025d\2\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\1\u0139\5\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\3\62\1\u025e\2\62\6\0\4\62\1\61\1\0\11\62" + "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62"
-			+ "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62" + "\2\0\1\u025f\5\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\1\62\1\231\1\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\1\62\1\u0180\1\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\6\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0" + "\4\62\1\u0260\4\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\1\62\1\u0261\4\62\6\0"
-			+ "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\15\62\1\u0262\1\61\4\62"
-			+ "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0" + "\1\61\1\62\2\0\5\62\2\0\2\62\1\u0263\3\62"
-			+ "\6\0\4\62\1\61\1\0\11\62\1\0\16\62\1\61" + "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62"
-			+ "\1\0\1\61\1\62\2\0\5\62\2\0\4\62\1\u0264" + "\1\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62"
-			+ "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0" + "\1\62\1\u0265\1\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\6\62\6\0\4\62\1\61\1\0\2\62\1\u0216\6\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\6\62\6\0\4\62\1\61\1\0\6\62\1\u0266" + "\2\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\6\62\6\0\3\62\1\u0180\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0" + "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0"
-			+ "\4\62\1\u0267\2\0\6\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\1\u0268\2\62\1\0\1\61\1\62" + "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0"
-			+ "\11\62\1\0\16\62\1\61\4\62\13\0\1\u0269\3\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\2\62\1\u026a\3\62\6\0\4\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\4\62\1\61\1\0" + "\2\62\1\u026b\6\62\1\0\16\62\1\61\4\62\13\0"
-			+ "\4\62\2\0\2\62\1\173\2\0\3\62\1\0\1\61" + "\1\62\2\0\5\62\2\0\3\62\1\u026c\2\62\6\0"
-			+ "\4\62\1\61\1\0\11\62\1\0\16\62\1\61\4\62" + "\13\0\4\62\2\0\2\62\1\173\2\0\3\62\1\0"
-			+ "\1\61\1\62\2\0\5\62\2\0\6\62\6\0\4\62" + "\1\61\1\0\11\62\1\0\1\62\1\u026d\14\62\1\61"
-			+ "\4\62\13\0\4\62\2\0\2\62\1\173\2\0\3\62" + "\1\0\1\61\1\62\2\0\5\62\2\0\3\62\1\u026e"
-			+ "\2\62\6\0\4\62\1\61\1\0\11\62\1\0\16\62" + "\1\61\4\62\13\0\4\62\2\0\2\62\1\173\2\0"
-			+ "\3\62\1\0\1\61\1\62\2\0\5\62\2\0\4\62" + "\1\u026f\1\62\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\5\62\1\u0250\6\0\4\62\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\5\62\1\u0180\6\0\4\62\1\61\1\0\11\62\1\0"
-			+ "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173" + "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0"
-			+ "\6\62\6\0\3\62\1\u0250\1\61\1\0\11\62\1\0" + "\16\62\1\61\4\62\13\0\4\62\2\0\2\62\1\173"
-			+ "\2\0\3\62\1\0\1\61\1\62\2\0\5\62\2\0" + "\2\62\1\u020d\3\62\6\0\4\62\1\61\1\0\11\62"
-			+ "\1\0\16\62\1\61\4\62\13\0\4\62\2\0\2\62" + "\1\173\2\0\3\62\1\0\1\61\1\62\2\0\5\62"
-			+ "\2\0\4\62\1\u0270\1\62\6\0\4\62\1\61\1\0" + "\11\62\1\0\16\62\1\61\4\62\13\0\4\62\2\0"
-			+ "\2\62\1\173\2\0\3\62\1\0\1\61\1\62\2\0" + "\5\62\2\0\6\62\6\0\2\62\1\u0260\1\62\1\61"
-			+ "\1\0\11\62\1\0\16\62\1\61\4\62\13\0\4\62" + "\2\0\2\62\1\173\2\0\3\62\1\0\1\61\1\62"
-			+ "\2\0\5\62\2\0\6\62\6\0\2\62\1\u0253\1\62" + "\1\61\1\0\11\62\1\0\16\62";
+	private static final int[] ZZ_TRANS = MxmlTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
@@ -1072,111 +202,8 @@ public class MxmlTokenMaker extends AbstractMarkupTokenMaker {
 		MxmlTokenMaker.completeCloseTags = complete;
 	}
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[624];
-		int offset = 0;
-		offset = MxmlTokenMaker.zzUnpackAction(MxmlTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[624];
-		int offset = 0;
-		offset = MxmlTokenMaker.zzUnpackAttribute(MxmlTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 190) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
 	/* user code: */
 
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[624];
-		int offset = 0;
-		offset = MxmlTokenMaker.zzUnpackRowMap(MxmlTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[48384];
-		int offset = 0;
-		offset = MxmlTokenMaker.zzUnpackTrans(MxmlTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/** zzAtEOF == true <=> the scanner is at the EOF */
 	private boolean zzAtEOF;
 
@@ -1550,7 +577,7 @@ public class MxmlTokenMaker extends AbstractMarkupTokenMaker {
 			case 29: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 				this.addEndToken(MxmlTokenMaker.INTERNAL_IN_AS);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 61:
 				break;
@@ -1574,7 +601,7 @@ public class MxmlTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 24: {
 				this.addEndToken(MxmlTokenMaker.INTERNAL_IN_AS);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 65:
 				break;
@@ -1593,7 +620,7 @@ public class MxmlTokenMaker extends AbstractMarkupTokenMaker {
 			case 26: {
 				this.addToken(TokenTypes.ERROR_CHAR);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 68:
 				break;
@@ -1624,7 +651,7 @@ public class MxmlTokenMaker extends AbstractMarkupTokenMaker {
 			case 27: {
 				this.addToken(TokenTypes.ERROR_STRING_DOUBLE);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 73:
 				break;
@@ -1655,7 +682,7 @@ public class MxmlTokenMaker extends AbstractMarkupTokenMaker {
 			case 28: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
 				this.addEndToken(MxmlTokenMaker.INTERNAL_IN_AS_MLC);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 78:
 				break;
@@ -1703,13 +730,13 @@ public class MxmlTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 7: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_COMMENT);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 86:
 				break;
 			case 9: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_DTD);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 87:
 				break;
@@ -1720,7 +747,7 @@ public class MxmlTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 8: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_PROCESSING_INSTRUCTION);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 89:
 				break;
@@ -1828,7 +855,7 @@ public class MxmlTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 3: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 107:
 				break;
@@ -1899,90 +926,90 @@ public class MxmlTokenMaker extends AbstractMarkupTokenMaker {
 					case AS_EOL_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 						this.addEndToken(MxmlTokenMaker.INTERNAL_IN_AS);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 625:
 						break;
 					case AS_MLC: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
 						this.addEndToken(MxmlTokenMaker.INTERNAL_IN_AS_MLC);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 626:
 						break;
 					case INTAG_SCRIPT: {
 						this.addToken(this.start, this.zzStartRead - 1, MxmlTokenMaker.INTERNAL_INTAG_SCRIPT);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 627:
 						break;
 					case INATTR_DOUBLE_SCRIPT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(MxmlTokenMaker.INTERNAL_ATTR_DOUBLE_QUOTE_SCRIPT);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 628:
 						break;
 					case CDATA: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_CDATA);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 629:
 						break;
 					case INATTR_SINGLE_SCRIPT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(MxmlTokenMaker.INTERNAL_ATTR_SINGLE_QUOTE_SCRIPT);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 630:
 						break;
 					case DTD: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_DTD);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 631:
 						break;
 					case INATTR_SINGLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(MxmlTokenMaker.INTERNAL_ATTR_SINGLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 632:
 						break;
 					case INATTR_DOUBLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(MxmlTokenMaker.INTERNAL_ATTR_DOUBLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 633:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 634:
 						break;
 					case AS: {
 						this.addEndToken(MxmlTokenMaker.INTERNAL_IN_AS);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 635:
 						break;
 					case INTAG: {
 						this.addToken(this.start, this.zzStartRead - 1, MxmlTokenMaker.INTERNAL_INTAG);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 636:
 						break;
 					case COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_COMMENT);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 637:
 						break;
 					case PI: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_PROCESSING_INSTRUCTION);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 638:
 						break;
@@ -75,52 +75,24 @@ public class NSISTokenMaker extends AbstractJFlexCTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = NSISTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\6\0\2\1\2\2\2\1\1\3\1\4\1\1\1\5"
-			+ "\1\6\1\7\1\5\2\1\1\10\2\1\1\10\2\1" + "\1\11\7\5\1\12\3\1\1\10\11\1\1\13\1\14"
-			+ "\1\15\1\16\1\14\1\17\1\14\1\20\1\21\1\22" + "\1\14\1\23\1\14\1\24\1\25\1\14\1\26\10\14"
-			+ "\1\27\6\14\1\0\1\30\1\31\1\30\6\1\2\10" + "\5\1\1\0\10\1\1\32\17\1\2\10\23\1\14\0"
-			+ "\45\1\1\33\1\34\1\0\1\35\1\0\1\36\4\14" + "\4\0\4\14\5\0\1\31\17\1\1\0\11\1\1\0"
-			+ "\33\1\1\10\12\1\1\10\13\1\10\0\1\37\2\0" + "\1\37\3\0\7\1\1\40\26\1\1\10\16\1\1\10"
-			+ "\20\1\4\0\4\14\4\0\4\14\5\0\14\1\1\0" + "\6\1\1\41\1\1\1\42\11\1\1\40\4\1\1\40"
-			+ "\1\1\1\10\34\1\1\10\5\1\16\0\1\10\30\1" + "\1\40\43\1\2\0\1\34\2\0\1\35\3\14\1\43"
-			+ "\2\0\3\14\1\44\3\0\11\1\1\0\101\1\14\0" + "\61\1\1\10\11\1\4\0\1\14\2\0\1\14\3\0"
-			+ "\10\1\1\0\41\1\1\40\22\1\1\10\1\1\7\0" + "\1\37\3\1\1\40\25\1\1\40\32\1\4\0\12\1"
-			+ "\1\0\30\1\1\10\20\1\1\37\6\1\5\0\55\1" + "\4\0\7\1\1\0\11\1\1\37\1\1\1\40\42\1"
-			+ "\3\0\2\1\1\40\45\1\2\0\44\1\3\0\60\1" + "\1\40\13\1\1\37\4\1\3\0\2\1\1\40\45\1"
-			+ "\1\40\6\1\1\0\10\1\1\40\147\1";
+	private static final ScannerTables TABLES = ScannerTables.load(NSISTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = NSISTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\6\0\1\11\5\1\2\11\2\1\1\11\12\1\1\11"
-			+ "\5\1\1\11\1\1\1\11\15\1\1\11\1\1\1\11" + "\2\1\1\11\2\1\2\11\3\1\2\11\1\1\1\11"
-			+ "\10\1\1\11\6\1\1\0\12\1\1\11\5\1\1\0" + "\55\1\14\0\45\1\1\11\1\1\1\0\1\1\1\0"
-			+ "\1\11\4\1\4\0\4\1\5\0\20\1\1\0\11\1" + "\1\0\62\1\10\0\1\1\2\0\1\11\3\0\76\1"
-			+ "\4\0\4\1\4\0\4\1\5\0\14\1\1\0\6\1" + "\1\11\65\1\16\0\75\1\2\0\1\11\2\0\1\11"
-			+ "\4\1\2\0\4\1\3\0\11\1\1\0\101\1\14\0" + "\73\1\4\0\1\1\2\0\1\1\3\0\10\1\1\0"
-			+ "\66\1\7\0\65\1\4\0\12\1\1\0\60\1\5\0" + "\55\1\4\0\7\1\1\0\56\1\3\0\50\1\2\0"
-			+ "\44\1\3\0\101\1\3\0\57\1\1\0\160\1";
+	private static final int[] ZZ_ACTION = NSISTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = NSISTokenMaker.zzUnpackCMap(NSISTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = NSISTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\16\1\15\1\0\1\16\1\75\22\0\1\16\1\42\1\10"
-			+ "\1\11\1\13\1\41\1\44\1\51\2\31\1\17\1\33\1\52\1\34" + "\1\32\1\14\1\4\1\72\1\73\1\74\1\74\1\6\1\6\1\6"
-			+ "\1\3\1\3\1\45\1\20\1\35\1\36\1\40\1\43\1\50\1\26" + "\1\5\1\60\1\62\1\24\1\25\1\63\1\53\1\55\1\1\1\66"
-			+ "\1\27\1\64\1\57\1\61\1\54\1\71\1\23\1\30\1\22\1\7" + "\1\70\1\56\1\21\1\67\1\65\1\31\1\12\1\31\1\37\1\2"
-			+ "\1\76\1\26\1\5\1\60\1\62\1\24\1\77\1\63\1\100\1\55" + "\1\1\1\66\1\27\1\64\1\57\1\61\1\54\1\71\1\23\1\30"
-			+ "\1\22\1\7\1\70\1\101\1\21\1\67\1\65\1\46\1\37\1\47" + "\1\43\uff81\0";
+	private static final char[] ZZ_CMAP = NSISTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -133,1286 +105,16 @@ public class NSISTokenMaker extends AbstractJFlexCTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = NSISTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\102\0\204\0\306\0\u0108\0\u014a\0\u018c\0\u01ce"
-			+ "\0\u0210\0\u0252\0\u0294\0\u02d6\0\u018c\0\u018c\0\u0318\0\u035a"
-			+ "\0\u018c\0\u039c\0\u03de\0\u0420\0\u0462\0\u04a4\0\u04e6\0\u0528"
-			+ "\0\u056a\0\u05ac\0\u05ee\0\u018c\0\u0630\0\u0672\0\u06b4\0\u06f6"
-			+ "\0\u0738\0\u018c\0\u077a\0\u018c\0\u07bc\0\u07fe\0\u0840\0\u0882"
-			+ "\0\u08c4\0\u0906\0\u0948\0\u098a\0\u09cc\0\u0a0e\0\u0a50\0\u0a92"
-			+ "\0\u0ad4\0\u018c\0\u0b16\0\u018c\0\u0b58\0\u0b9a\0\u018c\0\u0bdc"
-			+ "\0\u0b58\0\u018c\0\u018c\0\u0c1e\0\u0b58\0\u0c60\0\u018c\0\u018c"
-			+ "\0\u0ca2\0\u018c\0\u0ce4\0\u0d26\0\u0d68\0\u0daa\0\u0dec\0\u0e2e"
-			+ "\0\u0e70\0\u0eb2\0\u018c\0\u0ef4\0\u0f36\0\u0f78\0\u0fba\0\u0ffc"
-			+ "\0\u103e\0\u1080\0\u10c2\0\u1104\0\u1146\0\u1188\0\u11ca\0\u120c"
-			+ "\0\u124e\0\u1290\0\u12d2\0\u01ce\0\u018c\0\u1314\0\u1356\0\u1398"
-			+ "\0\u13da\0\u141c\0\u145e\0\u14a0\0\u14e2\0\u1524\0\u1566\0\u15a8"
-			+ "\0\u15ea\0\u162c\0\u166e\0\u16b0\0\u16f2\0\u1734\0\u1776\0\u17b8"
-			+ "\0\u17fa\0\u183c\0\u187e\0\u18c0\0\u1902\0\u1944\0\u1986\0\u19c8"
-			+ "\0\u1a0a\0\u1a4c\0\u1a8e\0\u1ad0\0\u1b12\0\u1b54\0\u1b96\0\u1bd8"
-			+ "\0\u1c1a\0\u1c5c\0\u1c9e\0\u1ce0\0\u1d22\0\u1d64\0\u1da6\0\u1de8"
-			+ "\0\u1e2a\0\u1e6c\0\u1eae\0\u1ef0\0\u1f32\0\u1f74\0\u1fb6\0\u1ff8"
-			+ "\0\u03de\0\u203a\0\u207c\0\u20be\0\u2100\0\u2142\0\u2184\0\u21c6"
-			+ "\0\u2208\0\u224a\0\u228c\0\u22ce\0\u2310\0\u2352\0\u2394\0\u23d6"
-			+ "\0\u2418\0\u245a\0\u249c\0\u24de\0\u2520\0\u2562\0\u25a4\0\u25e6"
-			+ "\0\u2628\0\u266a\0\u26ac\0\u26ee\0\u2730\0\u2772\0\u27b4\0\u27f6"
-			+ "\0\u2838\0\u287a\0\u28bc\0\u28fe\0\u2940\0\u2982\0\u29c4\0\u2a06"
-			+ "\0\u2a48\0\u2a8a\0\u2acc\0\u2b0e\0\u2b50\0\u2b92\0\u2bd4\0\u2c16"
-			+ "\0\u2c58\0\u018c\0\u2c9a\0\u2cdc\0\u2d1e\0\u2d60\0\u018c\0\u2da2"
-			+ "\0\u2de4\0\u2e26\0\u2e68\0\u2eaa\0\u2eec\0\u2f2e\0\u2f70\0\u2fb2"
-			+ "\0\u2ff4\0\u3036\0\u3078\0\u30ba\0\u30fc\0\u313e\0\u3180\0\u31c2"
-			+ "\0\u1146\0\u3204\0\u3246\0\u3288\0\u32ca\0\u330c\0\u334e\0\u3390"
-			+ "\0\u33d2\0\u3414\0\u1ad0\0\u3456\0\u3498\0\u34da\0\u351c\0\u355e"
-			+ "\0\u35a0\0\u35e2\0\u3624\0\u3666\0\u36a8\0\u36ea\0\u372c\0\u376e"
-			+ "\0\u37b0\0\u37f2\0\u3834\0\u3876\0\u38b8\0\u38fa\0\u393c\0\u397e"
-			+ "\0\u39c0\0\u3a02\0\u3a44\0\u3a86\0\u3ac8\0\u3b0a\0\u3b4c\0\u3b8e"
-			+ "\0\u3bd0\0\u3c12\0\u3c54\0\u3c96\0\u3cd8\0\u3d1a\0\u3d5c\0\u3d9e"
-			+ "\0\u3de0\0\u3e22\0\u3e64\0\u3ea6\0\u3ee8\0\u3f2a\0\u3f6c\0\u3fae"
-			+ "\0\u3ff0\0\u4032\0\u4074\0\u40b6\0\u40f8\0\u413a\0\u417c\0\u41be"
-			+ "\0\u4200\0\u4242\0\u4284\0\u42c6\0\u4308\0\u434a\0\u438c\0\u43ce"
-			+ "\0\u4410\0\u4452\0\u4494\0\u44d6\0\u4518\0\u455a\0\u459c\0\u45de"
-			+ "\0\u4620\0\u4662\0\u46a4\0\u46e6\0\u4728\0\u476a\0\u47ac\0\u47ee"
-			+ "\0\u018c\0\u4830\0\u4872\0\u48b4\0\u48f6\0\u4938\0\u497a\0\u49bc"
-			+ "\0\u49fe\0\u4a40\0\u4a82\0\u01ce\0\u4ac4\0\u4b06\0\u4b48\0\u4b8a"
-			+ "\0\u4bcc\0\u4c0e\0\u4c50\0\u4c92\0\u4cd4\0\u4d16\0\u4d58\0\u4d9a"
-			+ "\0\u4ddc\0\u4e1e\0\u4e60\0\u4ea2\0\u4ee4\0\u4f26\0\u4f68\0\u4faa"
-			+ "\0\u4fec\0\u502e\0\u5070\0\u50b2\0\u50f4\0\u5136\0\u5178\0\u51ba"
-			+ "\0\u51fc\0\u523e\0\u5280\0\u52c2\0\u5304\0\u5346\0\u5388\0\u53ca"
-			+ "\0\u540c\0\u544e\0\u5490\0\u54d2\0\u5514\0\u5556\0\u5598\0\u55da"
-			+ "\0\u561c\0\u565e\0\u56a0\0\u56e2\0\u5724\0\u5766\0\u57a8\0\u57ea"
-			+ "\0\u582c\0\u586e\0\u58b0\0\u58f2\0\u5934\0\u5976\0\u59b8\0\u59fa"
-			+ "\0\u5a3c\0\u5a7e\0\u5ac0\0\u5b02\0\u5b44\0\u5b86\0\u5bc8\0\u5c0a"
-			+ "\0\u5c4c\0\u5c8e\0\u5cd0\0\u5d12\0\u5d54\0\u5d96\0\u5dd8\0\u5e1a"
-			+ "\0\u5e5c\0\u5e9e\0\u5ee0\0\u5f22\0\u5f64\0\u5fa6\0\u5fe8\0\u602a"
-			+ "\0\u606c\0\u60ae\0\u60f0\0\u6132\0\u6174\0\u61b6\0\u61f8\0\u544e"
-			+ "\0\u623a\0\u627c\0\u018c\0\u62be\0\u01ce\0\u6300\0\u6342\0\u6384"
-			+ "\0\u63c6\0\u6408\0\u644a\0\u648c\0\u64ce\0\u6510\0\u6552\0\u6594"
-			+ "\0\u65d6\0\u6618\0\u665a\0\u669c\0\u66de\0\u6720\0\u6762\0\u67a4"
-			+ "\0\u67e6\0\u6828\0\u686a\0\u68ac\0\u68ee\0\u6930\0\u6972\0\u69b4"
-			+ "\0\u69f6\0\u6a38\0\u6a7a\0\u6abc\0\u6afe\0\u6b40\0\u6b82\0\u6bc4"
-			+ "\0\u6c06\0\u6c48\0\u6c8a\0\u6ccc\0\u6d0e\0\u6d50\0\u6d92\0\u6dd4"
-			+ "\0\u6e16\0\u6e58\0\u6e9a\0\u6edc\0\u6f1e\0\u6f60\0\u6fa2\0\u6fe4"
-			+ "\0\u7026\0\u7068\0\u70aa\0\u70ec\0\u712e\0\u7170\0\u71b2\0\u71f4"
-			+ "\0\u7236\0\u7278\0\u72ba\0\u72fc\0\u733e\0\u7380\0\u24de\0\u73c2"
-			+ "\0\u7404\0\u7446\0\u7488\0\u74ca\0\u750c\0\u754e\0\u7590\0\u75d2"
-			+ "\0\u7614\0\u7656\0\u7698\0\u76da\0\u771c\0\u775e\0\u77a0\0\u77e2"
-			+ "\0\u7824\0\u7866\0\u78a8\0\u78ea\0\u792c\0\u796e\0\u79b0\0\u79f2"
-			+ "\0\u7a34\0\u7a76\0\u7ab8\0\u7afa\0\u7b3c\0\u7b7e\0\u7bc0\0\u7c02"
-			+ "\0\u7c44\0\u7c86\0\u7cc8\0\u7d0a\0\u7d4c\0\u7d8e\0\u7dd0\0\u7e12"
-			+ "\0\u7e54\0\u7e96\0\u7ed8\0\u7f1a\0\u7f5c\0\u7f9e\0\u7fe0\0\u8022"
-			+ "\0\u8064\0\u80a6\0\u80e8\0\u812a\0\u816c\0\u81ae\0\u81f0\0\u8232"
-			+ "\0\u8274\0\u82b6\0\u82f8\0\u833a\0\u837c\0\u018c\0\u83be\0\u8400"
-			+ "\0\u018c\0\u8442\0\u8484\0\u84c6\0\u8508\0\u854a\0\u858c\0\u85ce"
-			+ "\0\u8610\0\u8652\0\u8694\0\u86d6\0\u8718\0\u875a\0\u879c\0\u87de"
-			+ "\0\u8820\0\u8862\0\u88a4\0\u88e6\0\u8928\0\u896a\0\u89ac\0\u89ee"
-			+ "\0\u8a30\0\u8a72\0\u8ab4\0\u8af6\0\u8b38\0\u8b7a\0\u8bbc\0\u8bfe"
-			+ "\0\u8c40\0\u8c82\0\u8cc4\0\u8d06\0\u8d48\0\u8d8a\0\u8dcc\0\u8e0e"
-			+ "\0\u8e50\0\u8e92\0\u8ed4\0\u8f16\0\u8f58\0\u8f9a\0\u8fdc\0\u901e"
-			+ "\0\u9060\0\u90a2\0\u90e4\0\u9126\0\u9168\0\u91aa\0\u91ec\0\u922e"
-			+ "\0\u9270\0\u92b2\0\u92f4\0\u9336\0\u9378\0\u93ba\0\u93fc\0\u943e"
-			+ "\0\u9480\0\u94c2\0\u9504\0\u9546\0\u9588\0\u95ca\0\u960c\0\u964e"
-			+ "\0\u9690\0\u96d2\0\u9714\0\u9756\0\u9798\0\u97da\0\u981c\0\u985e"
-			+ "\0\u98a0\0\u98e2\0\u9924\0\u9966\0\u99a8\0\u99ea\0\u9a2c\0\u9a6e"
-			+ "\0\u9ab0\0\u9af2\0\u9b34\0\u9b76\0\u9bb8\0\u9bfa\0\u9c3c\0\u9c7e"
-			+ "\0\u9cc0\0\u9d02\0\u9d44\0\u9d86\0\u9dc8\0\u9e0a\0\u9e4c\0\u9e8e"
-			+ "\0\u9ed0\0\u9f12\0\u9f54\0\u9f96\0\u9fd8\0\ua01a\0\ua05c\0\ua09e"
-			+ "\0\ua0e0\0\ua122\0\ua164\0\ua1a6\0\ua1e8\0\ua22a\0\ua26c\0\ua2ae"
-			+ "\0\ua2f0\0\ua332\0\ua374\0\ua3b6\0\ua3f8\0\ua43a\0\ua47c\0\ua4be"
-			+ "\0\ua500\0\ua542\0\ua584\0\ua5c6\0\ua608\0\ua64a\0\ua68c\0\ua6ce"
-			+ "\0\ua710\0\ua752\0\ua794\0\ua7d6\0\ua818\0\ua85a\0\ua89c\0\ua8de"
-			+ "\0\ua920\0\ua962\0\ua9a4\0\ua9e6\0\uaa28\0\uaa6a\0\uaaac\0\uaaee"
-			+ "\0\uab30\0\uab72\0\uabb4\0\uabf6\0\uac38\0\uac7a\0\uacbc\0\uacfe"
-			+ "\0\uad40\0\uad82\0\uadc4\0\uae06\0\uae48\0\u8508\0\uae8a\0\uaecc"
-			+ "\0\u8694\0\uaf0e\0\uaf50\0\uaf92\0\uafd4\0\ub016\0\ub058\0\ub09a"
-			+ "\0\ub0dc\0\ub11e\0\ub160\0\ub1a2\0\ub1e4\0\ub226\0\ub268\0\ub2aa"
-			+ "\0\ub2ec\0\ub32e\0\ub370\0\ub3b2\0\ub3f4\0\ub436\0\ub478\0\ub4ba"
-			+ "\0\ub4fc\0\ub53e\0\ub580\0\ub5c2\0\ub604\0\ub646\0\ub688\0\ub6ca"
-			+ "\0\ub70c\0\ub74e\0\ub790\0\ub7d2\0\ub814\0\ub856\0\ub898\0\ub8da"
-			+ "\0\ub91c\0\ub95e\0\ub9a0\0\ub9e2\0\uba24\0\uba66\0\ubaa8\0\ubaea"
-			+ "\0\ubb2c\0\ubb6e\0\ubbb0\0\ubbf2\0\ubc34\0\ubc76\0\ubcb8\0\ubcfa"
-			+ "\0\ubd3c\0\ubd7e\0\ubdc0\0\ube02\0\ube44\0\ube86\0\ubec8\0\ubf0a"
-			+ "\0\ubf4c\0\ubf8e\0\ubfd0\0\uc012\0\uc054\0\uc096\0\uc0d8\0\uc11a"
-			+ "\0\uc15c\0\uc19e\0\uc1e0\0\uc222\0\uc264\0\uc2a6\0\uc2e8\0\uc32a"
-			+ "\0\uc36c\0\uc3ae\0\uc3f0\0\uc432\0\uc474\0\uc4b6\0\uc4f8\0\uc53a"
-			+ "\0\uc57c\0\uc5be\0\uc600\0\uc642\0\uc684\0\uc6c6\0\uc708\0\uc74a"
-			+ "\0\uc78c\0\uc7ce\0\uc810\0\uc852\0\uc894\0\uc8d6\0\uc918\0\uc95a"
-			+ "\0\uc99c\0\uc9de\0\uca20\0\uca62\0\ucaa4\0\ucae6\0\ucb28\0\ucb6a"
-			+ "\0\ucbac\0\ucbee\0\ucc30\0\ucc72\0\uccb4\0\uccf6\0\ucd38\0\ucd7a"
-			+ "\0\ucdbc\0\ucdfe\0\uce40\0\uce82\0\ucec4\0\ucf06\0\ucf48\0\ucf8a"
-			+ "\0\ucfcc\0\ud00e\0\ud050\0\ud092\0\ud0d4\0\ud116\0\ud158\0\ud19a"
-			+ "\0\ud1dc\0\ud21e\0\ud260\0\ud2a2\0\ud2e4\0\u5070\0\ud326\0\ud368"
-			+ "\0\ud3aa\0\ud3ec\0\ud42e\0\ud470\0\ud4b2\0\ud4f4\0\ud536\0\ud578"
-			+ "\0\ud5ba\0\ud5fc\0\ud63e\0\ud680\0\ud6c2\0\ud704\0\ud746\0\ud788"
-			+ "\0\ud7ca\0\ud80c\0\ud84e\0\ud890\0\ud8d2\0\ud914\0\ud956\0\ud998"
-			+ "\0\ud9da\0\uda1c\0\uda5e\0\udaa0\0\udae2\0\udb24\0\udb66\0\udba8"
-			+ "\0\udbea\0\udc2c\0\udc6e\0\udcb0\0\udcf2\0\udd34\0\udd76\0\uddb8"
-			+ "\0\uddfa\0\ude3c\0\ude7e\0\udec0\0\udf02\0\udf44\0\udf86\0\udfc8"
-			+ "\0\ue00a\0\ue04c\0\ue08e\0\uba66\0\ue0d0\0\ue112\0\ue154\0\ue196"
-			+ "\0\ue1d8\0\ue21a\0\ue25c\0\ue29e\0\ue2e0\0\ue322\0\ue364\0\ue3a6"
-			+ "\0\ue3e8\0\ue42a\0\ue46c\0\ue4ae\0\ue4f0\0\ue532\0\ue574\0\ue5b6"
-			+ "\0\ue5f8\0\ue63a\0\ue67c\0\ue6be\0\ue700\0\ue742\0\ue784\0\ue7c6"
-			+ "\0\ue808\0\ue84a\0\ue88c\0\ue8ce\0\ue910\0\ue952\0\ue994\0\ue9d6"
-			+ "\0\uea18\0\uea5a\0\uea9c\0\ueade\0\ueb20\0\ueb62\0\ueba4\0\uebe6"
-			+ "\0\uec28\0\uec6a\0\uecac\0\uecee\0\ued30\0\ued72\0\uedb4\0\uedf6"
-			+ "\0\uee38\0\uee7a\0\ueebc\0\ueefe\0\uef40\0\uef82\0\uefc4\0\uf006"
-			+ "\0\uf048\0\uf08a\0\uf0cc\0\uf10e\0\uf150\0\uf192\0\uf1d4\0\uf216"
-			+ "\0\uf258\0\uf29a\0\uf2dc\0\uf31e\0\uf360\0\uf3a2\0\uf3e4\0\uf426"
-			+ "\0\uf468\0\uf4aa\0\uf4ec\0\uf52e\0\uf570\0\uf5b2\0\uf5f4\0\uf636"
-			+ "\0\uf678\0\uf6ba\0\uf6fc\0\uf73e\0\uf780\0\uf7c2\0\uf804\0\uf846"
-			+ "\0\uf888\0\uf8ca\0\uf90c\0\uf94e\0\uf990\0\uf9d2\0\ufa14\0\ufa56"
-			+ "\0\ufa98\0\ufada\0\ufb1c\0\ufb5e\0\ufba0\0\ufbe2\0\ufc24\0\ufc66"
-			+ "\0\ufca8\0\ufcea\0\ufd2c\0\ufd6e\0\ufdb0\0\ufdf2\0\ufe34\0\ufe76"
-			+ "\0\ufeb8\0\ufefa\0\uff3c\0\uff7e\0\uffc0\1\2\1\104\1\206"
-			+ "\1\310\1\u010a\1\u014c\1\u018e\1\u01d0\1\u0212\0\uaaac\1\u0254"
-			+ "\1\u0296\1\u02d8\1\u031a\1\u035c\1\u039e\1\u03e0\1\u0422\1\u0464"
-			+ "\1\u04a6\1\u04e8\1\u052a\1\u056c\1\u05ae\1\u05f0\1\u0632\1\u0674"
-			+ "\1\u06b6\1\u06f8\1\u073a\1\u077c\1\u07be\1\u0800\1\u0842\1\u0884"
-			+ "\1\u08c6\1\u0908\1\u094a\1\u098c\1\u09ce\1\u0a10\1\u0a52\1\u0a94"
-			+ "\1\u0ad6\1\u0b18\1\u0b5a\1\u0b9c\1\u0bde\1\u0c20\1\u0c62\1\u0ca4"
-			+ "\1\u0ce6\1\u0d28\1\u0d6a\1\u0dac\1\u0dee\1\u0e30\1\u0e72\1\u0eb4"
-			+ "\1\u0ef6\1\u0f38\1\u0f7a\1\u0fbc\1\u0ffe\1\u1040\1\u1082\1\u10c4"
-			+ "\1\u1106\1\u1148\1\u118a\1\u11cc\1\u120e\1\u1250\1\u1292\1\u12d4"
-			+ "\1\u1316\1\u1358\1\u139a\1\u13dc\1\u141e\1\u1460\1\u14a2\1\u14e4"
-			+ "\1\u1526\1\u1568\1\u15aa\1\u15ec\1\u162e\1\u1670\1\u16b2\1\u16f4"
-			+ "\1\u1736\1\u1778\1\u17ba\1\u17fc\1\u183e\1\u1880\1\u18c2\1\u1904"
-			+ "\1\u1946\1\u1988\1\u19ca\1\u1a0c\1\u1a4e\1\u1a90\1\u1ad2\1\u1b14"
-			+ "\1\u1b56\1\u1b98\1\u1bda\1\u1c1c\1\u1c5e\1\u1ca0\1\u1ce2\1\u1d24"
-			+ "\1\u1d66\1\u1da8\1\u1dea\1\u1e2c\1\u1e6e\1\u1eb0\1\u1ef2\1\u1f34"
-			+ "\1\u1f76\0\u01ce\1\u1fb8\1\u1ffa\1\u203c\1\u207e\1\u20c0\1\u2102"
-			+ "\1\u2144\1\u2186\1\u21c8\1\u220a\1\u224c\1\u228e\1\u22d0\1\u2312"
-			+ "\1\u2354\1\u2396\1\u23d8\1\u241a\1\u245c\1\u249e\1\u24e0\1\u2522"
-			+ "\1\u2564\1\u25a6\1\u25e8\1\u262a\1\u266c\1\u26ae\1\u26f0\1\u2732"
-			+ "\1\u2774\1\u27b6\1\u27f8\1\u283a\1\u287c\1\u28be\1\u2900\1\u2942"
-			+ "\1\u2984\1\u29c6\1\u2a08\1\u2a4a\1\u2a8c\1\u2ace\1\u2b10\1\u2b52"
-			+ "\1\u2b94\0\uf52e\1\u2bd6\1\u2c18\1\u2c5a\1\u2c9c\1\u2cde\1\u2d20"
-			+ "\1\u2d62\1\u2da4\1\u2de6\1\u2e28\1\u2e6a\1\u2eac\1\u2eee\1\u2f30"
-			+ "\1\u2f72\1\u2fb4\1\u2ff6\1\u3038\1\u307a\1\u30bc\1\u30fe\1\u3140"
-			+ "\1\u3182\1\u31c4\1\u3206\1\u3248\1\u328a\1\u32cc\1\u330e\1\u3350"
-			+ "\1\u3392\1\u33d4\1\u3416\1\u3458\1\u349a\1\u34dc\1\u351e\1\u3560"
-			+ "\1\u35a2\1\u35e4\1\u3626\1\u3668\1\u36aa\1\u36ec\1\u372e\1\u3770"
-			+ "\1\u37b2\1\u37f4\1\u3836\1\u3878\1\u38ba\1\u38fc\1\u393e\1\u3980"
-			+ "\1\u39c2\1\u3a04\1\u3a46\1\u3a88\1\u3aca\1\u3b0c\1\u3b4e\1\u3b90"
-			+ "\1\u3bd2\1\u3c14\1\u3c56\1\u3c98\1\u3cda\1\u3d1c\1\u3d5e\1\u3da0"
-			+ "\1\u3de2\1\u3e24\1\u3e66\1\u3ea8\1\u3eea\1\u3f2c\1\u3f6e\1\u3fb0"
-			+ "\1\u3ff2\1\u4034\1\u4076\1\u40b8\1\u40fa\1\u413c\1\u417e\1\u41c0"
-			+ "\1\u4202\1\u4244\1\u4286\1\u42c8\1\u430a\1\u434c\1\u438e\1\u43d0"
-			+ "\1\u4412\1\u4454\1\u4496\1\u44d8\1\u451a\1\u455c\1\u459e\1\u45e0"
-			+ "\1\u4622\1\u4664\1\u46a6\1\u46e8\1\u472a\1\u476c\1\u47ae\1\u47f0"
-			+ "\1\u4832\1\u4874\1\u48b6\1\u48f8\1\u493a\1\u497c\1\u49be\1\u4a00" + "\1\u4a42";
+	private static final int[] ZZ_ROWMAP = NSISTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = NSISTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\7\2\10\1\11\1\12\1\13\1\11\1\14\1\15"
-			+ "\1\16\1\7\1\17\1\20\1\21\1\22\1\23\1\16" + "\1\24\1\25\1\26\1\27\1\30\1\31\1\32\1\33"
-			+ "\1\34\1\7\1\35\1\36\1\37\2\23\1\40\1\23" + "\1\41\1\42\1\43\1\42\2\34\1\7\1\44\1\7"
-			+ "\1\45\1\46\1\47\1\50\1\51\1\52\1\53\1\54" + "\1\55\1\56\1\57\2\10\1\60\1\61\3\11\1\7"
-			+ "\1\62\1\30\1\45\1\50\10\63\1\64\1\63\1\65" + "\1\66\1\63\1\67\64\63\12\70\1\71\1\66\1\70"
-			+ "\1\72\33\70\1\73\30\70\12\74\1\75\1\76\1\74" + "\1\77\60\74\1\100\3\74\15\101\1\102\1\101\1\103"
-			+ "\5\101\1\104\25\101\1\105\2\101\1\106\20\101\1\107"
-			+ "\1\110\1\111\15\112\1\113\7\112\1\114\25\112\1\115" + "\2\112\1\116\20\112\1\117\1\120\1\121\103\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\22\10\2\0" + "\3\10\3\123\2\11\1\123\1\11\1\123\1\0\3\123"
-			+ "\5\0\10\123\17\0\1\123\2\0\17\123\3\11\1\0" + "\10\123\1\124\1\123\1\124\1\123\1\0\3\123\5\0"
-			+ "\1\125\7\123\17\0\1\123\2\0\17\123\3\124\1\0" + "\4\123\1\0\7\10\2\0\1\122\2\10\4\0\2\10"
-			+ "\1\126\5\10\22\0\6\10\1\127\1\10\1\130\1\10" + "\1\131\7\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\7\10\1\132\22\0\4\10\1\133\15\10" + "\2\0\3\10\1\0\2\10\2\134\1\10\1\134\1\10"
-			+ "\2\0\1\122\1\134\1\10\1\135\3\0\1\10\1\136" + "\1\137\1\140\2\10\1\141\1\142\15\0\1\143\4\0"
-			+ "\1\144\1\145\1\146\1\147\1\10\1\150\1\151\1\152" + "\6\10\1\153\3\134\1\135\1\0\1\10\1\144\1\147"
-			+ "\1\0\7\10\2\0\1\122\2\10\2\0\1\154\1\0" + "\10\10\5\0\1\42\14\0\22\10\2\0\3\10\16\0"
-			+ "\1\22\121\0\1\42\44\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\1\10\1\155\20\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\2\10\1\156" + "\1\157\4\10\22\0\6\10\1\160\13\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\161" + "\1\10\1\162\2\10\22\0\2\10\1\163\3\10\1\134"
-			+ "\2\10\1\164\10\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\165\7\10\22\0\4\10\1\166"
-			+ "\15\10\2\0\3\10\1\0\2\10\1\134\2\10\1\134" + "\1\167\2\0\1\122\2\10\4\0\5\10\1\170\1\171"
-			+ "\1\10\22\0\2\10\1\172\3\10\1\173\10\10\1\174" + "\1\175\1\134\2\0\3\10\1\0\4\10\1\176\1\10"
-			+ "\1\177\2\0\1\122\2\10\4\0\2\10\1\200\3\10" + "\1\201\1\10\22\0\7\10\1\202\12\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\203" + "\1\10\1\204\2\10\22\0\2\10\1\205\3\10\1\206"
-			+ "\13\10\2\0\3\10\1\0\6\10\1\207\2\0\1\122" + "\2\10\4\0\1\10\1\210\1\10\1\211\2\10\1\212"
-			+ "\1\10\22\0\1\213\1\214\1\215\1\216\5\10\1\217" + "\2\10\1\220\5\10\2\0\1\10\1\213\1\216\33\0"
-			+ "\1\42\2\0\1\42\77\0\1\42\1\0\1\42\100\0" + "\1\221\1\42\101\0\1\42\1\0\1\23\50\0\1\222"
-			+ "\14\0\1\223\1\0\1\224\1\0\1\225\5\0\1\42" + "\15\0\1\226\1\227\1\230\1\0\1\231\1\0\1\232"
-			+ "\1\0\1\233\3\0\1\234\10\0\1\230\36\0\1\42" + "\5\0\1\42\36\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\2\10\1\235\10\10\1\236\6\10\2\0" + "\3\10\1\0\6\10\1\237\2\0\1\122\2\10\4\0"
-			+ "\5\10\1\240\1\241\1\10\22\0\6\10\1\242\13\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\4\10\1\243\2\10\1\244\22\0\4\10\1\245\1\246" + "\1\10\1\247\12\10\2\0\1\243\2\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\2\10\1\250\5\10\22\0" + "\2\10\1\251\17\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\3\10\1\252\1\10\1\253\2\10" + "\22\0\6\10\1\254\13\10\2\0\3\10\1\0\6\10"
-			+ "\1\255\2\0\1\122\2\10\4\0\2\10\1\256\1\257" + "\1\10\1\260\1\261\1\10\22\0\1\262\5\10\1\263"
-			+ "\13\10\2\0\1\10\1\262\1\10\1\0\6\10\1\264" + "\2\0\1\122\2\10\4\0\4\10\1\265\3\10\22\0"
-			+ "\4\10\1\134\15\10\2\0\1\265\2\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\3\10\1\266\4\10\22\0"
-			+ "\2\10\1\267\17\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\3\10\1\270\4\10\22\0\6\10"
-			+ "\1\271\13\10\2\0\3\10\1\0\4\10\1\272\2\10" + "\2\0\1\122\2\10\4\0\3\10\1\273\1\10\1\274"
-			+ "\2\10\22\0\2\10\1\275\17\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\6\10\1\276\1\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\5\10\1\277\2\10\22\0\2\10\1\300"
-			+ "\17\10\2\0\3\10\1\0\6\10\1\301\2\0\1\122" + "\2\10\4\0\10\10\22\0\22\10\2\0\3\10\10\63"
-			+ "\1\0\1\63\2\0\1\63\1\0\64\63\15\302\1\0" + "\64\302\1\0\2\303\2\0\1\303\1\0\1\303\3\0"
-			+ "\2\303\4\0\10\303\15\0\1\304\4\0\17\303\5\0" + "\3\303\12\70\2\0\1\70\1\0\33\70\1\0\30\70"
-			+ "\12\74\2\0\1\74\1\0\60\74\1\0\3\74\1\0" + "\2\305\2\0\1\305\1\0\1\305\3\0\2\305\4\0"
-			+ "\10\305\15\0\1\306\4\0\17\305\5\0\3\305\15\101" + "\1\0\1\101\1\0\57\101\17\0\1\307\65\0\15\101"
-			+ "\1\0\1\101\1\0\2\101\1\310\32\101\1\311\21\101" + "\3\0\15\101\1\0\1\101\1\0\2\101\1\312\54\101"
-			+ "\3\0\15\101\1\0\1\101\1\0\36\101\1\313\20\101" + "\2\0\1\314\22\0\1\315\32\0\1\316\46\0\1\317"
-			+ "\135\0\1\314\22\0\1\314\15\112\1\0\61\112\3\0" + "\15\112\1\0\4\112\1\320\32\112\1\321\21\112\3\0"
-			+ "\15\112\1\0\4\112\1\322\54\112\3\0\15\112\1\0" + "\40\112\1\323\20\112\2\0\1\324\22\0\1\325\32\0"
-			+ "\1\326\46\0\1\327\135\0\1\324\22\0\1\324\7\0" + "\1\330\72\0\10\123\1\0\3\123\5\0\10\123\17\0"
-			+ "\1\123\2\0\22\123\1\0\10\123\1\124\1\123\1\124" + "\1\123\1\0\3\123\5\0\10\123\17\0\1\123\2\0"
-			+ "\17\123\3\124\1\0\7\123\4\331\1\123\1\0\3\123" + "\5\0\3\123\3\331\2\123\17\0\1\123\2\0\5\123"
-			+ "\1\331\1\123\1\331\7\123\3\331\1\0\1\123\1\331" + "\2\123\1\0\7\10\2\0\1\122\2\10\4\0\5\10"
-			+ "\1\332\2\10\22\0\2\10\1\333\17\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\1\10\1\334"
-			+ "\6\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\10\10\1\335\11\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\2\10\1\336\17\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\3\10\1\337\4\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\2\10\1\340\5\10\22\0\2\10\1\341" + "\17\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\3\10\1\342\4\10\22\0\22\10\2\0\3\10" + "\1\0\3\10\1\343\3\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\344\7\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\5\10" + "\1\345\2\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\1\10\1\346\6\10\22\0" + "\11\10\1\347\2\10\1\350\5\10\2\0\3\10\1\0"
-			+ "\2\351\2\0\1\351\1\0\1\351\3\0\2\351\4\0" + "\10\351\22\0\17\351\5\0\3\351\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\3\10\1\352\16\10" + "\2\0\2\10\1\352\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\2\10\1\353\3\10\1\354\1\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\4\10\1\355\15\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\2\10"
-			+ "\1\356\17\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\11\10\1\357\10\10\2\0"
-			+ "\3\10\1\0\6\10\1\360\2\0\1\122\2\10\4\0" + "\10\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\3\10\1\361\4\10\22\0\22\10" + "\2\0\3\10\1\0\6\10\1\362\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\22\10\2\0\3\10\17\0\1\363" + "\63\0\7\10\2\0\1\122\2\10\4\0\7\10\1\364"
-			+ "\22\0\22\10\2\0\3\10\1\0\6\10\1\365\2\0" + "\1\122\2\10\4\0\10\10\22\0\14\10\1\134\5\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\1\366\7\10\22\0\11\10\1\367\10\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\1\10\1\134\20\10\2\0\3\10\1\0\4\10\1\370"
-			+ "\2\10\2\0\1\122\2\10\4\0\1\10\1\371\3\10" + "\1\372\1\10\1\373\22\0\4\10\1\374\3\10\1\375"
-			+ "\5\10\1\376\3\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\7\10\1\377\12\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\10\10\1\u0100\11\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\7\10" + "\1\u0101\12\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\1\10\1\134\1\10\1\u0102\4\10\22\0" + "\1\10\1\u0103\3\10\1\u0104\14\10\2\0\3\10\1\0"
-			+ "\6\10\1\u0105\2\0\1\122\2\10\4\0\10\10\22\0" + "\7\10\1\134\12\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\4\10\1\u0106\15\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\6\10\1\u0107\1\10\22\0\22\10\2\0\3\10\1\0" + "\6\10\1\u0108\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\6\10\1\u0109\1\10\22\0\4\10\1\u010a\15\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\2\10\1\u010b\5\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\2\10\2\134\1\10\1\134\1\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\17\10\3\134\2\0\3\10\1\0"
-			+ "\3\10\1\134\3\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\17\10\3\134\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\6\10\1\u010c\13\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\1\10\1\u010d\6\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\5\10"
-			+ "\1\u010e\14\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\1\10\1\134\4\10\1\u010f\1\10\22\0"
-			+ "\3\10\1\u0110\16\10\2\0\2\10\1\u0110\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\7\10\1\u0111"
-			+ "\1\10\1\u0112\10\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\4\10\1\u0113\3\10\22\0\22\10"
-			+ "\2\0\1\u0113\2\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\4\10\1\u0114\15\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\7\10\1\366" + "\22\0\5\10\1\u0115\14\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\5\10\1\u0116\2\10\22\0" + "\10\10\1\u0117\11\10\2\0\3\10\1\0\4\10\1\u0118"
-			+ "\2\10\2\0\1\122\2\10\4\0\10\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\2\10\1\u0119\5\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\1\10\1\u011a\3\10"
-			+ "\1\u011b\2\10\22\0\4\10\1\u011c\1\u011d\14\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10"
-			+ "\1\u011e\4\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\2\10\1\203"
-			+ "\2\10\1\u011f\1\u0120\13\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\5\10\1\u0121\2\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\6\10\1\u0122\1\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\1\10\1\u0123\5\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\6\10\1\u0124\13\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\7\10\1\u0125\22\0\22\10\2\0\3\10\57\0\1\u0126" + "\45\0\1\u0127\3\0\1\u0128\27\0\1\u0129\1\u012a\103\0"
-			+ "\1\u012b\106\0\1\u012c\40\0\1\u012d\100\0\1\u012e\31\0"
-			+ "\1\u012f\17\0\1\u012e\30\0\1\u0130\135\0\1\u0131\43\0"
-			+ "\1\u0132\103\0\1\u0133\77\0\1\u0134\56\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\7\10\1\u0135\1\u0136"
-			+ "\11\10\2\0\3\10\1\0\6\10\1\134\2\0\1\122" + "\2\10\4\0\6\10\1\u0137\1\10\22\0\1\10\1\u0138"
-			+ "\3\10\1\u0139\1\10\1\u0138\12\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\7\10\1\u0104\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\10\10\1\u013a\11\10\2\0\3\10"
-			+ "\1\0\6\10\1\u013b\2\0\1\122\2\10\4\0\10\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\1\10\1\u013c\20\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\2\10"
-			+ "\1\u013d\1\u013e\1\u013f\1\u0140\2\10\22\0\4\10\1\u0141" + "\15\10\2\0\1\u013f\2\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\3\10\1\u0142\16\10\2\0" + "\2\10\1\u0142\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\1\10\1\u0143\5\10\1\u0144\22\0\2\10\1\u0145\17\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\6\10\1\u0146\13\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\2\10\1\u0147\2\10"
-			+ "\1\u0148\2\10\22\0\2\10\1\u0149\1\10\1\u014a\1\u014b" + "\1\u014c\5\10\1\u014d\5\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\2\10\1\u014e" + "\17\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\4\10\1\u014f\15\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\15\10\1\u0150\4\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\11\10\1\u013a\10\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\2\10\1\u0151\5\10\22\0\1\10\1\u013c\2\10\1\u0152"
-			+ "\15\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\2\10\1\u0153\4\10\1\u0154\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10" + "\1\u0155\4\10\22\0\5\10\1\u0156\14\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\4\10\1\u0157\15\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\6\10\1\u0158\1\10\22\0\1\10" + "\1\u0159\20\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\3\10\1\u015a\4\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10"
-			+ "\1\u015b\1\10\1\u015c\2\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\6\10\1\u015d"
-			+ "\1\10\22\0\1\10\1\u015e\2\10\1\u015f\4\10\1\u0160" + "\10\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\1\10\1\u0161\6\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\4\10\1\u0162"
-			+ "\3\10\22\0\22\10\2\0\1\u0162\2\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\1\10\1\u0163\4\10\1\u0164"
-			+ "\1\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\2\10\1\u0165\5\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\1\10\1\u0166\6\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\1\10\1\u0167\6\10" + "\22\0\22\10\2\0\3\10\1\0\1\10\1\u0168\5\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\7\10"
-			+ "\1\u0169\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\4\10\1\u016a\15\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\7\10\1\u016b\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\2\10\1\u016c" + "\17\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\2\10\1\u013c\5\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\5\10\1\u016d"
-			+ "\1\u016e\1\10\22\0\1\10\1\u016f\3\10\1\u0170\1\10" + "\1\u0171\12\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\2\10\1\u0172\17\10\2\0" + "\3\10\1\0\7\303\2\0\1\u0173\2\303\4\0\10\303"
-			+ "\22\0\22\303\2\0\3\303\1\0\2\u0174\2\0\1\u0174" + "\1\0\1\u0174\3\0\2\u0174\4\0\10\u0174\22\0\17\u0174"
-			+ "\5\0\3\u0174\1\0\7\305\2\0\1\u0175\2\305\4\0" + "\10\305\22\0\22\305\2\0\3\305\1\0\2\u0176\2\0"
-			+ "\1\u0176\1\0\1\u0176\3\0\2\u0176\4\0\10\u0176\22\0" + "\17\u0176\5\0\3\u0176\15\101\1\0\1\101\1\0\34\101"
-			+ "\1\u0177\22\101\3\0\15\101\1\0\1\101\1\0\7\101" + "\1\u0178\47\101\3\0\15\101\1\0\1\101\1\0\2\101"
-			+ "\1\u0179\54\101\3\0\15\101\1\0\1\101\1\0\36\101"
-			+ "\1\u017a\20\101\2\0\1\u017b\56\0\1\u017b\22\0\1\u017b"
-			+ "\54\0\1\u017c\54\0\1\u017d\74\0\1\u017e\57\0\15\112" + "\1\0\36\112\1\u017f\22\112\3\0\15\112\1\0\11\112"
-			+ "\1\u0180\47\112\3\0\15\112\1\0\4\112\1\u0181\54\112"
-			+ "\3\0\15\112\1\0\40\112\1\u0182\20\112\2\0\1\u0183"
-			+ "\56\0\1\u0183\22\0\1\u0183\54\0\1\u0184\54\0\1\u0185"
-			+ "\74\0\1\u0186\62\0\4\u0187\15\0\3\u0187\31\0\1\u0187" + "\1\0\1\u0187\7\0\3\u0187\2\0\1\u0187\3\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\4\10\1\u0188" + "\15\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\4\10\1\u0189\15\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\1\10\1\u018a"
-			+ "\6\10\22\0\1\134\21\10\2\0\1\10\1\134\1\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\2\10\1\u018b"
-			+ "\5\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\1\10\1\u018c\20\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\2\10\1\134\5\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\3\10\1\u018d\4\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\4\10\1\u018e\15\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\11\10\1\160\10\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\3\10\1\u018f\4\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\4\10\1\u0190\15\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\5\10\1\u0191" + "\2\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\7\10\1\u0192\22\0\1\10\1\u0193" + "\20\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\7\10\1\u018f\22\0\22\10\2\0\3\10\1\0" + "\7\351\2\0\1\u0194\2\351\4\0\10\351\16\0\1\135"
-			+ "\3\0\22\351\2\0\3\351\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\4\10\1\u0195\15\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\6\10\1\u0196\13\10\2\0\3\10\1\0\6\10"
-			+ "\1\u0197\2\0\1\122\2\10\4\0\10\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\7\10\1\360\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\4\10\1\u018f"
-			+ "\15\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\7\10\1\u0198\12\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\1\10\1\u018f" + "\6\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\7\10\1\u0199\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\2\10\1\u019a\17\10\2\0\3\10\14\0\1\u019b" + "\66\0\7\10\2\0\1\122\2\10\4\0\1\10\1\u019c"
-			+ "\6\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\3\10\1\u019d\4\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\1\10\1\u019e\6\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\1\10" + "\1\u019f\20\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\6\10\1\u01a0\13\10\2\0" + "\3\10\1\0\6\10\1\u01a1\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\7\10\1\u01a2\12\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\3\10\1\u01a3\4\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\5\10\1\253\2\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\7\10\1\u01a4\12\10\2\0" + "\3\10\1\0\6\10\1\u01a5\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\2\10\1\u01a6\17\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\1\u0113\21\10\2\0\1\10\1\u0113\1\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\2\10\1\277\17\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\5\10\1\u01a7\14\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\5\10\1\u01a8\2\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\1\u013c"
-			+ "\21\10\2\0\1\10\1\u013c\1\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\11\10\1\u01a9\10\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\5\10\1\u01aa\14\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\7\10\1\365\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\7\10\1\u01ab\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\3\10\1\u01ac\4\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\7\10\1\u01ad\12\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\5\10\1\u0152\14\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\2\10\1\u0172\5\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\6\10\1\u01ae\13\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\1\u01af\21\10\2\0\1\10\1\u01af\1\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\6\10\1\u01b0"
-			+ "\13\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\5\10\1\u01b1\2\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\4\10\1\u01b2\2\10\2\0\1\122\2\10\4\0" + "\7\10\1\u01b3\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\2\10\1\u01b4" + "\17\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\1\10\1\134\6\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\10\10\1\u01b5\11\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\3\10\1\u01b6\4\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\7\10\1\u01b7\12\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\1\10\1\u01b8\5\10" + "\1\u01b9\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\7\10\1\u01ba\22\0\5\10\1\u01bb" + "\14\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\6\10\1\u01bc\1\10\22\0\5\10\1\u01bd\14\10" + "\2\0\3\10\1\0\4\10\1\u01be\2\10\2\0\1\122"
-			+ "\2\10\4\0\2\10\1\u013d\1\u013e\1\u01bf\1\u01c0\1\10"
-			+ "\1\u01c1\22\0\1\10\1\u01c2\1\10\1\u01c3\1\10\1\u01c4"
-			+ "\1\u01c5\1\u01c6\12\10\2\0\1\u01bf\1\10\1\u01c3\1\0" + "\7\10\2\0\1\122\2\10\4\0\2\10\1\u01c7\5\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\7\10\1\u01c8\12\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10" + "\1\u01c9\6\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\3\10\1\242\4\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\1\10\1\u01ca\6\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\3\10\1\u01cb\16\10\2\0\2\10\1\u01cb\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\5\10\1\u01cc"
-			+ "\14\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\3\10\1\u01cd\4\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\7\10\1\u01ce" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\6\10\1\u01cf\13\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10"
-			+ "\1\u01d0\6\10\22\0\22\10\2\0\3\10\62\0\1\u01d1"
-			+ "\42\0\1\u01d2\106\0\1\u01d3\133\0\1\u01d4\72\0\1\u01d5"
-			+ "\24\0\1\u01d5\63\0\1\u01d6\47\0\1\u01d7\131\0\1\u01d8"
-			+ "\100\0\1\u0126\2\0\1\u01d1\47\0\1\u01d9\27\0\1\u01da"
-			+ "\44\0\1\u01db\103\0\1\u01dc\51\0\1\u01dc\62\0\1\u01dd" + "\44\0\1\u01de\57\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\3\10\1\u01df\4\10\22\0\7\10\1\u01e0\12\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\1\u01e1\21\10\2\0\1\10\1\u01e1\1\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\11\10"
-			+ "\1\134\10\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\7\10\1\134\12\10\2\0"
-			+ "\3\10\1\0\6\10\1\134\2\0\1\122\2\10\4\0" + "\2\10\1\134\5\10\22\0\5\10\1\134\14\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10" + "\1\u013c\4\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\10\10\1\u01e2" + "\11\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\3\10\1\u01e3\4\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\2\10\1\u01e4"
-			+ "\5\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\2\10\1\u01e5\17\10"
-			+ "\2\0\3\10\1\0\4\10\1\176\2\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\3\10\1\u01e6\4\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\2\10\1\u01e7\17\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\4\10"
-			+ "\1\u01e8\3\10\22\0\5\10\1\u01e9\1\242\13\10\2\0" + "\1\u01e8\2\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\1\10\1\u01ea\6\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\1\10\1\u01eb\6\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\4\10\1\u013c\15\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10" + "\1\u01ec\4\10\22\0\22\10\2\0\3\10\1\0\4\10"
-			+ "\1\u01ed\2\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\10\10\1\u01ee\11\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\6\10\1\134\13\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\5\10\1\u01ef\2\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\13\10\1\134\6\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\3\10\1\u01f0\4\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\1\10\1\u01f1\6\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\7\10\1\u01f2\12\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\3\10\1\u01f3\4\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\11\10\1\u01f4\10\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\134" + "\4\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\2\10\1\u01f5\5\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\1\10\1\u018a\6\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\5\10\1\u01f6\2\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\5\10\1\u01f7\14\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10" + "\1\132\6\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\6\10\1\u01f8\1\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\1\10\1\u01f9\6\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\5\10\1\u01fa"
-			+ "\2\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\5\10\1\u01fb\14\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\4\10\1\u01fc\15\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\6\10" + "\1\u01fd\13\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\14\10\1\u01fe\5\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10"
-			+ "\1\u01ff\6\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\1\10\1\u0200"
-			+ "\20\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\4\10\1\u0201\3\10\22\0\22\10\2\0\1\u0201"
-			+ "\2\10\1\0\7\10\2\0\1\122\2\10\4\0\6\10" + "\1\u0202\1\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\5\10\1\u0203\2\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\3\10\1\u0204\4\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\1\10\1\u01b8"
-			+ "\1\10\1\u0205\3\10\1\u0206\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\1\10\1\u0207"
-			+ "\2\10\1\u0208\1\10\1\u0209\1\10\22\0\3\10\1\u020a" + "\1\10\1\u020b\1\10\1\u020c\12\10\2\0\1\u0208\1\10"
-			+ "\1\u020a\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\6\10\1\u013c\13\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\1\10\1\u020d\1\u020e\2\10" + "\1\u020f\1\10\1\u0210\22\0\2\10\1\u0211\3\10\1\u0212"
-			+ "\1\u0213\4\10\1\u0214\5\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\7\10\1\u0215\22\0\22\10"
-			+ "\2\0\3\10\1\0\6\10\1\u01f4\2\0\1\122\2\10" + "\4\0\10\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\5\10\1\u0216" + "\14\10\2\0\3\10\1\0\4\10\1\134\2\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\7\10\1\u0217\12\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\3\10\1\u0218\4\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\2\10\1\u0219\5\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\6\10" + "\1\u021a\13\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\3\10\1\u021b\4\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10"
-			+ "\1\u013c\6\10\22\0\22\10\2\0\3\10\7\0\1\u021c" + "\73\0\7\u0174\2\0\1\u021d\2\u0174\4\0\10\u0174\16\0"
-			+ "\1\u021e\3\0\22\u0174\2\0\3\u0174\7\0\1\u021f\73\0"
-			+ "\7\u0176\2\0\1\u0220\2\u0176\4\0\10\u0176\16\0\1\u0221"
-			+ "\3\0\22\u0176\2\0\3\u0176\15\101\1\0\1\101\1\0" + "\25\101\1\u0222\31\101\3\0\15\101\1\0\1\101\1\0"
-			+ "\4\101\1\u0177\52\101\3\0\15\101\1\0\1\101\1\0" + "\34\101\1\u0223\22\101\3\0\15\101\1\0\1\101\1\0"
-			+ "\12\101\1\u0224\44\101\35\0\1\u0225\114\0\1\u0226\60\0"
-			+ "\1\u017c\131\0\1\u0227\25\0\15\112\1\0\27\112\1\u0228"
-			+ "\31\112\3\0\15\112\1\0\6\112\1\u017f\52\112\3\0" + "\15\112\1\0\36\112\1\u0229\22\112\3\0\15\112\1\0"
-			+ "\14\112\1\u022a\44\112\35\0\1\u022b\114\0\1\u022c\60\0"
-			+ "\1\u0184\131\0\1\u022d\30\0\4\u022e\15\0\3\u022e\31\0"
-			+ "\1\u022e\1\0\1\u022e\7\0\3\u022e\2\0\1\u022e\3\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\7\10"
-			+ "\1\u022f\12\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\10\10\1\u0230\11\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\6\10\1\u0137\13\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\5\10\1\u0231\2\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\20\10\1\134\1\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\10\10\1\375\11\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\7\10\1\u0232\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\7\10\1\u0233\12\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\10\10\1\u0234" + "\11\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\2\10\1\u0235\5\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\1\10\1\u0236"
-			+ "\6\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\2\10\1\u0237\5\10\22\0\22\10"
-			+ "\2\0\3\10\7\0\1\u0238\73\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\7\10\1\u0239\12\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\10\10\1\u023a\11\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\10\10\1\u023b" + "\11\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\13\10\1\u023c\6\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\5\10\1\u023d\14\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\14\10\1\u023e\5\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\6\10\1\u023f\13\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\6\10" + "\1\u0240\13\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\6\10\1\u0172\13\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\2\10"
-			+ "\1\u0146\5\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\2\10\1\u0241\1\u0242\4\10"
-			+ "\22\0\2\10\1\u0243\3\10\1\u023f\13\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\2\10\1\u0244"
-			+ "\5\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\6\10\1\u0245\1\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\3\10\1\u0246\4\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\6\10" + "\1\u0247\13\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\7\10\1\u0248\22\0\3\10\1\u0249\16\10" + "\2\0\2\10\1\u0249\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\4\10\1\u024a\15\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\2\10\1\u024b"
-			+ "\5\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\10\1\u024c\6\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\1\u024d\21\10\2\0\1\10\1\u024d\1\10"
-			+ "\1\0\1\10\1\u024e\5\10\2\0\1\122\2\10\4\0" + "\2\10\1\u024f\1\u0250\3\10\1\u0251\22\0\3\10\1\u0252"
-			+ "\1\10\1\u0253\1\u0254\13\10\2\0\2\10\1\u0252\1\0" + "\7\10\2\0\1\122\2\10\4\0\4\10\1\u0255\3\10"
-			+ "\22\0\3\10\1\u0142\1\u01b8\1\u0253\14\10\2\0\1\u0255" + "\1\10\1\u0142\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\5\10\1\u0256\14\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\2\10"
-			+ "\1\u0257\17\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\3\10\1\u0258\16\10\2\0"
-			+ "\2\10\1\u0258\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\14\10\1\u0259\5\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\2\10\1\u025a\5\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\2\10\1\u025b\17\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\4\10\1\134\15\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\7\10\1\u025c\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\4\10\1\u025d\15\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\6\10\1\u025e\1\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\3\10\1\u025f\4\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10"
-			+ "\1\u0172\4\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\3\10\1\u0106\4\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\5\10\1\u0260\2\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\u0146" + "\4\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\1\10\1\u0261\7\10" + "\1\u0262\10\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\2\10\1\u025a\5\10\22\0\13\10\1\u0263" + "\6\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\2\10\1\u0264\3\10\1\u0265\13\10" + "\2\0\3\10\1\0\6\10\1\u0266\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\1\10\1\u0267\6\10\22\0"
-			+ "\1\u0268\21\10\2\0\1\10\1\u0268\1\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\6\10\1\u0269\1\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\2\10\1\u026a\17\10\2\0\3\10"
-			+ "\1\0\6\10\1\u026b\2\0\1\122\2\10\4\0\10\10" + "\22\0\6\10\1\u026c\13\10\2\0\3\10\1\0\6\10"
-			+ "\1\u026d\2\0\1\122\2\10\4\0\10\10\22\0\15\10" + "\1\u026e\4\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\3\10\1\u026f\1\10\1\u0270\2\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\5\10\1\u0271\14\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\11\10\1\u0272\10\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\2\10\1\u0273\17\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\1\134\7\10\22\0\22\10\2\0\3\10\1\0\6\10"
-			+ "\1\u0274\2\0\1\122\2\10\4\0\10\10\22\0\2\10" + "\1\u0275\1\u0142\16\10\2\0\2\10\1\u0142\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\3\10\1\u0276\4\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\4\10\1\u0277\15\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\1\u0278\21\10\2\0\1\10\1\u0278\1\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\1\10\1\u0279\6\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\3\10\1\u0137\4\10\22\0\22\10\2\0\3\10"
-			+ "\24\0\1\u027a\136\0\1\u027b\44\0\1\u0131\132\0\1\u027a"
-			+ "\105\0\1\u0131\74\0\1\u027c\1\u027d\46\0\1\u027e\145\0"
-			+ "\1\u027f\37\0\1\u0280\104\0\1\u0281\131\0\1\u0282\77\0"
-			+ "\1\u0283\47\0\1\u0284\63\0\1\u0285\75\0\7\10\2\0" + "\1\122\2\10\4\0\3\10\1\u01b4\4\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\3\10\1\u0286\4\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\2\10" + "\1\u0287\17\10\2\0\3\10\1\0\4\10\1\u0288\2\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\2\10"
-			+ "\1\u0289\5\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\6\10\1\u028a\1\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\3\10\1\132\16\10\2\0\2\10"
-			+ "\1\132\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\4\10\1\u028b\15\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\11\10\1\u0172" + "\10\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\11\10\1\u028c\10\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\1\10\1\u028d"
-			+ "\2\10\1\u028e\1\u028f\2\10\22\0\1\10\1\u0290\20\10" + "\2\0\1\u028e\2\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\1\10\1\u0291\20\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\1\10\1\u0292"
-			+ "\6\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\6\10\1\u0293\13\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\4\10\1\u0294\15\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\4\10" + "\1\u0295\15\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\7\10\1\134\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\u0296"
-			+ "\4\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\6\10\1\u0297\13\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\2\10\1\u0298\5\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\5\10\1\u0299\2\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\3\10\1\u029a\4\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10"
-			+ "\1\u029b\6\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\1\u029c\21\10"
-			+ "\2\0\1\10\1\u029c\1\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\2\10\1\u029d\17\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\2\10\1\246\17\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\2\10\1\u029e\5\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\13\10\1\u029f\6\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\10\10\1\u02a0\11\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\2\10\1\u02a1\5\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\4\10\1\u02a2\3\10\22\0\22\10\2\0\1\u02a2\2\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\2\10\1\u02a3" + "\5\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\6\10\1\u02a4\1\10\22\0\6\10" + "\1\u02a5\13\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\2\10\1\u023e\17\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\2\10\1\u02a6\17\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\2\10\1\u02a7"
-			+ "\17\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\1\10\1\u02a8\6\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\5\10\1\u02a9\14\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\1\u02aa\21\10\2\0" + "\1\10\1\u02aa\1\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\3\10\1\u02ab\4\10\22\0\22\10\2\0\3\10" + "\1\0\6\10\1\u02ac\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\2\10\1\u02ad\17\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\5\10\1\u02ae\2\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\2\10\1\u02af\17\10\2\0\3\10"
-			+ "\1\0\6\10\1\u02b0\2\0\1\122\2\10\4\0\10\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\6\10\1\u02b1\1\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\6\10\1\u02b2\13\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\3\10\1\u02b3\4\10\22\0"
-			+ "\2\10\1\163\17\10\2\0\3\10\1\0\4\10\1\u02b4" + "\2\10\2\0\1\122\2\10\4\0\10\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\3\10\1\u02b5\4\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\5\10" + "\1\u02b6\14\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\13\10\1\u02b7\6\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10"
-			+ "\1\u02b8\4\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\3\10\1\u02b9\4\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\5\10\1\u02ba\2\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\4\10\1\u02bb\2\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\7\10\1\u02bc\12\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\10\10\1\u02bd\11\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\6\10"
-			+ "\1\u02be\13\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\11\10\1\u02bf\10\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\7\10" + "\1\u02c0\22\0\22\10\2\0\3\10\3\0\4\u02c1\15\0"
-			+ "\3\u02c1\31\0\1\u02c1\1\0\1\u02c1\7\0\3\u02c1\2\0"
-			+ "\1\u02c1\11\0\1\u02c2\75\0\4\u02c3\15\0\3\u02c3\31\0"
-			+ "\1\u02c3\1\0\1\u02c3\7\0\3\u02c3\2\0\1\u02c3\11\0" + "\1\u02c4\72\0\14\101\1\u02c5\1\0\1\101\1\0\57\101"
-			+ "\3\0\15\101\1\0\1\101\1\0\10\101\1\u0177\14\101"
-			+ "\1\u0222\31\101\3\0\1\101\7\u0224\1\101\1\u0224\1\101"
-			+ "\2\u0224\1\0\1\101\1\u02c6\15\u0224\1\101\1\u0224\2\101"
-			+ "\5\u0224\2\101\25\u0224\2\101\3\u0225\1\0\1\u0225\1\u02c6"
-			+ "\5\u0225\1\0\1\u02c6\1\0\2\u0225\2\0\2\u02c6\10\u0225"
-			+ "\4\u02c6\1\0\1\u02c6\2\0\5\u02c6\2\0\3\u02c6\22\u0225"
-			+ "\2\0\3\u0225\14\0\1\u02c7\115\0\1\u017c\14\0\1\u0226" + "\34\0\14\112\1\u02c8\1\0\61\112\3\0\15\112\1\0"
-			+ "\12\112\1\u017f\14\112\1\u0228\31\112\3\0\1\112\7\u022a"
-			+ "\1\112\1\u022a\1\112\2\u022a\1\0\1\112\16\u022a\1\112"
-			+ "\1\u022a\2\112\5\u022a\2\112\25\u022a\2\112\3\u022b\1\0"
-			+ "\1\u022b\1\u02c9\5\u022b\1\0\1\u02c9\1\0\2\u022b\2\0"
-			+ "\2\u02c9\10\u022b\4\u02c9\1\0\1\u02c9\2\0\5\u02c9\2\0"
-			+ "\3\u02c9\22\u022b\2\0\3\u022b\14\0\1\u02ca\115\0\1\u0184"
-			+ "\14\0\1\u022c\37\0\4\u02cb\15\0\3\u02cb\31\0\1\u02cb" + "\1\0\1\u02cb\7\0\3\u02cb\2\0\1\u02cb\3\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\2\10\1\u02cc" + "\17\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\1\10\1\u02cd\6\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\7\10\1\u02ce\12\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\10\1\u02cf\6\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\2\10\1\337\17\10\2\0\3\10\1\0"
-			+ "\6\10\1\u02d0\2\0\1\122\2\10\4\0\10\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\1\10\1\u02d1\6\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\5\10\1\u02d2"
-			+ "\2\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\6\10\1\u02d3\13\10"
-			+ "\2\0\3\10\3\0\4\u02d4\15\0\3\u02d4\31\0\1\u02d4" + "\1\0\1\u02d4\7\0\3\u02d4\2\0\1\u02d4\3\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\1\10\1\u02d5" + "\20\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\2\10\1\u02d6\5\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\2\10\1\u02d7\17\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\10\1\u02d8\6\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\13\10\1\u02d9\6\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\6\10\1\u013a\1\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\4\10\1\u02da\15\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\2\10"
-			+ "\1\u02db\5\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\3\10\1\u02dc\4\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\4\10\1\u02dd\15\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\4\10\1\u02de\15\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\15\10\1\u02df\4\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\6\10\1\u013c\1\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\7\10\1\u02e0\22\0"
-			+ "\22\10\2\0\3\10\1\0\4\10\1\u02e1\2\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\1\u02e2\21\10\2\0\1\10\1\u02e2\1\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\5\10\1\301\2\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\7\10\1\u02e3\12\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\u02e4"
-			+ "\4\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\2\10\1\u02e5\17\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\2\10\1\u02e6\17\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\5\10\1\u02e7\2\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\3\10\1\u02e8\4\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\2\10"
-			+ "\1\u02e9\5\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\3\10\1\u02ea\4\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\2\10\1\u02eb\5\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\6\10\1\u02ec" + "\1\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\1\10\1\u01bc\20\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\2\10\1\u02ed\17\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\6\10\1\u02ee\1\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\15\10\1\u0152\4\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\2\10" + "\1\u02ef\4\10\1\u02f0\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\7\10\1\u02f1\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\5\10\1\u02f2\2\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\12\10\1\u013a\7\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\10\1\u02f3\6\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\7\10\1\u02f4\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\5\10\1\u02f5\2\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\1\u0172\7\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\1\10"
-			+ "\1\u0159\20\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\14\10\1\u013c\5\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\1\10\1\u02f6\20\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\5\10\1\u02f7" + "\14\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\6\10\1\u02f8\1\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\4\10\1\u0172\15\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\10\1\u02f9\6\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\5\10\1\u02fa\2\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\3\10\1\u02fb\4\10" + "\22\0\22\10\2\0\3\10\1\0\6\10\1\u02fc\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\4\10\1\u02fd\15\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\2\10\1\u02fe\5\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\11\10\1\u02ff\10\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\1\10\1\u0300\6\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\3\10\1\u0301\4\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10"
-			+ "\1\u0302\6\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\1\10\1\u0303\6\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\1\u0300\21\10\2\0\1\10\1\u0300"
-			+ "\1\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10" + "\1\u0304\4\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\6\10\1\u0305" + "\13\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\4\10\1\u0306\15\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\4\10\1\u0307\15\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\10\1\u0308\6\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\1\10\1\u0309\6\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\6\10" + "\1\u030a\13\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\1\134\21\10\2\0\1\10" + "\1\134\1\10\25\0\1\u0131\51\0\1\u0131\25\0\1\u0131"
-			+ "\105\0\1\u030b\131\0\1\u030c\46\0\1\u030d\130\0\1\u030e"
-			+ "\24\0\1\u030e\24\0\1\u030f\65\0\1\u0310\147\0\1\u0311"
-			+ "\103\0\1\u01d3\103\0\1\u0312\101\0\1\u0128\21\0\7\10" + "\2\0\1\122\2\10\4\0\7\10\1\u0113\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\4\10\1\164\15\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\6\10" + "\1\u0313\13\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\6\10\1\u0314\13\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10"
-			+ "\1\u0315\4\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\7\10\1\u02aa"
-			+ "\12\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\1\10\1\u0316\20\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\14\10\1\u0317\5\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\2\10\1\u0318\17\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\6\10\1\u0319\1\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\2\10\1\u031a\5\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\6\10\1\u031b\1\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\2\10" + "\1\u031c\5\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\2\10\1\u0113\5\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\6\10\1\u031d\13\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\5\10\1\u031e\14\10\2\0\3\10\1\0\6\10\1\u031f" + "\2\0\1\122\2\10\4\0\2\10\1\u0320\5\10\22\0"
-			+ "\2\10\1\u0243\17\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\3\10\1\u0321\16\10"
-			+ "\2\0\2\10\1\u0321\1\0\7\10\2\0\1\122\2\10" + "\4\0\7\10\1\u0322\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\6\10\1\134\1\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\4\10\1\u0113\15\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10"
-			+ "\1\u0323\4\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\3\10\1\u0324\4\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\4\10\1\u0325\15\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\u013e" + "\4\10\22\0\22\10\2\0\3\10\1\0\4\10\1\u0326"
-			+ "\2\10\2\0\1\122\2\10\4\0\10\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\3\10\1\u0327\4\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\3\10\1\u0138\4\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\2\10\1\u0328\17\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\6\10\1\u0299\13\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\3\10\1\u0329\4\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\4\10\1\u032a\15\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\4\10\1\u0152\15\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\6\10\1\u032b\1\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\3\10\1\u032c\4\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\1\10\1\u032d\6\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\6\10\1\u032e\13\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\11\10\1\u032f\10\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\6\10\1\u0330\1\10\22\0"
-			+ "\4\10\1\u0331\15\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\6\10\1\u0332\1\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\4\10\1\u0333\2\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\4\10" + "\1\u0334\15\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\2\10\1\u0335\5\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\6\10"
-			+ "\1\u0336\1\10\22\0\10\10\1\u0337\11\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\1\10\1\u0338\20\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\10\1\u0339\6\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\6\10\1\u033a\13\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\1\10\1\u033b\6\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\6\10\1\u033c\13\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\5\10\1\u014b\14\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\4\10\1\u033d\3\10\22\0"
-			+ "\22\10\2\0\1\u033d\2\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\7\10\1\u033e\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\10\10\1\u033f\11\10\2\0\3\10\1\0\6\10\1\u0340"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\15\10\1\u0341\4\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\5\10\1\u0342\2\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\7\10\1\u0343\12\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\1\10\1\u0344\7\10\1\u0345\10\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\5\10" + "\1\u0346\14\10\2\0\3\10\3\0\4\u0347\15\0\3\u0347"
-			+ "\31\0\1\u0347\1\0\1\u0347\7\0\3\u0347\2\0\1\u0347" + "\5\0\4\u0348\15\0\3\u0348\31\0\1\u0348\1\0\1\u0348"
-			+ "\7\0\3\u0348\2\0\1\u0348\5\0\4\u0349\15\0\3\u0349" + "\31\0\1\u0349\1\0\1\u0349\7\0\3\u0349\2\0\1\u0349"
-			+ "\5\0\4\u034a\15\0\3\u034a\31\0\1\u034a\1\0\1\u034a" + "\7\0\3\u034a\2\0\1\u034a\2\0\14\101\1\u0224\1\0"
-			+ "\1\101\1\0\57\101\17\0\1\u0225\65\0\14\112\1\u022a" + "\1\0\61\112\17\0\1\u022b\70\0\4\10\15\0\3\10"
-			+ "\31\0\1\10\1\0\1\10\7\0\3\10\2\0\1\10" + "\3\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\4\10\1\u034b\15\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\6\10\1\u034c\13\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\2\10\1\u034d\17\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\5\10\1\u034e\2\10" + "\22\0\1\10\1\u034f\3\10\1\u0350\14\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\5\10\1\u0351" + "\2\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\11\10\1\u0352\10\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\2\10\1\u0353\5\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\10\10"
-			+ "\1\u0354\11\10\2\0\3\10\3\0\4\u0355\15\0\3\u0355" + "\31\0\1\u0355\1\0\1\u0355\7\0\3\u0355\2\0\1\u0355"
-			+ "\3\0\7\10\2\0\1\122\2\10\4\0\5\10\1\u0356" + "\2\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\5\10\1\u0357\2\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\4\10\1\350\15\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\6\10"
-			+ "\1\160\13\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\6\10\1\u0358\1\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\6\10" + "\1\u031c\1\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\5\10\1\u0292\2\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\10\10\1\u0359\11\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\15\10\1\u035a\4\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\2\10\1\u035a\17\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\3\10\1\u0161\4\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\1\10\1\u035b\6\10" + "\22\0\22\10\2\0\3\10\1\0\6\10\1\u035c\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\u01a4"
-			+ "\4\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\3\10\1\u035d\4\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\10\10\1\u035e\11\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\6\10" + "\1\u035f\13\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\4\10\1\u0360\15\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10"
-			+ "\1\u0361\6\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\5\10\1\u0362\2\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\2\10\1\u0363\5\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\u0364" + "\4\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\2\10\1\u0365\17\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\6\10\1\u0366\13\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\2\10\1\u0367\5\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\6\10\1\u0368\13\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\6\10\1\u0369\13\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\13\10\1\u036a" + "\6\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\6\10\1\u036b\13\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\4\10\1\u036c\15\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\2\10\1\u036d\5\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\3\10\1\u036e\4\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\4\10" + "\1\u036f\15\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\7\10\1\u013c\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\6\10\1\u0370\13\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\3\10\1\u0371\4\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\6\10\1\u0372\13\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\1\10\1\u0373\6\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\6\10\1\u0374\1\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\10\10\1\u0375\11\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\7\10\1\u0376"
-			+ "\12\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\2\10\1\u0377\17\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\1\10\1\u0378\20\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\1\10\1\u0379\20\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\2\10\1\u037a\5\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\5\10\1\u037b\2\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\3\10\1\u037c\1\10\1\u037d\2\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\7\10\1\u037e\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\4\10" + "\1\u037f\15\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\2\10\1\u0275\17\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\7\10"
-			+ "\1\u0380\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\3\10\1\u0381\4\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\6\10\1\u0382\2\0\1\122\2\10" + "\4\0\6\10\1\u0383\1\10\22\0\2\10\1\u0384\17\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\3\10\1\u0385\16\10\2\0\2\10\1\u0385"
-			+ "\7\0\1\u0386\152\0\1\u0387\105\0\1\u0131\77\0\1\u027b"
-			+ "\41\0\1\u0388\141\0\1\u01d3\76\0\1\u0389\46\0\1\u038a" + "\56\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\6\10\1\u038b\13\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\2\10\1\u038c\5\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\3\10\1\u038d\4\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\6\10\1\u013c\2\0\1\122\2\10\4\0\10\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\1\10\1\u038e\20\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\6\10\1\u014d"
-			+ "\1\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\6\10\1\u038f\1\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\6\10\1\u0390\13\10\2\0\3\10\1\0"
-			+ "\6\10\1\u0391\2\0\1\122\2\10\4\0\10\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\14\10\1\134\5\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\2\10\1\u0152"
-			+ "\5\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\3\10\1\u0299\4\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\4\10\1\u0392\15\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\3\10\1\u0393\4\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\2\10\1\u0394\17\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\1\u0395\21\10\2\0\1\10\1\u0395\1\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\4\10\1\u0396\2\10"
-			+ "\1\u0397\22\0\7\10\1\u0398\12\10\2\0\1\u0396\2\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\5\10\1\u0364\14\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\7\10\1\u0399\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\2\10\1\u039a\3\10\1\u01ca\13\10\2\0\3\10"
-			+ "\1\0\6\10\1\u0360\2\0\1\122\2\10\4\0\10\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\6\10\1\u039b\1\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10"
-			+ "\1\u039c\6\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\3\10\1\u039d\4\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\7\10\1\u0216\22\0\1\10\1\u039e\20\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\2\10" + "\1\u024b\5\10\22\0\2\10\1\u039f\17\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\6\10\1\u0292\13\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\3\10\1\u013c\16\10" + "\2\0\2\10\1\u013c\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\1\10\1\u03a0\20\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\6\10\1\u03a1"
-			+ "\1\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\5\10\1\u03a2\14\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\3\10\1\u03a3\4\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\3\10\1\u03a4\4\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\7\10\1\u03a5\12\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\2\10"
-			+ "\1\u03a6\5\10\22\0\2\10\1\u0377\17\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\15\10\1\u03a7\4\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\2\10\1\u03a8\17\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\11\10\1\u03a9\10\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\2\10\1\u03aa\5\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\2\10\1\u03ab\5\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\4\10"
-			+ "\1\u03ac\3\10\22\0\22\10\2\0\1\u03ac\2\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\4\10"
-			+ "\1\u03ad\15\10\2\0\3\10\1\0\4\10\1\u03ae\2\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\4\10\1\u03af\15\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\3\10\1\u03b0\4\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\1\10\1\u03b1\6\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\u03b2"
-			+ "\4\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\6\10\1\u03b3\1\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\6\10\1\u03b4\2\0\1\122\2\10" + "\4\0\10\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\5\10\1\u03b5\2\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\3\10\1\u03b6\4\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\2\10\1\u03b7"
-			+ "\5\10\22\0\22\10\2\0\3\10\3\0\4\u03b8\15\0" + "\3\u03b8\31\0\1\u03b8\1\0\1\u03b8\7\0\3\u03b8\2\0"
-			+ "\1\u03b8\5\0\4\u03b9\15\0\3\u03b9\31\0\1\u03b9\1\0" + "\1\u03b9\7\0\3\u03b9\2\0\1\u03b9\5\0\4\u03ba\15\0"
-			+ "\3\u03ba\31\0\1\u03ba\1\0\1\u03ba\7\0\3\u03ba\2\0" + "\1\u03ba\5\0\4\u03bb\15\0\3\u03bb\31\0\1\u03bb\1\0"
-			+ "\1\u03bb\7\0\3\u03bb\2\0\1\u03bb\3\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\10\10\1\u03bc\11\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\4\10\1\u03bd\3\10\22\0\22\10\2\0\1\u03bd\2\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\u0265" + "\4\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\6\10\1\u03be\1\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\5\10\1\240\2\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\6\10"
-			+ "\1\u03bf\13\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\10\10\1\u0152\11\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10" + "\1\u03c0\4\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\1\10\1\u03c1\6\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\2\10\1\u03c2\5\10\22\0\22\10\2\0\3\10" + "\3\0\4\u03c3\15\0\3\u03c3\31\0\1\u03c3\1\0\1\u03c3"
-			+ "\7\0\3\u03c3\2\0\1\u03c3\3\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\11\10\1\u03c4\10\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\5\10" + "\1\u03c5\2\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\7\10\1\u03c6\22\0\7\10" + "\1\u03c7\12\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\7\10\1\u03c6\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\u03c8"
-			+ "\4\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\10\1\u03c9\6\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\4\10\1\u03ca\15\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\13\10" + "\1\u03cb\1\10\1\u03cc\4\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\4\10\1\u03cd" + "\15\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\2\10\1\u013c\17\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\1\10\1\u03ce"
-			+ "\6\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\7\10\1\u03cf\12\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\6\10\1\u03d0\13\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\13\10" + "\1\u013c\6\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\1\10\1\u03d1\6\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\7\10"
-			+ "\1\u013a\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\7\10\1\u0172\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\7\10" + "\1\u03d2\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\6\10\1\u03d3\13\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\2\10\1\u03d4\17\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\4\10\1\u03d5\3\10"
-			+ "\22\0\22\10\2\0\1\u03d5\2\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\7\10\1\u03d6\12\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\2\10\1\u03d7\17\10\2\0\3\10\1\0"
-			+ "\4\10\1\u03d8\2\10\2\0\1\122\2\10\4\0\1\10" + "\1\u01b8\2\10\1\u03d9\3\10\22\0\7\10\1\u03da\12\10"
-			+ "\2\0\1\u03d9\2\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\10\10\1\u03db\11\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\6\10\1\u03dc" + "\1\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\5\10\1\u03dd\2\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\5\10\1\u0253\14\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\2\10"
-			+ "\1\u03de\17\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\6\10\1\u03df\1\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\2\10\1\u03e0\17\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\6\10\1\u03e1" + "\13\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\4\10\1\u03e2\15\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\2\10\1\u03e3"
-			+ "\5\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\5\10\1\u03e4\2\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\3\10\1\u03e5\16\10\2\0\2\10\1\u03e5"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\2\10\1\u03e6\17\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\7\10\1\u03e7\22\0\22\10\2\0" + "\3\10\1\0\4\10\1\u03e8\2\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\7\10\1\u034f\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\3\10\1\u03e9\3\10\1\u03ea\22\0\2\10\1\u0146\5\10"
-			+ "\1\u03ea\11\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\1\10\1\u03eb\6\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\u03ec" + "\7\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\4\10\1\u03ed\15\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\6\10\1\u03ee\13\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\4\10"
-			+ "\1\u03ef\15\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\4\10\1\u03f0\4\10\1\u03f1"
-			+ "\10\10\2\0\3\10\63\0\1\u03f2\45\0\1\u03f3\136\0" + "\1\u03f4\100\0\1\u0131\75\0\1\231\23\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\1\10\1\u03f5\6\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\1\u03f6\7\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\3\10\1\u03f7\4\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\4\10\1\u02bb\2\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\5\10\1\u03f8\1\10"
-			+ "\1\u03f9\12\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\10\10\1\u03fa\11\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\10\10\1\u03fb\11\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\2\10\1\u03fc" + "\17\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\10\10\1\u03fd\11\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\5\10\1\246\14\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\6\10\1\u03fe\13\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\6\10\1\u0265\13\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\1\u03ff" + "\21\10\2\0\1\10\1\u03ff\1\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\2\10\1\u0400\17\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\1\10\1\375\6\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\1\10\1\u0401\6\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\3\10\1\u038c\4\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10" + "\1\u0402\4\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\4\10\1\u0403" + "\15\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\2\10\1\u0404\5\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\4\10\1\u0405\15\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\4\10\1\u0406\3\10\22\0\22\10"
-			+ "\2\0\1\u0406\2\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\1\10\1\u0407\20\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\1\10\1\u0408" + "\6\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\1\10\1\u0409\6\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\6\10\1\u040a\1\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\6\10"
-			+ "\1\u040b\13\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\3\10\1\u040c\4\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10" + "\1\u040d\4\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\1\10\1\u040e\6\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\6\10\1\u0286\13\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\14\10\1\u040f\5\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\10\1\u0410\6\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\6\10\1\u0411\13\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\3\10\1\u0412\3\10" + "\1\u023c\22\0\2\10\1\u0413\13\10\1\u0414\3\10\2\0"
-			+ "\3\10\1\0\6\10\1\u0415\2\0\1\122\2\10\4\0" + "\10\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\6\10\1\u02b7\13\10" + "\2\0\3\10\1\0\4\10\1\u0416\2\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\1\10\1\u0417\6\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\2\10\1\u0418\5\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10" + "\1\u0419\6\10\22\0\5\10\1\u041a\14\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\5\10\1\u041b\14\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\4\10\1\u041c\15\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\4\10\1\u03ec\15\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\2\10"
-			+ "\1\u0260\17\10\2\0\3\10\3\0\4\303\15\0\3\303" + "\31\0\1\303\1\0\1\303\7\0\3\303\2\0\1\303"
-			+ "\5\0\4\u041d\15\0\3\u041d\31\0\1\u041d\1\0\1\u041d" + "\7\0\3\u041d\2\0\1\u041d\5\0\4\305\15\0\3\305"
-			+ "\31\0\1\305\1\0\1\305\7\0\3\305\2\0\1\305" + "\5\0\4\u041e\15\0\3\u041e\31\0\1\u041e\1\0\1\u041e"
-			+ "\7\0\3\u041e\2\0\1\u041e\3\0\7\10\2\0\1\122" + "\2\10\4\0\1\10\1\u01b8\6\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\2\10" + "\1\u0396\5\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\6\10\1\u041f\1\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\4\10\1\u0420\15\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\4\10\1\u0421\15\10\2\0\3\10\1\0\6\10\1\160" + "\2\0\1\122\2\10\4\0\10\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\5\10" + "\1\u0422\2\10\22\0\22\10\2\0\3\10\3\0\4\351"
-			+ "\15\0\3\351\31\0\1\351\1\0\1\351\7\0\3\351" + "\2\0\1\351\3\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\4\10\1\u028e\3\10\22\0\22\10\2\0\1\u028e\2\10" + "\1\0\6\10\1\u0423\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\1\10\1\277\6\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\3\10\1\u0424\16\10\2\0\2\10\1\u0424\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\1\u0425\7\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\1\10\1\u0426\6\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\15\10\1\u0427\4\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\3\10\1\u0261\4\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\5\10\1\u0428\2\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\3\10\1\u03e9\4\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\2\10\1\u0429\5\10\22\0\22\10\2\0" + "\3\10\1\0\4\10\1\u042a\2\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\2\10\1\u03bc\5\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\3\10\1\u03cf\4\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\244" + "\4\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\1\10\1\u042b\6\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\1\10\1\u01fe\20\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\4\10\1\134\3\10"
-			+ "\22\0\22\10\2\0\1\134\2\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\2\10\1\u042c\17\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\4\10\1\u042d\15\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\13\10" + "\1\u0263\6\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\6\10\1\u042e\13\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\5\10"
-			+ "\1\u042f\2\10\22\0\22\10\2\0\3\10\1\0\6\10" + "\1\u0430\2\0\1\122\2\10\4\0\10\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\6\10\1\277\13\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\1\10\1\u0431\6\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\5\10\1\u0432\14\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\15\10\1\u0433\4\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\4\10\1\u0434"
-			+ "\15\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\3\10\1\u0435\16\10\2\0\2\10"
-			+ "\1\u0435\1\0\7\10\2\0\1\122\2\10\4\0\7\10" + "\1\u0436\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\3\10\1\u0437\4\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\1\10\1\u0104\6\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\2\10\1\u0438\5\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\6\10\1\u0439\1\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\5\10" + "\1\u043a\2\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\6\10\1\u043b\1\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\4\10\1\u043c\15\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\u043d"
-			+ "\4\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\7\10\1\u043e\12\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\1\10\1\u038c\6\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\2\10" + "\1\u0384\17\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\10\10\1\134\11\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\7\10"
-			+ "\1\u043f\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\6\10\1\u0440\13\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\5\10\1\u0441\2\10\22\0\2\10\1\u0442\17\10\2\0"
-			+ "\3\10\55\0\1\u0443\33\0\1\u0444\120\0\1\u0445\54\0" + "\7\10\2\0\1\122\2\10\4\0\4\10\1\u0446\3\10"
-			+ "\22\0\22\10\2\0\1\u0446\2\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\2\10\1\u0447\17\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\7\10\1\u0448\22\0\10\10\1\u0448\11\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\6\10\1\u0449\13\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\2\10\1\u044a\17\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\2\10\1\u044b\5\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\2\10"
-			+ "\1\u044c\17\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\4\10\1\u044d\15\10\2\0"
-			+ "\3\10\1\0\4\10\1\u044e\2\10\2\0\1\122\2\10" + "\4\0\3\10\1\u044f\3\10\1\u03c6\22\0\7\10\1\u03c7"
-			+ "\12\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\3\10\1\134\16\10\2\0\2\10"
-			+ "\1\134\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\6\10\1\u0450\13\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\2\10\1\u0451\5\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\11\10\1\u0452\10\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\7\10\1\u03bc\12\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\10\1\u0453\6\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\2\10\1\u0265\17\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\2\10" + "\1\u0454\17\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\2\10\1\u0455\17\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\5\10"
-			+ "\1\u0456\2\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\2\10\1\u0457"
-			+ "\17\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\2\10\1\u0458\17\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\5\10\1\u0459" + "\2\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\3\10\1\u03bc\16\10" + "\2\0\2\10\1\u03bc\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\4\10\1\u045a\15\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\2\10\1\u045b"
-			+ "\5\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\3\10\1\u045c\4\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\2\10\1\u045d\5\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\2\10\1\u045e\5\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\1\u045f\7\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\4\10\1\u0460\15\10\2\0\3\10\1\0\6\10\1\u0461" + "\2\0\1\122\2\10\4\0\10\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10" + "\1\u0462\6\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\6\10\1\u0463" + "\13\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\6\10\1\u0464\13\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\7\10\1\u0465"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\2\10\1\u0466\5\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\6\10\1\u0467\13\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\1\10\1\u0468\6\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\14\10\1\u0469\5\10\2\0\3\10" + "\3\0\4\u0174\15\0\3\u0174\31\0\1\u0174\1\0\1\u0174"
-			+ "\7\0\3\u0174\2\0\1\u0174\5\0\4\u0176\15\0\3\u0176" + "\31\0\1\u0176\1\0\1\u0176\7\0\3\u0176\2\0\1\u0176"
-			+ "\3\0\4\10\1\u02bb\2\10\2\0\1\122\2\10\4\0" + "\1\10\1\u01b8\5\10\1\u046a\22\0\2\10\1\u0394\2\10"
-			+ "\1\u01bb\14\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\4\10\1\u046b\3\10\22\0\22\10\2\0"
-			+ "\1\u046b\2\10\1\0\6\10\1\134\2\0\1\122\2\10" + "\4\0\10\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\11\10\1\u01f0" + "\10\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\4\10\1\u046c\15\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\6\10\1\u046d\13\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\3\10\1\u046e\4\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\6\10\1\u046f\13\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\7\10\1\u0470\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\6\10\1\u0471\1\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\2\10\1\u0472\17\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\14\10\1\u0473\5\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\7\10\1\u0474\12\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\4\10" + "\1\u0475\15\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\10\10\1\u0476\11\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\2\10"
-			+ "\1\u0477\5\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\1\10\1\u0478\6\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\5\10\1\u0479\2\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\1\10\1\u047a" + "\6\10\22\0\22\10\2\0\3\10\1\0\4\10\1\u03d8"
-			+ "\2\10\2\0\1\122\2\10\4\0\10\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\5\10\1\u047b\2\10\22\0\22\10\2\0\3\10\1\0" + "\6\10\1\u047c\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\6\10\1\u047d\1\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\1\10\1\u047e" + "\6\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\7\10\1\u047f\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\2\10\1\u0473\17\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\7\10\1\u0480\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\15\10\1\u013a\4\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\6\10" + "\1\u0481\13\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\7\10\1\u0482\12\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10"
-			+ "\1\u0483\6\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\3\10\1\u0484\4\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\1\10\1\u0485\6\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\2\10\1\u0151" + "\5\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\1\u0486\7\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\4\10\1\u0486\15\10\2\0\3\10\57\0\1\u0487" + "\104\0\1\u0488\77\0\1\u0489\22\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\6\10\1\u048a\1\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\7\10"
-			+ "\1\u03ec\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\3\10\1\u048b\4\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\6\10\1\u0289\1\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\2\10\1\u048c\5\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\3\10\1\u048d\4\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\4\10\1\u048e\15\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\7\10\1\u048f\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\2\10\1\u0146\17\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\1\u0490\7\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\2\10\1\u0491\5\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\u0492"
-			+ "\4\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\5\10\1\242\2\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\1\10\1\u01b8\5\10\1\134\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\7\10\1\u0493" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\6\10\1\u0494\1\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10"
-			+ "\1\u0495\6\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\6\10\1\u0496"
-			+ "\13\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\11\10\1\u0497\10\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\7\10\1\u0498\12\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\1\10\1\u040a\6\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\7\10\1\u0499\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\11\10\1\u013c"
-			+ "\10\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\3\10\1\u049a\4\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\u049b" + "\4\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\5\10\1\u049c\14\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\4\10\1\u049d\3\10\22\0\22\10\2\0\1\u049d\2\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\3\10\1\u049e"
-			+ "\4\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\10\1\u049f\6\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\1\u013c\7\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\4\10\1\u03bc" + "\15\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\2\10\1\u04a0\17\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\5\10\1\u04a1"
-			+ "\2\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\1\10\1\u04a2\20\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\4\10\1\374\10\10\1\u04a3\4\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\4\10\1\374\15\10\2\0\3\10\1\0\6\10"
-			+ "\1\u04a4\2\0\1\122\2\10\4\0\10\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\2\10\1\u04a5\17\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\5\10"
-			+ "\1\u0279\14\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\2\10\1\u04a6\5\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\5\10\1\u04a7\14\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\4\10\1\u01f0" + "\15\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\1\10\1\u04a8\6\10\22\0\22\10\2\0\3\10" + "\1\0\6\10\1\u013a\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\4\10\1\u04a9\2\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10" + "\1\u013a\6\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\2\10\1\u04aa" + "\17\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\10\10\1\u04ab\11\10\2\0\3\10" + "\1\0\6\10\1\242\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\5\10\1\u04ac\14\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\5\10" + "\1\u013c\2\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\10\10\1\u02df" + "\11\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\2\10\1\u04ad\5\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\2\10\1\u04ae"
-			+ "\5\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\4\10\1\u04af\15\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\6\10\1\u04b0\13\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\1\10\1\u04b1\6\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\7\10\1\u04b2\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\1\10\1\u039e\13\10\1\u04b3\4\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\5\10"
-			+ "\1\u04b4\14\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\1\10\1\u01b8\2\10\1\u04b5\2\10\1\u01b3"
-			+ "\22\0\2\10\1\u04b6\17\10\2\0\1\u04b5\2\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\1\10\1\u04b7\6\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\5\10\1\u01a4\2\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\2\10\1\u04b8\17\10\2\0\3\10\62\0\1\u04b9"
-			+ "\43\0\1\u0487\100\0\1\u01d5\57\0\7\10\2\0\1\122" + "\2\10\4\0\5\10\1\u04ba\2\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10" + "\1\u03bc\6\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\2\10\1\u04bb\5\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\7\10\1\u04bc\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\7\10\1\164\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\1\10\1\u04bd\6\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\1\10\1\u04be\20\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\1\10\1\u04bf\6\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\5\10\1\u04c0\14\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\1\10\1\277\1\10"
-			+ "\1\u04c1\4\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\3\10\1\u0469\4\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\1\u0469\21\10\2\0\1\10\1\u0469"
-			+ "\1\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\4\10\1\u040a\15\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\3\10\1\u04c2\4\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\7\10\1\u04c3\12\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\2\10\1\u04c4\17\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\10\1\u04c5\6\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\10\10\1\u04c6\11\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\6\10\1\u04c7\1\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\6\10\1\u04c8\13\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\7\10"
-			+ "\1\u04c9\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\6\10\1\u04ca\13\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\6\10\1\u04cb\13\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\7\10" + "\1\u04cc\12\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\14\10\1\u04cd\5\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10"
-			+ "\1\u04ce\4\10\22\0\22\10\2\0\3\10\1\0\4\10" + "\1\u04cf\2\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\2\10\1\u0137\5\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\7\10\1\u013c\12\10\2\0\3\10\1\0\6\10\1\u04d0"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\2\10"
-			+ "\1\u04d1\5\10\22\0\22\10\2\0\3\10\1\0\6\10" + "\1\u04d2\2\0\1\122\2\10\4\0\10\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\2\10\1\u03ed\5\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\2\10" + "\1\u04d3\17\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\3\10\1\u04d4\4\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\2\10\1\u04d5\17\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\5\10\1\u0417"
-			+ "\14\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\6\10\1\u04d6\1\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\4\10\1\u04ba\15\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\14\10\1\u04d7\5\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\2\10\1\u04d8\17\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\13\10"
-			+ "\1\u04d9\6\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\6\10\1\u04da\1\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\4\10\1\u04db\15\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\5\10\1\u04dc\2\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\11\10\1\u04dd\10\10\2\0\3\10" + "\55\0\1\u027b\25\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\10\10\1\u013c\11\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\3\10\1\u04de\4\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\7\10\1\u04df\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\5\10\1\u04e0" + "\2\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\5\10\1\u04e1\2\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\5\10\1\u04e2\14\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\1\10\1\u04e3\6\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\5\10\1\u013c\14\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\6\10" + "\1\u04e4\1\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\2\10\1\u04e5\5\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\6\10\1\u04e6\13\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\2\10\1\u04e7"
-			+ "\5\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\2\10\1\u04e8\5\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\5\10\1\u04e9\2\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\2\10\1\u04e9\5\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\1\10\1\u04ea\6\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\4\10\1\u04eb\15\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\4\10\1\u04ec"
-			+ "\15\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\3\10\1\u04ed\4\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\2\10\1\u04ee" + "\5\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\2\10\1\u04ef\5\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\5\10\1\u01bb\14\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\1\10\1\u04f0\6\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\2\10\1\u04f1\17\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\1\10" + "\1\u04f2\6\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\11\10\1\u034f" + "\10\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\7\10\1\u04f3\22\0\22\10\2\0\3\10\1\0" + "\4\10\1\u04f4\2\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\6\10\1\u04f5\13\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\1\10\1\u013a\20\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\3\10\1\u032e\4\10\22\0" + "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\6\10\1\u04f6\13\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\5\10\1\u04f7"
-			+ "\2\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\7\10\1\u04f8\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\2\10\1\u04f9\17\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\2\10\1\u04fa" + "\17\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\10\10\1\u04ec\11\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\4\10\1\u04b5"
-			+ "\3\10\22\0\22\10\2\0\1\u04b5\2\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\6\10\1\u04fb\1\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\4\10\1\u04fc\15\10\2\0\3\10"
-			+ "\1\0\6\10\1\u0172\2\0\1\122\2\10\4\0\10\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\10\10\22\0\6\10\1\u04fd\13\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\6\10\1\u04fe\13\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\3\10\1\u04ff\4\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\4\10\1\u04c2\15\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\14\10\1\u0500\5\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\6\10\1\u0501\13\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\11\10\1\u0502\10\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\2\10"
-			+ "\1\u0503\17\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\17\10\3\134\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\13\10\1\u03cb\6\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\11\10\1\u0504\10\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\10\10\22\0\2\10\1\u0505\17\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\7\10\1\u01f9\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\2\10\1\u0506\17\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\4\10\1\u04f7\15\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\3\10\1\u0507\4\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\3\10\1\u0508\4\10\22\0\22\10\2\0\3\10\1\0" + "\6\10\1\u0509\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\5\10\1\u04a6\2\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\1\10\1\u050a\20\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\10\10\1\u038c\11\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\1\10\1\u050b\6\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\6\10\1\u038c\1\10"
-			+ "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\12\10\1\u02a1\7\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\6\10" + "\1\u050c\1\10\22\0\22\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\7\10\1\u035a" + "\12\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\2\10\1\u0261\5\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\5\10\1\u050d\14\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\7\10\1\u038c\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\2\10\1\u0149\17\10\2\0\3\10\1\0\6\10"
-			+ "\1\u050e\2\0\1\122\2\10\4\0\10\10\22\0\22\10" + "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0"
-			+ "\5\10\1\u04c9\2\10\22\0\22\10\2\0\3\10\1\0" + "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\6\10"
-			+ "\1\u01b4\13\10\2\0\3\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\5\10\1\u050f\2\10\22\0\22\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\10\10\1\u0510\11\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\6\10\1\u0511" + "\13\10\2\0\3\10\1\0\1\10\1\u0512\5\10\2\0"
-			+ "\1\122\2\10\4\0\10\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\6\10\1\u0513"
-			+ "\1\10\22\0\22\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\1\10\1\u039b\6\10\22\0\22\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\1\10\1\u0514\6\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\1\10\1\u0515\6\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\3\10\1\277\4\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\5\10"
-			+ "\1\u0245\2\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\10\10\22\0\4\10\1\u0138"
-			+ "\15\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\2\10\1\u0516\5\10\22\0\22\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\1\u03ec\21\10\2\0\1\10\1\u03ec\1\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\4\10\1\u0517" + "\15\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\1\10\1\u0518\1\u0519\2\10\1\u051a\1\10\1\u051b"
-			+ "\22\0\1\u051c\3\10\1\u03f0\1\10\1\u051d\13\10\2\0" + "\1\10\1\u051c\1\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\3\10\1\u051e\4\10\22\0\22\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\2\10\1\u051f\17\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\14\10\1\u0520\5\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\10\10\22\0\13\10\1\u038c\6\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\6\10\1\u0521\1\10" + "\22\0\22\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\3\10\1\u0522\4\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\3\10"
-			+ "\1\u0523\4\10\22\0\22\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\2\10\1\200\5\10\22\0"
-			+ "\22\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10" + "\4\0\10\10\22\0\14\10\1\220\5\10\2\0\3\10"
-			+ "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0" + "\2\10\1\u0524\17\10\2\0\3\10\1\0\7\10\2\0"
-			+ "\1\122\2\10\4\0\4\10\1\u0525\3\10\22\0\22\10" + "\2\0\1\u0525\2\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\10\10\22\0\5\10\1\u0159\14\10\2\0\3\10" + "\1\0\7\10\2\0\1\122\2\10\4\0\10\10\22\0"
-			+ "\11\10\1\u01b3\10\10\2\0\3\10\1\0\7\10\2\0" + "\1\122\2\10\4\0\10\10\22\0\1\10\1\u039b\20\10"
-			+ "\2\0\3\10\1\0\7\10\2\0\1\122\2\10\4\0" + "\3\10\1\u0526\4\10\22\0\22\10\2\0\3\10\1\0"
-			+ "\7\10\2\0\1\122\2\10\4\0\10\10\22\0\11\10" + "\1\367\10\10\2\0\3\10\1\0\7\10\2\0\1\122"
-			+ "\2\10\4\0\5\10\1\u0527\2\10\22\0\22\10\2\0" + "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10"
-			+ "\22\0\7\10\1\u0528\12\10\2\0\3\10\1\0\7\10" + "\2\0\1\122\2\10\4\0\4\10\1\u0198\3\10\22\0"
-			+ "\22\10\2\0\1\u0198\2\10\1\0\7\10\2\0\1\122" + "\2\10\4\0\10\10\22\0\15\10\1\u0529\4\10\2\0"
-			+ "\3\10\1\0\7\10\2\0\1\122\2\10\4\0\10\10" + "\22\0\7\10\1\u019e\12\10\2\0\3\10\1\0\7\10"
-			+ "\2\0\1\122\2\10\4\0\10\10\22\0\7\10\1\u01e0" + "\12\10\2\0\3\10\1\0\7\10\2\0\1\122\2\10"
-			+ "\4\0\3\10\1\u0245\4\10\22\0\22\10\2\0\3\10";
+	private static final int[] ZZ_TRANS = NSISTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[1321];
-		int offset = 0;
-		offset = NSISTokenMaker.zzUnpackAction(NSISTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[1321];
-		int offset = 0;
-		offset = NSISTokenMaker.zzUnpackAttribute(NSISTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 204) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[1321];
-		int offset = 0;
-		offset = NSISTokenMaker.zzUnpackRowMap(NSISTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[84612];
-		int offset = 0;
-		offset = NSISTokenMaker.zzUnpackTrans(NSISTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/** zzAtEOF == true <=> the scanner is at the EOF */
 	private boolean zzAtEOF;
 
@@ -1731,7 +433,7 @@ public class NSISTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 19: { /* Line ending in '\' => continue to next line. */
 				this.addToken(this.start, this.zzStartRead, TokenTypes.LITERAL_BACKQUOTE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 40:
 				break;
@@ -1762,19 +464,19 @@ public class NSISTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 16: { /* Line ending in '\' => continue to next line. */
 				this.addToken(this.start, this.zzStartRead, TokenTypes.LITERAL_CHAR);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 46:
 				break;
 			case 14: { /* Line ending in '\' => continue to next line. */
 				this.addToken(this.start, this.zzStartRead, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 47:
 				break;
 			case 17: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_CHAR);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 48:
 				break;
@@ -1845,7 +547,7 @@ public class NSISTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 15: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 60:
 				break;
@@ -1864,14 +566,14 @@ public class NSISTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 20: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_BACKQUOTE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 63:
 				break;
 			case 23: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 64:
 				break;
@@ -1882,13 +584,13 @@ public class NSISTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 6: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 66:
 				break;
 			case 22: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 67:
 				break;
@@ -1927,37 +629,37 @@ public class NSISTokenMaker extends AbstractJFlexCTokenMaker {
 					case EOL_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 1322:
 						break;
 					case STRING: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 1323:
 						break;
 					case CHAR_LITERAL: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_CHAR);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 1324:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 1325:
 						break;
 					case MLC: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 1326:
 						break;
 					case BACKTICKS: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_BACKQUOTE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 1327:
 						break;
@@ -68,30 +68,24 @@ public class PlainTextTokenMaker extends AbstractJFlexTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = PlainTextTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\1\0\2\1\1\2\1\3\14\1\1\0\1\4\2\0";
+	private static final ScannerTables TABLES = ScannerTables.load(PlainTextTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = PlainTextTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\1\0\1\11\1\1\1\11\15\1\1\0\1\1\2\0";
+	private static final int[] ZZ_ACTION = PlainTextTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = PlainTextTokenMaker.zzUnpackCMap(PlainTextTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = PlainTextTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\3\1\2\25\0\1\3\1\4\1\0\1\4\1\6\1\4"
-			+ "\7\4\1\4\1\21\1\5\12\1\1\17\1\4\1\0\1\4\1\0" + "\2\4\32\1\1\4\1\0\1\4\1\0\1\4\1\0\4\1\1\16"
-			+ "\1\13\1\1\1\7\1\14\2\1\1\15\3\1\1\11\2\1\1\12" + "\1\10\2\1\1\20\3\1\3\0\1\4\uff81\0";
+	private static final char[] ZZ_CMAP = PlainTextTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -104,131 +98,16 @@ public class PlainTextTokenMaker extends AbstractJFlexTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = PlainTextTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\22\0\44\0\22\0\66\0\110\0\132\0\154"
-			+ "\0\176\0\220\0\242\0\264\0\306\0\330\0\352\0\374" + "\0\u010e\0\u0120\0\u0132\0\u0144\0\u0132";
+	private static final int[] ZZ_ROWMAP = PlainTextTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = PlainTextTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\2\1\3\1\4\1\5\3\2\1\6\3\3\1\7"
-			+ "\3\3\1\2\1\10\1\2\23\0\1\3\5\0\10\3" + "\1\0\1\3\4\0\1\5\17\0\1\3\5\0\1\3"
-			+ "\1\11\6\3\1\0\1\3\2\0\1\3\5\0\1\3" + "\1\12\3\3\1\13\2\3\1\0\1\3\2\0\1\3"
-			+ "\5\0\10\3\1\0\1\14\2\0\1\3\5\0\1\3" + "\1\15\6\3\1\0\1\3\2\0\1\3\5\0\2\3"
-			+ "\1\16\5\3\1\0\1\3\2\0\1\3\5\0\6\3" + "\1\17\1\3\1\0\1\3\2\0\1\3\5\0\10\3"
-			+ "\1\0\1\20\2\0\1\3\5\0\2\3\1\21\5\3" + "\1\0\1\3\2\0\1\3\5\0\10\3\1\22\1\3"
-			+ "\2\0\1\3\5\0\7\3\1\16\1\0\1\3\2\0" + "\1\3\5\0\10\3\1\0\1\3\1\23\1\0\1\3"
-			+ "\5\0\3\3\1\16\4\3\1\22\1\3\6\0\1\24" + "\15\0\1\23\2\0\1\25\12\23\1\25\1\23\1\25" + "\5\0\1\23\14\0";
+	private static final int[] ZZ_TRANS = PlainTextTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[21];
-		int offset = 0;
-		offset = PlainTextTokenMaker.zzUnpackAction(PlainTextTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[21];
-		int offset = 0;
-		offset = PlainTextTokenMaker.zzUnpackAttribute(PlainTextTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 94) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[21];
-		int offset = 0;
-		offset = PlainTextTokenMaker.zzUnpackRowMap(PlainTextTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[342];
-		int offset = 0;
-		offset = PlainTextTokenMaker.zzUnpackTrans(PlainTextTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/** zzAtEOF == true <=> the scanner is at the EOF */
 	private boolean zzAtEOF;
 
@@ -507,7 +386,7 @@ public class PlainTextTokenMaker extends AbstractJFlexTokenMaker {
 				break;
 			case 2: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 6:
 				break;
@@ -527,7 +406,7 @@ public class PlainTextTokenMaker extends AbstractJFlexTokenMaker {
 					switch (this.zzLexicalState) {
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 22:
 						break;
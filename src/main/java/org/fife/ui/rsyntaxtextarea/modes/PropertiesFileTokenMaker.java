@@ -69,19 +69,21 @@ public class PropertiesFileTokenMaker extends AbstractJFlexTokenMaker {
 
 	/** lexical states */
 	public static final int YYINITIAL = 0;
+
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = PropertiesFileTokenMaker.zzUnpackAction();
+	private static final ScannerTables TABLES = ScannerTables.load(PropertiesFileTokenMaker.class);
 
-	private static final String ZZ_ACTION_PACKED_0 = "\1\1\1\0\1\1\1\2\1\3\1\4\1\5\1\6" + "\1\7\1\10\1\6\1\5\1\10";
+	/**
+	 * Translates DFA states to action switch labels.
+	 */
+	private static final int[] ZZ_ACTION = PropertiesFileTokenMaker.TABLES.action;
 
 	/**
 	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final int[] ZZ_ATTRIBUTE = PropertiesFileTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\1\1\1\0\1\1\1\11\6\1\3\11";
+	private static final int[] ZZ_ATTRIBUTE = PropertiesFileTokenMaker.TABLES.attribute;
 
 	/** initial size of the lookahead buffer */
 	private static final int ZZ_BUFFERSIZE = 16384;
@@ -89,14 +91,7 @@ public class PropertiesFileTokenMaker extends AbstractJFlexTokenMaker {
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final char[] ZZ_CMAP = PropertiesFileTokenMaker
-			.zzUnpackCMap(PropertiesFileTokenMaker.ZZ_CMAP_PACKED);
-
-	/**
-	 * Translates characters to character classes
-	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\3\1\2\25\0\1\3\1\4\1\0\1\4\3\0\1\5"
-			+ "\22\0\1\1\2\0\1\1\36\0\1\6\36\0\1\7\1\0\1\10" + "\uff82\0";
+	private static final char[] ZZ_CMAP = PropertiesFileTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -109,127 +104,16 @@ public class PropertiesFileTokenMaker extends AbstractJFlexTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = PropertiesFileTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\11\0\22\0\33\0\44\0\55\0\66\0\77"
-			+ "\0\110\0\121\0\33\0\33\0\33";
+	private static final int[] ZZ_ROWMAP = PropertiesFileTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = PropertiesFileTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\3\1\4\1\0\1\5\1\6\4\3\5\7\1\10"
-			+ "\1\11\1\12\1\7\1\3\4\0\4\3\14\0\1\5" + "\5\0\2\6\1\0\6\6\5\7\3\0\1\7\5\10"
-			+ "\1\13\3\10\2\14\1\0\6\14\10\12\1\15";
+	private static final int[] ZZ_TRANS = PropertiesFileTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[13];
-		int offset = 0;
-		offset = PropertiesFileTokenMaker.zzUnpackAction(PropertiesFileTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[13];
-		int offset = 0;
-		offset = PropertiesFileTokenMaker.zzUnpackAttribute(PropertiesFileTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset,
-				result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 42) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[13];
-		int offset = 0;
-		offset = PropertiesFileTokenMaker.zzUnpackRowMap(PropertiesFileTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[90];
-		int offset = 0;
-		offset = PropertiesFileTokenMaker.zzUnpackTrans(PropertiesFileTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/** zzAtEOF == true <=> the scanner is at the EOF */
 	private boolean zzAtEOF;
 
@@ -509,7 +393,7 @@ public class PropertiesFileTokenMaker extends AbstractJFlexTokenMaker {
 			switch (zzAction < 0 ? zzAction : PropertiesFileTokenMaker.ZZ_ACTION[zzAction]) {
 			case 7: {
 				this.addToken(this.start, this.zzEndRead, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 9:
 				break;
@@ -559,14 +443,14 @@ public class PropertiesFileTokenMaker extends AbstractJFlexTokenMaker {
 					switch (this.zzLexicalState) {
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 14:
 						break;
 					case VALUE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 15:
 						break;
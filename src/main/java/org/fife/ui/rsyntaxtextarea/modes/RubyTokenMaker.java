@@ -158,43 +158,24 @@ public class RubyTokenMaker extends AbstractJFlexTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = RubyTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\17\0\1\1\1\2\2\3\1\2\1\4\10\2\1\5"
-			+ "\1\6\1\7\6\2\1\7\1\10\1\2\10\7\2\1" + "\11\2\1\11\1\2\1\12\1\13\1\14\1\15\1\16"
-			+ "\1\17\1\20\1\15\1\21\1\15\1\22\1\15\1\23" + "\1\15\1\24\1\15\1\25\1\15\1\26\1\15\1\27"
-			+ "\1\30\1\31\1\15\1\32\1\33\1\15\1\34\1\15" + "\1\35\1\36\1\15\1\37\1\15\1\40\1\15\1\1"
-			+ "\1\41\1\3\4\1\30\2\1\0\7\2\1\42\5\2" + "\1\43\1\7\1\0\1\44\1\45\1\46\1\47\1\50"
-			+ "\1\51\2\7\3\52\1\0\1\1\4\2\1\7\12\2" + "\1\16\1\27\2\15\1\0\2\41\2\3\1\53\24\2"
-			+ "\1\42\7\2\1\11\6\2\1\0\10\2\1\42\5\0" + "\20\2\1\54\1\0\1\1\1\41\3\1\1\55\1\2"
-			+ "\1\11\16\2\1\11\5\2\1\0\3\2\4\0\11\2" + "\1\56\1\0\12\2\1\0\2\2\1\57\1\60\3\0"
-			+ "\2\2\1\11\5\2\1\61\1\2\6\0\4\2\1\62" + "\1\63\1\11\7\2";
+	private static final ScannerTables TABLES = ScannerTables.load(RubyTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = RubyTokenMaker.zzUnpackAttribute();
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\17\0\4\1\1\11\11\1\1\11\11\1\1\11\2\1"
-			+ "\1\11\23\1\3\11\2\1\2\11\1\1\1\11\1\1" + "\1\11\1\1\1\11\1\1\1\11\1\1\1\11\1\1"
-			+ "\1\11\2\1\2\11\1\1\2\11\1\1\1\11\1\1" + "\2\11\1\1\1\11\1\1\1\11\40\1\1\0\17\1"
-			+ "\1\0\6\11\4\1\1\11\1\0\20\1\2\11\2\1" + "\1\0\50\1\1\0\11\1\5\0\21\1\1\0\26\1"
-			+ "\1\11\5\1\1\0\3\1\4\0\11\1\1\11\1\0" + "\12\1\1\0\2\1\2\11\3\0\10\1\1\11\1\1" + "\6\0\4\1\2\11\10\1";
+	private static final int[] ZZ_ACTION = RubyTokenMaker.TABLES.action;
+
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = RubyTokenMaker.zzUnpackCMap(RubyTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = RubyTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\24\1\23\1\0\1\24\1\7\22\0\1\24\1\44\1\106"
-			+ "\1\10\1\56\1\50\1\53\1\107\1\111\1\36\1\46\1\35\1\60" + "\1\43\1\40\1\47\1\3\1\4\6\6\2\2\1\37\1\60\1\51"
-			+ "\1\25\1\52\1\104\1\57\1\67\1\62\1\5\1\61\1\34\1\64" + "\1\63\1\1\1\65\2\1\1\1\1\1\1\66\1\70\1\1\1\110"
-			+ "\1\1\1\73\1\71\1\1\1\1\1\110\3\1\1\41\1\11\1\42" + "\1\55\1\12\1\113\1\20\1\26\1\76\1\32\1\16\1\17\1\27"
-			+ "\1\102\1\30\1\1\1\75\1\21\1\77\1\31\1\72\1\101\1\105"
-			+ "\1\14\1\22\1\13\1\15\1\74\1\103\1\33\1\100\1\1\1\112" + "\1\54\1\114\1\45\uff81\0";
+	private static final char[] ZZ_CMAP = RubyTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -207,452 +188,18 @@ public class RubyTokenMaker extends AbstractJFlexTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = RubyTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\115\0\232\0\347\0\u0134\0\u0181\0\u01ce\0\u021b"
-			+ "\0\u0268\0\u02b5\0\u0302\0\u034f\0\u039c\0\u03e9\0\u0436\0\u0483"
-			+ "\0\u04d0\0\u051d\0\u056a\0\u05b7\0\u0604\0\u0651\0\u069e\0\u06eb"
-			+ "\0\u0738\0\u0785\0\u07d2\0\u081f\0\u086c\0\u05b7\0\u08b9\0\u0906"
-			+ "\0\u0953\0\u09a0\0\u09ed\0\u0a3a\0\u0a87\0\u0ad4\0\u0b21\0\u05b7"
-			+ "\0\u0b6e\0\u0bbb\0\u05b7\0\u0c08\0\u0c55\0\u0ca2\0\u0cef\0\u0d3c"
-			+ "\0\u0d89\0\u0dd6\0\u0e23\0\u0e70\0\u0ebd\0\u0f0a\0\u0f57\0\u0fa4"
-			+ "\0\u0ff1\0\u103e\0\u108b\0\u10d8\0\u1125\0\u1172\0\u05b7\0\u05b7"
-			+ "\0\u05b7\0\u11bf\0\u120c\0\u05b7\0\u05b7\0\u1259\0\u05b7\0\u12a6"
-			+ "\0\u05b7\0\u12f3\0\u05b7\0\u1340\0\u05b7\0\u138d\0\u05b7\0\u13da"
-			+ "\0\u05b7\0\u1427\0\u1474\0\u05b7\0\u05b7\0\u14c1\0\u05b7\0\u05b7"
-			+ "\0\u150e\0\u05b7\0\u155b\0\u05b7\0\u05b7\0\u15a8\0\u05b7\0\u15f5"
-			+ "\0\u05b7\0\u1642\0\u168f\0\u16dc\0\u1729\0\u1729\0\u1776\0\u17c3"
-			+ "\0\u1810\0\u185d\0\u18aa\0\u18f7\0\u1944\0\u1991\0\u19de\0\u1a2b"
-			+ "\0\u1a78\0\u1ac5\0\u1b12\0\u1b5f\0\u1bac\0\u1bf9\0\u1c46\0\u1c93"
-			+ "\0\u1ce0\0\u1d2d\0\u1d7a\0\u1dc7\0\u1e14\0\u1e61\0\u1eae\0\u1efb"
-			+ "\0\u1f48\0\u1f95\0\u1fe2\0\u202f\0\u207c\0\u20c9\0\u2116\0\u2163"
-			+ "\0\u21b0\0\u04d0\0\u21fd\0\u224a\0\u2297\0\u22e4\0\u2331\0\u237e"
-			+ "\0\u23cb\0\u2418\0\u05b7\0\u05b7\0\u05b7\0\u05b7\0\u05b7\0\u05b7"
-			+ "\0\u2465\0\u24b2\0\u24ff\0\u0483\0\u05b7\0\u254c\0\u2599\0\u25e6"
-			+ "\0\u2633\0\u2680\0\u26cd\0\u04d0\0\u271a\0\u2767\0\u27b4\0\u2801"
-			+ "\0\u284e\0\u289b\0\u28e8\0\u2935\0\u2982\0\u29cf\0\u05b7\0\u05b7"
-			+ "\0\u2a1c\0\u2a69\0\u2ab6\0\u2b03\0\u2b50\0\u2b9d\0\u2bea\0\u2c37"
-			+ "\0\u2c84\0\u2cd1\0\u2d1e\0\u2d6b\0\u2db8\0\u2e05\0\u2e52\0\u2e9f"
-			+ "\0\u2eec\0\u2f39\0\u2f86\0\u2fd3\0\u3020\0\u306d\0\u30ba\0\u3107"
-			+ "\0\u3154\0\u31a1\0\u31ee\0\u323b\0\u3288\0\u32d5\0\u3322\0\u336f"
-			+ "\0\u33bc\0\u3409\0\u3456\0\u34a3\0\u34f0\0\u353d\0\u358a\0\u35d7"
-			+ "\0\u3624\0\u3671\0\u36be\0\u370b\0\u3758\0\u37a5\0\u37f2\0\u383f"
-			+ "\0\u388c\0\u38d9\0\u3926\0\u3973\0\u39c0\0\u3a0d\0\u3a5a\0\u3aa7"
-			+ "\0\u3af4\0\u3b41\0\u3b8e\0\u3bdb\0\u3c28\0\u3c75\0\u3cc2\0\u3d0f"
-			+ "\0\u3d5c\0\u3da9\0\u3df6\0\u3e43\0\u3e90\0\u3edd\0\u3f2a\0\u3f77"
-			+ "\0\u3fc4\0\u4011\0\u150e\0\u405e\0\u2b03\0\u40ab\0\u2b9d\0\u2bea"
-			+ "\0\u2c37\0\u04d0\0\u40f8\0\u04d0\0\u4145\0\u4192\0\u41df\0\u422c"
-			+ "\0\u4279\0\u42c6\0\u4313\0\u4360\0\u43ad\0\u43fa\0\u4447\0\u4494"
-			+ "\0\u44e1\0\u452e\0\u05b7\0\u457b\0\u45c8\0\u4615\0\u4662\0\u46af"
-			+ "\0\u46fc\0\u4749\0\u4796\0\u47e3\0\u4830\0\u487d\0\u48ca\0\u4917"
-			+ "\0\u4964\0\u49b1\0\u49fe\0\u4a4b\0\u4a98\0\u4ae5\0\u4b32\0\u4b7f"
-			+ "\0\u4bcc\0\u05b7\0\u40ab\0\u4c19\0\u4c66\0\u4cb3\0\u4d00\0\u4d4d"
-			+ "\0\u4d9a\0\u4de7\0\u4e34\0\u4e81\0\u4ece\0\u4f1b\0\u4f68\0\u4fb5"
-			+ "\0\u05b7\0\u05b7\0\u5002\0\u504f\0\u509c\0\u50e9\0\u5136\0\u5183"
-			+ "\0\u51d0\0\u521d\0\u526a\0\u52b7\0\u5183\0\u05b7\0\u5304\0\u5351"
-			+ "\0\u539e\0\u53eb\0\u5438\0\u5485\0\u54d2\0\u551f\0\u556c\0\u55b9"
-			+ "\0\u5606\0\u05b7\0\u05b7\0\u383f\0\u5653\0\u56a0\0\u56ed\0\u573a" + "\0\u5787\0\u57d4\0\u5821";
+	private static final int[] ZZ_ROWMAP = RubyTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = RubyTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\20\1\21\1\22\1\23\1\22\1\21\1\22\1\24"
-			+ "\1\25\1\20\1\21\1\26\1\27\1\30\1\31\1\32" + "\1\33\1\34\1\35\1\36\1\37\1\40\1\41\1\42"
-			+ "\1\43\1\44\1\45\1\21\1\46\1\47\1\50\1\51" + "\1\52\2\53\1\47\1\54\1\53\2\47\1\55\1\56"
-			+ "\1\57\1\60\1\61\1\53\1\62\1\63\1\24\1\21" + "\1\64\1\21\1\65\1\66\1\21\1\67\2\21\1\70"
-			+ "\1\71\2\21\1\72\1\73\1\74\1\75\1\21\1\76" + "\1\24\1\21\1\77\1\100\1\21\2\50\1\101\1\50"
-			+ "\11\102\1\103\11\102\1\104\62\102\1\105\6\102\11\106"
-			+ "\1\103\11\106\1\107\20\106\1\105\50\106\11\110\1\103"
-			+ "\11\110\1\111\70\110\1\105\11\112\1\103\11\112\1\113"
-			+ "\12\112\1\105\56\112\11\114\1\103\11\114\1\115\23\114"
-			+ "\1\105\45\114\11\116\1\103\11\116\1\117\16\116\1\105"
-			+ "\52\116\11\120\1\103\11\120\1\121\26\120\1\105\42\120"
-			+ "\11\122\1\123\11\122\1\124\63\122\1\125\5\122\11\126"
-			+ "\1\103\11\126\1\127\67\126\1\130\1\126\11\131\1\103"
-			+ "\11\131\1\132\10\131\1\133\71\131\1\103\11\131\1\134"
-			+ "\10\131\1\133\71\131\1\103\11\131\1\135\10\131\1\136"
-			+ "\71\131\1\103\11\131\1\137\10\131\1\136\60\131\23\140" + "\1\141\1\140\1\142\67\140\7\20\1\0\13\20\3\0"
-			+ "\7\20\21\0\2\20\1\0\23\20\1\0\1\20\2\0" + "\1\20\4\0\1\20\6\21\1\0\2\20\11\21\3\0"
-			+ "\7\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0" + "\1\21\4\0\2\20\3\22\1\20\1\22\1\0\2\20"
-			+ "\1\143\3\20\1\144\4\20\3\0\6\20\1\144\21\0" + "\2\20\1\0\23\20\1\0\1\20\2\0\1\20\4\0"
-			+ "\3\20\2\145\1\20\1\145\1\0\2\20\1\146\10\20" + "\3\0\1\147\3\20\1\150\1\151\1\20\21\0\2\20"
-			+ "\1\0\23\20\1\0\1\20\2\0\1\20\121\0\23\25" + "\1\0\71\25\1\20\6\21\1\0\2\20\2\21\1\152"
-			+ "\1\21\1\153\4\21\3\0\7\21\21\0\2\20\1\0" + "\21\21\1\154\1\21\1\0\1\21\2\0\1\21\4\0"
-			+ "\1\20\6\21\1\0\2\20\4\21\1\155\1\21\1\156" + "\2\21\3\0\7\21\21\0\2\20\1\0\23\21\1\0"
-			+ "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20" + "\11\21\3\0\3\21\1\157\3\21\21\0\2\20\1\0"
-			+ "\23\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21" + "\1\0\2\20\7\21\1\160\1\21\3\0\3\21\1\161"
-			+ "\1\21\1\162\1\21\21\0\2\20\1\0\13\21\1\163" + "\7\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21"
-			+ "\1\0\2\20\6\21\1\164\2\21\3\0\7\21\21\0" + "\2\20\1\0\11\21\1\165\11\21\1\0\1\21\2\0"
-			+ "\1\21\4\0\1\20\6\21\1\0\2\20\1\21\1\166" + "\1\21\1\167\3\21\1\170\1\21\3\0\3\21\1\171"
-			+ "\3\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0" + "\1\21\4\0\1\20\6\21\1\0\2\20\6\21\1\172"
-			+ "\2\21\3\0\7\21\21\0\2\20\1\0\11\21\1\173" + "\11\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21"
-			+ "\1\0\2\20\2\21\1\174\1\175\1\176\2\21\1\177" + "\1\21\3\0\7\21\21\0\2\20\1\0\17\21\1\200"
-			+ "\1\201\2\21\1\0\1\21\2\0\1\21\30\0\1\37" + "\115\0\1\47\1\202\16\0\1\53\47\0\1\20\6\21"
-			+ "\1\0\2\20\2\21\1\203\1\21\1\204\4\21\3\0" + "\2\21\1\205\4\21\21\0\2\20\1\0\23\21\1\0"
-			+ "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20" + "\4\21\1\206\2\21\1\207\1\210\3\0\7\21\21\0"
-			+ "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0" + "\1\20\6\21\1\0\2\20\1\21\1\211\3\21\1\212"
-			+ "\3\21\3\0\3\21\1\212\3\21\21\0\2\20\1\0" + "\23\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21"
-			+ "\1\0\2\20\4\21\1\213\4\21\3\0\2\21\1\214" + "\4\21\21\0\2\20\1\0\11\21\1\215\11\21\1\0"
-			+ "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20" + "\4\21\1\216\4\21\3\0\7\21\21\0\2\20\1\0"
-			+ "\11\21\1\212\11\21\1\0\1\21\2\0\1\21\4\0" + "\1\20\6\21\1\0\2\20\11\21\3\0\7\21\21\0"
-			+ "\2\20\1\0\5\21\1\217\15\21\1\0\1\21\2\0" + "\1\21\31\0\1\53\70\0\1\220\3\0\1\220\4\0"
-			+ "\11\220\3\0\7\220\2\0\1\53\21\0\23\220\1\0" + "\1\220\2\0\1\220\44\0\1\221\101\0\1\53\17\0"
-			+ "\1\53\74\0\1\53\5\0\1\222\5\0\1\223\2\0" + "\1\224\2\0\1\225\1\0\1\226\31\0\1\222\1\0"
-			+ "\1\222\2\0\1\222\1\227\1\230\27\0\1\231\23\0" + "\1\232\70\0\1\53\24\0\1\53\115\0\1\53\115\0"
-			+ "\1\53\40\0\1\20\1\233\3\234\1\233\1\234\1\0" + "\2\20\11\233\2\0\1\235\7\233\1\235\1\0\2\235"
-			+ "\2\0\1\236\4\235\1\0\3\235\2\0\2\234\1\235" + "\23\233\1\235\1\233\2\235\1\233\2\0\1\235\1\0"
-			+ "\1\20\1\233\3\20\1\233\1\20\1\0\2\20\11\233" + "\3\0\7\233\21\0\1\20\1\237\1\0\23\233\1\0"
-			+ "\1\233\2\0\1\233\4\0\1\20\6\21\1\0\2\20" + "\11\21\3\0\6\21\1\240\21\0\2\20\1\0\23\21"
-			+ "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0" + "\2\20\7\21\1\241\1\21\3\0\7\21\21\0\2\20"
-			+ "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20" + "\6\21\1\0\2\20\11\21\3\0\3\21\1\242\3\21"
-			+ "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21" + "\4\0\1\20\6\21\1\0\2\20\2\21\1\243\6\21"
-			+ "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21" + "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\2\21"
-			+ "\1\244\6\21\3\0\7\21\21\0\2\20\1\0\20\21" + "\1\245\2\21\1\0\1\21\2\0\1\21\4\0\1\20"
-			+ "\6\21\1\0\2\20\1\21\1\246\7\21\3\0\7\21" + "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\6\21\1\247\1\250" + "\1\21\3\0\7\21\21\0\2\20\1\0\21\21\1\251"
-			+ "\1\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21" + "\1\0\2\20\11\21\3\0\7\21\21\0\2\20\1\0"
-			+ "\11\21\1\252\11\21\1\0\1\21\2\0\1\21\4\0" + "\1\20\6\21\1\0\2\20\11\21\3\0\2\21\1\253"
-			+ "\4\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0" + "\1\21\4\0\1\20\6\21\1\0\2\20\2\21\1\254"
-			+ "\1\255\5\21\3\0\7\21\21\0\2\20\1\0\23\21" + "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0"
-			+ "\2\20\11\21\3\0\7\21\21\0\2\20\1\0\21\21" + "\1\256\1\21\1\0\1\21\2\0\1\21\4\0\11\102"
-			+ "\1\0\11\102\1\0\62\102\1\0\6\102\23\257\1\0" + "\71\257\11\106\1\0\11\106\1\0\20\106\1\0\50\106"
-			+ "\11\110\1\0\11\110\1\0\70\110\1\0\11\112\1\0" + "\11\112\1\0\12\112\1\0\56\112\11\114\1\0\11\114"
-			+ "\1\0\23\114\1\0\45\114\11\116\1\0\11\116\1\0" + "\16\116\1\0\52\116\11\120\1\0\11\120\1\0\26\120"
-			+ "\1\0\42\120\11\122\1\0\11\122\1\0\63\122\1\0" + "\5\122\23\260\1\0\71\260\11\126\1\0\11\126\1\0"
-			+ "\67\126\1\0\1\126\11\131\1\0\11\131\1\0\102\131" + "\1\0\11\131\1\0\44\131\1\261\35\131\1\0\11\131"
-			+ "\1\0\44\131\1\262\24\131\23\140\1\0\1\140\1\0" + "\67\140\16\0\1\263\76\0\2\20\3\22\1\20\1\22"
-			+ "\1\0\2\20\1\143\10\20\3\0\7\20\21\0\2\20" + "\1\0\23\20\1\0\1\20\2\0\1\20\4\0\2\20"
-			+ "\3\264\1\20\1\264\1\0\13\20\3\0\7\20\1\265" + "\5\0\1\265\12\0\2\20\1\0\23\20\1\0\1\20"
-			+ "\2\0\1\20\4\0\3\20\2\145\1\20\1\145\1\0" + "\2\20\1\146\10\20\3\0\7\20\21\0\2\20\1\0"
-			+ "\23\20\1\0\1\20\2\0\1\20\4\0\3\20\2\266" + "\2\20\1\0\13\20\3\0\7\20\21\0\2\20\1\0"
-			+ "\23\20\1\0\1\20\2\0\1\20\4\0\2\20\3\267" + "\1\20\1\267\1\0\13\20\3\0\7\20\21\0\2\20"
-			+ "\1\0\23\20\1\0\1\20\2\0\1\20\4\0\2\20" + "\5\270\1\0\6\20\3\270\2\20\3\0\1\270\3\20"
-			+ "\1\270\1\20\1\270\21\0\2\20\1\0\2\270\1\20" + "\1\270\2\20\1\270\6\20\1\270\5\20\1\0\1\20"
-			+ "\2\0\1\20\4\0\1\20\6\21\1\0\2\20\3\21" + "\1\271\2\21\1\272\2\21\3\0\7\21\21\0\2\20"
-			+ "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20" + "\6\21\1\0\2\20\10\21\1\273\3\0\7\21\21\0"
-			+ "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0" + "\1\20\6\21\1\0\2\20\4\21\1\274\4\21\3\0"
-			+ "\7\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0" + "\1\21\4\0\1\20\6\21\1\0\2\20\1\21\1\275"
-			+ "\4\21\1\276\1\21\1\277\3\0\4\21\1\300\2\21" + "\21\0\2\20\1\0\23\21\1\0\1\301\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\2\21" + "\1\302\1\303\3\21\21\0\2\20\1\0\23\21\1\0"
-			+ "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20" + "\1\21\1\304\5\21\1\305\1\21\3\0\4\21\1\306"
-			+ "\2\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0" + "\1\21\4\0\1\20\6\21\1\0\2\20\10\21\1\307"
-			+ "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21" + "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\10\21"
-			+ "\1\310\3\0\4\21\1\212\2\21\21\0\2\20\1\0" + "\23\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21"
-			+ "\1\0\2\20\4\21\1\311\4\21\3\0\2\21\1\312" + "\4\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0"
-			+ "\1\21\4\0\1\20\6\21\1\0\2\20\6\21\1\313" + "\2\21\3\0\7\21\21\0\2\20\1\0\23\21\1\0"
-			+ "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20" + "\7\21\1\314\1\21\3\0\2\21\1\313\4\21\21\0"
-			+ "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0" + "\1\20\6\21\1\0\2\20\2\21\1\315\6\21\3\0"
-			+ "\7\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0" + "\1\21\4\0\1\20\6\21\1\0\2\20\1\316\10\21"
-			+ "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21" + "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\1\21"
-			+ "\1\317\7\21\3\0\7\21\21\0\2\20\1\0\23\21" + "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0"
-			+ "\2\20\11\21\3\0\2\21\1\320\4\21\21\0\2\20" + "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20"
-			+ "\6\21\1\0\2\20\11\21\3\0\4\21\1\244\2\21" + "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\7\21" + "\21\0\2\20\1\0\16\21\1\321\4\21\1\0\1\21"
-			+ "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\6\21" + "\1\303\2\21\3\0\7\21\21\0\2\20\1\0\11\21"
-			+ "\1\322\3\21\1\323\5\21\1\0\1\21\2\0\1\21" + "\4\0\1\20\6\21\1\0\2\20\6\21\1\324\2\21"
-			+ "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21" + "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\11\21"
-			+ "\3\0\1\325\6\21\21\0\2\20\1\0\20\21\1\326" + "\2\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21"
-			+ "\1\0\2\20\7\21\1\327\1\21\3\0\7\21\21\0" + "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0"
-			+ "\1\20\6\21\1\0\2\20\4\21\1\330\4\21\3\0" + "\7\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0"
-			+ "\1\21\4\0\1\20\6\21\1\0\2\20\10\21\1\331" + "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21"
-			+ "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\2\21" + "\1\332\4\21\1\333\1\21\3\0\7\21\21\0\2\20"
-			+ "\1\0\23\21\1\0\1\21\2\0\1\21\22\0\1\334" + "\76\0\1\20\6\21\1\0\2\20\4\21\1\335\4\21"
-			+ "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21" + "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\11\21"
-			+ "\3\0\1\21\1\336\5\21\21\0\2\20\1\0\23\21" + "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0"
-			+ "\2\20\11\21\3\0\3\21\1\337\3\21\21\0\2\20" + "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20"
-			+ "\6\21\1\0\2\20\1\21\1\340\7\21\3\0\7\21" + "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\7\21" + "\21\0\2\20\1\0\11\21\1\341\11\21\1\0\1\21"
-			+ "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\3\21" + "\1\342\5\21\3\0\7\21\21\0\2\20\1\0\23\21"
-			+ "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0" + "\2\20\4\21\1\343\4\21\3\0\7\21\21\0\2\20"
-			+ "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20" + "\6\21\1\0\2\20\11\21\3\0\5\21\1\344\1\21"
-			+ "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21" + "\4\0\1\20\6\21\1\0\2\20\7\21\1\212\1\21"
-			+ "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21" + "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\1\21"
-			+ "\1\244\7\21\3\0\7\21\21\0\2\20\1\0\23\21" + "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0"
-			+ "\2\20\5\21\1\345\3\21\3\0\7\21\21\0\2\20" + "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20"
-			+ "\6\21\1\0\2\20\11\21\3\0\7\21\21\0\2\20" + "\1\0\1\212\22\21\1\0\1\21\2\0\1\21\5\0"
-			+ "\6\220\3\0\11\220\3\0\7\220\24\0\23\220\1\0" + "\1\220\2\0\1\220\44\0\1\53\115\0\1\223\2\0"
-			+ "\1\224\2\0\1\225\1\0\1\226\37\0\1\227\1\230" + "\54\0\1\53\66\0\1\346\7\0\1\347\51\0\1\350"
-			+ "\1\351\3\0\1\352\1\0\1\20\6\233\1\0\2\20" + "\11\233\3\0\7\233\21\0\2\20\1\0\23\233\1\0"
-			+ "\1\233\2\0\1\233\7\0\1\235\14\0\2\235\6\0" + "\1\235\1\0\1\235\31\0\2\235\6\0\1\235\4\0"
-			+ "\1\235\1\0\1\235\11\0\1\20\1\233\3\20\1\233" + "\1\20\1\0\2\20\11\233\3\0\7\233\21\0\2\20"
-			+ "\1\0\23\233\1\0\1\233\2\0\1\233\4\0\1\20" + "\6\21\1\0\2\20\11\21\3\0\7\21\21\0\2\20"
-			+ "\1\0\2\21\1\353\20\21\1\0\1\21\2\0\1\21" + "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\7\21"
-			+ "\21\0\2\20\1\0\11\21\1\354\11\21\1\0\1\21" + "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\1\21"
-			+ "\1\355\7\21\3\0\7\21\21\0\2\20\1\0\23\21" + "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0"
-			+ "\2\20\2\21\1\356\6\21\3\0\7\21\21\0\2\20" + "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20"
-			+ "\6\21\1\0\2\20\4\21\1\357\4\21\3\0\7\21" + "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\2\21\1\360\6\21" + "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21"
-			+ "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\1\21" + "\1\361\5\21\1\362\1\363\3\0\7\21\21\0\2\20"
-			+ "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20" + "\6\21\1\0\2\20\6\21\1\364\2\21\3\0\7\21"
-			+ "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21" + "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\7\21"
-			+ "\21\0\2\20\1\0\11\21\1\365\11\21\1\0\1\21" + "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\11\21"
-			+ "\3\0\4\21\1\366\2\21\21\0\2\20\1\0\23\21" + "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0"
-			+ "\2\20\4\21\1\367\4\21\3\0\7\21\21\0\2\20" + "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20"
-			+ "\6\21\1\0\2\20\11\21\3\0\2\21\1\370\4\21" + "\21\0\2\20\1\0\11\21\1\311\11\21\1\0\1\21"
-			+ "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\1\21" + "\1\371\7\21\3\0\7\21\21\0\2\20\1\0\23\21"
-			+ "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0" + "\2\20\4\21\1\274\4\21\3\0\2\21\1\372\4\21"
-			+ "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21" + "\4\0\11\131\1\0\11\131\1\0\40\131\1\373\41\131"
-			+ "\1\0\11\131\1\0\45\131\1\373\23\131\31\0\1\374" + "\63\0\2\20\3\264\1\20\1\264\1\0\2\20\1\375"
-			+ "\10\20\3\0\7\20\21\0\2\20\1\0\23\20\1\0" + "\1\20\2\0\1\20\6\0\3\376\1\0\1\376\106\0"
-			+ "\3\20\2\266\2\20\1\0\2\20\1\377\10\20\3\0" + "\7\20\21\0\2\20\1\0\23\20\1\0\1\20\2\0"
-			+ "\1\20\4\0\2\20\3\267\1\20\1\267\1\0\2\20" + "\1\u0100\10\20\3\0\7\20\21\0\2\20\1\0\23\20"
-			+ "\1\0\1\20\2\0\1\20\4\0\1\20\1\u0101\5\270" + "\1\0\2\20\4\u0101\3\270\2\u0101\3\0\1\270\3\u0101"
-			+ "\1\270\1\u0101\1\270\21\0\2\20\1\0\2\270\1\u0101"
-			+ "\1\270\2\u0101\1\270\6\u0101\1\270\5\u0101\1\0\1\u0101" + "\2\0\1\u0101\4\0\1\20\6\21\1\0\2\20\4\21"
-			+ "\1\u0102\4\21\3\0\7\21\21\0\2\20\1\0\23\21" + "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0"
-			+ "\2\20\11\21\3\0\7\21\21\0\2\20\1\0\15\21" + "\1\u0103\2\21\1\u0104\2\21\1\0\1\21\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\1\21\1\u0104\7\21" + "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21"
-			+ "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\11\21" + "\3\0\3\21\1\212\3\21\21\0\2\20\1\0\23\21"
-			+ "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0" + "\2\20\2\21\1\u0105\1\u0106\5\21\3\0\7\21\21\0"
-			+ "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0" + "\1\20\6\21\1\0\2\20\11\21\3\0\4\21\1\u0107"
-			+ "\2\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0" + "\1\21\4\0\1\20\6\21\1\0\2\20\11\21\3\0"
-			+ "\7\21\21\0\2\20\1\0\15\21\1\u0108\5\21\1\0" + "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20"
-			+ "\11\21\3\0\7\21\21\0\2\20\1\0\11\21\1\212" + "\11\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21"
-			+ "\1\0\2\20\3\21\1\u0109\5\21\3\0\7\21\21\0" + "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0"
-			+ "\1\20\6\21\1\0\2\20\10\21\1\u010a\3\0\7\21" + "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\4\21" + "\1\u0104\2\21\21\0\2\20\1\0\23\21\1\0\1\21"
-			+ "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\2\21" + "\1\u010b\6\21\3\0\2\21\1\214\4\21\21\0\2\20"
-			+ "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20" + "\6\21\1\0\2\20\4\21\1\364\4\21\3\0\7\21"
-			+ "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21" + "\4\0\1\20\6\21\1\0\2\20\4\21\1\u010c\4\21"
-			+ "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21" + "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\4\21"
-			+ "\1\212\4\21\3\0\2\21\1\u010c\4\21\21\0\2\20" + "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20"
-			+ "\6\21\1\0\2\20\3\21\1\u010d\5\21\3\0\7\21" + "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\7\21" + "\21\0\2\20\1\0\15\21\1\u0104\5\21\1\0\1\21"
-			+ "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\1\21" + "\1\325\7\21\3\0\7\21\21\0\2\20\1\0\23\21"
-			+ "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0" + "\2\20\7\21\1\u0104\1\21\3\0\7\21\21\0\2\20"
-			+ "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20" + "\6\21\1\0\2\20\10\21\1\271\3\0\7\21\21\0"
-			+ "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0" + "\1\20\6\21\1\0\2\20\11\21\3\0\7\21\21\0"
-			+ "\2\20\1\0\14\21\1\u0104\1\21\1\354\4\21\1\0" + "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20"
-			+ "\4\21\1\u010e\4\21\3\0\7\21\21\0\2\20\1\0" + "\23\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21"
-			+ "\1\0\2\20\11\21\3\0\7\21\21\0\2\20\1\0" + "\11\21\1\u010f\11\21\1\0\1\21\2\0\1\21\4\0"
-			+ "\1\20\6\21\1\0\2\20\6\21\1\u0110\2\21\3\0" + "\7\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0"
-			+ "\1\21\4\0\1\20\6\21\1\0\2\20\11\21\3\0" + "\1\u0111\6\21\21\0\2\20\1\0\23\21\1\0\1\21"
-			+ "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\11\21" + "\3\0\7\21\21\0\2\20\1\0\20\21\1\u0104\2\21"
-			+ "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0" + "\2\20\6\21\1\u0112\2\21\3\0\7\21\21\0\2\20"
-			+ "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20" + "\6\21\1\0\2\20\11\21\3\0\3\21\1\303\3\21"
-			+ "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21" + "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\7\21"
-			+ "\7\0\1\u0113\11\0\2\20\1\0\23\21\1\0\1\21" + "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\4\21"
-			+ "\1\u0114\4\21\3\0\7\21\21\0\2\20\1\0\23\21" + "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0"
-			+ "\2\20\4\21\1\u0115\1\212\3\21\3\0\7\21\21\0" + "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0"
-			+ "\1\20\6\21\1\0\2\20\4\21\1\322\4\21\3\0" + "\7\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0"
-			+ "\1\21\4\0\1\20\6\21\1\0\2\20\1\21\1\u0116" + "\7\21\3\0\7\21\21\0\2\20\1\0\15\21\1\u0117"
-			+ "\5\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21" + "\1\0\2\20\11\21\3\0\2\21\1\u0118\4\21\21\0"
-			+ "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0" + "\1\20\6\21\1\0\2\20\11\21\3\0\2\21\1\273"
-			+ "\4\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0" + "\1\21\33\0\1\u0119\65\0\1\20\6\21\1\0\2\20"
-			+ "\6\21\1\u011a\2\21\3\0\7\21\21\0\2\20\1\0" + "\23\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21"
-			+ "\1\0\2\20\11\21\3\0\2\21\1\274\4\21\21\0" + "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0"
-			+ "\1\20\6\21\1\0\2\20\11\21\3\0\4\21\1\360" + "\2\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0"
-			+ "\1\21\4\0\1\20\6\21\1\0\2\20\10\21\1\u0104" + "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21"
-			+ "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\11\21" + "\3\0\1\323\6\21\21\0\2\20\1\0\23\21\1\0"
-			+ "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20" + "\11\21\3\0\1\325\6\21\21\0\2\20\1\0\23\21"
-			+ "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0" + "\2\20\2\21\1\u011b\6\21\3\0\7\21\21\0\2\20"
-			+ "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20" + "\6\21\1\0\2\20\1\21\1\212\7\21\3\0\7\21"
-			+ "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21" + "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\2\21"
-			+ "\1\u011c\4\21\21\0\2\20\1\0\23\21\1\0\1\21" + "\2\0\1\21\30\0\1\346\61\0\1\350\1\351\3\0"
-			+ "\1\352\71\0\1\u011d\60\0\1\u011e\114\0\1\u011f\114\0" + "\1\u0120\60\0\1\20\6\21\1\0\2\20\11\21\3\0"
-			+ "\7\21\21\0\2\20\1\0\4\21\1\u0121\16\21\1\0" + "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20"
-			+ "\6\21\1\273\2\21\3\0\7\21\21\0\2\20\1\0" + "\23\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21"
-			+ "\1\0\2\20\4\21\1\u0122\4\21\3\0\7\21\21\0" + "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0"
-			+ "\1\20\6\21\1\0\2\20\6\21\1\u0123\2\21\3\0" + "\7\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0"
-			+ "\1\21\4\0\1\20\6\21\1\0\2\20\11\21\3\0" + "\3\21\1\u0104\3\21\21\0\2\20\1\0\23\21\1\0"
-			+ "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20" + "\11\21\3\0\2\21\1\u0124\4\21\21\0\2\20\1\0"
-			+ "\23\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21" + "\1\0\2\20\11\21\3\0\7\21\21\0\2\20\1\0"
-			+ "\15\21\1\u0125\5\21\1\0\1\21\2\0\1\21\4\0" + "\1\20\6\21\1\0\2\20\7\21\1\u0126\1\21\3\0"
-			+ "\7\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0" + "\1\21\4\0\1\20\6\21\1\0\2\20\4\21\1\212"
-			+ "\4\21\3\0\7\21\21\0\2\20\1\0\23\21\1\0" + "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20"
-			+ "\10\21\1\u0110\3\0\7\21\21\0\2\20\1\0\23\21" + "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0"
-			+ "\2\20\11\21\3\0\7\21\21\0\2\20\1\0\16\21" + "\1\u0127\1\21\1\325\2\21\1\0\1\21\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\3\21\1\372\5\21" + "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21"
-			+ "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\7\21" + "\1\u0128\1\21\3\0\7\21\21\0\2\20\1\0\23\21"
-			+ "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0" + "\2\20\11\21\3\0\3\21\1\u0129\3\21\21\0\2\20"
-			+ "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20" + "\6\21\1\0\2\20\10\21\1\u0104\3\0\7\21\21\0"
-			+ "\2\20\1\0\15\21\1\u0104\5\21\1\0\1\21\2\0" + "\1\21\4\0\1\20\6\21\1\0\2\20\7\21\1\363"
-			+ "\1\21\3\0\7\21\21\0\2\20\1\0\23\21\1\0" + "\1\21\2\0\1\21\36\0\1\u012a\64\0\3\376\1\0"
-			+ "\1\376\3\0\1\u012b\102\0\1\20\6\21\1\0\2\20" + "\4\21\1\u012c\4\21\3\0\7\21\21\0\2\20\1\0"
-			+ "\23\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21" + "\1\0\2\20\11\21\3\0\7\21\21\0\2\20\1\0"
-			+ "\17\21\1\212\3\21\1\0\1\21\2\0\1\21\4\0" + "\1\20\6\21\1\0\2\20\2\21\1\274\6\21\3\0"
-			+ "\7\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0" + "\1\21\4\0\1\20\6\21\1\0\2\20\7\21\1\u012d"
-			+ "\1\21\3\0\7\21\21\0\2\20\1\0\23\21\1\0" + "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20"
-			+ "\3\21\1\363\5\21\3\0\7\21\21\0\2\20\1\0" + "\23\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21"
-			+ "\1\0\2\20\11\21\3\0\2\21\1\u012e\4\21\21\0" + "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0"
-			+ "\1\20\6\21\1\0\2\20\4\21\1\u0104\4\21\3\0" + "\7\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0"
-			+ "\1\21\4\0\1\20\6\21\1\0\2\20\6\21\1\u012f" + "\2\21\3\0\7\21\21\0\2\20\1\0\23\21\1\0"
-			+ "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20" + "\5\21\1\212\3\21\3\0\7\21\21\0\2\20\1\0"
-			+ "\23\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21" + "\1\0\2\20\2\21\1\363\6\21\3\0\7\21\21\0"
-			+ "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0" + "\1\20\6\21\1\0\2\20\11\21\3\0\5\21\1\333"
-			+ "\1\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0" + "\1\21\4\0\1\20\6\21\1\0\2\20\7\21\1\u0130"
-			+ "\1\21\3\0\7\21\21\0\2\20\1\0\23\21\1\0" + "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20"
-			+ "\10\21\1\212\3\0\7\21\21\0\2\20\1\0\23\21" + "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0"
-			+ "\2\20\11\21\3\0\4\21\1\u0131\2\21\21\0\2\20" + "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20"
-			+ "\6\21\1\0\2\20\7\21\1\u0132\1\21\3\0\7\21" + "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\2\21\1\212\6\21" + "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21"
-			+ "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\11\21" + "\3\0\7\21\21\0\2\20\1\0\15\21\1\273\5\21"
-			+ "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0" + "\2\20\4\21\1\u0133\4\21\3\0\7\21\21\0\2\20"
-			+ "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20" + "\6\21\1\0\2\20\6\21\1\u0134\2\21\3\0\7\21"
-			+ "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21" + "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\3\21"
-			+ "\1\u0135\3\21\21\0\2\20\1\0\23\21\1\0\1\21" + "\2\0\1\21\34\0\1\u0136\64\0\1\20\6\21\1\0"
-			+ "\2\20\11\21\3\0\7\21\21\0\2\20\1\0\14\21" + "\1\212\6\21\1\0\1\21\2\0\1\21\4\0\1\20"
-			+ "\6\21\1\0\2\20\6\21\1\u0137\2\21\3\0\7\21" + "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\3\21" + "\1\u0138\3\21\21\0\2\20\1\0\23\21\1\0\1\21"
-			+ "\2\0\1\21\70\0\1\u0139\4\0\1\u013a\113\0\1\u013b" + "\114\0\1\u013c\114\0\1\u013d\24\0\1\20\6\21\1\0"
-			+ "\2\20\11\21\3\0\7\21\21\0\2\20\1\0\5\21" + "\1\212\15\21\1\0\1\21\2\0\1\21\4\0\1\20"
-			+ "\6\21\1\0\2\20\11\21\3\0\1\21\1\u0126\5\21" + "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\7\21" + "\21\0\2\20\1\0\17\21\1\u0104\3\21\1\0\1\21"
-			+ "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\11\21" + "\3\0\3\21\1\u013e\3\21\21\0\2\20\1\0\23\21"
-			+ "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0" + "\2\20\11\21\3\0\7\21\21\0\2\20\1\0\21\21"
-			+ "\1\u0104\1\21\1\0\1\21\2\0\1\21\4\0\1\20" + "\6\21\1\0\2\20\4\21\1\u013f\4\21\3\0\7\21"
-			+ "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21" + "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\7\21"
-			+ "\21\0\2\20\1\0\20\21\1\325\2\21\1\0\1\21" + "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\11\21"
-			+ "\3\0\4\21\1\212\2\21\21\0\2\20\1\0\23\21" + "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0"
-			+ "\2\20\1\21\1\u0140\7\21\3\0\7\21\21\0\2\20" + "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20"
-			+ "\6\21\1\0\2\20\1\u0141\10\21\3\0\7\21\21\0" + "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0"
-			+ "\1\20\6\21\1\0\2\20\11\21\3\0\2\21\1\u0142" + "\4\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0"
-			+ "\1\21\4\0\1\20\6\21\1\0\2\20\2\21\1\u010a" + "\6\21\3\0\7\21\21\0\2\20\1\0\23\21\1\0"
-			+ "\1\21\2\0\1\21\4\0\1\20\6\21\1\0\2\20" + "\11\21\3\0\7\21\21\0\2\20\1\0\15\21\1\u0103"
-			+ "\5\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21" + "\1\0\2\20\11\21\3\0\7\21\21\0\2\20\1\0"
-			+ "\11\21\1\u0143\11\21\1\0\1\21\2\0\1\21\4\0" + "\1\20\6\21\1\0\2\20\6\21\1\u0104\2\21\3\0"
-			+ "\7\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0" + "\1\21\4\0\1\20\6\21\1\0\2\20\1\u0144\10\21"
-			+ "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21" + "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\11\21"
-			+ "\3\0\7\21\21\0\2\20\1\0\16\21\1\u0104\4\21" + "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0"
-			+ "\2\20\7\21\1\313\1\21\3\0\7\21\21\0\2\20" + "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20"
-			+ "\6\21\1\0\2\20\1\21\1\u0145\7\21\3\0\7\21" + "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21"
-			+ "\35\0\1\u0146\63\0\1\20\6\21\1\0\2\20\1\21" + "\1\u0147\7\21\3\0\7\21\21\0\2\20\1\0\23\21"
-			+ "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0" + "\2\20\4\21\1\u0128\4\21\3\0\7\21\21\0\2\20"
-			+ "\1\0\23\21\1\0\1\21\2\0\1\21\70\0\1\u0148" + "\4\0\1\u0149\107\0\1\u014a\4\0\1\u014b\107\0\1\u014c"
-			+ "\4\0\1\u014d\23\0\1\20\6\21\1\0\2\20\11\21" + "\3\0\1\21\1\u0104\5\21\21\0\2\20\1\0\23\21"
-			+ "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0" + "\2\20\2\21\1\u0104\6\21\3\0\7\21\21\0\2\20"
-			+ "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20" + "\6\21\1\0\2\20\5\21\1\u0104\3\21\3\0\7\21"
-			+ "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21" + "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\7\21"
-			+ "\21\0\2\20\1\0\13\21\1\u014e\7\21\1\0\1\21" + "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\11\21"
-			+ "\3\0\3\21\1\u014f\3\21\21\0\2\20\1\0\23\21" + "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0"
-			+ "\2\20\6\21\1\303\2\21\3\0\7\21\21\0\2\20" + "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20"
-			+ "\6\21\1\0\2\20\11\21\3\0\7\21\21\0\2\20" + "\1\0\13\21\1\u0150\7\21\1\0\1\21\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\7\21" + "\21\0\2\20\1\0\11\21\1\u0151\11\21\1\0\1\21"
-			+ "\2\0\1\21\112\0\1\u0139\114\0\1\u013a\115\0\1\u0152"
-			+ "\114\0\1\u0153\120\0\1\u0139\114\0\1\u013a\1\0\1\20" + "\6\21\1\0\2\20\6\21\1\u013f\2\21\3\0\7\21"
-			+ "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21" + "\4\0\1\20\6\21\1\0\2\20\4\21\1\u0154\4\21"
-			+ "\3\0\7\21\21\0\2\20\1\0\23\21\1\0\1\21" + "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\6\21"
-			+ "\1\u0155\2\21\3\0\7\21\21\0\2\20\1\0\23\21" + "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0"
-			+ "\2\20\2\21\1\u0156\6\21\3\0\7\21\21\0\2\20" + "\1\0\23\21\1\0\1\21\2\0\1\21\4\0\1\20"
-			+ "\6\21\1\0\2\20\2\21\1\u0157\6\21\3\0\7\21" + "\21\0\2\20\1\0\23\21\1\0\1\21\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\7\21" + "\21\0\2\20\1\0\23\21\1\u0113\1\21\2\0\1\21"
-			+ "\4\0\1\20\6\21\1\0\2\20\11\21\3\0\2\21" + "\1\u0158\4\21\21\0\2\20\1\0\23\21\1\0\1\21"
-			+ "\2\0\1\21\4\0\1\20\6\21\1\0\2\20\6\21" + "\1\u0159\2\21\3\0\7\21\21\0\2\20\1\0\23\21"
-			+ "\1\0\1\21\2\0\1\21\4\0\1\20\6\21\1\0" + "\2\20\11\21\3\0\1\u015a\6\21\21\0\2\20\1\0"
-			+ "\23\21\1\0\1\21\2\0\1\21\4\0\1\20\6\21" + "\1\0\2\20\7\21\1\u015b\1\21\3\0\7\21\21\0"
-			+ "\2\20\1\0\23\21\1\0\1\21\2\0\1\21\4\0" + "\1\20\6\21\1\0\2\20\4\21\1\340\4\21\3\0"
-			+ "\7\21\21\0\2\20\1\0\23\21\1\0\1\21\2\0" + "\1\21\4\0";
+	private static final int[] ZZ_TRANS = RubyTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[347];
-		int offset = 0;
-		offset = RubyTokenMaker.zzUnpackAction(RubyTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[347];
-		int offset = 0;
-		offset = RubyTokenMaker.zzUnpackAttribute(RubyTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 188) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
 	/* user code: */
 
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[347];
-		int offset = 0;
-		offset = RubyTokenMaker.zzUnpackRowMap(RubyTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[22638];
-		int offset = 0;
-		offset = RubyTokenMaker.zzUnpackTrans(RubyTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/** zzAtEOF == true <=> the scanner is at the EOF */
 	private boolean zzAtEOF;
 
@@ -1029,28 +576,28 @@ public class RubyTokenMaker extends AbstractJFlexTokenMaker {
 				break;
 			case 32: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_DOCUMENTATION);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 55:
 				break;
 			case 19: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 				this.addEndToken(RubyTokenMaker.INTERNAL_STRING_Q_PAREN);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 56:
 				break;
 			case 18: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 				this.addEndToken(RubyTokenMaker.INTERNAL_STRING_Q_CURLY_BRACE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 57:
 				break;
 			case 20: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 				this.addEndToken(RubyTokenMaker.INTERNAL_STRING_Q_SLASH);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 58:
 				break;
@@ -1070,7 +617,7 @@ public class RubyTokenMaker extends AbstractJFlexTokenMaker {
 				if (this.start == this.zzStartRead) {
 					this.addToken(TokenTypes.PREPROCESSOR);
 					this.addNullToken();
-					return this.firstToken;
+					return this.getFirstToken();
 				}
 			}
 			case 61:
@@ -1083,7 +630,7 @@ public class RubyTokenMaker extends AbstractJFlexTokenMaker {
 			case 22: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 				this.addEndToken(RubyTokenMaker.INTERNAL_STRING_Q_LT);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 63:
 				break;
@@ -1100,14 +647,14 @@ public class RubyTokenMaker extends AbstractJFlexTokenMaker {
 			case 31: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.PREPROCESSOR);
 				this.addEndToken(RubyTokenMaker.INTERNAL_HEREDOC_EOT_SINGLE_QUOTED);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 66:
 				break;
 			case 4: {
 				this.addToken(TokenTypes.COMMENT_EOL);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 67:
 				break;
@@ -1153,7 +700,7 @@ public class RubyTokenMaker extends AbstractJFlexTokenMaker {
 			case 28: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.PREPROCESSOR);
 				this.addEndToken(RubyTokenMaker.INTERNAL_HEREDOC_EOF_UNQUOTED);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 75:
 				break;
@@ -1165,7 +712,7 @@ public class RubyTokenMaker extends AbstractJFlexTokenMaker {
 			case 17: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 				this.addEndToken(RubyTokenMaker.INTERNAL_STRING_Q_BANG);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 77:
 				break;
@@ -1216,7 +763,7 @@ public class RubyTokenMaker extends AbstractJFlexTokenMaker {
 			case 30: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.PREPROCESSOR);
 				this.addEndToken(RubyTokenMaker.INTERNAL_HEREDOC_EOT_UNQUOTED);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 86:
 				break;
@@ -1233,7 +780,7 @@ public class RubyTokenMaker extends AbstractJFlexTokenMaker {
 				break;
 			case 26: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_BACKQUOTE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 89:
 				break;
@@ -1250,14 +797,14 @@ public class RubyTokenMaker extends AbstractJFlexTokenMaker {
 				break;
 			case 5: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 92:
 				break;
 			case 21: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 				this.addEndToken(RubyTokenMaker.INTERNAL_STRING_Q_SQUARE_BRACKET);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 93:
 				break;
@@ -1274,7 +821,7 @@ public class RubyTokenMaker extends AbstractJFlexTokenMaker {
 				break;
 			case 24: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_CHAR);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 96:
 				break;
@@ -1301,14 +848,14 @@ public class RubyTokenMaker extends AbstractJFlexTokenMaker {
 				break;
 			case 15: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 101:
 				break;
 			case 29: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.PREPROCESSOR);
 				this.addEndToken(RubyTokenMaker.INTERNAL_HEREDOC_EOF_SINGLE_QUOTED);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 102:
 				break;
@@ -1319,101 +866,101 @@ public class RubyTokenMaker extends AbstractJFlexTokenMaker {
 					case HEREDOC_EOF_SINGLE_QUOTED: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.PREPROCESSOR);
 						this.addEndToken(RubyTokenMaker.INTERNAL_HEREDOC_EOF_SINGLE_QUOTED);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 348:
 						break;
 					case DOCCOMMENT: {
 						this.yybegin(RubyTokenMaker.YYINITIAL);
 						this.addToken(this.start, this.zzEndRead, TokenTypes.COMMENT_DOCUMENTATION);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 349:
 						break;
 					case HEREDOC_EOT_SINGLE_QUOTED: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.PREPROCESSOR);
 						this.addEndToken(RubyTokenMaker.INTERNAL_HEREDOC_EOT_SINGLE_QUOTED);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 350:
 						break;
 					case HEREDOC_EOT_UNQUOTED: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.PREPROCESSOR);
 						this.addEndToken(RubyTokenMaker.INTERNAL_HEREDOC_EOT_UNQUOTED);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 351:
 						break;
 					case STRING_Q_SLASH: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 						this.addEndToken(RubyTokenMaker.INTERNAL_STRING_Q_SLASH);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 352:
 						break;
 					case STRING_Q_BANG: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 						this.addEndToken(RubyTokenMaker.INTERNAL_STRING_Q_BANG);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 353:
 						break;
 					case STRING_Q_LT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 						this.addEndToken(RubyTokenMaker.INTERNAL_STRING_Q_LT);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 354:
 						break;
 					case STRING: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 355:
 						break;
 					case BACKTICKS: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_BACKQUOTE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 356:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 357:
 						break;
 					case HEREDOC_EOF_UNQUOTED: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.PREPROCESSOR);
 						this.addEndToken(RubyTokenMaker.INTERNAL_HEREDOC_EOF_UNQUOTED);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 358:
 						break;
 					case STRING_Q_CURLY_BRACE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 						this.addEndToken(RubyTokenMaker.INTERNAL_STRING_Q_CURLY_BRACE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 359:
 						break;
 					case STRING_Q_PAREN: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 						this.addEndToken(RubyTokenMaker.INTERNAL_STRING_Q_PAREN);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 360:
 						break;
 					case CHAR_LITERAL: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_CHAR);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 361:
 						break;
 					case STRING_Q_SQUARE_BRACKET: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
 						this.addEndToken(RubyTokenMaker.INTERNAL_STRING_Q_SQUARE_BRACKET);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 362:
 						break;
@@ -72,38 +72,24 @@ public class SQLTokenMaker extends AbstractJFlexTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = SQLTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\4\0\1\1\1\2\1\1\1\3\1\4\5\5\1\6"
-			+ "\1\1\1\7\27\1\1\10\1\11\1\12\1\13\1\14" + "\1\15\1\13\1\16\1\17\1\13\1\20\1\13\1\0"
-			+ "\1\21\1\22\4\1\1\23\45\1\2\23\4\1\1\23" + "\7\1\1\23\22\1\1\24\1\13\1\25\1\7\1\0"
-			+ "\3\1\1\26\51\1\1\23\4\1\1\23\2\1\1\23" + "\22\1\1\23\4\1\1\23\4\1\1\23\17\1\1\23"
-			+ "\35\1\1\23\5\1\1\23\10\1\1\23\5\1\1\23" + "\11\1\1\23\42\1\1\23\4\1\1\23\16\1\1\26" + "\4\1";
+	private static final ScannerTables TABLES = ScannerTables.load(SQLTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = SQLTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\4\0\2\11\4\1\1\11\3\1\1\11\31\1\2\11"
-			+ "\2\1\1\11\2\1\1\11\2\1\1\11\1\1\1\0" + "\1\1\1\11\113\1\3\11\1\1\1\0\333\1";
+	private static final int[] ZZ_ACTION = SQLTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = SQLTokenMaker.zzUnpackCMap(SQLTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = SQLTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\4\1\1\25\0\1\4\1\0\1\54\4\0\1\55\2\15"
-			+ "\1\13\1\11\1\0\1\12\1\17\1\14\1\3\1\50\1\50\1\3" + "\1\45\3\3\1\46\1\3\1\16\1\0\1\10\1\7\1\6\2\0"
-			+ "\1\21\1\37\1\31\1\22\1\20\1\44\1\47\1\41\1\34\1\51"
-			+ "\1\52\1\23\1\35\1\26\1\33\1\42\1\53\1\25\1\30\1\24" + "\1\32\1\36\1\40\1\43\1\27\1\2\1\56\1\0\1\57\1\0"
-			+ "\1\5\1\0\1\21\1\37\1\31\1\22\1\20\1\44\1\47\1\41" + "\1\34\1\51\1\52\1\23\1\35\1\26\1\33\1\42\1\53\1\25"
-			+ "\1\30\1\24\1\32\1\36\1\40\1\43\1\27\1\2\uff85\0";
+	private static final char[] ZZ_CMAP = SQLTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -116,336 +102,16 @@ public class SQLTokenMaker extends AbstractJFlexTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = SQLTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\60\0\140\0\220\0\300\0\300\0\360\0\u0120"
-			+ "\0\u0150\0\u0180\0\300\0\u01b0\0\u01e0\0\u0210\0\300\0\u0240"
-			+ "\0\u0270\0\u02a0\0\u02d0\0\u0300\0\u0330\0\u0360\0\u0390\0\u03c0"
-			+ "\0\u03f0\0\u0420\0\u0450\0\u0480\0\u04b0\0\u04e0\0\u0510\0\u0540"
-			+ "\0\u0570\0\u05a0\0\u05d0\0\u0600\0\u0630\0\u0660\0\u0690\0\u06c0"
-			+ "\0\300\0\300\0\u06f0\0\u0720\0\300\0\u0750\0\u0780\0\300"
-			+ "\0\u07b0\0\u07e0\0\300\0\u0810\0\u0840\0\u0870\0\300\0\u08a0"
-			+ "\0\u08d0\0\u0900\0\u0930\0\u0960\0\u0990\0\u09c0\0\u09f0\0\u0a20"
-			+ "\0\u0a50\0\u0a80\0\u0ab0\0\u0ae0\0\u0b10\0\u0b40\0\u0b70\0\u0ba0"
-			+ "\0\u0bd0\0\u0c00\0\u0c30\0\u0c60\0\u0c90\0\u0cc0\0\u0cf0\0\u0d20"
-			+ "\0\u0d50\0\u0d80\0\u0db0\0\u0de0\0\u0e10\0\u0e40\0\u0e70\0\u0ea0"
-			+ "\0\u0ed0\0\u0f00\0\u0f30\0\u0f60\0\u0f90\0\u0fc0\0\u0ff0\0\u1020"
-			+ "\0\u1050\0\u1080\0\360\0\u10b0\0\u10e0\0\u1110\0\u1140\0\u1170"
-			+ "\0\u11a0\0\u11d0\0\u1200\0\u1230\0\u1260\0\u1290\0\u12c0\0\u12f0"
-			+ "\0\u1320\0\u1350\0\u1380\0\u13b0\0\u13e0\0\u1410\0\u1440\0\u1470"
-			+ "\0\u14a0\0\u14d0\0\u1500\0\u1530\0\u1560\0\u1590\0\u15c0\0\u15f0"
-			+ "\0\u1620\0\u1650\0\300\0\300\0\300\0\u1680\0\u1680\0\u16b0"
-			+ "\0\u16e0\0\u1710\0\360\0\u1740\0\u0960\0\u1770\0\u17a0\0\u17d0"
-			+ "\0\u1800\0\u1830\0\u1860\0\u1890\0\u18c0\0\u18f0\0\u1920\0\u1950"
-			+ "\0\u1980\0\u19b0\0\u19e0\0\u1a10\0\u1a40\0\u1a70\0\u1aa0\0\u1ad0"
-			+ "\0\u1b00\0\u1b30\0\u1b60\0\u1b90\0\u1bc0\0\u1bf0\0\u1c20\0\u1c50"
-			+ "\0\u1c80\0\u1cb0\0\u1ce0\0\u1d10\0\u1d40\0\u1d70\0\u1da0\0\u1dd0"
-			+ "\0\u1e00\0\u1e30\0\u1e60\0\u1e90\0\u1ec0\0\u1ef0\0\u1f20\0\u1f50"
-			+ "\0\u1f80\0\u1fb0\0\u1fe0\0\u2010\0\u2040\0\u2070\0\u20a0\0\u20d0"
-			+ "\0\u2100\0\u2130\0\u2160\0\u2190\0\u21c0\0\u21f0\0\u2220\0\u2250"
-			+ "\0\u2280\0\u22b0\0\u22e0\0\u2310\0\u2340\0\u2370\0\u12f0\0\u23a0"
-			+ "\0\u23d0\0\u2400\0\u2430\0\u2460\0\u2490\0\u24c0\0\u24f0\0\u2520"
-			+ "\0\u2550\0\u2580\0\u25b0\0\u25e0\0\u2610\0\u2640\0\u2670\0\u26a0"
-			+ "\0\u26d0\0\u2700\0\u2730\0\u2760\0\u2790\0\u27c0\0\u27f0\0\u2820"
-			+ "\0\u2850\0\u2880\0\u28b0\0\u28e0\0\u2910\0\u2940\0\u2970\0\u29a0"
-			+ "\0\u29d0\0\u2a00\0\u2a30\0\u2a60\0\u2a90\0\u2ac0\0\u2af0\0\u2b20"
-			+ "\0\u2b50\0\u2b80\0\u2bb0\0\u2be0\0\u2c10\0\u2c40\0\u2c70\0\u2ca0"
-			+ "\0\u2cd0\0\u2d00\0\u2d30\0\u2d60\0\u2d90\0\u2dc0\0\u2df0\0\u15f0"
-			+ "\0\u2e20\0\u2e50\0\u2e80\0\u2eb0\0\u2ee0\0\u0c30\0\u2f10\0\u2f40"
-			+ "\0\u2f70\0\u2fa0\0\u2fd0\0\u3000\0\u3030\0\u3060\0\u0ff0\0\u3090"
-			+ "\0\u30c0\0\u2040\0\u30f0\0\u3120\0\u2ca0\0\u3150\0\u3180\0\u31b0"
-			+ "\0\u31e0\0\u3210\0\u3240\0\u3270\0\u32a0\0\u32d0\0\u3300\0\u3330"
-			+ "\0\u3360\0\u3390\0\u33c0\0\u33f0\0\u3420\0\u3450\0\u3480\0\u34b0"
-			+ "\0\u34e0\0\u3510\0\u3540\0\u3570\0\u35a0\0\u35d0\0\u3600\0\u3630"
-			+ "\0\u3660\0\u3690\0\u36c0\0\u36f0\0\u3720\0\u3750\0\u3780\0\u37b0"
-			+ "\0\u37e0\0\u3810\0\u3840\0\u3870\0\u38a0\0\u38d0\0\u3900\0\u3930"
-			+ "\0\u3960\0\u3990\0\u39c0\0\u39f0\0\u3a20\0\u3a50\0\u3a80\0\u3ab0"
-			+ "\0\u3ae0\0\u3b10\0\u3b40\0\u3b70\0\u3ba0\0\u3bd0\0\u3c00\0\u3c30"
-			+ "\0\u3c60\0\u3c90\0\u3cc0\0\u3cf0\0\u3d20\0\u3d50\0\u3d80\0\u3db0" + "\0\u3de0\0\u3e10";
+	private static final int[] ZZ_ROWMAP = SQLTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = SQLTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\5\1\6\1\7\1\10\1\11\1\5\1\12\1\13"
-			+ "\1\14\1\13\1\15\1\13\1\16\1\17\1\20\1\21" + "\1\22\1\23\1\24\1\25\1\26\1\27\1\30\1\31"
-			+ "\1\32\1\33\1\34\1\35\1\36\1\37\1\40\1\41" + "\1\42\1\43\1\44\1\7\1\45\2\10\1\46\1\10"
-			+ "\1\47\1\50\1\7\1\51\1\52\1\53\1\5\1\54" + "\1\55\52\54\1\56\3\54\1\57\1\60\53\57\1\61"
-			+ "\2\57\1\62\1\63\11\62\1\64\44\62\62\0\2\7" + "\1\0\1\7\12\0\34\7\7\0\1\10\13\0\1\21"
-			+ "\1\65\24\0\2\10\1\0\1\10\13\0\1\11\62\0" + "\1\13\56\0\2\13\62\0\1\66\60\0\1\67\46\0"
-			+ "\1\7\15\0\25\7\2\0\1\7\1\0\3\7\7\0" + "\1\21\14\0\1\65\24\0\2\21\1\0\1\21\11\0"
-			+ "\2\7\1\0\1\7\12\0\23\7\1\70\10\7\6\0" + "\2\7\1\0\1\7\12\0\2\7\1\71\1\72\2\7"
-			+ "\1\73\1\7\1\74\1\7\1\75\3\7\1\76\15\7" + "\6\0\2\7\1\0\1\7\12\0\1\77\1\100\3\7"
-			+ "\1\101\5\7\1\102\1\103\17\7\6\0\2\7\1\0" + "\1\7\12\0\1\104\12\7\1\105\1\106\17\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\1\107\1\110\3\7\1\111" + "\1\7\1\112\3\7\1\113\1\114\17\7\6\0\2\7"
-			+ "\1\0\1\7\12\0\1\115\13\7\1\116\17\7\6\0" + "\2\7\1\0\1\7\12\0\12\7\1\117\1\120\20\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\1\121\33\7\6\0" + "\2\7\1\0\1\7\12\0\1\122\3\7\1\123\2\7"
-			+ "\1\124\2\7\1\125\1\126\1\127\1\130\3\7\1\131" + "\12\7\6\0\2\7\1\0\1\7\12\0\5\7\1\132"
-			+ "\4\7\1\133\1\134\5\7\1\135\12\7\6\0\2\7" + "\1\0\1\7\12\0\6\7\1\136\1\7\1\137\11\7"
-			+ "\1\140\11\7\6\0\2\7\1\0\1\7\12\0\3\7" + "\1\141\1\7\1\142\1\143\2\7\1\144\1\145\5\7"
-			+ "\1\146\1\7\1\147\11\7\6\0\2\7\1\0\1\7" + "\12\0\6\7\1\150\1\7\1\143\4\7\1\113\11\7"
-			+ "\1\151\4\7\6\0\2\7\1\0\1\7\12\0\1\152" + "\1\153\11\7\1\154\1\155\17\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\1\7\1\156\32\7\6\0\2\7\1\0" + "\1\7\12\0\1\157\6\7\1\160\3\7\1\161\1\162"
-			+ "\17\7\6\0\2\7\1\0\1\7\12\0\14\7\1\163" + "\4\7\1\164\12\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\1\7\1\165\32\7\6\0\2\7\1\0\1\7\12\0" + "\1\166\1\167\3\7\1\170\5\7\1\171\1\172\17\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\3\7\1\173\1\7" + "\1\174\5\7\1\175\20\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\1\176\4\7\1\177\4\7\1\200\21\7\6\0" + "\2\7\1\0\1\7\12\0\13\7\1\201\20\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\1\202\33\7\4\0\57\53" + "\1\203\1\54\1\0\52\54\1\0\3\54\54\0\1\204"
-			+ "\3\0\1\57\1\0\53\57\1\0\2\57\55\0\1\204" + "\2\0\1\62\1\0\11\62\1\0\44\62\14\0\1\205"
-			+ "\46\0\1\206\5\0\2\207\32\0\2\206\1\0\1\206" + "\7\0\1\66\1\0\56\66\2\0\2\7\1\0\1\7"
-			+ "\12\0\4\7\1\210\7\7\1\211\17\7\6\0\2\7" + "\1\0\1\7\12\0\2\7\1\143\31\7\6\0\2\7"
-			+ "\1\0\1\7\12\0\3\7\1\143\1\137\27\7\6\0" + "\2\7\1\0\1\7\12\0\2\7\1\143\4\7\1\143"
-			+ "\24\7\6\0\2\7\1\0\1\7\12\0\11\7\1\143" + "\22\7\6\0\2\7\1\0\1\7\12\0\4\7\1\212"
-			+ "\27\7\6\0\2\7\1\0\1\7\12\0\1\7\1\143" + "\25\7\1\213\4\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\3\7\1\214\4\7\1\215\23\7\6\0\2\7\1\0" + "\1\7\12\0\4\7\1\216\27\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\13\7\1\113\20\7\6\0\2\7\1\0" + "\1\7\12\0\12\7\1\217\21\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\10\7\1\220\23\7\6\0\2\7\1\0" + "\1\7\12\0\16\7\1\221\5\7\1\120\7\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\6\7\1\222\11\7\1\223" + "\6\7\1\224\4\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\32\7\1\225\1\7\6\0\2\7\1\0\1\7\12\0" + "\23\7\1\120\10\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\17\7\1\226\14\7\6\0\2\7\1\0\1\7\12\0" + "\1\7\1\227\12\7\1\230\17\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\22\7\1\225\11\7\6\0\2\7\1\0" + "\1\7\12\0\22\7\1\143\11\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\15\7\1\231\16\7\6\0\2\7\1\0" + "\1\7\12\0\1\7\1\232\22\7\1\233\7\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\27\7\1\234\4\7\6\0" + "\2\7\1\0\1\7\12\0\3\7\1\232\11\7\1\235"
-			+ "\16\7\6\0\2\7\1\0\1\7\12\0\4\7\1\143" + "\27\7\6\0\2\7\1\0\1\7\12\0\10\7\1\236"
-			+ "\23\7\6\0\2\7\1\0\1\7\12\0\3\7\1\237" + "\1\143\3\7\1\240\23\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\2\7\1\241\2\7\1\242\26\7\6\0\2\7" + "\1\0\1\7\12\0\10\7\1\243\23\7\6\0\2\7"
-			+ "\1\0\1\7\12\0\15\7\1\143\1\7\1\244\14\7" + "\6\0\2\7\1\0\1\7\12\0\15\7\1\225\16\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\6\7\1\245\25\7" + "\6\0\2\7\1\0\1\7\12\0\1\7\1\246\32\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\13\7\1\247\20\7" + "\6\0\2\7\1\0\1\7\12\0\1\250\33\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\5\7\1\251\26\7\6\0" + "\2\7\1\0\1\7\12\0\3\7\1\252\2\7\1\253"
-			+ "\3\7\1\254\21\7\6\0\2\7\1\0\1\7\12\0" + "\1\7\1\255\32\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\14\7\1\256\17\7\6\0\2\7\1\0\1\7\12\0" + "\1\257\33\7\6\0\2\7\1\0\1\7\12\0\2\7"
-			+ "\1\250\17\7\1\223\11\7\6\0\2\7\1\0\1\7" + "\12\0\1\260\33\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\2\7\1\137\31\7\6\0\2\7\1\0\1\7\12\0" + "\4\7\1\261\27\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\4\7\1\137\27\7\6\0\2\7\1\0\1\7\12\0" + "\6\7\1\262\25\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\4\7\1\263\27\7\6\0\2\7\1\0\1\7\12\0" + "\2\7\1\264\1\7\1\265\1\7\1\137\1\7\1\266"
-			+ "\23\7\6\0\2\7\1\0\1\7\12\0\6\7\1\267" + "\25\7\6\0\2\7\1\0\1\7\12\0\15\7\1\270"
-			+ "\16\7\6\0\2\7\1\0\1\7\12\0\23\7\1\143" + "\10\7\6\0\2\7\1\0\1\7\12\0\2\7\1\143"
-			+ "\3\7\1\50\25\7\6\0\2\7\1\0\1\7\12\0" + "\6\7\1\143\25\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\3\7\1\271\1\7\1\272\26\7\6\0\2\7\1\0" + "\1\7\12\0\4\7\1\273\27\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\4\7\1\225\27\7\6\0\2\7\1\0" + "\1\7\12\0\13\7\1\274\20\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\4\7\1\275\1\7\1\276\25\7\6\0" + "\2\7\1\0\1\7\12\0\4\7\1\277\27\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\1\300\33\7\6\0\2\7" + "\1\0\1\7\12\0\16\7\1\242\15\7\6\0\2\7"
-			+ "\1\0\1\7\12\0\5\7\1\301\26\7\6\0\2\7" + "\1\0\1\7\12\0\5\7\1\302\2\7\1\303\23\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\14\7\1\304\17\7" + "\6\0\2\7\1\0\1\7\12\0\10\7\1\305\23\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\16\7\1\306\15\7" + "\6\0\2\7\1\0\1\7\12\0\13\7\1\307\20\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\13\7\1\310\20\7" + "\6\0\2\7\1\0\1\7\12\0\5\7\1\311\26\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\6\7\1\312\25\7" + "\6\0\2\7\1\0\1\7\12\0\13\7\1\313\20\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\14\7\1\71\17\7" + "\6\0\2\7\1\0\1\7\12\0\14\7\1\155\17\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\7\7\1\143\24\7" + "\7\0\1\206\41\0\2\206\1\0\1\206\11\0\2\7"
-			+ "\1\0\1\7\12\0\5\7\1\314\26\7\6\0\2\7" + "\1\0\1\7\12\0\10\7\1\315\23\7\6\0\2\7"
-			+ "\1\0\1\7\12\0\13\7\1\316\20\7\6\0\2\7" + "\1\0\1\7\12\0\1\317\33\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\1\320\1\321\32\7\6\0\2\7\1\0" + "\1\7\12\0\17\7\1\322\14\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\1\7\1\323\2\7\1\324\27\7\6\0" + "\2\7\1\0\1\7\12\0\1\232\33\7\6\0\2\7"
-			+ "\1\0\1\7\12\0\27\7\1\325\4\7\6\0\2\7" + "\1\0\1\7\12\0\1\326\33\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\14\7\1\327\17\7\6\0\2\7\1\0" + "\1\7\12\0\1\143\33\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\3\7\1\330\30\7\6\0\2\7\1\0\1\7" + "\12\0\6\7\1\331\25\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\15\7\1\213\16\7\6\0\2\7\1\0\1\7" + "\12\0\1\332\33\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\3\7\1\143\30\7\6\0\2\7\1\0\1\7\12\0" + "\1\333\33\7\6\0\2\7\1\0\1\7\12\0\21\7"
-			+ "\1\120\12\7\6\0\2\7\1\0\1\7\12\0\1\334" + "\16\7\1\137\14\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\6\7\1\270\25\7\6\0\2\7\1\0\1\7\12\0" + "\1\335\33\7\6\0\2\7\1\0\1\7\12\0\10\7"
-			+ "\1\336\23\7\6\0\2\7\1\0\1\7\12\0\1\337" + "\33\7\6\0\2\7\1\0\1\7\12\0\14\7\1\340"
-			+ "\17\7\6\0\2\7\1\0\1\7\12\0\4\7\1\341" + "\27\7\6\0\2\7\1\0\1\7\12\0\10\7\1\342"
-			+ "\23\7\6\0\2\7\1\0\1\7\12\0\27\7\1\322" + "\4\7\6\0\2\7\1\0\1\7\12\0\3\7\1\343"
-			+ "\30\7\6\0\2\7\1\0\1\7\12\0\5\7\1\120" + "\26\7\6\0\2\7\1\0\1\7\12\0\1\7\1\317"
-			+ "\32\7\6\0\2\7\1\0\1\7\12\0\5\7\1\344" + "\26\7\6\0\2\7\1\0\1\7\12\0\12\7\1\345"
-			+ "\21\7\6\0\2\7\1\0\1\7\12\0\10\7\1\346" + "\1\347\4\7\1\350\15\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\6\7\1\351\25\7\6\0\2\7\1\0\1\7" + "\12\0\5\7\1\352\26\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\13\7\1\155\17\7\1\353\6\0\2\7\1\0" + "\1\7\12\0\5\7\1\143\26\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\13\7\1\354\20\7\6\0\2\7\1\0" + "\1\7\12\0\1\355\33\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\1\356\33\7\6\0\2\7\1\0\1\7\12\0" + "\14\7\1\357\17\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\1\153\33\7\6\0\2\7\1\0\1\7\12\0\1\360" + "\12\7\1\143\20\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\1\247\33\7\6\0\2\7\1\0\1\7\12\0\13\7" + "\1\300\20\7\6\0\2\7\1\0\1\7\12\0\13\7"
-			+ "\1\143\20\7\6\0\2\7\1\0\1\7\12\0\12\7" + "\1\361\21\7\6\0\2\7\1\0\1\7\12\0\11\7"
-			+ "\1\362\5\7\1\363\2\7\1\143\11\7\6\0\2\7" + "\1\0\1\7\12\0\20\7\1\364\13\7\6\0\2\7"
-			+ "\1\0\1\7\12\0\3\7\1\365\30\7\6\0\2\7" + "\1\0\1\366\12\0\34\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\1\7\1\367\32\7\6\0\2\7\1\0\1\7" + "\12\0\21\7\1\143\12\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\5\7\1\225\26\7\6\0\2\7\1\0\1\7" + "\12\0\11\7\1\370\22\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\1\7\1\371\32\7\6\0\2\7\1\0\1\7" + "\12\0\10\7\1\372\23\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\15\7\1\276\16\7\6\0\2\7\1\0\1\7" + "\12\0\14\7\1\373\17\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\13\7\1\120\20\7\6\0\2\7\1\0\1\7" + "\12\0\1\7\1\374\32\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\15\7\1\143\16\7\6\0\2\7\1\0\1\7" + "\12\0\1\375\33\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\1\376\33\7\6\0\2\7\1\0\1\7\12\0\12\7" + "\1\113\21\7\6\0\2\7\1\0\1\7\12\0\1\7"
-			+ "\1\377\32\7\6\0\2\7\1\0\1\7\12\0\4\7" + "\1\u0100\27\7\6\0\2\7\1\0\1\7\12\0\14\7"
-			+ "\1\u0101\17\7\6\0\2\7\1\0\1\7\12\0\4\7" + "\1\u0102\27\7\6\0\2\7\1\0\1\7\12\0\17\7"
-			+ "\1\u0103\14\7\6\0\2\7\1\0\1\7\12\0\3\7" + "\1\225\30\7\6\0\2\7\1\0\1\7\12\0\3\7"
-			+ "\1\u0104\30\7\6\0\2\7\1\0\1\7\12\0\14\7" + "\1\u0105\17\7\6\0\2\7\1\0\1\7\12\0\4\7"
-			+ "\1\u0106\12\7\1\363\14\7\6\0\2\7\1\0\1\7" + "\12\0\5\7\1\213\26\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\11\7\1\u0107\22\7\6\0\2\7\1\0\1\7" + "\12\0\1\u0108\33\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\10\7\1\u0109\23\7\6\0\2\7\1\0\1\7\12\0" + "\10\7\1\u010a\23\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\5\7\1\u010b\26\7\6\0\2\7\1\0\1\7\12\0" + "\5\7\1\u010c\26\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\11\7\1\120\22\7\6\0\2\7\1\0\1\7\12\0" + "\14\7\1\u010d\17\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\16\7\1\u010e\15\7\6\0\2\7\1\0\1\7\12\0" + "\6\7\1\u010f\25\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\1\u0110\33\7\6\0\2\7\1\0\1\7\12\0\4\7" + "\1\u0111\27\7\6\0\2\7\1\0\1\7\12\0\3\7"
-			+ "\1\u0112\30\7\6\0\2\7\1\0\1\7\12\0\1\u0113" + "\33\7\6\0\2\7\1\0\1\7\12\0\15\7\1\155"
-			+ "\16\7\6\0\2\7\1\0\1\7\12\0\4\7\1\u0114" + "\27\7\6\0\2\7\1\0\1\7\12\0\1\7\1\u0115"
-			+ "\32\7\6\0\2\7\1\0\1\7\12\0\1\u0116\33\7" + "\6\0\2\7\1\0\1\7\12\0\4\7\1\u0117\27\7"
-			+ "\6\0\2\7\1\0\1\366\12\0\1\7\1\u0118\32\7" + "\6\0\2\7\1\0\1\7\12\0\12\7\1\225\21\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\17\7\1\u0119\14\7" + "\6\0\2\7\1\0\1\7\12\0\4\7\1\u011a\27\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\5\7\1\u011b\26\7" + "\6\0\2\7\1\0\1\7\12\0\13\7\1\155\20\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\27\7\1\u011c\4\7" + "\6\0\2\7\1\0\1\7\12\0\1\u011d\33\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\21\7\1\u011e\12\7\6\0" + "\2\7\1\0\1\7\12\0\14\7\1\u011f\17\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\1\u0120\33\7\6\0\2\7" + "\1\0\1\7\12\0\1\u0121\33\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\3\7\1\u0122\30\7\6\0\2\7\1\0" + "\1\7\12\0\5\7\1\202\26\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\1\u0123\33\7\6\0\2\7\1\0\1\7" + "\12\0\15\7\1\u0124\16\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\20\7\1\u0125\13\7\6\0\2\7\1\0\1\7" + "\12\0\4\7\1\u0126\27\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\4\7\1\u0127\27\7\6\0\2\7\1\0\1\7" + "\12\0\14\7\1\u0128\17\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\5\7\1\u0107\26\7\6\0\2\7\1\0\1\7" + "\12\0\11\7\1\u0129\22\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\10\7\1\143\23\7\6\0\2\7\1\0\1\7" + "\12\0\6\7\1\u012a\25\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\14\7\1\126\17\7\6\0\2\7\1\0\1\7" + "\12\0\1\7\1\u012b\32\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\3\7\1\u012c\30\7\6\0\2\7\1\0\1\7" + "\12\0\6\7\1\u012d\25\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\1\107\33\7\6\0\2\7\1\0\1\7\12\0" + "\1\7\1\232\32\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\3\7\1\u012e\20\7\1\u012f\7\7\6\0\2\7\1\0" + "\1\7\12\0\4\7\1\u0130\27\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\1\u0131\33\7\6\0\2\7\1\0\1\7" + "\12\0\14\7\1\215\17\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\13\7\1\u0132\20\7\6\0\2\7\1\0\1\7" + "\12\0\27\7\1\143\4\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\15\7\1\u0133\16\7\6\0\2\7\1\0\1\7" + "\12\0\5\7\1\u0134\26\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\14\7\1\u0123\17\7\6\0\2\7\1\0\1\7" + "\12\0\6\7\1\u0135\25\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\5\7\1\u0136\26\7\6\0\2\7\1\0\1\7" + "\12\0\4\7\1\u0137\27\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\5\7\1\u0129\26\7\6\0\2\7\1\0\1\7" + "\12\0\11\7\1\145\22\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\31\7\1\237\2\7\6\0\2\7\1\0\1\7" + "\12\0\1\7\1\u0138\32\7\6\0\2\7\1\0\1\7"
-			+ "\12\0\1\u0139\33\7\6\0\2\7\1\0\1\7\12\0" + "\1\7\1\257\32\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\6\7\1\276\25\7\6\0\2\7\1\0\1\7\12\0" + "\1\155\33\7\6\0\2\7\1\0\1\7\12\0\1\7"
-			+ "\1\155\32\7\6\0\2\7\1\0\1\7\12\0\1\u013a" + "\33\7\6\0\2\7\1\0\1\7\12\0\6\7\1\120"
-			+ "\25\7\6\0\2\7\1\0\1\7\12\0\1\u013b\33\7" + "\6\0\2\7\1\0\1\7\12\0\13\7\1\u013c\20\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\14\7\1\u013d\17\7" + "\6\0\2\7\1\0\1\7\12\0\25\7\2\143\5\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\27\7\1\155\4\7" + "\6\0\2\7\1\0\1\7\12\0\4\7\1\213\27\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\11\7\1\u013e\22\7" + "\6\0\2\7\1\0\1\7\12\0\10\7\1\225\23\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\13\7\1\u013f\20\7" + "\6\0\2\7\1\0\1\7\12\0\11\7\1\u0140\22\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\1\7\1\u0141\32\7" + "\6\0\2\7\1\0\1\7\12\0\13\7\1\u0142\20\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\1\7\1\u0143\32\7" + "\6\0\2\7\1\0\1\7\12\0\6\7\1\u0144\25\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\6\7\1\u0133\25\7" + "\6\0\2\7\1\0\1\u0145\12\0\34\7\6\0\2\7"
-			+ "\1\0\1\7\12\0\14\7\1\u0146\17\7\6\0\2\7" + "\1\0\1\7\12\0\4\7\1\u0147\4\7\1\202\22\7"
-			+ "\6\0\2\7\1\0\1\7\12\0\1\7\1\u0112\32\7" + "\6\0\2\7\1\0\1\7\12\0\1\u0148\33\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\11\7\1\u0149\22\7\6\0" + "\2\7\1\0\1\7\12\0\5\7\1\u014a\26\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\6\7\1\u014b\25\7\6\0" + "\2\7\1\0\1\7\12\0\4\7\1\u014c\27\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\5\7\1\71\26\7\6\0" + "\2\7\1\0\1\7\12\0\13\7\1\u014d\20\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\5\7\1\u014e\26\7\6\0" + "\2\7\1\0\1\7\12\0\20\7\1\143\13\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\4\7\1\u014f\27\7\6\0" + "\2\7\1\0\1\7\12\0\4\7\1\u0150\27\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\5\7\1\310\26\7\6\0" + "\2\7\1\0\1\7\12\0\15\7\1\113\16\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\11\7\1\u0151\22\7\6\0" + "\2\7\1\0\1\7\12\0\12\7\1\u0152\21\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\6\7\1\u0153\25\7\6\0" + "\2\7\1\0\1\u0154\12\0\34\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\6\7\1\u012e\25\7\6\0\2\7\1\0" + "\1\7\12\0\11\7\1\u0155\22\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\25\7\1\143\2\7\1\143\3\7\6\0" + "\2\7\1\0\1\7\12\0\27\7\1\u0156\4\7\6\0"
-			+ "\2\7\1\0\1\7\12\0\1\u0157\33\7\6\0\2\7" + "\1\0\1\7\12\0\6\7\1\213\25\7\6\0\2\7"
-			+ "\1\0\1\7\12\0\1\u0158\33\7\6\0\2\7\1\0" + "\1\7\12\0\5\7\1\u012c\26\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\1\213\33\7\6\0\2\7\1\0\1\7" + "\12\0\1\u0100\33\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\10\7\1\223\23\7\6\0\2\7\1\0\1\7\12\0" + "\27\7\1\213\4\7\6\0\2\7\1\0\1\7\12\0"
-			+ "\2\7\1\u012e\1\7\1\u0159\5\7\1\u0152\21\7\6\0" + "\2\7\1\0\1\7\12\0\1\u015a\33\7\6\0\2\7"
-			+ "\1\0\1\7\12\0\4\7\1\u015b\27\7\6\0\2\7" + "\1\0\1\7\12\0\5\7\1\u0100\26\7\6\0\2\7"
-			+ "\1\0\1\7\12\0\15\7\1\370\16\7\6\0\2\7" + "\1\0\1\7\12\0\14\7\1\u015c\17\7\6\0\2\7"
-			+ "\1\0\1\7\12\0\10\7\1\u0100\23\7\6\0\2\7" + "\1\0\1\7\12\0\21\7\1\213\12\7\6\0\2\7"
-			+ "\1\0\1\7\12\0\15\7\1\u015d\16\7\6\0\2\7" + "\1\0\1\7\12\0\1\u015e\33\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\10\7\1\u015f\23\7\6\0\2\7\1\0" + "\1\7\12\0\4\7\1\u0160\27\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\1\7\1\u0161\32\7\6\0\2\7\1\0" + "\1\7\12\0\15\7\1\u0162\16\7\6\0\2\7\1\0"
-			+ "\1\7\12\0\22\7\1\213\11\7\4\0";
+	private static final int[] ZZ_TRANS = SQLTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[354];
-		int offset = 0;
-		offset = SQLTokenMaker.zzUnpackAction(SQLTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[354];
-		int offset = 0;
-		offset = SQLTokenMaker.zzUnpackAttribute(SQLTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 178) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[354];
-		int offset = 0;
-		offset = SQLTokenMaker.zzUnpackRowMap(SQLTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[15936];
-		int offset = 0;
-		offset = SQLTokenMaker.zzUnpackTrans(SQLTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/** zzAtEOF == true <=> the scanner is at the EOF */
 	private boolean zzAtEOF;
 
@@ -748,7 +414,7 @@ public class SQLTokenMaker extends AbstractJFlexTokenMaker {
 				break;
 			case 2: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 24:
 				break;
@@ -771,7 +437,7 @@ public class SQLTokenMaker extends AbstractJFlexTokenMaker {
 				break;
 			case 14: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_CHAR);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 28:
 				break;
@@ -814,7 +480,7 @@ public class SQLTokenMaker extends AbstractJFlexTokenMaker {
 				break;
 			case 12: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 36:
 				break;
@@ -848,7 +514,7 @@ public class SQLTokenMaker extends AbstractJFlexTokenMaker {
 			case 10: {
 				this.addToken(TokenTypes.ERROR_IDENTIFIER);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 42:
 				break;
@@ -858,7 +524,7 @@ public class SQLTokenMaker extends AbstractJFlexTokenMaker {
 				break;
 			case 16: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 44:
 				break;
@@ -868,25 +534,25 @@ public class SQLTokenMaker extends AbstractJFlexTokenMaker {
 					switch (this.zzLexicalState) {
 					case STRING: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_STRING_DOUBLE_QUOTE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 355:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 356:
 						break;
 					case MLC: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 357:
 						break;
 					case CHAR: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.LITERAL_CHAR);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 358:
 						break;
@@ -0,0 +1,171 @@
+/*
+ * 10/17/2026
+ *
+ * ScannerTables.java - The DFA tables of a JFlex-generated TokenMaker, loaded
+ * from a compact binary resource.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rsyntaxtextarea.modes;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * The tables of a JFlex-generated scanner: its character map, actions, state
+ * attributes, row map and transitions.
+ * <p>
+ *
+ * JFlex stores these tables as packed string constants, which are decoded in
+ * the scanner's static initializer. For the larger languages they are hundreds
+ * of kilobytes, all of which end up in the class's constant pool. The token
+ * makers in this package instead keep their tables in a resource next to the
+ * class, <code>&lt;ClassName&gt;.tables</code>, which is read once, when the
+ * class is initialized, into arrays shared by all instances. The resource holds
+ * a header with the decoded size, then the tables run-length encoded and
+ * deflated in one piece, so that it can be inflated in a single call.
+ * <p>
+ *
+ * The resources are written by <code>ScannerTablesWriter</code>, a tool in
+ * <code>src/bench/java</code>, after a scanner is regenerated with JFlex.
+ *
+ * @version 1.0
+ */
+final class ScannerTables {
+
+	/**
+	 * Decodes the run-length encoded tables of an inflated resource.
+	 */
+	private static final class Reader {
+
+		private final byte[] data;
+
+		private int pos;
+
+		private Reader(final byte[] data) {
+			this.data = data;
+		}
+
+		private int[] table() throws IOException {
+			final int length = this.varInt();
+			final int[] table = new int[length];
+			for (int i = 0; i < length;) {
+				final int count = this.varInt();
+				final int zigZag = this.varInt();
+				if (count <= 0 || count > length - i)
+					throw new IOException("Invalid run length: " + count);
+				final int value = zigZag >>> 1 ^ -(zigZag & 1);
+				if (count == 1)
+					table[i] = value;
+				else
+					Arrays.fill(table, i, i + count, value);
+				i += count;
+			}
+			return table;
+		}
+
+		private int varInt() {
+			int b = this.data[this.pos++];
+			int value = b & 0x7f;
+			for (int shift = 7; b < 0; shift += 7) {
+				b = this.data[this.pos++];
+				value |= (b & 0x7f) << shift;
+			}
+			return value;
+		}
+
+	}
+
+	/**
+	 * Identifies a tables resource, and its format version.
+	 */
+	static final int MAGIC = 0x5a5a5402;
+
+	/**
+	 * <code>ZZ_ACTION</code>: translates DFA states to action switch labels.
+	 */
+	final int[] action;
+
+	/**
+	 * <code>ZZ_ATTRIBUTE</code>: the attributes of each DFA state.
+	 */
+	final int[] attribute;
+
+	/**
+	 * <code>ZZ_CMAP</code>: translates characters to character classes.
+	 */
+	final char[] cmap;
+
+	/**
+	 * <code>ZZ_ROWMAP</code>: translates a DFA state to a row index in the
+	 * transition table.
+	 */
+	final int[] rowMap;
+
+	/**
+	 * <code>ZZ_TRANS</code>: the transition table of the DFA.
+	 */
+	final int[] trans;
+
+	private ScannerTables(final char[] cmap, final int[] action, final int[] attribute, final int[] rowMap,
+			final int[] trans) {
+		this.cmap = cmap;
+		this.action = action;
+		this.attribute = attribute;
+		this.rowMap = rowMap;
+		this.trans = trans;
+	}
+
+	/**
+	 * Loads the tables of a scanner from its resource.
+	 *
+	 * @param scanner
+	 *            The scanner's class.
+	 * @return The tables.
+	 * @throws InternalError
+	 *             If the resource is missing or corrupt.
+	 */
+	static ScannerTables load(final Class<?> scanner) {
+		final String name = scanner.getSimpleName() + ".tables";
+		final InputStream in = scanner.getResourceAsStream(name);
+		if (in == null)
+			throw new InternalError("Scanner tables not found: " + name);
+		final Inflater inflater = new Inflater();
+		try (DataInputStream din = new DataInputStream(in)) {
+			if (din.readInt() != ScannerTables.MAGIC)
+				throw new IOException("Not a scanner tables resource");
+			final byte[] data = new byte[din.readInt()];
+			final byte[] compressed = ScannerTables.readFully(din);
+			inflater.setInput(compressed);
+			if (inflater.inflate(data) != data.length || !inflater.finished())
+				throw new IOException("Truncated scanner tables");
+			final ScannerTables.Reader r = new ScannerTables.Reader(data);
+			final int[] cmap = r.table();
+			final char[] chars = new char[cmap.length];
+			for (int i = 0; i < cmap.length; i++)
+				chars[i] = (char) cmap[i];
+			return new ScannerTables(chars, r.table(), r.table(), r.table(), r.table());
+		} catch (final IOException | DataFormatException | RuntimeException e) {
+			throw new InternalError("Can't load scanner tables " + name + ": " + e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private static byte[] readFully(final InputStream in) throws IOException {
+		byte[] buf = new byte[8192];
+		int count = 0;
+		for (int n; (n = in.read(buf, count, buf.length - count)) != -1;) {
+			count += n;
+			if (count == buf.length)
+				buf = Arrays.copyOf(buf, buf.length * 2);
+		}
+		return Arrays.copyOf(buf, count);
+	}
+
+}
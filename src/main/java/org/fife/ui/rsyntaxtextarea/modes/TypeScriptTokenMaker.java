@@ -156,52 +156,24 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = TypeScriptTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\13\0\2\1\3\0\1\2\1\3\1\4\1\5\2\6"
-			+ "\1\5\1\2\3\7\1\5\1\10\1\5\6\7\1\2" + "\1\5\1\2\20\5\1\11\1\12\2\5\1\13\1\1"
-			+ "\1\14\1\15\1\16\1\1\1\17\1\20\1\21\1\1" + "\1\22\5\1\1\23\10\1\1\24\3\1\2\5\1\25"
-			+ "\1\26\1\27\1\30\1\1\1\31\5\1\1\32\2\1" + "\1\33\1\1\1\34\1\35\1\36\2\37\1\40\1\41"
-			+ "\1\42\1\43\1\1\1\44\4\1\1\45\1\46\1\47" + "\1\50\1\1\1\51\1\1\1\52\1\2\1\53\1\6"
-			+ "\1\54\1\53\1\54\1\53\1\55\1\53\1\5\2\0" + "\1\56\1\57\2\7\2\0\1\60\1\7\1\5\1\61"
-			+ "\34\5\2\62\7\5\1\62\13\5\1\63\1\64\1\65" + "\1\66\4\0\1\67\2\0\1\70\32\0\1\71\1\26"
-			+ "\1\72\1\73\1\27\5\0\1\74\2\0\1\75\1\76" + "\1\2\1\54\1\0\2\55\1\5\1\77\1\100\2\5"
-			+ "\1\101\37\5\1\101\26\5\64\0\1\102\2\0\1\103" + "\5\0\1\104\1\2\1\105\6\5\1\106\5\5\1\107"
-			+ "\1\5\1\110\25\5\1\0\1\1\1\0\1\111\15\0" + "\1\112\45\0\1\113\4\0\1\114\1\0\1\115\2\0"
-			+ "\1\116\1\0\1\117\1\2\5\5\1\62\17\5\1\62" + "\1\5\15\0\1\112\20\0\1\112\20\0\1\2\4\5"
-			+ "\1\120\13\5\33\0\10\5\1\112\4\0\1\112\12\0" + "\3\5\6\0\1\5\2\0\1\121\1\0";
+	private static final ScannerTables TABLES = ScannerTables.load(TypeScriptTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = TypeScriptTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\13\0\2\1\3\0\2\1\1\11\4\1\1\11\4\1"
-			+ "\2\11\4\1\1\11\24\1\2\11\2\1\1\11\1\1" + "\1\11\1\1\1\11\1\1\1\11\1\1\1\11\1\1"
-			+ "\1\11\5\1\1\11\10\1\1\11\5\1\1\11\2\1" + "\1\11\1\1\1\11\5\1\1\11\2\1\1\11\1\1"
-			+ "\3\11\3\1\3\11\1\1\1\11\4\1\1\11\2\1" + "\1\11\1\1\1\11\1\1\1\11\12\1\2\0\1\11"
-			+ "\3\1\2\0\1\11\64\1\1\11\2\1\1\11\4\0" + "\1\11\2\0\1\11\32\0\3\1\2\11\5\0\1\11"
-			+ "\2\0\2\11\2\1\1\0\76\1\64\0\1\1\2\0" + "\1\11\5\0\1\11\1\1\1\11\44\1\1\0\1\11"
-			+ "\1\0\1\1\15\0\1\11\45\0\1\1\4\0\1\1" + "\1\0\1\11\2\0\1\1\1\0\1\11\30\1\15\0"
-			+ "\1\1\20\0\1\1\20\0\21\1\33\0\11\1\4\0" + "\1\1\12\0\3\1\6\0\1\1\2\0\1\11\1\0";
+	private static final int[] ZZ_ACTION = TypeScriptTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = TypeScriptTokenMaker.zzUnpackCMap(TypeScriptTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = TypeScriptTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\75\1\2\1\0\1\1\1\11\22\0\1\75\1\36\1\77"
-			+ "\1\12\1\15\1\35\1\40\1\107\2\106\1\17\1\30\1\27\1\24" + "\1\25\1\16\1\5\7\7\2\4\1\41\1\76\1\31\1\32\1\34"
-			+ "\1\37\1\45\1\103\1\6\1\101\1\102\1\23\1\22\2\3\1\112"
-			+ "\2\3\1\21\1\3\1\111\5\3\1\104\3\3\1\20\2\3\1\100"
-			+ "\1\13\1\105\1\33\1\14\1\113\1\46\1\47\1\53\1\65\1\54"
-			+ "\1\70\1\57\1\61\1\56\1\3\1\64\1\55\1\44\1\60\1\62" + "\1\66\1\73\1\52\1\50\1\51\1\10\1\71\1\63\1\72\1\67"
-			+ "\1\110\1\74\1\43\1\26\1\42\uff81\0";
+	private static final char[] ZZ_CMAP = TypeScriptTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -214,525 +186,14 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = TypeScriptTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\114\0\230\0\344\0\u0130\0\u017c\0\u01c8\0\u0214"
-			+ "\0\u0260\0\u02ac\0\u02f8\0\u0344\0\u0390\0\u03dc\0\u0428\0\u0474"
-			+ "\0\u04c0\0\u050c\0\u0558\0\u05a4\0\u05f0\0\u063c\0\u0688\0\u0558"
-			+ "\0\u06d4\0\u0720\0\u076c\0\u07b8\0\u0558\0\u0558\0\u0804\0\u0850"
-			+ "\0\u089c\0\u08e8\0\u0558\0\u0934\0\u0980\0\u09cc\0\u0a18\0\u0a64"
-			+ "\0\u0ab0\0\u0afc\0\u0b48\0\u0b94\0\u0be0\0\u0c2c\0\u0c78\0\u0cc4"
-			+ "\0\u0d10\0\u0d5c\0\u0da8\0\u0df4\0\u0e40\0\u0e8c\0\u0ed8\0\u0558"
-			+ "\0\u0558\0\u0f24\0\u0f70\0\u0558\0\u0fbc\0\u0558\0\u1008\0\u0558"
-			+ "\0\u1054\0\u0558\0\u1008\0\u0558\0\u10a0\0\u0558\0\u10ec\0\u1138"
-			+ "\0\u1184\0\u11d0\0\u121c\0\u0558\0\u1268\0\u12b4\0\u1300\0\u134c"
-			+ "\0\u1398\0\u13e4\0\u1430\0\u147c\0\u0558\0\u14c8\0\u1514\0\u1560"
-			+ "\0\u15ac\0\u15f8\0\u0558\0\u1644\0\u1690\0\u0558\0\u16dc\0\u0558"
-			+ "\0\u1728\0\u1774\0\u17c0\0\u180c\0\u1858\0\u0558\0\u18a4\0\u18f0"
-			+ "\0\u0558\0\u193c\0\u0558\0\u0558\0\u0558\0\u1988\0\u19d4\0\u1a20"
-			+ "\0\u0558\0\u0558\0\u0558\0\u1a6c\0\u0558\0\u1ab8\0\u1b04\0\u1b50"
-			+ "\0\u1b9c\0\u0558\0\u1008\0\u1be8\0\u0558\0\u1c34\0\u0558\0\u1c80"
-			+ "\0\u0558\0\u1ccc\0\u1d18\0\u1d18\0\u1d18\0\u1d64\0\u1db0\0\u1dfc"
-			+ "\0\u1e48\0\u1e94\0\u1ee0\0\u1f2c\0\u1f78\0\u0558\0\u1fc4\0\u1f2c"
-			+ "\0\u2010\0\u0720\0\u2010\0\u0558\0\u205c\0\u20a8\0\u20f4\0\u2140"
-			+ "\0\u218c\0\u21d8\0\u2224\0\u2270\0\u22bc\0\u2308\0\u2354\0\u23a0"
-			+ "\0\u23ec\0\u2438\0\u2484\0\u24d0\0\u251c\0\u2568\0\u25b4\0\u2600"
-			+ "\0\u264c\0\u2698\0\u26e4\0\u2730\0\u277c\0\u27c8\0\u2814\0\u2860"
-			+ "\0\u28ac\0\u28f8\0\u2944\0\u2990\0\u05a4\0\u29dc\0\u2a28\0\u2a74"
-			+ "\0\u2ac0\0\u2b0c\0\u2b58\0\u2ba4\0\u2bf0\0\u2c3c\0\u2c88\0\u2cd4"
-			+ "\0\u2d20\0\u2d6c\0\u2db8\0\u2e04\0\u2e50\0\u2e9c\0\u2ee8\0\u2f34"
-			+ "\0\u0558\0\u2f80\0\u2fcc\0\u0558\0\u3018\0\u3064\0\u30b0\0\u30fc"
-			+ "\0\u0558\0\u3148\0\u3194\0\u0558\0\u31e0\0\u322c\0\u3278\0\u32c4"
-			+ "\0\u3310\0\u335c\0\u33a8\0\u33f4\0\u3440\0\u348c\0\u34d8\0\u3524"
-			+ "\0\u3570\0\u35bc\0\u3608\0\u3654\0\u36a0\0\u36ec\0\u3738\0\u3784"
-			+ "\0\u37d0\0\u381c\0\u3868\0\u38b4\0\u3900\0\u394c\0\u3998\0\u39e4"
-			+ "\0\u3a30\0\u0558\0\u0558\0\u3a7c\0\u3ac8\0\u3b14\0\u3b60\0\u3bac"
-			+ "\0\u0558\0\u3bf8\0\u3c44\0\u0558\0\u0558\0\u3c90\0\u3cdc\0\u3d28"
-			+ "\0\u1d18\0\u3d74\0\u3dc0\0\u3e0c\0\u3e58\0\u3ea4\0\u3ef0\0\u05a4"
-			+ "\0\u3f3c\0\u3f88\0\u3fd4\0\u4020\0\u406c\0\u40b8\0\u4104\0\u4150"
-			+ "\0\u419c\0\u41e8\0\u4234\0\u4280\0\u42cc\0\u4318\0\u4364\0\u43b0"
-			+ "\0\u43fc\0\u4448\0\u4494\0\u44e0\0\u452c\0\u4578\0\u45c4\0\u4610"
-			+ "\0\u465c\0\u46a8\0\u46f4\0\u4740\0\u478c\0\u47d8\0\u4824\0\u4870"
-			+ "\0\u48bc\0\u4908\0\u4954\0\u49a0\0\u49ec\0\u4a38\0\u4a84\0\u4ad0"
-			+ "\0\u4b1c\0\u4b68\0\u4bb4\0\u4c00\0\u4c4c\0\u4c98\0\u4ce4\0\u4d30"
-			+ "\0\u4d7c\0\u4dc8\0\u4e14\0\u4e60\0\u4eac\0\u4ef8\0\u4f44\0\u4f90"
-			+ "\0\u4fdc\0\u5028\0\u5074\0\u50c0\0\u510c\0\u5158\0\u51a4\0\u51f0"
-			+ "\0\u523c\0\u5288\0\u52d4\0\u5320\0\u536c\0\u53b8\0\u5404\0\u5450"
-			+ "\0\u549c\0\u54e8\0\u5534\0\u5580\0\u55cc\0\u5618\0\u5664\0\u56b0"
-			+ "\0\u56fc\0\u5748\0\u5794\0\u57e0\0\u582c\0\u5878\0\u58c4\0\u5910"
-			+ "\0\u595c\0\u59a8\0\u59f4\0\u5a40\0\u5a8c\0\u5ad8\0\u5b24\0\u5b70"
-			+ "\0\u5bbc\0\u5c08\0\u5c54\0\u5ca0\0\u5cec\0\u5d38\0\u5d84\0\u5dd0"
-			+ "\0\u5e1c\0\u5e68\0\u5eb4\0\u5f00\0\u5f4c\0\u0558\0\u5f98\0\u5fe4"
-			+ "\0\u6030\0\u607c\0\u60c8\0\u0558\0\u6114\0\u0558\0\u6160\0\u61ac"
-			+ "\0\u61f8\0\u6244\0\u6290\0\u62dc\0\u05a4\0\u6328\0\u6374\0\u63c0"
-			+ "\0\u640c\0\u6458\0\u05a4\0\u64a4\0\u05a4\0\u64f0\0\u653c\0\u6588"
-			+ "\0\u65d4\0\u6620\0\u666c\0\u66b8\0\u6704\0\u6750\0\u679c\0\u67e8"
-			+ "\0\u6834\0\u6880\0\u68cc\0\u6918\0\u6964\0\u69b0\0\u69fc\0\u6a48"
-			+ "\0\u6a94\0\u6ae0\0\u2fcc\0\u0558\0\u6b2c\0\u6b78\0\u6bc4\0\u6c10"
-			+ "\0\u6c5c\0\u6ca8\0\u6cf4\0\u6d40\0\u6d8c\0\u6dd8\0\u6e24\0\u6e70"
-			+ "\0\u6ebc\0\u6f08\0\u6f54\0\u0558\0\u6fa0\0\u6fec\0\u7038\0\u7084"
-			+ "\0\u70d0\0\u711c\0\u7168\0\u71b4\0\u7200\0\u724c\0\u7298\0\u72e4"
-			+ "\0\u7330\0\u737c\0\u73c8\0\u7414\0\u7460\0\u74ac\0\u74f8\0\u7544"
-			+ "\0\u7590\0\u75dc\0\u7628\0\u7674\0\u76c0\0\u770c\0\u7758\0\u77a4"
-			+ "\0\u77f0\0\u783c\0\u7888\0\u78d4\0\u7920\0\u796c\0\u79b8\0\u7a04"
-			+ "\0\u7a50\0\u7a9c\0\u7ae8\0\u7b34\0\u7b80\0\u7bcc\0\u7c18\0\u7c64"
-			+ "\0\u0558\0\u7cb0\0\u7cfc\0\u7d48\0\u7d94\0\u0558\0\u7de0\0\u7e2c"
-			+ "\0\u7e78\0\u7ec4\0\u7f10\0\u7f5c\0\u42cc\0\u7fa8\0\u7ff4\0\u8040"
-			+ "\0\u808c\0\u80d8\0\u8124\0\u8170\0\u81bc\0\u8208\0\u8254\0\u82a0"
-			+ "\0\u82ec\0\u8338\0\u8384\0\u83d0\0\u841c\0\u8468\0\u6b78\0\u84b4"
-			+ "\0\u8500\0\u854c\0\u8598\0\u85e4\0\u8630\0\u867c\0\u86c8\0\u8714"
-			+ "\0\u8760\0\u87ac\0\u87f8\0\u8844\0\u8890\0\u88dc\0\u8928\0\u8974"
-			+ "\0\u89c0\0\u8a0c\0\u8a58\0\u8aa4\0\u8af0\0\u8b3c\0\u8b88\0\u8bd4"
-			+ "\0\u8c20\0\u8c6c\0\u8cb8\0\u8d04\0\u8d50\0\u8d9c\0\u8de8\0\u8e34"
-			+ "\0\u8e80\0\u8ecc\0\u8f18\0\u8f64\0\u7a9c\0\u8fb0\0\u8ffc\0\u9048"
-			+ "\0\u7c18\0\u9094\0\u90e0\0\u7d48\0\u912c\0\u9178\0\u91c4\0\u9210"
-			+ "\0\u925c\0\u92a8\0\u05a4\0\u92f4\0\u9340\0\u938c\0\u93d8\0\u9424"
-			+ "\0\u9470\0\u94bc\0\u9508\0\u9554\0\u95a0\0\u95ec\0\u9638\0\u9684"
-			+ "\0\u96d0\0\u971c\0\u9768\0\u97b4\0\u9800\0\u984c\0\u9898\0\u98e4"
-			+ "\0\u9930\0\u997c\0\u99c8\0\u9a14\0\u9a60\0\u9aac\0\u9af8\0\u9b44"
-			+ "\0\u9b90\0\u9bdc\0\u9c28\0\u9c74\0\u9cc0\0\u9d0c\0\u9d58\0\u9da4"
-			+ "\0\u9df0\0\u9e3c\0\u9e88\0\u9ed4\0\u9f20\0\u9f6c\0\u9fb8\0\ua004"
-			+ "\0\ua050\0\ua09c\0\ua0e8\0\ua134\0\ua180\0\ua1cc\0\u7038\0\ua218"
-			+ "\0\ua264\0\ua2b0\0\ua2fc\0\ua348\0\ua394\0\ua3e0\0\ua42c\0\ua478"
-			+ "\0\ua4c4\0\ua510\0\ua55c\0\ua5a8\0\ua5f4\0\ua640\0\ua68c\0\ua6d8"
-			+ "\0\ua724\0\ua770\0\ua7bc\0\ua808\0\ua854\0\u0558\0\ua8a0";
+	private static final int[] ZZ_ROWMAP = TypeScriptTokenMaker.TABLES.rowMap;
 
 	/* user code: */
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = TypeScriptTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\1\21\1\22\1\23\1\24\1\25\1\26\1\24\1\25"
-			+ "\1\27\1\30\2\21\2\24\1\31\1\32\4\24\1\33" + "\1\34\1\35\1\36\1\37\1\40\1\41\1\32\1\42"
-			+ "\2\32\1\43\1\44\2\43\1\45\1\46\1\47\1\50" + "\1\51\1\52\1\53\1\54\1\55\1\56\1\57\1\60"
-			+ "\1\61\1\62\2\24\1\63\1\24\1\64\1\65\1\24" + "\1\66\1\67\2\24\1\35\1\22\1\36\1\70\1\35"
-			+ "\4\24\2\35\1\71\1\24\1\72\1\73\1\74\2\75" + "\1\76\10\75\1\77\63\75\1\100\14\75\2\101\1\102"
-			+ "\10\101\1\103\73\101\1\104\4\101\2\105\1\106\14\105"
-			+ "\1\107\41\105\1\110\1\105\1\111\4\105\1\112\23\105"
-			+ "\2\113\1\114\14\113\1\115\11\113\1\116\13\113\1\117"
-			+ "\13\113\1\120\1\113\1\121\4\113\1\122\3\113\1\123" + "\17\113\2\124\1\125\56\124\1\126\1\124\1\127\4\124"
-			+ "\1\130\23\124\1\131\1\132\1\133\26\131\1\134\6\131"
-			+ "\1\135\34\131\1\22\1\136\15\131\2\137\1\140\21\137"
-			+ "\1\141\34\137\1\142\1\137\1\143\4\137\1\144\23\137"
-			+ "\2\145\1\146\34\145\1\147\54\145\2\150\1\151\26\150"
-			+ "\1\152\2\150\1\153\43\150\1\154\4\150\1\155\6\150" + "\1\156\1\157\1\0\13\156\1\160\13\156\1\43\1\156"
-			+ "\1\161\40\156\1\22\1\156\1\162\7\156\1\163\4\156"
-			+ "\77\164\1\165\14\164\107\166\1\165\4\166\105\167\1\170"
-			+ "\6\167\2\171\1\172\10\171\1\173\1\171\1\174\75\171"
-			+ "\1\175\2\176\1\177\12\176\1\200\10\176\1\201\65\176" + "\1\21\2\0\6\21\1\0\4\21\2\0\4\21\20\0"
-			+ "\30\21\5\0\4\21\3\0\3\21\2\0\1\22\73\0" + "\1\22\132\0\1\21\2\0\6\24\1\0\1\21\1\202"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\26\24\5\0" + "\4\24\3\0\3\24\1\0\1\203\2\0\1\203\2\25"
-			+ "\1\203\1\25\1\203\1\0\4\203\2\0\1\203\1\204" + "\1\205\1\206\1\0\1\207\16\0\10\203\1\206\1\204"
-			+ "\7\203\1\205\2\203\1\205\3\203\5\0\1\203\1\205" + "\2\203\3\0\3\203\1\0\1\203\2\0\1\203\1\210"
-			+ "\1\211\1\203\1\211\1\203\1\0\4\203\2\0\1\212" + "\1\204\1\205\1\206\1\0\1\207\16\0\10\203\1\206"
-			+ "\1\204\7\203\1\205\2\203\1\205\1\203\1\212\1\203" + "\5\0\1\203\1\205\2\203\3\0\3\203\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24" + "\20\0\1\24\1\21\12\24\1\213\13\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\13\214\1\215\2\214\1\216\1\217" + "\12\214\1\220\61\214\32\0\1\43\105\0\1\43\5\0"
-			+ "\1\43\65\0\2\207\1\0\1\207\134\0\1\43\1\0" + "\1\221\112\0\1\222\1\43\62\0\1\223\27\0\1\224"
-			+ "\1\43\42\0\1\223\50\0\1\43\1\0\1\225\111\0" + "\1\43\5\0\1\43\105\0\1\43\10\0\1\43\50\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0" + "\4\24\20\0\1\24\1\21\14\24\1\226\11\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\1\227\2\21" + "\1\227\1\21\1\227\1\0\4\21\2\0\4\227\20\0"
-			+ "\1\227\1\21\26\227\5\0\4\227\3\0\3\227\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\1\24\1\230\10\24\1\231" + "\13\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0" + "\1\24\1\21\4\24\1\232\7\24\1\233\4\24\1\234"
-			+ "\4\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\5\24\1\235\1\0\1\21\1\202\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\3\24\1\236\7\24\1\237\1\24" + "\1\240\3\24\1\241\4\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\4\24\1\242\6\24"
-			+ "\1\243\5\24\1\244\4\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\6\24\1\245\17\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\1\246\6\24\1\247\3\24\1\250\1\251\11\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\1\252\1\24\1\253\4\24\1\254\2\24\1\255" + "\10\24\1\256\1\257\1\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\6\24\1\260\5\24"
-			+ "\1\261\11\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24"
-			+ "\20\0\1\262\1\21\2\24\1\263\7\24\1\264\7\24" + "\1\265\3\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24" + "\20\0\1\24\1\21\14\24\1\266\11\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\5\24\1\267\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\1\270\5\24\1\271\17\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\10\24\1\272\2\24" + "\1\273\12\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24" + "\20\0\1\24\1\21\6\24\1\274\5\24\1\275\11\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\5\24" + "\1\276\1\0\1\21\1\202\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\1\277\3\24\1\300\21\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\5\24\1\301\1\0"
-			+ "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21" + "\1\302\6\24\1\303\1\304\3\24\1\305\11\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\1\305\13\24\1\306\11\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\1\307\25\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21" + "\12\24\1\310\13\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\2\75\1\0\10\75\1\0\63\75\1\0\14\75\2\311" + "\1\0\5\311\1\312\61\311\1\313\21\311\2\101\1\0"
-			+ "\10\101\1\0\73\101\1\0\4\101\2\105\1\0\14\105" + "\1\0\41\105\1\0\1\105\1\0\4\105\1\0\23\105"
-			+ "\16\0\1\314\146\0\1\315\125\0\1\316\101\0\1\317" + "\4\0\1\320\35\0\2\113\1\0\14\113\1\0\11\113"
-			+ "\1\0\13\113\1\0\13\113\1\0\1\113\1\0\4\113" + "\1\0\3\113\1\0\17\113\16\0\1\321\100\0\1\322"
-			+ "\2\0\1\322\1\0\1\322\5\0\1\323\1\0\4\322" + "\10\0\1\324\7\0\1\322\1\0\26\322\5\0\4\322"
-			+ "\3\0\3\322\45\0\1\325\1\0\1\326\1\327\1\330" + "\1\331\1\332\1\333\1\334\1\335\1\336\1\337\1\340"
-			+ "\3\0\1\341\1\342\1\343\1\0\1\344\1\345\73\0" + "\1\346\125\0\1\347\101\0\1\350\4\0\1\351\102\0"
-			+ "\1\352\46\0\2\124\1\0\56\124\1\0\1\124\1\0" + "\4\124\1\0\23\124\51\0\1\353\125\0\1\354\101\0"
-			+ "\1\355\4\0\1\356\35\0\2\131\1\0\26\131\1\0" + "\6\131\1\0\34\131\2\0\16\131\1\132\1\0\26\131"
-			+ "\1\0\6\131\1\0\34\131\1\22\1\0\15\131\3\0" + "\1\357\2\0\1\357\1\0\1\357\3\0\1\357\1\0"
-			+ "\1\360\1\0\4\357\12\0\1\361\1\362\1\0\1\357" + "\2\0\1\357\1\0\26\357\5\0\4\357\3\0\3\357"
-			+ "\1\0\75\135\1\0\1\363\15\135\2\137\1\0\21\137" + "\1\0\34\137\1\0\1\137\1\0\4\137\1\0\23\137"
-			+ "\24\0\1\364\140\0\1\365\125\0\1\366\101\0\1\367" + "\4\0\1\370\35\0\2\145\1\0\34\145\1\0\54\145"
-			+ "\34\0\1\371\57\0\2\150\1\0\26\150\1\0\2\150" + "\1\0\43\150\1\0\4\150\1\0\6\150\36\0\1\372"
-			+ "\55\0\2\156\1\0\13\156\1\0\13\156\1\0\1\156" + "\1\0\40\156\1\0\1\156\1\0\7\156\1\0\5\156"
-			+ "\1\157\1\0\13\156\1\0\13\156\1\0\1\156\1\0" + "\40\156\1\22\1\156\1\0\7\156\1\0\4\156\34\0"
-			+ "\1\161\57\0\77\164\1\0\14\164\107\166\1\0\4\166" + "\105\167\1\0\6\167\105\0\1\373\6\0\2\171\1\0"
-			+ "\10\171\1\0\1\171\1\0\75\171\75\0\1\374\17\0" + "\2\176\1\0\12\176\1\0\10\176\1\0\65\176\74\0"
-			+ "\1\375\17\0\1\21\2\0\5\21\1\376\1\0\4\21" + "\2\0\4\21\20\0\30\21\5\0\4\21\3\0\3\21"
-			+ "\1\0\1\203\2\0\6\203\1\0\4\203\2\0\4\203" + "\20\0\30\203\5\0\4\203\3\0\3\203\1\0\1\203"
-			+ "\2\0\1\203\2\377\1\203\1\377\1\203\1\0\4\203" + "\2\0\4\203\1\u0100\3\0\1\u0100\13\0\30\203\5\0"
-			+ "\4\203\3\0\3\203\1\0\1\203\2\0\1\203\2\207" + "\1\203\1\207\1\203\1\0\4\203\2\0\2\203\1\205"
-			+ "\1\206\20\0\10\203\1\206\10\203\1\205\2\203\1\205" + "\3\203\5\0\1\203\1\205\2\203\3\0\3\203\1\0"
-			+ "\1\203\2\0\1\203\2\210\1\203\1\210\1\203\1\0" + "\4\203\2\0\2\203\1\205\1\206\1\0\1\207\16\0"
-			+ "\10\203\1\206\10\203\1\205\2\203\1\205\3\203\5\0" + "\1\203\1\205\2\203\3\0\3\203\1\0\1\203\2\0"
-			+ "\1\203\1\210\1\211\1\203\1\211\1\203\1\0\4\203" + "\2\0\1\203\1\u0101\1\205\1\206\1\0\1\207\16\0"
-			+ "\10\203\1\206\1\u0101\7\203\1\205\2\203\1\205\3\203" + "\5\0\1\203\1\205\2\203\3\0\3\203\1\0\1\203"
-			+ "\2\0\1\203\4\u0102\1\203\1\0\4\203\2\0\2\203"
-			+ "\2\u0102\20\0\2\203\2\u0102\3\203\2\u0102\10\203\1\u0102"
-			+ "\2\203\1\u0102\3\203\5\0\3\u0102\1\203\3\0\3\203" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\6\24\1\u0103\17\24" + "\5\0\4\24\3\0\3\24\1\0\13\214\1\215\2\214"
-			+ "\1\u0104\77\214\1\0\111\214\17\0\1\u0105\75\0\1\223" + "\27\0\1\224\43\0\1\223\50\0\1\43\1\0\1\32"
-			+ "\57\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\17\24\1\u0106\6\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\227" + "\1\0\4\21\2\0\4\227\20\0\1\227\1\21\26\227"
-			+ "\5\0\4\227\3\0\3\227\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\2\24\1\u0107\23\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\21\24\1\u0108\4\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\6\24\1\u0109\17\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\14\24\1\u010a\11\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\3\24\1\u010b\22\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\20\24\1\u010c\5\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\1\u010d\3\24\1\u010e\21\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202" + "\2\24\2\0\4\24\20\0\1\24\1\21\14\24\1\u010f"
-			+ "\11\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\10\24\1\u0110\15\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\12\24\1\u0111" + "\13\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\5\24\1\u0112\1\0\1\21\1\202\2\24\2\0\4\24" + "\20\0\1\24\1\21\1\u0113\20\24\1\265\4\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\4\24\1\u0114\3\24\1\u0115\15\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\20\24\1\u0116" + "\5\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0" + "\1\24\1\21\3\24\1\u0117\22\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202" + "\2\24\2\0\4\24\20\0\1\24\1\21\2\24\1\u0118"
-			+ "\1\u0119\22\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\1\u011a\25\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\1\u011b\25\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\12\24\1\u011c\13\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\5\24\1\u011d\20\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\5\24\1\u011e\20\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\2\24\1\u0118\23\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\5\24"
-			+ "\1\u011f\1\0\1\21\1\202\2\24\2\0\4\24\20\0" + "\1\24\1\21\26\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0" + "\4\24\20\0\1\24\1\21\1\u0120\25\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\3\24"
-			+ "\1\u0121\14\24\1\u0122\5\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\3\24\1\265\22\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\12\24\1\u0123\13\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\20\24\1\u0124\5\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\2\24\1\u0125\1\24"
-			+ "\20\0\1\24\1\21\26\24\5\0\4\24\3\0\1\24" + "\1\u0126\1\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\2\24" + "\1\u0127\1\u0128\22\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0" + "\4\24\20\0\1\24\1\21\3\24\1\u0129\22\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\u012a\1\21"
-			+ "\7\24\1\u012b\16\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\3\24\1\u012c\22\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21" + "\15\24\1\265\10\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0" + "\4\24\20\0\1\24\1\21\3\24\1\u012d\22\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\10\24\1\u012e\15\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\1\24\1\u012f\5\24\1\u0130" + "\12\24\1\u0131\3\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\5\24\1\u0132\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\26\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\1\24"
-			+ "\1\u0133\24\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\4\24\1\u0134\1\u0135\20\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21" + "\10\24\1\u0136\3\24\1\u0137\11\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202" + "\2\24\2\0\4\24\20\0\1\24\1\21\12\24\1\u0138"
-			+ "\13\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\7\24\1\u0139\16\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\14\24\1\u013a" + "\11\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0" + "\1\24\1\21\12\24\1\u013b\13\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202" + "\2\24\2\0\4\24\20\0\1\24\1\21\4\24\1\265"
-			+ "\21\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\7\24\1\u013c\1\u013d\15\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\26\24" + "\5\0\4\24\3\0\1\24\1\265\1\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24" + "\20\0\1\24\1\21\22\24\1\u013e\3\24\5\0\4\24"
-			+ "\3\0\3\24\5\0\4\u013f\12\0\2\u013f\22\0\2\u013f" + "\3\0\2\u013f\10\0\1\u013f\2\0\1\u013f\10\0\3\u013f"
-			+ "\14\0\4\u0140\12\0\2\u0140\22\0\2\u0140\3\0\2\u0140"
-			+ "\10\0\1\u0140\2\0\1\u0140\10\0\3\u0140\61\0\1\u0141"
-			+ "\125\0\1\u0142\116\0\1\u0143\102\0\1\u0144\36\0\34\322" + "\1\324\57\322\3\0\1\322\2\0\1\322\1\0\1\322"
-			+ "\7\0\4\322\10\0\1\324\7\0\1\322\1\0\26\322" + "\5\0\4\322\3\0\3\322\55\0\1\u0145\1\0\1\u0146"
-			+ "\3\0\1\u0147\41\0\1\u0148\36\0\1\u0149\3\0\1\u014a"
-			+ "\1\0\1\u014b\120\0\1\u014c\41\0\1\u014d\40\0\1\u014e"
-			+ "\2\0\1\u014f\1\0\1\u0150\116\0\1\u0151\1\u0152\4\0"
-			+ "\1\u0153\100\0\1\u0154\105\0\1\u0155\6\0\1\u0156\4\0"
-			+ "\1\u0157\111\0\1\u0158\10\0\1\u0159\1\u015a\75\0\1\u015b"
-			+ "\1\0\1\u015c\114\0\1\u015d\1\u015e\110\0\1\u015f\104\0"
-			+ "\1\u0160\123\0\1\u0161\111\0\1\u0162\47\0\1\u0163\35\0"
-			+ "\1\u0164\3\0\1\u0165\117\0\1\u0166\103\0\1\u0167\5\0"
-			+ "\1\u0168\110\0\1\u0169\125\0\1\u016a\116\0\1\u016b\102\0"
-			+ "\1\u016c\107\0\1\u016d\3\0\1\u016e\107\0\1\u016f\125\0"
-			+ "\1\u0170\116\0\1\u0171\102\0\1\u0172\41\0\6\357\3\0" + "\1\357\3\0\6\357\13\0\1\357\2\0\1\357\1\0"
-			+ "\26\357\5\0\4\357\3\0\3\357\4\0\1\u0173\2\0" + "\1\u0173\1\0\1\u0173\3\0\1\u0173\3\0\4\u0173\15\0"
-			+ "\1\u0173\2\0\1\u0173\1\0\26\u0173\5\0\4\u0173\3\0"
-			+ "\3\u0173\25\0\1\u0174\53\0\1\u0175\47\0\1\u0176\130\0"
-			+ "\1\u0177\125\0\1\u0178\116\0\1\u0179\102\0\1\u017a\62\0"
-			+ "\1\u017b\123\0\1\u017c\57\0\1\21\2\0\1\21\4\u017d" + "\1\21\1\0\4\21\2\0\2\21\2\u017d\20\0\2\21"
-			+ "\2\u017d\3\21\2\u017d\10\21\1\u017d\2\21\1\u017d\3\21" + "\5\0\3\u017d\1\21\3\0\3\21\1\0\1\203\2\0"
-			+ "\1\203\2\377\1\203\1\377\1\203\1\0\4\203\2\0" + "\2\203\1\205\1\203\20\0\21\203\1\205\2\203\1\205"
-			+ "\3\203\5\0\1\203\1\205\2\203\3\0\3\203\5\0" + "\2\377\1\0\1\377\104\0\1\203\2\0\1\203\4\u0102"
-			+ "\1\203\1\0\4\203\2\0\1\203\1\u0101\2\u0102\20\0"
-			+ "\2\203\2\u0102\3\203\2\u0102\1\u0101\7\203\1\u0102\2\203"
-			+ "\1\u0102\3\203\5\0\3\u0102\1\203\3\0\3\203\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\2\24\1\253\23\24\5\0" + "\4\24\3\0\3\24\45\0\1\u0104\11\0\2\u0104\52\0"
-			+ "\1\u017e\75\0\1\21\2\0\5\24\1\u012e\1\0\1\21" + "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\26\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\3\24\1\u017f\22\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\1\u0180\25\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21" + "\7\24\1\u0181\16\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0" + "\4\24\20\0\1\24\1\21\6\24\1\u0108\17\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\6\24\1\305\17\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\3\24\1\u0182\22\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21" + "\10\24\1\261\15\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0" + "\4\24\20\0\1\24\1\21\4\24\1\u0183\21\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\3\24\1\u0119\22\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\5\24\1\u0184\20\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21" + "\6\24\1\u0185\17\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0" + "\4\24\20\0\1\24\1\21\12\24\1\u0186\13\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\14\24\1\u0187\11\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\2\24\1\265\23\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21" + "\6\24\1\u0188\17\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\5\24\1\u0189\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\26\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\6\24"
-			+ "\1\265\17\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\5\24\1\u012d\20\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\2\24" + "\1\u0115\23\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24" + "\20\0\1\24\1\21\4\24\1\u0108\21\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\2\24"
-			+ "\1\260\1\u018a\22\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\13\24\1\u018b\12\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21" + "\1\u018c\25\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24" + "\20\0\1\265\1\21\26\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\7\24\1\u018d\16\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\6\24\1\u018e\17\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\14\24\1\u018f\11\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\11\24\1\u0108\14\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\7\24\1\u0190\4\24"
-			+ "\1\u018f\11\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\10\24\1\u0191\15\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\1\u0192" + "\25\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0" + "\1\24\1\21\3\24\1\u0193\22\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202" + "\2\24\2\0\4\24\20\0\1\24\1\21\6\24\1\u0194"
-			+ "\17\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\14\24\1\265\11\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\1\24\1\u0195" + "\24\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0" + "\1\24\1\21\7\24\1\265\16\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202" + "\2\24\2\0\4\24\20\0\1\24\1\21\10\24\1\u0196"
-			+ "\15\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\13\24\1\265\12\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\7\24\1\u0118" + "\16\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\5\24\1\u0197\1\0\1\21\1\202\2\24\2\0\4\24" + "\20\0\1\24\1\21\26\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\6\24\1\u0198\17\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\1\u0199\25\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\1\24\1\u019a\24\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21" + "\7\24\1\u0182\16\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0" + "\4\24\20\0\1\24\1\21\2\24\1\u019b\23\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\16\24\1\u019c\7\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\23\24\1\u019d\2\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21" + "\3\24\1\u019e\22\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0" + "\4\24\20\0\1\24\1\21\5\24\1\u019f\20\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\2\24\1\u0112\23\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\1\u0183\25\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\1\u01a0" + "\25\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0" + "\1\24\1\21\1\u01a1\25\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\17\24\1\265\6\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\10\24\1\u01a2\15\24\5\0\4\24\3\0\3\24" + "\5\0\4\u01a3\12\0\2\u01a3\22\0\2\u01a3\3\0\2\u01a3"
-			+ "\10\0\1\u01a3\2\0\1\u01a3\10\0\3\u01a3\14\0\4\u01a4"
-			+ "\12\0\2\u01a4\22\0\2\u01a4\3\0\2\u01a4\10\0\1\u01a4"
-			+ "\2\0\1\u01a4\10\0\3\u01a4\76\0\1\u01a5\52\0\1\u01a6"
-			+ "\127\0\1\u01a7\126\0\1\u0143\103\0\1\u01a8\4\0\1\u01a9"
-			+ "\134\0\1\u01aa\106\0\1\u01ab\77\0\1\u01ac\5\0\1\u01ad"
-			+ "\104\0\1\u01ae\116\0\1\u01af\116\0\1\u01b0\107\0\1\u01b1"
-			+ "\105\0\1\u01b2\115\0\1\u01b3\121\0\1\u01b4\117\0\1\u01b5"
-			+ "\105\0\1\u01b6\3\0\1\u01b7\122\0\1\u01b8\114\0\1\u01b9"
-			+ "\73\0\1\u01ba\2\0\1\u01bb\21\0\1\u01bc\75\0\1\u01bd"
-			+ "\104\0\1\u01be\125\0\1\u01bf\5\0\1\u01c0\35\0\1\u01c1"
-			+ "\157\0\1\u01c2\105\0\1\u01c3\2\0\1\u01c4\14\0\1\u01c5"
-			+ "\105\0\1\u01c6\106\0\1\u01c7\4\0\1\u01c8\113\0\1\u01c9"
-			+ "\103\0\1\u01ca\7\0\1\u01cb\115\0\1\u01cc\75\0\1\u01cd"
-			+ "\127\0\1\u01ce\103\0\1\u01cf\15\0\1\u01d0\1\0\1\u01d1"
-			+ "\72\0\1\u01d2\116\0\1\u01d3\117\0\1\u01d4\3\0\1\u01d5"
-			+ "\103\0\1\u01d6\2\0\1\u014f\110\0\1\u01d7\113\0\1\u01d8"
-			+ "\127\0\1\u01d9\52\0\1\u01da\127\0\1\u01db\126\0\1\u016b"
-			+ "\47\0\1\u01dc\161\0\1\u01dd\123\0\1\u01de\52\0\1\u01df"
-			+ "\127\0\1\u01e0\126\0\1\u0171\42\0\6\u0173\3\0\1\u0173"
-			+ "\3\0\6\u0173\13\0\1\u0173\2\0\1\u0173\1\0\26\u0173"
-			+ "\5\0\4\u0173\3\0\3\u0173\25\0\1\u01e1\170\0\1\u01e2"
-			+ "\100\0\1\u01e3\52\0\1\u01e4\127\0\1\u01e5\126\0\1\u0179"
-			+ "\63\0\1\u01e6\67\0\1\21\2\0\1\21\4\u01e7\1\21" + "\1\0\4\21\2\0\2\21\2\u01e7\20\0\2\21\2\u01e7"
-			+ "\3\21\2\u01e7\10\21\1\u01e7\2\21\1\u01e7\3\21\5\0" + "\3\u01e7\1\21\3\0\3\21\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\4\24\1\u01e8\21\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\16\24\1\265\7\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\6\24\1\u01e9\17\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\10\24\1\u01ea\15\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\3\24\1\u0108\22\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\13\24\1\u01eb\12\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\2\24\1\u01ec\23\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\15\24\1\u01ed\10\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\14\24\1\u01ee\11\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\4\24\1\u01ef\21\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\10\24\1\u01f0\15\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\20\24\1\u01f1\5\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\12\24\1\u01f2\13\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\4\24\1\260\21\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\6\24\1\u01f3\17\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\12\24\1\u01f4\13\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\26\24\5\0\4\24\3\0\1\24\1\u018d\1\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\1\u01f5\25\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\4\24\1\u01f6\21\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\6\24\1\u011b\17\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21" + "\23\24\1\u0118\2\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0" + "\4\24\20\0\1\24\1\21\11\24\1\u01f7\14\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\3\24\1\u0118\22\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\5\24\1\u01f8\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\26\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\7\24" + "\1\u010b\16\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24" + "\20\0\1\24\1\21\6\24\1\u01f9\17\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\1\u01fa"
-			+ "\25\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\1\u0198\25\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\6\24\1\u01fb\17\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\3\24\1\u01fc\22\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\7\24\1\u01fd\16\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\3\24\1\273\22\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\12\24\1\u01fe\13\24" + "\5\0\4\24\3\0\3\24\42\0\1\u01a7\6\0\1\u0143"
-			+ "\46\0\6\u01a6\1\0\1\u01ff\1\0\1\u01ff\2\u01a6\1\u01ff"
-			+ "\4\u01a6\2\u01ff\1\0\2\u01ff\1\0\1\u01ff\2\0\6\u01ff"
-			+ "\1\0\1\u01a6\1\u01ff\26\u01a6\2\0\1\u01ff\1\0\1\u01ff"
-			+ "\4\u01a6\3\u01ff\3\u01a6\17\0\1\u0200\144\0\1\u0201\125\0"
-			+ "\1\u0202\106\0\1\u01b7\1\0\1\u0203\45\0\1\u0204\164\0"
-			+ "\1\u0205\76\0\1\u0206\120\0\1\u0207\116\0\1\u0208\105\0"
-			+ "\1\u01b7\117\0\1\u01b6\105\0\1\u0209\120\0\1\u020a\115\0"
-			+ "\1\u014f\122\0\1\u020b\101\0\1\u01b4\125\0\1\u01b4\105\0"
-			+ "\1\u020c\124\0\1\u020d\36\0\1\u020e\113\0\1\u020f\160\0"
-			+ "\1\u0210\106\0\1\u0211\113\0\1\u0212\132\0\1\u0213\70\0"
-			+ "\1\u01b4\127\0\1\u0214\77\0\1\u0215\123\0\1\u0216\121\0"
-			+ "\1\u0217\116\0\1\u01b7\102\0\1\u0218\123\0\1\u01b4\111\0"
-			+ "\1\u0219\102\0\1\u021a\116\0\1\u021b\106\0\1\u021c\120\0"
-			+ "\1\u021d\124\0\1\u01b4\101\0\1\u01b4\112\0\1\u021e\107\0"
-			+ "\1\u021f\122\0\1\u020a\104\0\1\u01c1\136\0\1\u0220\73\0"
-			+ "\1\u0221\14\0\1\u0222\101\0\1\u01b7\115\0\1\u0223\105\0"
-			+ "\1\u0224\104\0\1\u01db\6\0\1\u016b\46\0\6\u01da\1\0"
-			+ "\1\u0225\1\0\1\u0225\2\u01da\1\u0225\4\u01da\2\u0225\1\0"
-			+ "\2\u0225\1\0\1\u0225\2\0\6\u0225\1\0\1\u01da\1\u0225"
-			+ "\26\u01da\2\0\1\u0225\1\0\1\u0225\4\u01da\3\u0225\3\u01da"
-			+ "\17\0\1\u0226\146\0\1\u0227\122\0\1\u0228\74\0\1\u01e0"
-			+ "\6\0\1\u0171\46\0\6\u01df\1\0\1\u0229\1\0\1\u0229"
-			+ "\2\u01df\1\u0229\4\u01df\2\u0229\1\0\2\u0229\1\0\1\u0229"
-			+ "\2\0\6\u0229\1\0\1\u01df\1\u0229\26\u01df\2\0\1\u0229"
-			+ "\1\0\1\u0229\4\u01df\3\u0229\3\u01df\17\0\1\u022a\177\0"
-			+ "\1\u022b\52\0\1\u01e5\6\0\1\u0179\46\0\6\u01e4\1\0"
-			+ "\1\u022c\1\0\1\u022c\2\u01e4\1\u022c\4\u01e4\2\u022c\1\0"
-			+ "\2\u022c\1\0\1\u022c\2\0\6\u022c\1\0\1\u01e4\1\u022c"
-			+ "\26\u01e4\2\0\1\u022c\1\0\1\u022c\4\u01e4\3\u022c\3\u01e4"
-			+ "\17\0\1\u022d\75\0\1\21\2\0\1\21\4\u022e\1\21" + "\1\0\4\21\2\0\2\21\2\u022e\20\0\2\21\2\u022e"
-			+ "\3\21\2\u022e\10\21\1\u022e\2\21\1\u022e\3\21\5\0" + "\3\u022e\1\21\3\0\3\21\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\1\u022f\25\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0" + "\4\24\20\0\1\24\1\21\1\u0230\25\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\5\24"
-			+ "\1\265\20\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\4\24\1\u0231\21\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\10\24" + "\1\u0232\15\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24" + "\20\0\1\24\1\21\22\24\1\265\3\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\12\24"
-			+ "\1\u0233\13\24\5\0\4\24\3\0\3\24\1\0\1\21" + "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24"
-			+ "\20\0\1\24\1\21\12\24\1\u0234\13\24\5\0\4\24" + "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\6\24" + "\1\u018d\17\24\5\0\4\24\3\0\3\24\1\0\1\21"
-			+ "\2\0\6\24\1\0\1\21\1\202\2\24\2\0\4\24" + "\20\0\1\24\1\21\17\24\1\u0115\6\24\5\0\4\24"
-			+ "\3\0\3\24\1\0\1\21\2\0\6\24\1\0\1\21" + "\1\202\2\24\2\0\4\24\20\0\1\u0235\1\21\26\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\10\24\1\u0236\15\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\12\24\1\u0237\13\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\22\24\1\u0238\3\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\11\24\1\u010c\14\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\7\24\1\260\16\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\2\24\1\u0239\1\24\20\0\1\24\1\21\26\24" + "\5\0\4\24\3\0\2\24\1\u023a\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0" + "\1\24\1\21\11\24\1\u0118\14\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202" + "\2\24\2\0\4\24\20\0\1\24\1\21\5\24\1\u023b"
-			+ "\20\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\10\24\1\u023c\15\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\7\24\1\u023d" + "\16\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0" + "\1\24\1\21\10\24\1\u023e\15\24\5\0\4\24\3\0"
-			+ "\3\24\17\0\1\u01a6\151\0\1\u023f\121\0\1\u01ce\111\0"
-			+ "\1\u01b4\110\0\1\u014f\120\0\1\u021b\105\0\1\u0240\111\0"
-			+ "\1\u0241\111\0\1\u01b7\111\0\1\u0242\123\0\1\u01cf\120\0"
-			+ "\1\u01b7\115\0\1\u0243\110\0\1\u0244\103\0\1\u0245\117\0"
-			+ "\1\u0246\104\0\1\u0247\114\0\1\u0248\114\0\1\u0249\114\0"
-			+ "\1\u024a\112\0\1\u01b4\130\0\1\u0204\77\0\1\u024b\113\0"
-			+ "\1\u024c\121\0\1\u024d\105\0\1\u014f\107\0\1\u0150\117\0"
-			+ "\1\u01b4\107\0\1\u024e\115\0\1\u024f\117\0\1\u0250\47\0"
-			+ "\1\u0251\151\0\1\u0252\121\0\1\u0253\113\0\1\u0254\105\0"
-			+ "\1\u0255\123\0\1\u0256\53\0\1\u01da\157\0\1\u0257\115\0"
-			+ "\1\u0258\45\0\1\u01df\200\0\1\u0259\26\0\1\u01e4\75\0" + "\1\21\2\0\1\21\4\24\1\21\1\0\4\21\2\0"
-			+ "\2\21\2\24\20\0\2\21\2\24\3\21\2\24\10\21" + "\1\24\2\21\1\24\3\21\5\0\3\24\1\21\3\0"
-			+ "\3\21\1\0\1\21\2\0\6\24\1\0\1\21\1\202" + "\2\24\2\0\4\24\20\0\1\24\1\21\5\24\1\260"
-			+ "\20\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\12\24\1\u0108\13\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\14\24\1\u025a" + "\11\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0" + "\1\24\1\21\6\24\1\u025b\17\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\5\24\1\u0118\1\0\1\21" + "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\26\24"
-			+ "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24" + "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24"
-			+ "\1\21\6\24\1\u025c\17\24\5\0\4\24\3\0\3\24" + "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24"
-			+ "\2\0\4\24\20\0\1\24\1\21\3\24\1\u01f1\22\24" + "\5\0\4\24\3\0\3\24\1\0\1\21\2\0\6\24"
-			+ "\1\0\1\21\1\202\2\24\2\0\4\24\20\0\1\24" + "\1\21\5\24\1\u0116\20\24\5\0\4\24\3\0\3\24"
-			+ "\1\0\1\21\2\0\6\24\1\0\1\21\1\202\2\24" + "\2\0\4\24\20\0\1\24\1\21\1\u025d\25\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\7\24\1\u025e\16\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\12\24\1\u025f\13\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21" + "\3\24\1\u0260\22\24\5\0\4\24\3\0\3\24\1\0"
-			+ "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0" + "\4\24\20\0\1\24\1\21\14\24\1\u0261\11\24\5\0"
-			+ "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\21\24\1\265\4\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\3\24\1\u023d\22\24\5\0" + "\4\24\3\0\3\24\53\0\1\u0262\121\0\1\u024c\101\0"
-			+ "\1\u0263\117\0\1\u0264\115\0\1\u0265\117\0\1\u0266\113\0"
-			+ "\1\u0267\105\0\1\u01d6\107\0\1\u0268\132\0\1\u0269\74\0"
-			+ "\1\u01c2\3\0\1\u026a\117\0\1\u026b\115\0\1\u021c\104\0"
-			+ "\1\u01b7\112\0\1\u014f\120\0\1\u01b4\124\0\1\u026c\100\0"
-			+ "\1\u026d\115\0\1\u0214\107\0\1\u014f\115\0\1\u026e\112\0"
-			+ "\1\u026f\112\0\1\u0224\124\0\1\u0203\103\0\1\u0270\41\0"
-			+ "\26\u0258\1\u01b4\65\u0258\104\0\1\u0271\7\0\1\21\2\0" + "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\12\24\1\u0272\13\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\12\24\1\260" + "\13\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0" + "\1\24\1\21\12\24\1\u0273\13\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202" + "\2\24\2\0\4\24\20\0\1\24\1\21\5\24\1\u0118"
-			+ "\20\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0" + "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0"
-			+ "\1\24\1\21\14\24\1\u0274\11\24\5\0\4\24\3\0" + "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202"
-			+ "\2\24\2\0\4\24\20\0\1\24\1\21\3\24\1\u018d" + "\22\24\5\0\4\24\3\0\3\24\1\0\1\21\2\0"
-			+ "\6\24\1\0\1\21\1\202\2\24\2\0\4\24\20\0" + "\1\24\1\21\6\24\1\u013d\17\24\5\0\4\24\3\0"
-			+ "\3\24\1\0\1\21\2\0\6\24\1\0\1\21\1\202" + "\2\24\2\0\4\24\20\0\1\24\1\21\12\24\1\265"
-			+ "\13\24\5\0\4\24\3\0\3\24\63\0\1\u0265\104\0" + "\1\u0214\127\0\1\u01b4\114\0\1\u01b4\100\0\1\u0264\111\0"
-			+ "\1\u01c8\114\0\1\u0275\47\0\1\u0276\162\0\1\u0277\102\0"
-			+ "\1\u01b5\113\0\1\u026e\116\0\1\u0278\113\0\1\u0264\120\0"
-			+ "\1\u0279\140\0\1\u027a\10\0\1\21\2\0\6\24\1\0" + "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21"
-			+ "\10\24\1\u027b\15\24\5\0\4\24\3\0\3\24\1\0" + "\1\21\2\0\6\24\1\0\1\21\1\202\2\24\2\0"
-			+ "\4\24\20\0\1\24\1\21\3\24\1\u0115\22\24\5\0" + "\4\24\3\0\3\24\1\0\1\21\2\0\6\24\1\0"
-			+ "\1\21\1\202\2\24\2\0\4\24\20\0\1\24\1\21" + "\1\u025f\25\24\5\0\4\24\3\0\3\24\51\0\1\u01cf"
-			+ "\116\0\1\u027c\121\0\1\u0214\106\0\1\u01ce\105\0\1\u027d" + "\145\0\1\u027e\13\0\1\21\2\0\6\24\1\0\1\21"
-			+ "\1\202\2\24\2\0\4\24\20\0\1\24\1\21\26\24" + "\5\0\4\24\3\0\1\u0260\2\24\52\0\1\u027f\117\0"
-			+ "\1\u0258\106\0\1\u01b4\11\0\1\u021b\31\0";
+	private static final int[] ZZ_TRANS = TypeScriptTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
@@ -764,109 +225,6 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 		TypeScriptTokenMaker.e4xSupported = supported;
 	}
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[639];
-		int offset = 0;
-		offset = TypeScriptTokenMaker.zzUnpackAction(TypeScriptTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[639];
-		int offset = 0;
-		offset = TypeScriptTokenMaker.zzUnpackAttribute(TypeScriptTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 172) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[639];
-		int offset = 0;
-		offset = TypeScriptTokenMaker.zzUnpackRowMap(TypeScriptTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[43244];
-		int offset = 0;
-		offset = TypeScriptTokenMaker.zzUnpackTrans(TypeScriptTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/**
 	 * Whether we're in an internal DTD. Only valid if in an e4x DTD.
 	 */
@@ -1307,7 +665,7 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_DTD);
 				this.addEndToken(this.e4x_inInternalDtd ? TypeScriptTokenMaker.INTERNAL_E4X_DTD_INTERNAL
 						: TypeScriptTokenMaker.INTERNAL_E4X_DTD);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 86:
 				break;
@@ -1326,7 +684,7 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 					this.addToken(this.start, this.zzStartRead, TokenTypes.ERROR_CHAR);
 					this.addEndToken(TypeScriptTokenMaker.INTERNAL_IN_JS_CHAR_INVALID);
 				}
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 88:
 				break;
@@ -1338,7 +696,7 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 			case 18: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
 				this.addEndToken(TypeScriptTokenMaker.INTERNAL_IN_JS_MLC);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 90:
 				break;
@@ -1404,7 +762,7 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 					this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
 					this.addEndToken(TypeScriptTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
 				}
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 96:
 				break;
@@ -1426,7 +784,7 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 			case 12: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 100:
 				break;
@@ -1491,7 +849,7 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 			case 20: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 110:
 				break;
@@ -1551,14 +909,14 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 			case 19: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_DOCUMENTATION);
 				this.addEndToken(TypeScriptTokenMaker.INTERNAL_IN_JS_COMMENT_DOCUMENTATION);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 119:
 				break;
 			case 26: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_PROCESSING_INSTRUCTION);
 				this.addEndToken(TypeScriptTokenMaker.INTERNAL_E4X_MARKUP_PROCESSING_INSTRUCTION);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 120:
 				break;
@@ -1617,14 +975,14 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 					this.addToken(this.start, this.zzStartRead, TokenTypes.ERROR_STRING_DOUBLE);
 					this.addEndToken(TypeScriptTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
 				}
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 128:
 				break;
 			case 25: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_COMMENT);
 				this.addEndToken(TypeScriptTokenMaker.INTERNAL_IN_E4X_COMMENT - this.e4x_prevState);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 129:
 				break;
@@ -1702,7 +1060,7 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 4: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 142:
 				break;
@@ -1761,7 +1119,7 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 21: {
 				this.addEndToken(TypeScriptTokenMaker.INTERNAL_E4X);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 152:
 				break;
@@ -1773,7 +1131,7 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 					this.addToken(this.start, this.zzStartRead, TokenTypes.ERROR_STRING_DOUBLE);
 					this.addEndToken(TypeScriptTokenMaker.INTERNAL_IN_JS_STRING_INVALID);
 				}
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 153:
 				break;
@@ -1792,13 +1150,13 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 				break;
 			case 63: {
 				boolean highlightedAsRegex = false;
-				if (this.firstToken == null) {
+				if (this.tokenStream.isEmpty()) {
 					this.addToken(TokenTypes.REGEX);
 					highlightedAsRegex = true;
 				} else {
 					// If this is *likely* to be a regex, based on
 					// the previous token, highlight it as such.
-					final Token t = this.firstToken.getLastNonCommentNonWhitespaceToken();
+					final Token t = this.getLastNonCommentNonWhitespaceToken();
 					if (RSyntaxUtilities.regexCanFollowInJavaScript(t)) {
 						this.addToken(TokenTypes.REGEX);
 						highlightedAsRegex = true;
@@ -1835,7 +1193,7 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 			case 15: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_CHAR);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 160:
 				break;
@@ -1843,7 +1201,7 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 						// next line.
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.VARIABLE);
 				this.addEndToken(TypeScriptTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 161:
 				break;
@@ -1858,54 +1216,54 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 					case JS_STRING: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 640:
 						break;
 					case E4X: {
 						this.addEndToken(TypeScriptTokenMaker.INTERNAL_E4X);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 641:
 						break;
 					case E4X_INTAG: {
 						this.addToken(this.start, this.zzStartRead - 1, TypeScriptTokenMaker.INTERNAL_E4X_INTAG);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 642:
 						break;
 					case E4X_PI: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_PROCESSING_INSTRUCTION);
 						this.addEndToken(TypeScriptTokenMaker.INTERNAL_E4X_MARKUP_PROCESSING_INSTRUCTION);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 643:
 						break;
 					case JS_MLC: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_MULTILINE);
 						this.addEndToken(TypeScriptTokenMaker.INTERNAL_IN_JS_MLC);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 644:
 						break;
 					case JS_CHAR: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_CHAR);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 645:
 						break;
 					case JS_EOL_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.COMMENT_EOL);
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 646:
 						break;
 					case E4X_COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_COMMENT);
 						this.addEndToken(TypeScriptTokenMaker.INTERNAL_IN_E4X_COMMENT - this.e4x_prevState);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 647:
 						break;
@@ -1913,7 +1271,7 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 						this.yybegin(TypeScriptTokenMaker.YYINITIAL);
 						this.addToken(this.start, this.zzEndRead, TokenTypes.COMMENT_DOCUMENTATION);
 						this.addEndToken(TypeScriptTokenMaker.INTERNAL_IN_JS_COMMENT_DOCUMENTATION);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 648:
 						break;
@@ -1921,7 +1279,7 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_DTD);
 						this.addEndToken(this.e4x_inInternalDtd ? TypeScriptTokenMaker.INTERNAL_E4X_DTD_INTERNAL
 								: TypeScriptTokenMaker.INTERNAL_E4X_DTD);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 649:
 						break;
@@ -1933,21 +1291,21 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 							this.addToken(this.start, this.zzStartRead - 1, TokenTypes.ERROR_STRING_DOUBLE);
 							this.addEndToken(TypeScriptTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
 						}
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 650:
 						break;
 					case E4X_INATTR_SINGLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(TypeScriptTokenMaker.INTERNAL_E4X_ATTR_SINGLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 651:
 						break;
 					case E4X_INATTR_DOUBLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(TypeScriptTokenMaker.INTERNAL_E4X_ATTR_DOUBLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 652:
 						break;
@@ -1956,20 +1314,20 @@ public class TypeScriptTokenMaker extends AbstractJFlexCTokenMaker {
 						// next line.
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.VARIABLE);
 						this.addEndToken(TypeScriptTokenMaker.INTERNAL_IN_JS_TEMPLATE_LITERAL_INVALID);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 653:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 654:
 						break;
 					case E4X_CDATA: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_CDATA);
 						this.addEndToken(TypeScriptTokenMaker.INTERNAL_E4X_MARKUP_CDATA);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 655:
 						break;
@@ -862,7 +862,7 @@ public class UnixShellTokenMaker extends AbstractTokenMaker {
 		}
 
 		// Return the first token in our linked list.
-		return this.firstToken;
+		return this.getFirstToken();
 
 	}
 
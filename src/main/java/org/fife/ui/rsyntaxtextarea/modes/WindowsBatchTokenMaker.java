@@ -173,7 +173,7 @@ public class WindowsBatchTokenMaker extends AbstractTokenMaker {
 				case ':':
 					// If this will be the first token added, it is
 					// a new-style comment or a label
-					if (this.firstToken == null) {
+					if (this.tokenStream.isEmpty()) {
 						if (i < end - 1 && array[i + 1] == ':')
 							this.currentTokenType = TokenTypes.COMMENT_EOL;
 						else
@@ -253,7 +253,7 @@ public class WindowsBatchTokenMaker extends AbstractTokenMaker {
 					this.currentTokenStart = i;
 					// If the previous (whitespace) token was the first token
 					// added, this is a new-style comment or a label
-					if (this.firstToken.getNextToken() == null) {
+					if (this.tokenStream.getCount() == 1) {
 						if (i < end - 1 && array[i + 1] == ':')
 							this.currentTokenType = TokenTypes.COMMENT_EOL;
 						else
@@ -500,7 +500,7 @@ public class WindowsBatchTokenMaker extends AbstractTokenMaker {
 		this.addNullToken();
 
 		// Return the first token in our linked list.
-		return this.firstToken;
+		return this.getFirstToken();
 
 	}
 
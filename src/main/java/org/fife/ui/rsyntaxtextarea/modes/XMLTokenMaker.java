@@ -118,36 +118,24 @@ public class XMLTokenMaker extends AbstractMarkupTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = XMLTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\5\0\2\1\1\0\2\2\1\3\1\4\1\5\1\6"
-			+ "\2\1\1\7\4\1\1\10\2\1\1\11\1\1\1\12" + "\1\13\1\14\2\15\1\16\1\17\1\20\1\21\1\22"
-			+ "\1\1\1\23\3\1\1\24\1\25\1\4\1\26\1\6" + "\5\0\1\27\4\0\1\30\1\31\5\0\1\32\1\33"
-			+ "\3\0\1\34\1\35\6\0\1\36";
+	private static final ScannerTables TABLES = ScannerTables.load(XMLTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = XMLTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\5\0\2\1\1\0\2\1\1\11\5\1\1\11\4\1"
-			+ "\1\11\2\1\1\11\1\1\3\11\2\1\2\11\1\1" + "\2\11\1\1\1\11\6\1\2\11\5\0\1\11\4\0"
-			+ "\1\1\1\11\5\0\2\11\3\0\1\1\1\11\6\0" + "\1\11";
+	private static final int[] ZZ_ACTION = XMLTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = XMLTokenMaker.zzUnpackCMap(XMLTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = XMLTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\6\1\4\1\0\1\3\23\0\1\6\1\12\1\11\1\22"
-			+ "\1\30\1\22\1\7\1\25\5\22\1\2\1\42\1\24\12\27\1\23" + "\1\10\1\5\1\44\1\21\1\43\1\22\1\16\1\26\1\14\1\15"
-			+ "\17\26\1\17\6\26\1\13\1\0\1\20\1\0\1\1\1\0\4\26" + "\1\40\1\35\1\26\1\31\1\36\2\26\1\37\3\26\1\33\2\26"
-			+ "\1\34\1\32\2\26\1\41\3\26\3\0\1\22\uff81\0";
+	private static final char[] ZZ_CMAP = XMLTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -158,41 +146,12 @@ public class XMLTokenMaker extends AbstractMarkupTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = XMLTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\45\0\112\0\157\0\224\0\271\0\336\0\u0103"
-			+ "\0\u0128\0\u014d\0\u0172\0\u0197\0\u01bc\0\u01e1\0\u0206\0\u022b"
-			+ "\0\u0172\0\u0250\0\u0275\0\u029a\0\u02bf\0\u0172\0\u02e4\0\u0309"
-			+ "\0\u0172\0\u032e\0\u0172\0\u0172\0\u0172\0\u0353\0\u0378\0\u0172"
-			+ "\0\u0172\0\u039d\0\u0172\0\u0172\0\u03c2\0\u0172\0\u03e7\0\u040c"
-			+ "\0\u0431\0\u0456\0\u047b\0\u04a0\0\u0172\0\u0172\0\u04c5\0\u04ea"
-			+ "\0\u050f\0\u0534\0\u0559\0\u0172\0\u057e\0\u05a3\0\u05c8\0\u05ed"
-			+ "\0\u0612\0\u0172\0\u0637\0\u065c\0\u0681\0\u06a6\0\u06cb\0\u0172"
-			+ "\0\u0172\0\u06f0\0\u0715\0\u073a\0\u075f\0\u0172\0\u0784\0\u07a9"
-			+ "\0\u075f\0\u07ce\0\u07f3\0\u0818\0\u0172";
+	private static final int[] ZZ_ROWMAP = XMLTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = XMLTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\3\11\1\12\1\13\1\14\1\15\1\16\35\11\2\17"
-			+ "\1\20\1\17\1\21\24\17\1\22\3\17\1\23\3\17" + "\1\24\3\17\4\25\1\26\36\25\1\27\1\25\4\30"
-			+ "\1\31\1\32\5\30\1\33\4\30\1\34\1\35\23\30" + "\3\36\1\37\1\0\1\36\1\15\2\36\1\40\7\36"
-			+ "\1\41\2\36\1\42\1\43\16\36\1\44\11\45\1\46" + "\33\45\25\47\1\46\17\47\20\50\1\51\24\50\4\11"
-			+ "\4\0\40\11\1\12\2\0\1\15\1\0\35\11\46\0" + "\1\52\10\0\1\53\1\0\4\52\3\0\1\52\1\54"
-			+ "\1\0\1\52\2\0\11\52\1\0\1\55\4\0\1\15" + "\2\0\1\15\36\0\6\16\1\0\1\16\1\56\34\16"
-			+ "\2\17\1\0\1\17\1\0\24\17\1\0\3\17\1\0" + "\3\17\1\0\3\17\2\0\1\57\74\0\1\60\44\0"
-			+ "\1\61\3\0\1\62\47\0\1\63\3\0\4\25\1\0" + "\36\25\1\0\1\25\21\0\1\64\23\0\4\30\2\0"
-			+ "\5\30\1\0\4\30\2\0\23\30\12\0\1\65\32\0" + "\4\36\1\0\1\36\1\0\2\36\1\0\7\36\1\0"
-			+ "\2\36\2\0\16\36\1\0\3\36\1\37\1\0\1\36" + "\1\15\2\36\1\0\7\36\1\0\2\36\2\0\16\36"
-			+ "\22\0\1\41\23\0\11\45\1\0\33\45\25\47\1\0" + "\17\47\20\50\1\0\24\50\20\0\1\66\25\0\2\52"
-			+ "\11\0\4\52\3\0\1\52\2\0\2\52\1\0\12\52" + "\4\0\1\67\10\0\1\70\32\0\1\71\12\0\4\71"
-			+ "\3\0\1\71\2\0\1\71\2\0\11\71\24\0\1\72" + "\55\0\1\73\45\0\1\74\50\0\1\75\46\0\1\76"
-			+ "\5\0\1\77\63\0\1\100\25\0\1\101\56\0\1\102" + "\31\0\2\71\11\0\4\71\3\0\1\71\2\0\2\71"
-			+ "\1\0\12\71\35\0\1\103\34\0\1\104\61\0\1\74" + "\46\0\1\105\4\0\1\106\57\0\1\107\52\0\1\104"
-			+ "\10\0\1\74\34\0\1\110\21\0\2\111\4\0\2\111" + "\1\0\2\111\4\105\1\111\1\0\2\111\1\105\1\111"
-			+ "\14\105\3\111\16\0\1\112\52\0\1\105\37\0\1\113" + "\43\0\1\114\41\0\1\115\31\0";
+	private static final int[] ZZ_TRANS = XMLTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
@@ -224,111 +183,8 @@ public class XMLTokenMaker extends AbstractMarkupTokenMaker {
 		XMLTokenMaker.completeCloseTags = complete;
 	}
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[77];
-		int offset = 0;
-		offset = XMLTokenMaker.zzUnpackAction(XMLTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[77];
-		int offset = 0;
-		offset = XMLTokenMaker.zzUnpackAttribute(XMLTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 116) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[77];
-		int offset = 0;
-		offset = XMLTokenMaker.zzUnpackRowMap(XMLTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
 	/* user code: */
 
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[2109];
-		int offset = 0;
-		offset = XMLTokenMaker.zzUnpackTrans(XMLTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/**
 	 * Whether the DTD we're currently in is a locally-defined one. This field is
 	 * only valid when in a DOCTYPE element (the <DTD> state).
@@ -712,7 +568,7 @@ public class XMLTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 3: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 33:
 				break;
@@ -747,7 +603,7 @@ public class XMLTokenMaker extends AbstractMarkupTokenMaker {
 			case 9: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_DTD);
 				this.addEndToken(this.inInternalDtd ? XMLTokenMaker.INTERNAL_DTD_INTERNAL : XMLTokenMaker.INTERNAL_DTD);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 38:
 				break;
@@ -759,7 +615,7 @@ public class XMLTokenMaker extends AbstractMarkupTokenMaker {
 			case 7: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_COMMENT);
 				this.addEndToken(XMLTokenMaker.INTERNAL_IN_XML_COMMENT - this.prevState);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 40:
 				break;
@@ -835,7 +691,7 @@ public class XMLTokenMaker extends AbstractMarkupTokenMaker {
 				break;
 			case 8: {
 				this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_PROCESSING_INSTRUCTION);
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 52:
 				break;
@@ -892,7 +748,7 @@ public class XMLTokenMaker extends AbstractMarkupTokenMaker {
 					switch (this.zzLexicalState) {
 					case INTAG: {
 						this.addToken(this.start, this.zzStartRead - 1, XMLTokenMaker.INTERNAL_INTAG);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 78:
 						break;
@@ -900,46 +756,46 @@ public class XMLTokenMaker extends AbstractMarkupTokenMaker {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_DTD);
 						this.addEndToken(
 								this.inInternalDtd ? XMLTokenMaker.INTERNAL_DTD_INTERNAL : XMLTokenMaker.INTERNAL_DTD);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 79:
 						break;
 					case INATTR_DOUBLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(XMLTokenMaker.INTERNAL_ATTR_DOUBLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 80:
 						break;
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 81:
 						break;
 					case COMMENT: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_COMMENT);
 						this.addEndToken(XMLTokenMaker.INTERNAL_IN_XML_COMMENT - this.prevState);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 82:
 						break;
 					case CDATA: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_CDATA);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 83:
 						break;
 					case INATTR_SINGLE: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_TAG_ATTRIBUTE_VALUE);
 						this.addEndToken(XMLTokenMaker.INTERNAL_ATTR_SINGLE);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 84:
 						break;
 					case PI: {
 						this.addToken(this.start, this.zzStartRead - 1, TokenTypes.MARKUP_PROCESSING_INSTRUCTION);
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 85:
 						break;
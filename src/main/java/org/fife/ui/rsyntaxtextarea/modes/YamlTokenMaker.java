@@ -68,33 +68,24 @@ public class YamlTokenMaker extends AbstractJFlexTokenMaker {
 	public static final int YYINITIAL = 0;
 
 	/**
-	 * Translates DFA states to action switch labels.
+	 * The scanner's tables, shared by all instances.
 	 */
-	private static final int[] ZZ_ACTION = YamlTokenMaker.zzUnpackAction();
-
-	private static final String ZZ_ACTION_PACKED_0 = "\1\0\1\1\1\2\1\3\1\4\1\5\1\6\1\1"
-			+ "\1\7\1\10\1\11\1\0\1\2\2\4\1\12\1\0" + "\1\2\1\13\1\2\1\4\1\14\1\4\1\0\1\13"
-			+ "\1\2\1\4\1\0\1\2\1\4\1\0\1\2\1\4" + "\1\0";
+	private static final ScannerTables TABLES = ScannerTables.load(YamlTokenMaker.class);
 
 	/**
-	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+	 * Translates DFA states to action switch labels.
 	 */
-	private static final int[] ZZ_ATTRIBUTE = YamlTokenMaker.zzUnpackAttribute();
-
-	private static final String ZZ_ATTRIBUTE_PACKED_0 = "\1\0\2\1\1\11\1\1\3\11\2\1\1\11\1\0"
-			+ "\3\1\1\11\1\0\4\1\1\11\1\1\1\0\1\11" + "\2\1\1\0\2\1\1\0\2\1\1\0";
+	private static final int[] ZZ_ACTION = YamlTokenMaker.TABLES.action;
 
 	/**
-	 * Translates characters to character classes
+	 * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
 	 */
-	private static final char[] ZZ_CMAP = YamlTokenMaker.zzUnpackCMap(YamlTokenMaker.ZZ_CMAP_PACKED);
+	private static final int[] ZZ_ATTRIBUTE = YamlTokenMaker.TABLES.attribute;
 
 	/**
 	 * Translates characters to character classes
 	 */
-	private static final String ZZ_CMAP_PACKED = "\11\0\1\15\1\4\25\0\1\15\1\11\1\10\1\14\1\0\2\11"
-			+ "\1\3\2\12\1\11\1\0\1\13\1\11\1\13\1\0\1\2\3\2" + "\4\2\2\1\1\11\1\13\3\0\2\11\6\1\24\0\1\12\1\5"
-			+ "\1\12\2\0\1\11\1\1\1\2\3\1\1\2\7\0\1\7\3\0" + "\1\7\1\0\1\7\1\6\5\0\1\12\1\0\1\12\uff82\0";
+	private static final char[] ZZ_CMAP = YamlTokenMaker.TABLES.cmap;
 
 	/* error messages for the codes above */
 	private static final String ZZ_ERROR_MSG[] = { "Unkown internal scanner error", "Error: could not match input",
@@ -107,133 +98,16 @@ public class YamlTokenMaker extends AbstractJFlexTokenMaker {
 	/**
 	 * Translates a state to a row index in the transition table
 	 */
-	private static final int[] ZZ_ROWMAP = YamlTokenMaker.zzUnpackRowMap();
-
-	private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\16\0\34\0\52\0\70\0\52\0\52\0\52"
-			+ "\0\106\0\124\0\52\0\142\0\160\0\176\0\214\0\52" + "\0\232\0\250\0\142\0\266\0\304\0\52\0\322\0\340"
-			+ "\0\52\0\356\0\374\0\u010a\0\u0118\0\u0126\0\u0134\0\u0142" + "\0\u0150\0\u015e";
+	private static final int[] ZZ_ROWMAP = YamlTokenMaker.TABLES.rowMap;
 
 	/**
 	 * The transition table of the DFA
 	 */
-	private static final int[] ZZ_TRANS = YamlTokenMaker.zzUnpackTrans();
-
-	private static final String ZZ_TRANS_PACKED_0 = "\3\2\1\3\1\4\3\2\1\5\1\6\1\7\1\10"
-			+ "\1\11\1\12\3\2\2\0\3\2\6\0\3\3\1\13" + "\1\14\1\15\10\3\16\0\4\5\1\16\1\17\2\5"
-			+ "\1\20\5\5\4\11\1\0\11\11\15\0\1\12\3\14" + "\1\13\1\14\1\21\10\14\2\22\1\3\1\23\1\0"
-			+ "\1\3\1\24\2\3\5\22\5\16\1\25\2\16\1\26" + "\7\16\2\5\1\0\1\5\1\27\2\5\5\16\2\0"
-			+ "\2\14\1\0\1\14\1\30\2\14\5\0\3\22\1\31" + "\1\0\12\22\2\32\1\31\1\0\11\22\4\16\1\0"
-			+ "\12\16\2\33\2\16\1\25\2\16\1\26\5\16\1\0" + "\2\34\13\0\1\22\2\35\1\31\1\0\11\22\1\16"
-			+ "\2\36\2\16\1\25\2\16\1\26\5\16\1\0\2\37" + "\13\0\1\22\2\40\1\31\1\0\11\22\1\16\2\41"
-			+ "\2\16\1\25\2\16\1\26\5\16\1\0\2\42\13\0" + "\1\22\2\3\1\31\1\0\11\22\1\16\2\5\2\16"
-			+ "\1\25\2\16\1\26\5\16\1\0\2\14\13\0";
+	private static final int[] ZZ_TRANS = YamlTokenMaker.TABLES.trans;
 
 	/* error codes */
 	private static final int ZZ_UNKNOWN_ERROR = 0;
 
-	private static int[] zzUnpackAction() {
-		final int[] result = new int[34];
-		int offset = 0;
-		offset = YamlTokenMaker.zzUnpackAction(YamlTokenMaker.ZZ_ACTION_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAction(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackAttribute() {
-		final int[] result = new int[34];
-		int offset = 0;
-		offset = YamlTokenMaker.zzUnpackAttribute(YamlTokenMaker.ZZ_ATTRIBUTE_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackAttribute(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			final int value = packed.charAt(i++);
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
-	/**
-	 * Unpacks the compressed character translation table.
-	 *
-	 * @param packed
-	 *            the packed character translation table
-	 * @return the unpacked character translation table
-	 */
-	private static char[] zzUnpackCMap(final String packed) {
-		final char[] map = new char[0x10000];
-		int i = 0; /* index in packed string */
-		int j = 0; /* index in unpacked array */
-		while (i < 98) {
-			int count = packed.charAt(i++);
-			final char value = packed.charAt(i++);
-			do
-				map[j++] = value;
-			while (--count > 0);
-		}
-		return map;
-	}
-
-	private static int[] zzUnpackRowMap() {
-		final int[] result = new int[34];
-		int offset = 0;
-		offset = YamlTokenMaker.zzUnpackRowMap(YamlTokenMaker.ZZ_ROWMAP_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackRowMap(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			final int high = packed.charAt(i++) << 16;
-			result[j++] = high | packed.charAt(i++);
-		}
-		return j;
-	}
-
-	private static int[] zzUnpackTrans() {
-		final int[] result = new int[364];
-		int offset = 0;
-		offset = YamlTokenMaker.zzUnpackTrans(YamlTokenMaker.ZZ_TRANS_PACKED_0, offset, result);
-		return result;
-	}
-
-	private static int zzUnpackTrans(final String packed, final int offset, final int[] result) {
-		int i = 0; /* index in packed string */
-		int j = offset; /* index in unpacked array */
-		final int l = packed.length();
-		while (i < l) {
-			int count = packed.charAt(i++);
-			int value = packed.charAt(i++);
-			value--;
-			do
-				result[j++] = value;
-			while (--count > 0);
-		}
-		return j;
-	}
-
 	/** zzAtEOF == true <=> the scanner is at the EOF */
 	private boolean zzAtEOF;
 
@@ -512,7 +386,7 @@ public class YamlTokenMaker extends AbstractJFlexTokenMaker {
 			case 2: {
 				this.addToken(TokenTypes.ERROR_CHAR);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 15:
 				break;
@@ -544,13 +418,13 @@ public class YamlTokenMaker extends AbstractJFlexTokenMaker {
 			case 4: {
 				this.addToken(TokenTypes.ERROR_STRING_DOUBLE);
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 21:
 				break;
 			case 3: {
 				this.addNullToken();
-				return this.firstToken;
+				return this.getFirstToken();
 			}
 			case 22:
 				break;
@@ -570,7 +444,7 @@ public class YamlTokenMaker extends AbstractJFlexTokenMaker {
 					switch (this.zzLexicalState) {
 					case YYINITIAL: {
 						this.addNullToken();
-						return this.firstToken;
+						return this.getFirstToken();
 					}
 					case 35:
 						break;
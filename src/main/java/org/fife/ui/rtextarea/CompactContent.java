@@ -0,0 +1,673 @@
+/*
+ * 10/17/2026
+ *
+ * CompactContent.java - Gap buffer document content that stores Latin-1 text
+ * as bytes.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+import javax.swing.undo.AbstractUndoableEdit;
+import javax.swing.undo.CannotRedoException;
+import javax.swing.undo.CannotUndoException;
+import javax.swing.undo.UndoableEdit;
+
+/**
+ * A gap buffer that stores text as one byte per character while all of it is
+ * Latin-1 (<code>U+0000</code>-<code>U+00FF</code>), which halves the memory
+ * used by the typical source file. The first time a wider character is
+ * inserted, the buffer is transparently converted to a <code>char[]</code>, and
+ * from then on behaves like <code>javax.swing.text.GapContent</code>. It is
+ * never converted back.
+ * <p>
+ *
+ * While compact, text requested through {@link #getChars(int, int, Segment)}
+ * has to be decoded. Small requests (such as a line being painted or
+ * tokenized) are decoded into a window that is reused the next time the same
+ * <code>Segment</code> is passed in, so repeated requests don't allocate. As
+ * with any content, the returned array is only valid until the next request or
+ * modification.
+ * <p>
+ *
+ * The buffer is split into fixed-size pages. A {@link #snapshot()} shares the
+ * pages, and each is copied the first time it is modified afterwards, so
+ * taking snapshots of a large document doesn't make the next edit copy all of
+ * it.
+ *
+ * @version 1.0
+ * @see RDocument#RDocument(RContent)
+ */
+public class CompactContent implements RContent, Serializable {
+
+	/**
+	 * Undoable edit for an insertion.
+	 */
+	private final class InsertUndo extends AbstractUndoableEdit {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int length;
+		private final int offset;
+		private PositionTable.RemovedMarks positions;
+		private String string;
+
+		InsertUndo(final int offset, final int length) {
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public void redo() throws CannotRedoException {
+			super.redo();
+			try {
+				CompactContent.this.insertString(this.offset, this.string);
+				CompactContent.this.positions.restore(this.positions, this.offset, this.length);
+				this.string = null;
+				this.positions = null;
+			} catch (final BadLocationException ble) {
+				throw new CannotRedoException();
+			}
+		}
+
+		@Override
+		public void undo() throws CannotUndoException {
+			super.undo();
+			try {
+				this.string = CompactContent.this.getString(this.offset, this.length);
+				this.positions = CompactContent.this.removeImpl(this.offset, this.length);
+			} catch (final BadLocationException ble) {
+				throw new CannotUndoException();
+			}
+		}
+
+	}
+
+	/**
+	 * Undoable edit for a removal.
+	 */
+	private final class RemoveUndo extends AbstractUndoableEdit {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int offset;
+		private PositionTable.RemovedMarks positions;
+		private String string;
+
+		RemoveUndo(final int offset, final String string, final PositionTable.RemovedMarks positions) {
+			this.offset = offset;
+			this.string = string;
+			this.positions = positions;
+		}
+
+		@Override
+		public void redo() throws CannotRedoException {
+			super.redo();
+			try {
+				this.string = CompactContent.this.getString(this.offset, this.string.length());
+				this.positions = CompactContent.this.removeImpl(this.offset, this.string.length());
+			} catch (final BadLocationException ble) {
+				throw new CannotRedoException();
+			}
+		}
+
+		@Override
+		public void undo() throws CannotUndoException {
+			super.undo();
+			try {
+				CompactContent.this.insertString(this.offset, this.string);
+				CompactContent.this.positions.restore(this.positions, this.offset, this.string.length());
+				this.positions = null;
+			} catch (final BadLocationException ble) {
+				throw new CannotUndoException();
+			}
+		}
+
+	}
+
+	/**
+	 * Smallest decode window allocated.
+	 */
+	private static final int MIN_WINDOW_SIZE = 256;
+
+	/**
+	 * The number of characters in a page of the buffer, as a power of two.
+	 */
+	private static final int PAGE_SHIFT = 16;
+
+	private static final int PAGE_SIZE = 1 << CompactContent.PAGE_SHIFT;
+
+	private static final int PAGE_MASK = CompactContent.PAGE_SIZE - 1;
+
+	/**
+	 * Number of recently handed out decode windows that can be reused.
+	 */
+	private static final int RECENT_WINDOWS = 8;
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Requests larger than this are decoded into a new array rather than a
+	 * reusable window. This is also the most returned at once for partial
+	 * returns.
+	 */
+	private static final int WINDOW_SIZE = 4096;
+
+	/**
+	 * The pages of the buffer while the text is Latin-1, otherwise
+	 * <code>null</code>.
+	 */
+	private transient byte[][] bytes;
+
+	/**
+	 * The size of the buffer, gap included.
+	 */
+	private transient int capacity;
+
+	/**
+	 * The pages of the buffer once a non-Latin-1 character has been inserted,
+	 * otherwise <code>null</code>.
+	 */
+	private transient char[][] chars;
+
+	private transient int gapEnd;
+
+	private transient int gapStart;
+
+	/**
+	 * Whether each page of the buffer belongs to this content alone. Pages that
+	 * don't are shared with a snapshot, and are copied before they are
+	 * modified. This is <code>null</code> for snapshots.
+	 */
+	private transient boolean[] owned;
+
+	private transient PositionTable positions;
+
+	/**
+	 * Whether this is a snapshot.
+	 */
+	private final transient boolean readOnly;
+
+	/**
+	 * Decode windows recently handed out, which may be reused.
+	 */
+	private transient char[][] windows;
+
+	private transient int nextWindow;
+
+	/**
+	 * Creates content containing just the implied trailing newline.
+	 */
+	public CompactContent() {
+		this.readOnly = false;
+		this.init();
+	}
+
+	/**
+	 * Creates a read-only snapshot of another content, sharing its pages.
+	 */
+	private CompactContent(final CompactContent source) {
+		this.readOnly = true;
+		this.bytes = source.bytes != null ? source.bytes.clone() : null;
+		this.chars = source.chars != null ? source.chars.clone() : null;
+		this.capacity = source.capacity;
+		this.gapStart = source.gapStart;
+		this.gapEnd = source.gapEnd;
+		this.positions = new PositionTable();
+		this.windows = new char[CompactContent.RECENT_WINDOWS][];
+	}
+
+	/**
+	 * Allocates the pages of a buffer. All pages are full-sized, except the
+	 * only page of a buffer smaller than a page.
+	 *
+	 * @param capacity
+	 *            The size of the buffer, which must be a multiple of the page
+	 *            size if larger than one page.
+	 */
+	private void allocate(final int capacity, final boolean compact) {
+		final int pageCount = Math.max(1, capacity >>> CompactContent.PAGE_SHIFT);
+		final int pageSize = Math.min(capacity, CompactContent.PAGE_SIZE);
+		if (compact) {
+			this.bytes = new byte[pageCount][pageSize];
+			this.chars = null;
+		} else {
+			this.chars = new char[pageCount][pageSize];
+			this.bytes = null;
+		}
+		this.capacity = capacity;
+		this.owned = new boolean[pageCount];
+		Arrays.fill(this.owned, true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public char charAt(final int offset) throws BadLocationException {
+		if (offset < 0 || offset >= this.length())
+			throw new BadLocationException("Invalid offset", offset);
+		final int index = this.toIndex(offset);
+		final int page = index >>> CompactContent.PAGE_SHIFT;
+		final int i = index & CompactContent.PAGE_MASK;
+		return this.bytes != null ? (char) (this.bytes[page][i] & 0xff) : this.chars[page][i];
+	}
+
+	/**
+	 * Copies part of a buffer into this content's buffer, copying any pages it
+	 * writes to that are shared with a snapshot first. If the source is this
+	 * content's own buffer, the ranges may overlap.
+	 *
+	 * @param source
+	 *            The pages to copy from.
+	 * @param from
+	 *            The index in <code>source</code> to copy from.
+	 * @param to
+	 *            The index in this buffer to copy to.
+	 * @param count
+	 *            The number of characters to copy.
+	 */
+	private void copy(final Object[] source, final int from, final int to, final int count) {
+		if (source == this.getPages() && to > from) {
+			// Back to front, in case the ranges overlap
+			for (int left = count; left > 0;) {
+				final int end = from + left;
+				final int destEnd = to + left;
+				final int run = Math.min(left,
+						Math.min((end - 1 & CompactContent.PAGE_MASK) + 1, (destEnd - 1 & CompactContent.PAGE_MASK) + 1));
+				final Object dest = this.getWritablePage(destEnd - run >>> CompactContent.PAGE_SHIFT);
+				System.arraycopy(source[end - run >>> CompactContent.PAGE_SHIFT], end - run & CompactContent.PAGE_MASK,
+						dest, destEnd - run & CompactContent.PAGE_MASK, run);
+				left -= run;
+			}
+			return;
+		}
+		for (int done = 0; done < count;) {
+			final int start = from + done;
+			final int destStart = to + done;
+			final int run = Math.min(count - done, Math.min(CompactContent.PAGE_SIZE - (start & CompactContent.PAGE_MASK),
+					CompactContent.PAGE_SIZE - (destStart & CompactContent.PAGE_MASK)));
+			final Object dest = this.getWritablePage(destStart >>> CompactContent.PAGE_SHIFT);
+			System.arraycopy(source[start >>> CompactContent.PAGE_SHIFT], start & CompactContent.PAGE_MASK, dest,
+					destStart & CompactContent.PAGE_MASK, run);
+			done += run;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Position createPosition(final int offset) throws BadLocationException {
+		return this.positions.createPosition(offset);
+	}
+
+	/**
+	 * Decodes part of the byte buffer.
+	 */
+	private void decode(final int where, final int len, final char[] dest) {
+		for (int i = 0; i < len;) {
+			final int index = this.toIndex(where + i);
+			final int run = this.getRun(where + i, index, len - i);
+			final byte[] page = this.bytes[index >>> CompactContent.PAGE_SHIFT];
+			final int start = index & CompactContent.PAGE_MASK;
+			for (int j = 0; j < run; j++)
+				dest[i + j] = (char) (page[start + j] & 0xff);
+			i += run;
+		}
+	}
+
+	/**
+	 * Makes sure the gap can hold at least <code>count</code> characters.
+	 */
+	private void ensureGap(final int count) {
+		final int gapLength = this.gapEnd - this.gapStart;
+		if (gapLength >= count)
+			return;
+		int newCapacity = Math.max((this.capacity - gapLength + count) * 2, 16);
+		if (newCapacity > CompactContent.PAGE_SIZE)
+			newCapacity = newCapacity + CompactContent.PAGE_MASK & ~CompactContent.PAGE_MASK;
+		final int tail = this.capacity - this.gapEnd;
+		final Object[] pages = this.getPages();
+		this.allocate(newCapacity, this.bytes != null);
+		this.copy(pages, 0, 0, this.gapStart);
+		this.copy(pages, this.gapEnd, newCapacity - tail, tail);
+		this.gapEnd = newCapacity - tail;
+	}
+
+	/**
+	 * Returns the number of bytes saved by storing the text as Latin-1, compared
+	 * to storing it as UTF-16.
+	 *
+	 * @return The number of bytes saved. This is <code>0</code> once the content
+	 *         is no longer compact.
+	 * @see #isCompact()
+	 */
+	public long getBytesSaved() {
+		return this.bytes != null ? this.capacity : 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void getChars(final int where, int len, final Segment txt) throws BadLocationException {
+		if (where < 0 || len < 0 || where + len > this.length())
+			throw new BadLocationException("Invalid location", this.length() + 1);
+
+		if (this.bytes != null) {
+			if (txt.isPartialReturn())
+				len = Math.min(len, CompactContent.WINDOW_SIZE);
+			final char[] window = this.getWindow(txt.array, len);
+			this.decode(where, len, window);
+			txt.array = window;
+			txt.offset = 0;
+			txt.count = len;
+			return;
+		}
+
+		// As with GapContent, share the buffer if the range is in one piece of
+		// it, i.e. doesn't span the gap (or a page boundary).
+		final int index = this.toIndex(where);
+		if (len == 0) {
+			txt.array = this.chars[0];
+			txt.offset = 0;
+		} else if (this.getRun(where, index, len) == len || txt.isPartialReturn()) {
+			txt.array = this.chars[index >>> CompactContent.PAGE_SHIFT];
+			txt.offset = index & CompactContent.PAGE_MASK;
+			len = this.getRun(where, index, len);
+		} else {
+			final char[] copy = new char[len];
+			this.read(where, len, copy);
+			txt.array = copy;
+			txt.offset = 0;
+		}
+		txt.count = len;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This is the size of the buffer, gap included.
+	 */
+	@Override
+	public long getEstimatedFootprint() {
+		return this.bytes != null ? this.capacity : 2L * this.capacity;
+	}
+
+	/**
+	 * Returns whichever set of pages is in use.
+	 */
+	private Object[] getPages() {
+		return this.bytes != null ? this.bytes : this.chars;
+	}
+
+	/**
+	 * Returns how many characters, starting at an offset, are stored
+	 * contiguously in one page.
+	 *
+	 * @param offset
+	 *            The offset.
+	 * @param index
+	 *            The offset's index in the buffer.
+	 * @param max
+	 *            The most characters wanted.
+	 * @return The number of characters, at most <code>max</code>.
+	 */
+	private int getRun(final int offset, final int index, final int max) {
+		int run = Math.min(max, CompactContent.PAGE_SIZE - (index & CompactContent.PAGE_MASK));
+		if (offset < this.gapStart)
+			run = Math.min(run, this.gapStart - offset);
+		return run;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getString(final int where, final int len) throws BadLocationException {
+		if (where < 0 || len < 0 || where + len > this.length())
+			throw new BadLocationException("Invalid location", this.length() + 1);
+		if (this.bytes == null) {
+			final Segment s = new Segment();
+			this.getChars(where, len, s);
+			return new String(s.array, s.offset, s.count);
+		}
+		if (len == 0)
+			return "";
+		final int index = this.toIndex(where);
+		if (this.getRun(where, index, len) == len)
+			return new String(this.bytes[index >>> CompactContent.PAGE_SHIFT], index & CompactContent.PAGE_MASK, len,
+					StandardCharsets.ISO_8859_1);
+		final byte[] copy = new byte[len];
+		this.read(where, len, copy);
+		return new String(copy, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Returns a page of the buffer that can be modified, copying it first if it
+	 * is shared with a snapshot.
+	 */
+	private Object getWritablePage(final int page) {
+		final Object[] pages = this.getPages();
+		if (!this.owned[page]) {
+			pages[page] = this.bytes != null ? this.bytes[page].clone() : this.chars[page].clone();
+			this.owned[page] = true;
+		}
+		return pages[page];
+	}
+
+	/**
+	 * Returns a window to decode <code>size</code> characters into. If
+	 * <code>current</code> (the array of the <code>Segment</code> being filled)
+	 * is a window we handed out earlier and is large enough, it is reused.
+	 */
+	private char[] getWindow(final Object current, final int size) {
+		if (size > CompactContent.WINDOW_SIZE)
+			return new char[size];
+		synchronized (this.windows) {
+			if (current instanceof char[] && ((char[]) current).length >= size)
+				for (final char[] window : this.windows)
+					if (window == current)
+						return window;
+			final char[] window = new char[Math.max(size, CompactContent.MIN_WINDOW_SIZE)];
+			this.windows[this.nextWindow] = window;
+			this.nextWindow = (this.nextWindow + 1) % this.windows.length;
+			return window;
+		}
+	}
+
+	/**
+	 * Converts the buffer to UTF-16.
+	 */
+	private void inflate() {
+		final byte[][] bytes = this.bytes;
+		this.allocate(this.capacity, false);
+		for (int page = 0; page < bytes.length; page++) {
+			final byte[] src = bytes[page];
+			final char[] dest = this.chars[page];
+			for (int i = 0; i < src.length; i++)
+				dest[i] = (char) (src[i] & 0xff);
+		}
+		synchronized (this.windows) {
+			for (int i = 0; i < this.windows.length; i++)
+				this.windows[i] = null;
+		}
+	}
+
+	private void init() {
+		this.allocate(1, true);
+		this.bytes[0][0] = '\n';
+		this.gapStart = this.gapEnd = 0;
+		this.positions = new PositionTable();
+		this.windows = new char[CompactContent.RECENT_WINDOWS][];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public UndoableEdit insertString(final int where, final String str) throws BadLocationException {
+		if (this.readOnly)
+			throw new BadLocationException("Content is read-only", where);
+		if (where < 0 || where > this.length())
+			throw new BadLocationException("Invalid insert", this.length());
+		final int len = str.length();
+		if (len == 0)
+			return null;
+		if (this.bytes != null)
+			for (int i = 0; i < len; i++)
+				if (str.charAt(i) > 0xff) {
+					this.inflate();
+					break;
+				}
+		this.ensureGap(len);
+		this.moveGap(where);
+		for (int i = 0; i < len;) {
+			final int index = where + i;
+			final int start = index & CompactContent.PAGE_MASK;
+			final int run = Math.min(len - i, CompactContent.PAGE_SIZE - start);
+			final Object page = this.getWritablePage(index >>> CompactContent.PAGE_SHIFT);
+			if (this.bytes != null) {
+				final byte[] dest = (byte[]) page;
+				for (int j = 0; j < run; j++)
+					dest[start + j] = (byte) str.charAt(i + j);
+			} else
+				str.getChars(i, i + run, (char[]) page, start);
+			i += run;
+		}
+		this.gapStart += len;
+		this.positions.updateForInsert(where, len);
+		return new InsertUndo(where, len);
+	}
+
+	/**
+	 * Returns whether the text is being stored as Latin-1.
+	 *
+	 * @return Whether the text is stored one byte per character.
+	 * @see #getBytesSaved()
+	 */
+	public boolean isCompact() {
+		return this.bytes != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int length() {
+		return this.capacity - (this.gapEnd - this.gapStart);
+	}
+
+	/**
+	 * Moves the gap to start at an offset.
+	 */
+	private void moveGap(final int where) {
+		if (where == this.gapStart)
+			return;
+		if (where < this.gapStart) {
+			final int count = this.gapStart - where;
+			this.copy(this.getPages(), where, this.gapEnd - count, count);
+			this.gapEnd -= count;
+		} else {
+			final int count = where - this.gapStart;
+			this.copy(this.getPages(), this.gapEnd, this.gapStart, count);
+			this.gapEnd += count;
+		}
+		this.gapStart = where;
+	}
+
+	/**
+	 * Copies text into an array of the same type as the buffer.
+	 */
+	private void read(final int where, final int len, final Object dest) {
+		final Object[] pages = this.getPages();
+		for (int i = 0; i < len;) {
+			final int index = this.toIndex(where + i);
+			final int run = this.getRun(where + i, index, len - i);
+			System.arraycopy(pages[index >>> CompactContent.PAGE_SHIFT], index & CompactContent.PAGE_MASK, dest, i,
+					run);
+			i += run;
+		}
+	}
+
+	private void readObject(final ObjectInputStream in) throws ClassNotFoundException, IOException {
+		in.defaultReadObject();
+		this.init();
+		final String text = (String) in.readObject();
+		try {
+			this.insertString(0, text.substring(0, text.length() - 1));
+		} catch (final BadLocationException ble) {
+			throw new IOException(ble.getMessage());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public UndoableEdit remove(final int where, final int nitems) throws BadLocationException {
+		if (this.readOnly)
+			throw new BadLocationException("Content is read-only", where);
+		if (where < 0 || nitems < 0 || where + nitems >= this.length())
+			throw new BadLocationException("Invalid remove", this.length() + 1);
+		if (nitems == 0)
+			return null;
+		final String removed = this.getString(where, nitems);
+		return new RemoveUndo(where, removed, this.removeImpl(where, nitems));
+	}
+
+	/**
+	 * Removes a range of text, which has already been validated.
+	 *
+	 * @return The positions collapsed by the removal.
+	 */
+	private PositionTable.RemovedMarks removeImpl(final int where, final int nitems) {
+		this.moveGap(where);
+		this.gapEnd += nitems;
+		return this.positions.updateForRemove(where, nitems);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The snapshot shares this content's pages. A page is copied the first time
+	 * this content modifies it afterwards, so an edit only copies the pages it
+	 * touches rather than the whole buffer.
+	 */
+	@Override
+	public RContent snapshot() {
+		if (this.readOnly)
+			return this;
+		Arrays.fill(this.owned, false);
+		return new CompactContent(this);
+	}
+
+	/**
+	 * Returns the index in the buffer of an offset in the text.
+	 */
+	private int toIndex(final int offset) {
+		return offset < this.gapStart ? offset : offset + this.gapEnd - this.gapStart;
+	}
+
+	private void writeObject(final ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		try {
+			out.writeObject(this.getString(0, this.length()));
+		} catch (final BadLocationException ble) { // Never happens
+			throw new IOException(ble.getMessage());
+		}
+	}
+
+}
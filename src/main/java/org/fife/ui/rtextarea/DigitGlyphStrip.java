@@ -0,0 +1,339 @@
+/*
+ * 10/17/2026
+ *
+ * DigitGlyphStrip.java - The digits 0-9, pre-rendered for painting line
+ * numbers.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.PrintGraphics;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.print.PrinterGraphics;
+
+/**
+ * The digits <code>0</code> through <code>9</code>, rendered once into an
+ * image, so line numbers can be painted by copying pixels from it rather than
+ * laying out and rasterizing a string for every row.
+ * <p>
+ *
+ * Anti-aliased glyphs often spill a pixel or so past their advance, into
+ * their neighbors, so the digits are rendered in every pair, e.g.
+ * <code>"47"</code>, as well as on their own. A number is copied a pair at a
+ * time, from the middle of one digit to the middle of the next, which gives
+ * the same pixels as drawing it as a string as long as no glyph spills past
+ * the middle of its neighbor. This also needs every advance to be a whole
+ * number of pixels, and glyphs to fit within a row. The image is opaque, so
+ * it's only valid over the opaque background it was rendered on. When any of
+ * this doesn't hold, {@link #isUsable()} returns <code>false</code> and line
+ * numbers should be drawn as strings.
+ *
+ * @version 1.0
+ * @see LineNumberList
+ */
+final class DigitGlyphStrip {
+
+	/**
+	 * The width of the empty space around each pair in the image, which must
+	 * stay empty for it to be usable.
+	 */
+	private static final int MARGIN = 4;
+
+	/**
+	 * The index used for "no digit" when looking up a pair, i.e. the space
+	 * before or after a number.
+	 */
+	private static final int NONE = 10;
+
+	/**
+	 * The advance of each digit, and <code>0</code> for {@link #NONE}.
+	 */
+	private final int[] advances;
+
+	private final Color background;
+
+	/**
+	 * The y-coordinate of the baseline in each cell.
+	 */
+	private final int baseline;
+
+	/**
+	 * The x-coordinate of the boundary between the two digits in each cell.
+	 */
+	private final int boundary;
+
+	private final char[] buffer;
+
+	private final int cellHeight;
+
+	private final int cellWidth;
+
+	private final Font font;
+
+	private final Color foreground;
+
+	private final FontRenderContext frc;
+
+	/**
+	 * Cell <code>(a, b)</code>, at column <code>b</code> and row
+	 * <code>a</code>, holds digit <code>a</code> just left of the boundary and
+	 * digit <code>b</code> just right of it.
+	 */
+	private final BufferedImage image;
+
+	/**
+	 * The rows containing glyph pixels, relative to the baseline. If there are
+	 * none, <code>inkBottom &lt; inkTop</code>.
+	 */
+	private int inkBottom;
+
+	private int inkTop;
+
+	private final Object lcdContrast;
+
+	/**
+	 * How far glyphs spill to the left of their advance, at most.
+	 */
+	private int leftSpill;
+
+	/**
+	 * How far glyphs spill to the right of their advance, at most.
+	 */
+	private int rightSpill;
+
+	private final int rowHeight;
+
+	private final boolean usable;
+
+	/**
+	 * Renders the digits as they'd be drawn by a graphics context.
+	 *
+	 * @param g
+	 *            The graphics context, with the font, color and rendering
+	 *            hints line numbers will be drawn with.
+	 * @param background
+	 *            The color line numbers are drawn over.
+	 * @param rowHeight
+	 *            The minimum distance between the baselines of two rows.
+	 */
+	DigitGlyphStrip(final Graphics2D g, final Color background, final int rowHeight) {
+
+		this.font = g.getFont();
+		this.foreground = g.getColor();
+		this.background = background;
+		this.frc = g.getFontRenderContext();
+		this.lcdContrast = g.getRenderingHint(RenderingHints.KEY_TEXT_LCD_CONTRAST);
+		this.rowHeight = rowHeight;
+		this.advances = new int[DigitGlyphStrip.NONE + 1];
+		this.buffer = new char[11];
+
+		final FontMetrics fm = g.getFontMetrics();
+		int maxAdvance = 0;
+		for (int d = 0; d < 10; d++) {
+			this.advances[d] = fm.charWidth((char) ('0' + d));
+			maxAdvance = Math.max(maxAdvance, this.advances[d]);
+		}
+		this.boundary = DigitGlyphStrip.MARGIN + maxAdvance;
+		this.cellWidth = 2 * this.boundary;
+		this.baseline = DigitGlyphStrip.MARGIN + fm.getAscent();
+		this.cellHeight = this.baseline + fm.getDescent() + DigitGlyphStrip.MARGIN;
+
+		final int size = DigitGlyphStrip.NONE + 1;
+		this.image = new BufferedImage(size * this.cellWidth, size * this.cellHeight, BufferedImage.TYPE_INT_RGB);
+		final Graphics2D g2d = this.image.createGraphics();
+		try {
+			g2d.setRenderingHints(g.getRenderingHints());
+			g2d.setColor(background);
+			g2d.fillRect(0, 0, this.image.getWidth(), this.image.getHeight());
+			g2d.setFont(this.font);
+			g2d.setColor(this.foreground);
+			final StringBuilder pair = new StringBuilder(2);
+			for (int a = 0; a < size; a++)
+				for (int b = 0; b < size; b++) {
+					pair.setLength(0);
+					if (a != DigitGlyphStrip.NONE)
+						pair.append((char) ('0' + a));
+					if (b != DigitGlyphStrip.NONE)
+						pair.append((char) ('0' + b));
+					// Drawn as one string, so overlapping pixels blend as they
+					// do in a line number
+					g2d.drawString(pair.toString(), b * this.cellWidth + this.boundary - this.advances[a],
+							a * this.cellHeight + this.baseline);
+				}
+		} finally {
+			g2d.dispose();
+		}
+
+		this.usable = background.getAlpha() == 255 && !this.frc.usesFractionalMetrics()
+				&& !this.font.hasLayoutAttributes() && this.findInk();
+
+	}
+
+	/**
+	 * Returns whether line numbers can be copied from this strip onto a
+	 * graphics context, i.e. it isn't printing and the pixels will land
+	 * unscaled and unblended.
+	 *
+	 * @param g
+	 *            The graphics context.
+	 * @return Whether this strip can be used with it.
+	 */
+	static boolean canCopyTo(final Graphics g) {
+		if (!(g instanceof Graphics2D) || g instanceof PrinterGraphics || g instanceof PrintGraphics)
+			return false;
+		final Graphics2D g2d = (Graphics2D) g;
+		final AffineTransform transform = g2d.getTransform();
+		if ((transform.getType() & ~AffineTransform.TYPE_TRANSLATION) != 0
+				|| transform.getTranslateX() != Math.rint(transform.getTranslateX())
+				|| transform.getTranslateY() != Math.rint(transform.getTranslateY()))
+			return false;
+		return AlphaComposite.SrcOver.equals(g2d.getComposite());
+	}
+
+	/**
+	 * Draws a number.
+	 *
+	 * @param g
+	 *            The graphics context.
+	 * @param number
+	 *            The number, which must not be negative.
+	 * @param x
+	 *            The x-coordinate of its left edge.
+	 * @param y
+	 *            The y-coordinate of its baseline.
+	 */
+	void drawNumber(final Graphics g, final int number, final int x, final int y) {
+		if (this.inkBottom < this.inkTop)
+			return;
+		final int top = y + this.inkTop;
+		final int bottom = y + this.inkBottom + 1;
+		int a = DigitGlyphStrip.NONE;
+		int dx = x;
+		for (int i = this.toDigits(number); i <= this.buffer.length; i++) {
+			final int b = i < this.buffer.length ? this.buffer[i] - '0' : DigitGlyphStrip.NONE;
+			// From the middle of a to the middle of b
+			final int left = a == DigitGlyphStrip.NONE ? this.leftSpill : this.advances[a] - this.advances[a] / 2;
+			final int right = b == DigitGlyphStrip.NONE ? this.rightSpill : this.advances[b] / 2;
+			final int sx = b * this.cellWidth + this.boundary;
+			final int sy = a * this.cellHeight + this.baseline;
+			g.drawImage(this.image, dx - left, top, dx + right, bottom, sx - left, sy + this.inkTop, sx + right,
+					sy + this.inkBottom + 1, null);
+			dx += this.advances[b];
+			a = b;
+		}
+	}
+
+	private static boolean equal(final Object o1, final Object o2) {
+		return o1 == null ? o2 == null : o1.equals(o2);
+	}
+
+	/**
+	 * Finds how far the glyphs spill past their advances, and the rows they
+	 * cover, and checks that copying them a pair at a time will work.
+	 *
+	 * @return Whether it will.
+	 */
+	private boolean findInk() {
+
+		final int bg = this.image.getRGB(0, 0);
+		int top = Integer.MAX_VALUE;
+		int bottom = Integer.MIN_VALUE;
+		int minLeftHalf = Integer.MAX_VALUE;
+		int minRightHalf = Integer.MAX_VALUE;
+
+		// Each digit on its own is in row NONE
+		final int y0 = DigitGlyphStrip.NONE * this.cellHeight;
+		for (int d = 0; d < 10; d++) {
+			final int x0 = d * this.cellWidth;
+			for (int px = 0; px < this.cellWidth; px++)
+				for (int py = 0; py < this.cellHeight; py++)
+					if (this.image.getRGB(x0 + px, y0 + py) != bg) {
+						if (px == 0 || px == this.cellWidth - 1 || py == 0 || py == this.cellHeight - 1)
+							return false; // May have been clipped
+						this.leftSpill = Math.max(this.leftSpill, this.boundary - px);
+						this.rightSpill = Math.max(this.rightSpill, px + 1 - this.boundary - this.advances[d]);
+						top = Math.min(top, py - this.baseline);
+						bottom = Math.max(bottom, py - this.baseline);
+					}
+			minLeftHalf = Math.min(minLeftHalf, this.advances[d] / 2);
+			minRightHalf = Math.min(minRightHalf, this.advances[d] - this.advances[d] / 2);
+		}
+
+		this.inkTop = top;
+		this.inkBottom = bottom;
+		return this.leftSpill <= minRightHalf && this.rightSpill <= minLeftHalf && bottom - top < this.rowHeight;
+
+	}
+
+	/**
+	 * Returns the width of a number, as <code>FontMetrics.stringWidth()</code>
+	 * would.
+	 *
+	 * @param number
+	 *            The number, which must not be negative.
+	 * @return Its width.
+	 */
+	int getWidth(final int number) {
+		int width = 0;
+		for (int i = this.toDigits(number); i < this.buffer.length; i++)
+			width += this.advances[this.buffer[i] - '0'];
+		return width;
+	}
+
+	/**
+	 * Returns whether line numbers drawn from this strip look the same as
+	 * those drawn as strings.
+	 *
+	 * @return Whether this strip can be used.
+	 */
+	boolean isUsable() {
+		return this.usable;
+	}
+
+	/**
+	 * Returns whether this strip was rendered the way a graphics context would
+	 * draw digits.
+	 *
+	 * @param g
+	 *            The graphics context, with the font and color line numbers
+	 *            will be drawn with.
+	 * @param background
+	 *            The color line numbers are drawn over.
+	 * @param rowHeight
+	 *            The minimum distance between the baselines of two rows.
+	 * @return Whether this strip matches.
+	 */
+	boolean isValidFor(final Graphics2D g, final Color background, final int rowHeight) {
+		return this.font.equals(g.getFont()) && this.foreground.equals(g.getColor())
+				&& this.background.equals(background) && this.rowHeight == rowHeight
+				&& this.frc.equals(g.getFontRenderContext())
+				&& DigitGlyphStrip.equal(this.lcdContrast, g.getRenderingHint(RenderingHints.KEY_TEXT_LCD_CONTRAST));
+	}
+
+	/**
+	 * Writes the digits of a number into the end of <code>buffer</code>.
+	 *
+	 * @return The index of the first digit.
+	 */
+	private int toDigits(final int number) {
+		int i = this.buffer.length;
+		int n = number;
+		do {
+			this.buffer[--i] = (char) ('0' + n % 10);
+			n /= 10;
+		} while (n != 0);
+		return i;
+	}
+
+}
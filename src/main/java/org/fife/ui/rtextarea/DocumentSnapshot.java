@@ -0,0 +1,282 @@
+/*
+ * 10/17/2026
+ *
+ * DocumentSnapshot.java - An immutable view of an RDocument's text.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Segment;
+
+/**
+ * The text of an {@link RDocument} at a point in time. Snapshots never change,
+ * so background threads can tokenize, parse or search them without holding
+ * the document's lock, and without blocking edits on the EDT.
+ * <p>
+ *
+ * Each snapshot records the document's version when it was taken. A worker can
+ * check {@link #isStale()} to find out whether the document has been modified
+ * since, for example to discard its results rather than apply them to text
+ * that has changed.
+ * <p>
+ *
+ * Line offsets are found by scanning the text the first time they are asked
+ * for, on the calling thread, rather than copied from the document.
+ *
+ * @version 1.0
+ * @see RDocument#createSnapshot()
+ */
+public final class DocumentSnapshot implements CharSequence {
+
+	private final RContent content;
+
+	private final RDocument doc;
+
+	private final int length;
+
+	/**
+	 * The start offsets of all lines, or <code>null</code> if not yet computed.
+	 */
+	private int[] lineStarts;
+
+	private final long version;
+
+	DocumentSnapshot(final RDocument doc, final RContent content, final long version) {
+		this.doc = doc;
+		this.content = content;
+		this.version = version;
+		this.length = content.length() - 1;
+	}
+
+	/**
+	 * Returns the character at the specified offset.
+	 *
+	 * @param index
+	 *            The offset of the character.
+	 * @return The character.
+	 * @throws IndexOutOfBoundsException
+	 *             If the offset is invalid.
+	 */
+	@Override
+	public char charAt(final int index) {
+		if (index < 0 || index >= this.length)
+			throw new IndexOutOfBoundsException("Invalid offset: " + index);
+		try {
+			return this.content.charAt(index);
+		} catch (final BadLocationException ble) { // Never happens
+			throw new IndexOutOfBoundsException(ble.getMessage());
+		}
+	}
+
+	private void checkRange(final int offset, final int length) throws BadLocationException {
+		if (offset < 0 || length < 0 || offset + length > this.length)
+			throw new BadLocationException("Invalid range", offset + length);
+	}
+
+	/**
+	 * Returns the document this is a snapshot of.
+	 *
+	 * @return The document.
+	 */
+	public RDocument getDocument() {
+		return this.doc;
+	}
+
+	/**
+	 * Returns the number of lines in the snapshot.
+	 *
+	 * @return The line count.
+	 */
+	public int getLineCount() {
+		if (this.content instanceof MappedFileContent)
+			return ((MappedFileContent) this.content).getLineCount();
+		return this.getLineStarts().length;
+	}
+
+	/**
+	 * Returns the offset just past the end of a line (including its newline).
+	 * As with the document's line elements, the last line ends at
+	 * <code>length() + 1</code>.
+	 *
+	 * @param line
+	 *            The line.
+	 * @return The end offset of the line.
+	 * @throws IndexOutOfBoundsException
+	 *             If the line is invalid.
+	 */
+	public int getLineEndOffset(final int line) {
+		if (this.content instanceof MappedFileContent)
+			return ((MappedFileContent) this.content).getLineEndOffset(line);
+		final int[] starts = this.getLineStarts();
+		if (line == starts.length - 1)
+			return this.length + 1;
+		return starts[line + 1];
+	}
+
+	/**
+	 * Returns the line containing an offset.
+	 *
+	 * @param offset
+	 *            The offset.
+	 * @return The line.
+	 */
+	public int getLineOfOffset(final int offset) {
+		if (this.content instanceof MappedFileContent)
+			return ((MappedFileContent) this.content).getLineOfOffset(offset);
+		final int[] starts = this.getLineStarts();
+		int low = 0;
+		int high = starts.length - 1;
+		while (low < high) {
+			final int mid = low + high + 1 >>> 1;
+			if (starts[mid] <= offset)
+				low = mid;
+			else
+				high = mid - 1;
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the start offset of a line.
+	 *
+	 * @param line
+	 *            The line.
+	 * @return The start offset.
+	 * @throws IndexOutOfBoundsException
+	 *             If the line is invalid.
+	 */
+	public int getLineStartOffset(final int line) {
+		if (this.content instanceof MappedFileContent)
+			return ((MappedFileContent) this.content).getLineStartOffset(line);
+		return this.getLineStarts()[line];
+	}
+
+	/**
+	 * Returns the line start offsets, scanning the text for them if this is the
+	 * first time they are needed.
+	 */
+	private synchronized int[] getLineStarts() {
+		if (this.lineStarts == null) {
+			int[] starts = new int[64];
+			int count = 1;
+			final Segment s = new Segment();
+			s.setPartialReturn(true);
+			int offs = 0;
+			try {
+				while (offs < this.length) {
+					this.content.getChars(offs, this.length - offs, s);
+					final int end = s.offset + s.count;
+					for (int i = s.offset; i < end; i++)
+						if (s.array[i] == '\n') {
+							if (count == starts.length) {
+								final int[] temp = new int[count * 2];
+								System.arraycopy(starts, 0, temp, 0, count);
+								starts = temp;
+							}
+							starts[count++] = offs + i - s.offset + 1;
+						}
+					offs += s.count;
+				}
+			} catch (final BadLocationException ble) { // Never happens
+				throw new InternalError(ble.toString());
+			}
+			this.lineStarts = new int[count];
+			System.arraycopy(starts, 0, this.lineStarts, 0, count);
+		}
+		return this.lineStarts;
+	}
+
+	/**
+	 * Returns a range of the text.
+	 *
+	 * @param offset
+	 *            The start of the range.
+	 * @param length
+	 *            The length of the range.
+	 * @return The text.
+	 * @throws BadLocationException
+	 *             If the range is invalid.
+	 */
+	public String getText(final int offset, final int length) throws BadLocationException {
+		this.checkRange(offset, length);
+		return this.content.getString(offset, length);
+	}
+
+	/**
+	 * Fetches a range of the text. As with
+	 * <code>Document.getText(int, int, Segment)</code>, the segment's array
+	 * must not be modified, and <code>txt.setPartialReturn(true)</code> can be
+	 * used to avoid copying text.
+	 *
+	 * @param offset
+	 *            The start of the range.
+	 * @param length
+	 *            The length of the range.
+	 * @param txt
+	 *            The segment to receive the text.
+	 * @throws BadLocationException
+	 *             If the range is invalid.
+	 */
+	public void getText(final int offset, final int length, final Segment txt) throws BadLocationException {
+		this.checkRange(offset, length);
+		this.content.getChars(offset, length, txt);
+	}
+
+	/**
+	 * Returns the version of the document this snapshot was taken at.
+	 *
+	 * @return The version.
+	 * @see RDocument#getVersion()
+	 */
+	public long getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Returns whether the document has been modified since this snapshot was
+	 * taken.
+	 *
+	 * @return Whether this snapshot is out of date.
+	 */
+	public boolean isStale() {
+		return this.doc.getVersion() != this.version;
+	}
+
+	/**
+	 * Returns the length of the text, not including the document's implied
+	 * trailing newline.
+	 *
+	 * @return The length.
+	 */
+	@Override
+	public int length() {
+		return this.length;
+	}
+
+	@Override
+	public CharSequence subSequence(final int start, final int end) {
+		try {
+			return this.getText(start, end - start);
+		} catch (final BadLocationException ble) {
+			throw new IndexOutOfBoundsException(ble.getMessage());
+		}
+	}
+
+	/**
+	 * Returns the entire text of the snapshot.
+	 *
+	 * @return The text.
+	 */
+	@Override
+	public String toString() {
+		try {
+			return this.content.getString(0, this.length);
+		} catch (final BadLocationException ble) { // Never happens
+			throw new InternalError(ble.toString());
+		}
+	}
+
+}
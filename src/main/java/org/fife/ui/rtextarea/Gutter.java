@@ -332,6 +332,17 @@ public class Gutter extends JPanel {
 
 	}
 
+	/**
+	 * Adds a listener that's told how long each paint of this gutter takes.
+	 *
+	 * @param l
+	 *            The listener to add.
+	 * @see #removeGutterPaintListener(GutterPaintListener)
+	 */
+	public void addGutterPaintListener(final GutterPaintListener l) {
+		this.listenerList.add(GutterPaintListener.class, l);
+	}
+
 	/**
 	 * Adds an icon that tracks an offset in the document, and is displayed adjacent
 	 * to the line numbers. This is useful for marking things such as source code
@@ -430,6 +441,25 @@ public class Gutter extends JPanel {
 		this.iconArea.clearActiveLineRange();
 	}
 
+	/**
+	 * Notifies listeners that this gutter was painted.
+	 *
+	 * @param clip
+	 *            The area painted, or <code>null</code> for all of it.
+	 * @param nanos
+	 *            How long painting took.
+	 */
+	private void fireGutterPainted(final Rectangle clip, final long nanos) {
+		GutterPaintEvent e = null; // Lazily created
+		final Object[] listeners = this.listenerList.getListenerList();
+		for (int i = listeners.length - 2; i >= 0; i -= 2)
+			if (listeners[i] == GutterPaintListener.class) {
+				if (e == null)
+					e = new GutterPaintEvent(this, clip, nanos);
+				((GutterPaintListener) listeners[i + 1]).gutterPainted(e);
+			}
+	}
+
 	/**
 	 * Returns the color used to paint the active line range, if any.
 	 *
@@ -619,6 +649,23 @@ public class Gutter extends JPanel {
 		return false;
 	}
 
+	/**
+	 * Overridden to time painting if there are any {@link GutterPaintListener}s.
+	 *
+	 * @param g
+	 *            The graphics context.
+	 */
+	@Override
+	public void paint(final Graphics g) {
+		if (this.listenerList.getListenerCount(GutterPaintListener.class) == 0) {
+			super.paint(g);
+			return;
+		}
+		final long start = System.nanoTime();
+		super.paint(g);
+		this.fireGutterPainted(g.getClipBounds(), System.nanoTime() - start);
+	}
+
 	/**
 	 * Removes all tracking icons.
 	 *
@@ -629,6 +676,17 @@ public class Gutter extends JPanel {
 		this.iconArea.removeAllTrackingIcons();
 	}
 
+	/**
+	 * Removes a listener added with
+	 * {@link #addGutterPaintListener(GutterPaintListener)}.
+	 *
+	 * @param l
+	 *            The listener to remove.
+	 */
+	public void removeGutterPaintListener(final GutterPaintListener l) {
+		this.listenerList.remove(GutterPaintListener.class, l);
+	}
+
 	/**
 	 * Removes the specified tracking icon.
 	 *
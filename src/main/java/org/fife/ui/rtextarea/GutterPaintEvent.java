@@ -0,0 +1,65 @@
+/*
+ * 10/17/2026
+ *
+ * GutterPaintEvent.java - Notifies listeners that a Gutter was painted.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.awt.Rectangle;
+import java.util.EventObject;
+
+/**
+ * The event fired by a {@link Gutter} after it paints, with the area painted
+ * and how long it took.
+ *
+ * @version 1.0
+ * @see GutterPaintListener
+ */
+public class GutterPaintEvent extends EventObject {
+
+	/**
+	 *
+	 */
+	private static final long serialVersionUID = 1L;
+	private final Rectangle clip;
+	private final long paintNanos;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param source
+	 *            The gutter.
+	 * @param clip
+	 *            The area painted, or <code>null</code> if the whole gutter was.
+	 * @param paintNanos
+	 *            How long painting took, in nanoseconds.
+	 */
+	public GutterPaintEvent(final Gutter source, final Rectangle clip, final long paintNanos) {
+		super(source);
+		this.clip = clip;
+		this.paintNanos = paintNanos;
+	}
+
+	/**
+	 * Returns the area of the gutter that was painted.
+	 *
+	 * @return The area, or <code>null</code> if the whole gutter was painted.
+	 */
+	public Rectangle getClip() {
+		return this.clip == null ? null : new Rectangle(this.clip);
+	}
+
+	/**
+	 * Returns how long painting the gutter took, including its line numbers,
+	 * icons and fold indicator.
+	 *
+	 * @return The time, in nanoseconds.
+	 */
+	public long getPaintNanos() {
+		return this.paintNanos;
+	}
+
+}
@@ -0,0 +1,31 @@
+/*
+ * 10/17/2026
+ *
+ * GutterPaintListener.java - Listens for a Gutter being painted.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.util.EventListener;
+
+/**
+ * Listens for a {@link Gutter} being painted, e.g. to measure how long
+ * painting takes as the user scrolls and types. Gutters only time their
+ * painting while they have listeners.
+ *
+ * @version 1.0
+ * @see Gutter#addGutterPaintListener(GutterPaintListener)
+ */
+public interface GutterPaintListener extends EventListener {
+
+	/**
+	 * Called after the gutter paints.
+	 *
+	 * @param e
+	 *            The area painted, and how long it took.
+	 */
+	void gutterPainted(GutterPaintEvent e);
+
+}
@@ -0,0 +1,205 @@
+/*
+ * 10/17/2026
+ *
+ * HiddenLineMap.java - Maps between visible rows and lines in a text area with
+ * collapsed folds.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.util.Arrays;
+
+import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
+import org.fife.ui.rsyntaxtextarea.folding.Fold;
+import org.fife.ui.rsyntaxtextarea.folding.FoldManager;
+
+/**
+ * The ranges of lines hidden by collapsed folds, with a running total of the
+ * lines hidden above each, so gutter components can go from a visible row to
+ * the line painted on it (and back) with a binary search, rather than walking
+ * the folds for every row they paint.
+ * <p>
+ *
+ * The map is built lazily, and must be invalidated whenever folds are updated,
+ * collapsed or expanded, or the number of lines in the document changes.
+ *
+ * @version 1.0
+ * @see LineNumberList
+ */
+final class HiddenLineMap {
+
+	/**
+	 * The number of hidden ranges.
+	 */
+	private int count;
+
+	/**
+	 * The last line of each hidden range, inclusive.
+	 */
+	private int[] ends;
+
+	/**
+	 * The number of lines hidden by the ranges before each range.
+	 */
+	private int[] hiddenBefore;
+
+	/**
+	 * The first line of each hidden range, in ascending order.
+	 */
+	private int[] starts;
+
+	private boolean valid;
+
+	HiddenLineMap() {
+		this.starts = new int[8];
+		this.ends = new int[8];
+		this.hiddenBefore = new int[8];
+	}
+
+	private void add(final int start, final int end) {
+		if (this.count > 0 && this.ends[this.count - 1] + 1 >= start) {
+			// e.g. "} else {", where the last line of one fold starts another
+			this.ends[this.count - 1] = Math.max(this.ends[this.count - 1], end);
+			return;
+		}
+		if (this.count == this.starts.length) {
+			final int capacity = this.count * 2;
+			this.starts = Arrays.copyOf(this.starts, capacity);
+			this.ends = Arrays.copyOf(this.ends, capacity);
+			this.hiddenBefore = Arrays.copyOf(this.hiddenBefore, capacity);
+		}
+		this.starts[this.count] = start;
+		this.ends[this.count] = end;
+		this.count++;
+	}
+
+	/**
+	 * Adds the lines hidden by a fold, or by its descendants if it isn't
+	 * collapsed.
+	 */
+	private void addHiddenLines(final Fold fold) {
+		if (fold.isCollapsed()) {
+			final int start = fold.getStartLine();
+			final int end = fold.getEndLine();
+			if (end > start)
+				this.add(start + 1, end);
+		} else {
+			final int childCount = fold.getChildCount();
+			for (int i = 0; i < childCount; i++)
+				this.addHiddenLines(fold.getChild(i));
+		}
+	}
+
+	/**
+	 * Returns the line painted on a visible row.
+	 *
+	 * @param row
+	 *            The row, from <code>0</code>.
+	 * @return The line, which may be past the end of the document if the row
+	 *         is.
+	 */
+	int getLineForRow(final int row) {
+		// The last range whose first hidden line would have been at or above row
+		int low = 0;
+		int high = this.count - 1;
+		while (low <= high) {
+			final int mid = low + high >>> 1;
+			if (this.starts[mid] - this.hiddenBefore[mid] <= row)
+				low = mid + 1;
+			else
+				high = mid - 1;
+		}
+		if (high < 0)
+			return row;
+		return row + this.hiddenBefore[high] + this.ends[high] - this.starts[high] + 1;
+	}
+
+	/**
+	 * Returns the first line below a visible line that isn't hidden.
+	 *
+	 * @param line
+	 *            A visible line.
+	 * @return The next visible line, which may be past the end of the
+	 *         document.
+	 */
+	int getNextVisibleLine(final int line) {
+		final int index = this.indexOfRangeAt(line + 1);
+		return index >= 0 ? this.ends[index] + 1 : line + 1;
+	}
+
+	/**
+	 * Returns the visible row a line is painted on.
+	 *
+	 * @param line
+	 *            The line.
+	 * @return The row, or <code>-1</code> if the line is hidden.
+	 */
+	int getRowForLine(final int line) {
+		int low = 0;
+		int high = this.count - 1;
+		while (low <= high) {
+			final int mid = low + high >>> 1;
+			if (this.starts[mid] <= line)
+				low = mid + 1;
+			else
+				high = mid - 1;
+		}
+		if (high < 0)
+			return line;
+		if (line <= this.ends[high])
+			return -1;
+		return line - this.hiddenBefore[high] - (this.ends[high] - this.starts[high] + 1);
+	}
+
+	private int indexOfRangeAt(final int start) {
+		int low = 0;
+		int high = this.count - 1;
+		while (low <= high) {
+			final int mid = low + high >>> 1;
+			final int midStart = this.starts[mid];
+			if (midStart < start)
+				low = mid + 1;
+			else if (midStart > start)
+				high = mid - 1;
+			else
+				return mid;
+		}
+		return -1;
+	}
+
+	/**
+	 * Marks this map as needing to be rebuilt the next time it's used.
+	 */
+	void invalidate() {
+		this.valid = false;
+	}
+
+	/**
+	 * Rebuilds this map from a text area's folds, if it's been invalidated.
+	 *
+	 * @param textArea
+	 *            The text area.
+	 * @return This map.
+	 */
+	HiddenLineMap update(final RTextArea textArea) {
+		if (!this.valid) {
+			this.count = 0;
+			if (textArea instanceof RSyntaxTextArea) {
+				final FoldManager fm = ((RSyntaxTextArea) textArea).getFoldManager();
+				final int foldCount = fm.getFoldCount();
+				for (int i = 0; i < foldCount; i++)
+					this.addHiddenLines(fm.getFold(i));
+			}
+			int hidden = 0;
+			for (int i = 0; i < this.count; i++) {
+				this.hiddenBefore[i] = hidden;
+				hidden += this.ends[i] - this.starts[i] + 1;
+			}
+			this.valid = true;
+		}
+		return this;
+	}
+
+}
@@ -0,0 +1,680 @@
+/*
+ * 10/17/2026
+ *
+ * LineIndex.java - The line structure of an RDocument, stored as an array of
+ * line start offsets.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+
+import javax.swing.event.DocumentEvent;
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
+import javax.swing.text.Segment;
+import javax.swing.text.SimpleAttributeSet;
+import javax.swing.undo.AbstractUndoableEdit;
+import javax.swing.undo.CannotRedoException;
+import javax.swing.undo.CannotUndoException;
+
+/**
+ * The root element of an {@link RDocument}. Rather than keeping an
+ * <code>Element</code> and two <code>Position</code>s per line, as
+ * <code>PlainDocument</code> does, this keeps the start offset of each line in
+ * an <code>int[]</code>. Finding the start of a line is a single array lookup,
+ * and finding the line containing an offset is a binary search.
+ * <p>
+ *
+ * The array has a gap at the most recently edited line, and the offsets after
+ * the gap are stored relative to a shared delta, so typing in a line only
+ * updates that delta rather than every line below it.
+ * <p>
+ *
+ * Line elements are created when they are asked for. Elements that are still
+ * referenced are kept track of (weakly), so the same line returns the same
+ * element, and elements held onto by views keep following their line as text
+ * is inserted and removed above them.
+ *
+ * @version 1.0
+ */
+final class LineIndex implements Element, Serializable {
+
+	/**
+	 * Updates the index for an insertion or removal, and reverses that when
+	 * undone. One of these is added to every document event, whether or not any
+	 * lines were added or removed.
+	 */
+	private class IndexEdit extends AbstractUndoableEdit {
+
+		private static final long serialVersionUID = 1L;
+
+		private final boolean insert;
+		private final int length;
+		private final int lines;
+		private final int offset;
+
+		IndexEdit(final boolean insert, final int offset, final int length, final int lines) {
+			this.insert = insert;
+			this.offset = offset;
+			this.length = length;
+			this.lines = lines;
+		}
+
+		void apply(final boolean insert) {
+			if (insert)
+				LineIndex.this.insert(this);
+			else
+				LineIndex.this.remove(this);
+		}
+
+		@Override
+		public void redo() throws CannotRedoException {
+			super.redo();
+			this.apply(this.insert);
+		}
+
+		@Override
+		public void undo() throws CannotUndoException {
+			super.undo();
+			this.apply(!this.insert);
+		}
+
+	}
+
+	/**
+	 * A single line.
+	 */
+	private final class LineElement implements Element {
+
+		private int end;
+		private final LineRef ref;
+		private int start;
+
+		/**
+		 * Creates an element for a line that is no longer in the document.
+		 */
+		private LineElement(final int start, final int end) {
+			this.ref = null;
+			this.start = start;
+			this.end = end;
+		}
+
+		/**
+		 * Creates an element for a line in the document.
+		 */
+		private LineElement(final int line, final ReferenceQueue<LineElement> queue) {
+			this.ref = new LineRef(this, line, queue);
+		}
+
+		@Override
+		public AttributeSet getAttributes() {
+			return SimpleAttributeSet.EMPTY;
+		}
+
+		@Override
+		public Document getDocument() {
+			return LineIndex.this.doc;
+		}
+
+		@Override
+		public Element getElement(final int index) {
+			return null;
+		}
+
+		@Override
+		public int getElementCount() {
+			return 0;
+		}
+
+		@Override
+		public int getElementIndex(final int offset) {
+			return -1;
+		}
+
+		@Override
+		public int getEndOffset() {
+			return this.isRemoved() ? this.end : LineIndex.this.getLineEndOffset(this.ref.line);
+		}
+
+		@Override
+		public String getName() {
+			return AbstractDocument.ContentElementName;
+		}
+
+		@Override
+		public Element getParentElement() {
+			return LineIndex.this;
+		}
+
+		@Override
+		public int getStartOffset() {
+			return this.isRemoved() ? this.start : LineIndex.this.getLineStartOffset(this.ref.line);
+		}
+
+		@Override
+		public boolean isLeaf() {
+			return true;
+		}
+
+		private boolean isRemoved() {
+			return this.ref == null || this.ref.line < 0;
+		}
+
+		@Override
+		public String toString() {
+			return "[LineElement: " + this.getStartOffset() + "," + this.getEndOffset() + "]";
+		}
+
+	}
+
+	/**
+	 * An {@link IndexEdit} that also added or removed lines. This is the
+	 * <code>ElementChange</code> listeners see for the root element.
+	 */
+	private final class LineChange extends IndexEdit implements DocumentEvent.ElementChange {
+
+		private static final long serialVersionUID = 1L;
+
+		private int added;
+		private int[] detachedLines;
+		private LineElement[] detached;
+		private int index;
+		private int removed;
+
+		LineChange(final boolean insert, final int offset, final int length, final int lines) {
+			super(insert, offset, length, lines);
+		}
+
+		/**
+		 * Returns the lines now in the changed range. These are looked up when
+		 * this is called, so it should be called while handling the event.
+		 */
+		@Override
+		public Element[] getChildrenAdded() {
+			final Element[] elems = new Element[this.added];
+			for (int i = 0; i < elems.length; i++)
+				elems[i] = LineIndex.this.getElement(this.index + i);
+			return elems;
+		}
+
+		/**
+		 * Returns the lines that were replaced. Elements that had been handed
+		 * out are returned as-is (with their offsets at the time of the change);
+		 * the others are created empty, at the offset of the change.
+		 */
+		@Override
+		public Element[] getChildrenRemoved() {
+			final Element[] elems = new Element[this.removed];
+			if (this.detached != null)
+				for (int i = 0; i < this.detached.length; i++)
+					elems[this.detachedLines[i]] = this.detached[i];
+			for (int i = 0; i < elems.length; i++)
+				if (elems[i] == null)
+					elems[i] = new LineElement(super.offset, super.offset);
+			return elems;
+		}
+
+		@Override
+		public Element getElement() {
+			return LineIndex.this;
+		}
+
+		@Override
+		public int getIndex() {
+			return this.index;
+		}
+
+	}
+
+	/**
+	 * Weak reference to a handed-out line element, along with the line it's for
+	 * (<code>-1</code> once the line has been removed).
+	 */
+	private static final class LineRef extends WeakReference<LineElement> {
+
+		private int line;
+
+		private LineRef(final LineElement elem, final int line, final ReferenceQueue<LineElement> queue) {
+			super(elem, queue);
+			this.line = line;
+		}
+
+	}
+
+	/**
+	 * Minimum number of unreferenced line elements before we bother compacting.
+	 */
+	private static final int MIN_COMPACT = 256;
+
+	/**
+	 * Size of the buffer used when scanning inserted text for newlines.
+	 */
+	private static final int SCAN_CHUNK = 8192;
+
+	private static final long serialVersionUID = 1L;
+
+	private final RContent content;
+
+	private transient int deadCount;
+
+	private final Document doc;
+
+	/**
+	 * Index of the first line after the gap in <code>starts</code>.
+	 */
+	private int gapEnd;
+
+	/**
+	 * Index of the first free slot in <code>starts</code>.
+	 */
+	private int gapStart;
+
+	private transient ReferenceQueue<LineElement> queue;
+
+	/**
+	 * The line elements handed out, sorted by line.
+	 */
+	private transient ArrayList<LineRef> refs;
+
+	private transient Segment seg;
+
+	/**
+	 * Delta applied to all line starts after the gap.
+	 */
+	private int shift;
+
+	private int[] starts;
+
+	/**
+	 * Constructor. The content should be empty.
+	 *
+	 * @param doc
+	 *            The document whose lines are being indexed.
+	 * @param content
+	 *            The document's content.
+	 */
+	LineIndex(final Document doc, final RContent content) {
+		this.doc = doc;
+		this.content = content;
+		this.starts = new int[16];
+		this.gapStart = 1;
+		this.gapEnd = this.starts.length;
+		this.init();
+	}
+
+	/**
+	 * Compacts the list of line elements if enough of them have been garbage
+	 * collected. The caller must synchronize on <code>refs</code>.
+	 */
+	private void compact() {
+		while (this.queue.poll() != null)
+			this.deadCount++;
+		final int size = this.refs.size();
+		if (this.deadCount < LineIndex.MIN_COMPACT || this.deadCount < size / 2)
+			return;
+		int j = 0;
+		for (int i = 0; i < size; i++) {
+			final LineRef ref = this.refs.get(i);
+			if (ref.get() != null)
+				this.refs.set(j++, ref);
+		}
+		this.refs.subList(j, size).clear();
+		this.deadCount = 0;
+	}
+
+	/**
+	 * Returns the number of newlines in a range of the content.
+	 */
+	private int countNewlines(final int offset, final int length) {
+		int count = 0;
+		int pos = offset;
+		final int end = offset + length;
+		try {
+			while (pos < end) {
+				this.content.getChars(pos, Math.min(end - pos, LineIndex.SCAN_CHUNK), this.seg);
+				final char[] array = this.seg.array;
+				final int last = this.seg.offset + this.seg.count;
+				for (int i = this.seg.offset; i < last; i++)
+					if (array[i] == '\n')
+						count++;
+				pos += this.seg.count;
+			}
+		} catch (final BadLocationException ble) {
+			throw new InternalError(ble.toString());
+		}
+		return count;
+	}
+
+	/**
+	 * Makes sure the gap can hold the specified number of lines.
+	 */
+	private void ensureGap(final int size) {
+		if (this.gapEnd - this.gapStart >= size)
+			return;
+		final int lineCount = this.getElementCount();
+		final int newLength = Math.max(16, (lineCount + size) * 3 / 2);
+		final int[] newStarts = new int[newLength];
+		final int tail = this.starts.length - this.gapEnd;
+		System.arraycopy(this.starts, 0, newStarts, 0, this.gapStart);
+		System.arraycopy(this.starts, this.gapEnd, newStarts, newLength - tail, tail);
+		this.starts = newStarts;
+		this.gapEnd = newLength - tail;
+	}
+
+	@Override
+	public AttributeSet getAttributes() {
+		return SimpleAttributeSet.EMPTY;
+	}
+
+	@Override
+	public Document getDocument() {
+		return this.doc;
+	}
+
+	/**
+	 * Returns the element for a line, creating it if necessary.
+	 *
+	 * @param index
+	 *            The line.
+	 * @return The element, or <code>null</code> if <code>index</code> is
+	 *         invalid.
+	 */
+	@Override
+	public Element getElement(final int index) {
+		if (index < 0 || index >= this.getElementCount())
+			return null;
+		synchronized (this.refs) {
+			this.compact();
+			final int pos = this.lowerBound(index);
+			if (pos < this.refs.size()) {
+				final LineRef ref = this.refs.get(pos);
+				if (ref.line == index) {
+					LineElement elem = ref.get();
+					if (elem == null) {
+						elem = new LineElement(index, this.queue);
+						this.refs.set(pos, elem.ref);
+					}
+					return elem;
+				}
+			}
+			final LineElement elem = new LineElement(index, this.queue);
+			this.refs.add(pos, elem.ref);
+			return elem;
+		}
+	}
+
+	@Override
+	public int getElementCount() {
+		return this.starts.length - (this.gapEnd - this.gapStart);
+	}
+
+	@Override
+	public int getElementIndex(final int offset) {
+		int low = 0;
+		int high = this.getElementCount() - 1;
+		while (low < high) {
+			final int mid = low + high + 1 >>> 1;
+			if (this.getLineStartOffset(mid) <= offset)
+				low = mid;
+			else
+				high = mid - 1;
+		}
+		return low;
+	}
+
+	@Override
+	public int getEndOffset() {
+		return this.content.length();
+	}
+
+	/**
+	 * Returns a rough estimate of the heap used by this index.
+	 *
+	 * @return The estimated footprint, in bytes.
+	 */
+	long getEstimatedFootprint() {
+		final int elements;
+		synchronized (this.refs) {
+			elements = this.refs.size();
+		}
+		return 4L * this.starts.length + 64L * elements;
+	}
+
+	/**
+	 * Returns the end offset of a line (the start of the next line).
+	 *
+	 * @param line
+	 *            The line.
+	 * @return The end offset.
+	 */
+	int getLineEndOffset(final int line) {
+		return line + 1 < this.getElementCount() ? this.getLineStartOffset(line + 1) : this.content.length();
+	}
+
+	/**
+	 * Returns the start offset of a line.
+	 *
+	 * @param line
+	 *            The line.
+	 * @return The start offset.
+	 */
+	int getLineStartOffset(final int line) {
+		return line < this.gapStart ? this.starts[line] : this.starts[line + this.gapEnd - this.gapStart] + this.shift;
+	}
+
+	@Override
+	public String getName() {
+		return AbstractDocument.ParagraphElementName;
+	}
+
+	@Override
+	public Element getParentElement() {
+		return null;
+	}
+
+	@Override
+	public int getStartOffset() {
+		return 0;
+	}
+
+	private void init() {
+		this.refs = new ArrayList<>();
+		this.queue = new ReferenceQueue<>();
+		this.seg = new Segment();
+		this.seg.setPartialReturn(true);
+	}
+
+	/**
+	 * Updates the index for text that was just inserted into the content.
+	 */
+	private void insert(final IndexEdit edit) {
+		final int line = this.getElementIndex(edit.offset);
+		if (edit.lines > 0)
+			this.replaceLines(line, 1, edit.lines + 1, (LineChange) edit);
+		this.moveGap(line + 1);
+		this.ensureGap(edit.lines);
+		int pos = edit.offset;
+		final int end = edit.offset + edit.length;
+		try {
+			while (pos < end && this.gapStart <= line + edit.lines) {
+				this.content.getChars(pos, Math.min(end - pos, LineIndex.SCAN_CHUNK), this.seg);
+				final char[] array = this.seg.array;
+				final int last = this.seg.offset + this.seg.count;
+				final int delta = pos - this.seg.offset + 1;
+				for (int i = this.seg.offset; i < last; i++)
+					if (array[i] == '\n')
+						this.starts[this.gapStart++] = i + delta;
+				pos += this.seg.count;
+			}
+		} catch (final BadLocationException ble) {
+			throw new InternalError(ble.toString());
+		}
+		this.shift += edit.length;
+	}
+
+	/**
+	 * Called when text has been inserted into the content, to update the line
+	 * starts.
+	 *
+	 * @param offset
+	 *            The offset of the insertion.
+	 * @param length
+	 *            The length of the insertion.
+	 * @return The edit to add to the document event. If lines were added, this
+	 *         is also the <code>ElementChange</code> for this element.
+	 */
+	AbstractUndoableEdit insertUpdate(final int offset, final int length) {
+		final int lines = this.countNewlines(offset, length);
+		final IndexEdit edit = lines > 0 ? new LineChange(true, offset, length, lines)
+				: new IndexEdit(true, offset, length, 0);
+		this.insert(edit);
+		return edit;
+	}
+
+	@Override
+	public boolean isLeaf() {
+		return false;
+	}
+
+	/**
+	 * Returns the index into <code>refs</code> of the first element for a line
+	 * &gt;= the specified line. The caller must synchronize on
+	 * <code>refs</code>.
+	 */
+	private int lowerBound(final int line) {
+		int low = 0;
+		int high = this.refs.size();
+		while (low < high) {
+			final int mid = low + high >>> 1;
+			if (this.refs.get(mid).line < line)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * Moves the gap so it starts just before the specified line.
+	 */
+	private void moveGap(final int line) {
+		if (line < this.gapStart) {
+			final int count = this.gapStart - line;
+			final int dest = this.gapEnd - count;
+			for (int i = count - 1; i >= 0; i--)
+				this.starts[dest + i] = this.starts[line + i] - this.shift;
+			this.gapStart = line;
+			this.gapEnd = dest;
+		} else if (line > this.gapStart) {
+			final int count = line - this.gapStart;
+			for (int i = 0; i < count; i++)
+				this.starts[this.gapStart + i] = this.starts[this.gapEnd + i] + this.shift;
+			this.gapStart = line;
+			this.gapEnd += count;
+		}
+	}
+
+	private void readObject(final ObjectInputStream in) throws ClassNotFoundException, IOException {
+		in.defaultReadObject();
+		this.init();
+	}
+
+	/**
+	 * Updates the index for text that is about to be removed from the content.
+	 */
+	private void remove(final IndexEdit edit) {
+		final int line0 = this.getElementIndex(edit.offset);
+		final int line1 = line0 + edit.lines;
+		if (edit.lines > 0)
+			this.replaceLines(line0, edit.lines + 1, 1, (LineChange) edit);
+		this.moveGap(line1 + 1);
+		this.gapStart = line0 + 1;
+		this.shift -= edit.length;
+	}
+
+	/**
+	 * Called when text is about to be removed from the content, to update the
+	 * line starts.
+	 *
+	 * @param offset
+	 *            The offset of the removal.
+	 * @param length
+	 *            The length of the removal.
+	 * @return The edit to add to the document event. If lines were removed, this
+	 *         is also the <code>ElementChange</code> for this element.
+	 */
+	AbstractUndoableEdit removeUpdate(final int offset, final int length) {
+		final int lines = this.getElementIndex(offset + length) - this.getElementIndex(offset);
+		final IndexEdit edit = lines > 0 ? new LineChange(false, offset, length, lines)
+				: new IndexEdit(false, offset, length, 0);
+		this.remove(edit);
+		return edit;
+	}
+
+	/**
+	 * Updates the handed-out line elements for lines being replaced, before the
+	 * line starts themselves are updated. Elements for the replaced lines are
+	 * detached (keeping their current offsets) and recorded in the change, and
+	 * elements for lines after them are moved.
+	 */
+	private void replaceLines(final int index, final int removed, final int added, final LineChange change) {
+		change.index = index;
+		change.removed = removed;
+		change.added = added;
+		change.detached = null;
+		change.detachedLines = null;
+		synchronized (this.refs) {
+			final int size = this.refs.size();
+			final int first = this.lowerBound(index);
+			final int delta = added - removed;
+			int detachedCount = 0;
+			int j = first;
+			for (int i = first; i < size; i++) {
+				final LineRef ref = this.refs.get(i);
+				final LineElement elem = ref.get();
+				if (elem == null)
+					continue;
+				if (ref.line < index + removed) {
+					if (change.detached == null) {
+						change.detached = new LineElement[Math.min(removed, size - i)];
+						change.detachedLines = new int[change.detached.length];
+					}
+					elem.start = this.getLineStartOffset(ref.line);
+					elem.end = this.getLineEndOffset(ref.line);
+					change.detached[detachedCount] = elem;
+					change.detachedLines[detachedCount++] = ref.line - index;
+					ref.line = -1;
+				} else {
+					ref.line += delta;
+					this.refs.set(j++, ref);
+				}
+			}
+			this.refs.subList(j, size).clear();
+			if (change.detached != null && detachedCount < change.detached.length) {
+				final LineElement[] detached = new LineElement[detachedCount];
+				final int[] detachedLines = new int[detachedCount];
+				System.arraycopy(change.detached, 0, detached, 0, detachedCount);
+				System.arraycopy(change.detachedLines, 0, detachedLines, 0, detachedCount);
+				change.detached = detached;
+				change.detachedLines = detachedLines;
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "[LineIndex: lines=" + this.getElementCount() + "]";
+	}
+
+}
@@ -26,14 +26,12 @@ import javax.swing.event.CaretEvent;
 import javax.swing.event.CaretListener;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.MouseInputListener;
-import javax.swing.text.BadLocationException;
 import javax.swing.text.Document;
 import javax.swing.text.Element;
 import javax.swing.text.View;
 
 import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
 import org.fife.ui.rsyntaxtextarea.RSyntaxUtilities;
-import org.fife.ui.rsyntaxtextarea.folding.Fold;
 import org.fife.ui.rsyntaxtextarea.folding.FoldManager;
 
 /**
@@ -56,34 +54,15 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 
 			final int dot = LineNumberList.this.textArea.getCaretPosition();
 
-			// We separate the line wrap/no line wrap cases because word wrap
-			// can make a single line from the model (document) be on multiple
-			// lines on the screen (in the view); thus, we have to enhance the
-			// logic for that case a bit - we check the actual y-coordinate of
-			// the caret when line wrap is enabled. For the no-line-wrap case,
-			// getting the line number of the caret suffices. This increases
-			// efficiency in the no-line-wrap case.
-
-			if (!LineNumberList.this.textArea.getLineWrap()) {
-				final int line = LineNumberList.this.textArea.getDocument().getDefaultRootElement()
-						.getElementIndex(dot);
-				if (LineNumberList.this.currentLine != line) {
-					LineNumberList.this.repaintLine(line);
-					LineNumberList.this.repaintLine(LineNumberList.this.currentLine);
-					LineNumberList.this.currentLine = line;
-				}
-			} else
-				try {
-					final int y = LineNumberList.this.textArea.yForLineContaining(dot);
-					if (y != LineNumberList.this.lastY) {
-						LineNumberList.this.lastY = y;
-						LineNumberList.this.currentLine = LineNumberList.this.textArea.getDocument()
-								.getDefaultRootElement().getElementIndex(dot);
-						LineNumberList.this.repaint(); // *Could* be optimized...
-					}
-				} catch (final BadLocationException ble) {
-					ble.printStackTrace();
-				}
+			// Only the rows of the old and new caret lines need repainting,
+			// even with line wrap enabled, where a line may span several rows
+			// and the caret moving between them changes nothing here.
+			final int line = LineNumberList.this.textArea.getDocument().getDefaultRootElement().getElementIndex(dot);
+			if (LineNumberList.this.currentLine != line) {
+				LineNumberList.this.repaintLine(line);
+				LineNumberList.this.repaintLine(LineNumberList.this.currentLine);
+				LineNumberList.this.currentLine = line;
+			}
 
 		}
 
@@ -92,6 +71,8 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 				// System.out.println("Installing");
 				textArea.addCaretListener(this);
 				textArea.addPropertyChangeListener(this);
+				if (textArea instanceof RSyntaxTextArea)
+					((RSyntaxTextArea) textArea).getFoldManager().addPropertyChangeListener(this);
 				this.caretUpdate(null); // Force current line highlight repaint
 				this.installed = true;
 			}
@@ -107,6 +88,14 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 					|| RTextAreaBase.CURRENT_LINE_HIGHLIGHT_COLOR_PROPERTY.equals(name))
 				LineNumberList.this.repaintLine(LineNumberList.this.currentLine);
 
+			// If the lines hidden by folds may have changed...
+			else if (FoldManager.PROPERTY_FOLDS_UPDATED.equals(name)
+					|| RSyntaxTextArea.FOLD_TOGGLED_PROPERTY.equals(name)
+					|| RSyntaxTextArea.CODE_FOLDING_PROPERTY.equals(name) || "document".equals(name)) {
+				LineNumberList.this.hiddenLines.invalidate();
+				LineNumberList.this.repaint();
+			}
+
 		}
 
 		public void uninstall(final RTextArea textArea) {
@@ -114,6 +103,8 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 				// System.out.println("Uninstalling");
 				textArea.removeCaretListener(this);
 				textArea.removePropertyChangeListener(this);
+				if (textArea instanceof RSyntaxTextArea)
+					((RSyntaxTextArea) textArea).getFoldManager().removePropertyChangeListener(this);
 				this.installed = false;
 			}
 		}
@@ -131,6 +122,16 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 	private int cellWidth; // The width used for all line number cells.
 	private int currentLine; // The last line the caret was on.
 
+	/**
+	 * The digits, pre-rendered with the font and colors last painted with.
+	 */
+	private DigitGlyphStrip digitGlyphs;
+
+	/**
+	 * The lines hidden by collapsed folds.
+	 */
+	private HiddenLineMap hiddenLines;
+
 	/**
 	 * Listens for events from the current text area.
 	 */
@@ -138,8 +139,6 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 
 	private int lastVisibleLine;// Last line index painted.
 
-	private int lastY = -1; // Used to check if caret changes lines when line wrap is enabled.
-
 	/**
 	 * The index at which line numbering should start. The default value is
 	 * <code>1</code>, but applications can change this if, for example, they are
@@ -218,6 +217,27 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 		return lastLine;
 	}
 
+	/**
+	 * Returns the digits to paint line numbers with, re-rendering them if the
+	 * font, colors or rendering hints have changed.
+	 *
+	 * @param g
+	 *            The graphics context, with the font and color to paint line
+	 *            numbers with.
+	 * @param bg
+	 *            The background color.
+	 * @return The digits, or <code>null</code> if line numbers should be drawn
+	 *         as strings.
+	 */
+	private DigitGlyphStrip getDigitGlyphs(final Graphics g, final Color bg) {
+		if (!DigitGlyphStrip.canCopyTo(g))
+			return null;
+		final Graphics2D g2d = (Graphics2D) g;
+		if (this.digitGlyphs == null || !this.digitGlyphs.isValidFor(g2d, bg, this.cellHeight))
+			this.digitGlyphs = new DigitGlyphStrip(g2d, bg, this.cellHeight);
+		return this.digitGlyphs.isUsable() ? this.digitGlyphs : null;
+	}
+
 	/**
 	 * Returns the starting line's line number. The default value is <code>1</code>.
 	 *
@@ -260,10 +280,23 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 		if (newLastLine != this.lastVisibleLine) {
 			// Adjust the amount of space the line numbers take up,
 			// if necessary.
-			if (newLastLine / 10 != this.lastVisibleLine / 10)
+			if (Integer.toString(newLastLine).length() != Integer.toString(this.lastVisibleLine).length())
 				this.updateCellWidths();
 			this.lastVisibleLine = newLastLine;
-			this.repaint();
+			this.hiddenLines.invalidate();
+			if (this.textArea.getLineWrap())
+				this.repaint();
+			else {
+				// Only the numbers from the changed line down move
+				final int line = this.textArea.getDocument().getDefaultRootElement().getElementIndex(e.getOffset());
+				final int row = this.hiddenLines.update(this.textArea).getRowForLine(line);
+				if (row == -1)
+					this.repaint();
+				else {
+					final int y = this.textArea.getInsets().top + row * this.cellHeight;
+					this.repaint(0, y, this.getWidth(), Math.max(0, this.getHeight() - y));
+				}
+			}
 		}
 	}
 
@@ -278,6 +311,7 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 		this.setLineNumberingStartIndex(1);
 
 		this.visibleRect = new Rectangle(); // Must be initialized
+		this.hiddenLines = new HiddenLineMap();
 
 		this.addMouseListener(this);
 		this.addMouseMotionListener(this);
@@ -365,9 +399,11 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 		g.setFont(this.getFont());
 		if (this.aaHints != null)
 			((Graphics2D) g).addRenderingHints(this.aaHints);
+		g.setColor(this.getForeground());
+		final DigitGlyphStrip digits = this.getDigitGlyphs(g, bg);
 
 		if (this.textArea.getLineWrap()) {
-			this.paintWrappedLineNumbers(g, this.visibleRect);
+			this.paintWrappedLineNumbers(g, this.visibleRect, digits);
 			return;
 		}
 
@@ -380,16 +416,13 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 			this.visibleRect.height -= this.textAreaInsets.top - this.visibleRect.y;
 			this.visibleRect.y = this.textAreaInsets.top;
 		}
-		int topLine = (this.visibleRect.y - this.textAreaInsets.top) / this.cellHeight;
-		final int actualTopY = topLine * this.cellHeight + this.textAreaInsets.top;
+		final int topRow = (this.visibleRect.y - this.textAreaInsets.top) / this.cellHeight;
+		final int actualTopY = topRow * this.cellHeight + this.textAreaInsets.top;
 		int y = actualTopY + this.ascent;
 
 		// Get the actual first line to paint, taking into account folding.
-		FoldManager fm = null;
-		if (this.textArea instanceof RSyntaxTextArea) {
-			fm = ((RSyntaxTextArea) this.textArea).getFoldManager();
-			topLine += fm.getHiddenLineCountAbove(topLine, true);
-		}
+		final HiddenLineMap hiddenLines = this.hiddenLines.update(this.textArea);
+		int line = hiddenLines.getLineForRow(topRow);
 		final int rhsBorderWidth = this.getRhsBorderWidth();
 
 		/*
@@ -402,55 +435,51 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 		 */
 
 		// Paint line numbers
-		g.setColor(this.getForeground());
 		final boolean ltr = this.getComponentOrientation().isLeftToRight();
-		if (ltr) {
-			final FontMetrics metrics = g.getFontMetrics();
-			final int rhs = this.getWidth() - rhsBorderWidth;
-			int line = topLine + 1;
-			while (y < this.visibleRect.y + this.visibleRect.height + this.ascent
-					&& line <= this.textArea.getLineCount()) {
-				final String number = Integer.toString(line + this.getLineNumberingStartIndex() - 1);
-				final int width = metrics.stringWidth(number);
-				g.drawString(number, rhs - width, y);
-				y += this.cellHeight;
-				if (fm != null) {
-					Fold fold = fm.getFoldForLine(line - 1);
-					// Skip to next line to paint, taking extra care for lines with
-					// block ends and begins together, e.g. "} else {"
-					while (fold != null && fold.isCollapsed()) {
-						final int hiddenLineCount = fold.getLineCount();
-						if (hiddenLineCount == 0)
-							// Fold parser identified a 0-line fold region... This
-							// is really a bug, but we'll handle it gracefully.
-							break;
-						line += hiddenLineCount;
-						fold = fm.getFoldForLine(line - 1);
-					}
-				}
-				line++;
-			}
-		} else { // rtl
-			int line = topLine + 1;
-			while (y < this.visibleRect.y + this.visibleRect.height && line < this.textArea.getLineCount()) {
-				final String number = Integer.toString(line + this.getLineNumberingStartIndex() - 1);
-				g.drawString(number, rhsBorderWidth, y);
-				y += this.cellHeight;
-				if (fm != null) {
-					Fold fold = fm.getFoldForLine(line - 1);
-					// Skip to next line to paint, taking extra care for lines with
-					// block ends and begins together, e.g. "} else {"
-					while (fold != null && fold.isCollapsed()) {
-						line += fold.getLineCount();
-						fold = fm.getFoldForLine(line);
-					}
-				}
-				line++;
-			}
+		final int x = ltr ? this.getWidth() - rhsBorderWidth : rhsBorderWidth;
+		final FontMetrics metrics = g.getFontMetrics();
+		final int lineCount = this.textArea.getLineCount();
+		final int bottom = this.visibleRect.y + this.visibleRect.height + this.ascent;
+		while (y < bottom && line < lineCount) {
+			this.paintLineNumber(g, metrics, digits, line, x, y, ltr);
+			y += this.cellHeight;
+			line = hiddenLines.getNextVisibleLine(line);
 		}
 
 	}
 
+	/**
+	 * Paints a line number.
+	 *
+	 * @param g
+	 *            The graphics context.
+	 * @param metrics
+	 *            The metrics of the line number font.
+	 * @param digits
+	 *            The digits to paint the number with, or <code>null</code> to
+	 *            draw it as a string.
+	 * @param line
+	 *            The line whose number to paint.
+	 * @param x
+	 *            The x-coordinate of the right edge of the number if
+	 *            <code>ltr</code> is <code>true</code>, otherwise of its left
+	 *            edge.
+	 * @param y
+	 *            The y-coordinate of the baseline.
+	 * @param ltr
+	 *            Whether the number is right-aligned.
+	 */
+	private void paintLineNumber(final Graphics g, final FontMetrics metrics, final DigitGlyphStrip digits,
+			final int line, final int x, final int y, final boolean ltr) {
+		final int number = line + this.getLineNumberingStartIndex();
+		if (digits != null && number >= 0)
+			digits.drawNumber(g, number, ltr ? x - digits.getWidth(number) : x, y);
+		else {
+			final String text = Integer.toString(number);
+			g.drawString(text, ltr ? x - metrics.stringWidth(text) : x, y);
+		}
+	}
+
 	/**
 	 * Paints line numbers for text areas with line wrap enabled.
 	 *
@@ -458,8 +487,11 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 	 *            The graphics context.
 	 * @param visibleRect
 	 *            The visible rectangle of these line numbers.
+	 * @param digits
+	 *            The digits to paint line numbers with, or <code>null</code> to
+	 *            draw them as strings.
 	 */
-	private void paintWrappedLineNumbers(final Graphics g, final Rectangle visibleRect) {
+	private void paintWrappedLineNumbers(final Graphics g, final Rectangle visibleRect, final DigitGlyphStrip digits) {
 
 		// The variables we use are as follows:
 		// - visibleRect is the "visible" area of the text area; e.g.
@@ -501,9 +533,7 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 		final int lineCount = root.getElementCount();
 		final int topPosition = this.textArea.viewToModel(new Point(visibleRect.x, visibleRect.y));
 		int topLine = root.getElementIndex(topPosition);
-		FoldManager fm = null;
-		if (this.textArea instanceof RSyntaxTextArea)
-			fm = ((RSyntaxTextArea) this.textArea).getFoldManager();
+		final HiddenLineMap hiddenLines = this.hiddenLines.update(this.textArea);
 
 		// Compute the y at which to begin painting text, taking into account
 		// that 1 logical line => at least 1 physical line, so it may be that
@@ -513,12 +543,8 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 		Rectangle r = AbstractGutterComponent.getChildViewBounds(v, topLine, visibleEditorRect);
 		int y = r.y;
 		final int rhsBorderWidth = this.getRhsBorderWidth();
-		int rhs;
 		final boolean ltr = this.getComponentOrientation().isLeftToRight();
-		if (ltr)
-			rhs = width - rhsBorderWidth;
-		else
-			rhs = rhsBorderWidth;
+		final int x = ltr ? width - rhsBorderWidth : rhsBorderWidth;
 		final int visibleBottom = visibleRect.y + visibleRect.height;
 		final FontMetrics metrics = g.getFontMetrics();
 
@@ -538,15 +564,7 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 			 */
 
 			// Paint the line number.
-			final int index = topLine + 1 + this.getLineNumberingStartIndex() - 1;
-			final String number = Integer.toString(index);
-			if (ltr) {
-				final int strWidth = metrics.stringWidth(number);
-				g.drawString(number, rhs - strWidth, y + this.ascent);
-			} else {
-				final int x = rhsBorderWidth;
-				g.drawString(number, x, y + this.ascent);
-			}
+			this.paintLineNumber(g, metrics, digits, topLine, x, y + this.ascent, ltr);
 
 			// The next possible y-coordinate is just after the last line
 			// painted.
@@ -554,12 +572,7 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 
 			// Update topLine (we're actually using it for our "current line"
 			// variable now).
-			if (fm != null) {
-				final Fold fold = fm.getFoldForLine(topLine);
-				if (fold != null && fold.isCollapsed())
-					topLine += fold.getCollapsedLineCount();
-			}
-			topLine++;
+			topLine = hiddenLines.getNextVisibleLine(topLine);
 			if (topLine >= lineCount)
 				break;
 
@@ -584,9 +597,21 @@ public class LineNumberList extends AbstractGutterComponent implements MouseInpu
 	 *            The line to repaint.
 	 */
 	private void repaintLine(final int line) {
-		int y = this.textArea.getInsets().top;
-		y += line * this.cellHeight;
-		this.repaint(0, y, this.cellWidth, this.cellHeight);
+		if (this.textArea.getLineWrap()) {
+			final RTextAreaUI ui = (RTextAreaUI) this.textArea.getUI();
+			final View v = ui.getRootView(this.textArea).getView(0);
+			final Rectangle visibleEditorRect = ui.getVisibleEditorRect();
+			// The view may not have caught up with a document change yet
+			if (visibleEditorRect != null && line < v.getViewCount()) {
+				final Rectangle r = AbstractGutterComponent.getChildViewBounds(v, line, visibleEditorRect);
+				this.repaint(0, r.y, this.cellWidth, r.height);
+			}
+		} else {
+			final int row = this.hiddenLines.update(this.textArea).getRowForLine(line);
+			if (row != -1)
+				this.repaint(0, this.textArea.getInsets().top + row * this.cellHeight, this.cellWidth,
+						this.cellHeight);
+		}
 	}
 
 	/**
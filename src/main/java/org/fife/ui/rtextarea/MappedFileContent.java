@@ -0,0 +1,743 @@
+/*
+ * 10/17/2026
+ *
+ * MappedFileContent.java - Read-only document content backed by a
+ * memory-mapped file.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+import javax.swing.undo.UndoableEdit;
+
+/**
+ * Read-only content for viewing files too large to load into the heap. The file
+ * is memory-mapped, and characters are decoded lazily, one page at a time, as
+ * they are requested. Only a handful of decoded pages are kept around, so heap
+ * usage stays roughly constant whatever the size of the file.
+ * <p>
+ *
+ * When created, the file is scanned once to find the character offset of each
+ * page and of every {@link #LINE_INTERVAL}'th line. This is a sequential pass
+ * over the mapped file, so instances should be created off the EDT. Other
+ * lines are found by scanning forward from the nearest indexed one.
+ * <p>
+ *
+ * Only UTF-8 (with or without a BOM) and single-byte, ASCII-compatible
+ * encodings are supported, since page boundaries must be found without
+ * decoding everything before them. Carriage returns are shown as spaces, as
+ * line breaks are always a single <code>'\n'</code> in a document. Like all
+ * Swing documents, the file may not contain more than
+ * <code>Integer.MAX_VALUE</code> characters.
+ * <p>
+ *
+ * Attempts to modify this content throw a <code>BadLocationException</code>.
+ *
+ * @version 1.0
+ */
+public class MappedFileContent implements RContent {
+
+	/**
+	 * A decoded page. Immutable once created, so it can be shared by threads
+	 * holding the document's read lock.
+	 */
+	private static final class Page {
+
+		private final char[] chars;
+		private final int start;
+
+		private Page(final int start, final char[] chars) {
+			this.start = start;
+			this.chars = chars;
+		}
+
+		private boolean contains(final int offset) {
+			return offset >= this.start && offset < this.start + this.chars.length;
+		}
+
+	}
+
+	/**
+	 * A position in this content. Since the content never changes, positions
+	 * never move.
+	 */
+	private static final class FixedPosition implements Position {
+
+		private final int offset;
+
+		private FixedPosition(final int offset) {
+			this.offset = offset;
+		}
+
+		@Override
+		public int getOffset() {
+			return this.offset;
+		}
+
+	}
+
+	/**
+	 * The last line looked up, and where it starts. Lines are usually requested
+	 * in order, so this saves scanning from the nearest indexed line each time.
+	 */
+	private static final class LineCursor {
+
+		private final int line;
+		private final int start;
+
+		private LineCursor(final int line, final int start) {
+			this.line = line;
+			this.start = start;
+		}
+
+	}
+
+	/**
+	 * Number of decoded pages to keep.
+	 */
+	private static final int CACHED_PAGES = 8;
+
+	/**
+	 * Every <code>LINE_INTERVAL</code>'th line's start offset is indexed.
+	 */
+	public static final int LINE_INTERVAL = 256;
+
+	/**
+	 * Size of a page, in bytes.
+	 */
+	private static final int PAGE_SIZE = 64 * 1024;
+
+	/**
+	 * Size of a single mapping. This is a multiple of the page size, so pages
+	 * only straddle mappings by the few bytes of a split UTF-8 sequence.
+	 */
+	private static final int REGION_SIZE = 1 << 30;
+
+	private static final byte[] UTF8_BOM = { (byte) 0xef, (byte) 0xbb, (byte) 0xbf };
+
+	/**
+	 * Offset of the first byte after any BOM.
+	 */
+	private final long byteStart;
+
+	private final Page[] cache;
+
+	private int cacheNext;
+
+	private final Charset charset;
+
+	/**
+	 * Decoding table for single-byte charsets, or <code>null</code> for UTF-8.
+	 */
+	private final char[] decodeTable;
+
+	private final long fileLength;
+
+	private volatile Page lastPage;
+
+	private volatile LineCursor lineCursor;
+
+	private int lineCount;
+
+	/**
+	 * Start offset of every <code>LINE_INTERVAL</code>'th line.
+	 */
+	private int[] lineIndex;
+
+	private int longestLine;
+
+	private String lineSeparator;
+
+	/**
+	 * Character offset of the start of each page, plus the total number of
+	 * characters.
+	 */
+	private int[] pageStarts;
+
+	private final MappedByteBuffer[] regions;
+
+	/**
+	 * Number of characters in the file, not counting the implied trailing
+	 * newline.
+	 */
+	private int textLength;
+
+	/**
+	 * Maps and indexes a file.
+	 *
+	 * @param file
+	 *            The file to map.
+	 * @param charset
+	 *            The encoding of the file if it has no BOM. If this is
+	 *            <code>null</code>, UTF-8 is assumed.
+	 * @throws IOException
+	 *             If an IO error occurs, if the file is too large, or if its
+	 *             encoding is not supported.
+	 */
+	public MappedFileContent(final File file, final Charset charset) throws IOException {
+
+		final RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			final FileChannel channel = raf.getChannel();
+			this.fileLength = channel.size();
+			final int count = (int) ((this.fileLength + MappedFileContent.REGION_SIZE - 1)
+					/ MappedFileContent.REGION_SIZE);
+			this.regions = new MappedByteBuffer[count];
+			for (int i = 0; i < count; i++) {
+				final long pos = (long) i * MappedFileContent.REGION_SIZE;
+				final long size = Math.min(MappedFileContent.REGION_SIZE, this.fileLength - pos);
+				this.regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, pos, size);
+			}
+		} finally {
+			raf.close(); // Mappings stay valid after the channel is closed
+		}
+
+		final byte[] bom = new byte[3];
+		this.read(0, bom, 0, (int) Math.min(3, this.fileLength));
+		if (this.fileLength >= 3 && bom[0] == MappedFileContent.UTF8_BOM[0] && bom[1] == MappedFileContent.UTF8_BOM[1]
+				&& bom[2] == MappedFileContent.UTF8_BOM[2]) {
+			this.byteStart = 3;
+			this.charset = StandardCharsets.UTF_8;
+		} else {
+			if (this.fileLength >= 2 && (bom[0] == (byte) 0xfe && bom[1] == (byte) 0xff
+					|| bom[0] == (byte) 0xff && bom[1] == (byte) 0xfe))
+				throw new IOException("UTF-16 files cannot be memory-mapped");
+			this.byteStart = 0;
+			this.charset = charset != null ? charset : StandardCharsets.UTF_8;
+		}
+		this.decodeTable = MappedFileContent.createDecodeTable(this.charset);
+		this.cache = new Page[MappedFileContent.CACHED_PAGES];
+
+		this.index();
+
+	}
+
+	/**
+	 * Returns a table mapping each byte to its character, or <code>null</code>
+	 * if the charset is UTF-8.
+	 *
+	 * @throws IOException
+	 *             If the charset is not supported.
+	 */
+	private static char[] createDecodeTable(final Charset charset) throws IOException {
+		if (StandardCharsets.UTF_8.equals(charset))
+			return null;
+		if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1)
+			throw new IOException("Encoding cannot be memory-mapped: " + charset.name());
+		final byte[] bytes = new byte[256];
+		for (int i = 0; i < 256; i++)
+			bytes[i] = (byte) i;
+		final CharsetDecoder decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		final CharBuffer cb = decoder.decode(ByteBuffer.wrap(bytes));
+		if (cb.remaining() != 256 || cb.get('\n') != '\n')
+			throw new IOException("Encoding cannot be memory-mapped: " + charset.name());
+		final char[] table = new char[256];
+		cb.get(table);
+		table['\r'] = ' ';
+		return table;
+	}
+
+	/**
+	 * Returns whether a byte is a UTF-8 continuation byte.
+	 */
+	private static boolean isContinuation(final int b) {
+		return (b & 0xc0) == 0x80;
+	}
+
+	/**
+	 * Returns whether files without a BOM can be mapped with a charset.
+	 *
+	 * @param charset
+	 *            The charset.
+	 * @return Whether the charset is UTF-8 or a supported single-byte charset.
+	 * @see #MappedFileContent(File, Charset)
+	 */
+	public static boolean isSupported(final Charset charset) {
+		try {
+			MappedFileContent.createDecodeTable(charset);
+			return true;
+		} catch (final IOException ioe) {
+			return false;
+		}
+	}
+
+	@Override
+	public char charAt(final int offset) throws BadLocationException {
+		if (offset < 0 || offset > this.textLength)
+			throw new BadLocationException("Invalid offset", offset);
+		if (offset == this.textLength)
+			return '\n';
+		final Page page = this.getPage(offset);
+		return page.chars[offset - page.start];
+	}
+
+	/**
+	 * Returns a position for an offset. Since this content never changes, the
+	 * position never moves.
+	 */
+	@Override
+	public Position createPosition(final int offset) throws BadLocationException {
+		return new FixedPosition(offset);
+	}
+
+	/**
+	 * Decodes a page.
+	 */
+	private Page decode(final int index) {
+		final long byteStart = this.getPageByteStart(index);
+		final int byteCount = (int) (this.getPageByteStart(index + 1) - byteStart);
+		final byte[] bytes = new byte[byteCount];
+		this.read(byteStart, bytes, 0, byteCount);
+		final char[] chars = new char[this.pageStarts[index + 1] - this.pageStarts[index]];
+		if (this.decodeTable != null)
+			for (int i = 0; i < byteCount; i++)
+				chars[i] = this.decodeTable[bytes[i] & 0xff];
+		else
+			MappedFileContent.decodeUTF8(bytes, chars);
+		return new Page(this.pageStarts[index], chars);
+	}
+
+	/**
+	 * Decodes UTF-8. A "sequence" is any byte plus the continuation bytes
+	 * following it; malformed sequences become <code>U+FFFD</code>. Sequences
+	 * starting with <code>0xF0</code>-<code>0xF4</code> always produce two
+	 * chars, so character counts can be known from the lead bytes alone.
+	 */
+	private static void decodeUTF8(final byte[] bytes, final char[] chars) {
+		int j = 0;
+		int i = 0;
+		while (i < bytes.length) {
+			final int b = bytes[i++] & 0xff;
+			int end = i;
+			while (end < bytes.length && MappedFileContent.isContinuation(bytes[end]))
+				end++;
+			final int extra = end - i;
+			int cp = -1;
+			if (b < 0x80 && extra == 0)
+				cp = b == '\r' ? ' ' : b;
+			else if (b >= 0xc2 && b <= 0xdf && extra == 1)
+				cp = (b & 0x1f) << 6 | bytes[i] & 0x3f;
+			else if (b >= 0xe0 && b <= 0xef && extra == 2) {
+				cp = (b & 0x0f) << 12 | (bytes[i] & 0x3f) << 6 | bytes[i + 1] & 0x3f;
+				if (cp < 0x800 || cp >= 0xd800 && cp <= 0xdfff)
+					cp = -1;
+			} else if (b >= 0xf0 && b <= 0xf4 && extra == 3) {
+				cp = (b & 0x07) << 18 | (bytes[i] & 0x3f) << 12 | (bytes[i + 1] & 0x3f) << 6 | bytes[i + 2] & 0x3f;
+				if (cp < 0x10000 || cp > 0x10ffff)
+					cp = -1;
+			}
+			if (b >= 0xf0 && b <= 0xf4) {
+				chars[j++] = cp >= 0 ? Character.highSurrogate(cp) : '\ufffd';
+				chars[j++] = cp >= 0 ? Character.lowSurrogate(cp) : '\ufffd';
+			} else
+				chars[j++] = cp >= 0 ? (char) cp : '\ufffd';
+			i = end;
+		}
+	}
+
+	@Override
+	public void getChars(int where, int len, final Segment txt) throws BadLocationException {
+		if (where < 0 || len < 0 || where + len > this.length())
+			throw new BadLocationException("Invalid range", where + len);
+		if (len == 0) {
+			txt.array = new char[0];
+			txt.offset = txt.count = 0;
+			return;
+		}
+		final Page page = where < this.textLength ? this.getPage(where) : null;
+		if (page != null && where + len <= page.start + page.chars.length) {
+			// Entirely within one page, no copy needed
+			txt.array = page.chars;
+			txt.offset = where - page.start;
+			txt.count = len;
+			return;
+		}
+		if (page != null && txt.isPartialReturn()) {
+			txt.array = page.chars;
+			txt.offset = where - page.start;
+			txt.count = page.chars.length - txt.offset;
+			return;
+		}
+		final char[] chars = new char[len];
+		int pos = 0;
+		while (len > 0) {
+			if (where == this.textLength) { // Implied newline
+				chars[pos] = '\n';
+				break;
+			}
+			final Page p = this.getPage(where);
+			final int count = Math.min(len, p.start + p.chars.length - where);
+			System.arraycopy(p.chars, where - p.start, chars, pos, count);
+			pos += count;
+			where += count;
+			len -= count;
+		}
+		txt.array = chars;
+		txt.offset = 0;
+		txt.count = chars.length;
+	}
+
+	/**
+	 * Returns the charset the file is decoded with.
+	 *
+	 * @return The charset.
+	 */
+	public Charset getCharset() {
+		return this.charset;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * For this class, that is the line and page indexes and the decoded pages
+	 * currently cached. The mapped file itself is not on the heap.
+	 */
+	@Override
+	public long getEstimatedFootprint() {
+		long total = 4L * (this.pageStarts.length + this.lineIndex.length);
+		for (final Page page : this.cache)
+			if (page != null)
+				total += 2L * page.chars.length;
+		return total;
+	}
+
+	/**
+	 * Returns the size of the mapped file, in bytes.
+	 *
+	 * @return The size of the file.
+	 */
+	public long getFileLength() {
+		return this.fileLength;
+	}
+
+	/**
+	 * Returns the number of lines in the file.
+	 *
+	 * @return The line count.
+	 */
+	public int getLineCount() {
+		return this.lineCount;
+	}
+
+	/**
+	 * Returns the offset just past the end of a line, including its newline.
+	 *
+	 * @param line
+	 *            The line.
+	 * @return The end offset of the line.
+	 */
+	public int getLineEndOffset(final int line) {
+		return this.indexOfNewline(this.getLineStartOffset(line)) + 1;
+	}
+
+	/**
+	 * Returns the line containing an offset.
+	 *
+	 * @param offset
+	 *            The offset.
+	 * @return The line containing the offset.
+	 */
+	public int getLineOfOffset(final int offset) {
+		int line;
+		int start;
+		final LineCursor cursor = this.lineCursor;
+		int index = this.searchLineIndex(offset);
+		if (cursor != null && cursor.start <= offset && cursor.line >= index * MappedFileContent.LINE_INTERVAL) {
+			line = cursor.line;
+			start = cursor.start;
+		} else {
+			line = index * MappedFileContent.LINE_INTERVAL;
+			start = this.lineIndex[index];
+		}
+		while (true) {
+			final int nl = this.indexOfNewline(start);
+			if (offset <= nl || line == this.lineCount - 1)
+				break;
+			start = nl + 1;
+			line++;
+		}
+		this.lineCursor = new LineCursor(line, start);
+		return line;
+	}
+
+	/**
+	 * Returns the line separator used by the file.
+	 *
+	 * @return The line separator, either <code>"\n"</code> or
+	 *         <code>"\r\n"</code>.
+	 */
+	public String getLineSeparator() {
+		return this.lineSeparator;
+	}
+
+	/**
+	 * Returns the start offset of a line.
+	 *
+	 * @param line
+	 *            The line.
+	 * @return The start offset of the line.
+	 */
+	public int getLineStartOffset(final int line) {
+		if (line < 0 || line >= this.lineCount)
+			throw new IndexOutOfBoundsException("Invalid line: " + line);
+		final LineCursor cursor = this.lineCursor;
+		final int index = line / MappedFileContent.LINE_INTERVAL;
+		int start;
+		int current;
+		if (cursor != null && cursor.line <= line && cursor.line >= index * MappedFileContent.LINE_INTERVAL) {
+			current = cursor.line;
+			start = cursor.start;
+		} else {
+			current = index * MappedFileContent.LINE_INTERVAL;
+			start = this.lineIndex[index];
+		}
+		while (current < line) {
+			start = this.indexOfNewline(start) + 1;
+			current++;
+		}
+		this.lineCursor = new LineCursor(line, start);
+		return start;
+	}
+
+	/**
+	 * Returns the line with the most characters. This is a cheap stand-in for
+	 * the widest line, which would need every line to be measured.
+	 *
+	 * @return The longest line.
+	 */
+	public int getLongestLine() {
+		return this.longestLine;
+	}
+
+	/**
+	 * Returns a decoded page containing an offset.
+	 */
+	private Page getPage(final int offset) {
+		final Page last = this.lastPage;
+		if (last != null && last.contains(offset))
+			return last;
+		synchronized (this.cache) {
+			for (final Page page : this.cache)
+				if (page != null && page.contains(offset)) {
+					this.lastPage = page;
+					return page;
+				}
+			final Page page = this.decode(this.searchPage(offset));
+			this.cache[this.cacheNext] = page;
+			this.cacheNext = (this.cacheNext + 1) % this.cache.length;
+			this.lastPage = page;
+			return page;
+		}
+	}
+
+	/**
+	 * Returns the byte offset of the first character of a page. For UTF-8,
+	 * this skips up to three continuation bytes belonging to the previous page's
+	 * last character.
+	 */
+	private long getPageByteStart(final int index) {
+		if (index == 0)
+			return this.byteStart;
+		long pos = (long) index * MappedFileContent.PAGE_SIZE;
+		if (pos >= this.fileLength)
+			return this.fileLength;
+		if (this.decodeTable == null) {
+			final byte[] b = new byte[4];
+			final int n = (int) Math.min(4, this.fileLength - pos);
+			this.read(pos, b, 0, n);
+			for (int i = 0; i < n && i < 3 && MappedFileContent.isContinuation(b[i]); i++)
+				pos++;
+		}
+		return pos;
+	}
+
+	@Override
+	public String getString(final int where, final int len) throws BadLocationException {
+		final Segment s = new Segment();
+		this.getChars(where, len, s);
+		return new String(s.array, s.offset, s.count);
+	}
+
+	/**
+	 * Returns the offset of the next newline at or after an offset. The implied
+	 * newline at the end of the content is always found.
+	 *
+	 * @param offset
+	 *            The offset to start at.
+	 * @return The offset of the newline.
+	 */
+	public int indexOfNewline(int offset) {
+		while (offset < this.textLength) {
+			final Page page = this.getPage(offset);
+			final char[] chars = page.chars;
+			for (int i = offset - page.start; i < chars.length; i++)
+				if (chars[i] == '\n')
+					return page.start + i;
+			offset = page.start + chars.length;
+		}
+		return this.textLength;
+	}
+
+	/**
+	 * Scans the file, computing the page and line indexes.
+	 */
+	private void index() throws IOException {
+
+		final int pageCount = (int) ((this.fileLength + MappedFileContent.PAGE_SIZE - 1) / MappedFileContent.PAGE_SIZE);
+		this.pageStarts = new int[pageCount + 1];
+		int[] lines = new int[64];
+		int lineCount = 1;
+		int longestStart = 0;
+		int longestLength = -1;
+		int lineStart = 0;
+		long chars = 0;
+		int prev = -1;
+		this.lineSeparator = "\n";
+		final byte[] buf = new byte[MappedFileContent.PAGE_SIZE + 3];
+
+		for (int p = 0; p < pageCount; p++) {
+			this.pageStarts[p] = (int) chars;
+			final long start = this.getPageByteStart(p);
+			final int n = (int) (this.getPageByteStart(p + 1) - start);
+			this.read(start, buf, 0, n);
+			for (int i = 0; i < n; i++) {
+				final int b = buf[i] & 0xff;
+				if (this.decodeTable == null) {
+					if (!MappedFileContent.isContinuation(b) || i == 0)
+						chars++;
+					if (b >= 0xf0 && b <= 0xf4)
+						chars++;
+				} else
+					chars++;
+				if (b == '\n') {
+					if (lineCount == 1 && prev == '\r')
+						this.lineSeparator = "\r\n";
+					if (chars - 1 - lineStart > longestLength) {
+						longestLength = (int) (chars - 1 - lineStart);
+						longestStart = lineCount - 1;
+					}
+					lineStart = (int) chars;
+					if (lineCount % MappedFileContent.LINE_INTERVAL == 0) {
+						final int index = lineCount / MappedFileContent.LINE_INTERVAL;
+						if (index == lines.length)
+							lines = Arrays.copyOf(lines, lines.length * 2);
+						lines[index] = lineStart;
+					}
+					lineCount++;
+				}
+				prev = b;
+			}
+			if (chars >= Integer.MAX_VALUE)
+				throw new IOException("File has too many characters to display");
+		}
+
+		this.textLength = (int) chars;
+		this.pageStarts[pageCount] = this.textLength;
+		if (this.textLength - lineStart > longestLength)
+			longestStart = lineCount - 1;
+		this.lineCount = lineCount;
+		this.lineIndex = Arrays.copyOf(lines, (lineCount - 1) / MappedFileContent.LINE_INTERVAL + 1);
+		this.longestLine = longestStart;
+
+	}
+
+	/**
+	 * Always throws an exception; this content is read-only.
+	 */
+	@Override
+	public UndoableEdit insertString(final int where, final String str) throws BadLocationException {
+		throw new BadLocationException("Content is read-only", where);
+	}
+
+	@Override
+	public int length() {
+		return this.textLength + 1;
+	}
+
+	/**
+	 * Reads bytes from the mapped file, crossing mappings if necessary.
+	 */
+	private void read(long pos, final byte[] dest, int off, int len) {
+		while (len > 0) {
+			final ByteBuffer region = this.regions[(int) (pos / MappedFileContent.REGION_SIZE)].duplicate();
+			region.position((int) (pos % MappedFileContent.REGION_SIZE));
+			final int count = Math.min(len, region.remaining());
+			region.get(dest, off, count);
+			pos += count;
+			off += count;
+			len -= count;
+		}
+	}
+
+	/**
+	 * Always throws an exception; this content is read-only.
+	 */
+	@Override
+	public UndoableEdit remove(final int where, final int nitems) throws BadLocationException {
+		throw new BadLocationException("Content is read-only", where);
+	}
+
+	/**
+	 * Returns the index of the last indexed line starting at or before an
+	 * offset.
+	 */
+	private int searchLineIndex(final int offset) {
+		int low = 0;
+		int high = this.lineIndex.length - 1;
+		while (low < high) {
+			final int mid = low + high + 1 >>> 1;
+			if (this.lineIndex[mid] <= offset)
+				low = mid;
+			else
+				high = mid - 1;
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the page containing an offset.
+	 */
+	private int searchPage(final int offset) {
+		int low = 0;
+		int high = this.pageStarts.length - 2;
+		while (low < high) {
+			final int mid = low + high + 1 >>> 1;
+			if (this.pageStarts[mid] <= offset)
+				low = mid;
+			else
+				high = mid - 1;
+		}
+		// Skip empty pages (only possible at the end of the file)
+		while (this.pageStarts[low + 1] <= offset)
+			low++;
+		return low;
+	}
+
+	/**
+	 * Returns this content; as it never changes, it is its own snapshot.
+	 */
+	@Override
+	public RContent snapshot() {
+		return this;
+	}
+
+}
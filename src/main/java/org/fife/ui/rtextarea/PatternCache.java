@@ -0,0 +1,193 @@
+/*
+ * 10/17/2026
+ *
+ * PatternCache.java - A cache of compiled regular expressions.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A bounded, least-recently-used cache of compiled regular expressions, shared
+ * by everything that searches with them: {@link SearchEngine}, the search
+ * dialogs and tool bars, and Find in Files. Pressing "Find Next" repeatedly,
+ * or validating a search field as the user types, then compiles each pattern
+ * only once.
+ * <p>
+ *
+ * Patterns are keyed by their text and flags, so callers should build their
+ * flags with
+ * {@link org.fife.ui.rsyntaxtextarea.RSyntaxUtilities#getPatternFlags(boolean, int)}
+ * the same way to share entries. Invalid patterns are cached too, so each
+ * lookup of one throws a new <code>PatternSyntaxException</code> without
+ * compiling it again.
+ * <p>
+ *
+ * This class is thread-safe.
+ *
+ * @version 1.0
+ */
+public final class PatternCache {
+
+	/**
+	 * The most patterns kept.
+	 */
+	public static final int MAX_SIZE = 64;
+
+	/**
+	 * Compiled patterns, or the <code>PatternSyntaxException</code>s thrown
+	 * compiling them, in access order.
+	 */
+	private static final Map<Key, Object> CACHE = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Key, Object> eldest) {
+			return this.size() > PatternCache.MAX_SIZE;
+		}
+
+	};
+
+	private static long hits;
+
+	private static long misses;
+
+	/**
+	 * A pattern's text and flags.
+	 */
+	private static final class Key {
+
+		private final int flags;
+		private final String regex;
+
+		private Key(final String regex, final int flags) {
+			this.regex = regex;
+			this.flags = flags;
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (!(o instanceof Key))
+				return false;
+			final Key other = (Key) o;
+			return this.flags == other.flags && this.regex.equals(other.regex);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.regex.hashCode() * 31 + this.flags;
+		}
+
+	}
+
+	/**
+	 * Removes all patterns from the cache. The hit and miss counts are not
+	 * reset.
+	 *
+	 * @see #resetStatistics()
+	 */
+	public static synchronized void clear() {
+		PatternCache.CACHE.clear();
+	}
+
+	/**
+	 * Returns a compiled pattern, compiling it only if it isn't in the cache.
+	 *
+	 * @param regex
+	 *            The regular expression.
+	 * @param flags
+	 *            The flags to compile it with, as passed to
+	 *            <code>Pattern.compile()</code>.
+	 * @return The pattern.
+	 * @throws PatternSyntaxException
+	 *             If <code>regex</code> is invalid.
+	 */
+	public static Pattern compile(final String regex, final int flags) {
+
+		final Key key = new Key(regex, flags);
+		Object value;
+		synchronized (PatternCache.class) {
+			value = PatternCache.CACHE.get(key);
+			if (value != null)
+				PatternCache.hits++;
+			else
+				PatternCache.misses++;
+		}
+
+		if (value == null) {
+			// Compiled outside the lock, so a slow pattern doesn't block
+			// other threads.
+			try {
+				value = Pattern.compile(regex, flags);
+			} catch (final PatternSyntaxException pse) {
+				value = pse;
+			}
+			synchronized (PatternCache.class) {
+				PatternCache.CACHE.put(key, value);
+			}
+		}
+
+		if (value instanceof PatternSyntaxException) {
+			final PatternSyntaxException pse = (PatternSyntaxException) value;
+			throw new PatternSyntaxException(pse.getDescription(), pse.getPattern(), pse.getIndex());
+		}
+		return (Pattern) value;
+
+	}
+
+	/**
+	 * Returns the number of lookups that found their pattern in the cache.
+	 *
+	 * @return The hit count.
+	 * @see #getMissCount()
+	 * @see #resetStatistics()
+	 */
+	public static synchronized long getHitCount() {
+		return PatternCache.hits;
+	}
+
+	/**
+	 * Returns the number of lookups that had to compile their pattern.
+	 *
+	 * @return The miss count.
+	 * @see #getHitCount()
+	 * @see #resetStatistics()
+	 */
+	public static synchronized long getMissCount() {
+		return PatternCache.misses;
+	}
+
+	/**
+	 * Returns the number of patterns in the cache.
+	 *
+	 * @return The number of patterns, at most {@link #MAX_SIZE}.
+	 */
+	public static synchronized int getSize() {
+		return PatternCache.CACHE.size();
+	}
+
+	/**
+	 * Resets the hit and miss counts to zero.
+	 *
+	 * @see #getHitCount()
+	 * @see #getMissCount()
+	 */
+	public static synchronized void resetStatistics() {
+		PatternCache.hits = 0;
+		PatternCache.misses = 0;
+	}
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private PatternCache() {
+	}
+
+}
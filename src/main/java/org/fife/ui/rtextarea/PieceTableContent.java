@@ -0,0 +1,552 @@
+/*
+ * 10/17/2026
+ *
+ * PieceTableContent.java - Document content backed by a tree of immutable
+ * text chunks.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+import javax.swing.undo.AbstractUndoableEdit;
+import javax.swing.undo.CannotRedoException;
+import javax.swing.undo.CannotUndoException;
+import javax.swing.undo.UndoableEdit;
+
+/**
+ * Document content implemented as a piece table. Text is never moved once
+ * stored; it lives in immutable <code>char</code> chunks, and the document is
+ * described by a balanced tree of "pieces" referring to ranges of those chunks.
+ * <p>
+ *
+ * Compared to the gap buffer used by default, this has the following
+ * properties:
+ * <ul>
+ * <li>Inserts and removals are <code>O(log n)</code> in the number of pieces,
+ * regardless of where in the document they occur. A gap buffer has to move the
+ * gap, which is <code>O(n)</code> in the distance from the previous edit.</li>
+ * <li>Loading a large file does not require a single contiguous array (nor the
+ * temporary copy made when such an array grows); text is appended in
+ * fixed-size chunks.</li>
+ * <li>Single character access ({@link #charAt(int)}) is <code>O(log n)</code>
+ * rather than <code>O(1)</code>.</li>
+ * </ul>
+ * The tree is persistent: edits create new nodes along the modified path
+ * rather than mutating existing ones, so a reference to an old root always
+ * describes the text as it was. This makes {@link #snapshot()} free.
+ *
+ * @version 1.0
+ * @see RDocument#RDocument(RContent)
+ */
+public class PieceTableContent implements RContent, Serializable {
+
+	/**
+	 * Undoable edit for an insertion.
+	 */
+	private final class InsertUndo extends AbstractUndoableEdit {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int length;
+		private final int offset;
+		private PositionTable.RemovedMarks positions;
+		private String string;
+
+		InsertUndo(final int offset, final int length) {
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public void redo() throws CannotRedoException {
+			super.redo();
+			try {
+				PieceTableContent.this.insertString(this.offset, this.string);
+				PieceTableContent.this.positions.restore(this.positions, this.offset, this.length);
+				this.string = null;
+				this.positions = null;
+			} catch (final BadLocationException ble) {
+				throw new CannotRedoException();
+			}
+		}
+
+		@Override
+		public void undo() throws CannotUndoException {
+			super.undo();
+			try {
+				this.string = PieceTableContent.this.getString(this.offset, this.length);
+				this.positions = PieceTableContent.this.removeImpl(this.offset, this.length);
+			} catch (final BadLocationException ble) {
+				throw new CannotUndoException();
+			}
+		}
+
+	}
+
+	/**
+	 * A node in the piece tree. Nodes are immutable. The tree is a treap keyed
+	 * implicitly by text position, so it stays balanced (in expectation) without
+	 * any rebalancing logic.
+	 */
+	static final class Piece {
+
+		final char[] buf;
+		final Piece left;
+		final int len;
+		final int priority;
+		final Piece right;
+		final int size;
+		final int start;
+
+		Piece(final char[] buf, final int start, final int len, final int priority, final Piece left,
+				final Piece right) {
+			this.buf = buf;
+			this.start = start;
+			this.len = len;
+			this.priority = priority;
+			this.left = left;
+			this.right = right;
+			this.size = PieceTableContent.size(left) + len + PieceTableContent.size(right);
+		}
+
+		Piece with(final Piece left, final Piece right) {
+			return new Piece(this.buf, this.start, this.len, this.priority, left, right);
+		}
+
+	}
+
+	/**
+	 * Undoable edit for a removal.
+	 */
+	private final class RemoveUndo extends AbstractUndoableEdit {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int offset;
+		private PositionTable.RemovedMarks positions;
+		private String string;
+
+		RemoveUndo(final int offset, final String string, final PositionTable.RemovedMarks positions) {
+			this.offset = offset;
+			this.string = string;
+			this.positions = positions;
+		}
+
+		@Override
+		public void redo() throws CannotRedoException {
+			super.redo();
+			try {
+				this.string = PieceTableContent.this.getString(this.offset, this.string.length());
+				this.positions = PieceTableContent.this.removeImpl(this.offset, this.string.length());
+			} catch (final BadLocationException ble) {
+				throw new CannotRedoException();
+			}
+		}
+
+		@Override
+		public void undo() throws CannotUndoException {
+			super.undo();
+			try {
+				PieceTableContent.this.insertString(this.offset, this.string);
+				PieceTableContent.this.positions.restore(this.positions, this.offset, this.string.length());
+				this.positions = null;
+			} catch (final BadLocationException ble) {
+				throw new CannotUndoException();
+			}
+		}
+
+	}
+
+	/**
+	 * The maximum size of the chunks that inserted text is appended to.
+	 */
+	private static final int CHUNK_SIZE = 64 * 1024;
+
+	/**
+	 * Rough size of a piece tree node, in bytes.
+	 */
+	private static final int PIECE_FOOTPRINT = 40;
+
+	private static final long serialVersionUID = 1L;
+
+	static Piece merge(final Piece a, final Piece b) {
+		if (a == null)
+			return b;
+		if (b == null)
+			return a;
+		if (a.priority > b.priority)
+			return a.with(a.left, PieceTableContent.merge(a.right, b));
+		return b.with(PieceTableContent.merge(a, b.left), b.right);
+	}
+
+	static int size(final Piece p) {
+		return p == null ? 0 : p.size;
+	}
+
+	/**
+	 * Splits a tree into the pieces before and after an offset. A piece spanning
+	 * the offset is split into two.
+	 *
+	 * @param p
+	 *            The root of the tree to split.
+	 * @param offset
+	 *            The offset to split at.
+	 * @param out
+	 *            Receives the left (index <code>0</code>) and right (index
+	 *            <code>1</code>) trees.
+	 */
+	static void split(final Piece p, final int offset, final Piece[] out) {
+		if (p == null) {
+			out[0] = out[1] = null;
+			return;
+		}
+		final int leftSize = PieceTableContent.size(p.left);
+		if (offset <= leftSize) {
+			PieceTableContent.split(p.left, offset, out);
+			out[1] = p.with(out[1], p.right);
+		} else if (offset >= leftSize + p.len) {
+			PieceTableContent.split(p.right, offset - leftSize - p.len, out);
+			out[0] = p.with(p.left, out[0]);
+		} else {
+			final int cut = offset - leftSize;
+			out[0] = new Piece(p.buf, p.start, cut, p.priority, p.left, null);
+			out[1] = new Piece(p.buf, p.start + cut, p.len - cut, p.priority, null, p.right);
+		}
+	}
+
+	/**
+	 * The chunk currently being appended to.
+	 */
+	private transient char[] addChunk;
+
+	/**
+	 * The number of characters used in <code>addChunk</code>.
+	 */
+	private transient int addFill;
+
+	/**
+	 * Total number of characters allocated for chunks.
+	 */
+	private transient long allocated;
+
+	private transient PositionTable positions;
+
+	/**
+	 * Seed for node priorities.
+	 */
+	private transient int random;
+
+	/**
+	 * Whether this is a snapshot.
+	 */
+	private final transient boolean readOnly;
+
+	private transient volatile Piece root;
+
+	/**
+	 * Creates content containing just the implied trailing newline.
+	 */
+	public PieceTableContent() {
+		this.readOnly = false;
+		this.init();
+	}
+
+	/**
+	 * Creates a read-only snapshot of another content.
+	 */
+	private PieceTableContent(final PieceTableContent source) {
+		this.readOnly = true;
+		this.positions = new PositionTable();
+		this.root = source.root;
+	}
+
+	/**
+	 * Appends text to the chunks and returns a tree of pieces referring to it.
+	 * If <code>left</code>'s last piece ends where the current chunk ends, it is
+	 * extended rather than a new piece created, so that sequential typing or
+	 * loading does not create a piece per insertion.
+	 *
+	 * @param left
+	 *            The tree the new text follows.
+	 * @param str
+	 *            The text to append.
+	 * @return The new tree for <code>left</code> followed by <code>str</code>.
+	 */
+	private Piece append(Piece left, final String str) {
+		int from = 0;
+		final int count = str.length();
+		while (from < count) {
+			final int remaining = count - from;
+			if (this.addChunk == null || this.addFill == this.addChunk.length) {
+				// Chunks grow with the document, up to CHUNK_SIZE; very large
+				// insertions get an exactly-sized chunk of their own.
+				final int size = (int) Math.min(PieceTableContent.CHUNK_SIZE, Math.max(1024, this.allocated));
+				this.addChunk = new char[Math.max(size, remaining)];
+				this.addFill = 0;
+				this.allocated += this.addChunk.length;
+			}
+			final int n = Math.min(remaining, this.addChunk.length - this.addFill);
+			str.getChars(from, from + n, this.addChunk, this.addFill);
+			final Piece last = PieceTableContent.last(left);
+			if (last != null && last.buf == this.addChunk && last.start + last.len == this.addFill)
+				left = PieceTableContent.extendLast(left, n);
+			else
+				left = PieceTableContent.merge(left,
+						new Piece(this.addChunk, this.addFill, n, this.nextPriority(), null, null));
+			this.addFill += n;
+			from += n;
+		}
+		return left;
+	}
+
+	private static Piece extendLast(final Piece p, final int n) {
+		if (p.right == null)
+			return new Piece(p.buf, p.start, p.len + n, p.priority, p.left, null);
+		return p.with(p.left, PieceTableContent.extendLast(p.right, n));
+	}
+
+	private static Piece last(Piece p) {
+		if (p != null)
+			while (p.right != null)
+				p = p.right;
+		return p;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public char charAt(int offset) throws BadLocationException {
+		Piece p = this.root;
+		if (offset < 0 || offset >= PieceTableContent.size(p))
+			throw new BadLocationException("Invalid offset", offset);
+		while (true) {
+			final int leftSize = PieceTableContent.size(p.left);
+			if (offset < leftSize)
+				p = p.left;
+			else if (offset < leftSize + p.len)
+				return p.buf[p.start + offset - leftSize];
+			else {
+				offset -= leftSize + p.len;
+				p = p.right;
+			}
+		}
+	}
+
+	/**
+	 * Copies a range of text in the tree into an array.
+	 */
+	private static void copy(final Piece p, final int from, final int to, final char[] dest, final int destOffs) {
+		if (p == null || from >= to)
+			return;
+		final int leftSize = PieceTableContent.size(p.left);
+		if (from < leftSize)
+			PieceTableContent.copy(p.left, from, Math.min(to, leftSize), dest, destOffs);
+		final int pieceEnd = leftSize + p.len;
+		final int start = Math.max(from, leftSize);
+		final int end = Math.min(to, pieceEnd);
+		if (start < end)
+			System.arraycopy(p.buf, p.start + start - leftSize, dest, destOffs + start - from, end - start);
+		if (to > pieceEnd)
+			PieceTableContent.copy(p.right, Math.max(0, from - pieceEnd), to - pieceEnd, dest,
+					destOffs + Math.max(0, pieceEnd - from));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Position createPosition(final int offset) throws BadLocationException {
+		return this.positions.createPosition(offset);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void getChars(final int where, final int len, final Segment txt) throws BadLocationException {
+		final Piece root = this.root;
+		final int end = where + len;
+		if (where < 0 || len < 0 || end > PieceTableContent.size(root))
+			throw new BadLocationException("Invalid location", PieceTableContent.size(root) + 1);
+
+		// Find the piece containing "where"; if the whole range is in it, we
+		// can share the chunk rather than copying.
+		Piece p = root;
+		int offset = where;
+		while (p != null) {
+			final int leftSize = PieceTableContent.size(p.left);
+			if (offset < leftSize)
+				p = p.left;
+			else if (offset < leftSize + p.len || len == 0 && offset == leftSize + p.len) {
+				final int inPiece = offset - leftSize;
+				final int available = p.len - inPiece;
+				if (len <= available || txt.isPartialReturn()) {
+					txt.array = p.buf;
+					txt.offset = p.start + inPiece;
+					txt.count = Math.min(len, available);
+					return;
+				}
+				break;
+			} else {
+				offset -= leftSize + p.len;
+				p = p.right;
+			}
+		}
+		if (p == null) { // Only possible for empty ranges at the very end.
+			txt.array = new char[0];
+			txt.offset = 0;
+			txt.count = 0;
+			return;
+		}
+
+		final char[] copy = new char[len];
+		PieceTableContent.copy(root, where, end, copy, 0);
+		txt.array = copy;
+		txt.offset = 0;
+		txt.count = len;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This includes all chunks allocated (removed text may still be referenced
+	 * by undoable edits), the piece tree and tracked positions.
+	 */
+	@Override
+	public long getEstimatedFootprint() {
+		final int pieces = PieceTableContent.count(this.root);
+		return 2 * this.allocated + (long) pieces * PieceTableContent.PIECE_FOOTPRINT
+				+ (long) this.positions.size() * PieceTableContent.PIECE_FOOTPRINT;
+	}
+
+	private static int count(final Piece p) {
+		return p == null ? 0 : 1 + PieceTableContent.count(p.left) + PieceTableContent.count(p.right);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getString(final int where, final int len) throws BadLocationException {
+		final Segment s = new Segment();
+		this.getChars(where, len, s);
+		return new String(s.array, s.offset, s.count);
+	}
+
+	private void init() {
+		this.positions = new PositionTable();
+		this.random = (int) System.nanoTime() | 1;
+		this.root = new Piece(new char[] { '\n' }, 0, 1, this.nextPriority(), null, null);
+		this.allocated = 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public UndoableEdit insertString(final int where, final String str) throws BadLocationException {
+		if (this.readOnly)
+			throw new BadLocationException("Content is read-only", where);
+		final Piece root = this.root;
+		if (where < 0 || where > PieceTableContent.size(root))
+			throw new BadLocationException("Invalid insert", PieceTableContent.size(root));
+		if (str.isEmpty())
+			return null;
+		final Piece[] parts = new Piece[2];
+		PieceTableContent.split(root, where, parts);
+		this.root = PieceTableContent.merge(this.append(parts[0], str), parts[1]);
+		this.positions.updateForInsert(where, str.length());
+		return new InsertUndo(where, str.length());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int length() {
+		return PieceTableContent.size(this.root);
+	}
+
+	/**
+	 * Returns a pseudo-random priority for a new tree node (xorshift).
+	 */
+	private int nextPriority() {
+		int x = this.random;
+		x ^= x << 13;
+		x ^= x >>> 17;
+		x ^= x << 5;
+		this.random = x;
+		return x;
+	}
+
+	private void readObject(final ObjectInputStream in) throws ClassNotFoundException, IOException {
+		in.defaultReadObject();
+		this.init();
+		final String text = (String) in.readObject();
+		try {
+			this.insertString(0, text.substring(0, text.length() - 1));
+		} catch (final BadLocationException ble) {
+			throw new IOException(ble.getMessage());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public UndoableEdit remove(final int where, final int nitems) throws BadLocationException {
+		if (this.readOnly)
+			throw new BadLocationException("Content is read-only", where);
+		final Piece root = this.root;
+		if (where < 0 || nitems < 0 || where + nitems >= PieceTableContent.size(root))
+			throw new BadLocationException("Invalid remove", PieceTableContent.size(root) + 1);
+		if (nitems == 0)
+			return null;
+		final String removed = this.getString(where, nitems);
+		return new RemoveUndo(where, removed, this.removeImpl(where, nitems));
+	}
+
+	/**
+	 * Removes a range of text, which has already been validated.
+	 *
+	 * @return The positions collapsed by the removal.
+	 */
+	private PositionTable.RemovedMarks removeImpl(final int where, final int nitems) {
+		final Piece[] parts = new Piece[2];
+		PieceTableContent.split(this.root, where, parts);
+		final Piece left = parts[0];
+		PieceTableContent.split(parts[1], nitems, parts);
+		this.root = PieceTableContent.merge(left, parts[1]);
+		return this.positions.updateForRemove(where, nitems);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The snapshot shares this content's tree, so this is <code>O(1)</code>.
+	 */
+	@Override
+	public RContent snapshot() {
+		return this.readOnly ? this : new PieceTableContent(this);
+	}
+
+	private void writeObject(final ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		try {
+			out.writeObject(this.getString(0, this.length()));
+		} catch (final BadLocationException ble) { // Never happens
+			throw new IOException(ble.getMessage());
+		}
+	}
+
+}
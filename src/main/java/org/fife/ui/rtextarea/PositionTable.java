@@ -0,0 +1,297 @@
+/*
+ * 10/17/2026
+ *
+ * PositionTable.java - Tracks Positions for RContent implementations.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+
+import javax.swing.text.Position;
+
+/**
+ * Keeps track of the <code>Position</code>s handed out by a content
+ * implementation, and updates them as text is inserted and removed.
+ * <p>
+ *
+ * Marks are kept sorted by offset. Like the marks in
+ * <code>javax.swing.text.GapContent</code>, marks above a movable "boundary"
+ * store their offset relative to a shared delta, so an edit only touches the
+ * marks between the previous edit and this one, rather than every mark after
+ * the edit. Marks whose <code>Position</code> is no longer referenced are
+ * discarded lazily.
+ * <p>
+ *
+ * This class is not thread-safe; callers are expected to hold the document's
+ * write lock when modifying it, as with any <code>Content</code>.
+ *
+ * @version 1.0
+ */
+class PositionTable {
+
+	/**
+	 * A mark in the table. The <code>Position</code> handed out refers to this,
+	 * and this weakly refers to the <code>Position</code> so we know when it can
+	 * be dropped.
+	 */
+	private final class Mark extends WeakReference<MarkPosition> {
+
+		private int raw;
+		private boolean shifted;
+
+		Mark(final MarkPosition pos, final int offset, final boolean shifted) {
+			super(pos, PositionTable.this.queue);
+			this.shifted = shifted;
+			this.raw = shifted ? offset - PositionTable.this.shift : offset;
+		}
+
+		int getOffset() {
+			return this.shifted ? this.raw + PositionTable.this.shift : this.raw;
+		}
+
+	}
+
+	/**
+	 * The <code>Position</code> implementation handed out to callers.
+	 */
+	private static final class MarkPosition implements Position {
+
+		private Mark mark;
+
+		@Override
+		public int getOffset() {
+			return this.mark.getOffset();
+		}
+
+		@Override
+		public String toString() {
+			return Integer.toString(this.getOffset());
+		}
+
+	}
+
+	/**
+	 * The marks that were in a removed range, and their offsets before the
+	 * removal, so they can be put back if the removal is undone.
+	 */
+	final class RemovedMarks {
+
+		private final Mark[] marks;
+		private final int[] offsets;
+
+		private RemovedMarks(final int count) {
+			this.marks = new Mark[count];
+			this.offsets = new int[count];
+		}
+
+	}
+
+	/**
+	 * Minimum number of dead marks before we bother compacting.
+	 */
+	private static final int MIN_COMPACT = 256;
+
+	/**
+	 * Index of the first mark whose offset is relative to <code>shift</code>.
+	 */
+	private int boundary;
+
+	private int deadCount;
+
+	private final ArrayList<Mark> marks;
+
+	private final ReferenceQueue<MarkPosition> queue;
+
+	/**
+	 * Delta applied to all marks at or after <code>boundary</code>.
+	 */
+	private int shift;
+
+	PositionTable() {
+		this.marks = new ArrayList<>();
+		this.queue = new ReferenceQueue<>();
+	}
+
+	/**
+	 * Removes marks whose positions have been garbage collected, if enough of
+	 * them have accumulated.
+	 */
+	private void compact() {
+		while (this.queue.poll() != null)
+			this.deadCount++;
+		final int size = this.marks.size();
+		if (this.deadCount < PositionTable.MIN_COMPACT || this.deadCount < size / 2)
+			return;
+		int newBoundary = 0;
+		int j = 0;
+		for (int i = 0; i < size; i++) {
+			final Mark m = this.marks.get(i);
+			if (m.get() != null) {
+				this.marks.set(j++, m);
+				if (i < this.boundary)
+					newBoundary++;
+			}
+		}
+		this.marks.subList(j, size).clear();
+		this.boundary = newBoundary;
+		this.deadCount = 0;
+	}
+
+	/**
+	 * Returns a position tracking the specified offset.
+	 *
+	 * @param offset
+	 *            The offset.
+	 * @return The position.
+	 */
+	Position createPosition(final int offset) {
+		this.compact();
+		final int index = this.findIndex(offset);
+		if (index < this.marks.size()) {
+			final Mark existing = this.marks.get(index);
+			final MarkPosition pos = existing.get();
+			if (pos != null && existing.getOffset() == offset)
+				return pos;
+		}
+		final MarkPosition pos = new MarkPosition();
+		final boolean shifted = index >= this.boundary;
+		pos.mark = new Mark(pos, offset, shifted);
+		this.marks.add(index, pos.mark);
+		if (!shifted)
+			this.boundary++;
+		return pos;
+	}
+
+	/**
+	 * Returns the index of the first mark with an offset &gt;= the specified
+	 * offset.
+	 */
+	private int findIndex(final int offset) {
+		int low = 0;
+		int high = this.marks.size();
+		while (low < high) {
+			final int mid = low + high >>> 1;
+			if (this.marks.get(mid).getOffset() < offset)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * Moves the boundary between absolute and relative marks.
+	 */
+	private void moveBoundary(final int index) {
+		while (this.boundary > index) {
+			final Mark m = this.marks.get(--this.boundary);
+			m.raw -= this.shift;
+			m.shifted = true;
+		}
+		while (this.boundary < index) {
+			final Mark m = this.marks.get(this.boundary++);
+			m.raw += this.shift;
+			m.shifted = false;
+		}
+	}
+
+	/**
+	 * Puts marks collapsed by a removal back where they were, after the removed
+	 * text has been re-inserted (i.e. the removal was undone).
+	 *
+	 * @param removed
+	 *            The marks returned by {@link #updateForRemove(int, int)}, or
+	 *            <code>null</code>.
+	 * @param offset
+	 *            The offset the text was re-inserted at.
+	 * @param length
+	 *            The length of the re-inserted text.
+	 */
+	void restore(final RemovedMarks removed, final int offset, final int length) {
+		if (removed == null)
+			return;
+		final int start = this.findIndex(offset);
+		final int end = this.findIndex(offset + length + 1);
+		this.moveBoundary(end);
+		// Marks at offset 0 were not moved by the insertion. Those that were
+		// at the end of the removed range belong after the re-inserted text;
+		// the ones that really were at 0 are restored below.
+		if (offset == 0)
+			for (int i = start; i < end && this.marks.get(i).raw == 0; i++)
+				this.marks.get(i).raw = length;
+		final int collapsed = offset + length;
+		for (int i = 0; i < removed.marks.length; i++) {
+			final Mark m = removed.marks[i];
+			if (m.getOffset() == collapsed && m.get() != null)
+				m.raw = removed.offsets[i];
+		}
+		Collections.sort(this.marks.subList(start, end), new Comparator<Mark>() {
+			@Override
+			public int compare(final Mark m1, final Mark m2) {
+				return Integer.compare(m1.raw, m2.raw);
+			}
+		});
+	}
+
+	/**
+	 * Returns the number of marks currently tracked, including ones not yet
+	 * discarded.
+	 *
+	 * @return The number of marks.
+	 */
+	int size() {
+		return this.marks.size();
+	}
+
+	/**
+	 * Updates marks for an insertion. Marks at or after the insertion offset are
+	 * moved, except for marks at offset <code>0</code>, which never move.
+	 *
+	 * @param offset
+	 *            The offset of the insertion.
+	 * @param length
+	 *            The number of characters inserted.
+	 */
+	void updateForInsert(final int offset, final int length) {
+		this.moveBoundary(this.findIndex(offset == 0 ? 1 : offset));
+		this.shift += length;
+	}
+
+	/**
+	 * Updates marks for a removal. Marks in the removed range collapse to its
+	 * start, and marks after it are moved.
+	 *
+	 * @param offset
+	 *            The offset of the removal.
+	 * @param length
+	 *            The number of characters removed.
+	 * @return The marks that were collapsed, for use with
+	 *         {@link #restore(RemovedMarks, int, int)}, or <code>null</code> if
+	 *         there were none.
+	 */
+	RemovedMarks updateForRemove(final int offset, final int length) {
+		final int start = this.findIndex(offset);
+		final int end = this.findIndex(offset + length);
+		this.moveBoundary(end);
+		RemovedMarks removed = null;
+		if (end > start) {
+			removed = new RemovedMarks(end - start);
+			for (int i = start; i < end; i++) {
+				final Mark m = this.marks.get(i);
+				removed.marks[i - start] = m;
+				removed.offsets[i - start] = m.raw;
+				m.raw = offset;
+			}
+		}
+		this.shift -= length;
+		return removed;
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * 10/17/2026
+ *
+ * RContent.java - Document content used by RDocuments.
+ *
+ * This library is distributed under a modified BSD license.  See the included
+ * RSyntaxTextArea.License.txt file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.BadLocationException;
+
+/**
+ * The content (text storage) of an {@link RDocument}. In addition to the
+ * standard <code>AbstractDocument.Content</code> contract, implementations
+ * provide fast access to individual characters and an estimate of their memory
+ * usage.
+ *
+ * @version 1.0
+ * @see PieceTableContent
+ */
+public interface RContent extends AbstractDocument.Content {
+
+	/**
+	 * Returns the character at the specified offset.
+	 *
+	 * @param offset
+	 *            The offset of the character.
+	 * @return The character.
+	 * @throws BadLocationException
+	 *             If the offset is invalid.
+	 */
+	char charAt(int offset) throws BadLocationException;
+
+	/**
+	 * Returns a rough estimate of the heap used to store this content, in bytes.
+	 *
+	 * @return The estimated footprint.
+	 */
+	long getEstimatedFootprint();
+
+	/**
+	 * Returns a read-only copy of this content as it is now. Later changes to
+	 * this content are not reflected in the snapshot, so it can be read from
+	 * any thread without holding the document's lock. Implementations should
+	 * make this cheap, for example by sharing their storage with the snapshot
+	 * until they are next modified.
+	 * <p>
+	 *
+	 * The snapshot's <code>insertString</code> and <code>remove</code> methods
+	 * throw a <code>BadLocationException</code>.
+	 *
+	 * @return The snapshot.
+	 * @see RDocument#createSnapshot()
+	 */
+	RContent snapshot();
+
+}
@@ -8,50 +8,66 @@
  */
 package org.fife.ui.rtextarea;
 
+import javax.swing.event.DocumentEvent;
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.AttributeSet;
 import javax.swing.text.BadLocationException;
-import javax.swing.text.GapContent;
+import javax.swing.text.Element;
 import javax.swing.text.PlainDocument;
 
 /**
  * The document implementation used by instances of <code>RTextArea</code>.
+ * <p>
+ *
+ * Like <code>PlainDocument</code>, this document's structure is a root element
+ * with one child per line. Instead of an <code>Element</code> and two
+ * <code>Position</code>s per line, though, the line starts are stored in an
+ * <code>int[]</code>, and line elements are only created when asked for, which
+ * keeps documents with millions of lines cheap. Input method composed text is
+ * not given an element of its own.
+ * <p>
+ *
+ * Each modification increments the document's {@link #getVersion() version}.
+ * {@link #createSnapshot()} returns an immutable copy of the text that
+ * background threads can read without locking the document.
  *
  * @author Robert Futrell
  * @version 1.0
  */
-public class RDocument extends PlainDocument {
+public class RDocument extends AbstractDocument {
 
 	/**
-	 * Document content that provides fast access to individual characters.
+	 *
 	 */
-	private static class RGapContent extends GapContent {
-
-		/**
-		 *
-		 */
-		private static final long serialVersionUID = 1L;
-
-		public char charAt(final int offset) throws BadLocationException {
-			if (offset < 0 || offset >= this.length())
-				throw new BadLocationException("Invalid offset", offset);
-			final int g0 = this.getGapStart();
-			final char[] array = (char[]) this.getArray();
-			if (offset < g0)
-				return array[offset];
-			return array[this.getGapEnd() + offset - g0]; // above gap
-		}
+	private static final long serialVersionUID = 1L;
 
-	}
+	private final LineIndex lines;
 
 	/**
-	 *
+	 * Incremented on every insertion and removal, including undo and redo.
 	 */
-	private static final long serialVersionUID = 1L;
+	private volatile long version;
 
 	/**
 	 * Constructor.
 	 */
 	public RDocument() {
-		super(new RGapContent());
+		this(null);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param content
+	 *            The content to store the document's text in. This should be
+	 *            empty (i.e. only contain the implied trailing newline). If this
+	 *            is <code>null</code>, a {@link CompactContent} is used.
+	 * @see PieceTableContent
+	 */
+	public RDocument(final RContent content) {
+		super(content != null ? content : new CompactContent());
+		this.lines = new LineIndex(this, (RContent) this.getContent());
+		this.putProperty(PlainDocument.tabSizeAttribute, Integer.valueOf(8));
 	}
 
 	/**
@@ -64,7 +80,138 @@ public class RDocument extends PlainDocument {
 	 *             If the offset is invalid.
 	 */
 	public char charAt(final int offset) throws BadLocationException {
-		return ((RGapContent) this.getContent()).charAt(offset);
+		return ((RContent) this.getContent()).charAt(offset);
+	}
+
+	/**
+	 * Returns an immutable snapshot of the document's text. This is cheap: the
+	 * snapshot shares storage with the document's content, which only copies
+	 * the parts it modifies afterwards (a {@link PieceTableContent} never needs
+	 * to copy anything).
+	 * The snapshot can then be read from any thread without holding the
+	 * document's lock.
+	 *
+	 * @return The snapshot.
+	 * @see DocumentSnapshot#isStale()
+	 */
+	public DocumentSnapshot createSnapshot() {
+		this.readLock();
+		try {
+			return new DocumentSnapshot(this, ((RContent) this.getContent()).snapshot(), this.version);
+		} finally {
+			this.readUnlock();
+		}
+	}
+
+	/**
+	 * Notifies listeners of an insertion. This is overridden to update the
+	 * document's version first.
+	 */
+	@Override
+	protected void fireInsertUpdate(final DocumentEvent e) {
+		this.version++;
+		super.fireInsertUpdate(e);
+	}
+
+	/**
+	 * Notifies listeners of a removal. This is overridden to update the
+	 * document's version first.
+	 */
+	@Override
+	protected void fireRemoveUpdate(final DocumentEvent e) {
+		this.version++;
+		super.fireRemoveUpdate(e);
+	}
+
+	/**
+	 * Returns the number of bytes saved by storing this document's text as
+	 * Latin-1 rather than UTF-16.
+	 *
+	 * @return The number of bytes saved, or <code>0</code> if the content is not
+	 *         compact.
+	 * @see CompactContent#getBytesSaved()
+	 */
+	public long getBytesSaved() {
+		final Content content = this.getContent();
+		return content instanceof CompactContent ? ((CompactContent) content).getBytesSaved() : 0;
+	}
+
+	/**
+	 * Returns a rough estimate of the heap used by this document's text and line
+	 * structure. This is meant for diagnostics (e.g. memory usage displays), not
+	 * for exact accounting.
+	 *
+	 * @return The estimated footprint, in bytes.
+	 */
+	public long getEstimatedFootprint() {
+		final long content = ((RContent) this.getContent()).getEstimatedFootprint();
+		return content + this.lines.getEstimatedFootprint();
+	}
+
+	/**
+	 * Returns the root element, whose children are the lines of the document.
+	 *
+	 * @return The root element.
+	 */
+	@Override
+	public Element getDefaultRootElement() {
+		return this.lines;
+	}
+
+	/**
+	 * Returns the line containing the specified offset, since this document
+	 * only models lines.
+	 *
+	 * @param pos
+	 *            The offset.
+	 * @return The line.
+	 */
+	@Override
+	public Element getParagraphElement(final int pos) {
+		final Element lineMap = this.getDefaultRootElement();
+		return lineMap.getElement(lineMap.getElementIndex(pos));
+	}
+
+	/**
+	 * Returns the document's version. This starts at <code>0</code> and is
+	 * incremented every time text is inserted or removed, so comparing versions
+	 * shows whether the document has changed.
+	 *
+	 * @return The version.
+	 * @see #createSnapshot()
+	 */
+	public long getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Inserts text. As with <code>PlainDocument</code>, if the
+	 * <code>"filterNewlines"</code> property is set, newlines are replaced with
+	 * spaces.
+	 */
+	@Override
+	public void insertString(final int offs, String str, final AttributeSet a) throws BadLocationException {
+		if (Boolean.TRUE.equals(this.getProperty("filterNewlines")) && str != null && str.indexOf('\n') > -1)
+			str = str.replace('\n', ' ');
+		super.insertString(offs, str, a);
+	}
+
+	/**
+	 * Updates the line structure after text is inserted.
+	 */
+	@Override
+	protected void insertUpdate(final DefaultDocumentEvent chng, final AttributeSet attr) {
+		chng.addEdit(this.lines.insertUpdate(chng.getOffset(), chng.getLength()));
+		super.insertUpdate(chng, attr);
+	}
+
+	/**
+	 * Updates the line structure before text is removed.
+	 */
+	@Override
+	protected void removeUpdate(final DefaultDocumentEvent chng) {
+		chng.addEdit(this.lines.removeUpdate(chng.getOffset(), chng.getLength()));
+		super.removeUpdate(chng);
 	}
 
 }
\ No newline at end of file
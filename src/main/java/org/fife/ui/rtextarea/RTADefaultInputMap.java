@@ -8,6 +8,7 @@
  */
 package org.fife.ui.rtextarea;
 
+import java.awt.GraphicsEnvironment;
 import java.awt.Toolkit;
 import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
@@ -49,9 +50,12 @@ public class RTADefaultInputMap extends InputMap {
 	 * Returns the default modifier key for a system. For example, on Windows this
 	 * would be the CTRL key (<code>InputEvent.CTRL_MASK</code>).
 	 *
-	 * @return The default modifier key.
+	 * @return The default modifier key. This is CTRL in headless environments,
+	 *         which have no keyboard to ask.
 	 */
 	protected static final int getDefaultModifier() {
+		if (GraphicsEnvironment.isHeadless())
+			return InputEvent.CTRL_MASK;
 		return Toolkit.getDefaultToolkit().getMenuShortcutKeyMask();
 	}
 
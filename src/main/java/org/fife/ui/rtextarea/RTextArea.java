@@ -11,7 +11,7 @@ package org.fife.ui.rtextarea;
 import java.awt.Color;
 import java.awt.ComponentOrientation;
 import java.awt.Graphics;
-import java.awt.Toolkit;
+import java.awt.GraphicsEnvironment;
 import java.awt.event.ActionEvent;
 import java.awt.event.FocusEvent;
 import java.awt.event.InputEvent;
@@ -274,7 +274,7 @@ public class RTextArea extends RTextAreaBase implements Printable {
 
 		// Create actions for right-click popup menu.
 		// 1.5.2004/pwy: Replaced the CTRL_MASK with the cross-platform version...
-		final int mod = Toolkit.getDefaultToolkit().getMenuShortcutKeyMask();
+		final int mod = RTADefaultInputMap.getDefaultModifier();
 		final ResourceBundle msg = ResourceBundle.getBundle(RTextArea.MSG);
 
 		RTextArea.cutAction = new RTextAreaEditorKit.CutAction();
@@ -738,7 +738,7 @@ public class RTextArea extends RTextAreaBase implements Printable {
 	 * @see #getMarkAllHighlightColor()
 	 * @see #setMarkAllHighlightColor(Color)
 	 */
-	void clearMarkAllHighlights() {
+	public void clearMarkAllHighlights() {
 		((RTextAreaHighlighter) this.getHighlighter()).clearMarkAllHighlights();
 		// markedWord = null;
 		this.repaint();
@@ -890,9 +890,11 @@ public class RTextArea extends RTextAreaBase implements Printable {
 	 * don't, it only ever lets you do one undo. Not too sure why this is...
 	 */
 	public void discardAllEdits() {
+		final int limit = this.undoManager.getLimit();
 		this.undoManager.discardAllEdits();
 		this.getDocument().removeUndoableEditListener(this.undoManager);
 		this.undoManager = this.createUndoManager();
+		this.undoManager.setLimit(limit);
 		this.getDocument().addUndoableEditListener(this.undoManager);
 		this.undoManager.updateActions();
 	}
@@ -1031,6 +1033,16 @@ public class RTextArea extends RTextAreaBase implements Printable {
 		return this.textMode;
 	}
 
+	/**
+	 * Returns the maximum number of edits this text area can undo.
+	 *
+	 * @return The maximum number of undoable edits.
+	 * @see #setUndoLimit(int)
+	 */
+	public int getUndoLimit() {
+		return this.undoManager.getLimit();
+	}
+
 	/**
 	 * Returns the tool tip supplier.
 	 *
@@ -1099,7 +1111,10 @@ public class RTextArea extends RTextAreaBase implements Printable {
 		this.carets = new CaretStyle[2];
 		this.setCaretStyle(RTextArea.INSERT_MODE, CaretStyle.THICK_VERTICAL_LINE_STYLE);
 		this.setCaretStyle(RTextArea.OVERWRITE_MODE, CaretStyle.BLOCK_STYLE);
-		this.setDragEnabled(true); // Enable drag-and-drop.
+		// Enable drag-and-drop. JTextComponent throws a HeadlessException for
+		// this in a headless JVM, where there's nothing to drag with anyway.
+		if (!GraphicsEnvironment.isHeadless())
+			this.setDragEnabled(true);
 
 		this.setTextMode(RTextArea.INSERT_MODE); // Carets array must be created first!
 		this.setMarkAllOnOccurrenceSearches(true);
@@ -1133,13 +1148,7 @@ public class RTextArea extends RTextAreaBase implements Printable {
 
 			// markedWord = toMark;
 			if (ranges != null)
-				for (final DocumentRange range : ranges)
-					try {
-						h.addMarkAllHighlight(range.getStartOffset(), range.getEndOffset(),
-								this.markAllHighlightPainter);
-					} catch (final BadLocationException ble) {
-						ble.printStackTrace();
-					}
+				h.addMarkAllHighlights(ranges, this.markAllHighlightPainter);
 
 			this.repaint();
 			this.firePropertyChange(RTextArea.MARK_ALL_OCCURRENCES_CHANGED_PROPERTY, null, ranges);
@@ -1641,6 +1650,19 @@ public class RTextArea extends RTextAreaBase implements Printable {
 		this.toolTipSupplier = supplier;
 	}
 
+	/**
+	 * Sets the maximum number of edits this text area can undo. If more edits than
+	 * this are currently remembered, the oldest ones are discarded.
+	 *
+	 * @param limit
+	 *            The maximum number of undoable edits.
+	 * @see #getUndoLimit()
+	 */
+	public void setUndoLimit(final int limit) {
+		this.undoManager.setLimit(limit);
+		this.undoManager.updateActions();
+	}
+
 	/**
 	 * Sets the UI used by this text area. This is overridden so only the
 	 * right-click popup menu's UI is updated. The look and feel of an
@@ -190,21 +190,34 @@ public class RTextAreaHighlighter extends BasicHighlighter {
 	 * @see #clearMarkAllHighlights()
 	 */
 	Object addMarkAllHighlight(final int start, final int end, final HighlightPainter p) throws BadLocationException {
-		final Document doc = this.textArea.getDocument();
-		final TextUI mapper = this.textArea.getUI();
-		// Always layered highlights for marked occurrences.
-		final HighlightInfoImpl i = new LayeredHighlightInfoImpl();
-		i.setPainter(p);
-		i.p0 = doc.createPosition(start);
-		// HACK: Use "end-1" to prevent chars the user types at the "end" of
-		// the highlight to be absorbed into the highlight (default Highlight
-		// behavior).
-		i.p1 = doc.createPosition(end - 1);
+		final HighlightInfoImpl i = this.createMarkAllHighlight(start, end, p);
 		this.markAllHighlights.add(i);
+		final TextUI mapper = this.textArea.getUI();
 		mapper.damageRange(this.textArea, start, end);
 		return i;
 	}
 
+	/**
+	 * Adds "marked occurrence" highlights for many ranges at once. Unlike
+	 * {@link #addMarkAllHighlight(int, int, HighlightPainter)}, the ranges are
+	 * not repainted one at a time; the caller should repaint the text area.
+	 *
+	 * @param ranges
+	 *            The ranges to highlight.
+	 * @param p
+	 *            The painter to use.
+	 * @see #clearMarkAllHighlights()
+	 */
+	void addMarkAllHighlights(final List<DocumentRange> ranges, final HighlightPainter p) {
+		for (final DocumentRange range : ranges)
+			try {
+				this.markAllHighlights
+						.add(this.createMarkAllHighlight(range.getStartOffset(), range.getEndOffset(), p));
+			} catch (final BadLocationException ble) {
+				ble.printStackTrace();
+			}
+	}
+
 	/**
 	 * Removes all "mark all" highlights from the view.
 	 *
@@ -219,6 +232,23 @@ public class RTextAreaHighlighter extends BasicHighlighter {
 		this.markAllHighlights.clear();
 	}
 
+	/**
+	 * Creates a "marked occurrence" highlight, without adding it.
+	 */
+	private HighlightInfoImpl createMarkAllHighlight(final int start, final int end, final HighlightPainter p)
+			throws BadLocationException {
+		final Document doc = this.textArea.getDocument();
+		// Always layered highlights for marked occurrences.
+		final HighlightInfoImpl i = new LayeredHighlightInfoImpl();
+		i.setPainter(p);
+		i.p0 = doc.createPosition(start);
+		// HACK: Use "end-1" to prevent chars the user types at the "end" of
+		// the highlight to be absorbed into the highlight (default Highlight
+		// behavior).
+		i.p1 = doc.createPosition(end - 1);
+		return i;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
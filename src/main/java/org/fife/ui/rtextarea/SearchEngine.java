@@ -17,11 +17,13 @@ import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import javax.swing.JTextArea;
+import javax.swing.UIManager;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.Caret;
 
 import org.fife.ui.rsyntaxtextarea.DocumentRange;
 import org.fife.ui.rsyntaxtextarea.RSyntaxUtilities;
+import org.fife.util.DynamicIntArray;
 
 /**
  * A singleton class that can perform advanced find/replace operations in an
@@ -84,7 +86,10 @@ public final class SearchEngine {
 		final boolean forward = context.getSearchForward();
 		final int start = forward ? Math.max(c.getDot(), c.getMark()) : Math.min(c.getDot(), c.getMark());
 
-		final String findIn = SearchEngine.getFindInText(textArea, start, forward);
+		// Search RDocuments in place, so large documents aren't copied.
+		final CharSequence findIn = textArea.getDocument() instanceof RDocument
+				? SearchEngine.getFindInCharSequence(textArea, start, forward)
+				: SearchEngine.getFindInText(textArea, start, forward);
 		if (findIn == null || findIn.length() == 0)
 			return new SearchResult();
 
@@ -121,7 +126,7 @@ public final class SearchEngine {
 	 *             If this is a regular expression search but the search text is an
 	 *             invalid regular expression.
 	 */
-	private static SearchResult findImpl(String findIn, final SearchContext context) {
+	private static SearchResult findImpl(CharSequence findIn, final SearchContext context) {
 
 		final String text = context.getSearchFor();
 		final boolean forward = context.getSearchForward();
@@ -129,8 +134,11 @@ public final class SearchEngine {
 		// Find the next location of the text we're searching for.
 		DocumentRange range = null;
 		if (!context.isRegularExpression()) {
-			final int pos = SearchEngine.getNextMatchPos(text, findIn, forward, context.getMatchCase(),
-					context.getWholeWord());
+			final int pos = findIn instanceof String
+					? SearchEngine.getNextMatchPos(text, (String) findIn, forward, context.getMatchCase(),
+							context.getWholeWord())
+					: SearchEngine.getNextMatchPos(text, findIn, forward, context.getMatchCase(),
+							context.getWholeWord());
 			findIn = null; // May help garbage collecting.
 			if (pos != -1)
 				range = new DocumentRange(pos, pos + text.length());
@@ -143,7 +151,7 @@ public final class SearchEngine {
 			Point regExPos = null;
 			int start = 0;
 			do {
-				regExPos = SearchEngine.getNextMatchPosRegEx(text, findIn.substring(start), forward,
+				regExPos = SearchEngine.getNextMatchPosRegEx(text, findIn.subSequence(start, findIn.length()), forward,
 						context.getMatchCase(), context.getWholeWord());
 				if (regExPos != null)
 					if (regExPos.x != regExPos.y) {
@@ -175,7 +183,7 @@ public final class SearchEngine {
 	 *            Whether we're searching forward or backward.
 	 * @return The character sequence.
 	 */
-	private static CharSequence getFindInCharSequence(final RTextArea textArea, final int start,
+	private static CharSequence getFindInCharSequence(final JTextArea textArea, final int start,
 			final boolean forward) {
 		final RDocument doc = (RDocument) textArea.getDocument();
 		int csStart = 0;
@@ -190,6 +198,17 @@ public final class SearchEngine {
 		return new RDocumentCharSequence(doc, csStart, csEnd);
 	}
 
+	/**
+	 * Folds the case of a character. Two characters are equal ignoring case
+	 * (as defined by <code>String.regionMatches()</code>) if they fold to the same
+	 * character.
+	 */
+	private static char foldCase(final char ch) {
+		if (ch < 128)
+			return ch >= 'A' && ch <= 'Z' ? (char) (ch + 32) : ch;
+		return Character.toLowerCase(Character.toUpperCase(ch));
+	}
+
 	/**
 	 * Returns the text in which to search, as a string. This is used internally to
 	 * grab the smallest buffer possible in which to search.
@@ -293,6 +312,41 @@ public final class SearchEngine {
 
 	}
 
+	/**
+	 * Searches <code>searchIn</code> for an occurrence of <code>searchFor</code>
+	 * either forwards or backwards, matching case or not. Unlike
+	 * {@link #getNextMatchPos(String, String, boolean, boolean, boolean)}, this
+	 * does not copy <code>searchIn</code>, so it is suitable for searching
+	 * documents in place.
+	 *
+	 * @param searchFor
+	 *            The string to look for.
+	 * @param searchIn
+	 *            The text to search in.
+	 * @param forward
+	 *            Whether to search forward or backward in <code>searchIn</code>.
+	 * @param matchCase
+	 *            If <code>true</code>, do a case-sensitive search for
+	 *            <code>searchFor</code>.
+	 * @param wholeWord
+	 *            If <code>true</code>, <code>searchFor</code> occurrences embedded
+	 *            in longer words in <code>searchIn</code> don't count as matches.
+	 * @return The starting position of a match, or <code>-1</code> if no match was
+	 *         found.
+	 */
+	private static int getNextMatchPos(final String searchFor, final CharSequence searchIn, final boolean forward,
+			final boolean matchCase, final boolean wholeWord) {
+		final int len = searchFor.length();
+		int pos = forward ? 0 : searchIn.length() - len;
+		while (true) {
+			pos = forward ? SearchEngine.indexOf(searchIn, searchFor, pos, matchCase)
+					: SearchEngine.lastIndexOf(searchIn, searchFor, pos, matchCase);
+			if (pos == -1 || !wholeWord || SearchEngine.isWholeWord(searchIn, pos, len))
+				return pos;
+			pos += forward ? 1 : -1;
+		}
+	}
+
 	/**
 	 * Actually does the work of matching; assumes searchFor and searchIn are
 	 * already upper/lower-cased appropriately.<br>
@@ -401,21 +455,12 @@ public final class SearchEngine {
 	 *             zero or greater than the number of groups matched).
 	 * @see #getNextMatchPos
 	 */
-	private static Object getNextMatchPosRegExImpl(String regEx, final CharSequence searchIn, final boolean goForward,
+	private static Object getNextMatchPosRegExImpl(final String regEx, final CharSequence searchIn, final boolean goForward,
 			final boolean matchCase, final boolean wholeWord, final String replaceStr) {
 
-		if (wholeWord)
-			regEx = "\\b" + regEx + "\\b";
-
-		// Make a pattern that takes into account whether or not to match case.
-		int flags = Pattern.MULTILINE; // '^' and '$' are done per line.
-		flags = RSyntaxUtilities.getPatternFlags(matchCase, flags);
-		Pattern pattern = null;
-		try {
-			pattern = Pattern.compile(regEx, flags);
-		} catch (final PatternSyntaxException pse) {
+		final Pattern pattern = SearchEngine.getPattern(regEx, matchCase, wholeWord);
+		if (pattern == null)
 			return null; // e.g. a "mark all" request with incomplete regex
-		}
 
 		// Make a Matcher to find the regEx instances.
 		final Matcher m = pattern.matcher(searchIn);
@@ -442,6 +487,33 @@ public final class SearchEngine {
 
 	}
 
+	/**
+	 * Compiles a regular expression to search with.
+	 *
+	 * @param regEx
+	 *            The regular expression.
+	 * @param matchCase
+	 *            Whether the search is case-sensitive.
+	 * @param wholeWord
+	 *            Whether matches must be whole words.
+	 * @return The pattern, or <code>null</code> if <code>regEx</code> is invalid.
+	 */
+	private static Pattern getPattern(String regEx, final boolean matchCase, final boolean wholeWord) {
+
+		if (wholeWord)
+			regEx = "\\b" + regEx + "\\b";
+
+		// Make a pattern that takes into account whether or not to match case.
+		int flags = Pattern.MULTILINE; // '^' and '$' are done per line.
+		flags = RSyntaxUtilities.getPatternFlags(matchCase, flags);
+		try {
+			return PatternCache.compile(regEx, flags);
+		} catch (final PatternSyntaxException pse) {
+			return null;
+		}
+
+	}
+
 	/**
 	 * Returns information on how to implement a regular expression "replace" action
 	 * in the specified text with the specified replacement string.
@@ -573,6 +645,56 @@ public final class SearchEngine {
 
 	}
 
+	/**
+	 * Returns the index of the first occurrence of <code>searchFor</code> in
+	 * <code>searchIn</code> at or after <code>from</code>, or <code>-1</code>.
+	 */
+	private static int indexOf(final CharSequence searchIn, final String searchFor, final int from,
+			final boolean matchCase) {
+		final int last = searchIn.length() - searchFor.length();
+		final char first = searchFor.charAt(0);
+		final char foldedFirst = SearchEngine.foldCase(first);
+		for (int i = Math.max(0, from); i <= last; i++) {
+			// Cheap check of the first char before comparing the whole string
+			final char c = searchIn.charAt(i);
+			if (c != first && (matchCase || SearchEngine.foldCase(c) != foldedFirst))
+				continue;
+			if (SearchEngine.regionMatches(searchIn, i, searchFor, matchCase))
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of <code>searchFor</code> in
+	 * <code>searchIn</code> at or before <code>from</code>, or <code>-1</code>.
+	 */
+	private static int lastIndexOf(final CharSequence searchIn, final String searchFor, final int from,
+			final boolean matchCase) {
+		for (int i = Math.min(from, searchIn.length() - searchFor.length()); i >= 0; i--)
+			if (SearchEngine.regionMatches(searchIn, i, searchFor, matchCase))
+				return i;
+		return -1;
+	}
+
+	/**
+	 * Returns whether <code>searchFor</code> occurs in <code>searchIn</code> at
+	 * <code>offset</code>, comparing characters the same way as
+	 * <code>String.regionMatches()</code>.
+	 */
+	private static boolean regionMatches(final CharSequence searchIn, final int offset, final String searchFor,
+			final boolean matchCase) {
+		for (int i = 0; i < searchFor.length(); i++) {
+			final char c1 = searchIn.charAt(offset + i);
+			final char c2 = searchFor.charAt(i);
+			if (c1 == c2)
+				continue;
+			if (matchCase || SearchEngine.foldCase(c1) != SearchEngine.foldCase(c2))
+				return false;
+		}
+		return true;
+	}
+
 	/**
 	 * Returns whether the characters on either side of
 	 * <code>substr(searchIn, startPos, startPos+searchStringLength)</code> are
@@ -655,7 +777,7 @@ public final class SearchEngine {
 	 *            checked and returns <code>true</code>.
 	 * @return The results of the operation.
 	 */
-	private static SearchResult markAllImpl(final RTextArea textArea, SearchContext context) {
+	private static SearchResult markAllImpl(final RTextArea textArea, final SearchContext context) {
 
 		final String toMark = context.getSearchFor();
 		int markAllCount = 0;
@@ -665,39 +787,39 @@ public final class SearchEngine {
 		/* && !toMark.equals(markedWord) */) {
 
 			final List<DocumentRange> highlights = new ArrayList<>();
-			context = context.clone();
-			context.setSearchForward(true);
-			context.setMarkAll(false);
-
-			String findIn = textArea.getText();
-			int start = 0;
-
-			// Optimization for pedantic worst-case of thousands of matches
-			// while doing a case-insensitive search. Go ahead and normalize
-			// case just once, so that toLowerCase() isn't done for toMark and
-			// findIn for each match found.
-			if (!context.getMatchCase()) {
-				context.setMatchCase(true);
-				context.setSearchFor(toMark.toLowerCase());
-				findIn = findIn.toLowerCase();
+			final boolean matchCase = context.getMatchCase();
+			final boolean wholeWord = context.getWholeWord();
+
+			// Search the document in place rather than copying it, in a
+			// single pass. Case is compared character by character (or by
+			// the regex engine), so nothing needs lower-casing.
+			final CharSequence findIn = SearchEngine.getFindInCharSequence(textArea, 0, true);
+
+			if (context.isRegularExpression()) {
+				final Pattern pattern = SearchEngine.getPattern(toMark, matchCase, wholeWord);
+				if (pattern != null) { // Not an incomplete regex
+					final Matcher m = pattern.matcher(findIn);
+					while (m.find())
+						// Skip the empty matches of regexes like "foo|"; find()
+						// moves past them by itself.
+						if (m.end() > m.start())
+							highlights.add(new DocumentRange(m.start(), m.end()));
+				}
 			}
 
-			SearchResult res = SearchEngine.findImpl(findIn, context);
-			while (res.wasFound()) {
-				final DocumentRange match = res.getMatchRange().translate(start);
-				if (match.isZeroLength()) {
-					// Searched for a regex like "foo|". The "empty string"
-					// part of the regex matches space between chars. We want
-					// to skip these in the case of mark-all.
-					start = match.getEndOffset() + 1;
-					if (start > findIn.length())
-						break;
-				} else {
-					highlights.add(match);
-					start = match.getEndOffset();
+			else {
+				final int len = toMark.length();
+				int pos = SearchEngine.indexOf(findIn, toMark, 0, matchCase);
+				while (pos != -1) {
+					if (!wholeWord || SearchEngine.isWholeWord(findIn, pos, len)) {
+						highlights.add(new DocumentRange(pos, pos + len));
+						pos += len;
+					} else
+						pos++;
+					pos = SearchEngine.indexOf(findIn, toMark, pos, matchCase);
 				}
-				res = SearchEngine.findImpl(findIn.substring(start), context);
 			}
+
 			textArea.markAll(highlights);
 			markAllCount = highlights.size();
 		}
@@ -879,7 +1001,12 @@ public final class SearchEngine {
 
 	/**
 	 * Replaces all instances of the text/regular expression specified in the
-	 * specified document with the specified replacement.
+	 * specified document with the specified replacement. All matches are found
+	 * in a single pass before the document is changed. They are then replaced
+	 * one at a time, from last to first, as a single atomic edit, so one undo
+	 * reverts them all. Only the matched text is changed, so positions between
+	 * matches (such as folds, bookmarks and parser notices) stay where they
+	 * are.
 	 *
 	 * @param textArea
 	 *            The text area in which to search.
@@ -896,7 +1023,7 @@ public final class SearchEngine {
 	 * @see #replace(RTextArea, SearchContext)
 	 * @see #find(JTextArea, SearchContext)
 	 */
-	public static SearchResult replaceAll(final RTextArea textArea, SearchContext context) {
+	public static SearchResult replaceAll(final RTextArea textArea, final SearchContext context) {
 
 		// Always clear previous "mark all" highlights
 		if (context.getMarkAll())
@@ -907,51 +1034,89 @@ public final class SearchEngine {
 		if (toFind == null || toFind.length() == 0)
 			return new SearchResult();
 
-		// We call into SearchEngine.replace() multiple times, but we don't
-		// want to perform a "mark all" ever.
-		if (context.getMarkAll()) {
-			context = context.clone();
-			context.setMarkAll(false);
+		// As with replaceSelection(), don't touch a read-only text area
+		if (!textArea.isEditable() || !textArea.isEnabled()) {
+			UIManager.getLookAndFeel().provideErrorFeedback(textArea);
+			return new SearchResult();
 		}
 
-		SearchResult lastFound = null;
-		int count = 0;
-		textArea.beginAtomicEdit();
-		try {
-
-			final int oldOffs = textArea.getCaretPosition();
-			textArea.setCaretPosition(0);
-			SearchResult res = SearchEngine.replace(textArea, context);
-
-			while (res.wasFound()) {
-
-				lastFound = res;
-				count++;
-
-				// Protect against regexes that can match 0-length strings,
-				// such as ".*" and "(?=a). See:
-				// https://github.com/bobbylight/RSyntaxTextArea/issues/107
-				if (res.getMatchRange().isZeroLength())
-					if (res.getMatchRange().getStartOffset() == textArea.getDocument().getLength())
-						break;
-					else
-						textArea.setCaretPosition(textArea.getCaretPosition() + 1);
-
-				res = SearchEngine.replace(textArea, context);
+		String replaceWith = context.getReplaceWith();
+		if (replaceWith == null)
+			replaceWith = "";
+		final boolean matchCase = context.getMatchCase();
+		final boolean wholeWord = context.getWholeWord();
 
+		// Find all matches in one pass over the document, remembering where
+		// each is and appending its replacement to a single buffer. Nothing is
+		// changed until all matches are known, so an invalid group reference
+		// leaves the document alone.
+		final CharSequence findIn = SearchEngine.getFindInCharSequence(textArea, 0, true);
+		final DynamicIntArray matches = new DynamicIntArray(); // Start, end pairs
+		final DynamicIntArray replacementEnds = new DynamicIntArray();
+		final StringBuilder sb = new StringBuilder();
+
+		if (context.isRegularExpression()) {
+			final Pattern pattern = SearchEngine.getPattern(toFind, matchCase, wholeWord);
+			if (pattern == null)
+				return new SearchResult();
+			// Zero-length matches, e.g. of "^" or ".*", are replaced too;
+			// find() moves past them by itself.
+			final Matcher m = pattern.matcher(findIn);
+			while (m.find()) {
+				matches.add(m.start());
+				matches.add(m.end());
+				sb.append(SearchEngine.getReplacementText(m, replaceWith));
+				replacementEnds.add(sb.length());
 			}
+		}
 
-			if (lastFound == null) { // If nothing was found, don't move the caret
-				textArea.setCaretPosition(oldOffs);
-				lastFound = new SearchResult();
+		else {
+			final int len = toFind.length();
+			int pos = SearchEngine.indexOf(findIn, toFind, 0, matchCase);
+			while (pos != -1) {
+				if (!wholeWord || SearchEngine.isWholeWord(findIn, pos, len)) {
+					matches.add(pos);
+					matches.add(pos + len);
+					sb.append(replaceWith);
+					replacementEnds.add(sb.length());
+					pos += len;
+				} else
+					pos++;
+				pos = SearchEngine.indexOf(findIn, toFind, pos, matchCase);
 			}
+		}
+
+		final int count = replacementEnds.getSize();
+		if (count == 0)
+			return new SearchResult(); // Don't move the caret
 
+		// Replace the matches from last to first, so the offsets of those not
+		// yet replaced stay valid. Each edit only touches its match, so
+		// positions in the text between matches aren't collapsed. The caret is
+		// moved out of the way first, so it isn't updated for every edit.
+		final RDocument doc = (RDocument) textArea.getDocument();
+		int removed = 0;
+		textArea.beginAtomicEdit();
+		try {
+			textArea.setCaretPosition(0);
+			for (int i = count - 1; i >= 0; i--) {
+				final int start = matches.get(2 * i);
+				final int end = matches.get(2 * i + 1);
+				final int replacementStart = i > 0 ? replacementEnds.get(i - 1) : 0;
+				doc.replace(start, end - start, sb.substring(replacementStart, replacementEnds.get(i)), null);
+				removed += end - start;
+			}
+		} catch (final BadLocationException ble) { // Never happens
+			ble.printStackTrace();
 		} finally {
 			textArea.endAtomicEdit();
 		}
 
-		lastFound.setCount(count);
-		return lastFound;
+		// Leave the caret after the last replacement, as replace() would.
+		final int dot = matches.get(2 * count - 1) - removed + sb.length();
+		final DocumentRange range = new DocumentRange(dot, dot);
+		RSyntaxUtilities.selectAndPossiblyCenter(textArea, range, true);
+		return new SearchResult(range, count, 0);
 
 	}
 
@@ -0,0 +1,810 @@
+/*
+ * 10/17/2026
+ *
+ * FindInFilesEngine.java - Searches the files in a directory tree in parallel.
+ * http://fifesoft.com/rtext
+ * Licensed under a modified BSD license.
+ * See the included license file for details.
+ */
+package org.fife.ui.search;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.swing.SwingUtilities;
+
+import org.fife.ui.rsyntaxtextarea.RSyntaxUtilities;
+import org.fife.ui.rtextarea.PatternCache;
+
+
+/**
+ * Searches the files in a directory, and optionally its subdirectories, for
+ * the text in a {@link FindInFilesSearchContext}, and adds the lines matched
+ * to a {@link ResultsComponent}.<p>
+ *
+ * The directory tree is walked on a background thread, and the files found
+ * are searched in parallel by a fixed number of threads.  The queue of files
+ * waiting to be searched is bounded, so the walk never gets far ahead of the
+ * searching.  Large files are memory-mapped rather than read into memory, and
+ * files containing only ASCII are searched in place rather than decoded.<p>
+ *
+ * Matches are added to the results component on the EDT, a file at a time,
+ * in batches as they're found.  An engine searches only once; create a new
+ * one for each search.
+ *
+ * @version 1.0
+ */
+class FindInFilesEngine {
+
+	private FindInFilesSearchContext context;
+	private ResultsComponent results;
+	private Pattern pattern;
+	private boolean wholeWordLiteral;
+	private Pattern[] fileFilters;
+	private Set<String> skipFolders;
+	private TrigramIndex index;
+	private Runnable finishedCallback;
+
+	private String rootName;
+	private volatile ThreadPoolExecutor executor;
+	private volatile boolean cancelled;
+	private volatile boolean finished;
+	private CountDownLatch done;
+	private boolean completed;
+	private long elapsedNanos;
+
+	private AtomicInteger fileCount;
+	private AtomicLong byteCount;
+	private AtomicLong matchCount;
+
+	/**
+	 * The results of each file searched, waiting to be added to the results
+	 * component.
+	 */
+	private ConcurrentLinkedQueue<List<MatchData>> pending;
+	private AtomicBoolean flushScheduled;
+
+	/**
+	 * The most matches added to the results component in one go on the EDT.
+	 */
+	private static final int BATCH_SIZE				= 500;
+
+	/**
+	 * The number of bytes at the start of a file checked for <code>NUL</code>s
+	 * to see if it's binary.
+	 */
+	static final int BINARY_CHECK_SIZE				= 8192;
+
+	/**
+	 * Files at least this size are memory-mapped rather than read.
+	 */
+	private static final int MAP_THRESHOLD			= 1024 * 1024;
+
+	/**
+	 * The line number given to verbose and error messages.
+	 */
+	private static final String NO_LINE				= "--";
+
+	static final int PARALLELISM =
+			Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	private static final ResourceBundle msg =
+			ResourceBundle.getBundle("org.fife.ui.search.Search");
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param context What to search for, and how.  This is copied, so changes
+	 *        made to it after this call have no effect.
+	 * @param results The component to add results to.
+	 * @throws java.util.regex.PatternSyntaxException If the context is for a
+	 *         regular expression, and it is invalid.
+	 */
+	FindInFilesEngine(FindInFilesSearchContext context,
+					ResultsComponent results) {
+
+		this.context = (FindInFilesSearchContext)context.clone();
+		this.results = results;
+
+		String searchFor = this.context.getSearchFor();
+		int flags = RSyntaxUtilities.getPatternFlags(
+							this.context.getMatchCase(), Pattern.MULTILINE);
+		if (this.context.isRegularExpression()) {
+			if (this.context.getWholeWord()) {
+				searchFor = "\\b" + searchFor + "\\b";
+			}
+			pattern = PatternCache.compile(searchFor, flags);
+		}
+		else {
+			// Whole words are checked as SearchEngine does
+			pattern = PatternCache.compile(searchFor, flags|Pattern.LITERAL);
+			wholeWordLiteral = this.context.getWholeWord();
+		}
+
+		fileFilters = new Pattern[0];
+		skipFolders = new HashSet<String>();
+		fileCount = new AtomicInteger();
+		byteCount = new AtomicLong();
+		matchCount = new AtomicLong();
+		pending = new ConcurrentLinkedQueue<List<MatchData>>();
+		flushScheduled = new AtomicBoolean();
+
+	}
+
+
+	/**
+	 * Stops this search.  Results already found are still added to the
+	 * results component, and the "finished" callback is still called.
+	 * This method can be called from any thread.
+	 *
+	 * @see #start(File)
+	 */
+	public void cancel() {
+		cancelled = true;
+		ThreadPoolExecutor executor = this.executor;
+		if (executor!=null) {
+			executor.shutdownNow();
+		}
+	}
+
+
+	/**
+	 * Adds the results of the search that are waiting to the results
+	 * component.  This is called on the EDT.
+	 */
+	private void flush() {
+
+		flushScheduled.set(false);
+		// Anything published before the search finished is in the queue
+		boolean wasFinished = finished;
+
+		int added = 0;
+		List<MatchData> data;
+		while (added<BATCH_SIZE && (data=pending.poll())!=null) {
+			for (MatchData md : data) {
+				results.addMatchData(md, rootName);
+			}
+			added += data.size();
+		}
+
+		if (!pending.isEmpty()) {
+			scheduleFlush();
+		}
+		else if (wasFinished && !completed) {
+			completed = true;
+			results.prettyUp();
+			if (finishedCallback!=null) {
+				finishedCallback.run();
+			}
+			done.countDown();
+		}
+
+	}
+
+
+	/**
+	 * Returns the number of bytes in the files searched so far.
+	 *
+	 * @return The number of bytes.
+	 * @see #getFileCount()
+	 */
+	public long getByteCount() {
+		return byteCount.get();
+	}
+
+
+	/**
+	 * Returns how long the search took, once it has finished.
+	 *
+	 * @return The time taken, in nanoseconds.
+	 * @see #isDone()
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+
+	/**
+	 * Returns the number of files searched so far.
+	 *
+	 * @return The number of files.
+	 * @see #getByteCount()
+	 */
+	public int getFileCount() {
+		return fileCount.get();
+	}
+
+
+	/**
+	 * Returns the number of matches found so far.  This may be more than the
+	 * number of lines reported, since a line may contain several matches.
+	 *
+	 * @return The number of matches.
+	 */
+	public long getMatchCount() {
+		return matchCount.get();
+	}
+
+
+	/**
+	 * Returns whether all results have been added to the results component.
+	 *
+	 * @return Whether this search is done.
+	 * @see #waitUntilDone()
+	 */
+	public boolean isDone() {
+		return done!=null && done.getCount()==0;
+	}
+
+
+	/**
+	 * Returns whether text at the specified location is a whole word, as
+	 * <code>SearchEngine</code> defines it.
+	 */
+	private static boolean isWholeWord(CharSequence text, int start, int end) {
+		return (start==0 || !Character.isLetterOrDigit(text.charAt(start-1))) &&
+				(end==text.length() ||
+					!Character.isLetterOrDigit(text.charAt(end)));
+	}
+
+
+	private boolean matchesFileFilters(String fileName) {
+		if (fileFilters.length==0) {
+			return true;
+		}
+		for (Pattern filter : fileFilters) {
+			if (filter.matcher(fileName).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+
+	private void publish(List<MatchData> data) {
+		pending.add(data);
+		scheduleFlush();
+	}
+
+
+	/**
+	 * Returns the text of a file, or <code>null</code> if it appears to be
+	 * binary.
+	 *
+	 * @param file The file.
+	 * @param size The size of the file.
+	 * @return The file's text.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private static CharSequence read(Path file, long size) throws IOException {
+
+		ByteBuffer buf = readBytes(file, size);
+		int length = buf.limit();
+		boolean ascii = true;
+		for (int i=0; i<length; i++) {
+			byte b = buf.get(i);
+			if (b==0 && i<BINARY_CHECK_SIZE) {
+				return null;
+			}
+			else if (b<0) {
+				ascii = false;
+				if (i>=BINARY_CHECK_SIZE) {
+					break;
+				}
+			}
+		}
+
+		if (ascii) {
+			return new AsciiSequence(buf, 0, length);
+		}
+		try {
+			return StandardCharsets.UTF_8.newDecoder().decode(buf.duplicate());
+		} catch (CharacterCodingException cce) {
+			return StandardCharsets.ISO_8859_1.decode(buf);
+		}
+
+	}
+
+
+	/**
+	 * Returns the bytes of a file.  Large files are memory-mapped.
+	 *
+	 * @param file The file.
+	 * @param size The size of the file.
+	 * @return The file's bytes.
+	 * @throws IOException If an IO error occurs, or the file is 2 GB or
+	 *         larger.
+	 */
+	static ByteBuffer readBytes(Path file, long size) throws IOException {
+		if (size<MAP_THRESHOLD) {
+			return ByteBuffer.wrap(Files.readAllBytes(file));
+		}
+		if (size>Integer.MAX_VALUE) {
+			throw new IOException("File too large to search: " + file);
+		}
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0,
+							channel.size());
+		} finally {
+			channel.close();
+		}
+	}
+
+
+	private void scheduleFlush() {
+		if (flushScheduled.compareAndSet(false, true)) {
+			SwingUtilities.invokeLater(new Runnable() {
+				@Override
+				public void run() {
+					flush();
+				}
+			});
+		}
+	}
+
+
+	/**
+	 * Searches the text of a file.
+	 *
+	 * @param fileName The name of the file.
+	 * @param text The text of the file.
+	 * @param data The list to add the lines matched to.
+	 * @return The number of matches found.
+	 */
+	private int search(String fileName, CharSequence text,
+					List<MatchData> data) {
+
+		Matcher m = pattern.matcher(text);
+		int count = 0;
+		int line = 0;
+		int lineStart = 0;
+		int scanned = 0;
+		int lastLineAdded = -1;
+
+		while (m.find()) {
+
+			int start = m.start();
+			int end = m.end();
+			if (wholeWordLiteral && !isWholeWord(text, start, end)) {
+				continue;
+			}
+			if ((++count&0xff)==0 && cancelled) {
+				break;
+			}
+
+			for (; scanned<start; scanned++) {
+				if (text.charAt(scanned)=='\n') {
+					line++;
+					lineStart = scanned + 1;
+				}
+			}
+			if (line==lastLineAdded) {
+				continue; // Each line is only listed once
+			}
+			lastLineAdded = line;
+
+			int lineEnd = lineStart;
+			int length = text.length();
+			while (lineEnd<length && text.charAt(lineEnd)!='\n' &&
+					text.charAt(lineEnd)!='\r') {
+				lineEnd++;
+			}
+			String lineText = text.subSequence(lineStart, lineEnd).toString();
+			if (end>lineEnd) {
+				lineText += " " + msg.getString("MultiLineMatch");
+			}
+			data.add(new MatchData(fileName, Integer.toString(line+1),
+									lineText));
+
+		}
+
+		return count;
+
+	}
+
+
+	/**
+	 * Searches a file.  This is called on one of the search threads.
+	 *
+	 * @param file The file.
+	 * @param size Its size.
+	 */
+	private void searchFile(Path file, long size) {
+
+		if (cancelled) {
+			return;
+		}
+
+		String fileName = file.toString();
+		List<MatchData> data = new ArrayList<MatchData>(0);
+		boolean verbose = context.getVerbose();
+		try {
+			CharSequence text = read(file, size);
+			if (text==null) {
+				if (verbose) {
+					data.add(verbose(fileName, fileName + ": " +
+									msg.getString("SkipBinaryFile")));
+				}
+			}
+			else {
+				if (verbose) {
+					data.add(verbose(fileName,
+							msg.getString("SearchingFile") + fileName));
+				}
+				int count = search(fileName, text, data);
+				matchCount.addAndGet(count);
+				if (verbose) {
+					data.add(verbose(fileName, MessageFormat.format(
+							msg.getString("Occurrences"), count)));
+				}
+			}
+			fileCount.incrementAndGet();
+			byteCount.addAndGet(size);
+		} catch (ClosedByInterruptException cbie) {
+			return; // Cancelled
+		} catch (IOException ioe) {
+			data.add(new MatchData(fileName, NO_LINE, ioe.toString(),
+									MatchData.TYPE_ERROR));
+		}
+
+		if (!data.isEmpty()) {
+			publish(data);
+		}
+
+	}
+
+
+	/**
+	 * Sets a callback to run on the EDT once all results have been added to
+	 * the results component.
+	 *
+	 * @param callback The callback, or <code>null</code> for none.
+	 */
+	public void setFinishedCallback(Runnable callback) {
+		finishedCallback = callback;
+	}
+
+
+	/**
+	 * Sets an index of the directory searched, used to skip files that can't
+	 * match without reading them.  Files not in the index, or that have
+	 * changed since they were indexed, are still searched.
+	 *
+	 * @param index The index, or <code>null</code> to search every file.
+	 */
+	public void setIndex(TrigramIndex index) {
+		this.index = index;
+	}
+
+
+	/**
+	 * Sets the files to search, e.g. <code>"*.java *.xml"</code>.
+	 *
+	 * @param filters Wildcard patterns for the names of the files to search,
+	 *        separated by spaces, commas or semicolons.  If this is
+	 *        <code>null</code> or empty, all files are searched.
+	 * @see #setSkipFolders(String)
+	 */
+	public void setFileFilters(String filters) {
+		List<Pattern> patterns = new ArrayList<Pattern>();
+		boolean matchCase = File.separatorChar!='\\';
+		for (String filter : split(filters)) {
+			patterns.add(RSyntaxUtilities.wildcardToPattern(filter, matchCase,
+															false));
+		}
+		fileFilters = patterns.toArray(new Pattern[patterns.size()]);
+	}
+
+
+	/**
+	 * Sets the names of folders not to search, e.g. <code>".git, CVS"</code>.
+	 *
+	 * @param folders Folder names, separated by spaces, commas or semicolons.
+	 * @see #setFileFilters(String)
+	 */
+	public void setSkipFolders(String folders) {
+		skipFolders = new HashSet<String>(split(folders));
+	}
+
+
+	static List<String> split(String list) {
+		List<String> items = new ArrayList<String>();
+		if (list!=null) {
+			for (String item : list.split("[\\s,;]+")) {
+				if (item.length()>0) {
+					items.add(item);
+				}
+			}
+		}
+		return items;
+	}
+
+
+	/**
+	 * Starts searching a directory in the background.
+	 *
+	 * @param dir The directory.
+	 * @throws IllegalStateException If this engine has already been started.
+	 * @see #cancel()
+	 * @see #waitUntilDone()
+	 */
+	public void start(File dir) {
+
+		if (done!=null) {
+			throw new IllegalStateException("Search already started");
+		}
+		done = new CountDownLatch(1);
+		rootName = dir.getAbsolutePath();
+
+		final Path root = dir.getAbsoluteFile().toPath().normalize();
+		Thread t = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				walk(root);
+			}
+		}, "Find in Files");
+		t.setDaemon(true);
+		t.start();
+
+	}
+
+
+	private MatchData verbose(String fileName, String text) {
+		return new MatchData(fileName, NO_LINE, text, MatchData.TYPE_VERBOSE);
+	}
+
+
+	/**
+	 * Blocks until all results have been added to the results component.
+	 * This must not be called on the EDT.
+	 *
+	 * @throws InterruptedException If the current thread is interrupted.
+	 * @see #isDone()
+	 */
+	public void waitUntilDone() throws InterruptedException {
+		done.await();
+	}
+
+
+	/**
+	 * Walks a directory tree, handing the files found to the search threads.
+	 * This is called on the "Find in Files" thread.
+	 *
+	 * @param root The directory to search.
+	 */
+	private void walk(Path root) {
+
+		long start = System.nanoTime();
+		final AtomicInteger threadCount = new AtomicInteger();
+		executor = new ThreadPoolExecutor(PARALLELISM, PARALLELISM,
+				0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(PARALLELISM * 4),
+				new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread t = new Thread(r, "Find in Files " +
+											threadCount.incrementAndGet());
+						t.setDaemon(true);
+						return t;
+					}
+				},
+				// Search on this thread when the queue is full
+				new ThreadPoolExecutor.CallerRunsPolicy());
+		if (cancelled) { // cancel() was called before the executor was set
+			executor.shutdownNow();
+		}
+
+		TrigramIndex.Candidates candidates = null;
+		if (index!=null && root.startsWith(index.getRoot())) {
+			candidates = index.getCandidates(context);
+		}
+
+		int maxDepth = context.getSearchSubfolders() ? Integer.MAX_VALUE : 1;
+		try {
+			Files.walkFileTree(root, EnumSet.noneOf(FileVisitOption.class),
+							maxDepth, new Walker(root, candidates));
+		} catch (IOException ioe) {
+			List<MatchData> data = new ArrayList<MatchData>(1);
+			data.add(new MatchData(rootName, NO_LINE, ioe.toString(),
+									MatchData.TYPE_ERROR));
+			publish(data);
+		}
+
+		executor.shutdown();
+		try {
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException ie) {
+			cancel();
+		}
+		elapsedNanos = System.nanoTime() - start;
+
+		if (context.getVerbose()) {
+			List<MatchData> data = new ArrayList<MatchData>(1);
+			if (cancelled) {
+				data.add(verbose(rootName, msg.getString("SearchTerminated")));
+			}
+			else {
+				double seconds = Math.max(elapsedNanos, 1) / 1e9;
+				data.add(verbose(rootName, MessageFormat.format(
+						msg.getString("SearchStats"), getFileCount(),
+						getByteCount(), Math.round(getFileCount()/seconds),
+						Math.round(getByteCount()/seconds))));
+			}
+			publish(data);
+		}
+
+		finished = true;
+		scheduleFlush();
+
+	}
+
+
+	/**
+	 * A view of ASCII text in a byte buffer, so it can be searched without
+	 * being decoded.
+	 */
+	private static class AsciiSequence implements CharSequence {
+
+		private ByteBuffer buf;
+		private int offset;
+		private int length;
+
+		AsciiSequence(ByteBuffer buf, int offset, int length) {
+			this.buf = buf;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index<0 || index>=length) {
+				throw new IndexOutOfBoundsException(Integer.toString(index));
+			}
+			return (char)buf.get(offset + index);
+		}
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if (start<0 || end>length || start>end) {
+				throw new IndexOutOfBoundsException(start + ", " + end);
+			}
+			return new AsciiSequence(buf, offset + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			byte[] bytes = new byte[length];
+			ByteBuffer dup = buf.duplicate();
+			dup.position(offset);
+			dup.get(bytes);
+			return new String(bytes, StandardCharsets.US_ASCII);
+		}
+
+	}
+
+
+	/**
+	 * Hands the files in a directory tree to the search threads.
+	 */
+	private class Walker extends SimpleFileVisitor<Path> {
+
+		private Path root;
+		private TrigramIndex.Candidates candidates;
+
+		Walker(Path root, TrigramIndex.Candidates candidates) {
+			this.root = root;
+			this.candidates = candidates;
+		}
+
+		private void verboseFile(Path file, String key) {
+			if (context.getVerbose()) {
+				List<MatchData> data = new ArrayList<MatchData>(1);
+				String fileName = file.toString();
+				data.add(verbose(fileName, fileName + ": " +
+								msg.getString(key)));
+				publish(data);
+			}
+		}
+
+		private FileVisitResult skip(Path dir, String key) {
+			if (context.getVerbose()) {
+				List<MatchData> data = new ArrayList<MatchData>(1);
+				String dirName = dir.toString();
+				data.add(verbose(dirName, dirName + ": " + msg.getString(key)));
+				publish(data);
+			}
+			return FileVisitResult.SKIP_SUBTREE;
+		}
+
+		@Override
+		public FileVisitResult preVisitDirectory(Path dir,
+				BasicFileAttributes attrs) {
+			if (cancelled) {
+				return FileVisitResult.TERMINATE;
+			}
+			if (!dir.equals(root) &&
+					skipFolders.contains(dir.getFileName().toString())) {
+				return skip(dir, "SkipThisFolder");
+			}
+			return FileVisitResult.CONTINUE;
+		}
+
+		@Override
+		public FileVisitResult visitFile(final Path file,
+				final BasicFileAttributes attrs) {
+			if (cancelled) {
+				return FileVisitResult.TERMINATE;
+			}
+			if (attrs.isDirectory()) { // Below the maximum depth
+				skip(file, "SearchSubFoldUnchecked");
+			}
+			else if (attrs.isRegularFile()) {
+				String name = file.getFileName().toString();
+				if (!matchesFileFilters(name)) {
+					verboseFile(file, "VerboseNoFiltMatch");
+				}
+				else if (candidates!=null &&
+						!candidates.mayMatch(file, attrs)) {
+					verboseFile(file, "SkipIndexedFile");
+				}
+				else {
+					executor.execute(new Runnable() {
+						@Override
+						public void run() {
+							searchFile(file, attrs.size());
+						}
+					});
+				}
+			}
+			return FileVisitResult.CONTINUE;
+		}
+
+		@Override
+		public FileVisitResult visitFileFailed(Path file, IOException ioe) {
+			List<MatchData> data = new ArrayList<MatchData>(1);
+			data.add(new MatchData(file.toString(), NO_LINE, ioe.toString(),
+									MatchData.TYPE_ERROR));
+			publish(data);
+			return FileVisitResult.CONTINUE;
+		}
+
+	}
+
+
+}
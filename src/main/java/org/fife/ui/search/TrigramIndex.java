@@ -0,0 +1,1290 @@
+/*
+ * 10/17/2026
+ *
+ * TrigramIndex.java - An on-disk index of the trigrams in the files under a
+ * directory.
+ * http://fifesoft.com/rtext
+ * Licensed under a modified BSD license.
+ * See the included license file for details.
+ */
+package org.fife.ui.search;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * An index of the trigrams (runs of three characters) in the files under a
+ * directory, kept on disk, so Find in Files can skip the files that can't
+ * contain a match without reading them.<p>
+ *
+ * The index is a list of the files it covers, with their sizes and
+ * modification times, and a posting list for each trigram: the ids of the
+ * files containing it, delta-encoded as variable-length integers.  The
+ * posting lists are memory-mapped, so opening even a large index is quick.
+ * Only trigrams of ASCII characters are indexed, lower-cased; see
+ * {@link TrigramQuery}.<p>
+ *
+ * {@link #start()} opens the index in the background, or builds it if there
+ * isn't one, then brings it up to date with the files' modification times and
+ * keeps it up to date with a <code>WatchService</code>.  Files that change
+ * are re-indexed into an in-memory overlay, and the files they replace are
+ * marked stale; once the overlay gets big, the two are merged and written
+ * back to disk.<p>
+ *
+ * An index never causes a match to be missed.  A file whose size or
+ * modification time differs from what was indexed, or that isn't in the
+ * index at all, is always a candidate, and is queued to be re-indexed.  So if
+ * the directory can't be watched, e.g. because it has more subdirectories
+ * than the OS allows to be watched, searches are still right, just less
+ * selective until the changed files are re-indexed.
+ *
+ * @version 1.0
+ * @see FindInFilesEngine#setIndex(TrigramIndex)
+ */
+class TrigramIndex {
+
+	private Path root;
+	private File indexFile;
+	private Set<String> skipFolders;
+
+	private ExecutorService executor;
+	private WatchService watcher;
+	private volatile boolean ready;
+	private volatile boolean closed;
+	private CountDownLatch started;
+	private Set<Path> queued;
+
+	/**
+	 * The files indexed, by their path relative to the root, with
+	 * <code>'/'</code> separators.  This map is replaced, not cleared, when
+	 * the index is rewritten, so {@link Candidates} created before keep
+	 * seeing the ids they were created with.
+	 */
+	private volatile Map<String, Entry> entries;
+
+	// The following are guarded by this object's monitor
+	private Postings base;
+	private int[][] overlay;
+	private int[] overlayCounts;
+	private int overlayFiles;
+	private BitSet stale;
+	private int nextId;
+	private boolean dirty;
+
+	/**
+	 * The number of files read at a time when building the index.
+	 */
+	private static final int BUILD_BATCH		= 256;
+
+	private static final int MAGIC				= 0x52535449; // "RSTI"
+
+	/**
+	 * Files larger than this aren't indexed, so they're always searched.
+	 */
+	private static final long MAX_FILE_SIZE		= 64 * 1024 * 1024;
+
+	/**
+	 * The fewest files in the overlay that cause it to be merged into the
+	 * index on disk.
+	 */
+	private static final int MIN_MERGE_FILES	= 1000;
+
+	/**
+	 * How long the watcher waits for changes to stop before re-indexing
+	 * the files changed, in milliseconds.
+	 */
+	private static final int QUIET_MILLIS		= 500;
+
+	private static final int VERSION			= 1;
+
+	/**
+	 * The trigrams found so far in the file being read by each thread.
+	 */
+	private static final ThreadLocal<BitSet> SEEN = new ThreadLocal<BitSet>() {
+		@Override
+		protected BitSet initialValue() {
+			return new BitSet(TrigramQuery.TRIGRAM_COUNT);
+		}
+	};
+
+
+	/**
+	 * Constructor.  The index isn't opened or built until {@link #start()}
+	 * is called.
+	 *
+	 * @param root The directory to index.
+	 * @param indexFile The file to keep the index in.  It is created if it
+	 *        doesn't exist, and rebuilt if it isn't an index of
+	 *        <code>root</code>.
+	 */
+	TrigramIndex(File root, File indexFile) {
+		this.root = root.getAbsoluteFile().toPath().normalize();
+		this.indexFile = indexFile;
+		skipFolders = Collections.emptySet();
+		entries = new ConcurrentHashMap<String, Entry>();
+		queued = Collections.newSetFromMap(
+				new ConcurrentHashMap<Path, Boolean>());
+		started = new CountDownLatch(1);
+		executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "Trigram Index");
+				t.setDaemon(true);
+				t.setPriority(Thread.MIN_PRIORITY);
+				return t;
+			}
+		});
+		resetOverlay(0);
+	}
+
+
+	/**
+	 * Adds the ids of the files containing a trigram to a bit set.
+	 */
+	private void addPostings(int trigram, BitSet bits) {
+		base.addPostings(trigram, bits);
+		int[] ids = overlay[trigram];
+		for (int i=0; i<overlayCounts[trigram]; i++) {
+			bits.set(ids[i]);
+		}
+	}
+
+
+	/**
+	 * Adds a file to the overlay.  The caller must hold this object's
+	 * monitor.
+	 *
+	 * @param key The file's key.
+	 * @param size Its size when it was read.
+	 * @param mtime Its modification time when it was read.
+	 * @param trigrams Its trigrams, or <code>null</code> if it wasn't
+	 *        indexed.
+	 */
+	private void addToOverlay(String key, long size, long mtime,
+							int[] trigrams) {
+		int id = nextId++;
+		if (trigrams!=null) {
+			for (int trigram : trigrams) {
+				int[] ids = overlay[trigram];
+				int count = overlayCounts[trigram];
+				if (ids==null) {
+					ids = overlay[trigram] = new int[4];
+				}
+				else if (count==ids.length) {
+					ids = overlay[trigram] = Arrays.copyOf(ids, count*2);
+				}
+				ids[count] = id;
+				overlayCounts[trigram] = count + 1;
+			}
+		}
+		Entry old = entries.put(key, new Entry(id, size, mtime,
+												trigrams!=null));
+		if (old!=null) {
+			stale.set(old.id);
+		}
+		overlayFiles++;
+		dirty = true;
+	}
+
+
+	/**
+	 * Builds the index from scratch, and writes it to disk.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void build() throws IOException {
+
+		final List<Path> files = new ArrayList<Path>();
+		final List<BasicFileAttributes> attrs =
+				new ArrayList<BasicFileAttributes>();
+		Files.walkFileTree(root, new IndexVisitor() {
+			@Override
+			protected void visitIndexedFile(Path file, BasicFileAttributes a) {
+				files.add(file);
+				attrs.add(a);
+			}
+		});
+
+		List<String> paths = new ArrayList<String>(files.size());
+		List<Entry> fileEntries = new ArrayList<Entry>(files.size());
+		PostingsWriter writer = new PostingsWriter();
+		ExecutorService pool = Executors.newFixedThreadPool(
+				FindInFilesEngine.PARALLELISM, new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread t = new Thread(r, "Trigram Index Builder");
+						t.setDaemon(true);
+						t.setPriority(Thread.MIN_PRIORITY);
+						return t;
+					}
+				});
+
+		try {
+			List<Future<int[]>> batch = new ArrayList<Future<int[]>>(BUILD_BATCH);
+			for (int start=0; start<files.size(); start+=BUILD_BATCH) {
+				if (closed) {
+					return;
+				}
+				int end = Math.min(start+BUILD_BATCH, files.size());
+				batch.clear();
+				for (int i=start; i<end; i++) {
+					final Path file = files.get(i);
+					final long size = attrs.get(i).size();
+					batch.add(pool.submit(new Callable<int[]>() {
+						@Override
+						public int[] call() throws IOException {
+							return readTrigrams(file, size);
+						}
+					}));
+				}
+				// Added in order, so posting lists are sorted
+				for (int i=start; i<end; i++) {
+					int[] trigrams;
+					try {
+						trigrams = batch.get(i-start).get();
+					} catch (ExecutionException ee) {
+						continue; // Not readable; it'll always be searched
+					}
+					int id = paths.size();
+					BasicFileAttributes a = attrs.get(i);
+					paths.add(toKey(files.get(i)));
+					fileEntries.add(new Entry(id, a.size(),
+							a.lastModifiedTime().toMillis(), trigrams!=null));
+					if (trigrams!=null) {
+						for (int trigram : trigrams) {
+							writer.add(trigram, id);
+						}
+					}
+				}
+			}
+		} catch (InterruptedException ie) {
+			throw new IOException("Interrupted building index");
+		} finally {
+			pool.shutdownNow();
+		}
+
+		write(paths, fileEntries, writer);
+		if (!load()) {
+			throw new IOException("Could not read the index just written: " +
+								indexFile);
+		}
+
+	}
+
+
+	/**
+	 * Stops watching for changes, and saves the index if it has changed
+	 * since it was last saved.  This waits for the save to complete.
+	 */
+	void close() {
+		closed = true;
+		if (watcher!=null) {
+			try {
+				watcher.close();
+			} catch (IOException ioe) {
+				ioe.printStackTrace();
+			}
+		}
+		executor.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					if (ready && isDirty()) {
+						merge();
+					}
+				} catch (IOException ioe) {
+					ioe.printStackTrace();
+				}
+			}
+		});
+		executor.shutdown();
+		try {
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	/**
+	 * Returns the files that may match a search.
+	 *
+	 * @param context The search.
+	 * @return The candidates, or <code>null</code> if this index isn't ready
+	 *         yet or can't narrow the search down, in which case all files
+	 *         must be searched.
+	 */
+	Candidates getCandidates(FindInFilesSearchContext context) {
+
+		TrigramQuery query = TrigramQuery.create(context);
+		if (query==null || !ready) {
+			return null;
+		}
+
+		synchronized (this) {
+			BitSet ids = new BitSet(nextId);
+			for (int[] branch : query.getBranches()) {
+				ids.or(getFilesContainingAll(branch));
+			}
+			ids.andNot(stale);
+			return new Candidates(entries, ids, nextId);
+		}
+
+	}
+
+
+	/**
+	 * Returns the number of files indexed.
+	 *
+	 * @return The number of files.
+	 */
+	int getFileCount() {
+		return entries.size();
+	}
+
+
+	/**
+	 * Returns the ids of the files containing all of a set of trigrams.  The
+	 * caller must hold this object's monitor.
+	 */
+	private BitSet getFilesContainingAll(int[] trigrams) {
+
+		// Rarest first, so the intersection shrinks as fast as possible
+		Integer[] sorted = new Integer[trigrams.length];
+		for (int i=0; i<trigrams.length; i++) {
+			sorted[i] = Integer.valueOf(trigrams[i]);
+		}
+		Arrays.sort(sorted, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer t1, Integer t2) {
+				return getPostingCount(t1.intValue()) -
+						getPostingCount(t2.intValue());
+			}
+		});
+
+		BitSet result = null;
+		for (Integer trigram : sorted) {
+			BitSet bits = new BitSet();
+			addPostings(trigram.intValue(), bits);
+			if (result==null) {
+				result = bits;
+			}
+			else {
+				result.and(bits);
+			}
+			if (result.isEmpty()) {
+				break;
+			}
+		}
+		return result;
+
+	}
+
+
+	private int getPostingCount(int trigram) {
+		return base.getCount(trigram) + overlayCounts[trigram];
+	}
+
+
+	/**
+	 * Returns the directory indexed.
+	 *
+	 * @return The directory.
+	 */
+	Path getRoot() {
+		return root;
+	}
+
+
+	/**
+	 * Returns the size of the index on disk.
+	 *
+	 * @return The size, in bytes.
+	 */
+	long getSize() {
+		return indexFile.length();
+	}
+
+
+	private synchronized boolean isDirty() {
+		return dirty;
+	}
+
+
+	/**
+	 * Returns whether this index has been opened or built, and can be used.
+	 *
+	 * @return Whether this index is ready.
+	 * @see #waitUntilStarted()
+	 */
+	boolean isReady() {
+		return ready;
+	}
+
+
+	/**
+	 * Returns whether a file should be indexed, i.e. isn't in a skipped
+	 * folder.
+	 */
+	private boolean isIndexed(String key) {
+		if (skipFolders.isEmpty()) {
+			return true;
+		}
+		int start = 0;
+		int slash;
+		while ((slash=key.indexOf('/', start))>-1) {
+			if (skipFolders.contains(key.substring(start, slash))) {
+				return false;
+			}
+			start = slash + 1;
+		}
+		return true;
+	}
+
+
+	/**
+	 * Reads the index from disk.
+	 *
+	 * @return Whether the index was read, i.e. it exists and is an index of
+	 *         the root directory.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private boolean load() throws IOException {
+
+		if (!indexFile.isFile() || indexFile.length()>Integer.MAX_VALUE) {
+			return false;
+		}
+
+		ByteBuffer map;
+		FileChannel channel = FileChannel.open(indexFile.toPath(),
+											StandardOpenOption.READ);
+		try {
+			map = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+							channel.size());
+		} finally {
+			channel.close();
+		}
+
+		try {
+
+			byte[] header = new byte[map.getInt(0)];
+			map.position(4);
+			map.get(header);
+			DataInputStream in = new DataInputStream(
+									new ByteArrayInputStream(header));
+			if (in.readInt()!=MAGIC || in.readInt()!=VERSION ||
+					!in.readUTF().equals(root.toString())) {
+				return false;
+			}
+
+			int fileCount = in.readInt();
+			Map<String, Entry> newEntries =
+					new ConcurrentHashMap<String, Entry>(fileCount*4/3 + 1);
+			for (int id=0; id<fileCount; id++) {
+				String key = in.readUTF();
+				newEntries.put(key, new Entry(id, in.readLong(),
+											in.readLong(), in.readBoolean()));
+			}
+
+			int trigramCount = in.readInt();
+			int[] trigrams = new int[trigramCount];
+			int[] counts = new int[trigramCount];
+			int[] offsets = new int[trigramCount + 1];
+			for (int i=0; i<trigramCount; i++) {
+				trigrams[i] = in.readInt();
+				counts[i] = in.readInt();
+				offsets[i+1] = offsets[i] + in.readInt();
+			}
+			map.position(4 + header.length);
+			Postings postings = new Postings(trigrams, counts, offsets,
+											map.slice());
+
+			synchronized (this) {
+				entries = newEntries;
+				base = postings;
+				resetOverlay(fileCount);
+				dirty = false;
+			}
+			return true;
+
+		} catch (RuntimeException re) { // e.g. BufferUnderflowException
+			return false; // Corrupt, e.g. truncated
+		} catch (IOException ioe) { // e.g. EOFException
+			return false;
+		}
+
+	}
+
+
+	/**
+	 * Merges the overlay into the index, and writes it to disk.  This is
+	 * called on the index's thread.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 */
+	private synchronized void merge() throws IOException {
+
+		// Live files keep their order, so posting lists stay sorted
+		String[] keys = new String[nextId];
+		Entry[] oldEntries = new Entry[nextId];
+		for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+			Entry e = entry.getValue();
+			keys[e.id] = entry.getKey();
+			oldEntries[e.id] = e;
+		}
+		int[] newIds = new int[nextId];
+		List<String> paths = new ArrayList<String>();
+		List<Entry> fileEntries = new ArrayList<Entry>();
+		for (int id=0; id<nextId; id++) {
+			Entry e = oldEntries[id];
+			if (e==null) {
+				newIds[id] = -1;
+			}
+			else {
+				newIds[id] = paths.size();
+				paths.add(keys[id]);
+				fileEntries.add(new Entry(newIds[id], e.size, e.mtime,
+										e.indexed));
+			}
+		}
+
+		PostingsWriter writer = new PostingsWriter();
+		BitSet bits = new BitSet();
+		for (int trigram=0; trigram<TrigramQuery.TRIGRAM_COUNT; trigram++) {
+			if (getPostingCount(trigram)>0) {
+				bits.clear();
+				addPostings(trigram, bits);
+				for (int id=bits.nextSetBit(0); id>=0; id=bits.nextSetBit(id+1)) {
+					if (newIds[id]>=0) {
+						writer.add(trigram, newIds[id]);
+					}
+				}
+			}
+		}
+
+		write(paths, fileEntries, writer);
+		if (!load()) {
+			throw new IOException("Could not read the index just written: " +
+								indexFile);
+		}
+
+	}
+
+
+	/**
+	 * Merges the overlay into the index on disk if it has grown big enough.
+	 */
+	private void mergeIfLarge() {
+		boolean merge;
+		synchronized (this) {
+			merge = overlayFiles>=Math.max(MIN_MERGE_FILES, nextId/10);
+		}
+		if (merge) {
+			try {
+				merge();
+			} catch (IOException ioe) {
+				// e.g. the platform won't replace a mapped file; keep the
+				// overlay, and try again later
+				ioe.printStackTrace();
+			}
+		}
+	}
+
+
+	/**
+	 * Returns the trigrams in a file.
+	 *
+	 * @param file The file.
+	 * @param size Its size.
+	 * @return The distinct trigrams, in no particular order, or <code>null</code> if the file is too
+	 *         large to be indexed.  A binary file has none.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private static int[] readTrigrams(Path file, long size)
+			throws IOException {
+
+		if (size>MAX_FILE_SIZE) {
+			return null;
+		}
+		ByteBuffer buf = FindInFilesEngine.readBytes(file, size);
+		int length = buf.limit();
+		for (int i=0; i<Math.min(length, FindInFilesEngine.BINARY_CHECK_SIZE); i++) {
+			if (buf.get(i)==0) {
+				return new int[0]; // Never searched
+			}
+		}
+
+		BitSet seen = SEEN.get();
+		int[] trigrams = new int[Math.min(length, 4096)];
+		int count = 0;
+		int prev1 = -1;
+		int prev2 = -1;
+		int i = 0;
+		while (i<length) {
+			int b = buf.get(i++);
+			int ch;
+			if (b>=0) {
+				ch = TrigramQuery.toLower(b);
+			}
+			else {
+				// The only non-ASCII characters that match ASCII ones when
+				// case is ignored: U+0130 and U+0131 ('i'), U+017F ('s')
+				// and U+212A ('k'), in UTF-8
+				ch = -1;
+				int b2 = i<length ? buf.get(i) & 0xff : -1;
+				if (b==(byte)0xc4 && (b2==0xb0 || b2==0xb1)) {
+					ch = 'i';
+					i++;
+				}
+				else if (b==(byte)0xc5 && b2==0xbf) {
+					ch = 's';
+					i++;
+				}
+				else if (b==(byte)0xe2 && b2==0x84 && i+1<length &&
+						buf.get(i+1)==(byte)0xaa) {
+					ch = 'k';
+					i += 2;
+				}
+			}
+			if (ch>=0 && prev1>=0 && prev2>=0) {
+				int trigram = TrigramQuery.trigram(prev1, prev2, ch);
+				if (!seen.get(trigram)) {
+					seen.set(trigram);
+					if (count==trigrams.length) {
+						trigrams = Arrays.copyOf(trigrams, count*2);
+					}
+					trigrams[count++] = trigram;
+				}
+			}
+			prev1 = prev2;
+			prev2 = ch;
+		}
+
+		for (int j=0; j<count; j++) {
+			seen.clear(trigrams[j]);
+		}
+		return Arrays.copyOf(trigrams, count);
+
+	}
+
+
+	/**
+	 * Brings the index up to date with the files' sizes and modification
+	 * times.  This is called on the index's thread.
+	 *
+	 * @param dir The directory to check, which is the root or one of its
+	 *        descendants.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void refresh(Path dir) throws IOException {
+
+		final Set<String> seen = new HashSet<String>();
+		Files.walkFileTree(dir, new IndexVisitor() {
+			@Override
+			protected void visitIndexedFile(Path file, BasicFileAttributes a) {
+				String key = toKey(file);
+				seen.add(key);
+				Entry e = entries.get(key);
+				if (e==null || e.size!=a.size() ||
+						e.mtime!=a.lastModifiedTime().toMillis()) {
+					update(file, key, a);
+				}
+			}
+		});
+
+		String prefix = dir.equals(root) ? "" : toKey(dir) + "/";
+		for (String key : entries.keySet()) {
+			if (key.startsWith(prefix) && !seen.contains(key)) {
+				remove(key);
+			}
+		}
+
+		mergeIfLarge();
+
+	}
+
+
+	/**
+	 * Registers a directory and its descendants with the watch service.
+	 */
+	private void register(Path dir) throws IOException {
+		Files.walkFileTree(dir, new IndexVisitor() {
+			@Override
+			public FileVisitResult preVisitDirectory(Path d,
+					BasicFileAttributes attrs) throws IOException {
+				FileVisitResult result = super.preVisitDirectory(d, attrs);
+				if (result==FileVisitResult.CONTINUE) {
+					d.register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+							StandardWatchEventKinds.ENTRY_DELETE,
+							StandardWatchEventKinds.ENTRY_MODIFY);
+				}
+				return result;
+			}
+			@Override
+			protected void visitIndexedFile(Path file, BasicFileAttributes a) {
+			}
+		});
+	}
+
+
+	/**
+	 * Removes a file, or a directory's files, from the index.
+	 */
+	private synchronized void remove(String key) {
+		String prefix = key + "/";
+		for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+			String k = entry.getKey();
+			if (k.equals(key) || k.startsWith(prefix)) {
+				entries.remove(k);
+				stale.set(entry.getValue().id);
+				dirty = true;
+			}
+		}
+	}
+
+
+	/**
+	 * Empties the overlay.  The caller must hold this object's monitor.
+	 */
+	private void resetOverlay(int fileCount) {
+		if (base==null) {
+			base = new Postings(new int[0], new int[0], new int[1],
+								ByteBuffer.allocate(0));
+		}
+		overlay = new int[TrigramQuery.TRIGRAM_COUNT][];
+		overlayCounts = new int[TrigramQuery.TRIGRAM_COUNT];
+		overlayFiles = 0;
+		stale = new BitSet();
+		nextId = fileCount;
+	}
+
+
+	/**
+	 * Queues a file, or the files in a directory, to be re-indexed, because
+	 * it has changed or been deleted.  This can be called from any thread.
+	 *
+	 * @param file The file or directory.
+	 */
+	void scheduleUpdate(final Path file) {
+		if (closed || !ready || !file.startsWith(root) ||
+				!isIndexed(toKey(file)) || !queued.add(file)) {
+			return;
+		}
+		executor.execute(new Runnable() {
+			@Override
+			public void run() {
+				queued.remove(file);
+				try {
+					if (Files.isDirectory(file, LinkOption.NOFOLLOW_LINKS)) {
+						refresh(file);
+					}
+					else if (Files.isRegularFile(file,
+												LinkOption.NOFOLLOW_LINKS)) {
+						BasicFileAttributes a = Files.readAttributes(file,
+								BasicFileAttributes.class,
+								LinkOption.NOFOLLOW_LINKS);
+						update(file, toKey(file), a);
+						mergeIfLarge();
+					}
+					else {
+						remove(toKey(file));
+					}
+				} catch (IOException ioe) {
+					remove(toKey(file)); // Always searched
+				}
+			}
+		});
+	}
+
+
+	/**
+	 * Sets the names of folders not to index, e.g. <code>".git"</code>.
+	 * This must be called before {@link #start()}.  Files in these folders
+	 * are always searched, unless Find in Files skips them too.
+	 *
+	 * @param folders Folder names, separated by spaces, commas or semicolons.
+	 */
+	void setSkipFolders(String folders) {
+		skipFolders = new HashSet<String>(FindInFilesEngine.split(folders));
+	}
+
+
+	/**
+	 * Opens the index in the background, building it if it doesn't exist,
+	 * then brings it up to date and starts watching for changes.
+	 *
+	 * @see #isReady()
+	 * @see #close()
+	 */
+	void start() {
+		executor.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					if (load()) {
+						ready = true;
+						started.countDown();
+						refresh(root);
+					}
+					else {
+						build();
+						ready = true;
+					}
+				} catch (IOException ioe) {
+					ioe.printStackTrace(); // All files will be searched
+				} finally {
+					started.countDown();
+				}
+				if (ready && !closed) {
+					startWatching();
+				}
+			}
+		});
+	}
+
+
+	/**
+	 * Starts watching the root directory for changes.  If it can't be
+	 * watched, changes are only noticed when files are searched.
+	 */
+	private void startWatching() {
+
+		try {
+			watcher = root.getFileSystem().newWatchService();
+			register(root);
+		} catch (IOException ioe) { // e.g. too many directories to watch
+			if (watcher!=null) {
+				try {
+					watcher.close();
+				} catch (IOException ioe2) {
+					ioe2.printStackTrace();
+				}
+			}
+			return;
+		}
+
+		Thread t = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				watch();
+			}
+		}, "Trigram Index Watcher");
+		t.setDaemon(true);
+		t.start();
+
+	}
+
+
+	/**
+	 * Returns the key of a file in {@link #entries}.
+	 */
+	private String toKey(Path file) {
+		String key = root.relativize(file).toString();
+		if (File.separatorChar!='/') {
+			key = key.replace(File.separatorChar, '/');
+		}
+		return key;
+	}
+
+
+	/**
+	 * Re-indexes a file.  This is called on the index's thread.
+	 */
+	private void update(Path file, String key, BasicFileAttributes attrs) {
+		int[] trigrams;
+		try {
+			trigrams = readTrigrams(file, attrs.size());
+		} catch (IOException ioe) {
+			remove(key); // Always searched
+			return;
+		}
+		synchronized (this) {
+			addToOverlay(key, attrs.size(),
+						attrs.lastModifiedTime().toMillis(), trigrams);
+		}
+	}
+
+
+	/**
+	 * Blocks until this index has been opened or built, or has failed to be.
+	 *
+	 * @throws InterruptedException If the current thread is interrupted.
+	 * @see #isReady()
+	 */
+	void waitUntilStarted() throws InterruptedException {
+		started.await();
+	}
+
+
+	/**
+	 * Queues the files the watch service reports changed to be re-indexed,
+	 * once they've stopped changing.  This is called on the watcher's thread.
+	 */
+	private void watch() {
+
+		Set<Path> changed = new LinkedHashSet<Path>();
+		while (!closed) {
+
+			WatchKey key;
+			try {
+				key = changed.isEmpty() ? watcher.take() :
+						watcher.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException ie) {
+				break;
+			} catch (ClosedWatchServiceException cwse) {
+				break;
+			}
+
+			if (key==null) {
+				for (Path file : changed) {
+					scheduleUpdate(file);
+				}
+				changed.clear();
+				continue;
+			}
+
+			Path dir = (Path)key.watchable();
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.kind()==StandardWatchEventKinds.OVERFLOW) {
+					changed.add(dir);
+					continue;
+				}
+				Path child = dir.resolve((Path)event.context());
+				if (event.kind()==StandardWatchEventKinds.ENTRY_CREATE &&
+						Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+					try {
+						register(child);
+					} catch (IOException ioe) {
+						// Changes in it are only noticed when searched
+					}
+				}
+				changed.add(child);
+			}
+			key.reset();
+
+		}
+
+	}
+
+
+	/**
+	 * Writes an index to disk, replacing the existing one.
+	 *
+	 * @param paths The keys of the files, indexed by id.
+	 * @param fileEntries The files, indexed by id.
+	 * @param postings The posting lists.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void write(List<String> paths, List<Entry> fileEntries,
+					PostingsWriter postings) throws IOException {
+
+		ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+		DataOutputStream header = new DataOutputStream(headerBytes);
+		header.writeInt(MAGIC);
+		header.writeInt(VERSION);
+		header.writeUTF(root.toString());
+		header.writeInt(paths.size());
+		for (int id=0; id<paths.size(); id++) {
+			Entry e = fileEntries.get(id);
+			header.writeUTF(paths.get(id));
+			header.writeLong(e.size);
+			header.writeLong(e.mtime);
+			header.writeBoolean(e.indexed);
+		}
+		long total = 0;
+		header.writeInt(postings.getTrigramCount());
+		for (int t=0; t<TrigramQuery.TRIGRAM_COUNT; t++) {
+			if (postings.counts[t]>0) {
+				header.writeInt(t);
+				header.writeInt(postings.counts[t]);
+				header.writeInt(postings.lengths[t]);
+				total += postings.lengths[t];
+			}
+		}
+		header.flush();
+		if (4L+headerBytes.size()+total>Integer.MAX_VALUE) {
+			throw new IOException("Index too large: " + root);
+		}
+
+		File parent = indexFile.getAbsoluteFile().getParentFile();
+		if (parent!=null) {
+			Files.createDirectories(parent.toPath());
+		}
+		File temp = new File(indexFile.getPath() + ".tmp");
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+									new FileOutputStream(temp), 65536));
+		try {
+			out.writeInt(headerBytes.size());
+			headerBytes.writeTo(out);
+			for (int t=0; t<TrigramQuery.TRIGRAM_COUNT; t++) {
+				if (postings.counts[t]>0) {
+					out.write(postings.bytes[t], 0, postings.lengths[t]);
+				}
+			}
+		} finally {
+			out.close();
+		}
+
+		try {
+			Files.move(temp.toPath(), indexFile.toPath(),
+					StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException amnse) {
+			Files.move(temp.toPath(), indexFile.toPath(),
+					StandardCopyOption.REPLACE_EXISTING);
+		}
+
+	}
+
+
+	/**
+	 * The files that may match a search.
+	 */
+	final class Candidates {
+
+		private Map<String, Entry> candidateEntries;
+		private BitSet ids;
+		private int maxId;
+
+		private Candidates(Map<String, Entry> entries, BitSet ids, int maxId) {
+			candidateEntries = entries;
+			this.ids = ids;
+			this.maxId = maxId;
+		}
+
+		/**
+		 * Returns the number of indexed files that may match.  Files that
+		 * aren't indexed, or have changed, aren't counted.
+		 *
+		 * @return The number of files.
+		 */
+		int getCount() {
+			return ids.cardinality();
+		}
+
+		/**
+		 * Returns whether a file may match the search, and so must be
+		 * searched.  If the file has changed since it was indexed, it is
+		 * queued to be re-indexed.
+		 *
+		 * @param file The file, as an absolute, normalized path.
+		 * @param attrs Its attributes.
+		 * @return Whether the file may match.
+		 */
+		boolean mayMatch(Path file, BasicFileAttributes attrs) {
+			if (!file.startsWith(root)) {
+				return true;
+			}
+			Entry e = candidateEntries.get(toKey(file));
+			if (e==null || e.size!=attrs.size() ||
+					e.mtime!=attrs.lastModifiedTime().toMillis()) {
+				scheduleUpdate(file);
+				return true;
+			}
+			return !e.indexed || e.id>=maxId || ids.get(e.id);
+		}
+
+	}
+
+
+	/**
+	 * A file in the index.
+	 */
+	private static final class Entry {
+
+		private final int id;
+		private final long size;
+		private final long mtime;
+		private final boolean indexed;
+
+		private Entry(int id, long size, long mtime, boolean indexed) {
+			this.id = id;
+			this.size = size;
+			this.mtime = mtime;
+			this.indexed = indexed;
+		}
+
+	}
+
+
+	/**
+	 * Walks the files that should be indexed.
+	 */
+	private abstract class IndexVisitor extends SimpleFileVisitor<Path> {
+
+		@Override
+		public FileVisitResult preVisitDirectory(Path dir,
+				BasicFileAttributes attrs) throws IOException {
+			if (closed) {
+				return FileVisitResult.TERMINATE;
+			}
+			if (!dir.equals(root) &&
+					skipFolders.contains(dir.getFileName().toString())) {
+				return FileVisitResult.SKIP_SUBTREE;
+			}
+			return FileVisitResult.CONTINUE;
+		}
+
+		@Override
+		public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+			if (attrs.isRegularFile()) {
+				visitIndexedFile(file, attrs);
+			}
+			return closed ? FileVisitResult.TERMINATE :
+					FileVisitResult.CONTINUE;
+		}
+
+		@Override
+		public FileVisitResult visitFileFailed(Path file, IOException ioe) {
+			return FileVisitResult.CONTINUE;
+		}
+
+		protected abstract void visitIndexedFile(Path file,
+											BasicFileAttributes attrs);
+
+	}
+
+
+	/**
+	 * The posting lists of an index on disk.
+	 */
+	private static final class Postings {
+
+		private int[] trigrams;
+		private int[] counts;
+		private int[] offsets;
+		private ByteBuffer data;
+
+		private Postings(int[] trigrams, int[] counts, int[] offsets,
+						ByteBuffer data) {
+			this.trigrams = trigrams;
+			this.counts = counts;
+			this.offsets = offsets;
+			this.data = data;
+		}
+
+		private void addPostings(int trigram, BitSet bits) {
+			int index = Arrays.binarySearch(trigrams, trigram);
+			if (index<0) {
+				return;
+			}
+			int end = offsets[index+1];
+			int id = -1;
+			int i = offsets[index];
+			while (i<end) {
+				int delta = 0;
+				int shift = 0;
+				byte b;
+				do {
+					b = data.get(i++);
+					delta |= (b&0x7f) << shift;
+					shift += 7;
+				} while (b<0);
+				id += delta;
+				bits.set(id);
+			}
+		}
+
+		private int getCount(int trigram) {
+			int index = Arrays.binarySearch(trigrams, trigram);
+			return index<0 ? 0 : counts[index];
+		}
+
+	}
+
+
+	/**
+	 * Builds posting lists in memory.  Each list's ids must be added in
+	 * ascending order.
+	 */
+	private static final class PostingsWriter {
+
+		private byte[][] bytes;
+		private int[] lengths;
+		private int[] counts;
+		private int[] last;
+
+		private PostingsWriter() {
+			bytes = new byte[TrigramQuery.TRIGRAM_COUNT][];
+			lengths = new int[TrigramQuery.TRIGRAM_COUNT];
+			counts = new int[TrigramQuery.TRIGRAM_COUNT];
+			last = new int[TrigramQuery.TRIGRAM_COUNT];
+			Arrays.fill(last, -1);
+		}
+
+		private void add(int trigram, int id) {
+			byte[] buf = bytes[trigram];
+			int length = lengths[trigram];
+			if (buf==null) {
+				buf = bytes[trigram] = new byte[8];
+			}
+			else if (length+5>buf.length) {
+				buf = bytes[trigram] = Arrays.copyOf(buf, buf.length*2);
+			}
+			int delta = id - last[trigram];
+			while ((delta&~0x7f)!=0) {
+				buf[length++] = (byte)((delta&0x7f) | 0x80);
+				delta >>>= 7;
+			}
+			buf[length++] = (byte)delta;
+			lengths[trigram] = length;
+			last[trigram] = id;
+			counts[trigram]++;
+		}
+
+		private int getTrigramCount() {
+			int count = 0;
+			for (int c : counts) {
+				if (c>0) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+	}
+
+
+}
@@ -0,0 +1,596 @@
+/*
+ * 10/17/2026
+ *
+ * TrigramQuery.java - Finds the trigrams a match of a search must contain.
+ * http://fifesoft.com/rtext
+ * Licensed under a modified BSD license.
+ * See the included license file for details.
+ */
+package org.fife.ui.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.fife.ui.rtextarea.SearchContext;
+
+
+/**
+ * Works out which trigrams any text matched by a search must contain, so a
+ * {@link TrigramIndex} can rule out files that can't match.<p>
+ *
+ * A query is an "or" of branches, each an "and" of trigrams.  A literal
+ * search is a single branch.  A regular expression is split on its top-level
+ * <code>|</code>s, and each branch requires the trigrams of the runs of
+ * literal characters it must match; anything else in it, such as a character
+ * class, <code>.</code>, an optional character or a group, just ends a run.
+ * This is conservative: the trigrams found are always required, but a
+ * regular expression may require more than is found.<p>
+ *
+ * Trigrams are made of ASCII characters, lower-cased, so the same index
+ * serves case-sensitive and case-insensitive searches, and files encoded as
+ * UTF-8 or ISO-8859-1.  They're packed into an <code>int</code>, 7 bits per
+ * character.
+ *
+ * @version 1.0
+ * @see TrigramIndex
+ */
+final class TrigramQuery {
+
+	/**
+	 * The number of distinct trigrams.
+	 */
+	static final int TRIGRAM_COUNT		= 1 << 21;
+
+	/**
+	 * Marks an atom of a regular expression that isn't a literal character.
+	 */
+	private static final int NOT_LITERAL	= -1;
+
+	private List<int[]> branches;
+
+
+	private TrigramQuery(List<int[]> branches) {
+		this.branches = branches;
+	}
+
+
+	/**
+	 * Adds the trigrams of a literal string to a list.
+	 *
+	 * @param text The literal text.
+	 * @param trigrams The list to add to.
+	 */
+	private static void addTrigrams(CharSequence text, List<Integer> trigrams) {
+		int prev1 = -1;
+		int prev2 = -1;
+		for (int i=0; i<text.length(); i++) {
+			char ch = text.charAt(i);
+			if (ch<0x80) {
+				int c = toLower(ch);
+				if (prev1>=0 && prev2>=0) {
+					Integer trigram = Integer.valueOf(trigram(prev1, prev2, c));
+					if (!trigrams.contains(trigram)) {
+						trigrams.add(trigram);
+					}
+				}
+				prev1 = prev2;
+				prev2 = c;
+			}
+			else {
+				prev1 = prev2 = -1;
+			}
+		}
+	}
+
+
+	/**
+	 * Returns the query for a search.
+	 *
+	 * @param context The search.
+	 * @return The query, or <code>null</code> if no trigram is required by
+	 *         every match, e.g. the search is for fewer than three characters.
+	 */
+	static TrigramQuery create(SearchContext context) {
+
+		String searchFor = context.getSearchFor();
+		if (searchFor==null) {
+			return null;
+		}
+
+		List<int[]> branches = new ArrayList<int[]>(1);
+		if (!context.isRegularExpression()) {
+			int[] trigrams = toTrigrams(
+					Collections.<CharSequence>singletonList(searchFor));
+			if (trigrams.length==0) {
+				return null;
+			}
+			branches.add(trigrams);
+			return new TrigramQuery(branches);
+		}
+
+		List<String> alternatives = splitAlternatives(searchFor);
+		if (alternatives==null) {
+			return null;
+		}
+		for (String alternative : alternatives) {
+			List<CharSequence> runs = getRequiredRuns(alternative);
+			if (runs==null) {
+				return null;
+			}
+			int[] trigrams = toTrigrams(runs);
+			if (trigrams.length==0) {
+				return null; // This branch could match anything
+			}
+			branches.add(trigrams);
+		}
+		return new TrigramQuery(branches);
+
+	}
+
+
+	/**
+	 * Returns the branches of this query.
+	 *
+	 * @return The branches, each an array of the trigrams it requires.
+	 */
+	List<int[]> getBranches() {
+		return branches;
+	}
+
+
+	/**
+	 * Returns the runs of literal characters a regular expression, with no
+	 * top-level alternation, must match.
+	 *
+	 * @param regex The regular expression.
+	 * @return The runs, or <code>null</code> if the expression uses something
+	 *         this class doesn't understand.
+	 */
+	private static List<CharSequence> getRequiredRuns(String regex) {
+
+		List<CharSequence> runs = new ArrayList<CharSequence>();
+		StringBuilder run = new StringBuilder();
+		int[] atom = new int[2]; // The atom's character and end index
+		int length = regex.length();
+
+		int i = 0;
+		while (i<length) {
+
+			char ch = regex.charAt(i);
+			switch (ch) {
+				case '\\':
+					if (i+1<length && regex.charAt(i+1)=='Q') {
+						int end = regex.indexOf("\\E", i+2);
+						if (end==-1) {
+							end = length;
+						}
+						// All but the last character are certainly literal;
+						// the last one may be quantified
+						if (end-1>i+2) {
+							run.append(regex, i+2, end-1);
+						}
+						if (end-1<i+2) { // "\Q\E"
+							i = Math.min(end+2, length);
+							continue;
+						}
+						atom[0] = regex.charAt(end-1);
+						atom[1] = Math.min(end+2, length);
+					}
+					else if (!parseEscape(regex, i, atom)) {
+						return null;
+					}
+					break;
+				case '[':
+					atom[0] = NOT_LITERAL;
+					atom[1] = skipClass(regex, i);
+					if (atom[1]==-1) {
+						return null;
+					}
+					break;
+				case '(':
+					if (regex.startsWith("(?", i) && isCommentsFlagGroup(regex, i+2)) {
+						return null; // Whitespace would be ignored
+					}
+					atom[0] = NOT_LITERAL;
+					atom[1] = skipGroup(regex, i);
+					if (atom[1]==-1) {
+						return null;
+					}
+					break;
+				case ')':
+				case '*':
+				case '+':
+				case '?':
+				case '{':
+					return null; // Unbalanced or dangling; shouldn't happen
+				case '.':
+				case '^':
+				case '$':
+					atom[0] = NOT_LITERAL;
+					atom[1] = i + 1;
+					break;
+				default:
+					atom[0] = ch;
+					atom[1] = i + 1;
+					break;
+			}
+
+			i = atom[1];
+			int min = 1;
+			boolean quantified = false;
+			if (i<length) {
+				char q = regex.charAt(i);
+				if (q=='?' || q=='*' || q=='+') {
+					min = q=='+' ? 1 : 0;
+					quantified = true;
+					i++;
+				}
+				else if (q=='{') {
+					int end = regex.indexOf('}', i);
+					if (end==-1) {
+						return null;
+					}
+					String bounds = regex.substring(i+1, end);
+					int comma = bounds.indexOf(',');
+					try {
+						min = Integer.parseInt(comma==-1 ? bounds :
+												bounds.substring(0, comma));
+					} catch (NumberFormatException nfe) {
+						return null;
+					}
+					quantified = true;
+					i = end + 1;
+				}
+				// Lazy or possessive
+				if (quantified && i<length &&
+						(regex.charAt(i)=='?' || regex.charAt(i)=='+')) {
+					i++;
+				}
+			}
+
+			if (atom[0]==NOT_LITERAL || min==0) {
+				runs.add(run.toString());
+				run.setLength(0);
+			}
+			else {
+				run.append((char)atom[0]);
+				if (quantified) { // May be repeated
+					runs.add(run.toString());
+					run.setLength(0);
+				}
+			}
+
+		}
+
+		runs.add(run.toString());
+		return runs;
+
+	}
+
+
+	/**
+	 * Returns whether an inline flag group turns on {@link
+	 * java.util.regex.Pattern#COMMENTS}.
+	 *
+	 * @param regex The regular expression.
+	 * @param start The index just after the group's <code>"(?"</code>.
+	 * @return Whether the group turns on comments mode.
+	 */
+	private static boolean isCommentsFlagGroup(String regex, int start) {
+		for (int i=start; i<regex.length(); i++) {
+			char ch = regex.charAt(i);
+			if (ch=='x') {
+				return true;
+			}
+			else if (ch!='-' && !Character.isLetter(ch)) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+
+	/**
+	 * Parses an escape sequence outside of a character class.
+	 *
+	 * @param regex The regular expression.
+	 * @param start The index of the backslash.
+	 * @param atom Receives the character escaped, or {@link #NOT_LITERAL},
+	 *        and the index just past the sequence.
+	 * @return Whether the sequence was understood.
+	 */
+	private static boolean parseEscape(String regex, int start, int[] atom) {
+
+		int length = regex.length();
+		if (start+1>=length) {
+			return false;
+		}
+		char ch = regex.charAt(start+1);
+		int end = start + 2;
+		int value = NOT_LITERAL;
+
+		switch (ch) {
+			case 't': value = '\t'; break;
+			case 'n': value = '\n'; break;
+			case 'r': value = '\r'; break;
+			case 'f': value = '\f'; break;
+			case 'a': value = '\u0007'; break;
+			case 'e': value = '\u001b'; break;
+			case 'c':
+				if (end>=length) {
+					return false;
+				}
+				value = regex.charAt(end++) ^ 64;
+				break;
+			case '0':
+				value = 0;
+				int digits = 0;
+				while (end<length && digits<3 &&
+						regex.charAt(end)>='0' && regex.charAt(end)<='7' &&
+						value*8+(regex.charAt(end)-'0')<=0377) {
+					value = value*8 + (regex.charAt(end++)-'0');
+					digits++;
+				}
+				if (digits==0) {
+					return false;
+				}
+				break;
+			case 'x':
+				if (end<length && regex.charAt(end)=='{') {
+					int close = regex.indexOf('}', end);
+					if (close==-1) {
+						return false;
+					}
+					value = parseHex(regex, end+1, close);
+					end = close + 1;
+				}
+				else {
+					value = parseHex(regex, end, Math.min(end+2, length));
+					end += 2;
+				}
+				if (value==NOT_LITERAL || value>0xffff) {
+					value = NOT_LITERAL; // Supplementary; just break the run
+				}
+				break;
+			case 'u':
+				value = parseHex(regex, end, Math.min(end+4, length));
+				end += 4;
+				break;
+			case 'p':
+			case 'P':
+			case 'N':
+			case 'k':
+				if (end<length && (regex.charAt(end)=='{' ||
+						regex.charAt(end)=='<')) {
+					int close = regex.indexOf(regex.charAt(end)=='{' ? '}' : '>',
+											end);
+					if (close==-1) {
+						return false;
+					}
+					end = close + 1;
+				}
+				else if (ch=='p' || ch=='P') {
+					end++; // e.g. "\pL"
+				}
+				else {
+					return false;
+				}
+				break;
+			default:
+				if (ch>='1' && ch<='9') {
+					// A back reference, whose text we don't know
+					while (end<length && Character.isDigit(regex.charAt(end))) {
+						end++;
+					}
+				}
+				else if (!Character.isLetter(ch)) {
+					value = ch; // e.g. "\." or "\\"
+				}
+				// Otherwise a class such as "\w", or a boundary such as "\b"
+				break;
+		}
+
+		if (end>length) {
+			return false;
+		}
+		atom[0] = value;
+		atom[1] = end;
+		return true;
+
+	}
+
+
+	private static int parseHex(String text, int start, int end) {
+		if (start>=end) {
+			return NOT_LITERAL;
+		}
+		try {
+			return Integer.parseInt(text.substring(start, end), 16);
+		} catch (NumberFormatException nfe) {
+			return NOT_LITERAL;
+		}
+	}
+
+
+	/**
+	 * Returns the index just past a character class.
+	 *
+	 * @param regex The regular expression.
+	 * @param start The index of the class's opening <code>'['</code>.
+	 * @return The index just past its closing <code>']'</code>, or
+	 *         <code>-1</code> if it isn't closed.
+	 */
+	private static int skipClass(String regex, int start) {
+		int depth = 0;
+		int length = regex.length();
+		int i = start;
+		while (i<length) {
+			char ch = regex.charAt(i);
+			if (ch=='\\') {
+				if (regex.startsWith("\\Q", i)) {
+					int end = regex.indexOf("\\E", i+2);
+					if (end==-1) {
+						return -1;
+					}
+					i = end + 2;
+				}
+				else {
+					i += 2;
+				}
+				continue;
+			}
+			if (ch=='[') {
+				depth++;
+				i++;
+				// A ']' first in a class is literal
+				if (i<length && regex.charAt(i)=='^') {
+					i++;
+				}
+				if (i<length && regex.charAt(i)==']') {
+					i++;
+				}
+				continue;
+			}
+			if (ch==']' && --depth==0) {
+				return i + 1;
+			}
+			i++;
+		}
+		return -1;
+	}
+
+
+	/**
+	 * Returns the index just past a group.
+	 *
+	 * @param regex The regular expression.
+	 * @param start The index of the group's opening <code>'('</code>.
+	 * @return The index just past its closing <code>')'</code>, or
+	 *         <code>-1</code> if it isn't closed.
+	 */
+	private static int skipGroup(String regex, int start) {
+		int depth = 0;
+		int length = regex.length();
+		int i = start;
+		while (i<length) {
+			char ch = regex.charAt(i);
+			switch (ch) {
+				case '\\':
+					if (regex.startsWith("\\Q", i)) {
+						int end = regex.indexOf("\\E", i+2);
+						if (end==-1) {
+							return -1;
+						}
+						i = end + 2;
+					}
+					else {
+						i += 2;
+					}
+					continue;
+				case '[':
+					i = skipClass(regex, i);
+					if (i==-1) {
+						return -1;
+					}
+					continue;
+				case '(':
+					depth++;
+					break;
+				case ')':
+					if (--depth==0) {
+						return i + 1;
+					}
+					break;
+			}
+			i++;
+		}
+		return -1;
+	}
+
+
+	/**
+	 * Splits a regular expression on its top-level <code>'|'</code>s.
+	 *
+	 * @param regex The regular expression.
+	 * @return The alternatives, or <code>null</code> if the expression isn't
+	 *         well-formed.
+	 */
+	private static List<String> splitAlternatives(String regex) {
+		List<String> alternatives = new ArrayList<String>(1);
+		int length = regex.length();
+		int start = 0;
+		int i = 0;
+		while (i<length) {
+			char ch = regex.charAt(i);
+			switch (ch) {
+				case '\\':
+					if (regex.startsWith("\\Q", i)) {
+						int end = regex.indexOf("\\E", i+2);
+						i = end==-1 ? length : end + 2;
+					}
+					else {
+						i += 2;
+					}
+					continue;
+				case '[':
+					i = skipClass(regex, i);
+					if (i==-1) {
+						return null;
+					}
+					continue;
+				case '(':
+					i = skipGroup(regex, i);
+					if (i==-1) {
+						return null;
+					}
+					continue;
+				case '|':
+					alternatives.add(regex.substring(start, i));
+					start = i + 1;
+					break;
+			}
+			i++;
+		}
+		alternatives.add(regex.substring(Math.min(start, length)));
+		return alternatives;
+	}
+
+
+	/**
+	 * Lower-cases an ASCII character.
+	 */
+	static int toLower(int ch) {
+		return ch>='A' && ch<='Z' ? ch + ('a'-'A') : ch;
+	}
+
+
+	/**
+	 * Returns the distinct trigrams of some literal text.
+	 *
+	 * @param runs Runs of literal text, which are not contiguous.
+	 * @return The trigrams.
+	 */
+	private static int[] toTrigrams(List<CharSequence> runs) {
+		List<Integer> trigrams = new ArrayList<Integer>();
+		for (CharSequence run : runs) {
+			addTrigrams(run, trigrams);
+		}
+		int[] array = new int[trigrams.size()];
+		for (int i=0; i<array.length; i++) {
+			array[i] = trigrams.get(i).intValue();
+		}
+		return array;
+	}
+
+
+	/**
+	 * Returns the trigram of three characters, each an ASCII character
+	 * already lower-cased.
+	 */
+	static int trigram(int ch1, int ch2, int ch3) {
+		return (ch1<<14) | (ch2<<7) | ch3;
+	}
+
+
+}